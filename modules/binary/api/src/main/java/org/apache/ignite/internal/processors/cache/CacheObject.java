@@ -31,6 +31,9 @@ public interface CacheObject {
     /** */
     public static final byte TYPE_BYTE_ARR = 2;
 
+    /** Reference to a value stored out of data pages. */
+    public static final byte TYPE_BLOB_REF = 3;
+
     /** */
     public static final byte TYPE_BINARY = 100;
 
@@ -265,6 +265,8 @@ SqlCreate SqlCreateIndex(Span s, boolean replace) :
     SqlIdentifier idxId = null;
     SqlNumericLiteral parallel = null;
     SqlNumericLiteral inlineSize = null;
+    SqlNodeList includeList = null;
+    boolean hash = false;
 }
 {
     {
@@ -272,6 +274,7 @@ SqlCreate SqlCreateIndex(Span s, boolean replace) :
             throw SqlUtil.newContextException(getPos(), IgniteResource.INSTANCE.unsupportedClause("REPLACE"));
     }
 
+    [ <HASH> { hash = true; } ]
     <INDEX>
     ifNotExists = IfNotExistsOpt()
     [ idxId = SimpleIdentifier() ]
@@ -292,9 +295,16 @@ SqlCreate SqlCreateIndex(Span s, boolean replace) :
 
             inlineSize = SqlLiteral.createExactNumeric(token.image, getPos());
         }
+    |
+        <INCLUDE> {
+            if (includeList != null)
+                throw SqlUtil.newContextException(getPos(), IgniteResource.INSTANCE.optionAlreadyDefined("INCLUDE"));
+        }
+        includeList = ParenthesizedSimpleIdentifierList()
     )*
     {
-        return new IgniteSqlCreateIndex(s.end(this), ifNotExists, idxId, tblId, columnList, parallel, inlineSize);
+        return new IgniteSqlCreateIndex(s.end(this), ifNotExists, idxId, tblId, columnList, parallel, inlineSize,
+            includeList, hash);
     }
 }
 
@@ -34,6 +34,9 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
     /** */
     private static final long DFLT_QUERY_MEMORY_QUOTA = 0L;
 
+    /** */
+    private static final long DFLT_SPILL_THRESHOLD = 0L;
+
     /** */
     private boolean isDflt;
 
@@ -43,6 +46,9 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
     /** */
     private long qryMemoryQuota = DFLT_QUERY_MEMORY_QUOTA;
 
+    /** */
+    private long spillThreshold = DFLT_SPILL_THRESHOLD;
+
     /** {@inheritDoc} */
     @Override public String engineName() {
         return ENGINE_NAME;
@@ -106,4 +112,28 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
 
         return this;
     }
+
+    /**
+     * Gets heap memory threshold for blocking execution nodes (sort, hash aggregate) after which rows are spilled
+     * to disk.
+     *
+     * @return Spill threshold in bytes, {@code 0} if spilling to disk is disabled.
+     */
+    public long getSpillThreshold() {
+        return spillThreshold;
+    }
+
+    /**
+     * Sets heap memory threshold for blocking execution nodes (sort, hash aggregate) after which rows are spilled
+     * to disk. Spill files are placed to the {@code calcite_spill} folder of the work directory. To prevent query
+     * failures, threshold should be less than per-query heap memory quota.
+     *
+     * @param spillThreshold Spill threshold in bytes, {@code 0} to disable spilling to disk.
+     * @return {@code this} for chaining.
+     */
+    public CalciteQueryEngineConfiguration setSpillThreshold(long spillThreshold) {
+        this.spillThreshold = spillThreshold;
+
+        return this;
+    }
 }
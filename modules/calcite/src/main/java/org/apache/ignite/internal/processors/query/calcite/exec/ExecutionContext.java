@@ -48,6 +48,7 @@ import org.apache.ignite.internal.processors.cache.transactions.TransactionChang
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.ExpressionFactory;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.ExpressionFactoryImpl;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.ReflectiveCallNotNullImplementor;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.ExecutionNodeMemoryTracker;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.IoTracker;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.MemoryTracker;
@@ -124,6 +125,9 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
     /** */
     private final IoTracker ioTracker;
 
+    /** Spill manager, {@code null} if spilling to disk is disabled. */
+    @Nullable private final SpillManager spillMgr;
+
     /** */
     private final long timeout;
 
@@ -167,6 +171,7 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         RowHandler<Row> handler,
         MemoryTracker qryMemoryTracker,
         IoTracker ioTracker,
+        @Nullable SpillManager spillMgr,
         long timeout,
         Map<String, Object> params,
         @Nullable Collection<QueryTxEntry> qryTxEntries
@@ -183,6 +188,7 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         this.handler = handler;
         this.qryMemoryTracker = qryMemoryTracker;
         this.ioTracker = ioTracker;
+        this.spillMgr = spillMgr;
         this.params = params;
         this.timeout = timeout;
         this.qryTxEntries = qryTxEntries == null ? txEntriesHolder.get() : qryTxEntries;
@@ -469,7 +475,7 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
 
     /** */
     public <R> RowTracker<R> createNodeMemoryTracker(long rowOverhead) {
-        return ExecutionNodeMemoryTracker.create(qryMemoryTracker, rowOverhead);
+        return ExecutionNodeMemoryTracker.create(qryMemoryTracker, rowOverhead, spillMgr != null);
     }
 
     /** */
@@ -477,6 +483,13 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         return ioTracker;
     }
 
+    /**
+     * @return Spill manager or {@code null} if spilling to disk is disabled.
+     */
+    @Nullable public SpillManager spillManager() {
+        return spillMgr;
+    }
+
     /**
      * Return an instance of class that contained a user defined function. If not exist yet, then instantiate the object
      * and inject resources into it. Used by {@link ReflectiveCallNotNullImplementor} while it is preparing user function call.
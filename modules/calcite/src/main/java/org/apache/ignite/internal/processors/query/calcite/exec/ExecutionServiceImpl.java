@@ -67,6 +67,7 @@ import org.apache.ignite.internal.processors.query.calcite.exec.ddl.DdlCommandHa
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Inbox;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Node;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Outbox;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
 import org.apache.ignite.internal.processors.query.calcite.exec.task.AbstractQueryTaskExecutor;
 import org.apache.ignite.internal.processors.query.calcite.exec.task.QueryBlockingTaskExecutor;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.GlobalMemoryTracker;
@@ -201,6 +202,9 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
     /** */
     private MemoryTracker memoryTracker;
 
+    /** Spill manager, {@code null} if spilling to disk is disabled. */
+    private SpillManager spillMgr;
+
     /** */
     private InjectResourcesService injectSvc;
 
@@ -470,6 +474,9 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
         memoryTracker = cfg.getGlobalMemoryQuota() > 0 ? new GlobalMemoryTracker(cfg.getGlobalMemoryQuota()) :
             NoOpMemoryTracker.INSTANCE;
 
+        spillMgr = cfg.getSpillThreshold() > 0 ? new SpillManager(cfg.getSpillThreshold(),
+            ctx.config().getWorkDirectory(), ctx.marshaller(), U.resolveClassLoader(ctx.config()), ctx.metric()) : null;
+
         udfQryLimit.set(ctx.config().getQueryThreadPoolSize() - 1);
 
         init();
@@ -491,6 +498,9 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
         eventManager().removeDiscoveryEventListener(discoLsnr, EventType.EVT_NODE_FAILED, EventType.EVT_NODE_LEFT);
 
         iteratorsHolder().tearDown();
+
+        if (spillMgr != null)
+            spillMgr.stop();
     }
 
     /** */
@@ -681,6 +691,7 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
                 handler,
                 qryMemoryTracker,
                 createIoTracker(locNodeId, qry.localQueryId()),
+                spillMgr,
                 timeout,
                 qryParams,
                 userTx == null ? null : ExecutionContext.transactionChanges(userTx.writeEntries()));
@@ -958,6 +969,7 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
                 handler,
                 qry.createMemoryTracker(memoryTracker, cfg.getQueryMemoryQuota()),
                 createIoTracker(nodeId, msg.originatingQueryId()),
+                spillMgr,
                 msg.timeout(),
                 Commons.parametersMap(msg.parameters()),
                 msg.queryTransactionEntries()
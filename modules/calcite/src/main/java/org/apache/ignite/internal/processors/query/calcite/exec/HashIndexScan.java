@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.query.calcite.exec;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndex;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKeyFactory;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.transactions.TransactionChanges;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeCondition;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeIterable;
+import org.apache.ignite.internal.processors.query.calcite.schema.CacheTableDescriptor;
+import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactory;
+import org.apache.ignite.internal.processors.query.calcite.util.TypeUtils;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.lang.GridIteratorAdapter;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lookup on hash index. Each range condition is an exact match on all the index keys.
+ */
+public class HashIndexScan<Row> extends AbstractCacheColumnsScan<CacheDataRow, Row> {
+    /** Index lookup bounds. */
+    private final RangeIterable<Row> ranges;
+
+    /** */
+    private final HashIndex idx;
+
+    /** Mapping from index keys to row fields. */
+    private final ImmutableIntList idxFieldMapping;
+
+    /** Types of key fields stored in index. */
+    private final Type[] fieldsStoreTypes;
+
+    /**
+     * @param ectx Execution context.
+     * @param desc Table descriptor.
+     * @param idx Physical index.
+     * @param idxFieldMapping Mapping from index keys to row fields.
+     * @param parts Partitions.
+     * @param ranges Index lookup bounds.
+     * @param requiredColumns Required columns.
+     */
+    public HashIndexScan(
+        ExecutionContext<Row> ectx,
+        CacheTableDescriptor desc,
+        HashIndex idx,
+        ImmutableIntList idxFieldMapping,
+        int[] parts,
+        RangeIterable<Row> ranges,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        super(ectx, desc, parts, requiredColumns);
+
+        this.idx = idx;
+        this.idxFieldMapping = idxFieldMapping;
+        this.ranges = ranges;
+
+        RelDataType srcRowType = desc.rowType(ectx.getTypeFactory(), null);
+        IgniteTypeFactory typeFactory = ectx.getTypeFactory();
+        fieldsStoreTypes = new Type[srcRowType.getFieldCount()];
+
+        for (int i = 0; i < srcRowType.getFieldCount(); i++)
+            fieldsStoreTypes[i] = typeFactory.getResultClass(srcRowType.getFieldList().get(i).getType());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Iterator<Row> createIterator() {
+        return F.iterator(createTableRowIterator(), row -> enrichRow(row, factory.create(), fieldColMapping), true);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Iterator<CacheDataRow> createTableRowIterator() {
+        return new IteratorImpl();
+    }
+
+    /** {@inheritDoc} */
+    @Override public Row enrichRow(CacheDataRow cacheDataRow, Row row, int[] fieldColMapping) {
+        try {
+            return desc.toRow(ectx, cacheDataRow, row, fieldColMapping);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException(e);
+        }
+    }
+
+    /** From search row to index keys convertor. */
+    private IndexKey[] row2indexKeys(Row bound) {
+        InlineIndexRowHandler idxRowHnd = idx.rowHandler();
+        RowHandler<Row> rowHnd = ectx.rowHandler();
+        List<IndexKeyDefinition> keyDefs = idxRowHnd.indexKeyDefinitions();
+
+        assert keyDefs.size() == idxFieldMapping.size() : "Unexpected index keys [keys.size=" + keyDefs.size() +
+            ", idxFieldMapping.size()=" + idxFieldMapping.size() + ']';
+
+        IndexKey[] keys = new IndexKey[keyDefs.size()];
+
+        for (int i = 0; i < keys.length; i++) {
+            int fieldIdx = idxFieldMapping.getInt(i);
+            Object key = rowHnd.get(fieldIdx, bound);
+
+            assert key != ectx.unspecifiedValue() : "Hash index lookup requires all the index keys";
+
+            key = TypeUtils.fromInternal(ectx, key, fieldsStoreTypes[fieldIdx]);
+
+            keys[i] = IndexKeyFactory.wrap(key, keyDefs.get(i).indexKeyType(), cctx.cacheObjectContext(),
+                idxRowHnd.indexKeyTypeSettings());
+        }
+
+        return keys;
+    }
+
+    /**
+     * Hash index lookup iterator.
+     */
+    private class IteratorImpl extends GridIteratorAdapter<CacheDataRow> {
+        /** */
+        private final Iterator<RangeCondition<Row>> rangesIter;
+
+        /** Transaction changes. */
+        private final TransactionChanges<CacheDataRow> txChanges;
+
+        /** */
+        private GridCursor<CacheDataRow> cur;
+
+        /** */
+        private Iterator<CacheDataRow> txIter = Collections.emptyIterator();
+
+        /** */
+        private CacheDataRow next;
+
+        /** */
+        private IteratorImpl() {
+            rangesIter = ranges.iterator();
+
+            txChanges = F.isEmpty(ectx.getQryTxEntries())
+                ? TransactionChanges.empty()
+                : ectx.transactionChanges(cctx.cacheId(), cctx.isReplicated() ? null : parts, r -> r, null);
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean hasNextX() throws IgniteCheckedException {
+            advance();
+
+            return next != null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public CacheDataRow nextX() throws IgniteCheckedException {
+            advance();
+
+            if (next == null)
+                throw new NoSuchElementException();
+
+            CacheDataRow next = this.next;
+
+            this.next = null;
+
+            return next;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void removeX() {
+            throw new UnsupportedOperationException("Remove is not supported.");
+        }
+
+        /** */
+        private void advance() throws IgniteCheckedException {
+            if (next != null)
+                return;
+
+            while (true) {
+                if (cur == null) {
+                    if (!rangesIter.hasNext())
+                        break;
+
+                    RangeCondition<Row> range = rangesIter.next();
+
+                    assert range.lowerInclude() && range.upperInclude() : "Hash index supports only exact bounds";
+
+                    IndexKey[] keys = row2indexKeys(range.lower());
+
+                    GridCursor<IndexRow> idxCur = idx.find(keys);
+
+                    cur = new GridCursor<CacheDataRow>() {
+                        @Override public boolean next() throws IgniteCheckedException {
+                            // Hash index is not partitioned, rows of not reserved partitions are skipped.
+                            while (idxCur.next()) {
+                                if (parts.get(idxCur.get().cacheDataRow().partition()))
+                                    return true;
+                            }
+
+                            return false;
+                        }
+
+                        @Override public CacheDataRow get() throws IgniteCheckedException {
+                            return idxCur.get().cacheDataRow();
+                        }
+                    };
+
+                    if (!txChanges.changedKeysEmpty()) {
+                        // This call will change `txChanges` content.
+                        // Removing found key from set more efficient so we break some rules here.
+                        cur = new KeyFilteringCursor<>(cur, txChanges, CacheDataRow::key);
+
+                        txIter = F.iterator0(txChanges.newAndUpdatedEntries(), true, r -> {
+                            try {
+                                return idx.matches(r, keys);
+                            }
+                            catch (IgniteCheckedException e) {
+                                throw new IgniteException(e);
+                            }
+                        });
+                    }
+                }
+
+                CacheDataRow row;
+
+                if (cur.next())
+                    row = cur.get();
+                else
+                    row = txIter.hasNext() ? txIter.next() : null;
+
+                if (row != null) {
+                    if (row.expireTime() > 0 && row.expireTime() <= U.currentTimeMillis())
+                        continue;
+
+                    if (!desc.match(row))
+                        continue;
+
+                    next = row;
+
+                    break;
+                }
+                else
+                    cur = null;
+            }
+        }
+    }
+}
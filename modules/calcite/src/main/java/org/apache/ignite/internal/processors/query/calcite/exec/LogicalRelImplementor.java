@@ -119,6 +119,7 @@ import org.apache.ignite.internal.processors.query.calcite.rel.agg.IgniteReduceS
 import org.apache.ignite.internal.processors.query.calcite.rel.set.IgniteSetOp;
 import org.apache.ignite.internal.processors.query.calcite.rule.LogicalScanConverterRule;
 import org.apache.ignite.internal.processors.query.calcite.schema.CacheTableDescriptor;
+import org.apache.ignite.internal.processors.query.calcite.schema.IgniteCacheTable;
 import org.apache.ignite.internal.processors.query.calcite.schema.IgniteIndex;
 import org.apache.ignite.internal.processors.query.calcite.schema.IgniteTable;
 import org.apache.ignite.internal.processors.query.calcite.trait.Destination;
@@ -592,6 +593,15 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
 
         ColocationGroup grp = ctx.group(rel.sourceId());
 
+        if (tbl instanceof IgniteCacheTable) {
+            Iterable<Row> rowsIter = ((IgniteCacheTable)tbl).zoneMapScan(ctx, grp, requiredColumns, condition);
+
+            if (rowsIter != null) {
+                return createStorageScan(tbl.name(), rel.getRowType(), inputRowType, rowsIter, filters, prj,
+                    requiredColumns, rel.conditionColumns());
+            }
+        }
+
         IgniteIndex idx = tbl.getIndex(QueryUtils.PRIMARY_KEY_INDEX);
 
         if (idx != null && !tbl.isIndexRebuildInProgress()) {
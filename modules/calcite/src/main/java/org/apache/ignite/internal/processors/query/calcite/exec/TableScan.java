@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.query.calcite.exec;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -28,6 +29,7 @@ import java.util.function.Function;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.processors.cache.ZoneMapRange;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionTopology;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
@@ -45,14 +47,30 @@ public class TableScan<Row> extends AbstractCacheColumnsScan<CacheDataRow, Row>
     /** */
     protected volatile List<GridDhtLocalPartition> reservedParts;
 
+    /** Ranges of the value fields used to skip the data pages, {@code null} if the pages are not skipped. */
+    private final @Nullable Collection<ZoneMapRange> ranges;
+
     /** */
     public TableScan(
         ExecutionContext<Row> ectx,
         CacheTableDescriptor desc,
         int[] parts,
         @Nullable ImmutableBitSet requiredColumns
+    ) {
+        this(ectx, desc, parts, requiredColumns, null);
+    }
+
+    /** */
+    public TableScan(
+        ExecutionContext<Row> ectx,
+        CacheTableDescriptor desc,
+        int[] parts,
+        @Nullable ImmutableBitSet requiredColumns,
+        @Nullable Collection<ZoneMapRange> ranges
     ) {
         super(ectx, desc, parts, requiredColumns);
+
+        this.ranges = ranges;
     }
 
     /** {@inheritDoc} */
@@ -162,7 +180,9 @@ public class TableScan<Row> extends AbstractCacheColumnsScan<CacheDataRow, Row>
                     if (part == null)
                         break;
 
-                    cur = part.dataStore().cursor(cctx.cacheId());
+                    cur = ranges == null
+                        ? part.dataStore().cursor(cctx.cacheId())
+                        : part.dataStore().cursor(cctx.cacheId(), ranges);
 
                     if (!txChanges.changedKeysEmpty()) {
                         // This call will change `txChanges` content.
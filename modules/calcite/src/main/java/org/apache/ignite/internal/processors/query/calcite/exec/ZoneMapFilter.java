@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexLocalRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.processors.cache.ZoneMapRange;
+import org.apache.ignite.internal.processors.query.GridQueryProperty;
+import org.apache.ignite.internal.processors.query.calcite.schema.CacheTableDescriptor;
+import org.apache.ignite.internal.processors.query.calcite.schema.ColumnDescriptor;
+import org.apache.ignite.internal.processors.query.calcite.util.Commons;
+import org.apache.ignite.internal.processors.query.property.QueryBinaryProperty;
+import org.apache.ignite.internal.util.typedef.F;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Converts the conjunction of {@code column <op> literal} and {@code column <op> ?} predicates of the scan condition
+ * to the {@link ZoneMapRange ranges} used to skip the data pages of the cache partitions. Other predicates are ignored,
+ * the rows of the matched pages still have to be checked with the scan condition.
+ */
+public class ZoneMapFilter {
+    /** */
+    private ZoneMapFilter() {
+        // No-op.
+    }
+
+    /**
+     * Converts the scan condition to the ranges of the value fields having the data page bounds.
+     *
+     * @param ectx Execution context.
+     * @param desc Table descriptor.
+     * @param requiredColumns Required columns.
+     * @param condition Scan condition.
+     * @return Ranges of the value fields, the rows matching the condition satisfy all of them.
+     * @see CacheConfiguration#getZoneMapFields()
+     */
+    public static List<ZoneMapRange> ranges(
+        ExecutionContext<?> ectx,
+        CacheTableDescriptor desc,
+        @Nullable ImmutableBitSet requiredColumns,
+        @Nullable RexNode condition
+    ) {
+        String[] zoneMapFields = desc.cacheInfo().config().getZoneMapFields();
+
+        if (F.isEmpty(zoneMapFields))
+            return Collections.emptyList();
+
+        List<? extends ColumnDescriptor> colDescs = new ArrayList<>(desc.columnDescriptors());
+
+        String[] fields = new String[colDescs.size()];
+
+        for (int i = 0; i < fields.length; i++) {
+            GridQueryProperty prop = desc.typeDescription().property(colDescs.get(i).name());
+
+            if (prop instanceof QueryBinaryProperty && !prop.key() && prop.parent() == null
+                && F.asList(zoneMapFields).contains(((QueryBinaryProperty)prop).propertyName()))
+                fields[i] = ((QueryBinaryProperty)prop).propertyName();
+        }
+
+        List<ZoneMapRange> ranges = new ArrayList<>();
+
+        collect(ectx, requiredColumns, condition, col -> fields[col] == null ? null : colDescs.get(col).storageType(),
+            (col, op, val) -> {
+                switch (op) {
+                    case EQUALS:
+                        ranges.add(new ZoneMapRange(fields[col], val, true, val, true));
+
+                        break;
+
+                    case LESS_THAN:
+                    case LESS_THAN_OR_EQUAL:
+                        ranges.add(new ZoneMapRange(fields[col], null, false, val, op == SqlKind.LESS_THAN_OR_EQUAL));
+
+                        break;
+
+                    case GREATER_THAN:
+                    case GREATER_THAN_OR_EQUAL:
+                        ranges.add(new ZoneMapRange(fields[col], val, op == SqlKind.GREATER_THAN_OR_EQUAL, null, false));
+
+                        break;
+
+                    default:
+                        // No-op.
+                }
+            });
+
+        return ranges;
+    }
+
+    /**
+     * Collects the {@code column <op> literal} and {@code column <op> ?} predicates of the condition conjunction.
+     *
+     * @param ectx Execution context.
+     * @param requiredColumns Required columns.
+     * @param condition Scan condition.
+     * @param types Storage types of the table columns to collect the predicates for, {@code null} for other columns.
+     * @param c Predicates consumer.
+     */
+    private static void collect(
+        ExecutionContext<?> ectx,
+        @Nullable ImmutableBitSet requiredColumns,
+        @Nullable RexNode condition,
+        IntFunction<Class<?>> types,
+        PredicateConsumer c
+    ) {
+        if (condition == null)
+            return;
+
+        List<Integer> requiredCols = requiredColumns == null ? null : requiredColumns.asList();
+
+        for (RexNode node : RelOptUtil.conjunctions(condition)) {
+            if (node.isA(SqlKind.SEARCH))
+                node = RexUtil.expandSearch(Commons.emptyCluster().getRexBuilder(), null, node);
+
+            for (RexNode pred : RelOptUtil.conjunctions(node)) {
+                if (!(pred instanceof RexCall) || !pred.isA(SqlKind.COMPARISON))
+                    continue;
+
+                List<RexNode> operands = ((RexCall)pred).getOperands();
+
+                if (operands.size() != 2)
+                    continue;
+
+                SqlKind op = pred.getKind();
+                RexNode left = operands.get(0);
+                RexNode right = operands.get(1);
+
+                if (!left.isA(SqlKind.LOCAL_REF)) {
+                    op = op.reverse();
+                    left = operands.get(1);
+                    right = operands.get(0);
+                }
+
+                if (!left.isA(SqlKind.LOCAL_REF) || !supported(op))
+                    continue;
+
+                if (left.getType().getSqlTypeName() != right.getType().getSqlTypeName())
+                    continue;
+
+                int col = ((RexLocalRef)left).getIndex();
+
+                if (requiredCols != null)
+                    col = requiredCols.get(col);
+
+                Class<?> type = types.apply(col);
+
+                if (type == null)
+                    continue;
+
+                Object val = value(ectx, right, type);
+
+                if (type.isInstance(val))
+                    c.accept(col, op, val);
+            }
+        }
+    }
+
+    /** */
+    private static boolean supported(SqlKind op) {
+        switch (op) {
+            case EQUALS:
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    /** */
+    private static @Nullable Object value(ExecutionContext<?> ectx, RexNode node, Class<?> type) {
+        try {
+            if (node.isA(SqlKind.LITERAL))
+                return ((RexLiteral)node).getValueAs(type);
+
+            if (node.isA(SqlKind.DYNAMIC_PARAM))
+                return ectx.getParameter("?" + ((RexDynamicParam)node).getIndex(), type);
+        }
+        catch (RuntimeException ignored) {
+            // Value isn't convertible to the column type, skip predicate.
+        }
+
+        return null;
+    }
+
+    /** */
+    @FunctionalInterface
+    private interface PredicateConsumer {
+        /**
+         * @param col Table column index.
+         * @param op Comparison operator.
+         * @param val Value to compare with.
+         */
+        void accept(int col, SqlKind op, Object val);
+    }
+}
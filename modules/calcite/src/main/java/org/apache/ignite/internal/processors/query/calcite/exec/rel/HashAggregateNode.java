@@ -20,6 +20,7 @@ package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -28,6 +29,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.processors.query.calcite.exec.MappingRowHandler;
@@ -37,7 +39,10 @@ import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.Accumula
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillFile;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.T2;
+import org.apache.ignite.internal.util.typedef.internal.U;
 
 import static java.util.stream.Collectors.toCollection;
 import static org.apache.ignite.internal.processors.query.calcite.util.Commons.negate;
@@ -46,6 +51,15 @@ import static org.apache.ignite.internal.processors.query.calcite.util.Commons.n
  *
  */
 public class HashAggregateNode<Row> extends AggregateNode<Row> {
+    /** Count of partitions rows are distributed to on spill. Should be power of 2. */
+    private static final int SPILL_PARTS_CNT = 16;
+
+    /** Count of group key hash bits used to choose spill partition. */
+    private static final int SPILL_PARTS_BITS = 4;
+
+    /** Max level of recursive spill (each level uses the next bits of group key hash). */
+    private static final int MAX_SPILL_LVL = Integer.SIZE / SPILL_PARTS_BITS - 1;
+
     /** */
     private final ImmutableBitSet grpSet;
 
@@ -125,11 +139,12 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         waiting--;
 
         boolean groupingsChanged = false;
+        boolean added = false;
 
         for (Grouping grouping : groupings) {
             int size = groupings.size();
 
-            grouping.add(row);
+            added |= grouping.add(row);
 
             if (grouping.size() > size)
                 groupingsChanged = true;
@@ -149,9 +164,13 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         // aggregations (all redundant columns are dropped by optimizer earlier), so, just calculating the size of the
         // whole row we have close to real memory consumption by row referenced objects (except service structures).
         // Also we can guess size of service structures required by grouping and use it as constant row overhead.
-        if (hasAggAccum || groupingsChanged)
+        if ((hasAggAccum && added) || groupingsChanged)
             nodeMemoryTracker.onRowAdded(row);
 
+        // Rows of new groups are spilled to disk and aggregated later, after in-memory groups are sent.
+        if (spillRequired())
+            startSpilling();
+
         if (waiting == 0)
             source().request(waiting = IN_BUFFER_SIZE);
     }
@@ -176,6 +195,13 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         nodeMemoryTracker.reset();
     }
 
+    /** {@inheritDoc} */
+    @Override protected void closeInternal() {
+        groupings.forEach(Grouping::closeSpilled);
+
+        super.closeInternal();
+    }
+
     /** */
     private void flush() throws Exception {
         if (isClosed())
@@ -190,7 +216,17 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
 
         inLoop = true;
         try {
-            while (requested > 0 && !groupingsQueue.isEmpty()) {
+            while (requested > 0) {
+                if (groupingsQueue.isEmpty()) {
+                    // All in-memory groups are sent, continue with groups spilled to disk.
+                    if (!restoreSpilled())
+                        break;
+
+                    groupingsQueue = groupingsQueue();
+
+                    continue;
+                }
+
                 Grouping grouping = groupingsQueue.peek();
 
                 int toSnd = Math.min(requested, IN_BUFFER_SIZE - processed);
@@ -225,6 +261,34 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         }
     }
 
+    /** Switches groupings to spilling mode. */
+    private void startSpilling() {
+        boolean started = false;
+
+        for (Grouping grouping : groupings)
+            started |= grouping.startSpilling(0);
+
+        if (started)
+            onSpill();
+    }
+
+    /**
+     * Restores to memory the next partition of groups spilled to disk. Should be called only when all in-memory
+     * groups are sent.
+     *
+     * @return {@code False} if there are no more spilled partitions.
+     */
+    private boolean restoreSpilled() throws IgniteCheckedException {
+        nodeMemoryTracker.reset();
+
+        for (Grouping grouping : groupings) {
+            if (grouping.restoreSpilled())
+                return true;
+        }
+
+        return false;
+    }
+
     /** */
     private ArrayDeque<Grouping> groupingsQueue() {
         return groupings.stream()
@@ -252,6 +316,15 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         /** */
         private final Function<GroupKey<Row>, List<AccumulatorWrapper<Row>>> createGrp;
 
+        /** Partitions for rows of new groups, {@code null} if grouping is not in spilling mode. */
+        private SpillFile<Row>[] parts;
+
+        /** Spill level of the partitions being written. */
+        private int spillLvl;
+
+        /** Spilled partitions with their spill levels, pending to be restored. */
+        private final Deque<T2<SpillFile<Row>, Integer>> spilled = new ArrayDeque<>();
+
         /** */
         private Grouping(byte grpId, ImmutableBitSet grpFields) {
             this.grpId = grpId;
@@ -275,17 +348,21 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
 
         /** */
         private void reset() {
+            closeSpilled();
+
             groups.clear();
 
             init();
         }
 
-        /** */
-        private void add(Row row) {
+        /**
+         * @return {@code True} if row is added to in-memory groups, {@code false} if row is skipped or spilled.
+         */
+        private boolean add(Row row) throws IgniteCheckedException {
             if (type == AggregateType.REDUCE)
-                addOnReducer(row);
+                return addOnReducer(row);
             else
-                addOnMapper(row);
+                return addOnMapper(row);
         }
 
         /**
@@ -308,22 +385,32 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         }
 
         /** */
-        private void addOnMapper(Row row) {
-            List<AccumulatorWrapper<Row>> wrappers = groups.computeIfAbsent(key(row), createGrp);
+        private boolean addOnMapper(Row row) throws IgniteCheckedException {
+            GroupKey<Row> grpKey = key(row);
+
+            if (spill(grpKey, row))
+                return false;
+
+            List<AccumulatorWrapper<Row>> wrappers = groups.computeIfAbsent(grpKey, createGrp);
 
             for (AccumulatorWrapper<Row> wrapper : wrappers)
                 wrapper.add(row);
+
+            return true;
         }
 
         /** */
-        private void addOnReducer(Row row) {
+        private boolean addOnReducer(Row row) throws IgniteCheckedException {
             byte targetGrpId = (byte)hnd.get(0, row);
 
             if (targetGrpId != grpId)
-                return;
+                return false;
 
             GroupKey<Row> grpKey = (GroupKey<Row>)hnd.get(1, row);
 
+            if (spill(grpKey, row))
+                return false;
+
             List<AccumulatorWrapper<Row>> wrappers = groups.computeIfAbsent(grpKey, createGrp);
             Accumulator<Row>[] accums = hasAccumulators() ? (Accumulator<Row>[])hnd.get(2, row) : null;
 
@@ -333,6 +420,95 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
 
                 wrapper.apply(accum);
             }
+
+            return true;
+        }
+
+        /**
+         * Switches grouping to spilling mode, in this mode rows of groups, not present in memory, are spilled to
+         * disk partitioned by group key hash.
+         *
+         * @param lvl Spill level.
+         * @return {@code True} if grouping is switched to spilling mode.
+         */
+        private boolean startSpilling(int lvl) {
+            // Grouping without group fields always has the only group, which is never spilled.
+            if (parts != null || lvl > MAX_SPILL_LVL || grpFields.isEmpty())
+                return false;
+
+            parts = new SpillFile[SPILL_PARTS_CNT];
+            spillLvl = lvl;
+
+            return true;
+        }
+
+        /**
+         * @return {@code True} if row is spilled to disk.
+         */
+        private boolean spill(GroupKey<Row> grpKey, Row row) throws IgniteCheckedException {
+            if (parts == null || groups.containsKey(grpKey))
+                return false;
+
+            int idx = (U.hash(grpKey.hashCode()) >>> (spillLvl * SPILL_PARTS_BITS)) & (SPILL_PARTS_CNT - 1);
+
+            SpillFile<Row> part = parts[idx];
+
+            if (part == null)
+                parts[idx] = part = createSpillFile();
+
+            part.add(row);
+
+            return true;
+        }
+
+        /** Finishes spilling mode, written partitions become pending to be restored. */
+        private void finishSpilling() {
+            if (parts == null)
+                return;
+
+            for (SpillFile<Row> part : parts) {
+                if (part != null)
+                    spilled.add(new T2<>(part, spillLvl));
+            }
+
+            parts = null;
+        }
+
+        /**
+         * Restores the next spilled partition to memory. Rows of the partition can be spilled again on the next
+         * spill level, if the partition doesn't fit into memory.
+         *
+         * @return {@code False} if there are no spilled partitions.
+         */
+        private boolean restoreSpilled() throws IgniteCheckedException {
+            finishSpilling();
+
+            T2<SpillFile<Row>, Integer> part = spilled.poll();
+
+            if (part == null)
+                return false;
+
+            try (SpillFile<Row> file = part.get1()) {
+                for (Row row : file) {
+                    int size = size();
+
+                    if ((add(row) && hasAggAccum) || size() > size)
+                        nodeMemoryTracker.onRowAdded(row);
+
+                    if (parts == null && spillRequired() && startSpilling(part.get2() + 1))
+                        onSpill();
+                }
+            }
+
+            return true;
+        }
+
+        /** Removes all spilled partitions. */
+        private void closeSpilled() {
+            finishSpilling();
+
+            spilled.forEach(part -> U.closeQuiet(part.get1()));
+            spilled.clear();
         }
 
         /** */
@@ -17,8 +17,12 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillFile;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.ObjectSizeCalculator;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.RowTracker;
 import org.apache.ignite.internal.util.GridUnsafe;
@@ -40,6 +44,9 @@ public abstract class MemoryTrackingNode<Row> extends AbstractNode<Row> {
     /** Memory tracker for the current execution node. */
     protected final RowTracker<Row> nodeMemoryTracker;
 
+    /** Per-query counter of rows spilled by this node. */
+    private AtomicLong spilledRowsCntr;
+
     /**
      * @param ctx Execution context.
      * @param rowType Row type.
@@ -56,6 +63,41 @@ public abstract class MemoryTrackingNode<Row> extends AbstractNode<Row> {
         this(ctx, rowType, DFLT_ROW_OVERHEAD);
     }
 
+    /**
+     * @return {@code True} if memory consumed by the node exceeds the spill threshold and rows should be spilled
+     * to disk.
+     */
+    protected boolean spillRequired() {
+        SpillManager spillMgr = context().spillManager();
+
+        return spillMgr != null && nodeMemoryTracker.allocated() >= spillMgr.threshold();
+    }
+
+    /**
+     * Creates new spill file. Should be called only if spilling to disk is enabled.
+     *
+     * @return Spill file.
+     */
+    protected SpillFile<Row> createSpillFile() throws IgniteCheckedException {
+        SpillManager spillMgr = context().spillManager();
+
+        assert spillMgr != null;
+
+        if (spilledRowsCntr == null)
+            spilledRowsCntr = context().ioTracker().processedRowsCounter("Spilled by " + getClass().getSimpleName());
+
+        return spillMgr.createFile(context().queryId(), context().rowHandler(), spilledRowsCntr);
+    }
+
+    /** Callback that should be invoked when the node starts a new spill. */
+    protected void onSpill() {
+        SpillManager spillMgr = context().spillManager();
+
+        assert spillMgr != null;
+
+        spillMgr.onSpill();
+    }
+
     /** {@inheritDoc} */
     @Override protected void closeInternal() {
         nodeMemoryTracker.reset();
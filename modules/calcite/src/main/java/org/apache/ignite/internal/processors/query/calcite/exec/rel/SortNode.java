@@ -18,19 +18,27 @@ package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.function.Supplier;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SortedRunsMerger;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillFile;
 import org.apache.ignite.internal.util.GridBoundedPriorityQueue;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Sort node.
  */
 public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode<Row>, Downstream<Row> {
+    /** Max count of spilled runs merged at once (limits count of simultaneously opened files). */
+    private static final int MAX_MERGE_RUNS = 64;
+
     /** How many rows are requested by downstream. */
     private int requested;
 
@@ -49,6 +57,12 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
     /** Reverse-ordered rows in case of limited sort. */
     private List<Row> reversed;
 
+    /** Sorted runs spilled to disk. */
+    private List<SpillFile<Row>> runs;
+
+    /** Merged rows of spilled runs and in-memory rows. */
+    private Iterator<Row> merged;
+
     /**
      * @param ctx Execution context.
      * @param comp Rows comparator.
@@ -92,9 +106,18 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
         if (reversed != null)
             reversed.clear();
 
+        closeRuns();
+
         nodeMemoryTracker.reset();
     }
 
+    /** {@inheritDoc} */
+    @Override protected void closeInternal() {
+        closeRuns();
+
+        super.closeInternal();
+    }
+
     /** {@inheritDoc} */
     @Override protected Downstream<Row> requestDownstream(int idx) {
         if (idx != 0)
@@ -139,6 +162,10 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
                 nodeMemoryTracker.onRowRemoved(top);
         }
 
+        // Limited sort holds no more than limit rows, so only unlimited sort is spilled.
+        if (limit < 0 && spillRequired())
+            spill();
+
         if (waiting == 0)
             source().request(waiting = IN_BUFFER_SIZE);
     }
@@ -185,14 +212,23 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
                 processed = 0;
             }
 
-            while (requested > 0 && (reversed == null ? !rows.isEmpty() : !reversed.isEmpty())) {
+            if (runs != null && merged == null)
+                merged = new SortedRunsMerger<>(sortedRuns(), comparator());
+
+            while (requested > 0 && hasMoreRows()) {
                 checkState();
 
                 requested--;
 
-                Row row = reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1);
+                Row row;
 
-                nodeMemoryTracker.onRowRemoved(row);
+                if (merged != null)
+                    row = merged.next();
+                else {
+                    row = reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1);
+
+                    nodeMemoryTracker.onRowRemoved(row);
+                }
 
                 downstream().push(row);
 
@@ -204,7 +240,7 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
                 }
             }
 
-            if (reversed == null ? rows.isEmpty() : reversed.isEmpty()) {
+            if (!hasMoreRows()) {
                 if (requested > 0)
                     downstream().end();
 
@@ -215,4 +251,94 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
             inLoop = false;
         }
     }
+
+    /** */
+    private boolean hasMoreRows() {
+        if (merged != null)
+            return merged.hasNext();
+
+        return reversed == null ? !rows.isEmpty() : !reversed.isEmpty();
+    }
+
+    /** Writes buffered rows to disk as a new sorted run. */
+    private void spill() throws IgniteCheckedException {
+        if (runs == null)
+            runs = new ArrayList<>();
+
+        SpillFile<Row> run = createSpillFile();
+
+        runs.add(run);
+
+        onSpill();
+
+        while (!rows.isEmpty())
+            run.add(rows.poll());
+
+        nodeMemoryTracker.reset();
+
+        if (runs.size() >= MAX_MERGE_RUNS)
+            mergeRuns();
+    }
+
+    /** Merges spilled runs into a single run. */
+    private void mergeRuns() throws IgniteCheckedException {
+        List<SpillFile<Row>> merging = runs;
+
+        runs = new ArrayList<>();
+
+        SpillFile<Row> run = createSpillFile();
+
+        runs.add(run);
+
+        try {
+            List<Iterator<Row>> its = new ArrayList<>(merging.size());
+
+            for (SpillFile<Row> file : merging)
+                its.add(file.iterator());
+
+            for (Iterator<Row> it = new SortedRunsMerger<>(its, comparator()); it.hasNext(); )
+                run.add(it.next());
+        }
+        finally {
+            merging.forEach(U::closeQuiet);
+        }
+    }
+
+    /** @return Iterators over spilled runs and over rows remaining in memory. */
+    private List<Iterator<Row>> sortedRuns() {
+        List<Iterator<Row>> its = new ArrayList<>(runs.size() + 1);
+
+        for (SpillFile<Row> run : runs)
+            its.add(run.iterator());
+
+        its.add(new Iterator<Row>() {
+            @Override public boolean hasNext() {
+                return !rows.isEmpty();
+            }
+
+            @Override public Row next() {
+                return rows.poll();
+            }
+        });
+
+        return its;
+    }
+
+    /** */
+    private Comparator<Row> comparator() {
+        Comparator<? super Row> comp = rows.comparator();
+
+        return comp == null ? (Comparator<Row>)Comparator.naturalOrder() : comp::compare;
+    }
+
+    /** */
+    private void closeRuns() {
+        if (runs != null) {
+            runs.forEach(U::closeQuiet);
+
+            runs = null;
+        }
+
+        merged = null;
+    }
 }
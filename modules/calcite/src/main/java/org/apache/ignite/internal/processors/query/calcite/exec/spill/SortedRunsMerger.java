@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.spill;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Streaming k-way merge of sorted runs. Only the head row of each run is held in memory.
+ */
+public class SortedRunsMerger<Row> implements Iterator<Row> {
+    /** Runs ordered by their head rows. */
+    private final PriorityQueue<Run<Row>> runs;
+
+    /**
+     * @param runs Iterators over sorted runs.
+     * @param comp Rows comparator.
+     */
+    public SortedRunsMerger(List<? extends Iterator<Row>> runs, Comparator<Row> comp) {
+        this.runs = new PriorityQueue<>(Math.max(runs.size(), 1), (r1, r2) -> comp.compare(r1.head, r2.head));
+
+        for (Iterator<Row> it : runs) {
+            if (it.hasNext())
+                this.runs.add(new Run<>(it));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean hasNext() {
+        return !runs.isEmpty();
+    }
+
+    /** {@inheritDoc} */
+    @Override public Row next() {
+        Run<Row> run = runs.poll();
+
+        if (run == null)
+            throw new NoSuchElementException();
+
+        Row row = run.head;
+
+        if (run.advance())
+            runs.add(run);
+
+        return row;
+    }
+
+    /** */
+    private static class Run<Row> {
+        /** */
+        private final Iterator<Row> it;
+
+        /** */
+        private Row head;
+
+        /** */
+        private Run(Iterator<Row> it) {
+            this.it = it;
+
+            head = it.next();
+        }
+
+        /** @return {@code False} if the run is exhausted. */
+        private boolean advance() {
+            if (!it.hasNext())
+                return false;
+
+            head = it.next();
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.spill;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Append-only temporary file with rows spilled by execution node. Rows are written sequentially and can be read
+ * back (in the same order) only once, after writing is finished.
+ */
+public class SpillFile<Row> implements Iterable<Row>, AutoCloseable {
+    /** Write buffer size. */
+    private static final int BUF_SIZE = 64 * 1024;
+
+    /** */
+    private final SpillManager mgr;
+
+    /** */
+    private final File file;
+
+    /** */
+    private final RowHandler<Row> hnd;
+
+    /** Per-query counter of spilled rows. */
+    @Nullable private final AtomicLong rowsCntr;
+
+    /** Row factories by row length. */
+    private final Map<Integer, RowFactory<Row>> factories = new HashMap<>();
+
+    /** */
+    private DataOutputStream out;
+
+    /** */
+    private DataInputStream in;
+
+    /** Count of rows written. */
+    private long size;
+
+    /** Count of bytes written. */
+    private long bytes;
+
+    /** */
+    SpillFile(SpillManager mgr, File file, RowHandler<Row> hnd, @Nullable AtomicLong rowsCntr) {
+        this.mgr = mgr;
+        this.file = file;
+        this.hnd = hnd;
+        this.rowsCntr = rowsCntr;
+    }
+
+    /**
+     * Appends row to the file.
+     *
+     * @param row Row.
+     */
+    public void add(Row row) throws IgniteCheckedException {
+        assert in == null : "Spill file is already read";
+
+        int len = hnd.columnCount(row);
+        Object[] fields = new Object[len];
+
+        for (int i = 0; i < len; i++)
+            fields[i] = hnd.get(i, row);
+
+        byte[] data = U.marshal(mgr.marshaller(), fields);
+
+        try {
+            if (out == null)
+                out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUF_SIZE));
+
+            out.writeInt(data.length);
+            out.write(data);
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to write to spill file: " + file.getAbsolutePath(), e);
+        }
+
+        size++;
+        bytes += data.length + Integer.BYTES;
+
+        mgr.onRowSpilled(data.length + Integer.BYTES);
+
+        if (rowsCntr != null)
+            rowsCntr.incrementAndGet();
+    }
+
+    /** @return Count of rows written to the file. */
+    public long size() {
+        return size;
+    }
+
+    /** @return Count of bytes written to the file. */
+    public long bytes() {
+        return bytes;
+    }
+
+    /** @return {@code True} if no rows were written to the file. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Finishes writing and returns iterator over the written rows. Rows are read lazily, so only the current
+     * row is held in memory.
+     */
+    @Override public Iterator<Row> iterator() {
+        assert in == null : "Spill file can be read only once";
+
+        try {
+            if (out != null) {
+                out.close();
+
+                out = null;
+            }
+
+            if (size > 0)
+                in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUF_SIZE));
+        }
+        catch (IOException e) {
+            throw new IgniteException("Failed to open spill file: " + file.getAbsolutePath(), e);
+        }
+
+        return new Iterator<Row>() {
+            /** */
+            private long remaining = size;
+
+            /** {@inheritDoc} */
+            @Override public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            /** {@inheritDoc} */
+            @Override public Row next() {
+                if (remaining <= 0)
+                    throw new NoSuchElementException();
+
+                remaining--;
+
+                return read();
+            }
+        };
+    }
+
+    /** */
+    private Row read() {
+        try {
+            byte[] data = new byte[in.readInt()];
+
+            in.readFully(data);
+
+            Object[] fields = U.unmarshal(mgr.marshaller(), data, mgr.classLoader());
+
+            return factories.computeIfAbsent(fields.length, this::factory).create(fields);
+        }
+        catch (EOFException e) {
+            throw new IgniteException("Unexpected end of spill file: " + file.getAbsolutePath(), e);
+        }
+        catch (IOException | IgniteCheckedException e) {
+            throw new IgniteException("Failed to read spill file: " + file.getAbsolutePath(), e);
+        }
+    }
+
+    /** Row types are not required to restore rows, only row length is significant. */
+    private RowFactory<Row> factory(int len) {
+        Type[] types = new Type[len];
+
+        Arrays.fill(types, Object.class);
+
+        return hnd.factory(types);
+    }
+
+    /** Closes and removes the file. */
+    @Override public void close() {
+        U.closeQuiet(out);
+        U.closeQuiet(in);
+
+        out = null;
+        in = null;
+
+        U.delete(file);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(SpillFile.class, this, "file", file.getAbsolutePath());
+    }
+}
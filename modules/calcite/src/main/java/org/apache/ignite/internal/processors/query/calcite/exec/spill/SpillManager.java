@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.spill;
+
+import java.io.File;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.processors.metric.GridMetricManager;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.marshaller.Marshaller;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Manages temporary files used by blocking execution nodes (sort, hash aggregate) to spill rows to disk when
+ * memory consumed by the node exceeds the configured threshold.
+ */
+public class SpillManager {
+    /** Name of the spill directory inside the work directory. */
+    public static final String SPILL_DIR_NAME = "calcite_spill";
+
+    /** Spill metric group name. */
+    public static final String SPILL_METRIC_GROUP_NAME = "sql.calcite.spill";
+
+    /** Size of heap memory in bytes, consumed by the execution node, after which the node should spill rows. */
+    private final long threshold;
+
+    /** Work directory. */
+    private final String workDir;
+
+    /** */
+    private final Marshaller marsh;
+
+    /** */
+    private final ClassLoader clsLdr;
+
+    /** Spill files counter, used to generate unique file names. */
+    private final AtomicLong fileCntr = new AtomicLong();
+
+    /** Count of spills performed by execution nodes. */
+    private final LongAdderMetric spillCnt;
+
+    /** Count of rows written to spill files. */
+    private final LongAdderMetric spilledRows;
+
+    /** Count of bytes written to spill files. */
+    private final LongAdderMetric spilledBytes;
+
+    /** Spill directory, lazily created on first spill. */
+    private volatile File dir;
+
+    /**
+     * @param threshold Spill threshold.
+     * @param workDir Work directory.
+     * @param marsh Marshaller.
+     * @param clsLdr Class loader.
+     * @param metricMgr Metric manager.
+     */
+    public SpillManager(
+        long threshold,
+        String workDir,
+        Marshaller marsh,
+        ClassLoader clsLdr,
+        @Nullable GridMetricManager metricMgr
+    ) {
+        A.ensure(threshold > 0, "threshold > 0");
+
+        this.threshold = threshold;
+        this.workDir = workDir;
+        this.marsh = marsh;
+        this.clsLdr = clsLdr;
+
+        MetricRegistryImpl mreg = metricMgr == null ?
+            new MetricRegistryImpl(SPILL_METRIC_GROUP_NAME, null, null, null, null) :
+            metricMgr.registry(SPILL_METRIC_GROUP_NAME);
+
+        spillCnt = mreg.longAdderMetric("SpillCount", "Count of spills to disk performed by SQL execution nodes.");
+        spilledRows = mreg.longAdderMetric("SpilledRows", "Count of rows spilled to disk by SQL execution nodes.");
+        spilledBytes = mreg.longAdderMetric("SpilledBytes", "Count of bytes spilled to disk by SQL execution nodes.");
+    }
+
+    /**
+     * @return Size of heap memory in bytes, consumed by the execution node, after which the node should spill rows.
+     */
+    public long threshold() {
+        return threshold;
+    }
+
+    /**
+     * Creates new spill file.
+     *
+     * @param qryId Query ID.
+     * @param hnd Row handler.
+     * @param rowsCntr Per-query counter of spilled rows.
+     * @return Spill file.
+     */
+    public <Row> SpillFile<Row> createFile(UUID qryId, RowHandler<Row> hnd, @Nullable AtomicLong rowsCntr)
+        throws IgniteCheckedException {
+        File file = new File(directory(), qryId + "-" + fileCntr.incrementAndGet() + ".spill");
+
+        return new SpillFile<>(this, file, hnd, rowsCntr);
+    }
+
+    /** Callback invoked by execution node when it starts a new spill. */
+    public void onSpill() {
+        spillCnt.increment();
+    }
+
+    /** Callback invoked by spill file when a row is written. */
+    void onRowSpilled(int bytes) {
+        spilledRows.increment();
+        spilledBytes.add(bytes);
+    }
+
+    /** */
+    Marshaller marshaller() {
+        return marsh;
+    }
+
+    /** */
+    ClassLoader classLoader() {
+        return clsLdr;
+    }
+
+    /** Removes spill directory with all remaining files. */
+    public void stop() {
+        File dir0 = dir;
+
+        if (dir0 != null)
+            U.delete(dir0);
+    }
+
+    /** */
+    private File directory() throws IgniteCheckedException {
+        File dir0 = dir;
+
+        if (dir0 == null) {
+            synchronized (this) {
+                dir0 = dir;
+
+                if (dir0 == null)
+                    dir = dir0 = U.resolveWorkDirectory(workDir, SPILL_DIR_NAME, true);
+            }
+        }
+
+        return dir0;
+    }
+}
@@ -41,7 +41,18 @@ public class ExecutionNodeMemoryTracker<Row> implements RowTracker<Row> {
 
     /** Factory method. */
     public static <T> RowTracker<T> create(MemoryTracker qryMemoryTracker, long rowOverhead) {
-        if (qryMemoryTracker == NoOpMemoryTracker.INSTANCE)
+        return create(qryMemoryTracker, rowOverhead, false);
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param qryMemoryTracker Query memory tracker.
+     * @param rowOverhead Row overhead in bytes for each row.
+     * @param force Create tracker even if query memory is not tracked (required to make spill decisions).
+     */
+    public static <T> RowTracker<T> create(MemoryTracker qryMemoryTracker, long rowOverhead, boolean force) {
+        if (qryMemoryTracker == NoOpMemoryTracker.INSTANCE && !force)
             return NoOpRowTracker.instance();
         else
             return new ExecutionNodeMemoryTracker<>(qryMemoryTracker, rowOverhead);
@@ -98,4 +109,9 @@ public class ExecutionNodeMemoryTracker<Row> implements RowTracker<Row> {
 
         allocated = 0;
     }
+
+    /** {@inheritDoc} */
+    @Override public long allocated() {
+        return allocated;
+    }
 }
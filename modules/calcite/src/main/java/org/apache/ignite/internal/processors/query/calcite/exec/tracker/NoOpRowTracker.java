@@ -43,4 +43,9 @@ public class NoOpRowTracker<Row> implements RowTracker<Row> {
     @Override public void reset() {
         // No-op.
     }
+
+    /** {@inheritDoc} */
+    @Override public long allocated() {
+        return 0;
+    }
 }
@@ -140,13 +140,19 @@ public class ObjectSizeCalculator<Row> {
                 if (Modifier.isStatic(f.getModifiers()))
                     continue;
 
-                size = Math.max(size, GridUnsafe.objectFieldOffset(f) + fieldHolderSize(f));
+                try {
+                    size = Math.max(size, GridUnsafe.objectFieldOffset(f) + fieldHolderSize(f));
 
-                if (f.getDeclaringClass().isPrimitive())
-                    continue;
+                    if (f.getDeclaringClass().isPrimitive())
+                        continue;
 
-                if (!f.isAccessible())
-                    f.setAccessible(true);
+                    if (!f.isAccessible())
+                        f.setAccessible(true);
+                }
+                catch (RuntimeException ignore) {
+                    // Field of hidden class or class from not opened module, cannot calculate, ignore.
+                    continue;
+                }
 
                 refFields.add(f);
             }
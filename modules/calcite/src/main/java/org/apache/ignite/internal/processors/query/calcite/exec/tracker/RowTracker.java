@@ -35,4 +35,9 @@ public interface RowTracker<Row> {
      * Clear information about tracked rows.
      */
     public void reset();
+
+    /**
+     * @return Estimated size in bytes of currently tracked rows.
+     */
+    public long allocated();
 }
@@ -507,7 +507,7 @@ public class PlannerHelper {
                 return (IgniteRel)scan;
 
             ImmutableSet<Integer> indexedCols = ImmutableSet.copyOf(
-                tbl.getIndex(((AbstractIndexScan)scan).indexName()).collation().getKeys());
+                tbl.getIndex(((AbstractIndexScan)scan).indexName()).keys());
 
             spoolNeeded = modifyNode.getUpdateColumnList().stream()
                 .map(tbl.descriptor()::columnDescriptor)
@@ -164,8 +164,17 @@ public class SqlToNativeCommandConverter {
         int inlineSize = sqlCmd.inlineSize() == null ? QueryIndex.DFLT_INLINE_SIZE :
             sqlCmd.inlineSize().intValue(true);
 
+        List<String> includeCols = null;
+
+        if (sqlCmd.includeList() != null) {
+            includeCols = new ArrayList<>(sqlCmd.includeList().size());
+
+            for (SqlNode col : sqlCmd.includeList().getList())
+                includeCols.add(((SqlIdentifier)col).getSimple());
+        }
+
         return new SqlCreateIndexCommand(schemaName, tblName, idxName, sqlCmd.ifNotExists(), cols, false,
-            parallel, inlineSize);
+            parallel, inlineSize).hash(sqlCmd.hash()).includeColumns(includeCols);
     }
 
     /**
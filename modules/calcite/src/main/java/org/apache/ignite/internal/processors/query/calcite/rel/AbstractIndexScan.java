@@ -135,7 +135,7 @@ public abstract class AbstractIndexScan extends ProjectableFilterableTableScan {
                 selectivity = mq.getSelectivity(this, RexUtil.composeConjunction(builder,
                         Commons.transform(searchBounds, b -> b == null ? null : b.condition())));
 
-                cost = Math.log(rows) * IgniteCost.ROW_COMPARISON_COST;
+                cost = idx != null ? idx.searchCost(rows) : Math.log(rows) * IgniteCost.ROW_COMPARISON_COST;
             }
 
             rows *= selectivity;
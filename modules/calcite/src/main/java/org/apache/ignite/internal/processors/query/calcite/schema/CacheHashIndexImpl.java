@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.query.calcite.schema;
+
+import java.util.Collections;
+import java.util.List;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndex;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.HashIndexScan;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeIterable;
+import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
+import org.apache.ignite.internal.processors.query.calcite.metadata.cost.IgniteCost;
+import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.ExactBounds;
+import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.SearchBounds;
+import org.apache.ignite.internal.processors.query.calcite.util.RexUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Ignite cache hash index. Rows are not ordered by the index, lookup is possible only by equality predicates on all
+ * the index columns. Index columns are held by {@link #collation} field, but the index collation is empty.
+ */
+class CacheHashIndexImpl extends CacheIndexImpl {
+    /** */
+    CacheHashIndexImpl(RelCollation collation, String idxName, @Nullable Index idx, IgniteCacheTable tbl) {
+        super(collation, idxName, idx, tbl);
+    }
+
+    /** {@inheritDoc} */
+    @Override public RelCollation collation() {
+        return RelCollations.EMPTY;
+    }
+
+    /** {@inheritDoc} */
+    @Override public ImmutableIntList keys() {
+        return collation.getKeys();
+    }
+
+    /** {@inheritDoc} */
+    @Override public double searchCost(double rows) {
+        return IgniteCost.ROW_COMPARISON_COST;
+    }
+
+    /** {@inheritDoc} */
+    @Override public <Row> Iterable<Row> scan(
+        ExecutionContext<Row> execCtx,
+        ColocationGroup grp,
+        RangeIterable<Row> ranges,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        if (!grp.nodeIds().contains(execCtx.localNodeId()) || idx == null)
+            return Collections.emptyList();
+
+        // Full scan can't be done by the hash index.
+        if (ranges == null)
+            return tbl.scan(execCtx, grp, requiredColumns);
+
+        return new HashIndexScan<>(
+            execCtx,
+            tbl.descriptor(),
+            idx.unwrap(HashIndex.class),
+            collation.getKeys(),
+            grp.partitions(execCtx.localNodeId()),
+            ranges,
+            requiredColumns
+        );
+    }
+
+    /** {@inheritDoc} */
+    @Override public <Row> Iterable<Row> firstOrLast(
+        boolean first,
+        ExecutionContext<Row> ectx,
+        ColocationGroup grp,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        throw new IgniteException("Hash index is not sorted [idxName=" + idxName + ']');
+    }
+
+    /** {@inheritDoc} */
+    @Override public <Row> Iterable<Row> count(ExecutionContext<Row> ectx, ColocationGroup grp, boolean notNull) {
+        throw new IgniteException("Count is not supported by hash index [idxName=" + idxName + ']');
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isInlineScanPossible(@Nullable ImmutableBitSet requiredColumns) {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected @Nullable List<SearchBounds> buildSearchBounds(
+        RelOptCluster cluster,
+        @Nullable RexNode cond,
+        RelDataType rowType,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        if (cond == null)
+            return null;
+
+        List<SearchBounds> bounds = RexUtils.buildHashSearchBounds(cluster, cond, rowType, requiredColumns, true);
+
+        if (bounds == null)
+            return null;
+
+        ImmutableIntList keys = collation.getKeys();
+
+        // Each index column must be bound by equality predicate. Null is not stored by the hash index, so
+        // IS NOT DISTINCT FROM predicate can't be used.
+        for (int key : keys) {
+            SearchBounds bound = bounds.get(key);
+
+            if (!(bound instanceof ExactBounds) || bound.condition().getKind() != SqlKind.EQUALS)
+                return null;
+        }
+
+        for (int i = 0; i < bounds.size(); i++) {
+            if (!keys.contains(i))
+                bounds.set(i, null);
+        }
+
+        return bounds;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected CacheIndexImpl copy(IgniteCacheTable newTbl) {
+        return new CacheHashIndexImpl(collation, idxName, idx, newTbl);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected CacheIndexImpl copy(IgniteCacheTable newTbl, RelCollation newCollation) {
+        return new CacheHashIndexImpl(newCollation, idxName, idx, newTbl);
+    }
+}
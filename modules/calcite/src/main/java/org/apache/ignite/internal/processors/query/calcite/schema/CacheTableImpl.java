@@ -18,18 +18,22 @@
 package org.apache.ignite.internal.processors.query.calcite.schema;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.processors.cache.ZoneMapRange;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.processors.query.calcite.exec.TableScan;
+import org.apache.ignite.internal.processors.query.calcite.exec.ZoneMapFilter;
 import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
 import org.apache.ignite.internal.processors.query.calcite.prepare.MappingQueryContext;
 import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistribution;
@@ -103,6 +107,26 @@ public class CacheTableImpl extends AbstractTable implements IgniteCacheTable {
         return Collections.emptyList();
     }
 
+    /** {@inheritDoc} */
+    @Override public <Row> Iterable<Row> zoneMapScan(
+        ExecutionContext<Row> execCtx,
+        ColocationGroup grp,
+        @Nullable ImmutableBitSet usedColumns,
+        @Nullable RexNode condition
+    ) {
+        List<ZoneMapRange> ranges = ZoneMapFilter.ranges(execCtx, desc, usedColumns, condition);
+
+        if (ranges.isEmpty())
+            return null;
+
+        UUID locNodeId = execCtx.localNodeId();
+
+        if (grp.nodeIds().contains(locNodeId))
+            return new TableScan<>(execCtx, desc, grp.partitions(locNodeId), usedColumns, ranges);
+
+        return Collections.emptyList();
+    }
+
     /** {@inheritDoc} */
     @Override public IgniteDistribution distribution() {
         return desc.distribution();
@@ -16,6 +16,12 @@
  */
 package org.apache.ignite.internal.processors.query.calcite.schema;
 
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
+import org.jetbrains.annotations.Nullable;
+
 /**
  * Ignite cache-based table.
  */
@@ -29,4 +35,22 @@ public interface IgniteCacheTable extends IgniteTable {
      * Start cache context for lazy caches.
      */
     void ensureCacheStarted();
+
+    /**
+     * Creates a table scan skipping the data pages which can't contain the rows matching the condition.
+     *
+     * @param execCtx Execution context.
+     * @param grp Colocation group.
+     * @param usedColumns Used columns enumeration.
+     * @param condition Scan condition.
+     * @return Rows iterable or {@code null} if the condition doesn't allow to skip the data pages.
+     */
+    default @Nullable <Row> Iterable<Row> zoneMapScan(
+        ExecutionContext<Row> execCtx,
+        ColocationGroup grp,
+        @Nullable ImmutableBitSet usedColumns,
+        @Nullable RexNode condition
+    ) {
+        return null;
+    }
 }
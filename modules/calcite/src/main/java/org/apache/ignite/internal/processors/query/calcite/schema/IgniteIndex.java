@@ -23,9 +23,11 @@ import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeIterable;
 import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
+import org.apache.ignite.internal.processors.query.calcite.metadata.cost.IgniteCost;
 import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.SearchBounds;
 import org.apache.ignite.internal.processors.query.calcite.rel.logical.IgniteLogicalIndexScan;
 import org.jetbrains.annotations.Nullable;
@@ -37,6 +39,21 @@ public interface IgniteIndex {
     /** */
     public RelCollation collation();
 
+    /**
+     * @return Indexed columns. Equals to the keys of the collation for sorted indexes.
+     */
+    public default ImmutableIntList keys() {
+        return collation().getKeys();
+    }
+
+    /**
+     * @param rows Count of rows in the table.
+     * @return Cost of the index lookup by search bounds.
+     */
+    public default double searchCost(double rows) {
+        return Math.log(rows) * IgniteCost.ROW_COMPARISON_COST;
+    }
+
     /** */
     public String name();
 
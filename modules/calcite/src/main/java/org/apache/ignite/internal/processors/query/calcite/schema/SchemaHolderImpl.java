@@ -38,6 +38,7 @@ import org.apache.calcite.tools.Frameworks;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.mapping.Mappings;
 import org.apache.ignite.cache.CacheMode;
+import org.apache.ignite.cache.QueryIndexType;
 import org.apache.ignite.cache.affinity.AffinityFunction;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.configuration.CacheConfiguration;
@@ -240,7 +241,7 @@ public class SchemaHolderImpl extends AbstractService implements SchemaHolder, S
         for (IgniteIndex idx : oldTbl.indexes().values()) {
             CacheIndexImpl idx0 = (CacheIndexImpl)idx;
 
-            RelCollation newCollation = RelCollations.permute(idx0.collation(), mapping);
+            RelCollation newCollation = RelCollations.permute(idx0.collation, mapping);
 
             newTbl.addIndex(idx0.copy(newTbl, newCollation));
         }
@@ -304,7 +305,9 @@ public class SchemaHolderImpl extends AbstractService implements SchemaHolder, S
 
         RelCollation idxCollation = deriveSecondaryIndexCollation(idxDesc, tbl);
 
-        IgniteIndex idx = new CacheIndexImpl(idxCollation, idxName, idxDesc.index(), tbl);
+        IgniteIndex idx = idxDesc.type() == QueryIndexType.HASH
+            ? new CacheHashIndexImpl(idxCollation, idxName, idxDesc.index(), tbl)
+            : new CacheIndexImpl(idxCollation, idxName, idxDesc.index(), tbl);
         tbl.addIndex(idx);
 
         // For a composite PK index, we need to create another proxy index that will expand the passed boundaries into
@@ -51,6 +51,12 @@ public class IgniteSqlCreateIndex extends SqlCreate {
     /** */
     private final SqlNumericLiteral inlineSize;
 
+    /** */
+    private final @Nullable SqlNodeList includeList;
+
+    /** */
+    private final boolean hash;
+
     /** */
     private static final SqlOperator OPERATOR =
         new SqlSpecialOperator("CREATE INDEX", SqlKind.CREATE_INDEX);
@@ -63,7 +69,9 @@ public class IgniteSqlCreateIndex extends SqlCreate {
         SqlIdentifier tblName,
         SqlNodeList columnList,
         SqlNumericLiteral parallel,
-        SqlNumericLiteral inlineSize
+        SqlNumericLiteral inlineSize,
+        @Nullable SqlNodeList includeList,
+        boolean hash
     ) {
         super(OPERATOR, pos, false, ifNotExists);
         this.idxName = idxName;
@@ -71,17 +79,22 @@ public class IgniteSqlCreateIndex extends SqlCreate {
         this.columnList = columnList;
         this.parallel = parallel;
         this.inlineSize = inlineSize;
+        this.includeList = includeList;
+        this.hash = hash;
     }
 
     /** {@inheritDoc} */
     @Override public List<SqlNode> getOperandList() {
-        return ImmutableNullableList.of(idxName, tblName, columnList, parallel, inlineSize);
+        return ImmutableNullableList.of(idxName, tblName, columnList, parallel, inlineSize, includeList);
     }
 
     /** {@inheritDoc} */
     @Override public void unparse(SqlWriter writer, int leftPrec, int rightPrec) {
         writer.keyword("CREATE");
 
+        if (hash)
+            writer.keyword("HASH");
+
         writer.keyword("INDEX");
 
         if (ifNotExists)
@@ -125,6 +138,20 @@ public class IgniteSqlCreateIndex extends SqlCreate {
 
             inlineSize.unparse(writer, 0, 0);
         }
+
+        if (includeList != null) {
+            writer.keyword("INCLUDE");
+
+            SqlWriter.Frame includeFrame = writer.startList("(", ")");
+
+            for (SqlNode c : includeList) {
+                writer.sep(",");
+
+                c.unparse(writer, 0, 0);
+            }
+
+            writer.endList(includeFrame);
+        }
     }
 
     /**
@@ -162,6 +189,20 @@ public class IgniteSqlCreateIndex extends SqlCreate {
         return inlineSize;
     }
 
+    /**
+     * @return INCLUDE clause.
+     */
+    public @Nullable SqlNodeList includeList() {
+        return includeList;
+    }
+
+    /**
+     * @return Whether the HASH index is specified.
+     */
+    public boolean hash() {
+        return hash;
+    }
+
     /**
      * @return Whether the IF NOT EXISTS is specified.
      */
@@ -1464,11 +1464,19 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     SqlIdentifier idxId = null;
     SqlNumericLiteral parallel = null;
     SqlNumericLiteral inlineSize = null;
+    SqlNodeList includeList = null;
+    boolean hash = false;
         if (replace)
             {if (true) throw SqlUtil.newContextException(getPos(), IgniteResource.INSTANCE.unsupportedClause("REPLACE"));}
+    if (jj_2_114(2)) {
+      jj_consume_token(HASH);
+               hash = true;
+    } else {
+      ;
+    }
     jj_consume_token(INDEX);
     ifNotExists = IfNotExistsOpt();
-    if (jj_2_114(2)) {
+    if (jj_2_115(2)) {
       idxId = SimpleIdentifier();
     } else {
       ;
@@ -1478,36 +1486,42 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     columnList = IndexedColumnList();
     label_10:
     while (true) {
-      if (jj_2_115(2)) {
+      if (jj_2_116(2)) {
         ;
       } else {
         break label_10;
       }
-      if (jj_2_116(2)) {
+      if (jj_2_117(2)) {
         jj_consume_token(PARALLEL);
         jj_consume_token(UNSIGNED_INTEGER_LITERAL);
             if (parallel != null)
                 {if (true) throw SqlUtil.newContextException(getPos(), IgniteResource.INSTANCE.optionAlreadyDefined("PARALLEL"));}
 
             parallel = SqlLiteral.createExactNumeric(token.image, getPos());
-      } else if (jj_2_117(2)) {
+      } else if (jj_2_118(2)) {
         jj_consume_token(INLINE_SIZE);
         jj_consume_token(UNSIGNED_INTEGER_LITERAL);
             if (inlineSize != null)
                 {if (true) throw SqlUtil.newContextException(getPos(), IgniteResource.INSTANCE.optionAlreadyDefined("INLINE_SIZE"));}
 
             inlineSize = SqlLiteral.createExactNumeric(token.image, getPos());
+      } else if (jj_2_119(2)) {
+        jj_consume_token(INCLUDE);
+            if (includeList != null)
+                {if (true) throw SqlUtil.newContextException(getPos(), IgniteResource.INSTANCE.optionAlreadyDefined("INCLUDE"));}
+        includeList = ParenthesizedSimpleIdentifierList();
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
     }
-        {if (true) return new IgniteSqlCreateIndex(s.end(this), ifNotExists, idxId, tblId, columnList, parallel, inlineSize);}
+        {if (true) return new IgniteSqlCreateIndex(s.end(this), ifNotExists, idxId, tblId, columnList, parallel, inlineSize,
+            includeList, hash);}
     throw new Error("Missing return statement in function");
   }
 
   final public boolean IfExistsOpt() throws ParseException {
-    if (jj_2_118(2)) {
+    if (jj_2_120(2)) {
       jj_consume_token(IF);
       jj_consume_token(EXISTS);
                     {if (true) return true;}
@@ -1558,7 +1572,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                              list.add(col);
     label_11:
     while (true) {
-      if (jj_2_119(2)) {
+      if (jj_2_121(2)) {
         ;
       } else {
         break label_11;
@@ -1579,7 +1593,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final Span s = Span.of();
     id = SimpleIdentifier();
     type = DataTypeEx();
-    if (jj_2_120(2)) {
+    if (jj_2_122(2)) {
       jj_consume_token(NOT);
       jj_consume_token(NULL);
             nullable = false;
@@ -1593,10 +1607,10 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
   final public SqlNodeList ColumnWithTypeOrList() throws ParseException {
     SqlNode col;
     SqlNodeList list;
-    if (jj_2_121(2)) {
+    if (jj_2_123(2)) {
       col = ColumnWithType();
                              {if (true) return new SqlNodeList(Collections.singletonList(col), col.getParserPosition());}
-    } else if (jj_2_122(2)) {
+    } else if (jj_2_124(2)) {
       list = ColumnWithTypeList();
                                   {if (true) return list;}
     } else {
@@ -1618,15 +1632,15 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     jj_consume_token(TABLE);
     ifExists = IfExistsOpt();
     id = CompoundIdentifier();
-    if (jj_2_125(2)) {
+    if (jj_2_127(2)) {
       jj_consume_token(LOGGING);
                     {if (true) return new IgniteSqlAlterTable(s.end(this), ifExists, id, true);}
-    } else if (jj_2_126(2)) {
+    } else if (jj_2_128(2)) {
       jj_consume_token(NOLOGGING);
                        {if (true) return new IgniteSqlAlterTable(s.end(this), ifExists, id, false);}
-    } else if (jj_2_127(2)) {
+    } else if (jj_2_129(2)) {
       jj_consume_token(ADD);
-      if (jj_2_123(2)) {
+      if (jj_2_125(2)) {
         jj_consume_token(COLUMN);
       } else {
         ;
@@ -1634,9 +1648,9 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       colIgnoreErr = IfNotExistsOpt();
       cols = ColumnWithTypeOrList();
             {if (true) return new IgniteSqlAlterTableAddColumn(s.end(this), ifExists, id, colIgnoreErr, cols);}
-    } else if (jj_2_128(2)) {
+    } else if (jj_2_130(2)) {
       jj_consume_token(DROP);
-      if (jj_2_124(2)) {
+      if (jj_2_126(2)) {
         jj_consume_token(COLUMN);
       } else {
         ;
@@ -1690,16 +1704,16 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
 
   final public SqlNumericLiteral SignedIntegerLiteral() throws ParseException {
     final Span s;
-    if (jj_2_129(2)) {
+    if (jj_2_131(2)) {
       jj_consume_token(PLUS);
       jj_consume_token(UNSIGNED_INTEGER_LITERAL);
         {if (true) return SqlLiteral.createExactNumeric(token.image, getPos());}
-    } else if (jj_2_130(2)) {
+    } else if (jj_2_132(2)) {
       jj_consume_token(MINUS);
               s = span();
       jj_consume_token(UNSIGNED_INTEGER_LITERAL);
         {if (true) return SqlLiteral.createNegative(SqlLiteral.createExactNumeric(token.image, getPos()), s.end(this));}
-    } else if (jj_2_131(2)) {
+    } else if (jj_2_133(2)) {
       jj_consume_token(UNSIGNED_INTEGER_LITERAL);
         {if (true) return SqlLiteral.createExactNumeric(token.image, getPos());}
     } else {
@@ -1803,7 +1817,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
   }
 
   final public boolean IsAsyncOpt() throws ParseException {
-    if (jj_2_132(2)) {
+    if (jj_2_134(2)) {
       jj_consume_token(ASYNC);
               {if (true) return true;}
     } else {
@@ -1834,7 +1848,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final Span s;
     jj_consume_token(COMMIT);
                s = span();
-    if (jj_2_133(2)) {
+    if (jj_2_135(2)) {
       jj_consume_token(TRANSACTION);
     } else {
       ;
@@ -1847,7 +1861,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final Span s;
     jj_consume_token(ROLLBACK);
                  s = span();
-    if (jj_2_134(2)) {
+    if (jj_2_136(2)) {
       jj_consume_token(TRANSACTION);
     } else {
       ;
@@ -1883,7 +1897,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlIdentifier id;
     final SqlNodeList columnList;
     id = CompoundIdentifier();
-    if (jj_2_135(2)) {
+    if (jj_2_137(2)) {
       columnList = ParenthesizedSimpleIdentifierList();
     } else {
           columnList = null;
@@ -1900,7 +1914,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                               tbls.add(tbl);
     label_12:
     while (true) {
-      if (jj_2_136(2)) {
+      if (jj_2_138(2)) {
         ;
       } else {
         break label_12;
@@ -1916,14 +1930,14 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
   final public SqlNodeList WithStatisticsAnalyzeOptionList() throws ParseException {
     List<SqlNode> list = new ArrayList<SqlNode>();
     final Span s;
-    if (jj_2_140(2)) {
+    if (jj_2_142(2)) {
       jj_consume_token(WITH);
                  s = span();
-      if (jj_2_138(2)) {
+      if (jj_2_140(2)) {
         StatisticsAnalyzeOption(list);
         label_13:
         while (true) {
-          if (jj_2_137(2)) {
+          if (jj_2_139(2)) {
             ;
           } else {
             break label_13;
@@ -1933,7 +1947,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
           StatisticsAnalyzeOption(list);
         }
                 {if (true) return new SqlNodeList(list, s.end(this));}
-      } else if (jj_2_139(2)) {
+      } else if (jj_2_141(2)) {
         jj_consume_token(QUOTED_IDENTIFIER);
                 {if (true) return IgniteSqlStatisticsAnalyzeOption.parseOptionList(
                     SqlParserUtil.stripQuotes(token.image, DQ, DQ, DQDQ, quotedCasing),
@@ -1951,19 +1965,19 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
   }
 
   final public SqlLiteral StatisticsAnalyzeOptionKey() throws ParseException {
-    if (jj_2_141(2)) {
+    if (jj_2_143(2)) {
       jj_consume_token(DISTINCT);
                  {if (true) return SqlLiteral.createSymbol(IgniteSqlStatisticsAnalyzeOptionEnum.DISTINCT, getPos());}
-    } else if (jj_2_142(2)) {
+    } else if (jj_2_144(2)) {
       jj_consume_token(TOTAL);
               {if (true) return SqlLiteral.createSymbol(IgniteSqlStatisticsAnalyzeOptionEnum.TOTAL, getPos());}
-    } else if (jj_2_143(2)) {
+    } else if (jj_2_145(2)) {
       jj_consume_token(SIZE);
              {if (true) return SqlLiteral.createSymbol(IgniteSqlStatisticsAnalyzeOptionEnum.SIZE, getPos());}
-    } else if (jj_2_144(2)) {
+    } else if (jj_2_146(2)) {
       jj_consume_token(NULLS);
               {if (true) return SqlLiteral.createSymbol(IgniteSqlStatisticsAnalyzeOptionEnum.NULLS, getPos());}
-    } else if (jj_2_145(2)) {
+    } else if (jj_2_147(2)) {
       jj_consume_token(MAX_CHANGED_PARTITION_ROWS_PERCENT);
                                            {if (true) return SqlLiteral.createSymbol(IgniteSqlStatisticsAnalyzeOptionEnum.MAX_CHANGED_PARTITION_ROWS_PERCENT, getPos());}
     } else {
@@ -1980,9 +1994,9 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     key = StatisticsAnalyzeOptionKey();
                                          s = span();
     jj_consume_token(EQ);
-    if (jj_2_146(2)) {
+    if (jj_2_148(2)) {
       val = Literal();
-    } else if (jj_2_147(2)) {
+    } else if (jj_2_149(2)) {
       val = SimpleIdentifier();
     } else {
       jj_consume_token(-1);
@@ -2054,7 +2068,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddKeyValueOption(list);
     label_14:
     while (true) {
-      if (jj_2_148(2)) {
+      if (jj_2_150(2)) {
         ;
       } else {
         break label_14;
@@ -2074,18 +2088,18 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
   final public void AddKeyValueOption(List<SqlNode> list) throws ParseException {
     final SqlNode key;
     final SqlNode value;
-    if (jj_2_149(2)) {
+    if (jj_2_151(2)) {
       key = SimpleIdentifier();
-    } else if (jj_2_150(2)) {
+    } else if (jj_2_152(2)) {
       key = StringLiteral();
     } else {
       jj_consume_token(-1);
       throw new ParseException();
     }
     jj_consume_token(EQ);
-    if (jj_2_151(2)) {
+    if (jj_2_153(2)) {
       value = StringLiteral();
-    } else if (jj_2_152(2)) {
+    } else if (jj_2_154(2)) {
       value = SimpleIdentifier();
     } else {
       jj_consume_token(-1);
@@ -2098,10 +2112,10 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
 /** Parses an option value (either a string or a numeric) and adds to a list. */
   final public void AddOptionValue(List<SqlNode> list) throws ParseException {
     final SqlNode value;
-    if (jj_2_153(2)) {
+    if (jj_2_155(2)) {
       value = NumericLiteral();
                                    list.add(value);
-    } else if (jj_2_154(2)) {
+    } else if (jj_2_156(2)) {
       value = StringLiteral();
                                   list.add(value);
     } else {
@@ -2121,7 +2135,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddOptionValue(list);
     label_15:
     while (true) {
-      if (jj_2_155(2)) {
+      if (jj_2_157(2)) {
         ;
       } else {
         break label_15;
@@ -2141,17 +2155,17 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlHint.HintOptionFormat optionFormat;
       s = span();
     hintName = SimpleIdentifier();
-    if (jj_2_157(5)) {
+    if (jj_2_159(5)) {
       hintOptions = ParenthesizedKeyValueOptionCommaList();
             optionFormat = SqlHint.HintOptionFormat.KV_LIST;
-    } else if (jj_2_158(3)) {
+    } else if (jj_2_160(3)) {
       hintOptions = ParenthesizedSimpleIdentifierList();
             optionFormat = SqlHint.HintOptionFormat.ID_LIST;
-    } else if (jj_2_159(3)) {
+    } else if (jj_2_161(3)) {
       hintOptions = ParenthesizedLiteralOptionCommaList();
             optionFormat = SqlHint.HintOptionFormat.LITERAL_LIST;
     } else {
-      if (jj_2_156(2)) {
+      if (jj_2_158(2)) {
         jj_consume_token(LPAREN);
         jj_consume_token(RPAREN);
       } else {
@@ -2173,7 +2187,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddHint(hints);
     label_16:
     while (true) {
-      if (jj_2_160(2)) {
+      if (jj_2_162(2)) {
         ;
       } else {
         break label_16;
@@ -2207,12 +2221,12 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final Span s;
     jj_consume_token(SELECT);
                s = span();
-    if (jj_2_162(2)) {
+    if (jj_2_164(2)) {
       jj_consume_token(HINT_BEG);
       AddHint(hints);
       label_17:
       while (true) {
-        if (jj_2_161(2)) {
+        if (jj_2_163(2)) {
           ;
         } else {
           break label_17;
@@ -2225,13 +2239,13 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       ;
     }
     SqlSelectKeywords(keywords);
-    if (jj_2_163(2)) {
+    if (jj_2_165(2)) {
       jj_consume_token(STREAM);
             keywords.add(SqlSelectKeyword.STREAM.symbol(getPos()));
     } else {
       ;
     }
-    if (jj_2_164(2)) {
+    if (jj_2_166(2)) {
       keyword = AllOrDistinct();
                                     keywords.add(keyword);
     } else {
@@ -2241,7 +2255,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddSelectItem(selectList);
     label_18:
     while (true) {
-      if (jj_2_165(2)) {
+      if (jj_2_167(2)) {
         ;
       } else {
         break label_18;
@@ -2250,30 +2264,30 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       AddSelectItem(selectList);
     }
       by = null;
-    if (jj_2_171(2)) {
+    if (jj_2_173(2)) {
       jj_consume_token(FROM);
       fromClause = FromClause();
-      if (jj_2_166(2)) {
+      if (jj_2_168(2)) {
         where = Where();
       } else {
                               where = null;
       }
-      if (jj_2_167(2)) {
+      if (jj_2_169(2)) {
         groupBy = GroupBy();
       } else {
                                   groupBy = null;
       }
-      if (jj_2_168(2)) {
+      if (jj_2_170(2)) {
         having = Having();
       } else {
                                 having = null;
       }
-      if (jj_2_169(2)) {
+      if (jj_2_171(2)) {
         windowDecls = Window();
       } else {
                                      windowDecls = null;
       }
-      if (jj_2_170(2)) {
+      if (jj_2_172(2)) {
         qualify = Qualify();
       } else {
                                   qualify = null;
@@ -2314,21 +2328,21 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlExplainFormat format;
     jj_consume_token(EXPLAIN);
     jj_consume_token(PLAN);
-    if (jj_2_172(2)) {
+    if (jj_2_174(2)) {
       detailLevel = ExplainDetailLevel();
     } else {
       ;
     }
     depth = ExplainDepth();
-    if (jj_2_173(2)) {
+    if (jj_2_175(2)) {
       jj_consume_token(AS);
       jj_consume_token(XML);
                      format = SqlExplainFormat.XML;
-    } else if (jj_2_174(2)) {
+    } else if (jj_2_176(2)) {
       jj_consume_token(AS);
       jj_consume_token(JSON);
                       format = SqlExplainFormat.JSON;
-    } else if (jj_2_175(2)) {
+    } else if (jj_2_177(2)) {
       jj_consume_token(AS);
       jj_consume_token(DOT_FORMAT);
                             format = SqlExplainFormat.DOT;
@@ -2350,15 +2364,15 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
  * or DML statement (INSERT, UPDATE, DELETE, MERGE). */
   final public SqlNode SqlQueryOrDml() throws ParseException {
     SqlNode stmt;
-    if (jj_2_176(2)) {
+    if (jj_2_178(2)) {
       stmt = OrderedQueryOrExpr(ExprContext.ACCEPT_QUERY);
-    } else if (jj_2_177(2)) {
+    } else if (jj_2_179(2)) {
       stmt = SqlInsert();
-    } else if (jj_2_178(2)) {
+    } else if (jj_2_180(2)) {
       stmt = SqlDelete();
-    } else if (jj_2_179(2)) {
+    } else if (jj_2_181(2)) {
       stmt = SqlUpdate();
-    } else if (jj_2_180(2)) {
+    } else if (jj_2_182(2)) {
       stmt = SqlMerge();
     } else {
       jj_consume_token(-1);
@@ -2373,15 +2387,15 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
  * EXPLAIN PLAN.
  */
   final public SqlExplain.Depth ExplainDepth() throws ParseException {
-    if (jj_2_181(2)) {
+    if (jj_2_183(2)) {
       jj_consume_token(WITH);
       jj_consume_token(TYPE);
             {if (true) return SqlExplain.Depth.TYPE;}
-    } else if (jj_2_182(2)) {
+    } else if (jj_2_184(2)) {
       jj_consume_token(WITH);
       jj_consume_token(IMPLEMENTATION);
             {if (true) return SqlExplain.Depth.PHYSICAL;}
-    } else if (jj_2_183(2)) {
+    } else if (jj_2_185(2)) {
       jj_consume_token(WITHOUT);
       jj_consume_token(IMPLEMENTATION);
             {if (true) return SqlExplain.Depth.LOGICAL;}
@@ -2396,13 +2410,13 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
  */
   final public SqlExplainLevel ExplainDetailLevel() throws ParseException {
     SqlExplainLevel level = SqlExplainLevel.EXPPLAN_ATTRIBUTES;
-    if (jj_2_185(2)) {
+    if (jj_2_187(2)) {
       jj_consume_token(EXCLUDING);
       jj_consume_token(ATTRIBUTES);
             level = SqlExplainLevel.NO_ATTRIBUTES;
-    } else if (jj_2_186(2)) {
+    } else if (jj_2_188(2)) {
       jj_consume_token(INCLUDING);
-      if (jj_2_184(2)) {
+      if (jj_2_186(2)) {
         jj_consume_token(ALL);
                   level = SqlExplainLevel.ALL_ATTRIBUTES;
       } else {
@@ -2429,12 +2443,12 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
    final SqlNode stmt;
     jj_consume_token(DESCRIBE);
                  s = span();
-    if (jj_2_192(2)) {
-      if (jj_2_187(2)) {
+    if (jj_2_194(2)) {
+      if (jj_2_189(2)) {
         jj_consume_token(DATABASE);
-      } else if (jj_2_188(2)) {
+      } else if (jj_2_190(2)) {
         jj_consume_token(CATALOG);
-      } else if (jj_2_189(2)) {
+      } else if (jj_2_191(2)) {
         jj_consume_token(SCHEMA);
       } else {
         jj_consume_token(-1);
@@ -2445,21 +2459,21 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
             // DESCRIBE SCHEMA but should be different. See
             //   [CALCITE-1221] Implement DESCRIBE DATABASE, CATALOG, STATEMENT
             {if (true) return new SqlDescribeSchema(s.end(id), id);}
-    } else if (jj_2_193(2147483647)) {
-      if (jj_2_190(2)) {
+    } else if (jj_2_195(2147483647)) {
+      if (jj_2_192(2)) {
         jj_consume_token(TABLE);
       } else {
         ;
       }
       table = CompoundIdentifier();
-      if (jj_2_191(2)) {
+      if (jj_2_193(2)) {
         column = SimpleIdentifier();
       } else {
                                           column = null;
       }
             {if (true) return new SqlDescribeTable(s.add(table).addIf(column).pos(),
                 table, column);}
-    } else if (jj_2_194(2)) {
+    } else if (jj_2_196(2)) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case STATEMENT:
         jj_consume_token(STATEMENT);
@@ -2510,11 +2524,11 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     name = CompoundIdentifier();
         s = span();
     jj_consume_token(LPAREN);
-    if (jj_2_196(2)) {
+    if (jj_2_198(2)) {
       AddArg0(list, exprContext);
       label_19:
       while (true) {
-        if (jj_2_195(2)) {
+        if (jj_2_197(2)) {
           ;
         } else {
           break label_19;
@@ -2543,14 +2557,14 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     SqlNode tableRef;
       s = span();
     tableRef = ExplicitTable(getPos());
-    if (jj_2_197(2)) {
+    if (jj_2_199(2)) {
       jj_consume_token(PARTITION);
       jj_consume_token(BY);
       partitionList = SimpleIdentifierOrList();
     } else {
           partitionList = SqlNodeList.EMPTY;
     }
-    if (jj_2_198(2)) {
+    if (jj_2_200(2)) {
       orderList = OrderByOfSetSemanticsTable();
     } else {
           orderList = SqlNodeList.EMPTY;
@@ -2572,14 +2586,14 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlNodeList partitionList;
     final SqlNodeList orderList;
       s = span();
-    if (jj_2_199(2)) {
+    if (jj_2_201(2)) {
       jj_consume_token(PARTITION);
       jj_consume_token(BY);
       partitionList = SimpleIdentifierOrList();
     } else {
           partitionList = SqlNodeList.EMPTY;
     }
-    if (jj_2_200(2)) {
+    if (jj_2_202(2)) {
       orderList = OrderByOfSetSemanticsTable();
     } else {
           orderList = SqlNodeList.EMPTY;
@@ -2594,12 +2608,12 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     jj_consume_token(ORDER);
     s = span();
     jj_consume_token(BY);
-    if (jj_2_202(2)) {
+    if (jj_2_204(2)) {
       jj_consume_token(LPAREN);
       AddOrderItem(list);
       label_20:
       while (true) {
-        if (jj_2_201(2)) {
+        if (jj_2_203(2)) {
           ;
         } else {
           break label_20;
@@ -2609,7 +2623,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       }
       jj_consume_token(RPAREN);
           {if (true) return new SqlNodeList(list, s.addAll(list).pos());}
-    } else if (jj_2_203(2)) {
+    } else if (jj_2_205(2)) {
       AddOrderItem(list);
           {if (true) return new SqlNodeList(list, s.addAll(list).pos());}
     } else {
@@ -2644,9 +2658,9 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlNodeList columnList;
     final Span s;
     final Pair<SqlNodeList, SqlNodeList> p;
-    if (jj_2_204(2)) {
+    if (jj_2_206(2)) {
       jj_consume_token(INSERT);
-    } else if (jj_2_205(2)) {
+    } else if (jj_2_207(2)) {
       jj_consume_token(UPSERT);
                    keywords.add(SqlInsertKeyword.UPSERT.symbol(getPos()));
     } else {
@@ -2658,17 +2672,17 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
         keywordList = new SqlNodeList(keywords, s.addAll(keywords).pos());
     jj_consume_token(INTO);
     tableName = CompoundTableIdentifier();
-    if (jj_2_206(2)) {
+    if (jj_2_208(2)) {
       tableRef = TableHints(tableName);
     } else {
                                            tableRef = tableName;
     }
-    if (jj_2_207(5)) {
+    if (jj_2_209(5)) {
       tableRef = ExtendTable(tableRef);
     } else {
       ;
     }
-    if (jj_2_208(2)) {
+    if (jj_2_210(2)) {
       p = ParenthesizedCompoundIdentifierList();
             if (!p.right.isEmpty()) {
                 tableRef = extend(tableRef, p.right);
@@ -2708,18 +2722,18 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
         s = span();
     jj_consume_token(FROM);
     tableName = CompoundTableIdentifier();
-    if (jj_2_209(2)) {
+    if (jj_2_211(2)) {
       tableRef = TableHints(tableName);
     } else {
                                            tableRef = tableName;
     }
-    if (jj_2_210(2)) {
+    if (jj_2_212(2)) {
       tableRef = ExtendTable(tableRef);
     } else {
       ;
     }
-    if (jj_2_212(2)) {
-      if (jj_2_211(2)) {
+    if (jj_2_214(2)) {
+      if (jj_2_213(2)) {
         jj_consume_token(AS);
       } else {
         ;
@@ -2728,7 +2742,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     } else {
                                               alias = null;
     }
-    if (jj_2_213(2)) {
+    if (jj_2_215(2)) {
       where = Where();
     } else {
                           where = null;
@@ -2755,18 +2769,18 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
         targetColumnList = new SqlNodeList(s.pos());
         sourceExpressionList = new SqlNodeList(s.pos());
     tableName = CompoundTableIdentifier();
-    if (jj_2_214(2)) {
+    if (jj_2_216(2)) {
       tableRef = TableHints(tableName);
     } else {
                                            tableRef = tableName;
     }
-    if (jj_2_215(2)) {
+    if (jj_2_217(2)) {
       tableRef = ExtendTable(tableRef);
     } else {
       ;
     }
-    if (jj_2_217(2)) {
-      if (jj_2_216(2)) {
+    if (jj_2_219(2)) {
+      if (jj_2_218(2)) {
         jj_consume_token(AS);
       } else {
         ;
@@ -2782,7 +2796,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddExpression(sourceExpressionList, ExprContext.ACCEPT_SUB_QUERY);
     label_21:
     while (true) {
-      if (jj_2_218(2)) {
+      if (jj_2_220(2)) {
         ;
       } else {
         break label_21;
@@ -2793,7 +2807,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       jj_consume_token(EQ);
       AddExpression(sourceExpressionList, ExprContext.ACCEPT_SUB_QUERY);
     }
-    if (jj_2_219(2)) {
+    if (jj_2_221(2)) {
       where = Where();
     } else {
                           where = null;
@@ -2821,18 +2835,18 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
               s = span();
     jj_consume_token(INTO);
     tableName = CompoundTableIdentifier();
-    if (jj_2_220(2)) {
+    if (jj_2_222(2)) {
       tableRef = TableHints(tableName);
     } else {
                                            tableRef = tableName;
     }
-    if (jj_2_221(2)) {
+    if (jj_2_223(2)) {
       tableRef = ExtendTable(tableRef);
     } else {
       ;
     }
-    if (jj_2_223(2)) {
-      if (jj_2_222(2)) {
+    if (jj_2_225(2)) {
+      if (jj_2_224(2)) {
         jj_consume_token(AS);
       } else {
         ;
@@ -2845,14 +2859,14 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     sourceTableRef = TableRef();
     jj_consume_token(ON);
     condition = Expression(ExprContext.ACCEPT_SUB_QUERY);
-    if (jj_2_225(2)) {
+    if (jj_2_227(2)) {
       updateCall = WhenMatchedClause(tableRef, alias);
-      if (jj_2_224(2)) {
+      if (jj_2_226(2)) {
         insertCall = WhenNotMatchedClause(tableRef);
       } else {
                                                           insertCall = null;
       }
-    } else if (jj_2_226(2)) {
+    } else if (jj_2_228(2)) {
           updateCall = null;
       insertCall = WhenNotMatchedClause(tableRef);
     } else {
@@ -2882,7 +2896,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddExpression(updateExprList, ExprContext.ACCEPT_SUB_QUERY);
     label_22:
     while (true) {
-      if (jj_2_227(2)) {
+      if (jj_2_229(2)) {
         ;
       } else {
         break label_22;
@@ -2913,18 +2927,18 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
         insertSpan = span();
     SqlInsertKeywords(keywords);
         keywordList = new SqlNodeList(keywords, insertSpan.end(this));
-    if (jj_2_228(2)) {
+    if (jj_2_230(2)) {
       insertColumnList = ParenthesizedSimpleIdentifierList();
     } else {
           insertColumnList = null;
     }
-    if (jj_2_229(2)) {
+    if (jj_2_231(2)) {
       jj_consume_token(LPAREN);
       jj_consume_token(VALUES);
                    valuesSpan = span();
       rowConstructor = RowConstructor();
       jj_consume_token(RPAREN);
-    } else if (jj_2_230(2)) {
+    } else if (jj_2_232(2)) {
       jj_consume_token(VALUES);
                    valuesSpan = span();
       rowConstructor = RowConstructor();
@@ -2949,10 +2963,10 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     SqlNode e;
     final SqlIdentifier id;
     e = SelectExpression();
-    if (jj_2_234(2)) {
-      if (jj_2_232(2)) {
+    if (jj_2_236(2)) {
+      if (jj_2_234(2)) {
         jj_consume_token(AS);
-        if (jj_2_231(2)) {
+        if (jj_2_233(2)) {
           jj_consume_token(MEASURE);
                     e = SqlInternalOperators.MEASURE.createCall(
                         e.getParserPosition(), e);
@@ -2962,7 +2976,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       } else {
         ;
       }
-      if (jj_2_233(2)) {
+      if (jj_2_235(2)) {
         id = SimpleIdentifier();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2986,10 +3000,10 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
  */
   final public SqlNode SelectExpression() throws ParseException {
     SqlNode e;
-    if (jj_2_235(2)) {
+    if (jj_2_237(2)) {
       jj_consume_token(STAR);
         {if (true) return SqlIdentifier.star(getPos());}
-    } else if (jj_2_236(2)) {
+    } else if (jj_2_238(2)) {
       e = Expression(ExprContext.ACCEPT_SUB_QUERY);
         {if (true) return e;}
     } else {
@@ -3000,7 +3014,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
   }
 
   final public SqlLiteral Natural() throws ParseException {
-    if (jj_2_237(2)) {
+    if (jj_2_239(2)) {
       jj_consume_token(NATURAL);
                 {if (true) return SqlLiteral.createBoolean(true, getPos());}
     } else {
@@ -3012,23 +3026,23 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
   final public SqlLiteral JoinType() throws ParseException {
     JoinType joinType;
     boolean asof = false;
-    if (jj_2_243(2)) {
+    if (jj_2_245(2)) {
       jj_consume_token(JOIN);
                  joinType = JoinType.INNER;
-    } else if (jj_2_244(2)) {
+    } else if (jj_2_246(2)) {
       jj_consume_token(INNER);
       jj_consume_token(JOIN);
                          joinType = JoinType.INNER;
-    } else if (jj_2_245(2)) {
+    } else if (jj_2_247(2)) {
       jj_consume_token(ASOF);
       jj_consume_token(JOIN);
                         joinType = JoinType.ASOF;
-    } else if (jj_2_246(2)) {
+    } else if (jj_2_248(2)) {
       jj_consume_token(LEFT);
-      if (jj_2_240(2)) {
-        if (jj_2_238(2)) {
+      if (jj_2_242(2)) {
+        if (jj_2_240(2)) {
           jj_consume_token(OUTER);
-        } else if (jj_2_239(2)) {
+        } else if (jj_2_241(2)) {
           jj_consume_token(ASOF);
                                     asof = true;
         } else {
@@ -3040,25 +3054,25 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       }
       jj_consume_token(JOIN);
                                                               joinType = asof ? JoinType.LEFT_ASOF : JoinType.LEFT;
-    } else if (jj_2_247(2)) {
+    } else if (jj_2_249(2)) {
       jj_consume_token(RIGHT);
-      if (jj_2_241(2)) {
+      if (jj_2_243(2)) {
         jj_consume_token(OUTER);
       } else {
         ;
       }
       jj_consume_token(JOIN);
                                      joinType = JoinType.RIGHT;
-    } else if (jj_2_248(2)) {
+    } else if (jj_2_250(2)) {
       jj_consume_token(FULL);
-      if (jj_2_242(2)) {
+      if (jj_2_244(2)) {
         jj_consume_token(OUTER);
       } else {
         ;
       }
       jj_consume_token(JOIN);
                                     joinType = JoinType.FULL;
-    } else if (jj_2_249(2)) {
+    } else if (jj_2_251(2)) {
       jj_consume_token(CROSS);
       jj_consume_token(JOIN);
                          joinType = JoinType.CROSS;
@@ -3109,7 +3123,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
   final public SqlNode JoinOrCommaTable(SqlNode e) throws ParseException {
     SqlNode e2;
     SqlLiteral joinType;
-    if (jj_2_250(2)) {
+    if (jj_2_252(2)) {
       jj_consume_token(COMMA);
               joinType = JoinType.COMMA.symbol(getPos());
       e2 = TableRef1(ExprContext.ACCEPT_QUERY_OR_JOIN);
@@ -3120,7 +3134,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
             e2,
             JoinConditionType.NONE.symbol(SqlParserPos.ZERO),
             null);}
-    } else if (jj_2_251(2)) {
+    } else if (jj_2_253(2)) {
       e2 = JoinTable(e);
                         {if (true) return e2;}
     } else {
@@ -3135,12 +3149,12 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     SqlNode e2, condition, matchCondition = null;
     final SqlLiteral natural, joinType, on, using;
     SqlNodeList list;
-    if (jj_2_255(4)) {
+    if (jj_2_257(4)) {
       natural = Natural();
       joinType = JoinType();
       e2 = TableRef1(ExprContext.ACCEPT_QUERY_OR_JOIN);
-      if (jj_2_253(2)) {
-        if (jj_2_252(2)) {
+      if (jj_2_255(2)) {
+        if (jj_2_254(2)) {
           jj_consume_token(MATCH_CONDITION);
           matchCondition = Expression(ExprContext.ACCEPT_SUB_QUERY);
         } else {
@@ -3174,7 +3188,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                 e2,
                 on,
                 condition);}
-      } else if (jj_2_254(2)) {
+      } else if (jj_2_256(2)) {
         jj_consume_token(USING);
                   using = JoinConditionType.USING.symbol(getPos());
         list = ParenthesizedSimpleIdentifierList();
@@ -3194,7 +3208,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                 JoinConditionType.NONE.symbol(joinType.getParserPosition()),
                 null);}
       }
-    } else if (jj_2_256(2)) {
+    } else if (jj_2_258(2)) {
       jj_consume_token(CROSS);
               joinType = JoinType.CROSS.symbol(getPos());
       jj_consume_token(APPLY);
@@ -3209,7 +3223,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
             e2,
             JoinConditionType.NONE.symbol(SqlParserPos.ZERO),
             null);}
-    } else if (jj_2_257(2)) {
+    } else if (jj_2_259(2)) {
       jj_consume_token(OUTER);
               joinType = JoinType.LEFT.symbol(getPos());
       jj_consume_token(APPLY);
@@ -3267,36 +3281,36 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     SqlNodeList args;
     final SqlNodeList columnAliasList;
     SqlUnnestOperator unnestOp = SqlStdOperatorTable.UNNEST;
-    if (jj_2_268(2)) {
+    if (jj_2_270(2)) {
       tableName = CompoundTableIdentifier();
                                                 s = span();
-      if (jj_2_262(3)) {
+      if (jj_2_264(3)) {
         tableRef = ImplicitTableFunctionCallArgs(tableName);
       } else {
-        if (jj_2_258(2)) {
+        if (jj_2_260(2)) {
           tableRef = TableHints(tableName);
         } else {
                                                    tableRef = tableName;
         }
-        if (jj_2_259(2)) {
+        if (jj_2_261(2)) {
           tableRef = ExtendTable(tableRef);
         } else {
           ;
         }
         tableRef = Over(tableRef);
-        if (jj_2_260(2)) {
+        if (jj_2_262(2)) {
           tableRef = Snapshot(tableRef);
         } else {
           ;
         }
-        if (jj_2_261(3)) {
+        if (jj_2_263(3)) {
           tableRef = MatchRecognize(tableRef);
         } else {
           ;
         }
       }
-    } else if (jj_2_269(2)) {
-      if (jj_2_263(2)) {
+    } else if (jj_2_271(2)) {
+      if (jj_2_265(2)) {
         jj_consume_token(LATERAL);
                       lateral = true;
       } else {
@@ -3305,13 +3319,13 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       tableRef = ParenthesizedExpression(exprContext);
       tableRef = Over(tableRef);
       tableRef = addLateral(tableRef, lateral);
-      if (jj_2_264(3)) {
+      if (jj_2_266(3)) {
         tableRef = MatchRecognize(tableRef);
       } else {
         ;
       }
-    } else if (jj_2_270(2)) {
-      if (jj_2_265(2)) {
+    } else if (jj_2_272(2)) {
+      if (jj_2_267(2)) {
         jj_consume_token(LATERAL);
       } else {
         ;
@@ -3319,7 +3333,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       jj_consume_token(UNNEST);
                    s = span();
       args = ParenthesizedQueryOrCommaList(ExprContext.ACCEPT_SUB_QUERY);
-      if (jj_2_266(2)) {
+      if (jj_2_268(2)) {
         jj_consume_token(WITH);
         jj_consume_token(ORDINALITY);
                 unnestOp = SqlStdOperatorTable.UNNEST_WITH_ORDINALITY;
@@ -3327,8 +3341,8 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
         ;
       }
             tableRef = unnestOp.createCall(s.end(this), (List<SqlNode>) args);
-    } else if (jj_2_271(2)) {
-      if (jj_2_267(2)) {
+    } else if (jj_2_273(2)) {
+      if (jj_2_269(2)) {
         jj_consume_token(LATERAL);
                       lateral = true;
       } else {
@@ -3336,30 +3350,30 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       }
       tableRef = TableFunctionCall();
       tableRef = addLateral(tableRef, lateral);
-    } else if (jj_2_272(2)) {
+    } else if (jj_2_274(2)) {
       tableRef = ExtendedTableRef();
     } else {
       jj_consume_token(-1);
       throw new ParseException();
     }
-    if (jj_2_273(2)) {
+    if (jj_2_275(2)) {
       tableRef = Pivot(tableRef);
     } else {
       ;
     }
-    if (jj_2_274(2)) {
+    if (jj_2_276(2)) {
       tableRef = Unpivot(tableRef);
     } else {
       ;
     }
-    if (jj_2_277(2)) {
-      if (jj_2_275(2)) {
+    if (jj_2_279(2)) {
+      if (jj_2_277(2)) {
         jj_consume_token(AS);
       } else {
         ;
       }
       alias = SimpleIdentifier();
-      if (jj_2_276(2)) {
+      if (jj_2_278(2)) {
         columnAliasList = ParenthesizedSimpleIdentifierList();
       } else {
               columnAliasList = null;
@@ -3384,7 +3398,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     } else {
       ;
     }
-    if (jj_2_278(2)) {
+    if (jj_2_280(2)) {
       tableRef = Tablesample(tableRef);
     } else {
       ;
@@ -3402,7 +3416,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     int repeatableSeed = 0;
     jj_consume_token(TABLESAMPLE);
                     s = span(); checkNotJoin(tableRef);
-    if (jj_2_282(2)) {
+    if (jj_2_284(2)) {
       jj_consume_token(SUBSTITUTE);
       jj_consume_token(LPAREN);
       sample = StringLiteral();
@@ -3414,11 +3428,11 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                 SqlLiteral.createSample(sampleSpec, s.end(this));
             {if (true) return SqlStdOperatorTable.TABLESAMPLE.createCall(
                 s.add(tableRef).end(this), tableRef, sampleLiteral);}
-    } else if (jj_2_283(2)) {
-      if (jj_2_279(2)) {
+    } else if (jj_2_285(2)) {
+      if (jj_2_281(2)) {
         jj_consume_token(BERNOULLI);
                           isBernoulli = true;
-      } else if (jj_2_280(2)) {
+      } else if (jj_2_282(2)) {
         jj_consume_token(SYSTEM);
                        isBernoulli = false;
       } else {
@@ -3428,7 +3442,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       jj_consume_token(LPAREN);
       samplePercentage = UnsignedNumericLiteral();
       jj_consume_token(RPAREN);
-      if (jj_2_281(2)) {
+      if (jj_2_283(2)) {
         jj_consume_token(REPEATABLE);
         jj_consume_token(LPAREN);
         repeatableSeed = IntLiteral();
@@ -3459,7 +3473,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
  * is present. */
   final public SqlNode ExtendTable(SqlNode tableRef) throws ParseException {
     final SqlNodeList extendList;
-    if (jj_2_284(2)) {
+    if (jj_2_286(2)) {
       jj_consume_token(EXTEND);
     } else {
       ;
@@ -3477,7 +3491,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddColumnType(list);
     label_24:
     while (true) {
-      if (jj_2_285(2)) {
+      if (jj_2_287(2)) {
         ;
       } else {
         break label_24;
@@ -3509,7 +3523,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlDataTypeSpec type;
     final boolean nullable;
     name = CompoundIdentifier();
-    if (jj_2_286(2)) {
+    if (jj_2_288(2)) {
       type = DataType();
       nullable = NotNullOpt();
     } else {
@@ -3532,11 +3546,11 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final Span s;
       s = span();
     jj_consume_token(LPAREN);
-    if (jj_2_288(2)) {
+    if (jj_2_290(2)) {
       AddArg0(tableFuncArgs, ExprContext.ACCEPT_CURSOR);
       label_25:
       while (true) {
-        if (jj_2_287(2)) {
+        if (jj_2_289(2)) {
           ;
         } else {
           break label_25;
@@ -3566,7 +3580,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     jj_consume_token(TABLE);
               s = span();
     jj_consume_token(LPAREN);
-    if (jj_2_289(2)) {
+    if (jj_2_291(2)) {
       jj_consume_token(SPECIFIC);
             funcType = SqlFunctionCategory.USER_DEFINED_TABLE_SPECIFIC_FUNCTION;
     } else {
@@ -3612,10 +3626,10 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
   final public SqlNode TableConstructor() throws ParseException {
     final List<SqlNode> list = new ArrayList<SqlNode>();
     final Span s;
-    if (jj_2_290(2)) {
+    if (jj_2_292(2)) {
       jj_consume_token(VALUES);
                    s = span();
-    } else if (jj_2_291(2)) {
+    } else if (jj_2_293(2)) {
       jj_consume_token(VALUE);
             s = span();
             if (!this.conformance.isValueAllowed()) {
@@ -3628,7 +3642,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddRowConstructor(list);
     label_26:
     while (true) {
-      if (jj_2_292(2)) {
+      if (jj_2_294(2)) {
         ;
       } else {
         break label_26;
@@ -3654,22 +3668,22 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlNodeList valueList;
     final SqlNode value;
     final Span s;
-    if (jj_2_294(3)) {
+    if (jj_2_296(3)) {
       jj_consume_token(LPAREN);
                    s = span();
       jj_consume_token(ROW);
       valueList = ParenthesizedQueryOrCommaListWithDefault(ExprContext.ACCEPT_NONCURSOR);
       jj_consume_token(RPAREN);
                    s.add(this);
-    } else if (jj_2_295(3)) {
-      if (jj_2_293(2)) {
+    } else if (jj_2_297(3)) {
+      if (jj_2_295(2)) {
         jj_consume_token(ROW);
                     s = span();
       } else {
               s = Span.of();
       }
       valueList = ParenthesizedQueryOrCommaListWithDefault(ExprContext.ACCEPT_NONCURSOR);
-    } else if (jj_2_296(2)) {
+    } else if (jj_2_298(2)) {
       value = Expression(ExprContext.ACCEPT_NONCURSOR);
             // NOTE: A bare value here is standard SQL syntax, believe it or
             // not.  Taken together with multi-row table constructors, it leads
@@ -3709,10 +3723,10 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     jj_consume_token(GROUP);
               s = span();
     jj_consume_token(BY);
-    if (jj_2_297(2)) {
+    if (jj_2_299(2)) {
       jj_consume_token(DISTINCT);
                      distinct = true;
-    } else if (jj_2_298(2)) {
+    } else if (jj_2_300(2)) {
       jj_consume_token(ALL);
                 distinct = false;
     } else {
@@ -3733,7 +3747,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddGroupingElement(list);
     label_27:
     while (true) {
-      if (jj_2_299(2)) {
+      if (jj_2_301(2)) {
         ;
       } else {
         break label_27;
@@ -3749,7 +3763,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final List<SqlNode> subList;
     final SqlNodeList nodes;
     final Span s;
-    if (jj_2_300(2)) {
+    if (jj_2_302(2)) {
       jj_consume_token(GROUPING);
                  s = span();
       jj_consume_token(SETS);
@@ -3758,7 +3772,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       jj_consume_token(RPAREN);
         list.add(
             SqlStdOperatorTable.GROUPING_SETS.createCall(s.end(this), subList));
-    } else if (jj_2_301(2)) {
+    } else if (jj_2_303(2)) {
       jj_consume_token(ROLLUP);
                s = span();
       jj_consume_token(LPAREN);
@@ -3766,7 +3780,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       jj_consume_token(RPAREN);
         list.add(
             SqlStdOperatorTable.ROLLUP.createCall(s.end(this), nodes.getList()));
-    } else if (jj_2_302(2)) {
+    } else if (jj_2_304(2)) {
       jj_consume_token(CUBE);
              s = span();
       jj_consume_token(LPAREN);
@@ -3774,12 +3788,12 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       jj_consume_token(RPAREN);
         list.add(
             SqlStdOperatorTable.CUBE.createCall(s.end(this), nodes.getList()));
-    } else if (jj_2_303(3)) {
+    } else if (jj_2_305(3)) {
       jj_consume_token(LPAREN);
                s = span();
       jj_consume_token(RPAREN);
         list.add(new SqlNodeList(s.end(this)));
-    } else if (jj_2_304(2)) {
+    } else if (jj_2_306(2)) {
       AddExpression(list, ExprContext.ACCEPT_SUB_QUERY);
     } else {
       jj_consume_token(-1);
@@ -3806,7 +3820,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddExpression(list, exprContext);
     label_28:
     while (true) {
-      if (jj_2_305(2)) {
+      if (jj_2_307(2)) {
         ;
       } else {
         break label_28;
@@ -3834,7 +3848,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddWindowSpec(list);
     label_29:
     while (true) {
-      if (jj_2_306(2)) {
+      if (jj_2_308(2)) {
         ;
       } else {
         break label_29;
@@ -3870,12 +3884,12 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlLiteral allowPartial;
     jj_consume_token(LPAREN);
                s = span();
-    if (jj_2_307(2)) {
+    if (jj_2_309(2)) {
       id = SimpleIdentifier();
     } else {
           id = null;
     }
-    if (jj_2_308(2)) {
+    if (jj_2_310(2)) {
       jj_consume_token(PARTITION);
                       s1 = span();
       jj_consume_token(BY);
@@ -3883,28 +3897,28 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     } else {
           partitionList = SqlNodeList.EMPTY;
     }
-    if (jj_2_309(2)) {
+    if (jj_2_311(2)) {
       orderList = OrderBy(true);
     } else {
           orderList = SqlNodeList.EMPTY;
     }
-    if (jj_2_314(2)) {
-      if (jj_2_310(2)) {
+    if (jj_2_316(2)) {
+      if (jj_2_312(2)) {
         jj_consume_token(ROWS);
                      isRows = SqlLiteral.createBoolean(true, getPos());
-      } else if (jj_2_311(2)) {
+      } else if (jj_2_313(2)) {
         jj_consume_token(RANGE);
                       isRows = SqlLiteral.createBoolean(false, getPos());
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
-      if (jj_2_312(2)) {
+      if (jj_2_314(2)) {
         jj_consume_token(BETWEEN);
         lowerBound = WindowRange();
         jj_consume_token(AND);
         upperBound = WindowRange();
-      } else if (jj_2_313(2)) {
+      } else if (jj_2_315(2)) {
         lowerBound = WindowRange();
               upperBound = null;
       } else {
@@ -3917,12 +3931,12 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
             exclude = SqlWindow.createExcludeNoOthers(getPos());
             lowerBound = upperBound = null;
     }
-    if (jj_2_315(2)) {
+    if (jj_2_317(2)) {
       jj_consume_token(ALLOW);
                   s2 = span();
       jj_consume_token(PARTIAL);
             allowPartial = SqlLiteral.createBoolean(true, s2.end(this));
-    } else if (jj_2_316(2)) {
+    } else if (jj_2_318(2)) {
       jj_consume_token(DISALLOW);
                      s2 = span();
       jj_consume_token(PARTIAL);
@@ -3939,30 +3953,30 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
   final public SqlNode WindowRange() throws ParseException {
     final SqlNode e;
     final Span s;
-    if (jj_2_321(2)) {
+    if (jj_2_323(2)) {
       jj_consume_token(CURRENT);
                 s = span();
       jj_consume_token(ROW);
         {if (true) return SqlWindow.createCurrentRow(s.end(this));}
-    } else if (jj_2_322(2)) {
+    } else if (jj_2_324(2)) {
       jj_consume_token(UNBOUNDED);
                   s = span();
-      if (jj_2_317(2)) {
+      if (jj_2_319(2)) {
         jj_consume_token(PRECEDING);
             {if (true) return SqlWindow.createUnboundedPreceding(s.end(this));}
-      } else if (jj_2_318(2)) {
+      } else if (jj_2_320(2)) {
         jj_consume_token(FOLLOWING);
             {if (true) return SqlWindow.createUnboundedFollowing(s.end(this));}
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
-    } else if (jj_2_323(2)) {
+    } else if (jj_2_325(2)) {
       e = Expression(ExprContext.ACCEPT_NON_QUERY);
-      if (jj_2_319(2)) {
+      if (jj_2_321(2)) {
         jj_consume_token(PRECEDING);
             {if (true) return SqlWindow.createPreceding(e, getPos());}
-      } else if (jj_2_320(2)) {
+      } else if (jj_2_322(2)) {
         jj_consume_token(FOLLOWING);
             {if (true) return SqlWindow.createFollowing(e, getPos());}
       } else {
@@ -3978,20 +3992,20 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
 
 /** Parses an exclusion clause for WINDOW FRAME. */
   final public SqlLiteral WindowExclusion() throws ParseException {
-    if (jj_2_328(2)) {
+    if (jj_2_330(2)) {
       jj_consume_token(EXCLUDE);
-      if (jj_2_324(2)) {
+      if (jj_2_326(2)) {
         jj_consume_token(CURRENT);
         jj_consume_token(ROW);
                               {if (true) return SqlWindow.createExcludeCurrentRow(getPos());}
-      } else if (jj_2_325(2)) {
+      } else if (jj_2_327(2)) {
         jj_consume_token(NO);
         jj_consume_token(OTHERS);
                             {if (true) return SqlWindow.createExcludeNoOthers(getPos());}
-      } else if (jj_2_326(2)) {
+      } else if (jj_2_328(2)) {
         jj_consume_token(GROUP);
                       {if (true) return SqlWindow.createExcludeGroup(getPos());}
-      } else if (jj_2_327(2)) {
+      } else if (jj_2_329(2)) {
         jj_consume_token(TIES);
                      {if (true) return SqlWindow.createExcludeTies(getPos());}
       } else {
@@ -4040,7 +4054,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddOrderItem(list);
     label_30:
     while (true) {
-      if (jj_2_329(2)) {
+      if (jj_2_331(2)) {
         ;
       } else {
         break label_30;
@@ -4057,9 +4071,9 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     SqlNode e;
     final SqlIdentifier id;
     e = Expression(ExprContext.ACCEPT_SUB_QUERY);
-    if (jj_2_331(2)) {
+    if (jj_2_333(2)) {
       jj_consume_token(AS);
-      if (jj_2_330(2)) {
+      if (jj_2_332(2)) {
         id = SimpleIdentifier();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4076,10 +4090,10 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     } else {
       ;
     }
-    if (jj_2_334(2)) {
-      if (jj_2_332(2)) {
+    if (jj_2_336(2)) {
+      if (jj_2_334(2)) {
         jj_consume_token(ASC);
-      } else if (jj_2_333(2)) {
+      } else if (jj_2_335(2)) {
         jj_consume_token(DESC);
             e = SqlStdOperatorTable.DESC.createCall(getPos(), e);
       } else {
@@ -4089,12 +4103,12 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     } else {
       ;
     }
-    if (jj_2_337(2)) {
-      if (jj_2_335(2)) {
+    if (jj_2_339(2)) {
+      if (jj_2_337(2)) {
         jj_consume_token(NULLS);
         jj_consume_token(FIRST);
             e = SqlStdOperatorTable.NULLS_FIRST.createCall(getPos(), e);
-      } else if (jj_2_336(2)) {
+      } else if (jj_2_338(2)) {
         jj_consume_token(NULLS);
         jj_consume_token(LAST);
             e = SqlStdOperatorTable.NULLS_LAST.createCall(getPos(), e);
@@ -4168,7 +4182,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddPivotAgg(aggList);
     label_31:
     while (true) {
-      if (jj_2_338(2)) {
+      if (jj_2_340(2)) {
         ;
       } else {
         break label_31;
@@ -4181,11 +4195,11 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     jj_consume_token(IN);
     jj_consume_token(LPAREN);
                     s2 = span();
-    if (jj_2_340(2)) {
+    if (jj_2_342(2)) {
       AddPivotValue(valueList);
       label_32:
       while (true) {
-        if (jj_2_339(2)) {
+        if (jj_2_341(2)) {
           ;
         } else {
           break label_32;
@@ -4210,7 +4224,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlIdentifier alias;
     e = NamedFunctionCall();
     if (getToken(1).kind != COMMA && getToken(1).kind != FOR) {
-      if (jj_2_341(2)) {
+      if (jj_2_343(2)) {
         jj_consume_token(AS);
       } else {
         ;
@@ -4230,8 +4244,8 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlIdentifier alias;
     e = RowConstructor();
                            tuple = SqlParserUtil.stripRow(e);
-    if (jj_2_343(2)) {
-      if (jj_2_342(2)) {
+    if (jj_2_345(2)) {
+      if (jj_2_344(2)) {
         jj_consume_token(AS);
       } else {
         ;
@@ -4256,11 +4270,11 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlNodeList inList;
     jj_consume_token(UNPIVOT);
                 s = span(); checkNotJoin(tableRef);
-    if (jj_2_344(2)) {
+    if (jj_2_346(2)) {
       jj_consume_token(INCLUDE);
       jj_consume_token(NULLS);
                             includeNulls = true;
-    } else if (jj_2_345(2)) {
+    } else if (jj_2_347(2)) {
       jj_consume_token(EXCLUDE);
       jj_consume_token(NULLS);
                             includeNulls = false;
@@ -4277,7 +4291,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddUnpivotValue(values);
     label_33:
     while (true) {
-      if (jj_2_346(2)) {
+      if (jj_2_348(2)) {
         ;
       } else {
         break label_33;
@@ -4297,7 +4311,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlNodeList columnList;
     final SqlNode values;
     columnList = SimpleIdentifierOrList();
-    if (jj_2_347(2)) {
+    if (jj_2_349(2)) {
       jj_consume_token(AS);
       values = RowConstructor();
             final SqlNodeList valueList = SqlParserUtil.stripRow(values);
@@ -4327,7 +4341,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlNodeList subsetList;
     final SqlLiteral isStrictStarts;
     final SqlLiteral isStrictEnds;
-    if (jj_2_348(2)) {
+    if (jj_2_350(2)) {
       jj_consume_token(AS);
       aliasBeforeMatch = SimpleIdentifier();
           tableRef = SqlStdOperatorTable.AS.createCall(
@@ -4338,7 +4352,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     jj_consume_token(MATCH_RECOGNIZE);
                         s = span(); checkNotJoin(tableRef);
     jj_consume_token(LPAREN);
-    if (jj_2_349(2)) {
+    if (jj_2_351(2)) {
       jj_consume_token(PARTITION);
                       s2 = span();
       jj_consume_token(BY);
@@ -4346,25 +4360,25 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     } else {
           partitionList = SqlNodeList.EMPTY;
     }
-    if (jj_2_350(2)) {
+    if (jj_2_352(2)) {
       orderList = OrderBy(true);
     } else {
           orderList = SqlNodeList.EMPTY;
     }
-    if (jj_2_351(2)) {
+    if (jj_2_353(2)) {
       jj_consume_token(MEASURES);
       measureList = MeasureColumnCommaList(span());
     } else {
           measureList = SqlNodeList.EMPTY;
     }
-    if (jj_2_352(2)) {
+    if (jj_2_354(2)) {
       jj_consume_token(ONE);
                 s0 = span();
       jj_consume_token(ROW);
       jj_consume_token(PER);
       jj_consume_token(MATCH);
             rowsPerMatch = SqlMatchRecognize.RowsPerMatchOption.ONE_ROW.symbol(s0.end(this));
-    } else if (jj_2_353(2)) {
+    } else if (jj_2_355(2)) {
       jj_consume_token(ALL);
                 s0 = span();
       jj_consume_token(ROWS);
@@ -4374,25 +4388,25 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     } else {
           rowsPerMatch = null;
     }
-    if (jj_2_359(2)) {
+    if (jj_2_361(2)) {
       jj_consume_token(AFTER);
                   s1 = span();
       jj_consume_token(MATCH);
       jj_consume_token(SKIP_);
-      if (jj_2_357(2)) {
+      if (jj_2_359(2)) {
         jj_consume_token(TO);
-        if (jj_2_355(2)) {
+        if (jj_2_357(2)) {
           jj_consume_token(NEXT);
           jj_consume_token(ROW);
                     after = SqlMatchRecognize.AfterOption.SKIP_TO_NEXT_ROW
                         .symbol(s1.end(this));
-        } else if (jj_2_356(2)) {
+        } else if (jj_2_358(2)) {
           jj_consume_token(FIRST);
           var = SimpleIdentifier();
                     after = SqlMatchRecognize.SKIP_TO_FIRST.createCall(
                         s1.end(var), var);
         } else if (true) {
-          if (jj_2_354(2)) {
+          if (jj_2_356(2)) {
             jj_consume_token(LAST);
           } else {
             ;
@@ -4404,7 +4418,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
           jj_consume_token(-1);
           throw new ParseException();
         }
-      } else if (jj_2_358(2)) {
+      } else if (jj_2_360(2)) {
         jj_consume_token(PAST);
         jj_consume_token(LAST);
         jj_consume_token(ROW);
@@ -4419,27 +4433,27 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     }
     jj_consume_token(PATTERN);
     jj_consume_token(LPAREN);
-    if (jj_2_360(2)) {
+    if (jj_2_362(2)) {
       jj_consume_token(CARET);
                   isStrictStarts = SqlLiteral.createBoolean(true, getPos());
     } else {
           isStrictStarts = SqlLiteral.createBoolean(false, getPos());
     }
     pattern = PatternExpression();
-    if (jj_2_361(2)) {
+    if (jj_2_363(2)) {
       jj_consume_token(DOLLAR);
                    isStrictEnds = SqlLiteral.createBoolean(true, getPos());
     } else {
           isStrictEnds = SqlLiteral.createBoolean(false, getPos());
     }
     jj_consume_token(RPAREN);
-    if (jj_2_362(2)) {
+    if (jj_2_364(2)) {
       jj_consume_token(WITHIN);
       interval = IntervalLiteral();
     } else {
           interval = null;
     }
-    if (jj_2_363(2)) {
+    if (jj_2_365(2)) {
       jj_consume_token(SUBSET);
       subsetList = SubsetDefinitionCommaList(span());
     } else {
@@ -4459,7 +4473,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddMeasureColumn(list);
     label_34:
     while (true) {
-      if (jj_2_364(2)) {
+      if (jj_2_366(2)) {
         ;
       } else {
         break label_34;
@@ -4486,7 +4500,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     left = PatternTerm();
     label_35:
     while (true) {
-      if (jj_2_365(2)) {
+      if (jj_2_367(2)) {
         ;
       } else {
         break label_35;
@@ -4506,7 +4520,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     left = PatternFactor();
     label_36:
     while (true) {
-      if (jj_2_366(2)) {
+      if (jj_2_368(2)) {
         ;
       } else {
         break label_36;
@@ -4531,25 +4545,25 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     case HOOK:
     case PLUS:
     case STAR:
-      if (jj_2_372(2)) {
+      if (jj_2_374(2)) {
         jj_consume_token(STAR);
                 startNum = LITERAL_ZERO;
                 endNum = LITERAL_MINUS_ONE;
-      } else if (jj_2_373(2)) {
+      } else if (jj_2_375(2)) {
         jj_consume_token(PLUS);
                 startNum = LITERAL_ONE;
                 endNum = LITERAL_MINUS_ONE;
-      } else if (jj_2_374(2)) {
+      } else if (jj_2_376(2)) {
         jj_consume_token(HOOK);
                 startNum = LITERAL_ZERO;
                 endNum = LITERAL_ONE;
-      } else if (jj_2_375(2)) {
+      } else if (jj_2_377(2)) {
         jj_consume_token(LBRACE);
-        if (jj_2_369(2)) {
+        if (jj_2_371(2)) {
           startNum = UnsignedNumericLiteral();
-          if (jj_2_368(2)) {
+          if (jj_2_370(2)) {
             jj_consume_token(COMMA);
-            if (jj_2_367(2)) {
+            if (jj_2_369(2)) {
               endNum = UnsignedNumericLiteral();
             } else {
                           endNum = LITERAL_MINUS_ONE;
@@ -4558,12 +4572,12 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                        endNum = startNum;
           }
           jj_consume_token(RBRACE);
-        } else if (jj_2_370(2)) {
+        } else if (jj_2_372(2)) {
           jj_consume_token(COMMA);
           endNum = UnsignedNumericLiteral();
           jj_consume_token(RBRACE);
                   startNum = LITERAL_MINUS_ONE;
-        } else if (jj_2_371(2)) {
+        } else if (jj_2_373(2)) {
           jj_consume_token(MINUS);
           extra = PatternExpression();
           jj_consume_token(MINUS);
@@ -4580,7 +4594,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
         jj_consume_token(-1);
         throw new ParseException();
       }
-      if (jj_2_376(2)) {
+      if (jj_2_378(2)) {
         jj_consume_token(HOOK);
                 reluctant = SqlLiteral.createBoolean(
                     startNum.intValue(true) != endNum.intValue(true),
@@ -4602,15 +4616,15 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final Span s;
     SqlNode e;
     final List<SqlNode> list;
-    if (jj_2_378(2)) {
+    if (jj_2_380(2)) {
       e = SimpleIdentifier();
                              {if (true) return e;}
-    } else if (jj_2_379(2)) {
+    } else if (jj_2_381(2)) {
       jj_consume_token(LPAREN);
       e = PatternExpression();
       jj_consume_token(RPAREN);
                                                 {if (true) return e;}
-    } else if (jj_2_380(2)) {
+    } else if (jj_2_382(2)) {
       jj_consume_token(LBRACE);
                s = span();
       jj_consume_token(MINUS);
@@ -4618,7 +4632,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       jj_consume_token(MINUS);
       jj_consume_token(RBRACE);
         {if (true) return SqlStdOperatorTable.PATTERN_EXCLUDE.createCall(s.end(this), e);}
-    } else if (jj_2_381(2)) {
+    } else if (jj_2_383(2)) {
       jj_consume_token(PERMUTE);
                     s = span(); list = new ArrayList<SqlNode>();
       jj_consume_token(LPAREN);
@@ -4626,7 +4640,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                                   list.add(e);
       label_37:
       while (true) {
-        if (jj_2_377(2)) {
+        if (jj_2_379(2)) {
           ;
         } else {
           break label_37;
@@ -4650,7 +4664,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddSubsetDefinition(list);
     label_38:
     while (true) {
-      if (jj_2_382(2)) {
+      if (jj_2_384(2)) {
         ;
       } else {
         break label_38;
@@ -4682,7 +4696,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
         eList.add(e);
     label_39:
     while (true) {
-      if (jj_2_383(2)) {
+      if (jj_2_385(2)) {
         ;
       } else {
         break label_39;
@@ -4744,7 +4758,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     SqlNodeList withList = null;
     final SqlNode e;
     final List<Object> list = new ArrayList<Object>();
-    if (jj_2_384(2)) {
+    if (jj_2_386(2)) {
       withList = WithList();
     } else {
       ;
@@ -4753,7 +4767,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                                        list.add(e);
     label_40:
     while (true) {
-      if (jj_2_385(2)) {
+      if (jj_2_387(2)) {
         ;
       } else {
         break label_40;
@@ -4768,11 +4782,11 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     SqlNodeList withList = null;
     final SqlNode e;
     final List<Object> list = new ArrayList<Object>();
-    if (jj_2_386(2)) {
+    if (jj_2_388(2)) {
       withList = WithList();
       e = LeafQueryOrExpr(exprContext);
                                            list.add(e);
-    } else if (jj_2_387(2)) {
+    } else if (jj_2_389(2)) {
       e = LeafQuery(exprContext);
                                      list.add(e);
     } else {
@@ -4781,7 +4795,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     }
     label_41:
     while (true) {
-      if (jj_2_388(2)) {
+      if (jj_2_390(2)) {
         ;
       } else {
         break label_41;
@@ -4847,7 +4861,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final List<SqlWithItem> list = new ArrayList<SqlWithItem>();
     boolean recursive = false;
     jj_consume_token(WITH);
-    if (jj_2_389(2)) {
+    if (jj_2_391(2)) {
       jj_consume_token(RECURSIVE);
                            recursive = true;
     } else {
@@ -4857,7 +4871,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddWithItem(list, SqlLiteral.createBoolean(recursive, getPos()));
     label_42:
     while (true) {
-      if (jj_2_390(2)) {
+      if (jj_2_392(2)) {
         ;
       } else {
         break label_42;
@@ -4874,7 +4888,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlNodeList columnList;
     final SqlNode definition;
     id = SimpleIdentifier();
-    if (jj_2_391(2)) {
+    if (jj_2_393(2)) {
       columnList = ParenthesizedSimpleIdentifierList();
     } else {
                                                            columnList = null;
@@ -4890,10 +4904,10 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
  */
   final public SqlNode LeafQueryOrExpr(ExprContext exprContext) throws ParseException {
     SqlNode e;
-    if (jj_2_392(2)) {
+    if (jj_2_394(2)) {
       e = LeafQuery(exprContext);
                                  {if (true) return e;}
-    } else if (jj_2_393(2)) {
+    } else if (jj_2_395(2)) {
       e = Expression(exprContext);
                                   {if (true) return e;}
     } else {
@@ -4931,17 +4945,17 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     List<SqlNode> segments;
     Span s;
     SqlIdentifier p;
-    if (jj_2_399(2) && (this.conformance.isColonFieldAccessAllowed())) {
+    if (jj_2_401(2) && (this.conformance.isColonFieldAccessAllowed())) {
       jj_consume_token(COLON);
             colonPos = getPos();
             segments = new ArrayList<SqlNode>();
             s = span();
-      if (jj_2_394(2)) {
+      if (jj_2_396(2)) {
         p = SimpleIdentifier();
                 segments.add(p.getParserPosition().isQuoted()
                     ? p
                     : new SqlIdentifier(getToken(0).image, p.getParserPosition()));
-      } else if (jj_2_395(2)) {
+      } else if (jj_2_397(2)) {
         ColonBracketSegment(segments);
       } else {
         jj_consume_token(-1);
@@ -4949,18 +4963,18 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       }
       label_43:
       while (true) {
-        if (jj_2_396(2)) {
+        if (jj_2_398(2)) {
           ;
         } else {
           break label_43;
         }
-        if (jj_2_397(2)) {
+        if (jj_2_399(2)) {
           jj_consume_token(DOT);
           p = SimpleIdentifier();
                 segments.add(p.getParserPosition().isQuoted()
                     ? p
                     : new SqlIdentifier(getToken(0).image, p.getParserPosition()));
-        } else if (jj_2_398(2)) {
+        } else if (jj_2_400(2)) {
           ColonBracketSegment(segments);
         } else {
           jj_consume_token(-1);
@@ -4982,13 +4996,13 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     SqlNode lit;
     SqlIdentifier id;
     jj_consume_token(LBRACKET);
-    if (jj_2_400(2)) {
+    if (jj_2_402(2)) {
       lit = StringLiteral();
                                 segments.add(lit);
-    } else if (jj_2_401(2)) {
+    } else if (jj_2_403(2)) {
       jj_consume_token(UNSIGNED_INTEGER_LITERAL);
             segments.add(SqlLiteral.createExactNumeric(token.image, getPos()));
-    } else if (jj_2_402(2147483647)) {
+    } else if (jj_2_404(2147483647)) {
       id = SimpleIdentifier();
             {if (true) throw SqlUtil.newContextException(id.getParserPosition(),
                 RESOURCE.unknownIdentifier(id.toString()));}
@@ -5027,7 +5041,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
         list.add(e);
     label_45:
     while (true) {
-      if (jj_2_403(2)) {
+      if (jj_2_405(2)) {
         ;
       } else {
         break label_45;
@@ -5067,28 +5081,28 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     SqlIdentifier p;
     final Span s = span();
     AddExpression2b(list, exprContext);
-    if (jj_2_447(2)) {
+    if (jj_2_449(2)) {
       label_46:
       while (true) {
-        if (jj_2_439(2)) {
+        if (jj_2_441(2)) {
                     checkNonQueryExpression(exprContext);
-          if (jj_2_407(2)) {
+          if (jj_2_409(2)) {
             jj_consume_token(NOT);
             jj_consume_token(IN);
                                  op = SqlStdOperatorTable.NOT_IN;
-          } else if (jj_2_408(2)) {
+          } else if (jj_2_410(2)) {
             jj_consume_token(IN);
                            op = SqlStdOperatorTable.IN;
-          } else if (jj_2_409(2)) {
+          } else if (jj_2_411(2)) {
                       final SqlKind k;
             k = comp();
-            if (jj_2_404(2)) {
+            if (jj_2_406(2)) {
               jj_consume_token(SOME);
                                  op = SqlStdOperatorTable.some(k);
-            } else if (jj_2_405(2)) {
+            } else if (jj_2_407(2)) {
               jj_consume_token(ANY);
                                 op = SqlStdOperatorTable.some(k);
-            } else if (jj_2_406(2)) {
+            } else if (jj_2_408(2)) {
               jj_consume_token(ALL);
                                 op = SqlStdOperatorTable.all(k);
             } else {
@@ -5114,18 +5128,18 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                     } else {
                         list.add(nodeList);
                     }
-        } else if (jj_2_440(2)) {
+        } else if (jj_2_442(2)) {
                     checkNonQueryExpression(exprContext);
-          if (jj_2_416(2)) {
+          if (jj_2_418(2)) {
             jj_consume_token(NOT);
             jj_consume_token(BETWEEN);
                         op = SqlStdOperatorTable.NOT_BETWEEN;
                         s.clear().add(this);
-            if (jj_2_412(2)) {
-              if (jj_2_410(2)) {
+            if (jj_2_414(2)) {
+              if (jj_2_412(2)) {
                 jj_consume_token(SYMMETRIC);
                                       op = SqlStdOperatorTable.SYMMETRIC_NOT_BETWEEN;
-              } else if (jj_2_411(2)) {
+              } else if (jj_2_413(2)) {
                 jj_consume_token(ASYMMETRIC);
               } else {
                 jj_consume_token(-1);
@@ -5134,15 +5148,15 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
             } else {
               ;
             }
-          } else if (jj_2_417(2)) {
+          } else if (jj_2_419(2)) {
             jj_consume_token(BETWEEN);
                         op = SqlStdOperatorTable.BETWEEN;
                         s.clear().add(this);
-            if (jj_2_415(2)) {
-              if (jj_2_413(2)) {
+            if (jj_2_417(2)) {
+              if (jj_2_415(2)) {
                 jj_consume_token(SYMMETRIC);
                                       op = SqlStdOperatorTable.SYMMETRIC_BETWEEN;
-              } else if (jj_2_414(2)) {
+              } else if (jj_2_416(2)) {
                 jj_consume_token(ASYMMETRIC);
               } else {
                 jj_consume_token(-1);
@@ -5159,22 +5173,22 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                     list.add(new SqlParserUtil.ToTreeListItem(op, s.pos()));
                     list.addAll(list3);
                     list3.clear();
-        } else if (jj_2_441(2)) {
+        } else if (jj_2_443(2)) {
                     checkNonQueryExpression(exprContext);
                     s.clear().add(this);
-          if (jj_2_429(2)) {
-            if (jj_2_422(2)) {
+          if (jj_2_431(2)) {
+            if (jj_2_424(2)) {
               jj_consume_token(NOT);
-              if (jj_2_418(2)) {
+              if (jj_2_420(2)) {
                 jj_consume_token(LIKE);
                                      op = SqlStdOperatorTable.NOT_LIKE;
-              } else if (jj_2_419(2)) {
+              } else if (jj_2_421(2)) {
                 jj_consume_token(ILIKE);
                                       op = SqlLibraryOperators.NOT_ILIKE;
-              } else if (jj_2_420(2)) {
+              } else if (jj_2_422(2)) {
                 jj_consume_token(RLIKE);
                                       op = SqlLibraryOperators.NOT_RLIKE;
-              } else if (jj_2_421(2)) {
+              } else if (jj_2_423(2)) {
                 jj_consume_token(SIMILAR);
                 jj_consume_token(TO);
                                              op = SqlStdOperatorTable.NOT_SIMILAR_TO;
@@ -5182,16 +5196,16 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                 jj_consume_token(-1);
                 throw new ParseException();
               }
-            } else if (jj_2_423(2)) {
+            } else if (jj_2_425(2)) {
               jj_consume_token(LIKE);
                                  op = SqlStdOperatorTable.LIKE;
-            } else if (jj_2_424(2)) {
+            } else if (jj_2_426(2)) {
               jj_consume_token(ILIKE);
                                   op = SqlLibraryOperators.ILIKE;
-            } else if (jj_2_425(2)) {
+            } else if (jj_2_427(2)) {
               jj_consume_token(RLIKE);
                                   op = SqlLibraryOperators.RLIKE;
-            } else if (jj_2_426(2)) {
+            } else if (jj_2_428(2)) {
               jj_consume_token(SIMILAR);
               jj_consume_token(TO);
                                          op = SqlStdOperatorTable.SIMILAR_TO;
@@ -5199,20 +5213,20 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
               jj_consume_token(-1);
               throw new ParseException();
             }
-          } else if (jj_2_430(2)) {
+          } else if (jj_2_432(2)) {
             jj_consume_token(NEGATE);
             jj_consume_token(TILDE);
                                        op = SqlStdOperatorTable.NEGATED_POSIX_REGEX_CASE_SENSITIVE;
-            if (jj_2_427(2)) {
+            if (jj_2_429(2)) {
               jj_consume_token(STAR);
                                op = SqlStdOperatorTable.NEGATED_POSIX_REGEX_CASE_INSENSITIVE;
             } else {
               ;
             }
-          } else if (jj_2_431(2)) {
+          } else if (jj_2_433(2)) {
             jj_consume_token(TILDE);
                               op = SqlStdOperatorTable.POSIX_REGEX_CASE_SENSITIVE;
-            if (jj_2_428(2)) {
+            if (jj_2_430(2)) {
               jj_consume_token(STAR);
                                op = SqlStdOperatorTable.POSIX_REGEX_CASE_INSENSITIVE;
             } else {
@@ -5225,7 +5239,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
           list2 = Expression2(ExprContext.ACCEPT_SUB_QUERY);
                     list.add(new SqlParserUtil.ToTreeListItem(op, s.pos()));
                     list.addAll(list2);
-          if (jj_2_432(2)) {
+          if (jj_2_434(2)) {
             jj_consume_token(ESCAPE);
             e = Expression3(ExprContext.ACCEPT_SUB_QUERY);
                         s.clear().add(this);
@@ -5236,40 +5250,40 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
           } else {
             ;
           }
-        } else if (jj_2_442(2)) {
+        } else if (jj_2_444(2)) {
           InfixCast(list, exprContext, s);
-        } else if (jj_2_443(3)) {
+        } else if (jj_2_445(3)) {
           op = BinaryRowOperator();
                     checkNonQueryExpression(exprContext);
                     list.add(new SqlParserUtil.ToTreeListItem(op, getPos()));
           AddExpression2b(list, ExprContext.ACCEPT_SUB_QUERY);
-        } else if (jj_2_444(2)) {
+        } else if (jj_2_446(2)) {
           jj_consume_token(LBRACKET);
-          if (jj_2_433(2)) {
+          if (jj_2_435(2)) {
             jj_consume_token(OFFSET);
                              itemOp = SqlLibraryOperators.OFFSET;
             jj_consume_token(LPAREN);
                                                                                e = Expression(ExprContext.ACCEPT_SUB_QUERY);
             jj_consume_token(RPAREN);
-          } else if (jj_2_434(2)) {
+          } else if (jj_2_436(2)) {
             jj_consume_token(ORDINAL);
                               itemOp = SqlLibraryOperators.ORDINAL;
             jj_consume_token(LPAREN);
                                                                                  e = Expression(ExprContext.ACCEPT_SUB_QUERY);
             jj_consume_token(RPAREN);
-          } else if (jj_2_435(2)) {
+          } else if (jj_2_437(2)) {
             jj_consume_token(SAFE_OFFSET);
                                   itemOp = SqlLibraryOperators.SAFE_OFFSET;
             jj_consume_token(LPAREN);
                                                                                          e = Expression(ExprContext.ACCEPT_SUB_QUERY);
             jj_consume_token(RPAREN);
-          } else if (jj_2_436(2)) {
+          } else if (jj_2_438(2)) {
             jj_consume_token(SAFE_ORDINAL);
                                    itemOp = SqlLibraryOperators.SAFE_ORDINAL;
             jj_consume_token(LPAREN);
                                                                                            e = Expression(ExprContext.ACCEPT_SUB_QUERY);
             jj_consume_token(RPAREN);
-          } else if (jj_2_437(2)) {
+          } else if (jj_2_439(2)) {
                     itemOp = SqlStdOperatorTable.ITEM;
             e = Expression(ExprContext.ACCEPT_SUB_QUERY);
           } else {
@@ -5283,7 +5297,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                     list.add(e);
           label_47:
           while (true) {
-            if (jj_2_438(2)) {
+            if (jj_2_440(2)) {
               ;
             } else {
               break label_47;
@@ -5296,7 +5310,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                         list.add(p);
           }
           AddOptionalColonPath(list);
-        } else if (jj_2_445(2)) {
+        } else if (jj_2_447(2)) {
                     checkNonQueryExpression(exprContext);
           op = PostfixRowOperator();
                     list.add(new SqlParserUtil.ToTreeListItem(op, getPos()));
@@ -5304,7 +5318,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
           jj_consume_token(-1);
           throw new ParseException();
         }
-        if (jj_2_446(2)) {
+        if (jj_2_448(2)) {
           ;
         } else {
           break label_46;
@@ -5319,25 +5333,25 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
 
 /** Parses a comparison operator inside a SOME / ALL predicate. */
   final public SqlKind comp() throws ParseException {
-    if (jj_2_448(2)) {
+    if (jj_2_450(2)) {
       jj_consume_token(LT);
            {if (true) return SqlKind.LESS_THAN;}
-    } else if (jj_2_449(2)) {
+    } else if (jj_2_451(2)) {
       jj_consume_token(LE);
            {if (true) return SqlKind.LESS_THAN_OR_EQUAL;}
-    } else if (jj_2_450(2)) {
+    } else if (jj_2_452(2)) {
       jj_consume_token(GT);
            {if (true) return SqlKind.GREATER_THAN;}
-    } else if (jj_2_451(2)) {
+    } else if (jj_2_453(2)) {
       jj_consume_token(GE);
            {if (true) return SqlKind.GREATER_THAN_OR_EQUAL;}
-    } else if (jj_2_452(2)) {
+    } else if (jj_2_454(2)) {
       jj_consume_token(EQ);
            {if (true) return SqlKind.EQUALS;}
-    } else if (jj_2_453(2)) {
+    } else if (jj_2_455(2)) {
       jj_consume_token(NE);
            {if (true) return SqlKind.NOT_EQUALS;}
-    } else if (jj_2_454(2)) {
+    } else if (jj_2_456(2)) {
       jj_consume_token(NE2);
         if (!this.conformance.isBangEqualAllowed()) {
             {if (true) throw SqlUtil.newContextException(getPos(), RESOURCE.bangEqualNotAllowed());}
@@ -5360,14 +5374,14 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlNodeList list1;
     final Span s;
     final Span rowSpan;
-    if (jj_2_457(2)) {
+    if (jj_2_459(2)) {
       e = AtomicRowExpression();
         checkNonQueryExpression(exprContext);
         {if (true) return e;}
-    } else if (jj_2_458(2)) {
+    } else if (jj_2_460(2)) {
       e = CursorExpression(exprContext);
                                         {if (true) return e;}
-    } else if (jj_2_459(3)) {
+    } else if (jj_2_461(3)) {
       jj_consume_token(ROW);
         s = span();
         pushRowValueStar();
@@ -5384,8 +5398,8 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
         } finally {
             popRowValueStar();
         }
-    } else if (jj_2_460(2)) {
-      if (jj_2_455(2)) {
+    } else if (jj_2_462(2)) {
+      if (jj_2_457(2)) {
         jj_consume_token(ROW);
                 rowSpan = span(); pushRowValueStar();
       } else {
@@ -5403,7 +5417,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                 popRowValueStar();
             }
         }
-      if (jj_2_456(2)) {
+      if (jj_2_458(2)) {
         e = IntervalQualifier();
                 if ((list1.size() == 1)
                     && list1.get(0) instanceof SqlCall)
@@ -5461,11 +5475,11 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
  */
   final public SqlNodeList SimpleIdentifierOrListOrEmpty() throws ParseException {
     SqlNodeList list;
-    if (jj_2_461(2)) {
+    if (jj_2_463(2)) {
       jj_consume_token(LPAREN);
       jj_consume_token(RPAREN);
                         {if (true) return SqlNodeList.EMPTY;}
-    } else if (jj_2_462(2)) {
+    } else if (jj_2_464(2)) {
       list = SimpleIdentifierOrList();
                                       {if (true) return list;}
     } else {
@@ -5476,24 +5490,24 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
   }
 
   final public SqlOperator periodOperator() throws ParseException {
-    if (jj_2_463(2)) {
+    if (jj_2_465(2)) {
       jj_consume_token(OVERLAPS);
                   {if (true) return SqlStdOperatorTable.OVERLAPS;}
-    } else if (jj_2_464(2)) {
+    } else if (jj_2_466(2)) {
       jj_consume_token(IMMEDIATELY);
       jj_consume_token(PRECEDES);
                                 {if (true) return SqlStdOperatorTable.IMMEDIATELY_PRECEDES;}
-    } else if (jj_2_465(2)) {
+    } else if (jj_2_467(2)) {
       jj_consume_token(PRECEDES);
                   {if (true) return SqlStdOperatorTable.PRECEDES;}
-    } else if (jj_2_466(2)) {
+    } else if (jj_2_468(2)) {
       jj_consume_token(IMMEDIATELY);
       jj_consume_token(SUCCEEDS);
                                 {if (true) return SqlStdOperatorTable.IMMEDIATELY_SUCCEEDS;}
-    } else if (jj_2_467(2)) {
+    } else if (jj_2_469(2)) {
       jj_consume_token(SUCCEEDS);
                   {if (true) return SqlStdOperatorTable.SUCCEEDS;}
-    } else if (jj_2_468(2)) {
+    } else if (jj_2_470(2)) {
       jj_consume_token(EQUALS);
                 {if (true) return SqlStdOperatorTable.PERIOD_EQUALS;}
     } else {
@@ -5519,9 +5533,9 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
  */
   final public SqlNode UnsignedNumericLiteralOrParam() throws ParseException {
     final SqlNode e;
-    if (jj_2_469(2)) {
+    if (jj_2_471(2)) {
       e = UnsignedNumericLiteral();
-    } else if (jj_2_470(2)) {
+    } else if (jj_2_472(2)) {
       e = DynamicParam();
     } else {
       jj_consume_token(-1);
@@ -5542,20 +5556,20 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final List<SqlNode> args;
     final SqlLiteral quantifier;
     p = SimpleIdentifier();
-    if (jj_2_474(2147483647)) {
+    if (jj_2_476(2147483647)) {
                                 s = span();
-      if (jj_2_471(2)) {
+      if (jj_2_473(2)) {
         jj_consume_token(LPAREN);
         jj_consume_token(STAR);
                 quantifier = null;
                 args = ImmutableList.of(SqlIdentifier.star(getPos()));
         jj_consume_token(RPAREN);
-      } else if (jj_2_472(2)) {
+      } else if (jj_2_474(2)) {
         jj_consume_token(LPAREN);
         jj_consume_token(RPAREN);
                 quantifier = null;
                 args = ImmutableList.of();
-      } else if (jj_2_473(2)) {
+      } else if (jj_2_475(2)) {
         args = FunctionParameterList(ExprContext.ACCEPT_SUB_QUERY);
                 quantifier = (SqlLiteral) args.get(0);
                 args.remove(0);
@@ -5582,16 +5596,16 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlNodeList orderBy;
     final Pair<SqlParserPos, SqlOperator> nullTreatment;
     final SqlNode separator;
-    if (jj_2_475(2)) {
+    if (jj_2_477(2)) {
       jj_consume_token(ARRAY_AGG);
                       s = span(); op = SqlLibraryOperators.ARRAY_AGG;
-    } else if (jj_2_476(2)) {
+    } else if (jj_2_478(2)) {
       jj_consume_token(ARRAY_CONCAT_AGG);
                              s = span(); op = SqlLibraryOperators.ARRAY_CONCAT_AGG;
-    } else if (jj_2_477(2)) {
+    } else if (jj_2_479(2)) {
       jj_consume_token(GROUP_CONCAT);
                          s = span(); op = SqlLibraryOperators.GROUP_CONCAT;
-    } else if (jj_2_478(2)) {
+    } else if (jj_2_480(2)) {
       jj_consume_token(STRING_AGG);
                        s = span(); op = SqlLibraryOperators.STRING_AGG;
     } else {
@@ -5599,7 +5613,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
       throw new ParseException();
     }
     jj_consume_token(LPAREN);
-    if (jj_2_479(2)) {
+    if (jj_2_481(2)) {
       qualifier = AllOrDistinct();
     } else {
           qualifier = null;
@@ -5607,7 +5621,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     AddArg(args, ExprContext.ACCEPT_SUB_QUERY);
     label_48:
     while (true) {
-      if (jj_2_480(2)) {
+      if (jj_2_482(2)) {
         ;
       } else {
         break label_48;
@@ -5618,18 +5632,18 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
             checkNonQueryExpression(ExprContext.ACCEPT_SUB_QUERY);
       AddArg(args, ExprContext.ACCEPT_SUB_QUERY);
     }
-    if (jj_2_481(2)) {
+    if (jj_2_483(2)) {
       nullTreatment = NullTreatment();
     } else {
           nullTreatment = null;
     }
-    if (jj_2_482(2)) {
+    if (jj_2_484(2)) {
       orderBy = OrderBy(true);
             args.add(orderBy);
     } else {
       ;
     }
-    if (jj_2_483(2)) {
+    if (jj_2_485(2)) {
       jj_consume_token(SEPARATOR);
                       s2 = span();
       separator = StringLiteral();
@@ -5662,10 +5676,10 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
    final SqlNode e;
    final List<SqlNode> args = new ArrayList<SqlNode>();
    final Pair<SqlParserPos, SqlOperator> nullTreatment;
-    if (jj_2_484(2)) {
+    if (jj_2_486(2)) {
       jj_consume_token(PERCENTILE_CONT);
                            op = SqlStdOperatorTable.PERCENTILE_CONT;
-    } else if (jj_2_485(2)) {
+    } else if (jj_2_487(2)) {
       jj_consume_token(PERCENTILE_DISC);
                            op = SqlStdOperatorTable.PERCENTILE_DISC;
     } else {
@@ -5675,14 +5689,14 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
      s = span();
     jj_consume_token(LPAREN);
     AddArg(args, ExprContext.ACCEPT_SUB_QUERY);
-    if (jj_2_487(2)) {
+    if (jj_2_489(2)) {
       jj_consume_token(RPAREN);
            {if (true) return op.createCall(s.end(this), args);}
-    } else if (jj_2_488(2)) {
+    } else if (jj_2_490(2)) {
       jj_consume_token(COMMA);
       e = NumericLiteral();
                               args.add(e);
-      if (jj_2_486(2)) {
+      if (jj_2_488(2)) {
         nullTreatment = NullTreatment();
       } else {
              nullTreatment = null;
@@ -5710,36 +5724,36 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
  */
   final public SqlNode AtomicRowExpression() throws ParseException {
     final SqlNode e;
-    if (jj_2_489(2)) {
+    if (jj_2_491(2)) {
       e = LiteralOrIntervalExpression();
-    } else if (jj_2_490(2)) {
+    } else if (jj_2_492(2)) {
       e = DynamicParam();
-    } else if (jj_2_491(2)) {
+    } else if (jj_2_493(2)) {
       e = BuiltinFunctionCall();
-    } else if (jj_2_492(2)) {
+    } else if (jj_2_494(2)) {
       e = JdbcFunctionCall();
-    } else if (jj_2_493(2)) {
+    } else if (jj_2_495(2)) {
       e = MultisetConstructor();
-    } else if (jj_2_494(2)) {
+    } else if (jj_2_496(2)) {
       e = ArrayConstructor();
-    } else if (jj_2_495(3)) {
+    } else if (jj_2_497(3)) {
       e = MapConstructor();
-    } else if (jj_2_496(2)) {
+    } else if (jj_2_498(2)) {
       e = PeriodConstructor();
-    } else if (jj_2_497(2147483647)) {
+    } else if (jj_2_499(2147483647)) {
       e = NamedFunctionCall();
-    } else if (jj_2_498(2)) {
+    } else if (jj_2_500(2)) {
       e = ContextVariable();
-    } else if (jj_2_499(2)) {
+    } else if (jj_2_501(2)) {
       e = CompoundIdentifier();
     } else if (allowRowValueStar()) {
       jj_consume_token(STAR);
                  {if (true) return SqlIdentifier.star(getPos());}
-    } else if (jj_2_500(2)) {
+    } else if (jj_2_502(2)) {
       e = NewSpecification();
-    } else if (jj_2_501(2)) {
+    } else if (jj_2_503(2)) {
       e = CaseExpression();
-    } else if (jj_2_502(2)) {
+    } else if (jj_2_504(2)) {
       e = SequenceExpression();
     } else {
       jj_consume_token(-1);
@@ -5760,7 +5774,7 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final List<SqlNode> thenList = new ArrayList<SqlNode>();
     jj_consume_token(CASE);
              s = span();
-    if (jj_2_503(2)) {
+    if (jj_2_505(2)) {
       caseIdentifier = Expression(ExprContext.ACCEPT_SUB_QUERY);
     } else {
           caseIdentifier = null;
@@ -5778,13 +5792,13 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
                  thenSpan.add(this);
       e = Expression(ExprContext.ACCEPT_SUB_QUERY);
             thenList.add(e);
-      if (jj_2_504(2)) {
+      if (jj_2_506(2)) {
         ;
       } else {
         break label_49;
       }
     }
-    if (jj_2_505(2)) {
+    if (jj_2_507(2)) {
       jj_consume_token(ELSE);
       elseClause = Expression(ExprContext.ACCEPT_SUB_QUERY);
     } else {
@@ -5802,10 +5816,10 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final Span s;
     final SqlOperator f;
     final SqlNode sequenceRef;
-    if (jj_2_506(2)) {
+    if (jj_2_508(2)) {
       jj_consume_token(NEXT);
                  f = SqlStdOperatorTable.NEXT_VALUE; s = span();
-    } else if (jj_2_507(3)) {
+    } else if (jj_2_509(3)) {
       jj_consume_token(CURRENT);
                     f = SqlStdOperatorTable.CURRENT_VALUE; s = span();
     } else {
@@ -5826,16 +5840,16 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
   final public SqlSetOption SqlSetOption(Span s, String scope) throws ParseException {
     SqlIdentifier name;
     final SqlNode val;
-    if (jj_2_513(2)) {
+    if (jj_2_515(2)) {
       jj_consume_token(SET);
             s.add(this);
       name = CompoundIdentifier();
       jj_consume_token(EQ);
-      if (jj_2_508(2)) {
+      if (jj_2_510(2)) {
         val = Literal();
-      } else if (jj_2_509(2)) {
+      } else if (jj_2_511(2)) {
         val = SimpleIdentifier();
-      } else if (jj_2_510(2)) {
+      } else if (jj_2_512(2)) {
         jj_consume_token(ON);
                 // OFF is handled by SimpleIdentifier, ON handled here.
                 val = new SqlIdentifier(token.image.toUpperCase(Locale.ROOT),
@@ -5845,12 +5859,12 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
         throw new ParseException();
       }
             {if (true) return new SqlSetOption(s.end(val), scope, (SqlNode) name, val);}
-    } else if (jj_2_514(2)) {
+    } else if (jj_2_516(2)) {
       jj_consume_token(RESET);
             s.add(this);
-      if (jj_2_511(2)) {
+      if (jj_2_513(2)) {
         name = CompoundIdentifier();
-      } else if (jj_2_512(2)) {
+      } else if (jj_2_514(2)) {
         jj_consume_token(ALL);
                 name = new SqlIdentifier(token.image.toUpperCase(Locale.ROOT),
                     getPos());
@@ -5883,9 +5897,9 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
   }
 
   final public String Scope() throws ParseException {
-    if (jj_2_515(2)) {
+    if (jj_2_517(2)) {
       jj_consume_token(SYSTEM);
-    } else if (jj_2_516(2)) {
+    } else if (jj_2_518(2)) {
       jj_consume_token(SESSION);
     } else {
       jj_consume_token(-1);
@@ -5904,20 +5918,20 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlCreate create;
     jj_consume_token(CREATE);
                s = span();
-    if (jj_2_517(2)) {
+    if (jj_2_519(2)) {
       jj_consume_token(OR);
       jj_consume_token(REPLACE);
             replace = true;
     } else {
       ;
     }
-    if (jj_2_518(2)) {
+    if (jj_2_520(2)) {
       create = SqlCreateTable(s, replace);
-    } else if (jj_2_519(2)) {
+    } else if (jj_2_521(2)) {
       create = SqlCreateIndex(s, replace);
-    } else if (jj_2_520(2)) {
+    } else if (jj_2_522(2)) {
       create = SqlCreateUser(s, replace);
-    } else if (jj_2_521(2)) {
+    } else if (jj_2_523(2)) {
       create = SqlCreateView(s, replace);
     } else {
       jj_consume_token(-1);
@@ -5936,13 +5950,13 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
     final SqlDrop drop;
     jj_consume_token(DROP);
              s = span();
-    if (jj_2_522(2)) {
+    if (jj_2_524(2)) {
       drop = SqlDropTable(s, replace);
-    } else if (jj_2_523(2)) {
+    } else if (jj_2_525(2)) {
       drop = SqlDropIndex(s, replace);
-    } else if (jj_2_524(2)) {
+    } else if (jj_2_526(2)) {
       drop = SqlDropUser(s, replace);
-    } else if (jj_2_525(2)) {
+    } else if (jj_2_527(2)) {
       drop = SqlDropView(s, replace);
     } else {
       jj_consume_token(-1);
@@ -5964,9 +5978,9 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
  */
   final public SqlNode Literal() throws ParseException {
     SqlNode e;
-    if (jj_2_526(2)) {
+    if (jj_2_528(2)) {
       e = NonIntervalLiteral();
-    } else if (jj_2_527(2)) {
+    } else if (jj_2_529(2)) {
       e = IntervalLiteral();
     } else {
       jj_consume_token(-1);
@@ -5979,13 +5993,13 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
 /** Parses a literal that is not an interval literal. */
   final public SqlNode NonIntervalLiteral() throws ParseException {
     final SqlNode e;
-    if (jj_2_528(2)) {
+    if (jj_2_530(2)) {
       e = NumericLiteral();
-    } else if (jj_2_529(2)) {
+    } else if (jj_2_531(2)) {
       e = StringLiteral();
-    } else if (jj_2_530(2)) {
+    } else if (jj_2_532(2)) {
       e = SpecialLiteral();
-    } else if (jj_2_531(2)) {
+    } else if (jj_2_533(2)) {
       e = DateTimeLiteral();
     } else {
       jj_consume_token(-1);
@@ -6003,9 +6017,9 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
  * LOOKAHEAD. */
   final public SqlNode LiteralOrIntervalExpression() throws ParseException {
     final SqlNode e;
-    if (jj_2_532(2)) {
+    if (jj_2_534(2)) {
       e = IntervalLiteralOrExpression();
-    } else if (jj_2_533(2)) {
+    } else if (jj_2_535(2)) {
       e = NonIntervalLiteral();
     } else {
       jj_consume_token(-1);
@@ -6018,17 +6032,17 @@ public class IgniteSqlParserImpl extends SqlAbstractParserImpl implements Ignite
 /** Parses a unsigned numeric literal */
   final public SqlNumericLiteral UnsignedNumericLiteral() throws ParseException {
 final String p;
-    if (jj_2_534(2)) {
+    if (jj_2_536(2)) {
       jj_consume_token(UNSIGNED_INTEGER_LITERAL);
         {if (true) return SqlLiteral.createExactNumeric(token.image, getPos());}
-    } else if (jj_2_535(2)) {
+    } else if (jj_2_537(2)) {
       jj_consume_token(DECIMAL_NUMERIC_LITERAL);
         {if (true) return SqlLiteral.createExactNumeric(token.image, getPos());}
-    } else if (jj_2_536(2)) {
+    } else if (jj_2_538(2)) {
       jj_consume_token(DECIMAL);
       p = SimpleStringLiteral();
         {if (true) return SqlParserUtil.parseDecimalLiteral(SqlParserUtil.trim(p, " "), getPos());}
-    } else if (jj_2_537(2)) {
+    } else if (jj_2_539(2)) {
       jj_consume_token(APPROX_NUMERIC_LITERAL);
         {if (true) return SqlLiteral.createApproxNumeric(token.image, getPos());}
     } else {
@@ -6042,16 +6056,16 @@ final String p;
   final public SqlLiteral NumericLiteral() throws ParseException {
     final SqlNumericLiteral num;
     final Span s;
-    if (jj_2_538(2)) {
+    if (jj_2_540(2)) {
       jj_consume_token(PLUS);
       num = UnsignedNumericLiteral();
         {if (true) return num;}
-    } else if (jj_2_539(2)) {
+    } else if (jj_2_541(2)) {
       jj_consume_token(MINUS);
               s = span();
       num = UnsignedNumericLiteral();
         {if (true) return SqlLiteral.createNegative(num, s.end(this));}
-    } else if (jj_2_540(2)) {
+    } else if (jj_2_542(2)) {
       num = UnsignedNumericLiteral();
         {if (true) return num;}
     } else {
@@ -6063,16 +6077,16 @@ final String p;
 
 /** Parse a special literal keyword */
   final public SqlLiteral SpecialLiteral() throws ParseException {
-    if (jj_2_541(2)) {
+    if (jj_2_543(2)) {
       jj_consume_token(TRUE);
              {if (true) return SqlLiteral.createBoolean(true, getPos());}
-    } else if (jj_2_542(2)) {
+    } else if (jj_2_544(2)) {
       jj_consume_token(FALSE);
               {if (true) return SqlLiteral.createBoolean(false, getPos());}
-    } else if (jj_2_543(2)) {
+    } else if (jj_2_545(2)) {
       jj_consume_token(UNKNOWN);
                 {if (true) return SqlLiteral.createUnknown(getPos());}
-    } else if (jj_2_544(2)) {
+    } else if (jj_2_546(2)) {
       jj_consume_token(NULL);
              {if (true) return SqlLiteral.createNull(getPos());}
     } else {
@@ -6099,7 +6113,7 @@ final String p;
     char unicodeEscapeChar = 0;
     String charSet = null;
     SqlCharStringLiteral literal;
-    if (jj_2_549(2)) {
+    if (jj_2_551(2)) {
       jj_consume_token(BINARY_STRING_LITERAL);
         frags = new ArrayList<SqlLiteral>();
         try {
@@ -6135,13 +6149,13 @@ final String p;
             SqlParserPos pos2 = SqlParserPos.sum(frags);
             {if (true) return SqlStdOperatorTable.LITERAL_CHAIN.createCall(pos2, frags);}
         }
-    } else if (jj_2_550(2)) {
-      if (jj_2_545(2)) {
+    } else if (jj_2_552(2)) {
+      if (jj_2_547(2)) {
         jj_consume_token(PREFIXED_STRING_LITERAL);
           charSet = SqlParserUtil.getCharacterSet(token.image);
-      } else if (jj_2_546(2)) {
+      } else if (jj_2_548(2)) {
         jj_consume_token(QUOTED_STRING);
-      } else if (jj_2_547(2)) {
+      } else if (jj_2_549(2)) {
         jj_consume_token(UNICODE_STRING_LITERAL);
             // TODO jvs 2-Feb-2009:  support the explicit specification of
             // a character set for Unicode string literals, per SQL:2003
@@ -6180,7 +6194,7 @@ final String p;
                     RESOURCE.unknownCharacterSet(charSet));}
             }
       }
-      if (jj_2_548(2)) {
+      if (jj_2_550(2)) {
         jj_consume_token(UESCAPE);
         jj_consume_token(QUOTED_STRING);
             if (unicodeEscapeChar == 0) {
@@ -6206,7 +6220,7 @@ final String p;
             SqlParserPos pos2 = SqlParserPos.sum(rands);
             {if (true) return SqlStdOperatorTable.LITERAL_CHAIN.createCall(pos2, rands);}
         }
-    } else if (jj_2_551(2)) {
+    } else if (jj_2_553(2)) {
       jj_consume_token(C_STYLE_ESCAPED_STRING_LITERAL);
         try {
             p = SqlParserUtil.parseCString(getToken(0).image);
@@ -6215,7 +6229,7 @@ final String p;
                 RESOURCE.unicodeEscapeMalformed(e.i));}
        }
        {if (true) return SqlLiteral.createCharString(p, "UTF16", getPos());}
-    } else if (jj_2_552(2)) {
+    } else if (jj_2_554(2)) {
       jj_consume_token(BIG_QUERY_DOUBLE_QUOTED_STRING);
         p = SqlParserUtil.stripQuotes(getToken(0).image, DQ, DQ, "\\\"",
             Casing.UNCHANGED);
@@ -6225,7 +6239,7 @@ final String p;
             {if (true) throw SqlUtil.newContextException(getPos(),
                 RESOURCE.unknownCharacterSet(charSet));}
         }
-    } else if (jj_2_553(2)) {
+    } else if (jj_2_555(2)) {
       jj_consume_token(BIG_QUERY_QUOTED_STRING);
         p = SqlParserUtil.stripQuotes(getToken(0).image, "'", "'", "\\'",
             Casing.UNCHANGED);
@@ -6247,13 +6261,13 @@ final String p;
  * on BigQuery also matches a double-quoted string, such as "foo".
  * Returns the value of the string with quotes removed. */
   final public String SimpleStringLiteral() throws ParseException {
-    if (jj_2_554(2)) {
+    if (jj_2_556(2)) {
       jj_consume_token(QUOTED_STRING);
         {if (true) return SqlParserUtil.parseString(token.image);}
-    } else if (jj_2_555(2)) {
+    } else if (jj_2_557(2)) {
       jj_consume_token(BIG_QUERY_QUOTED_STRING);
         {if (true) return SqlParserUtil.stripQuotes(token.image, "'", "'", "\\'", Casing.UNCHANGED);}
-    } else if (jj_2_556(2)) {
+    } else if (jj_2_558(2)) {
       jj_consume_token(BIG_QUERY_DOUBLE_QUOTED_STRING);
         {if (true) return SqlParserUtil.stripQuotes(token.image, DQ, DQ, "\\\"", Casing.UNCHANGED);}
     } else {
@@ -6270,55 +6284,55 @@ final String p;
     final String p;
     final Span s;
     boolean local = false;
-    if (jj_2_559(2)) {
+    if (jj_2_561(2)) {
       jj_consume_token(LBRACE_D);
       jj_consume_token(QUOTED_STRING);
         p = SqlParserUtil.parseString(token.image);
       jj_consume_token(RBRACE);
         {if (true) return SqlParserUtil.parseDateLiteral(p, getPos());}
-    } else if (jj_2_560(2)) {
+    } else if (jj_2_562(2)) {
       jj_consume_token(LBRACE_T);
       jj_consume_token(QUOTED_STRING);
         p = SqlParserUtil.parseString(token.image);
       jj_consume_token(RBRACE);
         {if (true) return SqlParserUtil.parseTimeLiteral(p, getPos());}
-    } else if (jj_2_561(2)) {
+    } else if (jj_2_563(2)) {
       jj_consume_token(LBRACE_TS);
                   s = span();
       jj_consume_token(QUOTED_STRING);
         p = SqlParserUtil.parseString(token.image);
       jj_consume_token(RBRACE);
         {if (true) return SqlParserUtil.parseTimestampLiteral(p, s.end(this));}
-    } else if (jj_2_562(2)) {
+    } else if (jj_2_564(2)) {
       jj_consume_token(DATE);
              s = span();
       p = SimpleStringLiteral();
       {if (true) return SqlLiteral.createUnknown("DATE", p, s.end(this));}
-    } else if (jj_2_563(2)) {
+    } else if (jj_2_565(2)) {
       jj_consume_token(DATETIME);
                  s = span();
       p = SimpleStringLiteral();
         {if (true) return SqlLiteral.createUnknown("DATETIME", p, s.end(this));}
-    } else if (jj_2_564(2)) {
+    } else if (jj_2_566(2)) {
       jj_consume_token(TIME);
              s = span();
       p = SimpleStringLiteral();
       {if (true) return SqlLiteral.createUnknown("TIME", p, s.end(this));}
-    } else if (jj_2_565(2)) {
+    } else if (jj_2_567(2)) {
       jj_consume_token(UUID);
              s = span();
       p = SimpleStringLiteral();
         {if (true) return SqlLiteral.createUnknown("UUID", p, s.end(this));}
-    } else if (jj_2_566(2)) {
+    } else if (jj_2_568(2)) {
       jj_consume_token(TIMESTAMP);
                   s = span();
       p = SimpleStringLiteral();
         {if (true) return SqlLiteral.createUnknown("TIMESTAMP", p, s.end(this));}
-    } else if (jj_2_567(2)) {
+    } else if (jj_2_569(2)) {
       jj_consume_token(TIME);
              s = span();
       jj_consume_token(WITH);
-      if (jj_2_557(2)) {
+      if (jj_2_559(2)) {
         jj_consume_token(LOCAL);
                                               local = true;
       } else {
@@ -6328,11 +6342,11 @@ final String p;
       jj_consume_token(ZONE);
       p = SimpleStringLiteral();
         {if (true) return SqlLiteral.createUnknown("TIME WITH " + (local ? "LOCAL " : "") + "TIME ZONE", p, s.end(this));}
-    } else if (jj_2_568(2)) {
+    } else if (jj_2_570(2)) {
       jj_consume_token(TIMESTAMP);
                   s = span();
       jj_consume_token(WITH);
-      if (jj_2_558(2)) {
+      if (jj_2_560(2)) {
         jj_consume_token(LOCAL);
                                                    local = true;
       } else {
@@ -6357,13 +6371,13 @@ final String p;
     final Span s;
     final SqlLiteral quantifier;
     final List<? extends SqlNode> args;
-    if (jj_2_569(2)) {
+    if (jj_2_571(2)) {
       jj_consume_token(DATE);
-    } else if (jj_2_570(2)) {
+    } else if (jj_2_572(2)) {
       jj_consume_token(TIME);
-    } else if (jj_2_571(2)) {
+    } else if (jj_2_573(2)) {
       jj_consume_token(DATETIME);
-    } else if (jj_2_572(2)) {
+    } else if (jj_2_574(2)) {
       jj_consume_token(TIMESTAMP);
     } else {
       jj_consume_token(-1);
@@ -6385,19 +6399,19 @@ final String p;
     final Span s;
     jj_consume_token(MULTISET);
                  s = span();
-    if (jj_2_574(2)) {
+    if (jj_2_576(2)) {
       jj_consume_token(LPAREN);
       // by sub query "MULTISET(SELECT * FROM T)"
               e = LeafQueryOrExpr(ExprContext.ACCEPT_QUERY);
       jj_consume_token(RPAREN);
             {if (true) return SqlStdOperatorTable.MULTISET_QUERY.createCall(
                 s.end(this), e);}
-    } else if (jj_2_575(2)) {
+    } else if (jj_2_577(2)) {
       jj_consume_token(LBRACKET);
       AddExpression(args, ExprContext.ACCEPT_NON_QUERY);
       label_52:
       while (true) {
-        if (jj_2_573(2)) {
+        if (jj_2_575(2)) {
           ;
         } else {
           break label_52;
@@ -6423,12 +6437,12 @@ final String p;
     final String p;
     jj_consume_token(ARRAY);
               s = span();
-    if (jj_2_579(2)) {
-      if (jj_2_576(2)) {
+    if (jj_2_581(2)) {
+      if (jj_2_578(2)) {
         jj_consume_token(LPAREN);
         jj_consume_token(RPAREN);
                                 args = SqlNodeList.EMPTY;
-      } else if (jj_2_577(2)) {
+      } else if (jj_2_579(2)) {
         args = ParenthesizedQueryOrCommaList(ExprContext.ACCEPT_ALL);
       } else {
         jj_consume_token(-1);
@@ -6442,9 +6456,9 @@ final String p;
                 // equivalent to standard 'ARRAY [1, 2]'
                 {if (true) return SqlLibraryOperators.ARRAY.createCall(s.end(this), args.getList());}
             }
-    } else if (jj_2_580(2)) {
+    } else if (jj_2_582(2)) {
       jj_consume_token(LBRACKET);
-      if (jj_2_578(2)) {
+      if (jj_2_580(2)) {
         args = ExpressionCommaList(s, ExprContext.ACCEPT_SUB_QUERY);
       } else {
               args = SqlNodeList.EMPTY;
@@ -6465,12 +6479,12 @@ final String p;
     final Span s;
     jj_consume_token(LBRACE);
                s = span();
-    if (jj_2_583(2)) {
+    if (jj_2_585(2)) {
       e = Literal();
                         list = startList(e);
       label_53:
       while (true) {
-        if (jj_2_581(2)) {
+        if (jj_2_583(2)) {
           ;
         } else {
           break label_53;
@@ -6479,12 +6493,12 @@ final String p;
         e = Literal();
                                   list.add(e);
       }
-    } else if (jj_2_584(2)) {
+    } else if (jj_2_586(2)) {
       e = ArrayLiteral();
                              list = startList(e);
       label_54:
       while (true) {
-        if (jj_2_582(2)) {
+        if (jj_2_584(2)) {
           ;
         } else {
           break label_54;
@@ -6507,12 +6521,12 @@ final String p;
     final Span s;
     jj_consume_token(MAP);
             s = span();
-    if (jj_2_588(2)) {
-      if (jj_2_585(2)) {
+    if (jj_2_590(2)) {
+      if (jj_2_587(2)) {
         jj_consume_token(LPAREN);
         jj_consume_token(RPAREN);
                                 args = SqlNodeList.EMPTY;
-      } else if (jj_2_586(2)) {
+      } else if (jj_2_588(2)) {
         args = ParenthesizedQueryOrCommaList(ExprContext.ACCEPT_ALL);
       } else {
         jj_consume_token(-1);
@@ -6525,9 +6539,9 @@ final String p;
                 // MAP function e.g. "MAP(1, 2)" equivalent to standard "MAP[1, 2]"
                 {if (true) return SqlLibraryOperators.MAP.createCall(s.end(this), args.getList());}
             }
-    } else if (jj_2_589(2)) {
+    } else if (jj_2_591(2)) {
       jj_consume_token(LBRACKET);
-      if (jj_2_587(2)) {
+      if (jj_2_589(2)) {
         args = ExpressionCommaList(s, ExprContext.ACCEPT_NON_QUERY);
       } else {
               args = SqlNodeList.EMPTY;
@@ -6567,11 +6581,11 @@ final String p;
     final Span s;
     jj_consume_token(INTERVAL);
                  s = span();
-    if (jj_2_592(2)) {
-      if (jj_2_590(2)) {
+    if (jj_2_594(2)) {
+      if (jj_2_592(2)) {
         jj_consume_token(MINUS);
                   sign = -1;
-      } else if (jj_2_591(2)) {
+      } else if (jj_2_593(2)) {
         jj_consume_token(PLUS);
                  sign = 1;
       } else {
@@ -6599,11 +6613,11 @@ final String p;
     SqlNode e;
     jj_consume_token(INTERVAL);
                  s = span();
-    if (jj_2_595(2)) {
-      if (jj_2_593(2)) {
+    if (jj_2_597(2)) {
+      if (jj_2_595(2)) {
         jj_consume_token(MINUS);
                   sign = -1;
-      } else if (jj_2_594(2)) {
+      } else if (jj_2_596(2)) {
         jj_consume_token(PLUS);
                  sign = 1;
       } else {
@@ -6613,20 +6627,20 @@ final String p;
     } else {
       ;
     }
-    if (jj_2_599(2)) {
+    if (jj_2_601(2)) {
       // literal (with quoted string)
               p = SimpleStringLiteral();
       intervalQualifier = IntervalQualifier();
             {if (true) return SqlParserUtil.parseIntervalLiteral(s.end(intervalQualifier),
                 sign, p, intervalQualifier);}
-    } else if (jj_2_600(2)) {
-      if (jj_2_596(2)) {
+    } else if (jj_2_602(2)) {
+      if (jj_2_598(2)) {
         jj_consume_token(LPAREN);
         e = Expression(ExprContext.ACCEPT_SUB_QUERY);
         jj_consume_token(RPAREN);
-      } else if (jj_2_597(2)) {
+      } else if (jj_2_599(2)) {
         e = UnsignedNumericLiteral();
-      } else if (jj_2_598(2)) {
+      } else if (jj_2_600(2)) {
         e = CompoundIdentifier();
       } else {
         jj_consume_token(-1);
@@ -6646,10 +6660,10 @@ final String p;
   }
 
   final public TimeUnit Year() throws ParseException {
-    if (jj_2_601(2)) {
+    if (jj_2_603(2)) {
       jj_consume_token(YEAR);
              {if (true) return TimeUnit.YEAR;}
-    } else if (jj_2_602(2)) {
+    } else if (jj_2_604(2)) {
       jj_consume_token(YEARS);
               {if (true) return warn(TimeUnit.YEAR);}
     } else {
@@ -6660,10 +6674,10 @@ final String p;
   }
 
   final public TimeUnit Quarter() throws ParseException {
-    if (jj_2_603(2)) {
+    if (jj_2_605(2)) {
       jj_consume_token(QUARTER);
                 {if (true) return TimeUnit.QUARTER;}
-    } else if (jj_2_604(2)) {
+    } else if (jj_2_606(2)) {
       jj_consume_token(QUARTERS);
                  {if (true) return warn(TimeUnit.QUARTER);}
     } else {
@@ -6674,10 +6688,10 @@ final String p;
   }
 
   final public TimeUnit Month() throws ParseException {
-    if (jj_2_605(2)) {
+    if (jj_2_607(2)) {
       jj_consume_token(MONTH);
               {if (true) return TimeUnit.MONTH;}
-    } else if (jj_2_606(2)) {
+    } else if (jj_2_608(2)) {
       jj_consume_token(MONTHS);
                {if (true) return warn(TimeUnit.MONTH);}
     } else {
@@ -6688,10 +6702,10 @@ final String p;
   }
 
   final public TimeUnit Week() throws ParseException {
-    if (jj_2_607(2)) {
+    if (jj_2_609(2)) {
       jj_consume_token(WEEK);
              {if (true) return TimeUnit.WEEK;}
-    } else if (jj_2_608(2)) {
+    } else if (jj_2_610(2)) {
       jj_consume_token(WEEKS);
               {if (true) return warn(TimeUnit.WEEK);}
     } else {
@@ -6702,10 +6716,10 @@ final String p;
   }
 
   final public TimeUnit Day() throws ParseException {
-    if (jj_2_609(2)) {
+    if (jj_2_611(2)) {
       jj_consume_token(DAY);
             {if (true) return TimeUnit.DAY;}
-    } else if (jj_2_610(2)) {
+    } else if (jj_2_612(2)) {
       jj_consume_token(DAYS);
              {if (true) return warn(TimeUnit.DAY);}
     } else {
@@ -6716,10 +6730,10 @@ final String p;
   }
 
   final public TimeUnit Hour() throws ParseException {
-    if (jj_2_611(2)) {
+    if (jj_2_613(2)) {
       jj_consume_token(HOUR);
              {if (true) return TimeUnit.HOUR;}
-    } else if (jj_2_612(2)) {
+    } else if (jj_2_614(2)) {
       jj_consume_token(HOURS);
               {if (true) return warn(TimeUnit.HOUR);}
     } else {
@@ -6730,10 +6744,10 @@ final String p;
   }
 
   final public TimeUnit Minute() throws ParseException {
-    if (jj_2_613(2)) {
+    if (jj_2_615(2)) {
       jj_consume_token(MINUTE);
                {if (true) return TimeUnit.MINUTE;}
-    } else if (jj_2_614(2)) {
+    } else if (jj_2_616(2)) {
       jj_consume_token(MINUTES);
                 {if (true) return warn(TimeUnit.MINUTE);}
     } else {
@@ -6744,10 +6758,10 @@ final String p;
   }
 
   final public TimeUnit Second() throws ParseException {
-    if (jj_2_615(2)) {
+    if (jj_2_617(2)) {
       jj_consume_token(SECOND);
                {if (true) return TimeUnit.SECOND;}
-    } else if (jj_2_616(2)) {
+    } else if (jj_2_618(2)) {
       jj_consume_token(SECONDS);
                 {if (true) return warn(TimeUnit.SECOND);}
     } else {
@@ -6772,42 +6786,42 @@ final String p;
     final TimeUnit end;
     final int startPrec;
     int secondFracPrec = RelDataType.PRECISION_NOT_SPECIFIED;
-    if (jj_2_630(2)) {
+    if (jj_2_632(2)) {
       start = Year();
                          s = span();
       startPrec = PrecisionOpt();
-      if (jj_2_617(2)) {
+      if (jj_2_619(2)) {
         jj_consume_token(TO);
         end = Month();
       } else {
               end = null;
       }
-    } else if (jj_2_631(2)) {
+    } else if (jj_2_633(2)) {
       start = Quarter();
                             s = span();
       startPrec = PrecisionOpt();
           end = null;
-    } else if (jj_2_632(2)) {
+    } else if (jj_2_634(2)) {
       start = Month();
                           s = span();
       startPrec = PrecisionOpt();
           end = null;
-    } else if (jj_2_633(2)) {
+    } else if (jj_2_635(2)) {
       start = Week();
                          s = span();
       startPrec = PrecisionOpt();
           end = null;
-    } else if (jj_2_634(2)) {
+    } else if (jj_2_636(2)) {
       start = Day();
                         s = span();
       startPrec = PrecisionOpt();
-      if (jj_2_621(2)) {
+      if (jj_2_623(2)) {
         jj_consume_token(TO);
-        if (jj_2_618(2)) {
+        if (jj_2_620(2)) {
           end = Hour();
-        } else if (jj_2_619(2)) {
+        } else if (jj_2_621(2)) {
           end = Minute();
-        } else if (jj_2_620(2)) {
+        } else if (jj_2_622(2)) {
           end = Second();
           secondFracPrec = PrecisionOpt();
         } else {
@@ -6817,17 +6831,17 @@ final String p;
       } else {
               end = null;
       }
-    } else if (jj_2_635(2)) {
+    } else if (jj_2_637(2)) {
       start = Hour();
                          s = span();
       startPrec = PrecisionOpt();
-      if (jj_2_625(2)) {
+      if (jj_2_627(2)) {
         jj_consume_token(TO);
-        if (jj_2_623(2)) {
+        if (jj_2_625(2)) {
           end = Minute();
-        } else if (jj_2_624(2)) {
+        } else if (jj_2_626(2)) {
           end = Second();
-          if (jj_2_622(2)) {
+          if (jj_2_624(2)) {
             jj_consume_token(LPAREN);
             secondFracPrec = UnsignedIntLiteral();
             jj_consume_token(RPAREN);
@@ -6841,14 +6855,14 @@ final String p;
       } else {
               end = null;
       }
-    } else if (jj_2_636(2)) {
+    } else if (jj_2_638(2)) {
       start = Minute();
                            s = span();
       startPrec = PrecisionOpt();
-      if (jj_2_627(2)) {
+      if (jj_2_629(2)) {
         jj_consume_token(TO);
         end = Second();
-        if (jj_2_626(2)) {
+        if (jj_2_628(2)) {
           jj_consume_token(LPAREN);
           secondFracPrec = UnsignedIntLiteral();
           jj_consume_token(RPAREN);
@@ -6858,13 +6872,13 @@ final String p;
       } else {
               end = null;
       }
-    } else if (jj_2_637(2)) {
+    } else if (jj_2_639(2)) {
       start = Second();
                            s = span();
-      if (jj_2_629(2)) {
+      if (jj_2_631(2)) {
         jj_consume_token(LPAREN);
         startPrec = UnsignedIntLiteral();
-        if (jj_2_628(2)) {
+        if (jj_2_630(2)) {
           jj_consume_token(COMMA);
           secondFracPrec = UnsignedIntLiteral();
         } else {
@@ -6890,20 +6904,20 @@ final String p;
     final TimeUnit start;
     int startPrec = RelDataType.PRECISION_NOT_SPECIFIED;
     int secondFracPrec = RelDataType.PRECISION_NOT_SPECIFIED;
-    if (jj_2_647(2)) {
-      if (jj_2_638(2)) {
+    if (jj_2_649(2)) {
+      if (jj_2_640(2)) {
         start = Year();
-      } else if (jj_2_639(2)) {
+      } else if (jj_2_641(2)) {
         start = Quarter();
-      } else if (jj_2_640(2)) {
+      } else if (jj_2_642(2)) {
         start = Month();
-      } else if (jj_2_641(2)) {
+      } else if (jj_2_643(2)) {
         start = Week();
-      } else if (jj_2_642(2)) {
+      } else if (jj_2_644(2)) {
         start = Day();
-      } else if (jj_2_643(2)) {
+      } else if (jj_2_645(2)) {
         start = Hour();
-      } else if (jj_2_644(2)) {
+      } else if (jj_2_646(2)) {
         start = Minute();
       } else {
         jj_consume_token(-1);
@@ -6911,13 +6925,13 @@ final String p;
       }
           s = span();
       startPrec = PrecisionOpt();
-    } else if (jj_2_648(2)) {
+    } else if (jj_2_650(2)) {
       start = Second();
                            s = span();
-      if (jj_2_646(2)) {
+      if (jj_2_648(2)) {
         jj_consume_token(LPAREN);
         startPrec = UnsignedIntLiteral();
-        if (jj_2_645(2)) {
+        if (jj_2_647(2)) {
           jj_consume_token(COMMA);
           secondFracPrec = UnsignedIntLiteral();
         } else {
@@ -6954,10 +6968,10 @@ final String p;
   final public SqlIntervalQualifier TimeUnitOrName() throws ParseException {
     final SqlIdentifier unitName;
     final SqlIntervalQualifier intervalQualifier;
-    if (jj_2_649(2)) {
+    if (jj_2_651(2)) {
       intervalQualifier = TimeUnit();
         {if (true) return intervalQualifier;}
-    } else if (jj_2_650(2)) {
+    } else if (jj_2_652(2)) {
       unitName = SimpleIdentifier();
         {if (true) return new SqlIntervalQualifier(unitName.getSimple(),
             unitName.getParserPosition());}
@@ -6981,49 +6995,49 @@ final String p;
   final public SqlIntervalQualifier TimeUnit() throws ParseException {
     final Span span;
     final String w;
-    if (jj_2_652(2)) {
+    if (jj_2_654(2)) {
       jj_consume_token(NANOSECOND);
                    {if (true) return new SqlIntervalQualifier(TimeUnit.NANOSECOND, null, getPos());}
-    } else if (jj_2_653(2)) {
+    } else if (jj_2_655(2)) {
       jj_consume_token(MICROSECOND);
                     {if (true) return new SqlIntervalQualifier(TimeUnit.MICROSECOND, null, getPos());}
-    } else if (jj_2_654(2)) {
+    } else if (jj_2_656(2)) {
       jj_consume_token(MILLISECOND);
                     {if (true) return new SqlIntervalQualifier(TimeUnit.MILLISECOND, null, getPos());}
-    } else if (jj_2_655(2)) {
+    } else if (jj_2_657(2)) {
       jj_consume_token(SECOND);
                {if (true) return new SqlIntervalQualifier(TimeUnit.SECOND, null, getPos());}
-    } else if (jj_2_656(2)) {
+    } else if (jj_2_658(2)) {
       jj_consume_token(MINUTE);
                {if (true) return new SqlIntervalQualifier(TimeUnit.MINUTE, null, getPos());}
-    } else if (jj_2_657(2)) {
+    } else if (jj_2_659(2)) {
       jj_consume_token(HOUR);
              {if (true) return new SqlIntervalQualifier(TimeUnit.HOUR, null, getPos());}
-    } else if (jj_2_658(2)) {
+    } else if (jj_2_660(2)) {
       jj_consume_token(DAY);
             {if (true) return new SqlIntervalQualifier(TimeUnit.DAY, null, getPos());}
-    } else if (jj_2_659(2)) {
+    } else if (jj_2_661(2)) {
       jj_consume_token(DAYOFWEEK);
                   {if (true) return new SqlIntervalQualifier(TimeUnit.DOW, null, getPos());}
-    } else if (jj_2_660(2)) {
+    } else if (jj_2_662(2)) {
       jj_consume_token(DAYOFYEAR);
                   {if (true) return new SqlIntervalQualifier(TimeUnit.DOY, null, getPos());}
-    } else if (jj_2_661(2)) {
+    } else if (jj_2_663(2)) {
       jj_consume_token(DOW);
             {if (true) return new SqlIntervalQualifier(TimeUnit.DOW, null, getPos());}
-    } else if (jj_2_662(2)) {
+    } else if (jj_2_664(2)) {
       jj_consume_token(DOY);
             {if (true) return new SqlIntervalQualifier(TimeUnit.DOY, null, getPos());}
-    } else if (jj_2_663(2)) {
+    } else if (jj_2_665(2)) {
       jj_consume_token(ISODOW);
                {if (true) return new SqlIntervalQualifier(TimeUnit.ISODOW, null, getPos());}
-    } else if (jj_2_664(2)) {
+    } else if (jj_2_666(2)) {
       jj_consume_token(ISOYEAR);
                 {if (true) return new SqlIntervalQualifier(TimeUnit.ISOYEAR, null, getPos());}
-    } else if (jj_2_665(2)) {
+    } else if (jj_2_667(2)) {
       jj_consume_token(WEEK);
              span = span();
-      if (jj_2_651(2)) {
+      if (jj_2_653(2)) {
         jj_consume_token(LPAREN);
         w = weekdayName();
         jj_consume_token(RPAREN);
@@ -7031,25 +7045,25 @@ final String p;
       } else {
           {if (true) return new SqlIntervalQualifier(TimeUnit.WEEK, null, getPos());}
       }
-    } else if (jj_2_666(2)) {
+    } else if (jj_2_668(2)) {
       jj_consume_token(MONTH);
               {if (true) return new SqlIntervalQualifier(TimeUnit.MONTH, null, getPos());}
-    } else if (jj_2_667(2)) {
+    } else if (jj_2_669(2)) {
       jj_consume_token(QUARTER);
                 {if (true) return new SqlIntervalQualifier(TimeUnit.QUARTER, null, getPos());}
-    } else if (jj_2_668(2)) {
+    } else if (jj_2_670(2)) {
       jj_consume_token(YEAR);
              {if (true) return new SqlIntervalQualifier(TimeUnit.YEAR, null, getPos());}
-    } else if (jj_2_669(2)) {
+    } else if (jj_2_671(2)) {
       jj_consume_token(EPOCH);
               {if (true) return new SqlIntervalQualifier(TimeUnit.EPOCH, null, getPos());}
-    } else if (jj_2_670(2)) {
+    } else if (jj_2_672(2)) {
       jj_consume_token(DECADE);
                {if (true) return new SqlIntervalQualifier(TimeUnit.DECADE, null, getPos());}
-    } else if (jj_2_671(2)) {
+    } else if (jj_2_673(2)) {
       jj_consume_token(CENTURY);
                 {if (true) return new SqlIntervalQualifier(TimeUnit.CENTURY, null, getPos());}
-    } else if (jj_2_672(2)) {
+    } else if (jj_2_674(2)) {
       jj_consume_token(MILLENNIUM);
                    {if (true) return new SqlIntervalQualifier(TimeUnit.MILLENNIUM, null, getPos());}
     } else {
@@ -7060,25 +7074,25 @@ final String p;
   }
 
   final public String weekdayName() throws ParseException {
-    if (jj_2_673(2)) {
+    if (jj_2_675(2)) {
       jj_consume_token(SUNDAY);
                {if (true) return "WEEK_SUNDAY";}
-    } else if (jj_2_674(2)) {
+    } else if (jj_2_676(2)) {
       jj_consume_token(MONDAY);
                {if (true) return "WEEK_MONDAY";}
-    } else if (jj_2_675(2)) {
+    } else if (jj_2_677(2)) {
       jj_consume_token(TUESDAY);
                 {if (true) return "WEEK_TUESDAY";}
-    } else if (jj_2_676(2)) {
+    } else if (jj_2_678(2)) {
       jj_consume_token(WEDNESDAY);
                   {if (true) return "WEEK_WEDNESDAY";}
-    } else if (jj_2_677(2)) {
+    } else if (jj_2_679(2)) {
       jj_consume_token(THURSDAY);
                  {if (true) return "WEEK_THURSDAY";}
-    } else if (jj_2_678(2)) {
+    } else if (jj_2_680(2)) {
       jj_consume_token(FRIDAY);
                {if (true) return "WEEK_FRIDAY";}
-    } else if (jj_2_679(2)) {
+    } else if (jj_2_681(2)) {
       jj_consume_token(SATURDAY);
                  {if (true) return "WEEK_SATURDAY";}
     } else {
@@ -7109,41 +7123,41 @@ final String p;
     char unicodeEscapeChar = BACKSLASH;
     final SqlParserPos pos;
     final Span span;
-    if (jj_2_681(2)) {
+    if (jj_2_683(2)) {
       jj_consume_token(IDENTIFIER);
             id = unquotedIdentifier();
             pos = getPos();
-    } else if (jj_2_682(2)) {
+    } else if (jj_2_684(2)) {
       jj_consume_token(HYPHENATED_IDENTIFIER);
             id = unquotedIdentifier();
             pos = getPos();
-    } else if (jj_2_683(2)) {
+    } else if (jj_2_685(2)) {
       jj_consume_token(QUOTED_IDENTIFIER);
             id = SqlParserUtil.stripQuotes(getToken(0).image, DQ, DQ, DQDQ,
                 quotedCasing);
             pos = getPos().withQuoting(true);
-    } else if (jj_2_684(2)) {
+    } else if (jj_2_686(2)) {
       jj_consume_token(BACK_QUOTED_IDENTIFIER);
             id = SqlParserUtil.stripQuotes(getToken(0).image, "`", "`", "``",
                 quotedCasing);
             pos = getPos().withQuoting(true);
-    } else if (jj_2_685(2)) {
+    } else if (jj_2_687(2)) {
       jj_consume_token(BIG_QUERY_BACK_QUOTED_IDENTIFIER);
             id = SqlParserUtil.stripQuotes(getToken(0).image, "`", "`", "\\`",
                 quotedCasing);
             pos = getPos().withQuoting(true);
-    } else if (jj_2_686(2)) {
+    } else if (jj_2_688(2)) {
       jj_consume_token(BRACKET_QUOTED_IDENTIFIER);
             id = SqlParserUtil.stripQuotes(getToken(0).image, "[", "]", "]]",
                 quotedCasing);
             pos = getPos().withQuoting(true);
-    } else if (jj_2_687(2)) {
+    } else if (jj_2_689(2)) {
       jj_consume_token(UNICODE_QUOTED_IDENTIFIER);
             span = span();
             String image = getToken(0).image;
             image = image.substring(image.indexOf('"'));
             image = SqlParserUtil.stripQuotes(image, DQ, DQ, DQDQ, quotedCasing);
-      if (jj_2_680(2)) {
+      if (jj_2_682(2)) {
         jj_consume_token(UESCAPE);
         jj_consume_token(QUOTED_STRING);
                 String s = SqlParserUtil.parseString(token.image);
@@ -7155,7 +7169,7 @@ final String p;
             SqlLiteral lit = SqlLiteral.createCharString(image, "UTF16", pos);
             lit = lit.unescapeUnicode(unicodeEscapeChar);
             id = lit.toValue();
-    } else if (jj_2_688(2)) {
+    } else if (jj_2_690(2)) {
       id = NonReservedKeyWord();
             pos = getPos();
     } else {
@@ -7240,7 +7254,7 @@ final String p;
                              list.add(id);
     label_55:
     while (true) {
-      if (jj_2_689(2)) {
+      if (jj_2_691(2)) {
         ;
       } else {
         break label_55;
@@ -7276,10 +7290,10 @@ final String p;
   final public SqlNodeList SimpleIdentifierOrList() throws ParseException {
     SqlIdentifier id;
     SqlNodeList list;
-    if (jj_2_690(2)) {
+    if (jj_2_692(2)) {
       id = SimpleIdentifier();
         {if (true) return new SqlNodeList(Collections.singletonList(id), id.getParserPosition());}
-    } else if (jj_2_691(2)) {
+    } else if (jj_2_693(2)) {
       list = ParenthesizedSimpleIdentifierList();
         {if (true) return list;}
     } else {
@@ -7299,7 +7313,7 @@ final String p;
     AddIdentifierSegment(nameList, posList);
     label_56:
     while (true) {
-      if (jj_2_692(2)) {
+      if (jj_2_694(2)) {
         ;
       } else {
         break label_56;
@@ -7307,7 +7321,7 @@ final String p;
       jj_consume_token(DOT);
       AddIdentifierSegment(nameList, posList);
     }
-    if (jj_2_693(2)) {
+    if (jj_2_695(2)) {
       jj_consume_token(DOT);
       jj_consume_token(STAR);
             star = true;
@@ -7333,7 +7347,7 @@ final String p;
     AddTableIdentifierSegment(nameList, posList);
     label_57:
     while (true) {
-      if (jj_2_694(2)) {
+      if (jj_2_696(2)) {
         ;
       } else {
         break label_57;
@@ -7353,7 +7367,7 @@ final String p;
     AddCompoundIdentifierType(list, extendList);
     label_58:
     while (true) {
-      if (jj_2_695(2)) {
+      if (jj_2_697(2)) {
         ;
       } else {
         break label_58;
@@ -7408,10 +7422,10 @@ final String p;
 
   final public int IntLiteral() throws ParseException {
     Token t;
-    if (jj_2_698(2)) {
-      if (jj_2_696(2)) {
+    if (jj_2_700(2)) {
+      if (jj_2_698(2)) {
         t = jj_consume_token(UNSIGNED_INTEGER_LITERAL);
-      } else if (jj_2_697(2)) {
+      } else if (jj_2_699(2)) {
         jj_consume_token(PLUS);
         t = jj_consume_token(UNSIGNED_INTEGER_LITERAL);
       } else {
@@ -7424,7 +7438,7 @@ final String p;
             {if (true) throw SqlUtil.newContextException(getPos(),
                 RESOURCE.invalidLiteral(t.image, Integer.class.getCanonicalName()));}
         }
-    } else if (jj_2_699(2)) {
+    } else if (jj_2_701(2)) {
       jj_consume_token(MINUS);
       t = jj_consume_token(UNSIGNED_INTEGER_LITERAL);
         try {
@@ -7448,7 +7462,7 @@ final String p;
         s = Span.of(typeName.getParserPos());
     label_59:
     while (true) {
-      if (jj_2_700(2)) {
+      if (jj_2_702(2)) {
         ;
       } else {
         break label_59;
@@ -7465,13 +7479,13 @@ final String p;
     final SqlTypeNameSpec typeNameSpec;
     final SqlIdentifier typeName;
     final Span s = Span.of();
-    if (jj_2_701(2)) {
+    if (jj_2_703(2)) {
       typeNameSpec = SqlTypeName(s);
-    } else if (jj_2_702(2)) {
+    } else if (jj_2_704(2)) {
       typeNameSpec = RowTypeName();
-    } else if (jj_2_703(2)) {
+    } else if (jj_2_705(2)) {
       typeNameSpec = MapTypeName();
-    } else if (jj_2_704(2)) {
+    } else if (jj_2_706(2)) {
       typeName = CompoundIdentifier();
             typeNameSpec = new SqlUserDefinedTypeNameSpec(typeName, s.end(this));
     } else {
@@ -7485,15 +7499,15 @@ final String p;
 // Types used for JDBC and ODBC scalar conversion function
   final public SqlTypeNameSpec SqlTypeName(Span s) throws ParseException {
     final SqlTypeNameSpec sqlTypeNameSpec;
-    if (jj_2_705(2)) {
+    if (jj_2_707(2)) {
       sqlTypeNameSpec = SqlTypeName1(s);
-    } else if (jj_2_706(2)) {
+    } else if (jj_2_708(2)) {
       sqlTypeNameSpec = SqlTypeName2(s);
-    } else if (jj_2_707(2)) {
+    } else if (jj_2_709(2)) {
       sqlTypeNameSpec = SqlTypeName3(s);
-    } else if (jj_2_708(2)) {
+    } else if (jj_2_710(2)) {
       sqlTypeNameSpec = CharacterTypeName(s);
-    } else if (jj_2_709(2)) {
+    } else if (jj_2_711(2)) {
       sqlTypeNameSpec = DateTimeTypeName();
     } else {
       jj_consume_token(-1);
@@ -7508,26 +7522,26 @@ final String p;
   final public SqlTypeNameSpec SqlTypeName1(Span s) throws ParseException {
     final SqlTypeName sqlTypeName;
     boolean unsigned = false;
-    if (jj_2_717(2)) {
+    if (jj_2_719(2)) {
       jj_consume_token(GEOMETRY);
             if (!this.conformance.allowGeometry()) {
                 {if (true) throw SqlUtil.newContextException(getPos(), RESOURCE.geometryDisabled());}
             }
             s.add(this);
             sqlTypeName = SqlTypeName.GEOMETRY;
-    } else if (jj_2_718(2)) {
+    } else if (jj_2_720(2)) {
       jj_consume_token(BOOLEAN);
                     s.add(this); sqlTypeName = SqlTypeName.BOOLEAN;
-    } else if (jj_2_719(2)) {
-      if (jj_2_710(2)) {
+    } else if (jj_2_721(2)) {
+      if (jj_2_712(2)) {
         jj_consume_token(INTEGER);
-      } else if (jj_2_711(2)) {
+      } else if (jj_2_713(2)) {
         jj_consume_token(INT);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
-      if (jj_2_712(2)) {
+      if (jj_2_714(2)) {
         jj_consume_token(UNSIGNED);
                                              unsigned = true;
       } else {
@@ -7537,15 +7551,15 @@ final String p;
                 {if (true) throw SqlUtil.newContextException(getPos(), RESOURCE.unsignedDisabled());}
             }
             s.add(this); sqlTypeName = unsigned ? SqlTypeName.UINTEGER : SqlTypeName.INTEGER;
-    } else if (jj_2_720(2)) {
+    } else if (jj_2_722(2)) {
       jj_consume_token(UNSIGNED);
             if (!this.conformance.supportsUnsignedTypes()) {
                 {if (true) throw SqlUtil.newContextException(getPos(), RESOURCE.unsignedDisabled());}
             }
             s.add(this); sqlTypeName = SqlTypeName.UINTEGER;
-    } else if (jj_2_721(2)) {
+    } else if (jj_2_723(2)) {
       jj_consume_token(TINYINT);
-      if (jj_2_713(2)) {
+      if (jj_2_715(2)) {
         jj_consume_token(UNSIGNED);
                                  unsigned = true;
       } else {
@@ -7555,9 +7569,9 @@ final String p;
                 {if (true) throw SqlUtil.newContextException(getPos(), RESOURCE.unsignedDisabled());}
             }
             s.add(this); sqlTypeName = unsigned ? SqlTypeName.UTINYINT : SqlTypeName.TINYINT;
-    } else if (jj_2_722(2)) {
+    } else if (jj_2_724(2)) {
       jj_consume_token(SMALLINT);
-      if (jj_2_714(2)) {
+      if (jj_2_716(2)) {
         jj_consume_token(UNSIGNED);
                                   unsigned = true;
       } else {
@@ -7567,9 +7581,9 @@ final String p;
                 {if (true) throw SqlUtil.newContextException(getPos(), RESOURCE.unsignedDisabled());}
             }
             s.add(this); sqlTypeName = unsigned ? SqlTypeName.USMALLINT : SqlTypeName.SMALLINT;
-    } else if (jj_2_723(2)) {
+    } else if (jj_2_725(2)) {
       jj_consume_token(BIGINT);
-      if (jj_2_715(2)) {
+      if (jj_2_717(2)) {
         jj_consume_token(UNSIGNED);
                                 unsigned = true;
       } else {
@@ -7579,25 +7593,25 @@ final String p;
                 {if (true) throw SqlUtil.newContextException(getPos(), RESOURCE.unsignedDisabled());}
             }
             s.add(this); sqlTypeName = unsigned ? SqlTypeName.UBIGINT : SqlTypeName.BIGINT;
-    } else if (jj_2_724(2)) {
+    } else if (jj_2_726(2)) {
       jj_consume_token(REAL);
                  s.add(this); sqlTypeName = SqlTypeName.REAL;
-    } else if (jj_2_725(2)) {
+    } else if (jj_2_727(2)) {
       jj_consume_token(DOUBLE);
                    s.add(this);
-      if (jj_2_716(2)) {
+      if (jj_2_718(2)) {
         jj_consume_token(PRECISION);
       } else {
         ;
       }
                           sqlTypeName = SqlTypeName.DOUBLE;
-    } else if (jj_2_726(2)) {
+    } else if (jj_2_728(2)) {
       jj_consume_token(FLOAT);
                   s.add(this); sqlTypeName = SqlTypeName.FLOAT;
-    } else if (jj_2_727(2)) {
+    } else if (jj_2_729(2)) {
       jj_consume_token(VARIANT);
                     s.add(this); sqlTypeName = SqlTypeName.VARIANT;
-    } else if (jj_2_728(2)) {
+    } else if (jj_2_730(2)) {
       jj_consume_token(UUID);
                  s.add(this); sqlTypeName = SqlTypeName.UUID;
     } else {
@@ -7612,16 +7626,16 @@ final String p;
   final public SqlTypeNameSpec SqlTypeName2(Span s) throws ParseException {
     final SqlTypeName sqlTypeName;
     int precision = -1;
-    if (jj_2_730(2)) {
+    if (jj_2_732(2)) {
       jj_consume_token(BINARY);
                    s.add(this);
-      if (jj_2_729(2)) {
+      if (jj_2_731(2)) {
         jj_consume_token(VARYING);
                         sqlTypeName = SqlTypeName.VARBINARY;
       } else {
               sqlTypeName = SqlTypeName.BINARY;
       }
-    } else if (jj_2_731(2)) {
+    } else if (jj_2_733(2)) {
       jj_consume_token(VARBINARY);
                       s.add(this); sqlTypeName = SqlTypeName.VARBINARY;
     } else {
@@ -7638,29 +7652,29 @@ final String p;
     final SqlTypeName sqlTypeName;
     int precision = RelDataType.PRECISION_NOT_SPECIFIED;
     int scale = RelDataType.SCALE_NOT_SPECIFIED;
-    if (jj_2_735(2)) {
-      if (jj_2_732(2)) {
+    if (jj_2_737(2)) {
+      if (jj_2_734(2)) {
         jj_consume_token(DECIMAL);
-      } else if (jj_2_733(2)) {
+      } else if (jj_2_735(2)) {
         jj_consume_token(DEC);
-      } else if (jj_2_734(2)) {
+      } else if (jj_2_736(2)) {
         jj_consume_token(NUMERIC);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                                           s.add(this); sqlTypeName = SqlTypeName.DECIMAL;
-    } else if (jj_2_736(2)) {
+    } else if (jj_2_738(2)) {
       jj_consume_token(ANY);
                 s.add(this); sqlTypeName = SqlTypeName.ANY;
     } else {
       jj_consume_token(-1);
       throw new ParseException();
     }
-    if (jj_2_738(2)) {
+    if (jj_2_740(2)) {
       jj_consume_token(LPAREN);
       precision = UnsignedIntLiteral();
-      if (jj_2_737(2)) {
+      if (jj_2_739(2)) {
         jj_consume_token(COMMA);
         scale = IntLiteral();
       } else {
@@ -7676,213 +7690,213 @@ final String p;
 
 // Types used for for JDBC and ODBC scalar conversion function
   final public SqlJdbcDataTypeName JdbcOdbcDataTypeName() throws ParseException {
-    if (jj_2_773(2)) {
-      if (jj_2_739(2)) {
+    if (jj_2_775(2)) {
+      if (jj_2_741(2)) {
         jj_consume_token(SQL_CHAR);
-      } else if (jj_2_740(2)) {
+      } else if (jj_2_742(2)) {
         jj_consume_token(CHAR);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                             {if (true) return SqlJdbcDataTypeName.SQL_CHAR;}
-    } else if (jj_2_774(2)) {
-      if (jj_2_741(2)) {
+    } else if (jj_2_776(2)) {
+      if (jj_2_743(2)) {
         jj_consume_token(SQL_VARCHAR);
-      } else if (jj_2_742(2)) {
+      } else if (jj_2_744(2)) {
         jj_consume_token(VARCHAR);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                                   {if (true) return SqlJdbcDataTypeName.SQL_VARCHAR;}
-    } else if (jj_2_775(2)) {
-      if (jj_2_743(2)) {
+    } else if (jj_2_777(2)) {
+      if (jj_2_745(2)) {
         jj_consume_token(SQL_DATE);
-      } else if (jj_2_744(2)) {
+      } else if (jj_2_746(2)) {
         jj_consume_token(DATE);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                             {if (true) return SqlJdbcDataTypeName.SQL_DATE;}
-    } else if (jj_2_776(2)) {
-      if (jj_2_745(2)) {
+    } else if (jj_2_778(2)) {
+      if (jj_2_747(2)) {
         jj_consume_token(SQL_TIME);
-      } else if (jj_2_746(2)) {
+      } else if (jj_2_748(2)) {
         jj_consume_token(TIME);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                             {if (true) return SqlJdbcDataTypeName.SQL_TIME;}
-    } else if (jj_2_777(2)) {
-      if (jj_2_747(2)) {
+    } else if (jj_2_779(2)) {
+      if (jj_2_749(2)) {
         jj_consume_token(SQL_TIMESTAMP);
-      } else if (jj_2_748(2)) {
+      } else if (jj_2_750(2)) {
         jj_consume_token(TIMESTAMP);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                                       {if (true) return SqlJdbcDataTypeName.SQL_TIMESTAMP;}
-    } else if (jj_2_778(2)) {
-      if (jj_2_749(2)) {
+    } else if (jj_2_780(2)) {
+      if (jj_2_751(2)) {
         jj_consume_token(SQL_DECIMAL);
-      } else if (jj_2_750(2)) {
+      } else if (jj_2_752(2)) {
         jj_consume_token(DECIMAL);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                                   {if (true) return SqlJdbcDataTypeName.SQL_DECIMAL;}
-    } else if (jj_2_779(2)) {
-      if (jj_2_751(2)) {
+    } else if (jj_2_781(2)) {
+      if (jj_2_753(2)) {
         jj_consume_token(SQL_NUMERIC);
-      } else if (jj_2_752(2)) {
+      } else if (jj_2_754(2)) {
         jj_consume_token(NUMERIC);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                                   {if (true) return SqlJdbcDataTypeName.SQL_NUMERIC;}
-    } else if (jj_2_780(2)) {
-      if (jj_2_753(2)) {
+    } else if (jj_2_782(2)) {
+      if (jj_2_755(2)) {
         jj_consume_token(SQL_BOOLEAN);
-      } else if (jj_2_754(2)) {
+      } else if (jj_2_756(2)) {
         jj_consume_token(BOOLEAN);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                                   {if (true) return SqlJdbcDataTypeName.SQL_BOOLEAN;}
-    } else if (jj_2_781(2)) {
-      if (jj_2_755(2)) {
+    } else if (jj_2_783(2)) {
+      if (jj_2_757(2)) {
         jj_consume_token(SQL_INTEGER);
-      } else if (jj_2_756(2)) {
+      } else if (jj_2_758(2)) {
         jj_consume_token(INTEGER);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                                   {if (true) return SqlJdbcDataTypeName.SQL_INTEGER;}
-    } else if (jj_2_782(2)) {
-      if (jj_2_757(2)) {
+    } else if (jj_2_784(2)) {
+      if (jj_2_759(2)) {
         jj_consume_token(SQL_BINARY);
-      } else if (jj_2_758(2)) {
+      } else if (jj_2_760(2)) {
         jj_consume_token(BINARY);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                                 {if (true) return SqlJdbcDataTypeName.SQL_BINARY;}
-    } else if (jj_2_783(2)) {
-      if (jj_2_759(2)) {
+    } else if (jj_2_785(2)) {
+      if (jj_2_761(2)) {
         jj_consume_token(SQL_VARBINARY);
-      } else if (jj_2_760(2)) {
+      } else if (jj_2_762(2)) {
         jj_consume_token(VARBINARY);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                                       {if (true) return SqlJdbcDataTypeName.SQL_VARBINARY;}
-    } else if (jj_2_784(2)) {
-      if (jj_2_761(2)) {
+    } else if (jj_2_786(2)) {
+      if (jj_2_763(2)) {
         jj_consume_token(SQL_TINYINT);
-      } else if (jj_2_762(2)) {
+      } else if (jj_2_764(2)) {
         jj_consume_token(TINYINT);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                                   {if (true) return SqlJdbcDataTypeName.SQL_TINYINT;}
-    } else if (jj_2_785(2)) {
-      if (jj_2_763(2)) {
+    } else if (jj_2_787(2)) {
+      if (jj_2_765(2)) {
         jj_consume_token(SQL_SMALLINT);
-      } else if (jj_2_764(2)) {
+      } else if (jj_2_766(2)) {
         jj_consume_token(SMALLINT);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                                     {if (true) return SqlJdbcDataTypeName.SQL_SMALLINT;}
-    } else if (jj_2_786(2)) {
-      if (jj_2_765(2)) {
+    } else if (jj_2_788(2)) {
+      if (jj_2_767(2)) {
         jj_consume_token(SQL_BIGINT);
-      } else if (jj_2_766(2)) {
+      } else if (jj_2_768(2)) {
         jj_consume_token(BIGINT);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                                 {if (true) return SqlJdbcDataTypeName.SQL_BIGINT;}
-    } else if (jj_2_787(2)) {
-      if (jj_2_767(2)) {
+    } else if (jj_2_789(2)) {
+      if (jj_2_769(2)) {
         jj_consume_token(SQL_REAL);
-      } else if (jj_2_768(2)) {
+      } else if (jj_2_770(2)) {
         jj_consume_token(REAL);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                            {if (true) return SqlJdbcDataTypeName.SQL_REAL;}
-    } else if (jj_2_788(2)) {
-      if (jj_2_769(2)) {
+    } else if (jj_2_790(2)) {
+      if (jj_2_771(2)) {
         jj_consume_token(SQL_DOUBLE);
-      } else if (jj_2_770(2)) {
+      } else if (jj_2_772(2)) {
         jj_consume_token(DOUBLE);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                                 {if (true) return SqlJdbcDataTypeName.SQL_DOUBLE;}
-    } else if (jj_2_789(2)) {
-      if (jj_2_771(2)) {
+    } else if (jj_2_791(2)) {
+      if (jj_2_773(2)) {
         jj_consume_token(SQL_FLOAT);
-      } else if (jj_2_772(2)) {
+      } else if (jj_2_774(2)) {
         jj_consume_token(FLOAT);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                               {if (true) return SqlJdbcDataTypeName.SQL_FLOAT;}
-    } else if (jj_2_790(2)) {
+    } else if (jj_2_792(2)) {
       jj_consume_token(SQL_INTERVAL_YEAR);
                           {if (true) return SqlJdbcDataTypeName.SQL_INTERVAL_YEAR;}
-    } else if (jj_2_791(2)) {
+    } else if (jj_2_793(2)) {
       jj_consume_token(SQL_INTERVAL_YEAR_TO_MONTH);
                                    {if (true) return SqlJdbcDataTypeName.SQL_INTERVAL_YEAR_TO_MONTH;}
-    } else if (jj_2_792(2)) {
+    } else if (jj_2_794(2)) {
       jj_consume_token(SQL_INTERVAL_MONTH);
                            {if (true) return SqlJdbcDataTypeName.SQL_INTERVAL_MONTH;}
-    } else if (jj_2_793(2)) {
+    } else if (jj_2_795(2)) {
       jj_consume_token(SQL_INTERVAL_DAY);
                          {if (true) return SqlJdbcDataTypeName.SQL_INTERVAL_DAY;}
-    } else if (jj_2_794(2)) {
+    } else if (jj_2_796(2)) {
       jj_consume_token(SQL_INTERVAL_DAY_TO_HOUR);
                                  {if (true) return SqlJdbcDataTypeName.SQL_INTERVAL_DAY_TO_HOUR;}
-    } else if (jj_2_795(2)) {
+    } else if (jj_2_797(2)) {
       jj_consume_token(SQL_INTERVAL_DAY_TO_MINUTE);
                                    {if (true) return SqlJdbcDataTypeName.SQL_INTERVAL_DAY_TO_MINUTE;}
-    } else if (jj_2_796(2)) {
+    } else if (jj_2_798(2)) {
       jj_consume_token(SQL_INTERVAL_DAY_TO_SECOND);
                                    {if (true) return SqlJdbcDataTypeName.SQL_INTERVAL_DAY_TO_SECOND;}
-    } else if (jj_2_797(2)) {
+    } else if (jj_2_799(2)) {
       jj_consume_token(SQL_INTERVAL_HOUR);
                           {if (true) return SqlJdbcDataTypeName.SQL_INTERVAL_HOUR;}
-    } else if (jj_2_798(2)) {
+    } else if (jj_2_800(2)) {
       jj_consume_token(SQL_INTERVAL_HOUR_TO_MINUTE);
                                     {if (true) return SqlJdbcDataTypeName.SQL_INTERVAL_HOUR_TO_MINUTE;}
-    } else if (jj_2_799(2)) {
+    } else if (jj_2_801(2)) {
       jj_consume_token(SQL_INTERVAL_HOUR_TO_SECOND);
                                     {if (true) return SqlJdbcDataTypeName.SQL_INTERVAL_HOUR_TO_SECOND;}
-    } else if (jj_2_800(2)) {
+    } else if (jj_2_802(2)) {
       jj_consume_token(SQL_INTERVAL_MINUTE);
                             {if (true) return SqlJdbcDataTypeName.SQL_INTERVAL_MINUTE;}
-    } else if (jj_2_801(2)) {
+    } else if (jj_2_803(2)) {
       jj_consume_token(SQL_INTERVAL_MINUTE_TO_SECOND);
                                       {if (true) return SqlJdbcDataTypeName.SQL_INTERVAL_MINUTE_TO_SECOND;}
-    } else if (jj_2_802(2)) {
+    } else if (jj_2_804(2)) {
       jj_consume_token(SQL_INTERVAL_SECOND);
                             {if (true) return SqlJdbcDataTypeName.SQL_INTERVAL_SECOND;}
     } else {
@@ -7905,10 +7919,10 @@ final String p;
 */
   final public SqlTypeNameSpec CollectionsTypeName(SqlTypeNameSpec elementTypeName) throws ParseException {
     final SqlTypeName collectionTypeName;
-    if (jj_2_803(2)) {
+    if (jj_2_805(2)) {
       jj_consume_token(MULTISET);
                      collectionTypeName = SqlTypeName.MULTISET;
-    } else if (jj_2_804(2)) {
+    } else if (jj_2_806(2)) {
       jj_consume_token(ARRAY);
                   collectionTypeName = SqlTypeName.ARRAY;
     } else {
@@ -7924,10 +7938,10 @@ final String p;
 * Parse a nullable option, default is true.
 */
   final public boolean NullableOptDefaultTrue() throws ParseException {
-    if (jj_2_805(2)) {
+    if (jj_2_807(2)) {
       jj_consume_token(NULL);
              {if (true) return true;}
-    } else if (jj_2_806(2)) {
+    } else if (jj_2_808(2)) {
       jj_consume_token(NOT);
       jj_consume_token(NULL);
                    {if (true) return false;}
@@ -7941,10 +7955,10 @@ final String p;
 * Parse a nullable option, default is false.
 */
   final public boolean NullableOptDefaultFalse() throws ParseException {
-    if (jj_2_807(2)) {
+    if (jj_2_809(2)) {
       jj_consume_token(NULL);
              {if (true) return true;}
-    } else if (jj_2_808(2)) {
+    } else if (jj_2_810(2)) {
       jj_consume_token(NOT);
       jj_consume_token(NULL);
                    {if (true) return false;}
@@ -7956,7 +7970,7 @@ final String p;
 
 /** Parses NOT NULL and returns false, or parses nothing and returns true. */
   final public boolean NotNullOpt() throws ParseException {
-    if (jj_2_809(2)) {
+    if (jj_2_811(2)) {
       jj_consume_token(NOT);
       jj_consume_token(NULL);
                    {if (true) return false;}
@@ -7975,7 +7989,7 @@ final String p;
     AddFieldNameType(fieldNames, fieldTypes);
     label_60:
     while (true) {
-      if (jj_2_810(2)) {
+      if (jj_2_812(2)) {
         ;
       } else {
         break label_60;
@@ -8033,23 +8047,23 @@ final String p;
     int precision = -1;
     final SqlTypeName sqlTypeName;
     String charSetName = null;
-    if (jj_2_814(2)) {
-      if (jj_2_811(2)) {
+    if (jj_2_816(2)) {
+      if (jj_2_813(2)) {
         jj_consume_token(CHARACTER);
-      } else if (jj_2_812(2)) {
+      } else if (jj_2_814(2)) {
         jj_consume_token(CHAR);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
                                  s.add(this);
-      if (jj_2_813(2)) {
+      if (jj_2_815(2)) {
         jj_consume_token(VARYING);
                         sqlTypeName = SqlTypeName.VARCHAR;
       } else {
               sqlTypeName = SqlTypeName.CHAR;
       }
-    } else if (jj_2_815(2)) {
+    } else if (jj_2_817(2)) {
       jj_consume_token(VARCHAR);
                     s.add(this); sqlTypeName = SqlTypeName.VARCHAR;
     } else {
@@ -8057,7 +8071,7 @@ final String p;
       throw new ParseException();
     }
     precision = PrecisionOpt();
-    if (jj_2_816(2)) {
+    if (jj_2_818(2)) {
       jj_consume_token(CHARACTER);
       jj_consume_token(SET);
       charSetName = Identifier();
@@ -8075,17 +8089,17 @@ final String p;
     int precision = -1;
     SqlTypeName typeName;
     final Span s;
-    if (jj_2_817(2)) {
+    if (jj_2_819(2)) {
       jj_consume_token(DATE);
         typeName = SqlTypeName.DATE;
         {if (true) return new SqlBasicTypeNameSpec(typeName, getPos());}
-    } else if (jj_2_818(2)) {
+    } else if (jj_2_820(2)) {
       jj_consume_token(TIME);
              s = span();
       precision = PrecisionOpt();
       typeName = TimeZoneOpt(true);
         {if (true) return new SqlBasicTypeNameSpec(typeName, precision, s.end(this));}
-    } else if (jj_2_819(2)) {
+    } else if (jj_2_821(2)) {
       jj_consume_token(TIMESTAMP);
                   s = span();
       precision = PrecisionOpt();
@@ -8101,7 +8115,7 @@ final String p;
 // Parse an optional data type precision, default is -1.
   final public int PrecisionOpt() throws ParseException {
     int precision = -1;
-    if (jj_2_820(2)) {
+    if (jj_2_822(2)) {
       jj_consume_token(LPAREN);
       precision = UnsignedIntLiteral();
       jj_consume_token(RPAREN);
@@ -8119,14 +8133,14 @@ final String p;
 */
   final public SqlTypeName TimeZoneOpt(boolean timeType) throws ParseException {
     boolean local = false;
-    if (jj_2_822(3)) {
+    if (jj_2_824(3)) {
       jj_consume_token(WITHOUT);
       jj_consume_token(TIME);
       jj_consume_token(ZONE);
                               {if (true) return timeType ? SqlTypeName.TIME : SqlTypeName.TIMESTAMP;}
-    } else if (jj_2_823(2)) {
+    } else if (jj_2_825(2)) {
       jj_consume_token(WITH);
-      if (jj_2_821(2)) {
+      if (jj_2_823(2)) {
         jj_consume_token(LOCAL);
                        local = true;
       } else {
@@ -8176,14 +8190,14 @@ final String p;
     final SqlLiteral style; // mssql convert 'style' operand
     final SqlFunction f;
     final SqlNode format;
-    if (jj_2_860(2)) {
-      if (jj_2_824(2)) {
+    if (jj_2_862(2)) {
+      if (jj_2_826(2)) {
         jj_consume_token(CAST);
                     f = SqlStdOperatorTable.CAST;
-      } else if (jj_2_825(2)) {
+      } else if (jj_2_827(2)) {
         jj_consume_token(SAFE_CAST);
                         f = SqlLibraryOperators.SAFE_CAST;
-      } else if (jj_2_826(2)) {
+      } else if (jj_2_828(2)) {
         jj_consume_token(TRY_CAST);
                        f = SqlLibraryOperators.TRY_CAST;
       } else {
@@ -8194,10 +8208,10 @@ final String p;
       jj_consume_token(LPAREN);
       AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
       jj_consume_token(AS);
-      if (jj_2_827(2)) {
+      if (jj_2_829(2)) {
         dt = DataType();
                               args.add(dt);
-      } else if (jj_2_828(2)) {
+      } else if (jj_2_830(2)) {
         jj_consume_token(INTERVAL);
         e = IntervalQualifier();
                                                  args.add(e);
@@ -8205,7 +8219,7 @@ final String p;
         jj_consume_token(-1);
         throw new ParseException();
       }
-      if (jj_2_829(2)) {
+      if (jj_2_831(2)) {
         jj_consume_token(FORMAT);
         format = StringLiteral();
                                               args.add(format);
@@ -8214,7 +8228,7 @@ final String p;
       }
       jj_consume_token(RPAREN);
             {if (true) return f.createCall(s.end(this), args);}
-    } else if (jj_2_861(2)) {
+    } else if (jj_2_863(2)) {
       jj_consume_token(EXTRACT);
                     s = span();
       jj_consume_token(LPAREN);
@@ -8224,7 +8238,7 @@ final String p;
       AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
       jj_consume_token(RPAREN);
             {if (true) return SqlStdOperatorTable.EXTRACT.createCall(s.end(this), args);}
-    } else if (jj_2_862(2)) {
+    } else if (jj_2_864(2)) {
       jj_consume_token(POSITION);
                      s = span();
       jj_consume_token(LPAREN);
@@ -8235,7 +8249,7 @@ final String p;
                                     args.add(e);
       jj_consume_token(IN);
       AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
-      if (jj_2_830(2)) {
+      if (jj_2_832(2)) {
         jj_consume_token(FROM);
         AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
       } else {
@@ -8243,30 +8257,30 @@ final String p;
       }
       jj_consume_token(RPAREN);
             {if (true) return SqlStdOperatorTable.POSITION.createCall(s.end(this), args);}
-    } else if (jj_2_863(2)) {
+    } else if (jj_2_865(2)) {
       jj_consume_token(CONVERT);
                     s = span();
       jj_consume_token(LPAREN);
-      if (jj_2_840(2)) {
+      if (jj_2_842(2)) {
         AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
-        if (jj_2_833(2)) {
+        if (jj_2_835(2)) {
           jj_consume_token(USING);
           name = SimpleIdentifier();
                                                     args.add(name);
           jj_consume_token(RPAREN);
                     {if (true) return SqlStdOperatorTable.TRANSLATE.createCall(s.end(this), args);}
-        } else if (jj_2_834(2)) {
+        } else if (jj_2_836(2)) {
           jj_consume_token(COMMA);
           e = SimpleIdentifier();
                                                  args.add(e);
-          if (jj_2_831(2)) {
+          if (jj_2_833(2)) {
             jj_consume_token(COMMA);
             e = SimpleIdentifier();
                                                      args.add(e);
             jj_consume_token(RPAREN);
                         SqlOperator op = SqlStdOperatorTable.getConvertFuncByConformance(this.conformance);
                         {if (true) return op.createCall(s.end(this), args);}
-          } else if (jj_2_832(2)) {
+          } else if (jj_2_834(2)) {
             jj_consume_token(RPAREN);
                         {if (true) return SqlLibraryOperators.CONVERT_ORACLE.createCall(s.end(this), args);}
           } else {
@@ -8277,11 +8291,11 @@ final String p;
           jj_consume_token(-1);
           throw new ParseException();
         }
-      } else if (jj_2_841(2)) {
-        if (jj_2_835(2)) {
+      } else if (jj_2_843(2)) {
+        if (jj_2_837(2)) {
           dt = DataType();
                                   args.add(dt);
-        } else if (jj_2_836(2)) {
+        } else if (jj_2_838(2)) {
           jj_consume_token(INTERVAL);
           e = IntervalQualifier();
                                                      args.add(e);
@@ -8291,12 +8305,12 @@ final String p;
         }
         jj_consume_token(COMMA);
         AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
-        if (jj_2_839(2)) {
+        if (jj_2_841(2)) {
           jj_consume_token(COMMA);
-          if (jj_2_837(2)) {
+          if (jj_2_839(2)) {
             style = UnsignedNumericLiteral();
                                                        args.add(style);
-          } else if (jj_2_838(2)) {
+          } else if (jj_2_840(2)) {
             jj_consume_token(NULL);
                              args.add(SqlLiteral.createNull(getPos()));
           } else {
@@ -8312,22 +8326,22 @@ final String p;
         jj_consume_token(-1);
         throw new ParseException();
       }
-    } else if (jj_2_864(2)) {
+    } else if (jj_2_866(2)) {
       jj_consume_token(TRANSLATE);
                       s = span();
       jj_consume_token(LPAREN);
       AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
-      if (jj_2_843(2)) {
+      if (jj_2_845(2)) {
         jj_consume_token(USING);
         name = SimpleIdentifier();
                                                 args.add(name);
         jj_consume_token(RPAREN);
                 {if (true) return SqlStdOperatorTable.TRANSLATE.createCall(s.end(this),
                     args);}
-      } else if (jj_2_844(2)) {
+      } else if (jj_2_846(2)) {
         label_61:
         while (true) {
-          if (jj_2_842(2)) {
+          if (jj_2_844(2)) {
             ;
           } else {
             break label_61;
@@ -8342,7 +8356,7 @@ final String p;
         jj_consume_token(-1);
         throw new ParseException();
       }
-    } else if (jj_2_865(2)) {
+    } else if (jj_2_867(2)) {
       jj_consume_token(OVERLAY);
                     s = span();
       jj_consume_token(LPAREN);
@@ -8351,7 +8365,7 @@ final String p;
       AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
       jj_consume_token(FROM);
       AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
-      if (jj_2_845(2)) {
+      if (jj_2_847(2)) {
         jj_consume_token(FOR);
         AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
       } else {
@@ -8359,15 +8373,15 @@ final String p;
       }
       jj_consume_token(RPAREN);
             {if (true) return SqlStdOperatorTable.OVERLAY.createCall(s.end(this), args);}
-    } else if (jj_2_866(2)) {
+    } else if (jj_2_868(2)) {
       jj_consume_token(FLOOR);
                   s = span();
       e = FloorCeilOptions(s, true);
             {if (true) return e;}
-    } else if (jj_2_867(2)) {
-      if (jj_2_846(2)) {
+    } else if (jj_2_869(2)) {
+      if (jj_2_848(2)) {
         jj_consume_token(CEIL);
-      } else if (jj_2_847(2)) {
+      } else if (jj_2_849(2)) {
         jj_consume_token(CEILING);
       } else {
         jj_consume_token(-1);
@@ -8376,24 +8390,24 @@ final String p;
                                 s = span();
       e = FloorCeilOptions(s, false);
             {if (true) return e;}
-    } else if (jj_2_868(2)) {
+    } else if (jj_2_870(2)) {
       jj_consume_token(SUBSTRING);
                       s = span();
       jj_consume_token(LPAREN);
       AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
-      if (jj_2_848(2)) {
+      if (jj_2_850(2)) {
         jj_consume_token(FROM);
-      } else if (jj_2_849(2)) {
+      } else if (jj_2_851(2)) {
         jj_consume_token(COMMA);
       } else {
         jj_consume_token(-1);
         throw new ParseException();
       }
       AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
-      if (jj_2_852(2)) {
-        if (jj_2_850(2)) {
+      if (jj_2_854(2)) {
+        if (jj_2_852(2)) {
           jj_consume_token(FOR);
-        } else if (jj_2_851(2)) {
+        } else if (jj_2_853(2)) {
           jj_consume_token(COMMA);
         } else {
           jj_consume_token(-1);
@@ -8406,23 +8420,23 @@ final String p;
       jj_consume_token(RPAREN);
             {if (true) return SqlStdOperatorTable.SUBSTRING.createCall(
                 s.end(this), args);}
-    } else if (jj_2_869(2)) {
+    } else if (jj_2_871(2)) {
       jj_consume_token(TRIM);
             SqlLiteral flag = null;
             SqlNode trimChars = null;
             SqlParserPos fromPos = SqlParserPos.ZERO;
             s = span();
       jj_consume_token(LPAREN);
-      if (jj_2_858(2)) {
-        if (jj_2_853(2)) {
+      if (jj_2_860(2)) {
+        if (jj_2_855(2)) {
           jj_consume_token(BOTH);
                         s.add(this);
                         flag = SqlTrimFunction.Flag.BOTH.symbol(getPos());
-        } else if (jj_2_854(2)) {
+        } else if (jj_2_856(2)) {
           jj_consume_token(TRAILING);
                         s.add(this);
                         flag = SqlTrimFunction.Flag.TRAILING.symbol(getPos());
-        } else if (jj_2_855(2)) {
+        } else if (jj_2_857(2)) {
           jj_consume_token(LEADING);
                         s.add(this);
                         flag = SqlTrimFunction.Flag.LEADING.symbol(getPos());
@@ -8430,7 +8444,7 @@ final String p;
           jj_consume_token(-1);
           throw new ParseException();
         }
-        if (jj_2_856(2)) {
+        if (jj_2_858(2)) {
           trimChars = Expression(ExprContext.ACCEPT_SUB_QUERY);
         } else {
           ;
@@ -8438,9 +8452,9 @@ final String p;
         jj_consume_token(FROM);
                          fromPos = getPos();
         e = Expression(ExprContext.ACCEPT_SUB_QUERY);
-      } else if (jj_2_859(2)) {
+      } else if (jj_2_861(2)) {
         e = Expression(ExprContext.ACCEPT_SUB_QUERY);
-        if (jj_2_857(2)) {
+        if (jj_2_859(2)) {
           jj_consume_token(FROM);
                              trimChars = e; fromPos = getPos();
           e = Expression(ExprContext.ACCEPT_SUB_QUERY);
@@ -8460,67 +8474,67 @@ final String p;
             args.add(trimChars);
             args.add(e);
             {if (true) return SqlStdOperatorTable.TRIM.createCall(s.end(this), args);}
-    } else if (jj_2_870(2)) {
+    } else if (jj_2_872(2)) {
       node = ContainsSubstrFunctionCall();
                                               {if (true) return node;}
-    } else if (jj_2_871(2)) {
+    } else if (jj_2_873(2)) {
       node = DateTimeConstructorCall();
                                            {if (true) return node;}
-    } else if (jj_2_872(2)) {
+    } else if (jj_2_874(2)) {
       node = DateDiffFunctionCall();
                                         {if (true) return node;}
-    } else if (jj_2_873(2)) {
+    } else if (jj_2_875(2)) {
       node = DateTruncFunctionCall();
                                          {if (true) return node;}
-    } else if (jj_2_874(2)) {
+    } else if (jj_2_876(2)) {
       node = DatetimeTruncFunctionCall();
                                              {if (true) return node;}
-    } else if (jj_2_875(2)) {
+    } else if (jj_2_877(2)) {
       node = TimestampAddFunctionCall();
                                             {if (true) return node;}
-    } else if (jj_2_876(2)) {
+    } else if (jj_2_878(2)) {
       node = DatetimeDiffFunctionCall();
                                             {if (true) return node;}
-    } else if (jj_2_877(2)) {
+    } else if (jj_2_879(2)) {
       node = TimestampDiffFunctionCall();
                                              {if (true) return node;}
-    } else if (jj_2_878(2)) {
+    } else if (jj_2_880(2)) {
       node = TimestampDiff3FunctionCall();
                                               {if (true) return node;}
-    } else if (jj_2_879(2)) {
+    } else if (jj_2_881(2)) {
       node = TimestampTruncFunctionCall();
                                               {if (true) return node;}
-    } else if (jj_2_880(2)) {
+    } else if (jj_2_882(2)) {
       node = TimeDiffFunctionCall();
                                         {if (true) return node;}
-    } else if (jj_2_881(2)) {
+    } else if (jj_2_883(2)) {
       node = TimeTruncFunctionCall();
                                          {if (true) return node;}
-    } else if (jj_2_882(2)) {
+    } else if (jj_2_884(2)) {
       node = MatchRecognizeFunctionCall();
                                               {if (true) return node;}
-    } else if (jj_2_883(2)) {
+    } else if (jj_2_885(2)) {
       node = JsonExistsFunctionCall();
                                           {if (true) return node;}
-    } else if (jj_2_884(2)) {
+    } else if (jj_2_886(2)) {
       node = JsonValueFunctionCall();
                                          {if (true) return node;}
-    } else if (jj_2_885(2)) {
+    } else if (jj_2_887(2)) {
       node = JsonQueryFunctionCall();
                                          {if (true) return node;}
-    } else if (jj_2_886(2)) {
+    } else if (jj_2_888(2)) {
       node = JsonObjectFunctionCall();
                                           {if (true) return node;}
-    } else if (jj_2_887(2)) {
+    } else if (jj_2_889(2)) {
       node = JsonObjectAggFunctionCall();
                                              {if (true) return node;}
-    } else if (jj_2_888(2)) {
+    } else if (jj_2_890(2)) {
       node = JsonArrayFunctionCall();
                                          {if (true) return node;}
-    } else if (jj_2_889(2)) {
+    } else if (jj_2_891(2)) {
       node = JsonArrayAggFunctionCall();
                                             {if (true) return node;}
-    } else if (jj_2_890(2)) {
+    } else if (jj_2_892(2)) {
       node = GroupByWindowingCall();
                                         {if (true) return node;}
     } else {
@@ -8532,15 +8546,15 @@ final String p;
 
   final public SqlJsonEncoding JsonRepresentation() throws ParseException {
     jj_consume_token(JSON);
-    if (jj_2_894(2)) {
+    if (jj_2_896(2)) {
       jj_consume_token(ENCODING);
-      if (jj_2_891(2)) {
+      if (jj_2_893(2)) {
         jj_consume_token(UTF8);
                      {if (true) return SqlJsonEncoding.UTF8;}
-      } else if (jj_2_892(2)) {
+      } else if (jj_2_894(2)) {
         jj_consume_token(UTF16);
                       {if (true) return SqlJsonEncoding.UTF16;}
-      } else if (jj_2_893(2)) {
+      } else if (jj_2_895(2)) {
         jj_consume_token(UTF32);
                       {if (true) return SqlJsonEncoding.UTF32;}
       } else {
@@ -8570,7 +8584,7 @@ final String p;
   final public SqlDataTypeSpec JsonOutputClause() throws ParseException {
     SqlDataTypeSpec dataType;
     dataType = JsonReturningClause();
-    if (jj_2_895(2)) {
+    if (jj_2_897(2)) {
       jj_consume_token(FORMAT);
       JsonRepresentation();
     } else {
@@ -8593,7 +8607,7 @@ final String p;
     AddExpression(args, ExprContext.ACCEPT_NON_QUERY);
     jj_consume_token(COMMA);
     AddExpression(args, ExprContext.ACCEPT_NON_QUERY);
-    if (jj_2_897(2)) {
+    if (jj_2_899(2)) {
       jj_consume_token(PASSING);
       e = Expression(ExprContext.ACCEPT_NON_QUERY);
 
@@ -8602,7 +8616,7 @@ final String p;
 
       label_62:
       while (true) {
-        if (jj_2_896(2)) {
+        if (jj_2_898(2)) {
           ;
         } else {
           break label_62;
@@ -8622,16 +8636,16 @@ final String p;
   }
 
   final public SqlJsonExistsErrorBehavior JsonExistsErrorBehavior() throws ParseException {
-    if (jj_2_898(2)) {
+    if (jj_2_900(2)) {
       jj_consume_token(TRUE);
              {if (true) return SqlJsonExistsErrorBehavior.TRUE;}
-    } else if (jj_2_899(2)) {
+    } else if (jj_2_901(2)) {
       jj_consume_token(FALSE);
               {if (true) return SqlJsonExistsErrorBehavior.FALSE;}
-    } else if (jj_2_900(2)) {
+    } else if (jj_2_902(2)) {
       jj_consume_token(UNKNOWN);
                 {if (true) return SqlJsonExistsErrorBehavior.UNKNOWN;}
-    } else if (jj_2_901(2)) {
+    } else if (jj_2_903(2)) {
       jj_consume_token(ERROR);
               {if (true) return SqlJsonExistsErrorBehavior.ERROR;}
     } else {
@@ -8651,7 +8665,7 @@ final String p;
     jj_consume_token(LPAREN);
     commonSyntax = JsonApiCommonSyntax();
         args.addAll(commonSyntax);
-    if (jj_2_902(2)) {
+    if (jj_2_904(2)) {
       errorBehavior = JsonExistsErrorBehavior();
                                                     args.add(errorBehavior.symbol(getPos()));
       jj_consume_token(ON);
@@ -8666,13 +8680,13 @@ final String p;
 
   final public List<SqlNode> JsonValueEmptyOrErrorBehavior() throws ParseException {
     final List<SqlNode> list = new ArrayList<SqlNode>();
-    if (jj_2_903(2)) {
+    if (jj_2_905(2)) {
       jj_consume_token(ERROR);
             list.add(SqlJsonValueEmptyOrErrorBehavior.ERROR.symbol(getPos()));
-    } else if (jj_2_904(2)) {
+    } else if (jj_2_906(2)) {
       jj_consume_token(NULL);
             list.add(SqlJsonValueEmptyOrErrorBehavior.NULL.symbol(getPos()));
-    } else if (jj_2_905(2)) {
+    } else if (jj_2_907(2)) {
       jj_consume_token(DEFAULT_);
             list.add(SqlJsonValueEmptyOrErrorBehavior.DEFAULT.symbol(getPos()));
       AddExpression(list, ExprContext.ACCEPT_NON_QUERY);
@@ -8681,10 +8695,10 @@ final String p;
       throw new ParseException();
     }
     jj_consume_token(ON);
-    if (jj_2_906(2)) {
+    if (jj_2_908(2)) {
       jj_consume_token(EMPTY);
             list.add(SqlJsonEmptyOrError.EMPTY.symbol(getPos()));
-    } else if (jj_2_907(2)) {
+    } else if (jj_2_909(2)) {
       jj_consume_token(ERROR);
             list.add(SqlJsonEmptyOrError.ERROR.symbol(getPos()));
     } else {
@@ -8706,7 +8720,7 @@ final String p;
     jj_consume_token(LPAREN);
     commonSyntax = JsonApiCommonSyntax();
         args.addAll(commonSyntax);
-    if (jj_2_908(2)) {
+    if (jj_2_910(2)) {
       e = JsonReturningClause();
             args.add(SqlJsonValueReturning.RETURNING.symbol(getPos()));
             args.add(e);
@@ -8715,7 +8729,7 @@ final String p;
     }
     label_63:
     while (true) {
-      if (jj_2_909(2)) {
+      if (jj_2_911(2)) {
         ;
       } else {
         break label_63;
@@ -8730,17 +8744,17 @@ final String p;
 
   final public List<SqlNode> JsonQueryEmptyOrErrorBehavior() throws ParseException {
     final List<SqlNode> list = new ArrayList<SqlNode>();
-    if (jj_2_910(2)) {
+    if (jj_2_912(2)) {
       jj_consume_token(ERROR);
             list.add(SqlLiteral.createSymbol(SqlJsonQueryEmptyOrErrorBehavior.ERROR, getPos()));
-    } else if (jj_2_911(2)) {
+    } else if (jj_2_913(2)) {
       jj_consume_token(NULL);
             list.add(SqlLiteral.createSymbol(SqlJsonQueryEmptyOrErrorBehavior.NULL, getPos()));
-    } else if (jj_2_912(2)) {
+    } else if (jj_2_914(2)) {
       jj_consume_token(EMPTY);
       jj_consume_token(ARRAY);
             list.add(SqlLiteral.createSymbol(SqlJsonQueryEmptyOrErrorBehavior.EMPTY_ARRAY, getPos()));
-    } else if (jj_2_913(2)) {
+    } else if (jj_2_915(2)) {
       jj_consume_token(EMPTY);
       jj_consume_token(OBJECT);
             list.add(SqlLiteral.createSymbol(SqlJsonQueryEmptyOrErrorBehavior.EMPTY_OBJECT, getPos()));
@@ -8749,10 +8763,10 @@ final String p;
       throw new ParseException();
     }
     jj_consume_token(ON);
-    if (jj_2_914(2)) {
+    if (jj_2_916(2)) {
       jj_consume_token(EMPTY);
             list.add(SqlLiteral.createSymbol(SqlJsonEmptyOrError.EMPTY, getPos()));
-    } else if (jj_2_915(2)) {
+    } else if (jj_2_917(2)) {
       jj_consume_token(ERROR);
             list.add(SqlLiteral.createSymbol(SqlJsonEmptyOrError.ERROR, getPos()));
     } else {
@@ -8764,31 +8778,31 @@ final String p;
   }
 
   final public SqlNode JsonQueryWrapperBehavior() throws ParseException {
-    if (jj_2_920(2)) {
+    if (jj_2_922(2)) {
       jj_consume_token(WITHOUT);
-      if (jj_2_916(2)) {
+      if (jj_2_918(2)) {
         jj_consume_token(ARRAY);
       } else {
         ;
       }
         {if (true) return SqlLiteral.createSymbol(SqlJsonQueryWrapperBehavior.WITHOUT_ARRAY, getPos());}
-    } else if (jj_2_921(2)) {
+    } else if (jj_2_923(2)) {
       jj_consume_token(WITH);
       jj_consume_token(CONDITIONAL);
-      if (jj_2_917(2)) {
+      if (jj_2_919(2)) {
         jj_consume_token(ARRAY);
       } else {
         ;
       }
         {if (true) return SqlLiteral.createSymbol(SqlJsonQueryWrapperBehavior.WITH_CONDITIONAL_ARRAY, getPos());}
-    } else if (jj_2_922(2)) {
+    } else if (jj_2_924(2)) {
       jj_consume_token(WITH);
-      if (jj_2_918(2)) {
+      if (jj_2_920(2)) {
         jj_consume_token(UNCONDITIONAL);
       } else {
         ;
       }
-      if (jj_2_919(2)) {
+      if (jj_2_921(2)) {
         jj_consume_token(ARRAY);
       } else {
         ;
@@ -8813,13 +8827,13 @@ final String p;
     commonSyntax = JsonApiCommonSyntax();
         args[0] = commonSyntax.get(0);
         args[1] = commonSyntax.get(1);
-    if (jj_2_923(2)) {
+    if (jj_2_925(2)) {
       e = JsonReturningClause();
             args[5] = e;
     } else {
       ;
     }
-    if (jj_2_924(2)) {
+    if (jj_2_926(2)) {
       e = JsonQueryWrapperBehavior();
       jj_consume_token(WRAPPER);
             args[2] = e;
@@ -8828,7 +8842,7 @@ final String p;
     }
     label_64:
     while (true) {
-      if (jj_2_925(2)) {
+      if (jj_2_927(2)) {
         ;
       } else {
         break label_64;
@@ -8861,7 +8875,7 @@ final String p;
     final List<SqlNode> list = new ArrayList<SqlNode>();
     final SqlNode e;
     boolean kvMode = false;
-    if (jj_2_926(2)) {
+    if (jj_2_928(2)) {
       jj_consume_token(KEY);
                 kvMode = true;
     } else {
@@ -8869,14 +8883,14 @@ final String p;
     }
     e = JsonName();
         list.add(e);
-    if (jj_2_927(2)) {
+    if (jj_2_929(2)) {
       jj_consume_token(VALUE);
-    } else if (jj_2_928(2)) {
+    } else if (jj_2_930(2)) {
       jj_consume_token(COMMA);
             if (kvMode || this.conformance.isColonFieldAccessAllowed()) {
                 {if (true) throw SqlUtil.newContextException(getPos(), RESOURCE.illegalComma());}
             }
-    } else if (jj_2_929(2)) {
+    } else if (jj_2_931(2)) {
       jj_consume_token(COLON);
             if (kvMode || this.conformance.isColonFieldAccessAllowed()) {
                 {if (true) throw SqlUtil.newContextException(getPos(), RESOURCE.illegalColon());}
@@ -8891,12 +8905,12 @@ final String p;
   }
 
   final public SqlNode JsonConstructorNullClause() throws ParseException {
-    if (jj_2_930(2)) {
+    if (jj_2_932(2)) {
       jj_consume_token(NULL);
       jj_consume_token(ON);
       jj_consume_token(NULL);
         {if (true) return SqlLiteral.createSymbol(SqlJsonConstructorNullClause.NULL_ON_NULL, getPos());}
-    } else if (jj_2_931(2)) {
+    } else if (jj_2_933(2)) {
       jj_consume_token(ABSENT);
       jj_consume_token(ON);
       jj_consume_token(NULL);
@@ -8917,12 +8931,12 @@ final String p;
     jj_consume_token(JSON_OBJECT);
                     span = span();
     jj_consume_token(LPAREN);
-    if (jj_2_933(2)) {
+    if (jj_2_935(2)) {
       list = JsonNameAndValue();
             nvArgs.addAll(list);
       label_65:
       while (true) {
-        if (jj_2_932(2)) {
+        if (jj_2_934(2)) {
           ;
         } else {
           break label_65;
@@ -8934,7 +8948,7 @@ final String p;
     } else {
       ;
     }
-    if (jj_2_934(2)) {
+    if (jj_2_936(2)) {
       e = JsonConstructorNullClause();
             otherArgs[0] = e;
     } else {
@@ -8961,7 +8975,7 @@ final String p;
     list = JsonNameAndValue();
         args[0] = list.get(0);
         args[1] = list.get(1);
-    if (jj_2_935(2)) {
+    if (jj_2_937(2)) {
       e = JsonConstructorNullClause();
             nullClause = (SqlJsonConstructorNullClause) ((SqlLiteral) e).getValue();
     } else {
@@ -8981,11 +8995,11 @@ final String p;
     jj_consume_token(JSON_ARRAY);
                    span = span();
     jj_consume_token(LPAREN);
-    if (jj_2_937(2)) {
+    if (jj_2_939(2)) {
       AddExpression(elements, ExprContext.ACCEPT_NON_QUERY);
       label_66:
       while (true) {
-        if (jj_2_936(2)) {
+        if (jj_2_938(2)) {
           ;
         } else {
           break label_66;
@@ -8996,7 +9010,7 @@ final String p;
     } else {
       ;
     }
-    if (jj_2_938(2)) {
+    if (jj_2_940(2)) {
       e = JsonConstructorNullClause();
             otherArgs[0] = e;
     } else {
@@ -9029,12 +9043,12 @@ final String p;
     jj_consume_token(LPAREN);
     e = Expression(ExprContext.ACCEPT_NON_QUERY);
         valueExpr = e;
-    if (jj_2_939(2)) {
+    if (jj_2_941(2)) {
       orderList = JsonArrayAggOrderByClause();
     } else {
                                                   orderList = null;
     }
-    if (jj_2_940(2)) {
+    if (jj_2_942(2)) {
       e = JsonConstructorNullClause();
             nullClause = (SqlJsonConstructorNullClause) ((SqlLiteral) e).getValue();
     } else {
@@ -9043,7 +9057,7 @@ final String p;
     jj_consume_token(RPAREN);
         aggCall = SqlStdOperatorTable.JSON_ARRAYAGG.with(nullClause)
             .createCall(span.end(this), valueExpr, orderList);
-    if (jj_2_941(2)) {
+    if (jj_2_943(2)) {
       e = withinGroup(aggCall);
             if (orderList != null) {
                 {if (true) throw SqlUtil.newContextException(span.pos().plus(e.getParserPosition()),
@@ -9076,9 +9090,9 @@ final String p;
     AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
     jj_consume_token(COMMA);
     AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
-    if (jj_2_942(2)) {
+    if (jj_2_944(2)) {
       jj_consume_token(RPAREN);
-    } else if (jj_2_943(2)) {
+    } else if (jj_2_945(2)) {
       jj_consume_token(COMMA);
       jj_consume_token(JSON_SCOPE);
       jj_consume_token(NAMED_ARGUMENT_ASSIGNMENT);
@@ -9217,10 +9231,10 @@ final String p;
     jj_consume_token(LPAREN);
     AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
     jj_consume_token(COMMA);
-    if (jj_2_944(2)) {
+    if (jj_2_946(2)) {
       unit = TimeUnit();
                             args.add(unit);
-    } else if (jj_2_945(2)) {
+    } else if (jj_2_947(2)) {
       AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
     } else {
       jj_consume_token(-1);
@@ -9318,13 +9332,13 @@ final String p;
     final Span s;
     final List<SqlNode> args;
     final SqlOperator op;
-    if (jj_2_946(2)) {
+    if (jj_2_948(2)) {
       jj_consume_token(TUMBLE);
                    op = SqlStdOperatorTable.TUMBLE_OLD;
-    } else if (jj_2_947(2)) {
+    } else if (jj_2_949(2)) {
       jj_consume_token(HOP);
                 op = SqlStdOperatorTable.HOP_OLD;
-    } else if (jj_2_948(2)) {
+    } else if (jj_2_950(2)) {
       jj_consume_token(SESSION);
                     op = SqlStdOperatorTable.SESSION_OLD;
     } else {
@@ -9340,23 +9354,23 @@ final String p;
   final public SqlCall MatchRecognizeFunctionCall() throws ParseException {
     final SqlCall func;
     final Span s;
-    if (jj_2_949(2)) {
+    if (jj_2_951(2)) {
       jj_consume_token(CLASSIFIER);
                        s = span();
       jj_consume_token(LPAREN);
       jj_consume_token(RPAREN);
             func = SqlStdOperatorTable.CLASSIFIER.createCall(s.end(this));
-    } else if (jj_2_950(2)) {
+    } else if (jj_2_952(2)) {
       jj_consume_token(MATCH_NUMBER);
                          s = span();
       jj_consume_token(LPAREN);
       jj_consume_token(RPAREN);
             func = SqlStdOperatorTable.MATCH_NUMBER.createCall(s.end(this));
-    } else if (jj_2_951(3)) {
+    } else if (jj_2_953(3)) {
       func = MatchRecognizeNavigationLogical();
-    } else if (jj_2_952(2)) {
+    } else if (jj_2_954(2)) {
       func = MatchRecognizeNavigationPhysical();
-    } else if (jj_2_953(2)) {
+    } else if (jj_2_955(2)) {
       func = MatchRecognizeCallWithModifier();
     } else {
       jj_consume_token(-1);
@@ -9370,10 +9384,10 @@ final String p;
     final Span s;
     final SqlOperator runningOp;
     final SqlNode e;
-    if (jj_2_954(2)) {
+    if (jj_2_956(2)) {
       jj_consume_token(RUNNING);
                     runningOp = SqlStdOperatorTable.RUNNING;
-    } else if (jj_2_955(2)) {
+    } else if (jj_2_957(2)) {
       jj_consume_token(FINAL);
                   runningOp = SqlStdOperatorTable.FINAL;
     } else {
@@ -9393,19 +9407,19 @@ final String p;
     final SqlOperator runningOp;
     final List<SqlNode> args = new ArrayList<SqlNode>();
     SqlNode e;
-    if (jj_2_956(2)) {
+    if (jj_2_958(2)) {
       jj_consume_token(RUNNING);
                     runningOp = SqlStdOperatorTable.RUNNING; s.add(this);
-    } else if (jj_2_957(2)) {
+    } else if (jj_2_959(2)) {
       jj_consume_token(FINAL);
                   runningOp = SqlStdOperatorTable.FINAL; s.add(this);
     } else {
           runningOp = null;
     }
-    if (jj_2_958(2)) {
+    if (jj_2_960(2)) {
       jj_consume_token(FIRST);
                   funcOp = SqlStdOperatorTable.FIRST;
-    } else if (jj_2_959(2)) {
+    } else if (jj_2_961(2)) {
       jj_consume_token(LAST);
                  funcOp = SqlStdOperatorTable.LAST;
     } else {
@@ -9415,7 +9429,7 @@ final String p;
       s.add(this);
     jj_consume_token(LPAREN);
     AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
-    if (jj_2_960(2)) {
+    if (jj_2_962(2)) {
       jj_consume_token(COMMA);
       e = NumericLiteral();
                                        args.add(e);
@@ -9437,10 +9451,10 @@ final String p;
     final SqlOperator funcOp;
     final List<SqlNode> args = new ArrayList<SqlNode>();
     SqlNode e;
-    if (jj_2_961(2)) {
+    if (jj_2_963(2)) {
       jj_consume_token(PREV);
                  funcOp = SqlStdOperatorTable.PREV;
-    } else if (jj_2_962(2)) {
+    } else if (jj_2_964(2)) {
       jj_consume_token(NEXT);
                  funcOp = SqlStdOperatorTable.NEXT;
     } else {
@@ -9450,7 +9464,7 @@ final String p;
       s = span();
     jj_consume_token(LPAREN);
     AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
-    if (jj_2_963(2)) {
+    if (jj_2_965(2)) {
       jj_consume_token(COMMA);
       e = NumericLiteral();
                                        args.add(e);
@@ -9492,12 +9506,12 @@ final String p;
 
   final public Pair<SqlParserPos, SqlOperator> NullTreatment() throws ParseException {
     final Span span;
-    if (jj_2_964(2)) {
+    if (jj_2_966(2)) {
       jj_consume_token(IGNORE);
                span = span();
       jj_consume_token(NULLS);
         {if (true) return Pair.of(span.end(this), SqlStdOperatorTable.IGNORE_NULLS);}
-    } else if (jj_2_965(2)) {
+    } else if (jj_2_967(2)) {
       jj_consume_token(RESPECT);
                 span = span();
       jj_consume_token(NULLS);
@@ -9537,7 +9551,7 @@ final String p;
     final SqlNode filter;
     final Span overSpan;
     final SqlNode over;
-    if (jj_2_966(2)) {
+    if (jj_2_968(2)) {
       call = StringAggFunctionCall();
     } else {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -9547,7 +9561,7 @@ final String p;
         break;
       default:
         jj_la1[8] = jj_gen;
-        if (jj_2_967(2)) {
+        if (jj_2_969(2)) {
           call = NamedCall();
         } else {
           jj_consume_token(-1);
@@ -9555,23 +9569,23 @@ final String p;
         }
       }
     }
-    if (jj_2_968(2)) {
+    if (jj_2_970(2)) {
       call = nullTreatment(call);
     } else {
       ;
     }
-    if (jj_2_969(2)) {
+    if (jj_2_971(2)) {
       // decide between WITHIN DISTINCT and WITHIN GROUP
               call = withinDistinct(call);
     } else {
       ;
     }
-    if (jj_2_970(2)) {
+    if (jj_2_972(2)) {
       call = withinGroup(call);
     } else {
       ;
     }
-    if (jj_2_971(2)) {
+    if (jj_2_973(2)) {
       jj_consume_token(FILTER);
                    filterSpan = span();
       jj_consume_token(LPAREN);
@@ -9583,12 +9597,12 @@ final String p;
     } else {
       ;
     }
-    if (jj_2_974(2)) {
+    if (jj_2_976(2)) {
       jj_consume_token(OVER);
                  overSpan = span();
-      if (jj_2_972(2)) {
+      if (jj_2_974(2)) {
         over = SimpleIdentifier();
-      } else if (jj_2_973(2)) {
+      } else if (jj_2_975(2)) {
         over = WindowSpecification();
       } else {
         jj_consume_token(-1);
@@ -9608,7 +9622,7 @@ final String p;
     final Span s;
     final List<SqlNode> args;
     SqlLiteral quantifier = null;
-    if (jj_2_975(2)) {
+    if (jj_2_977(2)) {
       jj_consume_token(SPECIFIC);
             funcType = SqlFunctionCategory.USER_DEFINED_SPECIFIC_FUNCTION;
     } else {
@@ -9616,16 +9630,16 @@ final String p;
     }
     qualifiedName = FunctionName();
         s = span();
-    if (jj_2_976(2)) {
+    if (jj_2_978(2)) {
       jj_consume_token(LPAREN);
       jj_consume_token(STAR);
             args = ImmutableList.of(SqlIdentifier.star(getPos()));
       jj_consume_token(RPAREN);
-    } else if (jj_2_977(2)) {
+    } else if (jj_2_979(2)) {
       jj_consume_token(LPAREN);
       jj_consume_token(RPAREN);
             args = ImmutableList.of();
-    } else if (jj_2_978(2)) {
+    } else if (jj_2_980(2)) {
       args = FunctionParameterList(ExprContext.ACCEPT_SUB_QUERY);
             quantifier = (SqlLiteral) args.get(0);
             args.remove(0);
@@ -9648,7 +9662,7 @@ final String p;
     final Span s1;
     jj_consume_token(LPAREN);
     AddExpression(args, ExprContext.ACCEPT_SUB_QUERY);
-    if (jj_2_979(2)) {
+    if (jj_2_981(2)) {
       jj_consume_token(TO);
       unit = TimeUnitOrName();
             args.add(unit);
@@ -9658,12 +9672,12 @@ final String p;
     jj_consume_token(RPAREN);
         SqlOperator op = SqlStdOperatorTable.floorCeil(floorFlag, this.conformance);
         function =  op.createCall(s.end(this), args);
-    if (jj_2_982(2)) {
+    if (jj_2_984(2)) {
       jj_consume_token(OVER);
                  s1 = span();
-      if (jj_2_980(2)) {
+      if (jj_2_982(2)) {
         e = SimpleIdentifier();
-      } else if (jj_2_981(2)) {
+      } else if (jj_2_983(2)) {
         e = WindowSpecification();
       } else {
         jj_consume_token(-1);
@@ -9691,9 +9705,9 @@ final String p;
  */
   final public SqlIdentifier FunctionName() throws ParseException {
     SqlIdentifier qualifiedName;
-    if (jj_2_983(2)) {
+    if (jj_2_985(2)) {
       qualifiedName = CompoundIdentifier();
-    } else if (jj_2_984(2)) {
+    } else if (jj_2_986(2)) {
       qualifiedName = ReservedFunctionName();
     } else {
       jj_consume_token(-1);
@@ -9707,135 +9721,135 @@ final String p;
  * Parses a reserved word which is used as the name of a function.
  */
   final public SqlIdentifier ReservedFunctionName() throws ParseException {
-    if (jj_2_985(2)) {
+    if (jj_2_987(2)) {
       jj_consume_token(ABS);
-    } else if (jj_2_986(2)) {
+    } else if (jj_2_988(2)) {
       jj_consume_token(AVG);
-    } else if (jj_2_987(2)) {
+    } else if (jj_2_989(2)) {
       jj_consume_token(CARDINALITY);
-    } else if (jj_2_988(2)) {
+    } else if (jj_2_990(2)) {
       jj_consume_token(CEILING);
-    } else if (jj_2_989(2)) {
+    } else if (jj_2_991(2)) {
       jj_consume_token(CHAR);
-    } else if (jj_2_990(2)) {
+    } else if (jj_2_992(2)) {
       jj_consume_token(CHAR_LENGTH);
-    } else if (jj_2_991(2)) {
+    } else if (jj_2_993(2)) {
       jj_consume_token(CHARACTER_LENGTH);
-    } else if (jj_2_992(2)) {
+    } else if (jj_2_994(2)) {
       jj_consume_token(COALESCE);
-    } else if (jj_2_993(2)) {
+    } else if (jj_2_995(2)) {
       jj_consume_token(COLLECT);
-    } else if (jj_2_994(2)) {
+    } else if (jj_2_996(2)) {
       jj_consume_token(COVAR_POP);
-    } else if (jj_2_995(2)) {
+    } else if (jj_2_997(2)) {
       jj_consume_token(COVAR_SAMP);
-    } else if (jj_2_996(2)) {
+    } else if (jj_2_998(2)) {
       jj_consume_token(CUME_DIST);
-    } else if (jj_2_997(2)) {
+    } else if (jj_2_999(2)) {
       jj_consume_token(COUNT);
-    } else if (jj_2_998(2)) {
+    } else if (jj_2_1000(2)) {
       jj_consume_token(CURRENT_DATE);
-    } else if (jj_2_999(2)) {
+    } else if (jj_2_1001(2)) {
       jj_consume_token(CURRENT_TIME);
-    } else if (jj_2_1000(2)) {
+    } else if (jj_2_1002(2)) {
       jj_consume_token(CURRENT_TIMESTAMP);
-    } else if (jj_2_1001(2)) {
+    } else if (jj_2_1003(2)) {
       jj_consume_token(DENSE_RANK);
-    } else if (jj_2_1002(2)) {
+    } else if (jj_2_1004(2)) {
       jj_consume_token(ELEMENT);
-    } else if (jj_2_1003(2)) {
+    } else if (jj_2_1005(2)) {
       jj_consume_token(EVERY);
-    } else if (jj_2_1004(2)) {
+    } else if (jj_2_1006(2)) {
       jj_consume_token(EXP);
-    } else if (jj_2_1005(2)) {
+    } else if (jj_2_1007(2)) {
       jj_consume_token(FIRST_VALUE);
-    } else if (jj_2_1006(2)) {
+    } else if (jj_2_1008(2)) {
       jj_consume_token(FLOOR);
-    } else if (jj_2_1007(2)) {
+    } else if (jj_2_1009(2)) {
       jj_consume_token(FUSION);
-    } else if (jj_2_1008(2)) {
+    } else if (jj_2_1010(2)) {
       jj_consume_token(INTERSECTION);
-    } else if (jj_2_1009(2)) {
+    } else if (jj_2_1011(2)) {
       jj_consume_token(GROUPING);
-    } else if (jj_2_1010(2)) {
+    } else if (jj_2_1012(2)) {
       jj_consume_token(HOUR);
-    } else if (jj_2_1011(2)) {
+    } else if (jj_2_1013(2)) {
       jj_consume_token(LAG);
-    } else if (jj_2_1012(2)) {
+    } else if (jj_2_1014(2)) {
       jj_consume_token(LEAD);
-    } else if (jj_2_1013(2)) {
+    } else if (jj_2_1015(2)) {
       jj_consume_token(LEFT);
-    } else if (jj_2_1014(2)) {
+    } else if (jj_2_1016(2)) {
       jj_consume_token(LAST_VALUE);
-    } else if (jj_2_1015(2)) {
+    } else if (jj_2_1017(2)) {
       jj_consume_token(LN);
-    } else if (jj_2_1016(2)) {
+    } else if (jj_2_1018(2)) {
       jj_consume_token(LOCALTIME);
-    } else if (jj_2_1017(2)) {
+    } else if (jj_2_1019(2)) {
       jj_consume_token(LOCALTIMESTAMP);
-    } else if (jj_2_1018(2)) {
+    } else if (jj_2_1020(2)) {
       jj_consume_token(LOWER);
-    } else if (jj_2_1019(2)) {
+    } else if (jj_2_1021(2)) {
       jj_consume_token(MAX);
-    } else if (jj_2_1020(2)) {
+    } else if (jj_2_1022(2)) {
       jj_consume_token(MIN);
-    } else if (jj_2_1021(2)) {
+    } else if (jj_2_1023(2)) {
       jj_consume_token(MINUTE);
-    } else if (jj_2_1022(2)) {
+    } else if (jj_2_1024(2)) {
       jj_consume_token(MOD);
-    } else if (jj_2_1023(2)) {
+    } else if (jj_2_1025(2)) {
       jj_consume_token(MONTH);
-    } else if (jj_2_1024(2)) {
+    } else if (jj_2_1026(2)) {
       jj_consume_token(NTH_VALUE);
-    } else if (jj_2_1025(2)) {
+    } else if (jj_2_1027(2)) {
       jj_consume_token(NTILE);
-    } else if (jj_2_1026(2)) {
+    } else if (jj_2_1028(2)) {
       jj_consume_token(NULLIF);
-    } else if (jj_2_1027(2)) {
+    } else if (jj_2_1029(2)) {
       jj_consume_token(OCTET_LENGTH);
-    } else if (jj_2_1028(2)) {
+    } else if (jj_2_1030(2)) {
       jj_consume_token(PERCENTILE_CONT);
-    } else if (jj_2_1029(2)) {
+    } else if (jj_2_1031(2)) {
       jj_consume_token(PERCENTILE_DISC);
-    } else if (jj_2_1030(2)) {
+    } else if (jj_2_1032(2)) {
       jj_consume_token(PERCENT_RANK);
-    } else if (jj_2_1031(2)) {
+    } else if (jj_2_1033(2)) {
       jj_consume_token(POWER);
-    } else if (jj_2_1032(2)) {
+    } else if (jj_2_1034(2)) {
       jj_consume_token(RANK);
-    } else if (jj_2_1033(2)) {
+    } else if (jj_2_1035(2)) {
       jj_consume_token(REGR_COUNT);
-    } else if (jj_2_1034(2)) {
+    } else if (jj_2_1036(2)) {
       jj_consume_token(REGR_SXX);
-    } else if (jj_2_1035(2)) {
+    } else if (jj_2_1037(2)) {
       jj_consume_token(REGR_SYY);
-    } else if (jj_2_1036(2)) {
+    } else if (jj_2_1038(2)) {
       jj_consume_token(RIGHT);
-    } else if (jj_2_1037(2)) {
+    } else if (jj_2_1039(2)) {
       jj_consume_token(ROW_NUMBER);
-    } else if (jj_2_1038(2)) {
+    } else if (jj_2_1040(2)) {
       jj_consume_token(SECOND);
-    } else if (jj_2_1039(2)) {
+    } else if (jj_2_1041(2)) {
       jj_consume_token(SOME);
-    } else if (jj_2_1040(2)) {
+    } else if (jj_2_1042(2)) {
       jj_consume_token(SQRT);
-    } else if (jj_2_1041(2)) {
+    } else if (jj_2_1043(2)) {
       jj_consume_token(STDDEV_POP);
-    } else if (jj_2_1042(2)) {
+    } else if (jj_2_1044(2)) {
       jj_consume_token(STDDEV_SAMP);
-    } else if (jj_2_1043(2)) {
+    } else if (jj_2_1045(2)) {
       jj_consume_token(SUM);
-    } else if (jj_2_1044(2)) {
+    } else if (jj_2_1046(2)) {
       jj_consume_token(UPPER);
-    } else if (jj_2_1045(2)) {
+    } else if (jj_2_1047(2)) {
       jj_consume_token(TRUNCATE);
-    } else if (jj_2_1046(2)) {
+    } else if (jj_2_1048(2)) {
       jj_consume_token(USER);
-    } else if (jj_2_1047(2)) {
+    } else if (jj_2_1049(2)) {
       jj_consume_token(VAR_POP);
-    } else if (jj_2_1048(2)) {
+    } else if (jj_2_1050(2)) {
       jj_consume_token(VAR_SAMP);
-    } else if (jj_2_1049(2)) {
+    } else if (jj_2_1051(2)) {
       jj_consume_token(YEAR);
     } else {
       jj_consume_token(-1);
@@ -9846,33 +9860,33 @@ final String p;
   }
 
   final public SqlIdentifier ContextVariable() throws ParseException {
-    if (jj_2_1050(2)) {
+    if (jj_2_1052(2)) {
       jj_consume_token(CURRENT_CATALOG);
-    } else if (jj_2_1051(2)) {
+    } else if (jj_2_1053(2)) {
       jj_consume_token(CURRENT_DATE);
-    } else if (jj_2_1052(2)) {
+    } else if (jj_2_1054(2)) {
       jj_consume_token(CURRENT_DEFAULT_TRANSFORM_GROUP);
-    } else if (jj_2_1053(2)) {
+    } else if (jj_2_1055(2)) {
       jj_consume_token(CURRENT_PATH);
-    } else if (jj_2_1054(2)) {
+    } else if (jj_2_1056(2)) {
       jj_consume_token(CURRENT_ROLE);
-    } else if (jj_2_1055(2)) {
+    } else if (jj_2_1057(2)) {
       jj_consume_token(CURRENT_SCHEMA);
-    } else if (jj_2_1056(2)) {
+    } else if (jj_2_1058(2)) {
       jj_consume_token(CURRENT_TIME);
-    } else if (jj_2_1057(2)) {
+    } else if (jj_2_1059(2)) {
       jj_consume_token(CURRENT_TIMESTAMP);
-    } else if (jj_2_1058(2)) {
+    } else if (jj_2_1060(2)) {
       jj_consume_token(CURRENT_USER);
-    } else if (jj_2_1059(2)) {
+    } else if (jj_2_1061(2)) {
       jj_consume_token(LOCALTIME);
-    } else if (jj_2_1060(2)) {
+    } else if (jj_2_1062(2)) {
       jj_consume_token(LOCALTIMESTAMP);
-    } else if (jj_2_1061(2)) {
+    } else if (jj_2_1063(2)) {
       jj_consume_token(SESSION_USER);
-    } else if (jj_2_1062(2)) {
+    } else if (jj_2_1064(2)) {
       jj_consume_token(SYSTEM_USER);
-    } else if (jj_2_1063(2)) {
+    } else if (jj_2_1065(2)) {
       jj_consume_token(USER);
     } else {
       jj_consume_token(-1);
@@ -9943,11 +9957,11 @@ final String p;
       break;
     default:
       jj_la1[10] = jj_gen;
-      if (jj_2_1074(3)) {
+      if (jj_2_1076(3)) {
         call = TimestampDiffFunctionCall();
             name = call.getOperator().getName();
             args = new SqlNodeList(call.getOperandList(), getPos());
-      } else if (jj_2_1075(2)) {
+      } else if (jj_2_1077(2)) {
         jj_consume_token(CONVERT);
                     name = unquotedIdentifier();
         jj_consume_token(LPAREN);
@@ -9958,19 +9972,19 @@ final String p;
         tl = JdbcOdbcDataType();
                                   args.add(tl);
         jj_consume_token(RPAREN);
-      } else if (jj_2_1076(2)) {
+      } else if (jj_2_1078(2)) {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case INSERT:
         case LEFT:
         case RIGHT:
         case TRUNCATE:
-          if (jj_2_1064(2)) {
+          if (jj_2_1066(2)) {
             jj_consume_token(INSERT);
-          } else if (jj_2_1065(2)) {
+          } else if (jj_2_1067(2)) {
             jj_consume_token(LEFT);
-          } else if (jj_2_1066(2)) {
+          } else if (jj_2_1068(2)) {
             jj_consume_token(RIGHT);
-          } else if (jj_2_1067(2)) {
+          } else if (jj_2_1069(2)) {
             jj_consume_token(TRUNCATE);
           } else {
             jj_consume_token(-1);
@@ -9980,32 +9994,32 @@ final String p;
           break;
         default:
           jj_la1[9] = jj_gen;
-          if (jj_2_1068(2)) {
+          if (jj_2_1070(2)) {
             // For cases like {fn power(1,2)} and {fn lower('a')}
                         id = ReservedFunctionName();
                                           name = id.getSimple();
-          } else if (jj_2_1069(2)) {
+          } else if (jj_2_1071(2)) {
             // For cases like {fn substring('foo', 1,2)}
                         name = NonReservedJdbcFunctionName();
-          } else if (jj_2_1070(2)) {
+          } else if (jj_2_1072(2)) {
             name = Identifier();
           } else {
             jj_consume_token(-1);
             throw new ParseException();
           }
         }
-        if (jj_2_1071(2)) {
+        if (jj_2_1073(2)) {
           jj_consume_token(LPAREN);
           jj_consume_token(STAR);
                                            s1 = span();
           jj_consume_token(RPAREN);
                 args = new SqlNodeList(s1.pos());
                 args.add(SqlIdentifier.star(s1.pos()));
-        } else if (jj_2_1072(2)) {
+        } else if (jj_2_1074(2)) {
           jj_consume_token(LPAREN);
           jj_consume_token(RPAREN);
                                              args = SqlNodeList.EMPTY;
-        } else if (jj_2_1073(2)) {
+        } else if (jj_2_1075(2)) {
           args = ParenthesizedQueryOrCommaList(ExprContext.ACCEPT_SUB_QUERY);
         } else {
           jj_consume_token(-1);
@@ -10026,32 +10040,32 @@ final String p;
  * Parses a binary query operator like UNION.
  */
   final public SqlBinaryOperator BinaryQueryOperator() throws ParseException {
-    if (jj_2_1085(2)) {
+    if (jj_2_1087(2)) {
       jj_consume_token(UNION);
-      if (jj_2_1077(2)) {
+      if (jj_2_1079(2)) {
         jj_consume_token(ALL);
                     {if (true) return SqlStdOperatorTable.UNION_ALL;}
-      } else if (jj_2_1078(2)) {
+      } else if (jj_2_1080(2)) {
         jj_consume_token(DISTINCT);
                          {if (true) return SqlStdOperatorTable.UNION;}
       } else {
               {if (true) return SqlStdOperatorTable.UNION;}
       }
-    } else if (jj_2_1086(2)) {
+    } else if (jj_2_1088(2)) {
       jj_consume_token(INTERSECT);
-      if (jj_2_1079(2)) {
+      if (jj_2_1081(2)) {
         jj_consume_token(ALL);
                     {if (true) return SqlStdOperatorTable.INTERSECT_ALL;}
-      } else if (jj_2_1080(2)) {
+      } else if (jj_2_1082(2)) {
         jj_consume_token(DISTINCT);
                          {if (true) return SqlStdOperatorTable.INTERSECT;}
       } else {
               {if (true) return SqlStdOperatorTable.INTERSECT;}
       }
-    } else if (jj_2_1087(2)) {
-      if (jj_2_1081(2)) {
+    } else if (jj_2_1089(2)) {
+      if (jj_2_1083(2)) {
         jj_consume_token(EXCEPT);
-      } else if (jj_2_1082(2)) {
+      } else if (jj_2_1084(2)) {
         jj_consume_token(SET_MINUS);
                 if (!this.conformance.isMinusAllowed()) {
                     {if (true) throw SqlUtil.newContextException(getPos(), RESOURCE.minusNotAllowed());}
@@ -10060,10 +10074,10 @@ final String p;
         jj_consume_token(-1);
         throw new ParseException();
       }
-      if (jj_2_1083(2)) {
+      if (jj_2_1085(2)) {
         jj_consume_token(ALL);
                     {if (true) return SqlStdOperatorTable.EXCEPT_ALL;}
-      } else if (jj_2_1084(2)) {
+      } else if (jj_2_1086(2)) {
         jj_consume_token(DISTINCT);
                          {if (true) return SqlStdOperatorTable.EXCEPT;}
       } else {
@@ -10081,12 +10095,12 @@ final String p;
  */
   final public SqlBinaryOperator BinaryMultisetOperator() throws ParseException {
     jj_consume_token(MULTISET);
-    if (jj_2_1097(2)) {
+    if (jj_2_1099(2)) {
       jj_consume_token(UNION);
-      if (jj_2_1090(2)) {
-        if (jj_2_1088(2)) {
+      if (jj_2_1092(2)) {
+        if (jj_2_1090(2)) {
           jj_consume_token(ALL);
-        } else if (jj_2_1089(2)) {
+        } else if (jj_2_1091(2)) {
           jj_consume_token(DISTINCT);
                          {if (true) return SqlStdOperatorTable.MULTISET_UNION_DISTINCT;}
         } else {
@@ -10097,12 +10111,12 @@ final String p;
         ;
       }
           {if (true) return SqlStdOperatorTable.MULTISET_UNION;}
-    } else if (jj_2_1098(2)) {
+    } else if (jj_2_1100(2)) {
       jj_consume_token(INTERSECT);
-      if (jj_2_1093(2)) {
-        if (jj_2_1091(2)) {
+      if (jj_2_1095(2)) {
+        if (jj_2_1093(2)) {
           jj_consume_token(ALL);
-        } else if (jj_2_1092(2)) {
+        } else if (jj_2_1094(2)) {
           jj_consume_token(DISTINCT);
                          {if (true) return SqlStdOperatorTable.MULTISET_INTERSECT_DISTINCT;}
         } else {
@@ -10113,12 +10127,12 @@ final String p;
         ;
       }
           {if (true) return SqlStdOperatorTable.MULTISET_INTERSECT;}
-    } else if (jj_2_1099(2)) {
+    } else if (jj_2_1101(2)) {
       jj_consume_token(EXCEPT);
-      if (jj_2_1096(2)) {
-        if (jj_2_1094(2)) {
+      if (jj_2_1098(2)) {
+        if (jj_2_1096(2)) {
           jj_consume_token(ALL);
-        } else if (jj_2_1095(2)) {
+        } else if (jj_2_1097(2)) {
           jj_consume_token(DISTINCT);
                          {if (true) return SqlStdOperatorTable.MULTISET_EXCEPT_DISTINCT;}
         } else {
@@ -10141,114 +10155,114 @@ final String p;
  */
   final public SqlBinaryOperator BinaryRowOperator() throws ParseException {
     SqlBinaryOperator op;
-    if (jj_2_1100(2)) {
+    if (jj_2_1102(2)) {
       jj_consume_token(EQ);
            {if (true) return SqlStdOperatorTable.EQUALS;}
-    } else if (jj_2_1101(2)) {
+    } else if (jj_2_1103(2)) {
       jj_consume_token(LEFTSHIFT);
                   {if (true) return SqlStdOperatorTable.BIT_LEFT_SHIFT;}
-    } else if (jj_2_1102(2)) {
+    } else if (jj_2_1104(2)) {
       jj_consume_token(GT);
            {if (true) return SqlStdOperatorTable.GREATER_THAN;}
-    } else if (jj_2_1103(2)) {
+    } else if (jj_2_1105(2)) {
       jj_consume_token(LT);
            {if (true) return SqlStdOperatorTable.LESS_THAN;}
-    } else if (jj_2_1104(2)) {
+    } else if (jj_2_1106(2)) {
       jj_consume_token(LE);
            {if (true) return SqlStdOperatorTable.LESS_THAN_OR_EQUAL;}
-    } else if (jj_2_1105(2)) {
+    } else if (jj_2_1107(2)) {
       jj_consume_token(GE);
            {if (true) return SqlStdOperatorTable.GREATER_THAN_OR_EQUAL;}
-    } else if (jj_2_1106(2)) {
+    } else if (jj_2_1108(2)) {
       jj_consume_token(NE);
            {if (true) return SqlStdOperatorTable.NOT_EQUALS;}
-    } else if (jj_2_1107(2)) {
+    } else if (jj_2_1109(2)) {
       jj_consume_token(NE2);
         if (!this.conformance.isBangEqualAllowed()) {
             {if (true) throw SqlUtil.newContextException(getPos(), RESOURCE.bangEqualNotAllowed());}
         }
         {if (true) return SqlStdOperatorTable.NOT_EQUALS;}
-    } else if (jj_2_1108(2)) {
+    } else if (jj_2_1110(2)) {
       jj_consume_token(PLUS);
              {if (true) return SqlStdOperatorTable.PLUS;}
-    } else if (jj_2_1109(2)) {
+    } else if (jj_2_1111(2)) {
       jj_consume_token(MINUS);
               {if (true) return SqlStdOperatorTable.MINUS;}
-    } else if (jj_2_1110(2)) {
+    } else if (jj_2_1112(2)) {
       jj_consume_token(STAR);
              {if (true) return SqlStdOperatorTable.MULTIPLY;}
-    } else if (jj_2_1111(2)) {
+    } else if (jj_2_1113(2)) {
       jj_consume_token(SLASH);
               {if (true) return SqlStdOperatorTable.DIVIDE;}
-    } else if (jj_2_1112(2)) {
+    } else if (jj_2_1114(2)) {
       jj_consume_token(PERCENT_REMAINDER);
         if (!this.conformance.isPercentRemainderAllowed()) {
             {if (true) throw SqlUtil.newContextException(getPos(), RESOURCE.percentRemainderNotAllowed());}
         }
         {if (true) return SqlStdOperatorTable.PERCENT_REMAINDER;}
-    } else if (jj_2_1113(2)) {
+    } else if (jj_2_1115(2)) {
       jj_consume_token(CONCAT);
                {if (true) return SqlStdOperatorTable.CONCAT;}
-    } else if (jj_2_1114(2)) {
+    } else if (jj_2_1116(2)) {
       jj_consume_token(AND);
             {if (true) return SqlStdOperatorTable.AND;}
-    } else if (jj_2_1115(2)) {
+    } else if (jj_2_1117(2)) {
       jj_consume_token(OR);
            {if (true) return SqlStdOperatorTable.OR;}
-    } else if (jj_2_1116(2)) {
+    } else if (jj_2_1118(2)) {
       jj_consume_token(IS);
       jj_consume_token(DISTINCT);
       jj_consume_token(FROM);
                                           {if (true) return SqlStdOperatorTable.IS_DISTINCT_FROM;}
-    } else if (jj_2_1117(2)) {
+    } else if (jj_2_1119(2)) {
       jj_consume_token(IS);
       jj_consume_token(NOT);
       jj_consume_token(DISTINCT);
       jj_consume_token(FROM);
                                    {if (true) return SqlStdOperatorTable.IS_NOT_DISTINCT_FROM;}
-    } else if (jj_2_1118(2)) {
+    } else if (jj_2_1120(2)) {
       jj_consume_token(MEMBER);
       jj_consume_token(OF);
                     {if (true) return SqlStdOperatorTable.MEMBER_OF;}
-    } else if (jj_2_1119(2)) {
+    } else if (jj_2_1121(2)) {
       jj_consume_token(SUBMULTISET);
       jj_consume_token(OF);
                                       {if (true) return SqlStdOperatorTable.SUBMULTISET_OF;}
-    } else if (jj_2_1120(2)) {
+    } else if (jj_2_1122(2)) {
       jj_consume_token(NOT);
       jj_consume_token(SUBMULTISET);
       jj_consume_token(OF);
                                {if (true) return SqlStdOperatorTable.NOT_SUBMULTISET_OF;}
-    } else if (jj_2_1121(2)) {
+    } else if (jj_2_1123(2)) {
       jj_consume_token(CONTAINS);
                  {if (true) return SqlStdOperatorTable.CONTAINS;}
-    } else if (jj_2_1122(2)) {
+    } else if (jj_2_1124(2)) {
       jj_consume_token(OVERLAPS);
                  {if (true) return SqlStdOperatorTable.OVERLAPS;}
-    } else if (jj_2_1123(2)) {
+    } else if (jj_2_1125(2)) {
       jj_consume_token(CARET);
               {if (true) return SqlStdOperatorTable.BITXOR_OPERATOR;}
-    } else if (jj_2_1124(2)) {
+    } else if (jj_2_1126(2)) {
       jj_consume_token(EQUALS);
                {if (true) return SqlStdOperatorTable.PERIOD_EQUALS;}
-    } else if (jj_2_1125(2)) {
+    } else if (jj_2_1127(2)) {
       jj_consume_token(AMPERSAND);
                   {if (true) return SqlStdOperatorTable.BITAND_OPERATOR;}
-    } else if (jj_2_1126(2)) {
+    } else if (jj_2_1128(2)) {
       jj_consume_token(PRECEDES);
                  {if (true) return SqlStdOperatorTable.PRECEDES;}
-    } else if (jj_2_1127(2)) {
+    } else if (jj_2_1129(2)) {
       jj_consume_token(SUCCEEDS);
                  {if (true) return SqlStdOperatorTable.SUCCEEDS;}
-    } else if (jj_2_1128(2)) {
+    } else if (jj_2_1130(2)) {
       jj_consume_token(IMMEDIATELY);
       jj_consume_token(PRECEDES);
                                             {if (true) return SqlStdOperatorTable.IMMEDIATELY_PRECEDES;}
-    } else if (jj_2_1129(2)) {
+    } else if (jj_2_1131(2)) {
       jj_consume_token(IMMEDIATELY);
       jj_consume_token(SUCCEEDS);
                                {if (true) return SqlStdOperatorTable.IMMEDIATELY_SUCCEEDS;}
-    } else if (jj_2_1130(2)) {
+    } else if (jj_2_1132(2)) {
       op = BinaryMultisetOperator();
                                     {if (true) return op;}
     } else {
@@ -10262,19 +10276,19 @@ final String p;
  * Parses a prefix row operator like NOT.
  */
   final public SqlPrefixOperator PrefixRowOperator() throws ParseException {
-    if (jj_2_1131(2)) {
+    if (jj_2_1133(2)) {
       jj_consume_token(PLUS);
              {if (true) return SqlStdOperatorTable.UNARY_PLUS;}
-    } else if (jj_2_1132(2)) {
+    } else if (jj_2_1134(2)) {
       jj_consume_token(MINUS);
               {if (true) return SqlStdOperatorTable.UNARY_MINUS;}
-    } else if (jj_2_1133(2)) {
+    } else if (jj_2_1135(2)) {
       jj_consume_token(NOT);
             {if (true) return SqlStdOperatorTable.NOT;}
-    } else if (jj_2_1134(2)) {
+    } else if (jj_2_1136(2)) {
       jj_consume_token(EXISTS);
                {if (true) return SqlStdOperatorTable.EXISTS;}
-    } else if (jj_2_1135(2)) {
+    } else if (jj_2_1137(2)) {
       jj_consume_token(UNIQUE);
                {if (true) return SqlStdOperatorTable.UNIQUE;}
     } else {
@@ -10288,89 +10302,89 @@ final String p;
  * Parses a postfix row operator like IS NOT NULL.
  */
   final public SqlPostfixOperator PostfixRowOperator() throws ParseException {
-    if (jj_2_1160(2)) {
+    if (jj_2_1162(2)) {
       jj_consume_token(IS);
-      if (jj_2_1157(2)) {
+      if (jj_2_1159(2)) {
         jj_consume_token(A);
         jj_consume_token(SET);
                     {if (true) return SqlStdOperatorTable.IS_A_SET;}
-      } else if (jj_2_1158(2)) {
+      } else if (jj_2_1160(2)) {
         jj_consume_token(NOT);
-        if (jj_2_1136(2)) {
+        if (jj_2_1138(2)) {
           jj_consume_token(NULL);
                      {if (true) return SqlStdOperatorTable.IS_NOT_NULL;}
-        } else if (jj_2_1137(2)) {
+        } else if (jj_2_1139(2)) {
           jj_consume_token(TRUE);
                      {if (true) return SqlStdOperatorTable.IS_NOT_TRUE;}
-        } else if (jj_2_1138(2)) {
+        } else if (jj_2_1140(2)) {
           jj_consume_token(FALSE);
                       {if (true) return SqlStdOperatorTable.IS_NOT_FALSE;}
-        } else if (jj_2_1139(2)) {
+        } else if (jj_2_1141(2)) {
           jj_consume_token(UNKNOWN);
                         {if (true) return SqlStdOperatorTable.IS_NOT_UNKNOWN;}
-        } else if (jj_2_1140(2)) {
+        } else if (jj_2_1142(2)) {
           jj_consume_token(A);
           jj_consume_token(SET);
                         {if (true) return SqlStdOperatorTable.IS_NOT_A_SET;}
-        } else if (jj_2_1141(2)) {
+        } else if (jj_2_1143(2)) {
           jj_consume_token(EMPTY);
                       {if (true) return SqlStdOperatorTable.IS_NOT_EMPTY;}
-        } else if (jj_2_1142(2)) {
+        } else if (jj_2_1144(2)) {
           jj_consume_token(JSON);
           jj_consume_token(VALUE);
                                           {if (true) return SqlStdOperatorTable.IS_NOT_JSON_VALUE;}
-        } else if (jj_2_1143(2)) {
+        } else if (jj_2_1145(2)) {
           jj_consume_token(JSON);
           jj_consume_token(OBJECT);
                                            {if (true) return SqlStdOperatorTable.IS_NOT_JSON_OBJECT;}
-        } else if (jj_2_1144(2)) {
+        } else if (jj_2_1146(2)) {
           jj_consume_token(JSON);
           jj_consume_token(ARRAY);
                                           {if (true) return SqlStdOperatorTable.IS_NOT_JSON_ARRAY;}
-        } else if (jj_2_1145(2)) {
+        } else if (jj_2_1147(2)) {
           jj_consume_token(JSON);
           jj_consume_token(SCALAR);
                                            {if (true) return SqlStdOperatorTable.IS_NOT_JSON_SCALAR;}
-        } else if (jj_2_1146(2)) {
+        } else if (jj_2_1148(2)) {
           jj_consume_token(JSON);
                      {if (true) return SqlStdOperatorTable.IS_NOT_JSON_VALUE;}
         } else {
           jj_consume_token(-1);
           throw new ParseException();
         }
-      } else if (jj_2_1159(2)) {
-        if (jj_2_1147(2)) {
+      } else if (jj_2_1161(2)) {
+        if (jj_2_1149(2)) {
           jj_consume_token(NULL);
                      {if (true) return SqlStdOperatorTable.IS_NULL;}
-        } else if (jj_2_1148(2)) {
+        } else if (jj_2_1150(2)) {
           jj_consume_token(TRUE);
                      {if (true) return SqlStdOperatorTable.IS_TRUE;}
-        } else if (jj_2_1149(2)) {
+        } else if (jj_2_1151(2)) {
           jj_consume_token(FALSE);
                       {if (true) return SqlStdOperatorTable.IS_FALSE;}
-        } else if (jj_2_1150(2)) {
+        } else if (jj_2_1152(2)) {
           jj_consume_token(UNKNOWN);
                         {if (true) return SqlStdOperatorTable.IS_UNKNOWN;}
-        } else if (jj_2_1151(2)) {
+        } else if (jj_2_1153(2)) {
           jj_consume_token(EMPTY);
                       {if (true) return SqlStdOperatorTable.IS_EMPTY;}
-        } else if (jj_2_1152(2)) {
+        } else if (jj_2_1154(2)) {
           jj_consume_token(JSON);
           jj_consume_token(VALUE);
                                           {if (true) return SqlStdOperatorTable.IS_JSON_VALUE;}
-        } else if (jj_2_1153(2)) {
+        } else if (jj_2_1155(2)) {
           jj_consume_token(JSON);
           jj_consume_token(OBJECT);
                                            {if (true) return SqlStdOperatorTable.IS_JSON_OBJECT;}
-        } else if (jj_2_1154(2)) {
+        } else if (jj_2_1156(2)) {
           jj_consume_token(JSON);
           jj_consume_token(ARRAY);
                                           {if (true) return SqlStdOperatorTable.IS_JSON_ARRAY;}
-        } else if (jj_2_1155(2)) {
+        } else if (jj_2_1157(2)) {
           jj_consume_token(JSON);
           jj_consume_token(SCALAR);
                                            {if (true) return SqlStdOperatorTable.IS_JSON_SCALAR;}
-        } else if (jj_2_1156(2)) {
+        } else if (jj_2_1158(2)) {
           jj_consume_token(JSON);
                      {if (true) return SqlStdOperatorTable.IS_JSON_VALUE;}
         } else {
@@ -10381,7 +10395,7 @@ final String p;
         jj_consume_token(-1);
         throw new ParseException();
       }
-    } else if (jj_2_1161(2)) {
+    } else if (jj_2_1163(2)) {
       jj_consume_token(FORMAT);
       JsonRepresentation();
             {if (true) return SqlStdOperatorTable.JSON_VALUE_EXPRESSION;}
@@ -10407,11 +10421,11 @@ final String p;
  * @see Glossary#SQL2003 SQL:2003 Part 2 Section 5.2
  */
   final public String NonReservedKeyWord() throws ParseException {
-    if (jj_2_1162(2)) {
+    if (jj_2_1164(2)) {
       NonReservedKeyWord0of3();
-    } else if (jj_2_1163(2)) {
+    } else if (jj_2_1165(2)) {
       NonReservedKeyWord1of3();
-    } else if (jj_2_1164(2)) {
+    } else if (jj_2_1166(2)) {
       NonReservedKeyWord2of3();
     } else {
       jj_consume_token(-1);
@@ -10423,450 +10437,450 @@ final String p;
 
 /** @see #NonReservedKeyWord */
   final public void NonReservedKeyWord0of3() throws ParseException {
-    if (jj_2_1165(2)) {
+    if (jj_2_1167(2)) {
       jj_consume_token(A);
-    } else if (jj_2_1166(2)) {
-      jj_consume_token(ACTION);
-    } else if (jj_2_1167(2)) {
-      jj_consume_token(ADMIN);
     } else if (jj_2_1168(2)) {
-      jj_consume_token(APPLY);
+      jj_consume_token(ACTION);
     } else if (jj_2_1169(2)) {
-      jj_consume_token(ASC);
+      jj_consume_token(ADMIN);
     } else if (jj_2_1170(2)) {
-      jj_consume_token(ATTRIBUTE);
+      jj_consume_token(APPLY);
     } else if (jj_2_1171(2)) {
-      jj_consume_token(BERNOULLI);
+      jj_consume_token(ASC);
     } else if (jj_2_1172(2)) {
-      jj_consume_token(CASCADE);
+      jj_consume_token(ATTRIBUTE);
     } else if (jj_2_1173(2)) {
-      jj_consume_token(CENTURY);
+      jj_consume_token(BERNOULLI);
     } else if (jj_2_1174(2)) {
-      jj_consume_token(CHARACTERS);
+      jj_consume_token(CASCADE);
     } else if (jj_2_1175(2)) {
-      jj_consume_token(CHARACTER_SET_SCHEMA);
+      jj_consume_token(CENTURY);
     } else if (jj_2_1176(2)) {
-      jj_consume_token(COLLATION);
+      jj_consume_token(CHARACTERS);
     } else if (jj_2_1177(2)) {
-      jj_consume_token(COLLATION_SCHEMA);
+      jj_consume_token(CHARACTER_SET_SCHEMA);
     } else if (jj_2_1178(2)) {
-      jj_consume_token(COMMAND_FUNCTION_CODE);
+      jj_consume_token(COLLATION);
     } else if (jj_2_1179(2)) {
-      jj_consume_token(CONDITION_NUMBER);
+      jj_consume_token(COLLATION_SCHEMA);
     } else if (jj_2_1180(2)) {
-      jj_consume_token(CONSTRAINT_CATALOG);
+      jj_consume_token(COMMAND_FUNCTION_CODE);
     } else if (jj_2_1181(2)) {
-      jj_consume_token(CONSTRAINT_SCHEMA);
+      jj_consume_token(CONDITION_NUMBER);
     } else if (jj_2_1182(2)) {
-      jj_consume_token(CONTINUE);
+      jj_consume_token(CONSTRAINT_CATALOG);
     } else if (jj_2_1183(2)) {
-      jj_consume_token(DATABASE);
+      jj_consume_token(CONSTRAINT_SCHEMA);
     } else if (jj_2_1184(2)) {
-      jj_consume_token(DATETIME_DIFF);
+      jj_consume_token(CONTINUE);
     } else if (jj_2_1185(2)) {
-      jj_consume_token(DATETIME_TRUNC);
+      jj_consume_token(DATABASE);
     } else if (jj_2_1186(2)) {
-      jj_consume_token(DAYS);
+      jj_consume_token(DATETIME_DIFF);
     } else if (jj_2_1187(2)) {
-      jj_consume_token(DEFERRABLE);
+      jj_consume_token(DATETIME_TRUNC);
     } else if (jj_2_1188(2)) {
-      jj_consume_token(DEFINER);
+      jj_consume_token(DAYS);
     } else if (jj_2_1189(2)) {
-      jj_consume_token(DERIVED);
+      jj_consume_token(DEFERRABLE);
     } else if (jj_2_1190(2)) {
-      jj_consume_token(DESCRIPTOR);
+      jj_consume_token(DEFINER);
     } else if (jj_2_1191(2)) {
-      jj_consume_token(DOMAIN);
+      jj_consume_token(DERIVED);
     } else if (jj_2_1192(2)) {
-      jj_consume_token(DOT_FORMAT);
+      jj_consume_token(DESCRIPTOR);
     } else if (jj_2_1193(2)) {
-      jj_consume_token(ENCODING);
+      jj_consume_token(DOMAIN);
     } else if (jj_2_1194(2)) {
-      jj_consume_token(EXCEPTION);
+      jj_consume_token(DOT_FORMAT);
     } else if (jj_2_1195(2)) {
-      jj_consume_token(FINAL);
+      jj_consume_token(ENCODING);
     } else if (jj_2_1196(2)) {
-      jj_consume_token(FORMAT);
+      jj_consume_token(EXCEPTION);
     } else if (jj_2_1197(2)) {
-      jj_consume_token(FRAC_SECOND);
+      jj_consume_token(FINAL);
     } else if (jj_2_1198(2)) {
-      jj_consume_token(GENERATED);
+      jj_consume_token(FORMAT);
     } else if (jj_2_1199(2)) {
-      jj_consume_token(GOTO);
+      jj_consume_token(FRAC_SECOND);
     } else if (jj_2_1200(2)) {
-      jj_consume_token(HIERARCHY);
+      jj_consume_token(GENERATED);
     } else if (jj_2_1201(2)) {
-      jj_consume_token(IGNORE);
+      jj_consume_token(GOTO);
     } else if (jj_2_1202(2)) {
-      jj_consume_token(IMMEDIATELY);
+      jj_consume_token(HIERARCHY);
     } else if (jj_2_1203(2)) {
-      jj_consume_token(INCLUDING);
+      jj_consume_token(IGNORE);
     } else if (jj_2_1204(2)) {
-      jj_consume_token(INPUT);
+      jj_consume_token(IMMEDIATELY);
     } else if (jj_2_1205(2)) {
-      jj_consume_token(INVOKER);
+      jj_consume_token(INCLUDING);
     } else if (jj_2_1206(2)) {
-      jj_consume_token(ISOYEAR);
+      jj_consume_token(INPUT);
     } else if (jj_2_1207(2)) {
-      jj_consume_token(K);
+      jj_consume_token(INVOKER);
     } else if (jj_2_1208(2)) {
-      jj_consume_token(KEY_TYPE);
+      jj_consume_token(ISOYEAR);
     } else if (jj_2_1209(2)) {
-      jj_consume_token(LENGTH);
+      jj_consume_token(K);
     } else if (jj_2_1210(2)) {
-      jj_consume_token(LOCATOR);
+      jj_consume_token(KEY_TYPE);
     } else if (jj_2_1211(2)) {
-      jj_consume_token(MATCHED);
+      jj_consume_token(LENGTH);
     } else if (jj_2_1212(2)) {
-      jj_consume_token(MESSAGE_OCTET_LENGTH);
+      jj_consume_token(LOCATOR);
     } else if (jj_2_1213(2)) {
-      jj_consume_token(MILLENNIUM);
+      jj_consume_token(MATCHED);
     } else if (jj_2_1214(2)) {
-      jj_consume_token(MINVALUE);
+      jj_consume_token(MESSAGE_OCTET_LENGTH);
     } else if (jj_2_1215(2)) {
-      jj_consume_token(MUMPS);
+      jj_consume_token(MILLENNIUM);
     } else if (jj_2_1216(2)) {
-      jj_consume_token(NANOSECOND);
+      jj_consume_token(MINVALUE);
     } else if (jj_2_1217(2)) {
-      jj_consume_token(NULLABLE);
+      jj_consume_token(MUMPS);
     } else if (jj_2_1218(2)) {
-      jj_consume_token(OBJECT);
+      jj_consume_token(NANOSECOND);
     } else if (jj_2_1219(2)) {
-      jj_consume_token(OPTIONS);
+      jj_consume_token(NULLABLE);
     } else if (jj_2_1220(2)) {
-      jj_consume_token(OTHERS);
+      jj_consume_token(OBJECT);
     } else if (jj_2_1221(2)) {
-      jj_consume_token(PAD);
+      jj_consume_token(OPTIONS);
     } else if (jj_2_1222(2)) {
-      jj_consume_token(PARAMETER_ORDINAL_POSITION);
+      jj_consume_token(OTHERS);
     } else if (jj_2_1223(2)) {
-      jj_consume_token(PARAMETER_SPECIFIC_SCHEMA);
+      jj_consume_token(PAD);
     } else if (jj_2_1224(2)) {
-      jj_consume_token(PASSING);
+      jj_consume_token(PARAMETER_ORDINAL_POSITION);
     } else if (jj_2_1225(2)) {
-      jj_consume_token(PATH);
+      jj_consume_token(PARAMETER_SPECIFIC_SCHEMA);
     } else if (jj_2_1226(2)) {
-      jj_consume_token(PLAN);
+      jj_consume_token(PASSING);
     } else if (jj_2_1227(2)) {
-      jj_consume_token(PRESERVE);
+      jj_consume_token(PATH);
     } else if (jj_2_1228(2)) {
-      jj_consume_token(PUBLIC);
+      jj_consume_token(PLAN);
     } else if (jj_2_1229(2)) {
-      jj_consume_token(READ);
+      jj_consume_token(PRESERVE);
     } else if (jj_2_1230(2)) {
-      jj_consume_token(REPLACE);
+      jj_consume_token(PUBLIC);
     } else if (jj_2_1231(2)) {
-      jj_consume_token(RESTRICT);
+      jj_consume_token(READ);
     } else if (jj_2_1232(2)) {
-      jj_consume_token(RETURNED_OCTET_LENGTH);
+      jj_consume_token(REPLACE);
     } else if (jj_2_1233(2)) {
-      jj_consume_token(RLIKE);
+      jj_consume_token(RESTRICT);
     } else if (jj_2_1234(2)) {
-      jj_consume_token(ROUTINE_CATALOG);
+      jj_consume_token(RETURNED_OCTET_LENGTH);
     } else if (jj_2_1235(2)) {
-      jj_consume_token(ROW_COUNT);
+      jj_consume_token(RLIKE);
     } else if (jj_2_1236(2)) {
-      jj_consume_token(SCHEMA);
+      jj_consume_token(ROUTINE_CATALOG);
     } else if (jj_2_1237(2)) {
-      jj_consume_token(SCOPE_NAME);
+      jj_consume_token(ROW_COUNT);
     } else if (jj_2_1238(2)) {
-      jj_consume_token(SECTION);
+      jj_consume_token(SCHEMA);
     } else if (jj_2_1239(2)) {
-      jj_consume_token(SEPARATOR);
+      jj_consume_token(SCOPE_NAME);
     } else if (jj_2_1240(2)) {
-      jj_consume_token(SERVER);
+      jj_consume_token(SECTION);
     } else if (jj_2_1241(2)) {
-      jj_consume_token(SETS);
+      jj_consume_token(SEPARATOR);
     } else if (jj_2_1242(2)) {
-      jj_consume_token(SOURCE);
+      jj_consume_token(SERVER);
     } else if (jj_2_1243(2)) {
-      jj_consume_token(SQL_BIGINT);
+      jj_consume_token(SETS);
     } else if (jj_2_1244(2)) {
-      jj_consume_token(SQL_BLOB);
+      jj_consume_token(SOURCE);
     } else if (jj_2_1245(2)) {
-      jj_consume_token(SQL_CLOB);
+      jj_consume_token(SQL_BIGINT);
     } else if (jj_2_1246(2)) {
-      jj_consume_token(SQL_DOUBLE);
+      jj_consume_token(SQL_BLOB);
     } else if (jj_2_1247(2)) {
-      jj_consume_token(SQL_INTERVAL_DAY);
+      jj_consume_token(SQL_CLOB);
     } else if (jj_2_1248(2)) {
-      jj_consume_token(SQL_INTERVAL_DAY_TO_SECOND);
+      jj_consume_token(SQL_DOUBLE);
     } else if (jj_2_1249(2)) {
-      jj_consume_token(SQL_INTERVAL_HOUR_TO_SECOND);
+      jj_consume_token(SQL_INTERVAL_DAY);
     } else if (jj_2_1250(2)) {
-      jj_consume_token(SQL_INTERVAL_MONTH);
+      jj_consume_token(SQL_INTERVAL_DAY_TO_SECOND);
     } else if (jj_2_1251(2)) {
-      jj_consume_token(SQL_INTERVAL_YEAR_TO_MONTH);
+      jj_consume_token(SQL_INTERVAL_HOUR_TO_SECOND);
     } else if (jj_2_1252(2)) {
-      jj_consume_token(SQL_LONGVARNCHAR);
+      jj_consume_token(SQL_INTERVAL_MONTH);
     } else if (jj_2_1253(2)) {
-      jj_consume_token(SQL_NUMERIC);
+      jj_consume_token(SQL_INTERVAL_YEAR_TO_MONTH);
     } else if (jj_2_1254(2)) {
-      jj_consume_token(SQL_SMALLINT);
+      jj_consume_token(SQL_LONGVARNCHAR);
     } else if (jj_2_1255(2)) {
-      jj_consume_token(SQL_TINYINT);
+      jj_consume_token(SQL_NUMERIC);
     } else if (jj_2_1256(2)) {
-      jj_consume_token(SQL_TSI_HOUR);
+      jj_consume_token(SQL_SMALLINT);
     } else if (jj_2_1257(2)) {
-      jj_consume_token(SQL_TSI_MONTH);
+      jj_consume_token(SQL_TINYINT);
     } else if (jj_2_1258(2)) {
-      jj_consume_token(SQL_TSI_WEEK);
+      jj_consume_token(SQL_TSI_HOUR);
     } else if (jj_2_1259(2)) {
-      jj_consume_token(SQL_VARCHAR);
+      jj_consume_token(SQL_TSI_MONTH);
     } else if (jj_2_1260(2)) {
-      jj_consume_token(STRING_AGG);
+      jj_consume_token(SQL_TSI_WEEK);
     } else if (jj_2_1261(2)) {
-      jj_consume_token(SUBCLASS_ORIGIN);
+      jj_consume_token(SQL_VARCHAR);
     } else if (jj_2_1262(2)) {
-      jj_consume_token(TEMPORARY);
+      jj_consume_token(STRING_AGG);
     } else if (jj_2_1263(2)) {
-      jj_consume_token(TIME_TRUNC);
+      jj_consume_token(SUBCLASS_ORIGIN);
     } else if (jj_2_1264(2)) {
-      jj_consume_token(TIMESTAMP_DIFF);
+      jj_consume_token(TEMPORARY);
     } else if (jj_2_1265(2)) {
-      jj_consume_token(TRANSACTION);
+      jj_consume_token(TIME_TRUNC);
     } else if (jj_2_1266(2)) {
-      jj_consume_token(TRANSACTIONS_ROLLED_BACK);
+      jj_consume_token(TIMESTAMP_DIFF);
     } else if (jj_2_1267(2)) {
-      jj_consume_token(TRIGGER_CATALOG);
+      jj_consume_token(TRANSACTION);
     } else if (jj_2_1268(2)) {
-      jj_consume_token(TUMBLE);
+      jj_consume_token(TRANSACTIONS_ROLLED_BACK);
     } else if (jj_2_1269(2)) {
-      jj_consume_token(UNCOMMITTED);
+      jj_consume_token(TRIGGER_CATALOG);
     } else if (jj_2_1270(2)) {
-      jj_consume_token(UNPIVOT);
+      jj_consume_token(TUMBLE);
     } else if (jj_2_1271(2)) {
-      jj_consume_token(USER_DEFINED_TYPE_CATALOG);
+      jj_consume_token(UNCOMMITTED);
     } else if (jj_2_1272(2)) {
-      jj_consume_token(USER_DEFINED_TYPE_SCHEMA);
+      jj_consume_token(UNPIVOT);
     } else if (jj_2_1273(2)) {
-      jj_consume_token(UTF8);
+      jj_consume_token(USER_DEFINED_TYPE_CATALOG);
     } else if (jj_2_1274(2)) {
-      jj_consume_token(WEEK);
+      jj_consume_token(USER_DEFINED_TYPE_SCHEMA);
     } else if (jj_2_1275(2)) {
-      jj_consume_token(WRAPPER);
+      jj_consume_token(UTF8);
     } else if (jj_2_1276(2)) {
-      jj_consume_token(YEARS);
+      jj_consume_token(WEEK);
     } else if (jj_2_1277(2)) {
-      jj_consume_token(BACKUPS);
+      jj_consume_token(WRAPPER);
     } else if (jj_2_1278(2)) {
-      jj_consume_token(WRITE_SYNCHRONIZATION_MODE);
+      jj_consume_token(YEARS);
     } else if (jj_2_1279(2)) {
-      jj_consume_token(DATA_REGION);
+      jj_consume_token(BACKUPS);
     } else if (jj_2_1280(2)) {
-      jj_consume_token(WRAP_VALUE);
+      jj_consume_token(WRITE_SYNCHRONIZATION_MODE);
     } else if (jj_2_1281(2)) {
-      jj_consume_token(INLINE_SIZE);
+      jj_consume_token(DATA_REGION);
     } else if (jj_2_1282(2)) {
-      jj_consume_token(PASSWORD);
+      jj_consume_token(WRAP_VALUE);
     } else if (jj_2_1283(2)) {
-      jj_consume_token(CONTINUOUS);
+      jj_consume_token(INLINE_SIZE);
     } else if (jj_2_1284(2)) {
-      jj_consume_token(ASYNC);
+      jj_consume_token(NOLOGGING);
     } else if (jj_2_1285(2)) {
-      jj_consume_token(REFRESH);
+      jj_consume_token(SCAN);
     } else if (jj_2_1286(2)) {
-      jj_consume_token(TOTAL);
+      jj_consume_token(COMPUTE);
     } else if (jj_2_1287(2)) {
-      jj_consume_token(ALLOW);
+      jj_consume_token(STATISTICS);
     } else if (jj_2_1288(2)) {
-      jj_consume_token(ASENSITIVE);
+      jj_consume_token(MAX_CHANGED_PARTITION_ROWS_PERCENT);
     } else if (jj_2_1289(2)) {
-      jj_consume_token(ATOMIC);
+      jj_consume_token(ALLOCATE);
     } else if (jj_2_1290(2)) {
-      jj_consume_token(BEGIN);
+      jj_consume_token(ARRAY_MAX_CARDINALITY);
     } else if (jj_2_1291(2)) {
-      jj_consume_token(BIGINT);
+      jj_consume_token(AT);
     } else if (jj_2_1292(2)) {
-      jj_consume_token(BLOB);
+      jj_consume_token(AVG);
     } else if (jj_2_1293(2)) {
-      jj_consume_token(CALLED);
+      jj_consume_token(BEGIN_PARTITION);
     } else if (jj_2_1294(2)) {
-      jj_consume_token(CEIL);
+      jj_consume_token(BIT);
     } else if (jj_2_1295(2)) {
-      jj_consume_token(CHARACTER);
+      jj_consume_token(CALL);
     } else if (jj_2_1296(2)) {
-      jj_consume_token(CHECK);
+      jj_consume_token(CASCADED);
     } else if (jj_2_1297(2)) {
-      jj_consume_token(CLOSE);
+      jj_consume_token(CHAR);
     } else if (jj_2_1298(2)) {
-      jj_consume_token(COLLECT);
+      jj_consume_token(CHAR_LENGTH);
     } else if (jj_2_1299(2)) {
-      jj_consume_token(CONNECT);
+      jj_consume_token(CLOB);
     } else if (jj_2_1300(2)) {
-      jj_consume_token(CORR);
+      jj_consume_token(COLLATE);
     } else if (jj_2_1301(2)) {
-      jj_consume_token(COVAR_POP);
+      jj_consume_token(CONDITION);
     } else if (jj_2_1302(2)) {
-      jj_consume_token(CUME_DIST);
+      jj_consume_token(CONVERT);
     } else if (jj_2_1303(2)) {
-      jj_consume_token(CURRENT_DEFAULT_TRANSFORM_GROUP);
+      jj_consume_token(COUNT);
     } else if (jj_2_1304(2)) {
-      jj_consume_token(CURRENT_ROW);
+      jj_consume_token(CUBE);
     } else if (jj_2_1305(2)) {
-      jj_consume_token(CYCLE);
+      jj_consume_token(CURRENT_CATALOG);
     } else if (jj_2_1306(2)) {
-      jj_consume_token(DAY);
+      jj_consume_token(CURRENT_ROLE);
     } else if (jj_2_1307(2)) {
-      jj_consume_token(DECIMAL);
+      jj_consume_token(CURSOR);
     } else if (jj_2_1308(2)) {
-      jj_consume_token(DENSE_RANK);
+      jj_consume_token(DATETIME);
     } else if (jj_2_1309(2)) {
-      jj_consume_token(DETERMINISTIC);
+      jj_consume_token(DEC);
     } else if (jj_2_1310(2)) {
-      jj_consume_token(DOUBLE);
+      jj_consume_token(DEFINE);
     } else if (jj_2_1311(2)) {
-      jj_consume_token(ELEMENT);
+      jj_consume_token(DESCRIBE);
     } else if (jj_2_1312(2)) {
-      jj_consume_token(END_EXEC);
+      jj_consume_token(DISCONNECT);
     } else if (jj_2_1313(2)) {
-      jj_consume_token(EQUALS);
+      jj_consume_token(EACH);
     } else if (jj_2_1314(2)) {
-      jj_consume_token(EXEC);
+      jj_consume_token(END);
     } else if (jj_2_1315(2)) {
-      jj_consume_token(EXTEND);
+      jj_consume_token(END_PARTITION);
     } else if (jj_2_1316(2)) {
-      jj_consume_token(FILTER);
+      jj_consume_token(EVERY);
     } else if (jj_2_1317(2)) {
-      jj_consume_token(FLOOR);
+      jj_consume_token(EXP);
     } else if (jj_2_1318(2)) {
-      jj_consume_token(FREE);
+      jj_consume_token(EXTRACT);
     } else if (jj_2_1319(2)) {
-      jj_consume_token(GET);
+      jj_consume_token(FLOAT);
     } else if (jj_2_1320(2)) {
-      jj_consume_token(GROUPING);
+      jj_consume_token(FRAME_ROW);
     } else if (jj_2_1321(2)) {
-      jj_consume_token(HOUR);
+      jj_consume_token(FUSION);
     } else if (jj_2_1322(2)) {
-      jj_consume_token(INDICATOR);
+      jj_consume_token(GRANT);
     } else if (jj_2_1323(2)) {
-      jj_consume_token(INSENSITIVE);
+      jj_consume_token(HOLD);
     } else if (jj_2_1324(2)) {
-      jj_consume_token(INTERSECTION);
+      jj_consume_token(IMPORT);
     } else if (jj_2_1325(2)) {
-      jj_consume_token(JSON_EXISTS);
+      jj_consume_token(INOUT);
     } else if (jj_2_1326(2)) {
-      jj_consume_token(JSON_QUERY);
+      jj_consume_token(INTEGER);
     } else if (jj_2_1327(2)) {
-      jj_consume_token(LAG);
+      jj_consume_token(JSON_ARRAYAGG);
     } else if (jj_2_1328(2)) {
-      jj_consume_token(LAST_VALUE);
+      jj_consume_token(JSON_OBJECTAGG);
     } else if (jj_2_1329(2)) {
-      jj_consume_token(LIKE_REGEX);
+      jj_consume_token(JSON_VALUE);
     } else if (jj_2_1330(2)) {
-      jj_consume_token(LOWER);
+      jj_consume_token(LARGE);
     } else if (jj_2_1331(2)) {
-      jj_consume_token(MATCH_CONDITION);
+      jj_consume_token(LEAD);
     } else if (jj_2_1332(2)) {
-      jj_consume_token(MAX);
+      jj_consume_token(LOCAL);
     } else if (jj_2_1333(2)) {
-      jj_consume_token(MEMBER);
+      jj_consume_token(MATCHES);
     } else if (jj_2_1334(2)) {
-      jj_consume_token(MINUTE);
+      jj_consume_token(MATCH_RECOGNIZE);
     } else if (jj_2_1335(2)) {
-      jj_consume_token(MODULE);
+      jj_consume_token(MEASURES);
     } else if (jj_2_1336(2)) {
-      jj_consume_token(NATIONAL);
+      jj_consume_token(MIN);
     } else if (jj_2_1337(2)) {
-      jj_consume_token(NEW);
+      jj_consume_token(MODIFIES);
     } else if (jj_2_1338(2)) {
-      jj_consume_token(NONE);
+      jj_consume_token(MULTISET);
     } else if (jj_2_1339(2)) {
-      jj_consume_token(NTILE);
+      jj_consume_token(NCLOB);
     } else if (jj_2_1340(2)) {
-      jj_consume_token(OCCURRENCES_REGEX);
+      jj_consume_token(NO);
     } else if (jj_2_1341(2)) {
-      jj_consume_token(OLD);
+      jj_consume_token(NTH_VALUE);
     } else if (jj_2_1342(2)) {
-      jj_consume_token(ONLY);
+      jj_consume_token(NUMERIC);
     } else if (jj_2_1343(2)) {
-      jj_consume_token(OUT);
+      jj_consume_token(OF);
     } else if (jj_2_1344(2)) {
-      jj_consume_token(OVERLAY);
+      jj_consume_token(ONE);
     } else if (jj_2_1345(2)) {
-      jj_consume_token(PER);
+      jj_consume_token(ORDINAL);
     } else if (jj_2_1346(2)) {
-      jj_consume_token(PERCENTILE_DISC);
+      jj_consume_token(OVERLAPS);
     } else if (jj_2_1347(2)) {
-      jj_consume_token(PERMUTE);
+      jj_consume_token(PATTERN);
     } else if (jj_2_1348(2)) {
-      jj_consume_token(POSITION_REGEX);
+      jj_consume_token(PERCENTILE_CONT);
     } else if (jj_2_1349(2)) {
-      jj_consume_token(PRECISION);
+      jj_consume_token(PERIOD);
     } else if (jj_2_1350(2)) {
-      jj_consume_token(PROCEDURE);
+      jj_consume_token(POSITION);
     } else if (jj_2_1351(2)) {
-      jj_consume_token(RANK);
+      jj_consume_token(PRECEDES);
     } else if (jj_2_1352(2)) {
-      jj_consume_token(RECURSIVE);
+      jj_consume_token(PREV);
     } else if (jj_2_1353(2)) {
-      jj_consume_token(REFERENCING);
+      jj_consume_token(RANGE);
     } else if (jj_2_1354(2)) {
-      jj_consume_token(REGR_COUNT);
+      jj_consume_token(REAL);
     } else if (jj_2_1355(2)) {
-      jj_consume_token(REGR_SLOPE);
+      jj_consume_token(REFERENCES);
     } else if (jj_2_1356(2)) {
-      jj_consume_token(REGR_SYY);
+      jj_consume_token(REGR_AVGY);
     } else if (jj_2_1357(2)) {
-      jj_consume_token(RESULT);
+      jj_consume_token(REGR_R2);
     } else if (jj_2_1358(2)) {
-      jj_consume_token(REVOKE);
+      jj_consume_token(REGR_SXY);
     } else if (jj_2_1359(2)) {
-      jj_consume_token(ROWS);
+      jj_consume_token(RESET);
     } else if (jj_2_1360(2)) {
-      jj_consume_token(SAFE_CAST);
+      jj_consume_token(RETURNS);
     } else if (jj_2_1361(2)) {
-      jj_consume_token(SAVEPOINT);
+      jj_consume_token(ROLLUP);
     } else if (jj_2_1362(2)) {
-      jj_consume_token(SEARCH);
+      jj_consume_token(RUNNING);
     } else if (jj_2_1363(2)) {
-      jj_consume_token(SENSITIVE);
+      jj_consume_token(SAFE_ORDINAL);
     } else if (jj_2_1364(2)) {
-      jj_consume_token(SIMILAR);
+      jj_consume_token(SCROLL);
     } else if (jj_2_1365(2)) {
-      jj_consume_token(SPECIFIC);
+      jj_consume_token(SEEK);
     } else if (jj_2_1366(2)) {
-      jj_consume_token(SQLEXCEPTION);
+      jj_consume_token(SHOW);
     } else if (jj_2_1367(2)) {
-      jj_consume_token(SQRT);
+      jj_consume_token(SMALLINT);
     } else if (jj_2_1368(2)) {
-      jj_consume_token(STDDEV_POP);
+      jj_consume_token(SQL);
     } else if (jj_2_1369(2)) {
-      jj_consume_token(SUBMULTISET);
+      jj_consume_token(SQLWARNING);
     } else if (jj_2_1370(2)) {
-      jj_consume_token(SUBSTRING_REGEX);
+      jj_consume_token(STATIC);
     } else if (jj_2_1371(2)) {
-      jj_consume_token(SYSTEM);
+      jj_consume_token(STREAM);
     } else if (jj_2_1372(2)) {
-      jj_consume_token(TABLESAMPLE);
+      jj_consume_token(SUBSTRING);
     } else if (jj_2_1373(2)) {
-      jj_consume_token(TIMEZONE_HOUR);
+      jj_consume_token(SUM);
     } else if (jj_2_1374(2)) {
-      jj_consume_token(TRANSLATE);
+      jj_consume_token(SYSTEM_USER);
     } else if (jj_2_1375(2)) {
-      jj_consume_token(TREAT);
+      jj_consume_token(TIMESTAMP);
     } else if (jj_2_1376(2)) {
-      jj_consume_token(TRIM_ARRAY);
+      jj_consume_token(TINYINT);
     } else if (jj_2_1377(2)) {
-      jj_consume_token(UESCAPE);
+      jj_consume_token(TRANSLATION);
     } else if (jj_2_1378(2)) {
-      jj_consume_token(UNSIGNED);
+      jj_consume_token(TRIM);
     } else if (jj_2_1379(2)) {
-      jj_consume_token(UUID);
+      jj_consume_token(TRY_CAST);
     } else if (jj_2_1380(2)) {
-      jj_consume_token(VARBINARY);
+      jj_consume_token(UNKNOWN);
     } else if (jj_2_1381(2)) {
-      jj_consume_token(VARYING);
+      jj_consume_token(UPSERT);
     } else if (jj_2_1382(2)) {
-      jj_consume_token(VERSIONING);
+      jj_consume_token(VALUE_OF);
     } else if (jj_2_1383(2)) {
-      jj_consume_token(WINDOW);
+      jj_consume_token(VARCHAR);
     } else if (jj_2_1384(2)) {
-      jj_consume_token(YEAR);
+      jj_consume_token(VAR_SAMP);
     } else if (jj_2_1385(2)) {
-      jj_consume_token(WEDNESDAY);
+      jj_consume_token(WIDTH_BUCKET);
     } else if (jj_2_1386(2)) {
-      jj_consume_token(SATURDAY);
+      jj_consume_token(WITHOUT);
+    } else if (jj_2_1387(2)) {
+      jj_consume_token(TUESDAY);
+    } else if (jj_2_1388(2)) {
+      jj_consume_token(FRIDAY);
     } else {
       jj_consume_token(-1);
       throw new ParseException();
@@ -10875,450 +10889,450 @@ final String p;
 
 /** @see #NonReservedKeyWord */
   final public void NonReservedKeyWord1of3() throws ParseException {
-    if (jj_2_1387(2)) {
+    if (jj_2_1389(2)) {
       jj_consume_token(ABSENT);
-    } else if (jj_2_1388(2)) {
-      jj_consume_token(ADA);
-    } else if (jj_2_1389(2)) {
-      jj_consume_token(AFTER);
     } else if (jj_2_1390(2)) {
-      jj_consume_token(ARRAY_AGG);
+      jj_consume_token(ADA);
     } else if (jj_2_1391(2)) {
-      jj_consume_token(ASSERTION);
+      jj_consume_token(AFTER);
     } else if (jj_2_1392(2)) {
-      jj_consume_token(ATTRIBUTES);
+      jj_consume_token(ARRAY_AGG);
     } else if (jj_2_1393(2)) {
-      jj_consume_token(BREADTH);
+      jj_consume_token(ASSERTION);
     } else if (jj_2_1394(2)) {
-      jj_consume_token(CATALOG);
+      jj_consume_token(ATTRIBUTES);
     } else if (jj_2_1395(2)) {
-      jj_consume_token(CHAIN);
+      jj_consume_token(BREADTH);
     } else if (jj_2_1396(2)) {
-      jj_consume_token(CHARACTER_SET_CATALOG);
+      jj_consume_token(CATALOG);
     } else if (jj_2_1397(2)) {
-      jj_consume_token(CLASS_ORIGIN);
+      jj_consume_token(CHAIN);
     } else if (jj_2_1398(2)) {
-      jj_consume_token(COLLATION_CATALOG);
+      jj_consume_token(CHARACTER_SET_CATALOG);
     } else if (jj_2_1399(2)) {
-      jj_consume_token(COLUMN_NAME);
+      jj_consume_token(CLASS_ORIGIN);
     } else if (jj_2_1400(2)) {
-      jj_consume_token(COMMITTED);
+      jj_consume_token(COLLATION_CATALOG);
     } else if (jj_2_1401(2)) {
-      jj_consume_token(CONNECTION);
+      jj_consume_token(COLUMN_NAME);
     } else if (jj_2_1402(2)) {
-      jj_consume_token(CONSTRAINT_NAME);
+      jj_consume_token(COMMITTED);
     } else if (jj_2_1403(2)) {
-      jj_consume_token(CONSTRUCTOR);
+      jj_consume_token(CONNECTION);
     } else if (jj_2_1404(2)) {
-      jj_consume_token(CURSOR_NAME);
+      jj_consume_token(CONSTRAINT_NAME);
     } else if (jj_2_1405(2)) {
-      jj_consume_token(DATE_DIFF);
+      jj_consume_token(CONSTRUCTOR);
     } else if (jj_2_1406(2)) {
-      jj_consume_token(DATETIME_INTERVAL_CODE);
+      jj_consume_token(CURSOR_NAME);
     } else if (jj_2_1407(2)) {
-      jj_consume_token(DAYOFWEEK);
+      jj_consume_token(DATE_DIFF);
     } else if (jj_2_1408(2)) {
-      jj_consume_token(DECADE);
+      jj_consume_token(DATETIME_INTERVAL_CODE);
     } else if (jj_2_1409(2)) {
-      jj_consume_token(DEFERRED);
+      jj_consume_token(DAYOFWEEK);
     } else if (jj_2_1410(2)) {
-      jj_consume_token(DEGREE);
+      jj_consume_token(DECADE);
     } else if (jj_2_1411(2)) {
-      jj_consume_token(DESC);
+      jj_consume_token(DEFERRED);
     } else if (jj_2_1412(2)) {
-      jj_consume_token(DIAGNOSTICS);
+      jj_consume_token(DEGREE);
     } else if (jj_2_1413(2)) {
-      jj_consume_token(DOW);
+      jj_consume_token(DESC);
     } else if (jj_2_1414(2)) {
-      jj_consume_token(DYNAMIC_FUNCTION);
+      jj_consume_token(DIAGNOSTICS);
     } else if (jj_2_1415(2)) {
-      jj_consume_token(EPOCH);
+      jj_consume_token(DOW);
     } else if (jj_2_1416(2)) {
-      jj_consume_token(EXCLUDE);
+      jj_consume_token(DYNAMIC_FUNCTION);
     } else if (jj_2_1417(2)) {
-      jj_consume_token(FIRST);
+      jj_consume_token(EPOCH);
     } else if (jj_2_1418(2)) {
-      jj_consume_token(FORTRAN);
+      jj_consume_token(EXCLUDE);
     } else if (jj_2_1419(2)) {
-      jj_consume_token(G);
+      jj_consume_token(FIRST);
     } else if (jj_2_1420(2)) {
-      jj_consume_token(GEOMETRY);
+      jj_consume_token(FORTRAN);
     } else if (jj_2_1421(2)) {
-      jj_consume_token(GRANTED);
+      jj_consume_token(G);
     } else if (jj_2_1422(2)) {
-      jj_consume_token(HOP);
+      jj_consume_token(GEOMETRY);
     } else if (jj_2_1423(2)) {
-      jj_consume_token(ILIKE);
+      jj_consume_token(GRANTED);
     } else if (jj_2_1424(2)) {
-      jj_consume_token(IMPLEMENTATION);
+      jj_consume_token(HOP);
     } else if (jj_2_1425(2)) {
-      jj_consume_token(INCREMENT);
+      jj_consume_token(ILIKE);
     } else if (jj_2_1426(2)) {
-      jj_consume_token(INSTANCE);
+      jj_consume_token(IMPLEMENTATION);
     } else if (jj_2_1427(2)) {
-      jj_consume_token(ISODOW);
+      jj_consume_token(INCREMENT);
     } else if (jj_2_1428(2)) {
-      jj_consume_token(JAVA);
+      jj_consume_token(INSTANCE);
     } else if (jj_2_1429(2)) {
-      jj_consume_token(KEY);
+      jj_consume_token(ISODOW);
     } else if (jj_2_1430(2)) {
-      jj_consume_token(LABEL);
+      jj_consume_token(JAVA);
     } else if (jj_2_1431(2)) {
-      jj_consume_token(LEVEL);
+      jj_consume_token(KEY);
     } else if (jj_2_1432(2)) {
-      jj_consume_token(M);
+      jj_consume_token(LABEL);
     } else if (jj_2_1433(2)) {
-      jj_consume_token(MAXVALUE);
+      jj_consume_token(LEVEL);
     } else if (jj_2_1434(2)) {
-      jj_consume_token(MESSAGE_TEXT);
+      jj_consume_token(M);
     } else if (jj_2_1435(2)) {
-      jj_consume_token(MILLISECOND);
+      jj_consume_token(MAXVALUE);
     } else if (jj_2_1436(2)) {
-      jj_consume_token(MONTHS);
+      jj_consume_token(MESSAGE_TEXT);
     } else if (jj_2_1437(2)) {
-      jj_consume_token(NAME);
+      jj_consume_token(MILLISECOND);
     } else if (jj_2_1438(2)) {
-      jj_consume_token(NESTING);
+      jj_consume_token(MONTHS);
     } else if (jj_2_1439(2)) {
-      jj_consume_token(NULLS);
+      jj_consume_token(NAME);
     } else if (jj_2_1440(2)) {
-      jj_consume_token(OCTETS);
+      jj_consume_token(NESTING);
     } else if (jj_2_1441(2)) {
-      jj_consume_token(ORDERING);
+      jj_consume_token(NULLS);
     } else if (jj_2_1442(2)) {
-      jj_consume_token(OUTPUT);
+      jj_consume_token(OCTETS);
     } else if (jj_2_1443(2)) {
-      jj_consume_token(PARAMETER_MODE);
+      jj_consume_token(ORDERING);
     } else if (jj_2_1444(2)) {
-      jj_consume_token(PARAMETER_SPECIFIC_CATALOG);
+      jj_consume_token(OUTPUT);
     } else if (jj_2_1445(2)) {
-      jj_consume_token(PARTIAL);
+      jj_consume_token(PARAMETER_MODE);
     } else if (jj_2_1446(2)) {
-      jj_consume_token(PASSTHROUGH);
+      jj_consume_token(PARAMETER_SPECIFIC_CATALOG);
     } else if (jj_2_1447(2)) {
-      jj_consume_token(PIVOT);
+      jj_consume_token(PARTIAL);
     } else if (jj_2_1448(2)) {
-      jj_consume_token(PLI);
+      jj_consume_token(PASSTHROUGH);
     } else if (jj_2_1449(2)) {
-      jj_consume_token(PRIOR);
+      jj_consume_token(PIVOT);
     } else if (jj_2_1450(2)) {
-      jj_consume_token(QUARTER);
+      jj_consume_token(PLI);
     } else if (jj_2_1451(2)) {
-      jj_consume_token(RELATIVE);
+      jj_consume_token(PRIOR);
     } else if (jj_2_1452(2)) {
-      jj_consume_token(RESPECT);
+      jj_consume_token(QUARTER);
     } else if (jj_2_1453(2)) {
-      jj_consume_token(RETURNED_CARDINALITY);
+      jj_consume_token(RELATIVE);
     } else if (jj_2_1454(2)) {
-      jj_consume_token(RETURNED_SQLSTATE);
+      jj_consume_token(RESPECT);
     } else if (jj_2_1455(2)) {
-      jj_consume_token(ROLE);
+      jj_consume_token(RETURNED_CARDINALITY);
     } else if (jj_2_1456(2)) {
-      jj_consume_token(ROUTINE_NAME);
+      jj_consume_token(RETURNED_SQLSTATE);
     } else if (jj_2_1457(2)) {
-      jj_consume_token(SCALAR);
+      jj_consume_token(ROLE);
     } else if (jj_2_1458(2)) {
-      jj_consume_token(SCHEMA_NAME);
+      jj_consume_token(ROUTINE_NAME);
     } else if (jj_2_1459(2)) {
-      jj_consume_token(SCOPE_SCHEMA);
+      jj_consume_token(SCALAR);
     } else if (jj_2_1460(2)) {
-      jj_consume_token(SECURITY);
+      jj_consume_token(SCHEMA_NAME);
     } else if (jj_2_1461(2)) {
-      jj_consume_token(SEQUENCE);
+      jj_consume_token(SCOPE_SCHEMA);
     } else if (jj_2_1462(2)) {
-      jj_consume_token(SERVER_NAME);
+      jj_consume_token(SECURITY);
     } else if (jj_2_1463(2)) {
-      jj_consume_token(SIMPLE);
+      jj_consume_token(SEQUENCE);
     } else if (jj_2_1464(2)) {
-      jj_consume_token(SPACE);
+      jj_consume_token(SERVER_NAME);
     } else if (jj_2_1465(2)) {
-      jj_consume_token(SQL_BINARY);
+      jj_consume_token(SIMPLE);
     } else if (jj_2_1466(2)) {
-      jj_consume_token(SQL_BOOLEAN);
+      jj_consume_token(SPACE);
     } else if (jj_2_1467(2)) {
-      jj_consume_token(SQL_DATE);
+      jj_consume_token(SQL_BINARY);
     } else if (jj_2_1468(2)) {
-      jj_consume_token(SQL_FLOAT);
+      jj_consume_token(SQL_BOOLEAN);
     } else if (jj_2_1469(2)) {
-      jj_consume_token(SQL_INTERVAL_DAY_TO_HOUR);
+      jj_consume_token(SQL_DATE);
     } else if (jj_2_1470(2)) {
-      jj_consume_token(SQL_INTERVAL_HOUR);
+      jj_consume_token(SQL_FLOAT);
     } else if (jj_2_1471(2)) {
-      jj_consume_token(SQL_INTERVAL_MINUTE);
+      jj_consume_token(SQL_INTERVAL_DAY_TO_HOUR);
     } else if (jj_2_1472(2)) {
-      jj_consume_token(SQL_INTERVAL_SECOND);
+      jj_consume_token(SQL_INTERVAL_HOUR);
     } else if (jj_2_1473(2)) {
-      jj_consume_token(SQL_LONGVARBINARY);
+      jj_consume_token(SQL_INTERVAL_MINUTE);
     } else if (jj_2_1474(2)) {
-      jj_consume_token(SQL_NCHAR);
+      jj_consume_token(SQL_INTERVAL_SECOND);
     } else if (jj_2_1475(2)) {
-      jj_consume_token(SQL_NVARCHAR);
+      jj_consume_token(SQL_LONGVARBINARY);
     } else if (jj_2_1476(2)) {
-      jj_consume_token(SQL_TIME);
+      jj_consume_token(SQL_NCHAR);
     } else if (jj_2_1477(2)) {
-      jj_consume_token(SQL_TSI_DAY);
+      jj_consume_token(SQL_NVARCHAR);
     } else if (jj_2_1478(2)) {
-      jj_consume_token(SQL_TSI_MICROSECOND);
+      jj_consume_token(SQL_TIME);
     } else if (jj_2_1479(2)) {
-      jj_consume_token(SQL_TSI_QUARTER);
+      jj_consume_token(SQL_TSI_DAY);
     } else if (jj_2_1480(2)) {
-      jj_consume_token(SQL_TSI_YEAR);
+      jj_consume_token(SQL_TSI_MICROSECOND);
     } else if (jj_2_1481(2)) {
-      jj_consume_token(STATE);
+      jj_consume_token(SQL_TSI_QUARTER);
     } else if (jj_2_1482(2)) {
-      jj_consume_token(STRUCTURE);
+      jj_consume_token(SQL_TSI_YEAR);
     } else if (jj_2_1483(2)) {
-      jj_consume_token(SUBSTITUTE);
+      jj_consume_token(STATE);
     } else if (jj_2_1484(2)) {
-      jj_consume_token(TIES);
+      jj_consume_token(STRUCTURE);
     } else if (jj_2_1485(2)) {
-      jj_consume_token(TIMESTAMPADD);
+      jj_consume_token(SUBSTITUTE);
     } else if (jj_2_1486(2)) {
-      jj_consume_token(TIMESTAMP_TRUNC);
+      jj_consume_token(TIES);
     } else if (jj_2_1487(2)) {
-      jj_consume_token(TRANSACTIONS_ACTIVE);
+      jj_consume_token(TIMESTAMPADD);
     } else if (jj_2_1488(2)) {
-      jj_consume_token(TRANSFORM);
+      jj_consume_token(TIMESTAMP_TRUNC);
     } else if (jj_2_1489(2)) {
-      jj_consume_token(TRIGGER_NAME);
+      jj_consume_token(TRANSACTIONS_ACTIVE);
     } else if (jj_2_1490(2)) {
-      jj_consume_token(TYPE);
+      jj_consume_token(TRANSFORM);
     } else if (jj_2_1491(2)) {
-      jj_consume_token(UNCONDITIONAL);
+      jj_consume_token(TRIGGER_NAME);
     } else if (jj_2_1492(2)) {
-      jj_consume_token(UNNAMED);
+      jj_consume_token(TYPE);
     } else if (jj_2_1493(2)) {
-      jj_consume_token(USER_DEFINED_TYPE_CODE);
+      jj_consume_token(UNCONDITIONAL);
     } else if (jj_2_1494(2)) {
-      jj_consume_token(UTF16);
+      jj_consume_token(UNNAMED);
     } else if (jj_2_1495(2)) {
-      jj_consume_token(VERSION);
+      jj_consume_token(USER_DEFINED_TYPE_CODE);
     } else if (jj_2_1496(2)) {
-      jj_consume_token(WEEKS);
+      jj_consume_token(UTF16);
     } else if (jj_2_1497(2)) {
-      jj_consume_token(WRITE);
+      jj_consume_token(VERSION);
     } else if (jj_2_1498(2)) {
-      jj_consume_token(ZONE);
+      jj_consume_token(WEEKS);
     } else if (jj_2_1499(2)) {
-      jj_consume_token(AFFINITY_KEY);
+      jj_consume_token(WRITE);
     } else if (jj_2_1500(2)) {
-      jj_consume_token(CACHE_GROUP);
+      jj_consume_token(ZONE);
     } else if (jj_2_1501(2)) {
-      jj_consume_token(VALUE_TYPE);
+      jj_consume_token(AFFINITY_KEY);
     } else if (jj_2_1502(2)) {
-      jj_consume_token(ENCRYPTED);
+      jj_consume_token(CACHE_GROUP);
     } else if (jj_2_1503(2)) {
-      jj_consume_token(LOGGING);
+      jj_consume_token(VALUE_TYPE);
     } else if (jj_2_1504(2)) {
-      jj_consume_token(KILL);
+      jj_consume_token(ENCRYPTED);
     } else if (jj_2_1505(2)) {
-      jj_consume_token(SERVICE);
+      jj_consume_token(HASH);
     } else if (jj_2_1506(2)) {
-      jj_consume_token(QUERY);
+      jj_consume_token(PASSWORD);
     } else if (jj_2_1507(2)) {
-      jj_consume_token(ANALYZE);
+      jj_consume_token(CONTINUOUS);
     } else if (jj_2_1508(2)) {
-      jj_consume_token(ABS);
+      jj_consume_token(ASYNC);
     } else if (jj_2_1509(2)) {
-      jj_consume_token(ARE);
+      jj_consume_token(REFRESH);
     } else if (jj_2_1510(2)) {
-      jj_consume_token(ASOF);
+      jj_consume_token(TOTAL);
     } else if (jj_2_1511(2)) {
-      jj_consume_token(AUTHORIZATION);
+      jj_consume_token(ALLOW);
     } else if (jj_2_1512(2)) {
-      jj_consume_token(BEGIN_FRAME);
+      jj_consume_token(ASENSITIVE);
     } else if (jj_2_1513(2)) {
-      jj_consume_token(BINARY);
+      jj_consume_token(ATOMIC);
     } else if (jj_2_1514(2)) {
-      jj_consume_token(BOOLEAN);
+      jj_consume_token(BEGIN);
     } else if (jj_2_1515(2)) {
-      jj_consume_token(CARDINALITY);
+      jj_consume_token(BIGINT);
     } else if (jj_2_1516(2)) {
-      jj_consume_token(CEILING);
+      jj_consume_token(BLOB);
     } else if (jj_2_1517(2)) {
-      jj_consume_token(CHARACTER_LENGTH);
+      jj_consume_token(CALLED);
     } else if (jj_2_1518(2)) {
-      jj_consume_token(CLASSIFIER);
+      jj_consume_token(CEIL);
     } else if (jj_2_1519(2)) {
-      jj_consume_token(COALESCE);
+      jj_consume_token(CHARACTER);
     } else if (jj_2_1520(2)) {
-      jj_consume_token(COMMIT);
+      jj_consume_token(CHECK);
     } else if (jj_2_1521(2)) {
-      jj_consume_token(CONTAINS);
+      jj_consume_token(CLOSE);
     } else if (jj_2_1522(2)) {
-      jj_consume_token(CORRESPONDING);
+      jj_consume_token(COLLECT);
     } else if (jj_2_1523(2)) {
-      jj_consume_token(COVAR_SAMP);
+      jj_consume_token(CONNECT);
     } else if (jj_2_1524(2)) {
-      jj_consume_token(CURRENT);
+      jj_consume_token(CORR);
     } else if (jj_2_1525(2)) {
-      jj_consume_token(CURRENT_PATH);
+      jj_consume_token(COVAR_POP);
     } else if (jj_2_1526(2)) {
-      jj_consume_token(CURRENT_TRANSFORM_GROUP_FOR_TYPE);
+      jj_consume_token(CUME_DIST);
     } else if (jj_2_1527(2)) {
-      jj_consume_token(DATE);
+      jj_consume_token(CURRENT_DEFAULT_TRANSFORM_GROUP);
     } else if (jj_2_1528(2)) {
-      jj_consume_token(DEALLOCATE);
+      jj_consume_token(CURRENT_ROW);
     } else if (jj_2_1529(2)) {
-      jj_consume_token(DECLARE);
+      jj_consume_token(CYCLE);
     } else if (jj_2_1530(2)) {
-      jj_consume_token(DEREF);
+      jj_consume_token(DAY);
     } else if (jj_2_1531(2)) {
-      jj_consume_token(DISALLOW);
+      jj_consume_token(DECIMAL);
     } else if (jj_2_1532(2)) {
-      jj_consume_token(DYNAMIC);
+      jj_consume_token(DENSE_RANK);
     } else if (jj_2_1533(2)) {
-      jj_consume_token(EMPTY);
+      jj_consume_token(DETERMINISTIC);
     } else if (jj_2_1534(2)) {
-      jj_consume_token(END_FRAME);
+      jj_consume_token(DOUBLE);
     } else if (jj_2_1535(2)) {
-      jj_consume_token(ESCAPE);
+      jj_consume_token(ELEMENT);
     } else if (jj_2_1536(2)) {
-      jj_consume_token(EXECUTE);
+      jj_consume_token(END_EXEC);
     } else if (jj_2_1537(2)) {
-      jj_consume_token(EXTERNAL);
+      jj_consume_token(EQUALS);
     } else if (jj_2_1538(2)) {
-      jj_consume_token(FIRST_VALUE);
+      jj_consume_token(EXEC);
     } else if (jj_2_1539(2)) {
-      jj_consume_token(FOREIGN);
+      jj_consume_token(EXTEND);
     } else if (jj_2_1540(2)) {
-      jj_consume_token(FUNCTION);
+      jj_consume_token(FILTER);
     } else if (jj_2_1541(2)) {
-      jj_consume_token(GLOBAL);
+      jj_consume_token(FLOOR);
     } else if (jj_2_1542(2)) {
-      jj_consume_token(GROUPS);
+      jj_consume_token(FREE);
     } else if (jj_2_1543(2)) {
-      jj_consume_token(IDENTITY);
+      jj_consume_token(GET);
     } else if (jj_2_1544(2)) {
-      jj_consume_token(INITIAL);
+      jj_consume_token(GROUPING);
     } else if (jj_2_1545(2)) {
-      jj_consume_token(INT);
+      jj_consume_token(HOUR);
     } else if (jj_2_1546(2)) {
-      jj_consume_token(JSON_ARRAY);
+      jj_consume_token(INDICATOR);
     } else if (jj_2_1547(2)) {
-      jj_consume_token(JSON_OBJECT);
+      jj_consume_token(INSENSITIVE);
     } else if (jj_2_1548(2)) {
-      jj_consume_token(JSON_SCOPE);
+      jj_consume_token(INTERSECTION);
     } else if (jj_2_1549(2)) {
-      jj_consume_token(LANGUAGE);
+      jj_consume_token(JSON_EXISTS);
     } else if (jj_2_1550(2)) {
-      jj_consume_token(LATERAL);
+      jj_consume_token(JSON_QUERY);
     } else if (jj_2_1551(2)) {
-      jj_consume_token(LN);
+      jj_consume_token(LAG);
     } else if (jj_2_1552(2)) {
-      jj_consume_token(MATCH);
+      jj_consume_token(LAST_VALUE);
     } else if (jj_2_1553(2)) {
-      jj_consume_token(MATCH_NUMBER);
+      jj_consume_token(LIKE_REGEX);
     } else if (jj_2_1554(2)) {
-      jj_consume_token(MEASURE);
+      jj_consume_token(LOWER);
     } else if (jj_2_1555(2)) {
-      jj_consume_token(METHOD);
+      jj_consume_token(MATCH_CONDITION);
     } else if (jj_2_1556(2)) {
-      jj_consume_token(MOD);
+      jj_consume_token(MAX);
     } else if (jj_2_1557(2)) {
-      jj_consume_token(MONTH);
+      jj_consume_token(MEMBER);
     } else if (jj_2_1558(2)) {
-      jj_consume_token(NCHAR);
+      jj_consume_token(MINUTE);
     } else if (jj_2_1559(2)) {
-      jj_consume_token(NEXT);
+      jj_consume_token(MODULE);
     } else if (jj_2_1560(2)) {
-      jj_consume_token(NORMALIZE);
+      jj_consume_token(NATIONAL);
     } else if (jj_2_1561(2)) {
-      jj_consume_token(NULLIF);
+      jj_consume_token(NEW);
     } else if (jj_2_1562(2)) {
-      jj_consume_token(OCTET_LENGTH);
+      jj_consume_token(NONE);
     } else if (jj_2_1563(2)) {
-      jj_consume_token(OMIT);
+      jj_consume_token(NTILE);
     } else if (jj_2_1564(2)) {
-      jj_consume_token(OPEN);
+      jj_consume_token(OCCURRENCES_REGEX);
     } else if (jj_2_1565(2)) {
-      jj_consume_token(OVER);
+      jj_consume_token(OLD);
     } else if (jj_2_1566(2)) {
-      jj_consume_token(PARAMETER);
+      jj_consume_token(ONLY);
     } else if (jj_2_1567(2)) {
-      jj_consume_token(PERCENT);
+      jj_consume_token(OUT);
     } else if (jj_2_1568(2)) {
-      jj_consume_token(PERCENT_RANK);
+      jj_consume_token(OVERLAY);
     } else if (jj_2_1569(2)) {
-      jj_consume_token(PORTION);
+      jj_consume_token(PER);
     } else if (jj_2_1570(2)) {
-      jj_consume_token(POWER);
+      jj_consume_token(PERCENTILE_DISC);
     } else if (jj_2_1571(2)) {
-      jj_consume_token(PREPARE);
+      jj_consume_token(PERMUTE);
     } else if (jj_2_1572(2)) {
-      jj_consume_token(QUALIFY);
+      jj_consume_token(POSITION_REGEX);
     } else if (jj_2_1573(2)) {
-      jj_consume_token(READS);
+      jj_consume_token(PRECISION);
     } else if (jj_2_1574(2)) {
-      jj_consume_token(REF);
+      jj_consume_token(PROCEDURE);
     } else if (jj_2_1575(2)) {
-      jj_consume_token(REGR_AVGX);
+      jj_consume_token(RANK);
     } else if (jj_2_1576(2)) {
-      jj_consume_token(REGR_INTERCEPT);
+      jj_consume_token(RECURSIVE);
     } else if (jj_2_1577(2)) {
-      jj_consume_token(REGR_SXX);
+      jj_consume_token(REFERENCING);
     } else if (jj_2_1578(2)) {
-      jj_consume_token(RELEASE);
+      jj_consume_token(REGR_COUNT);
     } else if (jj_2_1579(2)) {
-      jj_consume_token(RETURN);
+      jj_consume_token(REGR_SLOPE);
     } else if (jj_2_1580(2)) {
-      jj_consume_token(ROLLBACK);
+      jj_consume_token(REGR_SYY);
     } else if (jj_2_1581(2)) {
-      jj_consume_token(ROW_NUMBER);
+      jj_consume_token(RESULT);
     } else if (jj_2_1582(2)) {
-      jj_consume_token(SAFE_OFFSET);
+      jj_consume_token(REVOKE);
     } else if (jj_2_1583(2)) {
-      jj_consume_token(SCOPE);
+      jj_consume_token(ROWS);
     } else if (jj_2_1584(2)) {
-      jj_consume_token(SECOND);
+      jj_consume_token(SAFE_CAST);
     } else if (jj_2_1585(2)) {
-      jj_consume_token(SESSION_USER);
+      jj_consume_token(SAVEPOINT);
     } else if (jj_2_1586(2)) {
-      jj_consume_token(SKIP_);
+      jj_consume_token(SEARCH);
     } else if (jj_2_1587(2)) {
-      jj_consume_token(SPECIFICTYPE);
+      jj_consume_token(SENSITIVE);
     } else if (jj_2_1588(2)) {
-      jj_consume_token(SQLSTATE);
+      jj_consume_token(SIMILAR);
     } else if (jj_2_1589(2)) {
-      jj_consume_token(START);
+      jj_consume_token(SPECIFIC);
     } else if (jj_2_1590(2)) {
-      jj_consume_token(STDDEV_SAMP);
+      jj_consume_token(SQLEXCEPTION);
     } else if (jj_2_1591(2)) {
-      jj_consume_token(SUBSET);
+      jj_consume_token(SQRT);
     } else if (jj_2_1592(2)) {
-      jj_consume_token(SUCCEEDS);
+      jj_consume_token(STDDEV_POP);
     } else if (jj_2_1593(2)) {
-      jj_consume_token(SYSTEM_TIME);
+      jj_consume_token(SUBMULTISET);
     } else if (jj_2_1594(2)) {
-      jj_consume_token(TIME);
+      jj_consume_token(SUBSTRING_REGEX);
     } else if (jj_2_1595(2)) {
-      jj_consume_token(TIMEZONE_MINUTE);
+      jj_consume_token(SYSTEM);
     } else if (jj_2_1596(2)) {
-      jj_consume_token(TRANSLATE_REGEX);
+      jj_consume_token(TABLESAMPLE);
     } else if (jj_2_1597(2)) {
-      jj_consume_token(TRIGGER);
+      jj_consume_token(TIMEZONE_HOUR);
     } else if (jj_2_1598(2)) {
-      jj_consume_token(TRUNCATE);
+      jj_consume_token(TRANSLATE);
     } else if (jj_2_1599(2)) {
-      jj_consume_token(UNIQUE);
+      jj_consume_token(TREAT);
     } else if (jj_2_1600(2)) {
-      jj_consume_token(UPPER);
+      jj_consume_token(TRIM_ARRAY);
     } else if (jj_2_1601(2)) {
-      jj_consume_token(VALUE);
+      jj_consume_token(UESCAPE);
     } else if (jj_2_1602(2)) {
-      jj_consume_token(VARIANT);
+      jj_consume_token(UNSIGNED);
     } else if (jj_2_1603(2)) {
-      jj_consume_token(VAR_POP);
+      jj_consume_token(UUID);
     } else if (jj_2_1604(2)) {
-      jj_consume_token(WHENEVER);
+      jj_consume_token(VARBINARY);
     } else if (jj_2_1605(2)) {
-      jj_consume_token(WITHIN);
+      jj_consume_token(VARYING);
     } else if (jj_2_1606(2)) {
-      jj_consume_token(MONDAY);
+      jj_consume_token(VERSIONING);
     } else if (jj_2_1607(2)) {
-      jj_consume_token(THURSDAY);
+      jj_consume_token(WINDOW);
     } else if (jj_2_1608(2)) {
-      jj_consume_token(SUNDAY);
+      jj_consume_token(YEAR);
+    } else if (jj_2_1609(2)) {
+      jj_consume_token(WEDNESDAY);
+    } else if (jj_2_1610(2)) {
+      jj_consume_token(SATURDAY);
     } else {
       jj_consume_token(-1);
       throw new ParseException();
@@ -11327,448 +11341,450 @@ final String p;
 
 /** @see #NonReservedKeyWord */
   final public void NonReservedKeyWord2of3() throws ParseException {
-    if (jj_2_1609(2)) {
+    if (jj_2_1611(2)) {
       jj_consume_token(ABSOLUTE);
-    } else if (jj_2_1610(2)) {
-      jj_consume_token(ADD);
-    } else if (jj_2_1611(2)) {
-      jj_consume_token(ALWAYS);
     } else if (jj_2_1612(2)) {
-      jj_consume_token(ARRAY_CONCAT_AGG);
+      jj_consume_token(ADD);
     } else if (jj_2_1613(2)) {
-      jj_consume_token(ASSIGNMENT);
+      jj_consume_token(ALWAYS);
     } else if (jj_2_1614(2)) {
-      jj_consume_token(BEFORE);
+      jj_consume_token(ARRAY_CONCAT_AGG);
     } else if (jj_2_1615(2)) {
-      jj_consume_token(C);
+      jj_consume_token(ASSIGNMENT);
     } else if (jj_2_1616(2)) {
-      jj_consume_token(CATALOG_NAME);
+      jj_consume_token(BEFORE);
     } else if (jj_2_1617(2)) {
-      jj_consume_token(CHARACTERISTICS);
+      jj_consume_token(C);
     } else if (jj_2_1618(2)) {
-      jj_consume_token(CHARACTER_SET_NAME);
+      jj_consume_token(CATALOG_NAME);
     } else if (jj_2_1619(2)) {
-      jj_consume_token(COBOL);
+      jj_consume_token(CHARACTERISTICS);
     } else if (jj_2_1620(2)) {
-      jj_consume_token(COLLATION_NAME);
+      jj_consume_token(CHARACTER_SET_NAME);
     } else if (jj_2_1621(2)) {
-      jj_consume_token(COMMAND_FUNCTION);
+      jj_consume_token(COBOL);
     } else if (jj_2_1622(2)) {
-      jj_consume_token(CONDITIONAL);
+      jj_consume_token(COLLATION_NAME);
     } else if (jj_2_1623(2)) {
-      jj_consume_token(CONNECTION_NAME);
+      jj_consume_token(COMMAND_FUNCTION);
     } else if (jj_2_1624(2)) {
-      jj_consume_token(CONSTRAINTS);
+      jj_consume_token(CONDITIONAL);
     } else if (jj_2_1625(2)) {
-      jj_consume_token(CONTAINS_SUBSTR);
+      jj_consume_token(CONNECTION_NAME);
     } else if (jj_2_1626(2)) {
-      jj_consume_token(DATA);
+      jj_consume_token(CONSTRAINTS);
     } else if (jj_2_1627(2)) {
-      jj_consume_token(DATE_TRUNC);
+      jj_consume_token(CONTAINS_SUBSTR);
     } else if (jj_2_1628(2)) {
-      jj_consume_token(DATETIME_INTERVAL_PRECISION);
+      jj_consume_token(DATA);
     } else if (jj_2_1629(2)) {
-      jj_consume_token(DAYOFYEAR);
+      jj_consume_token(DATE_TRUNC);
     } else if (jj_2_1630(2)) {
-      jj_consume_token(DEFAULTS);
+      jj_consume_token(DATETIME_INTERVAL_PRECISION);
     } else if (jj_2_1631(2)) {
-      jj_consume_token(DEFINED);
+      jj_consume_token(DAYOFYEAR);
     } else if (jj_2_1632(2)) {
-      jj_consume_token(DEPTH);
+      jj_consume_token(DEFAULTS);
     } else if (jj_2_1633(2)) {
-      jj_consume_token(DESCRIPTION);
+      jj_consume_token(DEFINED);
     } else if (jj_2_1634(2)) {
-      jj_consume_token(DISPATCH);
+      jj_consume_token(DEPTH);
     } else if (jj_2_1635(2)) {
-      jj_consume_token(DOY);
+      jj_consume_token(DESCRIPTION);
     } else if (jj_2_1636(2)) {
-      jj_consume_token(DYNAMIC_FUNCTION_CODE);
+      jj_consume_token(DISPATCH);
     } else if (jj_2_1637(2)) {
-      jj_consume_token(ERROR);
+      jj_consume_token(DOY);
     } else if (jj_2_1638(2)) {
-      jj_consume_token(EXCLUDING);
+      jj_consume_token(DYNAMIC_FUNCTION_CODE);
     } else if (jj_2_1639(2)) {
-      jj_consume_token(FOLLOWING);
+      jj_consume_token(ERROR);
     } else if (jj_2_1640(2)) {
-      jj_consume_token(FOUND);
+      jj_consume_token(EXCLUDING);
     } else if (jj_2_1641(2)) {
-      jj_consume_token(GENERAL);
+      jj_consume_token(FOLLOWING);
     } else if (jj_2_1642(2)) {
-      jj_consume_token(GO);
+      jj_consume_token(FOUND);
     } else if (jj_2_1643(2)) {
-      jj_consume_token(GROUP_CONCAT);
+      jj_consume_token(GENERAL);
     } else if (jj_2_1644(2)) {
-      jj_consume_token(HOURS);
+      jj_consume_token(GO);
     } else if (jj_2_1645(2)) {
-      jj_consume_token(IMMEDIATE);
+      jj_consume_token(GROUP_CONCAT);
     } else if (jj_2_1646(2)) {
-      jj_consume_token(INCLUDE);
+      jj_consume_token(HOURS);
     } else if (jj_2_1647(2)) {
-      jj_consume_token(INITIALLY);
+      jj_consume_token(IMMEDIATE);
     } else if (jj_2_1648(2)) {
-      jj_consume_token(INSTANTIABLE);
+      jj_consume_token(INCLUDE);
     } else if (jj_2_1649(2)) {
-      jj_consume_token(ISOLATION);
+      jj_consume_token(INITIALLY);
     } else if (jj_2_1650(2)) {
-      jj_consume_token(JSON);
+      jj_consume_token(INSTANTIABLE);
     } else if (jj_2_1651(2)) {
-      jj_consume_token(KEY_MEMBER);
+      jj_consume_token(ISOLATION);
     } else if (jj_2_1652(2)) {
-      jj_consume_token(LAST);
+      jj_consume_token(JSON);
     } else if (jj_2_1653(2)) {
-      jj_consume_token(LIBRARY);
+      jj_consume_token(KEY_MEMBER);
     } else if (jj_2_1654(2)) {
-      jj_consume_token(MAP);
+      jj_consume_token(LAST);
     } else if (jj_2_1655(2)) {
-      jj_consume_token(MESSAGE_LENGTH);
+      jj_consume_token(LIBRARY);
     } else if (jj_2_1656(2)) {
-      jj_consume_token(MICROSECOND);
+      jj_consume_token(MAP);
     } else if (jj_2_1657(2)) {
-      jj_consume_token(MINUTES);
+      jj_consume_token(MESSAGE_LENGTH);
     } else if (jj_2_1658(2)) {
-      jj_consume_token(MORE_);
+      jj_consume_token(MICROSECOND);
     } else if (jj_2_1659(2)) {
-      jj_consume_token(NAMES);
+      jj_consume_token(MINUTES);
     } else if (jj_2_1660(2)) {
-      jj_consume_token(NORMALIZED);
+      jj_consume_token(MORE_);
     } else if (jj_2_1661(2)) {
-      jj_consume_token(NUMBER);
+      jj_consume_token(NAMES);
     } else if (jj_2_1662(2)) {
-      jj_consume_token(OPTION);
+      jj_consume_token(NORMALIZED);
     } else if (jj_2_1663(2)) {
-      jj_consume_token(ORDINALITY);
+      jj_consume_token(NUMBER);
     } else if (jj_2_1664(2)) {
-      jj_consume_token(OVERRIDING);
+      jj_consume_token(OPTION);
     } else if (jj_2_1665(2)) {
-      jj_consume_token(PARAMETER_NAME);
+      jj_consume_token(ORDINALITY);
     } else if (jj_2_1666(2)) {
-      jj_consume_token(PARAMETER_SPECIFIC_NAME);
+      jj_consume_token(OVERRIDING);
     } else if (jj_2_1667(2)) {
-      jj_consume_token(PASCAL);
+      jj_consume_token(PARAMETER_NAME);
     } else if (jj_2_1668(2)) {
-      jj_consume_token(PAST);
+      jj_consume_token(PARAMETER_SPECIFIC_NAME);
     } else if (jj_2_1669(2)) {
-      jj_consume_token(PLACING);
+      jj_consume_token(PASCAL);
     } else if (jj_2_1670(2)) {
-      jj_consume_token(PRECEDING);
+      jj_consume_token(PAST);
     } else if (jj_2_1671(2)) {
-      jj_consume_token(PRIVILEGES);
+      jj_consume_token(PLACING);
     } else if (jj_2_1672(2)) {
-      jj_consume_token(QUARTERS);
+      jj_consume_token(PRECEDING);
     } else if (jj_2_1673(2)) {
-      jj_consume_token(REPEATABLE);
+      jj_consume_token(PRIVILEGES);
     } else if (jj_2_1674(2)) {
-      jj_consume_token(RESTART);
+      jj_consume_token(QUARTERS);
     } else if (jj_2_1675(2)) {
-      jj_consume_token(RETURNED_LENGTH);
+      jj_consume_token(REPEATABLE);
     } else if (jj_2_1676(2)) {
-      jj_consume_token(RETURNING);
+      jj_consume_token(RESTART);
     } else if (jj_2_1677(2)) {
-      jj_consume_token(ROUTINE);
+      jj_consume_token(RETURNED_LENGTH);
     } else if (jj_2_1678(2)) {
-      jj_consume_token(ROUTINE_SCHEMA);
+      jj_consume_token(RETURNING);
     } else if (jj_2_1679(2)) {
-      jj_consume_token(SCALE);
+      jj_consume_token(ROUTINE);
     } else if (jj_2_1680(2)) {
-      jj_consume_token(SCOPE_CATALOGS);
+      jj_consume_token(ROUTINE_SCHEMA);
     } else if (jj_2_1681(2)) {
-      jj_consume_token(SECONDS);
+      jj_consume_token(SCALE);
     } else if (jj_2_1682(2)) {
-      jj_consume_token(SELF);
+      jj_consume_token(SCOPE_CATALOGS);
     } else if (jj_2_1683(2)) {
-      jj_consume_token(SERIALIZABLE);
+      jj_consume_token(SECONDS);
     } else if (jj_2_1684(2)) {
-      jj_consume_token(SESSION);
+      jj_consume_token(SELF);
     } else if (jj_2_1685(2)) {
-      jj_consume_token(SIZE);
+      jj_consume_token(SERIALIZABLE);
     } else if (jj_2_1686(2)) {
-      jj_consume_token(SPECIFIC_NAME);
+      jj_consume_token(SESSION);
     } else if (jj_2_1687(2)) {
-      jj_consume_token(SQL_BIT);
+      jj_consume_token(SIZE);
     } else if (jj_2_1688(2)) {
-      jj_consume_token(SQL_CHAR);
+      jj_consume_token(SPECIFIC_NAME);
     } else if (jj_2_1689(2)) {
-      jj_consume_token(SQL_DECIMAL);
+      jj_consume_token(SQL_BIT);
     } else if (jj_2_1690(2)) {
-      jj_consume_token(SQL_INTEGER);
+      jj_consume_token(SQL_CHAR);
     } else if (jj_2_1691(2)) {
-      jj_consume_token(SQL_INTERVAL_DAY_TO_MINUTE);
+      jj_consume_token(SQL_DECIMAL);
     } else if (jj_2_1692(2)) {
-      jj_consume_token(SQL_INTERVAL_HOUR_TO_MINUTE);
+      jj_consume_token(SQL_INTEGER);
     } else if (jj_2_1693(2)) {
-      jj_consume_token(SQL_INTERVAL_MINUTE_TO_SECOND);
+      jj_consume_token(SQL_INTERVAL_DAY_TO_MINUTE);
     } else if (jj_2_1694(2)) {
-      jj_consume_token(SQL_INTERVAL_YEAR);
+      jj_consume_token(SQL_INTERVAL_HOUR_TO_MINUTE);
     } else if (jj_2_1695(2)) {
-      jj_consume_token(SQL_LONGVARCHAR);
+      jj_consume_token(SQL_INTERVAL_MINUTE_TO_SECOND);
     } else if (jj_2_1696(2)) {
-      jj_consume_token(SQL_NCLOB);
+      jj_consume_token(SQL_INTERVAL_YEAR);
     } else if (jj_2_1697(2)) {
-      jj_consume_token(SQL_REAL);
+      jj_consume_token(SQL_LONGVARCHAR);
     } else if (jj_2_1698(2)) {
-      jj_consume_token(SQL_TIMESTAMP);
+      jj_consume_token(SQL_NCLOB);
     } else if (jj_2_1699(2)) {
-      jj_consume_token(SQL_TSI_FRAC_SECOND);
+      jj_consume_token(SQL_REAL);
     } else if (jj_2_1700(2)) {
-      jj_consume_token(SQL_TSI_MINUTE);
+      jj_consume_token(SQL_TIMESTAMP);
     } else if (jj_2_1701(2)) {
-      jj_consume_token(SQL_TSI_SECOND);
+      jj_consume_token(SQL_TSI_FRAC_SECOND);
     } else if (jj_2_1702(2)) {
-      jj_consume_token(SQL_VARBINARY);
+      jj_consume_token(SQL_TSI_MINUTE);
     } else if (jj_2_1703(2)) {
-      jj_consume_token(STATEMENT);
+      jj_consume_token(SQL_TSI_SECOND);
     } else if (jj_2_1704(2)) {
-      jj_consume_token(STYLE);
+      jj_consume_token(SQL_VARBINARY);
     } else if (jj_2_1705(2)) {
-      jj_consume_token(TABLE_NAME);
+      jj_consume_token(STATEMENT);
     } else if (jj_2_1706(2)) {
-      jj_consume_token(TIME_DIFF);
+      jj_consume_token(STYLE);
     } else if (jj_2_1707(2)) {
-      jj_consume_token(TIMESTAMPDIFF);
+      jj_consume_token(TABLE_NAME);
     } else if (jj_2_1708(2)) {
-      jj_consume_token(TOP_LEVEL_COUNT);
+      jj_consume_token(TIME_DIFF);
     } else if (jj_2_1709(2)) {
-      jj_consume_token(TRANSACTIONS_COMMITTED);
+      jj_consume_token(TIMESTAMPDIFF);
     } else if (jj_2_1710(2)) {
-      jj_consume_token(TRANSFORMS);
+      jj_consume_token(TOP_LEVEL_COUNT);
     } else if (jj_2_1711(2)) {
-      jj_consume_token(TRIGGER_SCHEMA);
+      jj_consume_token(TRANSACTIONS_COMMITTED);
     } else if (jj_2_1712(2)) {
-      jj_consume_token(UNBOUNDED);
+      jj_consume_token(TRANSFORMS);
     } else if (jj_2_1713(2)) {
-      jj_consume_token(UNDER);
+      jj_consume_token(TRIGGER_SCHEMA);
     } else if (jj_2_1714(2)) {
-      jj_consume_token(USAGE);
+      jj_consume_token(UNBOUNDED);
     } else if (jj_2_1715(2)) {
-      jj_consume_token(USER_DEFINED_TYPE_NAME);
+      jj_consume_token(UNDER);
     } else if (jj_2_1716(2)) {
-      jj_consume_token(UTF32);
+      jj_consume_token(USAGE);
     } else if (jj_2_1717(2)) {
-      jj_consume_token(VIEW);
+      jj_consume_token(USER_DEFINED_TYPE_NAME);
     } else if (jj_2_1718(2)) {
-      jj_consume_token(WORK);
+      jj_consume_token(UTF32);
     } else if (jj_2_1719(2)) {
-      jj_consume_token(XML);
+      jj_consume_token(VIEW);
     } else if (jj_2_1720(2)) {
-      jj_consume_token(TEMPLATE);
+      jj_consume_token(WORK);
     } else if (jj_2_1721(2)) {
-      jj_consume_token(ATOMICITY);
+      jj_consume_token(XML);
     } else if (jj_2_1722(2)) {
-      jj_consume_token(CACHE_NAME);
+      jj_consume_token(TEMPLATE);
     } else if (jj_2_1723(2)) {
-      jj_consume_token(WRAP_KEY);
+      jj_consume_token(ATOMICITY);
     } else if (jj_2_1724(2)) {
-      jj_consume_token(PARALLEL);
+      jj_consume_token(CACHE_NAME);
     } else if (jj_2_1725(2)) {
-      jj_consume_token(NOLOGGING);
+      jj_consume_token(WRAP_KEY);
     } else if (jj_2_1726(2)) {
-      jj_consume_token(SCAN);
+      jj_consume_token(PARALLEL);
     } else if (jj_2_1727(2)) {
-      jj_consume_token(COMPUTE);
+      jj_consume_token(LOGGING);
     } else if (jj_2_1728(2)) {
-      jj_consume_token(STATISTICS);
+      jj_consume_token(KILL);
     } else if (jj_2_1729(2)) {
-      jj_consume_token(MAX_CHANGED_PARTITION_ROWS_PERCENT);
+      jj_consume_token(SERVICE);
     } else if (jj_2_1730(2)) {
-      jj_consume_token(ALLOCATE);
+      jj_consume_token(QUERY);
     } else if (jj_2_1731(2)) {
-      jj_consume_token(ARRAY_MAX_CARDINALITY);
+      jj_consume_token(ANALYZE);
     } else if (jj_2_1732(2)) {
-      jj_consume_token(AT);
+      jj_consume_token(ABS);
     } else if (jj_2_1733(2)) {
-      jj_consume_token(AVG);
+      jj_consume_token(ARE);
     } else if (jj_2_1734(2)) {
-      jj_consume_token(BEGIN_PARTITION);
+      jj_consume_token(ASOF);
     } else if (jj_2_1735(2)) {
-      jj_consume_token(BIT);
+      jj_consume_token(AUTHORIZATION);
     } else if (jj_2_1736(2)) {
-      jj_consume_token(CALL);
+      jj_consume_token(BEGIN_FRAME);
     } else if (jj_2_1737(2)) {
-      jj_consume_token(CASCADED);
+      jj_consume_token(BINARY);
     } else if (jj_2_1738(2)) {
-      jj_consume_token(CHAR);
+      jj_consume_token(BOOLEAN);
     } else if (jj_2_1739(2)) {
-      jj_consume_token(CHAR_LENGTH);
+      jj_consume_token(CARDINALITY);
     } else if (jj_2_1740(2)) {
-      jj_consume_token(CLOB);
+      jj_consume_token(CEILING);
     } else if (jj_2_1741(2)) {
-      jj_consume_token(COLLATE);
+      jj_consume_token(CHARACTER_LENGTH);
     } else if (jj_2_1742(2)) {
-      jj_consume_token(CONDITION);
+      jj_consume_token(CLASSIFIER);
     } else if (jj_2_1743(2)) {
-      jj_consume_token(CONVERT);
+      jj_consume_token(COALESCE);
     } else if (jj_2_1744(2)) {
-      jj_consume_token(COUNT);
+      jj_consume_token(COMMIT);
     } else if (jj_2_1745(2)) {
-      jj_consume_token(CUBE);
+      jj_consume_token(CONTAINS);
     } else if (jj_2_1746(2)) {
-      jj_consume_token(CURRENT_CATALOG);
+      jj_consume_token(CORRESPONDING);
     } else if (jj_2_1747(2)) {
-      jj_consume_token(CURRENT_ROLE);
+      jj_consume_token(COVAR_SAMP);
     } else if (jj_2_1748(2)) {
-      jj_consume_token(CURSOR);
+      jj_consume_token(CURRENT);
     } else if (jj_2_1749(2)) {
-      jj_consume_token(DATETIME);
+      jj_consume_token(CURRENT_PATH);
     } else if (jj_2_1750(2)) {
-      jj_consume_token(DEC);
+      jj_consume_token(CURRENT_TRANSFORM_GROUP_FOR_TYPE);
     } else if (jj_2_1751(2)) {
-      jj_consume_token(DEFINE);
+      jj_consume_token(DATE);
     } else if (jj_2_1752(2)) {
-      jj_consume_token(DESCRIBE);
+      jj_consume_token(DEALLOCATE);
     } else if (jj_2_1753(2)) {
-      jj_consume_token(DISCONNECT);
+      jj_consume_token(DECLARE);
     } else if (jj_2_1754(2)) {
-      jj_consume_token(EACH);
+      jj_consume_token(DEREF);
     } else if (jj_2_1755(2)) {
-      jj_consume_token(END);
+      jj_consume_token(DISALLOW);
     } else if (jj_2_1756(2)) {
-      jj_consume_token(END_PARTITION);
+      jj_consume_token(DYNAMIC);
     } else if (jj_2_1757(2)) {
-      jj_consume_token(EVERY);
+      jj_consume_token(EMPTY);
     } else if (jj_2_1758(2)) {
-      jj_consume_token(EXP);
+      jj_consume_token(END_FRAME);
     } else if (jj_2_1759(2)) {
-      jj_consume_token(EXTRACT);
+      jj_consume_token(ESCAPE);
     } else if (jj_2_1760(2)) {
-      jj_consume_token(FLOAT);
+      jj_consume_token(EXECUTE);
     } else if (jj_2_1761(2)) {
-      jj_consume_token(FRAME_ROW);
+      jj_consume_token(EXTERNAL);
     } else if (jj_2_1762(2)) {
-      jj_consume_token(FUSION);
+      jj_consume_token(FIRST_VALUE);
     } else if (jj_2_1763(2)) {
-      jj_consume_token(GRANT);
+      jj_consume_token(FOREIGN);
     } else if (jj_2_1764(2)) {
-      jj_consume_token(HOLD);
+      jj_consume_token(FUNCTION);
     } else if (jj_2_1765(2)) {
-      jj_consume_token(IMPORT);
+      jj_consume_token(GLOBAL);
     } else if (jj_2_1766(2)) {
-      jj_consume_token(INOUT);
+      jj_consume_token(GROUPS);
     } else if (jj_2_1767(2)) {
-      jj_consume_token(INTEGER);
+      jj_consume_token(IDENTITY);
     } else if (jj_2_1768(2)) {
-      jj_consume_token(JSON_ARRAYAGG);
+      jj_consume_token(INITIAL);
     } else if (jj_2_1769(2)) {
-      jj_consume_token(JSON_OBJECTAGG);
+      jj_consume_token(INT);
     } else if (jj_2_1770(2)) {
-      jj_consume_token(JSON_VALUE);
+      jj_consume_token(JSON_ARRAY);
     } else if (jj_2_1771(2)) {
-      jj_consume_token(LARGE);
+      jj_consume_token(JSON_OBJECT);
     } else if (jj_2_1772(2)) {
-      jj_consume_token(LEAD);
+      jj_consume_token(JSON_SCOPE);
     } else if (jj_2_1773(2)) {
-      jj_consume_token(LOCAL);
+      jj_consume_token(LANGUAGE);
     } else if (jj_2_1774(2)) {
-      jj_consume_token(MATCHES);
+      jj_consume_token(LATERAL);
     } else if (jj_2_1775(2)) {
-      jj_consume_token(MATCH_RECOGNIZE);
+      jj_consume_token(LN);
     } else if (jj_2_1776(2)) {
-      jj_consume_token(MEASURES);
+      jj_consume_token(MATCH);
     } else if (jj_2_1777(2)) {
-      jj_consume_token(MIN);
+      jj_consume_token(MATCH_NUMBER);
     } else if (jj_2_1778(2)) {
-      jj_consume_token(MODIFIES);
+      jj_consume_token(MEASURE);
     } else if (jj_2_1779(2)) {
-      jj_consume_token(MULTISET);
+      jj_consume_token(METHOD);
     } else if (jj_2_1780(2)) {
-      jj_consume_token(NCLOB);
+      jj_consume_token(MOD);
     } else if (jj_2_1781(2)) {
-      jj_consume_token(NO);
+      jj_consume_token(MONTH);
     } else if (jj_2_1782(2)) {
-      jj_consume_token(NTH_VALUE);
+      jj_consume_token(NCHAR);
     } else if (jj_2_1783(2)) {
-      jj_consume_token(NUMERIC);
+      jj_consume_token(NEXT);
     } else if (jj_2_1784(2)) {
-      jj_consume_token(OF);
+      jj_consume_token(NORMALIZE);
     } else if (jj_2_1785(2)) {
-      jj_consume_token(ONE);
+      jj_consume_token(NULLIF);
     } else if (jj_2_1786(2)) {
-      jj_consume_token(ORDINAL);
+      jj_consume_token(OCTET_LENGTH);
     } else if (jj_2_1787(2)) {
-      jj_consume_token(OVERLAPS);
+      jj_consume_token(OMIT);
     } else if (jj_2_1788(2)) {
-      jj_consume_token(PATTERN);
+      jj_consume_token(OPEN);
     } else if (jj_2_1789(2)) {
-      jj_consume_token(PERCENTILE_CONT);
+      jj_consume_token(OVER);
     } else if (jj_2_1790(2)) {
-      jj_consume_token(PERIOD);
+      jj_consume_token(PARAMETER);
     } else if (jj_2_1791(2)) {
-      jj_consume_token(POSITION);
+      jj_consume_token(PERCENT);
     } else if (jj_2_1792(2)) {
-      jj_consume_token(PRECEDES);
+      jj_consume_token(PERCENT_RANK);
     } else if (jj_2_1793(2)) {
-      jj_consume_token(PREV);
+      jj_consume_token(PORTION);
     } else if (jj_2_1794(2)) {
-      jj_consume_token(RANGE);
+      jj_consume_token(POWER);
     } else if (jj_2_1795(2)) {
-      jj_consume_token(REAL);
+      jj_consume_token(PREPARE);
     } else if (jj_2_1796(2)) {
-      jj_consume_token(REFERENCES);
+      jj_consume_token(QUALIFY);
     } else if (jj_2_1797(2)) {
-      jj_consume_token(REGR_AVGY);
+      jj_consume_token(READS);
     } else if (jj_2_1798(2)) {
-      jj_consume_token(REGR_R2);
+      jj_consume_token(REF);
     } else if (jj_2_1799(2)) {
-      jj_consume_token(REGR_SXY);
+      jj_consume_token(REGR_AVGX);
     } else if (jj_2_1800(2)) {
-      jj_consume_token(RESET);
+      jj_consume_token(REGR_INTERCEPT);
     } else if (jj_2_1801(2)) {
-      jj_consume_token(RETURNS);
+      jj_consume_token(REGR_SXX);
     } else if (jj_2_1802(2)) {
-      jj_consume_token(ROLLUP);
+      jj_consume_token(RELEASE);
     } else if (jj_2_1803(2)) {
-      jj_consume_token(RUNNING);
+      jj_consume_token(RETURN);
     } else if (jj_2_1804(2)) {
-      jj_consume_token(SAFE_ORDINAL);
+      jj_consume_token(ROLLBACK);
     } else if (jj_2_1805(2)) {
-      jj_consume_token(SCROLL);
+      jj_consume_token(ROW_NUMBER);
     } else if (jj_2_1806(2)) {
-      jj_consume_token(SEEK);
+      jj_consume_token(SAFE_OFFSET);
     } else if (jj_2_1807(2)) {
-      jj_consume_token(SHOW);
+      jj_consume_token(SCOPE);
     } else if (jj_2_1808(2)) {
-      jj_consume_token(SMALLINT);
+      jj_consume_token(SECOND);
     } else if (jj_2_1809(2)) {
-      jj_consume_token(SQL);
+      jj_consume_token(SESSION_USER);
     } else if (jj_2_1810(2)) {
-      jj_consume_token(SQLWARNING);
+      jj_consume_token(SKIP_);
     } else if (jj_2_1811(2)) {
-      jj_consume_token(STATIC);
+      jj_consume_token(SPECIFICTYPE);
     } else if (jj_2_1812(2)) {
-      jj_consume_token(STREAM);
+      jj_consume_token(SQLSTATE);
     } else if (jj_2_1813(2)) {
-      jj_consume_token(SUBSTRING);
+      jj_consume_token(START);
     } else if (jj_2_1814(2)) {
-      jj_consume_token(SUM);
+      jj_consume_token(STDDEV_SAMP);
     } else if (jj_2_1815(2)) {
-      jj_consume_token(SYSTEM_USER);
+      jj_consume_token(SUBSET);
     } else if (jj_2_1816(2)) {
-      jj_consume_token(TIMESTAMP);
+      jj_consume_token(SUCCEEDS);
     } else if (jj_2_1817(2)) {
-      jj_consume_token(TINYINT);
+      jj_consume_token(SYSTEM_TIME);
     } else if (jj_2_1818(2)) {
-      jj_consume_token(TRANSLATION);
+      jj_consume_token(TIME);
     } else if (jj_2_1819(2)) {
-      jj_consume_token(TRIM);
+      jj_consume_token(TIMEZONE_MINUTE);
     } else if (jj_2_1820(2)) {
-      jj_consume_token(TRY_CAST);
+      jj_consume_token(TRANSLATE_REGEX);
     } else if (jj_2_1821(2)) {
-      jj_consume_token(UNKNOWN);
+      jj_consume_token(TRIGGER);
     } else if (jj_2_1822(2)) {
-      jj_consume_token(UPSERT);
+      jj_consume_token(TRUNCATE);
     } else if (jj_2_1823(2)) {
-      jj_consume_token(VALUE_OF);
+      jj_consume_token(UNIQUE);
     } else if (jj_2_1824(2)) {
-      jj_consume_token(VARCHAR);
+      jj_consume_token(UPPER);
     } else if (jj_2_1825(2)) {
-      jj_consume_token(VAR_SAMP);
+      jj_consume_token(VALUE);
     } else if (jj_2_1826(2)) {
-      jj_consume_token(WIDTH_BUCKET);
+      jj_consume_token(VARIANT);
     } else if (jj_2_1827(2)) {
-      jj_consume_token(WITHOUT);
+      jj_consume_token(VAR_POP);
     } else if (jj_2_1828(2)) {
-      jj_consume_token(TUESDAY);
+      jj_consume_token(WHENEVER);
     } else if (jj_2_1829(2)) {
-      jj_consume_token(FRIDAY);
+      jj_consume_token(WITHIN);
+    } else if (jj_2_1830(2)) {
+      jj_consume_token(MONDAY);
+    } else if (jj_2_1831(2)) {
+      jj_consume_token(THURSDAY);
+    } else if (jj_2_1832(2)) {
+      jj_consume_token(SUNDAY);
     } else {
       jj_consume_token(-1);
       throw new ParseException();
@@ -24595,69 +24611,43 @@ final String p;
     finally { jj_save(1828, xla); }
   }
 
-  final private boolean jj_3R_262() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_615()) {
-    jj_scanpos = xsp;
-    if (jj_3_616()) return true;
-    }
-    return false;
-  }
-
-  final private boolean jj_3_615() {
-    if (jj_scan_token(SECOND)) return true;
-    return false;
+  final private boolean jj_2_1830(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_1830(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(1829, xla); }
   }
 
-  final private boolean jj_3R_349() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_268()) {
-    jj_scanpos = xsp;
-    if (jj_3_269()) {
-    jj_scanpos = xsp;
-    if (jj_3_270()) {
-    jj_scanpos = xsp;
-    if (jj_3_271()) {
-    jj_scanpos = xsp;
-    if (jj_3_272()) return true;
-    }
-    }
-    }
-    }
-    xsp = jj_scanpos;
-    if (jj_3_273()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3_274()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3_277()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3_278()) jj_scanpos = xsp;
-    return false;
+  final private boolean jj_2_1831(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_1831(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(1830, xla); }
   }
 
-  final private boolean jj_3_614() {
-    if (jj_scan_token(MINUTES)) return true;
-    return false;
+  final private boolean jj_2_1832(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_1832(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(1831, xla); }
   }
 
   final private boolean jj_3R_261() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_613()) {
+    if (jj_3_615()) {
     jj_scanpos = xsp;
-    if (jj_3_614()) return true;
+    if (jj_3_616()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_613() {
+  final private boolean jj_3_615() {
     if (jj_scan_token(MINUTE)) return true;
     return false;
   }
 
-  final private boolean jj_3_612() {
+  final private boolean jj_3_614() {
     if (jj_scan_token(HOURS)) return true;
     return false;
   }
@@ -24665,19 +24655,19 @@ final String p;
   final private boolean jj_3R_260() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_611()) {
+    if (jj_3_613()) {
     jj_scanpos = xsp;
-    if (jj_3_612()) return true;
+    if (jj_3_614()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_611() {
+  final private boolean jj_3_613() {
     if (jj_scan_token(HOUR)) return true;
     return false;
   }
 
-  final private boolean jj_3_610() {
+  final private boolean jj_3_612() {
     if (jj_scan_token(DAYS)) return true;
     return false;
   }
@@ -24685,14 +24675,14 @@ final String p;
   final private boolean jj_3R_269() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_609()) {
+    if (jj_3_611()) {
     jj_scanpos = xsp;
-    if (jj_3_610()) return true;
+    if (jj_3_612()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_609() {
+  final private boolean jj_3_611() {
     if (jj_scan_token(DAY)) return true;
     return false;
   }
@@ -24702,7 +24692,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_608() {
+  final private boolean jj_3_610() {
     if (jj_scan_token(WEEKS)) return true;
     return false;
   }
@@ -24710,19 +24700,19 @@ final String p;
   final private boolean jj_3R_268() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_607()) {
+    if (jj_3_609()) {
     jj_scanpos = xsp;
-    if (jj_3_608()) return true;
+    if (jj_3_610()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_607() {
+  final private boolean jj_3_609() {
     if (jj_scan_token(WEEK)) return true;
     return false;
   }
 
-  final private boolean jj_3_606() {
+  final private boolean jj_3_608() {
     if (jj_scan_token(MONTHS)) return true;
     return false;
   }
@@ -24730,19 +24720,19 @@ final String p;
   final private boolean jj_3R_259() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_605()) {
+    if (jj_3_607()) {
     jj_scanpos = xsp;
-    if (jj_3_606()) return true;
+    if (jj_3_608()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_605() {
+  final private boolean jj_3_607() {
     if (jj_scan_token(MONTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_604() {
+  final private boolean jj_3_606() {
     if (jj_scan_token(QUARTERS)) return true;
     return false;
   }
@@ -24750,25 +24740,25 @@ final String p;
   final private boolean jj_3R_267() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_603()) {
+    if (jj_3_605()) {
     jj_scanpos = xsp;
-    if (jj_3_604()) return true;
+    if (jj_3_606()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_603() {
+  final private boolean jj_3_605() {
     if (jj_scan_token(QUARTER)) return true;
     return false;
   }
 
-  final private boolean jj_3_257() {
+  final private boolean jj_3_259() {
     if (jj_scan_token(OUTER)) return true;
     if (jj_scan_token(APPLY)) return true;
     return false;
   }
 
-  final private boolean jj_3_602() {
+  final private boolean jj_3_604() {
     if (jj_scan_token(YEARS)) return true;
     return false;
   }
@@ -24776,35 +24766,35 @@ final String p;
   final private boolean jj_3R_265() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_601()) {
+    if (jj_3_603()) {
     jj_scanpos = xsp;
-    if (jj_3_602()) return true;
+    if (jj_3_604()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_601() {
+  final private boolean jj_3_603() {
     if (jj_scan_token(YEAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_598() {
+  final private boolean jj_3_600() {
     if (jj_3R_153()) return true;
     return false;
   }
 
-  final private boolean jj_3_597() {
+  final private boolean jj_3_599() {
     if (jj_3R_200()) return true;
     return false;
   }
 
-  final private boolean jj_3_256() {
+  final private boolean jj_3_258() {
     if (jj_scan_token(CROSS)) return true;
     if (jj_scan_token(APPLY)) return true;
     return false;
   }
 
-  final private boolean jj_3_596() {
+  final private boolean jj_3_598() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_82()) return true;
     return false;
@@ -24814,48 +24804,48 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_600() {
+  final private boolean jj_3_602() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_596()) {
+    if (jj_3_598()) {
     jj_scanpos = xsp;
-    if (jj_3_597()) {
+    if (jj_3_599()) {
     jj_scanpos = xsp;
-    if (jj_3_598()) return true;
+    if (jj_3_600()) return true;
     }
     }
     if (jj_3R_258()) return true;
     return false;
   }
 
-  final private boolean jj_3_599() {
+  final private boolean jj_3_601() {
     if (jj_3R_251()) return true;
     if (jj_3R_219()) return true;
     return false;
   }
 
-  final private boolean jj_3_254() {
+  final private boolean jj_3_256() {
     if (jj_scan_token(USING)) return true;
     if (jj_3R_125()) return true;
     return false;
   }
 
-  final private boolean jj_3_594() {
+  final private boolean jj_3_596() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  final private boolean jj_3_593() {
+  final private boolean jj_3_595() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  final private boolean jj_3_595() {
+  final private boolean jj_3_597() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_593()) {
+    if (jj_3_595()) {
     jj_scanpos = xsp;
-    if (jj_3_594()) return true;
+    if (jj_3_596()) return true;
     }
     return false;
   }
@@ -24864,45 +24854,45 @@ final String p;
     if (jj_scan_token(INTERVAL)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_595()) jj_scanpos = xsp;
+    if (jj_3_597()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3_599()) {
+    if (jj_3_601()) {
     jj_scanpos = xsp;
-    if (jj_3_600()) return true;
+    if (jj_3_602()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_591() {
+  final private boolean jj_3_593() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  final private boolean jj_3_252() {
+  final private boolean jj_3_254() {
     if (jj_scan_token(MATCH_CONDITION)) return true;
     if (jj_3R_82()) return true;
     return false;
   }
 
-  final private boolean jj_3_590() {
+  final private boolean jj_3_592() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  final private boolean jj_3_592() {
+  final private boolean jj_3_594() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_590()) {
+    if (jj_3_592()) {
     jj_scanpos = xsp;
-    if (jj_3_591()) return true;
+    if (jj_3_593()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_253() {
+  final private boolean jj_3_255() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_252()) jj_scanpos = xsp;
+    if (jj_3_254()) jj_scanpos = xsp;
     if (jj_scan_token(ON)) return true;
     if (jj_3R_82()) return true;
     return false;
@@ -24912,7 +24902,7 @@ final String p;
     if (jj_scan_token(INTERVAL)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_592()) jj_scanpos = xsp;
+    if (jj_3_594()) jj_scanpos = xsp;
     if (jj_3R_251()) return true;
     return false;
   }
@@ -24920,25 +24910,25 @@ final String p;
   final private boolean jj_3R_67() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_255()) {
+    if (jj_3_257()) {
     jj_scanpos = xsp;
-    if (jj_3_256()) {
+    if (jj_3_258()) {
     jj_scanpos = xsp;
-    if (jj_3_257()) return true;
+    if (jj_3_259()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3_255() {
+  final private boolean jj_3_257() {
     if (jj_3R_165()) return true;
     if (jj_3R_166()) return true;
     if (jj_3R_70()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_253()) {
+    if (jj_3_255()) {
     jj_scanpos = xsp;
-    if (jj_3_254()) {
+    if (jj_3_256()) {
     jj_scanpos = xsp;
     if (jj_3R_167()) return true;
     }
@@ -24952,7 +24942,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_251() {
+  final private boolean jj_3_253() {
     if (jj_3R_67()) return true;
     return false;
   }
@@ -24961,45 +24951,45 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_587() {
+  final private boolean jj_3_589() {
     if (jj_3R_238()) return true;
     return false;
   }
 
-  final private boolean jj_3_589() {
+  final private boolean jj_3_591() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_587()) {
+    if (jj_3_589()) {
     jj_scanpos = xsp;
     if (jj_3R_257()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_250() {
+  final private boolean jj_3_252() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_70()) return true;
     return false;
   }
 
-  final private boolean jj_3_586() {
+  final private boolean jj_3_588() {
     if (jj_3R_174()) return true;
     return false;
   }
 
-  final private boolean jj_3_585() {
+  final private boolean jj_3_587() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_588() {
+  final private boolean jj_3_590() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_585()) {
+    if (jj_3_587()) {
     jj_scanpos = xsp;
-    if (jj_3_586()) return true;
+    if (jj_3_588()) return true;
     }
     return false;
   }
@@ -25013,24 +25003,24 @@ final String p;
     if (jj_scan_token(MAP)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_588()) {
+    if (jj_3_590()) {
     jj_scanpos = xsp;
-    if (jj_3_589()) return true;
+    if (jj_3_591()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_239() {
+  final private boolean jj_3_241() {
     if (jj_scan_token(ASOF)) return true;
     return false;
   }
 
-  final private boolean jj_3_242() {
+  final private boolean jj_3_244() {
     if (jj_scan_token(OUTER)) return true;
     return false;
   }
 
-  final private boolean jj_3_241() {
+  final private boolean jj_3_243() {
     if (jj_scan_token(OUTER)) return true;
     return false;
   }
@@ -25039,82 +25029,82 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_238() {
+  final private boolean jj_3_240() {
     if (jj_scan_token(OUTER)) return true;
     return false;
   }
 
-  final private boolean jj_3_240() {
+  final private boolean jj_3_242() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_238()) {
+    if (jj_3_240()) {
     jj_scanpos = xsp;
-    if (jj_3_239()) return true;
+    if (jj_3_241()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_582() {
+  final private boolean jj_3_584() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_256()) return true;
     return false;
   }
 
-  final private boolean jj_3_249() {
+  final private boolean jj_3_251() {
     if (jj_scan_token(CROSS)) return true;
     if (jj_scan_token(JOIN)) return true;
     return false;
   }
 
-  final private boolean jj_3_581() {
+  final private boolean jj_3_583() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_120()) return true;
     return false;
   }
 
-  final private boolean jj_3_584() {
+  final private boolean jj_3_586() {
     if (jj_3R_256()) return true;
     return false;
   }
 
-  final private boolean jj_3_248() {
+  final private boolean jj_3_250() {
     if (jj_scan_token(FULL)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_242()) jj_scanpos = xsp;
+    if (jj_3_244()) jj_scanpos = xsp;
     if (jj_scan_token(JOIN)) return true;
     return false;
   }
 
-  final private boolean jj_3_583() {
+  final private boolean jj_3_585() {
     if (jj_3R_120()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_581()) { jj_scanpos = xsp; break; }
+      if (jj_3_583()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  final private boolean jj_3_247() {
+  final private boolean jj_3_249() {
     if (jj_scan_token(RIGHT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_241()) jj_scanpos = xsp;
+    if (jj_3_243()) jj_scanpos = xsp;
     if (jj_scan_token(JOIN)) return true;
     return false;
   }
 
-  final private boolean jj_3_246() {
+  final private boolean jj_3_248() {
     if (jj_scan_token(LEFT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_240()) jj_scanpos = xsp;
+    if (jj_3_242()) jj_scanpos = xsp;
     if (jj_scan_token(JOIN)) return true;
     return false;
   }
 
-  final private boolean jj_3_245() {
+  final private boolean jj_3_247() {
     if (jj_scan_token(ASOF)) return true;
     if (jj_scan_token(JOIN)) return true;
     return false;
@@ -25124,9 +25114,9 @@ final String p;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_583()) {
+    if (jj_3_585()) {
     jj_scanpos = xsp;
-    if (jj_3_584()) {
+    if (jj_3_586()) {
     jj_scanpos = xsp;
     if (jj_3R_409()) return true;
     }
@@ -25134,13 +25124,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_244() {
+  final private boolean jj_3_246() {
     if (jj_scan_token(INNER)) return true;
     if (jj_scan_token(JOIN)) return true;
     return false;
   }
 
-  final private boolean jj_3_243() {
+  final private boolean jj_3_245() {
     if (jj_scan_token(JOIN)) return true;
     return false;
   }
@@ -25148,10 +25138,6 @@ final String p;
   final private boolean jj_3R_166() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_243()) {
-    jj_scanpos = xsp;
-    if (jj_3_244()) {
-    jj_scanpos = xsp;
     if (jj_3_245()) {
     jj_scanpos = xsp;
     if (jj_3_246()) {
@@ -25160,7 +25146,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_248()) {
     jj_scanpos = xsp;
-    if (jj_3_249()) return true;
+    if (jj_3_249()) {
+    jj_scanpos = xsp;
+    if (jj_3_250()) {
+    jj_scanpos = xsp;
+    if (jj_3_251()) return true;
     }
     }
     }
@@ -25174,7 +25164,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_578() {
+  final private boolean jj_3_580() {
     if (jj_3R_238()) return true;
     return false;
   }
@@ -25183,11 +25173,11 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_580() {
+  final private boolean jj_3_582() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_578()) {
+    if (jj_3_580()) {
     jj_scanpos = xsp;
     if (jj_3R_255()) return true;
     }
@@ -25197,70 +25187,70 @@ final String p;
   final private boolean jj_3R_165() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_237()) {
+    if (jj_3_239()) {
     jj_scanpos = xsp;
     if (jj_3R_375()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_237() {
+  final private boolean jj_3_239() {
     if (jj_scan_token(NATURAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1156() {
+  final private boolean jj_3_1158() {
     if (jj_scan_token(JSON)) return true;
     return false;
   }
 
-  final private boolean jj_3_1155() {
+  final private boolean jj_3_1157() {
     if (jj_scan_token(JSON)) return true;
     if (jj_scan_token(SCALAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_577() {
+  final private boolean jj_3_579() {
     if (jj_3R_174()) return true;
     return false;
   }
 
-  final private boolean jj_3_1154() {
+  final private boolean jj_3_1156() {
     if (jj_scan_token(JSON)) return true;
     if (jj_scan_token(ARRAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_236() {
+  final private boolean jj_3_238() {
     if (jj_3R_82()) return true;
     return false;
   }
 
-  final private boolean jj_3_1153() {
+  final private boolean jj_3_1155() {
     if (jj_scan_token(JSON)) return true;
     if (jj_scan_token(OBJECT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1161() {
+  final private boolean jj_3_1163() {
     if (jj_scan_token(FORMAT)) return true;
     if (jj_3R_317()) return true;
     return false;
   }
 
-  final private boolean jj_3_1152() {
+  final private boolean jj_3_1154() {
     if (jj_scan_token(JSON)) return true;
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_576() {
+  final private boolean jj_3_578() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1151() {
+  final private boolean jj_3_1153() {
     if (jj_scan_token(EMPTY)) return true;
     return false;
   }
@@ -25268,49 +25258,49 @@ final String p;
   final private boolean jj_3R_369() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_235()) {
+    if (jj_3_237()) {
     jj_scanpos = xsp;
-    if (jj_3_236()) return true;
+    if (jj_3_238()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_235() {
-    if (jj_scan_token(STAR)) return true;
+  final private boolean jj_3_1152() {
+    if (jj_scan_token(UNKNOWN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1150() {
-    if (jj_scan_token(UNKNOWN)) return true;
+  final private boolean jj_3_237() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1149() {
+  final private boolean jj_3_1151() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1148() {
+  final private boolean jj_3_1150() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1147() {
+  final private boolean jj_3_1149() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  final private boolean jj_3_579() {
+  final private boolean jj_3_581() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_576()) {
+    if (jj_3_578()) {
     jj_scanpos = xsp;
-    if (jj_3_577()) return true;
+    if (jj_3_579()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1146() {
+  final private boolean jj_3_1148() {
     if (jj_scan_token(JSON)) return true;
     return false;
   }
@@ -25320,13 +25310,9 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1159() {
+  final private boolean jj_3_1161() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1147()) {
-    jj_scanpos = xsp;
-    if (jj_3_1148()) {
-    jj_scanpos = xsp;
     if (jj_3_1149()) {
     jj_scanpos = xsp;
     if (jj_3_1150()) {
@@ -25341,7 +25327,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_1155()) {
     jj_scanpos = xsp;
-    if (jj_3_1156()) return true;
+    if (jj_3_1156()) {
+    jj_scanpos = xsp;
+    if (jj_3_1157()) {
+    jj_scanpos = xsp;
+    if (jj_3_1158()) return true;
     }
     }
     }
@@ -25354,13 +25344,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1145() {
+  final private boolean jj_3_1147() {
     if (jj_scan_token(JSON)) return true;
     if (jj_scan_token(SCALAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1144() {
+  final private boolean jj_3_1146() {
     if (jj_scan_token(JSON)) return true;
     if (jj_scan_token(ARRAY)) return true;
     return false;
@@ -25370,88 +25360,84 @@ final String p;
     if (jj_scan_token(ARRAY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_579()) {
+    if (jj_3_581()) {
     jj_scanpos = xsp;
-    if (jj_3_580()) return true;
+    if (jj_3_582()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1143() {
+  final private boolean jj_3_1145() {
     if (jj_scan_token(JSON)) return true;
     if (jj_scan_token(OBJECT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1142() {
+  final private boolean jj_3_1144() {
     if (jj_scan_token(JSON)) return true;
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_233() {
+  final private boolean jj_3_235() {
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_1141() {
+  final private boolean jj_3_1143() {
     if (jj_scan_token(EMPTY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1140() {
+  final private boolean jj_3_1142() {
     if (jj_scan_token(A)) return true;
     if (jj_scan_token(SET)) return true;
     return false;
   }
 
-  final private boolean jj_3_1139() {
+  final private boolean jj_3_1141() {
     if (jj_scan_token(UNKNOWN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1138() {
+  final private boolean jj_3_1140() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1137() {
+  final private boolean jj_3_1139() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_231() {
+  final private boolean jj_3_233() {
     if (jj_scan_token(MEASURE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1136() {
+  final private boolean jj_3_1138() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  final private boolean jj_3_232() {
+  final private boolean jj_3_234() {
     if (jj_scan_token(AS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_231()) jj_scanpos = xsp;
+    if (jj_3_233()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_573() {
+  final private boolean jj_3_575() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_79()) return true;
     return false;
   }
 
-  final private boolean jj_3_1158() {
+  final private boolean jj_3_1160() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1136()) {
-    jj_scanpos = xsp;
-    if (jj_3_1137()) {
-    jj_scanpos = xsp;
     if (jj_3_1138()) {
     jj_scanpos = xsp;
     if (jj_3_1139()) {
@@ -25468,7 +25454,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_1145()) {
     jj_scanpos = xsp;
-    if (jj_3_1146()) return true;
+    if (jj_3_1146()) {
+    jj_scanpos = xsp;
+    if (jj_3_1147()) {
+    jj_scanpos = xsp;
+    if (jj_3_1148()) return true;
     }
     }
     }
@@ -25482,31 +25472,31 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_234() {
+  final private boolean jj_3_236() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_232()) jj_scanpos = xsp;
+    if (jj_3_234()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3_233()) {
+    if (jj_3_235()) {
     jj_scanpos = xsp;
     if (jj_3R_164()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1157() {
+  final private boolean jj_3_1159() {
     if (jj_scan_token(A)) return true;
     if (jj_scan_token(SET)) return true;
     return false;
   }
 
-  final private boolean jj_3_575() {
+  final private boolean jj_3_577() {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_3R_79()) return true;
     return false;
   }
 
-  final private boolean jj_3_572() {
+  final private boolean jj_3_574() {
     if (jj_scan_token(TIMESTAMP)) return true;
     return false;
   }
@@ -25519,44 +25509,44 @@ final String p;
   final private boolean jj_3R_218() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1160()) {
+    if (jj_3_1162()) {
     jj_scanpos = xsp;
-    if (jj_3_1161()) return true;
+    if (jj_3_1163()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1160() {
+  final private boolean jj_3_1162() {
     if (jj_scan_token(IS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1157()) {
+    if (jj_3_1159()) {
     jj_scanpos = xsp;
-    if (jj_3_1158()) {
+    if (jj_3_1160()) {
     jj_scanpos = xsp;
-    if (jj_3_1159()) return true;
+    if (jj_3_1161()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3_574() {
+  final private boolean jj_3_576() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_254()) return true;
     return false;
   }
 
-  final private boolean jj_3_558() {
+  final private boolean jj_3_560() {
     if (jj_scan_token(LOCAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1135() {
+  final private boolean jj_3_1137() {
     if (jj_scan_token(UNIQUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1134() {
+  final private boolean jj_3_1136() {
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
@@ -25565,24 +25555,24 @@ final String p;
     if (jj_scan_token(MULTISET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_574()) {
+    if (jj_3_576()) {
     jj_scanpos = xsp;
-    if (jj_3_575()) return true;
+    if (jj_3_577()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_571() {
+  final private boolean jj_3_573() {
     if (jj_scan_token(DATETIME)) return true;
     return false;
   }
 
-  final private boolean jj_3_1133() {
+  final private boolean jj_3_1135() {
     if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1132() {
+  final private boolean jj_3_1134() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
@@ -25590,15 +25580,15 @@ final String p;
   final private boolean jj_3R_426() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1131()) {
-    jj_scanpos = xsp;
-    if (jj_3_1132()) {
-    jj_scanpos = xsp;
     if (jj_3_1133()) {
     jj_scanpos = xsp;
     if (jj_3_1134()) {
     jj_scanpos = xsp;
-    if (jj_3_1135()) return true;
+    if (jj_3_1135()) {
+    jj_scanpos = xsp;
+    if (jj_3_1136()) {
+    jj_scanpos = xsp;
+    if (jj_3_1137()) return true;
     }
     }
     }
@@ -25606,81 +25596,81 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1131() {
+  final private boolean jj_3_1133() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  final private boolean jj_3_230() {
+  final private boolean jj_3_232() {
     if (jj_scan_token(VALUES)) return true;
     if (jj_3R_163()) return true;
     return false;
   }
 
-  final private boolean jj_3_557() {
+  final private boolean jj_3_559() {
     if (jj_scan_token(LOCAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_570() {
+  final private boolean jj_3_572() {
     if (jj_scan_token(TIME)) return true;
     return false;
   }
 
-  final private boolean jj_3_229() {
+  final private boolean jj_3_231() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(VALUES)) return true;
     return false;
   }
 
-  final private boolean jj_3_1130() {
+  final private boolean jj_3_1132() {
     if (jj_3R_344()) return true;
     return false;
   }
 
-  final private boolean jj_3_1129() {
+  final private boolean jj_3_1131() {
     if (jj_scan_token(IMMEDIATELY)) return true;
     if (jj_scan_token(SUCCEEDS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1128() {
+  final private boolean jj_3_1130() {
     if (jj_scan_token(IMMEDIATELY)) return true;
     if (jj_scan_token(PRECEDES)) return true;
     return false;
   }
 
-  final private boolean jj_3_1127() {
+  final private boolean jj_3_1129() {
     if (jj_scan_token(SUCCEEDS)) return true;
     return false;
   }
 
-  final private boolean jj_3_228() {
+  final private boolean jj_3_230() {
     if (jj_3R_125()) return true;
     return false;
   }
 
-  final private boolean jj_3_1126() {
+  final private boolean jj_3_1128() {
     if (jj_scan_token(PRECEDES)) return true;
     return false;
   }
 
-  final private boolean jj_3_1125() {
+  final private boolean jj_3_1127() {
     if (jj_scan_token(AMPERSAND)) return true;
     return false;
   }
 
-  final private boolean jj_3_1124() {
+  final private boolean jj_3_1126() {
     if (jj_scan_token(EQUALS)) return true;
     return false;
   }
 
-  final private boolean jj_3_569() {
+  final private boolean jj_3_571() {
     if (jj_scan_token(DATE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1123() {
+  final private boolean jj_3_1125() {
     if (jj_scan_token(CARET)) return true;
     return false;
   }
@@ -25688,13 +25678,13 @@ final String p;
   final private boolean jj_3R_297() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_569()) {
+    if (jj_3_571()) {
     jj_scanpos = xsp;
-    if (jj_3_570()) {
+    if (jj_3_572()) {
     jj_scanpos = xsp;
-    if (jj_3_571()) {
+    if (jj_3_573()) {
     jj_scanpos = xsp;
-    if (jj_3_572()) return true;
+    if (jj_3_574()) return true;
     }
     }
     }
@@ -25702,43 +25692,43 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1122() {
+  final private boolean jj_3_1124() {
     if (jj_scan_token(OVERLAPS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1121() {
+  final private boolean jj_3_1123() {
     if (jj_scan_token(CONTAINS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1120() {
+  final private boolean jj_3_1122() {
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(SUBMULTISET)) return true;
     if (jj_scan_token(OF)) return true;
     return false;
   }
 
-  final private boolean jj_3_1119() {
+  final private boolean jj_3_1121() {
     if (jj_scan_token(SUBMULTISET)) return true;
     if (jj_scan_token(OF)) return true;
     return false;
   }
 
-  final private boolean jj_3_1118() {
+  final private boolean jj_3_1120() {
     if (jj_scan_token(MEMBER)) return true;
     if (jj_scan_token(OF)) return true;
     return false;
   }
 
-  final private boolean jj_3_1117() {
+  final private boolean jj_3_1119() {
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1116() {
+  final private boolean jj_3_1118() {
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(DISTINCT)) return true;
     if (jj_scan_token(FROM)) return true;
@@ -25751,101 +25741,101 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1115() {
+  final private boolean jj_3_1117() {
     if (jj_scan_token(OR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1114() {
+  final private boolean jj_3_1116() {
     if (jj_scan_token(AND)) return true;
     return false;
   }
 
-  final private boolean jj_3_1113() {
+  final private boolean jj_3_1115() {
     if (jj_scan_token(CONCAT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1112() {
+  final private boolean jj_3_1114() {
     if (jj_scan_token(PERCENT_REMAINDER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1111() {
+  final private boolean jj_3_1113() {
     if (jj_scan_token(SLASH)) return true;
     return false;
   }
 
-  final private boolean jj_3_568() {
+  final private boolean jj_3_570() {
     if (jj_scan_token(TIMESTAMP)) return true;
     if (jj_scan_token(WITH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1110() {
+  final private boolean jj_3_1112() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1109() {
+  final private boolean jj_3_1111() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1108() {
+  final private boolean jj_3_1110() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  final private boolean jj_3_567() {
+  final private boolean jj_3_569() {
     if (jj_scan_token(TIME)) return true;
     if (jj_scan_token(WITH)) return true;
     return false;
   }
 
-  final private boolean jj_3_227() {
+  final private boolean jj_3_229() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_153()) return true;
     return false;
   }
 
-  final private boolean jj_3_1107() {
+  final private boolean jj_3_1109() {
     if (jj_scan_token(NE2)) return true;
     return false;
   }
 
-  final private boolean jj_3_1106() {
+  final private boolean jj_3_1108() {
     if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  final private boolean jj_3_566() {
+  final private boolean jj_3_568() {
     if (jj_scan_token(TIMESTAMP)) return true;
     if (jj_3R_251()) return true;
     return false;
   }
 
-  final private boolean jj_3_1105() {
+  final private boolean jj_3_1107() {
     if (jj_scan_token(GE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1104() {
+  final private boolean jj_3_1106() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1103() {
+  final private boolean jj_3_1105() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1102() {
+  final private boolean jj_3_1104() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1101() {
+  final private boolean jj_3_1103() {
     if (jj_scan_token(LEFTSHIFT)) return true;
     return false;
   }
@@ -25853,10 +25843,6 @@ final String p;
   final private boolean jj_3R_217() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1100()) {
-    jj_scanpos = xsp;
-    if (jj_3_1101()) {
-    jj_scanpos = xsp;
     if (jj_3_1102()) {
     jj_scanpos = xsp;
     if (jj_3_1103()) {
@@ -25913,7 +25899,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_1129()) {
     jj_scanpos = xsp;
-    if (jj_3_1130()) return true;
+    if (jj_3_1130()) {
+    jj_scanpos = xsp;
+    if (jj_3_1131()) {
+    jj_scanpos = xsp;
+    if (jj_3_1132()) return true;
     }
     }
     }
@@ -25947,13 +25937,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_565() {
+  final private boolean jj_3_567() {
     if (jj_scan_token(UUID)) return true;
     if (jj_3R_251()) return true;
     return false;
   }
 
-  final private boolean jj_3_1100() {
+  final private boolean jj_3_1102() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
@@ -25964,154 +25954,154 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_564() {
+  final private boolean jj_3_566() {
     if (jj_scan_token(TIME)) return true;
     if (jj_3R_251()) return true;
     return false;
   }
 
-  final private boolean jj_3_1095() {
+  final private boolean jj_3_1097() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1094() {
+  final private boolean jj_3_1096() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1096() {
+  final private boolean jj_3_1098() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1094()) {
+    if (jj_3_1096()) {
     jj_scanpos = xsp;
-    if (jj_3_1095()) return true;
+    if (jj_3_1097()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_563() {
+  final private boolean jj_3_565() {
     if (jj_scan_token(DATETIME)) return true;
     if (jj_3R_251()) return true;
     return false;
   }
 
-  final private boolean jj_3_562() {
+  final private boolean jj_3_564() {
     if (jj_scan_token(DATE)) return true;
     if (jj_3R_251()) return true;
     return false;
   }
 
-  final private boolean jj_3_1092() {
+  final private boolean jj_3_1094() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1099() {
+  final private boolean jj_3_1101() {
     if (jj_scan_token(EXCEPT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1096()) jj_scanpos = xsp;
+    if (jj_3_1098()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_1091() {
+  final private boolean jj_3_1093() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1093() {
+  final private boolean jj_3_1095() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1091()) {
+    if (jj_3_1093()) {
     jj_scanpos = xsp;
-    if (jj_3_1092()) return true;
+    if (jj_3_1094()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_224() {
+  final private boolean jj_3_226() {
     if (jj_3R_161()) return true;
     return false;
   }
 
-  final private boolean jj_3_226() {
+  final private boolean jj_3_228() {
     if (jj_3R_161()) return true;
     return false;
   }
 
-  final private boolean jj_3_561() {
+  final private boolean jj_3_563() {
     if (jj_scan_token(LBRACE_TS)) return true;
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
   }
 
-  final private boolean jj_3_225() {
+  final private boolean jj_3_227() {
     if (jj_3R_162()) return true;
     return false;
   }
 
-  final private boolean jj_3_1089() {
+  final private boolean jj_3_1091() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1098() {
+  final private boolean jj_3_1100() {
     if (jj_scan_token(INTERSECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1093()) jj_scanpos = xsp;
+    if (jj_3_1095()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_1088() {
+  final private boolean jj_3_1090() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1090() {
+  final private boolean jj_3_1092() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1088()) {
+    if (jj_3_1090()) {
     jj_scanpos = xsp;
-    if (jj_3_1089()) return true;
+    if (jj_3_1091()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_222() {
+  final private boolean jj_3_224() {
     if (jj_scan_token(AS)) return true;
     return false;
   }
 
-  final private boolean jj_3_223() {
+  final private boolean jj_3_225() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_222()) jj_scanpos = xsp;
+    if (jj_3_224()) jj_scanpos = xsp;
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_560() {
+  final private boolean jj_3_562() {
     if (jj_scan_token(LBRACE_T)) return true;
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
   }
 
-  final private boolean jj_3_221() {
+  final private boolean jj_3_223() {
     if (jj_3R_159()) return true;
     return false;
   }
 
-  final private boolean jj_3_1097() {
+  final private boolean jj_3_1099() {
     if (jj_scan_token(UNION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1090()) jj_scanpos = xsp;
+    if (jj_3_1092()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_220() {
+  final private boolean jj_3_222() {
     if (jj_3R_158()) return true;
     return false;
   }
@@ -26126,11 +26116,11 @@ final String p;
     if (jj_scan_token(MULTISET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1097()) {
+    if (jj_3_1099()) {
     jj_scanpos = xsp;
-    if (jj_3_1098()) {
+    if (jj_3_1100()) {
     jj_scanpos = xsp;
-    if (jj_3_1099()) return true;
+    if (jj_3_1101()) return true;
     }
     }
     return false;
@@ -26139,10 +26129,6 @@ final String p;
   final private boolean jj_3R_249() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_559()) {
-    jj_scanpos = xsp;
-    if (jj_3_560()) {
-    jj_scanpos = xsp;
     if (jj_3_561()) {
     jj_scanpos = xsp;
     if (jj_3_562()) {
@@ -26157,7 +26143,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_567()) {
     jj_scanpos = xsp;
-    if (jj_3_568()) return true;
+    if (jj_3_568()) {
+    jj_scanpos = xsp;
+    if (jj_3_569()) {
+    jj_scanpos = xsp;
+    if (jj_3_570()) return true;
     }
     }
     }
@@ -26170,7 +26160,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_559() {
+  final private boolean jj_3_561() {
     if (jj_scan_token(LBRACE_D)) return true;
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
@@ -26180,32 +26170,32 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1084() {
+  final private boolean jj_3_1086() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1083() {
+  final private boolean jj_3_1085() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1082() {
+  final private boolean jj_3_1084() {
     if (jj_scan_token(SET_MINUS)) return true;
     return false;
   }
 
-  final private boolean jj_3_556() {
+  final private boolean jj_3_558() {
     if (jj_scan_token(BIG_QUERY_DOUBLE_QUOTED_STRING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1081() {
+  final private boolean jj_3_1083() {
     if (jj_scan_token(EXCEPT)) return true;
     return false;
   }
 
-  final private boolean jj_3_555() {
+  final private boolean jj_3_557() {
     if (jj_scan_token(BIG_QUERY_QUOTED_STRING)) return true;
     return false;
   }
@@ -26214,27 +26204,27 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_219() {
+  final private boolean jj_3_221() {
     if (jj_3R_146()) return true;
     return false;
   }
 
-  final private boolean jj_3_1080() {
+  final private boolean jj_3_1082() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1087() {
+  final private boolean jj_3_1089() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1081()) {
+    if (jj_3_1083()) {
     jj_scanpos = xsp;
-    if (jj_3_1082()) return true;
+    if (jj_3_1084()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_1083()) {
+    if (jj_3_1085()) {
     jj_scanpos = xsp;
-    if (jj_3_1084()) {
+    if (jj_3_1086()) {
     jj_scanpos = xsp;
     if (jj_3R_343()) return true;
     }
@@ -26242,13 +26232,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_218() {
+  final private boolean jj_3_220() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_153()) return true;
     return false;
   }
 
-  final private boolean jj_3_1079() {
+  final private boolean jj_3_1081() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
@@ -26256,17 +26246,17 @@ final String p;
   final private boolean jj_3R_251() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_554()) {
+    if (jj_3_556()) {
     jj_scanpos = xsp;
-    if (jj_3_555()) {
+    if (jj_3_557()) {
     jj_scanpos = xsp;
-    if (jj_3_556()) return true;
+    if (jj_3_558()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3_554() {
+  final private boolean jj_3_556() {
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
   }
@@ -26275,18 +26265,18 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1078() {
+  final private boolean jj_3_1080() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1086() {
+  final private boolean jj_3_1088() {
     if (jj_scan_token(INTERSECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1079()) {
+    if (jj_3_1081()) {
     jj_scanpos = xsp;
-    if (jj_3_1080()) {
+    if (jj_3_1082()) {
     jj_scanpos = xsp;
     if (jj_3R_342()) return true;
     }
@@ -26294,41 +26284,41 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_216() {
+  final private boolean jj_3_218() {
     if (jj_scan_token(AS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1077() {
+  final private boolean jj_3_1079() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  final private boolean jj_3_217() {
+  final private boolean jj_3_219() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_216()) jj_scanpos = xsp;
+    if (jj_3_218()) jj_scanpos = xsp;
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_215() {
+  final private boolean jj_3_217() {
     if (jj_3R_159()) return true;
     return false;
   }
 
-  final private boolean jj_3_214() {
+  final private boolean jj_3_216() {
     if (jj_3R_158()) return true;
     return false;
   }
 
-  final private boolean jj_3_1085() {
+  final private boolean jj_3_1087() {
     if (jj_scan_token(UNION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1077()) {
+    if (jj_3_1079()) {
     jj_scanpos = xsp;
-    if (jj_3_1078()) {
+    if (jj_3_1080()) {
     jj_scanpos = xsp;
     if (jj_3R_341()) return true;
     }
@@ -26336,7 +26326,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1067() {
+  final private boolean jj_3_1069() {
     if (jj_scan_token(TRUNCATE)) return true;
     return false;
   }
@@ -26344,11 +26334,11 @@ final String p;
   final private boolean jj_3R_348() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1085()) {
+    if (jj_3_1087()) {
     jj_scanpos = xsp;
-    if (jj_3_1086()) {
+    if (jj_3_1088()) {
     jj_scanpos = xsp;
-    if (jj_3_1087()) return true;
+    if (jj_3_1089()) return true;
     }
     }
     return false;
@@ -26360,92 +26350,92 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_553() {
+  final private boolean jj_3_555() {
     if (jj_scan_token(BIG_QUERY_QUOTED_STRING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1066() {
+  final private boolean jj_3_1068() {
     if (jj_scan_token(RIGHT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1073() {
+  final private boolean jj_3_1075() {
     if (jj_3R_174()) return true;
     return false;
   }
 
-  final private boolean jj_3_1072() {
+  final private boolean jj_3_1074() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1065() {
+  final private boolean jj_3_1067() {
     if (jj_scan_token(LEFT)) return true;
     return false;
   }
 
-  final private boolean jj_3_552() {
+  final private boolean jj_3_554() {
     if (jj_scan_token(BIG_QUERY_DOUBLE_QUOTED_STRING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1071() {
+  final private boolean jj_3_1073() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_211() {
+  final private boolean jj_3_213() {
     if (jj_scan_token(AS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1070() {
+  final private boolean jj_3_1072() {
     if (jj_3R_339()) return true;
     return false;
   }
 
-  final private boolean jj_3_213() {
+  final private boolean jj_3_215() {
     if (jj_3R_146()) return true;
     return false;
   }
 
-  final private boolean jj_3_212() {
+  final private boolean jj_3_214() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_211()) jj_scanpos = xsp;
+    if (jj_3_213()) jj_scanpos = xsp;
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_1069() {
+  final private boolean jj_3_1071() {
     if (jj_3R_338()) return true;
     return false;
   }
 
-  final private boolean jj_3_210() {
+  final private boolean jj_3_212() {
     if (jj_3R_159()) return true;
     return false;
   }
 
-  final private boolean jj_3_209() {
+  final private boolean jj_3_211() {
     if (jj_3R_158()) return true;
     return false;
   }
 
-  final private boolean jj_3_1068() {
+  final private boolean jj_3_1070() {
     if (jj_3R_337()) return true;
     return false;
   }
 
-  final private boolean jj_3_1064() {
+  final private boolean jj_3_1066() {
     if (jj_scan_token(INSERT)) return true;
     return false;
   }
 
-  final private boolean jj_3_551() {
+  final private boolean jj_3_553() {
     if (jj_scan_token(C_STYLE_ESCAPED_STRING_LITERAL)) return true;
     return false;
   }
@@ -26453,13 +26443,13 @@ final String p;
   final private boolean jj_3R_340() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1064()) {
+    if (jj_3_1066()) {
     jj_scanpos = xsp;
-    if (jj_3_1065()) {
+    if (jj_3_1067()) {
     jj_scanpos = xsp;
-    if (jj_3_1066()) {
+    if (jj_3_1068()) {
     jj_scanpos = xsp;
-    if (jj_3_1067()) return true;
+    if (jj_3_1069()) return true;
     }
     }
     }
@@ -26472,43 +26462,43 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1076() {
+  final private boolean jj_3_1078() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_340()) {
     jj_scanpos = xsp;
-    if (jj_3_1068()) {
+    if (jj_3_1070()) {
     jj_scanpos = xsp;
-    if (jj_3_1069()) {
+    if (jj_3_1071()) {
     jj_scanpos = xsp;
-    if (jj_3_1070()) return true;
+    if (jj_3_1072()) return true;
     }
     }
     }
     xsp = jj_scanpos;
-    if (jj_3_1071()) {
+    if (jj_3_1073()) {
     jj_scanpos = xsp;
-    if (jj_3_1072()) {
+    if (jj_3_1074()) {
     jj_scanpos = xsp;
-    if (jj_3_1073()) return true;
+    if (jj_3_1075()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3_1075() {
+  final private boolean jj_3_1077() {
     if (jj_scan_token(CONVERT)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_548() {
+  final private boolean jj_3_550() {
     if (jj_scan_token(UESCAPE)) return true;
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1074() {
+  final private boolean jj_3_1076() {
     if (jj_3R_303()) return true;
     return false;
   }
@@ -26528,12 +26518,12 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_208() {
+  final private boolean jj_3_210() {
     if (jj_3R_160()) return true;
     return false;
   }
 
-  final private boolean jj_3_207() {
+  final private boolean jj_3_209() {
     if (jj_3R_159()) return true;
     return false;
   }
@@ -26543,12 +26533,12 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_206() {
+  final private boolean jj_3_208() {
     if (jj_3R_158()) return true;
     return false;
   }
 
-  final private boolean jj_3_205() {
+  final private boolean jj_3_207() {
     if (jj_scan_token(UPSERT)) return true;
     return false;
   }
@@ -26558,7 +26548,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_204() {
+  final private boolean jj_3_206() {
     if (jj_scan_token(INSERT)) return true;
     return false;
   }
@@ -26571,9 +26561,9 @@ final String p;
   final private boolean jj_3R_114() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_204()) {
+    if (jj_3_206()) {
     jj_scanpos = xsp;
-    if (jj_3_205()) return true;
+    if (jj_3_207()) return true;
     }
     if (jj_3R_361()) return true;
     return false;
@@ -26584,17 +26574,17 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_547() {
+  final private boolean jj_3_549() {
     if (jj_scan_token(UNICODE_STRING_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_546() {
+  final private boolean jj_3_548() {
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
   }
 
-  final private boolean jj_3_545() {
+  final private boolean jj_3_547() {
     if (jj_scan_token(PREFIXED_STRING_LITERAL)) return true;
     return false;
   }
@@ -26604,14 +26594,14 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_550() {
+  final private boolean jj_3_552() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_545()) {
+    if (jj_3_547()) {
     jj_scanpos = xsp;
-    if (jj_3_546()) {
+    if (jj_3_548()) {
     jj_scanpos = xsp;
-    if (jj_3_547()) return true;
+    if (jj_3_549()) return true;
     }
     }
     while (true) {
@@ -26619,7 +26609,7 @@ final String p;
       if (jj_3R_253()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3_548()) jj_scanpos = xsp;
+    if (jj_3_550()) jj_scanpos = xsp;
     return false;
   }
 
@@ -26660,11 +26650,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3R_406()) {
     jj_scanpos = xsp;
-    if (jj_3_1074()) {
+    if (jj_3_1076()) {
     jj_scanpos = xsp;
-    if (jj_3_1075()) {
+    if (jj_3_1077()) {
     jj_scanpos = xsp;
-    if (jj_3_1076()) return true;
+    if (jj_3_1078()) return true;
     }
     }
     }
@@ -26679,39 +26669,39 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_203() {
+  final private boolean jj_3_205() {
     if (jj_3R_157()) return true;
     return false;
   }
 
-  final private boolean jj_3_201() {
+  final private boolean jj_3_203() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_157()) return true;
     return false;
   }
 
-  final private boolean jj_3_1063() {
+  final private boolean jj_3_1065() {
     if (jj_scan_token(USER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1062() {
+  final private boolean jj_3_1064() {
     if (jj_scan_token(SYSTEM_USER)) return true;
     return false;
   }
 
-  final private boolean jj_3_202() {
+  final private boolean jj_3_204() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_157()) return true;
     return false;
   }
 
-  final private boolean jj_3_1061() {
+  final private boolean jj_3_1063() {
     if (jj_scan_token(SESSION_USER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1060() {
+  final private boolean jj_3_1062() {
     if (jj_scan_token(LOCALTIMESTAMP)) return true;
     return false;
   }
@@ -26719,15 +26709,15 @@ final String p;
   final private boolean jj_3R_139() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_549()) {
-    jj_scanpos = xsp;
-    if (jj_3_550()) {
-    jj_scanpos = xsp;
     if (jj_3_551()) {
     jj_scanpos = xsp;
     if (jj_3_552()) {
     jj_scanpos = xsp;
-    if (jj_3_553()) return true;
+    if (jj_3_553()) {
+    jj_scanpos = xsp;
+    if (jj_3_554()) {
+    jj_scanpos = xsp;
+    if (jj_3_555()) return true;
     }
     }
     }
@@ -26735,7 +26725,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_549() {
+  final private boolean jj_3_551() {
     if (jj_scan_token(BINARY_STRING_LITERAL)) return true;
     Token xsp;
     while (true) {
@@ -26745,32 +26735,32 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1059() {
+  final private boolean jj_3_1061() {
     if (jj_scan_token(LOCALTIME)) return true;
     return false;
   }
 
-  final private boolean jj_3_1058() {
+  final private boolean jj_3_1060() {
     if (jj_scan_token(CURRENT_USER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1057() {
+  final private boolean jj_3_1059() {
     if (jj_scan_token(CURRENT_TIMESTAMP)) return true;
     return false;
   }
 
-  final private boolean jj_3_1056() {
+  final private boolean jj_3_1058() {
     if (jj_scan_token(CURRENT_TIME)) return true;
     return false;
   }
 
-  final private boolean jj_3_1055() {
+  final private boolean jj_3_1057() {
     if (jj_scan_token(CURRENT_SCHEMA)) return true;
     return false;
   }
 
-  final private boolean jj_3_1054() {
+  final private boolean jj_3_1056() {
     if (jj_scan_token(CURRENT_ROLE)) return true;
     return false;
   }
@@ -26781,22 +26771,22 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1053() {
+  final private boolean jj_3_1055() {
     if (jj_scan_token(CURRENT_PATH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1052() {
+  final private boolean jj_3_1054() {
     if (jj_scan_token(CURRENT_DEFAULT_TRANSFORM_GROUP)) return true;
     return false;
   }
 
-  final private boolean jj_3_1051() {
+  final private boolean jj_3_1053() {
     if (jj_scan_token(CURRENT_DATE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1050() {
+  final private boolean jj_3_1052() {
     if (jj_scan_token(CURRENT_CATALOG)) return true;
     return false;
   }
@@ -26805,7 +26795,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_200() {
+  final private boolean jj_3_202() {
     if (jj_3R_156()) return true;
     return false;
   }
@@ -26813,10 +26803,6 @@ final String p;
   final private boolean jj_3R_234() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1050()) {
-    jj_scanpos = xsp;
-    if (jj_3_1051()) {
-    jj_scanpos = xsp;
     if (jj_3_1052()) {
     jj_scanpos = xsp;
     if (jj_3_1053()) {
@@ -26839,7 +26825,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_1062()) {
     jj_scanpos = xsp;
-    if (jj_3_1063()) return true;
+    if (jj_3_1063()) {
+    jj_scanpos = xsp;
+    if (jj_3_1064()) {
+    jj_scanpos = xsp;
+    if (jj_3_1065()) return true;
     }
     }
     }
@@ -26860,18 +26850,18 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_199() {
+  final private boolean jj_3_201() {
     if (jj_scan_token(PARTITION)) return true;
     if (jj_scan_token(BY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1049() {
+  final private boolean jj_3_1051() {
     if (jj_scan_token(YEAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1048() {
+  final private boolean jj_3_1050() {
     if (jj_scan_token(VAR_SAMP)) return true;
     return false;
   }
@@ -26879,89 +26869,89 @@ final String p;
   final private boolean jj_3R_357() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_199()) {
+    if (jj_3_201()) {
     jj_scanpos = xsp;
     if (jj_3R_421()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_200()) {
+    if (jj_3_202()) {
     jj_scanpos = xsp;
     if (jj_3R_422()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1047() {
+  final private boolean jj_3_1049() {
     if (jj_scan_token(VAR_POP)) return true;
     return false;
   }
 
-  final private boolean jj_3_1046() {
+  final private boolean jj_3_1048() {
     if (jj_scan_token(USER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1045() {
+  final private boolean jj_3_1047() {
     if (jj_scan_token(TRUNCATE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1044() {
+  final private boolean jj_3_1046() {
     if (jj_scan_token(UPPER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1043() {
+  final private boolean jj_3_1045() {
     if (jj_scan_token(SUM)) return true;
     return false;
   }
 
-  final private boolean jj_3_1042() {
+  final private boolean jj_3_1044() {
     if (jj_scan_token(STDDEV_SAMP)) return true;
     return false;
   }
 
-  final private boolean jj_3_544() {
+  final private boolean jj_3_546() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1041() {
+  final private boolean jj_3_1043() {
     if (jj_scan_token(STDDEV_POP)) return true;
     return false;
   }
 
-  final private boolean jj_3_1040() {
+  final private boolean jj_3_1042() {
     if (jj_scan_token(SQRT)) return true;
     return false;
   }
 
-  final private boolean jj_3_543() {
+  final private boolean jj_3_545() {
     if (jj_scan_token(UNKNOWN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1039() {
+  final private boolean jj_3_1041() {
     if (jj_scan_token(SOME)) return true;
     return false;
   }
 
-  final private boolean jj_3_1038() {
+  final private boolean jj_3_1040() {
     if (jj_scan_token(SECOND)) return true;
     return false;
   }
 
-  final private boolean jj_3_542() {
+  final private boolean jj_3_544() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1037() {
+  final private boolean jj_3_1039() {
     if (jj_scan_token(ROW_NUMBER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1036() {
+  final private boolean jj_3_1038() {
     if (jj_scan_token(RIGHT)) return true;
     return false;
   }
@@ -26969,25 +26959,25 @@ final String p;
   final private boolean jj_3R_248() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_541()) {
+    if (jj_3_543()) {
     jj_scanpos = xsp;
-    if (jj_3_542()) {
+    if (jj_3_544()) {
     jj_scanpos = xsp;
-    if (jj_3_543()) {
+    if (jj_3_545()) {
     jj_scanpos = xsp;
-    if (jj_3_544()) return true;
+    if (jj_3_546()) return true;
     }
     }
     }
     return false;
   }
 
-  final private boolean jj_3_541() {
+  final private boolean jj_3_543() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1035() {
+  final private boolean jj_3_1037() {
     if (jj_scan_token(REGR_SYY)) return true;
     return false;
   }
@@ -26998,32 +26988,32 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1034() {
+  final private boolean jj_3_1036() {
     if (jj_scan_token(REGR_SXX)) return true;
     return false;
   }
 
-  final private boolean jj_3_1033() {
+  final private boolean jj_3_1035() {
     if (jj_scan_token(REGR_COUNT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1032() {
+  final private boolean jj_3_1034() {
     if (jj_scan_token(RANK)) return true;
     return false;
   }
 
-  final private boolean jj_3_1031() {
+  final private boolean jj_3_1033() {
     if (jj_scan_token(POWER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1030() {
+  final private boolean jj_3_1032() {
     if (jj_scan_token(PERCENT_RANK)) return true;
     return false;
   }
 
-  final private boolean jj_3_1029() {
+  final private boolean jj_3_1031() {
     if (jj_scan_token(PERCENTILE_DISC)) return true;
     return false;
   }
@@ -27032,32 +27022,32 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1028() {
+  final private boolean jj_3_1030() {
     if (jj_scan_token(PERCENTILE_CONT)) return true;
     return false;
   }
 
-  final private boolean jj_3_198() {
+  final private boolean jj_3_200() {
     if (jj_3R_156()) return true;
     return false;
   }
 
-  final private boolean jj_3_1027() {
+  final private boolean jj_3_1029() {
     if (jj_scan_token(OCTET_LENGTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1026() {
+  final private boolean jj_3_1028() {
     if (jj_scan_token(NULLIF)) return true;
     return false;
   }
 
-  final private boolean jj_3_540() {
+  final private boolean jj_3_542() {
     if (jj_3R_200()) return true;
     return false;
   }
 
-  final private boolean jj_3_1025() {
+  final private boolean jj_3_1027() {
     if (jj_scan_token(NTILE)) return true;
     return false;
   }
@@ -27066,49 +27056,49 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1024() {
+  final private boolean jj_3_1026() {
     if (jj_scan_token(NTH_VALUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1023() {
+  final private boolean jj_3_1025() {
     if (jj_scan_token(MONTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_197() {
+  final private boolean jj_3_199() {
     if (jj_scan_token(PARTITION)) return true;
     if (jj_scan_token(BY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1022() {
+  final private boolean jj_3_1024() {
     if (jj_scan_token(MOD)) return true;
     return false;
   }
 
-  final private boolean jj_3_539() {
+  final private boolean jj_3_541() {
     if (jj_scan_token(MINUS)) return true;
     if (jj_3R_200()) return true;
     return false;
   }
 
-  final private boolean jj_3_1021() {
+  final private boolean jj_3_1023() {
     if (jj_scan_token(MINUTE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1020() {
+  final private boolean jj_3_1022() {
     if (jj_scan_token(MIN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1019() {
+  final private boolean jj_3_1021() {
     if (jj_scan_token(MAX)) return true;
     return false;
   }
 
-  final private boolean jj_3_1018() {
+  final private boolean jj_3_1020() {
     if (jj_scan_token(LOWER)) return true;
     return false;
   }
@@ -27116,28 +27106,28 @@ final String p;
   final private boolean jj_3R_140() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_538()) {
+    if (jj_3_540()) {
     jj_scanpos = xsp;
-    if (jj_3_539()) {
+    if (jj_3_541()) {
     jj_scanpos = xsp;
-    if (jj_3_540()) return true;
+    if (jj_3_542()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3_538() {
+  final private boolean jj_3_540() {
     if (jj_scan_token(PLUS)) return true;
     if (jj_3R_200()) return true;
     return false;
   }
 
-  final private boolean jj_3_1017() {
+  final private boolean jj_3_1019() {
     if (jj_scan_token(LOCALTIMESTAMP)) return true;
     return false;
   }
 
-  final private boolean jj_3_1016() {
+  final private boolean jj_3_1018() {
     if (jj_scan_token(LOCALTIME)) return true;
     return false;
   }
@@ -27146,151 +27136,151 @@ final String p;
     if (jj_3R_78()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_197()) {
+    if (jj_3_199()) {
     jj_scanpos = xsp;
     if (jj_3R_355()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_198()) {
+    if (jj_3_200()) {
     jj_scanpos = xsp;
     if (jj_3R_356()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1015() {
+  final private boolean jj_3_1017() {
     if (jj_scan_token(LN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1014() {
+  final private boolean jj_3_1016() {
     if (jj_scan_token(LAST_VALUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1013() {
+  final private boolean jj_3_1015() {
     if (jj_scan_token(LEFT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1012() {
+  final private boolean jj_3_1014() {
     if (jj_scan_token(LEAD)) return true;
     return false;
   }
 
-  final private boolean jj_3_1011() {
+  final private boolean jj_3_1013() {
     if (jj_scan_token(LAG)) return true;
     return false;
   }
 
-  final private boolean jj_3_1010() {
+  final private boolean jj_3_1012() {
     if (jj_scan_token(HOUR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1009() {
+  final private boolean jj_3_1011() {
     if (jj_scan_token(GROUPING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1008() {
+  final private boolean jj_3_1010() {
     if (jj_scan_token(INTERSECTION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1007() {
+  final private boolean jj_3_1009() {
     if (jj_scan_token(FUSION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1006() {
+  final private boolean jj_3_1008() {
     if (jj_scan_token(FLOOR)) return true;
     return false;
   }
 
-  final private boolean jj_3_537() {
+  final private boolean jj_3_539() {
     if (jj_scan_token(APPROX_NUMERIC_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1005() {
+  final private boolean jj_3_1007() {
     if (jj_scan_token(FIRST_VALUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1004() {
+  final private boolean jj_3_1006() {
     if (jj_scan_token(EXP)) return true;
     return false;
   }
 
-  final private boolean jj_3_1003() {
+  final private boolean jj_3_1005() {
     if (jj_scan_token(EVERY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1002() {
+  final private boolean jj_3_1004() {
     if (jj_scan_token(ELEMENT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1001() {
+  final private boolean jj_3_1003() {
     if (jj_scan_token(DENSE_RANK)) return true;
     return false;
   }
 
-  final private boolean jj_3_536() {
+  final private boolean jj_3_538() {
     if (jj_scan_token(DECIMAL)) return true;
     if (jj_3R_251()) return true;
     return false;
   }
 
-  final private boolean jj_3_1000() {
+  final private boolean jj_3_1002() {
     if (jj_scan_token(CURRENT_TIMESTAMP)) return true;
     return false;
   }
 
-  final private boolean jj_3_999() {
+  final private boolean jj_3_1001() {
     if (jj_scan_token(CURRENT_TIME)) return true;
     return false;
   }
 
-  final private boolean jj_3_195() {
+  final private boolean jj_3_197() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_84()) return true;
     return false;
   }
 
-  final private boolean jj_3_998() {
+  final private boolean jj_3_1000() {
     if (jj_scan_token(CURRENT_DATE)) return true;
     return false;
   }
 
-  final private boolean jj_3_997() {
+  final private boolean jj_3_999() {
     if (jj_scan_token(COUNT)) return true;
     return false;
   }
 
-  final private boolean jj_3_535() {
+  final private boolean jj_3_537() {
     if (jj_scan_token(DECIMAL_NUMERIC_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_996() {
+  final private boolean jj_3_998() {
     if (jj_scan_token(CUME_DIST)) return true;
     return false;
   }
 
-  final private boolean jj_3_995() {
+  final private boolean jj_3_997() {
     if (jj_scan_token(COVAR_SAMP)) return true;
     return false;
   }
 
-  final private boolean jj_3_994() {
+  final private boolean jj_3_996() {
     if (jj_scan_token(COVAR_POP)) return true;
     return false;
   }
 
-  final private boolean jj_3_993() {
+  final private boolean jj_3_995() {
     if (jj_scan_token(COLLECT)) return true;
     return false;
   }
@@ -27298,75 +27288,75 @@ final String p;
   final private boolean jj_3R_200() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_534()) {
+    if (jj_3_536()) {
     jj_scanpos = xsp;
-    if (jj_3_535()) {
+    if (jj_3_537()) {
     jj_scanpos = xsp;
-    if (jj_3_536()) {
+    if (jj_3_538()) {
     jj_scanpos = xsp;
-    if (jj_3_537()) return true;
+    if (jj_3_539()) return true;
     }
     }
     }
     return false;
   }
 
-  final private boolean jj_3_196() {
+  final private boolean jj_3_198() {
     if (jj_3R_155()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_195()) { jj_scanpos = xsp; break; }
+      if (jj_3_197()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  final private boolean jj_3_534() {
+  final private boolean jj_3_536() {
     if (jj_scan_token(UNSIGNED_INTEGER_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_992() {
+  final private boolean jj_3_994() {
     if (jj_scan_token(COALESCE)) return true;
     return false;
   }
 
-  final private boolean jj_3_991() {
+  final private boolean jj_3_993() {
     if (jj_scan_token(CHARACTER_LENGTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_990() {
+  final private boolean jj_3_992() {
     if (jj_scan_token(CHAR_LENGTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_989() {
+  final private boolean jj_3_991() {
     if (jj_scan_token(CHAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_988() {
+  final private boolean jj_3_990() {
     if (jj_scan_token(CEILING)) return true;
     return false;
   }
 
-  final private boolean jj_3_987() {
+  final private boolean jj_3_989() {
     if (jj_scan_token(CARDINALITY)) return true;
     return false;
   }
 
-  final private boolean jj_3_986() {
+  final private boolean jj_3_988() {
     if (jj_scan_token(AVG)) return true;
     return false;
   }
 
-  final private boolean jj_3_533() {
+  final private boolean jj_3_535() {
     if (jj_3R_247()) return true;
     return false;
   }
 
-  final private boolean jj_3_985() {
+  final private boolean jj_3_987() {
     if (jj_scan_token(ABS)) return true;
     return false;
   }
@@ -27376,7 +27366,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_532() {
+  final private boolean jj_3_534() {
     if (jj_3R_250()) return true;
     return false;
   }
@@ -27384,10 +27374,6 @@ final String p;
   final private boolean jj_3R_337() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_985()) {
-    jj_scanpos = xsp;
-    if (jj_3_986()) {
-    jj_scanpos = xsp;
     if (jj_3_987()) {
     jj_scanpos = xsp;
     if (jj_3_988()) {
@@ -27512,7 +27498,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_1048()) {
     jj_scanpos = xsp;
-    if (jj_3_1049()) return true;
+    if (jj_3_1049()) {
+    jj_scanpos = xsp;
+    if (jj_3_1050()) {
+    jj_scanpos = xsp;
+    if (jj_3_1051()) return true;
     }
     }
     }
@@ -27583,24 +27573,24 @@ final String p;
   final private boolean jj_3R_226() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_532()) {
+    if (jj_3_534()) {
     jj_scanpos = xsp;
-    if (jj_3_533()) return true;
+    if (jj_3_535()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_984() {
+  final private boolean jj_3_986() {
     if (jj_3R_337()) return true;
     return false;
   }
 
-  final private boolean jj_3_983() {
+  final private boolean jj_3_985() {
     if (jj_3R_153()) return true;
     return false;
   }
 
-  final private boolean jj_3_531() {
+  final private boolean jj_3_533() {
     if (jj_3R_249()) return true;
     return false;
   }
@@ -27608,9 +27598,9 @@ final String p;
   final private boolean jj_3R_233() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_983()) {
+    if (jj_3_985()) {
     jj_scanpos = xsp;
-    if (jj_3_984()) return true;
+    if (jj_3_986()) return true;
     }
     return false;
   }
@@ -27621,22 +27611,22 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_530() {
+  final private boolean jj_3_532() {
     if (jj_3R_248()) return true;
     return false;
   }
 
-  final private boolean jj_3_529() {
+  final private boolean jj_3_531() {
     if (jj_3R_139()) return true;
     return false;
   }
 
-  final private boolean jj_3_528() {
+  final private boolean jj_3_530() {
     if (jj_3R_140()) return true;
     return false;
   }
 
-  final private boolean jj_3_189() {
+  final private boolean jj_3_191() {
     if (jj_scan_token(SCHEMA)) return true;
     return false;
   }
@@ -27644,13 +27634,13 @@ final String p;
   final private boolean jj_3R_247() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_528()) {
+    if (jj_3_530()) {
     jj_scanpos = xsp;
-    if (jj_3_529()) {
+    if (jj_3_531()) {
     jj_scanpos = xsp;
-    if (jj_3_530()) {
+    if (jj_3_532()) {
     jj_scanpos = xsp;
-    if (jj_3_531()) return true;
+    if (jj_3_533()) return true;
     }
     }
     }
@@ -27662,22 +27652,22 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_527() {
+  final private boolean jj_3_529() {
     if (jj_3R_195()) return true;
     return false;
   }
 
-  final private boolean jj_3_526() {
+  final private boolean jj_3_528() {
     if (jj_3R_247()) return true;
     return false;
   }
 
-  final private boolean jj_3_188() {
+  final private boolean jj_3_190() {
     if (jj_scan_token(CATALOG)) return true;
     return false;
   }
 
-  final private boolean jj_3_194() {
+  final private boolean jj_3_196() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(601)) jj_scanpos = xsp;
@@ -27688,39 +27678,39 @@ final String p;
   final private boolean jj_3R_120() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_526()) {
+    if (jj_3_528()) {
     jj_scanpos = xsp;
-    if (jj_3_527()) return true;
+    if (jj_3_529()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_981() {
+  final private boolean jj_3_983() {
     if (jj_3R_335()) return true;
     return false;
   }
 
-  final private boolean jj_3_191() {
+  final private boolean jj_3_193() {
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_193() {
+  final private boolean jj_3_195() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(622)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(824)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(823)) {
+    if (jj_scan_token(825)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(820)) {
+    if (jj_scan_token(824)) {
     jj_scanpos = xsp;
     if (jj_scan_token(821)) {
     jj_scanpos = xsp;
     if (jj_scan_token(822)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(819)) return true;
+    if (jj_scan_token(823)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(820)) return true;
     }
     }
     }
@@ -27730,28 +27720,28 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_980() {
+  final private boolean jj_3_982() {
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_190() {
+  final private boolean jj_3_192() {
     if (jj_scan_token(TABLE)) return true;
     return false;
   }
 
-  final private boolean jj_3_187() {
+  final private boolean jj_3_189() {
     if (jj_scan_token(DATABASE)) return true;
     return false;
   }
 
-  final private boolean jj_3_982() {
+  final private boolean jj_3_984() {
     if (jj_scan_token(OVER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_980()) {
+    if (jj_3_982()) {
     jj_scanpos = xsp;
-    if (jj_3_981()) return true;
+    if (jj_3_983()) return true;
     }
     return false;
   }
@@ -27759,42 +27749,42 @@ final String p;
   final private boolean jj_3R_360() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_190()) jj_scanpos = xsp;
+    if (jj_3_192()) jj_scanpos = xsp;
     if (jj_3R_153()) return true;
     return false;
   }
 
-  final private boolean jj_3_979() {
+  final private boolean jj_3_981() {
     if (jj_scan_token(TO)) return true;
     if (jj_3R_336()) return true;
     return false;
   }
 
-  final private boolean jj_3_525() {
+  final private boolean jj_3_527() {
     if (jj_3R_246()) return true;
     return false;
   }
 
-  final private boolean jj_3_524() {
+  final private boolean jj_3_526() {
     if (jj_3R_245()) return true;
     return false;
   }
 
-  final private boolean jj_3_192() {
+  final private boolean jj_3_194() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_187()) {
+    if (jj_3_189()) {
     jj_scanpos = xsp;
-    if (jj_3_188()) {
+    if (jj_3_190()) {
     jj_scanpos = xsp;
-    if (jj_3_189()) return true;
+    if (jj_3_191()) return true;
     }
     }
     if (jj_3R_153()) return true;
     return false;
   }
 
-  final private boolean jj_3_523() {
+  final private boolean jj_3_525() {
     if (jj_3R_244()) return true;
     return false;
   }
@@ -27804,7 +27794,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_522() {
+  final private boolean jj_3_524() {
     if (jj_3R_243()) return true;
     return false;
   }
@@ -27813,11 +27803,11 @@ final String p;
     if (jj_scan_token(DESCRIBE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_192()) {
+    if (jj_3_194()) {
     jj_scanpos = xsp;
     if (jj_3R_360()) {
     jj_scanpos = xsp;
-    if (jj_3_194()) return true;
+    if (jj_3_196()) return true;
     }
     }
     return false;
@@ -27827,71 +27817,71 @@ final String p;
     if (jj_scan_token(DROP)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_522()) {
+    if (jj_3_524()) {
     jj_scanpos = xsp;
-    if (jj_3_523()) {
+    if (jj_3_525()) {
     jj_scanpos = xsp;
-    if (jj_3_524()) {
+    if (jj_3_526()) {
     jj_scanpos = xsp;
-    if (jj_3_525()) return true;
+    if (jj_3_527()) return true;
     }
     }
     }
     return false;
   }
 
-  final private boolean jj_3_978() {
+  final private boolean jj_3_980() {
     if (jj_3R_224()) return true;
     return false;
   }
 
-  final private boolean jj_3_521() {
+  final private boolean jj_3_523() {
     if (jj_3R_242()) return true;
     return false;
   }
 
-  final private boolean jj_3_184() {
+  final private boolean jj_3_186() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  final private boolean jj_3_520() {
+  final private boolean jj_3_522() {
     if (jj_3R_241()) return true;
     return false;
   }
 
-  final private boolean jj_3_977() {
+  final private boolean jj_3_979() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_186() {
+  final private boolean jj_3_188() {
     if (jj_scan_token(INCLUDING)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_184()) jj_scanpos = xsp;
+    if (jj_3_186()) jj_scanpos = xsp;
     if (jj_scan_token(ATTRIBUTES)) return true;
     return false;
   }
 
-  final private boolean jj_3_519() {
+  final private boolean jj_3_521() {
     if (jj_3R_240()) return true;
     return false;
   }
 
-  final private boolean jj_3_518() {
+  final private boolean jj_3_520() {
     if (jj_3R_239()) return true;
     return false;
   }
 
-  final private boolean jj_3_976() {
+  final private boolean jj_3_978() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_185() {
+  final private boolean jj_3_187() {
     if (jj_scan_token(EXCLUDING)) return true;
     if (jj_scan_token(ATTRIBUTES)) return true;
     return false;
@@ -27901,7 +27891,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_517() {
+  final private boolean jj_3_519() {
     if (jj_scan_token(OR)) return true;
     if (jj_scan_token(REPLACE)) return true;
     return false;
@@ -27910,14 +27900,14 @@ final String p;
   final private boolean jj_3R_152() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_185()) {
+    if (jj_3_187()) {
     jj_scanpos = xsp;
-    if (jj_3_186()) return true;
+    if (jj_3_188()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_975() {
+  final private boolean jj_3_977() {
     if (jj_scan_token(SPECIFIC)) return true;
     return false;
   }
@@ -27926,22 +27916,22 @@ final String p;
     if (jj_scan_token(CREATE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_517()) jj_scanpos = xsp;
+    if (jj_3_519()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3_518()) {
+    if (jj_3_520()) {
     jj_scanpos = xsp;
-    if (jj_3_519()) {
+    if (jj_3_521()) {
     jj_scanpos = xsp;
-    if (jj_3_520()) {
+    if (jj_3_522()) {
     jj_scanpos = xsp;
-    if (jj_3_521()) return true;
+    if (jj_3_523()) return true;
     }
     }
     }
     return false;
   }
 
-  final private boolean jj_3_516() {
+  final private boolean jj_3_518() {
     if (jj_scan_token(SESSION)) return true;
     return false;
   }
@@ -27949,7 +27939,7 @@ final String p;
   final private boolean jj_3R_332() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_975()) {
+    if (jj_3_977()) {
     jj_scanpos = xsp;
     if (jj_3R_416()) return true;
     }
@@ -27957,13 +27947,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_183() {
+  final private boolean jj_3_185() {
     if (jj_scan_token(WITHOUT)) return true;
     if (jj_scan_token(IMPLEMENTATION)) return true;
     return false;
   }
 
-  final private boolean jj_3_515() {
+  final private boolean jj_3_517() {
     if (jj_scan_token(SYSTEM)) return true;
     return false;
   }
@@ -27971,42 +27961,42 @@ final String p;
   final private boolean jj_3R_359() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_515()) {
+    if (jj_3_517()) {
     jj_scanpos = xsp;
-    if (jj_3_516()) return true;
+    if (jj_3_518()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_973() {
+  final private boolean jj_3_975() {
     if (jj_3R_335()) return true;
     return false;
   }
 
-  final private boolean jj_3_182() {
+  final private boolean jj_3_184() {
     if (jj_scan_token(WITH)) return true;
     if (jj_scan_token(IMPLEMENTATION)) return true;
     return false;
   }
 
-  final private boolean jj_3_972() {
+  final private boolean jj_3_974() {
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_181() {
+  final private boolean jj_3_183() {
     if (jj_scan_token(WITH)) return true;
     if (jj_scan_token(TYPE)) return true;
     return false;
   }
 
-  final private boolean jj_3_974() {
+  final private boolean jj_3_976() {
     if (jj_scan_token(OVER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_972()) {
+    if (jj_3_974()) {
     jj_scanpos = xsp;
-    if (jj_3_973()) return true;
+    if (jj_3_975()) return true;
     }
     return false;
   }
@@ -28017,63 +28007,63 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_971() {
+  final private boolean jj_3_973() {
     if (jj_scan_token(FILTER)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_180() {
+  final private boolean jj_3_182() {
     if (jj_3R_117()) return true;
     return false;
   }
 
-  final private boolean jj_3_970() {
+  final private boolean jj_3_972() {
     if (jj_3R_327()) return true;
     return false;
   }
 
-  final private boolean jj_3_179() {
+  final private boolean jj_3_181() {
     if (jj_3R_116()) return true;
     return false;
   }
 
-  final private boolean jj_3_178() {
+  final private boolean jj_3_180() {
     if (jj_3R_115()) return true;
     return false;
   }
 
-  final private boolean jj_3_969() {
+  final private boolean jj_3_971() {
     if (jj_3R_334()) return true;
     return false;
   }
 
-  final private boolean jj_3_177() {
+  final private boolean jj_3_179() {
     if (jj_3R_114()) return true;
     return false;
   }
 
-  final private boolean jj_3_512() {
+  final private boolean jj_3_514() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  final private boolean jj_3_176() {
+  final private boolean jj_3_178() {
     if (jj_3R_80()) return true;
     return false;
   }
 
-  final private boolean jj_3_968() {
+  final private boolean jj_3_970() {
     if (jj_3R_333()) return true;
     return false;
   }
 
-  final private boolean jj_3_511() {
+  final private boolean jj_3_513() {
     if (jj_3R_153()) return true;
     return false;
   }
 
-  final private boolean jj_3_967() {
+  final private boolean jj_3_969() {
     if (jj_3R_332()) return true;
     return false;
   }
@@ -28081,15 +28071,15 @@ final String p;
   final private boolean jj_3R_154() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_176()) {
-    jj_scanpos = xsp;
-    if (jj_3_177()) {
-    jj_scanpos = xsp;
     if (jj_3_178()) {
     jj_scanpos = xsp;
     if (jj_3_179()) {
     jj_scanpos = xsp;
-    if (jj_3_180()) return true;
+    if (jj_3_180()) {
+    jj_scanpos = xsp;
+    if (jj_3_181()) {
+    jj_scanpos = xsp;
+    if (jj_3_182()) return true;
     }
     }
     }
@@ -28102,18 +28092,18 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_514() {
+  final private boolean jj_3_516() {
     if (jj_scan_token(RESET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_511()) {
+    if (jj_3_513()) {
     jj_scanpos = xsp;
-    if (jj_3_512()) return true;
+    if (jj_3_514()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_966() {
+  final private boolean jj_3_968() {
     if (jj_3R_331()) return true;
     return false;
   }
@@ -28121,56 +28111,56 @@ final String p;
   final private boolean jj_3R_387() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_966()) {
+    if (jj_3_968()) {
     jj_scanpos = xsp;
     if (jj_3R_425()) {
     jj_scanpos = xsp;
-    if (jj_3_967()) return true;
+    if (jj_3_969()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3_510() {
+  final private boolean jj_3_512() {
     if (jj_scan_token(ON)) return true;
     return false;
   }
 
-  final private boolean jj_3_509() {
+  final private boolean jj_3_511() {
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_508() {
+  final private boolean jj_3_510() {
     if (jj_3R_120()) return true;
     return false;
   }
 
-  final private boolean jj_3_175() {
+  final private boolean jj_3_177() {
     if (jj_scan_token(AS)) return true;
     if (jj_scan_token(DOT_FORMAT)) return true;
     return false;
   }
 
-  final private boolean jj_3_174() {
+  final private boolean jj_3_176() {
     if (jj_scan_token(AS)) return true;
     if (jj_scan_token(JSON)) return true;
     return false;
   }
 
-  final private boolean jj_3_173() {
+  final private boolean jj_3_175() {
     if (jj_scan_token(AS)) return true;
     if (jj_scan_token(XML)) return true;
     return false;
   }
 
-  final private boolean jj_3_513() {
+  final private boolean jj_3_515() {
     if (jj_scan_token(SET)) return true;
     if (jj_3R_153()) return true;
     return false;
   }
 
-  final private boolean jj_3_172() {
+  final private boolean jj_3_174() {
     if (jj_3R_152()) return true;
     return false;
   }
@@ -28178,9 +28168,9 @@ final String p;
   final private boolean jj_3R_108() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_513()) {
+    if (jj_3_515()) {
     jj_scanpos = xsp;
-    if (jj_3_514()) return true;
+    if (jj_3_516()) return true;
     }
     return false;
   }
@@ -28196,17 +28186,17 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_507() {
+  final private boolean jj_3_509() {
     if (jj_scan_token(CURRENT)) return true;
     return false;
   }
 
-  final private boolean jj_3_506() {
+  final private boolean jj_3_508() {
     if (jj_scan_token(NEXT)) return true;
     return false;
   }
 
-  final private boolean jj_3_965() {
+  final private boolean jj_3_967() {
     if (jj_scan_token(RESPECT)) return true;
     if (jj_scan_token(NULLS)) return true;
     return false;
@@ -28215,9 +28205,9 @@ final String p;
   final private boolean jj_3R_237() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_506()) {
+    if (jj_3_508()) {
     jj_scanpos = xsp;
-    if (jj_3_507()) return true;
+    if (jj_3_509()) return true;
     }
     if (jj_scan_token(VALUE)) return true;
     return false;
@@ -28226,26 +28216,26 @@ final String p;
   final private boolean jj_3R_225() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_964()) {
+    if (jj_3_966()) {
     jj_scanpos = xsp;
-    if (jj_3_965()) return true;
+    if (jj_3_967()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_964() {
+  final private boolean jj_3_966() {
     if (jj_scan_token(IGNORE)) return true;
     if (jj_scan_token(NULLS)) return true;
     return false;
   }
 
-  final private boolean jj_3_161() {
+  final private boolean jj_3_163() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_144()) return true;
     return false;
   }
 
-  final private boolean jj_3_505() {
+  final private boolean jj_3_507() {
     if (jj_scan_token(ELSE)) return true;
     if (jj_3R_82()) return true;
     return false;
@@ -28257,44 +28247,44 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_170() {
+  final private boolean jj_3_172() {
     if (jj_3R_150()) return true;
     return false;
   }
 
-  final private boolean jj_3_169() {
+  final private boolean jj_3_171() {
     if (jj_3R_149()) return true;
     return false;
   }
 
-  final private boolean jj_3_168() {
+  final private boolean jj_3_170() {
     if (jj_3R_148()) return true;
     return false;
   }
 
-  final private boolean jj_3_167() {
+  final private boolean jj_3_169() {
     if (jj_3R_147()) return true;
     return false;
   }
 
-  final private boolean jj_3_166() {
+  final private boolean jj_3_168() {
     if (jj_3R_146()) return true;
     return false;
   }
 
-  final private boolean jj_3_171() {
+  final private boolean jj_3_173() {
     if (jj_scan_token(FROM)) return true;
     if (jj_3R_151()) return true;
     return false;
   }
 
-  final private boolean jj_3_165() {
+  final private boolean jj_3_167() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_145()) return true;
     return false;
   }
 
-  final private boolean jj_3_504() {
+  final private boolean jj_3_506() {
     if (jj_scan_token(WHEN)) return true;
     if (jj_3R_238()) return true;
     return false;
@@ -28310,17 +28300,17 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_164() {
+  final private boolean jj_3_166() {
     if (jj_3R_83()) return true;
     return false;
   }
 
-  final private boolean jj_3_503() {
+  final private boolean jj_3_505() {
     if (jj_3R_82()) return true;
     return false;
   }
 
-  final private boolean jj_3_163() {
+  final private boolean jj_3_165() {
     if (jj_scan_token(STREAM)) return true;
     return false;
   }
@@ -28329,26 +28319,26 @@ final String p;
     if (jj_scan_token(CASE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_503()) {
+    if (jj_3_505()) {
     jj_scanpos = xsp;
     if (jj_3R_407()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_162() {
+  final private boolean jj_3_164() {
     if (jj_scan_token(HINT_BEG)) return true;
     if (jj_3R_144()) return true;
     return false;
   }
 
-  final private boolean jj_3_963() {
+  final private boolean jj_3_965() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_140()) return true;
     return false;
   }
 
-  final private boolean jj_3_160() {
+  final private boolean jj_3_162() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_144()) return true;
     return false;
@@ -28358,32 +28348,32 @@ final String p;
     if (jj_scan_token(SELECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_162()) jj_scanpos = xsp;
+    if (jj_3_164()) jj_scanpos = xsp;
     if (jj_3R_350()) return true;
     return false;
   }
 
-  final private boolean jj_3_962() {
+  final private boolean jj_3_964() {
     if (jj_scan_token(NEXT)) return true;
     return false;
   }
 
-  final private boolean jj_3_502() {
+  final private boolean jj_3_504() {
     if (jj_3R_237()) return true;
     return false;
   }
 
-  final private boolean jj_3_961() {
+  final private boolean jj_3_963() {
     if (jj_scan_token(PREV)) return true;
     return false;
   }
 
-  final private boolean jj_3_501() {
+  final private boolean jj_3_503() {
     if (jj_3R_236()) return true;
     return false;
   }
 
-  final private boolean jj_3_497() {
+  final private boolean jj_3_499() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(542)) jj_scanpos = xsp;
@@ -28392,7 +28382,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_500() {
+  final private boolean jj_3_502() {
     if (jj_3R_235()) return true;
     return false;
   }
@@ -28400,9 +28390,9 @@ final String p;
   final private boolean jj_3R_329() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_961()) {
+    if (jj_3_963()) {
     jj_scanpos = xsp;
-    if (jj_3_962()) return true;
+    if (jj_3_964()) return true;
     }
     if (jj_scan_token(LPAREN)) return true;
     return false;
@@ -28413,12 +28403,12 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_499() {
+  final private boolean jj_3_501() {
     if (jj_3R_153()) return true;
     return false;
   }
 
-  final private boolean jj_3_498() {
+  final private boolean jj_3_500() {
     if (jj_3R_234()) return true;
     return false;
   }
@@ -28428,7 +28418,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_496() {
+  final private boolean jj_3_498() {
     if (jj_3R_232()) return true;
     return false;
   }
@@ -28439,48 +28429,48 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_495() {
+  final private boolean jj_3_497() {
     if (jj_3R_231()) return true;
     return false;
   }
 
-  final private boolean jj_3_960() {
+  final private boolean jj_3_962() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_140()) return true;
     return false;
   }
 
-  final private boolean jj_3_494() {
+  final private boolean jj_3_496() {
     if (jj_3R_230()) return true;
     return false;
   }
 
-  final private boolean jj_3_493() {
+  final private boolean jj_3_495() {
     if (jj_3R_229()) return true;
     return false;
   }
 
-  final private boolean jj_3_492() {
+  final private boolean jj_3_494() {
     if (jj_3R_228()) return true;
     return false;
   }
 
-  final private boolean jj_3_959() {
+  final private boolean jj_3_961() {
     if (jj_scan_token(LAST)) return true;
     return false;
   }
 
-  final private boolean jj_3_491() {
+  final private boolean jj_3_493() {
     if (jj_3R_227()) return true;
     return false;
   }
 
-  final private boolean jj_3_958() {
+  final private boolean jj_3_960() {
     if (jj_scan_token(FIRST)) return true;
     return false;
   }
 
-  final private boolean jj_3_490() {
+  final private boolean jj_3_492() {
     if (jj_3R_223()) return true;
     return false;
   }
@@ -28489,23 +28479,23 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_957() {
+  final private boolean jj_3_959() {
     if (jj_scan_token(FINAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_156() {
+  final private boolean jj_3_158() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_489() {
+  final private boolean jj_3_491() {
     if (jj_3R_226()) return true;
     return false;
   }
 
-  final private boolean jj_3_956() {
+  final private boolean jj_3_958() {
     if (jj_scan_token(RUNNING)) return true;
     return false;
   }
@@ -28513,10 +28503,6 @@ final String p;
   final private boolean jj_3R_220() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_489()) {
-    jj_scanpos = xsp;
-    if (jj_3_490()) {
-    jj_scanpos = xsp;
     if (jj_3_491()) {
     jj_scanpos = xsp;
     if (jj_3_492()) {
@@ -28529,22 +28515,26 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_496()) {
     jj_scanpos = xsp;
-    if (jj_3R_395()) {
+    if (jj_3_497()) {
     jj_scanpos = xsp;
     if (jj_3_498()) {
     jj_scanpos = xsp;
-    if (jj_3_499()) {
+    if (jj_3R_395()) {
+    jj_scanpos = xsp;
+    if (jj_3_500()) {
+    jj_scanpos = xsp;
+    if (jj_3_501()) {
     jj_scanpos = xsp;
     lookingAhead = true;
     jj_semLA = allowRowValueStar();
     lookingAhead = false;
     if (!jj_semLA || jj_3R_396()) {
     jj_scanpos = xsp;
-    if (jj_3_500()) {
+    if (jj_3_502()) {
     jj_scanpos = xsp;
-    if (jj_3_501()) {
+    if (jj_3_503()) {
     jj_scanpos = xsp;
-    if (jj_3_502()) return true;
+    if (jj_3_504()) return true;
     }
     }
     }
@@ -28565,49 +28555,49 @@ final String p;
   final private boolean jj_3R_328() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_956()) {
+    if (jj_3_958()) {
     jj_scanpos = xsp;
-    if (jj_3_957()) {
+    if (jj_3_959()) {
     jj_scanpos = xsp;
     if (jj_3R_415()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3_958()) {
+    if (jj_3_960()) {
     jj_scanpos = xsp;
-    if (jj_3_959()) return true;
+    if (jj_3_961()) return true;
     }
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_159() {
+  final private boolean jj_3_161() {
     if (jj_3R_143()) return true;
     return false;
   }
 
-  final private boolean jj_3_158() {
+  final private boolean jj_3_160() {
     if (jj_3R_125()) return true;
     return false;
   }
 
-  final private boolean jj_3_155() {
+  final private boolean jj_3_157() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_141()) return true;
     return false;
   }
 
-  final private boolean jj_3_157() {
+  final private boolean jj_3_159() {
     if (jj_3R_142()) return true;
     return false;
   }
 
-  final private boolean jj_3_955() {
+  final private boolean jj_3_957() {
     if (jj_scan_token(FINAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_954() {
+  final private boolean jj_3_956() {
     if (jj_scan_token(RUNNING)) return true;
     return false;
   }
@@ -28617,7 +28607,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_486() {
+  final private boolean jj_3_488() {
     if (jj_3R_225()) return true;
     return false;
   }
@@ -28625,31 +28615,31 @@ final String p;
   final private boolean jj_3R_330() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_954()) {
+    if (jj_3_956()) {
     jj_scanpos = xsp;
-    if (jj_3_955()) return true;
+    if (jj_3_957()) return true;
     }
     if (jj_3R_213()) return true;
     return false;
   }
 
-  final private boolean jj_3_488() {
+  final private boolean jj_3_490() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_140()) return true;
     return false;
   }
 
-  final private boolean jj_3_953() {
+  final private boolean jj_3_955() {
     if (jj_3R_330()) return true;
     return false;
   }
 
-  final private boolean jj_3_487() {
+  final private boolean jj_3_489() {
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_952() {
+  final private boolean jj_3_954() {
     if (jj_3R_329()) return true;
     return false;
   }
@@ -28660,28 +28650,28 @@ final String p;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_155()) { jj_scanpos = xsp; break; }
+      if (jj_3_157()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_951() {
+  final private boolean jj_3_953() {
     if (jj_3R_328()) return true;
     return false;
   }
 
-  final private boolean jj_3_485() {
+  final private boolean jj_3_487() {
     if (jj_scan_token(PERCENTILE_DISC)) return true;
     return false;
   }
 
-  final private boolean jj_3_484() {
+  final private boolean jj_3_486() {
     if (jj_scan_token(PERCENTILE_CONT)) return true;
     return false;
   }
 
-  final private boolean jj_3_950() {
+  final private boolean jj_3_952() {
     if (jj_scan_token(MATCH_NUMBER)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
@@ -28690,26 +28680,26 @@ final String p;
   final private boolean jj_3R_429() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_484()) {
+    if (jj_3_486()) {
     jj_scanpos = xsp;
-    if (jj_3_485()) return true;
+    if (jj_3_487()) return true;
     }
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_154() {
+  final private boolean jj_3_156() {
     if (jj_3R_139()) return true;
     return false;
   }
 
-  final private boolean jj_3_949() {
+  final private boolean jj_3_951() {
     if (jj_scan_token(CLASSIFIER)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_153() {
+  final private boolean jj_3_155() {
     if (jj_3R_140()) return true;
     return false;
   }
@@ -28717,15 +28707,15 @@ final String p;
   final private boolean jj_3R_308() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_949()) {
-    jj_scanpos = xsp;
-    if (jj_3_950()) {
-    jj_scanpos = xsp;
     if (jj_3_951()) {
     jj_scanpos = xsp;
     if (jj_3_952()) {
     jj_scanpos = xsp;
-    if (jj_3_953()) return true;
+    if (jj_3_953()) {
+    jj_scanpos = xsp;
+    if (jj_3_954()) {
+    jj_scanpos = xsp;
+    if (jj_3_955()) return true;
     }
     }
     }
@@ -28736,39 +28726,39 @@ final String p;
   final private boolean jj_3R_141() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_153()) {
+    if (jj_3_155()) {
     jj_scanpos = xsp;
-    if (jj_3_154()) return true;
+    if (jj_3_156()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_948() {
+  final private boolean jj_3_950() {
     if (jj_scan_token(SESSION)) return true;
     return false;
   }
 
-  final private boolean jj_3_152() {
+  final private boolean jj_3_154() {
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_947() {
+  final private boolean jj_3_949() {
     if (jj_scan_token(HOP)) return true;
     return false;
   }
 
-  final private boolean jj_3_151() {
+  final private boolean jj_3_153() {
     if (jj_3R_139()) return true;
     return false;
   }
 
-  final private boolean jj_3_946() {
+  final private boolean jj_3_948() {
     if (jj_scan_token(TUMBLE)) return true;
     return false;
   }
 
-  final private boolean jj_3_150() {
+  final private boolean jj_3_152() {
     if (jj_3R_139()) return true;
     return false;
   }
@@ -28776,23 +28766,23 @@ final String p;
   final private boolean jj_3R_316() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_946()) {
+    if (jj_3_948()) {
     jj_scanpos = xsp;
-    if (jj_3_947()) {
+    if (jj_3_949()) {
     jj_scanpos = xsp;
-    if (jj_3_948()) return true;
+    if (jj_3_950()) return true;
     }
     }
     if (jj_3R_413()) return true;
     return false;
   }
 
-  final private boolean jj_3_149() {
+  final private boolean jj_3_151() {
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_483() {
+  final private boolean jj_3_485() {
     if (jj_scan_token(SEPARATOR)) return true;
     if (jj_3R_139()) return true;
     return false;
@@ -28801,30 +28791,30 @@ final String p;
   final private boolean jj_3R_138() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_149()) {
+    if (jj_3_151()) {
     jj_scanpos = xsp;
-    if (jj_3_150()) return true;
+    if (jj_3_152()) return true;
     }
     if (jj_scan_token(EQ)) return true;
     xsp = jj_scanpos;
-    if (jj_3_151()) {
+    if (jj_3_153()) {
     jj_scanpos = xsp;
-    if (jj_3_152()) return true;
+    if (jj_3_154()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_482() {
+  final private boolean jj_3_484() {
     if (jj_3R_71()) return true;
     return false;
   }
 
-  final private boolean jj_3_481() {
+  final private boolean jj_3_483() {
     if (jj_3R_225()) return true;
     return false;
   }
 
-  final private boolean jj_3_148() {
+  final private boolean jj_3_150() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_138()) return true;
     return false;
@@ -28836,13 +28826,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_480() {
+  final private boolean jj_3_482() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_84()) return true;
     return false;
   }
 
-  final private boolean jj_3_479() {
+  final private boolean jj_3_481() {
     if (jj_3R_83()) return true;
     return false;
   }
@@ -28853,28 +28843,28 @@ final String p;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_148()) { jj_scanpos = xsp; break; }
+      if (jj_3_150()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_478() {
+  final private boolean jj_3_480() {
     if (jj_scan_token(STRING_AGG)) return true;
     return false;
   }
 
-  final private boolean jj_3_477() {
+  final private boolean jj_3_479() {
     if (jj_scan_token(GROUP_CONCAT)) return true;
     return false;
   }
 
-  final private boolean jj_3_476() {
+  final private boolean jj_3_478() {
     if (jj_scan_token(ARRAY_CONCAT_AGG)) return true;
     return false;
   }
 
-  final private boolean jj_3_475() {
+  final private boolean jj_3_477() {
     if (jj_scan_token(ARRAY_AGG)) return true;
     return false;
   }
@@ -28882,13 +28872,13 @@ final String p;
   final private boolean jj_3R_331() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_475()) {
+    if (jj_3_477()) {
     jj_scanpos = xsp;
-    if (jj_3_476()) {
+    if (jj_3_478()) {
     jj_scanpos = xsp;
-    if (jj_3_477()) {
+    if (jj_3_479()) {
     jj_scanpos = xsp;
-    if (jj_3_478()) return true;
+    if (jj_3_480()) return true;
     }
     }
     }
@@ -28915,18 +28905,18 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_473() {
+  final private boolean jj_3_475() {
     if (jj_3R_224()) return true;
     return false;
   }
 
-  final private boolean jj_3_472() {
+  final private boolean jj_3_474() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_474() {
+  final private boolean jj_3_476() {
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
@@ -28943,7 +28933,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_471() {
+  final private boolean jj_3_473() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(STAR)) return true;
     return false;
@@ -28972,17 +28962,17 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_470() {
+  final private boolean jj_3_472() {
     if (jj_3R_223()) return true;
     return false;
   }
 
-  final private boolean jj_3_469() {
+  final private boolean jj_3_471() {
     if (jj_3R_200()) return true;
     return false;
   }
 
-  final private boolean jj_3_945() {
+  final private boolean jj_3_947() {
     if (jj_3R_79()) return true;
     return false;
   }
@@ -28990,24 +28980,24 @@ final String p;
   final private boolean jj_3R_75() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_469()) {
+    if (jj_3_471()) {
     jj_scanpos = xsp;
-    if (jj_3_470()) return true;
+    if (jj_3_472()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_147() {
+  final private boolean jj_3_149() {
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_944() {
+  final private boolean jj_3_946() {
     if (jj_3R_274()) return true;
     return false;
   }
 
-  final private boolean jj_3_146() {
+  final private boolean jj_3_148() {
     if (jj_3R_120()) return true;
     return false;
   }
@@ -29024,32 +29014,32 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_145() {
+  final private boolean jj_3_147() {
     if (jj_scan_token(MAX_CHANGED_PARTITION_ROWS_PERCENT)) return true;
     return false;
   }
 
-  final private boolean jj_3_144() {
+  final private boolean jj_3_146() {
     if (jj_scan_token(NULLS)) return true;
     return false;
   }
 
-  final private boolean jj_3_143() {
+  final private boolean jj_3_145() {
     if (jj_scan_token(SIZE)) return true;
     return false;
   }
 
-  final private boolean jj_3_468() {
+  final private boolean jj_3_470() {
     if (jj_scan_token(EQUALS)) return true;
     return false;
   }
 
-  final private boolean jj_3_142() {
+  final private boolean jj_3_144() {
     if (jj_scan_token(TOTAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_467() {
+  final private boolean jj_3_469() {
     if (jj_scan_token(SUCCEEDS)) return true;
     return false;
   }
@@ -29057,15 +29047,15 @@ final String p;
   final private boolean jj_3R_368() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_141()) {
-    jj_scanpos = xsp;
-    if (jj_3_142()) {
-    jj_scanpos = xsp;
     if (jj_3_143()) {
     jj_scanpos = xsp;
     if (jj_3_144()) {
     jj_scanpos = xsp;
-    if (jj_3_145()) return true;
+    if (jj_3_145()) {
+    jj_scanpos = xsp;
+    if (jj_3_146()) {
+    jj_scanpos = xsp;
+    if (jj_3_147()) return true;
     }
     }
     }
@@ -29073,23 +29063,23 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_141() {
+  final private boolean jj_3_143() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  final private boolean jj_3_466() {
+  final private boolean jj_3_468() {
     if (jj_scan_token(IMMEDIATELY)) return true;
     if (jj_scan_token(SUCCEEDS)) return true;
     return false;
   }
 
-  final private boolean jj_3_465() {
+  final private boolean jj_3_467() {
     if (jj_scan_token(PRECEDES)) return true;
     return false;
   }
 
-  final private boolean jj_3_464() {
+  final private boolean jj_3_466() {
     if (jj_scan_token(IMMEDIATELY)) return true;
     if (jj_scan_token(PRECEDES)) return true;
     return false;
@@ -29101,28 +29091,28 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_139() {
+  final private boolean jj_3_141() {
     if (jj_scan_token(QUOTED_IDENTIFIER)) return true;
     return false;
   }
 
-  final private boolean jj_3_463() {
+  final private boolean jj_3_465() {
     if (jj_scan_token(OVERLAPS)) return true;
     return false;
   }
 
-  final private boolean jj_3_137() {
+  final private boolean jj_3_139() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_137()) return true;
     return false;
   }
 
-  final private boolean jj_3_138() {
+  final private boolean jj_3_140() {
     if (jj_3R_137()) return true;
     return false;
   }
 
-  final private boolean jj_3_462() {
+  final private boolean jj_3_464() {
     if (jj_3R_135()) return true;
     return false;
   }
@@ -29130,26 +29120,26 @@ final String p;
   final private boolean jj_3R_428() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_461()) {
+    if (jj_3_463()) {
     jj_scanpos = xsp;
-    if (jj_3_462()) return true;
+    if (jj_3_464()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_461() {
+  final private boolean jj_3_463() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_140() {
+  final private boolean jj_3_142() {
     if (jj_scan_token(WITH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_138()) {
+    if (jj_3_140()) {
     jj_scanpos = xsp;
-    if (jj_3_139()) return true;
+    if (jj_3_141()) return true;
     }
     return false;
   }
@@ -29160,7 +29150,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_136() {
+  final private boolean jj_3_138() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_136()) return true;
     return false;
@@ -29177,7 +29167,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_135() {
+  final private boolean jj_3_137() {
     if (jj_3R_125()) return true;
     return false;
   }
@@ -29194,7 +29184,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_134() {
+  final private boolean jj_3_136() {
     if (jj_scan_token(TRANSACTION)) return true;
     return false;
   }
@@ -29205,7 +29195,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_133() {
+  final private boolean jj_3_135() {
     if (jj_scan_token(TRANSACTION)) return true;
     return false;
   }
@@ -29226,11 +29216,11 @@ final String p;
     if (jj_scan_token(ROLLBACK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_134()) jj_scanpos = xsp;
+    if (jj_3_136()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_456() {
+  final private boolean jj_3_458() {
     if (jj_3R_219()) return true;
     return false;
   }
@@ -29245,7 +29235,7 @@ final String p;
     if (jj_scan_token(COMMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_133()) jj_scanpos = xsp;
+    if (jj_3_135()) jj_scanpos = xsp;
     return false;
   }
 
@@ -29253,26 +29243,26 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_943() {
+  final private boolean jj_3_945() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_scan_token(JSON_SCOPE)) return true;
     return false;
   }
 
-  final private boolean jj_3_455() {
+  final private boolean jj_3_457() {
     if (jj_scan_token(ROW)) return true;
     return false;
   }
 
-  final private boolean jj_3_942() {
+  final private boolean jj_3_944() {
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_460() {
+  final private boolean jj_3_462() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_455()) {
+    if (jj_3_457()) {
     jj_scanpos = xsp;
     if (jj_3R_222()) return true;
     }
@@ -29292,7 +29282,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_132() {
+  final private boolean jj_3_134() {
     if (jj_scan_token(ASYNC)) return true;
     return false;
   }
@@ -29303,13 +29293,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_459() {
+  final private boolean jj_3_461() {
     if (jj_scan_token(ROW)) return true;
     if (jj_3R_174()) return true;
     return false;
   }
 
-  final private boolean jj_3_458() {
+  final private boolean jj_3_460() {
     if (jj_3R_221()) return true;
     return false;
   }
@@ -29317,25 +29307,25 @@ final String p;
   final private boolean jj_3R_213() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_457()) {
+    if (jj_3_459()) {
     jj_scanpos = xsp;
-    if (jj_3_458()) {
+    if (jj_3_460()) {
     jj_scanpos = xsp;
-    if (jj_3_459()) {
+    if (jj_3_461()) {
     jj_scanpos = xsp;
-    if (jj_3_460()) return true;
+    if (jj_3_462()) return true;
     }
     }
     }
     return false;
   }
 
-  final private boolean jj_3_457() {
+  final private boolean jj_3_459() {
     if (jj_3R_220()) return true;
     return false;
   }
 
-  final private boolean jj_3_941() {
+  final private boolean jj_3_943() {
     if (jj_3R_327()) return true;
     return false;
   }
@@ -29346,7 +29336,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_940() {
+  final private boolean jj_3_942() {
     if (jj_3R_325()) return true;
     return false;
   }
@@ -29357,12 +29347,12 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_939() {
+  final private boolean jj_3_941() {
     if (jj_3R_326()) return true;
     return false;
   }
 
-  final private boolean jj_3_454() {
+  final private boolean jj_3_456() {
     if (jj_scan_token(NE2)) return true;
     return false;
   }
@@ -29373,17 +29363,17 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_453() {
+  final private boolean jj_3_455() {
     if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  final private boolean jj_3_452() {
+  final private boolean jj_3_454() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  final private boolean jj_3_451() {
+  final private boolean jj_3_453() {
     if (jj_scan_token(GE)) return true;
     return false;
   }
@@ -29394,12 +29384,12 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_450() {
+  final private boolean jj_3_452() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  final private boolean jj_3_449() {
+  final private boolean jj_3_451() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
@@ -29407,10 +29397,6 @@ final String p;
   final private boolean jj_3R_212() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_448()) {
-    jj_scanpos = xsp;
-    if (jj_3_449()) {
-    jj_scanpos = xsp;
     if (jj_3_450()) {
     jj_scanpos = xsp;
     if (jj_3_451()) {
@@ -29419,7 +29405,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_453()) {
     jj_scanpos = xsp;
-    if (jj_3_454()) return true;
+    if (jj_3_454()) {
+    jj_scanpos = xsp;
+    if (jj_3_455()) {
+    jj_scanpos = xsp;
+    if (jj_3_456()) return true;
     }
     }
     }
@@ -29429,7 +29419,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_448() {
+  final private boolean jj_3_450() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
@@ -29443,7 +29433,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_445() {
+  final private boolean jj_3_447() {
     if (jj_3R_218()) return true;
     return false;
   }
@@ -29454,29 +29444,29 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_438() {
+  final private boolean jj_3_440() {
     if (jj_scan_token(DOT)) return true;
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_938() {
+  final private boolean jj_3_940() {
     if (jj_3R_325()) return true;
     return false;
   }
 
-  final private boolean jj_3_936() {
+  final private boolean jj_3_938() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_79()) return true;
     return false;
   }
 
-  final private boolean jj_3_937() {
+  final private boolean jj_3_939() {
     if (jj_3R_79()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_936()) { jj_scanpos = xsp; break; }
+      if (jj_3_938()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -29487,48 +29477,48 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_437() {
+  final private boolean jj_3_439() {
     if (jj_3R_82()) return true;
     return false;
   }
 
-  final private boolean jj_3_436() {
+  final private boolean jj_3_438() {
     if (jj_scan_token(SAFE_ORDINAL)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_435() {
+  final private boolean jj_3_437() {
     if (jj_scan_token(SAFE_OFFSET)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_434() {
+  final private boolean jj_3_436() {
     if (jj_scan_token(ORDINAL)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_433() {
+  final private boolean jj_3_435() {
     if (jj_scan_token(OFFSET)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_444() {
+  final private boolean jj_3_446() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_433()) {
+    if (jj_3_435()) {
     jj_scanpos = xsp;
-    if (jj_3_434()) {
+    if (jj_3_436()) {
     jj_scanpos = xsp;
-    if (jj_3_435()) {
+    if (jj_3_437()) {
     jj_scanpos = xsp;
-    if (jj_3_436()) {
+    if (jj_3_438()) {
     jj_scanpos = xsp;
-    if (jj_3_437()) return true;
+    if (jj_3_439()) return true;
     }
     }
     }
@@ -29536,23 +29526,23 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_443() {
+  final private boolean jj_3_445() {
     if (jj_3R_217()) return true;
     if (jj_3R_214()) return true;
     return false;
   }
 
-  final private boolean jj_3_935() {
+  final private boolean jj_3_937() {
     if (jj_3R_325()) return true;
     return false;
   }
 
-  final private boolean jj_3_442() {
+  final private boolean jj_3_444() {
     if (jj_3R_216()) return true;
     return false;
   }
 
-  final private boolean jj_3_432() {
+  final private boolean jj_3_434() {
     if (jj_scan_token(ESCAPE)) return true;
     if (jj_3R_213()) return true;
     return false;
@@ -29564,129 +29554,129 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_428() {
+  final private boolean jj_3_430() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_431() {
+  final private boolean jj_3_433() {
     if (jj_scan_token(TILDE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_428()) jj_scanpos = xsp;
+    if (jj_3_430()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_427() {
+  final private boolean jj_3_429() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_426() {
+  final private boolean jj_3_428() {
     if (jj_scan_token(SIMILAR)) return true;
     if (jj_scan_token(TO)) return true;
     return false;
   }
 
-  final private boolean jj_3_430() {
+  final private boolean jj_3_432() {
     if (jj_scan_token(NEGATE)) return true;
     if (jj_scan_token(TILDE)) return true;
     return false;
   }
 
-  final private boolean jj_3_425() {
+  final private boolean jj_3_427() {
     if (jj_scan_token(RLIKE)) return true;
     return false;
   }
 
-  final private boolean jj_3_131() {
+  final private boolean jj_3_133() {
     if (jj_scan_token(UNSIGNED_INTEGER_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_424() {
+  final private boolean jj_3_426() {
     if (jj_scan_token(ILIKE)) return true;
     return false;
   }
 
-  final private boolean jj_3_421() {
+  final private boolean jj_3_423() {
     if (jj_scan_token(SIMILAR)) return true;
     if (jj_scan_token(TO)) return true;
     return false;
   }
 
-  final private boolean jj_3_423() {
+  final private boolean jj_3_425() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  final private boolean jj_3_130() {
+  final private boolean jj_3_132() {
     if (jj_scan_token(MINUS)) return true;
     if (jj_scan_token(UNSIGNED_INTEGER_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_420() {
+  final private boolean jj_3_422() {
     if (jj_scan_token(RLIKE)) return true;
     return false;
   }
 
-  final private boolean jj_3_419() {
+  final private boolean jj_3_421() {
     if (jj_scan_token(ILIKE)) return true;
     return false;
   }
 
-  final private boolean jj_3_129() {
+  final private boolean jj_3_131() {
     if (jj_scan_token(PLUS)) return true;
     if (jj_scan_token(UNSIGNED_INTEGER_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_418() {
+  final private boolean jj_3_420() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  final private boolean jj_3_934() {
+  final private boolean jj_3_936() {
     if (jj_3R_325()) return true;
     return false;
   }
 
-  final private boolean jj_3_932() {
+  final private boolean jj_3_934() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_324()) return true;
     return false;
   }
 
-  final private boolean jj_3_422() {
+  final private boolean jj_3_424() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_418()) {
+    if (jj_3_420()) {
     jj_scanpos = xsp;
-    if (jj_3_419()) {
+    if (jj_3_421()) {
     jj_scanpos = xsp;
-    if (jj_3_420()) {
+    if (jj_3_422()) {
     jj_scanpos = xsp;
-    if (jj_3_421()) return true;
+    if (jj_3_423()) return true;
     }
     }
     }
     return false;
   }
 
-  final private boolean jj_3_429() {
+  final private boolean jj_3_431() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_422()) {
-    jj_scanpos = xsp;
-    if (jj_3_423()) {
-    jj_scanpos = xsp;
     if (jj_3_424()) {
     jj_scanpos = xsp;
     if (jj_3_425()) {
     jj_scanpos = xsp;
-    if (jj_3_426()) return true;
+    if (jj_3_426()) {
+    jj_scanpos = xsp;
+    if (jj_3_427()) {
+    jj_scanpos = xsp;
+    if (jj_3_428()) return true;
     }
     }
     }
@@ -29694,7 +29684,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_933() {
+  final private boolean jj_3_935() {
     if (jj_3R_324()) return true;
     return false;
   }
@@ -29711,36 +29701,36 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_441() {
+  final private boolean jj_3_443() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_429()) {
+    if (jj_3_431()) {
     jj_scanpos = xsp;
-    if (jj_3_430()) {
+    if (jj_3_432()) {
     jj_scanpos = xsp;
-    if (jj_3_431()) return true;
+    if (jj_3_433()) return true;
     }
     }
     if (jj_3R_215()) return true;
     return false;
   }
 
-  final private boolean jj_3_414() {
+  final private boolean jj_3_416() {
     if (jj_scan_token(ASYMMETRIC)) return true;
     return false;
   }
 
-  final private boolean jj_3_415() {
+  final private boolean jj_3_417() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_413()) {
+    if (jj_3_415()) {
     jj_scanpos = xsp;
-    if (jj_3_414()) return true;
+    if (jj_3_416()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_413() {
+  final private boolean jj_3_415() {
     if (jj_scan_token(SYMMETRIC)) return true;
     return false;
   }
@@ -29751,36 +29741,36 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_411() {
+  final private boolean jj_3_413() {
     if (jj_scan_token(ASYMMETRIC)) return true;
     return false;
   }
 
-  final private boolean jj_3_931() {
+  final private boolean jj_3_933() {
     if (jj_scan_token(ABSENT)) return true;
     if (jj_scan_token(ON)) return true;
     return false;
   }
 
-  final private boolean jj_3_417() {
+  final private boolean jj_3_419() {
     if (jj_scan_token(BETWEEN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_415()) jj_scanpos = xsp;
+    if (jj_3_417()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_412() {
+  final private boolean jj_3_414() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_410()) {
+    if (jj_3_412()) {
     jj_scanpos = xsp;
-    if (jj_3_411()) return true;
+    if (jj_3_413()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_410() {
+  final private boolean jj_3_412() {
     if (jj_scan_token(SYMMETRIC)) return true;
     return false;
   }
@@ -29788,20 +29778,20 @@ final String p;
   final private boolean jj_3R_325() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_930()) {
+    if (jj_3_932()) {
     jj_scanpos = xsp;
-    if (jj_3_931()) return true;
+    if (jj_3_933()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_930() {
+  final private boolean jj_3_932() {
     if (jj_scan_token(NULL)) return true;
     if (jj_scan_token(ON)) return true;
     return false;
   }
 
-  final private boolean jj_3_416() {
+  final private boolean jj_3_418() {
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(BETWEEN)) return true;
     return false;
@@ -29813,78 +29803,78 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_124() {
+  final private boolean jj_3_126() {
     if (jj_scan_token(COLUMN)) return true;
     return false;
   }
 
-  final private boolean jj_3_929() {
+  final private boolean jj_3_931() {
     if (jj_scan_token(COLON)) return true;
     return false;
   }
 
-  final private boolean jj_3_123() {
+  final private boolean jj_3_125() {
     if (jj_scan_token(COLUMN)) return true;
     return false;
   }
 
-  final private boolean jj_3_926() {
+  final private boolean jj_3_928() {
     if (jj_scan_token(KEY)) return true;
     if (jj_3R_323()) return true;
     return false;
   }
 
-  final private boolean jj_3_440() {
+  final private boolean jj_3_442() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_416()) {
+    if (jj_3_418()) {
     jj_scanpos = xsp;
-    if (jj_3_417()) return true;
+    if (jj_3_419()) return true;
     }
     if (jj_3R_214()) return true;
     return false;
   }
 
-  final private boolean jj_3_128() {
+  final private boolean jj_3_130() {
     if (jj_scan_token(DROP)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_124()) jj_scanpos = xsp;
+    if (jj_3_126()) jj_scanpos = xsp;
     if (jj_3R_134()) return true;
     if (jj_3R_135()) return true;
     return false;
   }
 
-  final private boolean jj_3_928() {
+  final private boolean jj_3_930() {
     if (jj_scan_token(COMMA)) return true;
     return false;
   }
 
-  final private boolean jj_3_927() {
+  final private boolean jj_3_929() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_127() {
+  final private boolean jj_3_129() {
     if (jj_scan_token(ADD)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_123()) jj_scanpos = xsp;
+    if (jj_3_125()) jj_scanpos = xsp;
     if (jj_3R_132()) return true;
     if (jj_3R_133()) return true;
     return false;
   }
 
-  final private boolean jj_3_126() {
-    if (jj_scan_token(NOLOGGING)) return true;
+  final private boolean jj_3R_424() {
     return false;
   }
 
-  final private boolean jj_3R_424() {
+  final private boolean jj_3_128() {
+    if (jj_scan_token(NOLOGGING)) return true;
     return false;
   }
 
-  final private boolean jj_3_125() {
+  final private boolean jj_3_127() {
     if (jj_scan_token(LOGGING)) return true;
     return false;
   }
@@ -29894,12 +29884,12 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_406() {
+  final private boolean jj_3_408() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  final private boolean jj_3_405() {
+  final private boolean jj_3_407() {
     if (jj_scan_token(ANY)) return true;
     return false;
   }
@@ -29910,11 +29900,11 @@ final String p;
     if (jj_3R_414()) jj_scanpos = xsp;
     if (jj_3R_323()) return true;
     xsp = jj_scanpos;
-    if (jj_3_927()) {
+    if (jj_3_929()) {
     jj_scanpos = xsp;
-    if (jj_3_928()) {
+    if (jj_3_930()) {
     jj_scanpos = xsp;
-    if (jj_3_929()) return true;
+    if (jj_3_931()) return true;
     }
     }
     return false;
@@ -29926,25 +29916,11 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_404() {
+  final private boolean jj_3_406() {
     if (jj_scan_token(SOME)) return true;
     return false;
   }
 
-  final private boolean jj_3_409() {
-    if (jj_3R_212()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_404()) {
-    jj_scanpos = xsp;
-    if (jj_3_405()) {
-    jj_scanpos = xsp;
-    if (jj_3_406()) return true;
-    }
-    }
-    return false;
-  }
-
   final private boolean jj_3R_384() {
     Token xsp;
     xsp = jj_scanpos;
@@ -29956,7 +29932,21 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_408() {
+  final private boolean jj_3_411() {
+    if (jj_3R_212()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_406()) {
+    jj_scanpos = xsp;
+    if (jj_3_407()) {
+    jj_scanpos = xsp;
+    if (jj_3_408()) return true;
+    }
+    }
+    return false;
+  }
+
+  final private boolean jj_3_410() {
     if (jj_scan_token(IN)) return true;
     return false;
   }
@@ -29966,13 +29956,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_407() {
+  final private boolean jj_3_409() {
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(IN)) return true;
     return false;
   }
 
-  final private boolean jj_3_122() {
+  final private boolean jj_3_124() {
     if (jj_3R_131()) return true;
     return false;
   }
@@ -29980,45 +29970,41 @@ final String p;
   final private boolean jj_3R_133() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_121()) {
+    if (jj_3_123()) {
     jj_scanpos = xsp;
-    if (jj_3_122()) return true;
+    if (jj_3_124()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_121() {
+  final private boolean jj_3_123() {
     if (jj_3R_130()) return true;
     return false;
   }
 
-  final private boolean jj_3_439() {
+  final private boolean jj_3_441() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_407()) {
+    if (jj_3_409()) {
     jj_scanpos = xsp;
-    if (jj_3_408()) {
+    if (jj_3_410()) {
     jj_scanpos = xsp;
-    if (jj_3_409()) return true;
+    if (jj_3_411()) return true;
     }
     }
     if (jj_3R_174()) return true;
     return false;
   }
 
-  final private boolean jj_3_120() {
+  final private boolean jj_3_122() {
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  final private boolean jj_3_446() {
+  final private boolean jj_3_448() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_439()) {
-    jj_scanpos = xsp;
-    if (jj_3_440()) {
-    jj_scanpos = xsp;
     if (jj_3_441()) {
     jj_scanpos = xsp;
     if (jj_3_442()) {
@@ -30027,7 +30013,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_444()) {
     jj_scanpos = xsp;
-    if (jj_3_445()) return true;
+    if (jj_3_445()) {
+    jj_scanpos = xsp;
+    if (jj_3_446()) {
+    jj_scanpos = xsp;
+    if (jj_3_447()) return true;
     }
     }
     }
@@ -30037,7 +30027,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_925() {
+  final private boolean jj_3_927() {
     if (jj_3R_322()) return true;
     return false;
   }
@@ -30048,17 +30038,17 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_447() {
+  final private boolean jj_3_449() {
     Token xsp;
-    if (jj_3_446()) return true;
+    if (jj_3_448()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_446()) { jj_scanpos = xsp; break; }
+      if (jj_3_448()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  final private boolean jj_3_924() {
+  final private boolean jj_3_926() {
     if (jj_3R_321()) return true;
     if (jj_scan_token(WRAPPER)) return true;
     return false;
@@ -30068,30 +30058,30 @@ final String p;
     if (jj_3R_214()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_447()) {
+    if (jj_3_449()) {
     jj_scanpos = xsp;
     if (jj_3R_419()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_919() {
+  final private boolean jj_3_921() {
     if (jj_scan_token(ARRAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_923() {
+  final private boolean jj_3_925() {
     if (jj_3R_319()) return true;
     return false;
   }
 
-  final private boolean jj_3_119() {
+  final private boolean jj_3_121() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_130()) return true;
     return false;
   }
 
-  final private boolean jj_3_917() {
+  final private boolean jj_3_919() {
     if (jj_scan_token(ARRAY)) return true;
     return false;
   }
@@ -30108,23 +30098,23 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_918() {
+  final private boolean jj_3_920() {
     if (jj_scan_token(UNCONDITIONAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_916() {
+  final private boolean jj_3_918() {
     if (jj_scan_token(ARRAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_922() {
+  final private boolean jj_3_924() {
     if (jj_scan_token(WITH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_918()) jj_scanpos = xsp;
+    if (jj_3_920()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3_919()) jj_scanpos = xsp;
+    if (jj_3_921()) jj_scanpos = xsp;
     return false;
   }
 
@@ -30134,13 +30124,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_921() {
+  final private boolean jj_3_923() {
     if (jj_scan_token(WITH)) return true;
     if (jj_scan_token(CONDITIONAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_403() {
+  final private boolean jj_3_405() {
     if (jj_scan_token(DOT)) return true;
     if (jj_3R_211()) return true;
     return false;
@@ -30149,21 +30139,21 @@ final String p;
   final private boolean jj_3R_321() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_920()) {
+    if (jj_3_922()) {
     jj_scanpos = xsp;
-    if (jj_3_921()) {
+    if (jj_3_923()) {
     jj_scanpos = xsp;
-    if (jj_3_922()) return true;
+    if (jj_3_924()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3_920() {
+  final private boolean jj_3_922() {
     if (jj_scan_token(WITHOUT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_916()) jj_scanpos = xsp;
+    if (jj_3_918()) jj_scanpos = xsp;
     return false;
   }
 
@@ -30174,7 +30164,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_915() {
+  final private boolean jj_3_917() {
     if (jj_scan_token(ERROR)) return true;
     return false;
   }
@@ -30184,7 +30174,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_914() {
+  final private boolean jj_3_916() {
     if (jj_scan_token(EMPTY)) return true;
     return false;
   }
@@ -30198,7 +30188,7 @@ final String p;
     if (jj_3R_213()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_403()) { jj_scanpos = xsp; break; }
+      if (jj_3_405()) { jj_scanpos = xsp; break; }
     }
     if (jj_3R_394()) return true;
     return false;
@@ -30211,19 +30201,19 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_913() {
+  final private boolean jj_3_915() {
     if (jj_scan_token(EMPTY)) return true;
     if (jj_scan_token(OBJECT)) return true;
     return false;
   }
 
-  final private boolean jj_3_402() {
+  final private boolean jj_3_404() {
     if (jj_3R_85()) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  final private boolean jj_3_912() {
+  final private boolean jj_3_914() {
     if (jj_scan_token(EMPTY)) return true;
     if (jj_scan_token(ARRAY)) return true;
     return false;
@@ -30233,7 +30223,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_911() {
+  final private boolean jj_3_913() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
@@ -30241,14 +30231,14 @@ final String p;
   final private boolean jj_3R_134() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_118()) {
+    if (jj_3_120()) {
     jj_scanpos = xsp;
     if (jj_3R_367()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_118() {
+  final private boolean jj_3_120() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
@@ -30259,17 +30249,17 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_910() {
+  final private boolean jj_3_912() {
     if (jj_scan_token(ERROR)) return true;
     return false;
   }
 
-  final private boolean jj_3_401() {
+  final private boolean jj_3_403() {
     if (jj_scan_token(UNSIGNED_INTEGER_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_400() {
+  final private boolean jj_3_402() {
     if (jj_3R_139()) return true;
     return false;
   }
@@ -30277,13 +30267,13 @@ final String p;
   final private boolean jj_3R_322() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_910()) {
+    if (jj_3_912()) {
     jj_scanpos = xsp;
-    if (jj_3_911()) {
+    if (jj_3_913()) {
     jj_scanpos = xsp;
-    if (jj_3_912()) {
+    if (jj_3_914()) {
     jj_scanpos = xsp;
-    if (jj_3_913()) return true;
+    if (jj_3_915()) return true;
     }
     }
     }
@@ -30291,9 +30281,9 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_117() {
-    if (jj_scan_token(INLINE_SIZE)) return true;
-    if (jj_scan_token(UNSIGNED_INTEGER_LITERAL)) return true;
+  final private boolean jj_3_119() {
+    if (jj_scan_token(INCLUDE)) return true;
+    if (jj_3R_125()) return true;
     return false;
   }
 
@@ -30301,9 +30291,9 @@ final String p;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_400()) {
+    if (jj_3_402()) {
     jj_scanpos = xsp;
-    if (jj_3_401()) {
+    if (jj_3_403()) {
     jj_scanpos = xsp;
     if (jj_3R_392()) return true;
     }
@@ -30311,39 +30301,43 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_909() {
+  final private boolean jj_3_911() {
     if (jj_3R_320()) return true;
     return false;
   }
 
-  final private boolean jj_3_116() {
-    if (jj_scan_token(PARALLEL)) return true;
+  final private boolean jj_3_118() {
+    if (jj_scan_token(INLINE_SIZE)) return true;
     if (jj_scan_token(UNSIGNED_INTEGER_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_115() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_116()) {
-    jj_scanpos = xsp;
-    if (jj_3_117()) return true;
-    }
+  final private boolean jj_3_400() {
+    if (jj_3R_209()) return true;
     return false;
   }
 
-  final private boolean jj_3_398() {
-    if (jj_3R_209()) return true;
+  final private boolean jj_3_910() {
+    if (jj_3R_319()) return true;
     return false;
   }
 
-  final private boolean jj_3_908() {
-    if (jj_3R_319()) return true;
+  final private boolean jj_3_117() {
+    if (jj_scan_token(PARALLEL)) return true;
+    if (jj_scan_token(UNSIGNED_INTEGER_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_114() {
-    if (jj_3R_85()) return true;
+  final private boolean jj_3_116() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_117()) {
+    jj_scanpos = xsp;
+    if (jj_3_118()) {
+    jj_scanpos = xsp;
+    if (jj_3_119()) return true;
+    }
+    }
     return false;
   }
 
@@ -30352,18 +30346,18 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_397() {
+  final private boolean jj_3_399() {
     if (jj_scan_token(DOT)) return true;
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_396() {
+  final private boolean jj_3_398() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_397()) {
+    if (jj_3_399()) {
     jj_scanpos = xsp;
-    if (jj_3_398()) return true;
+    if (jj_3_400()) return true;
     }
     return false;
   }
@@ -30374,49 +30368,55 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_395() {
+  final private boolean jj_3_115() {
+    if (jj_3R_85()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_397() {
     if (jj_3R_209()) return true;
     return false;
   }
 
-  final private boolean jj_3R_240() {
-    if (jj_scan_token(INDEX)) return true;
-    if (jj_3R_132()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_114()) jj_scanpos = xsp;
-    if (jj_scan_token(ON)) return true;
+  final private boolean jj_3_114() {
+    if (jj_scan_token(HASH)) return true;
     return false;
   }
 
-  final private boolean jj_3_399() {
+  final private boolean jj_3_401() {
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3R_210()) {
     jj_scanpos = xsp;
-    if (jj_scan_token(775)) return true;
+    if (jj_scan_token(776)) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_394() {
+  final private boolean jj_3_396() {
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_907() {
-    if (jj_scan_token(ERROR)) return true;
+  final private boolean jj_3R_240() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_114()) jj_scanpos = xsp;
+    if (jj_scan_token(INDEX)) return true;
+    if (jj_3R_132()) return true;
+    xsp = jj_scanpos;
+    if (jj_3_115()) jj_scanpos = xsp;
+    if (jj_scan_token(ON)) return true;
     return false;
   }
 
-  final private boolean jj_3_113() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_129()) return true;
+  final private boolean jj_3_909() {
+    if (jj_scan_token(ERROR)) return true;
     return false;
   }
 
-  final private boolean jj_3_906() {
+  final private boolean jj_3_908() {
     if (jj_scan_token(EMPTY)) return true;
     return false;
   }
@@ -30426,7 +30426,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_905() {
+  final private boolean jj_3_907() {
     if (jj_scan_token(DEFAULT_)) return true;
     if (jj_3R_79()) return true;
     return false;
@@ -30439,16 +30439,41 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_904() {
+  final private boolean jj_3_113() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_129()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_906() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  final private boolean jj_3_903() {
+  final private boolean jj_3_905() {
     if (jj_scan_token(ERROR)) return true;
     return false;
   }
 
+  final private boolean jj_3R_320() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_905()) {
+    jj_scanpos = xsp;
+    if (jj_3_906()) {
+    jj_scanpos = xsp;
+    if (jj_3_907()) return true;
+    }
+    }
+    if (jj_scan_token(ON)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_82() {
+    if (jj_3R_215()) return true;
+    return false;
+  }
+
   final private boolean jj_3_111() {
     if (jj_scan_token(DESC)) return true;
     return false;
@@ -30469,16 +30494,8 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3R_320() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_903()) {
-    jj_scanpos = xsp;
-    if (jj_3_904()) {
-    jj_scanpos = xsp;
-    if (jj_3_905()) return true;
-    }
-    }
+  final private boolean jj_3_904() {
+    if (jj_3R_318()) return true;
     if (jj_scan_token(ON)) return true;
     return false;
   }
@@ -30488,14 +30505,14 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3R_82() {
-    if (jj_3R_215()) return true;
+  final private boolean jj_3R_79() {
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  final private boolean jj_3_902() {
-    if (jj_3R_318()) return true;
-    if (jj_scan_token(ON)) return true;
+  final private boolean jj_3R_309() {
+    if (jj_scan_token(JSON_EXISTS)) return true;
+    if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
@@ -30508,66 +30525,50 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3R_79() {
+  final private boolean jj_3_395() {
     if (jj_3R_82()) return true;
     return false;
   }
 
-  final private boolean jj_3R_309() {
-    if (jj_scan_token(JSON_EXISTS)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_109() {
+  final private boolean jj_3R_254() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_107()) {
+    if (jj_3_394()) {
     jj_scanpos = xsp;
-    if (jj_3R_127()) return true;
+    if (jj_3_395()) return true;
     }
-    if (jj_3R_128()) return true;
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_80()) return true;
     return false;
   }
 
-  final private boolean jj_3_108() {
-    if (jj_3R_126()) return true;
+  final private boolean jj_3_394() {
+    if (jj_3R_207()) return true;
     return false;
   }
 
-  final private boolean jj_3_393() {
-    if (jj_3R_82()) return true;
+  final private boolean jj_3_903() {
+    if (jj_scan_token(ERROR)) return true;
     return false;
   }
 
-  final private boolean jj_3R_254() {
+  final private boolean jj_3_109() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_392()) {
+    if (jj_3_107()) {
     jj_scanpos = xsp;
-    if (jj_3_393()) return true;
+    if (jj_3R_127()) return true;
     }
+    if (jj_3R_128()) return true;
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_80()) return true;
     return false;
   }
 
-  final private boolean jj_3_392() {
-    if (jj_3R_207()) return true;
-    return false;
-  }
-
-  final private boolean jj_3_901() {
-    if (jj_scan_token(ERROR)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_900() {
+  final private boolean jj_3_902() {
     if (jj_scan_token(UNKNOWN)) return true;
     return false;
   }
 
-  final private boolean jj_3_899() {
+  final private boolean jj_3_901() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
@@ -30575,32 +30576,30 @@ final String p;
   final private boolean jj_3R_318() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_898()) {
+    if (jj_3_900()) {
     jj_scanpos = xsp;
-    if (jj_3_899()) {
+    if (jj_3_901()) {
     jj_scanpos = xsp;
-    if (jj_3_900()) {
+    if (jj_3_902()) {
     jj_scanpos = xsp;
-    if (jj_3_901()) return true;
+    if (jj_3_903()) return true;
     }
     }
     }
     return false;
   }
 
-  final private boolean jj_3_898() {
-    if (jj_scan_token(TRUE)) return true;
+  final private boolean jj_3_108() {
+    if (jj_3R_126()) return true;
     return false;
   }
 
-  final private boolean jj_3R_239() {
-    if (jj_scan_token(TABLE)) return true;
-    if (jj_3R_132()) return true;
-    if (jj_3R_153()) return true;
+  final private boolean jj_3_900() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_391() {
+  final private boolean jj_3_393() {
     if (jj_3R_125()) return true;
     return false;
   }
@@ -30610,24 +30609,25 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_896() {
+  final private boolean jj_3_898() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_82()) return true;
     return false;
   }
 
-  final private boolean jj_3_389() {
+  final private boolean jj_3_391() {
     if (jj_scan_token(RECURSIVE)) return true;
     return false;
   }
 
-  final private boolean jj_3_106() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_124()) return true;
+  final private boolean jj_3R_239() {
+    if (jj_scan_token(TABLE)) return true;
+    if (jj_3R_132()) return true;
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  final private boolean jj_3_390() {
+  final private boolean jj_3_392() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_208()) return true;
     return false;
@@ -30637,20 +30637,26 @@ final String p;
     if (jj_scan_token(WITH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_389()) jj_scanpos = xsp;
+    if (jj_3_391()) jj_scanpos = xsp;
     if (jj_3R_208()) return true;
     return false;
   }
 
-  final private boolean jj_3R_126() {
-    if (jj_scan_token(LPAREN)) return true;
+  final private boolean jj_3_899() {
+    if (jj_scan_token(PASSING)) return true;
+    if (jj_3R_82()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_106() {
+    if (jj_scan_token(COMMA)) return true;
     if (jj_3R_124()) return true;
     return false;
   }
 
-  final private boolean jj_3_897() {
-    if (jj_scan_token(PASSING)) return true;
-    if (jj_3R_82()) return true;
+  final private boolean jj_3R_126() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_124()) return true;
     return false;
   }
 
@@ -30669,29 +30675,35 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_102() {
-    if (jj_scan_token(PRIMARY)) return true;
-    if (jj_scan_token(KEY)) return true;
-    return false;
-  }
-
   final private boolean jj_3R_68() {
     if (jj_3R_348()) return true;
     return false;
   }
 
-  final private boolean jj_3_895() {
+  final private boolean jj_3_897() {
     if (jj_scan_token(FORMAT)) return true;
     if (jj_3R_317()) return true;
     return false;
   }
 
+  final private boolean jj_3_102() {
+    if (jj_scan_token(PRIMARY)) return true;
+    if (jj_scan_token(KEY)) return true;
+    return false;
+  }
+
   final private boolean jj_3_101() {
     if (jj_scan_token(DEFAULT_)) return true;
     if (jj_3R_120()) return true;
     return false;
   }
 
+  final private boolean jj_3R_319() {
+    if (jj_scan_token(RETURNING)) return true;
+    if (jj_3R_121()) return true;
+    return false;
+  }
+
   final private boolean jj_3R_124() {
     Token xsp;
     xsp = jj_scanpos;
@@ -30708,108 +30720,92 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3R_319() {
-    if (jj_scan_token(RETURNING)) return true;
-    if (jj_3R_121()) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_122() {
-    if (jj_scan_token(INTERVAL)) return true;
-    if (jj_3R_219()) return true;
-    return false;
-  }
-
-  final private boolean jj_3_893() {
+  final private boolean jj_3_895() {
     if (jj_scan_token(UTF32)) return true;
     return false;
   }
 
-  final private boolean jj_3_892() {
+  final private boolean jj_3_894() {
     if (jj_scan_token(UTF16)) return true;
     return false;
   }
 
-  final private boolean jj_3_891() {
+  final private boolean jj_3_893() {
     if (jj_scan_token(UTF8)) return true;
     return false;
   }
 
-  final private boolean jj_3_100() {
-    if (jj_3R_122()) return true;
-    return false;
-  }
-
-  final private boolean jj_3_99() {
-    if (jj_3R_121()) return true;
+  final private boolean jj_3R_122() {
+    if (jj_scan_token(INTERVAL)) return true;
+    if (jj_3R_219()) return true;
     return false;
   }
 
-  final private boolean jj_3_894() {
+  final private boolean jj_3_896() {
     if (jj_scan_token(ENCODING)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_891()) {
+    if (jj_3_893()) {
     jj_scanpos = xsp;
-    if (jj_3_892()) {
+    if (jj_3_894()) {
     jj_scanpos = xsp;
-    if (jj_3_893()) return true;
+    if (jj_3_895()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3R_123() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_99()) {
-    jj_scanpos = xsp;
-    if (jj_3_100()) return true;
-    }
+  final private boolean jj_3R_317() {
+    if (jj_scan_token(JSON)) return true;
     return false;
   }
 
-  final private boolean jj_3R_317() {
-    if (jj_scan_token(JSON)) return true;
+  final private boolean jj_3_100() {
+    if (jj_3R_122()) return true;
     return false;
   }
 
-  final private boolean jj_3_388() {
+  final private boolean jj_3_390() {
     if (jj_3R_68()) return true;
     return false;
   }
 
-  final private boolean jj_3_387() {
+  final private boolean jj_3_389() {
     if (jj_3R_207()) return true;
     return false;
   }
 
-  final private boolean jj_3_386() {
-    if (jj_3R_206()) return true;
+  final private boolean jj_3_99() {
+    if (jj_3R_121()) return true;
     return false;
   }
 
-  final private boolean jj_3_890() {
-    if (jj_3R_316()) return true;
+  final private boolean jj_3_388() {
+    if (jj_3R_206()) return true;
     return false;
   }
 
-  final private boolean jj_3_98() {
-    if (jj_3R_85()) return true;
+  final private boolean jj_3_892() {
+    if (jj_3R_316()) return true;
     return false;
   }
 
-  final private boolean jj_3_889() {
+  final private boolean jj_3_891() {
     if (jj_3R_315()) return true;
     return false;
   }
 
-  final private boolean jj_3_97() {
-    if (jj_3R_120()) return true;
+  final private boolean jj_3R_123() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_99()) {
+    jj_scanpos = xsp;
+    if (jj_3_100()) return true;
+    }
     return false;
   }
 
-  final private boolean jj_3_888() {
+  final private boolean jj_3_890() {
     if (jj_3R_314()) return true;
     return false;
   }
@@ -30817,55 +30813,59 @@ final String p;
   final private boolean jj_3R_69() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_386()) {
+    if (jj_3_388()) {
     jj_scanpos = xsp;
-    if (jj_3_387()) return true;
+    if (jj_3_389()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_887() {
+  final private boolean jj_3_889() {
     if (jj_3R_313()) return true;
     return false;
   }
 
-  final private boolean jj_3_886() {
+  final private boolean jj_3_888() {
     if (jj_3R_312()) return true;
     return false;
   }
 
-  final private boolean jj_3R_119() {
-    if (jj_3R_363()) return true;
-    if (jj_scan_token(EQ)) return true;
+  final private boolean jj_3_887() {
+    if (jj_3R_311()) return true;
     return false;
   }
 
-  final private boolean jj_3_885() {
-    if (jj_3R_311()) return true;
+  final private boolean jj_3_98() {
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_884() {
+  final private boolean jj_3_886() {
     if (jj_3R_310()) return true;
     return false;
   }
 
-  final private boolean jj_3_385() {
+  final private boolean jj_3_97() {
+    if (jj_3R_120()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_387() {
     if (jj_3R_68()) return true;
     return false;
   }
 
-  final private boolean jj_3_883() {
+  final private boolean jj_3_885() {
     if (jj_3R_309()) return true;
     return false;
   }
 
-  final private boolean jj_3_384() {
+  final private boolean jj_3_386() {
     if (jj_3R_206()) return true;
     return false;
   }
 
-  final private boolean jj_3_882() {
+  final private boolean jj_3_884() {
     if (jj_3R_308()) return true;
     return false;
   }
@@ -30873,27 +30873,58 @@ final String p;
   final private boolean jj_3R_351() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_384()) jj_scanpos = xsp;
+    if (jj_3_386()) jj_scanpos = xsp;
     if (jj_3R_254()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_385()) { jj_scanpos = xsp; break; }
+      if (jj_3_387()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  final private boolean jj_3_881() {
+  final private boolean jj_3_883() {
     if (jj_3R_307()) return true;
     return false;
   }
 
+  final private boolean jj_3R_119() {
+    if (jj_3R_363()) return true;
+    if (jj_scan_token(EQ)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_882() {
+    if (jj_3R_306()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_881() {
+    if (jj_3R_305()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_880() {
+    if (jj_3R_304()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_879() {
+    if (jj_3R_303()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_878() {
+    if (jj_3R_302()) return true;
+    return false;
+  }
+
   final private boolean jj_3_96() {
     if (jj_scan_token(WRAP_VALUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_880() {
-    if (jj_3R_306()) return true;
+  final private boolean jj_3_877() {
+    if (jj_3R_301()) return true;
     return false;
   }
 
@@ -30902,8 +30933,8 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_879() {
-    if (jj_3R_305()) return true;
+  final private boolean jj_3_876() {
+    if (jj_3R_300()) return true;
     return false;
   }
 
@@ -30912,8 +30943,8 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_878() {
-    if (jj_3R_304()) return true;
+  final private boolean jj_3_875() {
+    if (jj_3R_299()) return true;
     return false;
   }
 
@@ -30922,8 +30953,8 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_877() {
-    if (jj_3R_303()) return true;
+  final private boolean jj_3_874() {
+    if (jj_3R_298()) return true;
     return false;
   }
 
@@ -30932,8 +30963,8 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_876() {
-    if (jj_3R_302()) return true;
+  final private boolean jj_3_873() {
+    if (jj_3R_297()) return true;
     return false;
   }
 
@@ -30942,8 +30973,8 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_875() {
-    if (jj_3R_301()) return true;
+  final private boolean jj_3_872() {
+    if (jj_3R_296()) return true;
     return false;
   }
 
@@ -30952,18 +30983,14 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_874() {
-    if (jj_3R_300()) return true;
-    return false;
-  }
-
   final private boolean jj_3_89() {
     if (jj_scan_token(CACHE_GROUP)) return true;
     return false;
   }
 
-  final private boolean jj_3_873() {
-    if (jj_3R_299()) return true;
+  final private boolean jj_3_859() {
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_82()) return true;
     return false;
   }
 
@@ -30972,31 +30999,16 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_872() {
-    if (jj_3R_298()) return true;
-    return false;
-  }
-
   final private boolean jj_3_87() {
     if (jj_scan_token(ATOMICITY)) return true;
     return false;
   }
 
-  final private boolean jj_3_871() {
-    if (jj_3R_297()) return true;
-    return false;
-  }
-
   final private boolean jj_3_86() {
     if (jj_scan_token(AFFINITY_KEY)) return true;
     return false;
   }
 
-  final private boolean jj_3_870() {
-    if (jj_3R_296()) return true;
-    return false;
-  }
-
   final private boolean jj_3_85() {
     if (jj_scan_token(BACKUPS)) return true;
     return false;
@@ -31050,9 +31062,16 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_857() {
-    if (jj_scan_token(FROM)) return true;
+  final private boolean jj_3_858() {
+    if (jj_3R_82()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_861() {
     if (jj_3R_82()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_859()) jj_scanpos = xsp;
     return false;
   }
 
@@ -31062,26 +31081,28 @@ final String p;
     return false;
   }
 
+  final private boolean jj_3_857() {
+    if (jj_scan_token(LEADING)) return true;
+    return false;
+  }
+
   final private boolean jj_3_82() {
     if (jj_3R_119()) return true;
     return false;
   }
 
   final private boolean jj_3_856() {
-    if (jj_3R_82()) return true;
+    if (jj_scan_token(TRAILING)) return true;
     return false;
   }
 
-  final private boolean jj_3_859() {
-    if (jj_3R_82()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_857()) jj_scanpos = xsp;
+  final private boolean jj_3_855() {
+    if (jj_scan_token(BOTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_855() {
-    if (jj_scan_token(LEADING)) return true;
+  final private boolean jj_3R_205() {
+    if (jj_3R_85()) return true;
     return false;
   }
 
@@ -31090,11 +31111,6 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_854() {
-    if (jj_scan_token(TRAILING)) return true;
-    return false;
-  }
-
   final private boolean jj_3_83() {
     if (jj_scan_token(WITH)) return true;
     Token xsp;
@@ -31106,235 +31122,312 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_853() {
-    if (jj_scan_token(BOTH)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_205() {
-    if (jj_3R_85()) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_128() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_83()) jj_scanpos = xsp;
-    return false;
-  }
-
-  final private boolean jj_3_858() {
+  final private boolean jj_3_860() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_853()) {
+    if (jj_3_855()) {
     jj_scanpos = xsp;
-    if (jj_3_854()) {
+    if (jj_3_856()) {
     jj_scanpos = xsp;
-    if (jj_3_855()) return true;
+    if (jj_3_857()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3_856()) jj_scanpos = xsp;
+    if (jj_3_858()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  final private boolean jj_3R_366() {
+  final private boolean jj_3_1832() {
+    if (jj_scan_token(SUNDAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1829() {
-    if (jj_scan_token(FRIDAY)) return true;
+  final private boolean jj_3_1831() {
+    if (jj_scan_token(THURSDAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1828() {
-    if (jj_scan_token(TUESDAY)) return true;
+  final private boolean jj_3_1830() {
+    if (jj_scan_token(MONDAY)) return true;
     return false;
   }
 
-  final private boolean jj_3R_132() {
+  final private boolean jj_3R_128() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_79()) {
-    jj_scanpos = xsp;
-    if (jj_3R_366()) return true;
-    }
+    if (jj_3_83()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_1827() {
-    if (jj_scan_token(WITHOUT)) return true;
+  final private boolean jj_3_1829() {
+    if (jj_scan_token(WITHIN)) return true;
     return false;
   }
 
-  final private boolean jj_3_79() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(NOT)) return true;
+  final private boolean jj_3_1828() {
+    if (jj_scan_token(WHENEVER)) return true;
     return false;
   }
 
-  final private boolean jj_3_383() {
+  final private boolean jj_3_385() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_205()) return true;
     return false;
   }
 
-  final private boolean jj_3_1826() {
-    if (jj_scan_token(WIDTH_BUCKET)) return true;
+  final private boolean jj_3_1827() {
+    if (jj_scan_token(VAR_POP)) return true;
     return false;
   }
 
-  final private boolean jj_3_1825() {
-    if (jj_scan_token(VAR_SAMP)) return true;
+  final private boolean jj_3_1826() {
+    if (jj_scan_token(VARIANT)) return true;
     return false;
   }
 
-  final private boolean jj_3_851() {
+  final private boolean jj_3_853() {
     if (jj_scan_token(COMMA)) return true;
     return false;
   }
 
+  final private boolean jj_3_1825() {
+    if (jj_scan_token(VALUE)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1824() {
-    if (jj_scan_token(VARCHAR)) return true;
+    if (jj_scan_token(UPPER)) return true;
     return false;
   }
 
   final private boolean jj_3_1823() {
-    if (jj_scan_token(VALUE_OF)) return true;
+    if (jj_scan_token(UNIQUE)) return true;
     return false;
   }
 
   final private boolean jj_3_1822() {
-    if (jj_scan_token(UPSERT)) return true;
+    if (jj_scan_token(TRUNCATE)) return true;
     return false;
   }
 
   final private boolean jj_3_1821() {
-    if (jj_scan_token(UNKNOWN)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1820() {
-    if (jj_scan_token(TRY_CAST)) return true;
+    if (jj_scan_token(TRIGGER)) return true;
     return false;
   }
 
-  final private boolean jj_3_849() {
+  final private boolean jj_3_851() {
     if (jj_scan_token(COMMA)) return true;
     return false;
   }
 
-  final private boolean jj_3_869() {
+  final private boolean jj_3_871() {
     if (jj_scan_token(TRIM)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
+  final private boolean jj_3R_366() {
+    return false;
+  }
+
+  final private boolean jj_3_1820() {
+    if (jj_scan_token(TRANSLATE_REGEX)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1819() {
-    if (jj_scan_token(TRIM)) return true;
+    if (jj_scan_token(TIMEZONE_MINUTE)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_132() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_79()) {
+    jj_scanpos = xsp;
+    if (jj_3R_366()) return true;
+    }
     return false;
   }
 
   final private boolean jj_3_1818() {
-    if (jj_scan_token(TRANSLATION)) return true;
+    if (jj_scan_token(TIME)) return true;
     return false;
   }
 
-  final private boolean jj_3_1817() {
-    if (jj_scan_token(TINYINT)) return true;
+  final private boolean jj_3_79() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  final private boolean jj_3_850() {
+  final private boolean jj_3_852() {
     if (jj_scan_token(FOR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1816() {
-    if (jj_scan_token(TIMESTAMP)) return true;
+  final private boolean jj_3_1817() {
+    if (jj_scan_token(SYSTEM_TIME)) return true;
     return false;
   }
 
-  final private boolean jj_3_852() {
+  final private boolean jj_3_854() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_850()) {
+    if (jj_3_852()) {
     jj_scanpos = xsp;
-    if (jj_3_851()) return true;
+    if (jj_3_853()) return true;
     }
     if (jj_3R_79()) return true;
     return false;
   }
 
+  final private boolean jj_3_1816() {
+    if (jj_scan_token(SUCCEEDS)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1815() {
-    if (jj_scan_token(SYSTEM_USER)) return true;
+    if (jj_scan_token(SUBSET)) return true;
     return false;
   }
 
   final private boolean jj_3_1814() {
-    if (jj_scan_token(SUM)) return true;
+    if (jj_scan_token(STDDEV_SAMP)) return true;
     return false;
   }
 
   final private boolean jj_3_1813() {
-    if (jj_scan_token(SUBSTRING)) return true;
+    if (jj_scan_token(START)) return true;
     return false;
   }
 
-  final private boolean jj_3_1812() {
-    if (jj_scan_token(STREAM)) return true;
+  final private boolean jj_3_849() {
+    if (jj_scan_token(CEILING)) return true;
     return false;
   }
 
-  final private boolean jj_3_847() {
-    if (jj_scan_token(CEILING)) return true;
+  final private boolean jj_3_1812() {
+    if (jj_scan_token(SQLSTATE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1811() {
-    if (jj_scan_token(STATIC)) return true;
+  final private boolean jj_3_850() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  final private boolean jj_3_848() {
-    if (jj_scan_token(FROM)) return true;
+  final private boolean jj_3_1811() {
+    if (jj_scan_token(SPECIFICTYPE)) return true;
     return false;
   }
 
   final private boolean jj_3_1810() {
-    if (jj_scan_token(SQLWARNING)) return true;
+    if (jj_scan_token(SKIP_)) return true;
     return false;
   }
 
   final private boolean jj_3_1809() {
-    if (jj_scan_token(SQL)) return true;
+    if (jj_scan_token(SESSION_USER)) return true;
     return false;
   }
 
   final private boolean jj_3_1808() {
-    if (jj_scan_token(SMALLINT)) return true;
+    if (jj_scan_token(SECOND)) return true;
     return false;
   }
 
   final private boolean jj_3_1807() {
-    if (jj_scan_token(SHOW)) return true;
+    if (jj_scan_token(SCOPE)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_870() {
+    if (jj_scan_token(SUBSTRING)) return true;
+    if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
   final private boolean jj_3_1806() {
-    if (jj_scan_token(SEEK)) return true;
+    if (jj_scan_token(SAFE_OFFSET)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1805() {
+    if (jj_scan_token(ROW_NUMBER)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1804() {
+    if (jj_scan_token(ROLLBACK)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_848() {
+    if (jj_scan_token(CEIL)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_204() {
+    if (jj_3R_85()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1803() {
+    if (jj_scan_token(RETURN)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1802() {
+    if (jj_scan_token(RELEASE)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_869() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_848()) {
+    jj_scanpos = xsp;
+    if (jj_3_849()) return true;
+    }
+    if (jj_3R_295()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1801() {
+    if (jj_scan_token(REGR_SXX)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1800() {
+    if (jj_scan_token(REGR_INTERCEPT)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1799() {
+    if (jj_scan_token(REGR_AVGX)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1798() {
+    if (jj_scan_token(REF)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1797() {
+    if (jj_scan_token(READS)) return true;
     return false;
   }
 
   final private boolean jj_3_868() {
-    if (jj_scan_token(SUBSTRING)) return true;
-    if (jj_scan_token(LPAREN)) return true;
+    if (jj_scan_token(FLOOR)) return true;
+    if (jj_3R_295()) return true;
     return false;
   }
 
-  final private boolean jj_3_1805() {
-    if (jj_scan_token(SCROLL)) return true;
+  final private boolean jj_3_1796() {
+    if (jj_scan_token(QUALIFY)) return true;
     return false;
   }
 
@@ -31343,13 +31436,19 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1804() {
-    if (jj_scan_token(SAFE_ORDINAL)) return true;
+  final private boolean jj_3_1795() {
+    if (jj_scan_token(PREPARE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1803() {
-    if (jj_scan_token(RUNNING)) return true;
+  final private boolean jj_3_384() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_204()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1794() {
+    if (jj_scan_token(POWER)) return true;
     return false;
   }
 
@@ -31358,23 +31457,24 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_846() {
-    if (jj_scan_token(CEIL)) return true;
+  final private boolean jj_3_847() {
+    if (jj_scan_token(FOR)) return true;
+    if (jj_3R_79()) return true;
     return false;
   }
 
-  final private boolean jj_3R_204() {
-    if (jj_3R_85()) return true;
+  final private boolean jj_3_1793() {
+    if (jj_scan_token(PORTION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1802() {
-    if (jj_scan_token(ROLLUP)) return true;
+  final private boolean jj_3R_196() {
+    if (jj_3R_204()) return true;
     return false;
   }
 
-  final private boolean jj_3_1801() {
-    if (jj_scan_token(RETURNS)) return true;
+  final private boolean jj_3_1792() {
+    if (jj_scan_token(PERCENT_RANK)) return true;
     return false;
   }
 
@@ -31383,24 +31483,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_867() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_846()) {
-    jj_scanpos = xsp;
-    if (jj_3_847()) return true;
-    }
-    if (jj_3R_295()) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1800() {
-    if (jj_scan_token(RESET)) return true;
+  final private boolean jj_3_1791() {
+    if (jj_scan_token(PERCENT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1799() {
-    if (jj_scan_token(REGR_SXY)) return true;
+  final private boolean jj_3_1790() {
+    if (jj_scan_token(PARAMETER)) return true;
     return false;
   }
 
@@ -31409,13 +31498,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1798() {
-    if (jj_scan_token(REGR_R2)) return true;
+  final private boolean jj_3_1789() {
+    if (jj_scan_token(OVER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1797() {
-    if (jj_scan_token(REGR_AVGY)) return true;
+  final private boolean jj_3_1788() {
+    if (jj_scan_token(OPEN)) return true;
     return false;
   }
 
@@ -31424,66 +31513,71 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1796() {
-    if (jj_scan_token(REFERENCES)) return true;
+  final private boolean jj_3_867() {
+    if (jj_scan_token(OVERLAY)) return true;
+    if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_866() {
-    if (jj_scan_token(FLOOR)) return true;
-    if (jj_3R_295()) return true;
+  final private boolean jj_3_1787() {
+    if (jj_scan_token(OMIT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1795() {
-    if (jj_scan_token(REAL)) return true;
+  final private boolean jj_3_844() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_79()) return true;
     return false;
   }
 
-  final private boolean jj_3_73() {
-    if (jj_3R_113()) return true;
+  final private boolean jj_3_1786() {
+    if (jj_scan_token(OCTET_LENGTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1794() {
-    if (jj_scan_token(RANGE)) return true;
+  final private boolean jj_3_73() {
+    if (jj_3R_113()) return true;
     return false;
   }
 
-  final private boolean jj_3_382() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_204()) return true;
+  final private boolean jj_3_1785() {
+    if (jj_scan_token(NULLIF)) return true;
     return false;
   }
 
-  final private boolean jj_3_1793() {
-    if (jj_scan_token(PREV)) return true;
+  final private boolean jj_3_379() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  final private boolean jj_3_72() {
-    if (jj_3R_112()) return true;
+  final private boolean jj_3_846() {
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_844()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_845() {
-    if (jj_scan_token(FOR)) return true;
-    if (jj_3R_79()) return true;
+  final private boolean jj_3_1784() {
+    if (jj_scan_token(NORMALIZE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1792() {
-    if (jj_scan_token(PRECEDES)) return true;
+  final private boolean jj_3_72() {
+    if (jj_3R_112()) return true;
     return false;
   }
 
-  final private boolean jj_3R_196() {
-    if (jj_3R_204()) return true;
+  final private boolean jj_3_1783() {
+    if (jj_scan_token(NEXT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1791() {
-    if (jj_scan_token(POSITION)) return true;
+  final private boolean jj_3_1782() {
+    if (jj_scan_token(NCHAR)) return true;
     return false;
   }
 
@@ -31492,13 +31586,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1790() {
-    if (jj_scan_token(PERIOD)) return true;
+  final private boolean jj_3_1781() {
+    if (jj_scan_token(MONTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1789() {
-    if (jj_scan_token(PERCENTILE_CONT)) return true;
+  final private boolean jj_3_1780() {
+    if (jj_scan_token(MOD)) return true;
     return false;
   }
 
@@ -31507,40 +31601,34 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1788() {
-    if (jj_scan_token(PATTERN)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1787() {
-    if (jj_scan_token(OVERLAPS)) return true;
+  final private boolean jj_3_1779() {
+    if (jj_scan_token(METHOD)) return true;
     return false;
   }
 
-  final private boolean jj_3_69() {
-    if (jj_3R_110()) return true;
+  final private boolean jj_3_845() {
+    if (jj_scan_token(USING)) return true;
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_865() {
-    if (jj_scan_token(OVERLAY)) return true;
-    if (jj_scan_token(LPAREN)) return true;
+  final private boolean jj_3_1778() {
+    if (jj_scan_token(MEASURE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1786() {
-    if (jj_scan_token(ORDINAL)) return true;
+  final private boolean jj_3_69() {
+    if (jj_3R_110()) return true;
     return false;
   }
 
-  final private boolean jj_3_842() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_79()) return true;
+  final private boolean jj_3_1777() {
+    if (jj_scan_token(MATCH_NUMBER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1785() {
-    if (jj_scan_token(ONE)) return true;
+  final private boolean jj_3_1776() {
+    if (jj_scan_token(MATCH)) return true;
     return false;
   }
 
@@ -31549,29 +31637,24 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1784() {
-    if (jj_scan_token(OF)) return true;
+  final private boolean jj_3_1775() {
+    if (jj_scan_token(LN)) return true;
     return false;
   }
 
-  final private boolean jj_3_377() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_203()) return true;
+  final private boolean jj_3_383() {
+    if (jj_scan_token(PERMUTE)) return true;
+    if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_844() {
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_842()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RPAREN)) return true;
+  final private boolean jj_3_840() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1783() {
-    if (jj_scan_token(NUMERIC)) return true;
+  final private boolean jj_3_1774() {
+    if (jj_scan_token(LATERAL)) return true;
     return false;
   }
 
@@ -31580,13 +31663,18 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1782() {
-    if (jj_scan_token(NTH_VALUE)) return true;
+  final private boolean jj_3_1773() {
+    if (jj_scan_token(LANGUAGE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1781() {
-    if (jj_scan_token(NO)) return true;
+  final private boolean jj_3_839() {
+    if (jj_3R_200()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1772() {
+    if (jj_scan_token(JSON_SCOPE)) return true;
     return false;
   }
 
@@ -31595,13 +31683,19 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1780() {
-    if (jj_scan_token(NCLOB)) return true;
+  final private boolean jj_3_1771() {
+    if (jj_scan_token(JSON_OBJECT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1779() {
-    if (jj_scan_token(MULTISET)) return true;
+  final private boolean jj_3_866() {
+    if (jj_scan_token(TRANSLATE)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1770() {
+    if (jj_scan_token(JSON_ARRAY)) return true;
     return false;
   }
 
@@ -31610,19 +31704,19 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1778() {
-    if (jj_scan_token(MODIFIES)) return true;
+  final private boolean jj_3_1769() {
+    if (jj_scan_token(INT)) return true;
     return false;
   }
 
-  final private boolean jj_3_843() {
-    if (jj_scan_token(USING)) return true;
-    if (jj_3R_85()) return true;
+  final private boolean jj_3_382() {
+    if (jj_scan_token(LBRACE)) return true;
+    if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1777() {
-    if (jj_scan_token(MIN)) return true;
+  final private boolean jj_3_1768() {
+    if (jj_scan_token(INITIAL)) return true;
     return false;
   }
 
@@ -31631,13 +31725,30 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1776() {
-    if (jj_scan_token(MEASURES)) return true;
+  final private boolean jj_3_1767() {
+    if (jj_scan_token(IDENTITY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1775() {
-    if (jj_scan_token(MATCH_RECOGNIZE)) return true;
+  final private boolean jj_3_381() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_203()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_841() {
+    if (jj_scan_token(COMMA)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_839()) {
+    jj_scanpos = xsp;
+    if (jj_3_840()) return true;
+    }
+    return false;
+  }
+
+  final private boolean jj_3_1766() {
+    if (jj_scan_token(GROUPS)) return true;
     return false;
   }
 
@@ -31646,24 +31757,34 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1774() {
-    if (jj_scan_token(MATCHES)) return true;
+  final private boolean jj_3R_389() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_380()) {
+    jj_scanpos = xsp;
+    if (jj_3_381()) {
+    jj_scanpos = xsp;
+    if (jj_3_382()) {
+    jj_scanpos = xsp;
+    if (jj_3_383()) return true;
+    }
+    }
+    }
     return false;
   }
 
-  final private boolean jj_3_381() {
-    if (jj_scan_token(PERMUTE)) return true;
-    if (jj_scan_token(LPAREN)) return true;
+  final private boolean jj_3_1765() {
+    if (jj_scan_token(GLOBAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_838() {
-    if (jj_scan_token(NULL)) return true;
+  final private boolean jj_3_380() {
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_1773() {
-    if (jj_scan_token(LOCAL)) return true;
+  final private boolean jj_3_1764() {
+    if (jj_scan_token(FUNCTION)) return true;
     return false;
   }
 
@@ -31672,18 +31793,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1772() {
-    if (jj_scan_token(LEAD)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_837() {
-    if (jj_3R_200()) return true;
+  final private boolean jj_3_1763() {
+    if (jj_scan_token(FOREIGN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1771() {
-    if (jj_scan_token(LARGE)) return true;
+  final private boolean jj_3_1762() {
+    if (jj_scan_token(FIRST_VALUE)) return true;
     return false;
   }
 
@@ -31692,19 +31808,19 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1770() {
-    if (jj_scan_token(JSON_VALUE)) return true;
+  final private boolean jj_3_838() {
+    if (jj_scan_token(INTERVAL)) return true;
+    if (jj_3R_219()) return true;
     return false;
   }
 
-  final private boolean jj_3_864() {
-    if (jj_scan_token(TRANSLATE)) return true;
-    if (jj_scan_token(LPAREN)) return true;
+  final private boolean jj_3_1761() {
+    if (jj_scan_token(EXTERNAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1769() {
-    if (jj_scan_token(JSON_OBJECTAGG)) return true;
+  final private boolean jj_3_1760() {
+    if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
@@ -31713,19 +31829,18 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1768() {
-    if (jj_scan_token(JSON_ARRAYAGG)) return true;
+  final private boolean jj_3_837() {
+    if (jj_3R_121()) return true;
     return false;
   }
 
-  final private boolean jj_3_380() {
-    if (jj_scan_token(LBRACE)) return true;
-    if (jj_scan_token(MINUS)) return true;
+  final private boolean jj_3_1759() {
+    if (jj_scan_token(ESCAPE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1767() {
-    if (jj_scan_token(INTEGER)) return true;
+  final private boolean jj_3_1758() {
+    if (jj_scan_token(END_FRAME)) return true;
     return false;
   }
 
@@ -31734,66 +31849,48 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1766() {
-    if (jj_scan_token(INOUT)) return true;
+  final private boolean jj_3_1757() {
+    if (jj_scan_token(EMPTY)) return true;
     return false;
   }
 
-  final private boolean jj_3_379() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_203()) return true;
+  final private boolean jj_3_1756() {
+    if (jj_scan_token(DYNAMIC)) return true;
     return false;
   }
 
-  final private boolean jj_3_839() {
-    if (jj_scan_token(COMMA)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_837()) {
-    jj_scanpos = xsp;
-    if (jj_3_838()) return true;
-    }
+  final private boolean jj_3_58() {
+    if (jj_3R_99()) return true;
     return false;
   }
 
-  final private boolean jj_3_1765() {
-    if (jj_scan_token(IMPORT)) return true;
+  final private boolean jj_3_834() {
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_58() {
-    if (jj_3R_99()) return true;
+  final private boolean jj_3_1755() {
+    if (jj_scan_token(DISALLOW)) return true;
     return false;
   }
 
-  final private boolean jj_3R_389() {
+  final private boolean jj_3_843() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_378()) {
-    jj_scanpos = xsp;
-    if (jj_3_379()) {
-    jj_scanpos = xsp;
-    if (jj_3_380()) {
+    if (jj_3_837()) {
     jj_scanpos = xsp;
-    if (jj_3_381()) return true;
-    }
-    }
+    if (jj_3_838()) return true;
     }
+    if (jj_scan_token(COMMA)) return true;
     return false;
   }
 
-  final private boolean jj_3_1764() {
-    if (jj_scan_token(HOLD)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_378() {
-    if (jj_3R_85()) return true;
+  final private boolean jj_3R_391() {
     return false;
   }
 
-  final private boolean jj_3_1763() {
-    if (jj_scan_token(GRANT)) return true;
+  final private boolean jj_3_1754() {
+    if (jj_scan_token(DEREF)) return true;
     return false;
   }
 
@@ -31802,13 +31899,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1762() {
-    if (jj_scan_token(FUSION)) return true;
+  final private boolean jj_3_1753() {
+    if (jj_scan_token(DECLARE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1761() {
-    if (jj_scan_token(FRAME_ROW)) return true;
+  final private boolean jj_3_1752() {
+    if (jj_scan_token(DEALLOCATE)) return true;
     return false;
   }
 
@@ -31817,39 +31914,39 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_836() {
-    if (jj_scan_token(INTERVAL)) return true;
-    if (jj_3R_219()) return true;
+  final private boolean jj_3_1751() {
+    if (jj_scan_token(DATE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1760() {
-    if (jj_scan_token(FLOAT)) return true;
+  final private boolean jj_3_1750() {
+    if (jj_scan_token(CURRENT_TRANSFORM_GROUP_FOR_TYPE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1759() {
-    if (jj_scan_token(EXTRACT)) return true;
+  final private boolean jj_3_55() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  final private boolean jj_3_55() {
-    if (jj_3R_96()) return true;
+  final private boolean jj_3_833() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_835() {
-    if (jj_3R_121()) return true;
+  final private boolean jj_3_1749() {
+    if (jj_scan_token(CURRENT_PATH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1758() {
-    if (jj_scan_token(EXP)) return true;
+  final private boolean jj_3_378() {
+    if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
-  final private boolean jj_3_1757() {
-    if (jj_scan_token(EVERY)) return true;
+  final private boolean jj_3_1748() {
+    if (jj_scan_token(CURRENT)) return true;
     return false;
   }
 
@@ -31858,13 +31955,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1756() {
-    if (jj_scan_token(END_PARTITION)) return true;
+  final private boolean jj_3_1747() {
+    if (jj_scan_token(COVAR_SAMP)) return true;
     return false;
   }
 
-  final private boolean jj_3_1755() {
-    if (jj_scan_token(END)) return true;
+  final private boolean jj_3_1746() {
+    if (jj_scan_token(CORRESPONDING)) return true;
     return false;
   }
 
@@ -31873,64 +31970,58 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_832() {
-    if (jj_scan_token(RPAREN)) return true;
+  final private boolean jj_3_1745() {
+    if (jj_scan_token(CONTAINS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1754() {
-    if (jj_scan_token(EACH)) return true;
+  final private boolean jj_3_1744() {
+    if (jj_scan_token(COMMIT)) return true;
     return false;
   }
 
-  final private boolean jj_3_841() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_835()) {
-    jj_scanpos = xsp;
-    if (jj_3_836()) return true;
-    }
-    if (jj_scan_token(COMMA)) return true;
+  final private boolean jj_3_52() {
+    if (jj_3R_93()) return true;
     return false;
   }
 
-  final private boolean jj_3R_391() {
+  final private boolean jj_3_373() {
+    if (jj_scan_token(MINUS)) return true;
+    if (jj_3R_203()) return true;
     return false;
   }
 
-  final private boolean jj_3_1753() {
-    if (jj_scan_token(DISCONNECT)) return true;
+  final private boolean jj_3_836() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_52() {
-    if (jj_3R_93()) return true;
+  final private boolean jj_3_1743() {
+    if (jj_scan_token(COALESCE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1752() {
-    if (jj_scan_token(DESCRIBE)) return true;
+  final private boolean jj_3_1742() {
+    if (jj_scan_token(CLASSIFIER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1751() {
-    if (jj_scan_token(DEFINE)) return true;
+  final private boolean jj_3_1741() {
+    if (jj_scan_token(CHARACTER_LENGTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1750() {
-    if (jj_scan_token(DEC)) return true;
+  final private boolean jj_3R_202() {
     return false;
   }
 
-  final private boolean jj_3_1749() {
-    if (jj_scan_token(DATETIME)) return true;
+  final private boolean jj_3R_201() {
     return false;
   }
 
-  final private boolean jj_3_831() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_85()) return true;
+  final private boolean jj_3_1740() {
+    if (jj_scan_token(CEILING)) return true;
     return false;
   }
 
@@ -32019,461 +32110,386 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1748() {
-    if (jj_scan_token(CURSOR)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_376() {
-    if (jj_scan_token(HOOK)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1747() {
-    if (jj_scan_token(CURRENT_ROLE)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1746() {
-    if (jj_scan_token(CURRENT_CATALOG)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1745() {
-    if (jj_scan_token(CUBE)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1744() {
-    if (jj_scan_token(COUNT)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1743() {
-    if (jj_scan_token(CONVERT)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_371() {
-    if (jj_scan_token(MINUS)) return true;
-    if (jj_3R_203()) return true;
+  final private boolean jj_3_1739() {
+    if (jj_scan_token(CARDINALITY)) return true;
     return false;
   }
 
-  final private boolean jj_3_834() {
+  final private boolean jj_3_372() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_85()) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1742() {
-    if (jj_scan_token(CONDITION)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1741() {
-    if (jj_scan_token(COLLATE)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1740() {
-    if (jj_scan_token(CLOB)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_50() {
-    if (jj_3R_92()) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_202() {
-    return false;
-  }
-
-  final private boolean jj_3R_201() {
+    if (jj_3R_200()) return true;
     return false;
   }
 
-  final private boolean jj_3_1739() {
-    if (jj_scan_token(CHAR_LENGTH)) return true;
+  final private boolean jj_3_835() {
+    if (jj_scan_token(USING)) return true;
+    if (jj_3R_85()) return true;
     return false;
   }
 
   final private boolean jj_3_1738() {
-    if (jj_scan_token(CHAR)) return true;
+    if (jj_scan_token(BOOLEAN)) return true;
     return false;
   }
 
-  final private boolean jj_3_370() {
-    if (jj_scan_token(COMMA)) return true;
+  final private boolean jj_3_369() {
     if (jj_3R_200()) return true;
     return false;
   }
 
-  final private boolean jj_3_833() {
-    if (jj_scan_token(USING)) return true;
-    if (jj_3R_85()) return true;
-    return false;
-  }
-
   final private boolean jj_3_1737() {
-    if (jj_scan_token(CASCADED)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_367() {
-    if (jj_3R_200()) return true;
+    if (jj_scan_token(BINARY)) return true;
     return false;
   }
 
   final private boolean jj_3_1736() {
-    if (jj_scan_token(CALL)) return true;
+    if (jj_scan_token(BEGIN_FRAME)) return true;
     return false;
   }
 
   final private boolean jj_3_1735() {
-    if (jj_scan_token(BIT)) return true;
+    if (jj_scan_token(AUTHORIZATION)) return true;
     return false;
   }
 
   final private boolean jj_3_1734() {
-    if (jj_scan_token(BEGIN_PARTITION)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_49() {
-    if (jj_scan_token(SEMICOLON)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_50()) jj_scanpos = xsp;
+    if (jj_scan_token(ASOF)) return true;
     return false;
   }
 
   final private boolean jj_3_1733() {
-    if (jj_scan_token(AVG)) return true;
+    if (jj_scan_token(ARE)) return true;
     return false;
   }
 
   final private boolean jj_3_1732() {
-    if (jj_scan_token(AT)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1731() {
-    if (jj_scan_token(ARRAY_MAX_CARDINALITY)) return true;
+    if (jj_scan_token(ABS)) return true;
     return false;
   }
 
-  final private boolean jj_3_368() {
+  final private boolean jj_3_370() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_367()) {
+    if (jj_3_369()) {
     jj_scanpos = xsp;
     if (jj_3R_201()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_840() {
+  final private boolean jj_3_842() {
     if (jj_3R_79()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_833()) {
+    if (jj_3_835()) {
     jj_scanpos = xsp;
-    if (jj_3_834()) return true;
+    if (jj_3_836()) return true;
     }
     return false;
   }
 
+  final private boolean jj_3_1731() {
+    if (jj_scan_token(ANALYZE)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_50() {
+    if (jj_3R_92()) return true;
+    return false;
+  }
+
   final private boolean jj_3_1730() {
-    if (jj_scan_token(ALLOCATE)) return true;
+    if (jj_scan_token(QUERY)) return true;
     return false;
   }
 
   final private boolean jj_3_1729() {
-    if (jj_scan_token(MAX_CHANGED_PARTITION_ROWS_PERCENT)) return true;
+    if (jj_scan_token(SERVICE)) return true;
     return false;
   }
 
   final private boolean jj_3_1728() {
-    if (jj_scan_token(STATISTICS)) return true;
+    if (jj_scan_token(KILL)) return true;
     return false;
   }
 
   final private boolean jj_3_1727() {
-    if (jj_scan_token(COMPUTE)) return true;
+    if (jj_scan_token(LOGGING)) return true;
     return false;
   }
 
   final private boolean jj_3_1726() {
-    if (jj_scan_token(SCAN)) return true;
+    if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  final private boolean jj_3_51() {
-    if (jj_3R_92()) return true;
+  final private boolean jj_3_371() {
+    if (jj_3R_200()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_49()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3_370()) {
+    jj_scanpos = xsp;
+    if (jj_3R_202()) return true;
     }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
   final private boolean jj_3_1725() {
-    if (jj_scan_token(NOLOGGING)) return true;
+    if (jj_scan_token(WRAP_KEY)) return true;
     return false;
   }
 
-  final private boolean jj_3_369() {
-    if (jj_3R_200()) return true;
+  final private boolean jj_3_49() {
+    if (jj_scan_token(SEMICOLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_368()) {
-    jj_scanpos = xsp;
-    if (jj_3R_202()) return true;
-    }
-    if (jj_scan_token(RBRACE)) return true;
+    if (jj_3_50()) jj_scanpos = xsp;
     return false;
   }
 
   final private boolean jj_3_1724() {
-    if (jj_scan_token(PARALLEL)) return true;
+    if (jj_scan_token(CACHE_NAME)) return true;
     return false;
   }
 
   final private boolean jj_3_1723() {
-    if (jj_scan_token(WRAP_KEY)) return true;
+    if (jj_scan_token(ATOMICITY)) return true;
     return false;
   }
 
   final private boolean jj_3_1722() {
-    if (jj_scan_token(CACHE_NAME)) return true;
+    if (jj_scan_token(TEMPLATE)) return true;
     return false;
   }
 
   final private boolean jj_3_1721() {
-    if (jj_scan_token(ATOMICITY)) return true;
+    if (jj_scan_token(XML)) return true;
     return false;
   }
 
   final private boolean jj_3_1720() {
-    if (jj_scan_token(TEMPLATE)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1719() {
-    if (jj_scan_token(XML)) return true;
+    if (jj_scan_token(WORK)) return true;
     return false;
   }
 
-  final private boolean jj_3_375() {
+  final private boolean jj_3_377() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_369()) {
+    if (jj_3_371()) {
     jj_scanpos = xsp;
-    if (jj_3_370()) {
+    if (jj_3_372()) {
     jj_scanpos = xsp;
-    if (jj_3_371()) return true;
+    if (jj_3_373()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3_863() {
+  final private boolean jj_3_865() {
     if (jj_scan_token(CONVERT)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
+  final private boolean jj_3_1719() {
+    if (jj_scan_token(VIEW)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1718() {
-    if (jj_scan_token(WORK)) return true;
+    if (jj_scan_token(UTF32)) return true;
     return false;
   }
 
   final private boolean jj_3_1717() {
-    if (jj_scan_token(VIEW)) return true;
+    if (jj_scan_token(USER_DEFINED_TYPE_NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3_1716() {
-    if (jj_scan_token(UTF32)) return true;
+  final private boolean jj_3_51() {
+    if (jj_3R_92()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_49()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  final private boolean jj_3_830() {
+  final private boolean jj_3_832() {
     if (jj_scan_token(FROM)) return true;
     if (jj_3R_79()) return true;
     return false;
   }
 
-  final private boolean jj_3R_91() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_scan_token(RPAREN)) return true;
+  final private boolean jj_3_1716() {
+    if (jj_scan_token(USAGE)) return true;
     return false;
   }
 
   final private boolean jj_3_1715() {
-    if (jj_scan_token(USER_DEFINED_TYPE_NAME)) return true;
+    if (jj_scan_token(UNDER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1714() {
-    if (jj_scan_token(USAGE)) return true;
+  final private boolean jj_3_376() {
+    if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
-  final private boolean jj_3_374() {
-    if (jj_scan_token(HOOK)) return true;
+  final private boolean jj_3_1714() {
+    if (jj_scan_token(UNBOUNDED)) return true;
     return false;
   }
 
   final private boolean jj_3_1713() {
-    if (jj_scan_token(UNDER)) return true;
+    if (jj_scan_token(TRIGGER_SCHEMA)) return true;
     return false;
   }
 
   final private boolean jj_3_1712() {
-    if (jj_scan_token(UNBOUNDED)) return true;
+    if (jj_scan_token(TRANSFORMS)) return true;
     return false;
   }
 
   final private boolean jj_3_1711() {
-    if (jj_scan_token(TRIGGER_SCHEMA)) return true;
+    if (jj_scan_token(TRANSACTIONS_COMMITTED)) return true;
     return false;
   }
 
   final private boolean jj_3_1710() {
-    if (jj_scan_token(TRANSFORMS)) return true;
+    if (jj_scan_token(TOP_LEVEL_COUNT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1709() {
-    if (jj_scan_token(TRANSACTIONS_COMMITTED)) return true;
+  final private boolean jj_3_375() {
+    if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  final private boolean jj_3_373() {
-    if (jj_scan_token(PLUS)) return true;
+  final private boolean jj_3_1709() {
+    if (jj_scan_token(TIMESTAMPDIFF)) return true;
     return false;
   }
 
   final private boolean jj_3_1708() {
-    if (jj_scan_token(TOP_LEVEL_COUNT)) return true;
+    if (jj_scan_token(TIME_DIFF)) return true;
     return false;
   }
 
   final private boolean jj_3_1707() {
-    if (jj_scan_token(TIMESTAMPDIFF)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1706() {
-    if (jj_scan_token(TIME_DIFF)) return true;
+    if (jj_scan_token(TABLE_NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3_862() {
+  final private boolean jj_3_864() {
     if (jj_scan_token(POSITION)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1705() {
-    if (jj_scan_token(TABLE_NAME)) return true;
+  final private boolean jj_3R_91() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1704() {
+  final private boolean jj_3_1706() {
     if (jj_scan_token(STYLE)) return true;
     return false;
   }
 
-  final private boolean jj_3_372() {
-    if (jj_scan_token(STAR)) return true;
+  final private boolean jj_3_1705() {
+    if (jj_scan_token(STATEMENT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1703() {
-    if (jj_scan_token(STATEMENT)) return true;
+  final private boolean jj_3_374() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1702() {
+  final private boolean jj_3_1704() {
     if (jj_scan_token(SQL_VARBINARY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1701() {
+  final private boolean jj_3_1703() {
     if (jj_scan_token(SQL_TSI_SECOND)) return true;
     return false;
   }
 
-  final private boolean jj_3_1700() {
+  final private boolean jj_3_1702() {
     if (jj_scan_token(SQL_TSI_MINUTE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1699() {
+  final private boolean jj_3_1701() {
     if (jj_scan_token(SQL_TSI_FRAC_SECOND)) return true;
     return false;
   }
 
+  final private boolean jj_3_1700() {
+    if (jj_scan_token(SQL_TIMESTAMP)) return true;
+    return false;
+  }
+
   final private boolean jj_3R_390() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_372()) {
+    if (jj_3_374()) {
     jj_scanpos = xsp;
-    if (jj_3_373()) {
+    if (jj_3_375()) {
     jj_scanpos = xsp;
-    if (jj_3_374()) {
+    if (jj_3_376()) {
     jj_scanpos = xsp;
-    if (jj_3_375()) return true;
+    if (jj_3_377()) return true;
     }
     }
     }
     return false;
   }
 
-  final private boolean jj_3_1698() {
-    if (jj_scan_token(SQL_TIMESTAMP)) return true;
+  final private boolean jj_3_1699() {
+    if (jj_scan_token(SQL_REAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1697() {
-    if (jj_scan_token(SQL_REAL)) return true;
+  final private boolean jj_3_1698() {
+    if (jj_scan_token(SQL_NCLOB)) return true;
     return false;
   }
 
-  final private boolean jj_3_1696() {
-    if (jj_scan_token(SQL_NCLOB)) return true;
+  final private boolean jj_3_1697() {
+    if (jj_scan_token(SQL_LONGVARCHAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_861() {
+  final private boolean jj_3_863() {
     if (jj_scan_token(EXTRACT)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1695() {
-    if (jj_scan_token(SQL_LONGVARCHAR)) return true;
+  final private boolean jj_3_1696() {
+    if (jj_scan_token(SQL_INTERVAL_YEAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1694() {
-    if (jj_scan_token(SQL_INTERVAL_YEAR)) return true;
+  final private boolean jj_3_1695() {
+    if (jj_scan_token(SQL_INTERVAL_MINUTE_TO_SECOND)) return true;
     return false;
   }
 
-  final private boolean jj_3_1693() {
-    if (jj_scan_token(SQL_INTERVAL_MINUTE_TO_SECOND)) return true;
+  final private boolean jj_3_1694() {
+    if (jj_scan_token(SQL_INTERVAL_HOUR_TO_MINUTE)) return true;
     return false;
   }
 
-  final private boolean jj_3_829() {
+  final private boolean jj_3_831() {
     if (jj_scan_token(FORMAT)) return true;
     if (jj_3R_139()) return true;
     return false;
@@ -32490,200 +32506,176 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1692() {
-    if (jj_scan_token(SQL_INTERVAL_HOUR_TO_MINUTE)) return true;
+  final private boolean jj_3_1693() {
+    if (jj_scan_token(SQL_INTERVAL_DAY_TO_MINUTE)) return true;
     return false;
   }
 
-  final private boolean jj_3_828() {
+  final private boolean jj_3_830() {
     if (jj_scan_token(INTERVAL)) return true;
     if (jj_3R_219()) return true;
     return false;
   }
 
-  final private boolean jj_3R_81() {
-    if (jj_scan_token(DEFAULT_)) return true;
+  final private boolean jj_3_1692() {
+    if (jj_scan_token(SQL_INTEGER)) return true;
     return false;
   }
 
   final private boolean jj_3_1691() {
-    if (jj_scan_token(SQL_INTERVAL_DAY_TO_MINUTE)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1690() {
-    if (jj_scan_token(SQL_INTEGER)) return true;
+    if (jj_scan_token(SQL_DECIMAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_827() {
+  final private boolean jj_3_829() {
     if (jj_3R_121()) return true;
     return false;
   }
 
-  final private boolean jj_3_1689() {
-    if (jj_scan_token(SQL_DECIMAL)) return true;
+  final private boolean jj_3_1690() {
+    if (jj_scan_token(SQL_CHAR)) return true;
     return false;
   }
 
-  final private boolean jj_3R_90() {
-    if (jj_3R_135()) return true;
+  final private boolean jj_3_1689() {
+    if (jj_scan_token(SQL_BIT)) return true;
     return false;
   }
 
   final private boolean jj_3_1688() {
-    if (jj_scan_token(SQL_CHAR)) return true;
+    if (jj_scan_token(SPECIFIC_NAME)) return true;
     return false;
   }
 
   final private boolean jj_3_1687() {
-    if (jj_scan_token(SQL_BIT)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_46() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_90()) {
-    jj_scanpos = xsp;
-    if (jj_3R_91()) return true;
-    }
-    if (jj_scan_token(LAMBDA)) return true;
+    if (jj_scan_token(SIZE)) return true;
     return false;
   }
 
   final private boolean jj_3_1686() {
-    if (jj_scan_token(SPECIFIC_NAME)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_87() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_scan_token(RPAREN)) return true;
+    if (jj_scan_token(SESSION)) return true;
     return false;
   }
 
   final private boolean jj_3_1685() {
-    if (jj_scan_token(SIZE)) return true;
+    if (jj_scan_token(SERIALIZABLE)) return true;
     return false;
   }
 
   final private boolean jj_3_1684() {
-    if (jj_scan_token(SESSION)) return true;
+    if (jj_scan_token(SELF)) return true;
     return false;
   }
 
   final private boolean jj_3_1683() {
-    if (jj_scan_token(SERIALIZABLE)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1682() {
-    if (jj_scan_token(SELF)) return true;
+    if (jj_scan_token(SECONDS)) return true;
     return false;
   }
 
-  final private boolean jj_3_48() {
-    if (jj_3R_88()) return true;
+  final private boolean jj_3_828() {
+    if (jj_scan_token(TRY_CAST)) return true;
     return false;
   }
 
-  final private boolean jj_3_826() {
-    if (jj_scan_token(TRY_CAST)) return true;
+  final private boolean jj_3R_81() {
+    if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  final private boolean jj_3_1681() {
-    if (jj_scan_token(SECONDS)) return true;
+  final private boolean jj_3_1682() {
+    if (jj_scan_token(SCOPE_CATALOGS)) return true;
     return false;
   }
 
-  final private boolean jj_3_824() {
+  final private boolean jj_3_826() {
     if (jj_scan_token(CAST)) return true;
     return false;
   }
 
-  final private boolean jj_3_825() {
+  final private boolean jj_3_827() {
     if (jj_scan_token(SAFE_CAST)) return true;
     return false;
   }
 
-  final private boolean jj_3_1680() {
-    if (jj_scan_token(SCOPE_CATALOGS)) return true;
+  final private boolean jj_3_1681() {
+    if (jj_scan_token(SCALE)) return true;
     return false;
   }
 
-  final private boolean jj_3_47() {
-    if (jj_3R_82()) return true;
+  final private boolean jj_3_1680() {
+    if (jj_scan_token(ROUTINE_SCHEMA)) return true;
     return false;
   }
 
-  final private boolean jj_3_1679() {
-    if (jj_scan_token(SCALE)) return true;
+  final private boolean jj_3R_90() {
+    if (jj_3R_135()) return true;
     return false;
   }
 
-  final private boolean jj_3_1678() {
-    if (jj_scan_token(ROUTINE_SCHEMA)) return true;
+  final private boolean jj_3_1679() {
+    if (jj_scan_token(ROUTINE)) return true;
     return false;
   }
 
-  final private boolean jj_3_860() {
+  final private boolean jj_3_862() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_824()) {
+    if (jj_3_826()) {
     jj_scanpos = xsp;
-    if (jj_3_825()) {
+    if (jj_3_827()) {
     jj_scanpos = xsp;
-    if (jj_3_826()) return true;
+    if (jj_3_828()) return true;
     }
     }
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3R_354() {
-    if (jj_3R_420()) return true;
+  final private boolean jj_3_1678() {
+    if (jj_scan_token(RETURNING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1677() {
-    if (jj_scan_token(ROUTINE)) return true;
+  final private boolean jj_3_46() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_90()) {
+    jj_scanpos = xsp;
+    if (jj_3R_91()) return true;
+    }
+    if (jj_scan_token(LAMBDA)) return true;
     return false;
   }
 
-  final private boolean jj_3_366() {
+  final private boolean jj_3_368() {
     if (jj_3R_199()) return true;
     return false;
   }
 
-  final private boolean jj_3_1676() {
-    if (jj_scan_token(RETURNING)) return true;
+  final private boolean jj_3_1677() {
+    if (jj_scan_token(RETURNED_LENGTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1675() {
-    if (jj_scan_token(RETURNED_LENGTH)) return true;
+  final private boolean jj_3R_87() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_45() {
-    if (jj_3R_81()) return true;
+  final private boolean jj_3_1676() {
+    if (jj_scan_token(RESTART)) return true;
     return false;
   }
 
-  final private boolean jj_3_1674() {
-    if (jj_scan_token(RESTART)) return true;
+  final private boolean jj_3_1675() {
+    if (jj_scan_token(REPEATABLE)) return true;
     return false;
   }
 
   final private boolean jj_3R_227() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_860()) {
-    jj_scanpos = xsp;
-    if (jj_3_861()) {
-    jj_scanpos = xsp;
     if (jj_3_862()) {
     jj_scanpos = xsp;
     if (jj_3_863()) {
@@ -32740,7 +32732,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_889()) {
     jj_scanpos = xsp;
-    if (jj_3_890()) return true;
+    if (jj_3_890()) {
+    jj_scanpos = xsp;
+    if (jj_3_891()) {
+    jj_scanpos = xsp;
+    if (jj_3_892()) return true;
     }
     }
     }
@@ -32774,17 +32770,18 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1673() {
-    if (jj_scan_token(REPEATABLE)) return true;
+  final private boolean jj_3_1674() {
+    if (jj_scan_token(QUARTERS)) return true;
     return false;
   }
 
-  final private boolean jj_3R_353() {
+  final private boolean jj_3_1673() {
+    if (jj_scan_token(PRIVILEGES)) return true;
     return false;
   }
 
-  final private boolean jj_3_1672() {
-    if (jj_scan_token(QUARTERS)) return true;
+  final private boolean jj_3_48() {
+    if (jj_3R_88()) return true;
     return false;
   }
 
@@ -32793,34 +32790,109 @@ final String p;
     return false;
   }
 
+  final private boolean jj_3_1672() {
+    if (jj_scan_token(PRECEDING)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1671() {
-    if (jj_scan_token(PRIVILEGES)) return true;
+    if (jj_scan_token(PLACING)) return true;
     return false;
   }
 
-  final private boolean jj_3_44() {
-    if (jj_3R_85()) return true;
-    if (jj_scan_token(NAMED_ARGUMENT_ASSIGNMENT)) return true;
+  final private boolean jj_3_47() {
+    if (jj_3R_82()) return true;
     return false;
   }
 
   final private boolean jj_3_1670() {
-    if (jj_scan_token(PRECEDING)) return true;
+    if (jj_scan_token(PAST)) return true;
     return false;
   }
 
   final private boolean jj_3_1669() {
-    if (jj_scan_token(PLACING)) return true;
+    if (jj_scan_token(PASCAL)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_354() {
+    if (jj_3R_420()) return true;
     return false;
   }
 
   final private boolean jj_3_1668() {
-    if (jj_scan_token(PAST)) return true;
+    if (jj_scan_token(PARAMETER_SPECIFIC_NAME)) return true;
     return false;
   }
 
   final private boolean jj_3_1667() {
-    if (jj_scan_token(PASCAL)) return true;
+    if (jj_scan_token(PARAMETER_NAME)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1666() {
+    if (jj_scan_token(OVERRIDING)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_45() {
+    if (jj_3R_81()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1665() {
+    if (jj_scan_token(ORDINALITY)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1664() {
+    if (jj_scan_token(OPTION)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_353() {
+    return false;
+  }
+
+  final private boolean jj_3_1663() {
+    if (jj_scan_token(NUMBER)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1662() {
+    if (jj_scan_token(NORMALIZED)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_44() {
+    if (jj_3R_85()) return true;
+    if (jj_scan_token(NAMED_ARGUMENT_ASSIGNMENT)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1661() {
+    if (jj_scan_token(NAMES)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1660() {
+    if (jj_scan_token(MORE_)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1659() {
+    if (jj_scan_token(MINUTES)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_367() {
+    if (jj_scan_token(VERTICAL_BAR)) return true;
+    if (jj_3R_198()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1658() {
+    if (jj_scan_token(MICROSECOND)) return true;
     return false;
   }
 
@@ -32845,64 +32917,63 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1666() {
-    if (jj_scan_token(PARAMETER_SPECIFIC_NAME)) return true;
+  final private boolean jj_3_1657() {
+    if (jj_scan_token(MESSAGE_LENGTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1665() {
-    if (jj_scan_token(PARAMETER_NAME)) return true;
+  final private boolean jj_3_1656() {
+    if (jj_scan_token(MAP)) return true;
     return false;
   }
 
-  final private boolean jj_3_1664() {
-    if (jj_scan_token(OVERRIDING)) return true;
+  final private boolean jj_3_1655() {
+    if (jj_scan_token(LIBRARY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1663() {
-    if (jj_scan_token(ORDINALITY)) return true;
+  final private boolean jj_3_1654() {
+    if (jj_scan_token(LAST)) return true;
     return false;
   }
 
-  final private boolean jj_3_1662() {
-    if (jj_scan_token(OPTION)) return true;
+  final private boolean jj_3R_203() {
+    if (jj_3R_198()) return true;
     return false;
   }
 
-  final private boolean jj_3_1661() {
-    if (jj_scan_token(NUMBER)) return true;
+  final private boolean jj_3_1653() {
+    if (jj_scan_token(KEY_MEMBER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1660() {
-    if (jj_scan_token(NORMALIZED)) return true;
+  final private boolean jj_3_1652() {
+    if (jj_scan_token(JSON)) return true;
     return false;
   }
 
-  final private boolean jj_3_1659() {
-    if (jj_scan_token(NAMES)) return true;
+  final private boolean jj_3_1651() {
+    if (jj_scan_token(ISOLATION)) return true;
     return false;
   }
 
-  final private boolean jj_3R_86() {
-    if (jj_3R_135()) return true;
+  final private boolean jj_3_1650() {
+    if (jj_scan_token(INSTANTIABLE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1658() {
-    if (jj_scan_token(MORE_)) return true;
+  final private boolean jj_3R_86() {
+    if (jj_3R_135()) return true;
     return false;
   }
 
-  final private boolean jj_3_365() {
-    if (jj_scan_token(VERTICAL_BAR)) return true;
-    if (jj_3R_198()) return true;
+  final private boolean jj_3_1649() {
+    if (jj_scan_token(INITIALLY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1657() {
-    if (jj_scan_token(MINUTES)) return true;
+  final private boolean jj_3_1648() {
+    if (jj_scan_token(INCLUDE)) return true;
     return false;
   }
 
@@ -32917,23 +32988,23 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1656() {
-    if (jj_scan_token(MICROSECOND)) return true;
+  final private boolean jj_3_1647() {
+    if (jj_scan_token(IMMEDIATE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1655() {
-    if (jj_scan_token(MESSAGE_LENGTH)) return true;
+  final private boolean jj_3_1646() {
+    if (jj_scan_token(HOURS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1654() {
-    if (jj_scan_token(MAP)) return true;
+  final private boolean jj_3_1645() {
+    if (jj_scan_token(GROUP_CONCAT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1653() {
-    if (jj_scan_token(LIBRARY)) return true;
+  final private boolean jj_3_1644() {
+    if (jj_scan_token(GO)) return true;
     return false;
   }
 
@@ -32942,23 +33013,24 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3R_203() {
-    if (jj_3R_198()) return true;
+  final private boolean jj_3R_221() {
+    if (jj_scan_token(CURSOR)) return true;
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  final private boolean jj_3_1652() {
-    if (jj_scan_token(LAST)) return true;
+  final private boolean jj_3_1643() {
+    if (jj_scan_token(GENERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1651() {
-    if (jj_scan_token(KEY_MEMBER)) return true;
+  final private boolean jj_3_1642() {
+    if (jj_scan_token(FOUND)) return true;
     return false;
   }
 
-  final private boolean jj_3_1650() {
-    if (jj_scan_token(JSON)) return true;
+  final private boolean jj_3_1641() {
+    if (jj_scan_token(FOLLOWING)) return true;
     return false;
   }
 
@@ -32967,13 +33039,18 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1649() {
-    if (jj_scan_token(ISOLATION)) return true;
+  final private boolean jj_3R_197() {
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  final private boolean jj_3_1648() {
-    if (jj_scan_token(INSTANTIABLE)) return true;
+  final private boolean jj_3_1640() {
+    if (jj_scan_token(EXCLUDING)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1639() {
+    if (jj_scan_token(ERROR)) return true;
     return false;
   }
 
@@ -32982,18 +33059,18 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1647() {
-    if (jj_scan_token(INITIALLY)) return true;
+  final private boolean jj_3_1638() {
+    if (jj_scan_token(DYNAMIC_FUNCTION_CODE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1646() {
-    if (jj_scan_token(INCLUDE)) return true;
+  final private boolean jj_3_1637() {
+    if (jj_scan_token(DOY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1645() {
-    if (jj_scan_token(IMMEDIATE)) return true;
+  final private boolean jj_3_1636() {
+    if (jj_scan_token(DISPATCH)) return true;
     return false;
   }
 
@@ -33002,33 +33079,32 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1644() {
-    if (jj_scan_token(HOURS)) return true;
+  final private boolean jj_3_1635() {
+    if (jj_scan_token(DESCRIPTION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1643() {
-    if (jj_scan_token(GROUP_CONCAT)) return true;
+  final private boolean jj_3_1634() {
+    if (jj_scan_token(DEPTH)) return true;
     return false;
   }
 
-  final private boolean jj_3R_370() {
+  final private boolean jj_3_823() {
+    if (jj_scan_token(LOCAL)) return true;
     return false;
   }
 
-  final private boolean jj_3R_221() {
-    if (jj_scan_token(CURSOR)) return true;
-    if (jj_3R_82()) return true;
+  final private boolean jj_3R_370() {
     return false;
   }
 
-  final private boolean jj_3_1642() {
-    if (jj_scan_token(GO)) return true;
+  final private boolean jj_3_1633() {
+    if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  final private boolean jj_3_1641() {
-    if (jj_scan_token(GENERAL)) return true;
+  final private boolean jj_3_1632() {
+    if (jj_scan_token(DEFAULTS)) return true;
     return false;
   }
 
@@ -33038,28 +33114,38 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1640() {
-    if (jj_scan_token(FOUND)) return true;
+  final private boolean jj_3_366() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_197()) return true;
     return false;
   }
 
-  final private boolean jj_3R_197() {
-    if (jj_3R_82()) return true;
+  final private boolean jj_3_1631() {
+    if (jj_scan_token(DAYOFYEAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1639() {
-    if (jj_scan_token(FOLLOWING)) return true;
+  final private boolean jj_3_1630() {
+    if (jj_scan_token(DATETIME_INTERVAL_PRECISION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1638() {
-    if (jj_scan_token(EXCLUDING)) return true;
+  final private boolean jj_3R_411() {
     return false;
   }
 
-  final private boolean jj_3_1637() {
-    if (jj_scan_token(ERROR)) return true;
+  final private boolean jj_3R_193() {
+    if (jj_3R_197()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1629() {
+    if (jj_scan_token(DATE_TRUNC)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1628() {
+    if (jj_scan_token(DATA)) return true;
     return false;
   }
 
@@ -33084,116 +33170,46 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1636() {
-    if (jj_scan_token(DYNAMIC_FUNCTION_CODE)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1635() {
-    if (jj_scan_token(DOY)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1634() {
-    if (jj_scan_token(DISPATCH)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1633() {
-    if (jj_scan_token(DESCRIPTION)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_821() {
-    if (jj_scan_token(LOCAL)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1632() {
-    if (jj_scan_token(DEPTH)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1631() {
-    if (jj_scan_token(DEFINED)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_364() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_197()) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1630() {
-    if (jj_scan_token(DEFAULTS)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1629() {
-    if (jj_scan_token(DAYOFYEAR)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_411() {
-    return false;
-  }
-
-  final private boolean jj_3R_193() {
-    if (jj_3R_197()) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1628() {
-    if (jj_scan_token(DATETIME_INTERVAL_PRECISION)) return true;
-    return false;
-  }
-
   final private boolean jj_3_1627() {
-    if (jj_scan_token(DATE_TRUNC)) return true;
+    if (jj_scan_token(CONTAINS_SUBSTR)) return true;
     return false;
   }
 
   final private boolean jj_3_1626() {
-    if (jj_scan_token(DATA)) return true;
+    if (jj_scan_token(CONSTRAINTS)) return true;
     return false;
   }
 
   final private boolean jj_3_1625() {
-    if (jj_scan_token(CONTAINS_SUBSTR)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1624() {
-    if (jj_scan_token(CONSTRAINTS)) return true;
+    if (jj_scan_token(CONNECTION_NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3_823() {
+  final private boolean jj_3_825() {
     if (jj_scan_token(WITH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_821()) jj_scanpos = xsp;
+    if (jj_3_823()) jj_scanpos = xsp;
     if (jj_scan_token(TIME)) return true;
     return false;
   }
 
-  final private boolean jj_3_1623() {
-    if (jj_scan_token(CONNECTION_NAME)) return true;
+  final private boolean jj_3_1624() {
+    if (jj_scan_token(CONDITIONAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1622() {
-    if (jj_scan_token(CONDITIONAL)) return true;
+  final private boolean jj_3_1623() {
+    if (jj_scan_token(COMMAND_FUNCTION)) return true;
     return false;
   }
 
   final private boolean jj_3R_294() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_822()) {
+    if (jj_3_824()) {
     jj_scanpos = xsp;
-    if (jj_3_823()) {
+    if (jj_3_825()) {
     jj_scanpos = xsp;
     if (jj_3R_411()) return true;
     }
@@ -33201,121 +33217,96 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1621() {
-    if (jj_scan_token(COMMAND_FUNCTION)) return true;
+  final private boolean jj_3_1622() {
+    if (jj_scan_token(COLLATION_NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3_822() {
+  final private boolean jj_3_824() {
     if (jj_scan_token(WITHOUT)) return true;
     if (jj_scan_token(TIME)) return true;
     if (jj_scan_token(ZONE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1620() {
-    if (jj_scan_token(COLLATION_NAME)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1619() {
+  final private boolean jj_3_1621() {
     if (jj_scan_token(COBOL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1618() {
+  final private boolean jj_3_1620() {
     if (jj_scan_token(CHARACTER_SET_NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3_1617() {
+  final private boolean jj_3_1619() {
     if (jj_scan_token(CHARACTERISTICS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1616() {
+  final private boolean jj_3_1618() {
     if (jj_scan_token(CATALOG_NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3_1615() {
+  final private boolean jj_3_1617() {
     if (jj_scan_token(C)) return true;
     return false;
   }
 
-  final private boolean jj_3_363() {
-    if (jj_scan_token(SUBSET)) return true;
-    if (jj_3R_196()) return true;
+  final private boolean jj_3_1616() {
+    if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1614() {
-    if (jj_scan_token(BEFORE)) return true;
+  final private boolean jj_3_365() {
+    if (jj_scan_token(SUBSET)) return true;
+    if (jj_3R_196()) return true;
     return false;
   }
 
-  final private boolean jj_3_1613() {
+  final private boolean jj_3_1615() {
     if (jj_scan_token(ASSIGNMENT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1612() {
+  final private boolean jj_3_1614() {
     if (jj_scan_token(ARRAY_CONCAT_AGG)) return true;
     return false;
   }
 
-  final private boolean jj_3_1611() {
+  final private boolean jj_3_1613() {
     if (jj_scan_token(ALWAYS)) return true;
     return false;
   }
 
-  final private boolean jj_3_38() {
-    if (jj_scan_token(ALL)) return true;
+  final private boolean jj_3_1612() {
+    if (jj_scan_token(ADD)) return true;
     return false;
   }
 
-  final private boolean jj_3_362() {
+  final private boolean jj_3_364() {
     if (jj_scan_token(WITHIN)) return true;
     if (jj_3R_195()) return true;
     return false;
   }
 
-  final private boolean jj_3_1610() {
-    if (jj_scan_token(ADD)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_83() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_37()) {
-    jj_scanpos = xsp;
-    if (jj_3_38()) return true;
-    }
-    return false;
-  }
-
-  final private boolean jj_3_1609() {
+  final private boolean jj_3_1611() {
     if (jj_scan_token(ABSOLUTE)) return true;
     return false;
   }
 
-  final private boolean jj_3_37() {
-    if (jj_scan_token(DISTINCT)) return true;
-    return false;
-  }
-
   final private boolean jj_3R_410() {
     return false;
   }
 
-  final private boolean jj_3_354() {
+  final private boolean jj_3_356() {
     if (jj_scan_token(LAST)) return true;
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_361() {
+  final private boolean jj_3_363() {
     if (jj_scan_token(DOLLAR)) return true;
     return false;
   }
@@ -33323,10 +33314,6 @@ final String p;
   final private boolean jj_3R_347() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1609()) {
-    jj_scanpos = xsp;
-    if (jj_3_1610()) {
-    jj_scanpos = xsp;
     if (jj_3_1611()) {
     jj_scanpos = xsp;
     if (jj_3_1612()) {
@@ -33763,7 +33750,14 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_1828()) {
     jj_scanpos = xsp;
-    if (jj_3_1829()) return true;
+    if (jj_3_1829()) {
+    jj_scanpos = xsp;
+    if (jj_3_1830()) {
+    jj_scanpos = xsp;
+    if (jj_3_1831()) {
+    jj_scanpos = xsp;
+    if (jj_3_1832()) return true;
+    }
     }
     }
     }
@@ -33990,76 +33984,91 @@ final String p;
   final private boolean jj_3R_263() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_820()) {
+    if (jj_3_822()) {
     jj_scanpos = xsp;
     if (jj_3R_410()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_820() {
+  final private boolean jj_3_822() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_264()) return true;
     return false;
   }
 
-  final private boolean jj_3_360() {
+  final private boolean jj_3_38() {
+    if (jj_scan_token(ALL)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_362() {
     if (jj_scan_token(CARET)) return true;
     return false;
   }
 
-  final private boolean jj_3_1608() {
-    if (jj_scan_token(SUNDAY)) return true;
+  final private boolean jj_3_1610() {
+    if (jj_scan_token(SATURDAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1607() {
-    if (jj_scan_token(THURSDAY)) return true;
+  final private boolean jj_3R_83() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_37()) {
+    jj_scanpos = xsp;
+    if (jj_3_38()) return true;
+    }
     return false;
   }
 
-  final private boolean jj_3_1606() {
-    if (jj_scan_token(MONDAY)) return true;
+  final private boolean jj_3_1609() {
+    if (jj_scan_token(WEDNESDAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_36() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_84()) return true;
+  final private boolean jj_3_37() {
+    if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  final private boolean jj_3R_380() {
+  final private boolean jj_3_1608() {
+    if (jj_scan_token(YEAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1605() {
-    if (jj_scan_token(WITHIN)) return true;
+  final private boolean jj_3_1607() {
+    if (jj_scan_token(WINDOW)) return true;
     return false;
   }
 
-  final private boolean jj_3_1604() {
-    if (jj_scan_token(WHENEVER)) return true;
+  final private boolean jj_3R_380() {
     return false;
   }
 
-  final private boolean jj_3_358() {
-    if (jj_scan_token(PAST)) return true;
-    if (jj_scan_token(LAST)) return true;
+  final private boolean jj_3_1606() {
+    if (jj_scan_token(VERSIONING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1603() {
-    if (jj_scan_token(VAR_POP)) return true;
+  final private boolean jj_3_1605() {
+    if (jj_scan_token(VARYING)) return true;
     return false;
   }
 
-  final private boolean jj_3R_397() {
+  final private boolean jj_3_360() {
+    if (jj_scan_token(PAST)) return true;
+    if (jj_scan_token(LAST)) return true;
     return false;
   }
 
-  final private boolean jj_3_1602() {
-    if (jj_scan_token(VARIANT)) return true;
+  final private boolean jj_3_1604() {
+    if (jj_scan_token(VARBINARY)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1603() {
+    if (jj_scan_token(UUID)) return true;
     return false;
   }
 
@@ -34071,117 +34080,116 @@ final String p;
     return false;
   }
 
+  final private boolean jj_3_1602() {
+    if (jj_scan_token(UNSIGNED)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1601() {
-    if (jj_scan_token(VALUE)) return true;
+    if (jj_scan_token(UESCAPE)) return true;
     return false;
   }
 
   final private boolean jj_3_1600() {
-    if (jj_scan_token(UPPER)) return true;
+    if (jj_scan_token(TRIM_ARRAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_35() {
-    if (jj_3R_83()) return true;
+  final private boolean jj_3_1599() {
+    if (jj_scan_token(TREAT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1599() {
-    if (jj_scan_token(UNIQUE)) return true;
+  final private boolean jj_3_821() {
+    if (jj_scan_token(TIMESTAMP)) return true;
+    if (jj_3R_263()) return true;
+    if (jj_3R_294()) return true;
     return false;
   }
 
   final private boolean jj_3_1598() {
-    if (jj_scan_token(TRUNCATE)) return true;
+    if (jj_scan_token(TRANSLATE)) return true;
     return false;
   }
 
-  final private boolean jj_3_819() {
-    if (jj_scan_token(TIMESTAMP)) return true;
-    if (jj_3R_263()) return true;
-    if (jj_3R_294()) return true;
+  final private boolean jj_3_1597() {
+    if (jj_scan_token(TIMEZONE_HOUR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1597() {
-    if (jj_scan_token(TRIGGER)) return true;
+  final private boolean jj_3_36() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_84()) return true;
     return false;
   }
 
   final private boolean jj_3_1596() {
-    if (jj_scan_token(TRANSLATE_REGEX)) return true;
+    if (jj_scan_token(TABLESAMPLE)) return true;
     return false;
   }
 
   final private boolean jj_3_1595() {
-    if (jj_scan_token(TIMEZONE_MINUTE)) return true;
+    if (jj_scan_token(SYSTEM)) return true;
     return false;
   }
 
-  final private boolean jj_3R_224() {
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_35()) {
-    jj_scanpos = xsp;
-    if (jj_3R_397()) return true;
-    }
+  final private boolean jj_3_1594() {
+    if (jj_scan_token(SUBSTRING_REGEX)) return true;
     return false;
   }
 
-  final private boolean jj_3_1594() {
-    if (jj_scan_token(TIME)) return true;
+  final private boolean jj_3R_397() {
     return false;
   }
 
   final private boolean jj_3_1593() {
-    if (jj_scan_token(SYSTEM_TIME)) return true;
+    if (jj_scan_token(SUBMULTISET)) return true;
     return false;
   }
 
   final private boolean jj_3_1592() {
-    if (jj_scan_token(SUCCEEDS)) return true;
+    if (jj_scan_token(STDDEV_POP)) return true;
     return false;
   }
 
   final private boolean jj_3_1591() {
-    if (jj_scan_token(SUBSET)) return true;
+    if (jj_scan_token(SQRT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1590() {
-    if (jj_scan_token(STDDEV_SAMP)) return true;
+  final private boolean jj_3_35() {
+    if (jj_3R_83()) return true;
     return false;
   }
 
-  final private boolean jj_3_818() {
+  final private boolean jj_3_820() {
     if (jj_scan_token(TIME)) return true;
     if (jj_3R_263()) return true;
     if (jj_3R_294()) return true;
     return false;
   }
 
-  final private boolean jj_3_1589() {
-    if (jj_scan_token(START)) return true;
+  final private boolean jj_3_1590() {
+    if (jj_scan_token(SQLEXCEPTION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1588() {
-    if (jj_scan_token(SQLSTATE)) return true;
+  final private boolean jj_3_1589() {
+    if (jj_scan_token(SPECIFIC)) return true;
     return false;
   }
 
-  final private boolean jj_3_1587() {
-    if (jj_scan_token(SPECIFICTYPE)) return true;
+  final private boolean jj_3_1588() {
+    if (jj_scan_token(SIMILAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1586() {
-    if (jj_scan_token(SKIP_)) return true;
+  final private boolean jj_3_1587() {
+    if (jj_scan_token(SENSITIVE)) return true;
     return false;
   }
 
-  final private boolean jj_3_356() {
+  final private boolean jj_3_358() {
     if (jj_scan_token(FIRST)) return true;
     if (jj_3R_85()) return true;
     return false;
@@ -34190,104 +34198,110 @@ final String p;
   final private boolean jj_3R_289() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_817()) {
+    if (jj_3_819()) {
     jj_scanpos = xsp;
-    if (jj_3_818()) {
+    if (jj_3_820()) {
     jj_scanpos = xsp;
-    if (jj_3_819()) return true;
+    if (jj_3_821()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3_1585() {
-    if (jj_scan_token(SESSION_USER)) return true;
+  final private boolean jj_3_1586() {
+    if (jj_scan_token(SEARCH)) return true;
     return false;
   }
 
-  final private boolean jj_3_817() {
+  final private boolean jj_3_819() {
     if (jj_scan_token(DATE)) return true;
     return false;
   }
 
+  final private boolean jj_3R_224() {
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_35()) {
+    jj_scanpos = xsp;
+    if (jj_3R_397()) return true;
+    }
+    return false;
+  }
+
+  final private boolean jj_3_1585() {
+    if (jj_scan_token(SAVEPOINT)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1584() {
-    if (jj_scan_token(SECOND)) return true;
+    if (jj_scan_token(SAFE_CAST)) return true;
     return false;
   }
 
   final private boolean jj_3_1583() {
-    if (jj_scan_token(SCOPE)) return true;
+    if (jj_scan_token(ROWS)) return true;
     return false;
   }
 
   final private boolean jj_3_1582() {
-    if (jj_scan_token(SAFE_OFFSET)) return true;
+    if (jj_scan_token(REVOKE)) return true;
     return false;
   }
 
   final private boolean jj_3_1581() {
-    if (jj_scan_token(ROW_NUMBER)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1580() {
-    if (jj_scan_token(ROLLBACK)) return true;
+    if (jj_scan_token(RESULT)) return true;
     return false;
   }
 
-  final private boolean jj_3_355() {
+  final private boolean jj_3_357() {
     if (jj_scan_token(NEXT)) return true;
     if (jj_scan_token(ROW)) return true;
     return false;
   }
 
-  final private boolean jj_3_1579() {
-    if (jj_scan_token(RETURN)) return true;
+  final private boolean jj_3_1580() {
+    if (jj_scan_token(REGR_SYY)) return true;
     return false;
   }
 
-  final private boolean jj_3R_413() {
-    if (jj_3R_224()) return true;
+  final private boolean jj_3_1579() {
+    if (jj_scan_token(REGR_SLOPE)) return true;
     return false;
   }
 
   final private boolean jj_3_1578() {
-    if (jj_scan_token(RELEASE)) return true;
+    if (jj_scan_token(REGR_COUNT)) return true;
     return false;
   }
 
   final private boolean jj_3_1577() {
-    if (jj_scan_token(REGR_SXX)) return true;
+    if (jj_scan_token(REFERENCING)) return true;
     return false;
   }
 
   final private boolean jj_3_1576() {
-    if (jj_scan_token(REGR_INTERCEPT)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1575() {
-    if (jj_scan_token(REGR_AVGX)) return true;
+    if (jj_scan_token(RECURSIVE)) return true;
     return false;
   }
 
-  final private boolean jj_3_812() {
+  final private boolean jj_3_814() {
     if (jj_scan_token(CHAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1574() {
-    if (jj_scan_token(REF)) return true;
+  final private boolean jj_3_1575() {
+    if (jj_scan_token(RANK)) return true;
     return false;
   }
 
-  final private boolean jj_3_357() {
+  final private boolean jj_3_359() {
     if (jj_scan_token(TO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_355()) {
+    if (jj_3_357()) {
     jj_scanpos = xsp;
-    if (jj_3_356()) {
+    if (jj_3_358()) {
     jj_scanpos = xsp;
     lookingAhead = true;
     jj_semLA = true;
@@ -34298,176 +34312,170 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1573() {
-    if (jj_scan_token(READS)) return true;
+  final private boolean jj_3_1574() {
+    if (jj_scan_token(PROCEDURE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1572() {
-    if (jj_scan_token(QUALIFY)) return true;
+  final private boolean jj_3_1573() {
+    if (jj_scan_token(PRECISION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1571() {
-    if (jj_scan_token(PREPARE)) return true;
+  final private boolean jj_3_1572() {
+    if (jj_scan_token(POSITION_REGEX)) return true;
     return false;
   }
 
-  final private boolean jj_3_816() {
+  final private boolean jj_3_818() {
     if (jj_scan_token(CHARACTER)) return true;
     if (jj_scan_token(SET)) return true;
     return false;
   }
 
-  final private boolean jj_3_1570() {
-    if (jj_scan_token(POWER)) return true;
+  final private boolean jj_3_1571() {
+    if (jj_scan_token(PERMUTE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1569() {
-    if (jj_scan_token(PORTION)) return true;
+  final private boolean jj_3_1570() {
+    if (jj_scan_token(PERCENTILE_DISC)) return true;
     return false;
   }
 
-  final private boolean jj_3R_293() {
+  final private boolean jj_3R_413() {
+    if (jj_3R_224()) return true;
     return false;
   }
 
-  final private boolean jj_3_1568() {
-    if (jj_scan_token(PERCENT_RANK)) return true;
+  final private boolean jj_3R_293() {
     return false;
   }
 
-  final private boolean jj_3_34() {
-    if (jj_3R_81()) return true;
+  final private boolean jj_3_1569() {
+    if (jj_scan_token(PER)) return true;
     return false;
   }
 
-  final private boolean jj_3_359() {
+  final private boolean jj_3_361() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(MATCH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1567() {
-    if (jj_scan_token(PERCENT)) return true;
+  final private boolean jj_3_1568() {
+    if (jj_scan_token(OVERLAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_815() {
+  final private boolean jj_3_817() {
     if (jj_scan_token(VARCHAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1566() {
-    if (jj_scan_token(PARAMETER)) return true;
+  final private boolean jj_3_1567() {
+    if (jj_scan_token(OUT)) return true;
     return false;
   }
 
-  final private boolean jj_3_33() {
-    if (jj_3R_82()) return true;
+  final private boolean jj_3_815() {
+    if (jj_scan_token(VARYING)) return true;
     return false;
   }
 
-  final private boolean jj_3_813() {
-    if (jj_scan_token(VARYING)) return true;
+  final private boolean jj_3R_379() {
     return false;
   }
 
-  final private boolean jj_3R_379() {
+  final private boolean jj_3_1566() {
+    if (jj_scan_token(ONLY)) return true;
     return false;
   }
 
   final private boolean jj_3_1565() {
-    if (jj_scan_token(OVER)) return true;
+    if (jj_scan_token(OLD)) return true;
     return false;
   }
 
   final private boolean jj_3_1564() {
-    if (jj_scan_token(OPEN)) return true;
+    if (jj_scan_token(OCCURRENCES_REGEX)) return true;
     return false;
   }
 
   final private boolean jj_3_1563() {
-    if (jj_scan_token(OMIT)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1562() {
-    if (jj_scan_token(OCTET_LENGTH)) return true;
+    if (jj_scan_token(NTILE)) return true;
     return false;
   }
 
-  final private boolean jj_3_353() {
+  final private boolean jj_3_355() {
     if (jj_scan_token(ALL)) return true;
     if (jj_scan_token(ROWS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1561() {
-    if (jj_scan_token(NULLIF)) return true;
+  final private boolean jj_3_1562() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  final private boolean jj_3_811() {
+  final private boolean jj_3_813() {
     if (jj_scan_token(CHARACTER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1560() {
-    if (jj_scan_token(NORMALIZE)) return true;
+  final private boolean jj_3_1561() {
+    if (jj_scan_token(NEW)) return true;
     return false;
   }
 
-  final private boolean jj_3_814() {
+  final private boolean jj_3_816() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_811()) {
+    if (jj_3_813()) {
     jj_scanpos = xsp;
-    if (jj_3_812()) return true;
+    if (jj_3_814()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_813()) {
+    if (jj_3_815()) {
     jj_scanpos = xsp;
     if (jj_3R_293()) return true;
     }
     return false;
   }
 
+  final private boolean jj_3_1560() {
+    if (jj_scan_token(NATIONAL)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1559() {
-    if (jj_scan_token(NEXT)) return true;
+    if (jj_scan_token(MODULE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1558() {
-    if (jj_scan_token(NCHAR)) return true;
+  final private boolean jj_3_34() {
+    if (jj_3R_81()) return true;
     return false;
   }
 
-  final private boolean jj_3_352() {
+  final private boolean jj_3_354() {
     if (jj_scan_token(ONE)) return true;
     if (jj_scan_token(ROW)) return true;
     return false;
   }
 
-  final private boolean jj_3_1557() {
-    if (jj_scan_token(MONTH)) return true;
+  final private boolean jj_3_1558() {
+    if (jj_scan_token(MINUTE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1556() {
-    if (jj_scan_token(MOD)) return true;
+  final private boolean jj_3_1557() {
+    if (jj_scan_token(MEMBER)) return true;
     return false;
   }
 
-  final private boolean jj_3_32() {
-    if (jj_scan_token(COMMA)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_33()) {
-    jj_scanpos = xsp;
-    if (jj_3_34()) return true;
-    }
+  final private boolean jj_3_33() {
+    if (jj_3R_82()) return true;
     return false;
   }
 
@@ -34478,153 +34486,164 @@ final String p;
   final private boolean jj_3R_288() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_814()) {
+    if (jj_3_816()) {
     jj_scanpos = xsp;
-    if (jj_3_815()) return true;
+    if (jj_3_817()) return true;
     }
     if (jj_3R_263()) return true;
     xsp = jj_scanpos;
-    if (jj_3_816()) jj_scanpos = xsp;
+    if (jj_3_818()) jj_scanpos = xsp;
+    return false;
+  }
+
+  final private boolean jj_3_1556() {
+    if (jj_scan_token(MAX)) return true;
     return false;
   }
 
   final private boolean jj_3_1555() {
-    if (jj_scan_token(METHOD)) return true;
+    if (jj_scan_token(MATCH_CONDITION)) return true;
     return false;
   }
 
   final private boolean jj_3_1554() {
-    if (jj_scan_token(MEASURE)) return true;
+    if (jj_scan_token(LOWER)) return true;
     return false;
   }
 
   final private boolean jj_3_1553() {
-    if (jj_scan_token(MATCH_NUMBER)) return true;
+    if (jj_scan_token(LIKE_REGEX)) return true;
     return false;
   }
 
-  final private boolean jj_3_31() {
-    if (jj_3R_81()) return true;
+  final private boolean jj_3_353() {
+    if (jj_scan_token(MEASURES)) return true;
+    if (jj_3R_193()) return true;
     return false;
   }
 
   final private boolean jj_3_1552() {
-    if (jj_scan_token(MATCH)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_351() {
-    if (jj_scan_token(MEASURES)) return true;
-    if (jj_3R_193()) return true;
+    if (jj_scan_token(LAST_VALUE)) return true;
     return false;
   }
 
   final private boolean jj_3_1551() {
-    if (jj_scan_token(LN)) return true;
+    if (jj_scan_token(LAG)) return true;
     return false;
   }
 
-  final private boolean jj_3_30() {
-    if (jj_3R_80()) return true;
+  final private boolean jj_3R_377() {
     return false;
   }
 
   final private boolean jj_3_1550() {
-    if (jj_scan_token(LATERAL)) return true;
+    if (jj_scan_token(JSON_QUERY)) return true;
     return false;
   }
 
-  final private boolean jj_3R_377() {
+  final private boolean jj_3_1549() {
+    if (jj_scan_token(JSON_EXISTS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1549() {
-    if (jj_scan_token(LANGUAGE)) return true;
+  final private boolean jj_3_1548() {
+    if (jj_scan_token(INTERSECTION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1548() {
-    if (jj_scan_token(JSON_SCOPE)) return true;
+  final private boolean jj_3_352() {
+    if (jj_3R_71()) return true;
     return false;
   }
 
   final private boolean jj_3_1547() {
-    if (jj_scan_token(JSON_OBJECT)) return true;
+    if (jj_scan_token(INSENSITIVE)) return true;
     return false;
   }
 
-  final private boolean jj_3_350() {
-    if (jj_3R_71()) return true;
+  final private boolean jj_3_32() {
+    if (jj_scan_token(COMMA)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_33()) {
+    jj_scanpos = xsp;
+    if (jj_3_34()) return true;
+    }
     return false;
   }
 
   final private boolean jj_3_1546() {
-    if (jj_scan_token(JSON_ARRAY)) return true;
+    if (jj_scan_token(INDICATOR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1545() {
-    if (jj_scan_token(INT)) return true;
+  final private boolean jj_3R_376() {
     return false;
   }
 
-  final private boolean jj_3R_376() {
+  final private boolean jj_3_1545() {
+    if (jj_scan_token(HOUR)) return true;
     return false;
   }
 
   final private boolean jj_3_1544() {
-    if (jj_scan_token(INITIAL)) return true;
+    if (jj_scan_token(GROUPING)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_31() {
+    if (jj_3R_81()) return true;
     return false;
   }
 
   final private boolean jj_3_1543() {
-    if (jj_scan_token(IDENTITY)) return true;
+    if (jj_scan_token(GET)) return true;
     return false;
   }
 
   final private boolean jj_3_1542() {
-    if (jj_scan_token(GROUPS)) return true;
+    if (jj_scan_token(FREE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1541() {
-    if (jj_scan_token(GLOBAL)) return true;
+  final private boolean jj_3_30() {
+    if (jj_3R_80()) return true;
     return false;
   }
 
-  final private boolean jj_3_349() {
+  final private boolean jj_3_351() {
     if (jj_scan_token(PARTITION)) return true;
     if (jj_scan_token(BY)) return true;
     return false;
   }
 
+  final private boolean jj_3_1541() {
+    if (jj_scan_token(FLOOR)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1540() {
-    if (jj_scan_token(FUNCTION)) return true;
+    if (jj_scan_token(FILTER)) return true;
     return false;
   }
 
   final private boolean jj_3_1539() {
-    if (jj_scan_token(FOREIGN)) return true;
+    if (jj_scan_token(EXTEND)) return true;
     return false;
   }
 
   final private boolean jj_3_1538() {
-    if (jj_scan_token(FIRST_VALUE)) return true;
+    if (jj_scan_token(EXEC)) return true;
     return false;
   }
 
   final private boolean jj_3_1537() {
-    if (jj_scan_token(EXTERNAL)) return true;
+    if (jj_scan_token(EQUALS)) return true;
     return false;
   }
 
   final private boolean jj_3_1536() {
-    if (jj_scan_token(EXECUTE)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1535() {
-    if (jj_scan_token(ESCAPE)) return true;
+    if (jj_scan_token(END_EXEC)) return true;
     return false;
   }
 
@@ -34635,79 +34654,68 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1534() {
-    if (jj_scan_token(END_FRAME)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1533() {
-    if (jj_scan_token(EMPTY)) return true;
+  final private boolean jj_3_1535() {
+    if (jj_scan_token(ELEMENT)) return true;
     return false;
   }
 
-  final private boolean jj_3R_184() {
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_30()) {
-    jj_scanpos = xsp;
-    if (jj_3_31()) return true;
-    }
+  final private boolean jj_3_1534() {
+    if (jj_scan_token(DOUBLE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1532() {
-    if (jj_scan_token(DYNAMIC)) return true;
+  final private boolean jj_3_1533() {
+    if (jj_scan_token(DETERMINISTIC)) return true;
     return false;
   }
 
-  final private boolean jj_3_348() {
+  final private boolean jj_3_350() {
     if (jj_scan_token(AS)) return true;
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_1531() {
-    if (jj_scan_token(DISALLOW)) return true;
+  final private boolean jj_3_1532() {
+    if (jj_scan_token(DENSE_RANK)) return true;
     return false;
   }
 
-  final private boolean jj_3_1530() {
-    if (jj_scan_token(DEREF)) return true;
+  final private boolean jj_3_1531() {
+    if (jj_scan_token(DECIMAL)) return true;
     return false;
   }
 
   final private boolean jj_3R_169() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_348()) jj_scanpos = xsp;
+    if (jj_3_350()) jj_scanpos = xsp;
     if (jj_scan_token(MATCH_RECOGNIZE)) return true;
     if (jj_scan_token(LPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3_349()) {
+    if (jj_3_351()) {
     jj_scanpos = xsp;
     if (jj_3R_376()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_350()) {
+    if (jj_3_352()) {
     jj_scanpos = xsp;
     if (jj_3R_377()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_351()) {
+    if (jj_3_353()) {
     jj_scanpos = xsp;
     if (jj_3R_378()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_352()) {
+    if (jj_3_354()) {
     jj_scanpos = xsp;
-    if (jj_3_353()) {
+    if (jj_3_355()) {
     jj_scanpos = xsp;
     if (jj_3R_379()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3_359()) {
+    if (jj_3_361()) {
     jj_scanpos = xsp;
     if (jj_3R_380()) return true;
     }
@@ -34715,43 +34723,54 @@ final String p;
     return false;
   }
 
+  final private boolean jj_3_1530() {
+    if (jj_scan_token(DAY)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1529() {
-    if (jj_scan_token(DECLARE)) return true;
+    if (jj_scan_token(CYCLE)) return true;
     return false;
   }
 
   final private boolean jj_3_1528() {
-    if (jj_scan_token(DEALLOCATE)) return true;
+    if (jj_scan_token(CURRENT_ROW)) return true;
     return false;
   }
 
   final private boolean jj_3_1527() {
-    if (jj_scan_token(DATE)) return true;
+    if (jj_scan_token(CURRENT_DEFAULT_TRANSFORM_GROUP)) return true;
     return false;
   }
 
   final private boolean jj_3_1526() {
-    if (jj_scan_token(CURRENT_TRANSFORM_GROUP_FOR_TYPE)) return true;
+    if (jj_scan_token(CUME_DIST)) return true;
     return false;
   }
 
   final private boolean jj_3_1525() {
-    if (jj_scan_token(CURRENT_PATH)) return true;
+    if (jj_scan_token(COVAR_POP)) return true;
     return false;
   }
 
   final private boolean jj_3_1524() {
-    if (jj_scan_token(CURRENT)) return true;
+    if (jj_scan_token(CORR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1523() {
-    if (jj_scan_token(COVAR_SAMP)) return true;
+  final private boolean jj_3R_184() {
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_30()) {
+    jj_scanpos = xsp;
+    if (jj_3_31()) return true;
+    }
     return false;
   }
 
-  final private boolean jj_3_1522() {
-    if (jj_scan_token(CORRESPONDING)) return true;
+  final private boolean jj_3_1523() {
+    if (jj_scan_token(CONNECT)) return true;
     return false;
   }
 
@@ -34762,115 +34781,109 @@ final String p;
     return false;
   }
 
+  final private boolean jj_3_1522() {
+    if (jj_scan_token(COLLECT)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1521() {
-    if (jj_scan_token(CONTAINS)) return true;
+    if (jj_scan_token(CLOSE)) return true;
     return false;
   }
 
   final private boolean jj_3_1520() {
-    if (jj_scan_token(COMMIT)) return true;
+    if (jj_scan_token(CHECK)) return true;
     return false;
   }
 
   final private boolean jj_3_1519() {
-    if (jj_scan_token(COALESCE)) return true;
+    if (jj_scan_token(CHARACTER)) return true;
     return false;
   }
 
   final private boolean jj_3_1518() {
-    if (jj_scan_token(CLASSIFIER)) return true;
+    if (jj_scan_token(CEIL)) return true;
     return false;
   }
 
   final private boolean jj_3_1517() {
-    if (jj_scan_token(CHARACTER_LENGTH)) return true;
+    if (jj_scan_token(CALLED)) return true;
     return false;
   }
 
   final private boolean jj_3_1516() {
-    if (jj_scan_token(CEILING)) return true;
+    if (jj_scan_token(BLOB)) return true;
     return false;
   }
 
   final private boolean jj_3_1515() {
-    if (jj_scan_token(CARDINALITY)) return true;
+    if (jj_scan_token(BIGINT)) return true;
     return false;
   }
 
   final private boolean jj_3_1514() {
-    if (jj_scan_token(BOOLEAN)) return true;
+    if (jj_scan_token(BEGIN)) return true;
     return false;
   }
 
   final private boolean jj_3_1513() {
-    if (jj_scan_token(BINARY)) return true;
+    if (jj_scan_token(ATOMIC)) return true;
     return false;
   }
 
   final private boolean jj_3_1512() {
-    if (jj_scan_token(BEGIN_FRAME)) return true;
+    if (jj_scan_token(ASENSITIVE)) return true;
     return false;
   }
 
   final private boolean jj_3_1511() {
-    if (jj_scan_token(AUTHORIZATION)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_29() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_79()) return true;
+    if (jj_scan_token(ALLOW)) return true;
     return false;
   }
 
   final private boolean jj_3_1510() {
-    if (jj_scan_token(ASOF)) return true;
+    if (jj_scan_token(TOTAL)) return true;
     return false;
   }
 
   final private boolean jj_3_1509() {
-    if (jj_scan_token(ARE)) return true;
+    if (jj_scan_token(REFRESH)) return true;
     return false;
   }
 
   final private boolean jj_3_1508() {
-    if (jj_scan_token(ABS)) return true;
+    if (jj_scan_token(ASYNC)) return true;
     return false;
   }
 
   final private boolean jj_3_1507() {
-    if (jj_scan_token(ANALYZE)) return true;
+    if (jj_scan_token(CONTINUOUS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1506() {
-    if (jj_scan_token(QUERY)) return true;
+  final private boolean jj_3_348() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_192()) return true;
     return false;
   }
 
-  final private boolean jj_3_346() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_192()) return true;
+  final private boolean jj_3_1506() {
+    if (jj_scan_token(PASSWORD)) return true;
     return false;
   }
 
   final private boolean jj_3_1505() {
-    if (jj_scan_token(SERVICE)) return true;
+    if (jj_scan_token(HASH)) return true;
     return false;
   }
 
   final private boolean jj_3_1504() {
-    if (jj_scan_token(KILL)) return true;
+    if (jj_scan_token(ENCRYPTED)) return true;
     return false;
   }
 
   final private boolean jj_3_1503() {
-    if (jj_scan_token(LOGGING)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1502() {
-    if (jj_scan_token(ENCRYPTED)) return true;
+    if (jj_scan_token(VALUE_TYPE)) return true;
     return false;
   }
 
@@ -34879,151 +34892,157 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1501() {
-    if (jj_scan_token(VALUE_TYPE)) return true;
+  final private boolean jj_3_1502() {
+    if (jj_scan_token(CACHE_GROUP)) return true;
     return false;
   }
 
-  final private boolean jj_3_347() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_163()) return true;
+  final private boolean jj_3_29() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_79()) return true;
     return false;
   }
 
-  final private boolean jj_3_1500() {
-    if (jj_scan_token(CACHE_GROUP)) return true;
+  final private boolean jj_3_349() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_163()) return true;
     return false;
   }
 
-  final private boolean jj_3_1499() {
+  final private boolean jj_3_1501() {
     if (jj_scan_token(AFFINITY_KEY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1498() {
+  final private boolean jj_3_1500() {
     if (jj_scan_token(ZONE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1497() {
+  final private boolean jj_3_1499() {
     if (jj_scan_token(WRITE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1496() {
+  final private boolean jj_3_1498() {
     if (jj_scan_token(WEEKS)) return true;
     return false;
   }
 
-  final private boolean jj_3R_192() {
-    if (jj_3R_135()) return true;
+  final private boolean jj_3_1497() {
+    if (jj_scan_token(VERSION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1495() {
-    if (jj_scan_token(VERSION)) return true;
+  final private boolean jj_3R_192() {
+    if (jj_3R_135()) return true;
     return false;
   }
 
-  final private boolean jj_3_1494() {
+  final private boolean jj_3_1496() {
     if (jj_scan_token(UTF16)) return true;
     return false;
   }
 
-  final private boolean jj_3_1493() {
+  final private boolean jj_3_1495() {
     if (jj_scan_token(USER_DEFINED_TYPE_CODE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1492() {
+  final private boolean jj_3_1494() {
     if (jj_scan_token(UNNAMED)) return true;
     return false;
   }
 
-  final private boolean jj_3_810() {
+  final private boolean jj_3_1493() {
+    if (jj_scan_token(UNCONDITIONAL)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_812() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_292()) return true;
     return false;
   }
 
-  final private boolean jj_3R_174() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_80()) return true;
+  final private boolean jj_3_1492() {
+    if (jj_scan_token(TYPE)) return true;
     return false;
   }
 
   final private boolean jj_3_1491() {
-    if (jj_scan_token(UNCONDITIONAL)) return true;
+    if (jj_scan_token(TRIGGER_NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3_1490() {
-    if (jj_scan_token(TYPE)) return true;
+  final private boolean jj_3R_430() {
+    if (jj_3R_292()) return true;
     return false;
   }
 
-  final private boolean jj_3R_430() {
-    if (jj_3R_292()) return true;
+  final private boolean jj_3_1490() {
+    if (jj_scan_token(TRANSFORM)) return true;
     return false;
   }
 
   final private boolean jj_3_1489() {
-    if (jj_scan_token(TRIGGER_NAME)) return true;
+    if (jj_scan_token(TRANSACTIONS_ACTIVE)) return true;
     return false;
   }
 
   final private boolean jj_3_1488() {
-    if (jj_scan_token(TRANSFORM)) return true;
+    if (jj_scan_token(TIMESTAMP_TRUNC)) return true;
     return false;
   }
 
   final private boolean jj_3_1487() {
-    if (jj_scan_token(TRANSACTIONS_ACTIVE)) return true;
+    if (jj_scan_token(TIMESTAMPADD)) return true;
     return false;
   }
 
   final private boolean jj_3_1486() {
-    if (jj_scan_token(TIMESTAMP_TRUNC)) return true;
+    if (jj_scan_token(TIES)) return true;
     return false;
   }
 
   final private boolean jj_3_1485() {
-    if (jj_scan_token(TIMESTAMPADD)) return true;
+    if (jj_scan_token(SUBSTITUTE)) return true;
     return false;
   }
 
   final private boolean jj_3_1484() {
-    if (jj_scan_token(TIES)) return true;
+    if (jj_scan_token(STRUCTURE)) return true;
     return false;
   }
 
   final private boolean jj_3_1483() {
-    if (jj_scan_token(SUBSTITUTE)) return true;
+    if (jj_scan_token(STATE)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_174() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_80()) return true;
     return false;
   }
 
   final private boolean jj_3_1482() {
-    if (jj_scan_token(STRUCTURE)) return true;
+    if (jj_scan_token(SQL_TSI_YEAR)) return true;
     return false;
   }
 
   final private boolean jj_3_1481() {
-    if (jj_scan_token(STATE)) return true;
+    if (jj_scan_token(SQL_TSI_QUARTER)) return true;
     return false;
   }
 
   final private boolean jj_3_1480() {
-    if (jj_scan_token(SQL_TSI_YEAR)) return true;
+    if (jj_scan_token(SQL_TSI_MICROSECOND)) return true;
     return false;
   }
 
   final private boolean jj_3_1479() {
-    if (jj_scan_token(SQL_TSI_QUARTER)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1478() {
-    if (jj_scan_token(SQL_TSI_MICROSECOND)) return true;
+    if (jj_scan_token(SQL_TSI_DAY)) return true;
     return false;
   }
 
@@ -35035,17 +35054,17 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1477() {
-    if (jj_scan_token(SQL_TSI_DAY)) return true;
+  final private boolean jj_3_1478() {
+    if (jj_scan_token(SQL_TIME)) return true;
     return false;
   }
 
-  final private boolean jj_3_1476() {
-    if (jj_scan_token(SQL_TIME)) return true;
+  final private boolean jj_3_1477() {
+    if (jj_scan_token(SQL_NVARCHAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_345() {
+  final private boolean jj_3_347() {
     if (jj_scan_token(EXCLUDE)) return true;
     if (jj_scan_token(NULLS)) return true;
     return false;
@@ -35054,62 +35073,62 @@ final String p;
   final private boolean jj_3R_182() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_809()) {
+    if (jj_3_811()) {
     jj_scanpos = xsp;
     if (jj_3R_386()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1475() {
-    if (jj_scan_token(SQL_NVARCHAR)) return true;
+  final private boolean jj_3_1476() {
+    if (jj_scan_token(SQL_NCHAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_344() {
+  final private boolean jj_3_346() {
     if (jj_scan_token(INCLUDE)) return true;
     if (jj_scan_token(NULLS)) return true;
     return false;
   }
 
-  final private boolean jj_3_809() {
+  final private boolean jj_3_811() {
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1474() {
-    if (jj_scan_token(SQL_NCHAR)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1473() {
+  final private boolean jj_3_1475() {
     if (jj_scan_token(SQL_LONGVARBINARY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1472() {
+  final private boolean jj_3_1474() {
     if (jj_scan_token(SQL_INTERVAL_SECOND)) return true;
     return false;
   }
 
-  final private boolean jj_3_1471() {
+  final private boolean jj_3_1473() {
     if (jj_scan_token(SQL_INTERVAL_MINUTE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1470() {
+  final private boolean jj_3_1472() {
     if (jj_scan_token(SQL_INTERVAL_HOUR)) return true;
     return false;
   }
 
+  final private boolean jj_3_1471() {
+    if (jj_scan_token(SQL_INTERVAL_DAY_TO_HOUR)) return true;
+    return false;
+  }
+
   final private boolean jj_3R_178() {
     if (jj_scan_token(UNPIVOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_344()) {
+    if (jj_3_346()) {
     jj_scanpos = xsp;
-    if (jj_3_345()) {
+    if (jj_3_347()) {
     jj_scanpos = xsp;
     if (jj_3R_385()) return true;
     }
@@ -35118,162 +35137,162 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1469() {
-    if (jj_scan_token(SQL_INTERVAL_DAY_TO_HOUR)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1468() {
+  final private boolean jj_3_1470() {
     if (jj_scan_token(SQL_FLOAT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1467() {
+  final private boolean jj_3_1469() {
     if (jj_scan_token(SQL_DATE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1466() {
+  final private boolean jj_3_1468() {
     if (jj_scan_token(SQL_BOOLEAN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1465() {
+  final private boolean jj_3_1467() {
     if (jj_scan_token(SQL_BINARY)) return true;
     return false;
   }
 
-  final private boolean jj_3_808() {
-    if (jj_scan_token(NOT)) return true;
-    if (jj_scan_token(NULL)) return true;
+  final private boolean jj_3_1466() {
+    if (jj_scan_token(SPACE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1464() {
-    if (jj_scan_token(SPACE)) return true;
+  final private boolean jj_3_810() {
+    if (jj_scan_token(NOT)) return true;
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1463() {
+  final private boolean jj_3_1465() {
     if (jj_scan_token(SIMPLE)) return true;
     return false;
   }
 
-  final private boolean jj_3_807() {
-    if (jj_scan_token(NULL)) return true;
+  final private boolean jj_3_1464() {
+    if (jj_scan_token(SERVER_NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3_1462() {
-    if (jj_scan_token(SERVER_NAME)) return true;
+  final private boolean jj_3_809() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1461() {
+  final private boolean jj_3_1463() {
     if (jj_scan_token(SEQUENCE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1460() {
+  final private boolean jj_3_1462() {
     if (jj_scan_token(SECURITY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1459() {
+  final private boolean jj_3_1461() {
     if (jj_scan_token(SCOPE_SCHEMA)) return true;
     return false;
   }
 
-  final private boolean jj_3_1458() {
+  final private boolean jj_3_1460() {
     if (jj_scan_token(SCHEMA_NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3R_388() {
+  final private boolean jj_3_1459() {
+    if (jj_scan_token(SCALAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1457() {
-    if (jj_scan_token(SCALAR)) return true;
+  final private boolean jj_3R_388() {
     return false;
   }
 
-  final private boolean jj_3_1456() {
+  final private boolean jj_3_1458() {
     if (jj_scan_token(ROUTINE_NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3_1455() {
+  final private boolean jj_3_1457() {
     if (jj_scan_token(ROLE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1454() {
+  final private boolean jj_3_1456() {
     if (jj_scan_token(RETURNED_SQLSTATE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1453() {
+  final private boolean jj_3_1455() {
     if (jj_scan_token(RETURNED_CARDINALITY)) return true;
     return false;
   }
 
-  final private boolean jj_3_342() {
-    if (jj_scan_token(AS)) return true;
+  final private boolean jj_3_1454() {
+    if (jj_scan_token(RESPECT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1452() {
-    if (jj_scan_token(RESPECT)) return true;
+  final private boolean jj_3_344() {
+    if (jj_scan_token(AS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1451() {
+  final private boolean jj_3_1453() {
     if (jj_scan_token(RELATIVE)) return true;
     return false;
   }
 
-  final private boolean jj_3_343() {
+  final private boolean jj_3_1452() {
+    if (jj_scan_token(QUARTER)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_345() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_342()) jj_scanpos = xsp;
+    if (jj_3_344()) jj_scanpos = xsp;
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_806() {
+  final private boolean jj_3_808() {
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1450() {
-    if (jj_scan_token(QUARTER)) return true;
+  final private boolean jj_3_1451() {
+    if (jj_scan_token(PRIOR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1449() {
-    if (jj_scan_token(PRIOR)) return true;
+  final private boolean jj_3_1450() {
+    if (jj_scan_token(PLI)) return true;
     return false;
   }
 
-  final private boolean jj_3_805() {
+  final private boolean jj_3_807() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1448() {
-    if (jj_scan_token(PLI)) return true;
+  final private boolean jj_3_1449() {
+    if (jj_scan_token(PIVOT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1447() {
-    if (jj_scan_token(PIVOT)) return true;
+  final private boolean jj_3_1448() {
+    if (jj_scan_token(PASSTHROUGH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1446() {
-    if (jj_scan_token(PASSTHROUGH)) return true;
+  final private boolean jj_3_1447() {
+    if (jj_scan_token(PARTIAL)) return true;
     return false;
   }
 
@@ -35281,163 +35300,158 @@ final String p;
     if (jj_3R_163()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_343()) {
+    if (jj_3_345()) {
     jj_scanpos = xsp;
     if (jj_3R_388()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1445() {
-    if (jj_scan_token(PARTIAL)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1444() {
+  final private boolean jj_3_1446() {
     if (jj_scan_token(PARAMETER_SPECIFIC_CATALOG)) return true;
     return false;
   }
 
-  final private boolean jj_3_1443() {
+  final private boolean jj_3_1445() {
     if (jj_scan_token(PARAMETER_MODE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1442() {
+  final private boolean jj_3_1444() {
     if (jj_scan_token(OUTPUT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1441() {
+  final private boolean jj_3_1443() {
     if (jj_scan_token(ORDERING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1440() {
+  final private boolean jj_3_1442() {
     if (jj_scan_token(OCTETS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1439() {
+  final private boolean jj_3_1441() {
     if (jj_scan_token(NULLS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1438() {
+  final private boolean jj_3_1440() {
     if (jj_scan_token(NESTING)) return true;
     return false;
   }
 
-  final private boolean jj_3_804() {
-    if (jj_scan_token(ARRAY)) return true;
+  final private boolean jj_3_1439() {
+    if (jj_scan_token(NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3R_173() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_383()) return true;
+  final private boolean jj_3_806() {
+    if (jj_scan_token(ARRAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1437() {
-    if (jj_scan_token(NAME)) return true;
+  final private boolean jj_3_1438() {
+    if (jj_scan_token(MONTHS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1436() {
-    if (jj_scan_token(MONTHS)) return true;
+  final private boolean jj_3_1437() {
+    if (jj_scan_token(MILLISECOND)) return true;
     return false;
   }
 
-  final private boolean jj_3_803() {
+  final private boolean jj_3_805() {
     if (jj_scan_token(MULTISET)) return true;
     return false;
   }
 
-  final private boolean jj_3_1435() {
-    if (jj_scan_token(MILLISECOND)) return true;
+  final private boolean jj_3_1436() {
+    if (jj_scan_token(MESSAGE_TEXT)) return true;
     return false;
   }
 
-  final private boolean jj_3_339() {
+  final private boolean jj_3_341() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_191()) return true;
     return false;
   }
 
-  final private boolean jj_3_1434() {
-    if (jj_scan_token(MESSAGE_TEXT)) return true;
+  final private boolean jj_3_1435() {
+    if (jj_scan_token(MAXVALUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_341() {
+  final private boolean jj_3_343() {
     if (jj_scan_token(AS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1433() {
-    if (jj_scan_token(MAXVALUE)) return true;
+  final private boolean jj_3_1434() {
+    if (jj_scan_token(M)) return true;
     return false;
   }
 
-  final private boolean jj_3_1432() {
-    if (jj_scan_token(M)) return true;
+  final private boolean jj_3_1433() {
+    if (jj_scan_token(LEVEL)) return true;
     return false;
   }
 
   final private boolean jj_3R_281() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_803()) {
+    if (jj_3_805()) {
     jj_scanpos = xsp;
-    if (jj_3_804()) return true;
+    if (jj_3_806()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1431() {
-    if (jj_scan_token(LEVEL)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1430() {
+  final private boolean jj_3_1432() {
     if (jj_scan_token(LABEL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1429() {
+  final private boolean jj_3_1431() {
     if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1428() {
+  final private boolean jj_3_1430() {
     if (jj_scan_token(JAVA)) return true;
     return false;
   }
 
-  final private boolean jj_3_1427() {
+  final private boolean jj_3_1429() {
     if (jj_scan_token(ISODOW)) return true;
     return false;
   }
 
-  final private boolean jj_3_1426() {
-    if (jj_scan_token(INSTANCE)) return true;
+  final private boolean jj_3R_173() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_383()) return true;
     return false;
   }
 
-  final private boolean jj_3_338() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_190()) return true;
+  final private boolean jj_3_1428() {
+    if (jj_scan_token(INSTANCE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1425() {
+  final private boolean jj_3_1427() {
     if (jj_scan_token(INCREMENT)) return true;
     return false;
   }
 
-  final private boolean jj_3_28() {
-    if (jj_3R_78()) return true;
+  final private boolean jj_3_340() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_190()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1426() {
+    if (jj_scan_token(IMPLEMENTATION)) return true;
     return false;
   }
 
@@ -35446,260 +35460,255 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1424() {
-    if (jj_scan_token(IMPLEMENTATION)) return true;
+  final private boolean jj_3_1425() {
+    if (jj_scan_token(ILIKE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1423() {
-    if (jj_scan_token(ILIKE)) return true;
+  final private boolean jj_3_1424() {
+    if (jj_scan_token(HOP)) return true;
     return false;
   }
 
-  final private boolean jj_3_27() {
-    if (jj_3R_77()) return true;
+  final private boolean jj_3_1423() {
+    if (jj_scan_token(GRANTED)) return true;
     return false;
   }
 
   final private boolean jj_3_1422() {
-    if (jj_scan_token(HOP)) return true;
+    if (jj_scan_token(GEOMETRY)) return true;
     return false;
   }
 
   final private boolean jj_3_1421() {
-    if (jj_scan_token(GRANTED)) return true;
+    if (jj_scan_token(G)) return true;
     return false;
   }
 
   final private boolean jj_3_1420() {
-    if (jj_scan_token(GEOMETRY)) return true;
+    if (jj_scan_token(FORTRAN)) return true;
     return false;
   }
 
   final private boolean jj_3_1419() {
-    if (jj_scan_token(G)) return true;
+    if (jj_scan_token(FIRST)) return true;
     return false;
   }
 
   final private boolean jj_3_1418() {
-    if (jj_scan_token(FORTRAN)) return true;
-    return false;
-  }
-
-  final private boolean jj_3R_207() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_26()) {
-    jj_scanpos = xsp;
-    if (jj_3_27()) {
-    jj_scanpos = xsp;
-    if (jj_3_28()) return true;
-    }
-    }
+    if (jj_scan_token(EXCLUDE)) return true;
     return false;
   }
 
   final private boolean jj_3_1417() {
-    if (jj_scan_token(FIRST)) return true;
+    if (jj_scan_token(EPOCH)) return true;
     return false;
   }
 
-  final private boolean jj_3_26() {
-    if (jj_3R_76()) return true;
+  final private boolean jj_3_1416() {
+    if (jj_scan_token(DYNAMIC_FUNCTION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1416() {
-    if (jj_scan_token(EXCLUDE)) return true;
+  final private boolean jj_3_28() {
+    if (jj_3R_78()) return true;
     return false;
   }
 
   final private boolean jj_3_1415() {
-    if (jj_scan_token(EPOCH)) return true;
+    if (jj_scan_token(DOW)) return true;
     return false;
   }
 
   final private boolean jj_3_1414() {
-    if (jj_scan_token(DYNAMIC_FUNCTION)) return true;
+    if (jj_scan_token(DIAGNOSTICS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1413() {
-    if (jj_scan_token(DOW)) return true;
+  final private boolean jj_3_27() {
+    if (jj_3R_77()) return true;
     return false;
   }
 
-  final private boolean jj_3_1412() {
-    if (jj_scan_token(DIAGNOSTICS)) return true;
+  final private boolean jj_3_1413() {
+    if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  final private boolean jj_3_1411() {
-    if (jj_scan_token(DESC)) return true;
+  final private boolean jj_3_1412() {
+    if (jj_scan_token(DEGREE)) return true;
     return false;
   }
 
-  final private boolean jj_3_770() {
+  final private boolean jj_3_772() {
     if (jj_scan_token(DOUBLE)) return true;
     return false;
   }
 
-  final private boolean jj_3_772() {
+  final private boolean jj_3_774() {
     if (jj_scan_token(FLOAT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1410() {
-    if (jj_scan_token(DEGREE)) return true;
+  final private boolean jj_3_1411() {
+    if (jj_scan_token(DEFERRED)) return true;
     return false;
   }
 
-  final private boolean jj_3_764() {
+  final private boolean jj_3_766() {
     if (jj_scan_token(SMALLINT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1409() {
-    if (jj_scan_token(DEFERRED)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_25() {
-    if (jj_scan_token(ALL)) return true;
+  final private boolean jj_3_1410() {
+    if (jj_scan_token(DECADE)) return true;
     return false;
   }
 
-  final private boolean jj_3_760() {
+  final private boolean jj_3_762() {
     if (jj_scan_token(VARBINARY)) return true;
     return false;
   }
 
-  final private boolean jj_3_766() {
+  final private boolean jj_3_768() {
     if (jj_scan_token(BIGINT)) return true;
     return false;
   }
 
-  final private boolean jj_3_802() {
+  final private boolean jj_3_804() {
     if (jj_scan_token(SQL_INTERVAL_SECOND)) return true;
     return false;
   }
 
-  final private boolean jj_3_1408() {
-    if (jj_scan_token(DECADE)) return true;
+  final private boolean jj_3_1409() {
+    if (jj_scan_token(DAYOFWEEK)) return true;
     return false;
   }
 
-  final private boolean jj_3_340() {
+  final private boolean jj_3_342() {
     if (jj_3R_191()) return true;
     return false;
   }
 
-  final private boolean jj_3_762() {
+  final private boolean jj_3_764() {
     if (jj_scan_token(TINYINT)) return true;
     return false;
   }
 
-  final private boolean jj_3_801() {
+  final private boolean jj_3_803() {
     if (jj_scan_token(SQL_INTERVAL_MINUTE_TO_SECOND)) return true;
     return false;
   }
 
-  final private boolean jj_3_1407() {
-    if (jj_scan_token(DAYOFWEEK)) return true;
+  final private boolean jj_3R_207() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_26()) {
+    jj_scanpos = xsp;
+    if (jj_3_27()) {
+    jj_scanpos = xsp;
+    if (jj_3_28()) return true;
+    }
+    }
     return false;
   }
 
-  final private boolean jj_3_24() {
-    if (jj_3R_75()) return true;
+  final private boolean jj_3_1408() {
+    if (jj_scan_token(DATETIME_INTERVAL_CODE)) return true;
     return false;
   }
 
-  final private boolean jj_3_768() {
+  final private boolean jj_3_26() {
+    if (jj_3R_76()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_770() {
     if (jj_scan_token(REAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_800() {
+  final private boolean jj_3_802() {
     if (jj_scan_token(SQL_INTERVAL_MINUTE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1406() {
-    if (jj_scan_token(DATETIME_INTERVAL_CODE)) return true;
+  final private boolean jj_3_1407() {
+    if (jj_scan_token(DATE_DIFF)) return true;
     return false;
   }
 
-  final private boolean jj_3_799() {
+  final private boolean jj_3_801() {
     if (jj_scan_token(SQL_INTERVAL_HOUR_TO_SECOND)) return true;
     return false;
   }
 
-  final private boolean jj_3_1405() {
-    if (jj_scan_token(DATE_DIFF)) return true;
+  final private boolean jj_3_1406() {
+    if (jj_scan_token(CURSOR_NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3_756() {
+  final private boolean jj_3_758() {
     if (jj_scan_token(INTEGER)) return true;
     return false;
   }
 
-  final private boolean jj_3_758() {
+  final private boolean jj_3_760() {
     if (jj_scan_token(BINARY)) return true;
     return false;
   }
 
-  final private boolean jj_3_798() {
+  final private boolean jj_3_800() {
     if (jj_scan_token(SQL_INTERVAL_HOUR_TO_MINUTE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1404() {
-    if (jj_scan_token(CURSOR_NAME)) return true;
+  final private boolean jj_3_1405() {
+    if (jj_scan_token(CONSTRUCTOR)) return true;
     return false;
   }
 
-  final private boolean jj_3_754() {
+  final private boolean jj_3_756() {
     if (jj_scan_token(BOOLEAN)) return true;
     return false;
   }
 
-  final private boolean jj_3_797() {
+  final private boolean jj_3_799() {
     if (jj_scan_token(SQL_INTERVAL_HOUR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1403() {
-    if (jj_scan_token(CONSTRUCTOR)) return true;
+  final private boolean jj_3_1404() {
+    if (jj_scan_token(CONSTRAINT_NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3_748() {
+  final private boolean jj_3_750() {
     if (jj_scan_token(TIMESTAMP)) return true;
     return false;
   }
 
-  final private boolean jj_3_752() {
+  final private boolean jj_3_754() {
     if (jj_scan_token(NUMERIC)) return true;
     return false;
   }
 
-  final private boolean jj_3_796() {
+  final private boolean jj_3_798() {
     if (jj_scan_token(SQL_INTERVAL_DAY_TO_SECOND)) return true;
     return false;
   }
 
-  final private boolean jj_3_1402() {
-    if (jj_scan_token(CONSTRAINT_NAME)) return true;
+  final private boolean jj_3_1403() {
+    if (jj_scan_token(CONNECTION)) return true;
     return false;
   }
 
-  final private boolean jj_3_750() {
+  final private boolean jj_3_752() {
     if (jj_scan_token(DECIMAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_795() {
+  final private boolean jj_3_797() {
     if (jj_scan_token(SQL_INTERVAL_DAY_TO_MINUTE)) return true;
     return false;
   }
@@ -35710,97 +35719,117 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1401() {
-    if (jj_scan_token(CONNECTION)) return true;
+  final private boolean jj_3_1402() {
+    if (jj_scan_token(COMMITTED)) return true;
     return false;
   }
 
-  final private boolean jj_3_22() {
-    if (jj_scan_token(ALL)) return true;
+  final private boolean jj_3_796() {
+    if (jj_scan_token(SQL_INTERVAL_DAY_TO_HOUR)) return true;
     return false;
   }
 
-  final private boolean jj_3_794() {
-    if (jj_scan_token(SQL_INTERVAL_DAY_TO_HOUR)) return true;
+  final private boolean jj_3_1401() {
+    if (jj_scan_token(COLUMN_NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3_1400() {
-    if (jj_scan_token(COMMITTED)) return true;
+  final private boolean jj_3_795() {
+    if (jj_scan_token(SQL_INTERVAL_DAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_793() {
-    if (jj_scan_token(SQL_INTERVAL_DAY)) return true;
+  final private boolean jj_3_1400() {
+    if (jj_scan_token(COLLATION_CATALOG)) return true;
     return false;
   }
 
-  final private boolean jj_3_1399() {
-    if (jj_scan_token(COLUMN_NAME)) return true;
+  final private boolean jj_3_25() {
+    if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  final private boolean jj_3_792() {
+  final private boolean jj_3_794() {
     if (jj_scan_token(SQL_INTERVAL_MONTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1398() {
-    if (jj_scan_token(COLLATION_CATALOG)) return true;
+  final private boolean jj_3_1399() {
+    if (jj_scan_token(CLASS_ORIGIN)) return true;
     return false;
   }
 
-  final private boolean jj_3_742() {
+  final private boolean jj_3_744() {
     if (jj_scan_token(VARCHAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_791() {
+  final private boolean jj_3_793() {
     if (jj_scan_token(SQL_INTERVAL_YEAR_TO_MONTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1397() {
-    if (jj_scan_token(CLASS_ORIGIN)) return true;
+  final private boolean jj_3_1398() {
+    if (jj_scan_token(CHARACTER_SET_CATALOG)) return true;
     return false;
   }
 
-  final private boolean jj_3_21() {
+  final private boolean jj_3_24() {
     if (jj_3R_75()) return true;
     return false;
   }
 
-  final private boolean jj_3_746() {
+  final private boolean jj_3_748() {
     if (jj_scan_token(TIME)) return true;
     return false;
   }
 
-  final private boolean jj_3_771() {
+  final private boolean jj_3_773() {
     if (jj_scan_token(SQL_FLOAT)) return true;
     return false;
   }
 
-  final private boolean jj_3_790() {
+  final private boolean jj_3_792() {
     if (jj_scan_token(SQL_INTERVAL_YEAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1396() {
-    if (jj_scan_token(CHARACTER_SET_CATALOG)) return true;
+  final private boolean jj_3_1397() {
+    if (jj_scan_token(CHAIN)) return true;
     return false;
   }
 
-  final private boolean jj_3_744() {
+  final private boolean jj_3_746() {
     if (jj_scan_token(DATE)) return true;
     return false;
   }
 
-  final private boolean jj_3_769() {
+  final private boolean jj_3_771() {
     if (jj_scan_token(SQL_DOUBLE)) return true;
     return false;
   }
 
-  final private boolean jj_3_789() {
+  final private boolean jj_3_791() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_773()) {
+    jj_scanpos = xsp;
+    if (jj_3_774()) return true;
+    }
+    return false;
+  }
+
+  final private boolean jj_3_1396() {
+    if (jj_scan_token(CATALOG)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_769() {
+    if (jj_scan_token(SQL_REAL)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_790() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_771()) {
@@ -35811,16 +35840,21 @@ final String p;
   }
 
   final private boolean jj_3_1395() {
-    if (jj_scan_token(CHAIN)) return true;
+    if (jj_scan_token(BREADTH)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_742() {
+    if (jj_scan_token(CHAR)) return true;
     return false;
   }
 
   final private boolean jj_3_767() {
-    if (jj_scan_token(SQL_REAL)) return true;
+    if (jj_scan_token(SQL_BIGINT)) return true;
     return false;
   }
 
-  final private boolean jj_3_788() {
+  final private boolean jj_3_789() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_769()) {
@@ -35831,21 +35865,16 @@ final String p;
   }
 
   final private boolean jj_3_1394() {
-    if (jj_scan_token(CATALOG)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_740() {
-    if (jj_scan_token(CHAR)) return true;
+    if (jj_scan_token(ATTRIBUTES)) return true;
     return false;
   }
 
   final private boolean jj_3_765() {
-    if (jj_scan_token(SQL_BIGINT)) return true;
+    if (jj_scan_token(SQL_SMALLINT)) return true;
     return false;
   }
 
-  final private boolean jj_3_787() {
+  final private boolean jj_3_788() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_767()) {
@@ -35856,16 +35885,16 @@ final String p;
   }
 
   final private boolean jj_3_1393() {
-    if (jj_scan_token(BREADTH)) return true;
+    if (jj_scan_token(ASSERTION)) return true;
     return false;
   }
 
   final private boolean jj_3_763() {
-    if (jj_scan_token(SQL_SMALLINT)) return true;
+    if (jj_scan_token(SQL_TINYINT)) return true;
     return false;
   }
 
-  final private boolean jj_3_786() {
+  final private boolean jj_3_787() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_765()) {
@@ -35876,16 +35905,21 @@ final String p;
   }
 
   final private boolean jj_3_1392() {
-    if (jj_scan_token(ATTRIBUTES)) return true;
+    if (jj_scan_token(ARRAY_AGG)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_22() {
+    if (jj_scan_token(ALL)) return true;
     return false;
   }
 
   final private boolean jj_3_761() {
-    if (jj_scan_token(SQL_TINYINT)) return true;
+    if (jj_scan_token(SQL_VARBINARY)) return true;
     return false;
   }
 
-  final private boolean jj_3_785() {
+  final private boolean jj_3_786() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_763()) {
@@ -35896,16 +35930,16 @@ final String p;
   }
 
   final private boolean jj_3_1391() {
-    if (jj_scan_token(ASSERTION)) return true;
+    if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
   final private boolean jj_3_759() {
-    if (jj_scan_token(SQL_VARBINARY)) return true;
+    if (jj_scan_token(SQL_BINARY)) return true;
     return false;
   }
 
-  final private boolean jj_3_784() {
+  final private boolean jj_3_785() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_761()) {
@@ -35916,16 +35950,16 @@ final String p;
   }
 
   final private boolean jj_3_1390() {
-    if (jj_scan_token(ARRAY_AGG)) return true;
+    if (jj_scan_token(ADA)) return true;
     return false;
   }
 
   final private boolean jj_3_757() {
-    if (jj_scan_token(SQL_BINARY)) return true;
+    if (jj_scan_token(SQL_INTEGER)) return true;
     return false;
   }
 
-  final private boolean jj_3_783() {
+  final private boolean jj_3_784() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_759()) {
@@ -35936,27 +35970,16 @@ final String p;
   }
 
   final private boolean jj_3_1389() {
-    if (jj_scan_token(AFTER)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_23() {
-    if (jj_3R_75()) return true;
-    if (jj_scan_token(COMMA)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_18() {
-    if (jj_scan_token(NEXT)) return true;
+    if (jj_scan_token(ABSENT)) return true;
     return false;
   }
 
   final private boolean jj_3_755() {
-    if (jj_scan_token(SQL_INTEGER)) return true;
+    if (jj_scan_token(SQL_BOOLEAN)) return true;
     return false;
   }
 
-  final private boolean jj_3_782() {
+  final private boolean jj_3_783() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_757()) {
@@ -35966,17 +35989,17 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1388() {
-    if (jj_scan_token(ADA)) return true;
+  final private boolean jj_3_21() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
   final private boolean jj_3_753() {
-    if (jj_scan_token(SQL_BOOLEAN)) return true;
+    if (jj_scan_token(SQL_NUMERIC)) return true;
     return false;
   }
 
-  final private boolean jj_3_781() {
+  final private boolean jj_3_782() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_755()) {
@@ -35986,17 +36009,12 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1387() {
-    if (jj_scan_token(ABSENT)) return true;
-    return false;
-  }
-
   final private boolean jj_3_751() {
-    if (jj_scan_token(SQL_NUMERIC)) return true;
+    if (jj_scan_token(SQL_DECIMAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_780() {
+  final private boolean jj_3_781() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_753()) {
@@ -36007,11 +36025,11 @@ final String p;
   }
 
   final private boolean jj_3_749() {
-    if (jj_scan_token(SQL_DECIMAL)) return true;
+    if (jj_scan_token(SQL_TIMESTAMP)) return true;
     return false;
   }
 
-  final private boolean jj_3_779() {
+  final private boolean jj_3_780() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_751()) {
@@ -36022,11 +36040,11 @@ final String p;
   }
 
   final private boolean jj_3_747() {
-    if (jj_scan_token(SQL_TIMESTAMP)) return true;
+    if (jj_scan_token(SQL_TIME)) return true;
     return false;
   }
 
-  final private boolean jj_3_778() {
+  final private boolean jj_3_779() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_749()) {
@@ -36036,43 +36054,9 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_745() {
-    if (jj_scan_token(SQL_TIME)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_777() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_747()) {
-    jj_scanpos = xsp;
-    if (jj_3_748()) return true;
-    }
-    return false;
-  }
-
-  final private boolean jj_3_743() {
-    if (jj_scan_token(SQL_DATE)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_776() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_745()) {
-    jj_scanpos = xsp;
-    if (jj_3_746()) return true;
-    }
-    return false;
-  }
-
   final private boolean jj_3R_346() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1387()) {
-    jj_scanpos = xsp;
-    if (jj_3_1388()) {
-    jj_scanpos = xsp;
     if (jj_3_1389()) {
     jj_scanpos = xsp;
     if (jj_3_1390()) {
@@ -36511,7 +36495,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_1607()) {
     jj_scanpos = xsp;
-    if (jj_3_1608()) return true;
+    if (jj_3_1608()) {
+    jj_scanpos = xsp;
+    if (jj_3_1609()) {
+    jj_scanpos = xsp;
+    if (jj_3_1610()) return true;
     }
     }
     }
@@ -36736,46 +36724,57 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3R_73() {
-    if (jj_scan_token(LIMIT)) return true;
+  final private boolean jj_3_745() {
+    if (jj_scan_token(SQL_DATE)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_778() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_23()) {
-    jj_scanpos = xsp;
-    if (jj_3_24()) {
+    if (jj_3_747()) {
     jj_scanpos = xsp;
-    if (jj_3_25()) return true;
-    }
+    if (jj_3_748()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_734() {
+  final private boolean jj_3_736() {
     if (jj_scan_token(NUMERIC)) return true;
     return false;
   }
 
-  final private boolean jj_3_741() {
+  final private boolean jj_3_743() {
     if (jj_scan_token(SQL_VARCHAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_775() {
+  final private boolean jj_3_777() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_743()) {
+    if (jj_3_745()) {
     jj_scanpos = xsp;
-    if (jj_3_744()) return true;
+    if (jj_3_746()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_739() {
+  final private boolean jj_3_741() {
     if (jj_scan_token(SQL_CHAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_774() {
+  final private boolean jj_3_776() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_743()) {
+    jj_scanpos = xsp;
+    if (jj_3_744()) return true;
+    }
+    return false;
+  }
+
+  final private boolean jj_3_775() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_741()) {
@@ -36785,33 +36784,29 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_20() {
-    if (jj_scan_token(ROWS)) return true;
+  final private boolean jj_3_23() {
+    if (jj_3R_75()) return true;
+    if (jj_scan_token(COMMA)) return true;
     return false;
   }
 
-  final private boolean jj_3_773() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_739()) {
-    jj_scanpos = xsp;
-    if (jj_3_740()) return true;
-    }
+  final private boolean jj_3_18() {
+    if (jj_scan_token(NEXT)) return true;
     return false;
   }
 
-  final private boolean jj_3_17() {
-    if (jj_scan_token(FIRST)) return true;
+  final private boolean jj_3_1388() {
+    if (jj_scan_token(FRIDAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1386() {
-    if (jj_scan_token(SATURDAY)) return true;
+  final private boolean jj_3_1387() {
+    if (jj_scan_token(TUESDAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1385() {
-    if (jj_scan_token(WEDNESDAY)) return true;
+  final private boolean jj_3_1386() {
+    if (jj_scan_token(WITHOUT)) return true;
     return false;
   }
 
@@ -36821,232 +36816,250 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1384() {
-    if (jj_scan_token(YEAR)) return true;
+  final private boolean jj_3_1385() {
+    if (jj_scan_token(WIDTH_BUCKET)) return true;
     return false;
   }
 
-  final private boolean jj_3_1383() {
-    if (jj_scan_token(WINDOW)) return true;
+  final private boolean jj_3_1384() {
+    if (jj_scan_token(VAR_SAMP)) return true;
     return false;
   }
 
-  final private boolean jj_3_733() {
+  final private boolean jj_3_735() {
     if (jj_scan_token(DEC)) return true;
     return false;
   }
 
-  final private boolean jj_3_1382() {
-    if (jj_scan_token(VERSIONING)) return true;
+  final private boolean jj_3_1383() {
+    if (jj_scan_token(VARCHAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_737() {
+  final private boolean jj_3_739() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_291()) return true;
     return false;
   }
 
-  final private boolean jj_3_1381() {
-    if (jj_scan_token(VARYING)) return true;
+  final private boolean jj_3R_73() {
+    if (jj_scan_token(LIMIT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_23()) {
+    jj_scanpos = xsp;
+    if (jj_3_24()) {
+    jj_scanpos = xsp;
+    if (jj_3_25()) return true;
+    }
+    }
     return false;
   }
 
-  final private boolean jj_3_19() {
-    if (jj_scan_token(ROW)) return true;
+  final private boolean jj_3_1382() {
+    if (jj_scan_token(VALUE_OF)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1381() {
+    if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
   final private boolean jj_3_1380() {
-    if (jj_scan_token(VARBINARY)) return true;
+    if (jj_scan_token(UNKNOWN)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_20() {
+    if (jj_scan_token(ROWS)) return true;
     return false;
   }
 
   final private boolean jj_3_1379() {
-    if (jj_scan_token(UUID)) return true;
+    if (jj_scan_token(TRY_CAST)) return true;
     return false;
   }
 
-  final private boolean jj_3R_74() {
-    if (jj_scan_token(FETCH)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_17()) {
-    jj_scanpos = xsp;
-    if (jj_3_18()) return true;
-    }
+  final private boolean jj_3_17() {
+    if (jj_scan_token(FIRST)) return true;
     return false;
   }
 
   final private boolean jj_3_1378() {
-    if (jj_scan_token(UNSIGNED)) return true;
+    if (jj_scan_token(TRIM)) return true;
     return false;
   }
 
   final private boolean jj_3_1377() {
-    if (jj_scan_token(UESCAPE)) return true;
+    if (jj_scan_token(TRANSLATION)) return true;
     return false;
   }
 
   final private boolean jj_3_1376() {
-    if (jj_scan_token(TRIM_ARRAY)) return true;
+    if (jj_scan_token(TINYINT)) return true;
     return false;
   }
 
-  final private boolean jj_3_15() {
-    if (jj_scan_token(ROWS)) return true;
+  final private boolean jj_3_740() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_264()) return true;
     return false;
   }
 
   final private boolean jj_3_1375() {
-    if (jj_scan_token(TREAT)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_738() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_264()) return true;
+    if (jj_scan_token(TIMESTAMP)) return true;
     return false;
   }
 
   final private boolean jj_3_1374() {
-    if (jj_scan_token(TRANSLATE)) return true;
+    if (jj_scan_token(SYSTEM_USER)) return true;
     return false;
   }
 
   final private boolean jj_3_1373() {
-    if (jj_scan_token(TIMEZONE_HOUR)) return true;
+    if (jj_scan_token(SUM)) return true;
     return false;
   }
 
-  final private boolean jj_3_1372() {
-    if (jj_scan_token(TABLESAMPLE)) return true;
+  final private boolean jj_3_738() {
+    if (jj_scan_token(ANY)) return true;
     return false;
   }
 
-  final private boolean jj_3_736() {
-    if (jj_scan_token(ANY)) return true;
+  final private boolean jj_3_1372() {
+    if (jj_scan_token(SUBSTRING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1371() {
-    if (jj_scan_token(SYSTEM)) return true;
+  final private boolean jj_3_19() {
+    if (jj_scan_token(ROW)) return true;
     return false;
   }
 
-  final private boolean jj_3_732() {
+  final private boolean jj_3_734() {
     if (jj_scan_token(DECIMAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1370() {
-    if (jj_scan_token(SUBSTRING_REGEX)) return true;
+  final private boolean jj_3_1371() {
+    if (jj_scan_token(STREAM)) return true;
     return false;
   }
 
-  final private boolean jj_3_735() {
+  final private boolean jj_3_737() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_732()) {
+    if (jj_3_734()) {
     jj_scanpos = xsp;
-    if (jj_3_733()) {
+    if (jj_3_735()) {
     jj_scanpos = xsp;
-    if (jj_3_734()) return true;
+    if (jj_3_736()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3_1369() {
-    if (jj_scan_token(SUBMULTISET)) return true;
+  final private boolean jj_3_1370() {
+    if (jj_scan_token(STATIC)) return true;
     return false;
   }
 
-  final private boolean jj_3_1368() {
-    if (jj_scan_token(STDDEV_POP)) return true;
+  final private boolean jj_3R_74() {
+    if (jj_scan_token(FETCH)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_17()) {
+    jj_scanpos = xsp;
+    if (jj_3_18()) return true;
+    }
     return false;
   }
 
-  final private boolean jj_3_14() {
-    if (jj_scan_token(ROW)) return true;
+  final private boolean jj_3_1369() {
+    if (jj_scan_token(SQLWARNING)) return true;
     return false;
   }
 
-  final private boolean jj_3_16() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_14()) {
-    jj_scanpos = xsp;
-    if (jj_3_15()) return true;
-    }
+  final private boolean jj_3_1368() {
+    if (jj_scan_token(SQL)) return true;
     return false;
   }
 
   final private boolean jj_3_1367() {
-    if (jj_scan_token(SQRT)) return true;
+    if (jj_scan_token(SMALLINT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1366() {
-    if (jj_scan_token(SQLEXCEPTION)) return true;
+  final private boolean jj_3_15() {
+    if (jj_scan_token(ROWS)) return true;
     return false;
   }
 
   final private boolean jj_3R_287() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_735()) {
+    if (jj_3_737()) {
     jj_scanpos = xsp;
-    if (jj_3_736()) return true;
+    if (jj_3_738()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_738()) jj_scanpos = xsp;
+    if (jj_3_740()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_1365() {
-    if (jj_scan_token(SPECIFIC)) return true;
+  final private boolean jj_3_1366() {
+    if (jj_scan_token(SHOW)) return true;
     return false;
   }
 
-  final private boolean jj_3R_72() {
-    if (jj_scan_token(OFFSET)) return true;
-    if (jj_3R_75()) return true;
+  final private boolean jj_3_1365() {
+    if (jj_scan_token(SEEK)) return true;
     return false;
   }
 
   final private boolean jj_3_1364() {
-    if (jj_scan_token(SIMILAR)) return true;
+    if (jj_scan_token(SCROLL)) return true;
     return false;
   }
 
   final private boolean jj_3_1363() {
-    if (jj_scan_token(SENSITIVE)) return true;
+    if (jj_scan_token(SAFE_ORDINAL)) return true;
     return false;
   }
 
   final private boolean jj_3_1362() {
-    if (jj_scan_token(SEARCH)) return true;
+    if (jj_scan_token(RUNNING)) return true;
     return false;
   }
 
   final private boolean jj_3_1361() {
-    if (jj_scan_token(SAVEPOINT)) return true;
+    if (jj_scan_token(ROLLUP)) return true;
     return false;
   }
 
   final private boolean jj_3_1360() {
-    if (jj_scan_token(SAFE_CAST)) return true;
+    if (jj_scan_token(RETURNS)) return true;
     return false;
   }
 
   final private boolean jj_3_1359() {
-    if (jj_scan_token(ROWS)) return true;
+    if (jj_scan_token(RESET)) return true;
     return false;
   }
 
-  final private boolean jj_3_1358() {
-    if (jj_scan_token(REVOKE)) return true;
+  final private boolean jj_3_14() {
+    if (jj_scan_token(ROW)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_16() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_14()) {
+    jj_scanpos = xsp;
+    if (jj_3_15()) return true;
+    }
     return false;
   }
 
@@ -37055,407 +37068,386 @@ final String p;
     return false;
   }
 
+  final private boolean jj_3_1358() {
+    if (jj_scan_token(REGR_SXY)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1357() {
-    if (jj_scan_token(RESULT)) return true;
+    if (jj_scan_token(REGR_R2)) return true;
     return false;
   }
 
   final private boolean jj_3_1356() {
-    if (jj_scan_token(REGR_SYY)) return true;
+    if (jj_scan_token(REGR_AVGY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1355() {
-    if (jj_scan_token(REGR_SLOPE)) return true;
+  final private boolean jj_3R_290() {
     return false;
   }
 
-  final private boolean jj_3R_290() {
+  final private boolean jj_3R_72() {
+    if (jj_scan_token(OFFSET)) return true;
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  final private boolean jj_3_1354() {
-    if (jj_scan_token(REGR_COUNT)) return true;
+  final private boolean jj_3_1355() {
+    if (jj_scan_token(REFERENCES)) return true;
     return false;
   }
 
-  final private boolean jj_3_1353() {
-    if (jj_scan_token(REFERENCING)) return true;
+  final private boolean jj_3_1354() {
+    if (jj_scan_token(REAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_731() {
+  final private boolean jj_3_733() {
     if (jj_scan_token(VARBINARY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1352() {
-    if (jj_scan_token(RECURSIVE)) return true;
+  final private boolean jj_3_1353() {
+    if (jj_scan_token(RANGE)) return true;
     return false;
   }
 
-  final private boolean jj_3_729() {
+  final private boolean jj_3_731() {
     if (jj_scan_token(VARYING)) return true;
     return false;
   }
 
+  final private boolean jj_3_1352() {
+    if (jj_scan_token(PREV)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1351() {
-    if (jj_scan_token(RANK)) return true;
+    if (jj_scan_token(PRECEDES)) return true;
     return false;
   }
 
   final private boolean jj_3_1350() {
-    if (jj_scan_token(PROCEDURE)) return true;
+    if (jj_scan_token(POSITION)) return true;
     return false;
   }
 
   final private boolean jj_3_1349() {
-    if (jj_scan_token(PRECISION)) return true;
+    if (jj_scan_token(PERIOD)) return true;
     return false;
   }
 
   final private boolean jj_3_1348() {
-    if (jj_scan_token(POSITION_REGEX)) return true;
+    if (jj_scan_token(PERCENTILE_CONT)) return true;
     return false;
   }
 
   final private boolean jj_3_1347() {
-    if (jj_scan_token(PERMUTE)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1346() {
-    if (jj_scan_token(PERCENTILE_DISC)) return true;
+    if (jj_scan_token(PATTERN)) return true;
     return false;
   }
 
-  final private boolean jj_3_730() {
+  final private boolean jj_3_732() {
     if (jj_scan_token(BINARY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_729()) {
+    if (jj_3_731()) {
     jj_scanpos = xsp;
     if (jj_3R_290()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1345() {
-    if (jj_scan_token(PER)) return true;
+  final private boolean jj_3_1346() {
+    if (jj_scan_token(OVERLAPS)) return true;
     return false;
   }
 
-  final private boolean jj_3_336() {
+  final private boolean jj_3_338() {
     if (jj_scan_token(NULLS)) return true;
     if (jj_scan_token(LAST)) return true;
     return false;
   }
 
-  final private boolean jj_3_1344() {
-    if (jj_scan_token(OVERLAY)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1343() {
-    if (jj_scan_token(OUT)) return true;
+  final private boolean jj_3_1345() {
+    if (jj_scan_token(ORDINAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1342() {
-    if (jj_scan_token(ONLY)) return true;
+  final private boolean jj_3_1344() {
+    if (jj_scan_token(ONE)) return true;
     return false;
   }
 
-  final private boolean jj_3_8() {
-    if (jj_3R_74()) return true;
+  final private boolean jj_3_1343() {
+    if (jj_scan_token(OF)) return true;
     return false;
   }
 
   final private boolean jj_3R_286() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_730()) {
+    if (jj_3_732()) {
     jj_scanpos = xsp;
-    if (jj_3_731()) return true;
+    if (jj_3_733()) return true;
     }
     if (jj_3R_263()) return true;
     return false;
   }
 
-  final private boolean jj_3_1341() {
-    if (jj_scan_token(OLD)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_12() {
-    if (jj_3R_74()) return true;
+  final private boolean jj_3_1342() {
+    if (jj_scan_token(NUMERIC)) return true;
     return false;
   }
 
-  final private boolean jj_3_1340() {
-    if (jj_scan_token(OCCURRENCES_REGEX)) return true;
+  final private boolean jj_3_1341() {
+    if (jj_scan_token(NTH_VALUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_337() {
+  final private boolean jj_3_339() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_335()) {
+    if (jj_3_337()) {
     jj_scanpos = xsp;
-    if (jj_3_336()) return true;
+    if (jj_3_338()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_335() {
+  final private boolean jj_3_337() {
     if (jj_scan_token(NULLS)) return true;
     if (jj_scan_token(FIRST)) return true;
     return false;
   }
 
+  final private boolean jj_3_1340() {
+    if (jj_scan_token(NO)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1339() {
-    if (jj_scan_token(NTILE)) return true;
+    if (jj_scan_token(NCLOB)) return true;
     return false;
   }
 
   final private boolean jj_3_1338() {
-    if (jj_scan_token(NONE)) return true;
+    if (jj_scan_token(MULTISET)) return true;
     return false;
   }
 
   final private boolean jj_3_1337() {
-    if (jj_scan_token(NEW)) return true;
+    if (jj_scan_token(MODIFIES)) return true;
     return false;
   }
 
-  final private boolean jj_3_1336() {
-    if (jj_scan_token(NATIONAL)) return true;
+  final private boolean jj_3R_189() {
+    if (jj_3R_374()) return true;
     return false;
   }
 
-  final private boolean jj_3R_189() {
-    if (jj_3R_374()) return true;
+  final private boolean jj_3_1336() {
+    if (jj_scan_token(MIN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1335() {
-    if (jj_scan_token(MODULE)) return true;
+  final private boolean jj_3_335() {
+    if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  final private boolean jj_3_7() {
-    if (jj_3R_73()) return true;
+  final private boolean jj_3_1335() {
+    if (jj_scan_token(MEASURES)) return true;
     return false;
   }
 
-  final private boolean jj_3_9() {
+  final private boolean jj_3_336() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_7()) {
+    if (jj_3_334()) {
     jj_scanpos = xsp;
-    if (jj_3_8()) return true;
+    if (jj_3_335()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_333() {
-    if (jj_scan_token(DESC)) return true;
+  final private boolean jj_3_334() {
+    if (jj_scan_token(ASC)) return true;
     return false;
   }
 
   final private boolean jj_3_1334() {
-    if (jj_scan_token(MINUTE)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_334() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_332()) {
-    jj_scanpos = xsp;
-    if (jj_3_333()) return true;
-    }
+    if (jj_scan_token(MATCH_RECOGNIZE)) return true;
     return false;
   }
 
   final private boolean jj_3_332() {
-    if (jj_scan_token(ASC)) return true;
+    if (jj_3R_85()) return true;
     return false;
   }
 
   final private boolean jj_3_1333() {
-    if (jj_scan_token(MEMBER)) return true;
+    if (jj_scan_token(MATCHES)) return true;
     return false;
   }
 
-  final private boolean jj_3_330() {
-    if (jj_3R_85()) return true;
+  final private boolean jj_3_8() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
   final private boolean jj_3_1332() {
-    if (jj_scan_token(MAX)) return true;
+    if (jj_scan_token(LOCAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1331() {
-    if (jj_scan_token(MATCH_CONDITION)) return true;
+  final private boolean jj_3_12() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
-  final private boolean jj_3_728() {
+  final private boolean jj_3_730() {
     if (jj_scan_token(UUID)) return true;
     return false;
   }
 
-  final private boolean jj_3_1330() {
-    if (jj_scan_token(LOWER)) return true;
+  final private boolean jj_3_1331() {
+    if (jj_scan_token(LEAD)) return true;
     return false;
   }
 
-  final private boolean jj_3_1329() {
-    if (jj_scan_token(LIKE_REGEX)) return true;
+  final private boolean jj_3_1330() {
+    if (jj_scan_token(LARGE)) return true;
     return false;
   }
 
-  final private boolean jj_3_6() {
-    if (jj_3R_72()) return true;
+  final private boolean jj_3_729() {
+    if (jj_scan_token(VARIANT)) return true;
     return false;
   }
 
-  final private boolean jj_3_11() {
-    if (jj_3R_72()) return true;
+  final private boolean jj_3_1329() {
+    if (jj_scan_token(JSON_VALUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_727() {
-    if (jj_scan_token(VARIANT)) return true;
+  final private boolean jj_3_1328() {
+    if (jj_scan_token(JSON_OBJECTAGG)) return true;
     return false;
   }
 
-  final private boolean jj_3_1328() {
-    if (jj_scan_token(LAST_VALUE)) return true;
+  final private boolean jj_3_718() {
+    if (jj_scan_token(PRECISION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1327() {
-    if (jj_scan_token(LAG)) return true;
+  final private boolean jj_3_728() {
+    if (jj_scan_token(FLOAT)) return true;
     return false;
   }
 
-  final private boolean jj_3_716() {
-    if (jj_scan_token(PRECISION)) return true;
+  final private boolean jj_3_1327() {
+    if (jj_scan_token(JSON_ARRAYAGG)) return true;
     return false;
   }
 
-  final private boolean jj_3_726() {
-    if (jj_scan_token(FLOAT)) return true;
+  final private boolean jj_3_717() {
+    if (jj_scan_token(UNSIGNED)) return true;
     return false;
   }
 
   final private boolean jj_3_1326() {
-    if (jj_scan_token(JSON_QUERY)) return true;
+    if (jj_scan_token(INTEGER)) return true;
     return false;
   }
 
-  final private boolean jj_3_10() {
+  final private boolean jj_3_7() {
     if (jj_3R_73()) return true;
     return false;
   }
 
-  final private boolean jj_3_13() {
+  final private boolean jj_3_9() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_10()) {
-    jj_scanpos = xsp;
-    if (jj_3_11()) {
+    if (jj_3_7()) {
     jj_scanpos = xsp;
-    if (jj_3_12()) return true;
-    }
+    if (jj_3_8()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_715() {
-    if (jj_scan_token(UNSIGNED)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1325() {
-    if (jj_scan_token(JSON_EXISTS)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_331() {
+  final private boolean jj_3_333() {
     if (jj_scan_token(AS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_330()) {
+    if (jj_3_332()) {
     jj_scanpos = xsp;
     if (jj_3R_189()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1324() {
-    if (jj_scan_token(INTERSECTION)) return true;
+  final private boolean jj_3_1325() {
+    if (jj_scan_token(INOUT)) return true;
     return false;
   }
 
-  final private boolean jj_3_725() {
+  final private boolean jj_3_727() {
     if (jj_scan_token(DOUBLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_716()) jj_scanpos = xsp;
+    if (jj_3_718()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3R_418() {
+  final private boolean jj_3_1324() {
+    if (jj_scan_token(IMPORT)) return true;
     return false;
   }
 
   final private boolean jj_3_1323() {
-    if (jj_scan_token(INSENSITIVE)) return true;
+    if (jj_scan_token(HOLD)) return true;
     return false;
   }
 
-  final private boolean jj_3_1322() {
-    if (jj_scan_token(INDICATOR)) return true;
+  final private boolean jj_3_726() {
+    if (jj_scan_token(REAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_5() {
-    if (jj_3R_71()) return true;
+  final private boolean jj_3_1322() {
+    if (jj_scan_token(GRANT)) return true;
     return false;
   }
 
-  final private boolean jj_3_724() {
-    if (jj_scan_token(REAL)) return true;
+  final private boolean jj_3_716() {
+    if (jj_scan_token(UNSIGNED)) return true;
     return false;
   }
 
   final private boolean jj_3_1321() {
-    if (jj_scan_token(HOUR)) return true;
+    if (jj_scan_token(FUSION)) return true;
     return false;
   }
 
-  final private boolean jj_3_714() {
-    if (jj_scan_token(UNSIGNED)) return true;
+  final private boolean jj_3_1320() {
+    if (jj_scan_token(FRAME_ROW)) return true;
     return false;
   }
 
-  final private boolean jj_3_1320() {
-    if (jj_scan_token(GROUPING)) return true;
+  final private boolean jj_3_6() {
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  final private boolean jj_3_1319() {
-    if (jj_scan_token(GET)) return true;
+  final private boolean jj_3_11() {
+    if (jj_3R_72()) return true;
     return false;
   }
 
-  final private boolean jj_3_1318() {
-    if (jj_scan_token(FREE)) return true;
+  final private boolean jj_3_1319() {
+    if (jj_scan_token(FLOAT)) return true;
     return false;
   }
 
@@ -37463,296 +37455,323 @@ final String p;
     if (jj_3R_82()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_331()) jj_scanpos = xsp;
+    if (jj_3_333()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3_334()) jj_scanpos = xsp;
+    if (jj_3_336()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3_337()) jj_scanpos = xsp;
+    if (jj_3_339()) jj_scanpos = xsp;
+    return false;
+  }
+
+  final private boolean jj_3_1318() {
+    if (jj_scan_token(EXTRACT)) return true;
     return false;
   }
 
   final private boolean jj_3_1317() {
-    if (jj_scan_token(FLOOR)) return true;
+    if (jj_scan_token(EXP)) return true;
     return false;
   }
 
-  final private boolean jj_3_1316() {
-    if (jj_scan_token(FILTER)) return true;
+  final private boolean jj_3_10() {
+    if (jj_3R_73()) return true;
     return false;
   }
 
-  final private boolean jj_3R_352() {
+  final private boolean jj_3_13() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_5()) {
+    if (jj_3_10()) {
     jj_scanpos = xsp;
-    if (jj_3R_418()) return true;
+    if (jj_3_11()) {
+    jj_scanpos = xsp;
+    if (jj_3_12()) return true;
+    }
     }
-    xsp = jj_scanpos;
-    if (jj_3_13()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_1315() {
-    if (jj_scan_token(EXTEND)) return true;
+  final private boolean jj_3_1316() {
+    if (jj_scan_token(EVERY)) return true;
     return false;
   }
 
-  final private boolean jj_3_723() {
+  final private boolean jj_3_725() {
     if (jj_scan_token(BIGINT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_715()) jj_scanpos = xsp;
+    if (jj_3_717()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_1314() {
-    if (jj_scan_token(EXEC)) return true;
+  final private boolean jj_3_1315() {
+    if (jj_scan_token(END_PARTITION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1313() {
-    if (jj_scan_token(EQUALS)) return true;
+  final private boolean jj_3R_418() {
     return false;
   }
 
-  final private boolean jj_3_713() {
+  final private boolean jj_3_1314() {
+    if (jj_scan_token(END)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_715() {
     if (jj_scan_token(UNSIGNED)) return true;
     return false;
   }
 
-  final private boolean jj_3_1312() {
-    if (jj_scan_token(END_EXEC)) return true;
+  final private boolean jj_3_1313() {
+    if (jj_scan_token(EACH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1311() {
-    if (jj_scan_token(ELEMENT)) return true;
+  final private boolean jj_3_5() {
+    if (jj_3R_71()) return true;
     return false;
   }
 
-  final private boolean jj_3_712() {
+  final private boolean jj_3_1312() {
+    if (jj_scan_token(DISCONNECT)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_714() {
     if (jj_scan_token(UNSIGNED)) return true;
     return false;
   }
 
-  final private boolean jj_3_1310() {
-    if (jj_scan_token(DOUBLE)) return true;
+  final private boolean jj_3_1311() {
+    if (jj_scan_token(DESCRIBE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1309() {
-    if (jj_scan_token(DETERMINISTIC)) return true;
+  final private boolean jj_3_1310() {
+    if (jj_scan_token(DEFINE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1308() {
-    if (jj_scan_token(DENSE_RANK)) return true;
+  final private boolean jj_3_1309() {
+    if (jj_scan_token(DEC)) return true;
     return false;
   }
 
-  final private boolean jj_3_329() {
+  final private boolean jj_3_331() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_157()) return true;
     return false;
   }
 
-  final private boolean jj_3_722() {
+  final private boolean jj_3_724() {
     if (jj_scan_token(SMALLINT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_714()) jj_scanpos = xsp;
+    if (jj_3_716()) jj_scanpos = xsp;
+    return false;
+  }
+
+  final private boolean jj_3_1308() {
+    if (jj_scan_token(DATETIME)) return true;
     return false;
   }
 
   final private boolean jj_3_1307() {
-    if (jj_scan_token(DECIMAL)) return true;
+    if (jj_scan_token(CURSOR)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_352() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_5()) {
+    jj_scanpos = xsp;
+    if (jj_3R_418()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3_13()) jj_scanpos = xsp;
     return false;
   }
 
   final private boolean jj_3_1306() {
-    if (jj_scan_token(DAY)) return true;
+    if (jj_scan_token(CURRENT_ROLE)) return true;
     return false;
   }
 
   final private boolean jj_3_1305() {
-    if (jj_scan_token(CYCLE)) return true;
+    if (jj_scan_token(CURRENT_CATALOG)) return true;
     return false;
   }
 
   final private boolean jj_3_1304() {
-    if (jj_scan_token(CURRENT_ROW)) return true;
+    if (jj_scan_token(CUBE)) return true;
     return false;
   }
 
   final private boolean jj_3_1303() {
-    if (jj_scan_token(CURRENT_DEFAULT_TRANSFORM_GROUP)) return true;
+    if (jj_scan_token(COUNT)) return true;
     return false;
   }
 
   final private boolean jj_3_1302() {
-    if (jj_scan_token(CUME_DIST)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1301() {
-    if (jj_scan_token(COVAR_POP)) return true;
+    if (jj_scan_token(CONVERT)) return true;
     return false;
   }
 
-  final private boolean jj_3_711() {
+  final private boolean jj_3_713() {
     if (jj_scan_token(INT)) return true;
     return false;
   }
 
-  final private boolean jj_3_721() {
+  final private boolean jj_3_723() {
     if (jj_scan_token(TINYINT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_713()) jj_scanpos = xsp;
+    if (jj_3_715()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_1300() {
-    if (jj_scan_token(CORR)) return true;
+  final private boolean jj_3_1301() {
+    if (jj_scan_token(CONDITION)) return true;
     return false;
   }
 
-  final private boolean jj_3R_80() {
-    if (jj_3R_351()) return true;
-    if (jj_3R_352()) return true;
+  final private boolean jj_3_1300() {
+    if (jj_scan_token(COLLATE)) return true;
     return false;
   }
 
   final private boolean jj_3_1299() {
-    if (jj_scan_token(CONNECT)) return true;
+    if (jj_scan_token(CLOB)) return true;
     return false;
   }
 
   final private boolean jj_3_1298() {
-    if (jj_scan_token(COLLECT)) return true;
+    if (jj_scan_token(CHAR_LENGTH)) return true;
     return false;
   }
 
   final private boolean jj_3_1297() {
-    if (jj_scan_token(CLOSE)) return true;
+    if (jj_scan_token(CHAR)) return true;
     return false;
   }
 
   final private boolean jj_3_1296() {
-    if (jj_scan_token(CHECK)) return true;
+    if (jj_scan_token(CASCADED)) return true;
     return false;
   }
 
   final private boolean jj_3_1295() {
-    if (jj_scan_token(CHARACTER)) return true;
+    if (jj_scan_token(CALL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1294() {
-    if (jj_scan_token(CEIL)) return true;
+  final private boolean jj_3_722() {
+    if (jj_scan_token(UNSIGNED)) return true;
     return false;
   }
 
-  final private boolean jj_3_720() {
-    if (jj_scan_token(UNSIGNED)) return true;
+  final private boolean jj_3_1294() {
+    if (jj_scan_token(BIT)) return true;
     return false;
   }
 
   final private boolean jj_3_1293() {
-    if (jj_scan_token(CALLED)) return true;
+    if (jj_scan_token(BEGIN_PARTITION)) return true;
     return false;
   }
 
   final private boolean jj_3_1292() {
-    if (jj_scan_token(BLOB)) return true;
+    if (jj_scan_token(AVG)) return true;
     return false;
   }
 
   final private boolean jj_3_1291() {
-    if (jj_scan_token(BIGINT)) return true;
+    if (jj_scan_token(AT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1290() {
-    if (jj_scan_token(BEGIN)) return true;
+  final private boolean jj_3R_80() {
+    if (jj_3R_351()) return true;
+    if (jj_3R_352()) return true;
     return false;
   }
 
-  final private boolean jj_3_1289() {
-    if (jj_scan_token(ATOMIC)) return true;
+  final private boolean jj_3_1290() {
+    if (jj_scan_token(ARRAY_MAX_CARDINALITY)) return true;
     return false;
   }
 
-  final private boolean jj_3_710() {
+  final private boolean jj_3_712() {
     if (jj_scan_token(INTEGER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1288() {
-    if (jj_scan_token(ASENSITIVE)) return true;
+  final private boolean jj_3_1289() {
+    if (jj_scan_token(ALLOCATE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1287() {
-    if (jj_scan_token(ALLOW)) return true;
+  final private boolean jj_3_1288() {
+    if (jj_scan_token(MAX_CHANGED_PARTITION_ROWS_PERCENT)) return true;
     return false;
   }
 
-  final private boolean jj_3_719() {
+  final private boolean jj_3_721() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_710()) {
+    if (jj_3_712()) {
     jj_scanpos = xsp;
-    if (jj_3_711()) return true;
+    if (jj_3_713()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_712()) jj_scanpos = xsp;
+    if (jj_3_714()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_1286() {
-    if (jj_scan_token(TOTAL)) return true;
+  final private boolean jj_3_1287() {
+    if (jj_scan_token(STATISTICS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1285() {
-    if (jj_scan_token(REFRESH)) return true;
+  final private boolean jj_3_1286() {
+    if (jj_scan_token(COMPUTE)) return true;
     return false;
   }
 
-  final private boolean jj_3_718() {
+  final private boolean jj_3_720() {
     if (jj_scan_token(BOOLEAN)) return true;
     return false;
   }
 
+  final private boolean jj_3_1285() {
+    if (jj_scan_token(SCAN)) return true;
+    return false;
+  }
+
   final private boolean jj_3_1284() {
-    if (jj_scan_token(ASYNC)) return true;
+    if (jj_scan_token(NOLOGGING)) return true;
     return false;
   }
 
   final private boolean jj_3_1283() {
-    if (jj_scan_token(CONTINUOUS)) return true;
+    if (jj_scan_token(INLINE_SIZE)) return true;
     return false;
   }
 
   final private boolean jj_3_1282() {
-    if (jj_scan_token(PASSWORD)) return true;
+    if (jj_scan_token(WRAP_VALUE)) return true;
     return false;
   }
 
   final private boolean jj_3_1281() {
-    if (jj_scan_token(INLINE_SIZE)) return true;
+    if (jj_scan_token(DATA_REGION)) return true;
     return false;
   }
 
   final private boolean jj_3_1280() {
-    if (jj_scan_token(WRAP_VALUE)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1279() {
-    if (jj_scan_token(DATA_REGION)) return true;
+    if (jj_scan_token(WRITE_SYNCHRONIZATION_MODE)) return true;
     return false;
   }
 
@@ -37762,48 +37781,44 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1278() {
-    if (jj_scan_token(WRITE_SYNCHRONIZATION_MODE)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1277() {
+  final private boolean jj_3_1279() {
     if (jj_scan_token(BACKUPS)) return true;
     return false;
   }
 
-  final private boolean jj_3_717() {
-    if (jj_scan_token(GEOMETRY)) return true;
+  final private boolean jj_3_1278() {
+    if (jj_scan_token(YEARS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1276() {
-    if (jj_scan_token(YEARS)) return true;
+  final private boolean jj_3_719() {
+    if (jj_scan_token(GEOMETRY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1275() {
+  final private boolean jj_3_1277() {
     if (jj_scan_token(WRAPPER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1274() {
+  final private boolean jj_3_1276() {
     if (jj_scan_token(WEEK)) return true;
     return false;
   }
 
-  final private boolean jj_3_1273() {
+  final private boolean jj_3_1275() {
     if (jj_scan_token(UTF8)) return true;
     return false;
   }
 
+  final private boolean jj_3_1274() {
+    if (jj_scan_token(USER_DEFINED_TYPE_SCHEMA)) return true;
+    return false;
+  }
+
   final private boolean jj_3R_285() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_717()) {
-    jj_scanpos = xsp;
-    if (jj_3_718()) {
-    jj_scanpos = xsp;
     if (jj_3_719()) {
     jj_scanpos = xsp;
     if (jj_3_720()) {
@@ -37822,7 +37837,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_727()) {
     jj_scanpos = xsp;
-    if (jj_3_728()) return true;
+    if (jj_3_728()) {
+    jj_scanpos = xsp;
+    if (jj_3_729()) {
+    jj_scanpos = xsp;
+    if (jj_3_730()) return true;
     }
     }
     }
@@ -37837,229 +37856,214 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1272() {
-    if (jj_scan_token(USER_DEFINED_TYPE_SCHEMA)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1271() {
+  final private boolean jj_3_1273() {
     if (jj_scan_token(USER_DEFINED_TYPE_CATALOG)) return true;
     return false;
   }
 
-  final private boolean jj_3_1270() {
+  final private boolean jj_3_1272() {
     if (jj_scan_token(UNPIVOT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1269() {
+  final private boolean jj_3_1271() {
     if (jj_scan_token(UNCOMMITTED)) return true;
     return false;
   }
 
-  final private boolean jj_3_1268() {
+  final private boolean jj_3_1270() {
     if (jj_scan_token(TUMBLE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1267() {
+  final private boolean jj_3_1269() {
     if (jj_scan_token(TRIGGER_CATALOG)) return true;
     return false;
   }
 
-  final private boolean jj_3R_150() {
-    if (jj_scan_token(QUALIFY)) return true;
-    if (jj_3R_82()) return true;
+  final private boolean jj_3_1268() {
+    if (jj_scan_token(TRANSACTIONS_ROLLED_BACK)) return true;
     return false;
   }
 
-  final private boolean jj_3_1266() {
-    if (jj_scan_token(TRANSACTIONS_ROLLED_BACK)) return true;
+  final private boolean jj_3R_150() {
+    if (jj_scan_token(QUALIFY)) return true;
+    if (jj_3R_82()) return true;
     return false;
   }
 
-  final private boolean jj_3_1265() {
+  final private boolean jj_3_1267() {
     if (jj_scan_token(TRANSACTION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1264() {
+  final private boolean jj_3_1266() {
     if (jj_scan_token(TIMESTAMP_DIFF)) return true;
     return false;
   }
 
-  final private boolean jj_3_2() {
-    if (jj_3R_68()) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1263() {
+  final private boolean jj_3_1265() {
     if (jj_scan_token(TIME_TRUNC)) return true;
     return false;
   }
 
-  final private boolean jj_3_1262() {
+  final private boolean jj_3_1264() {
     if (jj_scan_token(TEMPORARY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1() {
-    if (jj_3R_67()) return true;
+  final private boolean jj_3_1263() {
+    if (jj_scan_token(SUBCLASS_ORIGIN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1261() {
-    if (jj_scan_token(SUBCLASS_ORIGIN)) return true;
+  final private boolean jj_3_1262() {
+    if (jj_scan_token(STRING_AGG)) return true;
     return false;
   }
 
-  final private boolean jj_3_327() {
+  final private boolean jj_3_329() {
     if (jj_scan_token(TIES)) return true;
     return false;
   }
 
-  final private boolean jj_3_709() {
+  final private boolean jj_3_711() {
     if (jj_3R_289()) return true;
     return false;
   }
 
-  final private boolean jj_3_1260() {
-    if (jj_scan_token(STRING_AGG)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1259() {
+  final private boolean jj_3_1261() {
     if (jj_scan_token(SQL_VARCHAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_4() {
-    if (jj_3R_70()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_1()) { jj_scanpos = xsp; break; }
-    }
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_2()) { jj_scanpos = xsp; break; }
-    }
+  final private boolean jj_3_1260() {
+    if (jj_scan_token(SQL_TSI_WEEK)) return true;
     return false;
   }
 
-  final private boolean jj_3_326() {
+  final private boolean jj_3_328() {
     if (jj_scan_token(GROUP)) return true;
     return false;
   }
 
-  final private boolean jj_3_708() {
+  final private boolean jj_3_710() {
     if (jj_3R_288()) return true;
     return false;
   }
 
-  final private boolean jj_3_1258() {
-    if (jj_scan_token(SQL_TSI_WEEK)) return true;
+  final private boolean jj_3_1259() {
+    if (jj_scan_token(SQL_TSI_MONTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1257() {
-    if (jj_scan_token(SQL_TSI_MONTH)) return true;
+  final private boolean jj_3_1258() {
+    if (jj_scan_token(SQL_TSI_HOUR)) return true;
     return false;
   }
 
-  final private boolean jj_3_325() {
+  final private boolean jj_3_327() {
     if (jj_scan_token(NO)) return true;
     if (jj_scan_token(OTHERS)) return true;
     return false;
   }
 
-  final private boolean jj_3_707() {
+  final private boolean jj_3_709() {
     if (jj_3R_287()) return true;
     return false;
   }
 
-  final private boolean jj_3_1256() {
-    if (jj_scan_token(SQL_TSI_HOUR)) return true;
+  final private boolean jj_3_1257() {
+    if (jj_scan_token(SQL_TINYINT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1255() {
-    if (jj_scan_token(SQL_TINYINT)) return true;
+  final private boolean jj_3_1256() {
+    if (jj_scan_token(SQL_SMALLINT)) return true;
     return false;
   }
 
-  final private boolean jj_3_324() {
+  final private boolean jj_3_326() {
     if (jj_scan_token(CURRENT)) return true;
     if (jj_scan_token(ROW)) return true;
     return false;
   }
 
-  final private boolean jj_3_706() {
+  final private boolean jj_3_708() {
     if (jj_3R_286()) return true;
     return false;
   }
 
+  final private boolean jj_3_1255() {
+    if (jj_scan_token(SQL_NUMERIC)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_2() {
+    if (jj_3R_68()) return true;
+    return false;
+  }
+
   final private boolean jj_3_1254() {
-    if (jj_scan_token(SQL_SMALLINT)) return true;
+    if (jj_scan_token(SQL_LONGVARNCHAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_3() {
-    if (jj_3R_69()) return true;
+  final private boolean jj_3_707() {
+    if (jj_3R_285()) return true;
     return false;
   }
 
   final private boolean jj_3_1253() {
-    if (jj_scan_token(SQL_NUMERIC)) return true;
+    if (jj_scan_token(SQL_INTERVAL_YEAR_TO_MONTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_705() {
-    if (jj_3R_285()) return true;
+  final private boolean jj_3_1() {
+    if (jj_3R_67()) return true;
     return false;
   }
 
   final private boolean jj_3_1252() {
-    if (jj_scan_token(SQL_LONGVARNCHAR)) return true;
+    if (jj_scan_token(SQL_INTERVAL_MONTH)) return true;
     return false;
   }
 
   final private boolean jj_3_1251() {
-    if (jj_scan_token(SQL_INTERVAL_YEAR_TO_MONTH)) return true;
+    if (jj_scan_token(SQL_INTERVAL_HOUR_TO_SECOND)) return true;
     return false;
   }
 
   final private boolean jj_3_1250() {
-    if (jj_scan_token(SQL_INTERVAL_MONTH)) return true;
+    if (jj_scan_token(SQL_INTERVAL_DAY_TO_SECOND)) return true;
     return false;
   }
 
-  final private boolean jj_3R_383() {
+  final private boolean jj_3_4() {
+    if (jj_3R_70()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_3()) {
-    jj_scanpos = xsp;
-    if (jj_3_4()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_1()) { jj_scanpos = xsp; break; }
+    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_2()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  final private boolean jj_3_1249() {
-    if (jj_scan_token(SQL_INTERVAL_HOUR_TO_SECOND)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_328() {
+  final private boolean jj_3_330() {
     if (jj_scan_token(EXCLUDE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_324()) {
+    if (jj_3_326()) {
     jj_scanpos = xsp;
-    if (jj_3_325()) {
+    if (jj_3_327()) {
     jj_scanpos = xsp;
-    if (jj_3_326()) {
+    if (jj_3_328()) {
     jj_scanpos = xsp;
-    if (jj_3_327()) return true;
+    if (jj_3_329()) return true;
     }
     }
     }
@@ -38069,15 +38073,15 @@ final String p;
   final private boolean jj_3R_282() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_705()) {
-    jj_scanpos = xsp;
-    if (jj_3_706()) {
-    jj_scanpos = xsp;
     if (jj_3_707()) {
     jj_scanpos = xsp;
     if (jj_3_708()) {
     jj_scanpos = xsp;
-    if (jj_3_709()) return true;
+    if (jj_3_709()) {
+    jj_scanpos = xsp;
+    if (jj_3_710()) {
+    jj_scanpos = xsp;
+    if (jj_3_711()) return true;
     }
     }
     }
@@ -38085,641 +38089,641 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_1248() {
-    if (jj_scan_token(SQL_INTERVAL_DAY_TO_SECOND)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1247() {
+  final private boolean jj_3_1249() {
     if (jj_scan_token(SQL_INTERVAL_DAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1246() {
+  final private boolean jj_3_1248() {
     if (jj_scan_token(SQL_DOUBLE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1245() {
+  final private boolean jj_3_1247() {
     if (jj_scan_token(SQL_CLOB)) return true;
     return false;
   }
 
-  final private boolean jj_3_1244() {
+  final private boolean jj_3_1246() {
     if (jj_scan_token(SQL_BLOB)) return true;
     return false;
   }
 
-  final private boolean jj_3_1243() {
+  final private boolean jj_3_1245() {
     if (jj_scan_token(SQL_BIGINT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1242() {
+  final private boolean jj_3_3() {
+    if (jj_3R_69()) return true;
+    return false;
+  }
+
+  final private boolean jj_3_1244() {
     if (jj_scan_token(SOURCE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1241() {
+  final private boolean jj_3_1243() {
     if (jj_scan_token(SETS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1240() {
+  final private boolean jj_3_1242() {
     if (jj_scan_token(SERVER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1239() {
+  final private boolean jj_3_1241() {
     if (jj_scan_token(SEPARATOR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1238() {
+  final private boolean jj_3R_383() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_3()) {
+    jj_scanpos = xsp;
+    if (jj_3_4()) return true;
+    }
+    return false;
+  }
+
+  final private boolean jj_3_1240() {
     if (jj_scan_token(SECTION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1237() {
+  final private boolean jj_3_1239() {
     if (jj_scan_token(SCOPE_NAME)) return true;
     return false;
   }
 
-  final private boolean jj_3_320() {
-    if (jj_scan_token(FOLLOWING)) return true;
+  final private boolean jj_3_1238() {
+    if (jj_scan_token(SCHEMA)) return true;
     return false;
   }
 
-  final private boolean jj_3_704() {
-    if (jj_3R_153()) return true;
+  final private boolean jj_3_322() {
+    if (jj_scan_token(FOLLOWING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1236() {
-    if (jj_scan_token(SCHEMA)) return true;
+  final private boolean jj_3_706() {
+    if (jj_3R_153()) return true;
     return false;
   }
 
-  final private boolean jj_3_1235() {
+  final private boolean jj_3_1237() {
     if (jj_scan_token(ROW_COUNT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1234() {
+  final private boolean jj_3_1236() {
     if (jj_scan_token(ROUTINE_CATALOG)) return true;
     return false;
   }
 
-  final private boolean jj_3_703() {
+  final private boolean jj_3_1235() {
+    if (jj_scan_token(RLIKE)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_705() {
     if (jj_3R_284()) return true;
     return false;
   }
 
-  final private boolean jj_3_1233() {
-    if (jj_scan_token(RLIKE)) return true;
+  final private boolean jj_3_1234() {
+    if (jj_scan_token(RETURNED_OCTET_LENGTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_319() {
+  final private boolean jj_3_321() {
     if (jj_scan_token(PRECEDING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1232() {
-    if (jj_scan_token(RETURNED_OCTET_LENGTH)) return true;
+  final private boolean jj_3_1233() {
+    if (jj_scan_token(RESTRICT)) return true;
     return false;
   }
 
-  final private boolean jj_3_702() {
+  final private boolean jj_3_704() {
     if (jj_3R_283()) return true;
     return false;
   }
 
-  final private boolean jj_3_1231() {
-    if (jj_scan_token(RESTRICT)) return true;
+  final private boolean jj_3_1232() {
+    if (jj_scan_token(REPLACE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1230() {
-    if (jj_scan_token(REPLACE)) return true;
+  final private boolean jj_3_1231() {
+    if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  final private boolean jj_3_1229() {
-    if (jj_scan_token(READ)) return true;
+  final private boolean jj_3_1230() {
+    if (jj_scan_token(PUBLIC)) return true;
     return false;
   }
 
-  final private boolean jj_3_701() {
+  final private boolean jj_3_703() {
     if (jj_3R_282()) return true;
     return false;
   }
 
-  final private boolean jj_3_1228() {
-    if (jj_scan_token(PUBLIC)) return true;
+  final private boolean jj_3_1229() {
+    if (jj_scan_token(PRESERVE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1227() {
-    if (jj_scan_token(PRESERVE)) return true;
+  final private boolean jj_3_1228() {
+    if (jj_scan_token(PLAN)) return true;
     return false;
   }
 
-  final private boolean jj_3_323() {
+  final private boolean jj_3_325() {
     if (jj_3R_82()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_319()) {
+    if (jj_3_321()) {
     jj_scanpos = xsp;
-    if (jj_3_320()) return true;
+    if (jj_3_322()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1226() {
-    if (jj_scan_token(PLAN)) return true;
+  final private boolean jj_3_1227() {
+    if (jj_scan_token(PATH)) return true;
     return false;
   }
 
-  final private boolean jj_3_318() {
+  final private boolean jj_3_320() {
     if (jj_scan_token(FOLLOWING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1225() {
-    if (jj_scan_token(PATH)) return true;
+  final private boolean jj_3_1226() {
+    if (jj_scan_token(PASSING)) return true;
     return false;
   }
 
   final private boolean jj_3R_364() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_701()) {
+    if (jj_3_703()) {
     jj_scanpos = xsp;
-    if (jj_3_702()) {
+    if (jj_3_704()) {
     jj_scanpos = xsp;
-    if (jj_3_703()) {
+    if (jj_3_705()) {
     jj_scanpos = xsp;
-    if (jj_3_704()) return true;
+    if (jj_3_706()) return true;
     }
     }
     }
     return false;
   }
 
-  final private boolean jj_3_1224() {
-    if (jj_scan_token(PASSING)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1223() {
+  final private boolean jj_3_1225() {
     if (jj_scan_token(PARAMETER_SPECIFIC_SCHEMA)) return true;
     return false;
   }
 
-  final private boolean jj_3_1222() {
+  final private boolean jj_3_1224() {
     if (jj_scan_token(PARAMETER_ORDINAL_POSITION)) return true;
     return false;
   }
 
-  final private boolean jj_3_317() {
-    if (jj_scan_token(PRECEDING)) return true;
+  final private boolean jj_3_1223() {
+    if (jj_scan_token(PAD)) return true;
     return false;
   }
 
-  final private boolean jj_3_1221() {
-    if (jj_scan_token(PAD)) return true;
+  final private boolean jj_3_319() {
+    if (jj_scan_token(PRECEDING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1220() {
+  final private boolean jj_3_1222() {
     if (jj_scan_token(OTHERS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1219() {
+  final private boolean jj_3_1221() {
     if (jj_scan_token(OPTIONS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1218() {
+  final private boolean jj_3_1220() {
     if (jj_scan_token(OBJECT)) return true;
     return false;
   }
 
-  final private boolean jj_3_1217() {
+  final private boolean jj_3_1219() {
     if (jj_scan_token(NULLABLE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1216() {
+  final private boolean jj_3_1218() {
     if (jj_scan_token(NANOSECOND)) return true;
     return false;
   }
 
-  final private boolean jj_3_1215() {
+  final private boolean jj_3_1217() {
     if (jj_scan_token(MUMPS)) return true;
     return false;
   }
 
-  final private boolean jj_3_322() {
+  final private boolean jj_3_1216() {
+    if (jj_scan_token(MINVALUE)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_324() {
     if (jj_scan_token(UNBOUNDED)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_317()) {
+    if (jj_3_319()) {
     jj_scanpos = xsp;
-    if (jj_3_318()) return true;
+    if (jj_3_320()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1214() {
-    if (jj_scan_token(MINVALUE)) return true;
+  final private boolean jj_3_1215() {
+    if (jj_scan_token(MILLENNIUM)) return true;
     return false;
   }
 
-  final private boolean jj_3_1213() {
-    if (jj_scan_token(MILLENNIUM)) return true;
+  final private boolean jj_3_1214() {
+    if (jj_scan_token(MESSAGE_OCTET_LENGTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_1212() {
-    if (jj_scan_token(MESSAGE_OCTET_LENGTH)) return true;
+  final private boolean jj_3_1213() {
+    if (jj_scan_token(MATCHED)) return true;
     return false;
   }
 
-  final private boolean jj_3_700() {
+  final private boolean jj_3_702() {
     if (jj_3R_281()) return true;
     return false;
   }
 
-  final private boolean jj_3_1211() {
-    if (jj_scan_token(MATCHED)) return true;
+  final private boolean jj_3_1212() {
+    if (jj_scan_token(LOCATOR)) return true;
     return false;
   }
 
   final private boolean jj_3R_188() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_321()) {
+    if (jj_3_323()) {
     jj_scanpos = xsp;
-    if (jj_3_322()) {
+    if (jj_3_324()) {
     jj_scanpos = xsp;
-    if (jj_3_323()) return true;
+    if (jj_3_325()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3_1210() {
-    if (jj_scan_token(LOCATOR)) return true;
+  final private boolean jj_3_1211() {
+    if (jj_scan_token(LENGTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_321() {
+  final private boolean jj_3_323() {
     if (jj_scan_token(CURRENT)) return true;
     if (jj_scan_token(ROW)) return true;
     return false;
   }
 
-  final private boolean jj_3_1209() {
-    if (jj_scan_token(LENGTH)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1208() {
+  final private boolean jj_3_1210() {
     if (jj_scan_token(KEY_TYPE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1207() {
+  final private boolean jj_3_1209() {
     if (jj_scan_token(K)) return true;
     return false;
   }
 
-  final private boolean jj_3_1206() {
+  final private boolean jj_3_1208() {
     if (jj_scan_token(ISOYEAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1205() {
+  final private boolean jj_3_1207() {
     if (jj_scan_token(INVOKER)) return true;
     return false;
   }
 
+  final private boolean jj_3_1206() {
+    if (jj_scan_token(INPUT)) return true;
+    return false;
+  }
+
   final private boolean jj_3R_121() {
     if (jj_3R_364()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_700()) { jj_scanpos = xsp; break; }
+      if (jj_3_702()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  final private boolean jj_3_1204() {
-    if (jj_scan_token(INPUT)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1203() {
+  final private boolean jj_3_1205() {
     if (jj_scan_token(INCLUDING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1202() {
+  final private boolean jj_3_1204() {
     if (jj_scan_token(IMMEDIATELY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1201() {
+  final private boolean jj_3_1203() {
     if (jj_scan_token(IGNORE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1200() {
+  final private boolean jj_3_1202() {
     if (jj_scan_token(HIERARCHY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1199() {
+  final private boolean jj_3_1201() {
     if (jj_scan_token(GOTO)) return true;
     return false;
   }
 
-  final private boolean jj_3_1198() {
+  final private boolean jj_3_1200() {
     if (jj_scan_token(GENERATED)) return true;
     return false;
   }
 
-  final private boolean jj_3_1197() {
+  final private boolean jj_3_1199() {
     if (jj_scan_token(FRAC_SECOND)) return true;
     return false;
   }
 
-  final private boolean jj_3_1196() {
+  final private boolean jj_3_1198() {
     if (jj_scan_token(FORMAT)) return true;
     return false;
   }
 
-  final private boolean jj_3_316() {
-    if (jj_scan_token(DISALLOW)) return true;
-    if (jj_scan_token(PARTIAL)) return true;
+  final private boolean jj_3_1197() {
+    if (jj_scan_token(FINAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1195() {
-    if (jj_scan_token(FINAL)) return true;
+  final private boolean jj_3_318() {
+    if (jj_scan_token(DISALLOW)) return true;
+    if (jj_scan_token(PARTIAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1194() {
+  final private boolean jj_3_1196() {
     if (jj_scan_token(EXCEPTION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1193() {
+  final private boolean jj_3_1195() {
     if (jj_scan_token(ENCODING)) return true;
     return false;
   }
 
-  final private boolean jj_3_1192() {
+  final private boolean jj_3_1194() {
     if (jj_scan_token(DOT_FORMAT)) return true;
     return false;
   }
 
-  final private boolean jj_3_315() {
-    if (jj_scan_token(ALLOW)) return true;
-    if (jj_scan_token(PARTIAL)) return true;
+  final private boolean jj_3_1193() {
+    if (jj_scan_token(DOMAIN)) return true;
     return false;
   }
 
-  final private boolean jj_3_1191() {
-    if (jj_scan_token(DOMAIN)) return true;
+  final private boolean jj_3_317() {
+    if (jj_scan_token(ALLOW)) return true;
+    if (jj_scan_token(PARTIAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1190() {
+  final private boolean jj_3_1192() {
     if (jj_scan_token(DESCRIPTOR)) return true;
     return false;
   }
 
-  final private boolean jj_3_1189() {
+  final private boolean jj_3_1191() {
     if (jj_scan_token(DERIVED)) return true;
     return false;
   }
 
-  final private boolean jj_3_1188() {
+  final private boolean jj_3_1190() {
     if (jj_scan_token(DEFINER)) return true;
     return false;
   }
 
-  final private boolean jj_3_1187() {
+  final private boolean jj_3_1189() {
     if (jj_scan_token(DEFERRABLE)) return true;
     return false;
   }
 
-  final private boolean jj_3_699() {
-    if (jj_scan_token(MINUS)) return true;
-    if (jj_scan_token(UNSIGNED_INTEGER_LITERAL)) return true;
+  final private boolean jj_3_1188() {
+    if (jj_scan_token(DAYS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1186() {
-    if (jj_scan_token(DAYS)) return true;
+  final private boolean jj_3_701() {
+    if (jj_scan_token(MINUS)) return true;
+    if (jj_scan_token(UNSIGNED_INTEGER_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1185() {
+  final private boolean jj_3_1187() {
     if (jj_scan_token(DATETIME_TRUNC)) return true;
     return false;
   }
 
-  final private boolean jj_3_1184() {
+  final private boolean jj_3_1186() {
     if (jj_scan_token(DATETIME_DIFF)) return true;
     return false;
   }
 
-  final private boolean jj_3_313() {
-    if (jj_3R_188()) return true;
+  final private boolean jj_3_1185() {
+    if (jj_scan_token(DATABASE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1183() {
-    if (jj_scan_token(DATABASE)) return true;
+  final private boolean jj_3_315() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  final private boolean jj_3_1182() {
+  final private boolean jj_3_1184() {
     if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1181() {
+  final private boolean jj_3_1183() {
     if (jj_scan_token(CONSTRAINT_SCHEMA)) return true;
     return false;
   }
 
-  final private boolean jj_3_312() {
+  final private boolean jj_3_1182() {
+    if (jj_scan_token(CONSTRAINT_CATALOG)) return true;
+    return false;
+  }
+
+  final private boolean jj_3_314() {
     if (jj_scan_token(BETWEEN)) return true;
     if (jj_3R_188()) return true;
     return false;
   }
 
-  final private boolean jj_3_1180() {
-    if (jj_scan_token(CONSTRAINT_CATALOG)) return true;
+  final private boolean jj_3_1181() {
+    if (jj_scan_token(CONDITION_NUMBER)) return true;
     return false;
   }
 
-  final private boolean jj_3_697() {
+  final private boolean jj_3_699() {
     if (jj_scan_token(PLUS)) return true;
     if (jj_scan_token(UNSIGNED_INTEGER_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1179() {
-    if (jj_scan_token(CONDITION_NUMBER)) return true;
+  final private boolean jj_3_1180() {
+    if (jj_scan_token(COMMAND_FUNCTION_CODE)) return true;
     return false;
   }
 
-  final private boolean jj_3_1178() {
-    if (jj_scan_token(COMMAND_FUNCTION_CODE)) return true;
+  final private boolean jj_3_1179() {
+    if (jj_scan_token(COLLATION_SCHEMA)) return true;
     return false;
   }
 
-  final private boolean jj_3_311() {
+  final private boolean jj_3_313() {
     if (jj_scan_token(RANGE)) return true;
     return false;
   }
 
-  final private boolean jj_3_696() {
+  final private boolean jj_3_698() {
     if (jj_scan_token(UNSIGNED_INTEGER_LITERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_1177() {
-    if (jj_scan_token(COLLATION_SCHEMA)) return true;
+  final private boolean jj_3_1178() {
+    if (jj_scan_token(COLLATION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1176() {
-    if (jj_scan_token(COLLATION)) return true;
+  final private boolean jj_3_1177() {
+    if (jj_scan_token(CHARACTER_SET_SCHEMA)) return true;
     return false;
   }
 
-  final private boolean jj_3_310() {
+  final private boolean jj_3_312() {
     if (jj_scan_token(ROWS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1175() {
-    if (jj_scan_token(CHARACTER_SET_SCHEMA)) return true;
+  final private boolean jj_3_1176() {
+    if (jj_scan_token(CHARACTERS)) return true;
     return false;
   }
 
-  final private boolean jj_3_1174() {
-    if (jj_scan_token(CHARACTERS)) return true;
+  final private boolean jj_3_1175() {
+    if (jj_scan_token(CENTURY)) return true;
     return false;
   }
 
   final private boolean jj_3R_291() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_698()) {
+    if (jj_3_700()) {
     jj_scanpos = xsp;
-    if (jj_3_699()) return true;
+    if (jj_3_701()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1173() {
-    if (jj_scan_token(CENTURY)) return true;
+  final private boolean jj_3_1174() {
+    if (jj_scan_token(CASCADE)) return true;
     return false;
   }
 
-  final private boolean jj_3_698() {
+  final private boolean jj_3_700() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_696()) {
+    if (jj_3_698()) {
     jj_scanpos = xsp;
-    if (jj_3_697()) return true;
+    if (jj_3_699()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1172() {
-    if (jj_scan_token(CASCADE)) return true;
+  final private boolean jj_3_1173() {
+    if (jj_scan_token(BERNOULLI)) return true;
     return false;
   }
 
-  final private boolean jj_3_1171() {
-    if (jj_scan_token(BERNOULLI)) return true;
+  final private boolean jj_3_1172() {
+    if (jj_scan_token(ATTRIBUTE)) return true;
     return false;
   }
 
-  final private boolean jj_3_314() {
+  final private boolean jj_3_316() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_310()) {
+    if (jj_3_312()) {
     jj_scanpos = xsp;
-    if (jj_3_311()) return true;
+    if (jj_3_313()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_312()) {
+    if (jj_3_314()) {
     jj_scanpos = xsp;
-    if (jj_3_313()) return true;
+    if (jj_3_315()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1170() {
-    if (jj_scan_token(ATTRIBUTE)) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1169() {
+  final private boolean jj_3_1171() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  final private boolean jj_3_1168() {
+  final private boolean jj_3_1170() {
     if (jj_scan_token(APPLY)) return true;
     return false;
   }
 
-  final private boolean jj_3_1167() {
+  final private boolean jj_3_1169() {
     if (jj_scan_token(ADMIN)) return true;
     return false;
   }
 
-  final private boolean jj_3_309() {
-    if (jj_3R_71()) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1166() {
+  final private boolean jj_3_1168() {
     if (jj_scan_token(ACTION)) return true;
     return false;
   }
 
-  final private boolean jj_3_1165() {
-    if (jj_scan_token(A)) return true;
+  final private boolean jj_3_311() {
+    if (jj_3R_71()) return true;
     return false;
   }
 
-  final private boolean jj_3_308() {
-    if (jj_scan_token(PARTITION)) return true;
-    if (jj_scan_token(BY)) return true;
+  final private boolean jj_3_1167() {
+    if (jj_scan_token(A)) return true;
     return false;
   }
 
   final private boolean jj_3R_345() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1165()) {
-    jj_scanpos = xsp;
-    if (jj_3_1166()) {
-    jj_scanpos = xsp;
     if (jj_3_1167()) {
     jj_scanpos = xsp;
     if (jj_3_1168()) {
@@ -39158,7 +39162,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_1385()) {
     jj_scanpos = xsp;
-    if (jj_3_1386()) return true;
+    if (jj_3_1386()) {
+    jj_scanpos = xsp;
+    if (jj_3_1387()) {
+    jj_scanpos = xsp;
+    if (jj_3_1388()) return true;
     }
     }
     }
@@ -39383,6 +39391,12 @@ final String p;
     return false;
   }
 
+  final private boolean jj_3_310() {
+    if (jj_scan_token(PARTITION)) return true;
+    if (jj_scan_token(BY)) return true;
+    return false;
+  }
+
   final private boolean jj_3R_417() {
     return false;
   }
@@ -39392,33 +39406,33 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_307() {
+  final private boolean jj_3_309() {
     if (jj_3R_85()) return true;
     return false;
   }
 
-  final private boolean jj_3_1164() {
+  final private boolean jj_3_1166() {
     if (jj_3R_347()) return true;
     return false;
   }
 
+  final private boolean jj_3_1165() {
+    if (jj_3R_346()) return true;
+    return false;
+  }
+
   final private boolean jj_3R_335() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_307()) {
+    if (jj_3_309()) {
     jj_scanpos = xsp;
     if (jj_3R_417()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_1163() {
-    if (jj_3R_346()) return true;
-    return false;
-  }
-
-  final private boolean jj_3_1162() {
+  final private boolean jj_3_1164() {
     if (jj_3R_345()) return true;
     return false;
   }
@@ -39426,11 +39440,11 @@ final String p;
   final private boolean jj_3R_277() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_1162()) {
+    if (jj_3_1164()) {
     jj_scanpos = xsp;
-    if (jj_3_1163()) {
+    if (jj_3_1165()) {
     jj_scanpos = xsp;
-    if (jj_3_1164()) return true;
+    if (jj_3_1166()) return true;
     }
     }
     return false;
@@ -39453,13 +39467,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_306() {
+  final private boolean jj_3_308() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_187()) return true;
     return false;
   }
 
-  final private boolean jj_3_695() {
+  final private boolean jj_3_697() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_280()) return true;
     return false;
@@ -39482,13 +39496,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_694() {
+  final private boolean jj_3_696() {
     if (jj_scan_token(DOT)) return true;
     if (jj_3R_279()) return true;
     return false;
   }
 
-  final private boolean jj_3_305() {
+  final private boolean jj_3_307() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_79()) return true;
     return false;
@@ -39499,7 +39513,7 @@ final String p;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_694()) { jj_scanpos = xsp; break; }
+      if (jj_3_696()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -39509,7 +39523,7 @@ final String p;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_305()) { jj_scanpos = xsp; break; }
+      if (jj_3_307()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -39519,19 +39533,19 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_693() {
+  final private boolean jj_3_695() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_692() {
+  final private boolean jj_3_694() {
     if (jj_scan_token(DOT)) return true;
     if (jj_3R_278()) return true;
     return false;
   }
 
-  final private boolean jj_3_304() {
+  final private boolean jj_3_306() {
     if (jj_3R_79()) return true;
     return false;
   }
@@ -39541,32 +39555,32 @@ final String p;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_692()) { jj_scanpos = xsp; break; }
+      if (jj_3_694()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3_693()) jj_scanpos = xsp;
+    if (jj_3_695()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_303() {
+  final private boolean jj_3_305() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_302() {
+  final private boolean jj_3_304() {
     if (jj_scan_token(CUBE)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_301() {
+  final private boolean jj_3_303() {
     if (jj_scan_token(ROLLUP)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_691() {
+  final private boolean jj_3_693() {
     if (jj_3R_125()) return true;
     return false;
   }
@@ -39574,14 +39588,14 @@ final String p;
   final private boolean jj_3R_135() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_690()) {
+    if (jj_3_692()) {
     jj_scanpos = xsp;
-    if (jj_3_691()) return true;
+    if (jj_3_693()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_690() {
+  final private boolean jj_3_692() {
     if (jj_3R_85()) return true;
     return false;
   }
@@ -39589,15 +39603,15 @@ final String p;
   final private boolean jj_3R_186() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_300()) {
-    jj_scanpos = xsp;
-    if (jj_3_301()) {
-    jj_scanpos = xsp;
     if (jj_3_302()) {
     jj_scanpos = xsp;
     if (jj_3_303()) {
     jj_scanpos = xsp;
-    if (jj_3_304()) return true;
+    if (jj_3_304()) {
+    jj_scanpos = xsp;
+    if (jj_3_305()) {
+    jj_scanpos = xsp;
+    if (jj_3_306()) return true;
     }
     }
     }
@@ -39605,13 +39619,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_300() {
+  final private boolean jj_3_302() {
     if (jj_scan_token(GROUPING)) return true;
     if (jj_scan_token(SETS)) return true;
     return false;
   }
 
-  final private boolean jj_3_299() {
+  final private boolean jj_3_301() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_186()) return true;
     return false;
@@ -39624,17 +39638,17 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_298() {
+  final private boolean jj_3_300() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  final private boolean jj_3_297() {
+  final private boolean jj_3_299() {
     if (jj_scan_token(DISTINCT)) return true;
     return false;
   }
 
-  final private boolean jj_3_689() {
+  final private boolean jj_3_691() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_85()) return true;
     return false;
@@ -39651,7 +39665,7 @@ final String p;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_689()) { jj_scanpos = xsp; break; }
+      if (jj_3_691()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -39676,25 +39690,20 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_296() {
+  final private boolean jj_3_298() {
     if (jj_3R_82()) return true;
     return false;
   }
 
-  final private boolean jj_3_293() {
+  final private boolean jj_3_295() {
     if (jj_scan_token(ROW)) return true;
     return false;
   }
 
-  final private boolean jj_3R_295() {
-    if (jj_3R_412()) return true;
-    return false;
-  }
-
-  final private boolean jj_3_295() {
+  final private boolean jj_3_297() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_293()) {
+    if (jj_3_295()) {
     jj_scanpos = xsp;
     if (jj_3R_185()) return true;
     }
@@ -39707,37 +39716,38 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_294() {
+  final private boolean jj_3_296() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(ROW)) return true;
     if (jj_3R_184()) return true;
     return false;
   }
 
-  final private boolean jj_3R_361() {
-    if (true) { jj_la = 0; jj_scanpos = jj_lastpos; return false;}
+  final private boolean jj_3R_295() {
+    if (jj_3R_412()) return true;
     return false;
   }
 
   final private boolean jj_3R_163() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_294()) {
+    if (jj_3_296()) {
     jj_scanpos = xsp;
-    if (jj_3_295()) {
+    if (jj_3_297()) {
     jj_scanpos = xsp;
-    if (jj_3_296()) return true;
+    if (jj_3_298()) return true;
     }
     }
     return false;
   }
 
-  final private boolean jj_3R_350() {
+  final private boolean jj_3R_361() {
     if (true) { jj_la = 0; jj_scanpos = jj_lastpos; return false;}
     return false;
   }
 
-  final private boolean jj_3R_423() {
+  final private boolean jj_3R_350() {
+    if (true) { jj_la = 0; jj_scanpos = jj_lastpos; return false;}
     return false;
   }
 
@@ -39751,54 +39761,58 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_292() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_183()) return true;
+  final private boolean jj_3R_423() {
     return false;
   }
 
-  final private boolean jj_3R_176() {
-    if (jj_3R_384()) return true;
+  final private boolean jj_3_294() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_183()) return true;
     return false;
   }
 
-  final private boolean jj_3_291() {
+  final private boolean jj_3_293() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  final private boolean jj_3_290() {
+  final private boolean jj_3_292() {
     if (jj_scan_token(VALUES)) return true;
     return false;
   }
 
-  final private boolean jj_3_688() {
+  final private boolean jj_3_690() {
     if (jj_3R_277()) return true;
     return false;
   }
 
+  final private boolean jj_3R_176() {
+    if (jj_3R_384()) return true;
+    return false;
+  }
+
   final private boolean jj_3R_77() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_290()) {
+    if (jj_3_292()) {
     jj_scanpos = xsp;
-    if (jj_3_291()) return true;
+    if (jj_3_293()) return true;
     }
     if (jj_3R_183()) return true;
     return false;
   }
 
-  final private boolean jj_3_680() {
+  final private boolean jj_3_682() {
     if (jj_scan_token(UESCAPE)) return true;
     if (jj_scan_token(QUOTED_STRING)) return true;
     return false;
   }
 
-  final private boolean jj_3_687() {
+  final private boolean jj_3_689() {
     if (jj_scan_token(UNICODE_QUOTED_IDENTIFIER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_680()) jj_scanpos = xsp;
+    if (jj_3_682()) jj_scanpos = xsp;
     return false;
   }
 
@@ -39808,37 +39822,37 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_686() {
+  final private boolean jj_3_688() {
     if (jj_scan_token(BRACKET_QUOTED_IDENTIFIER)) return true;
     return false;
   }
 
-  final private boolean jj_3_685() {
+  final private boolean jj_3_687() {
     if (jj_scan_token(BIG_QUERY_BACK_QUOTED_IDENTIFIER)) return true;
     return false;
   }
 
-  final private boolean jj_3_684() {
+  final private boolean jj_3_686() {
     if (jj_scan_token(BACK_QUOTED_IDENTIFIER)) return true;
     return false;
   }
 
-  final private boolean jj_3_683() {
+  final private boolean jj_3_685() {
     if (jj_scan_token(QUOTED_IDENTIFIER)) return true;
     return false;
   }
 
-  final private boolean jj_3_682() {
+  final private boolean jj_3_684() {
     if (jj_scan_token(HYPHENATED_IDENTIFIER)) return true;
     return false;
   }
 
-  final private boolean jj_3_289() {
+  final private boolean jj_3_291() {
     if (jj_scan_token(SPECIFIC)) return true;
     return false;
   }
 
-  final private boolean jj_3_681() {
+  final private boolean jj_3_683() {
     if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
@@ -39846,10 +39860,6 @@ final String p;
   final private boolean jj_3R_278() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_681()) {
-    jj_scanpos = xsp;
-    if (jj_3_682()) {
-    jj_scanpos = xsp;
     if (jj_3_683()) {
     jj_scanpos = xsp;
     if (jj_3_684()) {
@@ -39860,7 +39870,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_687()) {
     jj_scanpos = xsp;
-    if (jj_3_688()) return true;
+    if (jj_3_688()) {
+    jj_scanpos = xsp;
+    if (jj_3_689()) {
+    jj_scanpos = xsp;
+    if (jj_3_690()) return true;
     }
     }
     }
@@ -39877,7 +39891,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_287() {
+  final private boolean jj_3_289() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_84()) return true;
     return false;
@@ -39888,17 +39902,17 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_288() {
+  final private boolean jj_3_290() {
     if (jj_3R_155()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_287()) { jj_scanpos = xsp; break; }
+      if (jj_3_289()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  final private boolean jj_3_679() {
+  final private boolean jj_3_681() {
     if (jj_scan_token(SATURDAY)) return true;
     return false;
   }
@@ -39907,32 +39921,32 @@ final String p;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_288()) jj_scanpos = xsp;
+    if (jj_3_290()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_678() {
+  final private boolean jj_3_680() {
     if (jj_scan_token(FRIDAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_677() {
+  final private boolean jj_3_679() {
     if (jj_scan_token(THURSDAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_676() {
+  final private boolean jj_3_678() {
     if (jj_scan_token(WEDNESDAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_675() {
+  final private boolean jj_3_677() {
     if (jj_scan_token(TUESDAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_674() {
+  final private boolean jj_3_676() {
     if (jj_scan_token(MONDAY)) return true;
     return false;
   }
@@ -39940,10 +39954,6 @@ final String p;
   final private boolean jj_3R_275() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_673()) {
-    jj_scanpos = xsp;
-    if (jj_3_674()) {
-    jj_scanpos = xsp;
     if (jj_3_675()) {
     jj_scanpos = xsp;
     if (jj_3_676()) {
@@ -39952,7 +39962,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_678()) {
     jj_scanpos = xsp;
-    if (jj_3_679()) return true;
+    if (jj_3_679()) {
+    jj_scanpos = xsp;
+    if (jj_3_680()) {
+    jj_scanpos = xsp;
+    if (jj_3_681()) return true;
     }
     }
     }
@@ -39962,27 +39976,27 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_673() {
+  final private boolean jj_3_675() {
     if (jj_scan_token(SUNDAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_672() {
+  final private boolean jj_3_674() {
     if (jj_scan_token(MILLENNIUM)) return true;
     return false;
   }
 
-  final private boolean jj_3_671() {
+  final private boolean jj_3_673() {
     if (jj_scan_token(CENTURY)) return true;
     return false;
   }
 
-  final private boolean jj_3_670() {
+  final private boolean jj_3_672() {
     if (jj_scan_token(DECADE)) return true;
     return false;
   }
 
-  final private boolean jj_3_669() {
+  final private boolean jj_3_671() {
     if (jj_scan_token(EPOCH)) return true;
     return false;
   }
@@ -39991,28 +40005,28 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_668() {
+  final private boolean jj_3_670() {
     if (jj_scan_token(YEAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_667() {
+  final private boolean jj_3_669() {
     if (jj_scan_token(QUARTER)) return true;
     return false;
   }
 
-  final private boolean jj_3_666() {
+  final private boolean jj_3_668() {
     if (jj_scan_token(MONTH)) return true;
     return false;
   }
 
-  final private boolean jj_3_651() {
+  final private boolean jj_3_653() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_275()) return true;
     return false;
   }
 
-  final private boolean jj_3_286() {
+  final private boolean jj_3_288() {
     if (jj_3R_121()) return true;
     if (jj_3R_182()) return true;
     return false;
@@ -40023,73 +40037,73 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_665() {
+  final private boolean jj_3_667() {
     if (jj_scan_token(WEEK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_651()) {
+    if (jj_3_653()) {
     jj_scanpos = xsp;
     if (jj_3R_276()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_664() {
+  final private boolean jj_3_666() {
     if (jj_scan_token(ISOYEAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_663() {
+  final private boolean jj_3_665() {
     if (jj_scan_token(ISODOW)) return true;
     return false;
   }
 
-  final private boolean jj_3_662() {
+  final private boolean jj_3_664() {
     if (jj_scan_token(DOY)) return true;
     return false;
   }
 
-  final private boolean jj_3_661() {
+  final private boolean jj_3_663() {
     if (jj_scan_token(DOW)) return true;
     return false;
   }
 
-  final private boolean jj_3_660() {
+  final private boolean jj_3_662() {
     if (jj_scan_token(DAYOFYEAR)) return true;
     return false;
   }
 
-  final private boolean jj_3_659() {
+  final private boolean jj_3_661() {
     if (jj_scan_token(DAYOFWEEK)) return true;
     return false;
   }
 
-  final private boolean jj_3_658() {
+  final private boolean jj_3_660() {
     if (jj_scan_token(DAY)) return true;
     return false;
   }
 
-  final private boolean jj_3_657() {
+  final private boolean jj_3_659() {
     if (jj_scan_token(HOUR)) return true;
     return false;
   }
 
-  final private boolean jj_3_656() {
+  final private boolean jj_3_658() {
     if (jj_scan_token(MINUTE)) return true;
     return false;
   }
 
-  final private boolean jj_3_655() {
+  final private boolean jj_3_657() {
     if (jj_scan_token(SECOND)) return true;
     return false;
   }
 
-  final private boolean jj_3_654() {
+  final private boolean jj_3_656() {
     if (jj_scan_token(MILLISECOND)) return true;
     return false;
   }
 
-  final private boolean jj_3_653() {
+  final private boolean jj_3_655() {
     if (jj_scan_token(MICROSECOND)) return true;
     return false;
   }
@@ -40097,10 +40111,6 @@ final String p;
   final private boolean jj_3R_274() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_652()) {
-    jj_scanpos = xsp;
-    if (jj_3_653()) {
-    jj_scanpos = xsp;
     if (jj_3_654()) {
     jj_scanpos = xsp;
     if (jj_3_655()) {
@@ -40137,7 +40147,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_671()) {
     jj_scanpos = xsp;
-    if (jj_3_672()) return true;
+    if (jj_3_672()) {
+    jj_scanpos = xsp;
+    if (jj_3_673()) {
+    jj_scanpos = xsp;
+    if (jj_3_674()) return true;
     }
     }
     }
@@ -40161,7 +40175,7 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_652() {
+  final private boolean jj_3_654() {
     if (jj_scan_token(NANOSECOND)) return true;
     return false;
   }
@@ -40173,13 +40187,13 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_285() {
+  final private boolean jj_3_287() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_181()) return true;
     return false;
   }
 
-  final private boolean jj_3_650() {
+  final private boolean jj_3_652() {
     if (jj_3R_85()) return true;
     return false;
   }
@@ -40190,7 +40204,7 @@ final String p;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_285()) { jj_scanpos = xsp; break; }
+      if (jj_3_287()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
@@ -40199,19 +40213,19 @@ final String p;
   final private boolean jj_3R_336() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_649()) {
+    if (jj_3_651()) {
     jj_scanpos = xsp;
-    if (jj_3_650()) return true;
+    if (jj_3_652()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_649() {
+  final private boolean jj_3_651() {
     if (jj_3R_274()) return true;
     return false;
   }
 
-  final private boolean jj_3_284() {
+  final private boolean jj_3_286() {
     if (jj_scan_token(EXTEND)) return true;
     return false;
   }
@@ -40219,100 +40233,96 @@ final String p;
   final private boolean jj_3R_159() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_284()) jj_scanpos = xsp;
+    if (jj_3_286()) jj_scanpos = xsp;
     if (jj_3R_372()) return true;
     return false;
   }
 
-  final private boolean jj_3_645() {
+  final private boolean jj_3_647() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_264()) return true;
     return false;
   }
 
-  final private boolean jj_3_281() {
+  final private boolean jj_3_283() {
     if (jj_scan_token(REPEATABLE)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_646() {
+  final private boolean jj_3_648() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_264()) return true;
     return false;
   }
 
-  final private boolean jj_3_280() {
+  final private boolean jj_3_282() {
     if (jj_scan_token(SYSTEM)) return true;
     return false;
   }
 
-  final private boolean jj_3_648() {
+  final private boolean jj_3_650() {
     if (jj_3R_262()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_646()) jj_scanpos = xsp;
+    if (jj_3_648()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_279() {
+  final private boolean jj_3_281() {
     if (jj_scan_token(BERNOULLI)) return true;
     return false;
   }
 
-  final private boolean jj_3_644() {
+  final private boolean jj_3_646() {
     if (jj_3R_261()) return true;
     return false;
   }
 
-  final private boolean jj_3_643() {
+  final private boolean jj_3_645() {
     if (jj_3R_260()) return true;
     return false;
   }
 
-  final private boolean jj_3_642() {
+  final private boolean jj_3_644() {
     if (jj_3R_269()) return true;
     return false;
   }
 
-  final private boolean jj_3_641() {
+  final private boolean jj_3_643() {
     if (jj_3R_268()) return true;
     return false;
   }
 
-  final private boolean jj_3_640() {
+  final private boolean jj_3_642() {
     if (jj_3R_259()) return true;
     return false;
   }
 
-  final private boolean jj_3_283() {
+  final private boolean jj_3_285() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_279()) {
+    if (jj_3_281()) {
     jj_scanpos = xsp;
-    if (jj_3_280()) return true;
+    if (jj_3_282()) return true;
     }
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  final private boolean jj_3_639() {
+  final private boolean jj_3_641() {
     if (jj_3R_267()) return true;
     return false;
   }
 
-  final private boolean jj_3_638() {
+  final private boolean jj_3_640() {
     if (jj_3R_265()) return true;
     return false;
   }
 
-  final private boolean jj_3_647() {
+  final private boolean jj_3_649() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_638()) {
-    jj_scanpos = xsp;
-    if (jj_3_639()) {
-    jj_scanpos = xsp;
     if (jj_3_640()) {
     jj_scanpos = xsp;
     if (jj_3_641()) {
@@ -40321,7 +40331,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_643()) {
     jj_scanpos = xsp;
-    if (jj_3_644()) return true;
+    if (jj_3_644()) {
+    jj_scanpos = xsp;
+    if (jj_3_645()) {
+    jj_scanpos = xsp;
+    if (jj_3_646()) return true;
     }
     }
     }
@@ -40335,14 +40349,14 @@ final String p;
   final private boolean jj_3R_258() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_647()) {
+    if (jj_3_649()) {
     jj_scanpos = xsp;
-    if (jj_3_648()) return true;
+    if (jj_3_650()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_282() {
+  final private boolean jj_3_284() {
     if (jj_scan_token(SUBSTITUTE)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
@@ -40352,9 +40366,9 @@ final String p;
     if (jj_scan_token(TABLESAMPLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_282()) {
+    if (jj_3_284()) {
     jj_scanpos = xsp;
-    if (jj_3_283()) return true;
+    if (jj_3_285()) return true;
     }
     return false;
   }
@@ -40363,24 +40377,24 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_628() {
+  final private boolean jj_3_630() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_264()) return true;
     return false;
   }
 
-  final private boolean jj_3_629() {
+  final private boolean jj_3_631() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_264()) return true;
     return false;
   }
 
-  final private boolean jj_3_278() {
+  final private boolean jj_3_280() {
     if (jj_3R_180()) return true;
     return false;
   }
 
-  final private boolean jj_3_626() {
+  final private boolean jj_3_628() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_264()) return true;
     return false;
@@ -40390,34 +40404,34 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_637() {
+  final private boolean jj_3_639() {
     if (jj_3R_262()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_629()) {
+    if (jj_3_631()) {
     jj_scanpos = xsp;
     if (jj_3R_273()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_627() {
+  final private boolean jj_3_629() {
     if (jj_scan_token(TO)) return true;
     if (jj_3R_262()) return true;
     return false;
   }
 
-  final private boolean jj_3_622() {
+  final private boolean jj_3_624() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_264()) return true;
     return false;
   }
 
-  final private boolean jj_3_624() {
+  final private boolean jj_3_626() {
     if (jj_3R_262()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_622()) jj_scanpos = xsp;
+    if (jj_3_624()) jj_scanpos = xsp;
     return false;
   }
 
@@ -40425,17 +40439,17 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_623() {
+  final private boolean jj_3_625() {
     if (jj_3R_261()) return true;
     return false;
   }
 
-  final private boolean jj_3_636() {
+  final private boolean jj_3_638() {
     if (jj_3R_261()) return true;
     if (jj_3R_263()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_627()) {
+    if (jj_3_629()) {
     jj_scanpos = xsp;
     if (jj_3R_272()) return true;
     }
@@ -40446,23 +40460,23 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_625() {
+  final private boolean jj_3_627() {
     if (jj_scan_token(TO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_623()) {
+    if (jj_3_625()) {
     jj_scanpos = xsp;
-    if (jj_3_624()) return true;
+    if (jj_3_626()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_276() {
+  final private boolean jj_3_278() {
     if (jj_3R_125()) return true;
     return false;
   }
 
-  final private boolean jj_3_620() {
+  final private boolean jj_3_622() {
     if (jj_3R_262()) return true;
     if (jj_3R_263()) return true;
     return false;
@@ -40472,60 +40486,60 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_275() {
+  final private boolean jj_3_277() {
     if (jj_scan_token(AS)) return true;
     return false;
   }
 
-  final private boolean jj_3_619() {
+  final private boolean jj_3_621() {
     if (jj_3R_261()) return true;
     return false;
   }
 
-  final private boolean jj_3_635() {
+  final private boolean jj_3_637() {
     if (jj_3R_260()) return true;
     if (jj_3R_263()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_625()) {
+    if (jj_3_627()) {
     jj_scanpos = xsp;
     if (jj_3R_271()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_277() {
+  final private boolean jj_3_279() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_275()) jj_scanpos = xsp;
+    if (jj_3_277()) jj_scanpos = xsp;
     if (jj_3R_85()) return true;
     xsp = jj_scanpos;
-    if (jj_3_276()) {
+    if (jj_3_278()) {
     jj_scanpos = xsp;
     if (jj_3R_179()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_618() {
+  final private boolean jj_3_620() {
     if (jj_3R_260()) return true;
     return false;
   }
 
-  final private boolean jj_3_274() {
+  final private boolean jj_3_276() {
     if (jj_3R_178()) return true;
     return false;
   }
 
-  final private boolean jj_3_621() {
+  final private boolean jj_3_623() {
     if (jj_scan_token(TO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_618()) {
+    if (jj_3_620()) {
     jj_scanpos = xsp;
-    if (jj_3_619()) {
+    if (jj_3_621()) {
     jj_scanpos = xsp;
-    if (jj_3_620()) return true;
+    if (jj_3_622()) return true;
     }
     }
     return false;
@@ -40535,54 +40549,54 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_273() {
+  final private boolean jj_3_275() {
     if (jj_3R_177()) return true;
     return false;
   }
 
-  final private boolean jj_3_272() {
+  final private boolean jj_3_274() {
     if (jj_3R_176()) return true;
     return false;
   }
 
-  final private boolean jj_3_634() {
+  final private boolean jj_3_636() {
     if (jj_3R_269()) return true;
     if (jj_3R_263()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_621()) {
+    if (jj_3_623()) {
     jj_scanpos = xsp;
     if (jj_3R_270()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_267() {
+  final private boolean jj_3_269() {
     if (jj_scan_token(LATERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_271() {
+  final private boolean jj_3_273() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_267()) jj_scanpos = xsp;
+    if (jj_3_269()) jj_scanpos = xsp;
     if (jj_3R_175()) return true;
     return false;
   }
 
-  final private boolean jj_3_633() {
+  final private boolean jj_3_635() {
     if (jj_3R_268()) return true;
     if (jj_3R_263()) return true;
     return false;
   }
 
-  final private boolean jj_3_632() {
+  final private boolean jj_3_634() {
     if (jj_3R_259()) return true;
     if (jj_3R_263()) return true;
     return false;
   }
 
-  final private boolean jj_3_266() {
+  final private boolean jj_3_268() {
     if (jj_scan_token(WITH)) return true;
     if (jj_scan_token(ORDINALITY)) return true;
     return false;
@@ -40592,45 +40606,45 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_617() {
+  final private boolean jj_3_619() {
     if (jj_scan_token(TO)) return true;
     if (jj_3R_259()) return true;
     return false;
   }
 
-  final private boolean jj_3_631() {
+  final private boolean jj_3_633() {
     if (jj_3R_267()) return true;
     if (jj_3R_263()) return true;
     return false;
   }
 
-  final private boolean jj_3_265() {
+  final private boolean jj_3_267() {
     if (jj_scan_token(LATERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_630() {
+  final private boolean jj_3_632() {
     if (jj_3R_265()) return true;
     if (jj_3R_263()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_617()) {
+    if (jj_3_619()) {
     jj_scanpos = xsp;
     if (jj_3R_266()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_270() {
+  final private boolean jj_3_272() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_265()) jj_scanpos = xsp;
+    if (jj_3_267()) jj_scanpos = xsp;
     if (jj_scan_token(UNNEST)) return true;
     if (jj_3R_174()) return true;
     return false;
   }
 
-  final private boolean jj_3_264() {
+  final private boolean jj_3_266() {
     if (jj_3R_169()) return true;
     return false;
   }
@@ -40638,10 +40652,6 @@ final String p;
   final private boolean jj_3R_219() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_630()) {
-    jj_scanpos = xsp;
-    if (jj_3_631()) {
-    jj_scanpos = xsp;
     if (jj_3_632()) {
     jj_scanpos = xsp;
     if (jj_3_633()) {
@@ -40652,7 +40662,11 @@ final String p;
     jj_scanpos = xsp;
     if (jj_3_636()) {
     jj_scanpos = xsp;
-    if (jj_3_637()) return true;
+    if (jj_3_637()) {
+    jj_scanpos = xsp;
+    if (jj_3_638()) {
+    jj_scanpos = xsp;
+    if (jj_3_639()) return true;
     }
     }
     }
@@ -40663,35 +40677,35 @@ final String p;
     return false;
   }
 
-  final private boolean jj_3_263() {
+  final private boolean jj_3_265() {
     if (jj_scan_token(LATERAL)) return true;
     return false;
   }
 
-  final private boolean jj_3_261() {
+  final private boolean jj_3_263() {
     if (jj_3R_169()) return true;
     return false;
   }
 
-  final private boolean jj_3_269() {
+  final private boolean jj_3_271() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_263()) jj_scanpos = xsp;
+    if (jj_3_265()) jj_scanpos = xsp;
     if (jj_3R_173()) return true;
     return false;
   }
 
-  final private boolean jj_3_260() {
+  final private boolean jj_3_262() {
     if (jj_3R_168()) return true;
     return false;
   }
 
-  final private boolean jj_3_259() {
+  final private boolean jj_3_261() {
     if (jj_3R_159()) return true;
     return false;
   }
 
-  final private boolean jj_3_258() {
+  final private boolean jj_3_260() {
     if (jj_3R_158()) return true;
     return false;
   }
@@ -40699,41 +40713,88 @@ final String p;
   final private boolean jj_3R_172() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_258()) {
+    if (jj_3_260()) {
     jj_scanpos = xsp;
     if (jj_3R_381()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3_259()) jj_scanpos = xsp;
+    if (jj_3_261()) jj_scanpos = xsp;
     if (jj_3R_382()) return true;
     xsp = jj_scanpos;
-    if (jj_3_260()) jj_scanpos = xsp;
+    if (jj_3_262()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3_261()) jj_scanpos = xsp;
+    if (jj_3_263()) jj_scanpos = xsp;
     return false;
   }
 
-  final private boolean jj_3_262() {
+  final private boolean jj_3_264() {
     if (jj_3R_170()) return true;
     return false;
   }
 
-  final private boolean jj_3_268() {
+  final private boolean jj_3_270() {
     if (jj_3R_171()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_262()) {
+    if (jj_3_264()) {
     jj_scanpos = xsp;
     if (jj_3R_172()) return true;
     }
     return false;
   }
 
-  final private boolean jj_3_616() {
+  final private boolean jj_3_618() {
     if (jj_scan_token(SECONDS)) return true;
     return false;
   }
 
+  final private boolean jj_3R_262() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_617()) {
+    jj_scanpos = xsp;
+    if (jj_3_618()) return true;
+    }
+    return false;
+  }
+
+  final private boolean jj_3_617() {
+    if (jj_scan_token(SECOND)) return true;
+    return false;
+  }
+
+  final private boolean jj_3R_349() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_270()) {
+    jj_scanpos = xsp;
+    if (jj_3_271()) {
+    jj_scanpos = xsp;
+    if (jj_3_272()) {
+    jj_scanpos = xsp;
+    if (jj_3_273()) {
+    jj_scanpos = xsp;
+    if (jj_3_274()) return true;
+    }
+    }
+    }
+    }
+    xsp = jj_scanpos;
+    if (jj_3_275()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3_276()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3_279()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3_280()) jj_scanpos = xsp;
+    return false;
+  }
+
+  final private boolean jj_3_616() {
+    if (jj_scan_token(MINUTES)) return true;
+    return false;
+  }
+
   public IgniteSqlParserImplTokenManager token_source;
   SimpleCharStream jj_input_stream;
   public Token token, jj_nt;
@@ -40868,15 +40929,15 @@ final String p;
       jj_la1_22 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_23() {
-      jj_la1_23 = new int[] {0x0,0x800000,0x0,0x800000,0x0,0x0,0x800000,0x800000,0x0,0x0,0x0,};
+      jj_la1_23 = new int[] {0x0,0x1000000,0x0,0x1000000,0x0,0x0,0x1000000,0x1000000,0x0,0x0,0x0,};
    }
    private static void jj_la1_24() {
-      jj_la1_24 = new int[] {0x0,0x0,0x800,0x0,0x1208020,0x600000,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_24 = new int[] {0x0,0x0,0x1000,0x0,0x2410040,0xc00000,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_25() {
       jj_la1_25 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
-  final private JJCalls[] jj_2_rtns = new JJCalls[1829];
+  final private JJCalls[] jj_2_rtns = new JJCalls[1832];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -41051,8 +41112,8 @@ final String p;
 
   public ParseException generateParseException() {
     jj_expentries.removeAllElements();
-    boolean[] la1tokens = new boolean[830];
-    for (int i = 0; i < 830; i++) {
+    boolean[] la1tokens = new boolean[831];
+    for (int i = 0; i < 831; i++) {
       la1tokens[i] = false;
     }
     if (jj_kind >= 0) {
@@ -41143,7 +41204,7 @@ final String p;
         }
       }
     }
-    for (int i = 0; i < 830; i++) {
+    for (int i = 0; i < 831; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -41168,7 +41229,7 @@ final String p;
 
   final private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 1829; i++) {
+    for (int i = 0; i < 1832; i++) {
     try {
       JJCalls p = jj_2_rtns[i];
       do {
@@ -43004,6 +43065,9 @@ final String p;
             case 1826: jj_3_1827(); break;
             case 1827: jj_3_1828(); break;
             case 1828: jj_3_1829(); break;
+            case 1829: jj_3_1830(); break;
+            case 1830: jj_3_1831(); break;
+            case 1831: jj_3_1832(); break;
           }
         }
         p = p.next;
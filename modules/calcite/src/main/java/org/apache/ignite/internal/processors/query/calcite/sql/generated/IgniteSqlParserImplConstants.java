@@ -740,91 +740,92 @@ public interface IgniteSqlParserImplConstants {
   int INDEX = 734;
   int PARALLEL = 735;
   int INLINE_SIZE = 736;
-  int LOGGING = 737;
-  int NOLOGGING = 738;
-  int PASSWORD = 739;
-  int KILL = 740;
-  int SCAN = 741;
-  int CONTINUOUS = 742;
-  int SERVICE = 743;
-  int COMPUTE = 744;
-  int ASYNC = 745;
-  int QUERY = 746;
-  int STATISTICS = 747;
-  int REFRESH = 748;
-  int ANALYZE = 749;
-  int MAX_CHANGED_PARTITION_ROWS_PERCENT = 750;
-  int TOTAL = 751;
-  int UNSIGNED_INTEGER_LITERAL = 752;
-  int APPROX_NUMERIC_LITERAL = 753;
-  int DECIMAL_NUMERIC_LITERAL = 754;
-  int EXPONENT = 755;
-  int HEXDIGIT = 756;
-  int WHITESPACE = 757;
-  int BINARY_STRING_LITERAL = 758;
-  int QUOTED_STRING = 759;
-  int PREFIXED_STRING_LITERAL = 760;
-  int UNICODE_STRING_LITERAL = 761;
-  int C_STYLE_ESCAPED_STRING_LITERAL = 762;
-  int CHARSETNAME = 763;
-  int BIG_QUERY_DOUBLE_QUOTED_STRING = 764;
-  int BIG_QUERY_QUOTED_STRING = 765;
-  int UNICODE_QUOTED_ESCAPE_CHAR = 766;
-  int LPAREN = 767;
-  int RPAREN = 768;
-  int LBRACE_D = 769;
-  int LBRACE_T = 770;
-  int LBRACE_TS = 771;
-  int LBRACE_FN = 772;
-  int LBRACE = 773;
-  int RBRACE = 774;
-  int LBRACKET = 775;
-  int RBRACKET = 776;
-  int SEMICOLON = 777;
-  int DOT = 778;
-  int COMMA = 779;
-  int EQ = 780;
-  int GT = 781;
-  int LT = 782;
-  int HOOK = 783;
-  int COLON = 784;
-  int LE = 785;
-  int GE = 786;
-  int NE = 787;
-  int NE2 = 788;
-  int PLUS = 789;
-  int MINUS = 790;
-  int LAMBDA = 791;
-  int STAR = 792;
-  int SLASH = 793;
-  int PERCENT_REMAINDER = 794;
-  int CONCAT = 795;
-  int NAMED_ARGUMENT_ASSIGNMENT = 796;
-  int DOUBLE_PERIOD = 797;
-  int QUOTE = 798;
-  int DOUBLE_QUOTE = 799;
-  int VERTICAL_BAR = 800;
-  int CARET = 801;
-  int AMPERSAND = 802;
-  int LEFTSHIFT = 803;
-  int DOLLAR = 804;
-  int INFIX_CAST = 805;
-  int HINT_BEG = 811;
-  int COMMENT_END = 812;
-  int SINGLE_LINE_COMMENT = 815;
-  int FORMAL_COMMENT = 816;
-  int MULTI_LINE_COMMENT = 817;
-  int BRACKET_QUOTED_IDENTIFIER = 819;
-  int QUOTED_IDENTIFIER = 820;
-  int BACK_QUOTED_IDENTIFIER = 821;
-  int BIG_QUERY_BACK_QUOTED_IDENTIFIER = 822;
-  int HYPHENATED_IDENTIFIER = 823;
-  int IDENTIFIER = 824;
-  int COLLATION_ID = 825;
-  int UNICODE_QUOTED_IDENTIFIER = 826;
-  int LETTER = 827;
-  int DIGIT = 828;
-  int BEL = 829;
+  int HASH = 737;
+  int LOGGING = 738;
+  int NOLOGGING = 739;
+  int PASSWORD = 740;
+  int KILL = 741;
+  int SCAN = 742;
+  int CONTINUOUS = 743;
+  int SERVICE = 744;
+  int COMPUTE = 745;
+  int ASYNC = 746;
+  int QUERY = 747;
+  int STATISTICS = 748;
+  int REFRESH = 749;
+  int ANALYZE = 750;
+  int MAX_CHANGED_PARTITION_ROWS_PERCENT = 751;
+  int TOTAL = 752;
+  int UNSIGNED_INTEGER_LITERAL = 753;
+  int APPROX_NUMERIC_LITERAL = 754;
+  int DECIMAL_NUMERIC_LITERAL = 755;
+  int EXPONENT = 756;
+  int HEXDIGIT = 757;
+  int WHITESPACE = 758;
+  int BINARY_STRING_LITERAL = 759;
+  int QUOTED_STRING = 760;
+  int PREFIXED_STRING_LITERAL = 761;
+  int UNICODE_STRING_LITERAL = 762;
+  int C_STYLE_ESCAPED_STRING_LITERAL = 763;
+  int CHARSETNAME = 764;
+  int BIG_QUERY_DOUBLE_QUOTED_STRING = 765;
+  int BIG_QUERY_QUOTED_STRING = 766;
+  int UNICODE_QUOTED_ESCAPE_CHAR = 767;
+  int LPAREN = 768;
+  int RPAREN = 769;
+  int LBRACE_D = 770;
+  int LBRACE_T = 771;
+  int LBRACE_TS = 772;
+  int LBRACE_FN = 773;
+  int LBRACE = 774;
+  int RBRACE = 775;
+  int LBRACKET = 776;
+  int RBRACKET = 777;
+  int SEMICOLON = 778;
+  int DOT = 779;
+  int COMMA = 780;
+  int EQ = 781;
+  int GT = 782;
+  int LT = 783;
+  int HOOK = 784;
+  int COLON = 785;
+  int LE = 786;
+  int GE = 787;
+  int NE = 788;
+  int NE2 = 789;
+  int PLUS = 790;
+  int MINUS = 791;
+  int LAMBDA = 792;
+  int STAR = 793;
+  int SLASH = 794;
+  int PERCENT_REMAINDER = 795;
+  int CONCAT = 796;
+  int NAMED_ARGUMENT_ASSIGNMENT = 797;
+  int DOUBLE_PERIOD = 798;
+  int QUOTE = 799;
+  int DOUBLE_QUOTE = 800;
+  int VERTICAL_BAR = 801;
+  int CARET = 802;
+  int AMPERSAND = 803;
+  int LEFTSHIFT = 804;
+  int DOLLAR = 805;
+  int INFIX_CAST = 806;
+  int HINT_BEG = 812;
+  int COMMENT_END = 813;
+  int SINGLE_LINE_COMMENT = 816;
+  int FORMAL_COMMENT = 817;
+  int MULTI_LINE_COMMENT = 818;
+  int BRACKET_QUOTED_IDENTIFIER = 820;
+  int QUOTED_IDENTIFIER = 821;
+  int BACK_QUOTED_IDENTIFIER = 822;
+  int BIG_QUERY_BACK_QUOTED_IDENTIFIER = 823;
+  int HYPHENATED_IDENTIFIER = 824;
+  int IDENTIFIER = 825;
+  int COLLATION_ID = 826;
+  int UNICODE_QUOTED_IDENTIFIER = 827;
+  int LETTER = 828;
+  int DIGIT = 829;
+  int BEL = 830;
 
   int DEFAULT = 0;
   int DQID = 1;
@@ -1572,6 +1573,7 @@ public interface IgniteSqlParserImplConstants {
     "\"INDEX\"",
     "\"PARALLEL\"",
     "\"INLINE_SIZE\"",
+    "\"HASH\"",
     "\"LOGGING\"",
     "\"NOLOGGING\"",
     "\"PASSWORD\"",
@@ -1648,12 +1650,12 @@ public interface IgniteSqlParserImplConstants {
     "\"\\f\"",
     "\"/*+\"",
     "\"*/\"",
-    "<token of kind 813>",
+    "<token of kind 814>",
     "\"/*\"",
     "<SINGLE_LINE_COMMENT>",
     "<FORMAL_COMMENT>",
     "<MULTI_LINE_COMMENT>",
-    "<token of kind 818>",
+    "<token of kind 819>",
     "<BRACKET_QUOTED_IDENTIFIER>",
     "<QUOTED_IDENTIFIER>",
     "<BACK_QUOTED_IDENTIFIER>",
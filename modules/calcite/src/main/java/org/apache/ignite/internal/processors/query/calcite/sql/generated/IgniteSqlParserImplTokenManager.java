@@ -147,194 +147,194 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
    switch (pos)
    {
       case 0:
-         if ((active12 & 0x20L) != 0L)
+         if ((active2 & 0xfe00000000000000L) != 0L || (active3 & 0x7ffffL) != 0L || (active11 & 0x20000000L) != 0L)
+         {
+            jjmatchedKind = 825;
+            return 16;
+         }
+         if ((active12 & 0x40L) != 0L)
             return 94;
-         if ((active12 & 0x40000000L) != 0L)
-            return 63;
-         if ((active12 & 0x480002000000L) != 0L)
-            return 92;
-         if ((active5 & 0x7fffff000000000L) != 0L || (active11 & 0x400000000L) != 0L)
+         if ((active5 & 0x7fffff000000000L) != 0L || (active11 & 0x800000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             return 95;
          }
-         if ((active11 & 0x2000L) != 0L)
+         if ((active12 & 0x80000000L) != 0L)
+            return 63;
+         if ((active12 & 0x900004000000L) != 0L)
+            return 92;
+         if ((active10 & 0x7fffffe000000L) != 0L)
          {
-            jjmatchedKind = 824;
-            return 1;
+            jjmatchedKind = 825;
+            return 66;
          }
-         if ((active12 & 0x80000000L) != 0L)
+         if ((active12 & 0x100000000L) != 0L)
             return 96;
-         if ((active2 & 0xfe00000000000000L) != 0L || (active3 & 0x7ffffL) != 0L || (active11 & 0x20000000L) != 0L)
+         if ((active0 & 0xfffc000000000L) != 0L || (active2 & 0x1ffffffffffffc0L) != 0L || (active3 & 0xff8001fffff80000L) != 0L || (active4 & 0xfffff0ffffffffffL) != 0L || (active5 & 0xf800000000000003L) != 0L || (active6 & 0xffffffffffffffffL) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffefffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfff8000001ffffffL) != 0L || (active11 & 0x13957de4fdfffL) != 0L)
          {
-            jjmatchedKind = 824;
-            return 16;
+            jjmatchedKind = 825;
+            return 97;
          }
-         if ((active0 & 0xfff0003ffffffff8L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fL) != 0L || (active3 & 0x7ffe0000000000L) != 0L || (active4 & 0xf0000000000L) != 0L || (active5 & 0xffffffffcL) != 0L || (active8 & 0x100000L) != 0L || (active11 & 0x635001b00000L) != 0L || (active12 & 0x1000000000L) != 0L)
+         if ((active0 & 0xfff0003ffffffff8L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fL) != 0L || (active3 & 0x7ffe0000000000L) != 0L || (active4 & 0xf0000000000L) != 0L || (active5 & 0xffffffffcL) != 0L || (active8 & 0x100000L) != 0L || (active11 & 0xc6a001b00000L) != 0L || (active12 & 0x2000000000L) != 0L)
             return 97;
-         if ((active12 & 0x20000400L) != 0L)
+         if ((active12 & 0x40000800L) != 0L)
             return 98;
-         if ((active0 & 0xfffc000000000L) != 0L || (active2 & 0x1ffffffffffffc0L) != 0L || (active3 & 0xff8001fffff80000L) != 0L || (active4 & 0xfffff0ffffffffffL) != 0L || (active5 & 0xf800000000000003L) != 0L || (active6 & 0xffffffffffffffffL) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffefffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfff8000001ffffffL) != 0L || (active11 & 0x9cabde4fdfffL) != 0L)
-         {
-            jjmatchedKind = 824;
-            return 97;
-         }
-         if ((active10 & 0x7fffffe000000L) != 0L)
+         if ((active11 & 0x2000L) != 0L)
          {
-            jjmatchedKind = 824;
-            return 66;
+            jjmatchedKind = 825;
+            return 1;
          }
-         if ((active12 & 0xc00000L) != 0L)
+         if ((active12 & 0x1800000L) != 0L)
             return 23;
          return -1;
       case 1:
-         if ((active12 & 0x480000000000L) != 0L)
+         if ((active12 & 0x900000000000L) != 0L)
             return 90;
-         if ((active0 & 0x8000ffe000000L) != 0L || (active3 & 0x1800000000000L) != 0L || (active4 & 0x100000001ffffff0L) != 0L || (active5 & 0x8007c00000000000L) != 0L || (active6 & 0x3e39L) != 0L || (active10 & 0x3L) != 0L || (active11 & 0x820540220000L) != 0L)
-            return 97;
-         if ((active0 & 0xffe7fff001fffff0L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0xffffffffffffffffL) != 0L || (active3 & 0xfffe7dffffffffffL) != 0L || (active4 & 0xeffffeffe000000fL) != 0L || (active5 & 0x7ff83ffffffffffbL) != 0L || (active6 & 0xffffffffffffc1c6L) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffffffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfffffffffffffffcL) != 0L || (active11 & 0x7dfabfddffffL) != 0L)
+         if ((active0 & 0xffe7fff001fffff0L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0xffffffffffffffffL) != 0L || (active3 & 0xfffe7dffffffffffL) != 0L || (active4 & 0xeffffeffe000000fL) != 0L || (active5 & 0x7ff83ffffffffffbL) != 0L || (active6 & 0xffffffffffffc1c6L) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffffffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfffffffffffffffcL) != 0L || (active11 & 0xfbf6bfddffffL) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 1;
             }
             return 97;
          }
+         if ((active0 & 0x8000ffe000000L) != 0L || (active3 & 0x1800000000000L) != 0L || (active4 & 0x100000001ffffff0L) != 0L || (active5 & 0x8007c00000000000L) != 0L || (active6 & 0x3e39L) != 0L || (active10 & 0x3L) != 0L || (active11 & 0x1040940220000L) != 0L)
+            return 97;
          return -1;
       case 2:
-         if ((active0 & 0x402008167370L) != 0L || (active2 & 0xc01a000001ef0000L) != 0L || (active3 & 0x4002000f000c003L) != 0L || (active4 & 0x2e0000fc0000L) != 0L || (active5 & 0x410003f800c08L) != 0L || (active6 & 0x11fc000438012L) != 0L || (active7 & 0x7800000000e00L) != 0L || (active8 & 0xfffffffe001c0000L) != 0L || (active9 & 0x100003fffffL) != 0L || (active11 & 0x500000002000L) != 0L)
-            return 97;
-         if ((active0 & 0xffe7bfdef5e98c80L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fe5fffffe10ffffL) != 0L || (active3 & 0xfbff5dff0fff3ffcL) != 0L || (active4 & 0xefffd0fffd03ffefL) != 0L || (active5 & 0x7ffbafffc07ff3f3L) != 0L || (active6 & 0xfffee03fffbc7de5L) != 0L || (active7 & 0xfff87ffffffff1ffL) != 0L || (active8 & 0x1ffe3ffffL) != 0L || (active9 & 0xfffffeffffc00000L) != 0L || (active10 & 0xfffffffffffffffeL) != 0L || (active11 & 0xaffffffddfffL) != 0L)
+         if ((active0 & 0xffe7bfdef5e98c80L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fe5fffffe10ffffL) != 0L || (active3 & 0xfbff5dff0fff3ffcL) != 0L || (active4 & 0xefffd0fffd03ffefL) != 0L || (active5 & 0x7ffbafffc07ff3f3L) != 0L || (active6 & 0xfffee03fffbc7de5L) != 0L || (active7 & 0xfff87ffffffff1ffL) != 0L || (active8 & 0x1ffe3ffffL) != 0L || (active9 & 0xfffffeffffc00000L) != 0L || (active10 & 0xfffffffffffffffeL) != 0L || (active11 & 0x15ffffffddfffL) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 2;
             }
             return 97;
          }
+         if ((active0 & 0x402008167370L) != 0L || (active2 & 0xc01a000001ef0000L) != 0L || (active3 & 0x4002000f000c003L) != 0L || (active4 & 0x2e0000fc0000L) != 0L || (active5 & 0x410003f800c08L) != 0L || (active6 & 0x11fc000438012L) != 0L || (active7 & 0x7800000000e00L) != 0L || (active8 & 0xfffffffe001c0000L) != 0L || (active9 & 0x100003fffffL) != 0L || (active11 & 0xa00000002000L) != 0L)
+            return 97;
          return -1;
       case 3:
-         if ((active0 & 0x33853fdef1e9ece0L) != 0L || (active1 & 0xffdf3fffffffb803L) != 0L || (active2 & 0x35c5fc3fffd6003fL) != 0L || (active3 & 0xe1fe5d97efffa7ffL) != 0L || (active4 & 0xe9c4dc001d7bffefL) != 0L || (active5 & 0x7e1b0fcdf77ffbf3L) != 0L || (active6 & 0xfbfe7fa7ff837d81L) != 0L || (active7 & 0xfffb7efffffffd0fL) != 0L || (active8 & 0xfffffffdf4d3fd7fL) != 0L || (active9 & 0x800bfeffffbfffffL) != 0L || (active10 & 0xbffb41fffef1fffeL) != 0L || (active11 & 0xffcffdfc1870L) != 0L)
+         if ((active0 & 0xcc62800004000000L) != 0L || (active1 & 0x20c000000047fcL) != 0L || (active2 & 0xa2003c00008ffc0L) != 0L || (active3 & 0x1a01006800001800L) != 0L || (active4 & 0x63b00ffe0800000L) != 0L || (active5 & 0x1e0a03200000000L) != 0L || (active6 & 0x4008018003c0064L) != 0L || (active7 & 0x40100000000f0L) != 0L || (active8 & 0xb280280L) != 0L || (active9 & 0x7ff4000000400000L) != 0L || (active10 & 0x4004be00010e0000L) != 0L || (active11 & 0x620201c78fL) != 0L)
+            return 97;
+         if ((active2 & 0x8000000000000000L) != 0L)
+            return 99;
+         if ((active0 & 0x33853fdef1e9ece0L) != 0L || (active1 & 0xffdf3fffffffb803L) != 0L || (active2 & 0x35c5fc3fffd6003fL) != 0L || (active3 & 0xe1fe5d97efffa7ffL) != 0L || (active4 & 0xe9c4dc001d7bffefL) != 0L || (active5 & 0x7e1b0fcdf77ffbf3L) != 0L || (active6 & 0xfbfe7fa7ff837d81L) != 0L || (active7 & 0xfffb7efffffffd0fL) != 0L || (active8 & 0xfffffffdf4d3fd7fL) != 0L || (active9 & 0x800bfeffffbfffffL) != 0L || (active10 & 0xbffb41fffef1fffeL) != 0L || (active11 & 0x1ff9dfdfc1870L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 3;
             }
             return 97;
          }
-         if ((active0 & 0xcc62800004000000L) != 0L || (active1 & 0x20c000000047fcL) != 0L || (active2 & 0xa2003c00008ffc0L) != 0L || (active3 & 0x1a01006800001800L) != 0L || (active4 & 0x63b00ffe0800000L) != 0L || (active5 & 0x1e0a03200000000L) != 0L || (active6 & 0x4008018003c0064L) != 0L || (active7 & 0x40100000000f0L) != 0L || (active8 & 0xb280280L) != 0L || (active9 & 0x7ff4000000400000L) != 0L || (active10 & 0x4004be00010e0000L) != 0L || (active11 & 0x300201c78fL) != 0L)
-            return 97;
-         if ((active2 & 0x8000000000000000L) != 0L)
-            return 99;
          return -1;
       case 4:
-         if ((active0 & 0xb3c53c5ef00120e0L) != 0L || (active1 & 0xffcebffffffd37f9L) != 0L || (active2 & 0x25c5ffa7ffd6fe9fL) != 0L || (active3 & 0x61805d96e827b7abL) != 0L || (active4 & 0x5564cff1d7bc7efL) != 0L || (active5 & 0x7ecb09c4777f7801L) != 0L || (active6 & 0xebee5fa7ffba7181L) != 0L || (active7 & 0x1bfb7e3ffdfffd07L) != 0L || (active8 & 0xfffffffdd4c3fd7eL) != 0L || (active9 & 0xffca3efefc3fffffL) != 0L || (active10 & 0xbfc03cbf9ef5effeL) != 0L || (active11 & 0x79cfbbbc0b68L) != 0L)
+         if ((active0 & 0x38001e8cc00L) != 0L || (active1 & 0x11000000028802L) != 0L || (active2 & 0x1000001800000020L) != 0L || (active3 & 0x907e000107d80054L) != 0L || (active4 & 0xe880900000003800L) != 0L || (active5 & 0x1100629800083f2L) != 0L || (active6 & 0x1010200000010c00L) != 0L || (active7 & 0xe40000c002000048L) != 0L || (active8 & 0x20100001L) != 0L || (active9 & 0x1c00103800000L) != 0L || (active10 & 0x3b414060001000L) != 0L || (active11 & 0x10c0044409012L) != 0L)
+            return 97;
+         if ((active0 & 0xb3c53c5ef00120e0L) != 0L || (active1 & 0xffcebffffffd37f9L) != 0L || (active2 & 0x25c5ffa7ffd6fe9fL) != 0L || (active3 & 0x61805d96e827b7abL) != 0L || (active4 & 0x5564cff1d7bc7efL) != 0L || (active5 & 0x7ecb09c4777f7801L) != 0L || (active6 & 0xebee5fa7ffba7181L) != 0L || (active7 & 0x1bfb7e3ffdfffd07L) != 0L || (active8 & 0xfffffffdd4c3fd7eL) != 0L || (active9 & 0xffca3efefc3fffffL) != 0L || (active10 & 0xbfc03cbf9ef5effeL) != 0L || (active11 & 0xf39dbbbc0b68L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 4;
             }
             return 97;
          }
-         if ((active0 & 0x38001e8cc00L) != 0L || (active1 & 0x11000000028802L) != 0L || (active2 & 0x1000001800000020L) != 0L || (active3 & 0x907e000107d80054L) != 0L || (active4 & 0xe880900000003800L) != 0L || (active5 & 0x1100629800083f2L) != 0L || (active6 & 0x1010200000010c00L) != 0L || (active7 & 0xe40000c002000048L) != 0L || (active8 & 0x20100001L) != 0L || (active9 & 0x1c00103800000L) != 0L || (active10 & 0x3b414060001000L) != 0L || (active11 & 0x860044409012L) != 0L)
-            return 97;
          if ((active2 & 0x8000000000000000L) != 0L)
             return 99;
          return -1;
       case 5:
-         if ((active0 & 0x403042000100a0L) != 0L || (active1 & 0x8000033000000L) != 0L || (active2 & 0x50003e0400018L) != 0L || (active3 & 0x40c04110202121a8L) != 0L || (active4 & 0x40000004008008L) != 0L || (active5 & 0x4a80000163084000L) != 0L || (active6 & 0x8000080100024181L) != 0L || (active7 & 0x1a00043fe0000000L) != 0L || (active8 & 0x1080c11eL) != 0L || (active9 & 0x3a0824000000L) != 0L || (active10 & 0x1000a880800000L) != 0L || (active11 & 0x200140L) != 0L)
-            return 97;
-         if ((active2 & 0x8000000000000000L) != 0L)
-            return 99;
-         if ((active0 & 0xb3850f1cf1c02040L) != 0L || (active1 & 0xffc6bfffccfd37f9L) != 0L || (active2 & 0x25c0ffa41f96fe87L) != 0L || (active3 & 0x21341c86c9069603L) != 0L || (active4 & 0xc5164cff197b47e7L) != 0L || (active5 & 0x344b09c414773be1L) != 0L || (active6 & 0x6bee57a6ffb83800L) != 0L || (active7 & 0xc1fb7a001dfffd07L) != 0L || (active8 & 0xfffffffdc4433c61L) != 0L || (active9 & 0xffcb84f6da3fffffL) != 0L || (active10 & 0xbfe03c171e75effeL) != 0L || (active11 & 0x79cfbfdc0a28L) != 0L)
+         if ((active0 & 0xb3850f1cf1c02040L) != 0L || (active1 & 0xffc6bfffccfd37f9L) != 0L || (active2 & 0x25c0ffa41f96fe87L) != 0L || (active3 & 0x21341c86c9069603L) != 0L || (active4 & 0xc5164cff197b47e7L) != 0L || (active5 & 0x344b09c414773be1L) != 0L || (active6 & 0x6bee57a6ffb83800L) != 0L || (active7 & 0xc1fb7a001dfffd07L) != 0L || (active8 & 0xfffffffdc4433c61L) != 0L || (active9 & 0xffcb84f6da3fffffL) != 0L || (active10 & 0xbfe03c171e75effeL) != 0L || (active11 & 0xf39dbfdc0a28L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 5;
             }
             return 97;
          }
+         if ((active0 & 0x403042000100a0L) != 0L || (active1 & 0x8000033000000L) != 0L || (active2 & 0x50003e0400018L) != 0L || (active3 & 0x40c04110202121a8L) != 0L || (active4 & 0x40000004008008L) != 0L || (active5 & 0x4a80000163084000L) != 0L || (active6 & 0x8000080100024181L) != 0L || (active7 & 0x1a00043fe0000000L) != 0L || (active8 & 0x1080c11eL) != 0L || (active9 & 0x3a0824000000L) != 0L || (active10 & 0x1000a880800000L) != 0L || (active11 & 0x200140L) != 0L)
+            return 97;
+         if ((active2 & 0x8000000000000000L) != 0L)
+            return 99;
          return -1;
       case 6:
-         if ((active0 & 0xb305080000000000L) != 0L || (active1 & 0xff80200e00840001L) != 0L || (active2 & 0x5c00020c7800007L) != 0L || (active3 & 0x40400c0049200L) != 0L || (active4 & 0x114000009080620L) != 0L || (active5 & 0x400090002003061L) != 0L || (active6 & 0x90257a240103100L) != 0L || (active7 & 0x878100d410007L) != 0L || (active8 & 0x8000430030L) != 0L || (active9 & 0x8000000000000000L) != 0L || (active10 & 0x3e4000070241e000L) != 0L || (active11 & 0x318200080a00L) != 0L)
-            return 97;
-         if ((active0 & 0x80071cf1c02040L) != 0L || (active1 & 0x469ff1ee7937f8L) != 0L || (active2 & 0x2000ff841816fe90L) != 0L || (active3 & 0x2130188609020503L) != 0L || (active4 & 0xc4024cff107341c7L) != 0L || (active5 & 0x304b00c414770b80L) != 0L || (active6 & 0x62ec0004bfa80800L) != 0L || (active7 & 0xd1f3020f90befd00L) != 0L || (active8 & 0xffffff7dc400bc41L) != 0L || (active9 & 0x7fcbb4f6da3fffffL) != 0L || (active10 & 0x81a03c101c340ffeL) != 0L || (active11 & 0x484dbff40028L) != 0L)
+         if ((active0 & 0x80071cf1c02040L) != 0L || (active1 & 0x469ff1ee7937f8L) != 0L || (active2 & 0x2000ff841816fe90L) != 0L || (active3 & 0x2130188609020503L) != 0L || (active4 & 0xc4024cff107341c7L) != 0L || (active5 & 0x304b00c414770b80L) != 0L || (active6 & 0x62ec0004bfa80800L) != 0L || (active7 & 0xd1f3020f90befd00L) != 0L || (active8 & 0xffffff7dc400bc41L) != 0L || (active9 & 0x7fcbb4f6da3fffffL) != 0L || (active10 & 0x81a03c101c340ffeL) != 0L || (active11 & 0x9099bff40028L) != 0L)
          {
             if (jjmatchedPos != 6)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 6;
             }
             return 97;
          }
+         if ((active0 & 0xb305080000000000L) != 0L || (active1 & 0xff80200e00840001L) != 0L || (active2 & 0x5c00020c7800007L) != 0L || (active3 & 0x40400c0049200L) != 0L || (active4 & 0x114000009080620L) != 0L || (active5 & 0x400090002003061L) != 0L || (active6 & 0x90257a240103100L) != 0L || (active7 & 0x878100d410007L) != 0L || (active8 & 0x8000430030L) != 0L || (active9 & 0x8000000000000000L) != 0L || (active10 & 0x3e4000070241e000L) != 0L || (active11 & 0x630400080a00L) != 0L)
+            return 97;
          if ((active2 & 0x8000000000000000L) != 0L)
             return 99;
          return -1;
       case 7:
-         if ((active0 & 0x2080071cf1c00000L) != 0L || (active1 & 0xff4683fdee7837f8L) != 0L || (active2 & 0x1802f0408160617L) != 0L || (active3 & 0x110080609000503L) != 0L || (active4 & 0xc40204ff103245c7L) != 0L || (active5 & 0x300b004000770380L) != 0L || (active6 & 0x60c00704bfa02000L) != 0L || (active7 & 0xd173700f8082fd00L) != 0L || (active8 & 0xffffe2740002ac01L) != 0L || (active9 & 0x7fc3b476da3ffe5fL) != 0L || (active10 & 0xa1003c001c05cffaL) != 0L || (active11 & 0x484537f00020L) != 0L)
+         if ((active0 & 0x200000000002040L) != 0L || (active1 & 0x1c0000010000L) != 0L || (active2 & 0x2000d0801400f880L) != 0L || (active3 & 0x2020108000020000L) != 0L || (active4 & 0x480000410000L) != 0L || (active5 & 0x40008414002800L) != 0L || (active6 & 0x22c000000080800L) != 0L || (active7 & 0x800200103c0004L) != 0L || (active8 & 0x1d09c4001040L) != 0L || (active9 & 0x80080000001a0L) != 0L || (active10 & 0xa0001000300004L) != 0L || (active11 & 0x1088040008L) != 0L)
+            return 97;
+         if ((active2 & 0x8000000000000000L) != 0L)
+            return 99;
+         if ((active0 & 0x2080071cf1c00000L) != 0L || (active1 & 0xff4683fdee7837f8L) != 0L || (active2 & 0x1802f0408160617L) != 0L || (active3 & 0x110080609000503L) != 0L || (active4 & 0xc40204ff103245c7L) != 0L || (active5 & 0x300b004000770380L) != 0L || (active6 & 0x60c00704bfa02000L) != 0L || (active7 & 0xd173700f8082fd00L) != 0L || (active8 & 0xffffe2740002ac01L) != 0L || (active9 & 0x7fc3b476da3ffe5fL) != 0L || (active10 & 0xa1003c001c05cffaL) != 0L || (active11 & 0x908937f00020L) != 0L)
          {
             if (jjmatchedPos != 7)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 7;
             }
             return 97;
          }
-         if ((active0 & 0x200000000002040L) != 0L || (active1 & 0x1c0000010000L) != 0L || (active2 & 0x2000d0801400f880L) != 0L || (active3 & 0x2020108000020000L) != 0L || (active4 & 0x480000410000L) != 0L || (active5 & 0x40008414002800L) != 0L || (active6 & 0x22c000000080800L) != 0L || (active7 & 0x800200103c0004L) != 0L || (active8 & 0x1d09c4001040L) != 0L || (active9 & 0x80080000001a0L) != 0L || (active10 & 0xa0001000300004L) != 0L || (active11 & 0x888040008L) != 0L)
-            return 97;
-         if ((active2 & 0x8000000000000000L) != 0L)
-            return 99;
          return -1;
       case 8:
-         if ((active0 & 0x20800310d1800000L) != 0L || (active1 & 0xff048bfc0e003008L) != 0L || (active2 & 0x1802f040810f417L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x40204ff00024004L) != 0L || (active5 & 0x3000004000770380L) != 0L || (active6 & 0x2008070400202000L) != 0L || (active7 & 0xd06270078082cc00L) != 0L || (active8 & 0xffff62758002a001L) != 0L || (active9 & 0x6081b016583fff59L) != 0L || (active10 & 0x20003c001805c87aL) != 0L || (active11 & 0x484117d00020L) != 0L)
+         if ((active0 & 0x40c20400000L) != 0L || (active1 & 0x420001e07807f0L) != 0L || (active2 & 0x60200L) != 0L || (active3 & 0x100080408000501L) != 0L || (active4 & 0xc0000000103005c3L) != 0L || (active5 & 0xb000000000000L) != 0L || (active6 & 0x40c00000bf800000L) != 0L || (active7 & 0x111000800003100L) != 0L || (active8 & 0x800000000c00L) != 0L || (active9 & 0x1f42046082000006L) != 0L || (active10 & 0x8100000004000780L) != 0L || (active11 & 0x820200000L) != 0L)
+            return 97;
+         if ((active0 & 0x20800310d1800000L) != 0L || (active1 & 0xff048bfc0e003008L) != 0L || (active2 & 0x1802f040810f417L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x40204ff00024004L) != 0L || (active5 & 0x3000004000770380L) != 0L || (active6 & 0x2008070400202000L) != 0L || (active7 & 0xd06270078082cc00L) != 0L || (active8 & 0xffff62758002a001L) != 0L || (active9 & 0x6081b016583fff59L) != 0L || (active10 & 0x20003c001805c87aL) != 0L || (active11 & 0x908117d00020L) != 0L)
          {
             if (jjmatchedPos != 8)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 8;
             }
             return 97;
          }
-         if ((active0 & 0x40c20400000L) != 0L || (active1 & 0x420001e07807f0L) != 0L || (active2 & 0x60200L) != 0L || (active3 & 0x100080408000501L) != 0L || (active4 & 0xc0000000103005c3L) != 0L || (active5 & 0xb000000000000L) != 0L || (active6 & 0x40c00000bf800000L) != 0L || (active7 & 0x111000800003100L) != 0L || (active8 & 0x800000000c00L) != 0L || (active9 & 0x1f42046082000006L) != 0L || (active10 & 0x8100000004000780L) != 0L || (active11 & 0x420200000L) != 0L)
-            return 97;
          return -1;
       case 9:
-         if ((active0 & 0x8d0000000L) != 0L || (active1 & 0x401fc00001400L) != 0L || (active2 & 0x220408100400L) != 0L || (active4 & 0x40204e300000000L) != 0L || (active5 & 0x2004000400000L) != 0L || (active6 & 0x2000000000202000L) != 0L || (active7 & 0x8002000000824400L) != 0L || (active8 & 0x407000000000L) != 0L || (active9 & 0x80801048000000L) != 0L || (active10 & 0x2000000000040100L) != 0L || (active11 & 0x84015000000L) != 0L)
-            return 97;
-         if ((active0 & 0x2080031001800000L) != 0L || (active1 & 0xff008a018e7023e8L) != 0L || (active2 & 0x1800d000000f017L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x8000001c00224006L) != 0L || (active5 & 0x3000000000370380L) != 0L || (active6 & 0x807043f000000L) != 0L || (active7 & 0x5060700780008800L) != 0L || (active8 & 0xffff22058002a001L) != 0L || (active9 & 0x7e013046103fff59L) != 0L || (active10 & 0x3c001801cc7aL) != 0L || (active11 & 0x400102d00020L) != 0L)
+         if ((active0 & 0x2080031001800000L) != 0L || (active1 & 0xff008a018e7023e8L) != 0L || (active2 & 0x1800d000000f017L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x8000001c00224006L) != 0L || (active5 & 0x3000000000370380L) != 0L || (active6 & 0x807043f000000L) != 0L || (active7 & 0x5060700780008800L) != 0L || (active8 & 0xffff22058002a001L) != 0L || (active9 & 0x7e013046103fff59L) != 0L || (active10 & 0x3c001801cc7aL) != 0L || (active11 & 0x800102d00020L) != 0L)
          {
             if (jjmatchedPos != 9)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 9;
             }
             return 97;
          }
+         if ((active0 & 0x8d0000000L) != 0L || (active1 & 0x401fc00001400L) != 0L || (active2 & 0x220408100400L) != 0L || (active4 & 0x40204e300000000L) != 0L || (active5 & 0x2004000400000L) != 0L || (active6 & 0x2000000000202000L) != 0L || (active7 & 0x8002000000824400L) != 0L || (active8 & 0x407000000000L) != 0L || (active9 & 0x80801048000000L) != 0L || (active10 & 0x2000000000040100L) != 0L || (active11 & 0x108015000000L) != 0L)
+            return 97;
          return -1;
       case 10:
          if ((active0 & 0x80010000000000L) != 0L || (active1 & 0x2000030082000008L) != 0L || (active2 & 0x90000000010L) != 0L || (active3 & 0x201000000L) != 0L || (active4 & 0x1c00004002L) != 0L || (active5 & 0x300000L) != 0L || (active6 & 0x400000000L) != 0L || (active7 & 0x1020000000000800L) != 0L || (active8 & 0x1220000008000L) != 0L || (active9 & 0x1300410200608L) != 0L || (active10 & 0x8000878L) != 0L || (active11 & 0x102800000L) != 0L)
             return 97;
-         if ((active0 & 0x2000021001800000L) != 0L || (active1 & 0xdf0088e90c7023e0L) != 0L || (active2 & 0x18004000000f007L) != 0L || (active3 & 0x10000000000002L) != 0L || (active4 & 0x8000000200220004L) != 0L || (active5 & 0x3000000000070380L) != 0L || (active6 & 0x807003f000000L) != 0L || (active7 & 0x4040700780008000L) != 0L || (active8 & 0xfffe000580022001L) != 0L || (active9 & 0x7e000042001ff951L) != 0L || (active10 & 0x3c001001c402L) != 0L || (active11 & 0x400000500020L) != 0L)
+         if ((active0 & 0x2000021001800000L) != 0L || (active1 & 0xdf0088e90c7023e0L) != 0L || (active2 & 0x18004000000f007L) != 0L || (active3 & 0x10000000000002L) != 0L || (active4 & 0x8000000200220004L) != 0L || (active5 & 0x3000000000070380L) != 0L || (active6 & 0x807003f000000L) != 0L || (active7 & 0x4040700780008000L) != 0L || (active8 & 0xfffe000580022001L) != 0L || (active9 & 0x7e000042001ff951L) != 0L || (active10 & 0x3c001001c402L) != 0L || (active11 & 0x800000500020L) != 0L)
          {
             if (jjmatchedPos != 10)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 10;
             }
             return 97;
          }
          return -1;
       case 11:
-         if ((active0 & 0x21001800000L) != 0L || (active1 & 0x450088e90c7003e0L) != 0L || (active2 & 0x18004000000f002L) != 0L || (active3 & 0x2L) != 0L || (active4 & 0x8000001200000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000080000000L) != 0L || (active9 & 0x7c0000420013e901L) != 0L || (active10 & 0x3c0010014472L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x21001800000L) != 0L || (active1 & 0x450088e90c7003e0L) != 0L || (active2 & 0x18004000000f002L) != 0L || (active3 & 0x2L) != 0L || (active4 & 0x8000001200000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000080000000L) != 0L || (active9 & 0x7c0000420013e901L) != 0L || (active10 & 0x3c0010014472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 11)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 11;
             }
             return 97;
@@ -343,9 +343,9 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
             return 97;
          return -1;
       case 12:
-         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x450008e90c7003e0L) != 0L || (active2 & 0x18000000000e003L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5800004200036801L) != 0L || (active10 & 0x3c0000014472L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x450008e90c7003e0L) != 0L || (active2 & 0x18000000000e003L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5800004200036801L) != 0L || (active10 & 0x3c0000014472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 12;
             return 97;
          }
@@ -355,9 +355,9 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
       case 13:
          if ((active1 & 0x4000000000200000L) != 0L || (active2 & 0x8000L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x10000L) != 0L || (active6 & 0x8000003000000L) != 0L || (active7 & 0x4000400000008000L) != 0L || (active9 & 0x800000000024000L) != 0L || (active10 & 0x10000L) != 0L)
             return 97;
-         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x50008e90c5003e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020280L) != 0L || (active6 & 0x3003c000000L) != 0L || (active7 & 0x100780000000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5000004200012801L) != 0L || (active10 & 0x3c0000004472L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x50008e90c5003e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020280L) != 0L || (active6 & 0x3003c000000L) != 0L || (active7 & 0x100780000000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5000004200012801L) != 0L || (active10 & 0x3c0000004472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 13;
             return 97;
          }
@@ -365,19 +365,19 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
       case 14:
          if ((active0 & 0x20000000000L) != 0L || (active1 & 0x100084800000200L) != 0L || (active5 & 0x280L) != 0L || (active6 & 0x30000000000L) != 0L || (active7 & 0x100100000000L) != 0L || (active8 & 0x8000000000000000L) != 0L || (active9 & 0x5000004200010000L) != 0L || (active10 & 0x4402L) != 0L)
             return 97;
-         if ((active0 & 0x1800000L) != 0L || (active1 & 0x40000a10c5001e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7ffe000000000000L) != 0L || (active9 & 0x2801L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1800000L) != 0L || (active1 & 0x40000a10c5001e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7ffe000000000000L) != 0L || (active9 & 0x2801L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 14;
             return 97;
          }
          return -1;
       case 15:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x40000a0001001c0L) != 0L || (active2 & 0x6003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7fe0000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x40000a0001001c0L) != 0L || (active2 & 0x6003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7fe0000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 15)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 15;
             }
             return 97;
@@ -386,11 +386,11 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
             return 97;
          return -1;
       case 16:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x4000020080001c0L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0xf1c000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x4000020080001c0L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0xf1c000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 16)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 16;
             }
             return 97;
@@ -401,9 +401,9 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
       case 17:
          if ((active1 & 0x2000000080L) != 0L || (active8 & 0x400000000000000L) != 0L)
             return 97;
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x2bdc000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x2bdc000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 17;
             return 97;
          }
@@ -411,20 +411,20 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
       case 18:
          if ((active8 & 0xb00000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x10L) != 0L)
             return 97;
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x20dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x20dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 18)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 18;
             }
             return 97;
          }
          return -1;
       case 19:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000040L) != 0L || (active2 & 0x100000000006002L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x200000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000040L) != 0L || (active2 & 0x100000000006002L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x200000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 19;
             return 97;
          }
@@ -434,17 +434,17 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
       case 20:
          if ((active0 & 0x1000000L) != 0L || (active1 & 0x8000040L) != 0L || (active2 & 0x100000000000000L) != 0L || (active7 & 0x200000000L) != 0L)
             return 97;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x6002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x6002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 20;
             return 97;
          }
          return -1;
       case 21:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 21;
             return 97;
          }
@@ -452,9 +452,9 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
             return 97;
          return -1;
       case 22:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 22;
             return 97;
          }
@@ -464,9 +464,9 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
       case 23:
          if ((active8 & 0x4000000000000L) != 0L || (active10 & 0x200000000040L) != 0L)
             return 97;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active10 & 0x40000000000L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active10 & 0x40000000000L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 23;
             return 97;
          }
@@ -474,17 +474,17 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
       case 24:
          if ((active6 & 0x20000000L) != 0L || (active10 & 0x40000000000L) != 0L)
             return 97;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0xc000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0xc000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 24;
             return 97;
          }
          return -1;
       case 25:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active8 & 0x2c0000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active8 & 0x2c0000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 25;
             return 97;
          }
@@ -492,9 +492,9 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
             return 97;
          return -1;
       case 26:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 26;
             return 97;
          }
@@ -502,9 +502,9 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
             return 97;
          return -1;
       case 27:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 27;
             return 97;
          }
@@ -512,17 +512,17 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
       case 28:
          if ((active8 & 0x200000000000000L) != 0L)
             return 97;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 28;
             return 97;
          }
          return -1;
       case 29:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 29;
             return 97;
          }
@@ -530,17 +530,17 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
       case 30:
          if ((active1 & 0x400000000000000L) != 0L)
             return 97;
-         if ((active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 30;
             return 97;
          }
          return -1;
       case 31:
-         if ((active11 & 0x400000000000L) != 0L)
+         if ((active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 31;
             return 97;
          }
@@ -548,9 +548,9 @@ private final int jjStopStringLiteralDfa_1(int pos, long active0, long active1,
             return 97;
          return -1;
       case 32:
-         if ((active11 & 0x400000000000L) != 0L)
+         if ((active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 32;
             return 97;
          }
@@ -583,70 +583,70 @@ private final int jjMoveStringLiteralDfa0_1()
    {
       case 33:
          jjmatchedKind = 1;
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x100000L);
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000L);
       case 34:
-         return jjStartNfaWithStates_1(0, 799, 96);
+         return jjStartNfaWithStates_1(0, 800, 96);
       case 36:
-         return jjStartNfaWithStates_1(0, 804, 97);
+         return jjStartNfaWithStates_1(0, 805, 97);
       case 37:
-         return jjStopAtPos(0, 794);
+         return jjStopAtPos(0, 795);
       case 38:
-         return jjStopAtPos(0, 802);
+         return jjStopAtPos(0, 803);
       case 39:
-         return jjStartNfaWithStates_1(0, 798, 63);
+         return jjStartNfaWithStates_1(0, 799, 63);
       case 40:
-         return jjStopAtPos(0, 767);
-      case 41:
          return jjStopAtPos(0, 768);
+      case 41:
+         return jjStopAtPos(0, 769);
       case 42:
-         jjmatchedKind = 792;
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x100000000000L);
+         jjmatchedKind = 793;
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000000L);
       case 43:
-         return jjStopAtPos(0, 789);
+         return jjStopAtPos(0, 790);
       case 44:
-         return jjStopAtPos(0, 779);
+         return jjStopAtPos(0, 780);
       case 45:
-         jjmatchedKind = 790;
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x800000L);
+         jjmatchedKind = 791;
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000000L);
       case 46:
-         jjmatchedKind = 778;
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x20000000L);
+         jjmatchedKind = 779;
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x40000000L);
       case 47:
-         jjmatchedKind = 793;
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x480000000000L);
+         jjmatchedKind = 794;
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x900000000000L);
       case 58:
-         jjmatchedKind = 784;
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000000L);
+         jjmatchedKind = 785;
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x4000000000L);
       case 59:
-         return jjStopAtPos(0, 777);
+         return jjStopAtPos(0, 778);
       case 60:
-         jjmatchedKind = 782;
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x8000a0000L);
+         jjmatchedKind = 783;
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000140000L);
       case 61:
-         jjmatchedKind = 780;
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000000L);
-      case 62:
          jjmatchedKind = 781;
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x40000L);
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x20000000L);
+      case 62:
+         jjmatchedKind = 782;
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x80000L);
       case 63:
-         return jjStopAtPos(0, 783);
+         return jjStopAtPos(0, 784);
       case 91:
-         return jjStopAtPos(0, 775);
-      case 93:
          return jjStopAtPos(0, 776);
+      case 93:
+         return jjStopAtPos(0, 777);
       case 94:
-         return jjStopAtPos(0, 801);
+         return jjStopAtPos(0, 802);
       case 65:
       case 97:
          jjmatchedKind = 3;
-         return jjMoveStringLiteralDfa1_1(0x3ffffffff0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x220000300000L, 0x0L);
+         return jjMoveStringLiteralDfa1_1(0x3ffffffff0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x440000300000L, 0x0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa1_1(0xfffc000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x80000L, 0x0L);
       case 67:
       case 99:
          jjmatchedKind = 52;
-         return jjMoveStringLiteralDfa1_1(0xffe0000000000000L, 0xffffffffffffffffL, 0x3fL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x14001800000L, 0x0L);
+         return jjMoveStringLiteralDfa1_1(0xffe0000000000000L, 0xffffffffffffffffL, 0x3fL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x28001800000L, 0x0L);
       case 68:
       case 100:
          return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x1ffffffffffffc0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000L, 0x0L);
@@ -662,7 +662,7 @@ private final int jjMoveStringLiteralDfa0_1()
          return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x7ffc0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x1f80000000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x1f80000000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000L, 0x0L);
       case 73:
       case 105:
          return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0xe000000000000000L, 0x1fffffffL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x140020000L, 0x0L);
@@ -672,35 +672,35 @@ private final int jjMoveStringLiteralDfa0_1()
       case 75:
       case 107:
          jjmatchedKind = 296;
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0xe0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0xe0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000000L, 0x0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0xfffff00000000000L, 0x3L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0xfffff00000000000L, 0x3L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x400000000L, 0x0L);
       case 77:
       case 109:
          jjmatchedKind = 322;
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffff8L, 0x0L, 0x0L, 0x100000L, 0x0L, 0x0L, 0x400000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffff8L, 0x0L, 0x0L, 0x100000L, 0x0L, 0x0L, 0x800000000000L, 0x0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffff000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x400000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffff000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x800000000L, 0x0L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xf800000000000000L, 0x3fffffL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffc00000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x880000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffc00000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1080000000L, 0x0L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7L, 0x0L, 0x0L, 0x0L, 0x40000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7L, 0x0L, 0x0L, 0x0L, 0x80000000000L, 0x0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffff8L, 0x0L, 0x0L, 0x0L, 0x100000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffff8L, 0x0L, 0x0L, 0x0L, 0x200000000000L, 0x0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfff0000000000000L, 0xffffffffffefffffL, 0x3fffffffffffL, 0x0L, 0x8a000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfff0000000000000L, 0xffffffffffefffffL, 0x3fffffffffffL, 0x0L, 0x114000000000L, 0x0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffc00000000000L, 0x1ffffffL, 0x800000040000L, 0x0L);
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffc00000000000L, 0x1ffffffL, 0x1000000040000L, 0x0L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffffe000000L, 0x0L, 0x0L);
@@ -720,12 +720,12 @@ private final int jjMoveStringLiteralDfa0_1()
       case 122:
          return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000L, 0x0L);
       case 123:
-         return jjStartNfaWithStates_1(0, 773, 94);
+         return jjStartNfaWithStates_1(0, 774, 94);
       case 124:
-         jjmatchedKind = 800;
-         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x8000000L);
+         jjmatchedKind = 801;
+         return jjMoveStringLiteralDfa1_1(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000000L);
       case 125:
-         return jjStopAtPos(0, 774);
+         return jjStopAtPos(0, 775);
       case 126:
          return jjStopAtPos(0, 2);
       default :
@@ -742,59 +742,59 @@ private final int jjMoveStringLiteralDfa1_1(long active0, long active1, long act
    switch(curChar)
    {
       case 42:
-         if ((active12 & 0x400000000000L) != 0L)
+         if ((active12 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 814;
+            jjmatchedKind = 815;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0x80000000000L);
+         return jjMoveStringLiteralDfa2_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0x100000000000L);
       case 46:
-         if ((active12 & 0x20000000L) != 0L)
-            return jjStopAtPos(1, 797);
+         if ((active12 & 0x40000000L) != 0L)
+            return jjStopAtPos(1, 798);
          break;
       case 47:
-         if ((active12 & 0x100000000000L) != 0L)
-            return jjStopAtPos(1, 812);
+         if ((active12 & 0x200000000000L) != 0L)
+            return jjStopAtPos(1, 813);
          break;
       case 58:
-         if ((active12 & 0x2000000000L) != 0L)
-            return jjStopAtPos(1, 805);
+         if ((active12 & 0x4000000000L) != 0L)
+            return jjStopAtPos(1, 806);
          break;
       case 60:
-         if ((active12 & 0x800000000L) != 0L)
-            return jjStopAtPos(1, 803);
+         if ((active12 & 0x1000000000L) != 0L)
+            return jjStopAtPos(1, 804);
          break;
       case 61:
-         if ((active12 & 0x20000L) != 0L)
-            return jjStopAtPos(1, 785);
-         else if ((active12 & 0x40000L) != 0L)
+         if ((active12 & 0x40000L) != 0L)
             return jjStopAtPos(1, 786);
-         else if ((active12 & 0x100000L) != 0L)
-            return jjStopAtPos(1, 788);
+         else if ((active12 & 0x80000L) != 0L)
+            return jjStopAtPos(1, 787);
+         else if ((active12 & 0x200000L) != 0L)
+            return jjStopAtPos(1, 789);
          break;
       case 62:
-         if ((active12 & 0x80000L) != 0L)
-            return jjStopAtPos(1, 787);
-         else if ((active12 & 0x800000L) != 0L)
-            return jjStopAtPos(1, 791);
-         else if ((active12 & 0x10000000L) != 0L)
-            return jjStopAtPos(1, 796);
+         if ((active12 & 0x100000L) != 0L)
+            return jjStopAtPos(1, 788);
+         else if ((active12 & 0x1000000L) != 0L)
+            return jjStopAtPos(1, 792);
+         else if ((active12 & 0x20000000L) != 0L)
+            return jjStopAtPos(1, 797);
          break;
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa2_1(active0, 0x3fe0000000000000L, active1, 0L, active2, 0x2000000000fffc0L, active3, 0x80000000080000L, active4, 0x7f00020000000L, active5, 0x1f000000ff8L, active6, 0x3fffc00000L, active7, 0x1f0000000000018L, active8, 0L, active9, 0x1c00000000000L, active10, 0xff8000000000000L, active11, 0x400887880000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_1(active0, 0x3fe0000000000000L, active1, 0L, active2, 0x2000000000fffc0L, active3, 0x80000000080000L, active4, 0x7f00020000000L, active5, 0x1f000000ff8L, active6, 0x3fffc00000L, active7, 0x1f0000000000018L, active8, 0L, active9, 0x1c00000000000L, active10, 0xff8000000000000L, active11, 0x801287880000L, active12, 0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa2_1(active0, 0x70L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x800000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa2_1(active0, 0x80L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x7000060000000000L, active6, 0L, active7, 0xfe00000000000000L, active8, 0x3L, active9, 0L, active10, 0L, active11, 0x2000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_1(active0, 0x80L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x7000060000000000L, active6, 0L, active7, 0xfe00000000000000L, active8, 0x3L, active9, 0L, active10, 0L, active11, 0x4000000000L, active12, 0L);
       case 68:
       case 100:
          return jjMoveStringLiteralDfa2_1(active0, 0x700L, active1, 0L, active2, 0L, active3, 0x2000000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa2_1(active0, 0xc0000fc000000000L, active1, 0x1L, active2, 0x7fffff00000L, active3, 0x3c0000100000L, active4, 0xf80e0000000000L, active5, 0x3800000ff000L, active6, 0x1fc000000000L, active7, 0x3fffffffe0L, active8, 0xffffcL, active9, 0x2000000000000L, active10, 0xb000000002000000L, active11, 0x10800004c003L, active12, 0L);
+         return jjMoveStringLiteralDfa2_1(active0, 0xc0000fc000000000L, active1, 0x1L, active2, 0x7fffff00000L, active3, 0x3c0000100000L, active4, 0xf80e0000000000L, active5, 0x3800000ff000L, active6, 0x1fc000000000L, active7, 0x3fffffffe0L, active8, 0xffffcL, active9, 0x2000000000000L, active10, 0xb000000002000000L, active11, 0x21000004c003L, active12, 0L);
       case 70:
       case 102:
          if ((active5 & 0x8000000000000000L) != 0L)
@@ -813,7 +813,7 @@ private final int jjMoveStringLiteralDfa1_1(long active0, long active1, long act
          return jjMoveStringLiteralDfa2_1(active0, 0L, active1, 0xffeL, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x200000L, active9, 0xc000000000000L, active10, 0L, active11, 0x1cL, active12, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa2_1(active0, 0x700000000000L, active1, 0L, active2, 0xf80000000000L, active3, 0x100000001e00000L, active4, 0xf00000000000000L, active5, 0x7f00000L, active6, 0x200000000000L, active7, 0x4000000000L, active8, 0x1d00000L, active9, 0xfff0000000000000L, active10, 0x4000000000000000L, active11, 0x10000003e0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_1(active0, 0x700000000000L, active1, 0L, active2, 0xf80000000000L, active3, 0x100000001e00000L, active4, 0xf00000000000000L, active5, 0x7f00000L, active6, 0x200000000000L, active7, 0x4000000000L, active8, 0x1d00000L, active9, 0xfff0000000000000L, active10, 0x4000000000000000L, active11, 0x20000003e0L, active12, 0L);
       case 75:
       case 107:
          return jjMoveStringLiteralDfa2_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x2000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -837,7 +837,7 @@ private final int jjMoveStringLiteralDfa1_1(long active0, long active1, long act
             jjmatchedKind = 387;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_1(active0, 0x60000L, active1, 0L, active2, 0xe000000000000000L, active3, 0x3L, active4, 0x1ffffe0L, active5, 0L, active6, 0x30L, active7, 0L, active8, 0L, active9, 0L, active10, 0x1ffc000000L, active11, 0x200160000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_1(active0, 0x60000L, active1, 0L, active2, 0xe000000000000000L, active3, 0x3L, active4, 0x1ffffe0L, active5, 0L, active6, 0x30L, active7, 0L, active8, 0L, active9, 0L, active10, 0x1ffc000000L, active11, 0x400160000000L, active12, 0L);
       case 79:
       case 111:
          if ((active3 & 0x800000000000L) != 0L)
@@ -855,7 +855,7 @@ private final int jjMoveStringLiteralDfa1_1(long active0, long active1, long act
             jjmatchedKind = 640;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_1(active0, 0x3000000000000L, active1, 0x7ffffffff0000L, active2, 0x1f000000000000L, active3, 0x1e010001f8000000L, active4, 0xe000000040000000L, active5, 0x78003f8000003L, active6, 0x1e000000000000L, active7, 0x7ff0000000000L, active8, 0x18000000L, active9, 0L, active10, 0x2L, active11, 0x814600010400L, active12, 0L);
+         return jjMoveStringLiteralDfa2_1(active0, 0x3000000000000L, active1, 0x7ffffffff0000L, active2, 0x1f000000000000L, active3, 0x1e010001f8000000L, active4, 0xe000000040000000L, active5, 0x78003f8000003L, active6, 0x1e000000000000L, active7, 0x7ff0000000000L, active8, 0x18000000L, active9, 0L, active10, 0x2L, active11, 0x1028c00010400L, active12, 0L);
       case 80:
       case 112:
          return jjMoveStringLiteralDfa2_1(active0, 0x80000L, active1, 0L, active2, 0L, active3, 0x4L, active4, 0L, active5, 0L, active6, 0x1c0L, active7, 0L, active8, 0x1e0000000L, active9, 0L, active10, 0xe000000000L, active11, 0L, active12, 0L);
@@ -882,7 +882,7 @@ private final int jjMoveStringLiteralDfa1_1(long active0, long active1, long act
             jjmatchedKind = 281;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_1(active0, 0xfc000000L, active1, 0L, active2, 0L, active3, 0x20L, active4, 0xff9c000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x7f0000000000L, active11, 0x20000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_1(active0, 0xfc000000L, active1, 0L, active2, 0L, active3, 0x20L, active4, 0xff9c000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x7f0000000000L, active11, 0x40000000000L, active12, 0L);
       case 84:
       case 116:
          if ((active0 & 0x100000000L) != 0L)
@@ -890,10 +890,10 @@ private final int jjMoveStringLiteralDfa1_1(long active0, long active1, long act
             jjmatchedKind = 32;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_1(active0, 0xe00000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x18000000000000L, active6, 0x4000L, active7, 0L, active8, 0L, active9, 0x1ff800000L, active10, 0x3800000000000L, active11, 0x80000200000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_1(active0, 0xe00000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x18000000000000L, active6, 0x4000L, active7, 0L, active8, 0L, active9, 0x1ff800000L, active10, 0x3800000000000L, active11, 0x100000200000L, active12, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa2_1(active0, 0x1000000000L, active1, 0xffe0000000000000L, active2, 0x1fL, active3, 0x1c000000000L, active4, 0L, active5, 0x7e0000c00000000L, active6, 0x8000000000038000L, active7, 0x8000000000007L, active8, 0L, active9, 0x3fe00000000L, active10, 0x4000000c00000L, active11, 0x40000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_1(active0, 0x1000000000L, active1, 0xffe0000000000000L, active2, 0x1fL, active3, 0x1c000000000L, active4, 0L, active5, 0x7e0000c00000000L, active6, 0x8000000000038000L, active7, 0x8000000000007L, active8, 0L, active9, 0x3fe00000000L, active10, 0x4000000c00000L, active11, 0x80000000000L, active12, 0L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa2_1(active0, 0x2000000000L, active1, 0L, active2, 0L, active3, 0x40L, active4, 0L, active5, 0L, active6, 0x3c0000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -906,8 +906,8 @@ private final int jjMoveStringLiteralDfa1_1(long active0, long active1, long act
             return jjStartNfaWithStates_1(1, 51, 97);
          return jjMoveStringLiteralDfa2_1(active0, 0L, active1, 0L, active2, 0x1c0000000000020L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x3c0000000000L, active10, 0x1000000L, active11, 0L, active12, 0L);
       case 124:
-         if ((active12 & 0x8000000L) != 0L)
-            return jjStopAtPos(1, 795);
+         if ((active12 & 0x10000000L) != 0L)
+            return jjStopAtPos(1, 796);
          break;
       default :
          break;
@@ -926,14 +926,14 @@ private final int jjMoveStringLiteralDfa2_1(long old0, long active0, long old1,
    switch(curChar)
    {
       case 43:
-         if ((active12 & 0x80000000000L) != 0L)
-            return jjStopAtPos(2, 811);
+         if ((active12 & 0x100000000000L) != 0L)
+            return jjStopAtPos(2, 812);
          break;
       case 65:
       case 97:
          if ((active0 & 0x100L) != 0L)
             return jjStartNfaWithStates_1(2, 8, 97);
-         return jjMoveStringLiteralDfa3_1(active0, 0L, active1, 0x137feL, active2, 0x80000100000L, active3, 0x6000600000000L, active4, 0x18000000000000L, active5, 0x3000L, active6, 0xc00000000000L, active7, 0x6000000000000e7L, active8, 0x24000004L, active9, 0x7800000L, active10, 0x10000000ffcL, active11, 0x28201800c800L, active12, 0L);
+         return jjMoveStringLiteralDfa3_1(active0, 0L, active1, 0x137feL, active2, 0x80000100000L, active3, 0x6000600000000L, active4, 0x18000000000000L, active5, 0x3000L, active6, 0xc00000000000L, active7, 0x6000000000000e7L, active8, 0x24000004L, active9, 0x7800000L, active10, 0x10000000ffcL, active11, 0x50401800c800L, active12, 0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa3_1(active0, 0L, active1, 0x20000000020000L, active2, 0L, active3, 0L, active4, 0x100100000000000L, active5, 0L, active6, 0x8000000000000000L, active7, 0L, active8, 0L, active9, 0x1c07e00000000L, active10, 0x4000000L, active11, 0L, active12, 0L);
@@ -974,7 +974,7 @@ private final int jjMoveStringLiteralDfa2_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(2, 20, 97);
          else if ((active6 & 0x10L) != 0L)
             return jjStartNfaWithStates_1(2, 388, 97);
-         return jjMoveStringLiteralDfa3_1(active0, 0x4000010000000L, active1, 0x8000000000800L, active2, 0x400000000000000L, active3, 0x2100000800001840L, active4, 0L, active5, 0L, active6, 0x7e00000003c0040L, active7, 0L, active8, 0x1c0000080L, active9, 0x14000000000000L, active10, 0x40003e0000401000L, active11, 0x4000000001fL, active12, 0L);
+         return jjMoveStringLiteralDfa3_1(active0, 0x4000010000000L, active1, 0x8000000000800L, active2, 0x400000000000000L, active3, 0x2100000800001840L, active4, 0L, active5, 0L, active6, 0x7e00000003c0040L, active7, 0L, active8, 0x1c0000080L, active9, 0x14000000000000L, active10, 0x40003e0000401000L, active11, 0x8000000001fL, active12, 0L);
       case 70:
       case 102:
          if ((active7 & 0x200L) != 0L)
@@ -982,14 +982,14 @@ private final int jjMoveStringLiteralDfa2_1(long old0, long active0, long old1,
             jjmatchedKind = 457;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_1(active0, 0x4000000000L, active1, 0L, active2, 0xfe000000L, active3, 0L, active4, 0x20000000000000L, active5, 0L, active6, 0x1L, active7, 0x70000000000c00L, active8, 0L, active9, 0L, active10, 0x3800000000000L, active11, 0x100000100000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_1(active0, 0x4000000000L, active1, 0L, active2, 0xfe000000L, active3, 0L, active4, 0x20000000000000L, active5, 0L, active6, 0x1L, active7, 0x70000000000c00L, active8, 0L, active9, 0L, active10, 0x3800000000000L, active11, 0x200000100000L, active12, 0L);
       case 71:
       case 103:
          if ((active0 & 0x2000000000L) != 0L)
             return jjStartNfaWithStates_1(2, 37, 97);
          else if ((active4 & 0x200000000000L) != 0L)
             return jjStartNfaWithStates_1(2, 301, 97);
-         return jjMoveStringLiteralDfa3_1(active0, 0x138000000000L, active1, 0L, active2, 0x100000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40001ff000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_1(active0, 0x138000000000L, active1, 0L, active2, 0x100000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40001ff000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000L, active12, 0L);
       case 72:
       case 104:
          return jjMoveStringLiteralDfa3_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x8020000000000L, active6, 0x4000L, active7, 0x1800000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -1018,12 +1018,12 @@ private final int jjMoveStringLiteralDfa2_1(long old0, long active0, long old1,
          }
          else if ((active11 & 0x2000L) != 0L)
             return jjStartNfaWithStates_1(2, 717, 97);
-         return jjMoveStringLiteralDfa3_1(active0, 0x60000000006000L, active1, 0x3fc0000L, active2, 0x200000000L, active3, 0x200004008280000L, active4, 0L, active5, 0x1e0040400600000L, active6, 0x20L, active7, 0x70000600000L, active8, 0xfffffffc00000300L, active9, 0x3fffffL, active10, 0x38000000000000L, active11, 0x1504000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_1(active0, 0x60000000006000L, active1, 0x3fc0000L, active2, 0x200000000L, active3, 0x200004008280000L, active4, 0L, active5, 0x1e0040400600000L, active6, 0x20L, active7, 0x70000600000L, active8, 0xfffffffc00000300L, active9, 0x3fffffL, active10, 0x38000000000000L, active11, 0x2904000000L, active12, 0L);
       case 77:
       case 109:
          if ((active9 & 0x10000000000L) != 0L)
             return jjStartNfaWithStates_1(2, 616, 97);
-         return jjMoveStringLiteralDfa3_1(active0, 0x400L, active1, 0x4000003c000000L, active2, 0x1000000000000L, active3, 0L, active4, 0x800000000000003L, active5, 0x600003800004000L, active6, 0L, active7, 0L, active8, 0x8c00000L, active9, 0x7fe2040000000000L, active10, 0x800000L, active11, 0x10000040000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_1(active0, 0x400L, active1, 0x4000003c000000L, active2, 0x1000000000000L, active3, 0L, active4, 0x800000000000003L, active5, 0x600003800004000L, active6, 0L, active7, 0L, active8, 0x8c00000L, active9, 0x7fe2040000000000L, active10, 0x800000L, active11, 0x20000040000L, active12, 0L);
       case 78:
       case 110:
          if ((active5 & 0x800000L) != 0L)
@@ -1031,7 +1031,7 @@ private final int jjMoveStringLiteralDfa2_1(long old0, long active0, long old1,
             jjmatchedKind = 343;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_1(active0, 0x200000000000L, active1, 0x3fffc0000001L, active2, 0x1c0000400000000L, active3, 0x40000c8000400000L, active4, 0x40400000000800L, active5, 0x8041c7000000L, active6, 0L, active7, 0x8000000000018L, active8, 0x100400L, active9, 0x8000020000000000L, active10, 0xc00000000L, active11, 0x4000010040L, active12, 0L);
+         return jjMoveStringLiteralDfa3_1(active0, 0x200000000000L, active1, 0x3fffc0000001L, active2, 0x1c0000400000000L, active3, 0x40000c8000400000L, active4, 0x40400000000800L, active5, 0x8041c7000000L, active6, 0L, active7, 0x8000000000018L, active8, 0x100400L, active9, 0x8000020000000000L, active10, 0xc00000000L, active11, 0x8000010040L, active12, 0L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa3_1(active0, 0x1800204000000L, active1, 0x1000000000c000L, active2, 0x20000000000000L, active3, 0x78502006000004L, active4, 0xff9c001000L, active5, 0L, active6, 0x4000000000000000L, active7, 0xe000000000000000L, active8, 0x200001L, active9, 0L, active10, 0L, active11, 0x200000L, active12, 0L);
@@ -1062,7 +1062,7 @@ private final int jjMoveStringLiteralDfa2_1(long old0, long active0, long old1,
             jjmatchedKind = 422;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_1(active0, 0x80040001e00000L, active1, 0xff80c00000000000L, active2, 0x300000001fL, active3, 0xe1800010L, active4, 0x800000000000L, active5, 0x3000200008000L, active6, 0x21f80ff800000L, active7, 0L, active8, 0xe002L, active9, 0xe0400000L, active10, 0x3fc0000000000000L, active11, 0x8080000400L, active12, 0L);
+         return jjMoveStringLiteralDfa3_1(active0, 0x80040001e00000L, active1, 0xff80c00000000000L, active2, 0x300000001fL, active3, 0xe1800010L, active4, 0x800000000000L, active5, 0x3000200008000L, active6, 0x21f80ff800000L, active7, 0L, active8, 0xe002L, active9, 0xe0400000L, active10, 0x3fc0000000000000L, active11, 0x10080000400L, active12, 0L);
       case 83:
       case 115:
          if ((active0 & 0x10L) != 0L)
@@ -1070,7 +1070,7 @@ private final int jjMoveStringLiteralDfa2_1(long old0, long active0, long old1,
             jjmatchedKind = 4;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_1(active0, 0xf00000060000060L, active1, 0L, active2, 0x800f3c000000000L, active3, 0x10000000000L, active4, 0x300000003c000L, active5, 0x80000070000L, active6, 0xc000f00000000L, active7, 0x3e000000L, active8, 0x30000L, active9, 0x380000000000L, active10, 0x9002000000L, active11, 0x800000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_1(active0, 0xf00000060000060L, active1, 0L, active2, 0x800f3c000000000L, active3, 0x10000000000L, active4, 0x300000003c000L, active5, 0x80000070000L, active6, 0xc000f00000000L, active7, 0x3e000000L, active8, 0x30000L, active9, 0x380000000000L, active10, 0x9002000000L, active11, 0x1200000000L, active12, 0L);
       case 84:
       case 116:
          if ((active0 & 0x400000000000L) != 0L)
@@ -1096,7 +1096,7 @@ private final int jjMoveStringLiteralDfa2_1(long old0, long active0, long old1,
             jjmatchedKind = 530;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_1(active0, 0x3002081c00008880L, active1, 0L, active2, 0x4000000ffc0L, active3, 0x1000000170000L, active4, 0x4000000f80000L, active5, 0x60000180000803f0L, active6, 0x3000030180L, active7, 0x80001fc0000000L, active8, 0x80000L, active9, 0L, active10, 0L, active11, 0x800002000380L, active12, 0L);
+         return jjMoveStringLiteralDfa3_1(active0, 0x3002081c00008880L, active1, 0L, active2, 0x4000000ffc0L, active3, 0x1000000170000L, active4, 0x4000000f80000L, active5, 0x60000180000803f0L, active6, 0x3000030180L, active7, 0x80001fc0000000L, active8, 0x80000L, active9, 0L, active10, 0L, active11, 0x1000002000380L, active12, 0L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa3_1(active0, 0L, active1, 0x1000000000000L, active2, 0x4000000000000L, active3, 0x1800000100000008L, active4, 0L, active5, 0L, active6, 0L, active7, 0x780000000000L, active8, 0x10000000L, active9, 0x8000000000000L, active10, 0x180000L, active11, 0L, active12, 0L);
@@ -1122,7 +1122,7 @@ private final int jjMoveStringLiteralDfa2_1(long old0, long active0, long old1,
             jjmatchedKind = 330;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000800L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000800L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L, active12, 0L);
       case 89:
       case 121:
          if ((active0 & 0x40000L) != 0L)
@@ -1139,7 +1139,7 @@ private final int jjMoveStringLiteralDfa2_1(long old0, long active0, long old1,
             jjmatchedKind = 297;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_1(active0, 0x80000000L, active1, 0L, active2, 0xe0000L, active3, 0L, active4, 0xc0000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x100000000L, active10, 0x200000L, active11, 0x20000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_1(active0, 0x80000000L, active1, 0L, active2, 0xe0000L, active3, 0L, active4, 0xc0000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x100000000L, active10, 0x200000L, active11, 0x40000000000L, active12, 0L);
       case 90:
       case 122:
          return jjMoveStringLiteralDfa3_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -1170,7 +1170,7 @@ private final int jjMoveStringLiteralDfa3_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(3, 687, 97);
          break;
       case 95:
-         return jjMoveStringLiteralDfa4_1(active0, 0L, active1, 0L, active2, 0L, active3, 0x3L, active4, 0xc0000000000L, active5, 0x8000000000000L, active6, 0L, active7, 0x3000000000000L, active8, 0xffffffe000000000L, active9, 0x3fffffL, active10, 0xc0000000200002L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa4_1(active0, 0L, active1, 0L, active2, 0L, active3, 0x3L, active4, 0xc0000000000L, active5, 0x8000000000000L, active6, 0L, active7, 0x3000000000000L, active8, 0xffffffe000000000L, active9, 0x3fffffL, active10, 0xc0000000200002L, active11, 0x800000000000L);
       case 65:
       case 97:
          if ((active2 & 0x40L) != 0L)
@@ -1180,7 +1180,7 @@ private final int jjMoveStringLiteralDfa3_1(long old0, long active0, long old1,
          }
          else if ((active4 & 0x20000000L) != 0L)
             return jjStartNfaWithStates_1(3, 285, 97);
-         return jjMoveStringLiteralDfa4_1(active0, 0x3004200001e10000L, active1, 0xe000000000000L, active2, 0x1c1100006400080L, active3, 0x2400028L, active4, 0xe000000000000000L, active5, 0x20000000001L, active6, 0x3f800000L, active7, 0x200000L, active8, 0x800L, active9, 0L, active10, 0x2400001000L, active11, 0x800082000000L);
+         return jjMoveStringLiteralDfa4_1(active0, 0x3004200001e10000L, active1, 0xe000000000000L, active2, 0x1c1100006400080L, active3, 0x2400028L, active4, 0xe000000000000000L, active5, 0x20000000001L, active6, 0x3f800000L, active7, 0x200000L, active8, 0x800L, active9, 0L, active10, 0x2400001000L, active11, 0x1000082000000L);
       case 66:
       case 98:
          if ((active0 & 0x800000000000L) != 0L)
@@ -1274,7 +1274,7 @@ private final int jjMoveStringLiteralDfa3_1(long old0, long active0, long old1,
          break;
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa4_1(active0, 0L, active1, 0L, active2, 0x80000000000L, active3, 0L, active4, 0x40c00000000000L, active5, 0x8000L, active6, 0L, active7, 0x8L, active8, 0L, active9, 0L, active10, 0x1000001e000L, active11, 0x200000000L);
+         return jjMoveStringLiteralDfa4_1(active0, 0L, active1, 0L, active2, 0x80000000000L, active3, 0L, active4, 0x40c00000000000L, active5, 0x8000L, active6, 0L, active7, 0x8L, active8, 0L, active9, 0L, active10, 0x1000001e000L, active11, 0x400000000L);
       case 72:
       case 104:
          if ((active0 & 0x2000000000000L) != 0L)
@@ -1288,6 +1288,8 @@ private final int jjMoveStringLiteralDfa3_1(long old0, long active0, long old1,
             jjmatchedKind = 711;
             jjmatchedPos = 3;
          }
+         else if ((active11 & 0x200000000L) != 0L)
+            return jjStartNfaWithStates_1(3, 737, 97);
          return jjMoveStringLiteralDfa4_1(active0, 0x1000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x80000L, active6, 0L, active7, 0x4000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x1800300L);
       case 73:
       case 105:
@@ -1327,9 +1329,9 @@ private final int jjMoveStringLiteralDfa3_1(long old0, long active0, long old1,
          }
          else if ((active7 & 0x80L) != 0L)
             return jjStartNfaWithStates_1(3, 455, 97);
-         else if ((active11 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_1(3, 740, 97);
-         return jjMoveStringLiteralDfa4_1(active0, 0x8041000000080000L, active1, 0xfd0000L, active2, 0x1100020L, active3, 0x8008600L, active4, 0x10000064L, active5, 0x1d0000000600000L, active6, 0x8000000000000000L, active7, 0x600060001000001L, active8, 0x4000000L, active9, 0x1c00100000000L, active10, 0L, active11, 0x200000000000L);
+         else if ((active11 & 0x2000000000L) != 0L)
+            return jjStartNfaWithStates_1(3, 741, 97);
+         return jjMoveStringLiteralDfa4_1(active0, 0x8041000000080000L, active1, 0xfd0000L, active2, 0x1100020L, active3, 0x8008600L, active4, 0x10000064L, active5, 0x1d0000000600000L, active6, 0x8000000000000000L, active7, 0x600060001000001L, active8, 0x4000000L, active9, 0x1c00100000000L, active10, 0L, active11, 0x400000000000L);
       case 77:
       case 109:
          if ((active3 & 0x2000000000L) != 0L)
@@ -1360,23 +1362,23 @@ private final int jjMoveStringLiteralDfa3_1(long old0, long active0, long old1,
             jjmatchedKind = 706;
             jjmatchedPos = 3;
          }
-         else if ((active11 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_1(3, 741, 97);
-         return jjMoveStringLiteralDfa4_1(active0, 0x40010000000L, active1, 0x1000e00000000L, active2, 0L, active3, 0x2006000100000000L, active4, 0xff00000000L, active5, 0L, active6, 0L, active7, 0x8000000000000L, active8, 0L, active9, 0L, active10, 0x8000400100100ff8L, active11, 0x20000000008L);
+         else if ((active11 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_1(3, 742, 97);
+         return jjMoveStringLiteralDfa4_1(active0, 0x40010000000L, active1, 0x1000e00000000L, active2, 0L, active3, 0x2006000100000000L, active4, 0xff00000000L, active5, 0L, active6, 0L, active7, 0x8000000000000L, active8, 0L, active9, 0L, active10, 0x8000400100100ff8L, active11, 0x40000000008L);
       case 79:
       case 111:
          if ((active3 & 0x1000000000000L) != 0L)
             return jjStartNfaWithStates_1(3, 240, 97);
          else if ((active4 & 0x800000L) != 0L)
             return jjStartNfaWithStates_1(3, 279, 97);
-         return jjMoveStringLiteralDfa4_1(active0, 0x4000006040L, active1, 0x20000L, active2, 0x2000000000060000L, active3, 0x4000000004000010L, active4, 0x1000008L, active5, 0x44000000000L, active6, 0x1000200000000000L, active7, 0x2000000000L, active8, 0x1aL, active9, 0L, active10, 0x5c000000L, active11, 0x400000000L);
+         return jjMoveStringLiteralDfa4_1(active0, 0x4000006040L, active1, 0x20000L, active2, 0x2000000000060000L, active3, 0x4000000004000010L, active4, 0x1000008L, active5, 0x44000000000L, active6, 0x1000200000000000L, active7, 0x2000000000L, active8, 0x1aL, active9, 0L, active10, 0x5c000000L, active11, 0x800000000L);
       case 80:
       case 112:
          if ((active2 & 0x20000000000000L) != 0L)
             return jjStartNfaWithStates_1(3, 181, 97);
          else if ((active8 & 0x2000000L) != 0L)
             return jjStartNfaWithStates_1(3, 537, 97);
-         return jjMoveStringLiteralDfa4_1(active0, 0L, active1, 0L, active2, 0x400000000000L, active3, 0L, active4, 0L, active5, 0x800000000L, active6, 0x100000000020000L, active7, 0xe000000004000000L, active8, 0x800001L, active9, 0x2000000000000L, active10, 0L, active11, 0x10018040800L);
+         return jjMoveStringLiteralDfa4_1(active0, 0L, active1, 0L, active2, 0x400000000000L, active3, 0L, active4, 0L, active5, 0x800000000L, active6, 0x100000000020000L, active7, 0xe000000004000000L, active8, 0x800001L, active9, 0x2000000000000L, active10, 0L, active11, 0x20018040800L);
       case 81:
       case 113:
          return jjMoveStringLiteralDfa4_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x80000000L, active11, 0L);
@@ -1412,7 +1414,7 @@ private final int jjMoveStringLiteralDfa3_1(long old0, long active0, long old1,
             jjmatchedKind = 718;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_1(active0, 0xc00000000L, active1, 0xff808000000007f8L, active2, 0x100000007L, active3, 0x1100000000040040L, active4, 0x100000000000080L, active5, 0x100000L, active6, 0x380000L, active7, 0x1ff006L, active8, 0x10000004L, active9, 0x8000000800000L, active10, 0x3c0000000000L, active11, 0x140020008010L);
+         return jjMoveStringLiteralDfa4_1(active0, 0xc00000000L, active1, 0xff808000000007f8L, active2, 0x100000007L, active3, 0x1100000000040040L, active4, 0x100000000000080L, active5, 0x100000L, active6, 0x380000L, active7, 0x1ff006L, active8, 0x10000004L, active9, 0x8000000800000L, active10, 0x3c0000000000L, active11, 0x280020008010L);
       case 83:
       case 115:
          if ((active2 & 0x80000L) != 0L)
@@ -1423,7 +1425,7 @@ private final int jjMoveStringLiteralDfa3_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(3, 531, 97);
          else if ((active9 & 0x10000000000000L) != 0L)
             return jjStartNfaWithStates_1(3, 628, 97);
-         return jjMoveStringLiteralDfa4_1(active0, 0L, active1, 0x1003f00000b000L, active2, 0x400000018L, active3, 0x1882000L, active4, 0L, active5, 0x73000L, active6, 0x200000600000001L, active7, 0L, active8, 0x800030400L, active9, 0x7800000000L, active10, 0x3000000000400000L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa4_1(active0, 0L, active1, 0x1003f00000b000L, active2, 0x400000018L, active3, 0x1882000L, active4, 0L, active5, 0x73000L, active6, 0x200000600000001L, active7, 0L, active8, 0x800030400L, active9, 0x7800000000L, active10, 0x3000000000400000L, active11, 0x1000000000L);
       case 84:
       case 116:
          if ((active0 & 0x800000000000000L) != 0L)
@@ -1443,7 +1445,7 @@ private final int jjMoveStringLiteralDfa3_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(3, 419, 97);
          else if ((active9 & 0x400000L) != 0L)
             return jjStartNfaWithStates_1(3, 598, 97);
-         return jjMoveStringLiteralDfa4_1(active0, 0L, active1, 0x1c0000000001L, active2, 0x1000800800000000L, active3, 0x80200000L, active4, 0x2000000030600L, active5, 0x80580000000L, active6, 0x20020c0000000L, active7, 0x780018000000L, active8, 0x20L, active9, 0x380007000000L, active10, 0L, active11, 0x84000401020L);
+         return jjMoveStringLiteralDfa4_1(active0, 0L, active1, 0x1c0000000001L, active2, 0x1000800800000000L, active3, 0x80200000L, active4, 0x2000000030600L, active5, 0x80580000000L, active6, 0x20020c0000000L, active7, 0x780018000000L, active8, 0x20L, active9, 0x380007000000L, active10, 0L, active11, 0x108000401020L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa4_1(active0, 0L, active1, 0x3000000L, active2, 0L, active3, 0x78000000000000L, active4, 0x3000L, active5, 0x1000010023000000L, active6, 0L, active7, 0x80001fe0000100L, active8, 0x101040L, active9, 0x80000000L, active10, 0x38000000000000L, active11, 0x4000000L);
@@ -1451,7 +1453,7 @@ private final int jjMoveStringLiteralDfa3_1(long old0, long active0, long old1,
       case 118:
          if ((active6 & 0x400000000000000L) != 0L)
             return jjStartNfaWithStates_1(3, 442, 97);
-         return jjMoveStringLiteralDfa4_1(active0, 0L, active1, 0x200000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x4000800L, active6, 0x2000000000000000L, active7, 0L, active8, 0xc000L, active9, 0L, active10, 0L, active11, 0x8000000000L);
+         return jjMoveStringLiteralDfa4_1(active0, 0L, active1, 0x200000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x4000800L, active6, 0x2000000000000000L, active7, 0L, active8, 0xc000L, active9, 0L, active10, 0L, active11, 0x10000000000L);
       case 87:
       case 119:
          if ((active8 & 0x200000L) != 0L)
@@ -1500,9 +1502,9 @@ private final int jjMoveStringLiteralDfa4_1(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa5_1(active0, 0L, active1, 0L, active2, 0x80L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x20000000000L, active8, 0x3e000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 67:
       case 99:
-         if ((active11 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_1(4, 745, 97);
-         return jjMoveStringLiteralDfa5_1(active0, 0x2000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x100L, active5, 0x800000000000000L, active6, 0L, active7, 0x1000000000000L, active8, 0xc0010000104L, active9, 0x80000000L, active10, 0x300000L, active11, 0x400000000000L);
+         if ((active11 & 0x40000000000L) != 0L)
+            return jjStartNfaWithStates_1(4, 746, 97);
+         return jjMoveStringLiteralDfa5_1(active0, 0x2000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x100L, active5, 0x800000000000000L, active6, 0L, active7, 0x1000000000000L, active8, 0xc0010000104L, active9, 0x80000000L, active10, 0x300000L, active11, 0x800000000000L);
       case 68:
       case 100:
          if ((active3 & 0x100000000L) != 0L)
@@ -1563,7 +1565,7 @@ private final int jjMoveStringLiteralDfa4_1(long old0, long active0, long old1,
             jjmatchedKind = 716;
             jjmatchedPos = 4;
          }
-         return jjMoveStringLiteralDfa5_1(active0, 0x41080000000000L, active1, 0xff80a00e00810000L, active2, 0x8400000500000007L, active3, 0x100400200000L, active4, 0x8000084L, active5, 0x200000000404000L, active6, 0x426007a000000001L, active7, 0xc000000004000000L, active8, 0xd001L, active9, 0x1bc881a000000L, active10, 0x8030000000000000L, active11, 0x100005c00008L);
+         return jjMoveStringLiteralDfa5_1(active0, 0x41080000000000L, active1, 0xff80a00e00810000L, active2, 0x8400000500000007L, active3, 0x100400200000L, active4, 0x8000084L, active5, 0x200000000404000L, active6, 0x426007a000000001L, active7, 0xc000000004000000L, active8, 0xd001L, active9, 0x1bc881a000000L, active10, 0x8030000000000000L, active11, 0x200005c00008L);
       case 70:
       case 102:
          if ((active2 & 0x1000000000L) != 0L)
@@ -1573,7 +1575,7 @@ private final int jjMoveStringLiteralDfa4_1(long old0, long active0, long old1,
       case 103:
          if ((active10 & 0x400000000000L) != 0L)
             return jjStartNfaWithStates_1(4, 686, 97);
-         return jjMoveStringLiteralDfa5_1(active0, 0x40000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x80000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x100001e000L, active11, 0x400000000L);
+         return jjMoveStringLiteralDfa5_1(active0, 0x40000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x80000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x100001e000L, active11, 0x800000000L);
       case 72:
       case 104:
          if ((active2 & 0x800000000L) != 0L)
@@ -1595,7 +1597,7 @@ private final int jjMoveStringLiteralDfa4_1(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa5_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000003e0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x200000000000000L, active11, 0x20L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa5_1(active0, 0x8080000e00000000L, active1, 0x1001f0000000L, active2, 0x1800000000000L, active3, 0x40000000L, active4, 0x10000000000600L, active5, 0x80080400200000L, active6, 0xa0824002c0000000L, active7, 0x8780000000001L, active8, 0x3fff0001c0030420L, active9, 0x8000000004000000L, active10, 0x3900000000000000L, active11, 0x8c200200100L);
+         return jjMoveStringLiteralDfa5_1(active0, 0x8080000e00000000L, active1, 0x1001f0000000L, active2, 0x1800000000000L, active3, 0x40000000L, active4, 0x10000000000600L, active5, 0x80080400200000L, active6, 0xa0824002c0000000L, active7, 0x8780000000001L, active8, 0x3fff0001c0030420L, active9, 0x8000000004000000L, active10, 0x3900000000000000L, active11, 0x118400200100L);
       case 75:
       case 107:
          if ((active1 & 0x800L) != 0L)
@@ -1616,8 +1618,8 @@ private final int jjMoveStringLiteralDfa4_1(long old0, long active0, long old1,
             jjmatchedKind = 317;
             jjmatchedPos = 4;
          }
-         else if ((active11 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_1(4, 751, 97);
+         else if ((active11 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_1(4, 752, 97);
          return jjMoveStringLiteralDfa5_1(active0, 0x3000000000000040L, active1, 0L, active2, 0x4100000100000L, active3, 0x8L, active4, 0xc000000000000000L, active5, 0x20000000L, active6, 0x180000L, active7, 0x20000000L, active8, 0xc000000004c00002L, active9, 0x200000001L, active10, 0x800006L, active11, 0x80040000L);
       case 77:
       case 109:
@@ -1735,7 +1737,7 @@ private final int jjMoveStringLiteralDfa4_1(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa5_1(active0, 0L, active1, 0x803f000000000L, active2, 0x20000f800L, active3, 0x2004008001002000L, active4, 0x40080000000000L, active5, 0x6000000003000001L, active6, 0xc000400000000L, active7, 0x200006L, active8, 0x800000000L, active9, 0x70000fff80L, active10, 0x2000000000L, active11, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa5_1(active0, 0L, active1, 0x1L, active2, 0x6000000L, active3, 0x1600L, active4, 0x400000000060L, active5, 0x3000L, active6, 0x100000020000L, active7, 0x40000000000L, active8, 0L, active9, 0x400000000L, active10, 0x84000000L, active11, 0x10000080000L);
+         return jjMoveStringLiteralDfa5_1(active0, 0L, active1, 0x1L, active2, 0x6000000L, active3, 0x1600L, active4, 0x400000000060L, active5, 0x3000L, active6, 0x100000020000L, active7, 0x40000000000L, active8, 0L, active9, 0x400000000L, active10, 0x84000000L, active11, 0x20000080000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa5_1(active0, 0L, active1, 0L, active2, 0x2000000000L, active3, 0L, active4, 0L, active5, 0x8000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x300000L, active10, 0x200000000L, active11, 0L);
@@ -1743,7 +1745,7 @@ private final int jjMoveStringLiteralDfa4_1(long old0, long active0, long old1,
       case 119:
          if ((active0 & 0x4000L) != 0L)
             return jjStartNfaWithStates_1(4, 14, 97);
-         return jjMoveStringLiteralDfa5_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa5_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x1000000000L);
       case 88:
       case 120:
          if ((active11 & 0x40000000L) != 0L)
@@ -1762,9 +1764,9 @@ private final int jjMoveStringLiteralDfa4_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(4, 188, 97);
          else if ((active3 & 0x40L) != 0L)
             return jjStartNfaWithStates_1(4, 198, 97);
-         else if ((active11 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_1(4, 746, 97);
-         return jjMoveStringLiteralDfa5_1(active0, 0x1c10000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200020000000L);
+         else if ((active11 & 0x80000000000L) != 0L)
+            return jjStartNfaWithStates_1(4, 747, 97);
+         return jjMoveStringLiteralDfa5_1(active0, 0x1c10000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400020000000L);
       case 90:
       case 122:
          return jjMoveStringLiteralDfa5_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x6000000000000000L, active10, 0L, active11, 0L);
@@ -1808,7 +1810,7 @@ private final int jjMoveStringLiteralDfa5_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(5, 447, 97);
          else if ((active9 & 0x4000000L) != 0L)
             return jjStartNfaWithStates_1(5, 602, 97);
-         return jjMoveStringLiteralDfa6_1(active0, 0L, active1, 0xe008007f0L, active2, 0L, active3, 0x40000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x10000005004000L, active8, 0x400000000L, active9, 0x6L, active10, 0L, active11, 0x8000200000L);
+         return jjMoveStringLiteralDfa6_1(active0, 0L, active1, 0xe008007f0L, active2, 0L, active3, 0x40000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x10000005004000L, active8, 0x400000000L, active9, 0x6L, active10, 0L, active11, 0x10000200000L);
       case 68:
       case 100:
          if ((active0 & 0x40000000000000L) != 0L)
@@ -1877,14 +1879,14 @@ private final int jjMoveStringLiteralDfa5_1(long old0, long active0, long old1,
       case 103:
          if ((active3 & 0x80000000000000L) != 0L)
             return jjStartNfaWithStates_1(5, 247, 97);
-         return jjMoveStringLiteralDfa6_1(active0, 0L, active1, 0L, active2, 0L, active3, 0x40000000L, active4, 0L, active5, 0x70000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x40000000L, active10, 0L, active11, 0x400000000L);
+         return jjMoveStringLiteralDfa6_1(active0, 0L, active1, 0L, active2, 0L, active3, 0x40000000L, active4, 0L, active5, 0x70000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x40000000L, active10, 0L, active11, 0x800000000L);
       case 72:
       case 104:
          if ((active4 & 0x40000000000000L) != 0L)
             return jjStartNfaWithStates_1(5, 310, 97);
          else if ((active8 & 0x4L) != 0L)
             return jjStartNfaWithStates_1(5, 514, 97);
-         return jjMoveStringLiteralDfa6_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000L, active7, 0L, active8, 0x40000000000L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa6_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000L, active7, 0L, active8, 0x40000000000L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 73:
       case 105:
          return jjMoveStringLiteralDfa6_1(active0, 0x10000000L, active1, 0xc0000001000L, active2, 0x21c003800000f800L, active3, 0x2020008000008000L, active4, 0x3L, active5, 0x400000010000000L, active6, 0xc000000200800L, active7, 0x10208000L, active8, 0xe004000040L, active9, 0x1000000380L, active10, 0x4L, active11, 0x100000L);
@@ -1935,10 +1937,10 @@ private final int jjMoveStringLiteralDfa5_1(long old0, long active0, long old1,
          }
          else if ((active11 & 0x100L) != 0L)
             return jjStartNfaWithStates_1(5, 712, 97);
-         return jjMoveStringLiteralDfa6_1(active0, 0x8080000040000000L, active1, 0xff8010000e000000L, active2, 0x400a00000000007L, active3, 0x20000L, active4, 0x10000000030000L, active5, 0x88000400000L, active6, 0x478200000100L, active7, 0x8781f80000000L, active8, 0x3fff000000001000L, active9, 0x8000000000000000L, active10, 0xd00001004000000L, active11, 0x4200000000L);
+         return jjMoveStringLiteralDfa6_1(active0, 0x8080000040000000L, active1, 0xff8010000e000000L, active2, 0x400a00000000007L, active3, 0x20000L, active4, 0x10000000030000L, active5, 0x88000400000L, active6, 0x478200000100L, active7, 0x8781f80000000L, active8, 0x3fff000000001000L, active9, 0x8000000000000000L, active10, 0xd00001004000000L, active11, 0x8400000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa6_1(active0, 0x3000000000000000L, active1, 0L, active2, 0x80000100000L, active3, 0L, active4, 0x1800000000L, active5, 0x1L, active6, 0x2000000000000L, active7, 0x161000000000000L, active8, 0xc000420000030020L, active9, 0x6000000000000001L, active10, 0x3040000200000000L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa6_1(active0, 0x3000000000000000L, active1, 0L, active2, 0x80000100000L, active3, 0L, active4, 0x1800000000L, active5, 0x1L, active6, 0x2000000000000L, active7, 0x161000000000000L, active8, 0xc000420000030020L, active9, 0x6000000000000001L, active10, 0x3040000200000000L, active11, 0x1000000000L);
       case 80:
       case 112:
          if ((active7 & 0x40000000000L) != 0L)
@@ -1986,7 +1988,7 @@ private final int jjMoveStringLiteralDfa5_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(5, 398, 97);
          else if ((active10 & 0x10000000000000L) != 0L)
             return jjStartNfaWithStates_1(5, 692, 97);
-         return jjMoveStringLiteralDfa6_1(active0, 0L, active1, 0x800000010000L, active2, 0L, active3, 0x200000000L, active4, 0x4000304000L, active5, 0x400300000L, active6, 0x80000000000000L, active7, 0x5e0100L, active8, 0L, active9, 0x10000000ffc00L, active10, 0x8000000000000000L, active11, 0x180000000000L);
+         return jjMoveStringLiteralDfa6_1(active0, 0L, active1, 0x800000010000L, active2, 0L, active3, 0x200000000L, active4, 0x4000304000L, active5, 0x400300000L, active6, 0x80000000000000L, active7, 0x5e0100L, active8, 0L, active9, 0x10000000ffc00L, active10, 0x8000000000000000L, active11, 0x300000000000L);
       case 84:
       case 116:
          if ((active0 & 0x20L) != 0L)
@@ -2025,7 +2027,7 @@ private final int jjMoveStringLiteralDfa5_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(5, 675, 97);
          else if ((active10 & 0x8000000000L) != 0L)
             return jjStartNfaWithStates_1(5, 679, 97);
-         return jjMoveStringLiteralDfa6_1(active0, 0x4000020000000L, active1, 0x1e07c0000L, active2, 0x400000000400L, active3, 0x100000001100L, active4, 0xc000000010000000L, active5, 0L, active6, 0x100080000000L, active7, 0x800000L, active8, 0x400L, active9, 0x1f80040080000000L, active10, 0L, active11, 0x10000000000L);
+         return jjMoveStringLiteralDfa6_1(active0, 0x4000020000000L, active1, 0x1e07c0000L, active2, 0x400000000400L, active3, 0x100000001100L, active4, 0xc000000010000000L, active5, 0L, active6, 0x100080000000L, active7, 0x800000L, active8, 0x400L, active9, 0x1f80040080000000L, active10, 0L, active11, 0x20000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa6_1(active0, 0x40000000040L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x2000000000000L, active8, 0L, active9, 0x8L, active10, 0L, active11, 0x200L);
@@ -2055,7 +2057,7 @@ private final int jjMoveStringLiteralDfa5_1(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa6_1(active0, 0L, active1, 0L, active2, 0x40000L, active3, 0L, active4, 0x80000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 90:
       case 122:
-         return jjMoveStringLiteralDfa6_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200000000000L);
+         return jjMoveStringLiteralDfa6_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
       default :
          break;
    }
@@ -2080,7 +2082,7 @@ private final int jjMoveStringLiteralDfa6_1(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa7_1(active0, 0L, active1, 0x2000000L, active2, 0x10L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1000000000000000L, active8, 0x8000L, active9, 0x300058000000L, active10, 0L, active11, 0x100000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa7_1(active0, 0x80000000400000L, active1, 0x1f000000000L, active2, 0x8000000L, active3, 0x20001L, active4, 0x2008000400003L, active5, 0x8000000000L, active6, 0L, active7, 0x90000000800000L, active8, 0x40000000000L, active9, 0x1f0b000000000070L, active10, 0x100000000000e00L, active11, 0x400010000000L);
+         return jjMoveStringLiteralDfa7_1(active0, 0x80000000400000L, active1, 0x1f000000000L, active2, 0x8000000L, active3, 0x20001L, active4, 0x2008000400003L, active5, 0x8000000000L, active6, 0L, active7, 0x90000000800000L, active8, 0x40000000000L, active9, 0x1f0b000000000070L, active10, 0x100000000000e00L, active11, 0x800010000000L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa7_1(active0, 0L, active1, 0L, active2, 0x8000000000L, active3, 0L, active4, 0x1800000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x20L);
@@ -2144,12 +2146,12 @@ private final int jjMoveStringLiteralDfa6_1(long old0, long active0, long old1,
          }
          else if ((active10 & 0x2000000L) != 0L)
             return jjStartNfaWithStates_1(6, 665, 97);
-         else if ((active11 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_1(6, 743, 97);
          else if ((active11 & 0x10000000000L) != 0L)
             return jjStartNfaWithStates_1(6, 744, 97);
-         else if ((active11 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_1(6, 749, 97);
+         else if ((active11 & 0x20000000000L) != 0L)
+            return jjStartNfaWithStates_1(6, 745, 97);
+         else if ((active11 & 0x400000000000L) != 0L)
+            return jjStartNfaWithStates_1(6, 750, 97);
          return jjMoveStringLiteralDfa7_1(active0, 0x200000000000000L, active1, 0x8L, active2, 0x8000000010060000L, active3, 0x200000000L, active4, 0x400000000300084L, active5, 0x1000000410372000L, active6, 0x2020000000000000L, active7, 0x700780000000L, active8, 0x400000000L, active9, 0x2000000L, active10, 0x3c1000000000L, active11, 0x8a000008L);
       case 70:
       case 102:
@@ -2175,19 +2177,19 @@ private final int jjMoveStringLiteralDfa6_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(6, 499, 97);
          else if ((active10 & 0x800000000000000L) != 0L)
             return jjStartNfaWithStates_1(6, 699, 97);
-         else if ((active11 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_1(6, 737, 97);
+         else if ((active11 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_1(6, 738, 97);
          return jjMoveStringLiteralDfa7_1(active0, 0x2000000000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x400000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0x2000000000L, active9, 0L, active10, 0L, active11, 0x800000L);
       case 72:
       case 104:
          if ((active0 & 0x4000000000000L) != 0L)
             return jjStartNfaWithStates_1(6, 50, 97);
-         else if ((active11 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_1(6, 748, 97);
+         else if ((active11 & 0x200000000000L) != 0L)
+            return jjStartNfaWithStates_1(6, 749, 97);
          return jjMoveStringLiteralDfa7_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x2L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa7_1(active0, 0x1020000000L, active1, 0x400001c0780000L, active2, 0x40000000200L, active3, 0x8000500L, active4, 0xc000000010004040L, active5, 0x3000000000000L, active6, 0xc0000080000000L, active7, 0x100000800000100L, active8, 0x1c0002400L, active9, 0x400060000ffc00L, active10, 0x18000000L, active11, 0x400200000L);
+         return jjMoveStringLiteralDfa7_1(active0, 0x1020000000L, active1, 0x400001c0780000L, active2, 0x40000000200L, active3, 0x8000500L, active4, 0xc000000010004040L, active5, 0x3000000000000L, active6, 0xc0000080000000L, active7, 0x100000800000100L, active8, 0x1c0002400L, active9, 0x400060000ffc00L, active10, 0x18000000L, active11, 0x800200000L);
       case 76:
       case 108:
          if ((active2 & 0x800000L) != 0L)
@@ -2281,7 +2283,7 @@ private final int jjMoveStringLiteralDfa6_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(6, 697, 97);
          else if ((active11 & 0x800L) != 0L)
             return jjStartNfaWithStates_1(6, 715, 97);
-         return jjMoveStringLiteralDfa7_1(active0, 0L, active1, 0L, active2, 0x400000400L, active3, 0x100400000002L, active4, 0x300000000L, active5, 0x200L, active6, 0x400000000L, active7, 0x40000000000004L, active8, 0L, active9, 0x80040000300000L, active10, 0x5c000L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa7_1(active0, 0L, active1, 0L, active2, 0x400000400L, active3, 0x100400000002L, active4, 0x300000000L, active5, 0x200L, active6, 0x400000000L, active7, 0x40000000000004L, active8, 0L, active9, 0x80040000300000L, active10, 0x5c000L, active11, 0x1000000000L);
       case 83:
       case 115:
          if ((active5 & 0x40L) != 0L)
@@ -2341,10 +2343,10 @@ private final int jjMoveStringLiteralDfa6_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(6, 698, 97);
          else if ((active11 & 0x200L) != 0L)
             return jjStartNfaWithStates_1(6, 713, 97);
-         return jjMoveStringLiteralDfa7_1(active0, 0x90002040L, active1, 0xff00000c200007f0L, active2, 0x4000007L, active3, 0x2000080000000000L, active4, 0x20100L, active5, 0L, active6, 0x7003f800000L, active7, 0L, active8, 0x3fff100800000840L, active9, 0x1400000000L, active10, 0x100000L, active11, 0x80024140000L);
+         return jjMoveStringLiteralDfa7_1(active0, 0x90002040L, active1, 0xff00000c200007f0L, active2, 0x4000007L, active3, 0x2000080000000000L, active4, 0x20100L, active5, 0L, active6, 0x7003f800000L, active7, 0L, active8, 0x3fff100800000840L, active9, 0x1400000000L, active10, 0x100000L, active11, 0x100024140000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa7_1(active0, 0xc00000000L, active1, 0x120000000000L, active2, 0L, active3, 0L, active4, 0x2000000000L, active5, 0x4000800L, active6, 0x4000000000000000L, active7, 0x1000000000000L, active8, 0x400000000000L, active9, 0x80000000L, active10, 0L, active11, 0x4000000000L);
+         return jjMoveStringLiteralDfa7_1(active0, 0xc00000000L, active1, 0x120000000000L, active2, 0L, active3, 0L, active4, 0x2000000000L, active5, 0x4000800L, active6, 0x4000000000000000L, active7, 0x1000000000000L, active8, 0x400000000000L, active9, 0x80000000L, active10, 0L, active11, 0x8000000000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa7_1(active0, 0L, active1, 0L, active2, 0L, active3, 0x1000000L, active4, 0L, active5, 0L, active6, 0x200000000000000L, active7, 0x203000L, active8, 0L, active9, 0L, active10, 0x2L, active11, 0L);
@@ -2412,8 +2414,8 @@ private final int jjMoveStringLiteralDfa7_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(7, 156, 97);
          else if ((active10 & 0x1000000000L) != 0L)
             return jjStartNfaWithStates_1(7, 676, 97);
-         else if ((active11 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_1(7, 739, 97);
+         else if ((active11 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_1(7, 740, 97);
          return jjMoveStringLiteralDfa8_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40000780000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 69:
       case 101:
@@ -2489,7 +2491,7 @@ private final int jjMoveStringLiteralDfa7_1(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa8_1(active0, 0L, active1, 0L, active2, 0L, active3, 0x100000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa8_1(active0, 0x10000000L, active1, 0x1fc00001000L, active2, 0L, active3, 0L, active4, 0x400020000L, active5, 0x400000L, active6, 0x30000202000L, active7, 0L, active8, 0x203000000000L, active9, 0x40400000000L, active10, 0x2000000000000000L, active11, 0x80000000000L);
+         return jjMoveStringLiteralDfa8_1(active0, 0x10000000L, active1, 0x1fc00001000L, active2, 0L, active3, 0L, active4, 0x400020000L, active5, 0x400000L, active6, 0x30000202000L, active7, 0L, active8, 0x203000000000L, active9, 0x40400000000L, active10, 0x2000000000000000L, active11, 0x100000000000L);
       case 74:
       case 106:
          return jjMoveStringLiteralDfa8_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x1800000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -2523,10 +2525,10 @@ private final int jjMoveStringLiteralDfa7_1(long old0, long active0, long old1,
             jjmatchedKind = 434;
             jjmatchedPos = 7;
          }
-         return jjMoveStringLiteralDfa8_1(active0, 0L, active1, 0x2000008L, active2, 0x40000000010L, active3, 0x8000400L, active4, 0xc4L, active5, 0x1000000000000000L, active6, 0x48000000000000L, active7, 0x1101000800000000L, active8, 0x8000L, active9, 0x6002000000L, active10, 0L, active11, 0x400400000000L);
+         return jjMoveStringLiteralDfa8_1(active0, 0L, active1, 0x2000008L, active2, 0x40000000010L, active3, 0x8000400L, active4, 0xc4L, active5, 0x1000000000000000L, active6, 0x48000000000000L, active7, 0x1101000800000000L, active8, 0x8000L, active9, 0x6002000000L, active10, 0L, active11, 0x800800000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa8_1(active0, 0x20800000L, active1, 0x28001c0780000L, active2, 0L, active3, 0x10000400000100L, active4, 0x4010000100L, active5, 0x4000000080L, active6, 0x80000480000000L, active7, 0x20000L, active8, 0x800L, active9, 0x4L, active10, 0L, active11, 0x4000000000L);
+         return jjMoveStringLiteralDfa8_1(active0, 0x20800000L, active1, 0x28001c0780000L, active2, 0L, active3, 0x10000400000100L, active4, 0x4010000100L, active5, 0x4000000080L, active6, 0x80000480000000L, active7, 0x20000L, active8, 0x800L, active9, 0x4L, active10, 0L, active11, 0x8000000000L);
       case 80:
       case 112:
          if ((active10 & 0x80000000000000L) != 0L)
@@ -2642,7 +2644,7 @@ private final int jjMoveStringLiteralDfa8_1(long old0, long active0, long old1,
       case 99:
          if ((active9 & 0x40000000000L) != 0L)
             return jjStartNfaWithStates_1(8, 618, 97);
-         return jjMoveStringLiteralDfa9_1(active0, 0L, active1, 0x100000000000000L, active2, 0x200000000000L, active3, 0L, active4, 0L, active5, 0x1000000000000200L, active6, 0L, active7, 0x100000000000L, active8, 0L, active9, 0x10L, active10, 0x4000L, active11, 0x80000000020L);
+         return jjMoveStringLiteralDfa9_1(active0, 0L, active1, 0x100000000000000L, active2, 0x200000000000L, active3, 0L, active4, 0L, active5, 0x1000000000000200L, active6, 0L, active7, 0x100000000000L, active8, 0L, active9, 0x10L, active10, 0x4000L, active11, 0x100000000020L);
       case 68:
       case 100:
          if ((active1 & 0x20000000L) != 0L)
@@ -2720,9 +2722,9 @@ private final int jjMoveStringLiteralDfa8_1(long old0, long active0, long old1,
             jjmatchedKind = 613;
             jjmatchedPos = 8;
          }
-         else if ((active11 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_1(8, 738, 97);
-         return jjMoveStringLiteralDfa9_1(active0, 0L, active1, 0x8L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000000000L, active9, 0x4040000000L, active10, 0L, active11, 0x400000000000L);
+         else if ((active11 & 0x800000000L) != 0L)
+            return jjStartNfaWithStates_1(8, 739, 97);
+         return jjMoveStringLiteralDfa9_1(active0, 0L, active1, 0x8L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000000000L, active9, 0x4040000000L, active10, 0L, active11, 0x800000000000L);
       case 72:
       case 104:
          return jjMoveStringLiteralDfa9_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1L, active9, 0x201000L, active10, 0L, active11, 0L);
@@ -2834,7 +2836,7 @@ private final int jjMoveStringLiteralDfa8_1(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa9_1(active0, 0L, active1, 0x8000020000000000L, active2, 0x100003L, active3, 0L, active4, 0x200004L, active5, 0x40000L, active6, 0x2000L, active7, 0x4000000000000000L, active8, 0x500000000L, active9, 0x1000000000L, active10, 0x8000000L, active11, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa9_1(active0, 0L, active1, 0L, active2, 0x4L, active3, 0L, active4, 0x2008000000000L, active5, 0x400000L, active6, 0x400000000L, active7, 0L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0x4010000000L);
+         return jjMoveStringLiteralDfa9_1(active0, 0L, active1, 0L, active2, 0x4L, active3, 0L, active4, 0x2008000000000L, active5, 0x400000L, active6, 0x400000000L, active7, 0L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0x8010000000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa9_1(active0, 0x10000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0xc000000000000000L, active9, 0x1L, active10, 0L, active11, 0L);
@@ -2937,7 +2939,7 @@ private final int jjMoveStringLiteralDfa9_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(9, 730, 97);
          else if ((active11 & 0x10000000L) != 0L)
             return jjStartNfaWithStates_1(9, 732, 97);
-         return jjMoveStringLiteralDfa10_1(active0, 0L, active1, 0x400000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000050000L, active6, 0x30000000000L, active7, 0x20000000000000L, active8, 0x1000000000001L, active9, 0x2004000e0000L, active10, 0x8000000L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa10_1(active0, 0L, active1, 0x400000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000050000L, active6, 0x30000000000L, active7, 0x20000000000000L, active8, 0x1000000000001L, active9, 0x2004000e0000L, active10, 0x8000000L, active11, 0x800000000000L);
       case 71:
       case 103:
          if ((active6 & 0x200000L) != 0L)
@@ -3009,10 +3011,10 @@ private final int jjMoveStringLiteralDfa9_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(9, 458, 97);
          else if ((active10 & 0x100L) != 0L)
             return jjStartNfaWithStates_1(9, 648, 97);
-         else if ((active11 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_1(9, 742, 97);
-         else if ((active11 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_1(9, 747, 97);
+         else if ((active11 & 0x8000000000L) != 0L)
+            return jjStartNfaWithStates_1(9, 743, 97);
+         else if ((active11 & 0x100000000000L) != 0L)
+            return jjStartNfaWithStates_1(9, 748, 97);
          return jjMoveStringLiteralDfa10_1(active0, 0L, active1, 0x80000000000L, active2, 0x40000000004L, active3, 0L, active4, 0x8000000000000000L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
@@ -3096,7 +3098,7 @@ private final int jjMoveStringLiteralDfa10_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(10, 341, 97);
          else if ((active10 & 0x8000000L) != 0L)
             return jjStartNfaWithStates_1(10, 667, 97);
-         return jjMoveStringLiteralDfa11_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0xa00000000000000L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa11_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0xa00000000000000L, active10, 0L, active11, 0x800000000000L);
       case 69:
       case 101:
          if ((active0 & 0x10000000000L) != 0L)
@@ -3248,7 +3250,7 @@ private final int jjMoveStringLiteralDfa11_1(long old0, long active0, long old1,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa12_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa12_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 65:
       case 97:
          if ((active8 & 0x1L) != 0L)
@@ -3450,7 +3452,7 @@ private final int jjMoveStringLiteralDfa12_1(long old0, long active0, long old1,
       case 112:
          if ((active9 & 0x100L) != 0L)
             return jjStartNfaWithStates_1(12, 584, 97);
-         return jjMoveStringLiteralDfa13_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x8000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa13_1(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x8000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 82:
       case 114:
          if ((active9 & 0x2000000000000000L) != 0L)
@@ -3496,7 +3498,7 @@ private final int jjMoveStringLiteralDfa13_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(13, 494, 97);
          else if ((active10 & 0x10000L) != 0L)
             return jjStartNfaWithStates_1(13, 656, 97);
-         return jjMoveStringLiteralDfa14_1(active0, 0x800000L, active1, 0x100000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000000L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa14_1(active0, 0x800000L, active1, 0x100000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000000L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa14_1(active0, 0L, active1, 0x100000000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -3664,7 +3666,7 @@ private final int jjMoveStringLiteralDfa14_1(long old0, long active0, long old1,
             return jjStartNfaWithStates_1(14, 575, 97);
          else if ((active9 & 0x10000L) != 0L)
             return jjStartNfaWithStates_1(14, 592, 97);
-         return jjMoveStringLiteralDfa15_1(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa15_1(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 83:
       case 115:
          if ((active1 & 0x200L) != 0L)
@@ -3766,7 +3768,7 @@ private final int jjMoveStringLiteralDfa15_1(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa16_1(active0, 0L, active1, 0L, active2, 0x2L, active5, 0L, active6, 0L, active7, 0L, active8, 0x4000000000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa16_1(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa16_1(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa16_1(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0xe0000000000000L, active9, 0L, active10, 0L, active11, 0L);
@@ -3819,7 +3821,7 @@ private final int jjMoveStringLiteralDfa16_1(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa17_1(active0, 0L, active1, 0x100L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa17_1(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0x38000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa17_1(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0x38000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 76:
       case 108:
          return jjMoveStringLiteralDfa17_1(active0, 0L, active1, 0L, active2, 0x6000L, active5, 0L, active6, 0x4000000L, active7, 0x80000000L, active8, 0L, active9, 0L, active10, 0x40L, active11, 0L);
@@ -3919,7 +3921,7 @@ private final int jjMoveStringLiteralDfa17_1(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa18_1(active0, 0L, active1, 0x400000000000000L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa18_1(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x31c000000000000L, active9, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa18_1(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x31c000000000000L, active9, 0L, active10, 0L, active11, 0x800000400000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa18_1(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0L);
@@ -3971,7 +3973,7 @@ private final int jjMoveStringLiteralDfa18_1(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa19_1(active0, 0L, active1, 0L, active2, 0x2L, active5, 0L, active6, 0L, active7, 0x200000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa19_1(active0, 0x1000000L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa19_1(active0, 0x1000000L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000400000L);
       case 76:
       case 108:
          return jjMoveStringLiteralDfa19_1(active0, 0L, active1, 0x40L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -4032,7 +4034,7 @@ private final int jjMoveStringLiteralDfa19_1(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa20_1(active0, 0L, active1, 0x400000000000000L, active2, 0L, active5, 0L, active6, 0x10000000L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa20_1(active0, 0L, active1, 0x40L, active2, 0x2000L, active5, 0L, active6, 0x4000000L, active7, 0L, active8, 0x20c0000000000000L, active10, 0x80000000000L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa20_1(active0, 0L, active1, 0x40L, active2, 0x2000L, active5, 0L, active6, 0x4000000L, active7, 0L, active8, 0x20c0000000000000L, active10, 0x80000000000L, active11, 0x800000400000L);
       case 82:
       case 114:
          return jjMoveStringLiteralDfa20_1(active0, 0L, active1, 0L, active2, 0x4002L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
@@ -4099,7 +4101,7 @@ private final int jjMoveStringLiteralDfa20_1(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa21_1(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000L, active10, 0x100000000000L, active11, 0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa21_1(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa21_1(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0x800000400000L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa21_1(active0, 0L, active1, 0L, active2, 0x2L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
@@ -4131,7 +4133,7 @@ private final int jjMoveStringLiteralDfa21_1(long old0, long active0, long old1,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa22_1(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa22_1(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000400000L);
       case 65:
       case 97:
          return jjMoveStringLiteralDfa22_1(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0x40000000040L, active11, 0L);
@@ -4225,7 +4227,7 @@ private final int jjMoveStringLiteralDfa22_1(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa23_1(active1, 0L, active2, 0x2L, active6, 0L, active8, 0L, active10, 0L, active11, 0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa23_1(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa23_1(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000000000L);
       case 84:
       case 116:
          return jjMoveStringLiteralDfa23_1(active1, 0L, active2, 0L, active6, 0x4000000L, active8, 0L, active10, 0L, active11, 0L);
@@ -4277,7 +4279,7 @@ private final int jjMoveStringLiteralDfa23_1(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa24_1(active1, 0L, active2, 0L, active6, 0L, active8, 0x2040000000000000L, active10, 0L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa24_1(active1, 0L, active2, 0L, active6, 0L, active8, 0x10000000000000L, active10, 0x40000000000L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa24_1(active1, 0L, active2, 0L, active6, 0L, active8, 0x10000000000000L, active10, 0x40000000000L, active11, 0x800000400000L);
       case 82:
       case 114:
          if ((active8 & 0x4000000000000L) != 0L)
@@ -4344,7 +4346,7 @@ private final int jjMoveStringLiteralDfa24_1(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa25_1(active1, 0L, active2, 0L, active6, 0L, active8, 0x40000000000000L, active10, 0L, active11, 0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa25_1(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa25_1(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000000000L);
       default :
          break;
    }
@@ -4398,7 +4400,7 @@ private final int jjMoveStringLiteralDfa25_1(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa26_1(active1, 0L, active2, 0x4002L, active6, 0L, active8, 0L, active11, 0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa26_1(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa26_1(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active11, 0x800000000000L);
       case 84:
       case 116:
          return jjMoveStringLiteralDfa26_1(active1, 0L, active2, 0L, active6, 0L, active8, 0x40000000000000L, active11, 0L);
@@ -4419,7 +4421,7 @@ private final int jjMoveStringLiteralDfa26_1(long old1, long active1, long old2,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa27_1(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa27_1(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 68:
       case 100:
          if ((active8 & 0x80000000000000L) != 0L)
@@ -4467,7 +4469,7 @@ private final int jjMoveStringLiteralDfa27_1(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa28_1(active1, 0L, active2, 0L, active8, 0x200000000000000L, active11, 0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa28_1(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa28_1(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 82:
       case 114:
          return jjMoveStringLiteralDfa28_1(active1, 0x400000000000000L, active2, 0L, active8, 0L, active11, 0L);
@@ -4494,7 +4496,7 @@ private final int jjMoveStringLiteralDfa28_1(long old1, long active1, long old2,
          break;
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa29_1(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa29_1(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa29_1(active1, 0x400000000000000L, active2, 0L, active8, 0L, active11, 0L);
@@ -4519,7 +4521,7 @@ private final int jjMoveStringLiteralDfa29_1(long old1, long active1, long old2,
    {
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa30_1(active1, 0L, active2, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa30_1(active1, 0L, active2, 0L, active11, 0x800000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa30_1(active1, 0x400000000000000L, active2, 0L, active11, 0L);
@@ -4544,7 +4546,7 @@ private final int jjMoveStringLiteralDfa30_1(long old1, long active1, long old2,
    {
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa31_1(active1, 0L, active2, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa31_1(active1, 0L, active2, 0L, active11, 0x800000000000L);
       case 80:
       case 112:
          if ((active1 & 0x400000000000000L) != 0L)
@@ -4570,7 +4572,7 @@ private final int jjMoveStringLiteralDfa31_1(long old1, long active1, long old2,
       case 101:
          if ((active2 & 0x2L) != 0L)
             return jjStartNfaWithStates_1(31, 129, 97);
-         return jjMoveStringLiteralDfa32_1(active2, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa32_1(active2, 0L, active11, 0x800000000000L);
       default :
          break;
    }
@@ -4589,7 +4591,7 @@ private final int jjMoveStringLiteralDfa32_1(long old2, long active2, long old11
    {
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa33_1(active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa33_1(active11, 0x800000000000L);
       default :
          break;
    }
@@ -4608,8 +4610,8 @@ private final int jjMoveStringLiteralDfa33_1(long old11, long active11)
    {
       case 84:
       case 116:
-         if ((active11 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_1(33, 750, 97);
+         if ((active11 & 0x800000000000L) != 0L)
+            return jjStartNfaWithStates_1(33, 751, 97);
          break;
       default :
          break;
@@ -4703,8 +4705,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjCheckNAddTwoStates(56, 57);
                   else if (curChar == 7)
                   {
-                     if (kind > 829)
-                        kind = 829;
+                     if (kind > 830)
+                        kind = 830;
                   }
                   else if (curChar == 34)
                      jjCheckNAddTwoStates(30, 32);
@@ -4712,14 +4714,14 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 23;
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 752)
-                        kind = 752;
+                     if (kind > 753)
+                        kind = 753;
                      jjCheckNAddStates(9, 15);
                   }
                   else if (curChar == 36)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -4732,8 +4734,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -4746,8 +4748,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -4762,8 +4764,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -4786,8 +4788,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 67;
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -4796,8 +4798,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 92:
                   if (curChar == 47)
                   {
-                     if (kind > 815)
-                        kind = 815;
+                     if (kind > 816)
+                        kind = 816;
                      jjCheckNAddStates(25, 27);
                   }
                   else if (curChar == 42)
@@ -4812,8 +4814,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -4834,8 +4836,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjCheckNAddStates(32, 34);
                   else if (curChar == 39)
                   {
-                     if (kind > 759)
-                        kind = 759;
+                     if (kind > 760)
+                        kind = 760;
                   }
                   if ((0xfc00f7faffffc9ffL & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 64;
@@ -4845,8 +4847,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 98:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 754)
-                        kind = 754;
+                     if (kind > 755)
+                        kind = 755;
                      jjCheckNAdd(57);
                   }
                   if ((0x3ff000000000000L & l) != 0L)
@@ -4871,8 +4873,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 3;
                   break;
                case 5:
-                  if (curChar == 39 && kind > 758)
-                     kind = 758;
+                  if (curChar == 39 && kind > 759)
+                     kind = 759;
                   break;
                case 7:
                   if ((0x3ff000000000000L & l) != 0L)
@@ -4896,8 +4898,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 11;
                   break;
                case 13:
-                  if (curChar == 39 && kind > 760)
-                     kind = 760;
+                  if (curChar == 39 && kind > 761)
+                     kind = 761;
                   break;
                case 17:
                   if ((0xffffff7fffffffffL & l) != 0L)
@@ -4915,30 +4917,30 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 20;
                   break;
                case 22:
-                  if (curChar == 39 && kind > 762)
-                     kind = 762;
+                  if (curChar == 39 && kind > 763)
+                     kind = 763;
                   break;
                case 23:
                   if (curChar != 45)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(25, 27);
                   break;
                case 24:
                   if ((0xffffffffffffdbffL & l) == 0L)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(25, 27);
                   break;
                case 25:
-                  if ((0x2400L & l) != 0L && kind > 815)
-                     kind = 815;
+                  if ((0x2400L & l) != 0L && kind > 816)
+                     kind = 816;
                   break;
                case 26:
-                  if (curChar == 10 && kind > 815)
-                     kind = 815;
+                  if (curChar == 10 && kind > 816)
+                     kind = 816;
                   break;
                case 27:
                   if (curChar == 13)
@@ -4965,21 +4967,21 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 31;
                   break;
                case 33:
-                  if (curChar == 34 && kind > 820)
-                     kind = 820;
+                  if (curChar == 34 && kind > 821)
+                     kind = 821;
                   break;
                case 34:
                   if (curChar != 36)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 35:
                   if ((0x3ff001000000000L & l) == 0L)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 36:
@@ -4997,8 +4999,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 39:
                   if (curChar != 36)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjCheckNAddTwoStates(39, 40);
                   break;
                case 40:
@@ -5008,26 +5010,26 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 41:
                   if ((0x3ff001000000000L & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjCheckNAdd(41);
                   break;
                case 42:
-                  if (curChar == 7 && kind > 829)
-                     kind = 829;
+                  if (curChar == 7 && kind > 830)
+                     kind = 830;
                   break;
                case 43:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 752)
-                     kind = 752;
+                  if (kind > 753)
+                     kind = 753;
                   jjCheckNAddStates(9, 15);
                   break;
                case 44:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 752)
-                     kind = 752;
+                  if (kind > 753)
+                     kind = 753;
                   jjCheckNAdd(44);
                   break;
                case 45:
@@ -5041,8 +5043,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 48:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 753)
-                     kind = 753;
+                  if (kind > 754)
+                     kind = 754;
                   jjCheckNAdd(48);
                   break;
                case 49:
@@ -5056,22 +5058,22 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 51:
                   if (curChar != 46)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(52);
                   break;
                case 52:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(52);
                   break;
                case 53:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAddStates(35, 37);
                   break;
                case 54:
@@ -5089,8 +5091,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 57:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(57);
                   break;
                case 58:
@@ -5110,12 +5112,12 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 60;
                   break;
                case 62:
-                  if (curChar == 39 && kind > 759)
-                     kind = 759;
+                  if (curChar == 39 && kind > 760)
+                     kind = 760;
                   break;
                case 64:
-                  if (curChar == 39 && kind > 766)
-                     kind = 766;
+                  if (curChar == 39 && kind > 767)
+                     kind = 767;
                   break;
                case 67:
                case 69:
@@ -5131,8 +5133,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 69;
                   break;
                case 71:
-                  if (curChar == 39 && kind > 761)
-                     kind = 761;
+                  if (curChar == 39 && kind > 762)
+                     kind = 762;
                   break;
                case 72:
                   if (curChar == 38)
@@ -5155,8 +5157,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 75;
                   break;
                case 77:
-                  if (curChar == 34 && kind > 826)
-                     kind = 826;
+                  if (curChar == 34 && kind > 827)
+                     kind = 827;
                   break;
                case 79:
                   if (curChar == 32)
@@ -5183,14 +5185,14 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 91;
                   break;
                case 91:
-                  if ((0xffff7fffffffffffL & l) != 0L && kind > 813)
-                     kind = 813;
+                  if ((0xffff7fffffffffffL & l) != 0L && kind > 814)
+                     kind = 814;
                   break;
                case 93:
                   if (curChar != 47)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(25, 27);
                   break;
                default : break;
@@ -5211,8 +5213,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjAddStates(48, 55);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if ((0x20000000200000L & l) != 0L)
@@ -5233,8 +5235,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -5245,8 +5247,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -5257,8 +5259,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -5273,8 +5275,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -5285,8 +5287,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -5297,13 +5299,13 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 85;
                   else if ((0x1000000010L & l) != 0L)
                   {
-                     if (kind > 769)
-                        kind = 769;
+                     if (kind > 770)
+                        kind = 770;
                   }
                   if ((0x10000000100000L & l) != 0L)
                   {
-                     if (kind > 770)
-                        kind = 770;
+                     if (kind > 771)
+                        kind = 771;
                   }
                   break;
                case 63:
@@ -5354,22 +5356,22 @@ private final int jjMoveNfa_1(int startState, int curPos)
                   jjCheckNAddStates(28, 31);
                   break;
                case 24:
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjAddStates(25, 27);
                   break;
                case 34:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 35:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 36:
@@ -5379,15 +5381,15 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 39:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjAddStates(58, 59);
                   break;
                case 41:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjstateSet[jjnewStateCnt++] = 41;
                   break;
                case 46:
@@ -5412,32 +5414,32 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjAddStates(48, 55);
                   break;
                case 80:
-                  if ((0x1000000010L & l) != 0L && kind > 769)
-                     kind = 769;
+                  if ((0x1000000010L & l) != 0L && kind > 770)
+                     kind = 770;
                   break;
                case 82:
-                  if ((0x10000000100000L & l) != 0L && kind > 770)
-                     kind = 770;
+                  if ((0x10000000100000L & l) != 0L && kind > 771)
+                     kind = 771;
                   break;
                case 84:
                   if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 85;
                   break;
                case 85:
-                  if ((0x8000000080000L & l) != 0L && kind > 771)
-                     kind = 771;
+                  if ((0x8000000080000L & l) != 0L && kind > 772)
+                     kind = 772;
                   break;
                case 87:
                   if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 88;
                   break;
                case 88:
-                  if ((0x400000004000L & l) != 0L && kind > 772)
-                     kind = 772;
+                  if ((0x400000004000L & l) != 0L && kind > 773)
+                     kind = 773;
                   break;
                case 91:
-                  if (kind > 813)
-                     kind = 813;
+                  if (kind > 814)
+                     kind = 814;
                   break;
                default : break;
             }
@@ -5457,8 +5459,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 0:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -5467,8 +5469,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 1:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -5479,8 +5481,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 97:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -5491,8 +5493,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 95:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -5508,8 +5510,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 66:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -5520,8 +5522,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 16:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -5556,22 +5558,22 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 24:
                   if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjAddStates(25, 27);
                   break;
                case 34:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 35:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 36:
@@ -5581,15 +5583,15 @@ private final int jjMoveNfa_1(int startState, int curPos)
                case 39:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjAddStates(58, 59);
                   break;
                case 41:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjstateSet[jjnewStateCnt++] = 41;
                   break;
                case 59:
@@ -5605,8 +5607,8 @@ private final int jjMoveNfa_1(int startState, int curPos)
                      jjAddStates(45, 47);
                   break;
                case 91:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2) && kind > 813)
-                     kind = 813;
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2) && kind > 814)
+                     kind = 814;
                   break;
                default : break;
             }
@@ -5630,194 +5632,194 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
    switch (pos)
    {
       case 0:
-         if ((active12 & 0x20L) != 0L)
+         if ((active2 & 0xfe00000000000000L) != 0L || (active3 & 0x7ffffL) != 0L || (active11 & 0x20000000L) != 0L)
+         {
+            jjmatchedKind = 825;
+            return 16;
+         }
+         if ((active12 & 0x40L) != 0L)
             return 94;
-         if ((active12 & 0x40000000L) != 0L)
-            return 63;
-         if ((active12 & 0x480002000000L) != 0L)
-            return 92;
-         if ((active5 & 0x7fffff000000000L) != 0L || (active11 & 0x400000000L) != 0L)
+         if ((active5 & 0x7fffff000000000L) != 0L || (active11 & 0x800000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             return 95;
          }
-         if ((active11 & 0x2000L) != 0L)
+         if ((active12 & 0x80000000L) != 0L)
+            return 63;
+         if ((active12 & 0x900004000000L) != 0L)
+            return 92;
+         if ((active10 & 0x7fffffe000000L) != 0L)
          {
-            jjmatchedKind = 824;
-            return 1;
+            jjmatchedKind = 825;
+            return 66;
          }
-         if ((active12 & 0x80L) != 0L)
+         if ((active12 & 0x100L) != 0L)
             return 96;
-         if ((active2 & 0xfe00000000000000L) != 0L || (active3 & 0x7ffffL) != 0L || (active11 & 0x20000000L) != 0L)
+         if ((active0 & 0xfffc000000000L) != 0L || (active2 & 0x1ffffffffffffc0L) != 0L || (active3 & 0xff8001fffff80000L) != 0L || (active4 & 0xfffff0ffffffffffL) != 0L || (active5 & 0xf800000000000003L) != 0L || (active6 & 0xffffffffffffffffL) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffefffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfff8000001ffffffL) != 0L || (active11 & 0x13957de4fdfffL) != 0L)
          {
-            jjmatchedKind = 824;
-            return 16;
+            jjmatchedKind = 825;
+            return 97;
          }
-         if ((active0 & 0xfff0003ffffffff8L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fL) != 0L || (active3 & 0x7ffe0000000000L) != 0L || (active4 & 0xf0000000000L) != 0L || (active5 & 0xffffffffcL) != 0L || (active8 & 0x100000L) != 0L || (active11 & 0x635001b00000L) != 0L || (active12 & 0x1000000000L) != 0L)
+         if ((active0 & 0xfff0003ffffffff8L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fL) != 0L || (active3 & 0x7ffe0000000000L) != 0L || (active4 & 0xf0000000000L) != 0L || (active5 & 0xffffffffcL) != 0L || (active8 & 0x100000L) != 0L || (active11 & 0xc6a001b00000L) != 0L || (active12 & 0x2000000000L) != 0L)
             return 97;
-         if ((active12 & 0x20000400L) != 0L)
+         if ((active12 & 0x40000800L) != 0L)
             return 98;
-         if ((active0 & 0xfffc000000000L) != 0L || (active2 & 0x1ffffffffffffc0L) != 0L || (active3 & 0xff8001fffff80000L) != 0L || (active4 & 0xfffff0ffffffffffL) != 0L || (active5 & 0xf800000000000003L) != 0L || (active6 & 0xffffffffffffffffL) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffefffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfff8000001ffffffL) != 0L || (active11 & 0x9cabde4fdfffL) != 0L)
-         {
-            jjmatchedKind = 824;
-            return 97;
-         }
-         if ((active10 & 0x7fffffe000000L) != 0L)
+         if ((active11 & 0x2000L) != 0L)
          {
-            jjmatchedKind = 824;
-            return 66;
+            jjmatchedKind = 825;
+            return 1;
          }
-         if ((active12 & 0xc00000L) != 0L)
+         if ((active12 & 0x1800000L) != 0L)
             return 23;
          return -1;
       case 1:
-         if ((active12 & 0x480000000000L) != 0L)
+         if ((active12 & 0x900000000000L) != 0L)
             return 90;
-         if ((active0 & 0x8000ffe000000L) != 0L || (active3 & 0x1800000000000L) != 0L || (active4 & 0x100000001ffffff0L) != 0L || (active5 & 0x8007c00000000000L) != 0L || (active6 & 0x3e39L) != 0L || (active10 & 0x3L) != 0L || (active11 & 0x820540220000L) != 0L)
-            return 97;
-         if ((active0 & 0xffe7fff001fffff0L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0xffffffffffffffffL) != 0L || (active3 & 0xfffe7dffffffffffL) != 0L || (active4 & 0xeffffeffe000000fL) != 0L || (active5 & 0x7ff83ffffffffffbL) != 0L || (active6 & 0xffffffffffffc1c6L) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffffffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfffffffffffffffcL) != 0L || (active11 & 0x7dfabfddffffL) != 0L)
+         if ((active0 & 0xffe7fff001fffff0L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0xffffffffffffffffL) != 0L || (active3 & 0xfffe7dffffffffffL) != 0L || (active4 & 0xeffffeffe000000fL) != 0L || (active5 & 0x7ff83ffffffffffbL) != 0L || (active6 & 0xffffffffffffc1c6L) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffffffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfffffffffffffffcL) != 0L || (active11 & 0xfbf6bfddffffL) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 1;
             }
             return 97;
          }
+         if ((active0 & 0x8000ffe000000L) != 0L || (active3 & 0x1800000000000L) != 0L || (active4 & 0x100000001ffffff0L) != 0L || (active5 & 0x8007c00000000000L) != 0L || (active6 & 0x3e39L) != 0L || (active10 & 0x3L) != 0L || (active11 & 0x1040940220000L) != 0L)
+            return 97;
          return -1;
       case 2:
-         if ((active0 & 0x402008167370L) != 0L || (active2 & 0xc01a000001ef0000L) != 0L || (active3 & 0x4002000f000c003L) != 0L || (active4 & 0x2e0000fc0000L) != 0L || (active5 & 0x410003f800c08L) != 0L || (active6 & 0x11fc000438012L) != 0L || (active7 & 0x7800000000e00L) != 0L || (active8 & 0xfffffffe001c0000L) != 0L || (active9 & 0x100003fffffL) != 0L || (active11 & 0x500000002000L) != 0L)
-            return 97;
-         if ((active0 & 0xffe7bfdef5e98c80L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fe5fffffe10ffffL) != 0L || (active3 & 0xfbff5dff0fff3ffcL) != 0L || (active4 & 0xefffd0fffd03ffefL) != 0L || (active5 & 0x7ffbafffc07ff3f3L) != 0L || (active6 & 0xfffee03fffbc7de5L) != 0L || (active7 & 0xfff87ffffffff1ffL) != 0L || (active8 & 0x1ffe3ffffL) != 0L || (active9 & 0xfffffeffffc00000L) != 0L || (active10 & 0xfffffffffffffffeL) != 0L || (active11 & 0xaffffffddfffL) != 0L)
+         if ((active0 & 0xffe7bfdef5e98c80L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fe5fffffe10ffffL) != 0L || (active3 & 0xfbff5dff0fff3ffcL) != 0L || (active4 & 0xefffd0fffd03ffefL) != 0L || (active5 & 0x7ffbafffc07ff3f3L) != 0L || (active6 & 0xfffee03fffbc7de5L) != 0L || (active7 & 0xfff87ffffffff1ffL) != 0L || (active8 & 0x1ffe3ffffL) != 0L || (active9 & 0xfffffeffffc00000L) != 0L || (active10 & 0xfffffffffffffffeL) != 0L || (active11 & 0x15ffffffddfffL) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 2;
             }
             return 97;
          }
+         if ((active0 & 0x402008167370L) != 0L || (active2 & 0xc01a000001ef0000L) != 0L || (active3 & 0x4002000f000c003L) != 0L || (active4 & 0x2e0000fc0000L) != 0L || (active5 & 0x410003f800c08L) != 0L || (active6 & 0x11fc000438012L) != 0L || (active7 & 0x7800000000e00L) != 0L || (active8 & 0xfffffffe001c0000L) != 0L || (active9 & 0x100003fffffL) != 0L || (active11 & 0xa00000002000L) != 0L)
+            return 97;
          return -1;
       case 3:
-         if ((active0 & 0x33853fdef1e9ece0L) != 0L || (active1 & 0xffdf3fffffffb803L) != 0L || (active2 & 0x35c5fc3fffd6003fL) != 0L || (active3 & 0xe1fe5d97efffa7ffL) != 0L || (active4 & 0xe9c4dc001d7bffefL) != 0L || (active5 & 0x7e1b0fcdf77ffbf3L) != 0L || (active6 & 0xfbfe7fa7ff837d81L) != 0L || (active7 & 0xfffb7efffffffd0fL) != 0L || (active8 & 0xfffffffdf4d3fd7fL) != 0L || (active9 & 0x800bfeffffbfffffL) != 0L || (active10 & 0xbffb41fffef1fffeL) != 0L || (active11 & 0xffcffdfc1870L) != 0L)
+         if ((active0 & 0xcc62800004000000L) != 0L || (active1 & 0x20c000000047fcL) != 0L || (active2 & 0xa2003c00008ffc0L) != 0L || (active3 & 0x1a01006800001800L) != 0L || (active4 & 0x63b00ffe0800000L) != 0L || (active5 & 0x1e0a03200000000L) != 0L || (active6 & 0x4008018003c0064L) != 0L || (active7 & 0x40100000000f0L) != 0L || (active8 & 0xb280280L) != 0L || (active9 & 0x7ff4000000400000L) != 0L || (active10 & 0x4004be00010e0000L) != 0L || (active11 & 0x620201c78fL) != 0L)
+            return 97;
+         if ((active2 & 0x8000000000000000L) != 0L)
+            return 99;
+         if ((active0 & 0x33853fdef1e9ece0L) != 0L || (active1 & 0xffdf3fffffffb803L) != 0L || (active2 & 0x35c5fc3fffd6003fL) != 0L || (active3 & 0xe1fe5d97efffa7ffL) != 0L || (active4 & 0xe9c4dc001d7bffefL) != 0L || (active5 & 0x7e1b0fcdf77ffbf3L) != 0L || (active6 & 0xfbfe7fa7ff837d81L) != 0L || (active7 & 0xfffb7efffffffd0fL) != 0L || (active8 & 0xfffffffdf4d3fd7fL) != 0L || (active9 & 0x800bfeffffbfffffL) != 0L || (active10 & 0xbffb41fffef1fffeL) != 0L || (active11 & 0x1ff9dfdfc1870L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 3;
             }
             return 97;
          }
-         if ((active0 & 0xcc62800004000000L) != 0L || (active1 & 0x20c000000047fcL) != 0L || (active2 & 0xa2003c00008ffc0L) != 0L || (active3 & 0x1a01006800001800L) != 0L || (active4 & 0x63b00ffe0800000L) != 0L || (active5 & 0x1e0a03200000000L) != 0L || (active6 & 0x4008018003c0064L) != 0L || (active7 & 0x40100000000f0L) != 0L || (active8 & 0xb280280L) != 0L || (active9 & 0x7ff4000000400000L) != 0L || (active10 & 0x4004be00010e0000L) != 0L || (active11 & 0x300201c78fL) != 0L)
-            return 97;
-         if ((active2 & 0x8000000000000000L) != 0L)
-            return 99;
          return -1;
       case 4:
-         if ((active0 & 0xb3c53c5ef00120e0L) != 0L || (active1 & 0xffcebffffffd37f9L) != 0L || (active2 & 0x25c5ffa7ffd6fe9fL) != 0L || (active3 & 0x61805d96e827b7abL) != 0L || (active4 & 0x5564cff1d7bc7efL) != 0L || (active5 & 0x7ecb09c4777f7801L) != 0L || (active6 & 0xebee5fa7ffba7181L) != 0L || (active7 & 0x1bfb7e3ffdfffd07L) != 0L || (active8 & 0xfffffffdd4c3fd7eL) != 0L || (active9 & 0xffca3efefc3fffffL) != 0L || (active10 & 0xbfc03cbf9ef5effeL) != 0L || (active11 & 0x79cfbbbc0b68L) != 0L)
+         if ((active0 & 0x38001e8cc00L) != 0L || (active1 & 0x11000000028802L) != 0L || (active2 & 0x1000001800000020L) != 0L || (active3 & 0x907e000107d80054L) != 0L || (active4 & 0xe880900000003800L) != 0L || (active5 & 0x1100629800083f2L) != 0L || (active6 & 0x1010200000010c00L) != 0L || (active7 & 0xe40000c002000048L) != 0L || (active8 & 0x20100001L) != 0L || (active9 & 0x1c00103800000L) != 0L || (active10 & 0x3b414060001000L) != 0L || (active11 & 0x10c0044409012L) != 0L)
+            return 97;
+         if ((active0 & 0xb3c53c5ef00120e0L) != 0L || (active1 & 0xffcebffffffd37f9L) != 0L || (active2 & 0x25c5ffa7ffd6fe9fL) != 0L || (active3 & 0x61805d96e827b7abL) != 0L || (active4 & 0x5564cff1d7bc7efL) != 0L || (active5 & 0x7ecb09c4777f7801L) != 0L || (active6 & 0xebee5fa7ffba7181L) != 0L || (active7 & 0x1bfb7e3ffdfffd07L) != 0L || (active8 & 0xfffffffdd4c3fd7eL) != 0L || (active9 & 0xffca3efefc3fffffL) != 0L || (active10 & 0xbfc03cbf9ef5effeL) != 0L || (active11 & 0xf39dbbbc0b68L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 4;
             }
             return 97;
          }
-         if ((active0 & 0x38001e8cc00L) != 0L || (active1 & 0x11000000028802L) != 0L || (active2 & 0x1000001800000020L) != 0L || (active3 & 0x907e000107d80054L) != 0L || (active4 & 0xe880900000003800L) != 0L || (active5 & 0x1100629800083f2L) != 0L || (active6 & 0x1010200000010c00L) != 0L || (active7 & 0xe40000c002000048L) != 0L || (active8 & 0x20100001L) != 0L || (active9 & 0x1c00103800000L) != 0L || (active10 & 0x3b414060001000L) != 0L || (active11 & 0x860044409012L) != 0L)
-            return 97;
          if ((active2 & 0x8000000000000000L) != 0L)
             return 99;
          return -1;
       case 5:
-         if ((active0 & 0x403042000100a0L) != 0L || (active1 & 0x8000033000000L) != 0L || (active2 & 0x50003e0400018L) != 0L || (active3 & 0x40c04110202121a8L) != 0L || (active4 & 0x40000004008008L) != 0L || (active5 & 0x4a80000163084000L) != 0L || (active6 & 0x8000080100024181L) != 0L || (active7 & 0x1a00043fe0000000L) != 0L || (active8 & 0x1080c11eL) != 0L || (active9 & 0x3a0824000000L) != 0L || (active10 & 0x1000a880800000L) != 0L || (active11 & 0x200140L) != 0L)
-            return 97;
-         if ((active2 & 0x8000000000000000L) != 0L)
-            return 99;
-         if ((active0 & 0xb3850f1cf1c02040L) != 0L || (active1 & 0xffc6bfffccfd37f9L) != 0L || (active2 & 0x25c0ffa41f96fe87L) != 0L || (active3 & 0x21341c86c9069603L) != 0L || (active4 & 0xc5164cff197b47e7L) != 0L || (active5 & 0x344b09c414773be1L) != 0L || (active6 & 0x6bee57a6ffb83800L) != 0L || (active7 & 0xc1fb7a001dfffd07L) != 0L || (active8 & 0xfffffffdc4433c61L) != 0L || (active9 & 0xffcb84f6da3fffffL) != 0L || (active10 & 0xbfe03c171e75effeL) != 0L || (active11 & 0x79cfbfdc0a28L) != 0L)
+         if ((active0 & 0xb3850f1cf1c02040L) != 0L || (active1 & 0xffc6bfffccfd37f9L) != 0L || (active2 & 0x25c0ffa41f96fe87L) != 0L || (active3 & 0x21341c86c9069603L) != 0L || (active4 & 0xc5164cff197b47e7L) != 0L || (active5 & 0x344b09c414773be1L) != 0L || (active6 & 0x6bee57a6ffb83800L) != 0L || (active7 & 0xc1fb7a001dfffd07L) != 0L || (active8 & 0xfffffffdc4433c61L) != 0L || (active9 & 0xffcb84f6da3fffffL) != 0L || (active10 & 0xbfe03c171e75effeL) != 0L || (active11 & 0xf39dbfdc0a28L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 5;
             }
             return 97;
          }
+         if ((active0 & 0x403042000100a0L) != 0L || (active1 & 0x8000033000000L) != 0L || (active2 & 0x50003e0400018L) != 0L || (active3 & 0x40c04110202121a8L) != 0L || (active4 & 0x40000004008008L) != 0L || (active5 & 0x4a80000163084000L) != 0L || (active6 & 0x8000080100024181L) != 0L || (active7 & 0x1a00043fe0000000L) != 0L || (active8 & 0x1080c11eL) != 0L || (active9 & 0x3a0824000000L) != 0L || (active10 & 0x1000a880800000L) != 0L || (active11 & 0x200140L) != 0L)
+            return 97;
+         if ((active2 & 0x8000000000000000L) != 0L)
+            return 99;
          return -1;
       case 6:
-         if ((active0 & 0xb305080000000000L) != 0L || (active1 & 0xff80200e00840001L) != 0L || (active2 & 0x5c00020c7800007L) != 0L || (active3 & 0x40400c0049200L) != 0L || (active4 & 0x114000009080620L) != 0L || (active5 & 0x400090002003061L) != 0L || (active6 & 0x90257a240103100L) != 0L || (active7 & 0x878100d410007L) != 0L || (active8 & 0x8000430030L) != 0L || (active9 & 0x8000000000000000L) != 0L || (active10 & 0x3e4000070241e000L) != 0L || (active11 & 0x318200080a00L) != 0L)
-            return 97;
-         if ((active0 & 0x80071cf1c02040L) != 0L || (active1 & 0x469ff1ee7937f8L) != 0L || (active2 & 0x2000ff841816fe90L) != 0L || (active3 & 0x2130188609020503L) != 0L || (active4 & 0xc4024cff107341c7L) != 0L || (active5 & 0x304b00c414770b80L) != 0L || (active6 & 0x62ec0004bfa80800L) != 0L || (active7 & 0xd1f3020f90befd00L) != 0L || (active8 & 0xffffff7dc400bc41L) != 0L || (active9 & 0x7fcbb4f6da3fffffL) != 0L || (active10 & 0x81a03c101c340ffeL) != 0L || (active11 & 0x484dbff40028L) != 0L)
+         if ((active0 & 0x80071cf1c02040L) != 0L || (active1 & 0x469ff1ee7937f8L) != 0L || (active2 & 0x2000ff841816fe90L) != 0L || (active3 & 0x2130188609020503L) != 0L || (active4 & 0xc4024cff107341c7L) != 0L || (active5 & 0x304b00c414770b80L) != 0L || (active6 & 0x62ec0004bfa80800L) != 0L || (active7 & 0xd1f3020f90befd00L) != 0L || (active8 & 0xffffff7dc400bc41L) != 0L || (active9 & 0x7fcbb4f6da3fffffL) != 0L || (active10 & 0x81a03c101c340ffeL) != 0L || (active11 & 0x9099bff40028L) != 0L)
          {
             if (jjmatchedPos != 6)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 6;
             }
             return 97;
          }
+         if ((active0 & 0xb305080000000000L) != 0L || (active1 & 0xff80200e00840001L) != 0L || (active2 & 0x5c00020c7800007L) != 0L || (active3 & 0x40400c0049200L) != 0L || (active4 & 0x114000009080620L) != 0L || (active5 & 0x400090002003061L) != 0L || (active6 & 0x90257a240103100L) != 0L || (active7 & 0x878100d410007L) != 0L || (active8 & 0x8000430030L) != 0L || (active9 & 0x8000000000000000L) != 0L || (active10 & 0x3e4000070241e000L) != 0L || (active11 & 0x630400080a00L) != 0L)
+            return 97;
          if ((active2 & 0x8000000000000000L) != 0L)
             return 99;
          return -1;
       case 7:
-         if ((active0 & 0x2080071cf1c00000L) != 0L || (active1 & 0xff4683fdee7837f8L) != 0L || (active2 & 0x1802f0408160617L) != 0L || (active3 & 0x110080609000503L) != 0L || (active4 & 0xc40204ff103245c7L) != 0L || (active5 & 0x300b004000770380L) != 0L || (active6 & 0x60c00704bfa02000L) != 0L || (active7 & 0xd173700f8082fd00L) != 0L || (active8 & 0xffffe2740002ac01L) != 0L || (active9 & 0x7fc3b476da3ffe5fL) != 0L || (active10 & 0xa1003c001c05cffaL) != 0L || (active11 & 0x484537f00020L) != 0L)
+         if ((active0 & 0x200000000002040L) != 0L || (active1 & 0x1c0000010000L) != 0L || (active2 & 0x2000d0801400f880L) != 0L || (active3 & 0x2020108000020000L) != 0L || (active4 & 0x480000410000L) != 0L || (active5 & 0x40008414002800L) != 0L || (active6 & 0x22c000000080800L) != 0L || (active7 & 0x800200103c0004L) != 0L || (active8 & 0x1d09c4001040L) != 0L || (active9 & 0x80080000001a0L) != 0L || (active10 & 0xa0001000300004L) != 0L || (active11 & 0x1088040008L) != 0L)
+            return 97;
+         if ((active2 & 0x8000000000000000L) != 0L)
+            return 99;
+         if ((active0 & 0x2080071cf1c00000L) != 0L || (active1 & 0xff4683fdee7837f8L) != 0L || (active2 & 0x1802f0408160617L) != 0L || (active3 & 0x110080609000503L) != 0L || (active4 & 0xc40204ff103245c7L) != 0L || (active5 & 0x300b004000770380L) != 0L || (active6 & 0x60c00704bfa02000L) != 0L || (active7 & 0xd173700f8082fd00L) != 0L || (active8 & 0xffffe2740002ac01L) != 0L || (active9 & 0x7fc3b476da3ffe5fL) != 0L || (active10 & 0xa1003c001c05cffaL) != 0L || (active11 & 0x908937f00020L) != 0L)
          {
             if (jjmatchedPos != 7)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 7;
             }
             return 97;
          }
-         if ((active0 & 0x200000000002040L) != 0L || (active1 & 0x1c0000010000L) != 0L || (active2 & 0x2000d0801400f880L) != 0L || (active3 & 0x2020108000020000L) != 0L || (active4 & 0x480000410000L) != 0L || (active5 & 0x40008414002800L) != 0L || (active6 & 0x22c000000080800L) != 0L || (active7 & 0x800200103c0004L) != 0L || (active8 & 0x1d09c4001040L) != 0L || (active9 & 0x80080000001a0L) != 0L || (active10 & 0xa0001000300004L) != 0L || (active11 & 0x888040008L) != 0L)
-            return 97;
-         if ((active2 & 0x8000000000000000L) != 0L)
-            return 99;
          return -1;
       case 8:
-         if ((active0 & 0x20800310d1800000L) != 0L || (active1 & 0xff048bfc0e003008L) != 0L || (active2 & 0x1802f040810f417L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x40204ff00024004L) != 0L || (active5 & 0x3000004000770380L) != 0L || (active6 & 0x2008070400202000L) != 0L || (active7 & 0xd06270078082cc00L) != 0L || (active8 & 0xffff62758002a001L) != 0L || (active9 & 0x6081b016583fff59L) != 0L || (active10 & 0x20003c001805c87aL) != 0L || (active11 & 0x484117d00020L) != 0L)
+         if ((active0 & 0x40c20400000L) != 0L || (active1 & 0x420001e07807f0L) != 0L || (active2 & 0x60200L) != 0L || (active3 & 0x100080408000501L) != 0L || (active4 & 0xc0000000103005c3L) != 0L || (active5 & 0xb000000000000L) != 0L || (active6 & 0x40c00000bf800000L) != 0L || (active7 & 0x111000800003100L) != 0L || (active8 & 0x800000000c00L) != 0L || (active9 & 0x1f42046082000006L) != 0L || (active10 & 0x8100000004000780L) != 0L || (active11 & 0x820200000L) != 0L)
+            return 97;
+         if ((active0 & 0x20800310d1800000L) != 0L || (active1 & 0xff048bfc0e003008L) != 0L || (active2 & 0x1802f040810f417L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x40204ff00024004L) != 0L || (active5 & 0x3000004000770380L) != 0L || (active6 & 0x2008070400202000L) != 0L || (active7 & 0xd06270078082cc00L) != 0L || (active8 & 0xffff62758002a001L) != 0L || (active9 & 0x6081b016583fff59L) != 0L || (active10 & 0x20003c001805c87aL) != 0L || (active11 & 0x908117d00020L) != 0L)
          {
             if (jjmatchedPos != 8)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 8;
             }
             return 97;
          }
-         if ((active0 & 0x40c20400000L) != 0L || (active1 & 0x420001e07807f0L) != 0L || (active2 & 0x60200L) != 0L || (active3 & 0x100080408000501L) != 0L || (active4 & 0xc0000000103005c3L) != 0L || (active5 & 0xb000000000000L) != 0L || (active6 & 0x40c00000bf800000L) != 0L || (active7 & 0x111000800003100L) != 0L || (active8 & 0x800000000c00L) != 0L || (active9 & 0x1f42046082000006L) != 0L || (active10 & 0x8100000004000780L) != 0L || (active11 & 0x420200000L) != 0L)
-            return 97;
          return -1;
       case 9:
-         if ((active0 & 0x8d0000000L) != 0L || (active1 & 0x401fc00001400L) != 0L || (active2 & 0x220408100400L) != 0L || (active4 & 0x40204e300000000L) != 0L || (active5 & 0x2004000400000L) != 0L || (active6 & 0x2000000000202000L) != 0L || (active7 & 0x8002000000824400L) != 0L || (active8 & 0x407000000000L) != 0L || (active9 & 0x80801048000000L) != 0L || (active10 & 0x2000000000040100L) != 0L || (active11 & 0x84015000000L) != 0L)
-            return 97;
-         if ((active0 & 0x2080031001800000L) != 0L || (active1 & 0xff008a018e7023e8L) != 0L || (active2 & 0x1800d000000f017L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x8000001c00224006L) != 0L || (active5 & 0x3000000000370380L) != 0L || (active6 & 0x807043f000000L) != 0L || (active7 & 0x5060700780008800L) != 0L || (active8 & 0xffff22058002a001L) != 0L || (active9 & 0x7e013046103fff59L) != 0L || (active10 & 0x3c001801cc7aL) != 0L || (active11 & 0x400102d00020L) != 0L)
+         if ((active0 & 0x2080031001800000L) != 0L || (active1 & 0xff008a018e7023e8L) != 0L || (active2 & 0x1800d000000f017L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x8000001c00224006L) != 0L || (active5 & 0x3000000000370380L) != 0L || (active6 & 0x807043f000000L) != 0L || (active7 & 0x5060700780008800L) != 0L || (active8 & 0xffff22058002a001L) != 0L || (active9 & 0x7e013046103fff59L) != 0L || (active10 & 0x3c001801cc7aL) != 0L || (active11 & 0x800102d00020L) != 0L)
          {
             if (jjmatchedPos != 9)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 9;
             }
             return 97;
          }
+         if ((active0 & 0x8d0000000L) != 0L || (active1 & 0x401fc00001400L) != 0L || (active2 & 0x220408100400L) != 0L || (active4 & 0x40204e300000000L) != 0L || (active5 & 0x2004000400000L) != 0L || (active6 & 0x2000000000202000L) != 0L || (active7 & 0x8002000000824400L) != 0L || (active8 & 0x407000000000L) != 0L || (active9 & 0x80801048000000L) != 0L || (active10 & 0x2000000000040100L) != 0L || (active11 & 0x108015000000L) != 0L)
+            return 97;
          return -1;
       case 10:
          if ((active0 & 0x80010000000000L) != 0L || (active1 & 0x2000030082000008L) != 0L || (active2 & 0x90000000010L) != 0L || (active3 & 0x201000000L) != 0L || (active4 & 0x1c00004002L) != 0L || (active5 & 0x300000L) != 0L || (active6 & 0x400000000L) != 0L || (active7 & 0x1020000000000800L) != 0L || (active8 & 0x1220000008000L) != 0L || (active9 & 0x1300410200608L) != 0L || (active10 & 0x8000878L) != 0L || (active11 & 0x102800000L) != 0L)
             return 97;
-         if ((active0 & 0x2000021001800000L) != 0L || (active1 & 0xdf0088e90c7023e0L) != 0L || (active2 & 0x18004000000f007L) != 0L || (active3 & 0x10000000000002L) != 0L || (active4 & 0x8000000200220004L) != 0L || (active5 & 0x3000000000070380L) != 0L || (active6 & 0x807003f000000L) != 0L || (active7 & 0x4040700780008000L) != 0L || (active8 & 0xfffe000580022001L) != 0L || (active9 & 0x7e000042001ff951L) != 0L || (active10 & 0x3c001001c402L) != 0L || (active11 & 0x400000500020L) != 0L)
+         if ((active0 & 0x2000021001800000L) != 0L || (active1 & 0xdf0088e90c7023e0L) != 0L || (active2 & 0x18004000000f007L) != 0L || (active3 & 0x10000000000002L) != 0L || (active4 & 0x8000000200220004L) != 0L || (active5 & 0x3000000000070380L) != 0L || (active6 & 0x807003f000000L) != 0L || (active7 & 0x4040700780008000L) != 0L || (active8 & 0xfffe000580022001L) != 0L || (active9 & 0x7e000042001ff951L) != 0L || (active10 & 0x3c001001c402L) != 0L || (active11 & 0x800000500020L) != 0L)
          {
             if (jjmatchedPos != 10)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 10;
             }
             return 97;
          }
          return -1;
       case 11:
-         if ((active0 & 0x21001800000L) != 0L || (active1 & 0x450088e90c7003e0L) != 0L || (active2 & 0x18004000000f002L) != 0L || (active3 & 0x2L) != 0L || (active4 & 0x8000001200000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000080000000L) != 0L || (active9 & 0x7c0000420013e901L) != 0L || (active10 & 0x3c0010014472L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x21001800000L) != 0L || (active1 & 0x450088e90c7003e0L) != 0L || (active2 & 0x18004000000f002L) != 0L || (active3 & 0x2L) != 0L || (active4 & 0x8000001200000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000080000000L) != 0L || (active9 & 0x7c0000420013e901L) != 0L || (active10 & 0x3c0010014472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 11)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 11;
             }
             return 97;
@@ -5826,9 +5828,9 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
             return 97;
          return -1;
       case 12:
-         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x450008e90c7003e0L) != 0L || (active2 & 0x18000000000e003L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5800004200036801L) != 0L || (active10 & 0x3c0000014472L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x450008e90c7003e0L) != 0L || (active2 & 0x18000000000e003L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5800004200036801L) != 0L || (active10 & 0x3c0000014472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 12;
             return 97;
          }
@@ -5838,9 +5840,9 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
       case 13:
          if ((active1 & 0x4000000000200000L) != 0L || (active2 & 0x8000L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x10000L) != 0L || (active6 & 0x8000003000000L) != 0L || (active7 & 0x4000400000008000L) != 0L || (active9 & 0x800000000024000L) != 0L || (active10 & 0x10000L) != 0L)
             return 97;
-         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x50008e90c5003e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020280L) != 0L || (active6 & 0x3003c000000L) != 0L || (active7 & 0x100780000000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5000004200012801L) != 0L || (active10 & 0x3c0000004472L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x50008e90c5003e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020280L) != 0L || (active6 & 0x3003c000000L) != 0L || (active7 & 0x100780000000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5000004200012801L) != 0L || (active10 & 0x3c0000004472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 13;
             return 97;
          }
@@ -5848,19 +5850,19 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
       case 14:
          if ((active0 & 0x20000000000L) != 0L || (active1 & 0x100084800000200L) != 0L || (active5 & 0x280L) != 0L || (active6 & 0x30000000000L) != 0L || (active7 & 0x100100000000L) != 0L || (active8 & 0x8000000000000000L) != 0L || (active9 & 0x5000004200010000L) != 0L || (active10 & 0x4402L) != 0L)
             return 97;
-         if ((active0 & 0x1800000L) != 0L || (active1 & 0x40000a10c5001e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7ffe000000000000L) != 0L || (active9 & 0x2801L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1800000L) != 0L || (active1 & 0x40000a10c5001e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7ffe000000000000L) != 0L || (active9 & 0x2801L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 14;
             return 97;
          }
          return -1;
       case 15:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x40000a0001001c0L) != 0L || (active2 & 0x6003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7fe0000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x40000a0001001c0L) != 0L || (active2 & 0x6003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7fe0000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 15)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 15;
             }
             return 97;
@@ -5869,11 +5871,11 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
             return 97;
          return -1;
       case 16:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x4000020080001c0L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0xf1c000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x4000020080001c0L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0xf1c000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 16)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 16;
             }
             return 97;
@@ -5884,9 +5886,9 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
       case 17:
          if ((active1 & 0x2000000080L) != 0L || (active8 & 0x400000000000000L) != 0L)
             return 97;
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x2bdc000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x2bdc000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 17;
             return 97;
          }
@@ -5894,20 +5896,20 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
       case 18:
          if ((active8 & 0xb00000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x10L) != 0L)
             return 97;
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x20dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x20dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 18)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 18;
             }
             return 97;
          }
          return -1;
       case 19:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000040L) != 0L || (active2 & 0x100000000006002L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x200000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000040L) != 0L || (active2 & 0x100000000006002L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x200000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 19;
             return 97;
          }
@@ -5917,17 +5919,17 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
       case 20:
          if ((active0 & 0x1000000L) != 0L || (active1 & 0x8000040L) != 0L || (active2 & 0x100000000000000L) != 0L || (active7 & 0x200000000L) != 0L)
             return 97;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x6002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x6002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 20;
             return 97;
          }
          return -1;
       case 21:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 21;
             return 97;
          }
@@ -5935,9 +5937,9 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
             return 97;
          return -1;
       case 22:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 22;
             return 97;
          }
@@ -5947,9 +5949,9 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
       case 23:
          if ((active8 & 0x4000000000000L) != 0L || (active10 & 0x200000000040L) != 0L)
             return 97;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active10 & 0x40000000000L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active10 & 0x40000000000L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 23;
             return 97;
          }
@@ -5957,17 +5959,17 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
       case 24:
          if ((active6 & 0x20000000L) != 0L || (active10 & 0x40000000000L) != 0L)
             return 97;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0xc000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0xc000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 24;
             return 97;
          }
          return -1;
       case 25:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active8 & 0x2c0000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active8 & 0x2c0000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 25;
             return 97;
          }
@@ -5975,9 +5977,9 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
             return 97;
          return -1;
       case 26:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 26;
             return 97;
          }
@@ -5985,9 +5987,9 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
             return 97;
          return -1;
       case 27:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 27;
             return 97;
          }
@@ -5995,17 +5997,17 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
       case 28:
          if ((active8 & 0x200000000000000L) != 0L)
             return 97;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 28;
             return 97;
          }
          return -1;
       case 29:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 29;
             return 97;
          }
@@ -6013,17 +6015,17 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
       case 30:
          if ((active1 & 0x400000000000000L) != 0L)
             return 97;
-         if ((active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 30;
             return 97;
          }
          return -1;
       case 31:
-         if ((active11 & 0x400000000000L) != 0L)
+         if ((active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 31;
             return 97;
          }
@@ -6031,9 +6033,9 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
             return 97;
          return -1;
       case 32:
-         if ((active11 & 0x400000000000L) != 0L)
+         if ((active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 32;
             return 97;
          }
@@ -6060,70 +6062,70 @@ private final int jjMoveStringLiteralDfa0_0()
    {
       case 33:
          jjmatchedKind = 1;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x100000L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000L);
       case 34:
-         return jjStopAtPos(0, 799);
+         return jjStopAtPos(0, 800);
       case 36:
-         return jjStartNfaWithStates_0(0, 804, 97);
+         return jjStartNfaWithStates_0(0, 805, 97);
       case 37:
-         return jjStopAtPos(0, 794);
+         return jjStopAtPos(0, 795);
       case 38:
-         return jjStopAtPos(0, 802);
+         return jjStopAtPos(0, 803);
       case 39:
-         return jjStartNfaWithStates_0(0, 798, 63);
+         return jjStartNfaWithStates_0(0, 799, 63);
       case 40:
-         return jjStopAtPos(0, 767);
-      case 41:
          return jjStopAtPos(0, 768);
+      case 41:
+         return jjStopAtPos(0, 769);
       case 42:
-         jjmatchedKind = 792;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x100000000000L);
+         jjmatchedKind = 793;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000000L);
       case 43:
-         return jjStopAtPos(0, 789);
+         return jjStopAtPos(0, 790);
       case 44:
-         return jjStopAtPos(0, 779);
+         return jjStopAtPos(0, 780);
       case 45:
-         jjmatchedKind = 790;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x800000L);
+         jjmatchedKind = 791;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000000L);
       case 46:
-         jjmatchedKind = 778;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x20000000L);
+         jjmatchedKind = 779;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x40000000L);
       case 47:
-         jjmatchedKind = 793;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x480000000000L);
+         jjmatchedKind = 794;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x900000000000L);
       case 58:
-         jjmatchedKind = 784;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000000L);
+         jjmatchedKind = 785;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x4000000000L);
       case 59:
-         return jjStopAtPos(0, 777);
+         return jjStopAtPos(0, 778);
       case 60:
-         jjmatchedKind = 782;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x8000a0000L);
+         jjmatchedKind = 783;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000140000L);
       case 61:
-         jjmatchedKind = 780;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000000L);
-      case 62:
          jjmatchedKind = 781;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x40000L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x20000000L);
+      case 62:
+         jjmatchedKind = 782;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x80000L);
       case 63:
-         return jjStopAtPos(0, 783);
+         return jjStopAtPos(0, 784);
       case 91:
-         return jjStartNfaWithStates_0(0, 775, 96);
+         return jjStartNfaWithStates_0(0, 776, 96);
       case 93:
-         return jjStopAtPos(0, 776);
+         return jjStopAtPos(0, 777);
       case 94:
-         return jjStopAtPos(0, 801);
+         return jjStopAtPos(0, 802);
       case 65:
       case 97:
          jjmatchedKind = 3;
-         return jjMoveStringLiteralDfa1_0(0x3ffffffff0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x220000300000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x3ffffffff0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x440000300000L, 0x0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa1_0(0xfffc000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x80000L, 0x0L);
       case 67:
       case 99:
          jjmatchedKind = 52;
-         return jjMoveStringLiteralDfa1_0(0xffe0000000000000L, 0xffffffffffffffffL, 0x3fL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x14001800000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0xffe0000000000000L, 0xffffffffffffffffL, 0x3fL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x28001800000L, 0x0L);
       case 68:
       case 100:
          return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x1ffffffffffffc0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000L, 0x0L);
@@ -6139,7 +6141,7 @@ private final int jjMoveStringLiteralDfa0_0()
          return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x7ffc0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x1f80000000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x1f80000000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000L, 0x0L);
       case 73:
       case 105:
          return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0xe000000000000000L, 0x1fffffffL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x140020000L, 0x0L);
@@ -6149,35 +6151,35 @@ private final int jjMoveStringLiteralDfa0_0()
       case 75:
       case 107:
          jjmatchedKind = 296;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0xe0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0xe0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000000L, 0x0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0xfffff00000000000L, 0x3L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0xfffff00000000000L, 0x3L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x400000000L, 0x0L);
       case 77:
       case 109:
          jjmatchedKind = 322;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffff8L, 0x0L, 0x0L, 0x100000L, 0x0L, 0x0L, 0x400000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffff8L, 0x0L, 0x0L, 0x100000L, 0x0L, 0x0L, 0x800000000000L, 0x0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffff000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x400000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffff000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x800000000L, 0x0L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xf800000000000000L, 0x3fffffL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffc00000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x880000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffc00000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1080000000L, 0x0L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7L, 0x0L, 0x0L, 0x0L, 0x40000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7L, 0x0L, 0x0L, 0x0L, 0x80000000000L, 0x0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffff8L, 0x0L, 0x0L, 0x0L, 0x100000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffff8L, 0x0L, 0x0L, 0x0L, 0x200000000000L, 0x0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfff0000000000000L, 0xffffffffffefffffL, 0x3fffffffffffL, 0x0L, 0x8a000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfff0000000000000L, 0xffffffffffefffffL, 0x3fffffffffffL, 0x0L, 0x114000000000L, 0x0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffc00000000000L, 0x1ffffffL, 0x800000040000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffc00000000000L, 0x1ffffffL, 0x1000000040000L, 0x0L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffffe000000L, 0x0L, 0x0L);
@@ -6197,12 +6199,12 @@ private final int jjMoveStringLiteralDfa0_0()
       case 122:
          return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000L, 0x0L);
       case 123:
-         return jjStartNfaWithStates_0(0, 773, 94);
+         return jjStartNfaWithStates_0(0, 774, 94);
       case 124:
-         jjmatchedKind = 800;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x8000000L);
+         jjmatchedKind = 801;
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000000L);
       case 125:
-         return jjStopAtPos(0, 774);
+         return jjStopAtPos(0, 775);
       case 126:
          return jjStopAtPos(0, 2);
       default :
@@ -6219,59 +6221,59 @@ private final int jjMoveStringLiteralDfa1_0(long active0, long active1, long act
    switch(curChar)
    {
       case 42:
-         if ((active12 & 0x400000000000L) != 0L)
+         if ((active12 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 814;
+            jjmatchedKind = 815;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0x80000000000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0x100000000000L);
       case 46:
-         if ((active12 & 0x20000000L) != 0L)
-            return jjStopAtPos(1, 797);
+         if ((active12 & 0x40000000L) != 0L)
+            return jjStopAtPos(1, 798);
          break;
       case 47:
-         if ((active12 & 0x100000000000L) != 0L)
-            return jjStopAtPos(1, 812);
+         if ((active12 & 0x200000000000L) != 0L)
+            return jjStopAtPos(1, 813);
          break;
       case 58:
-         if ((active12 & 0x2000000000L) != 0L)
-            return jjStopAtPos(1, 805);
+         if ((active12 & 0x4000000000L) != 0L)
+            return jjStopAtPos(1, 806);
          break;
       case 60:
-         if ((active12 & 0x800000000L) != 0L)
-            return jjStopAtPos(1, 803);
+         if ((active12 & 0x1000000000L) != 0L)
+            return jjStopAtPos(1, 804);
          break;
       case 61:
-         if ((active12 & 0x20000L) != 0L)
-            return jjStopAtPos(1, 785);
-         else if ((active12 & 0x40000L) != 0L)
+         if ((active12 & 0x40000L) != 0L)
             return jjStopAtPos(1, 786);
-         else if ((active12 & 0x100000L) != 0L)
-            return jjStopAtPos(1, 788);
+         else if ((active12 & 0x80000L) != 0L)
+            return jjStopAtPos(1, 787);
+         else if ((active12 & 0x200000L) != 0L)
+            return jjStopAtPos(1, 789);
          break;
       case 62:
-         if ((active12 & 0x80000L) != 0L)
-            return jjStopAtPos(1, 787);
-         else if ((active12 & 0x800000L) != 0L)
-            return jjStopAtPos(1, 791);
-         else if ((active12 & 0x10000000L) != 0L)
-            return jjStopAtPos(1, 796);
+         if ((active12 & 0x100000L) != 0L)
+            return jjStopAtPos(1, 788);
+         else if ((active12 & 0x1000000L) != 0L)
+            return jjStopAtPos(1, 792);
+         else if ((active12 & 0x20000000L) != 0L)
+            return jjStopAtPos(1, 797);
          break;
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa2_0(active0, 0x3fe0000000000000L, active1, 0L, active2, 0x2000000000fffc0L, active3, 0x80000000080000L, active4, 0x7f00020000000L, active5, 0x1f000000ff8L, active6, 0x3fffc00000L, active7, 0x1f0000000000018L, active8, 0L, active9, 0x1c00000000000L, active10, 0xff8000000000000L, active11, 0x400887880000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x3fe0000000000000L, active1, 0L, active2, 0x2000000000fffc0L, active3, 0x80000000080000L, active4, 0x7f00020000000L, active5, 0x1f000000ff8L, active6, 0x3fffc00000L, active7, 0x1f0000000000018L, active8, 0L, active9, 0x1c00000000000L, active10, 0xff8000000000000L, active11, 0x801287880000L, active12, 0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa2_0(active0, 0x70L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x800000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa2_0(active0, 0x80L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x7000060000000000L, active6, 0L, active7, 0xfe00000000000000L, active8, 0x3L, active9, 0L, active10, 0L, active11, 0x2000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x80L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x7000060000000000L, active6, 0L, active7, 0xfe00000000000000L, active8, 0x3L, active9, 0L, active10, 0L, active11, 0x4000000000L, active12, 0L);
       case 68:
       case 100:
          return jjMoveStringLiteralDfa2_0(active0, 0x700L, active1, 0L, active2, 0L, active3, 0x2000000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa2_0(active0, 0xc0000fc000000000L, active1, 0x1L, active2, 0x7fffff00000L, active3, 0x3c0000100000L, active4, 0xf80e0000000000L, active5, 0x3800000ff000L, active6, 0x1fc000000000L, active7, 0x3fffffffe0L, active8, 0xffffcL, active9, 0x2000000000000L, active10, 0xb000000002000000L, active11, 0x10800004c003L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0xc0000fc000000000L, active1, 0x1L, active2, 0x7fffff00000L, active3, 0x3c0000100000L, active4, 0xf80e0000000000L, active5, 0x3800000ff000L, active6, 0x1fc000000000L, active7, 0x3fffffffe0L, active8, 0xffffcL, active9, 0x2000000000000L, active10, 0xb000000002000000L, active11, 0x21000004c003L, active12, 0L);
       case 70:
       case 102:
          if ((active5 & 0x8000000000000000L) != 0L)
@@ -6290,7 +6292,7 @@ private final int jjMoveStringLiteralDfa1_0(long active0, long active1, long act
          return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0xffeL, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x200000L, active9, 0xc000000000000L, active10, 0L, active11, 0x1cL, active12, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa2_0(active0, 0x700000000000L, active1, 0L, active2, 0xf80000000000L, active3, 0x100000001e00000L, active4, 0xf00000000000000L, active5, 0x7f00000L, active6, 0x200000000000L, active7, 0x4000000000L, active8, 0x1d00000L, active9, 0xfff0000000000000L, active10, 0x4000000000000000L, active11, 0x10000003e0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x700000000000L, active1, 0L, active2, 0xf80000000000L, active3, 0x100000001e00000L, active4, 0xf00000000000000L, active5, 0x7f00000L, active6, 0x200000000000L, active7, 0x4000000000L, active8, 0x1d00000L, active9, 0xfff0000000000000L, active10, 0x4000000000000000L, active11, 0x20000003e0L, active12, 0L);
       case 75:
       case 107:
          return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x2000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -6314,7 +6316,7 @@ private final int jjMoveStringLiteralDfa1_0(long active0, long active1, long act
             jjmatchedKind = 387;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0x60000L, active1, 0L, active2, 0xe000000000000000L, active3, 0x3L, active4, 0x1ffffe0L, active5, 0L, active6, 0x30L, active7, 0L, active8, 0L, active9, 0L, active10, 0x1ffc000000L, active11, 0x200160000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x60000L, active1, 0L, active2, 0xe000000000000000L, active3, 0x3L, active4, 0x1ffffe0L, active5, 0L, active6, 0x30L, active7, 0L, active8, 0L, active9, 0L, active10, 0x1ffc000000L, active11, 0x400160000000L, active12, 0L);
       case 79:
       case 111:
          if ((active3 & 0x800000000000L) != 0L)
@@ -6332,7 +6334,7 @@ private final int jjMoveStringLiteralDfa1_0(long active0, long active1, long act
             jjmatchedKind = 640;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0x3000000000000L, active1, 0x7ffffffff0000L, active2, 0x1f000000000000L, active3, 0x1e010001f8000000L, active4, 0xe000000040000000L, active5, 0x78003f8000003L, active6, 0x1e000000000000L, active7, 0x7ff0000000000L, active8, 0x18000000L, active9, 0L, active10, 0x2L, active11, 0x814600010400L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x3000000000000L, active1, 0x7ffffffff0000L, active2, 0x1f000000000000L, active3, 0x1e010001f8000000L, active4, 0xe000000040000000L, active5, 0x78003f8000003L, active6, 0x1e000000000000L, active7, 0x7ff0000000000L, active8, 0x18000000L, active9, 0L, active10, 0x2L, active11, 0x1028c00010400L, active12, 0L);
       case 80:
       case 112:
          return jjMoveStringLiteralDfa2_0(active0, 0x80000L, active1, 0L, active2, 0L, active3, 0x4L, active4, 0L, active5, 0L, active6, 0x1c0L, active7, 0L, active8, 0x1e0000000L, active9, 0L, active10, 0xe000000000L, active11, 0L, active12, 0L);
@@ -6359,7 +6361,7 @@ private final int jjMoveStringLiteralDfa1_0(long active0, long active1, long act
             jjmatchedKind = 281;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0xfc000000L, active1, 0L, active2, 0L, active3, 0x20L, active4, 0xff9c000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x7f0000000000L, active11, 0x20000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0xfc000000L, active1, 0L, active2, 0L, active3, 0x20L, active4, 0xff9c000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x7f0000000000L, active11, 0x40000000000L, active12, 0L);
       case 84:
       case 116:
          if ((active0 & 0x100000000L) != 0L)
@@ -6367,10 +6369,10 @@ private final int jjMoveStringLiteralDfa1_0(long active0, long active1, long act
             jjmatchedKind = 32;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_0(active0, 0xe00000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x18000000000000L, active6, 0x4000L, active7, 0L, active8, 0L, active9, 0x1ff800000L, active10, 0x3800000000000L, active11, 0x80000200000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0xe00000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x18000000000000L, active6, 0x4000L, active7, 0L, active8, 0L, active9, 0x1ff800000L, active10, 0x3800000000000L, active11, 0x100000200000L, active12, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa2_0(active0, 0x1000000000L, active1, 0xffe0000000000000L, active2, 0x1fL, active3, 0x1c000000000L, active4, 0L, active5, 0x7e0000c00000000L, active6, 0x8000000000038000L, active7, 0x8000000000007L, active8, 0L, active9, 0x3fe00000000L, active10, 0x4000000c00000L, active11, 0x40000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x1000000000L, active1, 0xffe0000000000000L, active2, 0x1fL, active3, 0x1c000000000L, active4, 0L, active5, 0x7e0000c00000000L, active6, 0x8000000000038000L, active7, 0x8000000000007L, active8, 0L, active9, 0x3fe00000000L, active10, 0x4000000c00000L, active11, 0x80000000000L, active12, 0L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa2_0(active0, 0x2000000000L, active1, 0L, active2, 0L, active3, 0x40L, active4, 0L, active5, 0L, active6, 0x3c0000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -6383,8 +6385,8 @@ private final int jjMoveStringLiteralDfa1_0(long active0, long active1, long act
             return jjStartNfaWithStates_0(1, 51, 97);
          return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x1c0000000000020L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x3c0000000000L, active10, 0x1000000L, active11, 0L, active12, 0L);
       case 124:
-         if ((active12 & 0x8000000L) != 0L)
-            return jjStopAtPos(1, 795);
+         if ((active12 & 0x10000000L) != 0L)
+            return jjStopAtPos(1, 796);
          break;
       default :
          break;
@@ -6403,14 +6405,14 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
    switch(curChar)
    {
       case 43:
-         if ((active12 & 0x80000000000L) != 0L)
-            return jjStopAtPos(2, 811);
+         if ((active12 & 0x100000000000L) != 0L)
+            return jjStopAtPos(2, 812);
          break;
       case 65:
       case 97:
          if ((active0 & 0x100L) != 0L)
             return jjStartNfaWithStates_0(2, 8, 97);
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x137feL, active2, 0x80000100000L, active3, 0x6000600000000L, active4, 0x18000000000000L, active5, 0x3000L, active6, 0xc00000000000L, active7, 0x6000000000000e7L, active8, 0x24000004L, active9, 0x7800000L, active10, 0x10000000ffcL, active11, 0x28201800c800L, active12, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x137feL, active2, 0x80000100000L, active3, 0x6000600000000L, active4, 0x18000000000000L, active5, 0x3000L, active6, 0xc00000000000L, active7, 0x6000000000000e7L, active8, 0x24000004L, active9, 0x7800000L, active10, 0x10000000ffcL, active11, 0x50401800c800L, active12, 0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x20000000020000L, active2, 0L, active3, 0L, active4, 0x100100000000000L, active5, 0L, active6, 0x8000000000000000L, active7, 0L, active8, 0L, active9, 0x1c07e00000000L, active10, 0x4000000L, active11, 0L, active12, 0L);
@@ -6451,7 +6453,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(2, 20, 97);
          else if ((active6 & 0x10L) != 0L)
             return jjStartNfaWithStates_0(2, 388, 97);
-         return jjMoveStringLiteralDfa3_0(active0, 0x4000010000000L, active1, 0x8000000000800L, active2, 0x400000000000000L, active3, 0x2100000800001840L, active4, 0L, active5, 0L, active6, 0x7e00000003c0040L, active7, 0L, active8, 0x1c0000080L, active9, 0x14000000000000L, active10, 0x40003e0000401000L, active11, 0x4000000001fL, active12, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x4000010000000L, active1, 0x8000000000800L, active2, 0x400000000000000L, active3, 0x2100000800001840L, active4, 0L, active5, 0L, active6, 0x7e00000003c0040L, active7, 0L, active8, 0x1c0000080L, active9, 0x14000000000000L, active10, 0x40003e0000401000L, active11, 0x8000000001fL, active12, 0L);
       case 70:
       case 102:
          if ((active7 & 0x200L) != 0L)
@@ -6459,14 +6461,14 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 457;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0x4000000000L, active1, 0L, active2, 0xfe000000L, active3, 0L, active4, 0x20000000000000L, active5, 0L, active6, 0x1L, active7, 0x70000000000c00L, active8, 0L, active9, 0L, active10, 0x3800000000000L, active11, 0x100000100000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x4000000000L, active1, 0L, active2, 0xfe000000L, active3, 0L, active4, 0x20000000000000L, active5, 0L, active6, 0x1L, active7, 0x70000000000c00L, active8, 0L, active9, 0L, active10, 0x3800000000000L, active11, 0x200000100000L, active12, 0L);
       case 71:
       case 103:
          if ((active0 & 0x2000000000L) != 0L)
             return jjStartNfaWithStates_0(2, 37, 97);
          else if ((active4 & 0x200000000000L) != 0L)
             return jjStartNfaWithStates_0(2, 301, 97);
-         return jjMoveStringLiteralDfa3_0(active0, 0x138000000000L, active1, 0L, active2, 0x100000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40001ff000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x138000000000L, active1, 0L, active2, 0x100000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40001ff000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000L, active12, 0L);
       case 72:
       case 104:
          return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x8020000000000L, active6, 0x4000L, active7, 0x1800000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -6495,12 +6497,12 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
          }
          else if ((active11 & 0x2000L) != 0L)
             return jjStartNfaWithStates_0(2, 717, 97);
-         return jjMoveStringLiteralDfa3_0(active0, 0x60000000006000L, active1, 0x3fc0000L, active2, 0x200000000L, active3, 0x200004008280000L, active4, 0L, active5, 0x1e0040400600000L, active6, 0x20L, active7, 0x70000600000L, active8, 0xfffffffc00000300L, active9, 0x3fffffL, active10, 0x38000000000000L, active11, 0x1504000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x60000000006000L, active1, 0x3fc0000L, active2, 0x200000000L, active3, 0x200004008280000L, active4, 0L, active5, 0x1e0040400600000L, active6, 0x20L, active7, 0x70000600000L, active8, 0xfffffffc00000300L, active9, 0x3fffffL, active10, 0x38000000000000L, active11, 0x2904000000L, active12, 0L);
       case 77:
       case 109:
          if ((active9 & 0x10000000000L) != 0L)
             return jjStartNfaWithStates_0(2, 616, 97);
-         return jjMoveStringLiteralDfa3_0(active0, 0x400L, active1, 0x4000003c000000L, active2, 0x1000000000000L, active3, 0L, active4, 0x800000000000003L, active5, 0x600003800004000L, active6, 0L, active7, 0L, active8, 0x8c00000L, active9, 0x7fe2040000000000L, active10, 0x800000L, active11, 0x10000040000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x400L, active1, 0x4000003c000000L, active2, 0x1000000000000L, active3, 0L, active4, 0x800000000000003L, active5, 0x600003800004000L, active6, 0L, active7, 0L, active8, 0x8c00000L, active9, 0x7fe2040000000000L, active10, 0x800000L, active11, 0x20000040000L, active12, 0L);
       case 78:
       case 110:
          if ((active5 & 0x800000L) != 0L)
@@ -6508,7 +6510,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 343;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0x200000000000L, active1, 0x3fffc0000001L, active2, 0x1c0000400000000L, active3, 0x40000c8000400000L, active4, 0x40400000000800L, active5, 0x8041c7000000L, active6, 0L, active7, 0x8000000000018L, active8, 0x100400L, active9, 0x8000020000000000L, active10, 0xc00000000L, active11, 0x4000010040L, active12, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x200000000000L, active1, 0x3fffc0000001L, active2, 0x1c0000400000000L, active3, 0x40000c8000400000L, active4, 0x40400000000800L, active5, 0x8041c7000000L, active6, 0L, active7, 0x8000000000018L, active8, 0x100400L, active9, 0x8000020000000000L, active10, 0xc00000000L, active11, 0x8000010040L, active12, 0L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa3_0(active0, 0x1800204000000L, active1, 0x1000000000c000L, active2, 0x20000000000000L, active3, 0x78502006000004L, active4, 0xff9c001000L, active5, 0L, active6, 0x4000000000000000L, active7, 0xe000000000000000L, active8, 0x200001L, active9, 0L, active10, 0L, active11, 0x200000L, active12, 0L);
@@ -6539,7 +6541,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 422;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0x80040001e00000L, active1, 0xff80c00000000000L, active2, 0x300000001fL, active3, 0xe1800010L, active4, 0x800000000000L, active5, 0x3000200008000L, active6, 0x21f80ff800000L, active7, 0L, active8, 0xe002L, active9, 0xe0400000L, active10, 0x3fc0000000000000L, active11, 0x8080000400L, active12, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x80040001e00000L, active1, 0xff80c00000000000L, active2, 0x300000001fL, active3, 0xe1800010L, active4, 0x800000000000L, active5, 0x3000200008000L, active6, 0x21f80ff800000L, active7, 0L, active8, 0xe002L, active9, 0xe0400000L, active10, 0x3fc0000000000000L, active11, 0x10080000400L, active12, 0L);
       case 83:
       case 115:
          if ((active0 & 0x10L) != 0L)
@@ -6547,7 +6549,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 4;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0xf00000060000060L, active1, 0L, active2, 0x800f3c000000000L, active3, 0x10000000000L, active4, 0x300000003c000L, active5, 0x80000070000L, active6, 0xc000f00000000L, active7, 0x3e000000L, active8, 0x30000L, active9, 0x380000000000L, active10, 0x9002000000L, active11, 0x800000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0xf00000060000060L, active1, 0L, active2, 0x800f3c000000000L, active3, 0x10000000000L, active4, 0x300000003c000L, active5, 0x80000070000L, active6, 0xc000f00000000L, active7, 0x3e000000L, active8, 0x30000L, active9, 0x380000000000L, active10, 0x9002000000L, active11, 0x1200000000L, active12, 0L);
       case 84:
       case 116:
          if ((active0 & 0x400000000000L) != 0L)
@@ -6573,7 +6575,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 530;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0x3002081c00008880L, active1, 0L, active2, 0x4000000ffc0L, active3, 0x1000000170000L, active4, 0x4000000f80000L, active5, 0x60000180000803f0L, active6, 0x3000030180L, active7, 0x80001fc0000000L, active8, 0x80000L, active9, 0L, active10, 0L, active11, 0x800002000380L, active12, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x3002081c00008880L, active1, 0L, active2, 0x4000000ffc0L, active3, 0x1000000170000L, active4, 0x4000000f80000L, active5, 0x60000180000803f0L, active6, 0x3000030180L, active7, 0x80001fc0000000L, active8, 0x80000L, active9, 0L, active10, 0L, active11, 0x1000002000380L, active12, 0L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x1000000000000L, active2, 0x4000000000000L, active3, 0x1800000100000008L, active4, 0L, active5, 0L, active6, 0L, active7, 0x780000000000L, active8, 0x10000000L, active9, 0x8000000000000L, active10, 0x180000L, active11, 0L, active12, 0L);
@@ -6599,7 +6601,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 330;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000800L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000800L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L, active12, 0L);
       case 89:
       case 121:
          if ((active0 & 0x40000L) != 0L)
@@ -6616,7 +6618,7 @@ private final int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1,
             jjmatchedKind = 297;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0x80000000L, active1, 0L, active2, 0xe0000L, active3, 0L, active4, 0xc0000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x100000000L, active10, 0x200000L, active11, 0x20000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x80000000L, active1, 0L, active2, 0xe0000L, active3, 0L, active4, 0xc0000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x100000000L, active10, 0x200000L, active11, 0x40000000000L, active12, 0L);
       case 90:
       case 122:
          return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -6647,7 +6649,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(3, 687, 97);
          break;
       case 95:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x3L, active4, 0xc0000000000L, active5, 0x8000000000000L, active6, 0L, active7, 0x3000000000000L, active8, 0xffffffe000000000L, active9, 0x3fffffL, active10, 0xc0000000200002L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x3L, active4, 0xc0000000000L, active5, 0x8000000000000L, active6, 0L, active7, 0x3000000000000L, active8, 0xffffffe000000000L, active9, 0x3fffffL, active10, 0xc0000000200002L, active11, 0x800000000000L);
       case 65:
       case 97:
          if ((active2 & 0x40L) != 0L)
@@ -6657,7 +6659,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
          }
          else if ((active4 & 0x20000000L) != 0L)
             return jjStartNfaWithStates_0(3, 285, 97);
-         return jjMoveStringLiteralDfa4_0(active0, 0x3004200001e10000L, active1, 0xe000000000000L, active2, 0x1c1100006400080L, active3, 0x2400028L, active4, 0xe000000000000000L, active5, 0x20000000001L, active6, 0x3f800000L, active7, 0x200000L, active8, 0x800L, active9, 0L, active10, 0x2400001000L, active11, 0x800082000000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x3004200001e10000L, active1, 0xe000000000000L, active2, 0x1c1100006400080L, active3, 0x2400028L, active4, 0xe000000000000000L, active5, 0x20000000001L, active6, 0x3f800000L, active7, 0x200000L, active8, 0x800L, active9, 0L, active10, 0x2400001000L, active11, 0x1000082000000L);
       case 66:
       case 98:
          if ((active0 & 0x800000000000L) != 0L)
@@ -6751,7 +6753,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
          break;
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0x80000000000L, active3, 0L, active4, 0x40c00000000000L, active5, 0x8000L, active6, 0L, active7, 0x8L, active8, 0L, active9, 0L, active10, 0x1000001e000L, active11, 0x200000000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0x80000000000L, active3, 0L, active4, 0x40c00000000000L, active5, 0x8000L, active6, 0L, active7, 0x8L, active8, 0L, active9, 0L, active10, 0x1000001e000L, active11, 0x400000000L);
       case 72:
       case 104:
          if ((active0 & 0x2000000000000L) != 0L)
@@ -6765,6 +6767,8 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             jjmatchedKind = 711;
             jjmatchedPos = 3;
          }
+         else if ((active11 & 0x200000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 737, 97);
          return jjMoveStringLiteralDfa4_0(active0, 0x1000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x80000L, active6, 0L, active7, 0x4000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x1800300L);
       case 73:
       case 105:
@@ -6804,9 +6808,9 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
          }
          else if ((active7 & 0x80L) != 0L)
             return jjStartNfaWithStates_0(3, 455, 97);
-         else if ((active11 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 740, 97);
-         return jjMoveStringLiteralDfa4_0(active0, 0x8041000000080000L, active1, 0xfd0000L, active2, 0x1100020L, active3, 0x8008600L, active4, 0x10000064L, active5, 0x1d0000000600000L, active6, 0x8000000000000000L, active7, 0x600060001000001L, active8, 0x4000000L, active9, 0x1c00100000000L, active10, 0L, active11, 0x200000000000L);
+         else if ((active11 & 0x2000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 741, 97);
+         return jjMoveStringLiteralDfa4_0(active0, 0x8041000000080000L, active1, 0xfd0000L, active2, 0x1100020L, active3, 0x8008600L, active4, 0x10000064L, active5, 0x1d0000000600000L, active6, 0x8000000000000000L, active7, 0x600060001000001L, active8, 0x4000000L, active9, 0x1c00100000000L, active10, 0L, active11, 0x400000000000L);
       case 77:
       case 109:
          if ((active3 & 0x2000000000L) != 0L)
@@ -6837,23 +6841,23 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             jjmatchedKind = 706;
             jjmatchedPos = 3;
          }
-         else if ((active11 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_0(3, 741, 97);
-         return jjMoveStringLiteralDfa4_0(active0, 0x40010000000L, active1, 0x1000e00000000L, active2, 0L, active3, 0x2006000100000000L, active4, 0xff00000000L, active5, 0L, active6, 0L, active7, 0x8000000000000L, active8, 0L, active9, 0L, active10, 0x8000400100100ff8L, active11, 0x20000000008L);
+         else if ((active11 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_0(3, 742, 97);
+         return jjMoveStringLiteralDfa4_0(active0, 0x40010000000L, active1, 0x1000e00000000L, active2, 0L, active3, 0x2006000100000000L, active4, 0xff00000000L, active5, 0L, active6, 0L, active7, 0x8000000000000L, active8, 0L, active9, 0L, active10, 0x8000400100100ff8L, active11, 0x40000000008L);
       case 79:
       case 111:
          if ((active3 & 0x1000000000000L) != 0L)
             return jjStartNfaWithStates_0(3, 240, 97);
          else if ((active4 & 0x800000L) != 0L)
             return jjStartNfaWithStates_0(3, 279, 97);
-         return jjMoveStringLiteralDfa4_0(active0, 0x4000006040L, active1, 0x20000L, active2, 0x2000000000060000L, active3, 0x4000000004000010L, active4, 0x1000008L, active5, 0x44000000000L, active6, 0x1000200000000000L, active7, 0x2000000000L, active8, 0x1aL, active9, 0L, active10, 0x5c000000L, active11, 0x400000000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x4000006040L, active1, 0x20000L, active2, 0x2000000000060000L, active3, 0x4000000004000010L, active4, 0x1000008L, active5, 0x44000000000L, active6, 0x1000200000000000L, active7, 0x2000000000L, active8, 0x1aL, active9, 0L, active10, 0x5c000000L, active11, 0x800000000L);
       case 80:
       case 112:
          if ((active2 & 0x20000000000000L) != 0L)
             return jjStartNfaWithStates_0(3, 181, 97);
          else if ((active8 & 0x2000000L) != 0L)
             return jjStartNfaWithStates_0(3, 537, 97);
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0x400000000000L, active3, 0L, active4, 0L, active5, 0x800000000L, active6, 0x100000000020000L, active7, 0xe000000004000000L, active8, 0x800001L, active9, 0x2000000000000L, active10, 0L, active11, 0x10018040800L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0x400000000000L, active3, 0L, active4, 0L, active5, 0x800000000L, active6, 0x100000000020000L, active7, 0xe000000004000000L, active8, 0x800001L, active9, 0x2000000000000L, active10, 0L, active11, 0x20018040800L);
       case 81:
       case 113:
          return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x80000000L, active11, 0L);
@@ -6889,7 +6893,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             jjmatchedKind = 718;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active0, 0xc00000000L, active1, 0xff808000000007f8L, active2, 0x100000007L, active3, 0x1100000000040040L, active4, 0x100000000000080L, active5, 0x100000L, active6, 0x380000L, active7, 0x1ff006L, active8, 0x10000004L, active9, 0x8000000800000L, active10, 0x3c0000000000L, active11, 0x140020008010L);
+         return jjMoveStringLiteralDfa4_0(active0, 0xc00000000L, active1, 0xff808000000007f8L, active2, 0x100000007L, active3, 0x1100000000040040L, active4, 0x100000000000080L, active5, 0x100000L, active6, 0x380000L, active7, 0x1ff006L, active8, 0x10000004L, active9, 0x8000000800000L, active10, 0x3c0000000000L, active11, 0x280020008010L);
       case 83:
       case 115:
          if ((active2 & 0x80000L) != 0L)
@@ -6900,7 +6904,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(3, 531, 97);
          else if ((active9 & 0x10000000000000L) != 0L)
             return jjStartNfaWithStates_0(3, 628, 97);
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x1003f00000b000L, active2, 0x400000018L, active3, 0x1882000L, active4, 0L, active5, 0x73000L, active6, 0x200000600000001L, active7, 0L, active8, 0x800030400L, active9, 0x7800000000L, active10, 0x3000000000400000L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x1003f00000b000L, active2, 0x400000018L, active3, 0x1882000L, active4, 0L, active5, 0x73000L, active6, 0x200000600000001L, active7, 0L, active8, 0x800030400L, active9, 0x7800000000L, active10, 0x3000000000400000L, active11, 0x1000000000L);
       case 84:
       case 116:
          if ((active0 & 0x800000000000000L) != 0L)
@@ -6920,7 +6924,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(3, 419, 97);
          else if ((active9 & 0x400000L) != 0L)
             return jjStartNfaWithStates_0(3, 598, 97);
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x1c0000000001L, active2, 0x1000800800000000L, active3, 0x80200000L, active4, 0x2000000030600L, active5, 0x80580000000L, active6, 0x20020c0000000L, active7, 0x780018000000L, active8, 0x20L, active9, 0x380007000000L, active10, 0L, active11, 0x84000401020L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x1c0000000001L, active2, 0x1000800800000000L, active3, 0x80200000L, active4, 0x2000000030600L, active5, 0x80580000000L, active6, 0x20020c0000000L, active7, 0x780018000000L, active8, 0x20L, active9, 0x380007000000L, active10, 0L, active11, 0x108000401020L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x3000000L, active2, 0L, active3, 0x78000000000000L, active4, 0x3000L, active5, 0x1000010023000000L, active6, 0L, active7, 0x80001fe0000100L, active8, 0x101040L, active9, 0x80000000L, active10, 0x38000000000000L, active11, 0x4000000L);
@@ -6928,7 +6932,7 @@ private final int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1,
       case 118:
          if ((active6 & 0x400000000000000L) != 0L)
             return jjStartNfaWithStates_0(3, 442, 97);
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x200000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x4000800L, active6, 0x2000000000000000L, active7, 0L, active8, 0xc000L, active9, 0L, active10, 0L, active11, 0x8000000000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x200000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x4000800L, active6, 0x2000000000000000L, active7, 0L, active8, 0xc000L, active9, 0L, active10, 0L, active11, 0x10000000000L);
       case 87:
       case 119:
          if ((active8 & 0x200000L) != 0L)
@@ -6977,9 +6981,9 @@ private final int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0x80L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x20000000000L, active8, 0x3e000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 67:
       case 99:
-         if ((active11 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 745, 97);
-         return jjMoveStringLiteralDfa5_0(active0, 0x2000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x100L, active5, 0x800000000000000L, active6, 0L, active7, 0x1000000000000L, active8, 0xc0010000104L, active9, 0x80000000L, active10, 0x300000L, active11, 0x400000000000L);
+         if ((active11 & 0x40000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 746, 97);
+         return jjMoveStringLiteralDfa5_0(active0, 0x2000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x100L, active5, 0x800000000000000L, active6, 0L, active7, 0x1000000000000L, active8, 0xc0010000104L, active9, 0x80000000L, active10, 0x300000L, active11, 0x800000000000L);
       case 68:
       case 100:
          if ((active3 & 0x100000000L) != 0L)
@@ -7040,7 +7044,7 @@ private final int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1,
             jjmatchedKind = 716;
             jjmatchedPos = 4;
          }
-         return jjMoveStringLiteralDfa5_0(active0, 0x41080000000000L, active1, 0xff80a00e00810000L, active2, 0x8400000500000007L, active3, 0x100400200000L, active4, 0x8000084L, active5, 0x200000000404000L, active6, 0x426007a000000001L, active7, 0xc000000004000000L, active8, 0xd001L, active9, 0x1bc881a000000L, active10, 0x8030000000000000L, active11, 0x100005c00008L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x41080000000000L, active1, 0xff80a00e00810000L, active2, 0x8400000500000007L, active3, 0x100400200000L, active4, 0x8000084L, active5, 0x200000000404000L, active6, 0x426007a000000001L, active7, 0xc000000004000000L, active8, 0xd001L, active9, 0x1bc881a000000L, active10, 0x8030000000000000L, active11, 0x200005c00008L);
       case 70:
       case 102:
          if ((active2 & 0x1000000000L) != 0L)
@@ -7050,7 +7054,7 @@ private final int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1,
       case 103:
          if ((active10 & 0x400000000000L) != 0L)
             return jjStartNfaWithStates_0(4, 686, 97);
-         return jjMoveStringLiteralDfa5_0(active0, 0x40000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x80000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x100001e000L, active11, 0x400000000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x40000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x80000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x100001e000L, active11, 0x800000000L);
       case 72:
       case 104:
          if ((active2 & 0x800000000L) != 0L)
@@ -7072,7 +7076,7 @@ private final int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000003e0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x200000000000000L, active11, 0x20L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa5_0(active0, 0x8080000e00000000L, active1, 0x1001f0000000L, active2, 0x1800000000000L, active3, 0x40000000L, active4, 0x10000000000600L, active5, 0x80080400200000L, active6, 0xa0824002c0000000L, active7, 0x8780000000001L, active8, 0x3fff0001c0030420L, active9, 0x8000000004000000L, active10, 0x3900000000000000L, active11, 0x8c200200100L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x8080000e00000000L, active1, 0x1001f0000000L, active2, 0x1800000000000L, active3, 0x40000000L, active4, 0x10000000000600L, active5, 0x80080400200000L, active6, 0xa0824002c0000000L, active7, 0x8780000000001L, active8, 0x3fff0001c0030420L, active9, 0x8000000004000000L, active10, 0x3900000000000000L, active11, 0x118400200100L);
       case 75:
       case 107:
          if ((active1 & 0x800L) != 0L)
@@ -7093,8 +7097,8 @@ private final int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1,
             jjmatchedKind = 317;
             jjmatchedPos = 4;
          }
-         else if ((active11 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 751, 97);
+         else if ((active11 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 752, 97);
          return jjMoveStringLiteralDfa5_0(active0, 0x3000000000000040L, active1, 0L, active2, 0x4100000100000L, active3, 0x8L, active4, 0xc000000000000000L, active5, 0x20000000L, active6, 0x180000L, active7, 0x20000000L, active8, 0xc000000004c00002L, active9, 0x200000001L, active10, 0x800006L, active11, 0x80040000L);
       case 77:
       case 109:
@@ -7212,7 +7216,7 @@ private final int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x803f000000000L, active2, 0x20000f800L, active3, 0x2004008001002000L, active4, 0x40080000000000L, active5, 0x6000000003000001L, active6, 0xc000400000000L, active7, 0x200006L, active8, 0x800000000L, active9, 0x70000fff80L, active10, 0x2000000000L, active11, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x1L, active2, 0x6000000L, active3, 0x1600L, active4, 0x400000000060L, active5, 0x3000L, active6, 0x100000020000L, active7, 0x40000000000L, active8, 0L, active9, 0x400000000L, active10, 0x84000000L, active11, 0x10000080000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x1L, active2, 0x6000000L, active3, 0x1600L, active4, 0x400000000060L, active5, 0x3000L, active6, 0x100000020000L, active7, 0x40000000000L, active8, 0L, active9, 0x400000000L, active10, 0x84000000L, active11, 0x20000080000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0x2000000000L, active3, 0L, active4, 0L, active5, 0x8000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x300000L, active10, 0x200000000L, active11, 0L);
@@ -7220,7 +7224,7 @@ private final int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1,
       case 119:
          if ((active0 & 0x4000L) != 0L)
             return jjStartNfaWithStates_0(4, 14, 97);
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x1000000000L);
       case 88:
       case 120:
          if ((active11 & 0x40000000L) != 0L)
@@ -7239,9 +7243,9 @@ private final int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(4, 188, 97);
          else if ((active3 & 0x40L) != 0L)
             return jjStartNfaWithStates_0(4, 198, 97);
-         else if ((active11 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_0(4, 746, 97);
-         return jjMoveStringLiteralDfa5_0(active0, 0x1c10000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200020000000L);
+         else if ((active11 & 0x80000000000L) != 0L)
+            return jjStartNfaWithStates_0(4, 747, 97);
+         return jjMoveStringLiteralDfa5_0(active0, 0x1c10000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400020000000L);
       case 90:
       case 122:
          return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x6000000000000000L, active10, 0L, active11, 0L);
@@ -7285,7 +7289,7 @@ private final int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(5, 447, 97);
          else if ((active9 & 0x4000000L) != 0L)
             return jjStartNfaWithStates_0(5, 602, 97);
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0xe008007f0L, active2, 0L, active3, 0x40000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x10000005004000L, active8, 0x400000000L, active9, 0x6L, active10, 0L, active11, 0x8000200000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0xe008007f0L, active2, 0L, active3, 0x40000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x10000005004000L, active8, 0x400000000L, active9, 0x6L, active10, 0L, active11, 0x10000200000L);
       case 68:
       case 100:
          if ((active0 & 0x40000000000000L) != 0L)
@@ -7354,14 +7358,14 @@ private final int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1,
       case 103:
          if ((active3 & 0x80000000000000L) != 0L)
             return jjStartNfaWithStates_0(5, 247, 97);
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x40000000L, active4, 0L, active5, 0x70000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x40000000L, active10, 0L, active11, 0x400000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x40000000L, active4, 0L, active5, 0x70000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x40000000L, active10, 0L, active11, 0x800000000L);
       case 72:
       case 104:
          if ((active4 & 0x40000000000000L) != 0L)
             return jjStartNfaWithStates_0(5, 310, 97);
          else if ((active8 & 0x4L) != 0L)
             return jjStartNfaWithStates_0(5, 514, 97);
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000L, active7, 0L, active8, 0x40000000000L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000L, active7, 0L, active8, 0x40000000000L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 73:
       case 105:
          return jjMoveStringLiteralDfa6_0(active0, 0x10000000L, active1, 0xc0000001000L, active2, 0x21c003800000f800L, active3, 0x2020008000008000L, active4, 0x3L, active5, 0x400000010000000L, active6, 0xc000000200800L, active7, 0x10208000L, active8, 0xe004000040L, active9, 0x1000000380L, active10, 0x4L, active11, 0x100000L);
@@ -7412,10 +7416,10 @@ private final int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1,
          }
          else if ((active11 & 0x100L) != 0L)
             return jjStartNfaWithStates_0(5, 712, 97);
-         return jjMoveStringLiteralDfa6_0(active0, 0x8080000040000000L, active1, 0xff8010000e000000L, active2, 0x400a00000000007L, active3, 0x20000L, active4, 0x10000000030000L, active5, 0x88000400000L, active6, 0x478200000100L, active7, 0x8781f80000000L, active8, 0x3fff000000001000L, active9, 0x8000000000000000L, active10, 0xd00001004000000L, active11, 0x4200000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x8080000040000000L, active1, 0xff8010000e000000L, active2, 0x400a00000000007L, active3, 0x20000L, active4, 0x10000000030000L, active5, 0x88000400000L, active6, 0x478200000100L, active7, 0x8781f80000000L, active8, 0x3fff000000001000L, active9, 0x8000000000000000L, active10, 0xd00001004000000L, active11, 0x8400000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa6_0(active0, 0x3000000000000000L, active1, 0L, active2, 0x80000100000L, active3, 0L, active4, 0x1800000000L, active5, 0x1L, active6, 0x2000000000000L, active7, 0x161000000000000L, active8, 0xc000420000030020L, active9, 0x6000000000000001L, active10, 0x3040000200000000L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x3000000000000000L, active1, 0L, active2, 0x80000100000L, active3, 0L, active4, 0x1800000000L, active5, 0x1L, active6, 0x2000000000000L, active7, 0x161000000000000L, active8, 0xc000420000030020L, active9, 0x6000000000000001L, active10, 0x3040000200000000L, active11, 0x1000000000L);
       case 80:
       case 112:
          if ((active7 & 0x40000000000L) != 0L)
@@ -7463,7 +7467,7 @@ private final int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(5, 398, 97);
          else if ((active10 & 0x10000000000000L) != 0L)
             return jjStartNfaWithStates_0(5, 692, 97);
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x800000010000L, active2, 0L, active3, 0x200000000L, active4, 0x4000304000L, active5, 0x400300000L, active6, 0x80000000000000L, active7, 0x5e0100L, active8, 0L, active9, 0x10000000ffc00L, active10, 0x8000000000000000L, active11, 0x180000000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x800000010000L, active2, 0L, active3, 0x200000000L, active4, 0x4000304000L, active5, 0x400300000L, active6, 0x80000000000000L, active7, 0x5e0100L, active8, 0L, active9, 0x10000000ffc00L, active10, 0x8000000000000000L, active11, 0x300000000000L);
       case 84:
       case 116:
          if ((active0 & 0x20L) != 0L)
@@ -7502,7 +7506,7 @@ private final int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(5, 675, 97);
          else if ((active10 & 0x8000000000L) != 0L)
             return jjStartNfaWithStates_0(5, 679, 97);
-         return jjMoveStringLiteralDfa6_0(active0, 0x4000020000000L, active1, 0x1e07c0000L, active2, 0x400000000400L, active3, 0x100000001100L, active4, 0xc000000010000000L, active5, 0L, active6, 0x100080000000L, active7, 0x800000L, active8, 0x400L, active9, 0x1f80040080000000L, active10, 0L, active11, 0x10000000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x4000020000000L, active1, 0x1e07c0000L, active2, 0x400000000400L, active3, 0x100000001100L, active4, 0xc000000010000000L, active5, 0L, active6, 0x100080000000L, active7, 0x800000L, active8, 0x400L, active9, 0x1f80040080000000L, active10, 0L, active11, 0x20000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa6_0(active0, 0x40000000040L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x2000000000000L, active8, 0L, active9, 0x8L, active10, 0L, active11, 0x200L);
@@ -7532,7 +7536,7 @@ private final int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x40000L, active3, 0L, active4, 0x80000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 90:
       case 122:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200000000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
       default :
          break;
    }
@@ -7557,7 +7561,7 @@ private final int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x2000000L, active2, 0x10L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1000000000000000L, active8, 0x8000L, active9, 0x300058000000L, active10, 0L, active11, 0x100000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa7_0(active0, 0x80000000400000L, active1, 0x1f000000000L, active2, 0x8000000L, active3, 0x20001L, active4, 0x2008000400003L, active5, 0x8000000000L, active6, 0L, active7, 0x90000000800000L, active8, 0x40000000000L, active9, 0x1f0b000000000070L, active10, 0x100000000000e00L, active11, 0x400010000000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x80000000400000L, active1, 0x1f000000000L, active2, 0x8000000L, active3, 0x20001L, active4, 0x2008000400003L, active5, 0x8000000000L, active6, 0L, active7, 0x90000000800000L, active8, 0x40000000000L, active9, 0x1f0b000000000070L, active10, 0x100000000000e00L, active11, 0x800010000000L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x8000000000L, active3, 0L, active4, 0x1800000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x20L);
@@ -7621,12 +7625,12 @@ private final int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1,
          }
          else if ((active10 & 0x2000000L) != 0L)
             return jjStartNfaWithStates_0(6, 665, 97);
-         else if ((active11 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 743, 97);
          else if ((active11 & 0x10000000000L) != 0L)
             return jjStartNfaWithStates_0(6, 744, 97);
-         else if ((active11 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 749, 97);
+         else if ((active11 & 0x20000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 745, 97);
+         else if ((active11 & 0x400000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 750, 97);
          return jjMoveStringLiteralDfa7_0(active0, 0x200000000000000L, active1, 0x8L, active2, 0x8000000010060000L, active3, 0x200000000L, active4, 0x400000000300084L, active5, 0x1000000410372000L, active6, 0x2020000000000000L, active7, 0x700780000000L, active8, 0x400000000L, active9, 0x2000000L, active10, 0x3c1000000000L, active11, 0x8a000008L);
       case 70:
       case 102:
@@ -7652,19 +7656,19 @@ private final int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(6, 499, 97);
          else if ((active10 & 0x800000000000000L) != 0L)
             return jjStartNfaWithStates_0(6, 699, 97);
-         else if ((active11 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 737, 97);
+         else if ((active11 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 738, 97);
          return jjMoveStringLiteralDfa7_0(active0, 0x2000000000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x400000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0x2000000000L, active9, 0L, active10, 0L, active11, 0x800000L);
       case 72:
       case 104:
          if ((active0 & 0x4000000000000L) != 0L)
             return jjStartNfaWithStates_0(6, 50, 97);
-         else if ((active11 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_0(6, 748, 97);
+         else if ((active11 & 0x200000000000L) != 0L)
+            return jjStartNfaWithStates_0(6, 749, 97);
          return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x2L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa7_0(active0, 0x1020000000L, active1, 0x400001c0780000L, active2, 0x40000000200L, active3, 0x8000500L, active4, 0xc000000010004040L, active5, 0x3000000000000L, active6, 0xc0000080000000L, active7, 0x100000800000100L, active8, 0x1c0002400L, active9, 0x400060000ffc00L, active10, 0x18000000L, active11, 0x400200000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x1020000000L, active1, 0x400001c0780000L, active2, 0x40000000200L, active3, 0x8000500L, active4, 0xc000000010004040L, active5, 0x3000000000000L, active6, 0xc0000080000000L, active7, 0x100000800000100L, active8, 0x1c0002400L, active9, 0x400060000ffc00L, active10, 0x18000000L, active11, 0x800200000L);
       case 76:
       case 108:
          if ((active2 & 0x800000L) != 0L)
@@ -7758,7 +7762,7 @@ private final int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(6, 697, 97);
          else if ((active11 & 0x800L) != 0L)
             return jjStartNfaWithStates_0(6, 715, 97);
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x400000400L, active3, 0x100400000002L, active4, 0x300000000L, active5, 0x200L, active6, 0x400000000L, active7, 0x40000000000004L, active8, 0L, active9, 0x80040000300000L, active10, 0x5c000L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x400000400L, active3, 0x100400000002L, active4, 0x300000000L, active5, 0x200L, active6, 0x400000000L, active7, 0x40000000000004L, active8, 0L, active9, 0x80040000300000L, active10, 0x5c000L, active11, 0x1000000000L);
       case 83:
       case 115:
          if ((active5 & 0x40L) != 0L)
@@ -7818,10 +7822,10 @@ private final int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(6, 698, 97);
          else if ((active11 & 0x200L) != 0L)
             return jjStartNfaWithStates_0(6, 713, 97);
-         return jjMoveStringLiteralDfa7_0(active0, 0x90002040L, active1, 0xff00000c200007f0L, active2, 0x4000007L, active3, 0x2000080000000000L, active4, 0x20100L, active5, 0L, active6, 0x7003f800000L, active7, 0L, active8, 0x3fff100800000840L, active9, 0x1400000000L, active10, 0x100000L, active11, 0x80024140000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x90002040L, active1, 0xff00000c200007f0L, active2, 0x4000007L, active3, 0x2000080000000000L, active4, 0x20100L, active5, 0L, active6, 0x7003f800000L, active7, 0L, active8, 0x3fff100800000840L, active9, 0x1400000000L, active10, 0x100000L, active11, 0x100024140000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa7_0(active0, 0xc00000000L, active1, 0x120000000000L, active2, 0L, active3, 0L, active4, 0x2000000000L, active5, 0x4000800L, active6, 0x4000000000000000L, active7, 0x1000000000000L, active8, 0x400000000000L, active9, 0x80000000L, active10, 0L, active11, 0x4000000000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0xc00000000L, active1, 0x120000000000L, active2, 0L, active3, 0L, active4, 0x2000000000L, active5, 0x4000800L, active6, 0x4000000000000000L, active7, 0x1000000000000L, active8, 0x400000000000L, active9, 0x80000000L, active10, 0L, active11, 0x8000000000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x1000000L, active4, 0L, active5, 0L, active6, 0x200000000000000L, active7, 0x203000L, active8, 0L, active9, 0L, active10, 0x2L, active11, 0L);
@@ -7889,8 +7893,8 @@ private final int jjMoveStringLiteralDfa7_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(7, 156, 97);
          else if ((active10 & 0x1000000000L) != 0L)
             return jjStartNfaWithStates_0(7, 676, 97);
-         else if ((active11 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_0(7, 739, 97);
+         else if ((active11 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_0(7, 740, 97);
          return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40000780000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 69:
       case 101:
@@ -7966,7 +7970,7 @@ private final int jjMoveStringLiteralDfa7_0(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0x100000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa8_0(active0, 0x10000000L, active1, 0x1fc00001000L, active2, 0L, active3, 0L, active4, 0x400020000L, active5, 0x400000L, active6, 0x30000202000L, active7, 0L, active8, 0x203000000000L, active9, 0x40400000000L, active10, 0x2000000000000000L, active11, 0x80000000000L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x10000000L, active1, 0x1fc00001000L, active2, 0L, active3, 0L, active4, 0x400020000L, active5, 0x400000L, active6, 0x30000202000L, active7, 0L, active8, 0x203000000000L, active9, 0x40400000000L, active10, 0x2000000000000000L, active11, 0x100000000000L);
       case 74:
       case 106:
          return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x1800000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -8000,10 +8004,10 @@ private final int jjMoveStringLiteralDfa7_0(long old0, long active0, long old1,
             jjmatchedKind = 434;
             jjmatchedPos = 7;
          }
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x2000008L, active2, 0x40000000010L, active3, 0x8000400L, active4, 0xc4L, active5, 0x1000000000000000L, active6, 0x48000000000000L, active7, 0x1101000800000000L, active8, 0x8000L, active9, 0x6002000000L, active10, 0L, active11, 0x400400000000L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x2000008L, active2, 0x40000000010L, active3, 0x8000400L, active4, 0xc4L, active5, 0x1000000000000000L, active6, 0x48000000000000L, active7, 0x1101000800000000L, active8, 0x8000L, active9, 0x6002000000L, active10, 0L, active11, 0x800800000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa8_0(active0, 0x20800000L, active1, 0x28001c0780000L, active2, 0L, active3, 0x10000400000100L, active4, 0x4010000100L, active5, 0x4000000080L, active6, 0x80000480000000L, active7, 0x20000L, active8, 0x800L, active9, 0x4L, active10, 0L, active11, 0x4000000000L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x20800000L, active1, 0x28001c0780000L, active2, 0L, active3, 0x10000400000100L, active4, 0x4010000100L, active5, 0x4000000080L, active6, 0x80000480000000L, active7, 0x20000L, active8, 0x800L, active9, 0x4L, active10, 0L, active11, 0x8000000000L);
       case 80:
       case 112:
          if ((active10 & 0x80000000000000L) != 0L)
@@ -8119,7 +8123,7 @@ private final int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1,
       case 99:
          if ((active9 & 0x40000000000L) != 0L)
             return jjStartNfaWithStates_0(8, 618, 97);
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x100000000000000L, active2, 0x200000000000L, active3, 0L, active4, 0L, active5, 0x1000000000000200L, active6, 0L, active7, 0x100000000000L, active8, 0L, active9, 0x10L, active10, 0x4000L, active11, 0x80000000020L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x100000000000000L, active2, 0x200000000000L, active3, 0L, active4, 0L, active5, 0x1000000000000200L, active6, 0L, active7, 0x100000000000L, active8, 0L, active9, 0x10L, active10, 0x4000L, active11, 0x100000000020L);
       case 68:
       case 100:
          if ((active1 & 0x20000000L) != 0L)
@@ -8197,9 +8201,9 @@ private final int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1,
             jjmatchedKind = 613;
             jjmatchedPos = 8;
          }
-         else if ((active11 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_0(8, 738, 97);
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x8L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000000000L, active9, 0x4040000000L, active10, 0L, active11, 0x400000000000L);
+         else if ((active11 & 0x800000000L) != 0L)
+            return jjStartNfaWithStates_0(8, 739, 97);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x8L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000000000L, active9, 0x4040000000L, active10, 0L, active11, 0x800000000000L);
       case 72:
       case 104:
          return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1L, active9, 0x201000L, active10, 0L, active11, 0L);
@@ -8311,7 +8315,7 @@ private final int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x8000020000000000L, active2, 0x100003L, active3, 0L, active4, 0x200004L, active5, 0x40000L, active6, 0x2000L, active7, 0x4000000000000000L, active8, 0x500000000L, active9, 0x1000000000L, active10, 0x8000000L, active11, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0L, active2, 0x4L, active3, 0L, active4, 0x2008000000000L, active5, 0x400000L, active6, 0x400000000L, active7, 0L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0x4010000000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0L, active2, 0x4L, active3, 0L, active4, 0x2008000000000L, active5, 0x400000L, active6, 0x400000000L, active7, 0L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0x8010000000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa9_0(active0, 0x10000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0xc000000000000000L, active9, 0x1L, active10, 0L, active11, 0L);
@@ -8414,7 +8418,7 @@ private final int jjMoveStringLiteralDfa9_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(9, 730, 97);
          else if ((active11 & 0x10000000L) != 0L)
             return jjStartNfaWithStates_0(9, 732, 97);
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x400000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000050000L, active6, 0x30000000000L, active7, 0x20000000000000L, active8, 0x1000000000001L, active9, 0x2004000e0000L, active10, 0x8000000L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x400000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000050000L, active6, 0x30000000000L, active7, 0x20000000000000L, active8, 0x1000000000001L, active9, 0x2004000e0000L, active10, 0x8000000L, active11, 0x800000000000L);
       case 71:
       case 103:
          if ((active6 & 0x200000L) != 0L)
@@ -8486,10 +8490,10 @@ private final int jjMoveStringLiteralDfa9_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(9, 458, 97);
          else if ((active10 & 0x100L) != 0L)
             return jjStartNfaWithStates_0(9, 648, 97);
-         else if ((active11 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 742, 97);
-         else if ((active11 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_0(9, 747, 97);
+         else if ((active11 & 0x8000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 743, 97);
+         else if ((active11 & 0x100000000000L) != 0L)
+            return jjStartNfaWithStates_0(9, 748, 97);
          return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x80000000000L, active2, 0x40000000004L, active3, 0L, active4, 0x8000000000000000L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
@@ -8573,7 +8577,7 @@ private final int jjMoveStringLiteralDfa10_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(10, 341, 97);
          else if ((active10 & 0x8000000L) != 0L)
             return jjStartNfaWithStates_0(10, 667, 97);
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0xa00000000000000L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0xa00000000000000L, active10, 0L, active11, 0x800000000000L);
       case 69:
       case 101:
          if ((active0 & 0x10000000000L) != 0L)
@@ -8725,7 +8729,7 @@ private final int jjMoveStringLiteralDfa11_0(long old0, long active0, long old1,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 65:
       case 97:
          if ((active8 & 0x1L) != 0L)
@@ -8927,7 +8931,7 @@ private final int jjMoveStringLiteralDfa12_0(long old0, long active0, long old1,
       case 112:
          if ((active9 & 0x100L) != 0L)
             return jjStartNfaWithStates_0(12, 584, 97);
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x8000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x8000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 82:
       case 114:
          if ((active9 & 0x2000000000000000L) != 0L)
@@ -8973,7 +8977,7 @@ private final int jjMoveStringLiteralDfa13_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(13, 494, 97);
          else if ((active10 & 0x10000L) != 0L)
             return jjStartNfaWithStates_0(13, 656, 97);
-         return jjMoveStringLiteralDfa14_0(active0, 0x800000L, active1, 0x100000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000000L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa14_0(active0, 0x800000L, active1, 0x100000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000000L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x100000000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -9141,7 +9145,7 @@ private final int jjMoveStringLiteralDfa14_0(long old0, long active0, long old1,
             return jjStartNfaWithStates_0(14, 575, 97);
          else if ((active9 & 0x10000L) != 0L)
             return jjStartNfaWithStates_0(14, 592, 97);
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 83:
       case 115:
          if ((active1 & 0x200L) != 0L)
@@ -9243,7 +9247,7 @@ private final int jjMoveStringLiteralDfa15_0(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0x2L, active5, 0L, active6, 0L, active7, 0L, active8, 0x4000000000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0xe0000000000000L, active9, 0L, active10, 0L, active11, 0L);
@@ -9296,7 +9300,7 @@ private final int jjMoveStringLiteralDfa16_0(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x100L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0x38000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0x38000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 76:
       case 108:
          return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0L, active2, 0x6000L, active5, 0L, active6, 0x4000000L, active7, 0x80000000L, active8, 0L, active9, 0L, active10, 0x40L, active11, 0L);
@@ -9396,7 +9400,7 @@ private final int jjMoveStringLiteralDfa17_0(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x400000000000000L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x31c000000000000L, active9, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x31c000000000000L, active9, 0L, active10, 0L, active11, 0x800000400000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0L);
@@ -9448,7 +9452,7 @@ private final int jjMoveStringLiteralDfa18_0(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0x2L, active5, 0L, active6, 0L, active7, 0x200000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa19_0(active0, 0x1000000L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa19_0(active0, 0x1000000L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000400000L);
       case 76:
       case 108:
          return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x40L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -9509,7 +9513,7 @@ private final int jjMoveStringLiteralDfa19_0(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x400000000000000L, active2, 0L, active5, 0L, active6, 0x10000000L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x40L, active2, 0x2000L, active5, 0L, active6, 0x4000000L, active7, 0L, active8, 0x20c0000000000000L, active10, 0x80000000000L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x40L, active2, 0x2000L, active5, 0L, active6, 0x4000000L, active7, 0L, active8, 0x20c0000000000000L, active10, 0x80000000000L, active11, 0x800000400000L);
       case 82:
       case 114:
          return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0x4002L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
@@ -9576,7 +9580,7 @@ private final int jjMoveStringLiteralDfa20_0(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000L, active10, 0x100000000000L, active11, 0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0x800000400000L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0x2L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
@@ -9608,7 +9612,7 @@ private final int jjMoveStringLiteralDfa21_0(long old0, long active0, long old1,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa22_0(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa22_0(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000400000L);
       case 65:
       case 97:
          return jjMoveStringLiteralDfa22_0(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0x40000000040L, active11, 0L);
@@ -9702,7 +9706,7 @@ private final int jjMoveStringLiteralDfa22_0(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa23_0(active1, 0L, active2, 0x2L, active6, 0L, active8, 0L, active10, 0L, active11, 0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa23_0(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa23_0(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000000000L);
       case 84:
       case 116:
          return jjMoveStringLiteralDfa23_0(active1, 0L, active2, 0L, active6, 0x4000000L, active8, 0L, active10, 0L, active11, 0L);
@@ -9754,7 +9758,7 @@ private final int jjMoveStringLiteralDfa23_0(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa24_0(active1, 0L, active2, 0L, active6, 0L, active8, 0x2040000000000000L, active10, 0L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa24_0(active1, 0L, active2, 0L, active6, 0L, active8, 0x10000000000000L, active10, 0x40000000000L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa24_0(active1, 0L, active2, 0L, active6, 0L, active8, 0x10000000000000L, active10, 0x40000000000L, active11, 0x800000400000L);
       case 82:
       case 114:
          if ((active8 & 0x4000000000000L) != 0L)
@@ -9821,7 +9825,7 @@ private final int jjMoveStringLiteralDfa24_0(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa25_0(active1, 0L, active2, 0L, active6, 0L, active8, 0x40000000000000L, active10, 0L, active11, 0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa25_0(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa25_0(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000000000L);
       default :
          break;
    }
@@ -9875,7 +9879,7 @@ private final int jjMoveStringLiteralDfa25_0(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa26_0(active1, 0L, active2, 0x4002L, active6, 0L, active8, 0L, active11, 0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa26_0(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa26_0(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active11, 0x800000000000L);
       case 84:
       case 116:
          return jjMoveStringLiteralDfa26_0(active1, 0L, active2, 0L, active6, 0L, active8, 0x40000000000000L, active11, 0L);
@@ -9896,7 +9900,7 @@ private final int jjMoveStringLiteralDfa26_0(long old1, long active1, long old2,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa27_0(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa27_0(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 68:
       case 100:
          if ((active8 & 0x80000000000000L) != 0L)
@@ -9944,7 +9948,7 @@ private final int jjMoveStringLiteralDfa27_0(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa28_0(active1, 0L, active2, 0L, active8, 0x200000000000000L, active11, 0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa28_0(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa28_0(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 82:
       case 114:
          return jjMoveStringLiteralDfa28_0(active1, 0x400000000000000L, active2, 0L, active8, 0L, active11, 0L);
@@ -9971,7 +9975,7 @@ private final int jjMoveStringLiteralDfa28_0(long old1, long active1, long old2,
          break;
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa29_0(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa29_0(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa29_0(active1, 0x400000000000000L, active2, 0L, active8, 0L, active11, 0L);
@@ -9996,7 +10000,7 @@ private final int jjMoveStringLiteralDfa29_0(long old1, long active1, long old2,
    {
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa30_0(active1, 0L, active2, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa30_0(active1, 0L, active2, 0L, active11, 0x800000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa30_0(active1, 0x400000000000000L, active2, 0L, active11, 0L);
@@ -10021,7 +10025,7 @@ private final int jjMoveStringLiteralDfa30_0(long old1, long active1, long old2,
    {
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa31_0(active1, 0L, active2, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa31_0(active1, 0L, active2, 0L, active11, 0x800000000000L);
       case 80:
       case 112:
          if ((active1 & 0x400000000000000L) != 0L)
@@ -10047,7 +10051,7 @@ private final int jjMoveStringLiteralDfa31_0(long old1, long active1, long old2,
       case 101:
          if ((active2 & 0x2L) != 0L)
             return jjStartNfaWithStates_0(31, 129, 97);
-         return jjMoveStringLiteralDfa32_0(active2, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa32_0(active2, 0L, active11, 0x800000000000L);
       default :
          break;
    }
@@ -10066,7 +10070,7 @@ private final int jjMoveStringLiteralDfa32_0(long old2, long active2, long old11
    {
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa33_0(active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa33_0(active11, 0x800000000000L);
       default :
          break;
    }
@@ -10085,8 +10089,8 @@ private final int jjMoveStringLiteralDfa33_0(long old11, long active11)
    {
       case 84:
       case 116:
-         if ((active11 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_0(33, 750, 97);
+         if ((active11 & 0x800000000000L) != 0L)
+            return jjStartNfaWithStates_0(33, 751, 97);
          break;
       default :
          break;
@@ -10123,21 +10127,21 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(56, 57);
                   else if (curChar == 7)
                   {
-                     if (kind > 829)
-                        kind = 829;
+                     if (kind > 830)
+                        kind = 830;
                   }
                   else if (curChar == 45)
                      jjstateSet[jjnewStateCnt++] = 23;
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 752)
-                        kind = 752;
+                     if (kind > 753)
+                        kind = 753;
                      jjCheckNAddStates(9, 15);
                   }
                   else if (curChar == 36)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -10150,8 +10154,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -10164,8 +10168,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -10180,8 +10184,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -10203,8 +10207,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 67;
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -10213,8 +10217,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 92:
                   if (curChar == 47)
                   {
-                     if (kind > 815)
-                        kind = 815;
+                     if (kind > 816)
+                        kind = 816;
                      jjCheckNAddStates(25, 27);
                   }
                   else if (curChar == 42)
@@ -10229,8 +10233,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -10251,8 +10255,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(32, 34);
                   else if (curChar == 39)
                   {
-                     if (kind > 759)
-                        kind = 759;
+                     if (kind > 760)
+                        kind = 760;
                   }
                   if ((0xfc00f7faffffc9ffL & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 64;
@@ -10262,8 +10266,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 98:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 754)
-                        kind = 754;
+                     if (kind > 755)
+                        kind = 755;
                      jjCheckNAdd(57);
                   }
                   if ((0x3ff000000000000L & l) != 0L)
@@ -10288,8 +10292,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 3;
                   break;
                case 5:
-                  if (curChar == 39 && kind > 758)
-                     kind = 758;
+                  if (curChar == 39 && kind > 759)
+                     kind = 759;
                   break;
                case 7:
                   if ((0x3ff000000000000L & l) != 0L)
@@ -10313,8 +10317,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 11;
                   break;
                case 13:
-                  if (curChar == 39 && kind > 760)
-                     kind = 760;
+                  if (curChar == 39 && kind > 761)
+                     kind = 761;
                   break;
                case 17:
                   if ((0xffffff7fffffffffL & l) != 0L)
@@ -10332,30 +10336,30 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 20;
                   break;
                case 22:
-                  if (curChar == 39 && kind > 762)
-                     kind = 762;
+                  if (curChar == 39 && kind > 763)
+                     kind = 763;
                   break;
                case 23:
                   if (curChar != 45)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(25, 27);
                   break;
                case 24:
                   if ((0xffffffffffffdbffL & l) == 0L)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(25, 27);
                   break;
                case 25:
-                  if ((0x2400L & l) != 0L && kind > 815)
-                     kind = 815;
+                  if ((0x2400L & l) != 0L && kind > 816)
+                     kind = 816;
                   break;
                case 26:
-                  if (curChar == 10 && kind > 815)
-                     kind = 815;
+                  if (curChar == 10 && kind > 816)
+                     kind = 816;
                   break;
                case 27:
                   if (curChar == 13)
@@ -10368,15 +10372,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 34:
                   if (curChar != 36)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 35:
                   if ((0x3ff001000000000L & l) == 0L)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 36:
@@ -10394,8 +10398,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 39:
                   if (curChar != 36)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjCheckNAddTwoStates(39, 40);
                   break;
                case 40:
@@ -10405,26 +10409,26 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 41:
                   if ((0x3ff001000000000L & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjCheckNAdd(41);
                   break;
                case 42:
-                  if (curChar == 7 && kind > 829)
-                     kind = 829;
+                  if (curChar == 7 && kind > 830)
+                     kind = 830;
                   break;
                case 43:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 752)
-                     kind = 752;
+                  if (kind > 753)
+                     kind = 753;
                   jjCheckNAddStates(9, 15);
                   break;
                case 44:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 752)
-                     kind = 752;
+                  if (kind > 753)
+                     kind = 753;
                   jjCheckNAdd(44);
                   break;
                case 45:
@@ -10438,8 +10442,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 48:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 753)
-                     kind = 753;
+                  if (kind > 754)
+                     kind = 754;
                   jjCheckNAdd(48);
                   break;
                case 49:
@@ -10453,22 +10457,22 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 51:
                   if (curChar != 46)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(52);
                   break;
                case 52:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(52);
                   break;
                case 53:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAddStates(35, 37);
                   break;
                case 54:
@@ -10486,8 +10490,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 57:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(57);
                   break;
                case 58:
@@ -10507,12 +10511,12 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 60;
                   break;
                case 62:
-                  if (curChar == 39 && kind > 759)
-                     kind = 759;
+                  if (curChar == 39 && kind > 760)
+                     kind = 760;
                   break;
                case 64:
-                  if (curChar == 39 && kind > 766)
-                     kind = 766;
+                  if (curChar == 39 && kind > 767)
+                     kind = 767;
                   break;
                case 67:
                case 69:
@@ -10528,8 +10532,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 69;
                   break;
                case 71:
-                  if (curChar == 39 && kind > 761)
-                     kind = 761;
+                  if (curChar == 39 && kind > 762)
+                     kind = 762;
                   break;
                case 72:
                   if (curChar == 38)
@@ -10552,8 +10556,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 75;
                   break;
                case 77:
-                  if (curChar == 34 && kind > 826)
-                     kind = 826;
+                  if (curChar == 34 && kind > 827)
+                     kind = 827;
                   break;
                case 79:
                   if (curChar == 32)
@@ -10580,14 +10584,14 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 91;
                   break;
                case 91:
-                  if ((0xffff7fffffffffffL & l) != 0L && kind > 813)
-                     kind = 813;
+                  if ((0xffff7fffffffffffL & l) != 0L && kind > 814)
+                     kind = 814;
                   break;
                case 93:
                   if (curChar != 47)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(25, 27);
                   break;
                default : break;
@@ -10610,8 +10614,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddTwoStates(30, 32);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if ((0x20000000200000L & l) != 0L)
@@ -10632,8 +10636,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -10644,8 +10648,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -10656,8 +10660,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -10674,8 +10678,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -10686,8 +10690,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -10697,15 +10701,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                   else if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 85;
                   else if ((0x1000000010L & l) != 0L)
-                  {
-                     if (kind > 769)
-                        kind = 769;
-                  }
-                  if ((0x10000000100000L & l) != 0L)
                   {
                      if (kind > 770)
                         kind = 770;
                   }
+                  if ((0x10000000100000L & l) != 0L)
+                  {
+                     if (kind > 771)
+                        kind = 771;
+                  }
                   break;
                case 63:
                   jjCheckNAddStates(32, 34);
@@ -10755,8 +10759,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                   jjCheckNAddStates(28, 31);
                   break;
                case 24:
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjAddStates(25, 27);
                   break;
                case 29:
@@ -10776,21 +10780,21 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 31;
                   break;
                case 33:
-                  if (curChar == 93 && kind > 819)
-                     kind = 819;
+                  if (curChar == 93 && kind > 820)
+                     kind = 820;
                   break;
                case 34:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 35:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 36:
@@ -10800,15 +10804,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 39:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjAddStates(58, 59);
                   break;
                case 41:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjstateSet[jjnewStateCnt++] = 41;
                   break;
                case 46:
@@ -10833,32 +10837,32 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(48, 55);
                   break;
                case 80:
-                  if ((0x1000000010L & l) != 0L && kind > 769)
-                     kind = 769;
+                  if ((0x1000000010L & l) != 0L && kind > 770)
+                     kind = 770;
                   break;
                case 82:
-                  if ((0x10000000100000L & l) != 0L && kind > 770)
-                     kind = 770;
+                  if ((0x10000000100000L & l) != 0L && kind > 771)
+                     kind = 771;
                   break;
                case 84:
                   if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 85;
                   break;
                case 85:
-                  if ((0x8000000080000L & l) != 0L && kind > 771)
-                     kind = 771;
+                  if ((0x8000000080000L & l) != 0L && kind > 772)
+                     kind = 772;
                   break;
                case 87:
                   if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 88;
                   break;
                case 88:
-                  if ((0x400000004000L & l) != 0L && kind > 772)
-                     kind = 772;
+                  if ((0x400000004000L & l) != 0L && kind > 773)
+                     kind = 773;
                   break;
                case 91:
-                  if (kind > 813)
-                     kind = 813;
+                  if (kind > 814)
+                     kind = 814;
                   break;
                default : break;
             }
@@ -10878,8 +10882,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 0:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -10888,8 +10892,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 1:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -10900,8 +10904,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 97:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -10912,8 +10916,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 95:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -10929,8 +10933,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 66:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -10941,8 +10945,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 16:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -10977,22 +10981,22 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 24:
                   if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjAddStates(25, 27);
                   break;
                case 34:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 35:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 36:
@@ -11002,15 +11006,15 @@ private final int jjMoveNfa_0(int startState, int curPos)
                case 39:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjAddStates(58, 59);
                   break;
                case 41:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjstateSet[jjnewStateCnt++] = 41;
                   break;
                case 59:
@@ -11026,8 +11030,8 @@ private final int jjMoveNfa_0(int startState, int curPos)
                      jjAddStates(45, 47);
                   break;
                case 91:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2) && kind > 813)
-                     kind = 813;
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2) && kind > 814)
+                     kind = 814;
                   break;
                default : break;
             }
@@ -11071,7 +11075,7 @@ private final int jjMoveNfa_6(int startState, int curPos)
             {
                case 0:
                   if (curChar == 47)
-                     kind = 817;
+                     kind = 818;
                   break;
                case 1:
                   if (curChar == 42)
@@ -11125,192 +11129,192 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
    switch (pos)
    {
       case 0:
-         if ((active12 & 0x20L) != 0L)
+         if ((active2 & 0xfe00000000000000L) != 0L || (active3 & 0x7ffffL) != 0L || (active11 & 0x20000000L) != 0L)
+         {
+            jjmatchedKind = 825;
+            return 16;
+         }
+         if ((active12 & 0x40L) != 0L)
             return 94;
-         if ((active12 & 0x40000000L) != 0L)
-            return 63;
-         if ((active12 & 0x480002000000L) != 0L)
-            return 92;
-         if ((active5 & 0x7fffff000000000L) != 0L || (active11 & 0x400000000L) != 0L)
+         if ((active5 & 0x7fffff000000000L) != 0L || (active11 & 0x800000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             return 95;
          }
-         if ((active11 & 0x2000L) != 0L)
+         if ((active12 & 0x80000000L) != 0L)
+            return 63;
+         if ((active12 & 0x900004000000L) != 0L)
+            return 92;
+         if ((active10 & 0x7fffffe000000L) != 0L)
          {
-            jjmatchedKind = 824;
-            return 1;
+            jjmatchedKind = 825;
+            return 66;
          }
-         if ((active2 & 0xfe00000000000000L) != 0L || (active3 & 0x7ffffL) != 0L || (active11 & 0x20000000L) != 0L)
+         if ((active0 & 0xfffc000000000L) != 0L || (active2 & 0x1ffffffffffffc0L) != 0L || (active3 & 0xff8001fffff80000L) != 0L || (active4 & 0xfffff0ffffffffffL) != 0L || (active5 & 0xf800000000000003L) != 0L || (active6 & 0xffffffffffffffffL) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffefffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfff8000001ffffffL) != 0L || (active11 & 0x13957de4fdfffL) != 0L)
          {
-            jjmatchedKind = 824;
-            return 16;
+            jjmatchedKind = 825;
+            return 96;
          }
-         if ((active0 & 0xfff0003ffffffff8L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fL) != 0L || (active3 & 0x7ffe0000000000L) != 0L || (active4 & 0xf0000000000L) != 0L || (active5 & 0xffffffffcL) != 0L || (active8 & 0x100000L) != 0L || (active11 & 0x635001b00000L) != 0L || (active12 & 0x1000000000L) != 0L)
+         if ((active0 & 0xfff0003ffffffff8L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fL) != 0L || (active3 & 0x7ffe0000000000L) != 0L || (active4 & 0xf0000000000L) != 0L || (active5 & 0xffffffffcL) != 0L || (active8 & 0x100000L) != 0L || (active11 & 0xc6a001b00000L) != 0L || (active12 & 0x2000000000L) != 0L)
             return 96;
-         if ((active12 & 0x20000400L) != 0L)
+         if ((active12 & 0x40000800L) != 0L)
             return 97;
-         if ((active0 & 0xfffc000000000L) != 0L || (active2 & 0x1ffffffffffffc0L) != 0L || (active3 & 0xff8001fffff80000L) != 0L || (active4 & 0xfffff0ffffffffffL) != 0L || (active5 & 0xf800000000000003L) != 0L || (active6 & 0xffffffffffffffffL) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffefffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfff8000001ffffffL) != 0L || (active11 & 0x9cabde4fdfffL) != 0L)
-         {
-            jjmatchedKind = 824;
-            return 96;
-         }
-         if ((active10 & 0x7fffffe000000L) != 0L)
+         if ((active11 & 0x2000L) != 0L)
          {
-            jjmatchedKind = 824;
-            return 66;
+            jjmatchedKind = 825;
+            return 1;
          }
-         if ((active12 & 0xc00000L) != 0L)
+         if ((active12 & 0x1800000L) != 0L)
             return 23;
          return -1;
       case 1:
-         if ((active12 & 0x480000000000L) != 0L)
+         if ((active12 & 0x900000000000L) != 0L)
             return 90;
-         if ((active0 & 0x8000ffe000000L) != 0L || (active3 & 0x1800000000000L) != 0L || (active4 & 0x100000001ffffff0L) != 0L || (active5 & 0x8007c00000000000L) != 0L || (active6 & 0x3e39L) != 0L || (active10 & 0x3L) != 0L || (active11 & 0x820540220000L) != 0L)
-            return 96;
-         if ((active0 & 0xffe7fff001fffff0L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0xffffffffffffffffL) != 0L || (active3 & 0xfffe7dffffffffffL) != 0L || (active4 & 0xeffffeffe000000fL) != 0L || (active5 & 0x7ff83ffffffffffbL) != 0L || (active6 & 0xffffffffffffc1c6L) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffffffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfffffffffffffffcL) != 0L || (active11 & 0x7dfabfddffffL) != 0L)
+         if ((active0 & 0xffe7fff001fffff0L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0xffffffffffffffffL) != 0L || (active3 & 0xfffe7dffffffffffL) != 0L || (active4 & 0xeffffeffe000000fL) != 0L || (active5 & 0x7ff83ffffffffffbL) != 0L || (active6 & 0xffffffffffffc1c6L) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffffffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfffffffffffffffcL) != 0L || (active11 & 0xfbf6bfddffffL) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 1;
             }
             return 96;
          }
+         if ((active0 & 0x8000ffe000000L) != 0L || (active3 & 0x1800000000000L) != 0L || (active4 & 0x100000001ffffff0L) != 0L || (active5 & 0x8007c00000000000L) != 0L || (active6 & 0x3e39L) != 0L || (active10 & 0x3L) != 0L || (active11 & 0x1040940220000L) != 0L)
+            return 96;
          return -1;
       case 2:
-         if ((active0 & 0x402008167370L) != 0L || (active2 & 0xc01a000001ef0000L) != 0L || (active3 & 0x4002000f000c003L) != 0L || (active4 & 0x2e0000fc0000L) != 0L || (active5 & 0x410003f800c08L) != 0L || (active6 & 0x11fc000438012L) != 0L || (active7 & 0x7800000000e00L) != 0L || (active8 & 0xfffffffe001c0000L) != 0L || (active9 & 0x100003fffffL) != 0L || (active11 & 0x500000002000L) != 0L)
-            return 96;
-         if ((active0 & 0xffe7bfdef5e98c80L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fe5fffffe10ffffL) != 0L || (active3 & 0xfbff5dff0fff3ffcL) != 0L || (active4 & 0xefffd0fffd03ffefL) != 0L || (active5 & 0x7ffbafffc07ff3f3L) != 0L || (active6 & 0xfffee03fffbc7de5L) != 0L || (active7 & 0xfff87ffffffff1ffL) != 0L || (active8 & 0x1ffe3ffffL) != 0L || (active9 & 0xfffffeffffc00000L) != 0L || (active10 & 0xfffffffffffffffeL) != 0L || (active11 & 0xaffffffddfffL) != 0L)
+         if ((active0 & 0xffe7bfdef5e98c80L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fe5fffffe10ffffL) != 0L || (active3 & 0xfbff5dff0fff3ffcL) != 0L || (active4 & 0xefffd0fffd03ffefL) != 0L || (active5 & 0x7ffbafffc07ff3f3L) != 0L || (active6 & 0xfffee03fffbc7de5L) != 0L || (active7 & 0xfff87ffffffff1ffL) != 0L || (active8 & 0x1ffe3ffffL) != 0L || (active9 & 0xfffffeffffc00000L) != 0L || (active10 & 0xfffffffffffffffeL) != 0L || (active11 & 0x15ffffffddfffL) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 2;
             }
             return 96;
          }
+         if ((active0 & 0x402008167370L) != 0L || (active2 & 0xc01a000001ef0000L) != 0L || (active3 & 0x4002000f000c003L) != 0L || (active4 & 0x2e0000fc0000L) != 0L || (active5 & 0x410003f800c08L) != 0L || (active6 & 0x11fc000438012L) != 0L || (active7 & 0x7800000000e00L) != 0L || (active8 & 0xfffffffe001c0000L) != 0L || (active9 & 0x100003fffffL) != 0L || (active11 & 0xa00000002000L) != 0L)
+            return 96;
          return -1;
       case 3:
-         if ((active0 & 0x33853fdef1e9ece0L) != 0L || (active1 & 0xffdf3fffffffb803L) != 0L || (active2 & 0x35c5fc3fffd6003fL) != 0L || (active3 & 0xe1fe5d97efffa7ffL) != 0L || (active4 & 0xe9c4dc001d7bffefL) != 0L || (active5 & 0x7e1b0fcdf77ffbf3L) != 0L || (active6 & 0xfbfe7fa7ff837d81L) != 0L || (active7 & 0xfffb7efffffffd0fL) != 0L || (active8 & 0xfffffffdf4d3fd7fL) != 0L || (active9 & 0x800bfeffffbfffffL) != 0L || (active10 & 0xbffb41fffef1fffeL) != 0L || (active11 & 0xffcffdfc1870L) != 0L)
+         if ((active0 & 0xcc62800004000000L) != 0L || (active1 & 0x20c000000047fcL) != 0L || (active2 & 0xa2003c00008ffc0L) != 0L || (active3 & 0x1a01006800001800L) != 0L || (active4 & 0x63b00ffe0800000L) != 0L || (active5 & 0x1e0a03200000000L) != 0L || (active6 & 0x4008018003c0064L) != 0L || (active7 & 0x40100000000f0L) != 0L || (active8 & 0xb280280L) != 0L || (active9 & 0x7ff4000000400000L) != 0L || (active10 & 0x4004be00010e0000L) != 0L || (active11 & 0x620201c78fL) != 0L)
+            return 96;
+         if ((active2 & 0x8000000000000000L) != 0L)
+            return 98;
+         if ((active0 & 0x33853fdef1e9ece0L) != 0L || (active1 & 0xffdf3fffffffb803L) != 0L || (active2 & 0x35c5fc3fffd6003fL) != 0L || (active3 & 0xe1fe5d97efffa7ffL) != 0L || (active4 & 0xe9c4dc001d7bffefL) != 0L || (active5 & 0x7e1b0fcdf77ffbf3L) != 0L || (active6 & 0xfbfe7fa7ff837d81L) != 0L || (active7 & 0xfffb7efffffffd0fL) != 0L || (active8 & 0xfffffffdf4d3fd7fL) != 0L || (active9 & 0x800bfeffffbfffffL) != 0L || (active10 & 0xbffb41fffef1fffeL) != 0L || (active11 & 0x1ff9dfdfc1870L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 3;
             }
             return 96;
          }
-         if ((active0 & 0xcc62800004000000L) != 0L || (active1 & 0x20c000000047fcL) != 0L || (active2 & 0xa2003c00008ffc0L) != 0L || (active3 & 0x1a01006800001800L) != 0L || (active4 & 0x63b00ffe0800000L) != 0L || (active5 & 0x1e0a03200000000L) != 0L || (active6 & 0x4008018003c0064L) != 0L || (active7 & 0x40100000000f0L) != 0L || (active8 & 0xb280280L) != 0L || (active9 & 0x7ff4000000400000L) != 0L || (active10 & 0x4004be00010e0000L) != 0L || (active11 & 0x300201c78fL) != 0L)
-            return 96;
-         if ((active2 & 0x8000000000000000L) != 0L)
-            return 98;
          return -1;
       case 4:
-         if ((active0 & 0xb3c53c5ef00120e0L) != 0L || (active1 & 0xffcebffffffd37f9L) != 0L || (active2 & 0x25c5ffa7ffd6fe9fL) != 0L || (active3 & 0x61805d96e827b7abL) != 0L || (active4 & 0x5564cff1d7bc7efL) != 0L || (active5 & 0x7ecb09c4777f7801L) != 0L || (active6 & 0xebee5fa7ffba7181L) != 0L || (active7 & 0x1bfb7e3ffdfffd07L) != 0L || (active8 & 0xfffffffdd4c3fd7eL) != 0L || (active9 & 0xffca3efefc3fffffL) != 0L || (active10 & 0xbfc03cbf9ef5effeL) != 0L || (active11 & 0x79cfbbbc0b68L) != 0L)
+         if ((active0 & 0x38001e8cc00L) != 0L || (active1 & 0x11000000028802L) != 0L || (active2 & 0x1000001800000020L) != 0L || (active3 & 0x907e000107d80054L) != 0L || (active4 & 0xe880900000003800L) != 0L || (active5 & 0x1100629800083f2L) != 0L || (active6 & 0x1010200000010c00L) != 0L || (active7 & 0xe40000c002000048L) != 0L || (active8 & 0x20100001L) != 0L || (active9 & 0x1c00103800000L) != 0L || (active10 & 0x3b414060001000L) != 0L || (active11 & 0x10c0044409012L) != 0L)
+            return 96;
+         if ((active0 & 0xb3c53c5ef00120e0L) != 0L || (active1 & 0xffcebffffffd37f9L) != 0L || (active2 & 0x25c5ffa7ffd6fe9fL) != 0L || (active3 & 0x61805d96e827b7abL) != 0L || (active4 & 0x5564cff1d7bc7efL) != 0L || (active5 & 0x7ecb09c4777f7801L) != 0L || (active6 & 0xebee5fa7ffba7181L) != 0L || (active7 & 0x1bfb7e3ffdfffd07L) != 0L || (active8 & 0xfffffffdd4c3fd7eL) != 0L || (active9 & 0xffca3efefc3fffffL) != 0L || (active10 & 0xbfc03cbf9ef5effeL) != 0L || (active11 & 0xf39dbbbc0b68L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 4;
             }
             return 96;
          }
-         if ((active0 & 0x38001e8cc00L) != 0L || (active1 & 0x11000000028802L) != 0L || (active2 & 0x1000001800000020L) != 0L || (active3 & 0x907e000107d80054L) != 0L || (active4 & 0xe880900000003800L) != 0L || (active5 & 0x1100629800083f2L) != 0L || (active6 & 0x1010200000010c00L) != 0L || (active7 & 0xe40000c002000048L) != 0L || (active8 & 0x20100001L) != 0L || (active9 & 0x1c00103800000L) != 0L || (active10 & 0x3b414060001000L) != 0L || (active11 & 0x860044409012L) != 0L)
-            return 96;
          if ((active2 & 0x8000000000000000L) != 0L)
             return 98;
          return -1;
       case 5:
-         if ((active0 & 0x403042000100a0L) != 0L || (active1 & 0x8000033000000L) != 0L || (active2 & 0x50003e0400018L) != 0L || (active3 & 0x40c04110202121a8L) != 0L || (active4 & 0x40000004008008L) != 0L || (active5 & 0x4a80000163084000L) != 0L || (active6 & 0x8000080100024181L) != 0L || (active7 & 0x1a00043fe0000000L) != 0L || (active8 & 0x1080c11eL) != 0L || (active9 & 0x3a0824000000L) != 0L || (active10 & 0x1000a880800000L) != 0L || (active11 & 0x200140L) != 0L)
-            return 96;
-         if ((active2 & 0x8000000000000000L) != 0L)
-            return 98;
-         if ((active0 & 0xb3850f1cf1c02040L) != 0L || (active1 & 0xffc6bfffccfd37f9L) != 0L || (active2 & 0x25c0ffa41f96fe87L) != 0L || (active3 & 0x21341c86c9069603L) != 0L || (active4 & 0xc5164cff197b47e7L) != 0L || (active5 & 0x344b09c414773be1L) != 0L || (active6 & 0x6bee57a6ffb83800L) != 0L || (active7 & 0xc1fb7a001dfffd07L) != 0L || (active8 & 0xfffffffdc4433c61L) != 0L || (active9 & 0xffcb84f6da3fffffL) != 0L || (active10 & 0xbfe03c171e75effeL) != 0L || (active11 & 0x79cfbfdc0a28L) != 0L)
+         if ((active0 & 0xb3850f1cf1c02040L) != 0L || (active1 & 0xffc6bfffccfd37f9L) != 0L || (active2 & 0x25c0ffa41f96fe87L) != 0L || (active3 & 0x21341c86c9069603L) != 0L || (active4 & 0xc5164cff197b47e7L) != 0L || (active5 & 0x344b09c414773be1L) != 0L || (active6 & 0x6bee57a6ffb83800L) != 0L || (active7 & 0xc1fb7a001dfffd07L) != 0L || (active8 & 0xfffffffdc4433c61L) != 0L || (active9 & 0xffcb84f6da3fffffL) != 0L || (active10 & 0xbfe03c171e75effeL) != 0L || (active11 & 0xf39dbfdc0a28L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 5;
             }
             return 96;
          }
+         if ((active0 & 0x403042000100a0L) != 0L || (active1 & 0x8000033000000L) != 0L || (active2 & 0x50003e0400018L) != 0L || (active3 & 0x40c04110202121a8L) != 0L || (active4 & 0x40000004008008L) != 0L || (active5 & 0x4a80000163084000L) != 0L || (active6 & 0x8000080100024181L) != 0L || (active7 & 0x1a00043fe0000000L) != 0L || (active8 & 0x1080c11eL) != 0L || (active9 & 0x3a0824000000L) != 0L || (active10 & 0x1000a880800000L) != 0L || (active11 & 0x200140L) != 0L)
+            return 96;
+         if ((active2 & 0x8000000000000000L) != 0L)
+            return 98;
          return -1;
       case 6:
-         if ((active0 & 0xb305080000000000L) != 0L || (active1 & 0xff80200e00840001L) != 0L || (active2 & 0x5c00020c7800007L) != 0L || (active3 & 0x40400c0049200L) != 0L || (active4 & 0x114000009080620L) != 0L || (active5 & 0x400090002003061L) != 0L || (active6 & 0x90257a240103100L) != 0L || (active7 & 0x878100d410007L) != 0L || (active8 & 0x8000430030L) != 0L || (active9 & 0x8000000000000000L) != 0L || (active10 & 0x3e4000070241e000L) != 0L || (active11 & 0x318200080a00L) != 0L)
-            return 96;
-         if ((active0 & 0x80071cf1c02040L) != 0L || (active1 & 0x469ff1ee7937f8L) != 0L || (active2 & 0x2000ff841816fe90L) != 0L || (active3 & 0x2130188609020503L) != 0L || (active4 & 0xc4024cff107341c7L) != 0L || (active5 & 0x304b00c414770b80L) != 0L || (active6 & 0x62ec0004bfa80800L) != 0L || (active7 & 0xd1f3020f90befd00L) != 0L || (active8 & 0xffffff7dc400bc41L) != 0L || (active9 & 0x7fcbb4f6da3fffffL) != 0L || (active10 & 0x81a03c101c340ffeL) != 0L || (active11 & 0x484dbff40028L) != 0L)
+         if ((active0 & 0x80071cf1c02040L) != 0L || (active1 & 0x469ff1ee7937f8L) != 0L || (active2 & 0x2000ff841816fe90L) != 0L || (active3 & 0x2130188609020503L) != 0L || (active4 & 0xc4024cff107341c7L) != 0L || (active5 & 0x304b00c414770b80L) != 0L || (active6 & 0x62ec0004bfa80800L) != 0L || (active7 & 0xd1f3020f90befd00L) != 0L || (active8 & 0xffffff7dc400bc41L) != 0L || (active9 & 0x7fcbb4f6da3fffffL) != 0L || (active10 & 0x81a03c101c340ffeL) != 0L || (active11 & 0x9099bff40028L) != 0L)
          {
             if (jjmatchedPos != 6)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 6;
             }
             return 96;
          }
+         if ((active0 & 0xb305080000000000L) != 0L || (active1 & 0xff80200e00840001L) != 0L || (active2 & 0x5c00020c7800007L) != 0L || (active3 & 0x40400c0049200L) != 0L || (active4 & 0x114000009080620L) != 0L || (active5 & 0x400090002003061L) != 0L || (active6 & 0x90257a240103100L) != 0L || (active7 & 0x878100d410007L) != 0L || (active8 & 0x8000430030L) != 0L || (active9 & 0x8000000000000000L) != 0L || (active10 & 0x3e4000070241e000L) != 0L || (active11 & 0x630400080a00L) != 0L)
+            return 96;
          if ((active2 & 0x8000000000000000L) != 0L)
             return 98;
          return -1;
       case 7:
-         if ((active0 & 0x2080071cf1c00000L) != 0L || (active1 & 0xff4683fdee7837f8L) != 0L || (active2 & 0x1802f0408160617L) != 0L || (active3 & 0x110080609000503L) != 0L || (active4 & 0xc40204ff103245c7L) != 0L || (active5 & 0x300b004000770380L) != 0L || (active6 & 0x60c00704bfa02000L) != 0L || (active7 & 0xd173700f8082fd00L) != 0L || (active8 & 0xffffe2740002ac01L) != 0L || (active9 & 0x7fc3b476da3ffe5fL) != 0L || (active10 & 0xa1003c001c05cffaL) != 0L || (active11 & 0x484537f00020L) != 0L)
+         if ((active0 & 0x200000000002040L) != 0L || (active1 & 0x1c0000010000L) != 0L || (active2 & 0x2000d0801400f880L) != 0L || (active3 & 0x2020108000020000L) != 0L || (active4 & 0x480000410000L) != 0L || (active5 & 0x40008414002800L) != 0L || (active6 & 0x22c000000080800L) != 0L || (active7 & 0x800200103c0004L) != 0L || (active8 & 0x1d09c4001040L) != 0L || (active9 & 0x80080000001a0L) != 0L || (active10 & 0xa0001000300004L) != 0L || (active11 & 0x1088040008L) != 0L)
+            return 96;
+         if ((active2 & 0x8000000000000000L) != 0L)
+            return 98;
+         if ((active0 & 0x2080071cf1c00000L) != 0L || (active1 & 0xff4683fdee7837f8L) != 0L || (active2 & 0x1802f0408160617L) != 0L || (active3 & 0x110080609000503L) != 0L || (active4 & 0xc40204ff103245c7L) != 0L || (active5 & 0x300b004000770380L) != 0L || (active6 & 0x60c00704bfa02000L) != 0L || (active7 & 0xd173700f8082fd00L) != 0L || (active8 & 0xffffe2740002ac01L) != 0L || (active9 & 0x7fc3b476da3ffe5fL) != 0L || (active10 & 0xa1003c001c05cffaL) != 0L || (active11 & 0x908937f00020L) != 0L)
          {
             if (jjmatchedPos != 7)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 7;
             }
             return 96;
          }
-         if ((active0 & 0x200000000002040L) != 0L || (active1 & 0x1c0000010000L) != 0L || (active2 & 0x2000d0801400f880L) != 0L || (active3 & 0x2020108000020000L) != 0L || (active4 & 0x480000410000L) != 0L || (active5 & 0x40008414002800L) != 0L || (active6 & 0x22c000000080800L) != 0L || (active7 & 0x800200103c0004L) != 0L || (active8 & 0x1d09c4001040L) != 0L || (active9 & 0x80080000001a0L) != 0L || (active10 & 0xa0001000300004L) != 0L || (active11 & 0x888040008L) != 0L)
-            return 96;
-         if ((active2 & 0x8000000000000000L) != 0L)
-            return 98;
          return -1;
       case 8:
-         if ((active0 & 0x20800310d1800000L) != 0L || (active1 & 0xff048bfc0e003008L) != 0L || (active2 & 0x1802f040810f417L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x40204ff00024004L) != 0L || (active5 & 0x3000004000770380L) != 0L || (active6 & 0x2008070400202000L) != 0L || (active7 & 0xd06270078082cc00L) != 0L || (active8 & 0xffff62758002a001L) != 0L || (active9 & 0x6081b016583fff59L) != 0L || (active10 & 0x20003c001805c87aL) != 0L || (active11 & 0x484117d00020L) != 0L)
+         if ((active0 & 0x40c20400000L) != 0L || (active1 & 0x420001e07807f0L) != 0L || (active2 & 0x60200L) != 0L || (active3 & 0x100080408000501L) != 0L || (active4 & 0xc0000000103005c3L) != 0L || (active5 & 0xb000000000000L) != 0L || (active6 & 0x40c00000bf800000L) != 0L || (active7 & 0x111000800003100L) != 0L || (active8 & 0x800000000c00L) != 0L || (active9 & 0x1f42046082000006L) != 0L || (active10 & 0x8100000004000780L) != 0L || (active11 & 0x820200000L) != 0L)
+            return 96;
+         if ((active0 & 0x20800310d1800000L) != 0L || (active1 & 0xff048bfc0e003008L) != 0L || (active2 & 0x1802f040810f417L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x40204ff00024004L) != 0L || (active5 & 0x3000004000770380L) != 0L || (active6 & 0x2008070400202000L) != 0L || (active7 & 0xd06270078082cc00L) != 0L || (active8 & 0xffff62758002a001L) != 0L || (active9 & 0x6081b016583fff59L) != 0L || (active10 & 0x20003c001805c87aL) != 0L || (active11 & 0x908117d00020L) != 0L)
          {
             if (jjmatchedPos != 8)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 8;
             }
             return 96;
          }
-         if ((active0 & 0x40c20400000L) != 0L || (active1 & 0x420001e07807f0L) != 0L || (active2 & 0x60200L) != 0L || (active3 & 0x100080408000501L) != 0L || (active4 & 0xc0000000103005c3L) != 0L || (active5 & 0xb000000000000L) != 0L || (active6 & 0x40c00000bf800000L) != 0L || (active7 & 0x111000800003100L) != 0L || (active8 & 0x800000000c00L) != 0L || (active9 & 0x1f42046082000006L) != 0L || (active10 & 0x8100000004000780L) != 0L || (active11 & 0x420200000L) != 0L)
-            return 96;
          return -1;
       case 9:
-         if ((active0 & 0x8d0000000L) != 0L || (active1 & 0x401fc00001400L) != 0L || (active2 & 0x220408100400L) != 0L || (active4 & 0x40204e300000000L) != 0L || (active5 & 0x2004000400000L) != 0L || (active6 & 0x2000000000202000L) != 0L || (active7 & 0x8002000000824400L) != 0L || (active8 & 0x407000000000L) != 0L || (active9 & 0x80801048000000L) != 0L || (active10 & 0x2000000000040100L) != 0L || (active11 & 0x84015000000L) != 0L)
-            return 96;
-         if ((active0 & 0x2080031001800000L) != 0L || (active1 & 0xff008a018e7023e8L) != 0L || (active2 & 0x1800d000000f017L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x8000001c00224006L) != 0L || (active5 & 0x3000000000370380L) != 0L || (active6 & 0x807043f000000L) != 0L || (active7 & 0x5060700780008800L) != 0L || (active8 & 0xffff22058002a001L) != 0L || (active9 & 0x7e013046103fff59L) != 0L || (active10 & 0x3c001801cc7aL) != 0L || (active11 & 0x400102d00020L) != 0L)
+         if ((active0 & 0x2080031001800000L) != 0L || (active1 & 0xff008a018e7023e8L) != 0L || (active2 & 0x1800d000000f017L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x8000001c00224006L) != 0L || (active5 & 0x3000000000370380L) != 0L || (active6 & 0x807043f000000L) != 0L || (active7 & 0x5060700780008800L) != 0L || (active8 & 0xffff22058002a001L) != 0L || (active9 & 0x7e013046103fff59L) != 0L || (active10 & 0x3c001801cc7aL) != 0L || (active11 & 0x800102d00020L) != 0L)
          {
             if (jjmatchedPos != 9)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 9;
             }
             return 96;
          }
+         if ((active0 & 0x8d0000000L) != 0L || (active1 & 0x401fc00001400L) != 0L || (active2 & 0x220408100400L) != 0L || (active4 & 0x40204e300000000L) != 0L || (active5 & 0x2004000400000L) != 0L || (active6 & 0x2000000000202000L) != 0L || (active7 & 0x8002000000824400L) != 0L || (active8 & 0x407000000000L) != 0L || (active9 & 0x80801048000000L) != 0L || (active10 & 0x2000000000040100L) != 0L || (active11 & 0x108015000000L) != 0L)
+            return 96;
          return -1;
       case 10:
          if ((active0 & 0x80010000000000L) != 0L || (active1 & 0x2000030082000008L) != 0L || (active2 & 0x90000000010L) != 0L || (active3 & 0x201000000L) != 0L || (active4 & 0x1c00004002L) != 0L || (active5 & 0x300000L) != 0L || (active6 & 0x400000000L) != 0L || (active7 & 0x1020000000000800L) != 0L || (active8 & 0x1220000008000L) != 0L || (active9 & 0x1300410200608L) != 0L || (active10 & 0x8000878L) != 0L || (active11 & 0x102800000L) != 0L)
             return 96;
-         if ((active0 & 0x2000021001800000L) != 0L || (active1 & 0xdf0088e90c7023e0L) != 0L || (active2 & 0x18004000000f007L) != 0L || (active3 & 0x10000000000002L) != 0L || (active4 & 0x8000000200220004L) != 0L || (active5 & 0x3000000000070380L) != 0L || (active6 & 0x807003f000000L) != 0L || (active7 & 0x4040700780008000L) != 0L || (active8 & 0xfffe000580022001L) != 0L || (active9 & 0x7e000042001ff951L) != 0L || (active10 & 0x3c001001c402L) != 0L || (active11 & 0x400000500020L) != 0L)
+         if ((active0 & 0x2000021001800000L) != 0L || (active1 & 0xdf0088e90c7023e0L) != 0L || (active2 & 0x18004000000f007L) != 0L || (active3 & 0x10000000000002L) != 0L || (active4 & 0x8000000200220004L) != 0L || (active5 & 0x3000000000070380L) != 0L || (active6 & 0x807003f000000L) != 0L || (active7 & 0x4040700780008000L) != 0L || (active8 & 0xfffe000580022001L) != 0L || (active9 & 0x7e000042001ff951L) != 0L || (active10 & 0x3c001001c402L) != 0L || (active11 & 0x800000500020L) != 0L)
          {
             if (jjmatchedPos != 10)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 10;
             }
             return 96;
          }
          return -1;
       case 11:
-         if ((active0 & 0x21001800000L) != 0L || (active1 & 0x450088e90c7003e0L) != 0L || (active2 & 0x18004000000f002L) != 0L || (active3 & 0x2L) != 0L || (active4 & 0x8000001200000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000080000000L) != 0L || (active9 & 0x7c0000420013e901L) != 0L || (active10 & 0x3c0010014472L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x21001800000L) != 0L || (active1 & 0x450088e90c7003e0L) != 0L || (active2 & 0x18004000000f002L) != 0L || (active3 & 0x2L) != 0L || (active4 & 0x8000001200000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000080000000L) != 0L || (active9 & 0x7c0000420013e901L) != 0L || (active10 & 0x3c0010014472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 11)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 11;
             }
             return 96;
@@ -11319,9 +11323,9 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
             return 96;
          return -1;
       case 12:
-         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x450008e90c7003e0L) != 0L || (active2 & 0x18000000000e003L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5800004200036801L) != 0L || (active10 & 0x3c0000014472L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x450008e90c7003e0L) != 0L || (active2 & 0x18000000000e003L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5800004200036801L) != 0L || (active10 & 0x3c0000014472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 12;
             return 96;
          }
@@ -11331,9 +11335,9 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
       case 13:
          if ((active1 & 0x4000000000200000L) != 0L || (active2 & 0x8000L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x10000L) != 0L || (active6 & 0x8000003000000L) != 0L || (active7 & 0x4000400000008000L) != 0L || (active9 & 0x800000000024000L) != 0L || (active10 & 0x10000L) != 0L)
             return 96;
-         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x50008e90c5003e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020280L) != 0L || (active6 & 0x3003c000000L) != 0L || (active7 & 0x100780000000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5000004200012801L) != 0L || (active10 & 0x3c0000004472L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x50008e90c5003e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020280L) != 0L || (active6 & 0x3003c000000L) != 0L || (active7 & 0x100780000000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5000004200012801L) != 0L || (active10 & 0x3c0000004472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 13;
             return 96;
          }
@@ -11341,19 +11345,19 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
       case 14:
          if ((active0 & 0x20000000000L) != 0L || (active1 & 0x100084800000200L) != 0L || (active5 & 0x280L) != 0L || (active6 & 0x30000000000L) != 0L || (active7 & 0x100100000000L) != 0L || (active8 & 0x8000000000000000L) != 0L || (active9 & 0x5000004200010000L) != 0L || (active10 & 0x4402L) != 0L)
             return 96;
-         if ((active0 & 0x1800000L) != 0L || (active1 & 0x40000a10c5001e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7ffe000000000000L) != 0L || (active9 & 0x2801L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1800000L) != 0L || (active1 & 0x40000a10c5001e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7ffe000000000000L) != 0L || (active9 & 0x2801L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 14;
             return 96;
          }
          return -1;
       case 15:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x40000a0001001c0L) != 0L || (active2 & 0x6003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7fe0000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x40000a0001001c0L) != 0L || (active2 & 0x6003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7fe0000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 15)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 15;
             }
             return 96;
@@ -11362,11 +11366,11 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
             return 96;
          return -1;
       case 16:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x4000020080001c0L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0xf1c000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x4000020080001c0L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0xf1c000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 16)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 16;
             }
             return 96;
@@ -11377,9 +11381,9 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
       case 17:
          if ((active1 & 0x2000000080L) != 0L || (active8 & 0x400000000000000L) != 0L)
             return 96;
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x2bdc000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x2bdc000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 17;
             return 96;
          }
@@ -11387,20 +11391,20 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
       case 18:
          if ((active8 & 0xb00000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x10L) != 0L)
             return 96;
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x20dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x20dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 18)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 18;
             }
             return 96;
          }
          return -1;
       case 19:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000040L) != 0L || (active2 & 0x100000000006002L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x200000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000040L) != 0L || (active2 & 0x100000000006002L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x200000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 19;
             return 96;
          }
@@ -11410,17 +11414,17 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
       case 20:
          if ((active0 & 0x1000000L) != 0L || (active1 & 0x8000040L) != 0L || (active2 & 0x100000000000000L) != 0L || (active7 & 0x200000000L) != 0L)
             return 96;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x6002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x6002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 20;
             return 96;
          }
          return -1;
       case 21:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 21;
             return 96;
          }
@@ -11428,9 +11432,9 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
             return 96;
          return -1;
       case 22:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 22;
             return 96;
          }
@@ -11440,9 +11444,9 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
       case 23:
          if ((active8 & 0x4000000000000L) != 0L || (active10 & 0x200000000040L) != 0L)
             return 96;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active10 & 0x40000000000L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active10 & 0x40000000000L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 23;
             return 96;
          }
@@ -11450,17 +11454,17 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
       case 24:
          if ((active6 & 0x20000000L) != 0L || (active10 & 0x40000000000L) != 0L)
             return 96;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0xc000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0xc000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 24;
             return 96;
          }
          return -1;
       case 25:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active8 & 0x2c0000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active8 & 0x2c0000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 25;
             return 96;
          }
@@ -11468,9 +11472,9 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
             return 96;
          return -1;
       case 26:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 26;
             return 96;
          }
@@ -11478,9 +11482,9 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
             return 96;
          return -1;
       case 27:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 27;
             return 96;
          }
@@ -11488,17 +11492,17 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
       case 28:
          if ((active8 & 0x200000000000000L) != 0L)
             return 96;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 28;
             return 96;
          }
          return -1;
       case 29:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 29;
             return 96;
          }
@@ -11506,17 +11510,17 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
       case 30:
          if ((active1 & 0x400000000000000L) != 0L)
             return 96;
-         if ((active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 30;
             return 96;
          }
          return -1;
       case 31:
-         if ((active11 & 0x400000000000L) != 0L)
+         if ((active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 31;
             return 96;
          }
@@ -11524,9 +11528,9 @@ private final int jjStopStringLiteralDfa_2(int pos, long active0, long active1,
             return 96;
          return -1;
       case 32:
-         if ((active11 & 0x400000000000L) != 0L)
+         if ((active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 32;
             return 96;
          }
@@ -11553,70 +11557,70 @@ private final int jjMoveStringLiteralDfa0_2()
    {
       case 33:
          jjmatchedKind = 1;
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x100000L);
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000L);
       case 34:
-         return jjStopAtPos(0, 799);
+         return jjStopAtPos(0, 800);
       case 36:
-         return jjStartNfaWithStates_2(0, 804, 96);
+         return jjStartNfaWithStates_2(0, 805, 96);
       case 37:
-         return jjStopAtPos(0, 794);
+         return jjStopAtPos(0, 795);
       case 38:
-         return jjStopAtPos(0, 802);
+         return jjStopAtPos(0, 803);
       case 39:
-         return jjStartNfaWithStates_2(0, 798, 63);
+         return jjStartNfaWithStates_2(0, 799, 63);
       case 40:
-         return jjStopAtPos(0, 767);
-      case 41:
          return jjStopAtPos(0, 768);
+      case 41:
+         return jjStopAtPos(0, 769);
       case 42:
-         jjmatchedKind = 792;
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x100000000000L);
+         jjmatchedKind = 793;
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000000L);
       case 43:
-         return jjStopAtPos(0, 789);
+         return jjStopAtPos(0, 790);
       case 44:
-         return jjStopAtPos(0, 779);
+         return jjStopAtPos(0, 780);
       case 45:
-         jjmatchedKind = 790;
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x800000L);
+         jjmatchedKind = 791;
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000000L);
       case 46:
-         jjmatchedKind = 778;
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x20000000L);
+         jjmatchedKind = 779;
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x40000000L);
       case 47:
-         jjmatchedKind = 793;
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x480000000000L);
+         jjmatchedKind = 794;
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x900000000000L);
       case 58:
-         jjmatchedKind = 784;
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000000L);
+         jjmatchedKind = 785;
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x4000000000L);
       case 59:
-         return jjStopAtPos(0, 777);
+         return jjStopAtPos(0, 778);
       case 60:
-         jjmatchedKind = 782;
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x8000a0000L);
+         jjmatchedKind = 783;
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000140000L);
       case 61:
-         jjmatchedKind = 780;
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000000L);
-      case 62:
          jjmatchedKind = 781;
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x40000L);
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x20000000L);
+      case 62:
+         jjmatchedKind = 782;
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x80000L);
       case 63:
-         return jjStopAtPos(0, 783);
+         return jjStopAtPos(0, 784);
       case 91:
-         return jjStopAtPos(0, 775);
-      case 93:
          return jjStopAtPos(0, 776);
+      case 93:
+         return jjStopAtPos(0, 777);
       case 94:
-         return jjStopAtPos(0, 801);
+         return jjStopAtPos(0, 802);
       case 65:
       case 97:
          jjmatchedKind = 3;
-         return jjMoveStringLiteralDfa1_2(0x3ffffffff0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x220000300000L, 0x0L);
+         return jjMoveStringLiteralDfa1_2(0x3ffffffff0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x440000300000L, 0x0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa1_2(0xfffc000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x80000L, 0x0L);
       case 67:
       case 99:
          jjmatchedKind = 52;
-         return jjMoveStringLiteralDfa1_2(0xffe0000000000000L, 0xffffffffffffffffL, 0x3fL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x14001800000L, 0x0L);
+         return jjMoveStringLiteralDfa1_2(0xffe0000000000000L, 0xffffffffffffffffL, 0x3fL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x28001800000L, 0x0L);
       case 68:
       case 100:
          return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x1ffffffffffffc0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000L, 0x0L);
@@ -11632,7 +11636,7 @@ private final int jjMoveStringLiteralDfa0_2()
          return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x7ffc0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x1f80000000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x1f80000000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000L, 0x0L);
       case 73:
       case 105:
          return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0xe000000000000000L, 0x1fffffffL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x140020000L, 0x0L);
@@ -11642,35 +11646,35 @@ private final int jjMoveStringLiteralDfa0_2()
       case 75:
       case 107:
          jjmatchedKind = 296;
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0xe0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0xe0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000000L, 0x0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0xfffff00000000000L, 0x3L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0xfffff00000000000L, 0x3L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x400000000L, 0x0L);
       case 77:
       case 109:
          jjmatchedKind = 322;
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffff8L, 0x0L, 0x0L, 0x100000L, 0x0L, 0x0L, 0x400000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffff8L, 0x0L, 0x0L, 0x100000L, 0x0L, 0x0L, 0x800000000000L, 0x0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffff000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x400000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffff000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x800000000L, 0x0L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xf800000000000000L, 0x3fffffL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffc00000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x880000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffc00000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1080000000L, 0x0L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7L, 0x0L, 0x0L, 0x0L, 0x40000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7L, 0x0L, 0x0L, 0x0L, 0x80000000000L, 0x0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffff8L, 0x0L, 0x0L, 0x0L, 0x100000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffff8L, 0x0L, 0x0L, 0x0L, 0x200000000000L, 0x0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfff0000000000000L, 0xffffffffffefffffL, 0x3fffffffffffL, 0x0L, 0x8a000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfff0000000000000L, 0xffffffffffefffffL, 0x3fffffffffffL, 0x0L, 0x114000000000L, 0x0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffc00000000000L, 0x1ffffffL, 0x800000040000L, 0x0L);
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffc00000000000L, 0x1ffffffL, 0x1000000040000L, 0x0L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffffe000000L, 0x0L, 0x0L);
@@ -11690,12 +11694,12 @@ private final int jjMoveStringLiteralDfa0_2()
       case 122:
          return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000L, 0x0L);
       case 123:
-         return jjStartNfaWithStates_2(0, 773, 94);
+         return jjStartNfaWithStates_2(0, 774, 94);
       case 124:
-         jjmatchedKind = 800;
-         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x8000000L);
+         jjmatchedKind = 801;
+         return jjMoveStringLiteralDfa1_2(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000000L);
       case 125:
-         return jjStopAtPos(0, 774);
+         return jjStopAtPos(0, 775);
       case 126:
          return jjStopAtPos(0, 2);
       default :
@@ -11712,59 +11716,59 @@ private final int jjMoveStringLiteralDfa1_2(long active0, long active1, long act
    switch(curChar)
    {
       case 42:
-         if ((active12 & 0x400000000000L) != 0L)
+         if ((active12 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 814;
+            jjmatchedKind = 815;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0x80000000000L);
+         return jjMoveStringLiteralDfa2_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0x100000000000L);
       case 46:
-         if ((active12 & 0x20000000L) != 0L)
-            return jjStopAtPos(1, 797);
+         if ((active12 & 0x40000000L) != 0L)
+            return jjStopAtPos(1, 798);
          break;
       case 47:
-         if ((active12 & 0x100000000000L) != 0L)
-            return jjStopAtPos(1, 812);
+         if ((active12 & 0x200000000000L) != 0L)
+            return jjStopAtPos(1, 813);
          break;
       case 58:
-         if ((active12 & 0x2000000000L) != 0L)
-            return jjStopAtPos(1, 805);
+         if ((active12 & 0x4000000000L) != 0L)
+            return jjStopAtPos(1, 806);
          break;
       case 60:
-         if ((active12 & 0x800000000L) != 0L)
-            return jjStopAtPos(1, 803);
+         if ((active12 & 0x1000000000L) != 0L)
+            return jjStopAtPos(1, 804);
          break;
       case 61:
-         if ((active12 & 0x20000L) != 0L)
-            return jjStopAtPos(1, 785);
-         else if ((active12 & 0x40000L) != 0L)
+         if ((active12 & 0x40000L) != 0L)
             return jjStopAtPos(1, 786);
-         else if ((active12 & 0x100000L) != 0L)
-            return jjStopAtPos(1, 788);
+         else if ((active12 & 0x80000L) != 0L)
+            return jjStopAtPos(1, 787);
+         else if ((active12 & 0x200000L) != 0L)
+            return jjStopAtPos(1, 789);
          break;
       case 62:
-         if ((active12 & 0x80000L) != 0L)
-            return jjStopAtPos(1, 787);
-         else if ((active12 & 0x800000L) != 0L)
-            return jjStopAtPos(1, 791);
-         else if ((active12 & 0x10000000L) != 0L)
-            return jjStopAtPos(1, 796);
+         if ((active12 & 0x100000L) != 0L)
+            return jjStopAtPos(1, 788);
+         else if ((active12 & 0x1000000L) != 0L)
+            return jjStopAtPos(1, 792);
+         else if ((active12 & 0x20000000L) != 0L)
+            return jjStopAtPos(1, 797);
          break;
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa2_2(active0, 0x3fe0000000000000L, active1, 0L, active2, 0x2000000000fffc0L, active3, 0x80000000080000L, active4, 0x7f00020000000L, active5, 0x1f000000ff8L, active6, 0x3fffc00000L, active7, 0x1f0000000000018L, active8, 0L, active9, 0x1c00000000000L, active10, 0xff8000000000000L, active11, 0x400887880000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_2(active0, 0x3fe0000000000000L, active1, 0L, active2, 0x2000000000fffc0L, active3, 0x80000000080000L, active4, 0x7f00020000000L, active5, 0x1f000000ff8L, active6, 0x3fffc00000L, active7, 0x1f0000000000018L, active8, 0L, active9, 0x1c00000000000L, active10, 0xff8000000000000L, active11, 0x801287880000L, active12, 0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa2_2(active0, 0x70L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x800000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa2_2(active0, 0x80L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x7000060000000000L, active6, 0L, active7, 0xfe00000000000000L, active8, 0x3L, active9, 0L, active10, 0L, active11, 0x2000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_2(active0, 0x80L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x7000060000000000L, active6, 0L, active7, 0xfe00000000000000L, active8, 0x3L, active9, 0L, active10, 0L, active11, 0x4000000000L, active12, 0L);
       case 68:
       case 100:
          return jjMoveStringLiteralDfa2_2(active0, 0x700L, active1, 0L, active2, 0L, active3, 0x2000000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa2_2(active0, 0xc0000fc000000000L, active1, 0x1L, active2, 0x7fffff00000L, active3, 0x3c0000100000L, active4, 0xf80e0000000000L, active5, 0x3800000ff000L, active6, 0x1fc000000000L, active7, 0x3fffffffe0L, active8, 0xffffcL, active9, 0x2000000000000L, active10, 0xb000000002000000L, active11, 0x10800004c003L, active12, 0L);
+         return jjMoveStringLiteralDfa2_2(active0, 0xc0000fc000000000L, active1, 0x1L, active2, 0x7fffff00000L, active3, 0x3c0000100000L, active4, 0xf80e0000000000L, active5, 0x3800000ff000L, active6, 0x1fc000000000L, active7, 0x3fffffffe0L, active8, 0xffffcL, active9, 0x2000000000000L, active10, 0xb000000002000000L, active11, 0x21000004c003L, active12, 0L);
       case 70:
       case 102:
          if ((active5 & 0x8000000000000000L) != 0L)
@@ -11783,7 +11787,7 @@ private final int jjMoveStringLiteralDfa1_2(long active0, long active1, long act
          return jjMoveStringLiteralDfa2_2(active0, 0L, active1, 0xffeL, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x200000L, active9, 0xc000000000000L, active10, 0L, active11, 0x1cL, active12, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa2_2(active0, 0x700000000000L, active1, 0L, active2, 0xf80000000000L, active3, 0x100000001e00000L, active4, 0xf00000000000000L, active5, 0x7f00000L, active6, 0x200000000000L, active7, 0x4000000000L, active8, 0x1d00000L, active9, 0xfff0000000000000L, active10, 0x4000000000000000L, active11, 0x10000003e0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_2(active0, 0x700000000000L, active1, 0L, active2, 0xf80000000000L, active3, 0x100000001e00000L, active4, 0xf00000000000000L, active5, 0x7f00000L, active6, 0x200000000000L, active7, 0x4000000000L, active8, 0x1d00000L, active9, 0xfff0000000000000L, active10, 0x4000000000000000L, active11, 0x20000003e0L, active12, 0L);
       case 75:
       case 107:
          return jjMoveStringLiteralDfa2_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x2000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -11807,7 +11811,7 @@ private final int jjMoveStringLiteralDfa1_2(long active0, long active1, long act
             jjmatchedKind = 387;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_2(active0, 0x60000L, active1, 0L, active2, 0xe000000000000000L, active3, 0x3L, active4, 0x1ffffe0L, active5, 0L, active6, 0x30L, active7, 0L, active8, 0L, active9, 0L, active10, 0x1ffc000000L, active11, 0x200160000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_2(active0, 0x60000L, active1, 0L, active2, 0xe000000000000000L, active3, 0x3L, active4, 0x1ffffe0L, active5, 0L, active6, 0x30L, active7, 0L, active8, 0L, active9, 0L, active10, 0x1ffc000000L, active11, 0x400160000000L, active12, 0L);
       case 79:
       case 111:
          if ((active3 & 0x800000000000L) != 0L)
@@ -11825,7 +11829,7 @@ private final int jjMoveStringLiteralDfa1_2(long active0, long active1, long act
             jjmatchedKind = 640;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_2(active0, 0x3000000000000L, active1, 0x7ffffffff0000L, active2, 0x1f000000000000L, active3, 0x1e010001f8000000L, active4, 0xe000000040000000L, active5, 0x78003f8000003L, active6, 0x1e000000000000L, active7, 0x7ff0000000000L, active8, 0x18000000L, active9, 0L, active10, 0x2L, active11, 0x814600010400L, active12, 0L);
+         return jjMoveStringLiteralDfa2_2(active0, 0x3000000000000L, active1, 0x7ffffffff0000L, active2, 0x1f000000000000L, active3, 0x1e010001f8000000L, active4, 0xe000000040000000L, active5, 0x78003f8000003L, active6, 0x1e000000000000L, active7, 0x7ff0000000000L, active8, 0x18000000L, active9, 0L, active10, 0x2L, active11, 0x1028c00010400L, active12, 0L);
       case 80:
       case 112:
          return jjMoveStringLiteralDfa2_2(active0, 0x80000L, active1, 0L, active2, 0L, active3, 0x4L, active4, 0L, active5, 0L, active6, 0x1c0L, active7, 0L, active8, 0x1e0000000L, active9, 0L, active10, 0xe000000000L, active11, 0L, active12, 0L);
@@ -11852,7 +11856,7 @@ private final int jjMoveStringLiteralDfa1_2(long active0, long active1, long act
             jjmatchedKind = 281;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_2(active0, 0xfc000000L, active1, 0L, active2, 0L, active3, 0x20L, active4, 0xff9c000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x7f0000000000L, active11, 0x20000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_2(active0, 0xfc000000L, active1, 0L, active2, 0L, active3, 0x20L, active4, 0xff9c000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x7f0000000000L, active11, 0x40000000000L, active12, 0L);
       case 84:
       case 116:
          if ((active0 & 0x100000000L) != 0L)
@@ -11860,10 +11864,10 @@ private final int jjMoveStringLiteralDfa1_2(long active0, long active1, long act
             jjmatchedKind = 32;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_2(active0, 0xe00000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x18000000000000L, active6, 0x4000L, active7, 0L, active8, 0L, active9, 0x1ff800000L, active10, 0x3800000000000L, active11, 0x80000200000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_2(active0, 0xe00000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x18000000000000L, active6, 0x4000L, active7, 0L, active8, 0L, active9, 0x1ff800000L, active10, 0x3800000000000L, active11, 0x100000200000L, active12, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa2_2(active0, 0x1000000000L, active1, 0xffe0000000000000L, active2, 0x1fL, active3, 0x1c000000000L, active4, 0L, active5, 0x7e0000c00000000L, active6, 0x8000000000038000L, active7, 0x8000000000007L, active8, 0L, active9, 0x3fe00000000L, active10, 0x4000000c00000L, active11, 0x40000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_2(active0, 0x1000000000L, active1, 0xffe0000000000000L, active2, 0x1fL, active3, 0x1c000000000L, active4, 0L, active5, 0x7e0000c00000000L, active6, 0x8000000000038000L, active7, 0x8000000000007L, active8, 0L, active9, 0x3fe00000000L, active10, 0x4000000c00000L, active11, 0x80000000000L, active12, 0L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa2_2(active0, 0x2000000000L, active1, 0L, active2, 0L, active3, 0x40L, active4, 0L, active5, 0L, active6, 0x3c0000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -11876,8 +11880,8 @@ private final int jjMoveStringLiteralDfa1_2(long active0, long active1, long act
             return jjStartNfaWithStates_2(1, 51, 96);
          return jjMoveStringLiteralDfa2_2(active0, 0L, active1, 0L, active2, 0x1c0000000000020L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x3c0000000000L, active10, 0x1000000L, active11, 0L, active12, 0L);
       case 124:
-         if ((active12 & 0x8000000L) != 0L)
-            return jjStopAtPos(1, 795);
+         if ((active12 & 0x10000000L) != 0L)
+            return jjStopAtPos(1, 796);
          break;
       default :
          break;
@@ -11896,14 +11900,14 @@ private final int jjMoveStringLiteralDfa2_2(long old0, long active0, long old1,
    switch(curChar)
    {
       case 43:
-         if ((active12 & 0x80000000000L) != 0L)
-            return jjStopAtPos(2, 811);
+         if ((active12 & 0x100000000000L) != 0L)
+            return jjStopAtPos(2, 812);
          break;
       case 65:
       case 97:
          if ((active0 & 0x100L) != 0L)
             return jjStartNfaWithStates_2(2, 8, 96);
-         return jjMoveStringLiteralDfa3_2(active0, 0L, active1, 0x137feL, active2, 0x80000100000L, active3, 0x6000600000000L, active4, 0x18000000000000L, active5, 0x3000L, active6, 0xc00000000000L, active7, 0x6000000000000e7L, active8, 0x24000004L, active9, 0x7800000L, active10, 0x10000000ffcL, active11, 0x28201800c800L, active12, 0L);
+         return jjMoveStringLiteralDfa3_2(active0, 0L, active1, 0x137feL, active2, 0x80000100000L, active3, 0x6000600000000L, active4, 0x18000000000000L, active5, 0x3000L, active6, 0xc00000000000L, active7, 0x6000000000000e7L, active8, 0x24000004L, active9, 0x7800000L, active10, 0x10000000ffcL, active11, 0x50401800c800L, active12, 0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa3_2(active0, 0L, active1, 0x20000000020000L, active2, 0L, active3, 0L, active4, 0x100100000000000L, active5, 0L, active6, 0x8000000000000000L, active7, 0L, active8, 0L, active9, 0x1c07e00000000L, active10, 0x4000000L, active11, 0L, active12, 0L);
@@ -11944,7 +11948,7 @@ private final int jjMoveStringLiteralDfa2_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(2, 20, 96);
          else if ((active6 & 0x10L) != 0L)
             return jjStartNfaWithStates_2(2, 388, 96);
-         return jjMoveStringLiteralDfa3_2(active0, 0x4000010000000L, active1, 0x8000000000800L, active2, 0x400000000000000L, active3, 0x2100000800001840L, active4, 0L, active5, 0L, active6, 0x7e00000003c0040L, active7, 0L, active8, 0x1c0000080L, active9, 0x14000000000000L, active10, 0x40003e0000401000L, active11, 0x4000000001fL, active12, 0L);
+         return jjMoveStringLiteralDfa3_2(active0, 0x4000010000000L, active1, 0x8000000000800L, active2, 0x400000000000000L, active3, 0x2100000800001840L, active4, 0L, active5, 0L, active6, 0x7e00000003c0040L, active7, 0L, active8, 0x1c0000080L, active9, 0x14000000000000L, active10, 0x40003e0000401000L, active11, 0x8000000001fL, active12, 0L);
       case 70:
       case 102:
          if ((active7 & 0x200L) != 0L)
@@ -11952,14 +11956,14 @@ private final int jjMoveStringLiteralDfa2_2(long old0, long active0, long old1,
             jjmatchedKind = 457;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_2(active0, 0x4000000000L, active1, 0L, active2, 0xfe000000L, active3, 0L, active4, 0x20000000000000L, active5, 0L, active6, 0x1L, active7, 0x70000000000c00L, active8, 0L, active9, 0L, active10, 0x3800000000000L, active11, 0x100000100000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_2(active0, 0x4000000000L, active1, 0L, active2, 0xfe000000L, active3, 0L, active4, 0x20000000000000L, active5, 0L, active6, 0x1L, active7, 0x70000000000c00L, active8, 0L, active9, 0L, active10, 0x3800000000000L, active11, 0x200000100000L, active12, 0L);
       case 71:
       case 103:
          if ((active0 & 0x2000000000L) != 0L)
             return jjStartNfaWithStates_2(2, 37, 96);
          else if ((active4 & 0x200000000000L) != 0L)
             return jjStartNfaWithStates_2(2, 301, 96);
-         return jjMoveStringLiteralDfa3_2(active0, 0x138000000000L, active1, 0L, active2, 0x100000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40001ff000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_2(active0, 0x138000000000L, active1, 0L, active2, 0x100000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40001ff000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000L, active12, 0L);
       case 72:
       case 104:
          return jjMoveStringLiteralDfa3_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x8020000000000L, active6, 0x4000L, active7, 0x1800000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -11988,12 +11992,12 @@ private final int jjMoveStringLiteralDfa2_2(long old0, long active0, long old1,
          }
          else if ((active11 & 0x2000L) != 0L)
             return jjStartNfaWithStates_2(2, 717, 96);
-         return jjMoveStringLiteralDfa3_2(active0, 0x60000000006000L, active1, 0x3fc0000L, active2, 0x200000000L, active3, 0x200004008280000L, active4, 0L, active5, 0x1e0040400600000L, active6, 0x20L, active7, 0x70000600000L, active8, 0xfffffffc00000300L, active9, 0x3fffffL, active10, 0x38000000000000L, active11, 0x1504000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_2(active0, 0x60000000006000L, active1, 0x3fc0000L, active2, 0x200000000L, active3, 0x200004008280000L, active4, 0L, active5, 0x1e0040400600000L, active6, 0x20L, active7, 0x70000600000L, active8, 0xfffffffc00000300L, active9, 0x3fffffL, active10, 0x38000000000000L, active11, 0x2904000000L, active12, 0L);
       case 77:
       case 109:
          if ((active9 & 0x10000000000L) != 0L)
             return jjStartNfaWithStates_2(2, 616, 96);
-         return jjMoveStringLiteralDfa3_2(active0, 0x400L, active1, 0x4000003c000000L, active2, 0x1000000000000L, active3, 0L, active4, 0x800000000000003L, active5, 0x600003800004000L, active6, 0L, active7, 0L, active8, 0x8c00000L, active9, 0x7fe2040000000000L, active10, 0x800000L, active11, 0x10000040000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_2(active0, 0x400L, active1, 0x4000003c000000L, active2, 0x1000000000000L, active3, 0L, active4, 0x800000000000003L, active5, 0x600003800004000L, active6, 0L, active7, 0L, active8, 0x8c00000L, active9, 0x7fe2040000000000L, active10, 0x800000L, active11, 0x20000040000L, active12, 0L);
       case 78:
       case 110:
          if ((active5 & 0x800000L) != 0L)
@@ -12001,7 +12005,7 @@ private final int jjMoveStringLiteralDfa2_2(long old0, long active0, long old1,
             jjmatchedKind = 343;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_2(active0, 0x200000000000L, active1, 0x3fffc0000001L, active2, 0x1c0000400000000L, active3, 0x40000c8000400000L, active4, 0x40400000000800L, active5, 0x8041c7000000L, active6, 0L, active7, 0x8000000000018L, active8, 0x100400L, active9, 0x8000020000000000L, active10, 0xc00000000L, active11, 0x4000010040L, active12, 0L);
+         return jjMoveStringLiteralDfa3_2(active0, 0x200000000000L, active1, 0x3fffc0000001L, active2, 0x1c0000400000000L, active3, 0x40000c8000400000L, active4, 0x40400000000800L, active5, 0x8041c7000000L, active6, 0L, active7, 0x8000000000018L, active8, 0x100400L, active9, 0x8000020000000000L, active10, 0xc00000000L, active11, 0x8000010040L, active12, 0L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa3_2(active0, 0x1800204000000L, active1, 0x1000000000c000L, active2, 0x20000000000000L, active3, 0x78502006000004L, active4, 0xff9c001000L, active5, 0L, active6, 0x4000000000000000L, active7, 0xe000000000000000L, active8, 0x200001L, active9, 0L, active10, 0L, active11, 0x200000L, active12, 0L);
@@ -12032,7 +12036,7 @@ private final int jjMoveStringLiteralDfa2_2(long old0, long active0, long old1,
             jjmatchedKind = 422;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_2(active0, 0x80040001e00000L, active1, 0xff80c00000000000L, active2, 0x300000001fL, active3, 0xe1800010L, active4, 0x800000000000L, active5, 0x3000200008000L, active6, 0x21f80ff800000L, active7, 0L, active8, 0xe002L, active9, 0xe0400000L, active10, 0x3fc0000000000000L, active11, 0x8080000400L, active12, 0L);
+         return jjMoveStringLiteralDfa3_2(active0, 0x80040001e00000L, active1, 0xff80c00000000000L, active2, 0x300000001fL, active3, 0xe1800010L, active4, 0x800000000000L, active5, 0x3000200008000L, active6, 0x21f80ff800000L, active7, 0L, active8, 0xe002L, active9, 0xe0400000L, active10, 0x3fc0000000000000L, active11, 0x10080000400L, active12, 0L);
       case 83:
       case 115:
          if ((active0 & 0x10L) != 0L)
@@ -12040,7 +12044,7 @@ private final int jjMoveStringLiteralDfa2_2(long old0, long active0, long old1,
             jjmatchedKind = 4;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_2(active0, 0xf00000060000060L, active1, 0L, active2, 0x800f3c000000000L, active3, 0x10000000000L, active4, 0x300000003c000L, active5, 0x80000070000L, active6, 0xc000f00000000L, active7, 0x3e000000L, active8, 0x30000L, active9, 0x380000000000L, active10, 0x9002000000L, active11, 0x800000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_2(active0, 0xf00000060000060L, active1, 0L, active2, 0x800f3c000000000L, active3, 0x10000000000L, active4, 0x300000003c000L, active5, 0x80000070000L, active6, 0xc000f00000000L, active7, 0x3e000000L, active8, 0x30000L, active9, 0x380000000000L, active10, 0x9002000000L, active11, 0x1200000000L, active12, 0L);
       case 84:
       case 116:
          if ((active0 & 0x400000000000L) != 0L)
@@ -12066,7 +12070,7 @@ private final int jjMoveStringLiteralDfa2_2(long old0, long active0, long old1,
             jjmatchedKind = 530;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_2(active0, 0x3002081c00008880L, active1, 0L, active2, 0x4000000ffc0L, active3, 0x1000000170000L, active4, 0x4000000f80000L, active5, 0x60000180000803f0L, active6, 0x3000030180L, active7, 0x80001fc0000000L, active8, 0x80000L, active9, 0L, active10, 0L, active11, 0x800002000380L, active12, 0L);
+         return jjMoveStringLiteralDfa3_2(active0, 0x3002081c00008880L, active1, 0L, active2, 0x4000000ffc0L, active3, 0x1000000170000L, active4, 0x4000000f80000L, active5, 0x60000180000803f0L, active6, 0x3000030180L, active7, 0x80001fc0000000L, active8, 0x80000L, active9, 0L, active10, 0L, active11, 0x1000002000380L, active12, 0L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa3_2(active0, 0L, active1, 0x1000000000000L, active2, 0x4000000000000L, active3, 0x1800000100000008L, active4, 0L, active5, 0L, active6, 0L, active7, 0x780000000000L, active8, 0x10000000L, active9, 0x8000000000000L, active10, 0x180000L, active11, 0L, active12, 0L);
@@ -12092,7 +12096,7 @@ private final int jjMoveStringLiteralDfa2_2(long old0, long active0, long old1,
             jjmatchedKind = 330;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000800L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000800L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L, active12, 0L);
       case 89:
       case 121:
          if ((active0 & 0x40000L) != 0L)
@@ -12109,7 +12113,7 @@ private final int jjMoveStringLiteralDfa2_2(long old0, long active0, long old1,
             jjmatchedKind = 297;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_2(active0, 0x80000000L, active1, 0L, active2, 0xe0000L, active3, 0L, active4, 0xc0000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x100000000L, active10, 0x200000L, active11, 0x20000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_2(active0, 0x80000000L, active1, 0L, active2, 0xe0000L, active3, 0L, active4, 0xc0000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x100000000L, active10, 0x200000L, active11, 0x40000000000L, active12, 0L);
       case 90:
       case 122:
          return jjMoveStringLiteralDfa3_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -12140,7 +12144,7 @@ private final int jjMoveStringLiteralDfa3_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(3, 687, 96);
          break;
       case 95:
-         return jjMoveStringLiteralDfa4_2(active0, 0L, active1, 0L, active2, 0L, active3, 0x3L, active4, 0xc0000000000L, active5, 0x8000000000000L, active6, 0L, active7, 0x3000000000000L, active8, 0xffffffe000000000L, active9, 0x3fffffL, active10, 0xc0000000200002L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa4_2(active0, 0L, active1, 0L, active2, 0L, active3, 0x3L, active4, 0xc0000000000L, active5, 0x8000000000000L, active6, 0L, active7, 0x3000000000000L, active8, 0xffffffe000000000L, active9, 0x3fffffL, active10, 0xc0000000200002L, active11, 0x800000000000L);
       case 65:
       case 97:
          if ((active2 & 0x40L) != 0L)
@@ -12150,7 +12154,7 @@ private final int jjMoveStringLiteralDfa3_2(long old0, long active0, long old1,
          }
          else if ((active4 & 0x20000000L) != 0L)
             return jjStartNfaWithStates_2(3, 285, 96);
-         return jjMoveStringLiteralDfa4_2(active0, 0x3004200001e10000L, active1, 0xe000000000000L, active2, 0x1c1100006400080L, active3, 0x2400028L, active4, 0xe000000000000000L, active5, 0x20000000001L, active6, 0x3f800000L, active7, 0x200000L, active8, 0x800L, active9, 0L, active10, 0x2400001000L, active11, 0x800082000000L);
+         return jjMoveStringLiteralDfa4_2(active0, 0x3004200001e10000L, active1, 0xe000000000000L, active2, 0x1c1100006400080L, active3, 0x2400028L, active4, 0xe000000000000000L, active5, 0x20000000001L, active6, 0x3f800000L, active7, 0x200000L, active8, 0x800L, active9, 0L, active10, 0x2400001000L, active11, 0x1000082000000L);
       case 66:
       case 98:
          if ((active0 & 0x800000000000L) != 0L)
@@ -12244,7 +12248,7 @@ private final int jjMoveStringLiteralDfa3_2(long old0, long active0, long old1,
          break;
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa4_2(active0, 0L, active1, 0L, active2, 0x80000000000L, active3, 0L, active4, 0x40c00000000000L, active5, 0x8000L, active6, 0L, active7, 0x8L, active8, 0L, active9, 0L, active10, 0x1000001e000L, active11, 0x200000000L);
+         return jjMoveStringLiteralDfa4_2(active0, 0L, active1, 0L, active2, 0x80000000000L, active3, 0L, active4, 0x40c00000000000L, active5, 0x8000L, active6, 0L, active7, 0x8L, active8, 0L, active9, 0L, active10, 0x1000001e000L, active11, 0x400000000L);
       case 72:
       case 104:
          if ((active0 & 0x2000000000000L) != 0L)
@@ -12258,6 +12262,8 @@ private final int jjMoveStringLiteralDfa3_2(long old0, long active0, long old1,
             jjmatchedKind = 711;
             jjmatchedPos = 3;
          }
+         else if ((active11 & 0x200000000L) != 0L)
+            return jjStartNfaWithStates_2(3, 737, 96);
          return jjMoveStringLiteralDfa4_2(active0, 0x1000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x80000L, active6, 0L, active7, 0x4000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x1800300L);
       case 73:
       case 105:
@@ -12297,9 +12303,9 @@ private final int jjMoveStringLiteralDfa3_2(long old0, long active0, long old1,
          }
          else if ((active7 & 0x80L) != 0L)
             return jjStartNfaWithStates_2(3, 455, 96);
-         else if ((active11 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_2(3, 740, 96);
-         return jjMoveStringLiteralDfa4_2(active0, 0x8041000000080000L, active1, 0xfd0000L, active2, 0x1100020L, active3, 0x8008600L, active4, 0x10000064L, active5, 0x1d0000000600000L, active6, 0x8000000000000000L, active7, 0x600060001000001L, active8, 0x4000000L, active9, 0x1c00100000000L, active10, 0L, active11, 0x200000000000L);
+         else if ((active11 & 0x2000000000L) != 0L)
+            return jjStartNfaWithStates_2(3, 741, 96);
+         return jjMoveStringLiteralDfa4_2(active0, 0x8041000000080000L, active1, 0xfd0000L, active2, 0x1100020L, active3, 0x8008600L, active4, 0x10000064L, active5, 0x1d0000000600000L, active6, 0x8000000000000000L, active7, 0x600060001000001L, active8, 0x4000000L, active9, 0x1c00100000000L, active10, 0L, active11, 0x400000000000L);
       case 77:
       case 109:
          if ((active3 & 0x2000000000L) != 0L)
@@ -12330,23 +12336,23 @@ private final int jjMoveStringLiteralDfa3_2(long old0, long active0, long old1,
             jjmatchedKind = 706;
             jjmatchedPos = 3;
          }
-         else if ((active11 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_2(3, 741, 96);
-         return jjMoveStringLiteralDfa4_2(active0, 0x40010000000L, active1, 0x1000e00000000L, active2, 0L, active3, 0x2006000100000000L, active4, 0xff00000000L, active5, 0L, active6, 0L, active7, 0x8000000000000L, active8, 0L, active9, 0L, active10, 0x8000400100100ff8L, active11, 0x20000000008L);
+         else if ((active11 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_2(3, 742, 96);
+         return jjMoveStringLiteralDfa4_2(active0, 0x40010000000L, active1, 0x1000e00000000L, active2, 0L, active3, 0x2006000100000000L, active4, 0xff00000000L, active5, 0L, active6, 0L, active7, 0x8000000000000L, active8, 0L, active9, 0L, active10, 0x8000400100100ff8L, active11, 0x40000000008L);
       case 79:
       case 111:
          if ((active3 & 0x1000000000000L) != 0L)
             return jjStartNfaWithStates_2(3, 240, 96);
          else if ((active4 & 0x800000L) != 0L)
             return jjStartNfaWithStates_2(3, 279, 96);
-         return jjMoveStringLiteralDfa4_2(active0, 0x4000006040L, active1, 0x20000L, active2, 0x2000000000060000L, active3, 0x4000000004000010L, active4, 0x1000008L, active5, 0x44000000000L, active6, 0x1000200000000000L, active7, 0x2000000000L, active8, 0x1aL, active9, 0L, active10, 0x5c000000L, active11, 0x400000000L);
+         return jjMoveStringLiteralDfa4_2(active0, 0x4000006040L, active1, 0x20000L, active2, 0x2000000000060000L, active3, 0x4000000004000010L, active4, 0x1000008L, active5, 0x44000000000L, active6, 0x1000200000000000L, active7, 0x2000000000L, active8, 0x1aL, active9, 0L, active10, 0x5c000000L, active11, 0x800000000L);
       case 80:
       case 112:
          if ((active2 & 0x20000000000000L) != 0L)
             return jjStartNfaWithStates_2(3, 181, 96);
          else if ((active8 & 0x2000000L) != 0L)
             return jjStartNfaWithStates_2(3, 537, 96);
-         return jjMoveStringLiteralDfa4_2(active0, 0L, active1, 0L, active2, 0x400000000000L, active3, 0L, active4, 0L, active5, 0x800000000L, active6, 0x100000000020000L, active7, 0xe000000004000000L, active8, 0x800001L, active9, 0x2000000000000L, active10, 0L, active11, 0x10018040800L);
+         return jjMoveStringLiteralDfa4_2(active0, 0L, active1, 0L, active2, 0x400000000000L, active3, 0L, active4, 0L, active5, 0x800000000L, active6, 0x100000000020000L, active7, 0xe000000004000000L, active8, 0x800001L, active9, 0x2000000000000L, active10, 0L, active11, 0x20018040800L);
       case 81:
       case 113:
          return jjMoveStringLiteralDfa4_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x80000000L, active11, 0L);
@@ -12382,7 +12388,7 @@ private final int jjMoveStringLiteralDfa3_2(long old0, long active0, long old1,
             jjmatchedKind = 718;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_2(active0, 0xc00000000L, active1, 0xff808000000007f8L, active2, 0x100000007L, active3, 0x1100000000040040L, active4, 0x100000000000080L, active5, 0x100000L, active6, 0x380000L, active7, 0x1ff006L, active8, 0x10000004L, active9, 0x8000000800000L, active10, 0x3c0000000000L, active11, 0x140020008010L);
+         return jjMoveStringLiteralDfa4_2(active0, 0xc00000000L, active1, 0xff808000000007f8L, active2, 0x100000007L, active3, 0x1100000000040040L, active4, 0x100000000000080L, active5, 0x100000L, active6, 0x380000L, active7, 0x1ff006L, active8, 0x10000004L, active9, 0x8000000800000L, active10, 0x3c0000000000L, active11, 0x280020008010L);
       case 83:
       case 115:
          if ((active2 & 0x80000L) != 0L)
@@ -12393,7 +12399,7 @@ private final int jjMoveStringLiteralDfa3_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(3, 531, 96);
          else if ((active9 & 0x10000000000000L) != 0L)
             return jjStartNfaWithStates_2(3, 628, 96);
-         return jjMoveStringLiteralDfa4_2(active0, 0L, active1, 0x1003f00000b000L, active2, 0x400000018L, active3, 0x1882000L, active4, 0L, active5, 0x73000L, active6, 0x200000600000001L, active7, 0L, active8, 0x800030400L, active9, 0x7800000000L, active10, 0x3000000000400000L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa4_2(active0, 0L, active1, 0x1003f00000b000L, active2, 0x400000018L, active3, 0x1882000L, active4, 0L, active5, 0x73000L, active6, 0x200000600000001L, active7, 0L, active8, 0x800030400L, active9, 0x7800000000L, active10, 0x3000000000400000L, active11, 0x1000000000L);
       case 84:
       case 116:
          if ((active0 & 0x800000000000000L) != 0L)
@@ -12413,7 +12419,7 @@ private final int jjMoveStringLiteralDfa3_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(3, 419, 96);
          else if ((active9 & 0x400000L) != 0L)
             return jjStartNfaWithStates_2(3, 598, 96);
-         return jjMoveStringLiteralDfa4_2(active0, 0L, active1, 0x1c0000000001L, active2, 0x1000800800000000L, active3, 0x80200000L, active4, 0x2000000030600L, active5, 0x80580000000L, active6, 0x20020c0000000L, active7, 0x780018000000L, active8, 0x20L, active9, 0x380007000000L, active10, 0L, active11, 0x84000401020L);
+         return jjMoveStringLiteralDfa4_2(active0, 0L, active1, 0x1c0000000001L, active2, 0x1000800800000000L, active3, 0x80200000L, active4, 0x2000000030600L, active5, 0x80580000000L, active6, 0x20020c0000000L, active7, 0x780018000000L, active8, 0x20L, active9, 0x380007000000L, active10, 0L, active11, 0x108000401020L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa4_2(active0, 0L, active1, 0x3000000L, active2, 0L, active3, 0x78000000000000L, active4, 0x3000L, active5, 0x1000010023000000L, active6, 0L, active7, 0x80001fe0000100L, active8, 0x101040L, active9, 0x80000000L, active10, 0x38000000000000L, active11, 0x4000000L);
@@ -12421,7 +12427,7 @@ private final int jjMoveStringLiteralDfa3_2(long old0, long active0, long old1,
       case 118:
          if ((active6 & 0x400000000000000L) != 0L)
             return jjStartNfaWithStates_2(3, 442, 96);
-         return jjMoveStringLiteralDfa4_2(active0, 0L, active1, 0x200000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x4000800L, active6, 0x2000000000000000L, active7, 0L, active8, 0xc000L, active9, 0L, active10, 0L, active11, 0x8000000000L);
+         return jjMoveStringLiteralDfa4_2(active0, 0L, active1, 0x200000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x4000800L, active6, 0x2000000000000000L, active7, 0L, active8, 0xc000L, active9, 0L, active10, 0L, active11, 0x10000000000L);
       case 87:
       case 119:
          if ((active8 & 0x200000L) != 0L)
@@ -12470,9 +12476,9 @@ private final int jjMoveStringLiteralDfa4_2(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa5_2(active0, 0L, active1, 0L, active2, 0x80L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x20000000000L, active8, 0x3e000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 67:
       case 99:
-         if ((active11 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_2(4, 745, 96);
-         return jjMoveStringLiteralDfa5_2(active0, 0x2000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x100L, active5, 0x800000000000000L, active6, 0L, active7, 0x1000000000000L, active8, 0xc0010000104L, active9, 0x80000000L, active10, 0x300000L, active11, 0x400000000000L);
+         if ((active11 & 0x40000000000L) != 0L)
+            return jjStartNfaWithStates_2(4, 746, 96);
+         return jjMoveStringLiteralDfa5_2(active0, 0x2000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x100L, active5, 0x800000000000000L, active6, 0L, active7, 0x1000000000000L, active8, 0xc0010000104L, active9, 0x80000000L, active10, 0x300000L, active11, 0x800000000000L);
       case 68:
       case 100:
          if ((active3 & 0x100000000L) != 0L)
@@ -12533,7 +12539,7 @@ private final int jjMoveStringLiteralDfa4_2(long old0, long active0, long old1,
             jjmatchedKind = 716;
             jjmatchedPos = 4;
          }
-         return jjMoveStringLiteralDfa5_2(active0, 0x41080000000000L, active1, 0xff80a00e00810000L, active2, 0x8400000500000007L, active3, 0x100400200000L, active4, 0x8000084L, active5, 0x200000000404000L, active6, 0x426007a000000001L, active7, 0xc000000004000000L, active8, 0xd001L, active9, 0x1bc881a000000L, active10, 0x8030000000000000L, active11, 0x100005c00008L);
+         return jjMoveStringLiteralDfa5_2(active0, 0x41080000000000L, active1, 0xff80a00e00810000L, active2, 0x8400000500000007L, active3, 0x100400200000L, active4, 0x8000084L, active5, 0x200000000404000L, active6, 0x426007a000000001L, active7, 0xc000000004000000L, active8, 0xd001L, active9, 0x1bc881a000000L, active10, 0x8030000000000000L, active11, 0x200005c00008L);
       case 70:
       case 102:
          if ((active2 & 0x1000000000L) != 0L)
@@ -12543,7 +12549,7 @@ private final int jjMoveStringLiteralDfa4_2(long old0, long active0, long old1,
       case 103:
          if ((active10 & 0x400000000000L) != 0L)
             return jjStartNfaWithStates_2(4, 686, 96);
-         return jjMoveStringLiteralDfa5_2(active0, 0x40000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x80000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x100001e000L, active11, 0x400000000L);
+         return jjMoveStringLiteralDfa5_2(active0, 0x40000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x80000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x100001e000L, active11, 0x800000000L);
       case 72:
       case 104:
          if ((active2 & 0x800000000L) != 0L)
@@ -12565,7 +12571,7 @@ private final int jjMoveStringLiteralDfa4_2(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa5_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000003e0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x200000000000000L, active11, 0x20L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa5_2(active0, 0x8080000e00000000L, active1, 0x1001f0000000L, active2, 0x1800000000000L, active3, 0x40000000L, active4, 0x10000000000600L, active5, 0x80080400200000L, active6, 0xa0824002c0000000L, active7, 0x8780000000001L, active8, 0x3fff0001c0030420L, active9, 0x8000000004000000L, active10, 0x3900000000000000L, active11, 0x8c200200100L);
+         return jjMoveStringLiteralDfa5_2(active0, 0x8080000e00000000L, active1, 0x1001f0000000L, active2, 0x1800000000000L, active3, 0x40000000L, active4, 0x10000000000600L, active5, 0x80080400200000L, active6, 0xa0824002c0000000L, active7, 0x8780000000001L, active8, 0x3fff0001c0030420L, active9, 0x8000000004000000L, active10, 0x3900000000000000L, active11, 0x118400200100L);
       case 75:
       case 107:
          if ((active1 & 0x800L) != 0L)
@@ -12586,8 +12592,8 @@ private final int jjMoveStringLiteralDfa4_2(long old0, long active0, long old1,
             jjmatchedKind = 317;
             jjmatchedPos = 4;
          }
-         else if ((active11 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_2(4, 751, 96);
+         else if ((active11 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_2(4, 752, 96);
          return jjMoveStringLiteralDfa5_2(active0, 0x3000000000000040L, active1, 0L, active2, 0x4100000100000L, active3, 0x8L, active4, 0xc000000000000000L, active5, 0x20000000L, active6, 0x180000L, active7, 0x20000000L, active8, 0xc000000004c00002L, active9, 0x200000001L, active10, 0x800006L, active11, 0x80040000L);
       case 77:
       case 109:
@@ -12705,7 +12711,7 @@ private final int jjMoveStringLiteralDfa4_2(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa5_2(active0, 0L, active1, 0x803f000000000L, active2, 0x20000f800L, active3, 0x2004008001002000L, active4, 0x40080000000000L, active5, 0x6000000003000001L, active6, 0xc000400000000L, active7, 0x200006L, active8, 0x800000000L, active9, 0x70000fff80L, active10, 0x2000000000L, active11, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa5_2(active0, 0L, active1, 0x1L, active2, 0x6000000L, active3, 0x1600L, active4, 0x400000000060L, active5, 0x3000L, active6, 0x100000020000L, active7, 0x40000000000L, active8, 0L, active9, 0x400000000L, active10, 0x84000000L, active11, 0x10000080000L);
+         return jjMoveStringLiteralDfa5_2(active0, 0L, active1, 0x1L, active2, 0x6000000L, active3, 0x1600L, active4, 0x400000000060L, active5, 0x3000L, active6, 0x100000020000L, active7, 0x40000000000L, active8, 0L, active9, 0x400000000L, active10, 0x84000000L, active11, 0x20000080000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa5_2(active0, 0L, active1, 0L, active2, 0x2000000000L, active3, 0L, active4, 0L, active5, 0x8000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x300000L, active10, 0x200000000L, active11, 0L);
@@ -12713,7 +12719,7 @@ private final int jjMoveStringLiteralDfa4_2(long old0, long active0, long old1,
       case 119:
          if ((active0 & 0x4000L) != 0L)
             return jjStartNfaWithStates_2(4, 14, 96);
-         return jjMoveStringLiteralDfa5_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa5_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x1000000000L);
       case 88:
       case 120:
          if ((active11 & 0x40000000L) != 0L)
@@ -12732,9 +12738,9 @@ private final int jjMoveStringLiteralDfa4_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(4, 188, 96);
          else if ((active3 & 0x40L) != 0L)
             return jjStartNfaWithStates_2(4, 198, 96);
-         else if ((active11 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_2(4, 746, 96);
-         return jjMoveStringLiteralDfa5_2(active0, 0x1c10000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200020000000L);
+         else if ((active11 & 0x80000000000L) != 0L)
+            return jjStartNfaWithStates_2(4, 747, 96);
+         return jjMoveStringLiteralDfa5_2(active0, 0x1c10000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400020000000L);
       case 90:
       case 122:
          return jjMoveStringLiteralDfa5_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x6000000000000000L, active10, 0L, active11, 0L);
@@ -12778,7 +12784,7 @@ private final int jjMoveStringLiteralDfa5_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(5, 447, 96);
          else if ((active9 & 0x4000000L) != 0L)
             return jjStartNfaWithStates_2(5, 602, 96);
-         return jjMoveStringLiteralDfa6_2(active0, 0L, active1, 0xe008007f0L, active2, 0L, active3, 0x40000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x10000005004000L, active8, 0x400000000L, active9, 0x6L, active10, 0L, active11, 0x8000200000L);
+         return jjMoveStringLiteralDfa6_2(active0, 0L, active1, 0xe008007f0L, active2, 0L, active3, 0x40000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x10000005004000L, active8, 0x400000000L, active9, 0x6L, active10, 0L, active11, 0x10000200000L);
       case 68:
       case 100:
          if ((active0 & 0x40000000000000L) != 0L)
@@ -12847,14 +12853,14 @@ private final int jjMoveStringLiteralDfa5_2(long old0, long active0, long old1,
       case 103:
          if ((active3 & 0x80000000000000L) != 0L)
             return jjStartNfaWithStates_2(5, 247, 96);
-         return jjMoveStringLiteralDfa6_2(active0, 0L, active1, 0L, active2, 0L, active3, 0x40000000L, active4, 0L, active5, 0x70000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x40000000L, active10, 0L, active11, 0x400000000L);
+         return jjMoveStringLiteralDfa6_2(active0, 0L, active1, 0L, active2, 0L, active3, 0x40000000L, active4, 0L, active5, 0x70000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x40000000L, active10, 0L, active11, 0x800000000L);
       case 72:
       case 104:
          if ((active4 & 0x40000000000000L) != 0L)
             return jjStartNfaWithStates_2(5, 310, 96);
          else if ((active8 & 0x4L) != 0L)
             return jjStartNfaWithStates_2(5, 514, 96);
-         return jjMoveStringLiteralDfa6_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000L, active7, 0L, active8, 0x40000000000L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa6_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000L, active7, 0L, active8, 0x40000000000L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 73:
       case 105:
          return jjMoveStringLiteralDfa6_2(active0, 0x10000000L, active1, 0xc0000001000L, active2, 0x21c003800000f800L, active3, 0x2020008000008000L, active4, 0x3L, active5, 0x400000010000000L, active6, 0xc000000200800L, active7, 0x10208000L, active8, 0xe004000040L, active9, 0x1000000380L, active10, 0x4L, active11, 0x100000L);
@@ -12905,10 +12911,10 @@ private final int jjMoveStringLiteralDfa5_2(long old0, long active0, long old1,
          }
          else if ((active11 & 0x100L) != 0L)
             return jjStartNfaWithStates_2(5, 712, 96);
-         return jjMoveStringLiteralDfa6_2(active0, 0x8080000040000000L, active1, 0xff8010000e000000L, active2, 0x400a00000000007L, active3, 0x20000L, active4, 0x10000000030000L, active5, 0x88000400000L, active6, 0x478200000100L, active7, 0x8781f80000000L, active8, 0x3fff000000001000L, active9, 0x8000000000000000L, active10, 0xd00001004000000L, active11, 0x4200000000L);
+         return jjMoveStringLiteralDfa6_2(active0, 0x8080000040000000L, active1, 0xff8010000e000000L, active2, 0x400a00000000007L, active3, 0x20000L, active4, 0x10000000030000L, active5, 0x88000400000L, active6, 0x478200000100L, active7, 0x8781f80000000L, active8, 0x3fff000000001000L, active9, 0x8000000000000000L, active10, 0xd00001004000000L, active11, 0x8400000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa6_2(active0, 0x3000000000000000L, active1, 0L, active2, 0x80000100000L, active3, 0L, active4, 0x1800000000L, active5, 0x1L, active6, 0x2000000000000L, active7, 0x161000000000000L, active8, 0xc000420000030020L, active9, 0x6000000000000001L, active10, 0x3040000200000000L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa6_2(active0, 0x3000000000000000L, active1, 0L, active2, 0x80000100000L, active3, 0L, active4, 0x1800000000L, active5, 0x1L, active6, 0x2000000000000L, active7, 0x161000000000000L, active8, 0xc000420000030020L, active9, 0x6000000000000001L, active10, 0x3040000200000000L, active11, 0x1000000000L);
       case 80:
       case 112:
          if ((active7 & 0x40000000000L) != 0L)
@@ -12956,7 +12962,7 @@ private final int jjMoveStringLiteralDfa5_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(5, 398, 96);
          else if ((active10 & 0x10000000000000L) != 0L)
             return jjStartNfaWithStates_2(5, 692, 96);
-         return jjMoveStringLiteralDfa6_2(active0, 0L, active1, 0x800000010000L, active2, 0L, active3, 0x200000000L, active4, 0x4000304000L, active5, 0x400300000L, active6, 0x80000000000000L, active7, 0x5e0100L, active8, 0L, active9, 0x10000000ffc00L, active10, 0x8000000000000000L, active11, 0x180000000000L);
+         return jjMoveStringLiteralDfa6_2(active0, 0L, active1, 0x800000010000L, active2, 0L, active3, 0x200000000L, active4, 0x4000304000L, active5, 0x400300000L, active6, 0x80000000000000L, active7, 0x5e0100L, active8, 0L, active9, 0x10000000ffc00L, active10, 0x8000000000000000L, active11, 0x300000000000L);
       case 84:
       case 116:
          if ((active0 & 0x20L) != 0L)
@@ -12995,7 +13001,7 @@ private final int jjMoveStringLiteralDfa5_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(5, 675, 96);
          else if ((active10 & 0x8000000000L) != 0L)
             return jjStartNfaWithStates_2(5, 679, 96);
-         return jjMoveStringLiteralDfa6_2(active0, 0x4000020000000L, active1, 0x1e07c0000L, active2, 0x400000000400L, active3, 0x100000001100L, active4, 0xc000000010000000L, active5, 0L, active6, 0x100080000000L, active7, 0x800000L, active8, 0x400L, active9, 0x1f80040080000000L, active10, 0L, active11, 0x10000000000L);
+         return jjMoveStringLiteralDfa6_2(active0, 0x4000020000000L, active1, 0x1e07c0000L, active2, 0x400000000400L, active3, 0x100000001100L, active4, 0xc000000010000000L, active5, 0L, active6, 0x100080000000L, active7, 0x800000L, active8, 0x400L, active9, 0x1f80040080000000L, active10, 0L, active11, 0x20000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa6_2(active0, 0x40000000040L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x2000000000000L, active8, 0L, active9, 0x8L, active10, 0L, active11, 0x200L);
@@ -13025,7 +13031,7 @@ private final int jjMoveStringLiteralDfa5_2(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa6_2(active0, 0L, active1, 0L, active2, 0x40000L, active3, 0L, active4, 0x80000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 90:
       case 122:
-         return jjMoveStringLiteralDfa6_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200000000000L);
+         return jjMoveStringLiteralDfa6_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
       default :
          break;
    }
@@ -13050,7 +13056,7 @@ private final int jjMoveStringLiteralDfa6_2(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa7_2(active0, 0L, active1, 0x2000000L, active2, 0x10L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1000000000000000L, active8, 0x8000L, active9, 0x300058000000L, active10, 0L, active11, 0x100000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa7_2(active0, 0x80000000400000L, active1, 0x1f000000000L, active2, 0x8000000L, active3, 0x20001L, active4, 0x2008000400003L, active5, 0x8000000000L, active6, 0L, active7, 0x90000000800000L, active8, 0x40000000000L, active9, 0x1f0b000000000070L, active10, 0x100000000000e00L, active11, 0x400010000000L);
+         return jjMoveStringLiteralDfa7_2(active0, 0x80000000400000L, active1, 0x1f000000000L, active2, 0x8000000L, active3, 0x20001L, active4, 0x2008000400003L, active5, 0x8000000000L, active6, 0L, active7, 0x90000000800000L, active8, 0x40000000000L, active9, 0x1f0b000000000070L, active10, 0x100000000000e00L, active11, 0x800010000000L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa7_2(active0, 0L, active1, 0L, active2, 0x8000000000L, active3, 0L, active4, 0x1800000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x20L);
@@ -13114,12 +13120,12 @@ private final int jjMoveStringLiteralDfa6_2(long old0, long active0, long old1,
          }
          else if ((active10 & 0x2000000L) != 0L)
             return jjStartNfaWithStates_2(6, 665, 96);
-         else if ((active11 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_2(6, 743, 96);
          else if ((active11 & 0x10000000000L) != 0L)
             return jjStartNfaWithStates_2(6, 744, 96);
-         else if ((active11 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_2(6, 749, 96);
+         else if ((active11 & 0x20000000000L) != 0L)
+            return jjStartNfaWithStates_2(6, 745, 96);
+         else if ((active11 & 0x400000000000L) != 0L)
+            return jjStartNfaWithStates_2(6, 750, 96);
          return jjMoveStringLiteralDfa7_2(active0, 0x200000000000000L, active1, 0x8L, active2, 0x8000000010060000L, active3, 0x200000000L, active4, 0x400000000300084L, active5, 0x1000000410372000L, active6, 0x2020000000000000L, active7, 0x700780000000L, active8, 0x400000000L, active9, 0x2000000L, active10, 0x3c1000000000L, active11, 0x8a000008L);
       case 70:
       case 102:
@@ -13145,19 +13151,19 @@ private final int jjMoveStringLiteralDfa6_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(6, 499, 96);
          else if ((active10 & 0x800000000000000L) != 0L)
             return jjStartNfaWithStates_2(6, 699, 96);
-         else if ((active11 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_2(6, 737, 96);
+         else if ((active11 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_2(6, 738, 96);
          return jjMoveStringLiteralDfa7_2(active0, 0x2000000000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x400000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0x2000000000L, active9, 0L, active10, 0L, active11, 0x800000L);
       case 72:
       case 104:
          if ((active0 & 0x4000000000000L) != 0L)
             return jjStartNfaWithStates_2(6, 50, 96);
-         else if ((active11 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_2(6, 748, 96);
+         else if ((active11 & 0x200000000000L) != 0L)
+            return jjStartNfaWithStates_2(6, 749, 96);
          return jjMoveStringLiteralDfa7_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x2L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa7_2(active0, 0x1020000000L, active1, 0x400001c0780000L, active2, 0x40000000200L, active3, 0x8000500L, active4, 0xc000000010004040L, active5, 0x3000000000000L, active6, 0xc0000080000000L, active7, 0x100000800000100L, active8, 0x1c0002400L, active9, 0x400060000ffc00L, active10, 0x18000000L, active11, 0x400200000L);
+         return jjMoveStringLiteralDfa7_2(active0, 0x1020000000L, active1, 0x400001c0780000L, active2, 0x40000000200L, active3, 0x8000500L, active4, 0xc000000010004040L, active5, 0x3000000000000L, active6, 0xc0000080000000L, active7, 0x100000800000100L, active8, 0x1c0002400L, active9, 0x400060000ffc00L, active10, 0x18000000L, active11, 0x800200000L);
       case 76:
       case 108:
          if ((active2 & 0x800000L) != 0L)
@@ -13251,7 +13257,7 @@ private final int jjMoveStringLiteralDfa6_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(6, 697, 96);
          else if ((active11 & 0x800L) != 0L)
             return jjStartNfaWithStates_2(6, 715, 96);
-         return jjMoveStringLiteralDfa7_2(active0, 0L, active1, 0L, active2, 0x400000400L, active3, 0x100400000002L, active4, 0x300000000L, active5, 0x200L, active6, 0x400000000L, active7, 0x40000000000004L, active8, 0L, active9, 0x80040000300000L, active10, 0x5c000L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa7_2(active0, 0L, active1, 0L, active2, 0x400000400L, active3, 0x100400000002L, active4, 0x300000000L, active5, 0x200L, active6, 0x400000000L, active7, 0x40000000000004L, active8, 0L, active9, 0x80040000300000L, active10, 0x5c000L, active11, 0x1000000000L);
       case 83:
       case 115:
          if ((active5 & 0x40L) != 0L)
@@ -13311,10 +13317,10 @@ private final int jjMoveStringLiteralDfa6_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(6, 698, 96);
          else if ((active11 & 0x200L) != 0L)
             return jjStartNfaWithStates_2(6, 713, 96);
-         return jjMoveStringLiteralDfa7_2(active0, 0x90002040L, active1, 0xff00000c200007f0L, active2, 0x4000007L, active3, 0x2000080000000000L, active4, 0x20100L, active5, 0L, active6, 0x7003f800000L, active7, 0L, active8, 0x3fff100800000840L, active9, 0x1400000000L, active10, 0x100000L, active11, 0x80024140000L);
+         return jjMoveStringLiteralDfa7_2(active0, 0x90002040L, active1, 0xff00000c200007f0L, active2, 0x4000007L, active3, 0x2000080000000000L, active4, 0x20100L, active5, 0L, active6, 0x7003f800000L, active7, 0L, active8, 0x3fff100800000840L, active9, 0x1400000000L, active10, 0x100000L, active11, 0x100024140000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa7_2(active0, 0xc00000000L, active1, 0x120000000000L, active2, 0L, active3, 0L, active4, 0x2000000000L, active5, 0x4000800L, active6, 0x4000000000000000L, active7, 0x1000000000000L, active8, 0x400000000000L, active9, 0x80000000L, active10, 0L, active11, 0x4000000000L);
+         return jjMoveStringLiteralDfa7_2(active0, 0xc00000000L, active1, 0x120000000000L, active2, 0L, active3, 0L, active4, 0x2000000000L, active5, 0x4000800L, active6, 0x4000000000000000L, active7, 0x1000000000000L, active8, 0x400000000000L, active9, 0x80000000L, active10, 0L, active11, 0x8000000000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa7_2(active0, 0L, active1, 0L, active2, 0L, active3, 0x1000000L, active4, 0L, active5, 0L, active6, 0x200000000000000L, active7, 0x203000L, active8, 0L, active9, 0L, active10, 0x2L, active11, 0L);
@@ -13382,8 +13388,8 @@ private final int jjMoveStringLiteralDfa7_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(7, 156, 96);
          else if ((active10 & 0x1000000000L) != 0L)
             return jjStartNfaWithStates_2(7, 676, 96);
-         else if ((active11 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_2(7, 739, 96);
+         else if ((active11 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_2(7, 740, 96);
          return jjMoveStringLiteralDfa8_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40000780000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 69:
       case 101:
@@ -13459,7 +13465,7 @@ private final int jjMoveStringLiteralDfa7_2(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa8_2(active0, 0L, active1, 0L, active2, 0L, active3, 0x100000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa8_2(active0, 0x10000000L, active1, 0x1fc00001000L, active2, 0L, active3, 0L, active4, 0x400020000L, active5, 0x400000L, active6, 0x30000202000L, active7, 0L, active8, 0x203000000000L, active9, 0x40400000000L, active10, 0x2000000000000000L, active11, 0x80000000000L);
+         return jjMoveStringLiteralDfa8_2(active0, 0x10000000L, active1, 0x1fc00001000L, active2, 0L, active3, 0L, active4, 0x400020000L, active5, 0x400000L, active6, 0x30000202000L, active7, 0L, active8, 0x203000000000L, active9, 0x40400000000L, active10, 0x2000000000000000L, active11, 0x100000000000L);
       case 74:
       case 106:
          return jjMoveStringLiteralDfa8_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x1800000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -13493,10 +13499,10 @@ private final int jjMoveStringLiteralDfa7_2(long old0, long active0, long old1,
             jjmatchedKind = 434;
             jjmatchedPos = 7;
          }
-         return jjMoveStringLiteralDfa8_2(active0, 0L, active1, 0x2000008L, active2, 0x40000000010L, active3, 0x8000400L, active4, 0xc4L, active5, 0x1000000000000000L, active6, 0x48000000000000L, active7, 0x1101000800000000L, active8, 0x8000L, active9, 0x6002000000L, active10, 0L, active11, 0x400400000000L);
+         return jjMoveStringLiteralDfa8_2(active0, 0L, active1, 0x2000008L, active2, 0x40000000010L, active3, 0x8000400L, active4, 0xc4L, active5, 0x1000000000000000L, active6, 0x48000000000000L, active7, 0x1101000800000000L, active8, 0x8000L, active9, 0x6002000000L, active10, 0L, active11, 0x800800000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa8_2(active0, 0x20800000L, active1, 0x28001c0780000L, active2, 0L, active3, 0x10000400000100L, active4, 0x4010000100L, active5, 0x4000000080L, active6, 0x80000480000000L, active7, 0x20000L, active8, 0x800L, active9, 0x4L, active10, 0L, active11, 0x4000000000L);
+         return jjMoveStringLiteralDfa8_2(active0, 0x20800000L, active1, 0x28001c0780000L, active2, 0L, active3, 0x10000400000100L, active4, 0x4010000100L, active5, 0x4000000080L, active6, 0x80000480000000L, active7, 0x20000L, active8, 0x800L, active9, 0x4L, active10, 0L, active11, 0x8000000000L);
       case 80:
       case 112:
          if ((active10 & 0x80000000000000L) != 0L)
@@ -13612,7 +13618,7 @@ private final int jjMoveStringLiteralDfa8_2(long old0, long active0, long old1,
       case 99:
          if ((active9 & 0x40000000000L) != 0L)
             return jjStartNfaWithStates_2(8, 618, 96);
-         return jjMoveStringLiteralDfa9_2(active0, 0L, active1, 0x100000000000000L, active2, 0x200000000000L, active3, 0L, active4, 0L, active5, 0x1000000000000200L, active6, 0L, active7, 0x100000000000L, active8, 0L, active9, 0x10L, active10, 0x4000L, active11, 0x80000000020L);
+         return jjMoveStringLiteralDfa9_2(active0, 0L, active1, 0x100000000000000L, active2, 0x200000000000L, active3, 0L, active4, 0L, active5, 0x1000000000000200L, active6, 0L, active7, 0x100000000000L, active8, 0L, active9, 0x10L, active10, 0x4000L, active11, 0x100000000020L);
       case 68:
       case 100:
          if ((active1 & 0x20000000L) != 0L)
@@ -13690,9 +13696,9 @@ private final int jjMoveStringLiteralDfa8_2(long old0, long active0, long old1,
             jjmatchedKind = 613;
             jjmatchedPos = 8;
          }
-         else if ((active11 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_2(8, 738, 96);
-         return jjMoveStringLiteralDfa9_2(active0, 0L, active1, 0x8L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000000000L, active9, 0x4040000000L, active10, 0L, active11, 0x400000000000L);
+         else if ((active11 & 0x800000000L) != 0L)
+            return jjStartNfaWithStates_2(8, 739, 96);
+         return jjMoveStringLiteralDfa9_2(active0, 0L, active1, 0x8L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000000000L, active9, 0x4040000000L, active10, 0L, active11, 0x800000000000L);
       case 72:
       case 104:
          return jjMoveStringLiteralDfa9_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1L, active9, 0x201000L, active10, 0L, active11, 0L);
@@ -13804,7 +13810,7 @@ private final int jjMoveStringLiteralDfa8_2(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa9_2(active0, 0L, active1, 0x8000020000000000L, active2, 0x100003L, active3, 0L, active4, 0x200004L, active5, 0x40000L, active6, 0x2000L, active7, 0x4000000000000000L, active8, 0x500000000L, active9, 0x1000000000L, active10, 0x8000000L, active11, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa9_2(active0, 0L, active1, 0L, active2, 0x4L, active3, 0L, active4, 0x2008000000000L, active5, 0x400000L, active6, 0x400000000L, active7, 0L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0x4010000000L);
+         return jjMoveStringLiteralDfa9_2(active0, 0L, active1, 0L, active2, 0x4L, active3, 0L, active4, 0x2008000000000L, active5, 0x400000L, active6, 0x400000000L, active7, 0L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0x8010000000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa9_2(active0, 0x10000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0xc000000000000000L, active9, 0x1L, active10, 0L, active11, 0L);
@@ -13907,7 +13913,7 @@ private final int jjMoveStringLiteralDfa9_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(9, 730, 96);
          else if ((active11 & 0x10000000L) != 0L)
             return jjStartNfaWithStates_2(9, 732, 96);
-         return jjMoveStringLiteralDfa10_2(active0, 0L, active1, 0x400000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000050000L, active6, 0x30000000000L, active7, 0x20000000000000L, active8, 0x1000000000001L, active9, 0x2004000e0000L, active10, 0x8000000L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa10_2(active0, 0L, active1, 0x400000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000050000L, active6, 0x30000000000L, active7, 0x20000000000000L, active8, 0x1000000000001L, active9, 0x2004000e0000L, active10, 0x8000000L, active11, 0x800000000000L);
       case 71:
       case 103:
          if ((active6 & 0x200000L) != 0L)
@@ -13979,10 +13985,10 @@ private final int jjMoveStringLiteralDfa9_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(9, 458, 96);
          else if ((active10 & 0x100L) != 0L)
             return jjStartNfaWithStates_2(9, 648, 96);
-         else if ((active11 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_2(9, 742, 96);
-         else if ((active11 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_2(9, 747, 96);
+         else if ((active11 & 0x8000000000L) != 0L)
+            return jjStartNfaWithStates_2(9, 743, 96);
+         else if ((active11 & 0x100000000000L) != 0L)
+            return jjStartNfaWithStates_2(9, 748, 96);
          return jjMoveStringLiteralDfa10_2(active0, 0L, active1, 0x80000000000L, active2, 0x40000000004L, active3, 0L, active4, 0x8000000000000000L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
@@ -14066,7 +14072,7 @@ private final int jjMoveStringLiteralDfa10_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(10, 341, 96);
          else if ((active10 & 0x8000000L) != 0L)
             return jjStartNfaWithStates_2(10, 667, 96);
-         return jjMoveStringLiteralDfa11_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0xa00000000000000L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa11_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0xa00000000000000L, active10, 0L, active11, 0x800000000000L);
       case 69:
       case 101:
          if ((active0 & 0x10000000000L) != 0L)
@@ -14218,7 +14224,7 @@ private final int jjMoveStringLiteralDfa11_2(long old0, long active0, long old1,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa12_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa12_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 65:
       case 97:
          if ((active8 & 0x1L) != 0L)
@@ -14420,7 +14426,7 @@ private final int jjMoveStringLiteralDfa12_2(long old0, long active0, long old1,
       case 112:
          if ((active9 & 0x100L) != 0L)
             return jjStartNfaWithStates_2(12, 584, 96);
-         return jjMoveStringLiteralDfa13_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x8000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa13_2(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x8000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 82:
       case 114:
          if ((active9 & 0x2000000000000000L) != 0L)
@@ -14466,7 +14472,7 @@ private final int jjMoveStringLiteralDfa13_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(13, 494, 96);
          else if ((active10 & 0x10000L) != 0L)
             return jjStartNfaWithStates_2(13, 656, 96);
-         return jjMoveStringLiteralDfa14_2(active0, 0x800000L, active1, 0x100000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000000L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa14_2(active0, 0x800000L, active1, 0x100000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000000L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa14_2(active0, 0L, active1, 0x100000000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -14634,7 +14640,7 @@ private final int jjMoveStringLiteralDfa14_2(long old0, long active0, long old1,
             return jjStartNfaWithStates_2(14, 575, 96);
          else if ((active9 & 0x10000L) != 0L)
             return jjStartNfaWithStates_2(14, 592, 96);
-         return jjMoveStringLiteralDfa15_2(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa15_2(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 83:
       case 115:
          if ((active1 & 0x200L) != 0L)
@@ -14736,7 +14742,7 @@ private final int jjMoveStringLiteralDfa15_2(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa16_2(active0, 0L, active1, 0L, active2, 0x2L, active5, 0L, active6, 0L, active7, 0L, active8, 0x4000000000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa16_2(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa16_2(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa16_2(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0xe0000000000000L, active9, 0L, active10, 0L, active11, 0L);
@@ -14789,7 +14795,7 @@ private final int jjMoveStringLiteralDfa16_2(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa17_2(active0, 0L, active1, 0x100L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa17_2(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0x38000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa17_2(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0x38000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 76:
       case 108:
          return jjMoveStringLiteralDfa17_2(active0, 0L, active1, 0L, active2, 0x6000L, active5, 0L, active6, 0x4000000L, active7, 0x80000000L, active8, 0L, active9, 0L, active10, 0x40L, active11, 0L);
@@ -14889,7 +14895,7 @@ private final int jjMoveStringLiteralDfa17_2(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa18_2(active0, 0L, active1, 0x400000000000000L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa18_2(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x31c000000000000L, active9, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa18_2(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x31c000000000000L, active9, 0L, active10, 0L, active11, 0x800000400000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa18_2(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0L);
@@ -14941,7 +14947,7 @@ private final int jjMoveStringLiteralDfa18_2(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa19_2(active0, 0L, active1, 0L, active2, 0x2L, active5, 0L, active6, 0L, active7, 0x200000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa19_2(active0, 0x1000000L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa19_2(active0, 0x1000000L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000400000L);
       case 76:
       case 108:
          return jjMoveStringLiteralDfa19_2(active0, 0L, active1, 0x40L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -15002,7 +15008,7 @@ private final int jjMoveStringLiteralDfa19_2(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa20_2(active0, 0L, active1, 0x400000000000000L, active2, 0L, active5, 0L, active6, 0x10000000L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa20_2(active0, 0L, active1, 0x40L, active2, 0x2000L, active5, 0L, active6, 0x4000000L, active7, 0L, active8, 0x20c0000000000000L, active10, 0x80000000000L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa20_2(active0, 0L, active1, 0x40L, active2, 0x2000L, active5, 0L, active6, 0x4000000L, active7, 0L, active8, 0x20c0000000000000L, active10, 0x80000000000L, active11, 0x800000400000L);
       case 82:
       case 114:
          return jjMoveStringLiteralDfa20_2(active0, 0L, active1, 0L, active2, 0x4002L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
@@ -15069,7 +15075,7 @@ private final int jjMoveStringLiteralDfa20_2(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa21_2(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000L, active10, 0x100000000000L, active11, 0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa21_2(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa21_2(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0x800000400000L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa21_2(active0, 0L, active1, 0L, active2, 0x2L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
@@ -15101,7 +15107,7 @@ private final int jjMoveStringLiteralDfa21_2(long old0, long active0, long old1,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa22_2(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa22_2(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000400000L);
       case 65:
       case 97:
          return jjMoveStringLiteralDfa22_2(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0x40000000040L, active11, 0L);
@@ -15195,7 +15201,7 @@ private final int jjMoveStringLiteralDfa22_2(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa23_2(active1, 0L, active2, 0x2L, active6, 0L, active8, 0L, active10, 0L, active11, 0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa23_2(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa23_2(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000000000L);
       case 84:
       case 116:
          return jjMoveStringLiteralDfa23_2(active1, 0L, active2, 0L, active6, 0x4000000L, active8, 0L, active10, 0L, active11, 0L);
@@ -15247,7 +15253,7 @@ private final int jjMoveStringLiteralDfa23_2(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa24_2(active1, 0L, active2, 0L, active6, 0L, active8, 0x2040000000000000L, active10, 0L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa24_2(active1, 0L, active2, 0L, active6, 0L, active8, 0x10000000000000L, active10, 0x40000000000L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa24_2(active1, 0L, active2, 0L, active6, 0L, active8, 0x10000000000000L, active10, 0x40000000000L, active11, 0x800000400000L);
       case 82:
       case 114:
          if ((active8 & 0x4000000000000L) != 0L)
@@ -15314,7 +15320,7 @@ private final int jjMoveStringLiteralDfa24_2(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa25_2(active1, 0L, active2, 0L, active6, 0L, active8, 0x40000000000000L, active10, 0L, active11, 0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa25_2(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa25_2(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000000000L);
       default :
          break;
    }
@@ -15368,7 +15374,7 @@ private final int jjMoveStringLiteralDfa25_2(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa26_2(active1, 0L, active2, 0x4002L, active6, 0L, active8, 0L, active11, 0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa26_2(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa26_2(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active11, 0x800000000000L);
       case 84:
       case 116:
          return jjMoveStringLiteralDfa26_2(active1, 0L, active2, 0L, active6, 0L, active8, 0x40000000000000L, active11, 0L);
@@ -15389,7 +15395,7 @@ private final int jjMoveStringLiteralDfa26_2(long old1, long active1, long old2,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa27_2(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa27_2(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 68:
       case 100:
          if ((active8 & 0x80000000000000L) != 0L)
@@ -15437,7 +15443,7 @@ private final int jjMoveStringLiteralDfa27_2(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa28_2(active1, 0L, active2, 0L, active8, 0x200000000000000L, active11, 0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa28_2(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa28_2(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 82:
       case 114:
          return jjMoveStringLiteralDfa28_2(active1, 0x400000000000000L, active2, 0L, active8, 0L, active11, 0L);
@@ -15464,7 +15470,7 @@ private final int jjMoveStringLiteralDfa28_2(long old1, long active1, long old2,
          break;
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa29_2(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa29_2(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa29_2(active1, 0x400000000000000L, active2, 0L, active8, 0L, active11, 0L);
@@ -15489,7 +15495,7 @@ private final int jjMoveStringLiteralDfa29_2(long old1, long active1, long old2,
    {
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa30_2(active1, 0L, active2, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa30_2(active1, 0L, active2, 0L, active11, 0x800000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa30_2(active1, 0x400000000000000L, active2, 0L, active11, 0L);
@@ -15514,7 +15520,7 @@ private final int jjMoveStringLiteralDfa30_2(long old1, long active1, long old2,
    {
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa31_2(active1, 0L, active2, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa31_2(active1, 0L, active2, 0L, active11, 0x800000000000L);
       case 80:
       case 112:
          if ((active1 & 0x400000000000000L) != 0L)
@@ -15540,7 +15546,7 @@ private final int jjMoveStringLiteralDfa31_2(long old1, long active1, long old2,
       case 101:
          if ((active2 & 0x2L) != 0L)
             return jjStartNfaWithStates_2(31, 129, 96);
-         return jjMoveStringLiteralDfa32_2(active2, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa32_2(active2, 0L, active11, 0x800000000000L);
       default :
          break;
    }
@@ -15559,7 +15565,7 @@ private final int jjMoveStringLiteralDfa32_2(long old2, long active2, long old11
    {
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa33_2(active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa33_2(active11, 0x800000000000L);
       default :
          break;
    }
@@ -15578,8 +15584,8 @@ private final int jjMoveStringLiteralDfa33_2(long old11, long active11)
    {
       case 84:
       case 116:
-         if ((active11 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_2(33, 750, 96);
+         if ((active11 & 0x800000000000L) != 0L)
+            return jjStartNfaWithStates_2(33, 751, 96);
          break;
       default :
          break;
@@ -15616,21 +15622,21 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjCheckNAddTwoStates(56, 57);
                   else if (curChar == 7)
                   {
-                     if (kind > 829)
-                        kind = 829;
+                     if (kind > 830)
+                        kind = 830;
                   }
                   else if (curChar == 45)
                      jjstateSet[jjnewStateCnt++] = 23;
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 752)
-                        kind = 752;
+                     if (kind > 753)
+                        kind = 753;
                      jjCheckNAddStates(9, 15);
                   }
                   else if (curChar == 36)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -15643,8 +15649,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -15657,8 +15663,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -15673,8 +15679,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -15691,8 +15697,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 67;
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -15701,8 +15707,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 92:
                   if (curChar == 47)
                   {
-                     if (kind > 815)
-                        kind = 815;
+                     if (kind > 816)
+                        kind = 816;
                      jjCheckNAddStates(25, 27);
                   }
                   else if (curChar == 42)
@@ -15717,8 +15723,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (curChar == 36)
@@ -15739,8 +15745,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjCheckNAddStates(32, 34);
                   else if (curChar == 39)
                   {
-                     if (kind > 759)
-                        kind = 759;
+                     if (kind > 760)
+                        kind = 760;
                   }
                   if ((0xfc00f7faffffc9ffL & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 64;
@@ -15750,8 +15756,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 97:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 754)
-                        kind = 754;
+                     if (kind > 755)
+                        kind = 755;
                      jjCheckNAdd(57);
                   }
                   if ((0x3ff000000000000L & l) != 0L)
@@ -15776,8 +15782,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 3;
                   break;
                case 5:
-                  if (curChar == 39 && kind > 758)
-                     kind = 758;
+                  if (curChar == 39 && kind > 759)
+                     kind = 759;
                   break;
                case 7:
                   if ((0x3ff000000000000L & l) != 0L)
@@ -15801,8 +15807,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 11;
                   break;
                case 13:
-                  if (curChar == 39 && kind > 760)
-                     kind = 760;
+                  if (curChar == 39 && kind > 761)
+                     kind = 761;
                   break;
                case 17:
                   if ((0xffffff7fffffffffL & l) != 0L)
@@ -15820,30 +15826,30 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 20;
                   break;
                case 22:
-                  if (curChar == 39 && kind > 762)
-                     kind = 762;
+                  if (curChar == 39 && kind > 763)
+                     kind = 763;
                   break;
                case 23:
                   if (curChar != 45)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(25, 27);
                   break;
                case 24:
                   if ((0xffffffffffffdbffL & l) == 0L)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(25, 27);
                   break;
                case 25:
-                  if ((0x2400L & l) != 0L && kind > 815)
-                     kind = 815;
+                  if ((0x2400L & l) != 0L && kind > 816)
+                     kind = 816;
                   break;
                case 26:
-                  if (curChar == 10 && kind > 815)
-                     kind = 815;
+                  if (curChar == 10 && kind > 816)
+                     kind = 816;
                   break;
                case 27:
                   if (curChar == 13)
@@ -15860,15 +15866,15 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 34:
                   if (curChar != 36)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 35:
                   if ((0x3ff001000000000L & l) == 0L)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 36:
@@ -15886,8 +15892,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 39:
                   if (curChar != 36)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjCheckNAddTwoStates(39, 40);
                   break;
                case 40:
@@ -15897,26 +15903,26 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 41:
                   if ((0x3ff001000000000L & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjCheckNAdd(41);
                   break;
                case 42:
-                  if (curChar == 7 && kind > 829)
-                     kind = 829;
+                  if (curChar == 7 && kind > 830)
+                     kind = 830;
                   break;
                case 43:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 752)
-                     kind = 752;
+                  if (kind > 753)
+                     kind = 753;
                   jjCheckNAddStates(9, 15);
                   break;
                case 44:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 752)
-                     kind = 752;
+                  if (kind > 753)
+                     kind = 753;
                   jjCheckNAdd(44);
                   break;
                case 45:
@@ -15930,8 +15936,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 48:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 753)
-                     kind = 753;
+                  if (kind > 754)
+                     kind = 754;
                   jjCheckNAdd(48);
                   break;
                case 49:
@@ -15945,22 +15951,22 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 51:
                   if (curChar != 46)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(52);
                   break;
                case 52:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(52);
                   break;
                case 53:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAddStates(35, 37);
                   break;
                case 54:
@@ -15978,8 +15984,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 57:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(57);
                   break;
                case 58:
@@ -15999,12 +16005,12 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 60;
                   break;
                case 62:
-                  if (curChar == 39 && kind > 759)
-                     kind = 759;
+                  if (curChar == 39 && kind > 760)
+                     kind = 760;
                   break;
                case 64:
-                  if (curChar == 39 && kind > 766)
-                     kind = 766;
+                  if (curChar == 39 && kind > 767)
+                     kind = 767;
                   break;
                case 67:
                case 69:
@@ -16020,8 +16026,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 69;
                   break;
                case 71:
-                  if (curChar == 39 && kind > 761)
-                     kind = 761;
+                  if (curChar == 39 && kind > 762)
+                     kind = 762;
                   break;
                case 72:
                   if (curChar == 38)
@@ -16044,8 +16050,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 75;
                   break;
                case 77:
-                  if (curChar == 34 && kind > 826)
-                     kind = 826;
+                  if (curChar == 34 && kind > 827)
+                     kind = 827;
                   break;
                case 79:
                   if (curChar == 32)
@@ -16072,14 +16078,14 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 91;
                   break;
                case 91:
-                  if ((0xffff7fffffffffffL & l) != 0L && kind > 813)
-                     kind = 813;
+                  if ((0xffff7fffffffffffL & l) != 0L && kind > 814)
+                     kind = 814;
                   break;
                case 93:
                   if (curChar != 47)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(25, 27);
                   break;
                default : break;
@@ -16102,8 +16108,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjCheckNAddTwoStates(30, 32);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if ((0x20000000200000L & l) != 0L)
@@ -16124,8 +16130,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -16136,8 +16142,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -16148,8 +16154,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -16160,8 +16166,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -16172,8 +16178,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjCheckNAddStates(0, 2);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   break;
@@ -16184,13 +16190,13 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 85;
                   else if ((0x1000000010L & l) != 0L)
                   {
-                     if (kind > 769)
-                        kind = 769;
+                     if (kind > 770)
+                        kind = 770;
                   }
                   if ((0x10000000100000L & l) != 0L)
                   {
-                     if (kind > 770)
-                        kind = 770;
+                     if (kind > 771)
+                        kind = 771;
                   }
                   break;
                case 63:
@@ -16241,8 +16247,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                   jjCheckNAddStates(28, 31);
                   break;
                case 24:
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjAddStates(25, 27);
                   break;
                case 29:
@@ -16262,21 +16268,21 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 31;
                   break;
                case 33:
-                  if (curChar == 96 && kind > 821)
-                     kind = 821;
+                  if (curChar == 96 && kind > 822)
+                     kind = 822;
                   break;
                case 34:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 35:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 36:
@@ -16286,15 +16292,15 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 39:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjAddStates(58, 59);
                   break;
                case 41:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjstateSet[jjnewStateCnt++] = 41;
                   break;
                case 46:
@@ -16319,32 +16325,32 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjAddStates(48, 55);
                   break;
                case 80:
-                  if ((0x1000000010L & l) != 0L && kind > 769)
-                     kind = 769;
+                  if ((0x1000000010L & l) != 0L && kind > 770)
+                     kind = 770;
                   break;
                case 82:
-                  if ((0x10000000100000L & l) != 0L && kind > 770)
-                     kind = 770;
+                  if ((0x10000000100000L & l) != 0L && kind > 771)
+                     kind = 771;
                   break;
                case 84:
                   if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 85;
                   break;
                case 85:
-                  if ((0x8000000080000L & l) != 0L && kind > 771)
-                     kind = 771;
+                  if ((0x8000000080000L & l) != 0L && kind > 772)
+                     kind = 772;
                   break;
                case 87:
                   if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 88;
                   break;
                case 88:
-                  if ((0x400000004000L & l) != 0L && kind > 772)
-                     kind = 772;
+                  if ((0x400000004000L & l) != 0L && kind > 773)
+                     kind = 773;
                   break;
                case 91:
-                  if (kind > 813)
-                     kind = 813;
+                  if (kind > 814)
+                     kind = 814;
                   break;
                default : break;
             }
@@ -16364,8 +16370,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 0:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -16374,8 +16380,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 1:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -16386,8 +16392,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 96:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -16398,8 +16404,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 95:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -16410,8 +16416,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 66:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -16422,8 +16428,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 16:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(35);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -16458,8 +16464,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 24:
                   if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjAddStates(25, 27);
                   break;
                case 30:
@@ -16469,15 +16475,15 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 34:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 35:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(35);
                   break;
                case 36:
@@ -16487,15 +16493,15 @@ private final int jjMoveNfa_2(int startState, int curPos)
                case 39:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjAddStates(58, 59);
                   break;
                case 41:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjstateSet[jjnewStateCnt++] = 41;
                   break;
                case 59:
@@ -16511,8 +16517,8 @@ private final int jjMoveNfa_2(int startState, int curPos)
                      jjAddStates(45, 47);
                   break;
                case 91:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2) && kind > 813)
-                     kind = 813;
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2) && kind > 814)
+                     kind = 814;
                   break;
                default : break;
             }
@@ -16536,402 +16542,402 @@ private final int jjStopStringLiteralDfa_3(int pos, long active0, long active1,
    switch (pos)
    {
       case 0:
+         if ((active12 & 0x40000800L) != 0L)
+            return 76;
+         if ((active0 & 0xfffc000000000L) != 0L || (active2 & 0xffffffffffffffc0L) != 0L || (active3 & 0xff8001ffffffffffL) != 0L || (active4 & 0xfffff0ffffffffffL) != 0L || (active5 & 0xfffffff000000003L) != 0L || (active6 & 0xffffffffffffffffL) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffefffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfff8000001ffffffL) != 0L || (active11 & 0x1395ffe4fdfffL) != 0L)
+         {
+            jjmatchedKind = 825;
+            return 77;
+         }
+         if ((active12 & 0x80000000L) != 0L)
+            return 58;
+         if ((active12 & 0x40L) != 0L)
+            return 78;
          if ((active10 & 0x7fffffe000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             return 31;
          }
+         if ((active12 & 0x900004000000L) != 0L)
+            return 74;
          if ((active11 & 0x2000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             return 1;
          }
-         if ((active12 & 0x20000400L) != 0L)
-            return 76;
-         if ((active12 & 0x40000000L) != 0L)
-            return 58;
-         if ((active12 & 0x20L) != 0L)
+         if ((active0 & 0xfff0003ffffffff8L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fL) != 0L || (active3 & 0x7ffe0000000000L) != 0L || (active4 & 0xf0000000000L) != 0L || (active5 & 0xffffffffcL) != 0L || (active8 & 0x100000L) != 0L || (active11 & 0xc6a001b00000L) != 0L || (active12 & 0x2000000000L) != 0L)
             return 77;
-         if ((active12 & 0x480002000000L) != 0L)
-            return 74;
-         if ((active0 & 0xfffc000000000L) != 0L || (active2 & 0xffffffffffffffc0L) != 0L || (active3 & 0xff8001ffffffffffL) != 0L || (active4 & 0xfffff0ffffffffffL) != 0L || (active5 & 0xfffffff000000003L) != 0L || (active6 & 0xffffffffffffffffL) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffefffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfff8000001ffffffL) != 0L || (active11 & 0x9caffe4fdfffL) != 0L)
-         {
-            jjmatchedKind = 824;
-            return 78;
-         }
-         if ((active0 & 0xfff0003ffffffff8L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fL) != 0L || (active3 & 0x7ffe0000000000L) != 0L || (active4 & 0xf0000000000L) != 0L || (active5 & 0xffffffffcL) != 0L || (active8 & 0x100000L) != 0L || (active11 & 0x635001b00000L) != 0L || (active12 & 0x1000000000L) != 0L)
-            return 78;
-         if ((active12 & 0xc00000L) != 0L)
+         if ((active12 & 0x1800000L) != 0L)
             return 11;
-         if ((active12 & 0x80000000L) != 0L)
+         if ((active12 & 0x100000000L) != 0L)
             return 79;
          return -1;
       case 1:
-         if ((active0 & 0xffe7fff001fffff0L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0xffffffffffffffffL) != 0L || (active3 & 0xfffe7dffffffffffL) != 0L || (active4 & 0xeffffeffe000000fL) != 0L || (active5 & 0x7ff83ffffffffffbL) != 0L || (active6 & 0xffffffffffffc1c6L) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffffffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfffffffffffffffcL) != 0L || (active11 & 0x7dfabfddffffL) != 0L)
+         if ((active12 & 0x900000000000L) != 0L)
+            return 72;
+         if ((active0 & 0xffe7fff001fffff0L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0xffffffffffffffffL) != 0L || (active3 & 0xfffe7dffffffffffL) != 0L || (active4 & 0xeffffeffe000000fL) != 0L || (active5 & 0x7ff83ffffffffffbL) != 0L || (active6 & 0xffffffffffffc1c6L) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffffffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfffffffffffffffcL) != 0L || (active11 & 0xfbf6bfddffffL) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 1;
             }
-            return 78;
+            return 77;
          }
-         if ((active12 & 0x480000000000L) != 0L)
-            return 72;
-         if ((active0 & 0x8000ffe000000L) != 0L || (active3 & 0x1800000000000L) != 0L || (active4 & 0x100000001ffffff0L) != 0L || (active5 & 0x8007c00000000000L) != 0L || (active6 & 0x3e39L) != 0L || (active10 & 0x3L) != 0L || (active11 & 0x820540220000L) != 0L)
-            return 78;
+         if ((active0 & 0x8000ffe000000L) != 0L || (active3 & 0x1800000000000L) != 0L || (active4 & 0x100000001ffffff0L) != 0L || (active5 & 0x8007c00000000000L) != 0L || (active6 & 0x3e39L) != 0L || (active10 & 0x3L) != 0L || (active11 & 0x1040940220000L) != 0L)
+            return 77;
          return -1;
       case 2:
-         if ((active0 & 0xffe7bfdef5e98c80L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fe5fffffe10ffffL) != 0L || (active3 & 0xfbff5dff0fff3ffcL) != 0L || (active4 & 0xefffd0fffd03ffefL) != 0L || (active5 & 0x7ffbafffc07ff3f3L) != 0L || (active6 & 0xfffee03fffbc7de5L) != 0L || (active7 & 0xfff87ffffffff1ffL) != 0L || (active8 & 0x1ffe3ffffL) != 0L || (active9 & 0xfffffeffffc00000L) != 0L || (active10 & 0xfffffffffffffffeL) != 0L || (active11 & 0xaffffffddfffL) != 0L)
+         if ((active0 & 0xffe7bfdef5e98c80L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fe5fffffe10ffffL) != 0L || (active3 & 0xfbff5dff0fff3ffcL) != 0L || (active4 & 0xefffd0fffd03ffefL) != 0L || (active5 & 0x7ffbafffc07ff3f3L) != 0L || (active6 & 0xfffee03fffbc7de5L) != 0L || (active7 & 0xfff87ffffffff1ffL) != 0L || (active8 & 0x1ffe3ffffL) != 0L || (active9 & 0xfffffeffffc00000L) != 0L || (active10 & 0xfffffffffffffffeL) != 0L || (active11 & 0x15ffffffddfffL) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 2;
             }
-            return 78;
+            return 77;
          }
-         if ((active0 & 0x402008167370L) != 0L || (active2 & 0xc01a000001ef0000L) != 0L || (active3 & 0x4002000f000c003L) != 0L || (active4 & 0x2e0000fc0000L) != 0L || (active5 & 0x410003f800c08L) != 0L || (active6 & 0x11fc000438012L) != 0L || (active7 & 0x7800000000e00L) != 0L || (active8 & 0xfffffffe001c0000L) != 0L || (active9 & 0x100003fffffL) != 0L || (active11 & 0x500000002000L) != 0L)
-            return 78;
+         if ((active0 & 0x402008167370L) != 0L || (active2 & 0xc01a000001ef0000L) != 0L || (active3 & 0x4002000f000c003L) != 0L || (active4 & 0x2e0000fc0000L) != 0L || (active5 & 0x410003f800c08L) != 0L || (active6 & 0x11fc000438012L) != 0L || (active7 & 0x7800000000e00L) != 0L || (active8 & 0xfffffffe001c0000L) != 0L || (active9 & 0x100003fffffL) != 0L || (active11 & 0xa00000002000L) != 0L)
+            return 77;
          return -1;
       case 3:
-         if ((active0 & 0x33853fdef1e9ece0L) != 0L || (active1 & 0xffdf3fffffffb803L) != 0L || (active2 & 0x35c5fc3fffd6003fL) != 0L || (active3 & 0xe1fe5d97efffa7ffL) != 0L || (active4 & 0xe9c4dc001d7bffefL) != 0L || (active5 & 0x7e1b0fcdf77ffbf3L) != 0L || (active6 & 0xfbfe7fa7ff837d81L) != 0L || (active7 & 0xfffb7efffffffd0fL) != 0L || (active8 & 0xfffffffdf4d3fd7fL) != 0L || (active9 & 0x800bfeffffbfffffL) != 0L || (active10 & 0xbffb41fffef1fffeL) != 0L || (active11 & 0xffcffdfc1870L) != 0L)
+         if ((active0 & 0x33853fdef1e9ece0L) != 0L || (active1 & 0xffdf3fffffffb803L) != 0L || (active2 & 0x35c5fc3fffd6003fL) != 0L || (active3 & 0xe1fe5d97efffa7ffL) != 0L || (active4 & 0xe9c4dc001d7bffefL) != 0L || (active5 & 0x7e1b0fcdf77ffbf3L) != 0L || (active6 & 0xfbfe7fa7ff837d81L) != 0L || (active7 & 0xfffb7efffffffd0fL) != 0L || (active8 & 0xfffffffdf4d3fd7fL) != 0L || (active9 & 0x800bfeffffbfffffL) != 0L || (active10 & 0xbffb41fffef1fffeL) != 0L || (active11 & 0x1ff9dfdfc1870L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 3;
             }
-            return 78;
+            return 77;
          }
          if ((active2 & 0x8000000000000000L) != 0L)
             return 80;
-         if ((active0 & 0xcc62800004000000L) != 0L || (active1 & 0x20c000000047fcL) != 0L || (active2 & 0xa2003c00008ffc0L) != 0L || (active3 & 0x1a01006800001800L) != 0L || (active4 & 0x63b00ffe0800000L) != 0L || (active5 & 0x1e0a03200000000L) != 0L || (active6 & 0x4008018003c0064L) != 0L || (active7 & 0x40100000000f0L) != 0L || (active8 & 0xb280280L) != 0L || (active9 & 0x7ff4000000400000L) != 0L || (active10 & 0x4004be00010e0000L) != 0L || (active11 & 0x300201c78fL) != 0L)
-            return 78;
+         if ((active0 & 0xcc62800004000000L) != 0L || (active1 & 0x20c000000047fcL) != 0L || (active2 & 0xa2003c00008ffc0L) != 0L || (active3 & 0x1a01006800001800L) != 0L || (active4 & 0x63b00ffe0800000L) != 0L || (active5 & 0x1e0a03200000000L) != 0L || (active6 & 0x4008018003c0064L) != 0L || (active7 & 0x40100000000f0L) != 0L || (active8 & 0xb280280L) != 0L || (active9 & 0x7ff4000000400000L) != 0L || (active10 & 0x4004be00010e0000L) != 0L || (active11 & 0x620201c78fL) != 0L)
+            return 77;
          return -1;
       case 4:
-         if ((active0 & 0xb3c53c5ef00120e0L) != 0L || (active1 & 0xffcebffffffd37f9L) != 0L || (active2 & 0x25c5ffa7ffd6fe9fL) != 0L || (active3 & 0x61805d96e827b7abL) != 0L || (active4 & 0x5564cff1d7bc7efL) != 0L || (active5 & 0x7ecb09c4777f7801L) != 0L || (active6 & 0xebee5fa7ffba7181L) != 0L || (active7 & 0x1bfb7e3ffdfffd07L) != 0L || (active8 & 0xfffffffdd4c3fd7eL) != 0L || (active9 & 0xffca3efefc3fffffL) != 0L || (active10 & 0xbfc03cbf9ef5effeL) != 0L || (active11 & 0x79cfbbbc0b68L) != 0L)
+         if ((active2 & 0x8000000000000000L) != 0L)
+            return 80;
+         if ((active0 & 0x38001e8cc00L) != 0L || (active1 & 0x11000000028802L) != 0L || (active2 & 0x1000001800000020L) != 0L || (active3 & 0x907e000107d80054L) != 0L || (active4 & 0xe880900000003800L) != 0L || (active5 & 0x1100629800083f2L) != 0L || (active6 & 0x1010200000010c00L) != 0L || (active7 & 0xe40000c002000048L) != 0L || (active8 & 0x20100001L) != 0L || (active9 & 0x1c00103800000L) != 0L || (active10 & 0x3b414060001000L) != 0L || (active11 & 0x10c0044409012L) != 0L)
+            return 77;
+         if ((active0 & 0xb3c53c5ef00120e0L) != 0L || (active1 & 0xffcebffffffd37f9L) != 0L || (active2 & 0x25c5ffa7ffd6fe9fL) != 0L || (active3 & 0x61805d96e827b7abL) != 0L || (active4 & 0x5564cff1d7bc7efL) != 0L || (active5 & 0x7ecb09c4777f7801L) != 0L || (active6 & 0xebee5fa7ffba7181L) != 0L || (active7 & 0x1bfb7e3ffdfffd07L) != 0L || (active8 & 0xfffffffdd4c3fd7eL) != 0L || (active9 & 0xffca3efefc3fffffL) != 0L || (active10 & 0xbfc03cbf9ef5effeL) != 0L || (active11 & 0xf39dbbbc0b68L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 4;
             }
-            return 78;
+            return 77;
          }
-         if ((active2 & 0x8000000000000000L) != 0L)
-            return 80;
-         if ((active0 & 0x38001e8cc00L) != 0L || (active1 & 0x11000000028802L) != 0L || (active2 & 0x1000001800000020L) != 0L || (active3 & 0x907e000107d80054L) != 0L || (active4 & 0xe880900000003800L) != 0L || (active5 & 0x1100629800083f2L) != 0L || (active6 & 0x1010200000010c00L) != 0L || (active7 & 0xe40000c002000048L) != 0L || (active8 & 0x20100001L) != 0L || (active9 & 0x1c00103800000L) != 0L || (active10 & 0x3b414060001000L) != 0L || (active11 & 0x860044409012L) != 0L)
-            return 78;
          return -1;
       case 5:
-         if ((active2 & 0x8000000000000000L) != 0L)
-            return 80;
-         if ((active0 & 0x403042000100a0L) != 0L || (active1 & 0x8000033000000L) != 0L || (active2 & 0x50003e0400018L) != 0L || (active3 & 0x40c04110202121a8L) != 0L || (active4 & 0x40000004008008L) != 0L || (active5 & 0x4a80000163084000L) != 0L || (active6 & 0x8000080100024181L) != 0L || (active7 & 0x1a00043fe0000000L) != 0L || (active8 & 0x1080c11eL) != 0L || (active9 & 0x3a0824000000L) != 0L || (active10 & 0x1000a880800000L) != 0L || (active11 & 0x200140L) != 0L)
-            return 78;
-         if ((active0 & 0xb3850f1cf1c02040L) != 0L || (active1 & 0xffc6bfffccfd37f9L) != 0L || (active2 & 0x25c0ffa41f96fe87L) != 0L || (active3 & 0x21341c86c9069603L) != 0L || (active4 & 0xc5164cff197b47e7L) != 0L || (active5 & 0x344b09c414773be1L) != 0L || (active6 & 0x6bee57a6ffb83800L) != 0L || (active7 & 0xc1fb7a001dfffd07L) != 0L || (active8 & 0xfffffffdc4433c61L) != 0L || (active9 & 0xffcb84f6da3fffffL) != 0L || (active10 & 0xbfe03c171e75effeL) != 0L || (active11 & 0x79cfbfdc0a28L) != 0L)
+         if ((active0 & 0xb3850f1cf1c02040L) != 0L || (active1 & 0xffc6bfffccfd37f9L) != 0L || (active2 & 0x25c0ffa41f96fe87L) != 0L || (active3 & 0x21341c86c9069603L) != 0L || (active4 & 0xc5164cff197b47e7L) != 0L || (active5 & 0x344b09c414773be1L) != 0L || (active6 & 0x6bee57a6ffb83800L) != 0L || (active7 & 0xc1fb7a001dfffd07L) != 0L || (active8 & 0xfffffffdc4433c61L) != 0L || (active9 & 0xffcb84f6da3fffffL) != 0L || (active10 & 0xbfe03c171e75effeL) != 0L || (active11 & 0xf39dbfdc0a28L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 5;
             }
-            return 78;
+            return 77;
          }
+         if ((active2 & 0x8000000000000000L) != 0L)
+            return 80;
+         if ((active0 & 0x403042000100a0L) != 0L || (active1 & 0x8000033000000L) != 0L || (active2 & 0x50003e0400018L) != 0L || (active3 & 0x40c04110202121a8L) != 0L || (active4 & 0x40000004008008L) != 0L || (active5 & 0x4a80000163084000L) != 0L || (active6 & 0x8000080100024181L) != 0L || (active7 & 0x1a00043fe0000000L) != 0L || (active8 & 0x1080c11eL) != 0L || (active9 & 0x3a0824000000L) != 0L || (active10 & 0x1000a880800000L) != 0L || (active11 & 0x200140L) != 0L)
+            return 77;
          return -1;
       case 6:
-         if ((active0 & 0x80071cf1c02040L) != 0L || (active1 & 0x469ff1ee7937f8L) != 0L || (active2 & 0x2000ff841816fe90L) != 0L || (active3 & 0x2130188609020503L) != 0L || (active4 & 0xc4024cff107341c7L) != 0L || (active5 & 0x304b00c414770b80L) != 0L || (active6 & 0x62ec0004bfa80800L) != 0L || (active7 & 0xd1f3020f90befd00L) != 0L || (active8 & 0xffffff7dc400bc41L) != 0L || (active9 & 0x7fcbb4f6da3fffffL) != 0L || (active10 & 0x81a03c101c340ffeL) != 0L || (active11 & 0x484dbff40028L) != 0L)
+         if ((active0 & 0x80071cf1c02040L) != 0L || (active1 & 0x469ff1ee7937f8L) != 0L || (active2 & 0x2000ff841816fe90L) != 0L || (active3 & 0x2130188609020503L) != 0L || (active4 & 0xc4024cff107341c7L) != 0L || (active5 & 0x304b00c414770b80L) != 0L || (active6 & 0x62ec0004bfa80800L) != 0L || (active7 & 0xd1f3020f90befd00L) != 0L || (active8 & 0xffffff7dc400bc41L) != 0L || (active9 & 0x7fcbb4f6da3fffffL) != 0L || (active10 & 0x81a03c101c340ffeL) != 0L || (active11 & 0x9099bff40028L) != 0L)
          {
             if (jjmatchedPos != 6)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 6;
             }
-            return 78;
+            return 77;
          }
          if ((active2 & 0x8000000000000000L) != 0L)
             return 80;
-         if ((active0 & 0xb305080000000000L) != 0L || (active1 & 0xff80200e00840001L) != 0L || (active2 & 0x5c00020c7800007L) != 0L || (active3 & 0x40400c0049200L) != 0L || (active4 & 0x114000009080620L) != 0L || (active5 & 0x400090002003061L) != 0L || (active6 & 0x90257a240103100L) != 0L || (active7 & 0x878100d410007L) != 0L || (active8 & 0x8000430030L) != 0L || (active9 & 0x8000000000000000L) != 0L || (active10 & 0x3e4000070241e000L) != 0L || (active11 & 0x318200080a00L) != 0L)
-            return 78;
+         if ((active0 & 0xb305080000000000L) != 0L || (active1 & 0xff80200e00840001L) != 0L || (active2 & 0x5c00020c7800007L) != 0L || (active3 & 0x40400c0049200L) != 0L || (active4 & 0x114000009080620L) != 0L || (active5 & 0x400090002003061L) != 0L || (active6 & 0x90257a240103100L) != 0L || (active7 & 0x878100d410007L) != 0L || (active8 & 0x8000430030L) != 0L || (active9 & 0x8000000000000000L) != 0L || (active10 & 0x3e4000070241e000L) != 0L || (active11 & 0x630400080a00L) != 0L)
+            return 77;
          return -1;
       case 7:
-         if ((active0 & 0x2080071cf1c00000L) != 0L || (active1 & 0xff4683fdee7837f8L) != 0L || (active2 & 0x1802f0408160617L) != 0L || (active3 & 0x110080609000503L) != 0L || (active4 & 0xc40204ff103245c7L) != 0L || (active5 & 0x300b004000770380L) != 0L || (active6 & 0x60c00704bfa02000L) != 0L || (active7 & 0xd173700f8082fd00L) != 0L || (active8 & 0xffffe2740002ac01L) != 0L || (active9 & 0x7fc3b476da3ffe5fL) != 0L || (active10 & 0xa1003c001c05cffaL) != 0L || (active11 & 0x484537f00020L) != 0L)
+         if ((active2 & 0x8000000000000000L) != 0L)
+            return 80;
+         if ((active0 & 0x200000000002040L) != 0L || (active1 & 0x1c0000010000L) != 0L || (active2 & 0x2000d0801400f880L) != 0L || (active3 & 0x2020108000020000L) != 0L || (active4 & 0x480000410000L) != 0L || (active5 & 0x40008414002800L) != 0L || (active6 & 0x22c000000080800L) != 0L || (active7 & 0x800200103c0004L) != 0L || (active8 & 0x1d09c4001040L) != 0L || (active9 & 0x80080000001a0L) != 0L || (active10 & 0xa0001000300004L) != 0L || (active11 & 0x1088040008L) != 0L)
+            return 77;
+         if ((active0 & 0x2080071cf1c00000L) != 0L || (active1 & 0xff4683fdee7837f8L) != 0L || (active2 & 0x1802f0408160617L) != 0L || (active3 & 0x110080609000503L) != 0L || (active4 & 0xc40204ff103245c7L) != 0L || (active5 & 0x300b004000770380L) != 0L || (active6 & 0x60c00704bfa02000L) != 0L || (active7 & 0xd173700f8082fd00L) != 0L || (active8 & 0xffffe2740002ac01L) != 0L || (active9 & 0x7fc3b476da3ffe5fL) != 0L || (active10 & 0xa1003c001c05cffaL) != 0L || (active11 & 0x908937f00020L) != 0L)
          {
             if (jjmatchedPos != 7)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 7;
             }
-            return 78;
+            return 77;
          }
-         if ((active2 & 0x8000000000000000L) != 0L)
-            return 80;
-         if ((active0 & 0x200000000002040L) != 0L || (active1 & 0x1c0000010000L) != 0L || (active2 & 0x2000d0801400f880L) != 0L || (active3 & 0x2020108000020000L) != 0L || (active4 & 0x480000410000L) != 0L || (active5 & 0x40008414002800L) != 0L || (active6 & 0x22c000000080800L) != 0L || (active7 & 0x800200103c0004L) != 0L || (active8 & 0x1d09c4001040L) != 0L || (active9 & 0x80080000001a0L) != 0L || (active10 & 0xa0001000300004L) != 0L || (active11 & 0x888040008L) != 0L)
-            return 78;
          return -1;
       case 8:
-         if ((active0 & 0x20800310d1800000L) != 0L || (active1 & 0xff048bfc0e003008L) != 0L || (active2 & 0x1802f040810f417L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x40204ff00024004L) != 0L || (active5 & 0x3000004000770380L) != 0L || (active6 & 0x2008070400202000L) != 0L || (active7 & 0xd06270078082cc00L) != 0L || (active8 & 0xffff62758002a001L) != 0L || (active9 & 0x6081b016583fff59L) != 0L || (active10 & 0x20003c001805c87aL) != 0L || (active11 & 0x484117d00020L) != 0L)
+         if ((active0 & 0x40c20400000L) != 0L || (active1 & 0x420001e07807f0L) != 0L || (active2 & 0x60200L) != 0L || (active3 & 0x100080408000501L) != 0L || (active4 & 0xc0000000103005c3L) != 0L || (active5 & 0xb000000000000L) != 0L || (active6 & 0x40c00000bf800000L) != 0L || (active7 & 0x111000800003100L) != 0L || (active8 & 0x800000000c00L) != 0L || (active9 & 0x1f42046082000006L) != 0L || (active10 & 0x8100000004000780L) != 0L || (active11 & 0x820200000L) != 0L)
+            return 77;
+         if ((active0 & 0x20800310d1800000L) != 0L || (active1 & 0xff048bfc0e003008L) != 0L || (active2 & 0x1802f040810f417L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x40204ff00024004L) != 0L || (active5 & 0x3000004000770380L) != 0L || (active6 & 0x2008070400202000L) != 0L || (active7 & 0xd06270078082cc00L) != 0L || (active8 & 0xffff62758002a001L) != 0L || (active9 & 0x6081b016583fff59L) != 0L || (active10 & 0x20003c001805c87aL) != 0L || (active11 & 0x908117d00020L) != 0L)
          {
             if (jjmatchedPos != 8)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 8;
             }
-            return 78;
+            return 77;
          }
-         if ((active0 & 0x40c20400000L) != 0L || (active1 & 0x420001e07807f0L) != 0L || (active2 & 0x60200L) != 0L || (active3 & 0x100080408000501L) != 0L || (active4 & 0xc0000000103005c3L) != 0L || (active5 & 0xb000000000000L) != 0L || (active6 & 0x40c00000bf800000L) != 0L || (active7 & 0x111000800003100L) != 0L || (active8 & 0x800000000c00L) != 0L || (active9 & 0x1f42046082000006L) != 0L || (active10 & 0x8100000004000780L) != 0L || (active11 & 0x420200000L) != 0L)
-            return 78;
          return -1;
       case 9:
-         if ((active0 & 0x8d0000000L) != 0L || (active1 & 0x401fc00001400L) != 0L || (active2 & 0x220408100400L) != 0L || (active4 & 0x40204e300000000L) != 0L || (active5 & 0x2004000400000L) != 0L || (active6 & 0x2000000000202000L) != 0L || (active7 & 0x8002000000824400L) != 0L || (active8 & 0x407000000000L) != 0L || (active9 & 0x80801048000000L) != 0L || (active10 & 0x2000000000040100L) != 0L || (active11 & 0x84015000000L) != 0L)
-            return 78;
-         if ((active0 & 0x2080031001800000L) != 0L || (active1 & 0xff008a018e7023e8L) != 0L || (active2 & 0x1800d000000f017L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x8000001c00224006L) != 0L || (active5 & 0x3000000000370380L) != 0L || (active6 & 0x807043f000000L) != 0L || (active7 & 0x5060700780008800L) != 0L || (active8 & 0xffff22058002a001L) != 0L || (active9 & 0x7e013046103fff59L) != 0L || (active10 & 0x3c001801cc7aL) != 0L || (active11 & 0x400102d00020L) != 0L)
+         if ((active0 & 0x2080031001800000L) != 0L || (active1 & 0xff008a018e7023e8L) != 0L || (active2 & 0x1800d000000f017L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x8000001c00224006L) != 0L || (active5 & 0x3000000000370380L) != 0L || (active6 & 0x807043f000000L) != 0L || (active7 & 0x5060700780008800L) != 0L || (active8 & 0xffff22058002a001L) != 0L || (active9 & 0x7e013046103fff59L) != 0L || (active10 & 0x3c001801cc7aL) != 0L || (active11 & 0x800102d00020L) != 0L)
          {
             if (jjmatchedPos != 9)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 9;
             }
-            return 78;
+            return 77;
          }
+         if ((active0 & 0x8d0000000L) != 0L || (active1 & 0x401fc00001400L) != 0L || (active2 & 0x220408100400L) != 0L || (active4 & 0x40204e300000000L) != 0L || (active5 & 0x2004000400000L) != 0L || (active6 & 0x2000000000202000L) != 0L || (active7 & 0x8002000000824400L) != 0L || (active8 & 0x407000000000L) != 0L || (active9 & 0x80801048000000L) != 0L || (active10 & 0x2000000000040100L) != 0L || (active11 & 0x108015000000L) != 0L)
+            return 77;
          return -1;
       case 10:
          if ((active0 & 0x80010000000000L) != 0L || (active1 & 0x2000030082000008L) != 0L || (active2 & 0x90000000010L) != 0L || (active3 & 0x201000000L) != 0L || (active4 & 0x1c00004002L) != 0L || (active5 & 0x300000L) != 0L || (active6 & 0x400000000L) != 0L || (active7 & 0x1020000000000800L) != 0L || (active8 & 0x1220000008000L) != 0L || (active9 & 0x1300410200608L) != 0L || (active10 & 0x8000878L) != 0L || (active11 & 0x102800000L) != 0L)
-            return 78;
-         if ((active0 & 0x2000021001800000L) != 0L || (active1 & 0xdf0088e90c7023e0L) != 0L || (active2 & 0x18004000000f007L) != 0L || (active3 & 0x10000000000002L) != 0L || (active4 & 0x8000000200220004L) != 0L || (active5 & 0x3000000000070380L) != 0L || (active6 & 0x807003f000000L) != 0L || (active7 & 0x4040700780008000L) != 0L || (active8 & 0xfffe000580022001L) != 0L || (active9 & 0x7e000042001ff951L) != 0L || (active10 & 0x3c001001c402L) != 0L || (active11 & 0x400000500020L) != 0L)
+            return 77;
+         if ((active0 & 0x2000021001800000L) != 0L || (active1 & 0xdf0088e90c7023e0L) != 0L || (active2 & 0x18004000000f007L) != 0L || (active3 & 0x10000000000002L) != 0L || (active4 & 0x8000000200220004L) != 0L || (active5 & 0x3000000000070380L) != 0L || (active6 & 0x807003f000000L) != 0L || (active7 & 0x4040700780008000L) != 0L || (active8 & 0xfffe000580022001L) != 0L || (active9 & 0x7e000042001ff951L) != 0L || (active10 & 0x3c001001c402L) != 0L || (active11 & 0x800000500020L) != 0L)
          {
             if (jjmatchedPos != 10)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 10;
             }
-            return 78;
+            return 77;
          }
          return -1;
       case 11:
-         if ((active0 & 0x21001800000L) != 0L || (active1 & 0x450088e90c7003e0L) != 0L || (active2 & 0x18004000000f002L) != 0L || (active3 & 0x2L) != 0L || (active4 & 0x8000001200000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000080000000L) != 0L || (active9 & 0x7c0000420013e901L) != 0L || (active10 & 0x3c0010014472L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x21001800000L) != 0L || (active1 & 0x450088e90c7003e0L) != 0L || (active2 & 0x18004000000f002L) != 0L || (active3 & 0x2L) != 0L || (active4 & 0x8000001200000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000080000000L) != 0L || (active9 & 0x7c0000420013e901L) != 0L || (active10 & 0x3c0010014472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 11)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 11;
             }
-            return 78;
+            return 77;
          }
          if ((active0 & 0x2000000000000000L) != 0L || (active1 & 0x9a00000000002000L) != 0L || (active2 & 0x5L) != 0L || (active3 & 0x10000000000000L) != 0L || (active4 & 0x220000L) != 0L || (active5 & 0x2000000000040100L) != 0L || (active6 & 0x40000000000L) != 0L || (active7 & 0x40200000000000L) != 0L || (active8 & 0x500022001L) != 0L || (active9 & 0x2000000000c1050L) != 0L || (active10 & 0x8000L) != 0L || (active11 & 0x100020L) != 0L)
-            return 78;
+            return 77;
          return -1;
       case 12:
-         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x450008e90c7003e0L) != 0L || (active2 & 0x18000000000e003L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5800004200036801L) != 0L || (active10 & 0x3c0000014472L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x450008e90c7003e0L) != 0L || (active2 & 0x18000000000e003L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5800004200036801L) != 0L || (active10 & 0x3c0000014472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 12;
-            return 78;
+            return 77;
          }
          if ((active0 & 0x1000000000L) != 0L || (active1 & 0x800000000000L) != 0L || (active2 & 0x40000001000L) != 0L || (active3 & 0x2L) != 0L || (active4 & 0x200000000L) != 0L || (active8 & 0x80000000L) != 0L || (active9 & 0x2400000000108100L) != 0L || (active10 & 0x10000000L) != 0L)
-            return 78;
+            return 77;
          return -1;
       case 13:
          if ((active1 & 0x4000000000200000L) != 0L || (active2 & 0x8000L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x10000L) != 0L || (active6 & 0x8000003000000L) != 0L || (active7 & 0x4000400000008000L) != 0L || (active9 & 0x800000000024000L) != 0L || (active10 & 0x10000L) != 0L)
-            return 78;
-         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x50008e90c5003e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020280L) != 0L || (active6 & 0x3003c000000L) != 0L || (active7 & 0x100780000000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5000004200012801L) != 0L || (active10 & 0x3c0000004472L) != 0L || (active11 & 0x400000400000L) != 0L)
+            return 77;
+         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x50008e90c5003e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020280L) != 0L || (active6 & 0x3003c000000L) != 0L || (active7 & 0x100780000000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5000004200012801L) != 0L || (active10 & 0x3c0000004472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 13;
-            return 78;
+            return 77;
          }
          return -1;
       case 14:
-         if ((active0 & 0x20000000000L) != 0L || (active1 & 0x100084800000200L) != 0L || (active5 & 0x280L) != 0L || (active6 & 0x30000000000L) != 0L || (active7 & 0x100100000000L) != 0L || (active8 & 0x8000000000000000L) != 0L || (active9 & 0x5000004200010000L) != 0L || (active10 & 0x4402L) != 0L)
-            return 78;
-         if ((active0 & 0x1800000L) != 0L || (active1 & 0x40000a10c5001e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7ffe000000000000L) != 0L || (active9 & 0x2801L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1800000L) != 0L || (active1 & 0x40000a10c5001e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7ffe000000000000L) != 0L || (active9 & 0x2801L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 14;
-            return 78;
+            return 77;
          }
+         if ((active0 & 0x20000000000L) != 0L || (active1 & 0x100084800000200L) != 0L || (active5 & 0x280L) != 0L || (active6 & 0x30000000000L) != 0L || (active7 & 0x100100000000L) != 0L || (active8 & 0x8000000000000000L) != 0L || (active9 & 0x5000004200010000L) != 0L || (active10 & 0x4402L) != 0L)
+            return 77;
          return -1;
       case 15:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x40000a0001001c0L) != 0L || (active2 & 0x6003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7fe0000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x40000a0001001c0L) != 0L || (active2 & 0x6003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7fe0000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 15)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 15;
             }
-            return 78;
+            return 77;
          }
          if ((active0 & 0x800000L) != 0L || (active1 & 0x10c400020L) != 0L || (active2 & 0x180000000000000L) != 0L || (active8 & 0x1e000000000000L) != 0L || (active9 & 0x1L) != 0L)
-            return 78;
+            return 77;
          return -1;
       case 16:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x4000020080001c0L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0xf1c000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x4000020080001c0L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0xf1c000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 16)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 16;
             }
-            return 78;
+            return 77;
          }
          if ((active1 & 0x8000100000L) != 0L || (active2 & 0x1L) != 0L || (active5 & 0x1000000000000000L) != 0L || (active7 & 0x400000000L) != 0L || (active8 & 0x70e0000000000000L) != 0L)
-            return 78;
+            return 77;
          return -1;
       case 17:
          if ((active1 & 0x2000000080L) != 0L || (active8 & 0x400000000000000L) != 0L)
-            return 78;
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x2bdc000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+            return 77;
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x2bdc000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 17;
-            return 78;
+            return 77;
          }
          return -1;
       case 18:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x20dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active8 & 0xb00000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x10L) != 0L)
+            return 77;
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x20dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 18)
             {
-               jjmatchedKind = 824;
+               jjmatchedKind = 825;
                jjmatchedPos = 18;
             }
-            return 78;
+            return 77;
          }
-         if ((active8 & 0xb00000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x10L) != 0L)
-            return 78;
          return -1;
       case 19:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000040L) != 0L || (active2 & 0x100000000006002L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x200000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000040L) != 0L || (active2 & 0x100000000006002L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x200000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 19;
-            return 78;
+            return 77;
          }
          if ((active1 & 0x100L) != 0L || (active5 & 0x20000L) != 0L || (active7 & 0x80000000L) != 0L)
-            return 78;
+            return 77;
          return -1;
       case 20:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x8000040L) != 0L || (active2 & 0x100000000000000L) != 0L || (active7 & 0x200000000L) != 0L)
-            return 78;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x6002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x6002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 20;
-            return 78;
+            return 77;
          }
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x8000040L) != 0L || (active2 & 0x100000000000000L) != 0L || (active7 & 0x200000000L) != 0L)
+            return 77;
          return -1;
       case 21:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 21;
-            return 78;
+            return 77;
          }
          if ((active2 & 0x2000L) != 0L || (active10 & 0x180000000020L) != 0L)
-            return 78;
+            return 77;
          return -1;
       case 22:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 22;
-            return 78;
+            return 77;
          }
          if ((active6 & 0x10000000L) != 0L)
-            return 78;
+            return 77;
          return -1;
       case 23:
          if ((active8 & 0x4000000000000L) != 0L || (active10 & 0x200000000040L) != 0L)
-            return 78;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active10 & 0x40000000000L) != 0L || (active11 & 0x400000400000L) != 0L)
+            return 77;
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active10 & 0x40000000000L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 23;
-            return 78;
+            return 77;
          }
          return -1;
       case 24:
-         if ((active6 & 0x20000000L) != 0L || (active10 & 0x40000000000L) != 0L)
-            return 78;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0xc000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0xc000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 24;
-            return 78;
+            return 77;
          }
+         if ((active6 & 0x20000000L) != 0L || (active10 & 0x40000000000L) != 0L)
+            return 77;
          return -1;
       case 25:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active8 & 0x2c0000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active8 & 0x2c0000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 25;
-            return 78;
+            return 77;
          }
          if ((active6 & 0xc000000L) != 0L || (active8 & 0x2018000000000000L) != 0L || (active11 & 0x400000L) != 0L)
-            return 78;
+            return 77;
          return -1;
       case 26:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 26;
-            return 78;
+            return 77;
          }
          if ((active2 & 0x4000L) != 0L || (active8 & 0xc0000000000000L) != 0L)
-            return 78;
+            return 77;
          return -1;
       case 27:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 27;
-            return 78;
+            return 77;
          }
          return -1;
       case 28:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active8 & 0x200000000000000L) != 0L)
+            return 77;
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 28;
-            return 78;
+            return 77;
          }
-         if ((active8 & 0x200000000000000L) != 0L)
-            return 78;
          return -1;
       case 29:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 29;
-            return 78;
+            return 77;
          }
          return -1;
       case 30:
-         if ((active1 & 0x400000000000000L) != 0L)
-            return 78;
-         if ((active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 30;
-            return 78;
+            return 77;
          }
+         if ((active1 & 0x400000000000000L) != 0L)
+            return 77;
          return -1;
       case 31:
-         if ((active11 & 0x400000000000L) != 0L)
+         if ((active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 31;
-            return 78;
+            return 77;
          }
          if ((active2 & 0x2L) != 0L)
-            return 78;
+            return 77;
          return -1;
       case 32:
-         if ((active11 & 0x400000000000L) != 0L)
+         if ((active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 824;
+            jjmatchedKind = 825;
             jjmatchedPos = 32;
-            return 78;
+            return 77;
          }
          return -1;
       default :
@@ -16955,70 +16961,70 @@ private final int jjMoveStringLiteralDfa0_3()
    switch(curChar)
    {
       case 33:
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x100000L);
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000L);
       case 34:
-         return jjStartNfaWithStates_3(0, 799, 79);
+         return jjStartNfaWithStates_3(0, 800, 79);
       case 36:
-         return jjStartNfaWithStates_3(0, 804, 78);
+         return jjStartNfaWithStates_3(0, 805, 77);
       case 37:
-         return jjStopAtPos(0, 794);
+         return jjStopAtPos(0, 795);
       case 38:
-         return jjStopAtPos(0, 802);
+         return jjStopAtPos(0, 803);
       case 39:
-         return jjStartNfaWithStates_3(0, 798, 58);
+         return jjStartNfaWithStates_3(0, 799, 58);
       case 40:
-         return jjStopAtPos(0, 767);
-      case 41:
          return jjStopAtPos(0, 768);
+      case 41:
+         return jjStopAtPos(0, 769);
       case 42:
-         jjmatchedKind = 792;
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x100000000000L);
+         jjmatchedKind = 793;
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000000L);
       case 43:
-         return jjStopAtPos(0, 789);
+         return jjStopAtPos(0, 790);
       case 44:
-         return jjStopAtPos(0, 779);
+         return jjStopAtPos(0, 780);
       case 45:
-         jjmatchedKind = 790;
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x800000L);
+         jjmatchedKind = 791;
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000000L);
       case 46:
-         jjmatchedKind = 778;
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x20000000L);
+         jjmatchedKind = 779;
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x40000000L);
       case 47:
-         jjmatchedKind = 793;
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x480000000000L);
+         jjmatchedKind = 794;
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x900000000000L);
       case 58:
-         jjmatchedKind = 784;
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000000L);
+         jjmatchedKind = 785;
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x4000000000L);
       case 59:
-         return jjStopAtPos(0, 777);
+         return jjStopAtPos(0, 778);
       case 60:
-         jjmatchedKind = 782;
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x8000a0000L);
+         jjmatchedKind = 783;
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000140000L);
       case 61:
-         jjmatchedKind = 780;
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000000L);
-      case 62:
          jjmatchedKind = 781;
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x40000L);
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x20000000L);
+      case 62:
+         jjmatchedKind = 782;
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x80000L);
       case 63:
-         return jjStopAtPos(0, 783);
+         return jjStopAtPos(0, 784);
       case 91:
-         return jjStopAtPos(0, 775);
-      case 93:
          return jjStopAtPos(0, 776);
+      case 93:
+         return jjStopAtPos(0, 777);
       case 94:
-         return jjStopAtPos(0, 801);
+         return jjStopAtPos(0, 802);
       case 65:
       case 97:
          jjmatchedKind = 3;
-         return jjMoveStringLiteralDfa1_3(0x3ffffffff0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x220000300000L, 0x0L);
+         return jjMoveStringLiteralDfa1_3(0x3ffffffff0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x440000300000L, 0x0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa1_3(0xfffc000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x80000L, 0x0L);
       case 67:
       case 99:
          jjmatchedKind = 52;
-         return jjMoveStringLiteralDfa1_3(0xffe0000000000000L, 0xffffffffffffffffL, 0x3fL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x14001800000L, 0x0L);
+         return jjMoveStringLiteralDfa1_3(0xffe0000000000000L, 0xffffffffffffffffL, 0x3fL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x28001800000L, 0x0L);
       case 68:
       case 100:
          return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x1ffffffffffffc0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000L, 0x0L);
@@ -17034,7 +17040,7 @@ private final int jjMoveStringLiteralDfa0_3()
          return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x7ffc0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x1f80000000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x1f80000000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000L, 0x0L);
       case 73:
       case 105:
          return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0xe000000000000000L, 0x1fffffffL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x140020000L, 0x0L);
@@ -17044,35 +17050,35 @@ private final int jjMoveStringLiteralDfa0_3()
       case 75:
       case 107:
          jjmatchedKind = 296;
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0xe0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0xe0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000000L, 0x0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0xfffff00000000000L, 0x3L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0xfffff00000000000L, 0x3L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x400000000L, 0x0L);
       case 77:
       case 109:
          jjmatchedKind = 322;
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffff8L, 0x0L, 0x0L, 0x100000L, 0x0L, 0x0L, 0x400000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffff8L, 0x0L, 0x0L, 0x100000L, 0x0L, 0x0L, 0x800000000000L, 0x0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffff000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x400000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffff000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x800000000L, 0x0L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xf800000000000000L, 0x3fffffL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffc00000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x880000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffc00000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1080000000L, 0x0L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7L, 0x0L, 0x0L, 0x0L, 0x40000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7L, 0x0L, 0x0L, 0x0L, 0x80000000000L, 0x0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffff8L, 0x0L, 0x0L, 0x0L, 0x100000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffff8L, 0x0L, 0x0L, 0x0L, 0x200000000000L, 0x0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfff0000000000000L, 0xffffffffffefffffL, 0x3fffffffffffL, 0x0L, 0x8a000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfff0000000000000L, 0xffffffffffefffffL, 0x3fffffffffffL, 0x0L, 0x114000000000L, 0x0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffc00000000000L, 0x1ffffffL, 0x800000040000L, 0x0L);
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffc00000000000L, 0x1ffffffL, 0x1000000040000L, 0x0L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffffe000000L, 0x0L, 0x0L);
@@ -17092,12 +17098,12 @@ private final int jjMoveStringLiteralDfa0_3()
       case 122:
          return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000L, 0x0L);
       case 123:
-         return jjStartNfaWithStates_3(0, 773, 77);
+         return jjStartNfaWithStates_3(0, 774, 78);
       case 124:
-         jjmatchedKind = 800;
-         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x8000000L);
+         jjmatchedKind = 801;
+         return jjMoveStringLiteralDfa1_3(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000000L);
       case 125:
-         return jjStopAtPos(0, 774);
+         return jjStopAtPos(0, 775);
       default :
          return jjMoveNfa_3(0, 0);
    }
@@ -17112,59 +17118,59 @@ private final int jjMoveStringLiteralDfa1_3(long active0, long active1, long act
    switch(curChar)
    {
       case 42:
-         if ((active12 & 0x400000000000L) != 0L)
+         if ((active12 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 814;
+            jjmatchedKind = 815;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0x80000000000L);
+         return jjMoveStringLiteralDfa2_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0x100000000000L);
       case 46:
-         if ((active12 & 0x20000000L) != 0L)
-            return jjStopAtPos(1, 797);
+         if ((active12 & 0x40000000L) != 0L)
+            return jjStopAtPos(1, 798);
          break;
       case 47:
-         if ((active12 & 0x100000000000L) != 0L)
-            return jjStopAtPos(1, 812);
+         if ((active12 & 0x200000000000L) != 0L)
+            return jjStopAtPos(1, 813);
          break;
       case 58:
-         if ((active12 & 0x2000000000L) != 0L)
-            return jjStopAtPos(1, 805);
+         if ((active12 & 0x4000000000L) != 0L)
+            return jjStopAtPos(1, 806);
          break;
       case 60:
-         if ((active12 & 0x800000000L) != 0L)
-            return jjStopAtPos(1, 803);
+         if ((active12 & 0x1000000000L) != 0L)
+            return jjStopAtPos(1, 804);
          break;
       case 61:
-         if ((active12 & 0x20000L) != 0L)
-            return jjStopAtPos(1, 785);
-         else if ((active12 & 0x40000L) != 0L)
+         if ((active12 & 0x40000L) != 0L)
             return jjStopAtPos(1, 786);
-         else if ((active12 & 0x100000L) != 0L)
-            return jjStopAtPos(1, 788);
+         else if ((active12 & 0x80000L) != 0L)
+            return jjStopAtPos(1, 787);
+         else if ((active12 & 0x200000L) != 0L)
+            return jjStopAtPos(1, 789);
          break;
       case 62:
-         if ((active12 & 0x80000L) != 0L)
-            return jjStopAtPos(1, 787);
-         else if ((active12 & 0x800000L) != 0L)
-            return jjStopAtPos(1, 791);
-         else if ((active12 & 0x10000000L) != 0L)
-            return jjStopAtPos(1, 796);
+         if ((active12 & 0x100000L) != 0L)
+            return jjStopAtPos(1, 788);
+         else if ((active12 & 0x1000000L) != 0L)
+            return jjStopAtPos(1, 792);
+         else if ((active12 & 0x20000000L) != 0L)
+            return jjStopAtPos(1, 797);
          break;
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa2_3(active0, 0x3fe0000000000000L, active1, 0L, active2, 0x2000000000fffc0L, active3, 0x80000000080000L, active4, 0x7f00020000000L, active5, 0x1f000000ff8L, active6, 0x3fffc00000L, active7, 0x1f0000000000018L, active8, 0L, active9, 0x1c00000000000L, active10, 0xff8000000000000L, active11, 0x400887880000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_3(active0, 0x3fe0000000000000L, active1, 0L, active2, 0x2000000000fffc0L, active3, 0x80000000080000L, active4, 0x7f00020000000L, active5, 0x1f000000ff8L, active6, 0x3fffc00000L, active7, 0x1f0000000000018L, active8, 0L, active9, 0x1c00000000000L, active10, 0xff8000000000000L, active11, 0x801287880000L, active12, 0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa2_3(active0, 0x70L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x800000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa2_3(active0, 0x80L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x7000060000000000L, active6, 0L, active7, 0xfe00000000000000L, active8, 0x3L, active9, 0L, active10, 0L, active11, 0x2000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_3(active0, 0x80L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x7000060000000000L, active6, 0L, active7, 0xfe00000000000000L, active8, 0x3L, active9, 0L, active10, 0L, active11, 0x4000000000L, active12, 0L);
       case 68:
       case 100:
          return jjMoveStringLiteralDfa2_3(active0, 0x700L, active1, 0L, active2, 0L, active3, 0x2000000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa2_3(active0, 0xc0000fc000000000L, active1, 0x1L, active2, 0x7fffff00000L, active3, 0x3c0000100000L, active4, 0xf80e0000000000L, active5, 0x3800000ff000L, active6, 0x1fc000000000L, active7, 0x3fffffffe0L, active8, 0xffffcL, active9, 0x2000000000000L, active10, 0xb000000002000000L, active11, 0x10800004c003L, active12, 0L);
+         return jjMoveStringLiteralDfa2_3(active0, 0xc0000fc000000000L, active1, 0x1L, active2, 0x7fffff00000L, active3, 0x3c0000100000L, active4, 0xf80e0000000000L, active5, 0x3800000ff000L, active6, 0x1fc000000000L, active7, 0x3fffffffe0L, active8, 0xffffcL, active9, 0x2000000000000L, active10, 0xb000000002000000L, active11, 0x21000004c003L, active12, 0L);
       case 70:
       case 102:
          if ((active5 & 0x8000000000000000L) != 0L)
@@ -17173,7 +17179,7 @@ private final int jjMoveStringLiteralDfa1_3(long active0, long active1, long act
             jjmatchedPos = 1;
          }
          else if ((active11 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_3(1, 721, 78);
+            return jjStartNfaWithStates_3(1, 721, 77);
          return jjMoveStringLiteralDfa2_3(active0, 0x800L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x1L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x100000L, active12, 0L);
       case 71:
       case 103:
@@ -17183,7 +17189,7 @@ private final int jjMoveStringLiteralDfa1_3(long active0, long active1, long act
          return jjMoveStringLiteralDfa2_3(active0, 0L, active1, 0xffeL, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x200000L, active9, 0xc000000000000L, active10, 0L, active11, 0x1cL, active12, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa2_3(active0, 0x700000000000L, active1, 0L, active2, 0xf80000000000L, active3, 0x100000001e00000L, active4, 0xf00000000000000L, active5, 0x7f00000L, active6, 0x200000000000L, active7, 0x4000000000L, active8, 0x1d00000L, active9, 0xfff0000000000000L, active10, 0x4000000000000000L, active11, 0x10000003e0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_3(active0, 0x700000000000L, active1, 0L, active2, 0xf80000000000L, active3, 0x100000001e00000L, active4, 0xf00000000000000L, active5, 0x7f00000L, active6, 0x200000000000L, active7, 0x4000000000L, active8, 0x1d00000L, active9, 0xfff0000000000000L, active10, 0x4000000000000000L, active11, 0x20000003e0L, active12, 0L);
       case 75:
       case 107:
          return jjMoveStringLiteralDfa2_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x2000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -17201,13 +17207,13 @@ private final int jjMoveStringLiteralDfa1_3(long active0, long active1, long act
             jjmatchedPos = 1;
          }
          else if ((active4 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(1, 316, 78);
+            return jjStartNfaWithStates_3(1, 316, 77);
          else if ((active6 & 0x8L) != 0L)
          {
             jjmatchedKind = 387;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_3(active0, 0x60000L, active1, 0L, active2, 0xe000000000000000L, active3, 0x3L, active4, 0x1ffffe0L, active5, 0L, active6, 0x30L, active7, 0L, active8, 0L, active9, 0L, active10, 0x1ffc000000L, active11, 0x200160000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_3(active0, 0x60000L, active1, 0L, active2, 0xe000000000000000L, active3, 0x3L, active4, 0x1ffffe0L, active5, 0L, active6, 0x30L, active7, 0L, active8, 0L, active9, 0L, active10, 0x1ffc000000L, active11, 0x400160000000L, active12, 0L);
       case 79:
       case 111:
          if ((active3 & 0x800000000000L) != 0L)
@@ -17225,7 +17231,7 @@ private final int jjMoveStringLiteralDfa1_3(long active0, long active1, long act
             jjmatchedKind = 640;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_3(active0, 0x3000000000000L, active1, 0x7ffffffff0000L, active2, 0x1f000000000000L, active3, 0x1e010001f8000000L, active4, 0xe000000040000000L, active5, 0x78003f8000003L, active6, 0x1e000000000000L, active7, 0x7ff0000000000L, active8, 0x18000000L, active9, 0L, active10, 0x2L, active11, 0x814600010400L, active12, 0L);
+         return jjMoveStringLiteralDfa2_3(active0, 0x3000000000000L, active1, 0x7ffffffff0000L, active2, 0x1f000000000000L, active3, 0x1e010001f8000000L, active4, 0xe000000040000000L, active5, 0x78003f8000003L, active6, 0x1e000000000000L, active7, 0x7ff0000000000L, active8, 0x18000000L, active9, 0L, active10, 0x2L, active11, 0x1028c00010400L, active12, 0L);
       case 80:
       case 112:
          return jjMoveStringLiteralDfa2_3(active0, 0x80000L, active1, 0L, active2, 0L, active3, 0x4L, active4, 0L, active5, 0L, active6, 0x1c0L, active7, 0L, active8, 0x1e0000000L, active9, 0L, active10, 0xe000000000L, active11, 0L, active12, 0L);
@@ -17252,7 +17258,7 @@ private final int jjMoveStringLiteralDfa1_3(long active0, long active1, long act
             jjmatchedKind = 281;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_3(active0, 0xfc000000L, active1, 0L, active2, 0L, active3, 0x20L, active4, 0xff9c000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x7f0000000000L, active11, 0x20000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_3(active0, 0xfc000000L, active1, 0L, active2, 0L, active3, 0x20L, active4, 0xff9c000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x7f0000000000L, active11, 0x40000000000L, active12, 0L);
       case 84:
       case 116:
          if ((active0 & 0x100000000L) != 0L)
@@ -17260,10 +17266,10 @@ private final int jjMoveStringLiteralDfa1_3(long active0, long active1, long act
             jjmatchedKind = 32;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_3(active0, 0xe00000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x18000000000000L, active6, 0x4000L, active7, 0L, active8, 0L, active9, 0x1ff800000L, active10, 0x3800000000000L, active11, 0x80000200000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_3(active0, 0xe00000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x18000000000000L, active6, 0x4000L, active7, 0L, active8, 0L, active9, 0x1ff800000L, active10, 0x3800000000000L, active11, 0x100000200000L, active12, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa2_3(active0, 0x1000000000L, active1, 0xffe0000000000000L, active2, 0x1fL, active3, 0x1c000000000L, active4, 0L, active5, 0x7e0000c00000000L, active6, 0x8000000000038000L, active7, 0x8000000000007L, active8, 0L, active9, 0x3fe00000000L, active10, 0x4000000c00000L, active11, 0x40000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_3(active0, 0x1000000000L, active1, 0xffe0000000000000L, active2, 0x1fL, active3, 0x1c000000000L, active4, 0L, active5, 0x7e0000c00000000L, active6, 0x8000000000038000L, active7, 0x8000000000007L, active8, 0L, active9, 0x3fe00000000L, active10, 0x4000000c00000L, active11, 0x80000000000L, active12, 0L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa2_3(active0, 0x2000000000L, active1, 0L, active2, 0L, active3, 0x40L, active4, 0L, active5, 0L, active6, 0x3c0000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -17273,11 +17279,11 @@ private final int jjMoveStringLiteralDfa1_3(long active0, long active1, long act
       case 89:
       case 121:
          if ((active0 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_3(1, 51, 78);
+            return jjStartNfaWithStates_3(1, 51, 77);
          return jjMoveStringLiteralDfa2_3(active0, 0L, active1, 0L, active2, 0x1c0000000000020L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x3c0000000000L, active10, 0x1000000L, active11, 0L, active12, 0L);
       case 124:
-         if ((active12 & 0x8000000L) != 0L)
-            return jjStopAtPos(1, 795);
+         if ((active12 & 0x10000000L) != 0L)
+            return jjStopAtPos(1, 796);
          break;
       default :
          break;
@@ -17296,21 +17302,21 @@ private final int jjMoveStringLiteralDfa2_3(long old0, long active0, long old1,
    switch(curChar)
    {
       case 43:
-         if ((active12 & 0x80000000000L) != 0L)
-            return jjStopAtPos(2, 811);
+         if ((active12 & 0x100000000000L) != 0L)
+            return jjStopAtPos(2, 812);
          break;
       case 65:
       case 97:
          if ((active0 & 0x100L) != 0L)
-            return jjStartNfaWithStates_3(2, 8, 78);
-         return jjMoveStringLiteralDfa3_3(active0, 0L, active1, 0x137feL, active2, 0x80000100000L, active3, 0x6000600000000L, active4, 0x18000000000000L, active5, 0x3000L, active6, 0xc00000000000L, active7, 0x6000000000000e7L, active8, 0x24000004L, active9, 0x7800000L, active10, 0x10000000ffcL, active11, 0x28201800c800L, active12, 0L);
+            return jjStartNfaWithStates_3(2, 8, 77);
+         return jjMoveStringLiteralDfa3_3(active0, 0L, active1, 0x137feL, active2, 0x80000100000L, active3, 0x6000600000000L, active4, 0x18000000000000L, active5, 0x3000L, active6, 0xc00000000000L, active7, 0x6000000000000e7L, active8, 0x24000004L, active9, 0x7800000L, active10, 0x10000000ffcL, active11, 0x50401800c800L, active12, 0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa3_3(active0, 0L, active1, 0x20000000020000L, active2, 0L, active3, 0L, active4, 0x100100000000000L, active5, 0L, active6, 0x8000000000000000L, active7, 0L, active8, 0L, active9, 0x1c07e00000000L, active10, 0x4000000L, active11, 0L, active12, 0L);
       case 67:
       case 99:
          if ((active0 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_3(2, 27, 78);
+            return jjStartNfaWithStates_3(2, 27, 77);
          else if ((active2 & 0x200000L) != 0L)
          {
             jjmatchedKind = 149;
@@ -17320,9 +17326,9 @@ private final int jjMoveStringLiteralDfa2_3(long old0, long active0, long old1,
       case 68:
       case 100:
          if ((active0 & 0x200L) != 0L)
-            return jjStartNfaWithStates_3(2, 9, 78);
+            return jjStartNfaWithStates_3(2, 9, 77);
          else if ((active0 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_3(2, 17, 78);
+            return jjStartNfaWithStates_3(2, 17, 77);
          else if ((active2 & 0x4000000000000000L) != 0L)
          {
             jjmatchedKind = 190;
@@ -17334,17 +17340,17 @@ private final int jjMoveStringLiteralDfa2_3(long old0, long active0, long old1,
             jjmatchedPos = 2;
          }
          else if ((active6 & 0x2L) != 0L)
-            return jjStartNfaWithStates_3(2, 385, 78);
+            return jjStartNfaWithStates_3(2, 385, 77);
          else if ((active6 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_3(2, 406, 78);
+            return jjStartNfaWithStates_3(2, 406, 77);
          return jjMoveStringLiteralDfa3_3(active0, 0L, active1, 0L, active2, 0x8000000000000000L, active3, 0x3L, active4, 0x100L, active5, 0x30000000L, active6, 0x3c00L, active7, 0L, active8, 0L, active9, 0x18000000L, active10, 0x8000002020000000L, active11, 0x40000020L, active12, 0L);
       case 69:
       case 101:
          if ((active0 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_3(2, 20, 78);
+            return jjStartNfaWithStates_3(2, 20, 77);
          else if ((active6 & 0x10L) != 0L)
-            return jjStartNfaWithStates_3(2, 388, 78);
-         return jjMoveStringLiteralDfa3_3(active0, 0x4000010000000L, active1, 0x8000000000800L, active2, 0x400000000000000L, active3, 0x2100000800001840L, active4, 0L, active5, 0L, active6, 0x7e00000003c0040L, active7, 0L, active8, 0x1c0000080L, active9, 0x14000000000000L, active10, 0x40003e0000401000L, active11, 0x4000000001fL, active12, 0L);
+            return jjStartNfaWithStates_3(2, 388, 77);
+         return jjMoveStringLiteralDfa3_3(active0, 0x4000010000000L, active1, 0x8000000000800L, active2, 0x400000000000000L, active3, 0x2100000800001840L, active4, 0L, active5, 0L, active6, 0x7e00000003c0040L, active7, 0L, active8, 0x1c0000080L, active9, 0x14000000000000L, active10, 0x40003e0000401000L, active11, 0x8000000001fL, active12, 0L);
       case 70:
       case 102:
          if ((active7 & 0x200L) != 0L)
@@ -17352,21 +17358,21 @@ private final int jjMoveStringLiteralDfa2_3(long old0, long active0, long old1,
             jjmatchedKind = 457;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_3(active0, 0x4000000000L, active1, 0L, active2, 0xfe000000L, active3, 0L, active4, 0x20000000000000L, active5, 0L, active6, 0x1L, active7, 0x70000000000c00L, active8, 0L, active9, 0L, active10, 0x3800000000000L, active11, 0x100000100000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_3(active0, 0x4000000000L, active1, 0L, active2, 0xfe000000L, active3, 0L, active4, 0x20000000000000L, active5, 0L, active6, 0x1L, active7, 0x70000000000c00L, active8, 0L, active9, 0L, active10, 0x3800000000000L, active11, 0x200000100000L, active12, 0L);
       case 71:
       case 103:
          if ((active0 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_3(2, 37, 78);
+            return jjStartNfaWithStates_3(2, 37, 77);
          else if ((active4 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_3(2, 301, 78);
-         return jjMoveStringLiteralDfa3_3(active0, 0x138000000000L, active1, 0L, active2, 0x100000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40001ff000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200000000L, active12, 0L);
+            return jjStartNfaWithStates_3(2, 301, 77);
+         return jjMoveStringLiteralDfa3_3(active0, 0x138000000000L, active1, 0L, active2, 0x100000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40001ff000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000L, active12, 0L);
       case 72:
       case 104:
          return jjMoveStringLiteralDfa3_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x8020000000000L, active6, 0x4000L, active7, 0x1800000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 73:
       case 105:
          if ((active6 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_3(2, 432, 78);
+            return jjStartNfaWithStates_3(2, 432, 77);
          return jjMoveStringLiteralDfa3_3(active0, 0xc000000000000000L, active1, 0L, active2, 0L, active3, 0x8000001000002000L, active4, 0x40000600L, active5, 0x10000000000000L, active6, 0x3800000000000004L, active7, 0x8000000000L, active8, 0x2000000L, active9, 0L, active10, 0x44000c007e000L, active11, 0x401000L, active12, 0L);
       case 74:
       case 106:
@@ -17387,13 +17393,13 @@ private final int jjMoveStringLiteralDfa2_3(long old0, long active0, long old1,
             jjmatchedPos = 2;
          }
          else if ((active11 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_3(2, 717, 78);
-         return jjMoveStringLiteralDfa3_3(active0, 0x60000000006000L, active1, 0x3fc0000L, active2, 0x200000000L, active3, 0x200004008280000L, active4, 0L, active5, 0x1e0040400600000L, active6, 0x20L, active7, 0x70000600000L, active8, 0xfffffffc00000300L, active9, 0x3fffffL, active10, 0x38000000000000L, active11, 0x1504000000L, active12, 0L);
+            return jjStartNfaWithStates_3(2, 717, 77);
+         return jjMoveStringLiteralDfa3_3(active0, 0x60000000006000L, active1, 0x3fc0000L, active2, 0x200000000L, active3, 0x200004008280000L, active4, 0L, active5, 0x1e0040400600000L, active6, 0x20L, active7, 0x70000600000L, active8, 0xfffffffc00000300L, active9, 0x3fffffL, active10, 0x38000000000000L, active11, 0x2904000000L, active12, 0L);
       case 77:
       case 109:
          if ((active9 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_3(2, 616, 78);
-         return jjMoveStringLiteralDfa3_3(active0, 0x400L, active1, 0x4000003c000000L, active2, 0x1000000000000L, active3, 0L, active4, 0x800000000000003L, active5, 0x600003800004000L, active6, 0L, active7, 0L, active8, 0x8c00000L, active9, 0x7fe2040000000000L, active10, 0x800000L, active11, 0x10000040000L, active12, 0L);
+            return jjStartNfaWithStates_3(2, 616, 77);
+         return jjMoveStringLiteralDfa3_3(active0, 0x400L, active1, 0x4000003c000000L, active2, 0x1000000000000L, active3, 0L, active4, 0x800000000000003L, active5, 0x600003800004000L, active6, 0L, active7, 0L, active8, 0x8c00000L, active9, 0x7fe2040000000000L, active10, 0x800000L, active11, 0x20000040000L, active12, 0L);
       case 78:
       case 110:
          if ((active5 & 0x800000L) != 0L)
@@ -17401,7 +17407,7 @@ private final int jjMoveStringLiteralDfa2_3(long old0, long active0, long old1,
             jjmatchedKind = 343;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_3(active0, 0x200000000000L, active1, 0x3fffc0000001L, active2, 0x1c0000400000000L, active3, 0x40000c8000400000L, active4, 0x40400000000800L, active5, 0x8041c7000000L, active6, 0L, active7, 0x8000000000018L, active8, 0x100400L, active9, 0x8000020000000000L, active10, 0xc00000000L, active11, 0x4000010040L, active12, 0L);
+         return jjMoveStringLiteralDfa3_3(active0, 0x200000000000L, active1, 0x3fffc0000001L, active2, 0x1c0000400000000L, active3, 0x40000c8000400000L, active4, 0x40400000000800L, active5, 0x8041c7000000L, active6, 0L, active7, 0x8000000000018L, active8, 0x100400L, active9, 0x8000020000000000L, active10, 0xc00000000L, active11, 0x8000010040L, active12, 0L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa3_3(active0, 0x1800204000000L, active1, 0x1000000000c000L, active2, 0x20000000000000L, active3, 0x78502006000004L, active4, 0xff9c001000L, active5, 0L, active6, 0x4000000000000000L, active7, 0xe000000000000000L, active8, 0x200001L, active9, 0L, active10, 0L, active11, 0x200000L, active12, 0L);
@@ -17413,9 +17419,9 @@ private final int jjMoveStringLiteralDfa2_3(long old0, long active0, long old1,
             jjmatchedPos = 2;
          }
          else if ((active3 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_3(2, 250, 78);
+            return jjStartNfaWithStates_3(2, 250, 77);
          else if ((active5 & 0x8L) != 0L)
-            return jjStartNfaWithStates_3(2, 323, 78);
+            return jjStartNfaWithStates_3(2, 323, 77);
          return jjMoveStringLiteralDfa3_3(active0, 0x80000L, active1, 0L, active2, 0x1000000800000000L, active3, 0x8000L, active4, 0x200cL, active5, 0L, active6, 0L, active7, 0x1800000L, active8, 0x800L, active9, 0L, active10, 0x4201000002L, active11, 0L, active12, 0L);
       case 81:
       case 113:
@@ -17432,7 +17438,7 @@ private final int jjMoveStringLiteralDfa2_3(long old0, long active0, long old1,
             jjmatchedKind = 422;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_3(active0, 0x80040001e00000L, active1, 0xff80c00000000000L, active2, 0x300000001fL, active3, 0xe1800010L, active4, 0x800000000000L, active5, 0x3000200008000L, active6, 0x21f80ff800000L, active7, 0L, active8, 0xe002L, active9, 0xe0400000L, active10, 0x3fc0000000000000L, active11, 0x8080000400L, active12, 0L);
+         return jjMoveStringLiteralDfa3_3(active0, 0x80040001e00000L, active1, 0xff80c00000000000L, active2, 0x300000001fL, active3, 0xe1800010L, active4, 0x800000000000L, active5, 0x3000200008000L, active6, 0x21f80ff800000L, active7, 0L, active8, 0xe002L, active9, 0xe0400000L, active10, 0x3fc0000000000000L, active11, 0x10080000400L, active12, 0L);
       case 83:
       case 115:
          if ((active0 & 0x10L) != 0L)
@@ -17440,22 +17446,22 @@ private final int jjMoveStringLiteralDfa2_3(long old0, long active0, long old1,
             jjmatchedKind = 4;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_3(active0, 0xf00000060000060L, active1, 0L, active2, 0x800f3c000000000L, active3, 0x10000000000L, active4, 0x300000003c000L, active5, 0x80000070000L, active6, 0xc000f00000000L, active7, 0x3e000000L, active8, 0x30000L, active9, 0x380000000000L, active10, 0x9002000000L, active11, 0x800000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_3(active0, 0xf00000060000060L, active1, 0L, active2, 0x800f3c000000000L, active3, 0x10000000000L, active4, 0x300000003c000L, active5, 0x80000070000L, active6, 0xc000f00000000L, active7, 0x3e000000L, active8, 0x30000L, active9, 0x380000000000L, active10, 0x9002000000L, active11, 0x1200000000L, active12, 0L);
       case 84:
       case 116:
          if ((active0 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_3(2, 46, 78);
+            return jjStartNfaWithStates_3(2, 46, 77);
          else if ((active2 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_3(2, 177, 78);
+            return jjStartNfaWithStates_3(2, 177, 77);
          else if ((active3 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_3(2, 237, 78);
+            return jjStartNfaWithStates_3(2, 237, 77);
          else if ((active4 & 0x40000L) != 0L)
          {
             jjmatchedKind = 274;
             jjmatchedPos = 2;
          }
          else if ((active5 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_3(2, 370, 78);
+            return jjStartNfaWithStates_3(2, 370, 77);
          else if ((active6 & 0x8000L) != 0L)
          {
             jjmatchedKind = 399;
@@ -17466,7 +17472,7 @@ private final int jjMoveStringLiteralDfa2_3(long old0, long active0, long old1,
             jjmatchedKind = 530;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_3(active0, 0x3002081c00008880L, active1, 0L, active2, 0x4000000ffc0L, active3, 0x1000000170000L, active4, 0x4000000f80000L, active5, 0x60000180000803f0L, active6, 0x3000030180L, active7, 0x80001fc0000000L, active8, 0x80000L, active9, 0L, active10, 0L, active11, 0x800002000380L, active12, 0L);
+         return jjMoveStringLiteralDfa3_3(active0, 0x3002081c00008880L, active1, 0L, active2, 0x4000000ffc0L, active3, 0x1000000170000L, active4, 0x4000000f80000L, active5, 0x60000180000803f0L, active6, 0x3000030180L, active7, 0x80001fc0000000L, active8, 0x80000L, active9, 0L, active10, 0L, active11, 0x1000002000380L, active12, 0L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa3_3(active0, 0L, active1, 0x1000000000000L, active2, 0x4000000000000L, active3, 0x1800000100000008L, active4, 0L, active5, 0L, active6, 0L, active7, 0x780000000000L, active8, 0x10000000L, active9, 0x8000000000000L, active10, 0x180000L, active11, 0L, active12, 0L);
@@ -17476,9 +17482,9 @@ private final int jjMoveStringLiteralDfa2_3(long old0, long active0, long old1,
       case 87:
       case 119:
          if ((active2 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_3(2, 179, 78);
+            return jjStartNfaWithStates_3(2, 179, 77);
          else if ((active5 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_3(2, 364, 78);
+            return jjStartNfaWithStates_3(2, 364, 77);
          else if ((active7 & 0x800000000000L) != 0L)
          {
             jjmatchedKind = 495;
@@ -17492,24 +17498,24 @@ private final int jjMoveStringLiteralDfa2_3(long old0, long active0, long old1,
             jjmatchedKind = 330;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000800L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000800L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L, active12, 0L);
       case 89:
       case 121:
          if ((active0 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_3(2, 18, 78);
+            return jjStartNfaWithStates_3(2, 18, 77);
          else if ((active2 & 0x10000L) != 0L)
          {
             jjmatchedKind = 144;
             jjmatchedPos = 2;
          }
          else if ((active2 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_3(2, 180, 78);
+            return jjStartNfaWithStates_3(2, 180, 77);
          else if ((active4 & 0x20000000000L) != 0L)
          {
             jjmatchedKind = 297;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_3(active0, 0x80000000L, active1, 0L, active2, 0xe0000L, active3, 0L, active4, 0xc0000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x100000000L, active10, 0x200000L, active11, 0x20000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_3(active0, 0x80000000L, active1, 0L, active2, 0xe0000L, active3, 0L, active4, 0xc0000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x100000000L, active10, 0x200000L, active11, 0x40000000000L, active12, 0L);
       case 90:
       case 122:
          return jjMoveStringLiteralDfa3_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -17537,10 +17543,10 @@ private final int jjMoveStringLiteralDfa3_3(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x2000000000000L, active11, 0L);
       case 56:
          if ((active10 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 687, 78);
+            return jjStartNfaWithStates_3(3, 687, 77);
          break;
       case 95:
-         return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0L, active2, 0L, active3, 0x3L, active4, 0xc0000000000L, active5, 0x8000000000000L, active6, 0L, active7, 0x3000000000000L, active8, 0xffffffe000000000L, active9, 0x3fffffL, active10, 0xc0000000200002L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0L, active2, 0L, active3, 0x3L, active4, 0xc0000000000L, active5, 0x8000000000000L, active6, 0L, active7, 0x3000000000000L, active8, 0xffffffe000000000L, active9, 0x3fffffL, active10, 0xc0000000200002L, active11, 0x800000000000L);
       case 65:
       case 97:
          if ((active2 & 0x40L) != 0L)
@@ -17549,14 +17555,14 @@ private final int jjMoveStringLiteralDfa3_3(long old0, long active0, long old1,
             jjmatchedPos = 3;
          }
          else if ((active4 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 285, 78);
-         return jjMoveStringLiteralDfa4_3(active0, 0x3004200001e10000L, active1, 0xe000000000000L, active2, 0x1c1100006400080L, active3, 0x2400028L, active4, 0xe000000000000000L, active5, 0x20000000001L, active6, 0x3f800000L, active7, 0x200000L, active8, 0x800L, active9, 0L, active10, 0x2400001000L, active11, 0x800082000000L);
+            return jjStartNfaWithStates_3(3, 285, 77);
+         return jjMoveStringLiteralDfa4_3(active0, 0x3004200001e10000L, active1, 0xe000000000000L, active2, 0x1c1100006400080L, active3, 0x2400028L, active4, 0xe000000000000000L, active5, 0x20000000001L, active6, 0x3f800000L, active7, 0x200000L, active8, 0x800L, active9, 0L, active10, 0x2400001000L, active11, 0x1000082000000L);
       case 66:
       case 98:
          if ((active0 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 47, 78);
+            return jjStartNfaWithStates_3(3, 47, 77);
          else if ((active1 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_3(3, 78, 78);
+            return jjStartNfaWithStates_3(3, 78, 77);
          return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0L, active2, 0x4000000000000L, active3, 0x400000000000L, active4, 0L, active5, 0x200000000004000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x100000000800000L, active11, 0L);
       case 67:
       case 99:
@@ -17574,7 +17580,7 @@ private final int jjMoveStringLiteralDfa3_3(long old0, long active0, long old1,
       case 68:
       case 100:
          if ((active3 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 249, 78);
+            return jjStartNfaWithStates_3(3, 249, 77);
          else if ((active4 & 0x8000000000000L) != 0L)
          {
             jjmatchedKind = 307;
@@ -17586,78 +17592,80 @@ private final int jjMoveStringLiteralDfa3_3(long old0, long active0, long old1,
             jjmatchedPos = 3;
          }
          else if ((active10 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 690, 78);
+            return jjStartNfaWithStates_3(3, 690, 77);
          return jjMoveStringLiteralDfa4_3(active0, 0x80000000000000L, active1, 0x1c0000000L, active2, 0L, active3, 0x1000000000L, active4, 0x10000004000000L, active5, 0x40000000L, active6, 0L, active7, 0x40L, active8, 0L, active9, 0x20018000000L, active10, 0L, active11, 0x40L);
       case 69:
       case 101:
          if ((active0 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 58, 78);
+            return jjStartNfaWithStates_3(3, 58, 77);
          else if ((active1 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 117, 78);
+            return jjStartNfaWithStates_3(3, 117, 77);
          else if ((active2 & 0x100L) != 0L)
          {
             jjmatchedKind = 136;
             jjmatchedPos = 3;
          }
          else if ((active2 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 187, 78);
+            return jjStartNfaWithStates_3(3, 187, 77);
          else if ((active3 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 227, 78);
+            return jjStartNfaWithStates_3(3, 227, 77);
          else if ((active4 & 0x200000000000000L) != 0L)
          {
             jjmatchedKind = 313;
             jjmatchedPos = 3;
          }
          else if ((active5 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 353, 78);
+            return jjStartNfaWithStates_3(3, 353, 77);
          else if ((active5 & 0x1000000000L) != 0L)
          {
             jjmatchedKind = 356;
             jjmatchedPos = 3;
          }
          else if ((active5 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 367, 78);
+            return jjStartNfaWithStates_3(3, 367, 77);
          else if ((active7 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 488, 78);
+            return jjStartNfaWithStates_3(3, 488, 77);
          else if ((active8 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 536, 78);
+            return jjStartNfaWithStates_3(3, 536, 77);
          else if ((active8 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 539, 78);
+            return jjStartNfaWithStates_3(3, 539, 77);
          else if ((active9 & 0x20000000000000L) != 0L)
          {
             jjmatchedKind = 629;
             jjmatchedPos = 3;
          }
          else if ((active10 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_3(3, 659, 78);
+            return jjStartNfaWithStates_3(3, 659, 77);
          else if ((active10 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 664, 78);
+            return jjStartNfaWithStates_3(3, 664, 77);
          else if ((active11 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_3(3, 720, 78);
+            return jjStartNfaWithStates_3(3, 720, 77);
          return jjMoveStringLiteralDfa4_3(active0, 0x20008820L, active1, 0x40000000000000L, active2, 0x4121800fe00L, active3, 0xc0040030180L, active4, 0x48410000078c803L, active5, 0x6c00002000000002L, active6, 0x10000000014c00L, active7, 0x1970000002c00c00L, active8, 0x400000100L, active9, 0x7fc0000020000000L, active10, 0xc820000000L, active11, 0x40000000L);
       case 70:
       case 102:
          if ((active0 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 26, 78);
+            return jjStartNfaWithStates_3(3, 26, 77);
          else if ((active8 & 0x200L) != 0L)
-            return jjStartNfaWithStates_3(3, 521, 78);
+            return jjStartNfaWithStates_3(3, 521, 77);
          break;
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0L, active2, 0x80000000000L, active3, 0L, active4, 0x40c00000000000L, active5, 0x8000L, active6, 0L, active7, 0x8L, active8, 0L, active9, 0L, active10, 0x1000001e000L, active11, 0x200000000L);
+         return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0L, active2, 0x80000000000L, active3, 0L, active4, 0x40c00000000000L, active5, 0x8000L, active6, 0L, active7, 0x8L, active8, 0L, active9, 0L, active10, 0x1000001e000L, active11, 0x400000000L);
       case 72:
       case 104:
          if ((active0 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 49, 78);
+            return jjStartNfaWithStates_3(3, 49, 77);
          else if ((active2 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 185, 78);
+            return jjStartNfaWithStates_3(3, 185, 77);
          else if ((active6 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 420, 78);
+            return jjStartNfaWithStates_3(3, 420, 77);
          else if ((active11 & 0x80L) != 0L)
          {
             jjmatchedKind = 711;
             jjmatchedPos = 3;
          }
+         else if ((active11 & 0x200000000L) != 0L)
+            return jjStartNfaWithStates_3(3, 737, 77);
          return jjMoveStringLiteralDfa4_3(active0, 0x1000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x80000L, active6, 0L, active7, 0x4000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x1800300L);
       case 73:
       case 105:
@@ -17665,16 +17673,16 @@ private final int jjMoveStringLiteralDfa3_3(long old0, long active0, long old1,
       case 75:
       case 107:
          if ((active7 & 0x10L) != 0L)
-            return jjStartNfaWithStates_3(3, 452, 78);
+            return jjStartNfaWithStates_3(3, 452, 77);
          else if ((active8 & 0x80L) != 0L)
-            return jjStartNfaWithStates_3(3, 519, 78);
+            return jjStartNfaWithStates_3(3, 519, 77);
          else if ((active11 & 0x1L) != 0L)
          {
             jjmatchedKind = 704;
             jjmatchedPos = 3;
          }
          else if ((active11 & 0x400L) != 0L)
-            return jjStartNfaWithStates_3(3, 714, 78);
+            return jjStartNfaWithStates_3(3, 714, 77);
          return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0L, active2, 0L, active3, 0x8000000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x8000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x80002L);
       case 76:
       case 108:
@@ -17689,21 +17697,21 @@ private final int jjMoveStringLiteralDfa3_3(long old0, long active0, long old1,
             jjmatchedPos = 3;
          }
          else if ((active3 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 230, 78);
+            return jjStartNfaWithStates_3(3, 230, 77);
          else if ((active5 & 0x20000000000000L) != 0L)
          {
             jjmatchedKind = 373;
             jjmatchedPos = 3;
          }
          else if ((active7 & 0x80L) != 0L)
-            return jjStartNfaWithStates_3(3, 455, 78);
-         else if ((active11 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 740, 78);
-         return jjMoveStringLiteralDfa4_3(active0, 0x8041000000080000L, active1, 0xfd0000L, active2, 0x1100020L, active3, 0x8008600L, active4, 0x10000064L, active5, 0x1d0000000600000L, active6, 0x8000000000000000L, active7, 0x600060001000001L, active8, 0x4000000L, active9, 0x1c00100000000L, active10, 0L, active11, 0x200000000000L);
+            return jjStartNfaWithStates_3(3, 455, 77);
+         else if ((active11 & 0x2000000000L) != 0L)
+            return jjStartNfaWithStates_3(3, 741, 77);
+         return jjMoveStringLiteralDfa4_3(active0, 0x8041000000080000L, active1, 0xfd0000L, active2, 0x1100020L, active3, 0x8008600L, active4, 0x10000064L, active5, 0x1d0000000600000L, active6, 0x8000000000000000L, active7, 0x600060001000001L, active8, 0x4000000L, active9, 0x1c00100000000L, active10, 0L, active11, 0x400000000000L);
       case 77:
       case 109:
          if ((active3 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 229, 78);
+            return jjStartNfaWithStates_3(3, 229, 77);
          else if ((active10 & 0x20000L) != 0L)
          {
             jjmatchedKind = 657;
@@ -17713,40 +17721,40 @@ private final int jjMoveStringLiteralDfa3_3(long old0, long active0, long old1,
       case 78:
       case 110:
          if ((active4 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 286, 78);
+            return jjStartNfaWithStates_3(3, 286, 77);
          else if ((active4 & 0x80000000L) != 0L)
          {
             jjmatchedKind = 287;
             jjmatchedPos = 3;
          }
          else if ((active6 & 0x40L) != 0L)
-            return jjStartNfaWithStates_3(3, 390, 78);
+            return jjStartNfaWithStates_3(3, 390, 77);
          else if ((active6 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 431, 78);
+            return jjStartNfaWithStates_3(3, 431, 77);
          else if ((active9 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 626, 78);
+            return jjStartNfaWithStates_3(3, 626, 77);
          else if ((active11 & 0x4L) != 0L)
          {
             jjmatchedKind = 706;
             jjmatchedPos = 3;
          }
-         else if ((active11 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 741, 78);
-         return jjMoveStringLiteralDfa4_3(active0, 0x40010000000L, active1, 0x1000e00000000L, active2, 0L, active3, 0x2006000100000000L, active4, 0xff00000000L, active5, 0L, active6, 0L, active7, 0x8000000000000L, active8, 0L, active9, 0L, active10, 0x8000400100100ff8L, active11, 0x20000000008L);
+         else if ((active11 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_3(3, 742, 77);
+         return jjMoveStringLiteralDfa4_3(active0, 0x40010000000L, active1, 0x1000e00000000L, active2, 0L, active3, 0x2006000100000000L, active4, 0xff00000000L, active5, 0L, active6, 0L, active7, 0x8000000000000L, active8, 0L, active9, 0L, active10, 0x8000400100100ff8L, active11, 0x40000000008L);
       case 79:
       case 111:
          if ((active3 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 240, 78);
+            return jjStartNfaWithStates_3(3, 240, 77);
          else if ((active4 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_3(3, 279, 78);
-         return jjMoveStringLiteralDfa4_3(active0, 0x4000006040L, active1, 0x20000L, active2, 0x2000000000060000L, active3, 0x4000000004000010L, active4, 0x1000008L, active5, 0x44000000000L, active6, 0x1000200000000000L, active7, 0x2000000000L, active8, 0x1aL, active9, 0L, active10, 0x5c000000L, active11, 0x400000000L);
+            return jjStartNfaWithStates_3(3, 279, 77);
+         return jjMoveStringLiteralDfa4_3(active0, 0x4000006040L, active1, 0x20000L, active2, 0x2000000000060000L, active3, 0x4000000004000010L, active4, 0x1000008L, active5, 0x44000000000L, active6, 0x1000200000000000L, active7, 0x2000000000L, active8, 0x1aL, active9, 0L, active10, 0x5c000000L, active11, 0x800000000L);
       case 80:
       case 112:
          if ((active2 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 181, 78);
+            return jjStartNfaWithStates_3(3, 181, 77);
          else if ((active8 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 537, 78);
-         return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0L, active2, 0x400000000000L, active3, 0L, active4, 0L, active5, 0x800000000L, active6, 0x100000000020000L, active7, 0xe000000004000000L, active8, 0x800001L, active9, 0x2000000000000L, active10, 0L, active11, 0x10018040800L);
+            return jjStartNfaWithStates_3(3, 537, 77);
+         return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0L, active2, 0x400000000000L, active3, 0L, active4, 0L, active5, 0x800000000L, active6, 0x100000000020000L, active7, 0xe000000004000000L, active8, 0x800001L, active9, 0x2000000000000L, active10, 0L, active11, 0x20018040800L);
       case 81:
       case 113:
          return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x80000000L, active11, 0L);
@@ -17782,57 +17790,57 @@ private final int jjMoveStringLiteralDfa3_3(long old0, long active0, long old1,
             jjmatchedKind = 718;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_3(active0, 0xc00000000L, active1, 0xff808000000007f8L, active2, 0x100000007L, active3, 0x1100000000040040L, active4, 0x100000000000080L, active5, 0x100000L, active6, 0x380000L, active7, 0x1ff006L, active8, 0x10000004L, active9, 0x8000000800000L, active10, 0x3c0000000000L, active11, 0x140020008010L);
+         return jjMoveStringLiteralDfa4_3(active0, 0xc00000000L, active1, 0xff808000000007f8L, active2, 0x100000007L, active3, 0x1100000000040040L, active4, 0x100000000000080L, active5, 0x100000L, active6, 0x380000L, active7, 0x1ff006L, active8, 0x10000004L, active9, 0x8000000800000L, active10, 0x3c0000000000L, active11, 0x280020008010L);
       case 83:
       case 115:
          if ((active2 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_3(3, 147, 78);
+            return jjStartNfaWithStates_3(3, 147, 77);
          else if ((active7 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 498, 78);
+            return jjStartNfaWithStates_3(3, 498, 77);
          else if ((active8 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_3(3, 531, 78);
+            return jjStartNfaWithStates_3(3, 531, 77);
          else if ((active9 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 628, 78);
-         return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0x1003f00000b000L, active2, 0x400000018L, active3, 0x1882000L, active4, 0L, active5, 0x73000L, active6, 0x200000600000001L, active7, 0L, active8, 0x800030400L, active9, 0x7800000000L, active10, 0x3000000000400000L, active11, 0x800000000L);
+            return jjStartNfaWithStates_3(3, 628, 77);
+         return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0x1003f00000b000L, active2, 0x400000018L, active3, 0x1882000L, active4, 0L, active5, 0x73000L, active6, 0x200000600000001L, active7, 0L, active8, 0x800030400L, active9, 0x7800000000L, active10, 0x3000000000400000L, active11, 0x1000000000L);
       case 84:
       case 116:
          if ((active0 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 59, 78);
+            return jjStartNfaWithStates_3(3, 59, 77);
          else if ((active4 & 0x1000000000000L) != 0L)
          {
             jjmatchedKind = 304;
             jjmatchedPos = 3;
          }
          else if ((active4 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 309, 78);
+            return jjStartNfaWithStates_3(3, 309, 77);
          else if ((active5 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 365, 78);
+            return jjStartNfaWithStates_3(3, 365, 77);
          else if ((active6 & 0x4L) != 0L)
-            return jjStartNfaWithStates_3(3, 386, 78);
+            return jjStartNfaWithStates_3(3, 386, 77);
          else if ((active6 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 419, 78);
+            return jjStartNfaWithStates_3(3, 419, 77);
          else if ((active9 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_3(3, 598, 78);
-         return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0x1c0000000001L, active2, 0x1000800800000000L, active3, 0x80200000L, active4, 0x2000000030600L, active5, 0x80580000000L, active6, 0x20020c0000000L, active7, 0x780018000000L, active8, 0x20L, active9, 0x380007000000L, active10, 0L, active11, 0x84000401020L);
+            return jjStartNfaWithStates_3(3, 598, 77);
+         return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0x1c0000000001L, active2, 0x1000800800000000L, active3, 0x80200000L, active4, 0x2000000030600L, active5, 0x80580000000L, active6, 0x20020c0000000L, active7, 0x780018000000L, active8, 0x20L, active9, 0x380007000000L, active10, 0L, active11, 0x108000401020L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0x3000000L, active2, 0L, active3, 0x78000000000000L, active4, 0x3000L, active5, 0x1000010023000000L, active6, 0L, active7, 0x80001fe0000100L, active8, 0x101040L, active9, 0x80000000L, active10, 0x38000000000000L, active11, 0x4000000L);
       case 86:
       case 118:
          if ((active6 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 442, 78);
-         return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0x200000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x4000800L, active6, 0x2000000000000000L, active7, 0L, active8, 0xc000L, active9, 0L, active10, 0L, active11, 0x8000000000L);
+            return jjStartNfaWithStates_3(3, 442, 77);
+         return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0x200000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x4000800L, active6, 0x2000000000000000L, active7, 0L, active8, 0xc000L, active9, 0L, active10, 0L, active11, 0x10000000000L);
       case 87:
       case 119:
          if ((active8 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_3(3, 533, 78);
+            return jjStartNfaWithStates_3(3, 533, 77);
          else if ((active10 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(3, 702, 78);
+            return jjStartNfaWithStates_3(3, 702, 77);
          return jjMoveStringLiteralDfa4_3(active0, 0x80000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 89:
       case 121:
          if ((active6 & 0x20L) != 0L)
-            return jjStartNfaWithStates_3(3, 389, 78);
+            return jjStartNfaWithStates_3(3, 389, 77);
          return jjMoveStringLiteralDfa4_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x8000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x8000000000000000L, active10, 0x800000000000000L, active11, 0L);
       default :
          break;
@@ -17852,11 +17860,11 @@ private final int jjMoveStringLiteralDfa4_3(long old0, long active0, long old1,
    {
       case 50:
          if ((active10 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 689, 78);
+            return jjStartNfaWithStates_3(4, 689, 77);
          break;
       case 54:
          if ((active10 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 688, 78);
+            return jjStartNfaWithStates_3(4, 688, 77);
          break;
       case 95:
          return jjMoveStringLiteralDfa5_3(active0, 0L, active1, 0x40000000000008L, active2, 0x600L, active3, 0x200000000L, active4, 0x40200ff00000000L, active5, 0L, active6, 0L, active7, 0x700000001ff000L, active8, 0L, active9, 0xc0000000000000L, active10, 0x3c0000040000L, active11, 0x1a000000L);
@@ -17866,92 +17874,92 @@ private final int jjMoveStringLiteralDfa4_3(long old0, long active0, long old1,
       case 66:
       case 98:
          if ((active5 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 362, 78);
+            return jjStartNfaWithStates_3(4, 362, 77);
          return jjMoveStringLiteralDfa5_3(active0, 0L, active1, 0L, active2, 0x80L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x20000000000L, active8, 0x3e000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 67:
       case 99:
-         if ((active11 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 745, 78);
-         return jjMoveStringLiteralDfa5_3(active0, 0x2000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x100L, active5, 0x800000000000000L, active6, 0L, active7, 0x1000000000000L, active8, 0xc0010000104L, active9, 0x80000000L, active10, 0x300000L, active11, 0x400000000000L);
+         if ((active11 & 0x40000000000L) != 0L)
+            return jjStartNfaWithStates_3(4, 746, 77);
+         return jjMoveStringLiteralDfa5_3(active0, 0x2000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x100L, active5, 0x800000000000000L, active6, 0L, active7, 0x1000000000000L, active8, 0xc0010000104L, active9, 0x80000000L, active10, 0x300000L, active11, 0x800000000000L);
       case 68:
       case 100:
          if ((active3 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 224, 78);
+            return jjStartNfaWithStates_3(4, 224, 77);
          return jjMoveStringLiteralDfa5_3(active0, 0x4000000000000L, active1, 0L, active2, 0x2000000000400000L, active3, 0L, active4, 0x3L, active5, 0L, active6, 0L, active7, 0L, active8, 0x700000000000L, active9, 0L, active10, 0x400000L, active11, 0L);
       case 69:
       case 101:
          if ((active1 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_3(4, 79, 78);
+            return jjStartNfaWithStates_3(4, 79, 77);
          else if ((active2 & 0x20L) != 0L)
-            return jjStartNfaWithStates_3(4, 133, 78);
+            return jjStartNfaWithStates_3(4, 133, 77);
          else if ((active3 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_3(4, 211, 78);
+            return jjStartNfaWithStates_3(4, 211, 77);
          else if ((active3 & 0x8000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 255, 78);
+            return jjStartNfaWithStates_3(4, 255, 77);
          else if ((active4 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 303, 78);
+            return jjStartNfaWithStates_3(4, 303, 77);
          else if ((active5 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_3(4, 335, 78);
+            return jjStartNfaWithStates_3(4, 335, 77);
          else if ((active5 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 372, 78);
+            return jjStartNfaWithStates_3(4, 372, 77);
          else if ((active7 & 0x8L) != 0L)
-            return jjStartNfaWithStates_3(4, 451, 78);
+            return jjStartNfaWithStates_3(4, 451, 77);
          else if ((active7 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 487, 78);
+            return jjStartNfaWithStates_3(4, 487, 77);
          else if ((active7 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 506, 78);
+            return jjStartNfaWithStates_3(4, 506, 77);
          else if ((active7 & 0x2000000000000000L) != 0L)
          {
             jjmatchedKind = 509;
             jjmatchedPos = 4;
          }
          else if ((active8 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 541, 78);
+            return jjStartNfaWithStates_3(4, 541, 77);
          else if ((active9 & 0x1000000L) != 0L)
          {
             jjmatchedKind = 600;
             jjmatchedPos = 4;
          }
          else if ((active9 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 608, 78);
+            return jjStartNfaWithStates_3(4, 608, 77);
          else if ((active9 & 0x400000000000L) != 0L)
          {
             jjmatchedKind = 622;
             jjmatchedPos = 4;
          }
          else if ((active10 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 680, 78);
+            return jjStartNfaWithStates_3(4, 680, 77);
          else if ((active10 & 0x8000000000000L) != 0L)
          {
             jjmatchedKind = 691;
             jjmatchedPos = 4;
          }
          else if ((active11 & 0x10L) != 0L)
-            return jjStartNfaWithStates_3(4, 708, 78);
+            return jjStartNfaWithStates_3(4, 708, 77);
          else if ((active11 & 0x1000L) != 0L)
          {
             jjmatchedKind = 716;
             jjmatchedPos = 4;
          }
-         return jjMoveStringLiteralDfa5_3(active0, 0x41080000000000L, active1, 0xff80a00e00810000L, active2, 0x8400000500000007L, active3, 0x100400200000L, active4, 0x8000084L, active5, 0x200000000404000L, active6, 0x426007a000000001L, active7, 0xc000000004000000L, active8, 0xd001L, active9, 0x1bc881a000000L, active10, 0x8030000000000000L, active11, 0x100005c00008L);
+         return jjMoveStringLiteralDfa5_3(active0, 0x41080000000000L, active1, 0xff80a00e00810000L, active2, 0x8400000500000007L, active3, 0x100400200000L, active4, 0x8000084L, active5, 0x200000000404000L, active6, 0x426007a000000001L, active7, 0xc000000004000000L, active8, 0xd001L, active9, 0x1bc881a000000L, active10, 0x8030000000000000L, active11, 0x200005c00008L);
       case 70:
       case 102:
          if ((active2 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 164, 78);
+            return jjStartNfaWithStates_3(4, 164, 77);
          return jjMoveStringLiteralDfa5_3(active0, 0L, active1, 0L, active2, 0x60000L, active3, 0x1L, active4, 0L, active5, 0x10000000L, active6, 0L, active7, 0L, active8, 0x800000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 71:
       case 103:
          if ((active10 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 686, 78);
-         return jjMoveStringLiteralDfa5_3(active0, 0x40000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x80000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x100001e000L, active11, 0x400000000L);
+            return jjStartNfaWithStates_3(4, 686, 77);
+         return jjMoveStringLiteralDfa5_3(active0, 0x40000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x80000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x100001e000L, active11, 0x800000000L);
       case 72:
       case 104:
          if ((active2 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 163, 78);
+            return jjStartNfaWithStates_3(4, 163, 77);
          else if ((active3 & 0x4L) != 0L)
-            return jjStartNfaWithStates_3(4, 194, 78);
+            return jjStartNfaWithStates_3(4, 194, 77);
          else if ((active3 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_3(4, 212, 78);
+            return jjStartNfaWithStates_3(4, 212, 77);
          else if ((active5 & 0x10L) != 0L)
          {
             jjmatchedKind = 324;
@@ -17965,29 +17973,29 @@ private final int jjMoveStringLiteralDfa4_3(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa5_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000003e0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x200000000000000L, active11, 0x20L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa5_3(active0, 0x8080000e00000000L, active1, 0x1001f0000000L, active2, 0x1800000000000L, active3, 0x40000000L, active4, 0x10000000000600L, active5, 0x80080400200000L, active6, 0xa0824002c0000000L, active7, 0x8780000000001L, active8, 0x3fff0001c0030420L, active9, 0x8000000004000000L, active10, 0x3900000000000000L, active11, 0x8c200200100L);
+         return jjMoveStringLiteralDfa5_3(active0, 0x8080000e00000000L, active1, 0x1001f0000000L, active2, 0x1800000000000L, active3, 0x40000000L, active4, 0x10000000000600L, active5, 0x80080400200000L, active6, 0xa0824002c0000000L, active7, 0x8780000000001L, active8, 0x3fff0001c0030420L, active9, 0x8000000004000000L, active10, 0x3900000000000000L, active11, 0x118400200100L);
       case 75:
       case 107:
          if ((active1 & 0x800L) != 0L)
-            return jjStartNfaWithStates_3(4, 75, 78);
+            return jjStartNfaWithStates_3(4, 75, 77);
          return jjMoveStringLiteralDfa5_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x1000000L, active5, 0L, active6, 0L, active7, 0x2000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 76:
       case 108:
          if ((active1 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_3(4, 81, 78);
+            return jjStartNfaWithStates_3(4, 81, 77);
          else if ((active3 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_3(4, 214, 78);
+            return jjStartNfaWithStates_3(4, 214, 77);
          else if ((active4 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 300, 78);
+            return jjStartNfaWithStates_3(4, 300, 77);
          else if ((active4 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 311, 78);
+            return jjStartNfaWithStates_3(4, 311, 77);
          else if ((active4 & 0x2000000000000000L) != 0L)
          {
             jjmatchedKind = 317;
             jjmatchedPos = 4;
          }
-         else if ((active11 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 751, 78);
+         else if ((active11 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_3(4, 752, 77);
          return jjMoveStringLiteralDfa5_3(active0, 0x3000000000000040L, active1, 0L, active2, 0x4100000100000L, active3, 0x8L, active4, 0xc000000000000000L, active5, 0x20000000L, active6, 0x180000L, active7, 0x20000000L, active8, 0xc000000004c00002L, active9, 0x200000001L, active10, 0x800006L, active11, 0x80040000L);
       case 77:
       case 109:
@@ -17995,16 +18003,16 @@ private final int jjMoveStringLiteralDfa4_3(long old0, long active0, long old1,
       case 78:
       case 110:
          if ((active0 & 0x400L) != 0L)
-            return jjStartNfaWithStates_3(4, 10, 78);
+            return jjStartNfaWithStates_3(4, 10, 77);
          else if ((active0 & 0x8000000000L) != 0L)
          {
             jjmatchedKind = 39;
             jjmatchedPos = 4;
          }
          else if ((active1 & 0x2L) != 0L)
-            return jjStartNfaWithStates_3(4, 65, 78);
+            return jjStartNfaWithStates_3(4, 65, 77);
          else if ((active10 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 670, 78);
+            return jjStartNfaWithStates_3(4, 670, 77);
          return jjMoveStringLiteralDfa5_3(active0, 0x130000000020L, active1, 0L, active2, 0x800e0000000L, active3, 0x80000000010000L, active4, 0x4000L, active5, 0L, active6, 0x3000L, active7, 0x2000000000000L, active8, 0x18L, active9, 0x4000001eL, active10, 0x10000000L, active11, 0x100100000L);
       case 79:
       case 111:
@@ -18020,121 +18028,121 @@ private final int jjMoveStringLiteralDfa4_3(long old0, long active0, long old1,
       case 82:
       case 114:
          if ((active0 & 0x800L) != 0L)
-            return jjStartNfaWithStates_3(4, 11, 78);
+            return jjStartNfaWithStates_3(4, 11, 77);
          else if ((active0 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_3(4, 15, 78);
+            return jjStartNfaWithStates_3(4, 15, 77);
          else if ((active3 & 0x10L) != 0L)
-            return jjStartNfaWithStates_3(4, 196, 78);
+            return jjStartNfaWithStates_3(4, 196, 77);
          else if ((active3 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 218, 78);
+            return jjStartNfaWithStates_3(4, 218, 77);
          else if ((active4 & 0x800L) != 0L)
-            return jjStartNfaWithStates_3(4, 267, 78);
+            return jjStartNfaWithStates_3(4, 267, 77);
          else if ((active5 & 0x2L) != 0L)
-            return jjStartNfaWithStates_3(4, 321, 78);
+            return jjStartNfaWithStates_3(4, 321, 77);
          else if ((active5 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 361, 78);
+            return jjStartNfaWithStates_3(4, 361, 77);
          else if ((active6 & 0x400L) != 0L)
          {
             jjmatchedKind = 394;
             jjmatchedPos = 4;
          }
          else if ((active6 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_3(4, 400, 78);
+            return jjStartNfaWithStates_3(4, 400, 77);
          else if ((active6 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 436, 78);
+            return jjStartNfaWithStates_3(4, 436, 77);
          else if ((active6 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 444, 78);
+            return jjStartNfaWithStates_3(4, 444, 77);
          else if ((active10 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 669, 78);
+            return jjStartNfaWithStates_3(4, 669, 77);
          else if ((active10 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 678, 78);
+            return jjStartNfaWithStates_3(4, 678, 77);
          return jjMoveStringLiteralDfa5_3(active0, 0x204020000000L, active1, 0x6000000000000L, active2, 0x78018000000L, active3, 0x40000c0080020000L, active4, 0x4000000708008L, active5, 0x1400010000000000L, active6, 0x204800L, active7, 0x80001fd0000d00L, active8, 0x840L, active9, 0x20L, active10, 0x8000000000L, active11, 0L);
       case 83:
       case 115:
          if ((active1 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 116, 78);
+            return jjStartNfaWithStates_3(4, 116, 77);
          else if ((active3 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 252, 78);
+            return jjStartNfaWithStates_3(4, 252, 77);
          else if ((active5 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 355, 78);
+            return jjStartNfaWithStates_3(4, 355, 77);
          else if ((active5 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 357, 78);
+            return jjStartNfaWithStates_3(4, 357, 77);
          else if ((active5 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 376, 78);
+            return jjStartNfaWithStates_3(4, 376, 77);
          else if ((active7 & 0x40L) != 0L)
-            return jjStartNfaWithStates_3(4, 454, 78);
+            return jjStartNfaWithStates_3(4, 454, 77);
          else if ((active8 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_3(4, 532, 78);
+            return jjStartNfaWithStates_3(4, 532, 77);
          else if ((active11 & 0x2L) != 0L)
-            return jjStartNfaWithStates_3(4, 705, 78);
+            return jjStartNfaWithStates_3(4, 705, 77);
          else if ((active11 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_3(4, 719, 78);
+            return jjStartNfaWithStates_3(4, 719, 77);
          return jjMoveStringLiteralDfa5_3(active0, 0x10000000L, active1, 0x3000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x4000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x1f08000000000040L, active10, 0x80000800000ff8L, active11, 0L);
       case 84:
       case 116:
          if ((active1 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 112, 78);
+            return jjStartNfaWithStates_3(4, 112, 77);
          else if ((active3 & 0x800000L) != 0L)
          {
             jjmatchedKind = 215;
             jjmatchedPos = 4;
          }
          else if ((active3 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 217, 78);
+            return jjStartNfaWithStates_3(4, 217, 77);
          else if ((active3 & 0x2000000000000L) != 0L)
          {
             jjmatchedKind = 241;
             jjmatchedPos = 4;
          }
          else if ((active4 & 0x1000L) != 0L)
-            return jjStartNfaWithStates_3(4, 268, 78);
+            return jjStartNfaWithStates_3(4, 268, 77);
          else if ((active4 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_3(4, 269, 78);
+            return jjStartNfaWithStates_3(4, 269, 77);
          else if ((active4 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 315, 78);
+            return jjStartNfaWithStates_3(4, 315, 77);
          else if ((active6 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 429, 78);
+            return jjStartNfaWithStates_3(4, 429, 77);
          else if ((active7 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 473, 78);
+            return jjStartNfaWithStates_3(4, 473, 77);
          else if ((active7 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 486, 78);
+            return jjStartNfaWithStates_3(4, 486, 77);
          else if ((active9 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_3(4, 599, 78);
+            return jjStartNfaWithStates_3(4, 599, 77);
          else if ((active10 & 0x1000L) != 0L)
-            return jjStartNfaWithStates_3(4, 652, 78);
+            return jjStartNfaWithStates_3(4, 652, 77);
          return jjMoveStringLiteralDfa5_3(active0, 0L, active1, 0x803f000000000L, active2, 0x20000f800L, active3, 0x2004008001002000L, active4, 0x40080000000000L, active5, 0x6000000003000001L, active6, 0xc000400000000L, active7, 0x200006L, active8, 0x800000000L, active9, 0x70000fff80L, active10, 0x2000000000L, active11, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa5_3(active0, 0L, active1, 0x1L, active2, 0x6000000L, active3, 0x1600L, active4, 0x400000000060L, active5, 0x3000L, active6, 0x100000020000L, active7, 0x40000000000L, active8, 0L, active9, 0x400000000L, active10, 0x84000000L, active11, 0x10000080000L);
+         return jjMoveStringLiteralDfa5_3(active0, 0L, active1, 0x1L, active2, 0x6000000L, active3, 0x1600L, active4, 0x400000000060L, active5, 0x3000L, active6, 0x100000020000L, active7, 0x40000000000L, active8, 0L, active9, 0x400000000L, active10, 0x84000000L, active11, 0x20000080000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa5_3(active0, 0L, active1, 0L, active2, 0x2000000000L, active3, 0L, active4, 0L, active5, 0x8000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x300000L, active10, 0x200000000L, active11, 0L);
       case 87:
       case 119:
          if ((active0 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_3(4, 14, 78);
-         return jjMoveStringLiteralDfa5_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000L);
+            return jjStartNfaWithStates_3(4, 14, 77);
+         return jjMoveStringLiteralDfa5_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x1000000000L);
       case 88:
       case 120:
          if ((active11 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 734, 78);
+            return jjStartNfaWithStates_3(4, 734, 77);
          return jjMoveStringLiteralDfa5_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x400000000L, active9, 0L, active10, 0L, active11, 0L);
       case 89:
       case 121:
          if ((active0 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_3(4, 19, 78);
+            return jjStartNfaWithStates_3(4, 19, 77);
          else if ((active0 & 0x200000L) != 0L)
          {
             jjmatchedKind = 21;
             jjmatchedPos = 4;
          }
          else if ((active2 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 188, 78);
+            return jjStartNfaWithStates_3(4, 188, 77);
          else if ((active3 & 0x40L) != 0L)
-            return jjStartNfaWithStates_3(4, 198, 78);
-         else if ((active11 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_3(4, 746, 78);
-         return jjMoveStringLiteralDfa5_3(active0, 0x1c10000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200020000000L);
+            return jjStartNfaWithStates_3(4, 198, 77);
+         else if ((active11 & 0x80000000000L) != 0L)
+            return jjStartNfaWithStates_3(4, 747, 77);
+         return jjMoveStringLiteralDfa5_3(active0, 0x1c10000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400020000000L);
       case 90:
       case 122:
          return jjMoveStringLiteralDfa5_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x6000000000000000L, active10, 0L, active11, 0L);
@@ -18175,20 +18183,20 @@ private final int jjMoveStringLiteralDfa5_3(long old0, long active0, long old1,
             jjmatchedPos = 5;
          }
          else if ((active6 & 0x8000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 447, 78);
+            return jjStartNfaWithStates_3(5, 447, 77);
          else if ((active9 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 602, 78);
-         return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0xe008007f0L, active2, 0L, active3, 0x40000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x10000005004000L, active8, 0x400000000L, active9, 0x6L, active10, 0L, active11, 0x8000200000L);
+            return jjStartNfaWithStates_3(5, 602, 77);
+         return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0xe008007f0L, active2, 0L, active3, 0x40000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x10000005004000L, active8, 0x400000000L, active9, 0x6L, active10, 0L, active11, 0x10000200000L);
       case 68:
       case 100:
          if ((active0 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 54, 78);
+            return jjStartNfaWithStates_3(5, 54, 77);
          else if ((active3 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_3(5, 208, 78);
+            return jjStartNfaWithStates_3(5, 208, 77);
          else if ((active5 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_3(5, 339, 78);
+            return jjStartNfaWithStates_3(5, 339, 77);
          else if ((active6 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 427, 78);
+            return jjStartNfaWithStates_3(5, 427, 77);
          else if ((active8 & 0x8L) != 0L)
          {
             jjmatchedKind = 515;
@@ -18198,63 +18206,63 @@ private final int jjMoveStringLiteralDfa5_3(long old0, long active0, long old1,
       case 69:
       case 101:
          if ((active0 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 38, 78);
+            return jjStartNfaWithStates_3(5, 38, 77);
          else if ((active1 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 115, 78);
+            return jjStartNfaWithStates_3(5, 115, 77);
          else if ((active2 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_3(5, 150, 78);
+            return jjStartNfaWithStates_3(5, 150, 77);
          else if ((active2 & 0x20000000L) != 0L)
          {
             jjmatchedKind = 157;
             jjmatchedPos = 5;
          }
          else if ((active2 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 160, 78);
+            return jjStartNfaWithStates_3(5, 160, 77);
          else if ((active2 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 161, 78);
+            return jjStartNfaWithStates_3(5, 161, 77);
          else if ((active2 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 178, 78);
+            return jjStartNfaWithStates_3(5, 178, 77);
          else if ((active3 & 0x20L) != 0L)
-            return jjStartNfaWithStates_3(5, 197, 78);
+            return jjStartNfaWithStates_3(5, 197, 77);
          else if ((active3 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 254, 78);
+            return jjStartNfaWithStates_3(5, 254, 77);
          else if ((active5 & 0x1000000L) != 0L)
          {
             jjmatchedKind = 344;
             jjmatchedPos = 5;
          }
          else if ((active5 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 349, 78);
+            return jjStartNfaWithStates_3(5, 349, 77);
          else if ((active7 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 485, 78);
+            return jjStartNfaWithStates_3(5, 485, 77);
          else if ((active8 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_3(5, 535, 78);
+            return jjStartNfaWithStates_3(5, 535, 77);
          else if ((active8 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 540, 78);
+            return jjStartNfaWithStates_3(5, 540, 77);
          else if ((active10 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_3(5, 663, 78);
+            return jjStartNfaWithStates_3(5, 663, 77);
          else if ((active10 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 671, 78);
+            return jjStartNfaWithStates_3(5, 671, 77);
          else if ((active10 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 677, 78);
+            return jjStartNfaWithStates_3(5, 677, 77);
          return jjMoveStringLiteralDfa6_3(active0, 0x80080000000L, active1, 0L, active2, 0x20c0000000L, active3, 0x4000000000000L, active4, 0x40401080000L, active5, 0x4002000060L, active6, 0x3f800000L, active7, 0xc06L, active8, 0x200000000000L, active9, 0x8000000020L, active10, 0x40001e002L, active11, 0x100000800L);
       case 70:
       case 102:
          if ((active5 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 375, 78);
+            return jjStartNfaWithStates_3(5, 375, 77);
          return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1L, active8, 0x1c0000000L, active9, 0L, active10, 0x180L, active11, 0L);
       case 71:
       case 103:
          if ((active3 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 247, 78);
-         return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0L, active2, 0L, active3, 0x40000000L, active4, 0L, active5, 0x70000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x40000000L, active10, 0L, active11, 0x400000000L);
+            return jjStartNfaWithStates_3(5, 247, 77);
+         return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0L, active2, 0L, active3, 0x40000000L, active4, 0L, active5, 0x70000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x40000000L, active10, 0L, active11, 0x800000000L);
       case 72:
       case 104:
          if ((active4 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 310, 78);
+            return jjStartNfaWithStates_3(5, 310, 77);
          else if ((active8 & 0x4L) != 0L)
-            return jjStartNfaWithStates_3(5, 514, 78);
-         return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000L, active7, 0L, active8, 0x40000000000L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+            return jjStartNfaWithStates_3(5, 514, 77);
+         return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000L, active7, 0L, active8, 0x40000000000L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 73:
       case 105:
          return jjMoveStringLiteralDfa6_3(active0, 0x10000000L, active1, 0xc0000001000L, active2, 0x21c003800000f800L, active3, 0x2020008000008000L, active4, 0x3L, active5, 0x400000010000000L, active6, 0xc000000200800L, active7, 0x10208000L, active8, 0xe004000040L, active9, 0x1000000380L, active10, 0x4L, active11, 0x100000L);
@@ -18264,16 +18272,16 @@ private final int jjMoveStringLiteralDfa5_3(long old0, long active0, long old1,
       case 76:
       case 108:
          if ((active3 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 238, 78);
+            return jjStartNfaWithStates_3(5, 238, 77);
          else if ((active6 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 416, 78);
+            return jjStartNfaWithStates_3(5, 416, 77);
          else if ((active8 & 0x2L) != 0L)
-            return jjStartNfaWithStates_3(5, 513, 78);
+            return jjStartNfaWithStates_3(5, 513, 77);
          return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0x8L, active2, 0x100006000000L, active3, 0L, active4, 0L, active5, 0x3000004000800L, active6, 0x2000000000000000L, active7, 0L, active8, 0x890000002000L, active9, 0x400000000L, active10, 0xe00L, active11, 0x80000000L);
       case 77:
       case 109:
          if ((active9 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 605, 78);
+            return jjStartNfaWithStates_3(5, 605, 77);
          else if ((active9 & 0x80000000000L) != 0L)
          {
             jjmatchedKind = 619;
@@ -18283,16 +18291,16 @@ private final int jjMoveStringLiteralDfa5_3(long old0, long active0, long old1,
       case 78:
       case 110:
          if ((active0 & 0x80L) != 0L)
-            return jjStartNfaWithStates_3(5, 7, 78);
+            return jjStartNfaWithStates_3(5, 7, 77);
          else if ((active1 & 0x1000000L) != 0L)
          {
             jjmatchedKind = 88;
             jjmatchedPos = 5;
          }
          else if ((active2 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 176, 78);
+            return jjStartNfaWithStates_3(5, 176, 77);
          else if ((active3 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 232, 78);
+            return jjStartNfaWithStates_3(5, 232, 77);
          else if ((active6 & 0x80L) != 0L)
          {
             jjmatchedKind = 391;
@@ -18304,15 +18312,15 @@ private final int jjMoveStringLiteralDfa5_3(long old0, long active0, long old1,
             jjmatchedPos = 5;
          }
          else if ((active11 & 0x100L) != 0L)
-            return jjStartNfaWithStates_3(5, 712, 78);
-         return jjMoveStringLiteralDfa6_3(active0, 0x8080000040000000L, active1, 0xff8010000e000000L, active2, 0x400a00000000007L, active3, 0x20000L, active4, 0x10000000030000L, active5, 0x88000400000L, active6, 0x478200000100L, active7, 0x8781f80000000L, active8, 0x3fff000000001000L, active9, 0x8000000000000000L, active10, 0xd00001004000000L, active11, 0x4200000000L);
+            return jjStartNfaWithStates_3(5, 712, 77);
+         return jjMoveStringLiteralDfa6_3(active0, 0x8080000040000000L, active1, 0xff8010000e000000L, active2, 0x400a00000000007L, active3, 0x20000L, active4, 0x10000000030000L, active5, 0x88000400000L, active6, 0x478200000100L, active7, 0x8781f80000000L, active8, 0x3fff000000001000L, active9, 0x8000000000000000L, active10, 0xd00001004000000L, active11, 0x8400000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa6_3(active0, 0x3000000000000000L, active1, 0L, active2, 0x80000100000L, active3, 0L, active4, 0x1800000000L, active5, 0x1L, active6, 0x2000000000000L, active7, 0x161000000000000L, active8, 0xc000420000030020L, active9, 0x6000000000000001L, active10, 0x3040000200000000L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa6_3(active0, 0x3000000000000000L, active1, 0L, active2, 0x80000100000L, active3, 0L, active4, 0x1800000000L, active5, 0x1L, active6, 0x2000000000000L, active7, 0x161000000000000L, active8, 0xc000420000030020L, active9, 0x6000000000000001L, active10, 0x3040000200000000L, active11, 0x1000000000L);
       case 80:
       case 112:
          if ((active7 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 490, 78);
+            return jjStartNfaWithStates_3(5, 490, 77);
          return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x2000000L, active11, 0x20080000L);
       case 81:
       case 113:
@@ -18325,13 +18333,13 @@ private final int jjMoveStringLiteralDfa5_3(long old0, long active0, long old1,
             jjmatchedPos = 5;
          }
          else if ((active3 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_3(5, 213, 78);
+            return jjStartNfaWithStates_3(5, 213, 77);
          else if ((active5 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_3(5, 334, 78);
+            return jjStartNfaWithStates_3(5, 334, 77);
          else if ((active5 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 377, 78);
+            return jjStartNfaWithStates_3(5, 377, 77);
          else if ((active7 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 505, 78);
+            return jjStartNfaWithStates_3(5, 505, 77);
          else if ((active8 & 0x4000L) != 0L)
          {
             jjmatchedKind = 526;
@@ -18341,28 +18349,28 @@ private final int jjMoveStringLiteralDfa5_3(long old0, long active0, long old1,
       case 83:
       case 115:
          if ((active0 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_3(5, 16, 78);
+            return jjStartNfaWithStates_3(5, 16, 77);
          else if ((active3 & 0x8L) != 0L)
-            return jjStartNfaWithStates_3(5, 195, 78);
+            return jjStartNfaWithStates_3(5, 195, 77);
          else if ((active3 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_3(5, 205, 78);
+            return jjStartNfaWithStates_3(5, 205, 77);
          else if ((active3 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 246, 78);
+            return jjStartNfaWithStates_3(5, 246, 77);
          else if ((active5 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 352, 78);
+            return jjStartNfaWithStates_3(5, 352, 77);
          else if ((active5 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 382, 78);
+            return jjStartNfaWithStates_3(5, 382, 77);
          else if ((active6 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_3(5, 398, 78);
+            return jjStartNfaWithStates_3(5, 398, 77);
          else if ((active10 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 692, 78);
-         return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0x800000010000L, active2, 0L, active3, 0x200000000L, active4, 0x4000304000L, active5, 0x400300000L, active6, 0x80000000000000L, active7, 0x5e0100L, active8, 0L, active9, 0x10000000ffc00L, active10, 0x8000000000000000L, active11, 0x180000000000L);
+            return jjStartNfaWithStates_3(5, 692, 77);
+         return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0x800000010000L, active2, 0L, active3, 0x200000000L, active4, 0x4000304000L, active5, 0x400300000L, active6, 0x80000000000000L, active7, 0x5e0100L, active8, 0L, active9, 0x10000000ffc00L, active10, 0x8000000000000000L, active11, 0x300000000000L);
       case 84:
       case 116:
          if ((active0 & 0x20L) != 0L)
-            return jjStartNfaWithStates_3(5, 5, 78);
+            return jjStartNfaWithStates_3(5, 5, 77);
          else if ((active0 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 44, 78);
+            return jjStartNfaWithStates_3(5, 44, 77);
          else if ((active1 & 0x10000000L) != 0L)
          {
             jjmatchedKind = 92;
@@ -18374,28 +18382,28 @@ private final int jjMoveStringLiteralDfa5_3(long old0, long active0, long old1,
             jjmatchedPos = 5;
          }
          else if ((active3 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 221, 78);
+            return jjStartNfaWithStates_3(5, 221, 77);
          else if ((active4 & 0x8L) != 0L)
-            return jjStartNfaWithStates_3(5, 259, 78);
+            return jjStartNfaWithStates_3(5, 259, 77);
          else if ((active4 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_3(5, 271, 78);
+            return jjStartNfaWithStates_3(5, 271, 77);
          else if ((active5 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 379, 78);
+            return jjStartNfaWithStates_3(5, 379, 77);
          else if ((active6 & 0x1L) != 0L)
-            return jjStartNfaWithStates_3(5, 384, 78);
+            return jjStartNfaWithStates_3(5, 384, 77);
          else if ((active6 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_3(5, 401, 78);
+            return jjStartNfaWithStates_3(5, 401, 77);
          else if ((active7 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 477, 78);
+            return jjStartNfaWithStates_3(5, 477, 77);
          else if ((active8 & 0x100L) != 0L)
-            return jjStartNfaWithStates_3(5, 520, 78);
+            return jjStartNfaWithStates_3(5, 520, 77);
          else if ((active9 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 611, 78);
+            return jjStartNfaWithStates_3(5, 611, 77);
          else if ((active10 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 675, 78);
+            return jjStartNfaWithStates_3(5, 675, 77);
          else if ((active10 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 679, 78);
-         return jjMoveStringLiteralDfa6_3(active0, 0x4000020000000L, active1, 0x1e07c0000L, active2, 0x400000000400L, active3, 0x100000001100L, active4, 0xc000000010000000L, active5, 0L, active6, 0x100080000000L, active7, 0x800000L, active8, 0x400L, active9, 0x1f80040080000000L, active10, 0L, active11, 0x10000000000L);
+            return jjStartNfaWithStates_3(5, 679, 77);
+         return jjMoveStringLiteralDfa6_3(active0, 0x4000020000000L, active1, 0x1e07c0000L, active2, 0x400000000400L, active3, 0x100000001100L, active4, 0xc000000010000000L, active5, 0L, active6, 0x100080000000L, active7, 0x800000L, active8, 0x400L, active9, 0x1f80040080000000L, active10, 0L, active11, 0x20000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa6_3(active0, 0x40000000040L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x2000000000000L, active8, 0L, active9, 0x8L, active10, 0L, active11, 0x200L);
@@ -18405,9 +18413,9 @@ private final int jjMoveStringLiteralDfa5_3(long old0, long active0, long old1,
       case 87:
       case 119:
          if ((active4 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 282, 78);
+            return jjStartNfaWithStates_3(5, 282, 77);
          else if ((active11 & 0x40L) != 0L)
-            return jjStartNfaWithStates_3(5, 710, 78);
+            return jjStartNfaWithStates_3(5, 710, 77);
          return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0L, active2, 0x20000L, active3, 0x8000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x100000000L, active11, 0L);
       case 88:
       case 120:
@@ -18415,17 +18423,17 @@ private final int jjMoveStringLiteralDfa5_3(long old0, long active0, long old1,
       case 89:
       case 121:
          if ((active0 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 45, 78);
+            return jjStartNfaWithStates_3(5, 45, 77);
          else if ((active3 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 228, 78);
+            return jjStartNfaWithStates_3(5, 228, 77);
          else if ((active5 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 350, 78);
+            return jjStartNfaWithStates_3(5, 350, 77);
          else if ((active9 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_3(5, 617, 78);
+            return jjStartNfaWithStates_3(5, 617, 77);
          return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0L, active2, 0x40000L, active3, 0L, active4, 0x80000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 90:
       case 122:
-         return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200000000000L);
+         return jjMoveStringLiteralDfa6_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
       default :
          break;
    }
@@ -18444,13 +18452,13 @@ private final int jjMoveStringLiteralDfa6_3(long old0, long active0, long old1,
    {
       case 50:
          if ((active7 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_3(6, 464, 78);
+            return jjStartNfaWithStates_3(6, 464, 77);
          break;
       case 95:
          return jjMoveStringLiteralDfa7_3(active0, 0L, active1, 0x2000000L, active2, 0x10L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1000000000000000L, active8, 0x8000L, active9, 0x300058000000L, active10, 0L, active11, 0x100000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa7_3(active0, 0x80000000400000L, active1, 0x1f000000000L, active2, 0x8000000L, active3, 0x20001L, active4, 0x2008000400003L, active5, 0x8000000000L, active6, 0L, active7, 0x90000000800000L, active8, 0x40000000000L, active9, 0x1f0b000000000070L, active10, 0x100000000000e00L, active11, 0x400010000000L);
+         return jjMoveStringLiteralDfa7_3(active0, 0x80000000400000L, active1, 0x1f000000000L, active2, 0x8000000L, active3, 0x20001L, active4, 0x2008000400003L, active5, 0x8000000000L, active6, 0L, active7, 0x90000000800000L, active8, 0x40000000000L, active9, 0x1f0b000000000070L, active10, 0x100000000000e00L, active11, 0x800010000000L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa7_3(active0, 0L, active1, 0L, active2, 0x8000000000L, active3, 0L, active4, 0x1800000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x20L);
@@ -18462,20 +18470,20 @@ private final int jjMoveStringLiteralDfa6_3(long old0, long active0, long old1,
             jjmatchedPos = 6;
          }
          else if ((active5 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 378, 78);
+            return jjStartNfaWithStates_3(6, 378, 77);
          return jjMoveStringLiteralDfa7_3(active0, 0x800000L, active1, 0x10000L, active2, 0x180c00000100000L, active3, 0x110000000000000L, active4, 0x4000010000L, active5, 0x4000000080L, active6, 0L, active7, 0x4000020010000000L, active8, 0x200000001000L, active9, 0L, active10, 0x78L, active11, 0L);
       case 68:
       case 100:
          if ((active2 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 158, 78);
+            return jjStartNfaWithStates_3(6, 158, 77);
          else if ((active2 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 165, 78);
+            return jjStartNfaWithStates_3(6, 165, 77);
          else if ((active3 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 242, 78);
+            return jjStartNfaWithStates_3(6, 242, 77);
          else if ((active5 & 0x20L) != 0L)
-            return jjStartNfaWithStates_3(6, 325, 78);
+            return jjStartNfaWithStates_3(6, 325, 77);
          else if ((active10 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 674, 78);
+            return jjStartNfaWithStates_3(6, 674, 77);
          return jjMoveStringLiteralDfa7_3(active0, 0L, active1, 0xc000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x200000L, active7, 0L, active8, 0L, active9, 0x8000000000L, active10, 0x8000000004000000L, active11, 0L);
       case 69:
       case 101:
@@ -18485,41 +18493,41 @@ private final int jjMoveStringLiteralDfa6_3(long old0, long active0, long old1,
             jjmatchedPos = 6;
          }
          else if ((active1 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_3(6, 82, 78);
+            return jjStartNfaWithStates_3(6, 82, 77);
          else if ((active2 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 152, 78);
+            return jjStartNfaWithStates_3(6, 152, 77);
          else if ((active3 & 0x200L) != 0L)
-            return jjStartNfaWithStates_3(6, 201, 78);
+            return jjStartNfaWithStates_3(6, 201, 77);
          else if ((active3 & 0x1000L) != 0L)
-            return jjStartNfaWithStates_3(6, 204, 78);
+            return jjStartNfaWithStates_3(6, 204, 77);
          else if ((active4 & 0x20L) != 0L)
-            return jjStartNfaWithStates_3(6, 261, 78);
+            return jjStartNfaWithStates_3(6, 261, 77);
          else if ((active5 & 0x1000L) != 0L)
          {
             jjmatchedKind = 332;
             jjmatchedPos = 6;
          }
          else if ((active6 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 428, 78);
+            return jjStartNfaWithStates_3(6, 428, 77);
          else if ((active6 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 440, 78);
+            return jjStartNfaWithStates_3(6, 440, 77);
          else if ((active7 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_3(6, 470, 78);
+            return jjStartNfaWithStates_3(6, 470, 77);
          else if ((active7 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 472, 78);
+            return jjStartNfaWithStates_3(6, 472, 77);
          else if ((active7 & 0x80000000000L) != 0L)
          {
             jjmatchedKind = 491;
             jjmatchedPos = 6;
          }
          else if ((active10 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 665, 78);
-         else if ((active11 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 743, 78);
+            return jjStartNfaWithStates_3(6, 665, 77);
          else if ((active11 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 744, 78);
-         else if ((active11 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 749, 78);
+            return jjStartNfaWithStates_3(6, 744, 77);
+         else if ((active11 & 0x20000000000L) != 0L)
+            return jjStartNfaWithStates_3(6, 745, 77);
+         else if ((active11 & 0x400000000000L) != 0L)
+            return jjStartNfaWithStates_3(6, 750, 77);
          return jjMoveStringLiteralDfa7_3(active0, 0x200000000000000L, active1, 0x8L, active2, 0x8000000010060000L, active3, 0x200000000L, active4, 0x400000000300084L, active5, 0x1000000410372000L, active6, 0x2020000000000000L, active7, 0x700780000000L, active8, 0x400000000L, active9, 0x2000000L, active10, 0x3c1000000000L, active11, 0x8a000008L);
       case 70:
       case 102:
@@ -18532,54 +18540,54 @@ private final int jjMoveStringLiteralDfa6_3(long old0, long active0, long old1,
             jjmatchedPos = 6;
          }
          else if ((active0 & 0x8000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 63, 78);
+            return jjStartNfaWithStates_3(6, 63, 77);
          else if ((active4 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 308, 78);
+            return jjStartNfaWithStates_3(6, 308, 77);
          else if ((active5 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 363, 78);
+            return jjStartNfaWithStates_3(6, 363, 77);
          else if ((active6 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 417, 78);
+            return jjStartNfaWithStates_3(6, 417, 77);
          else if ((active6 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 430, 78);
+            return jjStartNfaWithStates_3(6, 430, 77);
          else if ((active7 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 499, 78);
+            return jjStartNfaWithStates_3(6, 499, 77);
          else if ((active10 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 699, 78);
-         else if ((active11 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 737, 78);
+            return jjStartNfaWithStates_3(6, 699, 77);
+         else if ((active11 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_3(6, 738, 77);
          return jjMoveStringLiteralDfa7_3(active0, 0x2000000000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x400000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0x2000000000L, active9, 0L, active10, 0L, active11, 0x800000L);
       case 72:
       case 104:
          if ((active0 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 50, 78);
-         else if ((active11 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 748, 78);
+            return jjStartNfaWithStates_3(6, 50, 77);
+         else if ((active11 & 0x200000000000L) != 0L)
+            return jjStartNfaWithStates_3(6, 749, 77);
          return jjMoveStringLiteralDfa7_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x2L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa7_3(active0, 0x1020000000L, active1, 0x400001c0780000L, active2, 0x40000000200L, active3, 0x8000500L, active4, 0xc000000010004040L, active5, 0x3000000000000L, active6, 0xc0000080000000L, active7, 0x100000800000100L, active8, 0x1c0002400L, active9, 0x400060000ffc00L, active10, 0x18000000L, active11, 0x400200000L);
+         return jjMoveStringLiteralDfa7_3(active0, 0x1020000000L, active1, 0x400001c0780000L, active2, 0x40000000200L, active3, 0x8000500L, active4, 0xc000000010004040L, active5, 0x3000000000000L, active6, 0xc0000080000000L, active7, 0x100000800000100L, active8, 0x1c0002400L, active9, 0x400060000ffc00L, active10, 0x18000000L, active11, 0x800200000L);
       case 76:
       case 108:
          if ((active2 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_3(6, 151, 78);
+            return jjStartNfaWithStates_3(6, 151, 77);
          else if ((active3 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 234, 78);
+            return jjStartNfaWithStates_3(6, 234, 77);
          else if ((active4 & 0x200L) != 0L)
          {
             jjmatchedKind = 265;
             jjmatchedPos = 6;
          }
          else if ((active4 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 306, 78);
+            return jjStartNfaWithStates_3(6, 306, 77);
          else if ((active5 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 360, 78);
+            return jjStartNfaWithStates_3(6, 360, 77);
          else if ((active6 & 0x1000L) != 0L)
          {
             jjmatchedKind = 396;
             jjmatchedPos = 6;
          }
          else if ((active6 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 414, 78);
+            return jjStartNfaWithStates_3(6, 414, 77);
          return jjMoveStringLiteralDfa7_3(active0, 0x40000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x400L, active5, 0x2048000000000000L, active6, 0x2000L, active7, 0x20000L, active8, 0L, active9, 0x4L, active10, 0L, active11, 0L);
       case 77:
       case 109:
@@ -18587,28 +18595,28 @@ private final int jjMoveStringLiteralDfa6_3(long old0, long active0, long old1,
       case 78:
       case 110:
          if ((active0 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 43, 78);
+            return jjStartNfaWithStates_3(6, 43, 77);
          else if ((active0 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 48, 78);
+            return jjStartNfaWithStates_3(6, 48, 77);
          else if ((active3 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_3(6, 207, 78);
+            return jjStartNfaWithStates_3(6, 207, 77);
          else if ((active3 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 222, 78);
+            return jjStartNfaWithStates_3(6, 222, 77);
          else if ((active3 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 223, 78);
+            return jjStartNfaWithStates_3(6, 223, 77);
          else if ((active6 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 421, 78);
+            return jjStartNfaWithStates_3(6, 421, 77);
          else if ((active6 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 433, 78);
+            return jjStartNfaWithStates_3(6, 433, 77);
          else if ((active8 & 0x20L) != 0L)
-            return jjStartNfaWithStates_3(6, 517, 78);
+            return jjStartNfaWithStates_3(6, 517, 77);
          else if ((active8 & 0x10000L) != 0L)
          {
             jjmatchedKind = 528;
             jjmatchedPos = 6;
          }
          else if ((active10 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 672, 78);
+            return jjStartNfaWithStates_3(6, 672, 77);
          else if ((active10 & 0x1000000000000000L) != 0L)
          {
             jjmatchedKind = 700;
@@ -18621,63 +18629,63 @@ private final int jjMoveStringLiteralDfa6_3(long old0, long active0, long old1,
       case 80:
       case 112:
          if ((active10 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 694, 78);
+            return jjStartNfaWithStates_3(6, 694, 77);
          return jjMoveStringLiteralDfa7_3(active0, 0x20000000000L, active1, 0x2800000000000L, active2, 0x30000000000L, active3, 0L, active4, 0x80000000000L, active5, 0L, active6, 0x80000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 82:
       case 114:
          if ((active2 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 159, 78);
+            return jjStartNfaWithStates_3(6, 159, 77);
          else if ((active4 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_3(6, 275, 78);
+            return jjStartNfaWithStates_3(6, 275, 77);
          else if ((active4 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 280, 78);
+            return jjStartNfaWithStates_3(6, 280, 77);
          else if ((active4 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 283, 78);
+            return jjStartNfaWithStates_3(6, 283, 77);
          else if ((active5 & 0x1L) != 0L)
-            return jjStartNfaWithStates_3(6, 320, 78);
+            return jjStartNfaWithStates_3(6, 320, 77);
          else if ((active7 & 0x2L) != 0L)
          {
             jjmatchedKind = 449;
             jjmatchedPos = 6;
          }
          else if ((active8 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_3(6, 534, 78);
+            return jjStartNfaWithStates_3(6, 534, 77);
          else if ((active10 & 0x2000L) != 0L)
          {
             jjmatchedKind = 653;
             jjmatchedPos = 6;
          }
          else if ((active10 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 697, 78);
+            return jjStartNfaWithStates_3(6, 697, 77);
          else if ((active11 & 0x800L) != 0L)
-            return jjStartNfaWithStates_3(6, 715, 78);
-         return jjMoveStringLiteralDfa7_3(active0, 0L, active1, 0L, active2, 0x400000400L, active3, 0x100400000002L, active4, 0x300000000L, active5, 0x200L, active6, 0x400000000L, active7, 0x40000000000004L, active8, 0L, active9, 0x80040000300000L, active10, 0x5c000L, active11, 0x800000000L);
+            return jjStartNfaWithStates_3(6, 715, 77);
+         return jjMoveStringLiteralDfa7_3(active0, 0L, active1, 0L, active2, 0x400000400L, active3, 0x100400000002L, active4, 0x300000000L, active5, 0x200L, active6, 0x400000000L, active7, 0x40000000000004L, active8, 0L, active9, 0x80040000300000L, active10, 0x5c000L, active11, 0x1000000000L);
       case 83:
       case 115:
          if ((active5 & 0x40L) != 0L)
-            return jjStartNfaWithStates_3(6, 326, 78);
+            return jjStartNfaWithStates_3(6, 326, 77);
          else if ((active5 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 345, 78);
+            return jjStartNfaWithStates_3(6, 345, 77);
          else if ((active6 & 0x100L) != 0L)
-            return jjStartNfaWithStates_3(6, 392, 78);
+            return jjStartNfaWithStates_3(6, 392, 77);
          else if ((active7 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 484, 78);
+            return jjStartNfaWithStates_3(6, 484, 77);
          else if ((active8 & 0x10L) != 0L)
-            return jjStartNfaWithStates_3(6, 516, 78);
+            return jjStartNfaWithStates_3(6, 516, 77);
          else if ((active11 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_3(6, 723, 78);
+            return jjStartNfaWithStates_3(6, 723, 77);
          return jjMoveStringLiteralDfa7_3(active0, 0L, active1, 0x4000000000000L, active2, 0x80000000080L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1L, active9, 0x200000000L, active10, 0x200000L, active11, 0x400000L);
       case 84:
       case 116:
          if ((active1 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_3(6, 87, 78);
+            return jjStartNfaWithStates_3(6, 87, 77);
          else if ((active1 & 0x200000000L) != 0L)
          {
             jjmatchedKind = 97;
             jjmatchedPos = 6;
          }
          else if ((active1 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 109, 78);
+            return jjStartNfaWithStates_3(6, 109, 77);
          else if ((active1 & 0x80000000000000L) != 0L)
          {
             jjmatchedKind = 119;
@@ -18689,32 +18697,32 @@ private final int jjMoveStringLiteralDfa6_3(long old0, long active0, long old1,
             jjmatchedPos = 6;
          }
          else if ((active2 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 186, 78);
+            return jjStartNfaWithStates_3(6, 186, 77);
          else if ((active3 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_3(6, 210, 78);
+            return jjStartNfaWithStates_3(6, 210, 77);
          else if ((active6 & 0x8000000000L) != 0L)
          {
             jjmatchedKind = 423;
             jjmatchedPos = 6;
          }
          else if ((active7 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 474, 78);
+            return jjStartNfaWithStates_3(6, 474, 77);
          else if ((active7 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 475, 78);
+            return jjStartNfaWithStates_3(6, 475, 77);
          else if ((active8 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 551, 78);
+            return jjStartNfaWithStates_3(6, 551, 77);
          else if ((active9 & 0x8000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 639, 78);
+            return jjStartNfaWithStates_3(6, 639, 77);
          else if ((active10 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 673, 78);
+            return jjStartNfaWithStates_3(6, 673, 77);
          else if ((active10 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 698, 78);
+            return jjStartNfaWithStates_3(6, 698, 77);
          else if ((active11 & 0x200L) != 0L)
-            return jjStartNfaWithStates_3(6, 713, 78);
-         return jjMoveStringLiteralDfa7_3(active0, 0x90002040L, active1, 0xff00000c200007f0L, active2, 0x4000007L, active3, 0x2000080000000000L, active4, 0x20100L, active5, 0L, active6, 0x7003f800000L, active7, 0L, active8, 0x3fff100800000840L, active9, 0x1400000000L, active10, 0x100000L, active11, 0x80024140000L);
+            return jjStartNfaWithStates_3(6, 713, 77);
+         return jjMoveStringLiteralDfa7_3(active0, 0x90002040L, active1, 0xff00000c200007f0L, active2, 0x4000007L, active3, 0x2000080000000000L, active4, 0x20100L, active5, 0L, active6, 0x7003f800000L, active7, 0L, active8, 0x3fff100800000840L, active9, 0x1400000000L, active10, 0x100000L, active11, 0x100024140000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa7_3(active0, 0xc00000000L, active1, 0x120000000000L, active2, 0L, active3, 0L, active4, 0x2000000000L, active5, 0x4000800L, active6, 0x4000000000000000L, active7, 0x1000000000000L, active8, 0x400000000000L, active9, 0x80000000L, active10, 0L, active11, 0x4000000000L);
+         return jjMoveStringLiteralDfa7_3(active0, 0xc00000000L, active1, 0x120000000000L, active2, 0L, active3, 0L, active4, 0x2000000000L, active5, 0x4000800L, active6, 0x4000000000000000L, active7, 0x1000000000000L, active8, 0x400000000000L, active9, 0x80000000L, active10, 0L, active11, 0x8000000000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa7_3(active0, 0L, active1, 0L, active2, 0L, active3, 0x1000000L, active4, 0L, active5, 0L, active6, 0x200000000000000L, active7, 0x203000L, active8, 0L, active9, 0L, active10, 0x2L, active11, 0L);
@@ -18724,17 +18732,17 @@ private final int jjMoveStringLiteralDfa6_3(long old0, long active0, long old1,
       case 89:
       case 121:
          if ((active1 & 0x1L) != 0L)
-            return jjStartNfaWithStates_3(6, 64, 78);
+            return jjStartNfaWithStates_3(6, 64, 77);
          else if ((active4 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 312, 78);
+            return jjStartNfaWithStates_3(6, 312, 77);
          else if ((active6 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_3(6, 404, 78);
+            return jjStartNfaWithStates_3(6, 404, 77);
          else if ((active6 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_3(6, 443, 78);
+            return jjStartNfaWithStates_3(6, 443, 77);
          else if ((active7 & 0x1L) != 0L)
-            return jjStartNfaWithStates_3(6, 448, 78);
+            return jjStartNfaWithStates_3(6, 448, 77);
          else if ((active10 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_3(6, 662, 78);
+            return jjStartNfaWithStates_3(6, 662, 77);
          return jjMoveStringLiteralDfa7_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x100000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       default :
          break;
@@ -18760,9 +18768,9 @@ private final int jjMoveStringLiteralDfa7_3(long old0, long active0, long old1,
       case 66:
       case 98:
          if ((active8 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 552, 78);
+            return jjStartNfaWithStates_3(7, 552, 77);
          else if ((active8 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 555, 78);
+            return jjStartNfaWithStates_3(7, 555, 77);
          return jjMoveStringLiteralDfa8_3(active0, 0L, active1, 0L, active2, 0x8000000L, active3, 0L, active4, 0x40000000000L, active5, 0L, active6, 0L, active7, 0x2000000800000L, active8, 0x400000000000L, active9, 0x100000L, active10, 0L, active11, 0L);
       case 67:
       case 99:
@@ -18777,109 +18785,109 @@ private final int jjMoveStringLiteralDfa7_3(long old0, long active0, long old1,
       case 68:
       case 100:
          if ((active0 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 57, 78);
+            return jjStartNfaWithStates_3(7, 57, 77);
          else if ((active2 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 156, 78);
+            return jjStartNfaWithStates_3(7, 156, 77);
          else if ((active10 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 676, 78);
-         else if ((active11 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 739, 78);
+            return jjStartNfaWithStates_3(7, 676, 77);
+         else if ((active11 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_3(7, 740, 77);
          return jjMoveStringLiteralDfa8_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40000780000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 69:
       case 101:
          if ((active0 & 0x40L) != 0L)
-            return jjStartNfaWithStates_3(7, 6, 78);
+            return jjStartNfaWithStates_3(7, 6, 77);
          else if ((active0 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_3(7, 13, 78);
+            return jjStartNfaWithStates_3(7, 13, 77);
          else if ((active1 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_3(7, 80, 78);
+            return jjStartNfaWithStates_3(7, 80, 77);
          else if ((active1 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 108, 78);
+            return jjStartNfaWithStates_3(7, 108, 77);
          else if ((active2 & 0x80L) != 0L)
-            return jjStartNfaWithStates_3(7, 135, 78);
+            return jjStartNfaWithStates_3(7, 135, 77);
          else if ((active2 & 0x800L) != 0L)
          {
             jjmatchedKind = 139;
             jjmatchedPos = 7;
          }
          else if ((active2 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 167, 78);
+            return jjStartNfaWithStates_3(7, 167, 77);
          else if ((active4 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_3(7, 272, 78);
+            return jjStartNfaWithStates_3(7, 272, 77);
          else if ((active4 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 299, 78);
+            return jjStartNfaWithStates_3(7, 299, 77);
          else if ((active4 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 302, 78);
+            return jjStartNfaWithStates_3(7, 302, 77);
          else if ((active5 & 0x800L) != 0L)
-            return jjStartNfaWithStates_3(7, 331, 78);
+            return jjStartNfaWithStates_3(7, 331, 77);
          else if ((active5 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 346, 78);
+            return jjStartNfaWithStates_3(7, 346, 77);
          else if ((active5 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 374, 78);
+            return jjStartNfaWithStates_3(7, 374, 77);
          else if ((active6 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 441, 78);
+            return jjStartNfaWithStates_3(7, 441, 77);
          else if ((active7 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_3(7, 469, 78);
+            return jjStartNfaWithStates_3(7, 469, 77);
          else if ((active8 & 0x1000L) != 0L)
-            return jjStartNfaWithStates_3(7, 524, 78);
+            return jjStartNfaWithStates_3(7, 524, 77);
          else if ((active8 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 547, 78);
+            return jjStartNfaWithStates_3(7, 547, 77);
          else if ((active8 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 556, 78);
+            return jjStartNfaWithStates_3(7, 556, 77);
          else if ((active9 & 0x80L) != 0L)
          {
             jjmatchedKind = 583;
             jjmatchedPos = 7;
          }
          else if ((active10 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_3(7, 660, 78);
+            return jjStartNfaWithStates_3(7, 660, 77);
          else if ((active11 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_3(7, 722, 78);
+            return jjStartNfaWithStates_3(7, 722, 77);
          return jjMoveStringLiteralDfa8_3(active0, 0x40000000L, active1, 0x200007f0L, active2, 0x20000002f000L, active3, 0x80000000000L, active4, 0x2000000000L, active5, 0x2000000000000200L, active6, 0x3f800000L, active7, 0L, active8, 0x3fff000000000000L, active9, 0x6000000000000108L, active10, 0x4000002L, active11, 0x20000000L);
       case 70:
       case 102:
          if ((active10 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 693, 78);
+            return jjStartNfaWithStates_3(7, 693, 77);
          return jjMoveStringLiteralDfa8_3(active0, 0L, active1, 0L, active2, 0x200L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x20000000000000L, active8, 0L, active9, 0x40000000000000L, active10, 0x3c0000000000L, active11, 0L);
       case 71:
       case 103:
          if ((active2 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 189, 78);
+            return jjStartNfaWithStates_3(7, 189, 77);
          else if ((active3 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 245, 78);
+            return jjStartNfaWithStates_3(7, 245, 77);
          else if ((active6 & 0x800L) != 0L)
-            return jjStartNfaWithStates_3(7, 395, 78);
+            return jjStartNfaWithStates_3(7, 395, 77);
          else if ((active10 & 0x4L) != 0L)
-            return jjStartNfaWithStates_3(7, 642, 78);
+            return jjStartNfaWithStates_3(7, 642, 77);
          return jjMoveStringLiteralDfa8_3(active0, 0x400000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x400000000000000L, active5, 0L, active6, 0x2000000000000000L, active7, 0x3000L, active8, 0xc000000000000000L, active9, 0x1L, active10, 0L, active11, 0x2000000L);
       case 72:
       case 104:
          if ((active2 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 174, 78);
+            return jjStartNfaWithStates_3(7, 174, 77);
          return jjMoveStringLiteralDfa8_3(active0, 0L, active1, 0L, active2, 0L, active3, 0x100000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa8_3(active0, 0x10000000L, active1, 0x1fc00001000L, active2, 0L, active3, 0L, active4, 0x400020000L, active5, 0x400000L, active6, 0x30000202000L, active7, 0L, active8, 0x203000000000L, active9, 0x40400000000L, active10, 0x2000000000000000L, active11, 0x80000000000L);
+         return jjMoveStringLiteralDfa8_3(active0, 0x10000000L, active1, 0x1fc00001000L, active2, 0L, active3, 0L, active4, 0x400020000L, active5, 0x400000L, active6, 0x30000202000L, active7, 0L, active8, 0x203000000000L, active9, 0x40400000000L, active10, 0x2000000000000000L, active11, 0x100000000000L);
       case 74:
       case 106:
          return jjMoveStringLiteralDfa8_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x1800000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 75:
       case 107:
          if ((active7 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 489, 78);
+            return jjStartNfaWithStates_3(7, 489, 77);
          break;
       case 76:
       case 108:
          if ((active3 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_3(7, 209, 78);
+            return jjStartNfaWithStates_3(7, 209, 77);
          else if ((active4 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_3(7, 278, 78);
+            return jjStartNfaWithStates_3(7, 278, 77);
          else if ((active5 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 359, 78);
+            return jjStartNfaWithStates_3(7, 359, 77);
          else if ((active9 & 0x20L) != 0L)
-            return jjStartNfaWithStates_3(7, 581, 78);
+            return jjStartNfaWithStates_3(7, 581, 77);
          else if ((active11 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 735, 78);
+            return jjStartNfaWithStates_3(7, 735, 77);
          return jjMoveStringLiteralDfa8_3(active0, 0x80040000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x2008000000400L, active5, 0L, active6, 0L, active7, 0L, active8, 0x20000000000L, active9, 0x40L, active10, 0L, active11, 0x10000000L);
       case 77:
       case 109:
@@ -18887,27 +18895,27 @@ private final int jjMoveStringLiteralDfa7_3(long old0, long active0, long old1,
       case 78:
       case 110:
          if ((active3 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 231, 78);
+            return jjStartNfaWithStates_3(7, 231, 77);
          else if ((active6 & 0x4000000000000L) != 0L)
          {
             jjmatchedKind = 434;
             jjmatchedPos = 7;
          }
-         return jjMoveStringLiteralDfa8_3(active0, 0L, active1, 0x2000008L, active2, 0x40000000010L, active3, 0x8000400L, active4, 0xc4L, active5, 0x1000000000000000L, active6, 0x48000000000000L, active7, 0x1101000800000000L, active8, 0x8000L, active9, 0x6002000000L, active10, 0L, active11, 0x400400000000L);
+         return jjMoveStringLiteralDfa8_3(active0, 0L, active1, 0x2000008L, active2, 0x40000000010L, active3, 0x8000400L, active4, 0xc4L, active5, 0x1000000000000000L, active6, 0x48000000000000L, active7, 0x1101000800000000L, active8, 0x8000L, active9, 0x6002000000L, active10, 0L, active11, 0x800800000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa8_3(active0, 0x20800000L, active1, 0x28001c0780000L, active2, 0L, active3, 0x10000400000100L, active4, 0x4010000100L, active5, 0x4000000080L, active6, 0x80000480000000L, active7, 0x20000L, active8, 0x800L, active9, 0x4L, active10, 0L, active11, 0x4000000000L);
+         return jjMoveStringLiteralDfa8_3(active0, 0x20800000L, active1, 0x28001c0780000L, active2, 0L, active3, 0x10000400000100L, active4, 0x4010000100L, active5, 0x4000000080L, active6, 0x80000480000000L, active7, 0x20000L, active8, 0x800L, active9, 0x4L, active10, 0L, active11, 0x8000000000L);
       case 80:
       case 112:
          if ((active10 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 695, 78);
+            return jjStartNfaWithStates_3(7, 695, 77);
          return jjMoveStringLiteralDfa8_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x400000000L, active9, 0x8000000L, active10, 0L, active11, 0L);
       case 82:
       case 114:
          if ((active8 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 554, 78);
+            return jjStartNfaWithStates_3(7, 554, 77);
          else if ((active11 & 0x8L) != 0L)
-            return jjStartNfaWithStates_3(7, 707, 78);
+            return jjStartNfaWithStates_3(7, 707, 77);
          return jjMoveStringLiteralDfa8_3(active0, 0x10080000000L, active1, 0x2000L, active2, 0L, active3, 0L, active4, 0x300000000L, active5, 0L, active6, 0x4000000000000000L, active7, 0L, active8, 0L, active9, 0x2000080000010L, active10, 0x100000000040180L, active11, 0x800000L);
       case 83:
       case 115:
@@ -18917,32 +18925,32 @@ private final int jjMoveStringLiteralDfa7_3(long old0, long active0, long old1,
             jjmatchedPos = 7;
          }
          else if ((active2 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 154, 78);
+            return jjStartNfaWithStates_3(7, 154, 77);
          else if ((active5 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_3(7, 333, 78);
+            return jjStartNfaWithStates_3(7, 333, 77);
          else if ((active5 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 348, 78);
+            return jjStartNfaWithStates_3(7, 348, 77);
          else if ((active6 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_3(7, 403, 78);
+            return jjStartNfaWithStates_3(7, 403, 77);
          else if ((active6 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 437, 78);
+            return jjStartNfaWithStates_3(7, 437, 77);
          else if ((active7 & 0x4L) != 0L)
-            return jjStartNfaWithStates_3(7, 450, 78);
+            return jjStartNfaWithStates_3(7, 450, 77);
          else if ((active9 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 615, 78);
+            return jjStartNfaWithStates_3(7, 615, 77);
          return jjMoveStringLiteralDfa8_3(active0, 0L, active1, 0x40080000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x10000000000000L, active8, 0L, active9, 0x210000000L, active10, 0L, active11, 0x100000000L);
       case 84:
       case 116:
          if ((active2 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 175, 78);
+            return jjStartNfaWithStates_3(7, 175, 77);
          else if ((active5 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 354, 78);
+            return jjStartNfaWithStates_3(7, 354, 77);
          else if ((active7 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 476, 78);
+            return jjStartNfaWithStates_3(7, 476, 77);
          else if ((active8 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 538, 78);
+            return jjStartNfaWithStates_3(7, 538, 77);
          else if ((active10 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_3(7, 661, 78);
+            return jjStartNfaWithStates_3(7, 661, 77);
          return jjMoveStringLiteralDfa8_3(active0, 0xc00000000L, active1, 0L, active2, 0xb0000000000L, active3, 0x2L, active4, 0x4003L, active5, 0L, active6, 0L, active7, 0x8000L, active8, 0L, active9, 0x100000000000L, active10, 0x18000e78L, active11, 0x200000L);
       case 85:
       case 117:
@@ -18953,31 +18961,31 @@ private final int jjMoveStringLiteralDfa7_3(long old0, long active0, long old1,
       case 87:
       case 119:
          if ((active2 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 172, 78);
+            return jjStartNfaWithStates_3(7, 172, 77);
          break;
       case 88:
       case 120:
          if ((active7 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_3(7, 466, 78);
+            return jjStartNfaWithStates_3(7, 466, 77);
          break;
       case 89:
       case 121:
          if ((active3 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 236, 78);
+            return jjStartNfaWithStates_3(7, 236, 77);
          else if ((active3 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 253, 78);
+            return jjStartNfaWithStates_3(7, 253, 77);
          else if ((active7 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_3(7, 467, 78);
+            return jjStartNfaWithStates_3(7, 467, 77);
          else if ((active7 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_3(7, 468, 78);
+            return jjStartNfaWithStates_3(7, 468, 77);
          else if ((active7 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 503, 78);
+            return jjStartNfaWithStates_3(7, 503, 77);
          else if ((active8 & 0x40L) != 0L)
-            return jjStartNfaWithStates_3(7, 518, 78);
+            return jjStartNfaWithStates_3(7, 518, 77);
          else if ((active9 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 627, 78);
+            return jjStartNfaWithStates_3(7, 627, 77);
          else if ((active11 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_3(7, 731, 78);
+            return jjStartNfaWithStates_3(7, 731, 77);
          return jjMoveStringLiteralDfa8_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x200L, active10, 0L, active11, 0x4500000L);
       case 90:
       case 122:
@@ -19006,23 +19014,23 @@ private final int jjMoveStringLiteralDfa8_3(long old0, long active0, long old1,
       case 66:
       case 98:
          if ((active9 & 0x4L) != 0L)
-            return jjStartNfaWithStates_3(8, 578, 78);
+            return jjStartNfaWithStates_3(8, 578, 77);
          break;
       case 67:
       case 99:
          if ((active9 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 618, 78);
-         return jjMoveStringLiteralDfa9_3(active0, 0L, active1, 0x100000000000000L, active2, 0x200000000000L, active3, 0L, active4, 0L, active5, 0x1000000000000200L, active6, 0L, active7, 0x100000000000L, active8, 0L, active9, 0x10L, active10, 0x4000L, active11, 0x80000000020L);
+            return jjStartNfaWithStates_3(8, 618, 77);
+         return jjMoveStringLiteralDfa9_3(active0, 0L, active1, 0x100000000000000L, active2, 0x200000000000L, active3, 0L, active4, 0L, active5, 0x1000000000000200L, active6, 0L, active7, 0x100000000000L, active8, 0L, active9, 0x10L, active10, 0x4000L, active11, 0x100000000020L);
       case 68:
       case 100:
          if ((active1 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 93, 78);
+            return jjStartNfaWithStates_3(8, 93, 77);
          else if ((active3 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 235, 78);
+            return jjStartNfaWithStates_3(8, 235, 77);
          else if ((active10 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 666, 78);
+            return jjStartNfaWithStates_3(8, 666, 77);
          else if ((active11 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 733, 78);
+            return jjStartNfaWithStates_3(8, 733, 77);
          return jjMoveStringLiteralDfa9_3(active0, 0L, active1, 0x600000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x400L, active10, 0L, active11, 0L);
       case 69:
       case 101:
@@ -19032,7 +19040,7 @@ private final int jjMoveStringLiteralDfa8_3(long old0, long active0, long old1,
             jjmatchedPos = 8;
          }
          else if ((active3 & 0x1L) != 0L)
-            return jjStartNfaWithStates_3(8, 192, 78);
+            return jjStartNfaWithStates_3(8, 192, 77);
          else if ((active4 & 0x1L) != 0L)
          {
             jjmatchedKind = 256;
@@ -19049,15 +19057,15 @@ private final int jjMoveStringLiteralDfa8_3(long old0, long active0, long old1,
             jjmatchedPos = 8;
          }
          else if ((active5 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 371, 78);
+            return jjStartNfaWithStates_3(8, 371, 77);
          else if ((active6 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 446, 78);
+            return jjStartNfaWithStates_3(8, 446, 77);
          else if ((active7 & 0x100L) != 0L)
-            return jjStartNfaWithStates_3(8, 456, 78);
+            return jjStartNfaWithStates_3(8, 456, 77);
          else if ((active8 & 0x400L) != 0L)
-            return jjStartNfaWithStates_3(8, 522, 78);
+            return jjStartNfaWithStates_3(8, 522, 77);
          else if ((active9 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 607, 78);
+            return jjStartNfaWithStates_3(8, 607, 77);
          else if ((active10 & 0x200L) != 0L)
          {
             jjmatchedKind = 649;
@@ -19067,44 +19075,44 @@ private final int jjMoveStringLiteralDfa8_3(long old0, long active0, long old1,
       case 70:
       case 102:
          if ((active2 & 0x200L) != 0L)
-            return jjStartNfaWithStates_3(8, 137, 78);
+            return jjStartNfaWithStates_3(8, 137, 77);
          else if ((active9 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 630, 78);
+            return jjStartNfaWithStates_3(8, 630, 77);
          return jjMoveStringLiteralDfa9_3(active0, 0L, active1, 0xc000000L, active2, 0x180000000000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x800L, active10, 0L, active11, 0L);
       case 71:
       case 103:
          if ((active0 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_3(8, 22, 78);
+            return jjStartNfaWithStates_3(8, 22, 77);
          else if ((active3 & 0x400L) != 0L)
-            return jjStartNfaWithStates_3(8, 202, 78);
+            return jjStartNfaWithStates_3(8, 202, 77);
          else if ((active3 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 219, 78);
+            return jjStartNfaWithStates_3(8, 219, 77);
          else if ((active4 & 0x40L) != 0L)
-            return jjStartNfaWithStates_3(8, 262, 78);
+            return jjStartNfaWithStates_3(8, 262, 77);
          else if ((active6 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 438, 78);
+            return jjStartNfaWithStates_3(8, 438, 77);
          else if ((active7 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 483, 78);
+            return jjStartNfaWithStates_3(8, 483, 77);
          else if ((active9 & 0x2000000000L) != 0L)
          {
             jjmatchedKind = 613;
             jjmatchedPos = 8;
          }
-         else if ((active11 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 738, 78);
-         return jjMoveStringLiteralDfa9_3(active0, 0L, active1, 0x8L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000000000L, active9, 0x4040000000L, active10, 0L, active11, 0x400000000000L);
+         else if ((active11 & 0x800000000L) != 0L)
+            return jjStartNfaWithStates_3(8, 739, 77);
+         return jjMoveStringLiteralDfa9_3(active0, 0L, active1, 0x8L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000000000L, active9, 0x4040000000L, active10, 0L, active11, 0x800000000000L);
       case 72:
       case 104:
          return jjMoveStringLiteralDfa9_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1L, active9, 0x201000L, active10, 0L, active11, 0L);
       case 73:
       case 105:
          if ((active0 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 42, 78);
+            return jjStartNfaWithStates_3(8, 42, 77);
          return jjMoveStringLiteralDfa9_3(active0, 0x80000080000000L, active1, 0x2000L, active2, 0xd0000000000L, active3, 0x2L, active4, 0x4000L, active5, 0L, active6, 0L, active7, 0x40000000000800L, active8, 0L, active9, 0x100000100200L, active10, 0x3c0010000878L, active11, 0x102000000L);
       case 75:
       case 107:
          if ((active2 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_3(8, 145, 78);
+            return jjStartNfaWithStates_3(8, 145, 77);
          break;
       case 76:
       case 108:
@@ -19120,7 +19128,7 @@ private final int jjMoveStringLiteralDfa8_3(long old0, long active0, long old1,
       case 78:
       case 110:
          if ((active0 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 29, 78);
+            return jjStartNfaWithStates_3(8, 29, 77);
          else if ((active1 & 0x80000L) != 0L)
          {
             jjmatchedKind = 83;
@@ -19132,13 +19140,13 @@ private final int jjMoveStringLiteralDfa8_3(long old0, long active0, long old1,
             jjmatchedPos = 8;
          }
          else if ((active3 & 0x100L) != 0L)
-            return jjStartNfaWithStates_3(8, 200, 78);
+            return jjStartNfaWithStates_3(8, 200, 77);
          else if ((active4 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 284, 78);
+            return jjStartNfaWithStates_3(8, 284, 77);
          else if ((active6 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 415, 78);
+            return jjStartNfaWithStates_3(8, 415, 77);
          else if ((active6 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 439, 78);
+            return jjStartNfaWithStates_3(8, 439, 77);
          return jjMoveStringLiteralDfa9_3(active0, 0x2000000040800000L, active1, 0x81f180700000L, active2, 0x400000400L, active3, 0x10000000000000L, active4, 0L, active5, 0x2000004000000080L, active6, 0x200000L, active7, 0x200000004000L, active8, 0x3000000000L, active9, 0x80000000000000L, active10, 0x2000000000008000L, active11, 0x400000L);
       case 79:
       case 111:
@@ -19146,7 +19154,7 @@ private final int jjMoveStringLiteralDfa8_3(long old0, long active0, long old1,
       case 80:
       case 112:
          if ((active1 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 113, 78);
+            return jjStartNfaWithStates_3(8, 113, 77);
          else if ((active9 & 0x100000000000000L) != 0L)
          {
             jjmatchedKind = 632;
@@ -19164,18 +19172,18 @@ private final int jjMoveStringLiteralDfa8_3(long old0, long active0, long old1,
             jjmatchedPos = 8;
          }
          else if ((active2 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_3(8, 146, 78);
+            return jjStartNfaWithStates_3(8, 146, 77);
          else if ((active4 & 0x100L) != 0L)
-            return jjStartNfaWithStates_3(8, 264, 78);
+            return jjStartNfaWithStates_3(8, 264, 77);
          else if ((active6 & 0x800000L) != 0L)
          {
             jjmatchedKind = 407;
             jjmatchedPos = 8;
          }
          else if ((active8 & 0x800L) != 0L)
-            return jjStartNfaWithStates_3(8, 523, 78);
+            return jjStartNfaWithStates_3(8, 523, 77);
          else if ((active9 & 0x2L) != 0L)
-            return jjStartNfaWithStates_3(8, 577, 78);
+            return jjStartNfaWithStates_3(8, 577, 77);
          return jjMoveStringLiteralDfa9_3(active0, 0x20000000000L, active1, 0x30000000000007e0L, active2, 0L, active3, 0L, active4, 0x2000000000L, active5, 0L, active6, 0x4003f000000L, active7, 0L, active8, 0x3ffe004000000000L, active9, 0x8L, active10, 0L, active11, 0L);
       case 83:
       case 115:
@@ -19183,57 +19191,57 @@ private final int jjMoveStringLiteralDfa8_3(long old0, long active0, long old1,
       case 84:
       case 116:
          if ((active1 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 118, 78);
+            return jjStartNfaWithStates_3(8, 118, 77);
          else if ((active4 & 0x80L) != 0L)
-            return jjStartNfaWithStates_3(8, 263, 78);
+            return jjStartNfaWithStates_3(8, 263, 77);
          else if ((active4 & 0x100000L) != 0L)
          {
             jjmatchedKind = 276;
             jjmatchedPos = 8;
          }
          else if ((active7 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 496, 78);
+            return jjStartNfaWithStates_3(8, 496, 77);
          else if ((active7 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 500, 78);
+            return jjStartNfaWithStates_3(8, 500, 77);
          else if ((active7 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 504, 78);
+            return jjStartNfaWithStates_3(8, 504, 77);
          else if ((active8 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 559, 78);
+            return jjStartNfaWithStates_3(8, 559, 77);
          else if ((active9 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 601, 78);
+            return jjStartNfaWithStates_3(8, 601, 77);
          return jjMoveStringLiteralDfa9_3(active0, 0L, active1, 0x8000020000000000L, active2, 0x100003L, active3, 0L, active4, 0x200004L, active5, 0x40000L, active6, 0x2000L, active7, 0x4000000000000000L, active8, 0x500000000L, active9, 0x1000000000L, active10, 0x8000000L, active11, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa9_3(active0, 0L, active1, 0L, active2, 0x4L, active3, 0L, active4, 0x2008000000000L, active5, 0x400000L, active6, 0x400000000L, active7, 0L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0x4010000000L);
+         return jjMoveStringLiteralDfa9_3(active0, 0L, active1, 0L, active2, 0x4L, active3, 0L, active4, 0x2008000000000L, active5, 0x400000L, active6, 0x400000000L, active7, 0L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0x8010000000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa9_3(active0, 0x10000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0xc000000000000000L, active9, 0x1L, active10, 0L, active11, 0L);
       case 87:
       case 119:
          if ((active3 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 226, 78);
+            return jjStartNfaWithStates_3(8, 226, 77);
          return jjMoveStringLiteralDfa9_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x40000L, active10, 0L, active11, 0L);
       case 88:
       case 120:
          if ((active7 & 0x1000L) != 0L)
-            return jjStartNfaWithStates_3(8, 460, 78);
+            return jjStartNfaWithStates_3(8, 460, 77);
          return jjMoveStringLiteralDfa9_3(active0, 0x1000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 89:
       case 121:
          if ((active3 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 248, 78);
+            return jjStartNfaWithStates_3(8, 248, 77);
          else if ((active4 & 0x400L) != 0L)
-            return jjStartNfaWithStates_3(8, 266, 78);
+            return jjStartNfaWithStates_3(8, 266, 77);
          else if ((active7 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_3(8, 461, 78);
+            return jjStartNfaWithStates_3(8, 461, 77);
          else if ((active9 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 625, 78);
+            return jjStartNfaWithStates_3(8, 625, 77);
          else if ((active10 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 696, 78);
+            return jjStartNfaWithStates_3(8, 696, 77);
          else if ((active10 & 0x8000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(8, 703, 78);
+            return jjStartNfaWithStates_3(8, 703, 77);
          else if ((active11 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_3(8, 725, 78);
+            return jjStartNfaWithStates_3(8, 725, 77);
          return jjMoveStringLiteralDfa9_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x80000L, active10, 0L, active11, 0L);
       default :
          break;
@@ -19262,62 +19270,62 @@ private final int jjMoveStringLiteralDfa9_3(long old0, long active0, long old1,
       case 67:
       case 99:
          if ((active0 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 31, 78);
+            return jjStartNfaWithStates_3(9, 31, 77);
          else if ((active2 & 0x400L) != 0L)
-            return jjStartNfaWithStates_3(9, 138, 78);
+            return jjStartNfaWithStates_3(9, 138, 77);
          else if ((active9 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 631, 78);
+            return jjStartNfaWithStates_3(9, 631, 77);
          return jjMoveStringLiteralDfa10_3(active0, 0x800000L, active1, 0x4000000000000000L, active2, 0x80000000000L, active3, 0x10000000000000L, active4, 0x1800000000L, active5, 0x20000L, active6, 0L, active7, 0x400080000000L, active8, 0L, active9, 0L, active10, 0x10000L, active11, 0x400000L);
       case 68:
       case 100:
          if ((active5 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 358, 78);
+            return jjStartNfaWithStates_3(9, 358, 77);
          else if ((active5 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 369, 78);
+            return jjStartNfaWithStates_3(9, 369, 77);
          return jjMoveStringLiteralDfa10_3(active0, 0L, active1, 0x800000000000L, active2, 0x1000L, active3, 0L, active4, 0L, active5, 0x80L, active6, 0L, active7, 0L, active8, 0L, active9, 0x400000000000000L, active10, 0L, active11, 0L);
       case 69:
       case 101:
          if ((active0 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 28, 78);
+            return jjStartNfaWithStates_3(9, 28, 77);
          else if ((active2 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_3(9, 148, 78);
+            return jjStartNfaWithStates_3(9, 148, 77);
          else if ((active2 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 155, 78);
+            return jjStartNfaWithStates_3(9, 155, 77);
          else if ((active4 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 294, 78);
+            return jjStartNfaWithStates_3(9, 294, 77);
          else if ((active4 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 295, 78);
+            return jjStartNfaWithStates_3(9, 295, 77);
          else if ((active4 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 305, 78);
+            return jjStartNfaWithStates_3(9, 305, 77);
          else if ((active7 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_3(9, 465, 78);
+            return jjStartNfaWithStates_3(9, 465, 77);
          else if ((active7 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_3(9, 471, 78);
+            return jjStartNfaWithStates_3(9, 471, 77);
          else if ((active7 & 0x8000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 511, 78);
+            return jjStartNfaWithStates_3(9, 511, 77);
          else if ((active8 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 558, 78);
+            return jjStartNfaWithStates_3(9, 558, 77);
          else if ((active9 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 612, 78);
+            return jjStartNfaWithStates_3(9, 612, 77);
          else if ((active9 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 623, 78);
+            return jjStartNfaWithStates_3(9, 623, 77);
          else if ((active11 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 728, 78);
+            return jjStartNfaWithStates_3(9, 728, 77);
          else if ((active11 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 730, 78);
+            return jjStartNfaWithStates_3(9, 730, 77);
          else if ((active11 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 732, 78);
-         return jjMoveStringLiteralDfa10_3(active0, 0L, active1, 0x400000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000050000L, active6, 0x30000000000L, active7, 0x20000000000000L, active8, 0x1000000000001L, active9, 0x2004000e0000L, active10, 0x8000000L, active11, 0x400000000000L);
+            return jjStartNfaWithStates_3(9, 732, 77);
+         return jjMoveStringLiteralDfa10_3(active0, 0L, active1, 0x400000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000050000L, active6, 0x30000000000L, active7, 0x20000000000000L, active8, 0x1000000000001L, active9, 0x2004000e0000L, active10, 0x8000000L, active11, 0x800000000000L);
       case 71:
       case 103:
          if ((active6 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_3(9, 405, 78);
+            return jjStartNfaWithStates_3(9, 405, 77);
          else if ((active8 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 548, 78);
+            return jjStartNfaWithStates_3(9, 548, 77);
          else if ((active9 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 606, 78);
+            return jjStartNfaWithStates_3(9, 606, 77);
          else if ((active10 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 701, 78);
+            return jjStartNfaWithStates_3(9, 701, 77);
          return jjMoveStringLiteralDfa10_3(active0, 0L, active1, 0x2000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x2000000000000000L, active6, 0x400000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 72:
       case 104:
@@ -19328,7 +19336,7 @@ private final int jjMoveStringLiteralDfa9_3(long old0, long active0, long old1,
       case 75:
       case 107:
          if ((active2 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 162, 78);
+            return jjStartNfaWithStates_3(9, 162, 77);
          return jjMoveStringLiteralDfa10_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x100020L);
       case 76:
       case 108:
@@ -19336,7 +19344,7 @@ private final int jjMoveStringLiteralDfa9_3(long old0, long active0, long old1,
       case 77:
       case 109:
          if ((active5 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_3(9, 342, 78);
+            return jjStartNfaWithStates_3(9, 342, 77);
          return jjMoveStringLiteralDfa10_3(active0, 0x10000000000L, active1, 0x2000000L, active2, 0x10L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1000000000000000L, active8, 0x8000L, active9, 0x4000100010000000L, active10, 0L, active11, 0L);
       case 78:
       case 110:
@@ -19352,53 +19360,53 @@ private final int jjMoveStringLiteralDfa9_3(long old0, long active0, long old1,
       case 80:
       case 112:
          if ((active1 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 114, 78);
+            return jjStartNfaWithStates_3(9, 114, 77);
          else if ((active9 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 603, 78);
+            return jjStartNfaWithStates_3(9, 603, 77);
          break;
       case 82:
       case 114:
          if ((active1 & 0x1000L) != 0L)
-            return jjStartNfaWithStates_3(9, 76, 78);
+            return jjStartNfaWithStates_3(9, 76, 77);
          else if ((active2 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 169, 78);
+            return jjStartNfaWithStates_3(9, 169, 77);
          else if ((active4 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 298, 78);
+            return jjStartNfaWithStates_3(9, 298, 77);
          else if ((active7 & 0x2000000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 497, 78);
+            return jjStartNfaWithStates_3(9, 497, 77);
          return jjMoveStringLiteralDfa10_3(active0, 0L, active1, 0L, active2, 0x2L, active3, 0L, active4, 0L, active5, 0L, active6, 0x8000000000000L, active7, 0x8000L, active8, 0L, active9, 0x800L, active10, 0L, active11, 0L);
       case 83:
       case 115:
          if ((active0 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 35, 78);
+            return jjStartNfaWithStates_3(9, 35, 77);
          else if ((active1 & 0x400L) != 0L)
-            return jjStartNfaWithStates_3(9, 74, 78);
+            return jjStartNfaWithStates_3(9, 74, 77);
          else if ((active6 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 445, 78);
+            return jjStartNfaWithStates_3(9, 445, 77);
          else if ((active7 & 0x400L) != 0L)
-            return jjStartNfaWithStates_3(9, 458, 78);
+            return jjStartNfaWithStates_3(9, 458, 77);
          else if ((active10 & 0x100L) != 0L)
-            return jjStartNfaWithStates_3(9, 648, 78);
-         else if ((active11 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 742, 78);
-         else if ((active11 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 747, 78);
+            return jjStartNfaWithStates_3(9, 648, 77);
+         else if ((active11 & 0x8000000000L) != 0L)
+            return jjStartNfaWithStates_3(9, 743, 77);
+         else if ((active11 & 0x100000000000L) != 0L)
+            return jjStartNfaWithStates_3(9, 748, 77);
          return jjMoveStringLiteralDfa10_3(active0, 0L, active1, 0x80000000000L, active2, 0x40000000004L, active3, 0L, active4, 0x8000000000000000L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
          if ((active0 & 0x40000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 30, 78);
+            return jjStartNfaWithStates_3(9, 30, 77);
          else if ((active1 & 0x1000000000L) != 0L)
          {
             jjmatchedKind = 100;
             jjmatchedPos = 9;
          }
          else if ((active2 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 173, 78);
+            return jjStartNfaWithStates_3(9, 173, 77);
          else if ((active7 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_3(9, 462, 78);
+            return jjStartNfaWithStates_3(9, 462, 77);
          else if ((active8 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 549, 78);
+            return jjStartNfaWithStates_3(9, 549, 77);
          return jjMoveStringLiteralDfa10_3(active0, 0x80021000000000L, active1, 0x1e000000008L, active2, 0x8000L, active3, 0x2L, active4, 0x400000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x100L, active10, 0L, active11, 0L);
       case 85:
       case 117:
@@ -19409,7 +19417,7 @@ private final int jjMoveStringLiteralDfa9_3(long old0, long active0, long old1,
       case 88:
       case 120:
          if ((active4 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 314, 78);
+            return jjStartNfaWithStates_3(9, 314, 77);
          break;
       case 89:
       case 121:
@@ -19419,13 +19427,13 @@ private final int jjMoveStringLiteralDfa9_3(long old0, long active0, long old1,
             jjmatchedPos = 9;
          }
          else if ((active4 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 293, 78);
+            return jjStartNfaWithStates_3(9, 293, 77);
          else if ((active6 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_3(9, 397, 78);
+            return jjStartNfaWithStates_3(9, 397, 77);
          else if ((active8 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_3(9, 550, 78);
+            return jjStartNfaWithStates_3(9, 550, 77);
          else if ((active10 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_3(9, 658, 78);
+            return jjStartNfaWithStates_3(9, 658, 77);
          return jjMoveStringLiteralDfa10_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x200000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0x100000000L, active9, 0L, active10, 0L, active11, 0L);
       case 90:
       case 122:
@@ -19454,41 +19462,41 @@ private final int jjMoveStringLiteralDfa10_3(long old0, long active0, long old1,
       case 67:
       case 99:
          if ((active9 & 0x8L) != 0L)
-            return jjStartNfaWithStates_3(10, 579, 78);
+            return jjStartNfaWithStates_3(10, 579, 77);
          return jjMoveStringLiteralDfa11_3(active0, 0x1000000L, active1, 0x100000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x200008000L, active8, 0L, active9, 0x22000L, active10, 0x2L, active11, 0L);
       case 68:
       case 100:
          if ((active3 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 225, 78);
+            return jjStartNfaWithStates_3(10, 225, 77);
          else if ((active5 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_3(10, 340, 78);
+            return jjStartNfaWithStates_3(10, 340, 77);
          else if ((active5 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_3(10, 341, 78);
+            return jjStartNfaWithStates_3(10, 341, 77);
          else if ((active10 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 667, 78);
-         return jjMoveStringLiteralDfa11_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0xa00000000000000L, active10, 0L, active11, 0x400000000000L);
+            return jjStartNfaWithStates_3(10, 667, 77);
+         return jjMoveStringLiteralDfa11_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0xa00000000000000L, active10, 0L, active11, 0x800000000000L);
       case 69:
       case 101:
          if ((active0 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 40, 78);
+            return jjStartNfaWithStates_3(10, 40, 77);
          else if ((active1 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 89, 78);
+            return jjStartNfaWithStates_3(10, 89, 77);
          else if ((active2 & 0x10L) != 0L)
-            return jjStartNfaWithStates_3(10, 132, 78);
+            return jjStartNfaWithStates_3(10, 132, 77);
          else if ((active3 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 216, 78);
+            return jjStartNfaWithStates_3(10, 216, 77);
          else if ((active4 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_3(10, 270, 78);
+            return jjStartNfaWithStates_3(10, 270, 77);
          else if ((active7 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 508, 78);
+            return jjStartNfaWithStates_3(10, 508, 77);
          else if ((active8 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_3(10, 527, 78);
+            return jjStartNfaWithStates_3(10, 527, 77);
          else if ((active9 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 620, 78);
+            return jjStartNfaWithStates_3(10, 620, 77);
          else if ((active9 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 624, 78);
+            return jjStartNfaWithStates_3(10, 624, 77);
          else if ((active11 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 736, 78);
+            return jjStartNfaWithStates_3(10, 736, 77);
          return jjMoveStringLiteralDfa11_3(active0, 0L, active1, 0L, active2, 0x4L, active3, 0L, active4, 0L, active5, 0x100L, active6, 0x8000000000000L, active7, 0x100000000L, active8, 0x20000L, active9, 0x40000L, active10, 0x3c0000000000L, active11, 0x100020L);
       case 70:
       case 102:
@@ -19496,14 +19504,14 @@ private final int jjMoveStringLiteralDfa10_3(long old0, long active0, long old1,
       case 71:
       case 103:
          if ((active7 & 0x800L) != 0L)
-            return jjStartNfaWithStates_3(10, 459, 78);
+            return jjStartNfaWithStates_3(10, 459, 77);
          return jjMoveStringLiteralDfa11_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 72:
       case 104:
          if ((active1 & 0x8L) != 0L)
-            return jjStartNfaWithStates_3(10, 67, 78);
+            return jjStartNfaWithStates_3(10, 67, 77);
          else if ((active6 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 418, 78);
+            return jjStartNfaWithStates_3(10, 418, 77);
          return jjMoveStringLiteralDfa11_3(active0, 0L, active1, 0x4000000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x400000000000L, active8, 0L, active9, 0L, active10, 0x10000L, active11, 0x400000L);
       case 73:
       case 105:
@@ -19511,9 +19519,9 @@ private final int jjMoveStringLiteralDfa10_3(long old0, long active0, long old1,
       case 76:
       case 108:
          if ((active1 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 95, 78);
+            return jjStartNfaWithStates_3(10, 95, 77);
          else if ((active8 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 557, 78);
+            return jjStartNfaWithStates_3(10, 557, 77);
          return jjMoveStringLiteralDfa11_3(active0, 0L, active1, 0x1000000000000020L, active2, 0L, active3, 0L, active4, 0x20000L, active5, 0L, active6, 0L, active7, 0x4000000000000000L, active8, 0x2000L, active9, 0L, active10, 0L, active11, 0L);
       case 77:
       case 109:
@@ -19521,18 +19529,18 @@ private final int jjMoveStringLiteralDfa10_3(long old0, long active0, long old1,
       case 78:
       case 110:
          if ((active2 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 168, 78);
+            return jjStartNfaWithStates_3(10, 168, 77);
          else if ((active8 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 553, 78);
+            return jjStartNfaWithStates_3(10, 553, 77);
          else if ((active10 & 0x8L) != 0L)
          {
             jjmatchedKind = 643;
             jjmatchedPos = 10;
          }
          else if ((active10 & 0x800L) != 0L)
-            return jjStartNfaWithStates_3(10, 651, 78);
+            return jjStartNfaWithStates_3(10, 651, 77);
          else if ((active11 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 729, 78);
+            return jjStartNfaWithStates_3(10, 729, 77);
          return jjMoveStringLiteralDfa11_3(active0, 0L, active1, 0x10c200000L, active2, 0x180000000006000L, active3, 0L, active4, 0L, active5, 0x10000L, active6, 0x40002000000L, active7, 0L, active8, 0L, active9, 0xc040L, active10, 0x10000070L, active11, 0L);
       case 79:
       case 111:
@@ -19540,9 +19548,9 @@ private final int jjMoveStringLiteralDfa10_3(long old0, long active0, long old1,
       case 80:
       case 112:
          if ((active9 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 604, 78);
+            return jjStartNfaWithStates_3(10, 604, 77);
          else if ((active11 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_3(10, 727, 78);
+            return jjStartNfaWithStates_3(10, 727, 77);
          return jjMoveStringLiteralDfa11_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x100000000L, active9, 0L, active10, 0L, active11, 0L);
       case 81:
       case 113:
@@ -19550,22 +19558,22 @@ private final int jjMoveStringLiteralDfa10_3(long old0, long active0, long old1,
       case 82:
       case 114:
          if ((active1 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 105, 78);
+            return jjStartNfaWithStates_3(10, 105, 77);
          else if ((active8 & 0x1000000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 560, 78);
+            return jjStartNfaWithStates_3(10, 560, 77);
          else if ((active9 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_3(10, 597, 78);
+            return jjStartNfaWithStates_3(10, 597, 77);
          else if ((active9 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 621, 78);
+            return jjStartNfaWithStates_3(10, 621, 77);
          return jjMoveStringLiteralDfa11_3(active0, 0L, active1, 0L, active2, 0x8000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0xc000000000000000L, active9, 0x4200000001L, active10, 0x400L, active11, 0L);
       case 83:
       case 115:
          if ((active1 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 104, 78);
+            return jjStartNfaWithStates_3(10, 104, 77);
          else if ((active2 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 171, 78);
+            return jjStartNfaWithStates_3(10, 171, 77);
          else if ((active4 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 290, 78);
+            return jjStartNfaWithStates_3(10, 290, 77);
          return jjMoveStringLiteralDfa11_3(active0, 0L, active1, 0x4003c0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0x38000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
@@ -19575,11 +19583,11 @@ private final int jjMoveStringLiteralDfa10_3(long old0, long active0, long old1,
             jjmatchedPos = 10;
          }
          else if ((active7 & 0x20000000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 501, 78);
+            return jjStartNfaWithStates_3(10, 501, 77);
          else if ((active9 & 0x200L) != 0L)
-            return jjStartNfaWithStates_3(10, 585, 78);
+            return jjStartNfaWithStates_3(10, 585, 77);
          else if ((active9 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 610, 78);
+            return jjStartNfaWithStates_3(10, 610, 77);
          return jjMoveStringLiteralDfa11_3(active0, 0L, active1, 0xb00000000000000L, active2, 0x40000000000L, active3, 0L, active4, 0x8000001000000004L, active5, 0x2000000000020000L, active6, 0L, active7, 0x100000000000L, active8, 0L, active9, 0x1000000000000000L, active10, 0x4000L, active11, 0L);
       case 85:
       case 117:
@@ -19587,7 +19595,7 @@ private final int jjMoveStringLiteralDfa10_3(long old0, long active0, long old1,
       case 87:
       case 119:
          if ((active1 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 125, 78);
+            return jjStartNfaWithStates_3(10, 125, 77);
          break;
       case 88:
       case 120:
@@ -19595,11 +19603,11 @@ private final int jjMoveStringLiteralDfa10_3(long old0, long active0, long old1,
       case 89:
       case 121:
          if ((active0 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_3(10, 55, 78);
+            return jjStartNfaWithStates_3(10, 55, 77);
          else if ((active4 & 0x2L) != 0L)
-            return jjStartNfaWithStates_3(10, 257, 78);
+            return jjStartNfaWithStates_3(10, 257, 77);
          else if ((active9 & 0x400L) != 0L)
-            return jjStartNfaWithStates_3(10, 586, 78);
+            return jjStartNfaWithStates_3(10, 586, 77);
          break;
       default :
          break;
@@ -19618,11 +19626,11 @@ private final int jjMoveStringLiteralDfa11_3(long old0, long active0, long old1,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa12_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa12_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 65:
       case 97:
          if ((active8 & 0x1L) != 0L)
-            return jjStartNfaWithStates_3(11, 512, 78);
+            return jjStartNfaWithStates_3(11, 512, 77);
          return jjMoveStringLiteralDfa12_3(active0, 0x1000000L, active1, 0x500000000300000L, active2, 0L, active3, 0L, active4, 0x8000001000000000L, active5, 0L, active6, 0x2000000L, active7, 0x100000000000L, active8, 0L, active9, 0L, active10, 0x10004000L, active11, 0L);
       case 66:
       case 98:
@@ -19633,31 +19641,31 @@ private final int jjMoveStringLiteralDfa11_3(long old0, long active0, long old1,
       case 68:
       case 100:
          if ((active9 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_3(11, 633, 78);
+            return jjStartNfaWithStates_3(11, 633, 77);
          return jjMoveStringLiteralDfa12_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x20000000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x3c0000000000L, active11, 0L);
       case 69:
       case 101:
          if ((active0 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(11, 61, 78);
+            return jjStartNfaWithStates_3(11, 61, 77);
          else if ((active1 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_3(11, 121, 78);
+            return jjStartNfaWithStates_3(11, 121, 77);
          else if ((active1 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(11, 124, 78);
+            return jjStartNfaWithStates_3(11, 124, 77);
          else if ((active1 & 0x8000000000000000L) != 0L)
          {
             jjmatchedKind = 127;
             jjmatchedPos = 11;
          }
          else if ((active4 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_3(11, 273, 78);
+            return jjStartNfaWithStates_3(11, 273, 77);
          else if ((active7 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_3(11, 493, 78);
+            return jjStartNfaWithStates_3(11, 493, 77);
          else if ((active8 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_3(11, 525, 78);
+            return jjStartNfaWithStates_3(11, 525, 77);
          else if ((active8 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_3(11, 544, 78);
+            return jjStartNfaWithStates_3(11, 544, 77);
          else if ((active10 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_3(11, 655, 78);
+            return jjStartNfaWithStates_3(11, 655, 77);
          return jjMoveStringLiteralDfa12_3(active0, 0L, active1, 0x40000000000001e0L, active2, 0x1L, active3, 0L, active4, 0L, active5, 0x20000L, active6, 0L, active7, 0x400000008000L, active8, 0L, active9, 0x4000000000L, active10, 0x10400L, active11, 0L);
       case 70:
       case 102:
@@ -19668,9 +19676,9 @@ private final int jjMoveStringLiteralDfa11_3(long old0, long active0, long old1,
       case 72:
       case 104:
          if ((active1 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_3(11, 123, 78);
+            return jjStartNfaWithStates_3(11, 123, 77);
          else if ((active5 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(11, 381, 78);
+            return jjStartNfaWithStates_3(11, 381, 77);
          break;
       case 73:
       case 105:
@@ -19678,14 +19686,14 @@ private final int jjMoveStringLiteralDfa11_3(long old0, long active0, long old1,
       case 75:
       case 107:
          if ((active6 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_3(11, 426, 78);
+            return jjStartNfaWithStates_3(11, 426, 77);
          else if ((active9 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_3(11, 594, 78);
+            return jjStartNfaWithStates_3(11, 594, 77);
          break;
       case 76:
       case 108:
          if ((active7 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_3(11, 502, 78);
+            return jjStartNfaWithStates_3(11, 502, 77);
          return jjMoveStringLiteralDfa12_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0x3ffe000000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 77:
       case 109:
@@ -19693,11 +19701,11 @@ private final int jjMoveStringLiteralDfa11_3(long old0, long active0, long old1,
       case 78:
       case 110:
          if ((active1 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_3(11, 77, 78);
+            return jjStartNfaWithStates_3(11, 77, 77);
          else if ((active4 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_3(11, 277, 78);
+            return jjStartNfaWithStates_3(11, 277, 77);
          else if ((active8 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_3(11, 546, 78);
+            return jjStartNfaWithStates_3(11, 546, 77);
          return jjMoveStringLiteralDfa12_3(active0, 0L, active1, 0x804800000000L, active2, 0x2L, active3, 0L, active4, 0L, active5, 0x200L, active6, 0L, active7, 0x100000000L, active8, 0L, active9, 0x4000000000000001L, active10, 0L, active11, 0L);
       case 79:
       case 111:
@@ -19708,17 +19716,17 @@ private final int jjMoveStringLiteralDfa11_3(long old0, long active0, long old1,
       case 82:
       case 114:
          if ((active2 & 0x4L) != 0L)
-            return jjStartNfaWithStates_3(11, 130, 78);
+            return jjStartNfaWithStates_3(11, 130, 77);
          else if ((active5 & 0x100L) != 0L)
-            return jjStartNfaWithStates_3(11, 328, 78);
+            return jjStartNfaWithStates_3(11, 328, 77);
          else if ((active8 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_3(11, 529, 78);
+            return jjStartNfaWithStates_3(11, 529, 77);
          else if ((active9 & 0x10L) != 0L)
-            return jjStartNfaWithStates_3(11, 580, 78);
+            return jjStartNfaWithStates_3(11, 580, 77);
          else if ((active9 & 0x1000L) != 0L)
-            return jjStartNfaWithStates_3(11, 588, 78);
+            return jjStartNfaWithStates_3(11, 588, 77);
          else if ((active9 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_3(11, 595, 78);
+            return jjStartNfaWithStates_3(11, 595, 77);
          return jjMoveStringLiteralDfa12_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x4000000L, active7, 0x80000000L, active8, 0L, active9, 0x1000000000112000L, active10, 0L, active11, 0x400000L);
       case 83:
       case 115:
@@ -19726,13 +19734,13 @@ private final int jjMoveStringLiteralDfa11_3(long old0, long active0, long old1,
       case 84:
       case 116:
          if ((active3 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_3(11, 244, 78);
+            return jjStartNfaWithStates_3(11, 244, 77);
          else if ((active5 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_3(11, 338, 78);
+            return jjStartNfaWithStates_3(11, 338, 77);
          else if ((active9 & 0x40L) != 0L)
-            return jjStartNfaWithStates_3(11, 582, 78);
+            return jjStartNfaWithStates_3(11, 582, 77);
          else if ((active11 & 0x20L) != 0L)
-            return jjStartNfaWithStates_3(11, 709, 78);
+            return jjStartNfaWithStates_3(11, 709, 77);
          return jjMoveStringLiteralDfa12_3(active0, 0x20000800000L, active1, 0x200L, active2, 0x6000L, active3, 0L, active4, 0L, active5, 0x80L, active6, 0L, active7, 0x200000000L, active8, 0L, active9, 0x8000L, active10, 0L, active11, 0L);
       case 85:
       case 117:
@@ -19740,7 +19748,7 @@ private final int jjMoveStringLiteralDfa11_3(long old0, long active0, long old1,
       case 89:
       case 121:
          if ((active11 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_3(11, 724, 78);
+            return jjStartNfaWithStates_3(11, 724, 77);
          break;
       default :
          break;
@@ -19766,7 +19774,7 @@ private final int jjMoveStringLiteralDfa12_3(long old0, long active0, long old1,
       case 67:
       case 99:
          if ((active2 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_3(12, 170, 78);
+            return jjStartNfaWithStates_3(12, 170, 77);
          return jjMoveStringLiteralDfa13_3(active0, 0L, active1, 0x8000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x1L, active10, 0L, active11, 0L);
       case 68:
       case 100:
@@ -19774,26 +19782,26 @@ private final int jjMoveStringLiteralDfa12_3(long old0, long active0, long old1,
       case 69:
       case 101:
          if ((active8 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_3(12, 543, 78);
+            return jjStartNfaWithStates_3(12, 543, 77);
          return jjMoveStringLiteralDfa13_3(active0, 0L, active1, 0L, active2, 0x6000L, active3, 0L, active4, 0L, active5, 0L, active6, 0x8000038000000L, active7, 0x200000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 70:
       case 102:
          if ((active2 & 0x1000L) != 0L)
-            return jjStartNfaWithStates_3(12, 140, 78);
+            return jjStartNfaWithStates_3(12, 140, 77);
          else if ((active9 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_3(12, 634, 78);
+            return jjStartNfaWithStates_3(12, 634, 77);
          return jjMoveStringLiteralDfa13_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x800000000000000L, active10, 0L, active11, 0L);
       case 71:
       case 103:
          if ((active1 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_3(12, 111, 78);
+            return jjStartNfaWithStates_3(12, 111, 77);
          else if ((active4 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_3(12, 289, 78);
+            return jjStartNfaWithStates_3(12, 289, 77);
          return jjMoveStringLiteralDfa13_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x1000000000L, active5, 0L, active6, 0L, active7, 0x4000000100000000L, active8, 0L, active9, 0x4200000000L, active10, 0x400L, active11, 0L);
       case 72:
       case 104:
          if ((active9 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_3(12, 591, 78);
+            return jjStartNfaWithStates_3(12, 591, 77);
          return jjMoveStringLiteralDfa13_3(active0, 0L, active1, 0x400000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
@@ -19801,7 +19809,7 @@ private final int jjMoveStringLiteralDfa12_3(long old0, long active0, long old1,
       case 76:
       case 108:
          if ((active10 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_3(12, 668, 78);
+            return jjStartNfaWithStates_3(12, 668, 77);
          return jjMoveStringLiteralDfa13_3(active0, 0L, active1, 0x100000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x100000000000L, active8, 0L, active9, 0L, active10, 0x4000L, active11, 0L);
       case 77:
       case 109:
@@ -19809,9 +19817,9 @@ private final int jjMoveStringLiteralDfa12_3(long old0, long active0, long old1,
       case 78:
       case 110:
          if ((active0 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_3(12, 36, 78);
+            return jjStartNfaWithStates_3(12, 36, 77);
          else if ((active3 & 0x2L) != 0L)
-            return jjStartNfaWithStates_3(12, 193, 78);
+            return jjStartNfaWithStates_3(12, 193, 77);
          return jjMoveStringLiteralDfa13_3(active0, 0L, active1, 0x20L, active2, 0x8000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x20000L, active10, 0L, active11, 0L);
       case 79:
       case 111:
@@ -19819,12 +19827,12 @@ private final int jjMoveStringLiteralDfa12_3(long old0, long active0, long old1,
       case 80:
       case 112:
          if ((active9 & 0x100L) != 0L)
-            return jjStartNfaWithStates_3(12, 584, 78);
-         return jjMoveStringLiteralDfa13_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x8000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+            return jjStartNfaWithStates_3(12, 584, 77);
+         return jjMoveStringLiteralDfa13_3(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x8000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 82:
       case 114:
          if ((active9 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(12, 637, 78);
+            return jjStartNfaWithStates_3(12, 637, 77);
          return jjMoveStringLiteralDfa13_3(active0, 0x1000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 83:
       case 115:
@@ -19838,7 +19846,7 @@ private final int jjMoveStringLiteralDfa12_3(long old0, long active0, long old1,
       case 89:
       case 121:
          if ((active9 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_3(12, 596, 78);
+            return jjStartNfaWithStates_3(12, 596, 77);
          break;
       default :
          break;
@@ -19861,50 +19869,50 @@ private final int jjMoveStringLiteralDfa13_3(long old0, long active0, long old1,
       case 65:
       case 97:
          if ((active1 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(13, 126, 78);
+            return jjStartNfaWithStates_3(13, 126, 77);
          else if ((active7 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_3(13, 494, 78);
+            return jjStartNfaWithStates_3(13, 494, 77);
          else if ((active10 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_3(13, 656, 78);
-         return jjMoveStringLiteralDfa14_3(active0, 0x800000L, active1, 0x100000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000000L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+            return jjStartNfaWithStates_3(13, 656, 77);
+         return jjMoveStringLiteralDfa14_3(active0, 0x800000L, active1, 0x100000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000000L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa14_3(active0, 0L, active1, 0x100000000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 67:
       case 99:
          if ((active2 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_3(13, 143, 78);
+            return jjStartNfaWithStates_3(13, 143, 77);
          return jjMoveStringLiteralDfa14_3(active0, 0L, active1, 0x200L, active2, 0L, active4, 0L, active5, 0L, active6, 0x38000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x20L, active11, 0L);
       case 68:
       case 100:
          if ((active9 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_3(13, 593, 78);
+            return jjStartNfaWithStates_3(13, 593, 77);
          return jjMoveStringLiteralDfa14_3(active0, 0x1000000L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1e000000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 69:
       case 101:
          if ((active1 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_3(13, 85, 78);
+            return jjStartNfaWithStates_3(13, 85, 77);
          else if ((active6 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_3(13, 408, 78);
+            return jjStartNfaWithStates_3(13, 408, 77);
          else if ((active6 & 0x2000000L) != 0L)
-            return jjStartNfaWithStates_3(13, 409, 78);
+            return jjStartNfaWithStates_3(13, 409, 77);
          else if ((active9 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_3(13, 590, 78);
+            return jjStartNfaWithStates_3(13, 590, 77);
          return jjMoveStringLiteralDfa14_3(active0, 0L, active1, 0x400000L, active2, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x4000010000L, active10, 0x400L, active11, 0L);
       case 70:
       case 102:
          if ((active9 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_3(13, 635, 78);
+            return jjStartNfaWithStates_3(13, 635, 77);
          return jjMoveStringLiteralDfa14_3(active0, 0L, active1, 0L, active2, 0x2L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 71:
       case 103:
          if ((active4 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_3(13, 292, 78);
+            return jjStartNfaWithStates_3(13, 292, 77);
          return jjMoveStringLiteralDfa14_3(active0, 0L, active1, 0x20L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 72:
       case 104:
          if ((active5 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_3(13, 336, 78);
+            return jjStartNfaWithStates_3(13, 336, 77);
          return jjMoveStringLiteralDfa14_3(active0, 0L, active1, 0x8000000000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0xe0000000000000L, active9, 0x1L, active10, 0L, active11, 0L);
       case 73:
       case 105:
@@ -19918,7 +19926,7 @@ private final int jjMoveStringLiteralDfa13_3(long old0, long active0, long old1,
       case 78:
       case 110:
          if ((active4 & 0x4L) != 0L)
-            return jjStartNfaWithStates_3(13, 258, 78);
+            return jjStartNfaWithStates_3(13, 258, 77);
          return jjMoveStringLiteralDfa14_3(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active6, 0x10000000000L, active7, 0L, active8, 0x4000000000000000L, active9, 0x1000000000000000L, active10, 0x2L, active11, 0x400000L);
       case 79:
       case 111:
@@ -19926,7 +19934,7 @@ private final int jjMoveStringLiteralDfa13_3(long old0, long active0, long old1,
       case 80:
       case 112:
          if ((active4 & 0x8000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(13, 319, 78);
+            return jjStartNfaWithStates_3(13, 319, 77);
          break;
       case 82:
       case 114:
@@ -19934,17 +19942,17 @@ private final int jjMoveStringLiteralDfa13_3(long old0, long active0, long old1,
       case 83:
       case 115:
          if ((active7 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(13, 510, 78);
+            return jjStartNfaWithStates_3(13, 510, 77);
          return jjMoveStringLiteralDfa14_3(active0, 0L, active1, 0L, active2, 0L, active4, 0L, active5, 0L, active6, 0x20000000000L, active7, 0L, active8, 0x800000000000000L, active9, 0x2800L, active10, 0L, active11, 0L);
       case 84:
       case 116:
          if ((active7 & 0x8000L) != 0L)
-            return jjStartNfaWithStates_3(13, 463, 78);
+            return jjStartNfaWithStates_3(13, 463, 77);
          return jjMoveStringLiteralDfa14_3(active0, 0L, active1, 0x82000000000L, active2, 0x1L, active4, 0L, active5, 0L, active6, 0L, active7, 0x700000000L, active8, 0L, active9, 0x4000000000000000L, active10, 0x3c0000000000L, active11, 0L);
       case 88:
       case 120:
          if ((active6 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_3(13, 435, 78);
+            return jjStartNfaWithStates_3(13, 435, 77);
          break;
       case 89:
       case 121:
@@ -19976,34 +19984,34 @@ private final int jjMoveStringLiteralDfa14_3(long old0, long active0, long old1,
       case 67:
       case 99:
          if ((active6 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_3(14, 425, 78);
+            return jjStartNfaWithStates_3(14, 425, 77);
          else if ((active9 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(14, 636, 78);
+            return jjStartNfaWithStates_3(14, 636, 77);
          return jjMoveStringLiteralDfa15_3(active0, 0L, active1, 0x40L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0L);
       case 69:
       case 101:
          if ((active1 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_3(14, 99, 78);
+            return jjStartNfaWithStates_3(14, 99, 77);
          else if ((active1 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_3(14, 102, 78);
+            return jjStartNfaWithStates_3(14, 102, 77);
          else if ((active5 & 0x200L) != 0L)
-            return jjStartNfaWithStates_3(14, 329, 78);
+            return jjStartNfaWithStates_3(14, 329, 77);
          else if ((active9 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(14, 638, 78);
+            return jjStartNfaWithStates_3(14, 638, 77);
          return jjMoveStringLiteralDfa15_3(active0, 0L, active1, 0x8100000000L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x3800000000000000L, active9, 0x2800L, active10, 0L, active11, 0L);
       case 71:
       case 103:
          if ((active1 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_3(14, 120, 78);
+            return jjStartNfaWithStates_3(14, 120, 77);
          else if ((active7 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_3(14, 492, 78);
+            return jjStartNfaWithStates_3(14, 492, 77);
          else if ((active10 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_3(14, 654, 78);
+            return jjStartNfaWithStates_3(14, 654, 77);
          return jjMoveStringLiteralDfa15_3(active0, 0x800000L, active1, 0L, active2, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 72:
       case 104:
          if ((active7 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_3(14, 480, 78);
+            return jjStartNfaWithStates_3(14, 480, 77);
          break;
       case 73:
       case 105:
@@ -20017,11 +20025,11 @@ private final int jjMoveStringLiteralDfa14_3(long old0, long active0, long old1,
       case 78:
       case 110:
          if ((active0 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_3(14, 41, 78);
+            return jjStartNfaWithStates_3(14, 41, 77);
          else if ((active5 & 0x80L) != 0L)
-            return jjStartNfaWithStates_3(14, 327, 78);
+            return jjStartNfaWithStates_3(14, 327, 77);
          else if ((active9 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_3(14, 609, 78);
+            return jjStartNfaWithStates_3(14, 609, 77);
          return jjMoveStringLiteralDfa15_3(active0, 0L, active1, 0x80L, active2, 0L, active5, 0L, active6, 0x4000000L, active7, 0x80000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 79:
       case 111:
@@ -20029,23 +20037,23 @@ private final int jjMoveStringLiteralDfa14_3(long old0, long active0, long old1,
       case 82:
       case 114:
          if ((active1 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_3(14, 107, 78);
+            return jjStartNfaWithStates_3(14, 107, 77);
          else if ((active8 & 0x8000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(14, 575, 78);
+            return jjStartNfaWithStates_3(14, 575, 77);
          else if ((active9 & 0x10000L) != 0L)
-            return jjStartNfaWithStates_3(14, 592, 78);
-         return jjMoveStringLiteralDfa15_3(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+            return jjStartNfaWithStates_3(14, 592, 77);
+         return jjMoveStringLiteralDfa15_3(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 83:
       case 115:
          if ((active1 & 0x200L) != 0L)
-            return jjStartNfaWithStates_3(14, 73, 78);
+            return jjStartNfaWithStates_3(14, 73, 77);
          return jjMoveStringLiteralDfa15_3(active0, 0L, active1, 0x100L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
          if ((active6 & 0x10000000000L) != 0L)
-            return jjStartNfaWithStates_3(14, 424, 78);
+            return jjStartNfaWithStates_3(14, 424, 77);
          else if ((active10 & 0x2L) != 0L)
-            return jjStartNfaWithStates_3(14, 641, 78);
+            return jjStartNfaWithStates_3(14, 641, 77);
          return jjMoveStringLiteralDfa15_3(active0, 0L, active1, 0x400000000000020L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 86:
       case 118:
@@ -20053,9 +20061,9 @@ private final int jjMoveStringLiteralDfa14_3(long old0, long active0, long old1,
       case 88:
       case 120:
          if ((active9 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_3(14, 614, 78);
+            return jjStartNfaWithStates_3(14, 614, 77);
          else if ((active10 & 0x400L) != 0L)
-            return jjStartNfaWithStates_3(14, 650, 78);
+            return jjStartNfaWithStates_3(14, 650, 77);
          break;
       case 89:
       case 121:
@@ -20081,7 +20089,7 @@ private final int jjMoveStringLiteralDfa15_3(long old0, long active0, long old1,
       case 65:
       case 97:
          if ((active1 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_3(15, 86, 78);
+            return jjStartNfaWithStates_3(15, 86, 77);
          return jjMoveStringLiteralDfa16_3(active0, 0L, active1, 0xc0L, active2, 0x6000L, active5, 0L, active6, 0x4000000L, active7, 0x80000000L, active8, 0x3000000000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 67:
       case 99:
@@ -20095,12 +20103,12 @@ private final int jjMoveStringLiteralDfa15_3(long old0, long active0, long old1,
       case 71:
       case 103:
          if ((active0 & 0x800000L) != 0L)
-            return jjStartNfaWithStates_3(15, 23, 78);
+            return jjStartNfaWithStates_3(15, 23, 77);
          break;
       case 72:
       case 104:
          if ((active1 & 0x20L) != 0L)
-            return jjStartNfaWithStates_3(15, 69, 78);
+            return jjStartNfaWithStates_3(15, 69, 77);
          break;
       case 76:
       case 108:
@@ -20130,13 +20138,13 @@ private final int jjMoveStringLiteralDfa15_3(long old0, long active0, long old1,
       case 82:
       case 114:
          if ((active1 & 0x100000000L) != 0L)
-            return jjStartNfaWithStates_3(15, 96, 78);
+            return jjStartNfaWithStates_3(15, 96, 77);
          else if ((active9 & 0x1L) != 0L)
-            return jjStartNfaWithStates_3(15, 576, 78);
+            return jjStartNfaWithStates_3(15, 576, 77);
          return jjMoveStringLiteralDfa16_3(active0, 0L, active1, 0L, active2, 0x2L, active5, 0L, active6, 0L, active7, 0L, active8, 0x4000000000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa16_3(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa16_3(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa16_3(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0xe0000000000000L, active9, 0L, active10, 0L, active11, 0L);
@@ -20172,24 +20180,24 @@ private final int jjMoveStringLiteralDfa16_3(long old0, long active0, long old1,
       case 65:
       case 97:
          if ((active1 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_3(16, 103, 78);
+            return jjStartNfaWithStates_3(16, 103, 77);
          return jjMoveStringLiteralDfa17_3(active0, 0x1000000L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000L);
       case 69:
       case 101:
          if ((active7 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_3(16, 482, 78);
+            return jjStartNfaWithStates_3(16, 482, 77);
          return jjMoveStringLiteralDfa17_3(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0x200000000L, active8, 0L, active9, 0L, active10, 0x3c0000000000L, active11, 0L);
       case 71:
       case 103:
          if ((active1 & 0x100000L) != 0L)
-            return jjStartNfaWithStates_3(16, 84, 78);
+            return jjStartNfaWithStates_3(16, 84, 77);
          break;
       case 72:
       case 104:
          return jjMoveStringLiteralDfa17_3(active0, 0L, active1, 0x100L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa17_3(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0x38000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa17_3(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0x38000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 76:
       case 108:
          return jjMoveStringLiteralDfa17_3(active0, 0L, active1, 0L, active2, 0x6000L, active5, 0L, active6, 0x4000000L, active7, 0x80000000L, active8, 0L, active9, 0L, active10, 0x40L, active11, 0L);
@@ -20205,7 +20213,7 @@ private final int jjMoveStringLiteralDfa16_3(long old0, long active0, long old1,
       case 80:
       case 112:
          if ((active2 & 0x1L) != 0L)
-            return jjStartNfaWithStates_3(16, 128, 78);
+            return jjStartNfaWithStates_3(16, 128, 77);
          break;
       case 82:
       case 114:
@@ -20229,12 +20237,12 @@ private final int jjMoveStringLiteralDfa16_3(long old0, long active0, long old1,
       case 88:
       case 120:
          if ((active5 & 0x1000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(16, 380, 78);
+            return jjStartNfaWithStates_3(16, 380, 77);
          break;
       case 89:
       case 121:
          if ((active8 & 0x4000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(16, 574, 78);
+            return jjStartNfaWithStates_3(16, 574, 77);
          break;
       default :
          break;
@@ -20263,17 +20271,17 @@ private final int jjMoveStringLiteralDfa17_3(long old0, long active0, long old1,
       case 69:
       case 101:
          if ((active1 & 0x80L) != 0L)
-            return jjStartNfaWithStates_3(17, 71, 78);
+            return jjStartNfaWithStates_3(17, 71, 77);
          return jjMoveStringLiteralDfa18_3(active0, 0L, active1, 0x100L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x40L, active11, 0L);
       case 71:
       case 103:
          if ((active1 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_3(17, 101, 78);
+            return jjStartNfaWithStates_3(17, 101, 77);
          return jjMoveStringLiteralDfa18_3(active0, 0L, active1, 0L, active2, 0L, active5, 0x20000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 72:
       case 104:
          if ((active8 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_3(17, 570, 78);
+            return jjStartNfaWithStates_3(17, 570, 77);
          break;
       case 73:
       case 105:
@@ -20289,7 +20297,7 @@ private final int jjMoveStringLiteralDfa17_3(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa18_3(active0, 0L, active1, 0x400000000000000L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa18_3(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x31c000000000000L, active9, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa18_3(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x31c000000000000L, active9, 0L, active10, 0L, active11, 0x800000400000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa18_3(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0L);
@@ -20320,11 +20328,11 @@ private final int jjMoveStringLiteralDfa18_3(long old0, long active0, long old1,
       case 68:
       case 100:
          if ((active8 & 0x800000000000000L) != 0L)
-            return jjStartNfaWithStates_3(18, 571, 78);
+            return jjStartNfaWithStates_3(18, 571, 77);
          else if ((active9 & 0x800L) != 0L)
-            return jjStartNfaWithStates_3(18, 587, 78);
+            return jjStartNfaWithStates_3(18, 587, 77);
          else if ((active9 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_3(18, 589, 78);
+            return jjStartNfaWithStates_3(18, 589, 77);
          return jjMoveStringLiteralDfa19_3(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x40L, active11, 0L);
       case 69:
       case 101:
@@ -20334,14 +20342,14 @@ private final int jjMoveStringLiteralDfa18_3(long old0, long active0, long old1,
             jjmatchedPos = 18;
          }
          else if ((active10 & 0x10L) != 0L)
-            return jjStartNfaWithStates_3(18, 644, 78);
+            return jjStartNfaWithStates_3(18, 644, 77);
          return jjMoveStringLiteralDfa19_3(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x200000000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 71:
       case 103:
          return jjMoveStringLiteralDfa19_3(active0, 0L, active1, 0L, active2, 0x2L, active5, 0L, active6, 0L, active7, 0x200000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa19_3(active0, 0x1000000L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa19_3(active0, 0x1000000L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000400000L);
       case 76:
       case 108:
          return jjMoveStringLiteralDfa19_3(active0, 0L, active1, 0x40L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -20384,7 +20392,7 @@ private final int jjMoveStringLiteralDfa19_3(long old0, long active0, long old1,
       case 65:
       case 97:
          if ((active1 & 0x100L) != 0L)
-            return jjStartNfaWithStates_3(19, 72, 78);
+            return jjStartNfaWithStates_3(19, 72, 77);
          return jjMoveStringLiteralDfa20_3(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0x140000000000L, active11, 0L);
       case 67:
       case 99:
@@ -20395,14 +20403,14 @@ private final int jjMoveStringLiteralDfa19_3(long old0, long active0, long old1,
       case 72:
       case 104:
          if ((active5 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_3(19, 337, 78);
+            return jjStartNfaWithStates_3(19, 337, 77);
          break;
       case 78:
       case 110:
          return jjMoveStringLiteralDfa20_3(active0, 0L, active1, 0x400000000000000L, active2, 0L, active5, 0L, active6, 0x10000000L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa20_3(active0, 0L, active1, 0x40L, active2, 0x2000L, active5, 0L, active6, 0x4000000L, active7, 0L, active8, 0x20c0000000000000L, active10, 0x80000000000L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa20_3(active0, 0L, active1, 0x40L, active2, 0x2000L, active5, 0L, active6, 0x4000000L, active7, 0L, active8, 0x20c0000000000000L, active10, 0x80000000000L, active11, 0x800000400000L);
       case 82:
       case 114:
          return jjMoveStringLiteralDfa20_3(active0, 0L, active1, 0L, active2, 0x4002L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
@@ -20415,7 +20423,7 @@ private final int jjMoveStringLiteralDfa19_3(long old0, long active0, long old1,
       case 89:
       case 121:
          if ((active7 & 0x80000000L) != 0L)
-            return jjStartNfaWithStates_3(19, 479, 78);
+            return jjStartNfaWithStates_3(19, 479, 77);
          break;
       default :
          break;
@@ -20450,26 +20458,26 @@ private final int jjMoveStringLiteralDfa20_3(long old0, long active0, long old1,
       case 69:
       case 101:
          if ((active1 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_3(20, 91, 78);
+            return jjStartNfaWithStates_3(20, 91, 77);
          else if ((active2 & 0x100000000000000L) != 0L)
-            return jjStartNfaWithStates_3(20, 184, 78);
+            return jjStartNfaWithStates_3(20, 184, 77);
          return jjMoveStringLiteralDfa21_3(active0, 0L, active1, 0L, active2, 0x4000L, active6, 0L, active7, 0L, active8, 0L, active10, 0x20L, active11, 0L);
       case 71:
       case 103:
          if ((active1 & 0x40L) != 0L)
-            return jjStartNfaWithStates_3(20, 70, 78);
+            return jjStartNfaWithStates_3(20, 70, 77);
          break;
       case 72:
       case 104:
          if ((active7 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_3(20, 481, 78);
+            return jjStartNfaWithStates_3(20, 481, 77);
          return jjMoveStringLiteralDfa21_3(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0x4000000000000L, active10, 0x200000000000L, active11, 0L);
       case 77:
       case 109:
          return jjMoveStringLiteralDfa21_3(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000L, active10, 0x100000000000L, active11, 0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa21_3(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa21_3(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0x800000400000L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa21_3(active0, 0L, active1, 0L, active2, 0x2L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
@@ -20482,7 +20490,7 @@ private final int jjMoveStringLiteralDfa20_3(long old0, long active0, long old1,
       case 89:
       case 121:
          if ((active0 & 0x1000000L) != 0L)
-            return jjStartNfaWithStates_3(20, 24, 78);
+            return jjStartNfaWithStates_3(20, 24, 77);
          break;
       default :
          break;
@@ -20501,7 +20509,7 @@ private final int jjMoveStringLiteralDfa21_3(long old0, long active0, long old1,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa22_3(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa22_3(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000400000L);
       case 65:
       case 97:
          return jjMoveStringLiteralDfa22_3(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0x40000000040L, active11, 0L);
@@ -20511,16 +20519,16 @@ private final int jjMoveStringLiteralDfa21_3(long old0, long active0, long old1,
       case 68:
       case 100:
          if ((active10 & 0x20L) != 0L)
-            return jjStartNfaWithStates_3(21, 645, 78);
+            return jjStartNfaWithStates_3(21, 645, 77);
          break;
       case 69:
       case 101:
          if ((active2 & 0x2000L) != 0L)
-            return jjStartNfaWithStates_3(21, 141, 78);
+            return jjStartNfaWithStates_3(21, 141, 77);
          else if ((active10 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_3(21, 683, 78);
+            return jjStartNfaWithStates_3(21, 683, 77);
          else if ((active10 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_3(21, 684, 78);
+            return jjStartNfaWithStates_3(21, 684, 77);
          return jjMoveStringLiteralDfa22_3(active1, 0L, active2, 0L, active6, 0L, active8, 0x10000000000000L, active10, 0x200000000000L, active11, 0L);
       case 70:
       case 102:
@@ -20573,7 +20581,7 @@ private final int jjMoveStringLiteralDfa22_3(long old1, long active1, long old2,
       case 69:
       case 101:
          if ((active6 & 0x10000000L) != 0L)
-            return jjStartNfaWithStates_3(22, 412, 78);
+            return jjStartNfaWithStates_3(22, 412, 77);
          return jjMoveStringLiteralDfa23_3(active1, 0L, active2, 0L, active6, 0x20000000L, active8, 0x80000000000000L, active10, 0L, active11, 0L);
       case 73:
       case 105:
@@ -20595,7 +20603,7 @@ private final int jjMoveStringLiteralDfa22_3(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa23_3(active1, 0L, active2, 0x2L, active6, 0L, active8, 0L, active10, 0L, active11, 0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa23_3(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa23_3(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000000000L);
       case 84:
       case 116:
          return jjMoveStringLiteralDfa23_3(active1, 0L, active2, 0L, active6, 0x4000000L, active8, 0L, active10, 0L, active11, 0L);
@@ -20623,7 +20631,7 @@ private final int jjMoveStringLiteralDfa23_3(long old1, long active1, long old2,
       case 65:
       case 97:
          if ((active10 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_3(23, 685, 78);
+            return jjStartNfaWithStates_3(23, 685, 77);
          break;
       case 67:
       case 99:
@@ -20634,7 +20642,7 @@ private final int jjMoveStringLiteralDfa23_3(long old1, long active1, long old2,
       case 75:
       case 107:
          if ((active10 & 0x40L) != 0L)
-            return jjStartNfaWithStates_3(23, 646, 78);
+            return jjStartNfaWithStates_3(23, 646, 77);
          break;
       case 76:
       case 108:
@@ -20647,11 +20655,11 @@ private final int jjMoveStringLiteralDfa23_3(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa24_3(active1, 0L, active2, 0L, active6, 0L, active8, 0x2040000000000000L, active10, 0L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa24_3(active1, 0L, active2, 0L, active6, 0L, active8, 0x10000000000000L, active10, 0x40000000000L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa24_3(active1, 0L, active2, 0L, active6, 0L, active8, 0x10000000000000L, active10, 0x40000000000L, active11, 0x800000400000L);
       case 82:
       case 114:
          if ((active8 & 0x4000000000000L) != 0L)
-            return jjStartNfaWithStates_3(23, 562, 78);
+            return jjStartNfaWithStates_3(23, 562, 77);
          return jjMoveStringLiteralDfa24_3(active1, 0x400000000000000L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0L);
       case 83:
       case 115:
@@ -20678,7 +20686,7 @@ private final int jjMoveStringLiteralDfa24_3(long old1, long active1, long old2,
       case 65:
       case 97:
          if ((active6 & 0x20000000L) != 0L)
-            return jjStartNfaWithStates_3(24, 413, 78);
+            return jjStartNfaWithStates_3(24, 413, 77);
          break;
       case 68:
       case 100:
@@ -20692,7 +20700,7 @@ private final int jjMoveStringLiteralDfa24_3(long old1, long active1, long old2,
       case 71:
       case 103:
          if ((active10 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_3(24, 682, 78);
+            return jjStartNfaWithStates_3(24, 682, 77);
          break;
       case 73:
       case 105:
@@ -20714,7 +20722,7 @@ private final int jjMoveStringLiteralDfa24_3(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa25_3(active1, 0L, active2, 0L, active6, 0L, active8, 0x40000000000000L, active10, 0L, active11, 0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa25_3(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa25_3(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000000000L);
       default :
          break;
    }
@@ -20739,36 +20747,36 @@ private final int jjMoveStringLiteralDfa25_3(long old1, long active1, long old2,
       case 68:
       case 100:
          if ((active8 & 0x10000000000000L) != 0L)
-            return jjStartNfaWithStates_3(25, 564, 78);
+            return jjStartNfaWithStates_3(25, 564, 77);
          break;
       case 69:
       case 101:
          if ((active8 & 0x8000000000000L) != 0L)
-            return jjStartNfaWithStates_3(25, 563, 78);
+            return jjStartNfaWithStates_3(25, 563, 77);
          else if ((active11 & 0x400000L) != 0L)
-            return jjStartNfaWithStates_3(25, 726, 78);
+            return jjStartNfaWithStates_3(25, 726, 77);
          break;
       case 71:
       case 103:
          if ((active6 & 0x8000000L) != 0L)
-            return jjStartNfaWithStates_3(25, 411, 78);
+            return jjStartNfaWithStates_3(25, 411, 77);
          break;
       case 72:
       case 104:
          if ((active8 & 0x2000000000000000L) != 0L)
-            return jjStartNfaWithStates_3(25, 573, 78);
+            return jjStartNfaWithStates_3(25, 573, 77);
          break;
       case 78:
       case 110:
          if ((active6 & 0x4000000L) != 0L)
-            return jjStartNfaWithStates_3(25, 410, 78);
+            return jjStartNfaWithStates_3(25, 410, 77);
          return jjMoveStringLiteralDfa26_3(active1, 0L, active2, 0L, active6, 0L, active8, 0x80000000000000L, active11, 0L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa26_3(active1, 0L, active2, 0x4002L, active6, 0L, active8, 0L, active11, 0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa26_3(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa26_3(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active11, 0x800000000000L);
       case 84:
       case 116:
          return jjMoveStringLiteralDfa26_3(active1, 0L, active2, 0L, active6, 0L, active8, 0x40000000000000L, active11, 0L);
@@ -20789,16 +20797,16 @@ private final int jjMoveStringLiteralDfa26_3(long old1, long active1, long old2,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa27_3(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa27_3(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 68:
       case 100:
          if ((active8 & 0x80000000000000L) != 0L)
-            return jjStartNfaWithStates_3(26, 567, 78);
+            return jjStartNfaWithStates_3(26, 567, 77);
          break;
       case 69:
       case 101:
          if ((active8 & 0x40000000000000L) != 0L)
-            return jjStartNfaWithStates_3(26, 566, 78);
+            return jjStartNfaWithStates_3(26, 566, 77);
          break;
       case 71:
       case 103:
@@ -20806,7 +20814,7 @@ private final int jjMoveStringLiteralDfa26_3(long old1, long active1, long old2,
       case 78:
       case 110:
          if ((active2 & 0x4000L) != 0L)
-            return jjStartNfaWithStates_3(26, 142, 78);
+            return jjStartNfaWithStates_3(26, 142, 77);
          break;
       case 79:
       case 111:
@@ -20837,7 +20845,7 @@ private final int jjMoveStringLiteralDfa27_3(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa28_3(active1, 0L, active2, 0L, active8, 0x200000000000000L, active11, 0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa28_3(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa28_3(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 82:
       case 114:
          return jjMoveStringLiteralDfa28_3(active1, 0x400000000000000L, active2, 0L, active8, 0L, active11, 0L);
@@ -20860,11 +20868,11 @@ private final int jjMoveStringLiteralDfa28_3(long old1, long active1, long old2,
       case 68:
       case 100:
          if ((active8 & 0x200000000000000L) != 0L)
-            return jjStartNfaWithStates_3(28, 569, 78);
+            return jjStartNfaWithStates_3(28, 569, 77);
          break;
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa29_3(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa29_3(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa29_3(active1, 0x400000000000000L, active2, 0L, active8, 0L, active11, 0L);
@@ -20889,7 +20897,7 @@ private final int jjMoveStringLiteralDfa29_3(long old1, long active1, long old2,
    {
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa30_3(active1, 0L, active2, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa30_3(active1, 0L, active2, 0L, active11, 0x800000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa30_3(active1, 0x400000000000000L, active2, 0L, active11, 0L);
@@ -20914,11 +20922,11 @@ private final int jjMoveStringLiteralDfa30_3(long old1, long active1, long old2,
    {
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa31_3(active1, 0L, active2, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa31_3(active1, 0L, active2, 0L, active11, 0x800000000000L);
       case 80:
       case 112:
          if ((active1 & 0x400000000000000L) != 0L)
-            return jjStartNfaWithStates_3(30, 122, 78);
+            return jjStartNfaWithStates_3(30, 122, 77);
          return jjMoveStringLiteralDfa31_3(active1, 0L, active2, 0x2L, active11, 0L);
       default :
          break;
@@ -20939,8 +20947,8 @@ private final int jjMoveStringLiteralDfa31_3(long old1, long active1, long old2,
       case 69:
       case 101:
          if ((active2 & 0x2L) != 0L)
-            return jjStartNfaWithStates_3(31, 129, 78);
-         return jjMoveStringLiteralDfa32_3(active2, 0L, active11, 0x400000000000L);
+            return jjStartNfaWithStates_3(31, 129, 77);
+         return jjMoveStringLiteralDfa32_3(active2, 0L, active11, 0x800000000000L);
       default :
          break;
    }
@@ -20959,7 +20967,7 @@ private final int jjMoveStringLiteralDfa32_3(long old2, long active2, long old11
    {
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa33_3(active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa33_3(active11, 0x800000000000L);
       default :
          break;
    }
@@ -20978,8 +20986,8 @@ private final int jjMoveStringLiteralDfa33_3(long old11, long active11)
    {
       case 84:
       case 116:
-         if ((active11 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_3(33, 750, 78);
+         if ((active11 & 0x800000000000L) != 0L)
+            return jjStartNfaWithStates_3(33, 751, 77);
          break;
       default :
          break;
@@ -21010,8 +21018,8 @@ private final int jjMoveNfa_3(int startState, int curPos)
                      jjCheckNAddStates(62, 64);
                   else if (curChar == 34)
                   {
-                     if (kind > 764)
-                        kind = 764;
+                     if (kind > 765)
+                        kind = 765;
                   }
                   break;
                case 58:
@@ -21019,22 +21027,12 @@ private final int jjMoveNfa_3(int startState, int curPos)
                      jjCheckNAddStates(65, 67);
                   else if (curChar == 39)
                   {
-                     if (kind > 765)
-                        kind = 765;
+                     if (kind > 766)
+                        kind = 766;
                   }
                   if ((0xfc00f7faffffc9ffL & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 59;
                   break;
-               case 76:
-                  if ((0x3ff000000000000L & l) != 0L)
-                  {
-                     if (kind > 754)
-                        kind = 754;
-                     jjCheckNAdd(52);
-                  }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjCheckNAddTwoStates(51, 41);
-                  break;
                case 1:
                   if ((0x7ff601000000000L & l) != 0L)
                      jjCheckNAddTwoStates(25, 26);
@@ -21044,28 +21042,40 @@ private final int jjMoveNfa_3(int startState, int curPos)
                      jjCheckNAddStates(68, 70);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(23);
                   }
                   if (curChar == 36)
                      jjCheckNAdd(27);
                   break;
-               case 78:
+               case 76:
+                  if ((0x3ff000000000000L & l) != 0L)
+                  {
+                     if (kind > 755)
+                        kind = 755;
+                     jjCheckNAdd(52);
+                  }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjCheckNAddTwoStates(51, 41);
+                  break;
+               case 31:
                   if ((0x7ff601000000000L & l) != 0L)
                      jjCheckNAddTwoStates(25, 26);
+                  else if (curChar == 38)
+                     jjstateSet[jjnewStateCnt++] = 32;
                   if ((0x3ff001000000000L & l) != 0L)
                      jjCheckNAddStates(68, 70);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(23);
                   }
                   if (curChar == 36)
                      jjCheckNAdd(27);
                   break;
-               case 77:
+               case 78:
                   if (curChar == 32)
                      jjCheckNAddTwoStates(68, 69);
                   if (curChar == 32)
@@ -21075,17 +21085,15 @@ private final int jjMoveNfa_3(int startState, int curPos)
                   if (curChar == 32)
                      jjCheckNAddTwoStates(61, 62);
                   break;
-               case 31:
+               case 77:
                   if ((0x7ff601000000000L & l) != 0L)
                      jjCheckNAddTwoStates(25, 26);
-                  else if (curChar == 38)
-                     jjstateSet[jjnewStateCnt++] = 32;
                   if ((0x3ff001000000000L & l) != 0L)
                      jjCheckNAddStates(68, 70);
                   if ((0x3ff001000000000L & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(23);
                   }
                   if (curChar == 36)
@@ -21100,8 +21108,8 @@ private final int jjMoveNfa_3(int startState, int curPos)
                case 74:
                   if (curChar == 47)
                   {
-                     if (kind > 815)
-                        kind = 815;
+                     if (kind > 816)
+                        kind = 816;
                      jjCheckNAddStates(71, 73);
                   }
                   else if (curChar == 42)
@@ -21118,8 +21126,8 @@ private final int jjMoveNfa_3(int startState, int curPos)
                      jjCheckNAddTwoStates(51, 52);
                   else if (curChar == 7)
                   {
-                     if (kind > 829)
-                        kind = 829;
+                     if (kind > 830)
+                        kind = 830;
                   }
                   else if (curChar == 45)
                      jjstateSet[jjnewStateCnt++] = 11;
@@ -21127,14 +21135,14 @@ private final int jjMoveNfa_3(int startState, int curPos)
                      jjCheckNAddStates(62, 64);
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 752)
-                        kind = 752;
+                     if (kind > 753)
+                        kind = 753;
                      jjCheckNAddStates(80, 86);
                   }
                   else if (curChar == 36)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(23);
                   }
                   break;
@@ -21151,8 +21159,8 @@ private final int jjMoveNfa_3(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 3;
                   break;
                case 5:
-                  if (curChar == 39 && kind > 758)
-                     kind = 758;
+                  if (curChar == 39 && kind > 759)
+                     kind = 759;
                   break;
                case 6:
                   if (curChar == 34)
@@ -21166,30 +21174,30 @@ private final int jjMoveNfa_3(int startState, int curPos)
                   jjCheckNAddStates(62, 64);
                   break;
                case 10:
-                  if (curChar == 34 && kind > 764)
-                     kind = 764;
+                  if (curChar == 34 && kind > 765)
+                     kind = 765;
                   break;
                case 11:
                   if (curChar != 45)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(71, 73);
                   break;
                case 12:
                   if ((0xffffffffffffdbffL & l) == 0L)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(71, 73);
                   break;
                case 13:
-                  if ((0x2400L & l) != 0L && kind > 815)
-                     kind = 815;
+                  if ((0x2400L & l) != 0L && kind > 816)
+                     kind = 816;
                   break;
                case 14:
-                  if (curChar == 10 && kind > 815)
-                     kind = 815;
+                  if (curChar == 10 && kind > 816)
+                     kind = 816;
                   break;
                case 15:
                   if (curChar == 13)
@@ -21206,15 +21214,15 @@ private final int jjMoveNfa_3(int startState, int curPos)
                case 22:
                   if (curChar != 36)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(23);
                   break;
                case 23:
                   if ((0x3ff001000000000L & l) == 0L)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(23);
                   break;
                case 24:
@@ -21232,8 +21240,8 @@ private final int jjMoveNfa_3(int startState, int curPos)
                case 27:
                   if (curChar != 36)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjCheckNAddTwoStates(27, 28);
                   break;
                case 28:
@@ -21243,8 +21251,8 @@ private final int jjMoveNfa_3(int startState, int curPos)
                case 29:
                   if ((0x3ff001000000000L & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjCheckNAdd(29);
                   break;
                case 32:
@@ -21264,25 +21272,25 @@ private final int jjMoveNfa_3(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 34;
                   break;
                case 36:
-                  if (curChar == 34 && kind > 826)
-                     kind = 826;
+                  if (curChar == 34 && kind > 827)
+                     kind = 827;
                   break;
                case 37:
-                  if (curChar == 7 && kind > 829)
-                     kind = 829;
+                  if (curChar == 7 && kind > 830)
+                     kind = 830;
                   break;
                case 38:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 752)
-                     kind = 752;
+                  if (kind > 753)
+                     kind = 753;
                   jjCheckNAddStates(80, 86);
                   break;
                case 39:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 752)
-                     kind = 752;
+                  if (kind > 753)
+                     kind = 753;
                   jjCheckNAdd(39);
                   break;
                case 40:
@@ -21296,8 +21304,8 @@ private final int jjMoveNfa_3(int startState, int curPos)
                case 43:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 753)
-                     kind = 753;
+                  if (kind > 754)
+                     kind = 754;
                   jjCheckNAdd(43);
                   break;
                case 44:
@@ -21311,22 +21319,22 @@ private final int jjMoveNfa_3(int startState, int curPos)
                case 46:
                   if (curChar != 46)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(47);
                   break;
                case 47:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(47);
                   break;
                case 48:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAddStates(93, 95);
                   break;
                case 49:
@@ -21344,8 +21352,8 @@ private final int jjMoveNfa_3(int startState, int curPos)
                case 52:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(52);
                   break;
                case 53:
@@ -21360,13 +21368,13 @@ private final int jjMoveNfa_3(int startState, int curPos)
                   jjCheckNAddStates(65, 67);
                   break;
                case 57:
-                  if (curChar == 39 && kind > 765)
-                     kind = 765;
-                  break;
-               case 59:
                   if (curChar == 39 && kind > 766)
                      kind = 766;
                   break;
+               case 59:
+                  if (curChar == 39 && kind > 767)
+                     kind = 767;
+                  break;
                case 61:
                   if (curChar == 32)
                      jjCheckNAddTwoStates(61, 62);
@@ -21392,14 +21400,14 @@ private final int jjMoveNfa_3(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 73;
                   break;
                case 73:
-                  if ((0xffff7fffffffffffL & l) != 0L && kind > 813)
-                     kind = 813;
+                  if ((0xffff7fffffffffffL & l) != 0L && kind > 814)
+                     kind = 814;
                   break;
                case 75:
                   if (curChar != 47)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(71, 73);
                   break;
                default : break;
@@ -21434,48 +21442,48 @@ private final int jjMoveNfa_3(int startState, int curPos)
                      jjCheckNAddStates(68, 70);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(23);
                   }
                   break;
-               case 78:
+               case 31:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                      jjCheckNAddTwoStates(25, 26);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                      jjCheckNAddStates(68, 70);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(23);
                   }
                   break;
-               case 77:
+               case 78:
                   if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 70;
                   else if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 67;
                   else if ((0x1000000010L & l) != 0L)
                   {
-                     if (kind > 769)
-                        kind = 769;
+                     if (kind > 770)
+                        kind = 770;
                   }
                   if ((0x10000000100000L & l) != 0L)
                   {
-                     if (kind > 770)
-                        kind = 770;
+                     if (kind > 771)
+                        kind = 771;
                   }
                   break;
-               case 31:
+               case 77:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                      jjCheckNAddTwoStates(25, 26);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                      jjCheckNAddStates(68, 70);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(23);
                   }
                   break;
@@ -21493,8 +21501,8 @@ private final int jjMoveNfa_3(int startState, int curPos)
                      jjCheckNAddStates(87, 89);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(23);
                   }
                   if ((0x20000000200000L & l) != 0L)
@@ -21517,8 +21525,8 @@ private final int jjMoveNfa_3(int startState, int curPos)
                   jjCheckNAddStates(62, 64);
                   break;
                case 12:
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjAddStates(71, 73);
                   break;
                case 17:
@@ -21537,21 +21545,21 @@ private final int jjMoveNfa_3(int startState, int curPos)
                   jjCheckNAddStates(87, 89);
                   break;
                case 21:
-                  if (curChar == 96 && kind > 822)
-                     kind = 822;
+                  if (curChar == 96 && kind > 823)
+                     kind = 823;
                   break;
                case 22:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(23);
                   break;
                case 23:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(23);
                   break;
                case 24:
@@ -21561,15 +21569,15 @@ private final int jjMoveNfa_3(int startState, int curPos)
                case 27:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjAddStates(108, 109);
                   break;
                case 29:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjstateSet[jjnewStateCnt++] = 29;
                   break;
                case 30:
@@ -21599,32 +21607,32 @@ private final int jjMoveNfa_3(int startState, int curPos)
                      jjAddStates(100, 107);
                   break;
                case 62:
-                  if ((0x1000000010L & l) != 0L && kind > 769)
-                     kind = 769;
+                  if ((0x1000000010L & l) != 0L && kind > 770)
+                     kind = 770;
                   break;
                case 64:
-                  if ((0x10000000100000L & l) != 0L && kind > 770)
-                     kind = 770;
+                  if ((0x10000000100000L & l) != 0L && kind > 771)
+                     kind = 771;
                   break;
                case 66:
                   if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 67;
                   break;
                case 67:
-                  if ((0x8000000080000L & l) != 0L && kind > 771)
-                     kind = 771;
+                  if ((0x8000000080000L & l) != 0L && kind > 772)
+                     kind = 772;
                   break;
                case 69:
                   if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 70;
                   break;
                case 70:
-                  if ((0x400000004000L & l) != 0L && kind > 772)
-                     kind = 772;
+                  if ((0x400000004000L & l) != 0L && kind > 773)
+                     kind = 773;
                   break;
                case 73:
-                  if (kind > 813)
-                     kind = 813;
+                  if (kind > 814)
+                     kind = 814;
                   break;
                default : break;
             }
@@ -21656,8 +21664,8 @@ private final int jjMoveNfa_3(int startState, int curPos)
                case 1:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(23);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -21665,11 +21673,11 @@ private final int jjMoveNfa_3(int startState, int curPos)
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                      jjCheckNAddTwoStates(25, 26);
                   break;
-               case 78:
+               case 31:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(23);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -21677,11 +21685,11 @@ private final int jjMoveNfa_3(int startState, int curPos)
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                      jjCheckNAddTwoStates(25, 26);
                   break;
-               case 31:
+               case 77:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(23);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -21697,8 +21705,8 @@ private final int jjMoveNfa_3(int startState, int curPos)
                case 0:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 824)
-                        kind = 824;
+                     if (kind > 825)
+                        kind = 825;
                      jjCheckNAdd(23);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -21711,8 +21719,8 @@ private final int jjMoveNfa_3(int startState, int curPos)
                case 12:
                   if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjAddStates(71, 73);
                   break;
                case 18:
@@ -21723,15 +21731,15 @@ private final int jjMoveNfa_3(int startState, int curPos)
                case 22:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(23);
                   break;
                case 23:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 824)
-                     kind = 824;
+                  if (kind > 825)
+                     kind = 825;
                   jjCheckNAdd(23);
                   break;
                case 24:
@@ -21741,15 +21749,15 @@ private final int jjMoveNfa_3(int startState, int curPos)
                case 27:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjAddStates(108, 109);
                   break;
                case 29:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjstateSet[jjnewStateCnt++] = 29;
                   break;
                case 33:
@@ -21762,8 +21770,8 @@ private final int jjMoveNfa_3(int startState, int curPos)
                      jjCheckNAddStates(65, 67);
                   break;
                case 73:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2) && kind > 813)
-                     kind = 813;
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2) && kind > 814)
+                     kind = 814;
                   break;
                default : break;
             }
@@ -21807,7 +21815,7 @@ private final int jjMoveNfa_5(int startState, int curPos)
             {
                case 0:
                   if (curChar == 47)
-                     kind = 816;
+                     kind = 817;
                   break;
                case 1:
                   if (curChar == 42)
@@ -21861,212 +21869,212 @@ private final int jjStopStringLiteralDfa_4(int pos, long active0, long active1,
    switch (pos)
    {
       case 0:
-         if ((active12 & 0x20000400L) != 0L)
-            return 76;
-         if ((active12 & 0x40000000L) != 0L)
-            return 58;
-         if ((active12 & 0x20L) != 0L)
-            return 77;
+         if ((active10 & 0x7fffffe000000L) != 0L)
+         {
+            jjmatchedKind = 824;
+            return 31;
+         }
          if ((active11 & 0x2000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             return 1;
          }
-         if ((active10 & 0x7fffffe000000L) != 0L)
+         if ((active12 & 0x40000800L) != 0L)
+            return 76;
+         if ((active12 & 0x80000000L) != 0L)
+            return 58;
+         if ((active12 & 0x40L) != 0L)
+            return 77;
+         if ((active12 & 0x900004000000L) != 0L)
+            return 74;
+         if ((active0 & 0xfffc000000000L) != 0L || (active2 & 0xffffffffffffffc0L) != 0L || (active3 & 0xff8001ffffffffffL) != 0L || (active4 & 0xfffff0ffffffffffL) != 0L || (active5 & 0xfffffff000000003L) != 0L || (active6 & 0xffffffffffffffffL) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffefffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfff8000001ffffffL) != 0L || (active11 & 0x1395ffe4fdfffL) != 0L)
          {
-            jjmatchedKind = 823;
-            return 31;
+            jjmatchedKind = 824;
+            return 78;
          }
-         if ((active12 & 0x480002000000L) != 0L)
-            return 74;
-         if ((active0 & 0xfff0003ffffffff8L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fL) != 0L || (active3 & 0x7ffe0000000000L) != 0L || (active4 & 0xf0000000000L) != 0L || (active5 & 0xffffffffcL) != 0L || (active8 & 0x100000L) != 0L || (active11 & 0x635001b00000L) != 0L || (active12 & 0x1000000000L) != 0L)
+         if ((active0 & 0xfff0003ffffffff8L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fL) != 0L || (active3 & 0x7ffe0000000000L) != 0L || (active4 & 0xf0000000000L) != 0L || (active5 & 0xffffffffcL) != 0L || (active8 & 0x100000L) != 0L || (active11 & 0xc6a001b00000L) != 0L || (active12 & 0x2000000000L) != 0L)
             return 78;
-         if ((active12 & 0xc00000L) != 0L)
+         if ((active12 & 0x1800000L) != 0L)
             return 11;
-         if ((active12 & 0x80000000L) != 0L)
+         if ((active12 & 0x100000000L) != 0L)
             return 79;
-         if ((active0 & 0xfffc000000000L) != 0L || (active2 & 0xffffffffffffffc0L) != 0L || (active3 & 0xff8001ffffffffffL) != 0L || (active4 & 0xfffff0ffffffffffL) != 0L || (active5 & 0xfffffff000000003L) != 0L || (active6 & 0xffffffffffffffffL) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffefffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfff8000001ffffffL) != 0L || (active11 & 0x9caffe4fdfffL) != 0L)
-         {
-            jjmatchedKind = 823;
-            return 78;
-         }
          return -1;
       case 1:
-         if ((active0 & 0xffe7fff001fffff0L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0xffffffffffffffffL) != 0L || (active3 & 0xfffe7dffffffffffL) != 0L || (active4 & 0xeffffeffe000000fL) != 0L || (active5 & 0x7ff83ffffffffffbL) != 0L || (active6 & 0xffffffffffffc1c6L) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffffffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfffffffffffffffcL) != 0L || (active11 & 0x7dfabfddffffL) != 0L)
+         if ((active0 & 0xffe7fff001fffff0L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0xffffffffffffffffL) != 0L || (active3 & 0xfffe7dffffffffffL) != 0L || (active4 & 0xeffffeffe000000fL) != 0L || (active5 & 0x7ff83ffffffffffbL) != 0L || (active6 & 0xffffffffffffc1c6L) != 0L || (active7 & 0xffffffffffffffffL) != 0L || (active8 & 0xffffffffffffffffL) != 0L || (active9 & 0xffffffffffffffffL) != 0L || (active10 & 0xfffffffffffffffcL) != 0L || (active11 & 0xfbf6bfddffffL) != 0L)
          {
             if (jjmatchedPos != 1)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 1;
             }
             return 78;
          }
-         if ((active12 & 0x480000000000L) != 0L)
+         if ((active12 & 0x900000000000L) != 0L)
             return 72;
-         if ((active0 & 0x8000ffe000000L) != 0L || (active3 & 0x1800000000000L) != 0L || (active4 & 0x100000001ffffff0L) != 0L || (active5 & 0x8007c00000000000L) != 0L || (active6 & 0x3e39L) != 0L || (active10 & 0x3L) != 0L || (active11 & 0x820540220000L) != 0L)
+         if ((active0 & 0x8000ffe000000L) != 0L || (active3 & 0x1800000000000L) != 0L || (active4 & 0x100000001ffffff0L) != 0L || (active5 & 0x8007c00000000000L) != 0L || (active6 & 0x3e39L) != 0L || (active10 & 0x3L) != 0L || (active11 & 0x1040940220000L) != 0L)
             return 78;
          return -1;
       case 2:
-         if ((active0 & 0xffe7bfdef5e98c80L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fe5fffffe10ffffL) != 0L || (active3 & 0xfbff5dff0fff3ffcL) != 0L || (active4 & 0xefffd0fffd03ffefL) != 0L || (active5 & 0x7ffbafffc07ff3f3L) != 0L || (active6 & 0xfffee03fffbc7de5L) != 0L || (active7 & 0xfff87ffffffff1ffL) != 0L || (active8 & 0x1ffe3ffffL) != 0L || (active9 & 0xfffffeffffc00000L) != 0L || (active10 & 0xfffffffffffffffeL) != 0L || (active11 & 0xaffffffddfffL) != 0L)
+         if ((active0 & 0xffe7bfdef5e98c80L) != 0L || (active1 & 0xffffffffffffffffL) != 0L || (active2 & 0x3fe5fffffe10ffffL) != 0L || (active3 & 0xfbff5dff0fff3ffcL) != 0L || (active4 & 0xefffd0fffd03ffefL) != 0L || (active5 & 0x7ffbafffc07ff3f3L) != 0L || (active6 & 0xfffee03fffbc7de5L) != 0L || (active7 & 0xfff87ffffffff1ffL) != 0L || (active8 & 0x1ffe3ffffL) != 0L || (active9 & 0xfffffeffffc00000L) != 0L || (active10 & 0xfffffffffffffffeL) != 0L || (active11 & 0x15ffffffddfffL) != 0L)
          {
             if (jjmatchedPos != 2)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 2;
             }
             return 78;
          }
-         if ((active0 & 0x402008167370L) != 0L || (active2 & 0xc01a000001ef0000L) != 0L || (active3 & 0x4002000f000c003L) != 0L || (active4 & 0x2e0000fc0000L) != 0L || (active5 & 0x410003f800c08L) != 0L || (active6 & 0x11fc000438012L) != 0L || (active7 & 0x7800000000e00L) != 0L || (active8 & 0xfffffffe001c0000L) != 0L || (active9 & 0x100003fffffL) != 0L || (active11 & 0x500000002000L) != 0L)
+         if ((active0 & 0x402008167370L) != 0L || (active2 & 0xc01a000001ef0000L) != 0L || (active3 & 0x4002000f000c003L) != 0L || (active4 & 0x2e0000fc0000L) != 0L || (active5 & 0x410003f800c08L) != 0L || (active6 & 0x11fc000438012L) != 0L || (active7 & 0x7800000000e00L) != 0L || (active8 & 0xfffffffe001c0000L) != 0L || (active9 & 0x100003fffffL) != 0L || (active11 & 0xa00000002000L) != 0L)
             return 78;
          return -1;
       case 3:
-         if ((active2 & 0x8000000000000000L) != 0L)
+         if ((active0 & 0x33853fdef1e9ece0L) != 0L || (active1 & 0xffdf3fffffffb803L) != 0L || (active2 & 0x35c5fc3fffd6003fL) != 0L || (active3 & 0xe1fe5d97efffa7ffL) != 0L || (active4 & 0xe9c4dc001d7bffefL) != 0L || (active5 & 0x7e1b0fcdf77ffbf3L) != 0L || (active6 & 0xfbfe7fa7ff837d81L) != 0L || (active7 & 0xfffb7efffffffd0fL) != 0L || (active8 & 0xfffffffdf4d3fd7fL) != 0L || (active9 & 0x800bfeffffbfffffL) != 0L || (active10 & 0xbffb41fffef1fffeL) != 0L || (active11 & 0x1ff9dfdfc1870L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 3;
             }
-            return 80;
-         }
-         if ((active0 & 0xcc62800004000000L) != 0L || (active1 & 0x20c000000047fcL) != 0L || (active2 & 0xa2003c00008ffc0L) != 0L || (active3 & 0x1a01006800001800L) != 0L || (active4 & 0x63b00ffe0800000L) != 0L || (active5 & 0x1e0a03200000000L) != 0L || (active6 & 0x4008018003c0064L) != 0L || (active7 & 0x40100000000f0L) != 0L || (active8 & 0xb280280L) != 0L || (active9 & 0x7ff4000000400000L) != 0L || (active10 & 0x4004be00010e0000L) != 0L || (active11 & 0x300201c78fL) != 0L)
             return 78;
-         if ((active0 & 0x33853fdef1e9ece0L) != 0L || (active1 & 0xffdf3fffffffb803L) != 0L || (active2 & 0x35c5fc3fffd6003fL) != 0L || (active3 & 0xe1fe5d97efffa7ffL) != 0L || (active4 & 0xe9c4dc001d7bffefL) != 0L || (active5 & 0x7e1b0fcdf77ffbf3L) != 0L || (active6 & 0xfbfe7fa7ff837d81L) != 0L || (active7 & 0xfffb7efffffffd0fL) != 0L || (active8 & 0xfffffffdf4d3fd7fL) != 0L || (active9 & 0x800bfeffffbfffffL) != 0L || (active10 & 0xbffb41fffef1fffeL) != 0L || (active11 & 0xffcffdfc1870L) != 0L)
+         }
+         if ((active2 & 0x8000000000000000L) != 0L)
          {
             if (jjmatchedPos != 3)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 3;
             }
-            return 78;
+            return 80;
          }
+         if ((active0 & 0xcc62800004000000L) != 0L || (active1 & 0x20c000000047fcL) != 0L || (active2 & 0xa2003c00008ffc0L) != 0L || (active3 & 0x1a01006800001800L) != 0L || (active4 & 0x63b00ffe0800000L) != 0L || (active5 & 0x1e0a03200000000L) != 0L || (active6 & 0x4008018003c0064L) != 0L || (active7 & 0x40100000000f0L) != 0L || (active8 & 0xb280280L) != 0L || (active9 & 0x7ff4000000400000L) != 0L || (active10 & 0x4004be00010e0000L) != 0L || (active11 & 0x620201c78fL) != 0L)
+            return 78;
          return -1;
       case 4:
-         if ((active2 & 0x8000000000000000L) != 0L)
+         if ((active0 & 0xb3c53c5ef00120e0L) != 0L || (active1 & 0xffcebffffffd37f9L) != 0L || (active2 & 0x25c5ffa7ffd6fe9fL) != 0L || (active3 & 0x61805d96e827b7abL) != 0L || (active4 & 0x5564cff1d7bc7efL) != 0L || (active5 & 0x7ecb09c4777f7801L) != 0L || (active6 & 0xebee5fa7ffba7181L) != 0L || (active7 & 0x1bfb7e3ffdfffd07L) != 0L || (active8 & 0xfffffffdd4c3fd7eL) != 0L || (active9 & 0xffca3efefc3fffffL) != 0L || (active10 & 0xbfc03cbf9ef5effeL) != 0L || (active11 & 0xf39dbbbc0b68L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 4;
             }
-            return 80;
+            return 78;
          }
-         if ((active0 & 0xb3c53c5ef00120e0L) != 0L || (active1 & 0xffcebffffffd37f9L) != 0L || (active2 & 0x25c5ffa7ffd6fe9fL) != 0L || (active3 & 0x61805d96e827b7abL) != 0L || (active4 & 0x5564cff1d7bc7efL) != 0L || (active5 & 0x7ecb09c4777f7801L) != 0L || (active6 & 0xebee5fa7ffba7181L) != 0L || (active7 & 0x1bfb7e3ffdfffd07L) != 0L || (active8 & 0xfffffffdd4c3fd7eL) != 0L || (active9 & 0xffca3efefc3fffffL) != 0L || (active10 & 0xbfc03cbf9ef5effeL) != 0L || (active11 & 0x79cfbbbc0b68L) != 0L)
+         if ((active0 & 0x38001e8cc00L) != 0L || (active1 & 0x11000000028802L) != 0L || (active2 & 0x1000001800000020L) != 0L || (active3 & 0x907e000107d80054L) != 0L || (active4 & 0xe880900000003800L) != 0L || (active5 & 0x1100629800083f2L) != 0L || (active6 & 0x1010200000010c00L) != 0L || (active7 & 0xe40000c002000048L) != 0L || (active8 & 0x20100001L) != 0L || (active9 & 0x1c00103800000L) != 0L || (active10 & 0x3b414060001000L) != 0L || (active11 & 0x10c0044409012L) != 0L)
+            return 78;
+         if ((active2 & 0x8000000000000000L) != 0L)
          {
             if (jjmatchedPos != 4)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 4;
             }
-            return 78;
+            return 80;
          }
-         if ((active0 & 0x38001e8cc00L) != 0L || (active1 & 0x11000000028802L) != 0L || (active2 & 0x1000001800000020L) != 0L || (active3 & 0x907e000107d80054L) != 0L || (active4 & 0xe880900000003800L) != 0L || (active5 & 0x1100629800083f2L) != 0L || (active6 & 0x1010200000010c00L) != 0L || (active7 & 0xe40000c002000048L) != 0L || (active8 & 0x20100001L) != 0L || (active9 & 0x1c00103800000L) != 0L || (active10 & 0x3b414060001000L) != 0L || (active11 & 0x860044409012L) != 0L)
-            return 78;
          return -1;
       case 5:
          if ((active2 & 0x8000000000000000L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 5;
             }
             return 80;
          }
-         if ((active0 & 0xb3850f1cf1c02040L) != 0L || (active1 & 0xffc6bfffccfd37f9L) != 0L || (active2 & 0x25c0ffa41f96fe87L) != 0L || (active3 & 0x21341c86c9069603L) != 0L || (active4 & 0xc5164cff197b47e7L) != 0L || (active5 & 0x344b09c414773be1L) != 0L || (active6 & 0x6bee57a6ffb83800L) != 0L || (active7 & 0xc1fb7a001dfffd07L) != 0L || (active8 & 0xfffffffdc4433c61L) != 0L || (active9 & 0xffcb84f6da3fffffL) != 0L || (active10 & 0xbfe03c171e75effeL) != 0L || (active11 & 0x79cfbfdc0a28L) != 0L)
+         if ((active0 & 0x403042000100a0L) != 0L || (active1 & 0x8000033000000L) != 0L || (active2 & 0x50003e0400018L) != 0L || (active3 & 0x40c04110202121a8L) != 0L || (active4 & 0x40000004008008L) != 0L || (active5 & 0x4a80000163084000L) != 0L || (active6 & 0x8000080100024181L) != 0L || (active7 & 0x1a00043fe0000000L) != 0L || (active8 & 0x1080c11eL) != 0L || (active9 & 0x3a0824000000L) != 0L || (active10 & 0x1000a880800000L) != 0L || (active11 & 0x200140L) != 0L)
+            return 78;
+         if ((active0 & 0xb3850f1cf1c02040L) != 0L || (active1 & 0xffc6bfffccfd37f9L) != 0L || (active2 & 0x25c0ffa41f96fe87L) != 0L || (active3 & 0x21341c86c9069603L) != 0L || (active4 & 0xc5164cff197b47e7L) != 0L || (active5 & 0x344b09c414773be1L) != 0L || (active6 & 0x6bee57a6ffb83800L) != 0L || (active7 & 0xc1fb7a001dfffd07L) != 0L || (active8 & 0xfffffffdc4433c61L) != 0L || (active9 & 0xffcb84f6da3fffffL) != 0L || (active10 & 0xbfe03c171e75effeL) != 0L || (active11 & 0xf39dbfdc0a28L) != 0L)
          {
             if (jjmatchedPos != 5)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 5;
             }
             return 78;
          }
-         if ((active0 & 0x403042000100a0L) != 0L || (active1 & 0x8000033000000L) != 0L || (active2 & 0x50003e0400018L) != 0L || (active3 & 0x40c04110202121a8L) != 0L || (active4 & 0x40000004008008L) != 0L || (active5 & 0x4a80000163084000L) != 0L || (active6 & 0x8000080100024181L) != 0L || (active7 & 0x1a00043fe0000000L) != 0L || (active8 & 0x1080c11eL) != 0L || (active9 & 0x3a0824000000L) != 0L || (active10 & 0x1000a880800000L) != 0L || (active11 & 0x200140L) != 0L)
-            return 78;
          return -1;
       case 6:
-         if ((active0 & 0x80071cf1c02040L) != 0L || (active1 & 0x469ff1ee7937f8L) != 0L || (active2 & 0x2000ff841816fe90L) != 0L || (active3 & 0x2130188609020503L) != 0L || (active4 & 0xc4024cff107341c7L) != 0L || (active5 & 0x304b00c414770b80L) != 0L || (active6 & 0x62ec0004bfa80800L) != 0L || (active7 & 0xd1f3020f90befd00L) != 0L || (active8 & 0xffffff7dc400bc41L) != 0L || (active9 & 0x7fcbb4f6da3fffffL) != 0L || (active10 & 0x81a03c101c340ffeL) != 0L || (active11 & 0x484dbff40028L) != 0L)
+         if ((active0 & 0x80071cf1c02040L) != 0L || (active1 & 0x469ff1ee7937f8L) != 0L || (active2 & 0x2000ff841816fe90L) != 0L || (active3 & 0x2130188609020503L) != 0L || (active4 & 0xc4024cff107341c7L) != 0L || (active5 & 0x304b00c414770b80L) != 0L || (active6 & 0x62ec0004bfa80800L) != 0L || (active7 & 0xd1f3020f90befd00L) != 0L || (active8 & 0xffffff7dc400bc41L) != 0L || (active9 & 0x7fcbb4f6da3fffffL) != 0L || (active10 & 0x81a03c101c340ffeL) != 0L || (active11 & 0x9099bff40028L) != 0L)
          {
             if (jjmatchedPos != 6)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 6;
             }
             return 78;
          }
+         if ((active0 & 0xb305080000000000L) != 0L || (active1 & 0xff80200e00840001L) != 0L || (active2 & 0x5c00020c7800007L) != 0L || (active3 & 0x40400c0049200L) != 0L || (active4 & 0x114000009080620L) != 0L || (active5 & 0x400090002003061L) != 0L || (active6 & 0x90257a240103100L) != 0L || (active7 & 0x878100d410007L) != 0L || (active8 & 0x8000430030L) != 0L || (active9 & 0x8000000000000000L) != 0L || (active10 & 0x3e4000070241e000L) != 0L || (active11 & 0x630400080a00L) != 0L)
+            return 78;
          if ((active2 & 0x8000000000000000L) != 0L)
          {
             if (jjmatchedPos != 6)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 6;
             }
             return 80;
          }
-         if ((active0 & 0xb305080000000000L) != 0L || (active1 & 0xff80200e00840001L) != 0L || (active2 & 0x5c00020c7800007L) != 0L || (active3 & 0x40400c0049200L) != 0L || (active4 & 0x114000009080620L) != 0L || (active5 & 0x400090002003061L) != 0L || (active6 & 0x90257a240103100L) != 0L || (active7 & 0x878100d410007L) != 0L || (active8 & 0x8000430030L) != 0L || (active9 & 0x8000000000000000L) != 0L || (active10 & 0x3e4000070241e000L) != 0L || (active11 & 0x318200080a00L) != 0L)
-            return 78;
          return -1;
       case 7:
-         if ((active0 & 0x200000000002040L) != 0L || (active1 & 0x1c0000010000L) != 0L || (active2 & 0x2000d0801400f880L) != 0L || (active3 & 0x2020108000020000L) != 0L || (active4 & 0x480000410000L) != 0L || (active5 & 0x40008414002800L) != 0L || (active6 & 0x22c000000080800L) != 0L || (active7 & 0x800200103c0004L) != 0L || (active8 & 0x1d09c4001040L) != 0L || (active9 & 0x80080000001a0L) != 0L || (active10 & 0xa0001000300004L) != 0L || (active11 & 0x888040008L) != 0L)
-            return 78;
-         if ((active2 & 0x8000000000000000L) != 0L)
-            return 80;
-         if ((active0 & 0x2080071cf1c00000L) != 0L || (active1 & 0xff4683fdee7837f8L) != 0L || (active2 & 0x1802f0408160617L) != 0L || (active3 & 0x110080609000503L) != 0L || (active4 & 0xc40204ff103245c7L) != 0L || (active5 & 0x300b004000770380L) != 0L || (active6 & 0x60c00704bfa02000L) != 0L || (active7 & 0xd173700f8082fd00L) != 0L || (active8 & 0xffffe2740002ac01L) != 0L || (active9 & 0x7fc3b476da3ffe5fL) != 0L || (active10 & 0xa1003c001c05cffaL) != 0L || (active11 & 0x484537f00020L) != 0L)
+         if ((active0 & 0x2080071cf1c00000L) != 0L || (active1 & 0xff4683fdee7837f8L) != 0L || (active2 & 0x1802f0408160617L) != 0L || (active3 & 0x110080609000503L) != 0L || (active4 & 0xc40204ff103245c7L) != 0L || (active5 & 0x300b004000770380L) != 0L || (active6 & 0x60c00704bfa02000L) != 0L || (active7 & 0xd173700f8082fd00L) != 0L || (active8 & 0xffffe2740002ac01L) != 0L || (active9 & 0x7fc3b476da3ffe5fL) != 0L || (active10 & 0xa1003c001c05cffaL) != 0L || (active11 & 0x908937f00020L) != 0L)
          {
             if (jjmatchedPos != 7)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 7;
             }
             return 78;
          }
+         if ((active0 & 0x200000000002040L) != 0L || (active1 & 0x1c0000010000L) != 0L || (active2 & 0x2000d0801400f880L) != 0L || (active3 & 0x2020108000020000L) != 0L || (active4 & 0x480000410000L) != 0L || (active5 & 0x40008414002800L) != 0L || (active6 & 0x22c000000080800L) != 0L || (active7 & 0x800200103c0004L) != 0L || (active8 & 0x1d09c4001040L) != 0L || (active9 & 0x80080000001a0L) != 0L || (active10 & 0xa0001000300004L) != 0L || (active11 & 0x1088040008L) != 0L)
+            return 78;
+         if ((active2 & 0x8000000000000000L) != 0L)
+            return 80;
          return -1;
       case 8:
-         if ((active0 & 0x20800310d1800000L) != 0L || (active1 & 0xff048bfc0e003008L) != 0L || (active2 & 0x1802f040810f417L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x40204ff00024004L) != 0L || (active5 & 0x3000004000770380L) != 0L || (active6 & 0x2008070400202000L) != 0L || (active7 & 0xd06270078082cc00L) != 0L || (active8 & 0xffff62758002a001L) != 0L || (active9 & 0x6081b016583fff59L) != 0L || (active10 & 0x20003c001805c87aL) != 0L || (active11 & 0x484117d00020L) != 0L)
+         if ((active0 & 0x20800310d1800000L) != 0L || (active1 & 0xff048bfc0e003008L) != 0L || (active2 & 0x1802f040810f417L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x40204ff00024004L) != 0L || (active5 & 0x3000004000770380L) != 0L || (active6 & 0x2008070400202000L) != 0L || (active7 & 0xd06270078082cc00L) != 0L || (active8 & 0xffff62758002a001L) != 0L || (active9 & 0x6081b016583fff59L) != 0L || (active10 & 0x20003c001805c87aL) != 0L || (active11 & 0x908117d00020L) != 0L)
          {
             if (jjmatchedPos != 8)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 8;
             }
             return 78;
          }
-         if ((active0 & 0x40c20400000L) != 0L || (active1 & 0x420001e07807f0L) != 0L || (active2 & 0x60200L) != 0L || (active3 & 0x100080408000501L) != 0L || (active4 & 0xc0000000103005c3L) != 0L || (active5 & 0xb000000000000L) != 0L || (active6 & 0x40c00000bf800000L) != 0L || (active7 & 0x111000800003100L) != 0L || (active8 & 0x800000000c00L) != 0L || (active9 & 0x1f42046082000006L) != 0L || (active10 & 0x8100000004000780L) != 0L || (active11 & 0x420200000L) != 0L)
+         if ((active0 & 0x40c20400000L) != 0L || (active1 & 0x420001e07807f0L) != 0L || (active2 & 0x60200L) != 0L || (active3 & 0x100080408000501L) != 0L || (active4 & 0xc0000000103005c3L) != 0L || (active5 & 0xb000000000000L) != 0L || (active6 & 0x40c00000bf800000L) != 0L || (active7 & 0x111000800003100L) != 0L || (active8 & 0x800000000c00L) != 0L || (active9 & 0x1f42046082000006L) != 0L || (active10 & 0x8100000004000780L) != 0L || (active11 & 0x820200000L) != 0L)
             return 78;
          return -1;
       case 9:
-         if ((active0 & 0x2080031001800000L) != 0L || (active1 & 0xff008a018e7023e8L) != 0L || (active2 & 0x1800d000000f017L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x8000001c00224006L) != 0L || (active5 & 0x3000000000370380L) != 0L || (active6 & 0x807043f000000L) != 0L || (active7 & 0x5060700780008800L) != 0L || (active8 & 0xffff22058002a001L) != 0L || (active9 & 0x7e013046103fff59L) != 0L || (active10 & 0x3c001801cc7aL) != 0L || (active11 & 0x400102d00020L) != 0L)
+         if ((active0 & 0x8d0000000L) != 0L || (active1 & 0x401fc00001400L) != 0L || (active2 & 0x220408100400L) != 0L || (active4 & 0x40204e300000000L) != 0L || (active5 & 0x2004000400000L) != 0L || (active6 & 0x2000000000202000L) != 0L || (active7 & 0x8002000000824400L) != 0L || (active8 & 0x407000000000L) != 0L || (active9 & 0x80801048000000L) != 0L || (active10 & 0x2000000000040100L) != 0L || (active11 & 0x108015000000L) != 0L)
+            return 78;
+         if ((active0 & 0x2080031001800000L) != 0L || (active1 & 0xff008a018e7023e8L) != 0L || (active2 & 0x1800d000000f017L) != 0L || (active3 & 0x10000201000002L) != 0L || (active4 & 0x8000001c00224006L) != 0L || (active5 & 0x3000000000370380L) != 0L || (active6 & 0x807043f000000L) != 0L || (active7 & 0x5060700780008800L) != 0L || (active8 & 0xffff22058002a001L) != 0L || (active9 & 0x7e013046103fff59L) != 0L || (active10 & 0x3c001801cc7aL) != 0L || (active11 & 0x800102d00020L) != 0L)
          {
             if (jjmatchedPos != 9)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 9;
             }
             return 78;
          }
-         if ((active0 & 0x8d0000000L) != 0L || (active1 & 0x401fc00001400L) != 0L || (active2 & 0x220408100400L) != 0L || (active4 & 0x40204e300000000L) != 0L || (active5 & 0x2004000400000L) != 0L || (active6 & 0x2000000000202000L) != 0L || (active7 & 0x8002000000824400L) != 0L || (active8 & 0x407000000000L) != 0L || (active9 & 0x80801048000000L) != 0L || (active10 & 0x2000000000040100L) != 0L || (active11 & 0x84015000000L) != 0L)
-            return 78;
          return -1;
       case 10:
          if ((active0 & 0x80010000000000L) != 0L || (active1 & 0x2000030082000008L) != 0L || (active2 & 0x90000000010L) != 0L || (active3 & 0x201000000L) != 0L || (active4 & 0x1c00004002L) != 0L || (active5 & 0x300000L) != 0L || (active6 & 0x400000000L) != 0L || (active7 & 0x1020000000000800L) != 0L || (active8 & 0x1220000008000L) != 0L || (active9 & 0x1300410200608L) != 0L || (active10 & 0x8000878L) != 0L || (active11 & 0x102800000L) != 0L)
             return 78;
-         if ((active0 & 0x2000021001800000L) != 0L || (active1 & 0xdf0088e90c7023e0L) != 0L || (active2 & 0x18004000000f007L) != 0L || (active3 & 0x10000000000002L) != 0L || (active4 & 0x8000000200220004L) != 0L || (active5 & 0x3000000000070380L) != 0L || (active6 & 0x807003f000000L) != 0L || (active7 & 0x4040700780008000L) != 0L || (active8 & 0xfffe000580022001L) != 0L || (active9 & 0x7e000042001ff951L) != 0L || (active10 & 0x3c001001c402L) != 0L || (active11 & 0x400000500020L) != 0L)
+         if ((active0 & 0x2000021001800000L) != 0L || (active1 & 0xdf0088e90c7023e0L) != 0L || (active2 & 0x18004000000f007L) != 0L || (active3 & 0x10000000000002L) != 0L || (active4 & 0x8000000200220004L) != 0L || (active5 & 0x3000000000070380L) != 0L || (active6 & 0x807003f000000L) != 0L || (active7 & 0x4040700780008000L) != 0L || (active8 & 0xfffe000580022001L) != 0L || (active9 & 0x7e000042001ff951L) != 0L || (active10 & 0x3c001001c402L) != 0L || (active11 & 0x800000500020L) != 0L)
          {
             if (jjmatchedPos != 10)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 10;
             }
             return 78;
          }
          return -1;
       case 11:
-         if ((active0 & 0x21001800000L) != 0L || (active1 & 0x450088e90c7003e0L) != 0L || (active2 & 0x18004000000f002L) != 0L || (active3 & 0x2L) != 0L || (active4 & 0x8000001200000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000080000000L) != 0L || (active9 & 0x7c0000420013e901L) != 0L || (active10 & 0x3c0010014472L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x21001800000L) != 0L || (active1 & 0x450088e90c7003e0L) != 0L || (active2 & 0x18004000000f002L) != 0L || (active3 & 0x2L) != 0L || (active4 & 0x8000001200000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000080000000L) != 0L || (active9 & 0x7c0000420013e901L) != 0L || (active10 & 0x3c0010014472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 11)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 11;
             }
             return 78;
@@ -22075,9 +22083,9 @@ private final int jjStopStringLiteralDfa_4(int pos, long active0, long active1,
             return 78;
          return -1;
       case 12:
-         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x450008e90c7003e0L) != 0L || (active2 & 0x18000000000e003L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5800004200036801L) != 0L || (active10 & 0x3c0000014472L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x450008e90c7003e0L) != 0L || (active2 & 0x18000000000e003L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x1000000000030280L) != 0L || (active6 & 0x803003f000000L) != 0L || (active7 & 0x4000500780008000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5800004200036801L) != 0L || (active10 & 0x3c0000014472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 12;
             return 78;
          }
@@ -22087,9 +22095,9 @@ private final int jjStopStringLiteralDfa_4(int pos, long active0, long active1,
       case 13:
          if ((active1 & 0x4000000000200000L) != 0L || (active2 & 0x8000L) != 0L || (active4 & 0x8000001000000004L) != 0L || (active5 & 0x10000L) != 0L || (active6 & 0x8000003000000L) != 0L || (active7 & 0x4000400000008000L) != 0L || (active9 & 0x800000000024000L) != 0L || (active10 & 0x10000L) != 0L)
             return 78;
-         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x50008e90c5003e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020280L) != 0L || (active6 & 0x3003c000000L) != 0L || (active7 & 0x100780000000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5000004200012801L) != 0L || (active10 & 0x3c0000004472L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x20001800000L) != 0L || (active1 & 0x50008e90c5003e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020280L) != 0L || (active6 & 0x3003c000000L) != 0L || (active7 & 0x100780000000L) != 0L || (active8 & 0xfffe000000000000L) != 0L || (active9 & 0x5000004200012801L) != 0L || (active10 & 0x3c0000004472L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 13;
             return 78;
          }
@@ -22097,19 +22105,19 @@ private final int jjStopStringLiteralDfa_4(int pos, long active0, long active1,
       case 14:
          if ((active0 & 0x20000000000L) != 0L || (active1 & 0x100084800000200L) != 0L || (active5 & 0x280L) != 0L || (active6 & 0x30000000000L) != 0L || (active7 & 0x100100000000L) != 0L || (active8 & 0x8000000000000000L) != 0L || (active9 & 0x5000004200010000L) != 0L || (active10 & 0x4402L) != 0L)
             return 78;
-         if ((active0 & 0x1800000L) != 0L || (active1 & 0x40000a10c5001e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7ffe000000000000L) != 0L || (active9 & 0x2801L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1800000L) != 0L || (active1 & 0x40000a10c5001e0L) != 0L || (active2 & 0x180000000006003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7ffe000000000000L) != 0L || (active9 & 0x2801L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 14;
             return 78;
          }
          return -1;
       case 15:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x40000a0001001c0L) != 0L || (active2 & 0x6003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7fe0000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x40000a0001001c0L) != 0L || (active2 & 0x6003L) != 0L || (active5 & 0x1000000000020000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x680000000L) != 0L || (active8 & 0x7fe0000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 15)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 15;
             }
             return 78;
@@ -22118,11 +22126,11 @@ private final int jjStopStringLiteralDfa_4(int pos, long active0, long active1,
             return 78;
          return -1;
       case 16:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x4000020080001c0L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0xf1c000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x4000020080001c0L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0xf1c000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 16)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 16;
             }
             return 78;
@@ -22133,30 +22141,30 @@ private final int jjStopStringLiteralDfa_4(int pos, long active0, long active1,
       case 17:
          if ((active1 & 0x2000000080L) != 0L || (active8 & 0x400000000000000L) != 0L)
             return 78;
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x2bdc000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x2bdc000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x3c0000000070L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 17;
             return 78;
          }
          return -1;
       case 18:
-         if ((active8 & 0xb00000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x10L) != 0L)
-            return 78;
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x20dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000140L) != 0L || (active2 & 0x100000000006002L) != 0L || (active5 & 0x20000L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x280000000L) != 0L || (active8 & 0x20dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
             if (jjmatchedPos != 18)
             {
-               jjmatchedKind = 823;
+               jjmatchedKind = 824;
                jjmatchedPos = 18;
             }
             return 78;
          }
+         if ((active8 & 0xb00000000000000L) != 0L || (active9 & 0x2800L) != 0L || (active10 & 0x10L) != 0L)
+            return 78;
          return -1;
       case 19:
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000040L) != 0L || (active2 & 0x100000000006002L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x200000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x400000008000040L) != 0L || (active2 & 0x100000000006002L) != 0L || (active6 & 0x3c000000L) != 0L || (active7 & 0x200000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 19;
             return 78;
          }
@@ -22164,19 +22172,19 @@ private final int jjStopStringLiteralDfa_4(int pos, long active0, long active1,
             return 78;
          return -1;
       case 20:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x6002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active0 & 0x1000000L) != 0L || (active1 & 0x8000040L) != 0L || (active2 & 0x100000000000000L) != 0L || (active7 & 0x200000000L) != 0L)
+            return 78;
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x6002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x3c0000000060L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 20;
             return 78;
          }
-         if ((active0 & 0x1000000L) != 0L || (active1 & 0x8000040L) != 0L || (active2 & 0x100000000000000L) != 0L || (active7 & 0x200000000L) != 0L)
-            return 78;
          return -1;
       case 21:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x3c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 21;
             return 78;
          }
@@ -22184,9 +22192,9 @@ private final int jjStopStringLiteralDfa_4(int pos, long active0, long active1,
             return 78;
          return -1;
       case 22:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22dc000000000000L) != 0L || (active10 & 0x240000000040L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 22;
             return 78;
          }
@@ -22196,27 +22204,27 @@ private final int jjStopStringLiteralDfa_4(int pos, long active0, long active1,
       case 23:
          if ((active8 & 0x4000000000000L) != 0L || (active10 & 0x200000000040L) != 0L)
             return 78;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active10 & 0x40000000000L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0x2c000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active10 & 0x40000000000L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 23;
             return 78;
          }
          return -1;
       case 24:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0xc000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active11 & 0x400000400000L) != 0L)
+         if ((active6 & 0x20000000L) != 0L || (active10 & 0x40000000000L) != 0L)
+            return 78;
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active6 & 0xc000000L) != 0L || (active8 & 0x22d8000000000000L) != 0L || (active11 & 0x800000400000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 24;
             return 78;
          }
-         if ((active6 & 0x20000000L) != 0L || (active10 & 0x40000000000L) != 0L)
-            return 78;
          return -1;
       case 25:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active8 & 0x2c0000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x4002L) != 0L || (active8 & 0x2c0000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 25;
             return 78;
          }
@@ -22224,9 +22232,9 @@ private final int jjStopStringLiteralDfa_4(int pos, long active0, long active1,
             return 78;
          return -1;
       case 26:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 26;
             return 78;
          }
@@ -22234,45 +22242,45 @@ private final int jjStopStringLiteralDfa_4(int pos, long active0, long active1,
             return 78;
          return -1;
       case 27:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active8 & 0x200000000000000L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 27;
             return 78;
          }
          return -1;
       case 28:
-         if ((active8 & 0x200000000000000L) != 0L)
-            return 78;
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 28;
             return 78;
          }
+         if ((active8 & 0x200000000000000L) != 0L)
+            return 78;
          return -1;
       case 29:
-         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L || (active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 29;
             return 78;
          }
          return -1;
       case 30:
-         if ((active2 & 0x2L) != 0L || (active11 & 0x400000000000L) != 0L)
+         if ((active1 & 0x400000000000000L) != 0L)
+            return 78;
+         if ((active2 & 0x2L) != 0L || (active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 30;
             return 78;
          }
-         if ((active1 & 0x400000000000000L) != 0L)
-            return 78;
          return -1;
       case 31:
-         if ((active11 & 0x400000000000L) != 0L)
+         if ((active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 31;
             return 78;
          }
@@ -22280,9 +22288,9 @@ private final int jjStopStringLiteralDfa_4(int pos, long active0, long active1,
             return 78;
          return -1;
       case 32:
-         if ((active11 & 0x400000000000L) != 0L)
+         if ((active11 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 823;
+            jjmatchedKind = 824;
             jjmatchedPos = 32;
             return 78;
          }
@@ -22308,70 +22316,70 @@ private final int jjMoveStringLiteralDfa0_4()
    switch(curChar)
    {
       case 33:
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x100000L);
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000L);
       case 34:
-         return jjStartNfaWithStates_4(0, 799, 79);
+         return jjStartNfaWithStates_4(0, 800, 79);
       case 36:
-         return jjStartNfaWithStates_4(0, 804, 78);
+         return jjStartNfaWithStates_4(0, 805, 78);
       case 37:
-         return jjStopAtPos(0, 794);
+         return jjStopAtPos(0, 795);
       case 38:
-         return jjStopAtPos(0, 802);
+         return jjStopAtPos(0, 803);
       case 39:
-         return jjStartNfaWithStates_4(0, 798, 58);
+         return jjStartNfaWithStates_4(0, 799, 58);
       case 40:
-         return jjStopAtPos(0, 767);
-      case 41:
          return jjStopAtPos(0, 768);
+      case 41:
+         return jjStopAtPos(0, 769);
       case 42:
-         jjmatchedKind = 792;
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x100000000000L);
+         jjmatchedKind = 793;
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000000L);
       case 43:
-         return jjStopAtPos(0, 789);
+         return jjStopAtPos(0, 790);
       case 44:
-         return jjStopAtPos(0, 779);
+         return jjStopAtPos(0, 780);
       case 45:
-         jjmatchedKind = 790;
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x800000L);
+         jjmatchedKind = 791;
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000000L);
       case 46:
-         jjmatchedKind = 778;
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x20000000L);
+         jjmatchedKind = 779;
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x40000000L);
       case 47:
-         jjmatchedKind = 793;
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x480000000000L);
+         jjmatchedKind = 794;
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x900000000000L);
       case 58:
-         jjmatchedKind = 784;
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000000L);
+         jjmatchedKind = 785;
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x4000000000L);
       case 59:
-         return jjStopAtPos(0, 777);
+         return jjStopAtPos(0, 778);
       case 60:
-         jjmatchedKind = 782;
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x8000a0000L);
+         jjmatchedKind = 783;
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000140000L);
       case 61:
-         jjmatchedKind = 780;
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000000L);
-      case 62:
          jjmatchedKind = 781;
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x40000L);
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x20000000L);
+      case 62:
+         jjmatchedKind = 782;
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x80000L);
       case 63:
-         return jjStopAtPos(0, 783);
+         return jjStopAtPos(0, 784);
       case 91:
-         return jjStopAtPos(0, 775);
-      case 93:
          return jjStopAtPos(0, 776);
+      case 93:
+         return jjStopAtPos(0, 777);
       case 94:
-         return jjStopAtPos(0, 801);
+         return jjStopAtPos(0, 802);
       case 65:
       case 97:
          jjmatchedKind = 3;
-         return jjMoveStringLiteralDfa1_4(0x3ffffffff0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x220000300000L, 0x0L);
+         return jjMoveStringLiteralDfa1_4(0x3ffffffff0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x440000300000L, 0x0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa1_4(0xfffc000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x80000L, 0x0L);
       case 67:
       case 99:
          jjmatchedKind = 52;
-         return jjMoveStringLiteralDfa1_4(0xffe0000000000000L, 0xffffffffffffffffL, 0x3fL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x14001800000L, 0x0L);
+         return jjMoveStringLiteralDfa1_4(0xffe0000000000000L, 0xffffffffffffffffL, 0x3fL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x28001800000L, 0x0L);
       case 68:
       case 100:
          return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x1ffffffffffffc0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000L, 0x0L);
@@ -22387,7 +22395,7 @@ private final int jjMoveStringLiteralDfa0_4()
          return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x7ffc0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x1f80000000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x1f80000000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000L, 0x0L);
       case 73:
       case 105:
          return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0xe000000000000000L, 0x1fffffffL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x140020000L, 0x0L);
@@ -22397,35 +22405,35 @@ private final int jjMoveStringLiteralDfa0_4()
       case 75:
       case 107:
          jjmatchedKind = 296;
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0xe0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0xe0000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x2000000000L, 0x0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0xfffff00000000000L, 0x3L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x200000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0xfffff00000000000L, 0x3L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x400000000L, 0x0L);
       case 77:
       case 109:
          jjmatchedKind = 322;
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffff8L, 0x0L, 0x0L, 0x100000L, 0x0L, 0x0L, 0x400000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffff8L, 0x0L, 0x0L, 0x100000L, 0x0L, 0x0L, 0x800000000000L, 0x0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffff000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x400000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffff000000000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x800000000L, 0x0L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xf800000000000000L, 0x3fffffL, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffc00000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x880000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffc00000L, 0x0L, 0x0L, 0x0L, 0x0L, 0x1080000000L, 0x0L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7L, 0x0L, 0x0L, 0x0L, 0x40000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7L, 0x0L, 0x0L, 0x0L, 0x80000000000L, 0x0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffff8L, 0x0L, 0x0L, 0x0L, 0x100000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffffffffff8L, 0x0L, 0x0L, 0x0L, 0x200000000000L, 0x0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfff0000000000000L, 0xffffffffffefffffL, 0x3fffffffffffL, 0x0L, 0x8a000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xfff0000000000000L, 0xffffffffffefffffL, 0x3fffffffffffL, 0x0L, 0x114000000000L, 0x0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffc00000000000L, 0x1ffffffL, 0x800000040000L, 0x0L);
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0xffffc00000000000L, 0x1ffffffL, 0x1000000040000L, 0x0L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x7fffffe000000L, 0x0L, 0x0L);
@@ -22445,12 +22453,12 @@ private final int jjMoveStringLiteralDfa0_4()
       case 122:
          return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000L, 0x0L);
       case 123:
-         return jjStartNfaWithStates_4(0, 773, 77);
+         return jjStartNfaWithStates_4(0, 774, 77);
       case 124:
-         jjmatchedKind = 800;
-         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x8000000L);
+         jjmatchedKind = 801;
+         return jjMoveStringLiteralDfa1_4(0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x10000000L);
       case 125:
-         return jjStopAtPos(0, 774);
+         return jjStopAtPos(0, 775);
       default :
          return jjMoveNfa_4(0, 0);
    }
@@ -22465,59 +22473,59 @@ private final int jjMoveStringLiteralDfa1_4(long active0, long active1, long act
    switch(curChar)
    {
       case 42:
-         if ((active12 & 0x400000000000L) != 0L)
+         if ((active12 & 0x800000000000L) != 0L)
          {
-            jjmatchedKind = 814;
+            jjmatchedKind = 815;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0x80000000000L);
+         return jjMoveStringLiteralDfa2_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0x100000000000L);
       case 46:
-         if ((active12 & 0x20000000L) != 0L)
-            return jjStopAtPos(1, 797);
+         if ((active12 & 0x40000000L) != 0L)
+            return jjStopAtPos(1, 798);
          break;
       case 47:
-         if ((active12 & 0x100000000000L) != 0L)
-            return jjStopAtPos(1, 812);
+         if ((active12 & 0x200000000000L) != 0L)
+            return jjStopAtPos(1, 813);
          break;
       case 58:
-         if ((active12 & 0x2000000000L) != 0L)
-            return jjStopAtPos(1, 805);
+         if ((active12 & 0x4000000000L) != 0L)
+            return jjStopAtPos(1, 806);
          break;
       case 60:
-         if ((active12 & 0x800000000L) != 0L)
-            return jjStopAtPos(1, 803);
+         if ((active12 & 0x1000000000L) != 0L)
+            return jjStopAtPos(1, 804);
          break;
       case 61:
-         if ((active12 & 0x20000L) != 0L)
-            return jjStopAtPos(1, 785);
-         else if ((active12 & 0x40000L) != 0L)
+         if ((active12 & 0x40000L) != 0L)
             return jjStopAtPos(1, 786);
-         else if ((active12 & 0x100000L) != 0L)
-            return jjStopAtPos(1, 788);
+         else if ((active12 & 0x80000L) != 0L)
+            return jjStopAtPos(1, 787);
+         else if ((active12 & 0x200000L) != 0L)
+            return jjStopAtPos(1, 789);
          break;
       case 62:
-         if ((active12 & 0x80000L) != 0L)
-            return jjStopAtPos(1, 787);
-         else if ((active12 & 0x800000L) != 0L)
-            return jjStopAtPos(1, 791);
-         else if ((active12 & 0x10000000L) != 0L)
-            return jjStopAtPos(1, 796);
+         if ((active12 & 0x100000L) != 0L)
+            return jjStopAtPos(1, 788);
+         else if ((active12 & 0x1000000L) != 0L)
+            return jjStopAtPos(1, 792);
+         else if ((active12 & 0x20000000L) != 0L)
+            return jjStopAtPos(1, 797);
          break;
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa2_4(active0, 0x3fe0000000000000L, active1, 0L, active2, 0x2000000000fffc0L, active3, 0x80000000080000L, active4, 0x7f00020000000L, active5, 0x1f000000ff8L, active6, 0x3fffc00000L, active7, 0x1f0000000000018L, active8, 0L, active9, 0x1c00000000000L, active10, 0xff8000000000000L, active11, 0x400887880000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_4(active0, 0x3fe0000000000000L, active1, 0L, active2, 0x2000000000fffc0L, active3, 0x80000000080000L, active4, 0x7f00020000000L, active5, 0x1f000000ff8L, active6, 0x3fffc00000L, active7, 0x1f0000000000018L, active8, 0L, active9, 0x1c00000000000L, active10, 0xff8000000000000L, active11, 0x801287880000L, active12, 0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa2_4(active0, 0x70L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x800000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa2_4(active0, 0x80L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x7000060000000000L, active6, 0L, active7, 0xfe00000000000000L, active8, 0x3L, active9, 0L, active10, 0L, active11, 0x2000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_4(active0, 0x80L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x7000060000000000L, active6, 0L, active7, 0xfe00000000000000L, active8, 0x3L, active9, 0L, active10, 0L, active11, 0x4000000000L, active12, 0L);
       case 68:
       case 100:
          return jjMoveStringLiteralDfa2_4(active0, 0x700L, active1, 0L, active2, 0L, active3, 0x2000000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa2_4(active0, 0xc0000fc000000000L, active1, 0x1L, active2, 0x7fffff00000L, active3, 0x3c0000100000L, active4, 0xf80e0000000000L, active5, 0x3800000ff000L, active6, 0x1fc000000000L, active7, 0x3fffffffe0L, active8, 0xffffcL, active9, 0x2000000000000L, active10, 0xb000000002000000L, active11, 0x10800004c003L, active12, 0L);
+         return jjMoveStringLiteralDfa2_4(active0, 0xc0000fc000000000L, active1, 0x1L, active2, 0x7fffff00000L, active3, 0x3c0000100000L, active4, 0xf80e0000000000L, active5, 0x3800000ff000L, active6, 0x1fc000000000L, active7, 0x3fffffffe0L, active8, 0xffffcL, active9, 0x2000000000000L, active10, 0xb000000002000000L, active11, 0x21000004c003L, active12, 0L);
       case 70:
       case 102:
          if ((active5 & 0x8000000000000000L) != 0L)
@@ -22536,7 +22544,7 @@ private final int jjMoveStringLiteralDfa1_4(long active0, long active1, long act
          return jjMoveStringLiteralDfa2_4(active0, 0L, active1, 0xffeL, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x200000L, active9, 0xc000000000000L, active10, 0L, active11, 0x1cL, active12, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa2_4(active0, 0x700000000000L, active1, 0L, active2, 0xf80000000000L, active3, 0x100000001e00000L, active4, 0xf00000000000000L, active5, 0x7f00000L, active6, 0x200000000000L, active7, 0x4000000000L, active8, 0x1d00000L, active9, 0xfff0000000000000L, active10, 0x4000000000000000L, active11, 0x10000003e0L, active12, 0L);
+         return jjMoveStringLiteralDfa2_4(active0, 0x700000000000L, active1, 0L, active2, 0xf80000000000L, active3, 0x100000001e00000L, active4, 0xf00000000000000L, active5, 0x7f00000L, active6, 0x200000000000L, active7, 0x4000000000L, active8, 0x1d00000L, active9, 0xfff0000000000000L, active10, 0x4000000000000000L, active11, 0x20000003e0L, active12, 0L);
       case 75:
       case 107:
          return jjMoveStringLiteralDfa2_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x2000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -22560,7 +22568,7 @@ private final int jjMoveStringLiteralDfa1_4(long active0, long active1, long act
             jjmatchedKind = 387;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_4(active0, 0x60000L, active1, 0L, active2, 0xe000000000000000L, active3, 0x3L, active4, 0x1ffffe0L, active5, 0L, active6, 0x30L, active7, 0L, active8, 0L, active9, 0L, active10, 0x1ffc000000L, active11, 0x200160000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_4(active0, 0x60000L, active1, 0L, active2, 0xe000000000000000L, active3, 0x3L, active4, 0x1ffffe0L, active5, 0L, active6, 0x30L, active7, 0L, active8, 0L, active9, 0L, active10, 0x1ffc000000L, active11, 0x400160000000L, active12, 0L);
       case 79:
       case 111:
          if ((active3 & 0x800000000000L) != 0L)
@@ -22578,7 +22586,7 @@ private final int jjMoveStringLiteralDfa1_4(long active0, long active1, long act
             jjmatchedKind = 640;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_4(active0, 0x3000000000000L, active1, 0x7ffffffff0000L, active2, 0x1f000000000000L, active3, 0x1e010001f8000000L, active4, 0xe000000040000000L, active5, 0x78003f8000003L, active6, 0x1e000000000000L, active7, 0x7ff0000000000L, active8, 0x18000000L, active9, 0L, active10, 0x2L, active11, 0x814600010400L, active12, 0L);
+         return jjMoveStringLiteralDfa2_4(active0, 0x3000000000000L, active1, 0x7ffffffff0000L, active2, 0x1f000000000000L, active3, 0x1e010001f8000000L, active4, 0xe000000040000000L, active5, 0x78003f8000003L, active6, 0x1e000000000000L, active7, 0x7ff0000000000L, active8, 0x18000000L, active9, 0L, active10, 0x2L, active11, 0x1028c00010400L, active12, 0L);
       case 80:
       case 112:
          return jjMoveStringLiteralDfa2_4(active0, 0x80000L, active1, 0L, active2, 0L, active3, 0x4L, active4, 0L, active5, 0L, active6, 0x1c0L, active7, 0L, active8, 0x1e0000000L, active9, 0L, active10, 0xe000000000L, active11, 0L, active12, 0L);
@@ -22605,7 +22613,7 @@ private final int jjMoveStringLiteralDfa1_4(long active0, long active1, long act
             jjmatchedKind = 281;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_4(active0, 0xfc000000L, active1, 0L, active2, 0L, active3, 0x20L, active4, 0xff9c000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x7f0000000000L, active11, 0x20000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_4(active0, 0xfc000000L, active1, 0L, active2, 0L, active3, 0x20L, active4, 0xff9c000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x7f0000000000L, active11, 0x40000000000L, active12, 0L);
       case 84:
       case 116:
          if ((active0 & 0x100000000L) != 0L)
@@ -22613,10 +22621,10 @@ private final int jjMoveStringLiteralDfa1_4(long active0, long active1, long act
             jjmatchedKind = 32;
             jjmatchedPos = 1;
          }
-         return jjMoveStringLiteralDfa2_4(active0, 0xe00000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x18000000000000L, active6, 0x4000L, active7, 0L, active8, 0L, active9, 0x1ff800000L, active10, 0x3800000000000L, active11, 0x80000200000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_4(active0, 0xe00000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x18000000000000L, active6, 0x4000L, active7, 0L, active8, 0L, active9, 0x1ff800000L, active10, 0x3800000000000L, active11, 0x100000200000L, active12, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa2_4(active0, 0x1000000000L, active1, 0xffe0000000000000L, active2, 0x1fL, active3, 0x1c000000000L, active4, 0L, active5, 0x7e0000c00000000L, active6, 0x8000000000038000L, active7, 0x8000000000007L, active8, 0L, active9, 0x3fe00000000L, active10, 0x4000000c00000L, active11, 0x40000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa2_4(active0, 0x1000000000L, active1, 0xffe0000000000000L, active2, 0x1fL, active3, 0x1c000000000L, active4, 0L, active5, 0x7e0000c00000000L, active6, 0x8000000000038000L, active7, 0x8000000000007L, active8, 0L, active9, 0x3fe00000000L, active10, 0x4000000c00000L, active11, 0x80000000000L, active12, 0L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa2_4(active0, 0x2000000000L, active1, 0L, active2, 0L, active3, 0x40L, active4, 0L, active5, 0L, active6, 0x3c0000L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -22629,8 +22637,8 @@ private final int jjMoveStringLiteralDfa1_4(long active0, long active1, long act
             return jjStartNfaWithStates_4(1, 51, 78);
          return jjMoveStringLiteralDfa2_4(active0, 0L, active1, 0L, active2, 0x1c0000000000020L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x3c0000000000L, active10, 0x1000000L, active11, 0L, active12, 0L);
       case 124:
-         if ((active12 & 0x8000000L) != 0L)
-            return jjStopAtPos(1, 795);
+         if ((active12 & 0x10000000L) != 0L)
+            return jjStopAtPos(1, 796);
          break;
       default :
          break;
@@ -22649,14 +22657,14 @@ private final int jjMoveStringLiteralDfa2_4(long old0, long active0, long old1,
    switch(curChar)
    {
       case 43:
-         if ((active12 & 0x80000000000L) != 0L)
-            return jjStopAtPos(2, 811);
+         if ((active12 & 0x100000000000L) != 0L)
+            return jjStopAtPos(2, 812);
          break;
       case 65:
       case 97:
          if ((active0 & 0x100L) != 0L)
             return jjStartNfaWithStates_4(2, 8, 78);
-         return jjMoveStringLiteralDfa3_4(active0, 0L, active1, 0x137feL, active2, 0x80000100000L, active3, 0x6000600000000L, active4, 0x18000000000000L, active5, 0x3000L, active6, 0xc00000000000L, active7, 0x6000000000000e7L, active8, 0x24000004L, active9, 0x7800000L, active10, 0x10000000ffcL, active11, 0x28201800c800L, active12, 0L);
+         return jjMoveStringLiteralDfa3_4(active0, 0L, active1, 0x137feL, active2, 0x80000100000L, active3, 0x6000600000000L, active4, 0x18000000000000L, active5, 0x3000L, active6, 0xc00000000000L, active7, 0x6000000000000e7L, active8, 0x24000004L, active9, 0x7800000L, active10, 0x10000000ffcL, active11, 0x50401800c800L, active12, 0L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa3_4(active0, 0L, active1, 0x20000000020000L, active2, 0L, active3, 0L, active4, 0x100100000000000L, active5, 0L, active6, 0x8000000000000000L, active7, 0L, active8, 0L, active9, 0x1c07e00000000L, active10, 0x4000000L, active11, 0L, active12, 0L);
@@ -22697,7 +22705,7 @@ private final int jjMoveStringLiteralDfa2_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(2, 20, 78);
          else if ((active6 & 0x10L) != 0L)
             return jjStartNfaWithStates_4(2, 388, 78);
-         return jjMoveStringLiteralDfa3_4(active0, 0x4000010000000L, active1, 0x8000000000800L, active2, 0x400000000000000L, active3, 0x2100000800001840L, active4, 0L, active5, 0L, active6, 0x7e00000003c0040L, active7, 0L, active8, 0x1c0000080L, active9, 0x14000000000000L, active10, 0x40003e0000401000L, active11, 0x4000000001fL, active12, 0L);
+         return jjMoveStringLiteralDfa3_4(active0, 0x4000010000000L, active1, 0x8000000000800L, active2, 0x400000000000000L, active3, 0x2100000800001840L, active4, 0L, active5, 0L, active6, 0x7e00000003c0040L, active7, 0L, active8, 0x1c0000080L, active9, 0x14000000000000L, active10, 0x40003e0000401000L, active11, 0x8000000001fL, active12, 0L);
       case 70:
       case 102:
          if ((active7 & 0x200L) != 0L)
@@ -22705,14 +22713,14 @@ private final int jjMoveStringLiteralDfa2_4(long old0, long active0, long old1,
             jjmatchedKind = 457;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_4(active0, 0x4000000000L, active1, 0L, active2, 0xfe000000L, active3, 0L, active4, 0x20000000000000L, active5, 0L, active6, 0x1L, active7, 0x70000000000c00L, active8, 0L, active9, 0L, active10, 0x3800000000000L, active11, 0x100000100000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_4(active0, 0x4000000000L, active1, 0L, active2, 0xfe000000L, active3, 0L, active4, 0x20000000000000L, active5, 0L, active6, 0x1L, active7, 0x70000000000c00L, active8, 0L, active9, 0L, active10, 0x3800000000000L, active11, 0x200000100000L, active12, 0L);
       case 71:
       case 103:
          if ((active0 & 0x2000000000L) != 0L)
             return jjStartNfaWithStates_4(2, 37, 78);
          else if ((active4 & 0x200000000000L) != 0L)
             return jjStartNfaWithStates_4(2, 301, 78);
-         return jjMoveStringLiteralDfa3_4(active0, 0x138000000000L, active1, 0L, active2, 0x100000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40001ff000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_4(active0, 0x138000000000L, active1, 0L, active2, 0x100000000L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40001ff000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000L, active12, 0L);
       case 72:
       case 104:
          return jjMoveStringLiteralDfa3_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x8020000000000L, active6, 0x4000L, active7, 0x1800000000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -22741,12 +22749,12 @@ private final int jjMoveStringLiteralDfa2_4(long old0, long active0, long old1,
          }
          else if ((active11 & 0x2000L) != 0L)
             return jjStartNfaWithStates_4(2, 717, 78);
-         return jjMoveStringLiteralDfa3_4(active0, 0x60000000006000L, active1, 0x3fc0000L, active2, 0x200000000L, active3, 0x200004008280000L, active4, 0L, active5, 0x1e0040400600000L, active6, 0x20L, active7, 0x70000600000L, active8, 0xfffffffc00000300L, active9, 0x3fffffL, active10, 0x38000000000000L, active11, 0x1504000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_4(active0, 0x60000000006000L, active1, 0x3fc0000L, active2, 0x200000000L, active3, 0x200004008280000L, active4, 0L, active5, 0x1e0040400600000L, active6, 0x20L, active7, 0x70000600000L, active8, 0xfffffffc00000300L, active9, 0x3fffffL, active10, 0x38000000000000L, active11, 0x2904000000L, active12, 0L);
       case 77:
       case 109:
          if ((active9 & 0x10000000000L) != 0L)
             return jjStartNfaWithStates_4(2, 616, 78);
-         return jjMoveStringLiteralDfa3_4(active0, 0x400L, active1, 0x4000003c000000L, active2, 0x1000000000000L, active3, 0L, active4, 0x800000000000003L, active5, 0x600003800004000L, active6, 0L, active7, 0L, active8, 0x8c00000L, active9, 0x7fe2040000000000L, active10, 0x800000L, active11, 0x10000040000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_4(active0, 0x400L, active1, 0x4000003c000000L, active2, 0x1000000000000L, active3, 0L, active4, 0x800000000000003L, active5, 0x600003800004000L, active6, 0L, active7, 0L, active8, 0x8c00000L, active9, 0x7fe2040000000000L, active10, 0x800000L, active11, 0x20000040000L, active12, 0L);
       case 78:
       case 110:
          if ((active5 & 0x800000L) != 0L)
@@ -22754,7 +22762,7 @@ private final int jjMoveStringLiteralDfa2_4(long old0, long active0, long old1,
             jjmatchedKind = 343;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_4(active0, 0x200000000000L, active1, 0x3fffc0000001L, active2, 0x1c0000400000000L, active3, 0x40000c8000400000L, active4, 0x40400000000800L, active5, 0x8041c7000000L, active6, 0L, active7, 0x8000000000018L, active8, 0x100400L, active9, 0x8000020000000000L, active10, 0xc00000000L, active11, 0x4000010040L, active12, 0L);
+         return jjMoveStringLiteralDfa3_4(active0, 0x200000000000L, active1, 0x3fffc0000001L, active2, 0x1c0000400000000L, active3, 0x40000c8000400000L, active4, 0x40400000000800L, active5, 0x8041c7000000L, active6, 0L, active7, 0x8000000000018L, active8, 0x100400L, active9, 0x8000020000000000L, active10, 0xc00000000L, active11, 0x8000010040L, active12, 0L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa3_4(active0, 0x1800204000000L, active1, 0x1000000000c000L, active2, 0x20000000000000L, active3, 0x78502006000004L, active4, 0xff9c001000L, active5, 0L, active6, 0x4000000000000000L, active7, 0xe000000000000000L, active8, 0x200001L, active9, 0L, active10, 0L, active11, 0x200000L, active12, 0L);
@@ -22785,7 +22793,7 @@ private final int jjMoveStringLiteralDfa2_4(long old0, long active0, long old1,
             jjmatchedKind = 422;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_4(active0, 0x80040001e00000L, active1, 0xff80c00000000000L, active2, 0x300000001fL, active3, 0xe1800010L, active4, 0x800000000000L, active5, 0x3000200008000L, active6, 0x21f80ff800000L, active7, 0L, active8, 0xe002L, active9, 0xe0400000L, active10, 0x3fc0000000000000L, active11, 0x8080000400L, active12, 0L);
+         return jjMoveStringLiteralDfa3_4(active0, 0x80040001e00000L, active1, 0xff80c00000000000L, active2, 0x300000001fL, active3, 0xe1800010L, active4, 0x800000000000L, active5, 0x3000200008000L, active6, 0x21f80ff800000L, active7, 0L, active8, 0xe002L, active9, 0xe0400000L, active10, 0x3fc0000000000000L, active11, 0x10080000400L, active12, 0L);
       case 83:
       case 115:
          if ((active0 & 0x10L) != 0L)
@@ -22793,7 +22801,7 @@ private final int jjMoveStringLiteralDfa2_4(long old0, long active0, long old1,
             jjmatchedKind = 4;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_4(active0, 0xf00000060000060L, active1, 0L, active2, 0x800f3c000000000L, active3, 0x10000000000L, active4, 0x300000003c000L, active5, 0x80000070000L, active6, 0xc000f00000000L, active7, 0x3e000000L, active8, 0x30000L, active9, 0x380000000000L, active10, 0x9002000000L, active11, 0x800000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_4(active0, 0xf00000060000060L, active1, 0L, active2, 0x800f3c000000000L, active3, 0x10000000000L, active4, 0x300000003c000L, active5, 0x80000070000L, active6, 0xc000f00000000L, active7, 0x3e000000L, active8, 0x30000L, active9, 0x380000000000L, active10, 0x9002000000L, active11, 0x1200000000L, active12, 0L);
       case 84:
       case 116:
          if ((active0 & 0x400000000000L) != 0L)
@@ -22819,7 +22827,7 @@ private final int jjMoveStringLiteralDfa2_4(long old0, long active0, long old1,
             jjmatchedKind = 530;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_4(active0, 0x3002081c00008880L, active1, 0L, active2, 0x4000000ffc0L, active3, 0x1000000170000L, active4, 0x4000000f80000L, active5, 0x60000180000803f0L, active6, 0x3000030180L, active7, 0x80001fc0000000L, active8, 0x80000L, active9, 0L, active10, 0L, active11, 0x800002000380L, active12, 0L);
+         return jjMoveStringLiteralDfa3_4(active0, 0x3002081c00008880L, active1, 0L, active2, 0x4000000ffc0L, active3, 0x1000000170000L, active4, 0x4000000f80000L, active5, 0x60000180000803f0L, active6, 0x3000030180L, active7, 0x80001fc0000000L, active8, 0x80000L, active9, 0L, active10, 0L, active11, 0x1000002000380L, active12, 0L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa3_4(active0, 0L, active1, 0x1000000000000L, active2, 0x4000000000000L, active3, 0x1800000100000008L, active4, 0L, active5, 0L, active6, 0L, active7, 0x780000000000L, active8, 0x10000000L, active9, 0x8000000000000L, active10, 0x180000L, active11, 0L, active12, 0L);
@@ -22845,7 +22853,7 @@ private final int jjMoveStringLiteralDfa2_4(long old0, long active0, long old1,
             jjmatchedKind = 330;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000800L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x200000000800L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L, active12, 0L);
       case 89:
       case 121:
          if ((active0 & 0x40000L) != 0L)
@@ -22862,7 +22870,7 @@ private final int jjMoveStringLiteralDfa2_4(long old0, long active0, long old1,
             jjmatchedKind = 297;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_4(active0, 0x80000000L, active1, 0L, active2, 0xe0000L, active3, 0L, active4, 0xc0000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x100000000L, active10, 0x200000L, active11, 0x20000000000L, active12, 0L);
+         return jjMoveStringLiteralDfa3_4(active0, 0x80000000L, active1, 0L, active2, 0xe0000L, active3, 0L, active4, 0xc0000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x100000000L, active10, 0x200000L, active11, 0x40000000000L, active12, 0L);
       case 90:
       case 122:
          return jjMoveStringLiteralDfa3_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000L, active9, 0L, active10, 0L, active11, 0L, active12, 0L);
@@ -22893,7 +22901,7 @@ private final int jjMoveStringLiteralDfa3_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(3, 687, 78);
          break;
       case 95:
-         return jjMoveStringLiteralDfa4_4(active0, 0L, active1, 0L, active2, 0L, active3, 0x3L, active4, 0xc0000000000L, active5, 0x8000000000000L, active6, 0L, active7, 0x3000000000000L, active8, 0xffffffe000000000L, active9, 0x3fffffL, active10, 0xc0000000200002L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa4_4(active0, 0L, active1, 0L, active2, 0L, active3, 0x3L, active4, 0xc0000000000L, active5, 0x8000000000000L, active6, 0L, active7, 0x3000000000000L, active8, 0xffffffe000000000L, active9, 0x3fffffL, active10, 0xc0000000200002L, active11, 0x800000000000L);
       case 65:
       case 97:
          if ((active2 & 0x40L) != 0L)
@@ -22903,7 +22911,7 @@ private final int jjMoveStringLiteralDfa3_4(long old0, long active0, long old1,
          }
          else if ((active4 & 0x20000000L) != 0L)
             return jjStartNfaWithStates_4(3, 285, 78);
-         return jjMoveStringLiteralDfa4_4(active0, 0x3004200001e10000L, active1, 0xe000000000000L, active2, 0x1c1100006400080L, active3, 0x2400028L, active4, 0xe000000000000000L, active5, 0x20000000001L, active6, 0x3f800000L, active7, 0x200000L, active8, 0x800L, active9, 0L, active10, 0x2400001000L, active11, 0x800082000000L);
+         return jjMoveStringLiteralDfa4_4(active0, 0x3004200001e10000L, active1, 0xe000000000000L, active2, 0x1c1100006400080L, active3, 0x2400028L, active4, 0xe000000000000000L, active5, 0x20000000001L, active6, 0x3f800000L, active7, 0x200000L, active8, 0x800L, active9, 0L, active10, 0x2400001000L, active11, 0x1000082000000L);
       case 66:
       case 98:
          if ((active0 & 0x800000000000L) != 0L)
@@ -22997,7 +23005,7 @@ private final int jjMoveStringLiteralDfa3_4(long old0, long active0, long old1,
          break;
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa4_4(active0, 0L, active1, 0L, active2, 0x80000000000L, active3, 0L, active4, 0x40c00000000000L, active5, 0x8000L, active6, 0L, active7, 0x8L, active8, 0L, active9, 0L, active10, 0x1000001e000L, active11, 0x200000000L);
+         return jjMoveStringLiteralDfa4_4(active0, 0L, active1, 0L, active2, 0x80000000000L, active3, 0L, active4, 0x40c00000000000L, active5, 0x8000L, active6, 0L, active7, 0x8L, active8, 0L, active9, 0L, active10, 0x1000001e000L, active11, 0x400000000L);
       case 72:
       case 104:
          if ((active0 & 0x2000000000000L) != 0L)
@@ -23011,6 +23019,8 @@ private final int jjMoveStringLiteralDfa3_4(long old0, long active0, long old1,
             jjmatchedKind = 711;
             jjmatchedPos = 3;
          }
+         else if ((active11 & 0x200000000L) != 0L)
+            return jjStartNfaWithStates_4(3, 737, 78);
          return jjMoveStringLiteralDfa4_4(active0, 0x1000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x80000L, active6, 0L, active7, 0x4000000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x1800300L);
       case 73:
       case 105:
@@ -23050,9 +23060,9 @@ private final int jjMoveStringLiteralDfa3_4(long old0, long active0, long old1,
          }
          else if ((active7 & 0x80L) != 0L)
             return jjStartNfaWithStates_4(3, 455, 78);
-         else if ((active11 & 0x1000000000L) != 0L)
-            return jjStartNfaWithStates_4(3, 740, 78);
-         return jjMoveStringLiteralDfa4_4(active0, 0x8041000000080000L, active1, 0xfd0000L, active2, 0x1100020L, active3, 0x8008600L, active4, 0x10000064L, active5, 0x1d0000000600000L, active6, 0x8000000000000000L, active7, 0x600060001000001L, active8, 0x4000000L, active9, 0x1c00100000000L, active10, 0L, active11, 0x200000000000L);
+         else if ((active11 & 0x2000000000L) != 0L)
+            return jjStartNfaWithStates_4(3, 741, 78);
+         return jjMoveStringLiteralDfa4_4(active0, 0x8041000000080000L, active1, 0xfd0000L, active2, 0x1100020L, active3, 0x8008600L, active4, 0x10000064L, active5, 0x1d0000000600000L, active6, 0x8000000000000000L, active7, 0x600060001000001L, active8, 0x4000000L, active9, 0x1c00100000000L, active10, 0L, active11, 0x400000000000L);
       case 77:
       case 109:
          if ((active3 & 0x2000000000L) != 0L)
@@ -23083,23 +23093,23 @@ private final int jjMoveStringLiteralDfa3_4(long old0, long active0, long old1,
             jjmatchedKind = 706;
             jjmatchedPos = 3;
          }
-         else if ((active11 & 0x2000000000L) != 0L)
-            return jjStartNfaWithStates_4(3, 741, 78);
-         return jjMoveStringLiteralDfa4_4(active0, 0x40010000000L, active1, 0x1000e00000000L, active2, 0L, active3, 0x2006000100000000L, active4, 0xff00000000L, active5, 0L, active6, 0L, active7, 0x8000000000000L, active8, 0L, active9, 0L, active10, 0x8000400100100ff8L, active11, 0x20000000008L);
+         else if ((active11 & 0x4000000000L) != 0L)
+            return jjStartNfaWithStates_4(3, 742, 78);
+         return jjMoveStringLiteralDfa4_4(active0, 0x40010000000L, active1, 0x1000e00000000L, active2, 0L, active3, 0x2006000100000000L, active4, 0xff00000000L, active5, 0L, active6, 0L, active7, 0x8000000000000L, active8, 0L, active9, 0L, active10, 0x8000400100100ff8L, active11, 0x40000000008L);
       case 79:
       case 111:
          if ((active3 & 0x1000000000000L) != 0L)
             return jjStartNfaWithStates_4(3, 240, 78);
          else if ((active4 & 0x800000L) != 0L)
             return jjStartNfaWithStates_4(3, 279, 78);
-         return jjMoveStringLiteralDfa4_4(active0, 0x4000006040L, active1, 0x20000L, active2, 0x2000000000060000L, active3, 0x4000000004000010L, active4, 0x1000008L, active5, 0x44000000000L, active6, 0x1000200000000000L, active7, 0x2000000000L, active8, 0x1aL, active9, 0L, active10, 0x5c000000L, active11, 0x400000000L);
+         return jjMoveStringLiteralDfa4_4(active0, 0x4000006040L, active1, 0x20000L, active2, 0x2000000000060000L, active3, 0x4000000004000010L, active4, 0x1000008L, active5, 0x44000000000L, active6, 0x1000200000000000L, active7, 0x2000000000L, active8, 0x1aL, active9, 0L, active10, 0x5c000000L, active11, 0x800000000L);
       case 80:
       case 112:
          if ((active2 & 0x20000000000000L) != 0L)
             return jjStartNfaWithStates_4(3, 181, 78);
          else if ((active8 & 0x2000000L) != 0L)
             return jjStartNfaWithStates_4(3, 537, 78);
-         return jjMoveStringLiteralDfa4_4(active0, 0L, active1, 0L, active2, 0x400000000000L, active3, 0L, active4, 0L, active5, 0x800000000L, active6, 0x100000000020000L, active7, 0xe000000004000000L, active8, 0x800001L, active9, 0x2000000000000L, active10, 0L, active11, 0x10018040800L);
+         return jjMoveStringLiteralDfa4_4(active0, 0L, active1, 0L, active2, 0x400000000000L, active3, 0L, active4, 0L, active5, 0x800000000L, active6, 0x100000000020000L, active7, 0xe000000004000000L, active8, 0x800001L, active9, 0x2000000000000L, active10, 0L, active11, 0x20018040800L);
       case 81:
       case 113:
          return jjMoveStringLiteralDfa4_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x80000000L, active11, 0L);
@@ -23135,7 +23145,7 @@ private final int jjMoveStringLiteralDfa3_4(long old0, long active0, long old1,
             jjmatchedKind = 718;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_4(active0, 0xc00000000L, active1, 0xff808000000007f8L, active2, 0x100000007L, active3, 0x1100000000040040L, active4, 0x100000000000080L, active5, 0x100000L, active6, 0x380000L, active7, 0x1ff006L, active8, 0x10000004L, active9, 0x8000000800000L, active10, 0x3c0000000000L, active11, 0x140020008010L);
+         return jjMoveStringLiteralDfa4_4(active0, 0xc00000000L, active1, 0xff808000000007f8L, active2, 0x100000007L, active3, 0x1100000000040040L, active4, 0x100000000000080L, active5, 0x100000L, active6, 0x380000L, active7, 0x1ff006L, active8, 0x10000004L, active9, 0x8000000800000L, active10, 0x3c0000000000L, active11, 0x280020008010L);
       case 83:
       case 115:
          if ((active2 & 0x80000L) != 0L)
@@ -23146,7 +23156,7 @@ private final int jjMoveStringLiteralDfa3_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(3, 531, 78);
          else if ((active9 & 0x10000000000000L) != 0L)
             return jjStartNfaWithStates_4(3, 628, 78);
-         return jjMoveStringLiteralDfa4_4(active0, 0L, active1, 0x1003f00000b000L, active2, 0x400000018L, active3, 0x1882000L, active4, 0L, active5, 0x73000L, active6, 0x200000600000001L, active7, 0L, active8, 0x800030400L, active9, 0x7800000000L, active10, 0x3000000000400000L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa4_4(active0, 0L, active1, 0x1003f00000b000L, active2, 0x400000018L, active3, 0x1882000L, active4, 0L, active5, 0x73000L, active6, 0x200000600000001L, active7, 0L, active8, 0x800030400L, active9, 0x7800000000L, active10, 0x3000000000400000L, active11, 0x1000000000L);
       case 84:
       case 116:
          if ((active0 & 0x800000000000000L) != 0L)
@@ -23166,7 +23176,7 @@ private final int jjMoveStringLiteralDfa3_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(3, 419, 78);
          else if ((active9 & 0x400000L) != 0L)
             return jjStartNfaWithStates_4(3, 598, 78);
-         return jjMoveStringLiteralDfa4_4(active0, 0L, active1, 0x1c0000000001L, active2, 0x1000800800000000L, active3, 0x80200000L, active4, 0x2000000030600L, active5, 0x80580000000L, active6, 0x20020c0000000L, active7, 0x780018000000L, active8, 0x20L, active9, 0x380007000000L, active10, 0L, active11, 0x84000401020L);
+         return jjMoveStringLiteralDfa4_4(active0, 0L, active1, 0x1c0000000001L, active2, 0x1000800800000000L, active3, 0x80200000L, active4, 0x2000000030600L, active5, 0x80580000000L, active6, 0x20020c0000000L, active7, 0x780018000000L, active8, 0x20L, active9, 0x380007000000L, active10, 0L, active11, 0x108000401020L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa4_4(active0, 0L, active1, 0x3000000L, active2, 0L, active3, 0x78000000000000L, active4, 0x3000L, active5, 0x1000010023000000L, active6, 0L, active7, 0x80001fe0000100L, active8, 0x101040L, active9, 0x80000000L, active10, 0x38000000000000L, active11, 0x4000000L);
@@ -23174,7 +23184,7 @@ private final int jjMoveStringLiteralDfa3_4(long old0, long active0, long old1,
       case 118:
          if ((active6 & 0x400000000000000L) != 0L)
             return jjStartNfaWithStates_4(3, 442, 78);
-         return jjMoveStringLiteralDfa4_4(active0, 0L, active1, 0x200000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x4000800L, active6, 0x2000000000000000L, active7, 0L, active8, 0xc000L, active9, 0L, active10, 0L, active11, 0x8000000000L);
+         return jjMoveStringLiteralDfa4_4(active0, 0L, active1, 0x200000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x4000800L, active6, 0x2000000000000000L, active7, 0L, active8, 0xc000L, active9, 0L, active10, 0L, active11, 0x10000000000L);
       case 87:
       case 119:
          if ((active8 & 0x200000L) != 0L)
@@ -23223,9 +23233,9 @@ private final int jjMoveStringLiteralDfa4_4(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa5_4(active0, 0L, active1, 0L, active2, 0x80L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x20000000000L, active8, 0x3e000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 67:
       case 99:
-         if ((active11 & 0x20000000000L) != 0L)
-            return jjStartNfaWithStates_4(4, 745, 78);
-         return jjMoveStringLiteralDfa5_4(active0, 0x2000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x100L, active5, 0x800000000000000L, active6, 0L, active7, 0x1000000000000L, active8, 0xc0010000104L, active9, 0x80000000L, active10, 0x300000L, active11, 0x400000000000L);
+         if ((active11 & 0x40000000000L) != 0L)
+            return jjStartNfaWithStates_4(4, 746, 78);
+         return jjMoveStringLiteralDfa5_4(active0, 0x2000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x100L, active5, 0x800000000000000L, active6, 0L, active7, 0x1000000000000L, active8, 0xc0010000104L, active9, 0x80000000L, active10, 0x300000L, active11, 0x800000000000L);
       case 68:
       case 100:
          if ((active3 & 0x100000000L) != 0L)
@@ -23286,7 +23296,7 @@ private final int jjMoveStringLiteralDfa4_4(long old0, long active0, long old1,
             jjmatchedKind = 716;
             jjmatchedPos = 4;
          }
-         return jjMoveStringLiteralDfa5_4(active0, 0x41080000000000L, active1, 0xff80a00e00810000L, active2, 0x8400000500000007L, active3, 0x100400200000L, active4, 0x8000084L, active5, 0x200000000404000L, active6, 0x426007a000000001L, active7, 0xc000000004000000L, active8, 0xd001L, active9, 0x1bc881a000000L, active10, 0x8030000000000000L, active11, 0x100005c00008L);
+         return jjMoveStringLiteralDfa5_4(active0, 0x41080000000000L, active1, 0xff80a00e00810000L, active2, 0x8400000500000007L, active3, 0x100400200000L, active4, 0x8000084L, active5, 0x200000000404000L, active6, 0x426007a000000001L, active7, 0xc000000004000000L, active8, 0xd001L, active9, 0x1bc881a000000L, active10, 0x8030000000000000L, active11, 0x200005c00008L);
       case 70:
       case 102:
          if ((active2 & 0x1000000000L) != 0L)
@@ -23296,7 +23306,7 @@ private final int jjMoveStringLiteralDfa4_4(long old0, long active0, long old1,
       case 103:
          if ((active10 & 0x400000000000L) != 0L)
             return jjStartNfaWithStates_4(4, 686, 78);
-         return jjMoveStringLiteralDfa5_4(active0, 0x40000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x80000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x100001e000L, active11, 0x400000000L);
+         return jjMoveStringLiteralDfa5_4(active0, 0x40000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x80000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x100001e000L, active11, 0x800000000L);
       case 72:
       case 104:
          if ((active2 & 0x800000000L) != 0L)
@@ -23318,7 +23328,7 @@ private final int jjMoveStringLiteralDfa4_4(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa5_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000003e0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x200000000000000L, active11, 0x20L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa5_4(active0, 0x8080000e00000000L, active1, 0x1001f0000000L, active2, 0x1800000000000L, active3, 0x40000000L, active4, 0x10000000000600L, active5, 0x80080400200000L, active6, 0xa0824002c0000000L, active7, 0x8780000000001L, active8, 0x3fff0001c0030420L, active9, 0x8000000004000000L, active10, 0x3900000000000000L, active11, 0x8c200200100L);
+         return jjMoveStringLiteralDfa5_4(active0, 0x8080000e00000000L, active1, 0x1001f0000000L, active2, 0x1800000000000L, active3, 0x40000000L, active4, 0x10000000000600L, active5, 0x80080400200000L, active6, 0xa0824002c0000000L, active7, 0x8780000000001L, active8, 0x3fff0001c0030420L, active9, 0x8000000004000000L, active10, 0x3900000000000000L, active11, 0x118400200100L);
       case 75:
       case 107:
          if ((active1 & 0x800L) != 0L)
@@ -23339,8 +23349,8 @@ private final int jjMoveStringLiteralDfa4_4(long old0, long active0, long old1,
             jjmatchedKind = 317;
             jjmatchedPos = 4;
          }
-         else if ((active11 & 0x800000000000L) != 0L)
-            return jjStartNfaWithStates_4(4, 751, 78);
+         else if ((active11 & 0x1000000000000L) != 0L)
+            return jjStartNfaWithStates_4(4, 752, 78);
          return jjMoveStringLiteralDfa5_4(active0, 0x3000000000000040L, active1, 0L, active2, 0x4100000100000L, active3, 0x8L, active4, 0xc000000000000000L, active5, 0x20000000L, active6, 0x180000L, active7, 0x20000000L, active8, 0xc000000004c00002L, active9, 0x200000001L, active10, 0x800006L, active11, 0x80040000L);
       case 77:
       case 109:
@@ -23458,7 +23468,7 @@ private final int jjMoveStringLiteralDfa4_4(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa5_4(active0, 0L, active1, 0x803f000000000L, active2, 0x20000f800L, active3, 0x2004008001002000L, active4, 0x40080000000000L, active5, 0x6000000003000001L, active6, 0xc000400000000L, active7, 0x200006L, active8, 0x800000000L, active9, 0x70000fff80L, active10, 0x2000000000L, active11, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa5_4(active0, 0L, active1, 0x1L, active2, 0x6000000L, active3, 0x1600L, active4, 0x400000000060L, active5, 0x3000L, active6, 0x100000020000L, active7, 0x40000000000L, active8, 0L, active9, 0x400000000L, active10, 0x84000000L, active11, 0x10000080000L);
+         return jjMoveStringLiteralDfa5_4(active0, 0L, active1, 0x1L, active2, 0x6000000L, active3, 0x1600L, active4, 0x400000000060L, active5, 0x3000L, active6, 0x100000020000L, active7, 0x40000000000L, active8, 0L, active9, 0x400000000L, active10, 0x84000000L, active11, 0x20000080000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa5_4(active0, 0L, active1, 0L, active2, 0x2000000000L, active3, 0L, active4, 0L, active5, 0x8000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x300000L, active10, 0x200000000L, active11, 0L);
@@ -23466,7 +23476,7 @@ private final int jjMoveStringLiteralDfa4_4(long old0, long active0, long old1,
       case 119:
          if ((active0 & 0x4000L) != 0L)
             return jjStartNfaWithStates_4(4, 14, 78);
-         return jjMoveStringLiteralDfa5_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa5_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x1000000000L);
       case 88:
       case 120:
          if ((active11 & 0x40000000L) != 0L)
@@ -23485,9 +23495,9 @@ private final int jjMoveStringLiteralDfa4_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(4, 188, 78);
          else if ((active3 & 0x40L) != 0L)
             return jjStartNfaWithStates_4(4, 198, 78);
-         else if ((active11 & 0x40000000000L) != 0L)
-            return jjStartNfaWithStates_4(4, 746, 78);
-         return jjMoveStringLiteralDfa5_4(active0, 0x1c10000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200020000000L);
+         else if ((active11 & 0x80000000000L) != 0L)
+            return jjStartNfaWithStates_4(4, 747, 78);
+         return jjMoveStringLiteralDfa5_4(active0, 0x1c10000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400020000000L);
       case 90:
       case 122:
          return jjMoveStringLiteralDfa5_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x6000000000000000L, active10, 0L, active11, 0L);
@@ -23531,7 +23541,7 @@ private final int jjMoveStringLiteralDfa5_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(5, 447, 78);
          else if ((active9 & 0x4000000L) != 0L)
             return jjStartNfaWithStates_4(5, 602, 78);
-         return jjMoveStringLiteralDfa6_4(active0, 0L, active1, 0xe008007f0L, active2, 0L, active3, 0x40000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x10000005004000L, active8, 0x400000000L, active9, 0x6L, active10, 0L, active11, 0x8000200000L);
+         return jjMoveStringLiteralDfa6_4(active0, 0L, active1, 0xe008007f0L, active2, 0L, active3, 0x40000L, active4, 0L, active5, 0L, active6, 0L, active7, 0x10000005004000L, active8, 0x400000000L, active9, 0x6L, active10, 0L, active11, 0x10000200000L);
       case 68:
       case 100:
          if ((active0 & 0x40000000000000L) != 0L)
@@ -23600,14 +23610,14 @@ private final int jjMoveStringLiteralDfa5_4(long old0, long active0, long old1,
       case 103:
          if ((active3 & 0x80000000000000L) != 0L)
             return jjStartNfaWithStates_4(5, 247, 78);
-         return jjMoveStringLiteralDfa6_4(active0, 0L, active1, 0L, active2, 0L, active3, 0x40000000L, active4, 0L, active5, 0x70000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x40000000L, active10, 0L, active11, 0x400000000L);
+         return jjMoveStringLiteralDfa6_4(active0, 0L, active1, 0L, active2, 0L, active3, 0x40000000L, active4, 0L, active5, 0x70000L, active6, 0L, active7, 0L, active8, 0L, active9, 0x40000000L, active10, 0L, active11, 0x800000000L);
       case 72:
       case 104:
          if ((active4 & 0x40000000000000L) != 0L)
             return jjStartNfaWithStates_4(5, 310, 78);
          else if ((active8 & 0x4L) != 0L)
             return jjStartNfaWithStates_4(5, 514, 78);
-         return jjMoveStringLiteralDfa6_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000L, active7, 0L, active8, 0x40000000000L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa6_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0x400000000L, active7, 0L, active8, 0x40000000000L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 73:
       case 105:
          return jjMoveStringLiteralDfa6_4(active0, 0x10000000L, active1, 0xc0000001000L, active2, 0x21c003800000f800L, active3, 0x2020008000008000L, active4, 0x3L, active5, 0x400000010000000L, active6, 0xc000000200800L, active7, 0x10208000L, active8, 0xe004000040L, active9, 0x1000000380L, active10, 0x4L, active11, 0x100000L);
@@ -23658,10 +23668,10 @@ private final int jjMoveStringLiteralDfa5_4(long old0, long active0, long old1,
          }
          else if ((active11 & 0x100L) != 0L)
             return jjStartNfaWithStates_4(5, 712, 78);
-         return jjMoveStringLiteralDfa6_4(active0, 0x8080000040000000L, active1, 0xff8010000e000000L, active2, 0x400a00000000007L, active3, 0x20000L, active4, 0x10000000030000L, active5, 0x88000400000L, active6, 0x478200000100L, active7, 0x8781f80000000L, active8, 0x3fff000000001000L, active9, 0x8000000000000000L, active10, 0xd00001004000000L, active11, 0x4200000000L);
+         return jjMoveStringLiteralDfa6_4(active0, 0x8080000040000000L, active1, 0xff8010000e000000L, active2, 0x400a00000000007L, active3, 0x20000L, active4, 0x10000000030000L, active5, 0x88000400000L, active6, 0x478200000100L, active7, 0x8781f80000000L, active8, 0x3fff000000001000L, active9, 0x8000000000000000L, active10, 0xd00001004000000L, active11, 0x8400000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa6_4(active0, 0x3000000000000000L, active1, 0L, active2, 0x80000100000L, active3, 0L, active4, 0x1800000000L, active5, 0x1L, active6, 0x2000000000000L, active7, 0x161000000000000L, active8, 0xc000420000030020L, active9, 0x6000000000000001L, active10, 0x3040000200000000L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa6_4(active0, 0x3000000000000000L, active1, 0L, active2, 0x80000100000L, active3, 0L, active4, 0x1800000000L, active5, 0x1L, active6, 0x2000000000000L, active7, 0x161000000000000L, active8, 0xc000420000030020L, active9, 0x6000000000000001L, active10, 0x3040000200000000L, active11, 0x1000000000L);
       case 80:
       case 112:
          if ((active7 & 0x40000000000L) != 0L)
@@ -23709,7 +23719,7 @@ private final int jjMoveStringLiteralDfa5_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(5, 398, 78);
          else if ((active10 & 0x10000000000000L) != 0L)
             return jjStartNfaWithStates_4(5, 692, 78);
-         return jjMoveStringLiteralDfa6_4(active0, 0L, active1, 0x800000010000L, active2, 0L, active3, 0x200000000L, active4, 0x4000304000L, active5, 0x400300000L, active6, 0x80000000000000L, active7, 0x5e0100L, active8, 0L, active9, 0x10000000ffc00L, active10, 0x8000000000000000L, active11, 0x180000000000L);
+         return jjMoveStringLiteralDfa6_4(active0, 0L, active1, 0x800000010000L, active2, 0L, active3, 0x200000000L, active4, 0x4000304000L, active5, 0x400300000L, active6, 0x80000000000000L, active7, 0x5e0100L, active8, 0L, active9, 0x10000000ffc00L, active10, 0x8000000000000000L, active11, 0x300000000000L);
       case 84:
       case 116:
          if ((active0 & 0x20L) != 0L)
@@ -23748,7 +23758,7 @@ private final int jjMoveStringLiteralDfa5_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(5, 675, 78);
          else if ((active10 & 0x8000000000L) != 0L)
             return jjStartNfaWithStates_4(5, 679, 78);
-         return jjMoveStringLiteralDfa6_4(active0, 0x4000020000000L, active1, 0x1e07c0000L, active2, 0x400000000400L, active3, 0x100000001100L, active4, 0xc000000010000000L, active5, 0L, active6, 0x100080000000L, active7, 0x800000L, active8, 0x400L, active9, 0x1f80040080000000L, active10, 0L, active11, 0x10000000000L);
+         return jjMoveStringLiteralDfa6_4(active0, 0x4000020000000L, active1, 0x1e07c0000L, active2, 0x400000000400L, active3, 0x100000001100L, active4, 0xc000000010000000L, active5, 0L, active6, 0x100080000000L, active7, 0x800000L, active8, 0x400L, active9, 0x1f80040080000000L, active10, 0L, active11, 0x20000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa6_4(active0, 0x40000000040L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x2000000000000L, active8, 0L, active9, 0x8L, active10, 0L, active11, 0x200L);
@@ -23778,7 +23788,7 @@ private final int jjMoveStringLiteralDfa5_4(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa6_4(active0, 0L, active1, 0L, active2, 0x40000L, active3, 0L, active4, 0x80000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 90:
       case 122:
-         return jjMoveStringLiteralDfa6_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x200000000000L);
+         return jjMoveStringLiteralDfa6_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
       default :
          break;
    }
@@ -23803,7 +23813,7 @@ private final int jjMoveStringLiteralDfa6_4(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa7_4(active0, 0L, active1, 0x2000000L, active2, 0x10L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x1000000000000000L, active8, 0x8000L, active9, 0x300058000000L, active10, 0L, active11, 0x100000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa7_4(active0, 0x80000000400000L, active1, 0x1f000000000L, active2, 0x8000000L, active3, 0x20001L, active4, 0x2008000400003L, active5, 0x8000000000L, active6, 0L, active7, 0x90000000800000L, active8, 0x40000000000L, active9, 0x1f0b000000000070L, active10, 0x100000000000e00L, active11, 0x400010000000L);
+         return jjMoveStringLiteralDfa7_4(active0, 0x80000000400000L, active1, 0x1f000000000L, active2, 0x8000000L, active3, 0x20001L, active4, 0x2008000400003L, active5, 0x8000000000L, active6, 0L, active7, 0x90000000800000L, active8, 0x40000000000L, active9, 0x1f0b000000000070L, active10, 0x100000000000e00L, active11, 0x800010000000L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa7_4(active0, 0L, active1, 0L, active2, 0x8000000000L, active3, 0L, active4, 0x1800000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x20L);
@@ -23867,12 +23877,12 @@ private final int jjMoveStringLiteralDfa6_4(long old0, long active0, long old1,
          }
          else if ((active10 & 0x2000000L) != 0L)
             return jjStartNfaWithStates_4(6, 665, 78);
-         else if ((active11 & 0x8000000000L) != 0L)
-            return jjStartNfaWithStates_4(6, 743, 78);
          else if ((active11 & 0x10000000000L) != 0L)
             return jjStartNfaWithStates_4(6, 744, 78);
-         else if ((active11 & 0x200000000000L) != 0L)
-            return jjStartNfaWithStates_4(6, 749, 78);
+         else if ((active11 & 0x20000000000L) != 0L)
+            return jjStartNfaWithStates_4(6, 745, 78);
+         else if ((active11 & 0x400000000000L) != 0L)
+            return jjStartNfaWithStates_4(6, 750, 78);
          return jjMoveStringLiteralDfa7_4(active0, 0x200000000000000L, active1, 0x8L, active2, 0x8000000010060000L, active3, 0x200000000L, active4, 0x400000000300084L, active5, 0x1000000410372000L, active6, 0x2020000000000000L, active7, 0x700780000000L, active8, 0x400000000L, active9, 0x2000000L, active10, 0x3c1000000000L, active11, 0x8a000008L);
       case 70:
       case 102:
@@ -23898,19 +23908,19 @@ private final int jjMoveStringLiteralDfa6_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(6, 499, 78);
          else if ((active10 & 0x800000000000000L) != 0L)
             return jjStartNfaWithStates_4(6, 699, 78);
-         else if ((active11 & 0x200000000L) != 0L)
-            return jjStartNfaWithStates_4(6, 737, 78);
+         else if ((active11 & 0x400000000L) != 0L)
+            return jjStartNfaWithStates_4(6, 738, 78);
          return jjMoveStringLiteralDfa7_4(active0, 0x2000000000000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0x400000000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0x2000000000L, active9, 0L, active10, 0L, active11, 0x800000L);
       case 72:
       case 104:
          if ((active0 & 0x4000000000000L) != 0L)
             return jjStartNfaWithStates_4(6, 50, 78);
-         else if ((active11 & 0x100000000000L) != 0L)
-            return jjStartNfaWithStates_4(6, 748, 78);
+         else if ((active11 & 0x200000000000L) != 0L)
+            return jjStartNfaWithStates_4(6, 749, 78);
          return jjMoveStringLiteralDfa7_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0x2L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa7_4(active0, 0x1020000000L, active1, 0x400001c0780000L, active2, 0x40000000200L, active3, 0x8000500L, active4, 0xc000000010004040L, active5, 0x3000000000000L, active6, 0xc0000080000000L, active7, 0x100000800000100L, active8, 0x1c0002400L, active9, 0x400060000ffc00L, active10, 0x18000000L, active11, 0x400200000L);
+         return jjMoveStringLiteralDfa7_4(active0, 0x1020000000L, active1, 0x400001c0780000L, active2, 0x40000000200L, active3, 0x8000500L, active4, 0xc000000010004040L, active5, 0x3000000000000L, active6, 0xc0000080000000L, active7, 0x100000800000100L, active8, 0x1c0002400L, active9, 0x400060000ffc00L, active10, 0x18000000L, active11, 0x800200000L);
       case 76:
       case 108:
          if ((active2 & 0x800000L) != 0L)
@@ -24004,7 +24014,7 @@ private final int jjMoveStringLiteralDfa6_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(6, 697, 78);
          else if ((active11 & 0x800L) != 0L)
             return jjStartNfaWithStates_4(6, 715, 78);
-         return jjMoveStringLiteralDfa7_4(active0, 0L, active1, 0L, active2, 0x400000400L, active3, 0x100400000002L, active4, 0x300000000L, active5, 0x200L, active6, 0x400000000L, active7, 0x40000000000004L, active8, 0L, active9, 0x80040000300000L, active10, 0x5c000L, active11, 0x800000000L);
+         return jjMoveStringLiteralDfa7_4(active0, 0L, active1, 0L, active2, 0x400000400L, active3, 0x100400000002L, active4, 0x300000000L, active5, 0x200L, active6, 0x400000000L, active7, 0x40000000000004L, active8, 0L, active9, 0x80040000300000L, active10, 0x5c000L, active11, 0x1000000000L);
       case 83:
       case 115:
          if ((active5 & 0x40L) != 0L)
@@ -24064,10 +24074,10 @@ private final int jjMoveStringLiteralDfa6_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(6, 698, 78);
          else if ((active11 & 0x200L) != 0L)
             return jjStartNfaWithStates_4(6, 713, 78);
-         return jjMoveStringLiteralDfa7_4(active0, 0x90002040L, active1, 0xff00000c200007f0L, active2, 0x4000007L, active3, 0x2000080000000000L, active4, 0x20100L, active5, 0L, active6, 0x7003f800000L, active7, 0L, active8, 0x3fff100800000840L, active9, 0x1400000000L, active10, 0x100000L, active11, 0x80024140000L);
+         return jjMoveStringLiteralDfa7_4(active0, 0x90002040L, active1, 0xff00000c200007f0L, active2, 0x4000007L, active3, 0x2000080000000000L, active4, 0x20100L, active5, 0L, active6, 0x7003f800000L, active7, 0L, active8, 0x3fff100800000840L, active9, 0x1400000000L, active10, 0x100000L, active11, 0x100024140000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa7_4(active0, 0xc00000000L, active1, 0x120000000000L, active2, 0L, active3, 0L, active4, 0x2000000000L, active5, 0x4000800L, active6, 0x4000000000000000L, active7, 0x1000000000000L, active8, 0x400000000000L, active9, 0x80000000L, active10, 0L, active11, 0x4000000000L);
+         return jjMoveStringLiteralDfa7_4(active0, 0xc00000000L, active1, 0x120000000000L, active2, 0L, active3, 0L, active4, 0x2000000000L, active5, 0x4000800L, active6, 0x4000000000000000L, active7, 0x1000000000000L, active8, 0x400000000000L, active9, 0x80000000L, active10, 0L, active11, 0x8000000000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa7_4(active0, 0L, active1, 0L, active2, 0L, active3, 0x1000000L, active4, 0L, active5, 0L, active6, 0x200000000000000L, active7, 0x203000L, active8, 0L, active9, 0L, active10, 0x2L, active11, 0L);
@@ -24135,8 +24145,8 @@ private final int jjMoveStringLiteralDfa7_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(7, 156, 78);
          else if ((active10 & 0x1000000000L) != 0L)
             return jjStartNfaWithStates_4(7, 676, 78);
-         else if ((active11 & 0x800000000L) != 0L)
-            return jjStartNfaWithStates_4(7, 739, 78);
+         else if ((active11 & 0x1000000000L) != 0L)
+            return jjStartNfaWithStates_4(7, 740, 78);
          return jjMoveStringLiteralDfa8_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x40000780000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 69:
       case 101:
@@ -24212,7 +24222,7 @@ private final int jjMoveStringLiteralDfa7_4(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa8_4(active0, 0L, active1, 0L, active2, 0L, active3, 0x100000000000000L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa8_4(active0, 0x10000000L, active1, 0x1fc00001000L, active2, 0L, active3, 0L, active4, 0x400020000L, active5, 0x400000L, active6, 0x30000202000L, active7, 0L, active8, 0x203000000000L, active9, 0x40400000000L, active10, 0x2000000000000000L, active11, 0x80000000000L);
+         return jjMoveStringLiteralDfa8_4(active0, 0x10000000L, active1, 0x1fc00001000L, active2, 0L, active3, 0L, active4, 0x400020000L, active5, 0x400000L, active6, 0x30000202000L, active7, 0L, active8, 0x203000000000L, active9, 0x40400000000L, active10, 0x2000000000000000L, active11, 0x100000000000L);
       case 74:
       case 106:
          return jjMoveStringLiteralDfa8_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0x1800000000L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -24246,10 +24256,10 @@ private final int jjMoveStringLiteralDfa7_4(long old0, long active0, long old1,
             jjmatchedKind = 434;
             jjmatchedPos = 7;
          }
-         return jjMoveStringLiteralDfa8_4(active0, 0L, active1, 0x2000008L, active2, 0x40000000010L, active3, 0x8000400L, active4, 0xc4L, active5, 0x1000000000000000L, active6, 0x48000000000000L, active7, 0x1101000800000000L, active8, 0x8000L, active9, 0x6002000000L, active10, 0L, active11, 0x400400000000L);
+         return jjMoveStringLiteralDfa8_4(active0, 0L, active1, 0x2000008L, active2, 0x40000000010L, active3, 0x8000400L, active4, 0xc4L, active5, 0x1000000000000000L, active6, 0x48000000000000L, active7, 0x1101000800000000L, active8, 0x8000L, active9, 0x6002000000L, active10, 0L, active11, 0x800800000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa8_4(active0, 0x20800000L, active1, 0x28001c0780000L, active2, 0L, active3, 0x10000400000100L, active4, 0x4010000100L, active5, 0x4000000080L, active6, 0x80000480000000L, active7, 0x20000L, active8, 0x800L, active9, 0x4L, active10, 0L, active11, 0x4000000000L);
+         return jjMoveStringLiteralDfa8_4(active0, 0x20800000L, active1, 0x28001c0780000L, active2, 0L, active3, 0x10000400000100L, active4, 0x4010000100L, active5, 0x4000000080L, active6, 0x80000480000000L, active7, 0x20000L, active8, 0x800L, active9, 0x4L, active10, 0L, active11, 0x8000000000L);
       case 80:
       case 112:
          if ((active10 & 0x80000000000000L) != 0L)
@@ -24365,7 +24375,7 @@ private final int jjMoveStringLiteralDfa8_4(long old0, long active0, long old1,
       case 99:
          if ((active9 & 0x40000000000L) != 0L)
             return jjStartNfaWithStates_4(8, 618, 78);
-         return jjMoveStringLiteralDfa9_4(active0, 0L, active1, 0x100000000000000L, active2, 0x200000000000L, active3, 0L, active4, 0L, active5, 0x1000000000000200L, active6, 0L, active7, 0x100000000000L, active8, 0L, active9, 0x10L, active10, 0x4000L, active11, 0x80000000020L);
+         return jjMoveStringLiteralDfa9_4(active0, 0L, active1, 0x100000000000000L, active2, 0x200000000000L, active3, 0L, active4, 0L, active5, 0x1000000000000200L, active6, 0L, active7, 0x100000000000L, active8, 0L, active9, 0x10L, active10, 0x4000L, active11, 0x100000000020L);
       case 68:
       case 100:
          if ((active1 & 0x20000000L) != 0L)
@@ -24443,9 +24453,9 @@ private final int jjMoveStringLiteralDfa8_4(long old0, long active0, long old1,
             jjmatchedKind = 613;
             jjmatchedPos = 8;
          }
-         else if ((active11 & 0x400000000L) != 0L)
-            return jjStartNfaWithStates_4(8, 738, 78);
-         return jjMoveStringLiteralDfa9_4(active0, 0L, active1, 0x8L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000000000L, active9, 0x4040000000L, active10, 0L, active11, 0x400000000000L);
+         else if ((active11 & 0x800000000L) != 0L)
+            return jjStartNfaWithStates_4(8, 739, 78);
+         return jjMoveStringLiteralDfa9_4(active0, 0L, active1, 0x8L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1000000000000L, active9, 0x4040000000L, active10, 0L, active11, 0x800000000000L);
       case 72:
       case 104:
          return jjMoveStringLiteralDfa9_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x1L, active9, 0x201000L, active10, 0L, active11, 0L);
@@ -24557,7 +24567,7 @@ private final int jjMoveStringLiteralDfa8_4(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa9_4(active0, 0L, active1, 0x8000020000000000L, active2, 0x100003L, active3, 0L, active4, 0x200004L, active5, 0x40000L, active6, 0x2000L, active7, 0x4000000000000000L, active8, 0x500000000L, active9, 0x1000000000L, active10, 0x8000000L, active11, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa9_4(active0, 0L, active1, 0L, active2, 0x4L, active3, 0L, active4, 0x2008000000000L, active5, 0x400000L, active6, 0x400000000L, active7, 0L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0x4010000000L);
+         return jjMoveStringLiteralDfa9_4(active0, 0L, active1, 0L, active2, 0x4L, active3, 0L, active4, 0x2008000000000L, active5, 0x400000L, active6, 0x400000000L, active7, 0L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0x8010000000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa9_4(active0, 0x10000000L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0xc000000000000000L, active9, 0x1L, active10, 0L, active11, 0L);
@@ -24660,7 +24670,7 @@ private final int jjMoveStringLiteralDfa9_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(9, 730, 78);
          else if ((active11 & 0x10000000L) != 0L)
             return jjStartNfaWithStates_4(9, 732, 78);
-         return jjMoveStringLiteralDfa10_4(active0, 0L, active1, 0x400000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000050000L, active6, 0x30000000000L, active7, 0x20000000000000L, active8, 0x1000000000001L, active9, 0x2004000e0000L, active10, 0x8000000L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa10_4(active0, 0L, active1, 0x400000000000000L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000050000L, active6, 0x30000000000L, active7, 0x20000000000000L, active8, 0x1000000000001L, active9, 0x2004000e0000L, active10, 0x8000000L, active11, 0x800000000000L);
       case 71:
       case 103:
          if ((active6 & 0x200000L) != 0L)
@@ -24732,10 +24742,10 @@ private final int jjMoveStringLiteralDfa9_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(9, 458, 78);
          else if ((active10 & 0x100L) != 0L)
             return jjStartNfaWithStates_4(9, 648, 78);
-         else if ((active11 & 0x4000000000L) != 0L)
-            return jjStartNfaWithStates_4(9, 742, 78);
-         else if ((active11 & 0x80000000000L) != 0L)
-            return jjStartNfaWithStates_4(9, 747, 78);
+         else if ((active11 & 0x8000000000L) != 0L)
+            return jjStartNfaWithStates_4(9, 743, 78);
+         else if ((active11 & 0x100000000000L) != 0L)
+            return jjStartNfaWithStates_4(9, 748, 78);
          return jjMoveStringLiteralDfa10_4(active0, 0L, active1, 0x80000000000L, active2, 0x40000000004L, active3, 0L, active4, 0x8000000000000000L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0x20000L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
@@ -24819,7 +24829,7 @@ private final int jjMoveStringLiteralDfa10_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(10, 341, 78);
          else if ((active10 & 0x8000000L) != 0L)
             return jjStartNfaWithStates_4(10, 667, 78);
-         return jjMoveStringLiteralDfa11_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0xa00000000000000L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa11_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0xa00000000000000L, active10, 0L, active11, 0x800000000000L);
       case 69:
       case 101:
          if ((active0 & 0x10000000000L) != 0L)
@@ -24971,7 +24981,7 @@ private final int jjMoveStringLiteralDfa11_4(long old0, long active0, long old1,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa12_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa12_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0x1000000000000000L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 65:
       case 97:
          if ((active8 & 0x1L) != 0L)
@@ -25173,7 +25183,7 @@ private final int jjMoveStringLiteralDfa12_4(long old0, long active0, long old1,
       case 112:
          if ((active9 & 0x100L) != 0L)
             return jjStartNfaWithStates_4(12, 584, 78);
-         return jjMoveStringLiteralDfa13_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x8000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa13_4(active0, 0L, active1, 0L, active2, 0L, active3, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0x8000L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 82:
       case 114:
          if ((active9 & 0x2000000000000000L) != 0L)
@@ -25219,7 +25229,7 @@ private final int jjMoveStringLiteralDfa13_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(13, 494, 78);
          else if ((active10 & 0x10000L) != 0L)
             return jjStartNfaWithStates_4(13, 656, 78);
-         return jjMoveStringLiteralDfa14_4(active0, 0x800000L, active1, 0x100000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000000L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa14_4(active0, 0x800000L, active1, 0x100000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000000L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa14_4(active0, 0L, active1, 0x100000000L, active2, 0L, active4, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -25387,7 +25397,7 @@ private final int jjMoveStringLiteralDfa14_4(long old0, long active0, long old1,
             return jjStartNfaWithStates_4(14, 575, 78);
          else if ((active9 & 0x10000L) != 0L)
             return jjStartNfaWithStates_4(14, 592, 78);
-         return jjMoveStringLiteralDfa15_4(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa15_4(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000000000L);
       case 83:
       case 115:
          if ((active1 & 0x200L) != 0L)
@@ -25489,7 +25499,7 @@ private final int jjMoveStringLiteralDfa15_4(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa16_4(active0, 0L, active1, 0L, active2, 0x2L, active5, 0L, active6, 0L, active7, 0L, active8, 0x4000000000000000L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa16_4(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa16_4(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0x400000000L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa16_4(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0xe0000000000000L, active9, 0L, active10, 0L, active11, 0L);
@@ -25542,7 +25552,7 @@ private final int jjMoveStringLiteralDfa16_4(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa17_4(active0, 0L, active1, 0x100L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa17_4(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0x38000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa17_4(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0x38000000L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0x800000000000L);
       case 76:
       case 108:
          return jjMoveStringLiteralDfa17_4(active0, 0L, active1, 0L, active2, 0x6000L, active5, 0L, active6, 0x4000000L, active7, 0x80000000L, active8, 0L, active9, 0L, active10, 0x40L, active11, 0L);
@@ -25642,7 +25652,7 @@ private final int jjMoveStringLiteralDfa17_4(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa18_4(active0, 0L, active1, 0x400000000000000L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa18_4(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x31c000000000000L, active9, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa18_4(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0x31c000000000000L, active9, 0L, active10, 0L, active11, 0x800000400000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa18_4(active0, 0L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0x10L, active11, 0L);
@@ -25694,7 +25704,7 @@ private final int jjMoveStringLiteralDfa18_4(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa19_4(active0, 0L, active1, 0L, active2, 0x2L, active5, 0L, active6, 0L, active7, 0x200000000L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa19_4(active0, 0x1000000L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa19_4(active0, 0x1000000L, active1, 0L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0x800000400000L);
       case 76:
       case 108:
          return jjMoveStringLiteralDfa19_4(active0, 0L, active1, 0x40L, active2, 0L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active9, 0L, active10, 0L, active11, 0L);
@@ -25755,7 +25765,7 @@ private final int jjMoveStringLiteralDfa19_4(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa20_4(active0, 0L, active1, 0x400000000000000L, active2, 0L, active5, 0L, active6, 0x10000000L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa20_4(active0, 0L, active1, 0x40L, active2, 0x2000L, active5, 0L, active6, 0x4000000L, active7, 0L, active8, 0x20c0000000000000L, active10, 0x80000000000L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa20_4(active0, 0L, active1, 0x40L, active2, 0x2000L, active5, 0L, active6, 0x4000000L, active7, 0L, active8, 0x20c0000000000000L, active10, 0x80000000000L, active11, 0x800000400000L);
       case 82:
       case 114:
          return jjMoveStringLiteralDfa20_4(active0, 0L, active1, 0L, active2, 0x4002L, active5, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
@@ -25822,7 +25832,7 @@ private final int jjMoveStringLiteralDfa20_4(long old0, long active0, long old1,
          return jjMoveStringLiteralDfa21_4(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0x8000000000000L, active10, 0x100000000000L, active11, 0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa21_4(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa21_4(active0, 0L, active1, 0L, active2, 0L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0x800000400000L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa21_4(active0, 0L, active1, 0L, active2, 0x2L, active6, 0L, active7, 0L, active8, 0L, active10, 0L, active11, 0L);
@@ -25854,7 +25864,7 @@ private final int jjMoveStringLiteralDfa21_4(long old0, long active0, long old1,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa22_4(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa22_4(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000400000L);
       case 65:
       case 97:
          return jjMoveStringLiteralDfa22_4(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0x40000000040L, active11, 0L);
@@ -25948,7 +25958,7 @@ private final int jjMoveStringLiteralDfa22_4(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa23_4(active1, 0L, active2, 0x2L, active6, 0L, active8, 0L, active10, 0L, active11, 0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa23_4(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa23_4(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000000000L);
       case 84:
       case 116:
          return jjMoveStringLiteralDfa23_4(active1, 0L, active2, 0L, active6, 0x4000000L, active8, 0L, active10, 0L, active11, 0L);
@@ -26000,7 +26010,7 @@ private final int jjMoveStringLiteralDfa23_4(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa24_4(active1, 0L, active2, 0L, active6, 0L, active8, 0x2040000000000000L, active10, 0L, active11, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa24_4(active1, 0L, active2, 0L, active6, 0L, active8, 0x10000000000000L, active10, 0x40000000000L, active11, 0x400000400000L);
+         return jjMoveStringLiteralDfa24_4(active1, 0L, active2, 0L, active6, 0L, active8, 0x10000000000000L, active10, 0x40000000000L, active11, 0x800000400000L);
       case 82:
       case 114:
          if ((active8 & 0x4000000000000L) != 0L)
@@ -26067,7 +26077,7 @@ private final int jjMoveStringLiteralDfa24_4(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa25_4(active1, 0L, active2, 0L, active6, 0L, active8, 0x40000000000000L, active10, 0L, active11, 0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa25_4(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa25_4(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active10, 0L, active11, 0x800000000000L);
       default :
          break;
    }
@@ -26121,7 +26131,7 @@ private final int jjMoveStringLiteralDfa25_4(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa26_4(active1, 0L, active2, 0x4002L, active6, 0L, active8, 0L, active11, 0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa26_4(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa26_4(active1, 0L, active2, 0L, active6, 0L, active8, 0L, active11, 0x800000000000L);
       case 84:
       case 116:
          return jjMoveStringLiteralDfa26_4(active1, 0L, active2, 0L, active6, 0L, active8, 0x40000000000000L, active11, 0L);
@@ -26142,7 +26152,7 @@ private final int jjMoveStringLiteralDfa26_4(long old1, long active1, long old2,
    switch(curChar)
    {
       case 95:
-         return jjMoveStringLiteralDfa27_4(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa27_4(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 68:
       case 100:
          if ((active8 & 0x80000000000000L) != 0L)
@@ -26190,7 +26200,7 @@ private final int jjMoveStringLiteralDfa27_4(long old1, long active1, long old2,
          return jjMoveStringLiteralDfa28_4(active1, 0L, active2, 0L, active8, 0x200000000000000L, active11, 0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa28_4(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa28_4(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 82:
       case 114:
          return jjMoveStringLiteralDfa28_4(active1, 0x400000000000000L, active2, 0L, active8, 0L, active11, 0L);
@@ -26217,7 +26227,7 @@ private final int jjMoveStringLiteralDfa28_4(long old1, long active1, long old2,
          break;
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa29_4(active1, 0L, active2, 0L, active8, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa29_4(active1, 0L, active2, 0L, active8, 0L, active11, 0x800000000000L);
       case 79:
       case 111:
          return jjMoveStringLiteralDfa29_4(active1, 0x400000000000000L, active2, 0L, active8, 0L, active11, 0L);
@@ -26242,7 +26252,7 @@ private final int jjMoveStringLiteralDfa29_4(long old1, long active1, long old2,
    {
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa30_4(active1, 0L, active2, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa30_4(active1, 0L, active2, 0L, active11, 0x800000000000L);
       case 85:
       case 117:
          return jjMoveStringLiteralDfa30_4(active1, 0x400000000000000L, active2, 0L, active11, 0L);
@@ -26267,7 +26277,7 @@ private final int jjMoveStringLiteralDfa30_4(long old1, long active1, long old2,
    {
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa31_4(active1, 0L, active2, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa31_4(active1, 0L, active2, 0L, active11, 0x800000000000L);
       case 80:
       case 112:
          if ((active1 & 0x400000000000000L) != 0L)
@@ -26293,7 +26303,7 @@ private final int jjMoveStringLiteralDfa31_4(long old1, long active1, long old2,
       case 101:
          if ((active2 & 0x2L) != 0L)
             return jjStartNfaWithStates_4(31, 129, 78);
-         return jjMoveStringLiteralDfa32_4(active2, 0L, active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa32_4(active2, 0L, active11, 0x800000000000L);
       default :
          break;
    }
@@ -26312,7 +26322,7 @@ private final int jjMoveStringLiteralDfa32_4(long old2, long active2, long old11
    {
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa33_4(active11, 0x400000000000L);
+         return jjMoveStringLiteralDfa33_4(active11, 0x800000000000L);
       default :
          break;
    }
@@ -26331,8 +26341,8 @@ private final int jjMoveStringLiteralDfa33_4(long old11, long active11)
    {
       case 84:
       case 116:
-         if ((active11 & 0x400000000000L) != 0L)
-            return jjStartNfaWithStates_4(33, 750, 78);
+         if ((active11 & 0x800000000000L) != 0L)
+            return jjStartNfaWithStates_4(33, 751, 78);
          break;
       default :
          break;
@@ -26363,8 +26373,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjCheckNAddStates(62, 64);
                   else if (curChar == 34)
                   {
-                     if (kind > 764)
-                        kind = 764;
+                     if (kind > 765)
+                        kind = 765;
                   }
                   break;
                case 58:
@@ -26372,45 +26382,31 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjCheckNAddStates(65, 67);
                   else if (curChar == 39)
                   {
-                     if (kind > 765)
-                        kind = 765;
+                     if (kind > 766)
+                        kind = 766;
                   }
                   if ((0xfc00f7faffffc9ffL & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 59;
                   break;
-               case 1:
-                  if ((0x7ff601000000000L & l) != 0L)
-                     jjCheckNAddTwoStates(25, 26);
-                  else if (curChar == 39)
-                     jjCheckNAddStates(16, 18);
-                  if ((0x3ff201000000000L & l) != 0L)
-                  {
-                     if (kind > 823)
-                        kind = 823;
-                     jjCheckNAdd(23);
-                  }
-                  if ((0x3ff001000000000L & l) != 0L)
-                     jjCheckNAddStates(68, 70);
-                  if (curChar == 36)
-                     jjCheckNAdd(27);
-                  break;
                case 76:
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 754)
-                        kind = 754;
+                     if (kind > 755)
+                        kind = 755;
                      jjCheckNAdd(52);
                   }
                   if ((0x3ff000000000000L & l) != 0L)
                      jjCheckNAddTwoStates(51, 41);
                   break;
-               case 78:
+               case 1:
                   if ((0x7ff601000000000L & l) != 0L)
                      jjCheckNAddTwoStates(25, 26);
+                  else if (curChar == 39)
+                     jjCheckNAddStates(16, 18);
                   if ((0x3ff201000000000L & l) != 0L)
                   {
-                     if (kind > 823)
-                        kind = 823;
+                     if (kind > 824)
+                        kind = 824;
                      jjCheckNAdd(23);
                   }
                   if ((0x3ff001000000000L & l) != 0L)
@@ -26418,15 +26414,13 @@ private final int jjMoveNfa_4(int startState, int curPos)
                   if (curChar == 36)
                      jjCheckNAdd(27);
                   break;
-               case 31:
+               case 78:
                   if ((0x7ff601000000000L & l) != 0L)
                      jjCheckNAddTwoStates(25, 26);
-                  else if (curChar == 38)
-                     jjstateSet[jjnewStateCnt++] = 32;
                   if ((0x3ff201000000000L & l) != 0L)
                   {
-                     if (kind > 823)
-                        kind = 823;
+                     if (kind > 824)
+                        kind = 824;
                      jjCheckNAdd(23);
                   }
                   if ((0x3ff001000000000L & l) != 0L)
@@ -26444,11 +26438,27 @@ private final int jjMoveNfa_4(int startState, int curPos)
                   if (curChar == 32)
                      jjCheckNAddTwoStates(61, 62);
                   break;
+               case 31:
+                  if ((0x7ff601000000000L & l) != 0L)
+                     jjCheckNAddTwoStates(25, 26);
+                  else if (curChar == 38)
+                     jjstateSet[jjnewStateCnt++] = 32;
+                  if ((0x3ff201000000000L & l) != 0L)
+                  {
+                     if (kind > 824)
+                        kind = 824;
+                     jjCheckNAdd(23);
+                  }
+                  if ((0x3ff001000000000L & l) != 0L)
+                     jjCheckNAddStates(68, 70);
+                  if (curChar == 36)
+                     jjCheckNAdd(27);
+                  break;
                case 74:
                   if (curChar == 47)
                   {
-                     if (kind > 815)
-                        kind = 815;
+                     if (kind > 816)
+                        kind = 816;
                      jjCheckNAddStates(71, 73);
                   }
                   else if (curChar == 42)
@@ -26459,8 +26469,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjCheckNAddTwoStates(25, 26);
                   if ((0x3ff201000000000L & l) != 0L)
                   {
-                     if (kind > 823)
-                        kind = 823;
+                     if (kind > 824)
+                        kind = 824;
                      jjCheckNAdd(23);
                   }
                   if (curChar == 36)
@@ -26477,8 +26487,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjCheckNAddTwoStates(51, 52);
                   else if (curChar == 7)
                   {
-                     if (kind > 829)
-                        kind = 829;
+                     if (kind > 830)
+                        kind = 830;
                   }
                   else if (curChar == 45)
                      jjstateSet[jjnewStateCnt++] = 11;
@@ -26486,14 +26496,14 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjCheckNAddStates(62, 64);
                   if ((0x3ff000000000000L & l) != 0L)
                   {
-                     if (kind > 752)
-                        kind = 752;
+                     if (kind > 753)
+                        kind = 753;
                      jjCheckNAddStates(80, 86);
                   }
                   else if (curChar == 36)
                   {
-                     if (kind > 823)
-                        kind = 823;
+                     if (kind > 824)
+                        kind = 824;
                      jjCheckNAdd(23);
                   }
                   break;
@@ -26510,8 +26520,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 3;
                   break;
                case 5:
-                  if (curChar == 39 && kind > 758)
-                     kind = 758;
+                  if (curChar == 39 && kind > 759)
+                     kind = 759;
                   break;
                case 6:
                   if (curChar == 34)
@@ -26525,30 +26535,30 @@ private final int jjMoveNfa_4(int startState, int curPos)
                   jjCheckNAddStates(62, 64);
                   break;
                case 10:
-                  if (curChar == 34 && kind > 764)
-                     kind = 764;
+                  if (curChar == 34 && kind > 765)
+                     kind = 765;
                   break;
                case 11:
                   if (curChar != 45)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(71, 73);
                   break;
                case 12:
                   if ((0xffffffffffffdbffL & l) == 0L)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(71, 73);
                   break;
                case 13:
-                  if ((0x2400L & l) != 0L && kind > 815)
-                     kind = 815;
+                  if ((0x2400L & l) != 0L && kind > 816)
+                     kind = 816;
                   break;
                case 14:
-                  if (curChar == 10 && kind > 815)
-                     kind = 815;
+                  if (curChar == 10 && kind > 816)
+                     kind = 816;
                   break;
                case 15:
                   if (curChar == 13)
@@ -26565,15 +26575,15 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 22:
                   if (curChar != 36)
                      break;
-                  if (kind > 823)
-                     kind = 823;
+                  if (kind > 824)
+                     kind = 824;
                   jjCheckNAdd(23);
                   break;
                case 23:
                   if ((0x3ff201000000000L & l) == 0L)
                      break;
-                  if (kind > 823)
-                     kind = 823;
+                  if (kind > 824)
+                     kind = 824;
                   jjCheckNAdd(23);
                   break;
                case 24:
@@ -26591,8 +26601,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 27:
                   if (curChar != 36)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjCheckNAddTwoStates(27, 28);
                   break;
                case 28:
@@ -26602,8 +26612,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 29:
                   if ((0x3ff001000000000L & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjCheckNAdd(29);
                   break;
                case 32:
@@ -26623,25 +26633,25 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 34;
                   break;
                case 36:
-                  if (curChar == 34 && kind > 826)
-                     kind = 826;
+                  if (curChar == 34 && kind > 827)
+                     kind = 827;
                   break;
                case 37:
-                  if (curChar == 7 && kind > 829)
-                     kind = 829;
+                  if (curChar == 7 && kind > 830)
+                     kind = 830;
                   break;
                case 38:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 752)
-                     kind = 752;
+                  if (kind > 753)
+                     kind = 753;
                   jjCheckNAddStates(80, 86);
                   break;
                case 39:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 752)
-                     kind = 752;
+                  if (kind > 753)
+                     kind = 753;
                   jjCheckNAdd(39);
                   break;
                case 40:
@@ -26655,8 +26665,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 43:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 753)
-                     kind = 753;
+                  if (kind > 754)
+                     kind = 754;
                   jjCheckNAdd(43);
                   break;
                case 44:
@@ -26670,22 +26680,22 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 46:
                   if (curChar != 46)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(47);
                   break;
                case 47:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(47);
                   break;
                case 48:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAddStates(93, 95);
                   break;
                case 49:
@@ -26703,8 +26713,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 52:
                   if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 754)
-                     kind = 754;
+                  if (kind > 755)
+                     kind = 755;
                   jjCheckNAdd(52);
                   break;
                case 53:
@@ -26719,13 +26729,13 @@ private final int jjMoveNfa_4(int startState, int curPos)
                   jjCheckNAddStates(65, 67);
                   break;
                case 57:
-                  if (curChar == 39 && kind > 765)
-                     kind = 765;
-                  break;
-               case 59:
                   if (curChar == 39 && kind > 766)
                      kind = 766;
                   break;
+               case 59:
+                  if (curChar == 39 && kind > 767)
+                     kind = 767;
+                  break;
                case 61:
                   if (curChar == 32)
                      jjCheckNAddTwoStates(61, 62);
@@ -26751,14 +26761,14 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 73;
                   break;
                case 73:
-                  if ((0xffff7fffffffffffL & l) != 0L && kind > 813)
-                     kind = 813;
+                  if ((0xffff7fffffffffffL & l) != 0L && kind > 814)
+                     kind = 814;
                   break;
                case 75:
                   if (curChar != 47)
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjCheckNAddStates(71, 73);
                   break;
                default : break;
@@ -26793,8 +26803,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjCheckNAddStates(68, 70);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 823)
-                        kind = 823;
+                     if (kind > 824)
+                        kind = 824;
                      jjCheckNAdd(23);
                   }
                   break;
@@ -26805,20 +26815,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjCheckNAddStates(68, 70);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 823)
-                        kind = 823;
-                     jjCheckNAdd(23);
-                  }
-                  break;
-               case 31:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                     jjCheckNAddTwoStates(25, 26);
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                     jjCheckNAddStates(68, 70);
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                  {
-                     if (kind > 823)
-                        kind = 823;
+                     if (kind > 824)
+                        kind = 824;
                      jjCheckNAdd(23);
                   }
                   break;
@@ -26829,13 +26827,25 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjstateSet[jjnewStateCnt++] = 67;
                   else if ((0x1000000010L & l) != 0L)
                   {
-                     if (kind > 769)
-                        kind = 769;
+                     if (kind > 770)
+                        kind = 770;
                   }
                   if ((0x10000000100000L & l) != 0L)
                   {
-                     if (kind > 770)
-                        kind = 770;
+                     if (kind > 771)
+                        kind = 771;
+                  }
+                  break;
+               case 31:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     jjCheckNAddTwoStates(25, 26);
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     jjCheckNAddStates(68, 70);
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                  {
+                     if (kind > 824)
+                        kind = 824;
+                     jjCheckNAdd(23);
                   }
                   break;
                case 80:
@@ -26843,8 +26853,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjCheckNAddTwoStates(25, 26);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 823)
-                        kind = 823;
+                     if (kind > 824)
+                        kind = 824;
                      jjCheckNAdd(23);
                   }
                   break;
@@ -26857,8 +26867,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjCheckNAddStates(87, 89);
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
-                     if (kind > 823)
-                        kind = 823;
+                     if (kind > 824)
+                        kind = 824;
                      jjCheckNAdd(23);
                   }
                   if ((0x20000000200000L & l) != 0L)
@@ -26881,8 +26891,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                   jjCheckNAddStates(62, 64);
                   break;
                case 12:
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjAddStates(71, 73);
                   break;
                case 17:
@@ -26901,21 +26911,21 @@ private final int jjMoveNfa_4(int startState, int curPos)
                   jjCheckNAddStates(87, 89);
                   break;
                case 21:
-                  if (curChar == 96 && kind > 822)
-                     kind = 822;
+                  if (curChar == 96 && kind > 823)
+                     kind = 823;
                   break;
                case 22:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 823)
-                     kind = 823;
+                  if (kind > 824)
+                     kind = 824;
                   jjCheckNAdd(23);
                   break;
                case 23:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 823)
-                     kind = 823;
+                  if (kind > 824)
+                     kind = 824;
                   jjCheckNAdd(23);
                   break;
                case 24:
@@ -26929,15 +26939,15 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 27:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjAddStates(108, 109);
                   break;
                case 29:
                   if ((0x7fffffe87fffffeL & l) == 0L)
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjstateSet[jjnewStateCnt++] = 29;
                   break;
                case 30:
@@ -26967,32 +26977,32 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjAddStates(100, 107);
                   break;
                case 62:
-                  if ((0x1000000010L & l) != 0L && kind > 769)
-                     kind = 769;
+                  if ((0x1000000010L & l) != 0L && kind > 770)
+                     kind = 770;
                   break;
                case 64:
-                  if ((0x10000000100000L & l) != 0L && kind > 770)
-                     kind = 770;
+                  if ((0x10000000100000L & l) != 0L && kind > 771)
+                     kind = 771;
                   break;
                case 66:
                   if ((0x10000000100000L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 67;
                   break;
                case 67:
-                  if ((0x8000000080000L & l) != 0L && kind > 771)
-                     kind = 771;
+                  if ((0x8000000080000L & l) != 0L && kind > 772)
+                     kind = 772;
                   break;
                case 69:
                   if ((0x4000000040L & l) != 0L)
                      jjstateSet[jjnewStateCnt++] = 70;
                   break;
                case 70:
-                  if ((0x400000004000L & l) != 0L && kind > 772)
-                     kind = 772;
+                  if ((0x400000004000L & l) != 0L && kind > 773)
+                     kind = 773;
                   break;
                case 73:
-                  if (kind > 813)
-                     kind = 813;
+                  if (kind > 814)
+                     kind = 814;
                   break;
                default : break;
             }
@@ -27024,8 +27034,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 1:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 823)
-                        kind = 823;
+                     if (kind > 824)
+                        kind = 824;
                      jjCheckNAdd(23);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -27036,8 +27046,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 78:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 823)
-                        kind = 823;
+                     if (kind > 824)
+                        kind = 824;
                      jjCheckNAdd(23);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -27048,8 +27058,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 31:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 823)
-                        kind = 823;
+                     if (kind > 824)
+                        kind = 824;
                      jjCheckNAdd(23);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -27060,8 +27070,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 80:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 823)
-                        kind = 823;
+                     if (kind > 824)
+                        kind = 824;
                      jjCheckNAdd(23);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -27070,8 +27080,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 0:
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 823)
-                        kind = 823;
+                     if (kind > 824)
+                        kind = 824;
                      jjCheckNAdd(23);
                   }
                   if (jjCanMove_1(hiByte, i1, i2, l1, l2))
@@ -27084,8 +27094,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 12:
                   if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 815)
-                     kind = 815;
+                  if (kind > 816)
+                     kind = 816;
                   jjAddStates(71, 73);
                   break;
                case 18:
@@ -27096,15 +27106,15 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 22:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 823)
-                     kind = 823;
+                  if (kind > 824)
+                     kind = 824;
                   jjCheckNAdd(23);
                   break;
                case 23:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 823)
-                     kind = 823;
+                  if (kind > 824)
+                     kind = 824;
                   jjCheckNAdd(23);
                   break;
                case 24:
@@ -27118,15 +27128,15 @@ private final int jjMoveNfa_4(int startState, int curPos)
                case 27:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjAddStates(108, 109);
                   break;
                case 29:
                   if (!jjCanMove_1(hiByte, i1, i2, l1, l2))
                      break;
-                  if (kind > 825)
-                     kind = 825;
+                  if (kind > 826)
+                     kind = 826;
                   jjstateSet[jjnewStateCnt++] = 29;
                   break;
                case 33:
@@ -27139,8 +27149,8 @@ private final int jjMoveNfa_4(int startState, int curPos)
                      jjCheckNAddStates(65, 67);
                   break;
                case 73:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2) && kind > 813)
-                     kind = 813;
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2) && kind > 814)
+                     kind = 814;
                   break;
                default : break;
             }
@@ -27257,7 +27267,7 @@ null, null, null, null, null, null, null, null, null, null, null, null, null, nu
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
-null, null, null, null, null, null, null, null, null, null, null, null, "\50", 
+null, null, null, null, null, null, null, null, null, null, null, null, null, "\50", 
 "\51", null, null, null, null, "\173", "\175", "\133", "\135", "\73", "\56", "\54", 
 "\75", "\76", "\74", "\77", "\72", "\74\75", "\76\75", "\74\76", "\41\75", "\53", 
 "\55", "\55\76", "\52", "\57", "\45", "\174\174", "\75\76", "\56\56", "\47", "\42", 
@@ -27306,32 +27316,32 @@ public static final int[] jjnewLexState = {
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 5, 6, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-   -1, -1, -1, -1, -1, 
+   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 5, 6, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+   -1, -1, -1, -1, -1, -1, 
 };
 static final long[] jjtoToken = {
    0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 
    0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 
-   0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xf7c7ffffffffffffL, 
-   0x27f8183fffffffffL, 
+   0xffffffffffffffffL, 0xffffffffffffffffL, 0xffffffffffffffffL, 0xef8fffffffffffffL, 
+   0x4ff0307fffffffffL, 
 };
 static final long[] jjtoSkip = {
    0x0L, 0x0L, 0x0L, 0x0L, 
    0x0L, 0x0L, 0x0L, 0x0L, 
    0x0L, 0x0L, 0x0L, 0x0L, 
-   0x387c000000000L, 
+   0x70f8000000000L, 
 };
 static final long[] jjtoSpecial = {
    0x0L, 0x0L, 0x0L, 0x0L, 
    0x0L, 0x0L, 0x0L, 0x0L, 
    0x0L, 0x0L, 0x0L, 0x0L, 
-   0x3000000000000L, 
+   0x6000000000000L, 
 };
 static final long[] jjtoMore = {
    0x0L, 0x0L, 0x0L, 0x0L, 
    0x0L, 0x0L, 0x0L, 0x0L, 
    0x0L, 0x0L, 0x0L, 0x0L, 
-   0x4600000000000L, 
+   0x8c00000000000L, 
 };
 protected SimpleCharStream input_stream;
 private final int[] jjrounds = new int[94];
@@ -27478,18 +27488,18 @@ public Token getNextToken()
          jjmatchedKind = 0x7fffffff;
          jjmatchedPos = 0;
          curPos = jjMoveStringLiteralDfa0_5();
-         if (jjmatchedPos == 0 && jjmatchedKind > 818)
+         if (jjmatchedPos == 0 && jjmatchedKind > 819)
          {
-            jjmatchedKind = 818;
+            jjmatchedKind = 819;
          }
          break;
        case 6:
          jjmatchedKind = 0x7fffffff;
          jjmatchedPos = 0;
          curPos = jjMoveStringLiteralDfa0_6();
-         if (jjmatchedPos == 0 && jjmatchedKind > 818)
+         if (jjmatchedPos == 0 && jjmatchedKind > 819)
          {
-            jjmatchedKind = 818;
+            jjmatchedKind = 819;
          }
          break;
      }
@@ -27565,13 +27575,13 @@ void SkipLexicalActions(Token matchedToken)
 {
    switch(jjmatchedKind)
    {
-      case 816 :
+      case 817 :
          if (image == null)
             image = new StringBuffer();
          image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
                                        popState();
          break;
-      case 817 :
+      case 818 :
          if (image == null)
             image = new StringBuffer();
          image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
@@ -27586,14 +27596,14 @@ void MoreLexicalActions()
    jjimageLen += (lengthOfMatch = jjmatchedPos + 1);
    switch(jjmatchedKind)
    {
-      case 813 :
+      case 814 :
          if (image == null)
             image = new StringBuffer();
          image.append(input_stream.GetSuffix(jjimageLen));
          jjimageLen = 0;
                      pushState();
          break;
-      case 814 :
+      case 815 :
          if (image == null)
             image = new StringBuffer();
          image.append(input_stream.GetSuffix(jjimageLen));
@@ -27674,7 +27684,7 @@ void TokenLexicalActions(Token matchedToken)
             image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
                            afterTableName();
          break;
-      case 823 :
+      case 824 :
         if (image == null)
             image = new StringBuffer();
             image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
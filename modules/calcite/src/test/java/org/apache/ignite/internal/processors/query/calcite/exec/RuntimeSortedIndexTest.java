@@ -119,6 +119,7 @@ public class RuntimeSortedIndexTest extends GridCommonAbstractTest {
                 ArrayRowHandler.INSTANCE,
                 NoOpMemoryTracker.INSTANCE,
                 NoOpIoTracker.INSTANCE,
+                null,
                 0,
                 null,
                 null),
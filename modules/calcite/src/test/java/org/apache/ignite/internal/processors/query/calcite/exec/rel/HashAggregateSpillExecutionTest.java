@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.junit.After;
+import org.junit.Before;
+
+/**
+ * Hash aggregate execution test with spilling to disk on every row (sort and hash aggregate nodes are spilled).
+ */
+public class HashAggregateSpillExecutionTest extends HashAggregateExecutionTest {
+    /** */
+    private SpillManager spillMgr;
+
+    /** {@inheritDoc} */
+    @Before
+    @Override public void setup() throws Exception {
+        spillMgr = new SpillManager(1, U.defaultWorkDirectory(), createStandaloneBinaryMarshaller(),
+            getClass().getClassLoader(), null);
+
+        super.setup();
+    }
+
+    /** {@inheritDoc} */
+    @After
+    @Override public void tearDown() {
+        try {
+            super.tearDown();
+        }
+        finally {
+            spillMgr.stop();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override protected SpillManager spillManager() {
+        return spillMgr;
+    }
+}
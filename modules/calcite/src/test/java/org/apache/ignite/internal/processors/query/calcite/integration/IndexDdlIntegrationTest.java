@@ -22,14 +22,19 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import org.apache.ignite.internal.IgniteEx;
 import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndex;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndex;
 import org.apache.ignite.internal.processors.query.IgniteSQLException;
+import org.apache.ignite.internal.processors.query.calcite.QueryChecker;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.lang.IgnitePredicate;
 import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.junit.Test;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_REBUILD_SORT_BUFFER_SIZE;
+
 /** */
 public class IndexDdlIntegrationTest extends AbstractDdlIntegrationTest {
     /** Cache name. */
@@ -188,6 +193,155 @@ public class IndexDdlIntegrationTest extends AbstractDdlIntegrationTest {
         assertNotNull(findIndex(CACHE_NAME, "my_index"));
     }
 
+    /**
+     * Creates index on the filled table, rows are put to the index in the index order by portions.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_INDEX_REBUILD_SORT_BUFFER_SIZE, value = "100")
+    public void createIndexOnFilledTable() {
+        int cnt = 1000;
+
+        for (int i = 0; i < cnt; i++)
+            sql("insert into my_table values (?, ?, ?)", i, (i * 7) % cnt, "val" + i);
+
+        sql("create index my_index on my_table(val_int desc, val_str)");
+
+        QueryChecker checker = assertQuery("select id from my_table where val_int < 5 order by val_int desc")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", "MY_TABLE", "MY_INDEX"))
+            .ordered();
+
+        for (int val = 4; val >= 0; val--) {
+            for (int i = 0; i < cnt; i++) {
+                if ((i * 7) % cnt == val)
+                    checker.returns(i);
+            }
+        }
+
+        checker.check();
+
+        assertQuery("select count(*) from my_table where val_int >= 0")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", "MY_TABLE", "MY_INDEX"))
+            .returns((long)cnt)
+            .check();
+    }
+
+    /**
+     * Creates hash index, checks that it's used for equality lookups and is consistent with table updates.
+     */
+    @Test
+    public void createHashIndex() throws Exception {
+        int cnt = 1000;
+
+        for (int i = 0; i < cnt; i++)
+            sql("insert into my_table values (?, ?, ?)", i, i % 100, "val" + i);
+
+        sql("create hash index my_index on my_table(val_int, val_str)");
+
+        Index idx = findIndex(CACHE_NAME, "my_index");
+
+        assertTrue(idx instanceof HashIndex);
+
+        assertQuery("select id from my_table where val_int = ? and val_str = ?")
+            .withParams(7, "val507")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", "MY_TABLE", "MY_INDEX"))
+            .returns(507)
+            .check();
+
+        // Lookup by not all the index columns and range lookup are not supported by hash index.
+        assertQuery("select count(*) from my_table where val_int = 7")
+            .matches(QueryChecker.containsTableScan("PUBLIC", "MY_TABLE"))
+            .returns(10L)
+            .check();
+
+        assertQuery("select count(*) from my_table where val_int > 7 and val_str = 'val507'")
+            .matches(QueryChecker.containsTableScan("PUBLIC", "MY_TABLE"))
+            .returns(0L)
+            .check();
+
+        sql("update my_table set val_int = 1000 where id = 507");
+        sql("insert into my_table values (?, ?, ?)", cnt, 7, "val507");
+        sql("insert into my_table values (?, ?, ?)", cnt + 1, null, "val507");
+
+        assertQuery("select id from my_table where val_int = 7 and val_str = 'val507'")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", "MY_TABLE", "MY_INDEX"))
+            .returns(cnt)
+            .check();
+
+        assertQuery("select id from my_table where val_int = 1000 and val_str = 'val507'")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", "MY_TABLE", "MY_INDEX"))
+            .returns(507)
+            .check();
+
+        sql("delete from my_table where val_int = 1000 and val_str = 'val507'");
+
+        assertQuery("select id from my_table where val_int = 1000 and val_str = 'val507'")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", "MY_TABLE", "MY_INDEX"))
+            .check();
+
+        assertEquals(cnt + 1, idx.unwrap(HashIndex.class).totalCount());
+
+        sql("drop index my_index");
+
+        assertNull(findIndex(CACHE_NAME, "my_index"));
+    }
+
+    /**
+     * Creates index with included columns, checks that queries on the indexed and included columns are served by
+     * the index only and are consistent with table updates.
+     */
+    @Test
+    public void createIndexWithIncludedColumns() {
+        sql("create table my_table2(id int primary key, val_int int, val_int2 int, val_str varchar)");
+
+        for (int i = 0; i < 100; i++)
+            sql("insert into my_table2 values (?, ?, ?, ?)", i, i % 10, i, "val" + i);
+
+        sql("create index my_index on my_table2(val_int) include (val_int2)");
+
+        List<String> keys = new ArrayList<>(indexKeyDefinitions(findIndex("SQL_PUBLIC_MY_TABLE2", "my_index")).keySet());
+
+        // Included column follows the indexed column and the key column.
+        assertEquals(F.asList("VAL_INT", "_KEY", "VAL_INT2"), keys);
+
+        assertQuery("select sum(val_int2) from my_table2 where val_int = 7")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", "MY_TABLE2", "MY_INDEX"))
+            .matches(QueryChecker.containsSubPlan("inlineScan=[true]"))
+            .returns(520L)
+            .check();
+
+        sql("update my_table2 set val_int2 = val_int2 + 1000 where id = 17");
+        sql("delete from my_table2 where id = 27");
+
+        assertQuery("select id, val_int2 from my_table2 where val_int = 7 and val_int2 > 80")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", "MY_TABLE2", "MY_INDEX"))
+            .matches(QueryChecker.containsSubPlan("inlineScan=[true]"))
+            .returns(87, 87)
+            .returns(97, 97)
+            .returns(17, 1017)
+            .check();
+
+        assertQuery("select val_str from my_table2 where val_int = 7 and val_int2 = 1017")
+            .returns("val17")
+            .check();
+
+        GridTestUtils.assertThrowsAnyCause(log, () -> sql("alter table my_table2 drop column val_int2"),
+            IgniteSQLException.class, "because an index exists (\"MY_INDEX\") that uses the column");
+
+        GridTestUtils.assertThrowsAnyCause(log,
+            () -> sql("create index my_index2 on my_table2(val_int) include (not_exists)"),
+            IgniteSQLException.class, "Column doesn't exist: NOT_EXISTS");
+
+        GridTestUtils.assertThrowsAnyCause(log,
+            () -> sql("create index my_index2 on my_table2(val_int) include (val_int)"),
+            IllegalArgumentException.class, "Column already defined: VAL_INT");
+
+        GridTestUtils.assertThrowsAnyCause(log,
+            () -> sql("create hash index my_index2 on my_table2(val_int) include (val_int2)"),
+            IgniteSQLException.class, "Included columns are supported only for sorted indexes");
+
+        assertNull(findIndex("SQL_PUBLIC_MY_TABLE2", "my_index2"));
+    }
+
     /** */
     private Index findIndex(String cacheName, String idxName) {
         return F.find(indexes(cacheName), null, (IgnitePredicate<Index>)i -> idxName.equalsIgnoreCase(i.name()));
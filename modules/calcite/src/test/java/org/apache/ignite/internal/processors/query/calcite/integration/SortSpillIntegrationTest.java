@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.cache.query.FieldsQueryCursor;
+import org.apache.ignite.calcite.CalciteQueryEngineConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.SqlConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.query.IgniteSQLException;
+import org.apache.ignite.internal.processors.query.calcite.QueryChecker;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.junit.Test;
+
+/**
+ * Test sort of rows that don't fit into the query memory quota with spilling to disk.
+ */
+public class SortSpillIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    private static final long QRY_MEMORY_QUOTA = 1_000_000L;
+
+    /** */
+    private static final long SPILL_THRESHOLD = 10_000L;
+
+    /** */
+    private static final int ROWS = 2_000;
+
+    /** */
+    private static final int VAL_SIZE = 1_000;
+
+    /** {@inheritDoc} */
+    @Override protected int nodeCount() {
+        return 2;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName).setSqlConfiguration(
+            new SqlConfiguration().setQueryEnginesConfiguration(new CalciteQueryEngineConfiguration()
+                .setQueryMemoryQuota(QRY_MEMORY_QUOTA).setSpillThreshold(SPILL_THRESHOLD)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE tbl (id INT, grp INT, b VARBINARY) WITH TEMPLATE=REPLICATED");
+
+        List<Integer> ids = new ArrayList<>(ROWS);
+
+        for (int i = 0; i < ROWS; i++)
+            ids.add(i);
+
+        Collections.shuffle(ids);
+
+        for (int id : ids)
+            sql("INSERT INTO tbl VALUES (?, ?, ?)", id, id % 7, new byte[VAL_SIZE]);
+    }
+
+    /** */
+    @Test
+    public void testSortSpilledRuns() {
+        long spills = spillCount();
+
+        // Rows exceed the query memory quota, so the query succeeds only if rows are spilled to disk.
+        List<List<?>> res = fetch("SELECT id, b FROM tbl ORDER BY id");
+
+        assertEquals(ROWS, res.size());
+
+        for (int i = 0; i < ROWS; i++)
+            assertEquals(i, res.get(i).get(0));
+
+        // Count of spilled runs exceeds the count of runs merged at once (64), so runs are also merged before the flush.
+        assertTrue("Unexpected spills count: " + (spillCount() - spills), spillCount() - spills > 64);
+    }
+
+    /** */
+    @Test
+    public void testSortByMultipleColumnsSpilledRuns() {
+        long spills = spillCount();
+
+        List<List<?>> res = fetch("SELECT grp, id, b FROM tbl ORDER BY grp DESC, id");
+
+        assertEquals(ROWS, res.size());
+
+        for (int i = 1; i < ROWS; i++) {
+            List<?> prev = res.get(i - 1);
+            List<?> cur = res.get(i);
+
+            int prevGrp = (Integer)prev.get(0);
+            int curGrp = (Integer)cur.get(0);
+
+            assertTrue("Unexpected order [prev=" + prev + ", cur=" + cur + ']',
+                prevGrp > curGrp || (prevGrp == curGrp && (Integer)prev.get(1) < (Integer)cur.get(1)));
+        }
+
+        assertTrue(spillCount() - spills > 1);
+    }
+
+    /** */
+    @Test
+    public void testLimitedSortIsNotSpilled() {
+        long spills = spillCount();
+
+        assertQuery("SELECT id FROM tbl ORDER BY id LIMIT 3")
+            .matches(QueryChecker.containsSubPlan("IgniteSort"))
+            .returns(0).returns(1).returns(2)
+            .check();
+
+        assertEquals(spills, spillCount());
+
+        // Limited sort holds no more than limit rows and is not spilled, so the quota is still enforced.
+        assertThrows("SELECT id, b FROM tbl ORDER BY id LIMIT " + ROWS, IgniteSQLException.class,
+            "Query quota exceeded");
+    }
+
+    /**
+     * Fetches query results row by row, without tracking of the fetched rows by the query memory quota.
+     *
+     * @param sql Query.
+     * @return Query results without the last column, which is checked to be a value of the expected size.
+     */
+    private List<List<?>> fetch(String sql) {
+        List<List<?>> res = new ArrayList<>();
+
+        try (FieldsQueryCursor<List<?>> cur = queryProcessor(client).query(queryContext(), "PUBLIC", sql).get(0)) {
+            for (List<?> row : cur) {
+                assertEquals(VAL_SIZE, ((byte[])row.get(row.size() - 1)).length);
+
+                res.add(new ArrayList<>(row.subList(0, row.size() - 1)));
+            }
+        }
+
+        return res;
+    }
+
+    /** @return Count of spills performed by all nodes. */
+    private static long spillCount() {
+        long cnt = 0;
+
+        for (Ignite ignite : G.allGrids()) {
+            MetricRegistryImpl mreg = ((IgniteEx)ignite).context().metric().registry(SpillManager.SPILL_METRIC_GROUP_NAME);
+
+            LongMetric metric = mreg.findMetric("SpillCount");
+
+            if (metric != null)
+                cnt += metric.value();
+        }
+
+        return cnt;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cache.query.annotations.QuerySqlField;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.processors.cache.CacheObject;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.IgniteCacheOffheapManager.CacheDataStore;
+import org.apache.ignite.internal.processors.cache.ZoneMapRange;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.Test;
+
+/**
+ * Test table scans skipping data pages by the value field bounds.
+ */
+public class ZoneMapScanIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    private static final int KEYS = 10_000;
+
+    /** {@inheritDoc} */
+    @Override protected int nodeCount() {
+        return 1;
+    }
+
+    /** */
+    @Test
+    public void testScan() throws Exception {
+        IgniteCache<Integer, Event> cache = client.createCache(new CacheConfiguration<Integer, Event>("EVENTS")
+            .setIndexedTypes(Integer.class, Event.class)
+            .setSqlSchema("PUBLIC")
+            .setZoneMapFields("ts"));
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, new Event(1000L + i, "event" + i));
+
+        // Starts the zone maps build.
+        assertQuery("SELECT count(*) FROM Event WHERE ts >= 0").returns((long)KEYS).check();
+
+        List<ZoneMapRange> ranges = Collections.singletonList(new ZoneMapRange("ts", 1000L, true, 1009L, true));
+
+        assertTrue(GridTestUtils.waitForCondition(() -> rows(grid(0), ranges) < KEYS / 10, 10_000));
+
+        assertEquals(0, rows(grid(0), Collections.singletonList(new ZoneMapRange("ts", null, false, 1000L, false))));
+        assertEquals(KEYS, rows(grid(0), Collections.emptyList()));
+
+        for (int i = 0; i < 2; i++) {
+            assertQuery("SELECT name FROM Event WHERE ts BETWEEN ? AND ?").withParams(1000L, 1002L)
+                .returns("event0").returns("event1").returns("event2").check();
+
+            assertQuery("SELECT count(*) FROM Event WHERE ts > 10999").returns(0L).check();
+            assertQuery("SELECT name FROM Event WHERE ts = 10999").returns("event9999").check();
+            assertQuery("SELECT count(*) FROM Event WHERE ts < 1100 AND name IS NOT NULL").returns(100L).check();
+
+            // Rows written after the zone maps are built widen the bounds.
+            cache.put(0, new Event(20_000L, "moved"));
+            cache.put(KEYS, new Event(-1L, "new"));
+
+            assertQuery("SELECT name FROM Event WHERE ts > 10999").returns("moved").check();
+            assertQuery("SELECT name FROM Event WHERE ts < 1000").returns("new").check();
+
+            cache.put(0, new Event(1000L, "event0"));
+            cache.remove(KEYS);
+        }
+    }
+
+    /**
+     * Checks that the rows moved to other data pages by the concurrent updates are never skipped by the scans.
+     */
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        int hotKeys = 100;
+
+        client.createCache(new CacheConfiguration<Integer, Event>("EVENTS")
+            .setIndexedTypes(Integer.class, Event.class)
+            .setSqlSchema("PUBLIC")
+            .setAffinity(new RendezvousAffinityFunction(false, 4))
+            .setZoneMapFields("ts"));
+
+        IgniteCache<Integer, Event> cache = grid(0).cache("EVENTS");
+
+        // Hot rows always match the range, other rows never match it. Removed rows leave free space in the data pages
+        // of the other rows.
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i < hotKeys ? new Event(i, "hot" + i) : new Event(1_000_000L + i, name(i)));
+
+        for (int i = hotKeys; i < KEYS; i += 3)
+            cache.remove(i);
+
+        List<ZoneMapRange> ranges = Collections.singletonList(new ZoneMapRange("ts", null, false, (long)hotKeys, false));
+
+        // Starts the zone maps build.
+        assertEquals(hotKeys, rows(grid(0), ranges, hotKeys));
+
+        assertTrue(GridTestUtils.waitForCondition(() -> rows(grid(0), ranges) < KEYS / 10, 10_000));
+
+        AtomicBoolean stop = new AtomicBoolean();
+
+        // Values of random size move the hot rows to the data pages of the other rows.
+        IgniteInternalFuture<?> updFut = GridTestUtils.runMultiThreadedAsync(() -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            while (!stop.get()) {
+                int key = rnd.nextInt(hotKeys);
+
+                cache.put(key, new Event(key, name(key)));
+            }
+        }, 4, "zone-map-upd");
+
+        try {
+            long end = U.currentTimeMillis() + 5_000;
+
+            for (int i = 0; U.currentTimeMillis() < end; i++) {
+                assertEquals(hotKeys, rows(grid(0), ranges, hotKeys));
+
+                if (i % 100 == 0) {
+                    assertQuery("SELECT count(*) FROM Event WHERE ts < ?").withParams((long)hotKeys)
+                        .returns((long)hotKeys).check();
+                }
+            }
+        }
+        finally {
+            stop.set(true);
+
+            updFut.get();
+        }
+    }
+
+    /**
+     * Checks that the row is within the bounds of its data page before it is put to the data tree.
+     */
+    @Test
+    public void testRowAddedBeforePutToTree() throws Exception {
+        client.createCache(new CacheConfiguration<Integer, Event>("EVENTS")
+            .setIndexedTypes(Integer.class, Event.class)
+            .setSqlSchema("PUBLIC")
+            .setAffinity(new RendezvousAffinityFunction(false, 4))
+            .setZoneMapFields("ts"));
+
+        IgniteCache<Integer, Event> cache = grid(0).cache("EVENTS");
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, new Event(1_000_000L + i, name(i)));
+
+        for (int i = 0; i < KEYS; i += 3)
+            cache.remove(i);
+
+        List<ZoneMapRange> ranges = Collections.singletonList(new ZoneMapRange("ts", null, false, 0L, true));
+
+        // Starts the zone maps build.
+        rows(grid(0), ranges);
+
+        assertTrue(GridTestUtils.waitForCondition(() -> rows(grid(0), ranges) == 0, 10_000));
+
+        GridCacheContext<?, ?> cctx = grid(0).cachex("EVENTS").context();
+
+        int key = -1;
+
+        CacheDataStore store = cctx.topology().localPartition(cctx.affinity().partition(key)).dataStore();
+
+        CacheObject val = cctx.toCacheObject(new Event(0L, "new"));
+
+        val.prepareMarshal(cctx.cacheObjectContext());
+
+        // The row is written to the free space of a data page with other rows, the update isn't finished.
+        CacheDataRow row = store.createRow(cctx, cctx.toCacheKeyObject(key), val,
+            cctx.versions().next(cctx.topology().readyTopologyVersion().topologyVersion()), 0L, null);
+
+        store.tree().putx(row);
+
+        {
+            int pi = org.apache.ignite.internal.pagemem.PageIdUtils.pageIndex(org.apache.ignite.internal.pagemem.PageIdUtils.pageId(row.link()));
+            int same = 0;
+            GridCursor<? extends CacheDataRow> c = store.cursor(cctx.cacheId());
+            while (c.next()) if (org.apache.ignite.internal.pagemem.PageIdUtils.pageIndex(org.apache.ignite.internal.pagemem.PageIdUtils.pageId(c.get().link())) == pi) same++;
+            for (GridDhtLocalPartition p : cctx.topology().localPartitions())
+                System.out.println("DBG part=" + p.id() + " size=" + p.dataStore().fullSize() + " zm=" + GridTestUtils.getFieldValue(p.dataStore(), "zoneMap"));
+            System.out.println("DBG keyPart=" + cctx.affinity().partition(key) + " page=" + pi + " same=" + same + " zm=" + GridTestUtils.getFieldValue(store, "zoneMap"));
+        }
+
+        assertEquals(1, rows(grid(0), ranges, 0));
+    }
+
+    /**
+     * @return Name of random size.
+     */
+    private static String name(int key) {
+        return "event" + key + '-' + "x".repeat(ThreadLocalRandom.current().nextInt(500));
+    }
+
+    /**
+     * @return Count of rows returned by the zone map cursors of all the local partitions.
+     */
+    private static int rows(IgniteEx ignite, List<ZoneMapRange> ranges) {
+        return rows(ignite, ranges, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return Count of rows with the keys less than the given one returned by the zone map cursors of all the local
+     * partitions.
+     */
+    private static int rows(IgniteEx ignite, List<ZoneMapRange> ranges, int maxKey) {
+        GridCacheContext<?, ?> cctx = ignite.cachex("EVENTS").context();
+
+        int cnt = 0;
+
+        for (GridDhtLocalPartition part : cctx.topology().localPartitions()) {
+            CacheDataStore store = part.dataStore();
+
+            try {
+                GridCursor<? extends CacheDataRow> cur = store.cursor(cctx.cacheId(), ranges);
+
+                while (cur.next()) {
+                    if (cur.get().key().<Integer>value(cctx.cacheObjectContext(), false) < maxKey)
+                        cnt++;
+                }
+            }
+            catch (IgniteCheckedException e) {
+                throw new IgniteException(e);
+            }
+        }
+
+        return cnt;
+    }
+
+    /** */
+    private static class Event {
+        /** */
+        @QuerySqlField
+        long ts;
+
+        /** */
+        @QuerySqlField
+        String name;
+
+        /** */
+        private Event(long ts, String name) {
+            this.ts = ts;
+            this.name = name;
+        }
+    }
+}
@@ -362,6 +362,7 @@ public class PlanExecutionTest extends AbstractPlannerTest {
             ArrayRowHandler.INSTANCE,
             NoOpMemoryTracker.INSTANCE,
             NoOpIoTracker.INSTANCE,
+            null,
             0,
             Commons.parametersMap(ctx.parameters()),
             null
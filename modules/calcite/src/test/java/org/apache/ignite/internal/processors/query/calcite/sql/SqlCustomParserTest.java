@@ -410,6 +410,54 @@ public class SqlCustomParserTest extends GridCommonAbstractTest {
         assertThat(createIdx.ifNotExists, is(true));
     }
 
+    /**
+     * Create hash index.
+     */
+    @Test
+    public void createHashIndex() throws SqlParseException {
+        String qry = "create hash index if not exists my_index on my_table(id, val)";
+
+        IgniteSqlCreateIndex createIdx = parse(qry);
+
+        assertThat(createIdx.indexName().names, is(ImmutableList.of("MY_INDEX")));
+        assertThat(createIdx.tableName().names, is(ImmutableList.of("MY_TABLE")));
+        assertThat(createIdx.ifNotExists, is(true));
+        assertThat(createIdx.hash(), is(true));
+        assertThat(createIdx.columnList(), hasItem(indexedColumn("ID", false)));
+        assertThat(createIdx.columnList(), hasItem(indexedColumn("VAL", false)));
+
+        createIdx = parse("create index my_index on my_table(id)");
+
+        assertThat(createIdx.hash(), is(false));
+    }
+
+    /**
+     * Create index with included columns.
+     */
+    @Test
+    public void createIndexWithIncludedColumns() throws SqlParseException {
+        String qry = "create index my_index on my_table(id) inline_size 20 include (val1, \"val2\")";
+
+        IgniteSqlCreateIndex createIdx = parse(qry);
+
+        assertEquals(20, createIdx.inlineSize().intValue(true));
+        assertThat(createIdx.columnList(), hasItem(indexedColumn("ID", false)));
+        assertThat(createIdx.includeList().size(), is(2));
+        assertThat(((SqlIdentifier)createIdx.includeList().get(0)).getSimple(), is("VAL1"));
+        assertThat(((SqlIdentifier)createIdx.includeList().get(1)).getSimple(), is("val2"));
+
+        createIdx = parse("create index my_index on my_table(id)");
+
+        assertNull(createIdx.includeList());
+
+        assertParserThrows("create index my_index on my_table(id) include (val1) include (val2)",
+            SqlValidatorException.class, "Option 'INCLUDE' has already been defined");
+
+        assertParserThrows("create index my_index on my_table(id) include ()", SqlParseException.class);
+
+        assertParserThrows("create index my_index on my_table(id) include (val1 desc)", SqlParseException.class);
+    }
+
     /**
      * Create index with parallel and inline_size options"
      */
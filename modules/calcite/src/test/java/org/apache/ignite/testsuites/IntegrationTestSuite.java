@@ -71,6 +71,7 @@ import org.apache.ignite.internal.processors.query.calcite.integration.SelectByK
 import org.apache.ignite.internal.processors.query.calcite.integration.ServerStatisticsIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.SetOpIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.SortAggregateIntegrationTest;
+import org.apache.ignite.internal.processors.query.calcite.integration.SortSpillIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.SqlDiagnosticIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.SqlPlanHistoryIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.StatisticsCommandDdlIntegrationTest;
@@ -87,6 +88,7 @@ import org.apache.ignite.internal.processors.query.calcite.integration.UserDefin
 import org.apache.ignite.internal.processors.query.calcite.integration.UserDefinedTxAwareFunctionsIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.ViewsIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.WindowIntegrationTest;
+import org.apache.ignite.internal.processors.query.calcite.integration.ZoneMapScanIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.tpch.TpchScale001Test;
 import org.apache.ignite.internal.processors.query.calcite.integration.tpch.TpchScale010Test;
 import org.apache.ignite.internal.processors.query.calcite.integration.tpch.TpchScale100Test;
@@ -185,6 +187,8 @@ import org.junit.runners.Suite;
     TxThreadLockingTest.class,
     SelectByKeyFieldTest.class,
     WindowIntegrationTest.class,
+    ZoneMapScanIntegrationTest.class,
+    SortSpillIntegrationTest.class,
 })
 public class IntegrationTestSuite {
 }
@@ -196,6 +196,18 @@ public class IgniteCommonsSystemProperties {
         "Should be switched to true if there are any problems in communication layer")
     public static final String IGNITE_NO_SELECTOR_OPTS = "IGNITE_NO_SELECTOR_OPTS";
 
+    /**
+     * Transport used inside {@code GridNioServer}: {@code nio} or {@code epoll}. The {@code epoll} transport disables
+     * delayed acknowledgements of the sockets and is available on Linux only, the {@code nio} one is used if it is
+     * not available.
+     * <p>
+     * Default value is {@code nio}.
+     */
+    @SystemProperty(value = "Transport used inside GridNioServer: nio or epoll. The epoll transport disables delayed " +
+        "acknowledgements of the sockets and is available on Linux only, the nio one is used if it is not available",
+        type = String.class, defaults = "nio")
+    public static final String IGNITE_NIO_TRANSPORT = "IGNITE_NIO_TRANSPORT";
+
     /** Default IO balance period. */
     public static final int DFLT_IO_BALANCE_PERIOD = 5000;
 
@@ -53,6 +53,10 @@ public class QueryIndex implements Serializable {
     /** */
     private int inlineSize = DFLT_INLINE_SIZE;
 
+    /** */
+    @GridToStringInclude
+    private Collection<String> includeFields;
+
     /**
      * Creates an empty index. Should be populated via setters.
      */
@@ -293,6 +297,34 @@ public class QueryIndex implements Serializable {
         return this;
     }
 
+    /**
+     * Gets fields which values are stored in the index in addition to the indexed fields. Included fields don't
+     * affect the order of the index rows and can't be used for the index search, but a query which refers only to
+     * the indexed and included fields can be served by the index without reading of the data rows.
+     * <p>
+     * Included fields are supported only for {@link QueryIndexType#SORTED sorted} indexes. Values of the included
+     * fields are inlined to the index pages within {@link #getInlineSize() inline size}, so it's recommended
+     * to include only the fields of fixed-length types.
+     *
+     * @return Collection of included fields.
+     */
+    public Collection<String> getIncludeFields() {
+        return includeFields;
+    }
+
+    /**
+     * Sets fields which values are stored in the index in addition to the indexed fields.
+     * See {@link #getIncludeFields()} for details.
+     *
+     * @param includeFields Collection of included fields.
+     * @return {@code this} for chaining.
+     */
+    public QueryIndex setIncludeFields(Collection<String> includeFields) {
+        this.includeFields = includeFields;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean equals(Object o) {
         if (this == o)
@@ -306,12 +338,13 @@ public class QueryIndex implements Serializable {
         return inlineSize == idx.inlineSize &&
             Objects.equals(name, idx.name) &&
             Objects.equals(fields, idx.fields) &&
-            type == idx.type;
+            type == idx.type &&
+            Objects.equals(includeFields, idx.includeFields);
     }
 
     /** {@inheritDoc} */
     @Override public int hashCode() {
-        return Objects.hash(name, fields, type, inlineSize);
+        return Objects.hash(name, fields, type, inlineSize, includeFields);
     }
 
     /** {@inheritDoc} */
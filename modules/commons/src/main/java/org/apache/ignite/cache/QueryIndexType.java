@@ -36,7 +36,12 @@ public enum QueryIndexType {
     /**
      * Geo-spatial index.
      */
-    GEOSPATIAL;
+    GEOSPATIAL,
+
+    /**
+     * Hash index. Supports only equality lookups on all index fields.
+     */
+    HASH;
 
     /** Enum values. */
     private static final QueryIndexType[] VALS = values();
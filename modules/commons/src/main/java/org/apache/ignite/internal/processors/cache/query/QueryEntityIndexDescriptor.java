@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.query;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.TreeSet;
@@ -84,6 +85,11 @@ public class QueryEntityIndexDescriptor implements GridQueryIndexDescriptor {
         return res;
     }
 
+    /** {@inheritDoc} */
+    @Override public Collection<String> includeFields() {
+        return Collections.emptyList();
+    }
+
     /** {@inheritDoc} */
     @Override public boolean descending(String field) {
         return descendings != null && descendings.contains(field);
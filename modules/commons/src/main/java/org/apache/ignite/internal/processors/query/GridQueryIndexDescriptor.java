@@ -39,6 +39,13 @@ public interface GridQueryIndexDescriptor {
      */
     public Collection<String> fields();
 
+    /**
+     * Gets fields which values are stored in the index in addition to the indexed fields.
+     *
+     * @return Included fields.
+     */
+    public Collection<String> includeFields();
+
     /**
      * Specifies order of the index for each indexed field.
      *
@@ -255,6 +255,84 @@ public class CompressionProcessorImpl extends CompressionProcessor {
         assert page.limit() == compactSize;
     }
 
+    /** {@inheritDoc} */
+    @Override protected int maxCompressedValueSize(DiskPageCompression compression, int size) {
+        switch (compression) {
+            case ZSTD:
+                return (int)Zstd.compressBound(size);
+
+            case LZ4:
+                return Lz4.fastCompressor.maxCompressedLength(size);
+
+            case SNAPPY:
+                return Snappy.maxCompressedLength(size);
+        }
+        throw new IllegalStateException("Unsupported compression: " + compression);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected int doCompressValue(
+        DiskPageCompression compression,
+        byte[] val,
+        byte[] dst,
+        int dstOff,
+        int compressLevel
+    ) {
+        switch (compression) {
+            case ZSTD:
+                long size = Zstd.compressByteArray(dst, dstOff, dst.length - dstOff, val, 0, val.length, compressLevel);
+
+                if (Zstd.isError(size))
+                    throw new IgniteException("Failed to compress value with Zstd: " + Zstd.getErrorName(size));
+
+                return (int)size;
+
+            case LZ4:
+                return Lz4.getCompressor(compressLevel).compress(val, 0, val.length, dst, dstOff, dst.length - dstOff);
+
+            case SNAPPY:
+                try {
+                    return Snappy.compress(val, 0, val.length, dst, dstOff);
+                }
+                catch (IOException e) {
+                    throw new IgniteException("Failed to compress value with Snappy.", e);
+                }
+        }
+        throw new IllegalStateException("Unsupported compression: " + compression);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void doDecompressValue(int compressType, byte[] src, int srcOff, int srcLen, byte[] dst)
+        throws IgniteCheckedException {
+        switch (compressType) {
+            case ZSTD_COMPRESSED_PAGE:
+                long size = Zstd.decompressByteArray(dst, 0, dst.length, src, srcOff, srcLen);
+
+                if (Zstd.isError(size) || size != dst.length)
+                    throw new IgniteCheckedException("Failed to decompress value with Zstd [size=" + size + ']');
+
+                break;
+
+            case LZ4_COMPRESSED_PAGE:
+                Lz4.decompressor.decompress(src, srcOff, dst, 0, dst.length);
+
+                break;
+
+            case SNAPPY_COMPRESSED_PAGE:
+                try {
+                    Snappy.uncompress(src, srcOff, srcLen, dst, 0);
+                }
+                catch (IOException e) {
+                    throw new IgniteCheckedException("Failed to decompress value with Snappy.", e);
+                }
+
+                break;
+
+            default:
+                throw new IgniteCheckedException("Unknown compression: " + compressType);
+        }
+    }
+
     /** */
     private static int maxCompressedBufferSize(int baseSz) {
         int lz4Sz = Lz4.fastCompressor.maxCompressedLength(baseSz);
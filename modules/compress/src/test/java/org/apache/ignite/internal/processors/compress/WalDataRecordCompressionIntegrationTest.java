@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.CheckpointRecord;
+import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.CacheObjectContext;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.junit.Test;
+
+import static org.apache.ignite.configuration.DiskPageCompression.SKIP_GARBAGE;
+import static org.apache.ignite.internal.pagemem.wal.record.DataEntry.COMPRESSED_VALUE_FLAG;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_DATA_RECORD_COMPRESSION_THRESHOLD;
+
+/**
+ * Checks compression of the cache entry values in WAL data records.
+ */
+public class WalDataRecordCompressionIntegrationTest extends AbstractPageCompressionIntegrationTest {
+    /** Keys count. */
+    private static final int KEYS = 1_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteName) throws Exception {
+        DataStorageConfiguration dsCfg = new DataStorageConfiguration()
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true))
+            .setWalPageCompression(compression)
+            .setWalPageCompressionLevel(compressionLevel);
+
+        return super.getConfiguration(igniteName)
+            .setDataStorageConfiguration(dsCfg)
+            // Set new IP finder for each node to start independent clusters.
+            .setDiscoverySpi(new TcpDiscoverySpi().setIpFinder(new TcpDiscoveryVmIpFinder(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void doTestPageCompression() throws Exception {
+        DiskPageCompression walCompression = compression;
+        Integer walCompressionLevel = compressionLevel;
+
+        // Ignite instance with compressed WAL data records.
+        IgniteEx ignite0 = startGrid(0);
+
+        compression = DiskPageCompression.DISABLED;
+        compressionLevel = null;
+
+        // Reference ignite instance with uncompressed WAL data records.
+        IgniteEx ignite1 = startGrid(1);
+
+        ignite0.cluster().state(ClusterState.ACTIVE);
+        ignite1.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, String> cache0 = ignite0.getOrCreateCache(DEFAULT_CACHE_NAME);
+        IgniteCache<Integer, String> cache1 = ignite1.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        forceCheckpoint();
+
+        WALPointer start0 = ignite0.context().cache().context().wal().log(new CheckpointRecord(null));
+        WALPointer start1 = ignite1.context().cache().context().wal().log(new CheckpointRecord(null));
+
+        for (int i = 0; i < KEYS; i++) {
+            cache0.put(i, value(i));
+            cache1.put(i, value(i));
+        }
+
+        WALPointer end0 = ignite0.context().cache().context().wal().log(new CheckpointRecord(null));
+        WALPointer end1 = ignite1.context().cache().context().wal().log(new CheckpointRecord(null));
+
+        long size0 = end0.fileOffset() - start0.fileOffset();
+        long size1 = end1.fileOffset() - start1.fileOffset();
+
+        log.info("Compressed WAL size: " + size0);
+        log.info("Uncompressed WAL size: " + size1);
+
+        assertEquals(start0.index(), end0.index());
+        assertEquals(start1.index(), end1.index());
+
+        if (walCompression != SKIP_GARBAGE) {
+            assertTrue("Compressed WAL must be at least twice smaller than uncompressed [size0=" + size0 +
+                ", size1=" + size1 + ']', size0 * 2 < size1);
+        }
+
+        checkWal(ignite0, start0);
+
+        // Restore data records on the node start.
+        stopGrid(0, true);
+
+        compression = walCompression;
+        compressionLevel = walCompressionLevel;
+
+        ignite0 = startGrid(0);
+
+        ignite0.cluster().state(ClusterState.ACTIVE);
+
+        cache0 = ignite0.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(value(i), cache0.get(i));
+    }
+
+    /**
+     * Checks that values are decompressed on WAL iteration.
+     *
+     * @param ignite Ignite.
+     * @param start Start WAL pointer.
+     * @throws Exception If failed.
+     */
+    private void checkWal(IgniteEx ignite, WALPointer start) throws Exception {
+        CacheObjectContext coCtx = ignite.cachex(DEFAULT_CACHE_NAME).context().cacheObjectContext();
+
+        int entries = 0;
+
+        try (WALIterator it = ignite.context().cache().context().wal().replay(start)) {
+            while (it.hasNext()) {
+                IgniteBiTuple<WALPointer, WALRecord> tup = it.next();
+
+                if (!(tup.get2() instanceof DataRecord))
+                    continue;
+
+                for (DataEntry entry : ((DataRecord)tup.get2()).writeEntries()) {
+                    if (entry.cacheId() != CU.cacheId(DEFAULT_CACHE_NAME))
+                        continue;
+
+                    int key = entry.key().value(coCtx, false);
+
+                    assertEquals(value(key), entry.value().value(coCtx, false));
+                    assertEquals(0, entry.flags() & COMPRESSED_VALUE_FLAG);
+
+                    entries++;
+                }
+            }
+        }
+
+        assertEquals(KEYS, entries);
+    }
+
+    /**
+     * @param key Key.
+     * @return Compressible value larger than the default compression threshold.
+     */
+    private static String value(int key) {
+        return key + "-" + "value".repeat(DFLT_WAL_DATA_RECORD_COMPRESSION_THRESHOLD);
+    }
+}
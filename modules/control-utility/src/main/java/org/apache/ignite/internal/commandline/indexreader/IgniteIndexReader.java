@@ -1368,12 +1368,13 @@ public class IgniteIndexReader implements AutoCloseable {
             IndexKeyTypeSettings settings = new IndexKeyTypeSettings();
 
             for (int i = 0; i < io.getCount(addr); i++) {
-                int itemOff = io.offset(i);
+                long keysAddr = io.inlineAddress(addr, i);
+                int keysSz = io.inlineSize(addr, i);
                 int realInlineSz = 0;
                 int fldCnt = 0;
 
-                while (realInlineSz < inlineSz && fldCnt < ctx.inlineFldCnt) {
-                    int type0 = PageUtils.getByte(addr, itemOff + realInlineSz);
+                while (realInlineSz < keysSz && fldCnt < ctx.inlineFldCnt) {
+                    int type0 = PageUtils.getByte(keysAddr, realInlineSz);
 
                     IndexKeyType idxKeyType;
 
@@ -1405,7 +1406,7 @@ public class IgniteIndexReader implements AutoCloseable {
                     if (type.keySize() == UNKNOWN_CACHE) {
                         try {
                             // Assuming all variable length keys written using `writeBytes` method.
-                            byte[] bytes = NullableInlineIndexKeyType.readBytes(addr, itemOff + realInlineSz);
+                            byte[] bytes = NullableInlineIndexKeyType.readBytes(keysAddr, realInlineSz);
 
                             realInlineSz += Short.BYTES; /* size of the array is short number. */
                             realInlineSz += bytes.length;
@@ -1423,7 +1424,8 @@ public class IgniteIndexReader implements AutoCloseable {
                     fldCnt++;
                 }
 
-                ctx.inline[realInlineSz - 1]++;
+                // Keys compressed with the page prefix may take more bytes than the item.
+                ctx.inline[Math.min(realInlineSz, inlineSz) - 1]++;
             }
         }
 
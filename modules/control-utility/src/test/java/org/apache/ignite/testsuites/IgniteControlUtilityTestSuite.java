@@ -25,6 +25,7 @@ import org.apache.ignite.util.GridCommandHandlerBrokenIndexTest;
 import org.apache.ignite.util.GridCommandHandlerCheckIncrementalSnapshotTest;
 import org.apache.ignite.util.GridCommandHandlerCheckIndexesInlineSizeTest;
 import org.apache.ignite.util.GridCommandHandlerCheckpointTest;
+import org.apache.ignite.util.GridCommandHandlerCompactPartitionsTest;
 import org.apache.ignite.util.GridCommandHandlerClusterByClassTest;
 import org.apache.ignite.util.GridCommandHandlerClusterByClassWithSSLTest;
 import org.apache.ignite.util.GridCommandHandlerIncompatibleSslConfigTest;
@@ -82,6 +83,7 @@ import org.junit.runners.Suite;
 
     GridCommandHandlerWalTest.class,
     GridCommandHandlerCheckpointTest.class,
+    GridCommandHandlerCompactPartitionsTest.class,
     GridCommandHandlerManagementPoolTest.class,
 })
 public class IgniteControlUtilityTestSuite {
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.util;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.spi.metric.Metric;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.commandline.CommandHandler.EXIT_CODE_OK;
+import static org.apache.ignite.internal.commandline.CommandHandler.EXIT_CODE_UNEXPECTED_ERROR;
+import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+import static org.apache.ignite.testframework.GridTestUtils.assertContains;
+
+/** Test for partitions compaction in control.sh command. */
+public class GridCommandHandlerCompactPartitionsTest extends GridCommandHandlerAbstractTest {
+    /** Count of keys. */
+    private static final int KEYS = 10_000;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+        cleanPersistenceDir();
+        injectTestSystemOut();
+
+        persistenceEnable(true);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /** Checks that compaction is started on server nodes and its progress is reported by metrics. */
+    @Test
+    public void testCompactPartitions() throws Exception {
+        IgniteEx srv = startGrids(2);
+
+        srv.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, String> cache = srv.getOrCreateCache(
+            new CacheConfiguration<Integer, String>(DEFAULT_CACHE_NAME)
+                .setAffinity(new RendezvousAffinityFunction(false, 4)));
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, "value-" + i + "-" + "x".repeat(100));
+
+        for (int i = 0; i < KEYS; i++) {
+            if (i % 5 != 0)
+                cache.remove(i);
+        }
+
+        assertEquals(EXIT_CODE_OK, execute("--cache", "compact_partitions", "--group-name", DEFAULT_CACHE_NAME));
+
+        assertContains(log, testOut.toString(), "compaction started [groupName=" + DEFAULT_CACHE_NAME);
+
+        long moved = 0;
+
+        for (int i = 0; i < 2; i++) {
+            IgniteEx ignite = grid(i);
+
+            assertTrue(GridTestUtils.waitForCondition(() -> metric(ignite, "CompactionPartitionsLeft",
+                AtomicLongMetric.class).value() == 0, getTestTimeout()));
+
+            assertTrue(metric(ignite, "CompactionPagesScanned", LongAdderMetric.class).value() > 0);
+
+            moved += metric(ignite, "CompactionRowsMoved", LongAdderMetric.class).value();
+        }
+
+        assertTrue(moved > 0);
+
+        for (int i = 0; i < KEYS; i += 5)
+            assertTrue(cache.get(i).startsWith("value-" + i + "-"));
+    }
+
+    /** Checks compaction of unknown cache group and invalid partitions. */
+    @Test
+    public void testCompactPartitionsInvalidArguments() throws Exception {
+        IgniteEx srv = startGrids(1);
+
+        srv.cluster().state(ClusterState.ACTIVE);
+
+        srv.getOrCreateCache(new CacheConfiguration<Integer, String>(DEFAULT_CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, 4)));
+
+        assertEquals(EXIT_CODE_OK, execute("--cache", "compact_partitions", "--group-name", "unknown"));
+
+        assertContains(log, testOut.toString(), "cache group not found, compaction skipped");
+
+        assertEquals(EXIT_CODE_UNEXPECTED_ERROR, execute("--cache", "compact_partitions", "--group-name",
+            DEFAULT_CACHE_NAME, "--partitions", "1,4"));
+
+        assertContains(log, testOut.toString(), "Invalid partition");
+
+        assertEquals(EXIT_CODE_OK, execute("--cache", "compact_partitions", "--group-name", DEFAULT_CACHE_NAME,
+            "--partitions", "0,3"));
+
+        assertContains(log, testOut.toString(), "partitions=2]");
+    }
+
+    /**
+     * @param ignite Ignite.
+     * @param name Metric name.
+     * @param type Metric type.
+     * @return Metric of the data storage.
+     */
+    private static <T extends Metric> T metric(IgniteEx ignite, String name, Class<T> type) {
+        return ignite.context().metric().find(metricName(DATASTORAGE_METRIC_PREFIX, name), type);
+    }
+}
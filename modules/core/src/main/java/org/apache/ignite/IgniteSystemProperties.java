@@ -70,6 +70,7 @@ import static org.apache.ignite.internal.processors.cache.GridCachePartitionExch
 import static org.apache.ignite.internal.processors.cache.GridCacheProcessor.DFLT_ALLOW_START_CACHES_IN_PARALLEL;
 import static org.apache.ignite.internal.processors.cache.GridCacheTtlManager.DFLT_UNWIND_THROTTLING_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.GridCacheUtils.DFLT_TTL_EXPIRE_BATCH_SIZE;
+import static org.apache.ignite.internal.processors.cache.PartitionBloomFilter.DFLT_PARTITION_BLOOM_FILTER_BITS_PER_KEY;
 import static org.apache.ignite.internal.processors.cache.WalStateManager.DFLT_DISABLE_WAL_DURING_REBALANCING;
 import static org.apache.ignite.internal.processors.cache.binary.CacheObjectBinaryProcessorImpl.DFLT_WAIT_SCHEMA_UPDATE;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.CacheDistributedGetFutureAdapter.DFLT_MAX_REMAP_CNT;
@@ -82,6 +83,8 @@ import static org.apache.ignite.internal.processors.cache.distributed.dht.topolo
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition.DFLT_CACHE_REMOVE_ENTRIES_TTL;
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_PDS_WAL_REBALANCE_THRESHOLD;
+import static org.apache.ignite.internal.processors.cache.persistence.PartitionCompactor.DFLT_PARTITION_COMPACTION_RATE;
+import static org.apache.ignite.internal.processors.cache.persistence.blob.PartitionBlobStore.DFLT_BLOB_STORE_SEGMENT_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointHistory.DFLT_PDS_MAX_CHECKPOINT_MEMORY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage.DFLT_IGNITE_CHECKPOINT_MAP_SNAPSHOT_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointWorkflow.DFLT_CHECKPOINT_PARALLEL_SORT_THRESHOLD;
@@ -97,6 +100,7 @@ import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlus
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_THRESHOLD_WAIT_TIME_NEXT_WAL_SEGMENT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_COMPRESSOR_WORKER_THREAD_CNT;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_DATA_RECORD_COMPRESSION_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_MMAP;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FileHandleManagerImpl.DFLT_WAL_SEGMENT_SYNC_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory.LATEST_SERIALIZER_VERSION;
@@ -109,6 +113,7 @@ import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxM
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_TX_DEADLOCK_DETECTION_MAX_ITERS;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_TX_OWNER_DUMP_REQUESTS_ALLOWED;
 import static org.apache.ignite.internal.processors.cache.transactions.TxDeadlockDetection.DFLT_TX_DEADLOCK_DETECTION_TIMEOUT;
+import static org.apache.ignite.internal.processors.cache.tree.CacheDataTree.DFLT_SCAN_PREFETCH_PAGES;
 import static org.apache.ignite.internal.processors.cluster.ClusterProcessor.DFLT_DIAGNOSTIC_ENABLED;
 import static org.apache.ignite.internal.processors.cluster.ClusterProcessor.DFLT_UPDATE_NOTIFIER;
 import static org.apache.ignite.internal.processors.cluster.baseline.autoadjust.BaselineTopologyUpdater.DFLT_BASELINE_AUTO_ADJUST_LOG_INTERVAL;
@@ -126,6 +131,7 @@ import static org.apache.ignite.internal.processors.platform.client.ClientReques
 import static org.apache.ignite.internal.processors.pool.PoolProcessor.DFLT_PERIODIC_STARVATION_CHECK_FREQ;
 import static org.apache.ignite.internal.processors.query.QueryUtils.DFLT_INDEXING_DISCOVERY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.query.schema.SchemaIndexCachePartitionWorker.DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE;
+import static org.apache.ignite.internal.processors.query.schema.SchemaIndexCachePartitionWorker.DFLT_INDEX_REBUILD_SORT_BUFFER_SIZE;
 import static org.apache.ignite.internal.processors.rest.GridRestProcessor.DFLT_SES_TIMEOUT;
 import static org.apache.ignite.internal.processors.rest.GridRestProcessor.DFLT_SES_TOKEN_INVALIDATE_INTERVAL;
 import static org.apache.ignite.internal.processors.rest.handlers.task.GridTaskCommandHandler.DFLT_MAX_TASK_RESULTS;
@@ -133,6 +139,7 @@ import static org.apache.ignite.internal.thread.pool.IgniteStripedExecutor.DFLT_
 import static org.apache.ignite.internal.util.GridReflectionCache.DFLT_REFLECTION_CACHE_SIZE;
 import static org.apache.ignite.internal.util.IgniteExceptionRegistry.DEFAULT_QUEUE_SIZE;
 import static org.apache.ignite.internal.util.IgniteUtils.DFLT_MBEAN_APPEND_CLASS_LOADER_ID;
+import static org.apache.ignite.internal.util.nio.GridNioCompressionFilter.DFLT_MAX_CPU_LOAD;
 import static org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi.DFLT_DISCOVERY_CLIENT_RECONNECT_HISTORY_SIZE;
 import static org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi.DFLT_DISCOVERY_METRICS_QNT_WARN;
 import static org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi.DFLT_DISCO_FAILED_CLIENT_RECONNECT_DELAY;
@@ -899,6 +906,16 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "0 means that inline index store is disabled", type = Integer.class, defaults = "64")
     public static final String IGNITE_MAX_INDEX_PAYLOAD_SIZE = "IGNITE_MAX_INDEX_PAYLOAD_SIZE";
 
+    /**
+     * Enables the page prefix compression of the first string key for new indexes. Leaf pages of such index store
+     * the prefix common for the page items once, so the same inline size inlines longer keys, e.g. URLs or composite
+     * codes, and more comparisons are resolved without reading the data pages. Existing indexes are not changed.
+     */
+    @SystemProperty(value = "Enables the page prefix compression of the first string key for new indexes. " +
+        "Leaf pages of such index store the prefix common for the page items once, so the same inline size inlines " +
+        "longer keys", type = Boolean.class)
+    public static final String IGNITE_INLINE_INDEX_PREFIX_COMPRESSION = "IGNITE_INLINE_INDEX_PREFIX_COMPRESSION";
+
     /**
      * Time interval for calculating rebalance rate statistics, in milliseconds. Defaults to 60000.
      * @deprecated Use {@link MetricsMxBean#configureHitRateMetric(String, long)} instead.
@@ -1231,6 +1248,17 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         defaults = "" + DFLT_WAL_COMPRESSOR_WORKER_THREAD_CNT)
     public static final String IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT = "IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT";
 
+    /**
+     * Min size in bytes of the cache entry value compressed in WAL data records. Values are compressed with the
+     * {@link DataStorageConfiguration#getWalPageCompression()} algorithm if it is not {@link DiskPageCompression#DISABLED}
+     * or {@link DiskPageCompression#SKIP_GARBAGE}. {@code 0} disables compression of data records.
+     */
+    @SystemProperty(value = "Min size in bytes of the cache entry value compressed in WAL data records with the WAL " +
+        "page compression algorithm. 0 disables compression of data records", type = Integer.class,
+        defaults = "" + DFLT_WAL_DATA_RECORD_COMPRESSION_THRESHOLD)
+    public static final String IGNITE_WAL_DATA_RECORD_COMPRESSION_THRESHOLD =
+        "IGNITE_WAL_DATA_RECORD_COMPRESSION_THRESHOLD";
+
     /**
      * Whenever read load balancing is enabled, that means 'get' requests will be distributed between primary and backup
      * nodes if it is possible and {@link CacheConfiguration#isReadFromBackup()} is {@code true}.
@@ -1577,6 +1605,32 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         type = Integer.class, defaults = "" + DFLT_CHECKPOINT_PARALLEL_SORT_THRESHOLD)
     public static final String CHECKPOINT_PARALLEL_SORT_THRESHOLD = "CHECKPOINT_PARALLEL_SORT_THRESHOLD";
 
+    /**
+     * Maximum number of pages read to the memory ahead of partition scans: data pages of the data page scan, or the
+     * next leaf page and data pages of rows of the current leaf page of the partition tree cursor. {@code 0} disables
+     * read ahead.
+     */
+    @SystemProperty(value = "Maximum number of pages read to the memory ahead of partition scans: data pages of the " +
+        "data page scan, or the next leaf page and data pages of rows of the current leaf page of the partition " +
+        "tree cursor. 0 disables read ahead", type = Integer.class, defaults = "" + DFLT_SCAN_PREFETCH_PAGES)
+    public static final String IGNITE_SCAN_PREFETCH_PAGES = "IGNITE_SCAN_PREFETCH_PAGES";
+
+    /**
+     * Max number of rows moved per second by the online partition compaction. {@code 0} means unlimited rate.
+     */
+    @SystemProperty(value = "Max number of rows moved per second by the online partition compaction. " +
+        "0 means unlimited rate", type = Integer.class, defaults = "" + DFLT_PARTITION_COMPACTION_RATE)
+    public static final String IGNITE_PARTITION_COMPACTION_RATE = "IGNITE_PARTITION_COMPACTION_RATE";
+
+    /**
+     * Bits per key of the Bloom filter of partition keys used to skip the data tree lookup for absent keys.
+     * Approximately {@code 10} bits per key give {@code 1%} false positive rate. {@code 0} disables the filter.
+     */
+    @SystemProperty(value = "Bits per key of the Bloom filter of partition keys used to skip the data tree lookup " +
+        "for absent keys. 0 disables the filter", type = Integer.class,
+        defaults = "" + DFLT_PARTITION_BLOOM_FILTER_BITS_PER_KEY)
+    public static final String IGNITE_PARTITION_BLOOM_FILTER_BITS_PER_KEY = "IGNITE_PARTITION_BLOOM_FILTER_BITS_PER_KEY";
+
     /**
      * Keep static cache configuration even if stored cache data differs from the static config. When this property
      * is set, static cache configuration will override persisted configuration. DDL operations are not allowed
@@ -1696,6 +1750,29 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "onheap caching")
     public static final String IGNITE_PAGES_LIST_DISABLE_ONHEAP_CACHING = "IGNITE_PAGES_LIST_DISABLE_ONHEAP_CACHING";
 
+    /**
+     * Enable allocation caches of free lists.
+     * Writer threads keep the last partially filled data page out of the free list in a thread-affine allocation cache
+     * and write the next rows to this page, so concurrent writers don't contend for the same free list buckets.
+     * Cached pages are returned to the free list on a checkpoint.
+     * Default value is <code>false</code>.
+     */
+    @SystemProperty("Enables allocation caches of free lists. Writer threads keep the last partially filled data " +
+        "page out of the free list in a thread-affine allocation cache and write the next rows to this page, so " +
+        "concurrent writers don't contend for the same free list buckets. Cached pages are returned to the free " +
+        "list on a checkpoint")
+    public static final String IGNITE_FREE_LIST_ALLOCATION_CACHING = "IGNITE_FREE_LIST_ALLOCATION_CACHING";
+
+    /**
+     * Size of a segment file of a partition blob store in bytes. Blob stores keep the values moved out of data pages
+     * for caches with {@link CacheConfiguration#setValueSeparationThreshold value separation}. A segment is reclaimed
+     * by the background garbage collection as a whole. Default value is {@code 64} MB.
+     */
+    @SystemProperty(value = "Size of a segment file of a partition blob store in bytes. Blob stores keep the values " +
+        "moved out of data pages for caches with value separation. A segment is reclaimed by the background garbage " +
+        "collection as a whole", type = Long.class, defaults = "" + DFLT_BLOB_STORE_SEGMENT_SIZE)
+    public static final String IGNITE_BLOB_STORE_SEGMENT_SIZE = "IGNITE_BLOB_STORE_SEGMENT_SIZE";
+
     /**
      * The master key name that the node will use during the recovery.
      * <p>
@@ -1769,6 +1846,14 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "TCP communication SPI exeeds provided value. Default is 0 (do not print warning)", type = Integer.class)
     public static final String IGNITE_TCP_COMM_MSG_QUEUE_WARN_SIZE = "IGNITE_TCP_COMM_MSG_QUEUE_WARN_SIZE";
 
+    /**
+     * CPU load above which TCP communication SPI stops compressing connections.
+     * Default is {@code 0.9}.
+     */
+    @SystemProperty(value = "CPU load above which TCP communication SPI stops compressing connections",
+        type = Double.class, defaults = "" + DFLT_MAX_CPU_LOAD)
+    public static final String IGNITE_TCP_COMM_COMPRESSION_MAX_CPU_LOAD = "IGNITE_TCP_COMM_COMPRESSION_MAX_CPU_LOAD";
+
     /**
      * When above zero, prints tx key collisions once per interval.
      * Each transaction besides OPTIMISTIC SERIALIZABLE capture locks on all enlisted keys, for some reasons
@@ -1882,6 +1967,16 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         type = Integer.class, defaults = "" + DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE)
     public static final String IGNITE_INDEX_REBUILD_BATCH_SIZE = "IGNITE_INDEX_REBUILD_BATCH_SIZE";
 
+    /**
+     * Count of partition rows, being sorted in the index order before they are put to the index when the index is
+     * created or rebuilt. Sorted rows update the same index pages one after another. {@code 0} disables sorting.
+     * The default value is {@link SchemaIndexCachePartitionWorker#DFLT_INDEX_REBUILD_SORT_BUFFER_SIZE}.
+     */
+    @SystemProperty(value = "Count of partition rows, being sorted in the index order before they are put to the " +
+        "index when the index is created or rebuilt. 0 disables sorting", type = Integer.class,
+        defaults = "" + DFLT_INDEX_REBUILD_SORT_BUFFER_SIZE)
+    public static final String IGNITE_INDEX_REBUILD_SORT_BUFFER_SIZE = "IGNITE_INDEX_REBUILD_SORT_BUFFER_SIZE";
+
     /**
      * Throttle frequency for an index row inline size calculation and logging index inline size recommendation.
      * The default value is {@link InlineRecommender#DFLT_THROTTLE_INLINE_SIZE_CALCULATION}.
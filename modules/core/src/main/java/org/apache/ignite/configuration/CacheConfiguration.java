@@ -174,6 +174,9 @@ public class CacheConfiguration<K, V> extends MutableConfiguration<K, V> impleme
     /** Default disk page compression algorithm. */
     public static final DiskPageCompression DFLT_DISK_PAGE_COMPRESSION = DiskPageCompression.DISABLED;
 
+    /** Default value separation threshold, value separation is disabled. */
+    public static final int DFLT_VALUE_SEPARATION_THRESHOLD = 0;
+
     /** Cache name. */
     private String name;
 
@@ -211,6 +214,9 @@ public class CacheConfiguration<K, V> extends MutableConfiguration<K, V> impleme
     /** SQL on-heap cache max size. */
     private int sqlOnheapCacheMaxSize = DFLT_SQL_ONHEAP_CACHE_MAX_SIZE;
 
+    /** Value fields to collect the data page bounds for. */
+    private String[] zoneMapFields;
+
     /** Eviction filter. */
     @SerializeSeparately
     private EvictionFilter<?, ?> evictFilter;
@@ -386,6 +392,9 @@ public class CacheConfiguration<K, V> extends MutableConfiguration<K, V> impleme
     /** */
     private Integer diskPageCompressionLevel;
 
+    /** Size of a value in bytes starting from which the value is stored out of data pages. */
+    private int valSeparationThreshold = DFLT_VALUE_SEPARATION_THRESHOLD;
+
     /**
      * Root directories where partition files are stored.
      * @see DataStorageConfiguration#setStoragePath(String)
@@ -465,6 +474,7 @@ public class CacheConfiguration<K, V> extends MutableConfiguration<K, V> impleme
         onheapCache = cc.isOnheapCacheEnabled();
         diskPageCompression = cc.getDiskPageCompression();
         diskPageCompressionLevel = cc.getDiskPageCompressionLevel();
+        valSeparationThreshold = cc.getValueSeparationThreshold();
         partLossPlc = cc.getPartitionLossPolicy();
         pluginCfgs = cc.getPluginConfigurations();
         qryDetailMetricsSz = cc.getQueryDetailMetricsSize();
@@ -499,6 +509,7 @@ public class CacheConfiguration<K, V> extends MutableConfiguration<K, V> impleme
         maxQryIterCnt = cc.getMaxQueryIteratorsCount();
         sqlOnheapCache = cc.isSqlOnheapCacheEnabled();
         sqlOnheapCacheMaxSize = cc.getSqlOnheapCacheMaxSize();
+        zoneMapFields = cc.getZoneMapFields();
         evtsDisabled = cc.isEventsDisabled();
         storagePaths = cc.getStoragePaths();
         idxPath = cc.getIndexPath();
@@ -738,6 +749,32 @@ public class CacheConfiguration<K, V> extends MutableConfiguration<K, V> impleme
         return this;
     }
 
+    /**
+     * Gets names of the value fields to collect the data page bounds for.
+     *
+     * @return Value field names or {@code null} if the bounds are not collected.
+     * @see #setZoneMapFields(String...)
+     */
+    public String[] getZoneMapFields() {
+        return zoneMapFields;
+    }
+
+    /**
+     * Sets names of the value fields to collect the data page bounds for. For every data page of the partition the
+     * minimum and maximum values of the fields are kept on-heap, so the full SQL table scans with range conditions on
+     * the fields skip the rows stored on the pages which can't match without reading them. Works best when the rows are
+     * inserted roughly ordered by the fields, for example, for time series. Bounds are collected for the numeric
+     * fields of the binary values only. The setting must be the same for all caches of a cache group.
+     *
+     * @param zoneMapFields Value field names.
+     * @return {@code this} for chaining.
+     */
+    public CacheConfiguration<K, V> setZoneMapFields(String... zoneMapFields) {
+        this.zoneMapFields = zoneMapFields;
+
+        return this;
+    }
+
     /**
      * @return Near enabled flag.
      */
@@ -2435,6 +2472,37 @@ public class CacheConfiguration<K, V> extends MutableConfiguration<K, V> impleme
         return this;
     }
 
+    /**
+     * Gets size of a serialized value in bytes starting from which the value is stored out of data pages.
+     * Makes sense only with enabled {@link DataRegionConfiguration#setPersistenceEnabled persistence}.
+     *
+     * @return Value separation threshold in bytes or {@code 0} if value separation is disabled.
+     * @see #setValueSeparationThreshold(int)
+     */
+    public int getValueSeparationThreshold() {
+        return valSeparationThreshold;
+    }
+
+    /**
+     * Sets size of a serialized value in bytes starting from which the value is stored out of data pages.
+     * <p>
+     * Such values are appended to log-structured blob files of a partition and the data row keeps only a reference
+     * to the value. Page memory holds keys and small values only, and an update of a large value becomes a sequential
+     * append instead of rewriting a chain of data pages. Space of the overwritten and removed values is reclaimed in
+     * the background. The setting must be the same for all caches of a cache group.
+     * Makes sense only with enabled {@link DataRegionConfiguration#setPersistenceEnabled persistence}.
+     * <p>
+     * Default is {@link #DFLT_VALUE_SEPARATION_THRESHOLD}, value separation is disabled.
+     *
+     * @param valSeparationThreshold Value separation threshold in bytes or {@code 0} to disable value separation.
+     * @return {@code this} for chaining.
+     */
+    public CacheConfiguration<K, V> setValueSeparationThreshold(int valSeparationThreshold) {
+        this.valSeparationThreshold = valSeparationThreshold;
+
+        return this;
+    }
+
     /**
      * @return A path to the root directory where the Persistent Store for cache group will persist data and indexes.
      */
@@ -70,7 +70,27 @@ public enum PageReplacementMode {
      * This algorithm has near to zero maintenance cost and replacement policy efficiency between random-LRU and
      * segmented-LRU.
      */
-    CLOCK;
+    CLOCK,
+
+    /**
+     * Adaptive 2Q algorithm.
+     *
+     * Pages are kept in two lists: a recent FIFO list and a frequent LRU list. New pages are added to the tail of the
+     * recent list, repeated accesses to the pages of the recent list don't move them, so one-time scans pass through
+     * the recent list only. Replaced pages are remembered in a ghost list. When a page is loaded again while its ghost
+     * is alive, the page is added to the tail of the frequent list, accesses to the pages of the frequent list move
+     * them to the tail. Page to replace is polled from the head of the recent list while the recent list is larger
+     * than its target size, otherwise from the head of the frequent list. The target size adapts to the workload
+     * (similar to ARC algorithm): a ghost hit of the page replaced from the recent list increases the target size,
+     * a ghost hit of the page replaced from the frequent list decreases it.
+     *
+     * This algorithm requires additional memory to store pages lists and the ghost list (about 12 bytes per page) and
+     * needs to update the lists on each page access. It's the most scan-resistant algorithm, and can outperform other
+     * algorithms on workloads with a hot working set bigger than the half of the data region mixed with large scans.
+     * Page hits, misses and ghost hits are reported by {@code PageHits}, {@code PageMisses} and {@code PageGhostHits}
+     * metrics of the data region and cache groups.
+     */
+    ADAPTIVE_2Q;
 
     /** Enumerated values. */
     private static final PageReplacementMode[] VALS = values();
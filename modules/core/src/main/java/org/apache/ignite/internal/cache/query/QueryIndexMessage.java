@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.cache.query;
 
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import org.apache.ignite.cache.QueryIndex;
 import org.apache.ignite.cache.QueryIndexType;
@@ -45,6 +46,11 @@ public class QueryIndexMessage implements Message {
     @Order(3)
     int inlineSize;
 
+    /** */
+    @GridToStringInclude
+    @Order(4)
+    Collection<String> includeFields;
+
     /** Empty constructor for {@link MessageFactory}. */
     public QueryIndexMessage() {
         // No-op.
@@ -56,6 +62,7 @@ public class QueryIndexMessage implements Message {
         fields = idx.getFields();
         type = idx.getIndexType();
         inlineSize = idx.getInlineSize();
+        includeFields = idx.getIncludeFields();
     }
 
     /** @return Copy of {@code msg} as {@link QueryIndex}. */
@@ -66,6 +73,7 @@ public class QueryIndexMessage implements Message {
         res.setFields(msg.fields);
         res.setIndexType(msg.type);
         res.setInlineSize(msg.inlineSize);
+        res.setIncludeFields(msg.includeFields);
 
         return res;
     }
@@ -64,6 +64,7 @@ import org.apache.ignite.internal.processors.query.IgniteSQLException;
 import org.apache.ignite.internal.processors.query.QueryUtils;
 import org.apache.ignite.internal.processors.query.schema.IndexRebuildCancelToken;
 import org.apache.ignite.internal.processors.query.schema.SchemaIndexCacheVisitor;
+import org.apache.ignite.internal.processors.query.schema.SchemaIndexCacheVisitorClosure;
 import org.apache.ignite.internal.thread.pool.IgniteThreadPoolExecutor;
 import org.apache.ignite.internal.util.GridAtomicLong;
 import org.apache.ignite.internal.util.collection.IntMap;
@@ -233,9 +234,17 @@ public class IndexProcessor extends GridProcessorAdapter {
             Index idx = createIndex(cctx, dynamicFactory, definition);
 
             // Populate index with cache rows.
-            cacheVisitor.visit(row -> {
-                if (idx.canHandle(row))
-                    idx.onUpdate(null, row, false);
+            cacheVisitor.visit(new SchemaIndexCacheVisitorClosure() {
+                /** {@inheritDoc} */
+                @Override public void apply(CacheDataRow row) throws IgniteCheckedException {
+                    if (idx.canHandle(row))
+                        idx.onUpdate(null, row, false);
+                }
+
+                /** {@inheritDoc} */
+                @Override public InlineIndex sortIndex() {
+                    return idx instanceof InlineIndex ? (InlineIndex)idx : null;
+                }
             });
 
             return idx;
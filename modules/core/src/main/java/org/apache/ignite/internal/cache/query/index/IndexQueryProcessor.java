@@ -248,7 +248,11 @@ public class IndexQueryProcessor {
         Collection<Index> idxs = idxProc.indexes(cctx.name(), true);
 
         for (Index idx: idxs) {
-            SortedSegmentedIndex sortedIdx = assertSortedIndex(idx);
+            // Only sorted indexes support range criteria.
+            if (!(idx instanceof SortedSegmentedIndex))
+                continue;
+
+            SortedSegmentedIndex sortedIdx = (SortedSegmentedIndex)idx;
 
             if (checkIndex(sortedIdx, tableName, criteriaFlds))
                 return sortedIdx;
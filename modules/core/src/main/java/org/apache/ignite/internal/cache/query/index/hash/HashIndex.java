@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.util.lang.GridCursor;
+
+/**
+ * Represents an index that supports only equality lookups on all the index keys.
+ */
+public interface HashIndex extends Index {
+    /**
+     * Finds rows with the index keys equal to the given keys. Expired rows are skipped.
+     *
+     * @param keys Index keys, one for each index key definition.
+     * @return Cursor of found rows.
+     * @throws IgniteCheckedException If failed.
+     */
+    public GridCursor<IndexRow> find(IndexKey[] keys) throws IgniteCheckedException;
+
+    /**
+     * Checks whether index keys of the cache row are equal to the given keys.
+     *
+     * @param row Cache row.
+     * @param keys Index keys, one for each index key definition.
+     * @return {@code True} if keys are equal.
+     * @throws IgniteCheckedException If failed.
+     */
+    public boolean matches(CacheDataRow row, IndexKey[] keys) throws IgniteCheckedException;
+
+    /**
+     * @return Count of indexed rows.
+     * @throws IgniteCheckedException If failed.
+     */
+    public long totalCount() throws IgniteCheckedException;
+
+    /**
+     * @return Index row handler.
+     */
+    public InlineIndexRowHandler rowHandler();
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.IndexDefinition;
+import org.apache.ignite.internal.cache.query.index.IndexFactory;
+import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.SortedIndexDefinition;
+import org.apache.ignite.internal.metric.IoStatisticsHolderIndex;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.RootPage;
+
+import static org.apache.ignite.internal.metric.IoStatisticsType.HASH_INDEX;
+
+/**
+ * Factory to create {@link HashIndex}.
+ */
+public class HashIndexFactory implements IndexFactory {
+    /** */
+    public static final HashIndexFactory INSTANCE = new HashIndexFactory();
+
+    /** {@inheritDoc} */
+    @Override public Index createIndex(GridCacheContext<?, ?> cctx, IndexDefinition def) {
+        SortedIndexDefinition sdef = (SortedIndexDefinition)def;
+
+        IoStatisticsHolderIndex stats = new IoStatisticsHolderIndex(
+            HASH_INDEX,
+            cctx.name(),
+            sdef.idxName().idxName(),
+            cctx.kernalContext().metric()
+        );
+
+        // Required for persistence.
+        IgniteCacheDatabaseSharedManager db = cctx.shared().database();
+        db.checkpointReadLock();
+
+        try {
+            RootPage rootPage = cctx.offheap().rootPageForIndex(cctx.cacheId(), sdef.treeName(), 0);
+
+            HashIndexStorage storage = new HashIndexStorage(
+                sdef.treeName(),
+                cctx.groupId(),
+                cctx.group().name(),
+                cctx.dataRegion().pageMemory(),
+                cctx.shared().wal(),
+                cctx.shared().diagnostic().pageLockTracker(),
+                cctx.offheap().reuseListForIndex(sdef.treeName()),
+                rootPage.pageId().pageId(),
+                rootPage.isAllocated(),
+                stats
+            );
+
+            InlineIndexRowHandler rowHnd = sdef.rowHandlerFactory().create(sdef, sdef.keyTypeSettings());
+
+            return new HashIndexImpl(cctx, sdef, storage, rowHnd, stats);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException(e);
+        }
+        finally {
+            db.checkpointReadUnlock();
+        }
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.failure.FailureContext;
+import org.apache.ignite.internal.cache.query.index.AbstractIndex;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRowImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexValueCursor;
+import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.SortedIndexDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.ThreadLocalRowHandlerHolder;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.NullIndexKey;
+import org.apache.ignite.internal.metric.IoStatisticsHolderIndex;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapter;
+import org.apache.ignite.internal.util.GridCursorIteratorWrapper;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.cluster.ClusterState.INACTIVE;
+import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
+
+/**
+ * Hash index implementation. Stores hashes of the index keys and links to the cache rows in {@link HashIndexStorage}.
+ */
+public class HashIndexImpl extends AbstractIndex implements HashIndex {
+    /** Unique ID. */
+    private final UUID id = UUID.randomUUID();
+
+    /** Index definition. */
+    private final SortedIndexDefinition def;
+
+    /** Cache context. */
+    private final GridCacheContext<?, ?> cctx;
+
+    /** Storage. */
+    private final HashIndexStorage storage;
+
+    /** */
+    private final IoStatisticsHolderIndex stats;
+
+    /** Row handler. */
+    private final InlineIndexRowHandler rowHnd;
+
+    /** If {code true} then this index is already marked as destroyed. */
+    private final AtomicBoolean destroyed = new AtomicBoolean();
+
+    /** Constructor. */
+    public HashIndexImpl(GridCacheContext<?, ?> cctx, SortedIndexDefinition def, HashIndexStorage storage,
+        InlineIndexRowHandler rowHnd, IoStatisticsHolderIndex stats) {
+        this.cctx = cctx;
+        this.def = def;
+        this.storage = storage;
+        this.rowHnd = rowHnd;
+        this.stats = stats;
+    }
+
+    /** {@inheritDoc} */
+    @Override public UUID id() {
+        return id;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String name() {
+        return def.idxName().idxName();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean canHandle(CacheDataRow row) throws IgniteCheckedException {
+        return cctx.kernalContext().query().belongsToTable(
+            cctx, def.idxName().cacheName(), def.idxName().tableName(), row.key(), row.value());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onUpdate(@Nullable CacheDataRow oldRow, @Nullable CacheDataRow newRow,
+        boolean prevRowAvailable) throws IgniteCheckedException {
+        if (destroyed.get())
+            return;
+
+        ThreadLocalRowHandlerHolder.rowHandler(rowHnd);
+
+        try {
+            int oldHash = oldRow == null ? 0 : hash(oldRow);
+
+            // Validate all keys before an actual update. User may specify wrong data types for an insert query.
+            int newHash = newRow == null ? 0 : hash(newRow);
+
+            if (oldRow != null && newRow != null && oldRow.link() == newRow.link() && oldHash == newHash)
+                return;
+
+            update(oldRow, oldHash, newRow, newHash, !prevRowAvailable || rebuildInProgress());
+        }
+        finally {
+            ThreadLocalRowHandlerHolder.clearRowHandler();
+        }
+    }
+
+    /** */
+    private void update(
+        @Nullable CacheDataRow oldRow,
+        int oldHash,
+        @Nullable CacheDataRow newRow,
+        int newHash,
+        boolean checkExisting
+    ) throws IgniteCheckedException {
+        try {
+            if (oldRow != null)
+                storage.remove(oldHash, oldRow.link());
+
+            if (newRow != null)
+                storage.insert(newHash, newRow.link(), checkExisting);
+        }
+        catch (Throwable t) {
+            cctx.kernalContext().failure().process(new FailureContext(CRITICAL_ERROR, t));
+
+            throw t;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public GridCursor<IndexRow> find(IndexKey[] keys) throws IgniteCheckedException {
+        assert keys.length == rowHnd.indexKeyDefinitions().size();
+
+        // Null is not equal to any value.
+        for (IndexKey key : keys) {
+            if (key == null || key == NullIndexKey.INSTANCE)
+                return IndexValueCursor.EMPTY;
+        }
+
+        List<IndexRow> rows = new ArrayList<>();
+
+        storage.find(hash(keys), link -> {
+            CacheDataRowAdapter row = new CacheDataRowAdapter(link);
+
+            row.initFromLink(cctx.group(), CacheDataRowAdapter.RowData.FULL, true);
+
+            if (row.expireTime() > 0 && row.expireTime() <= U.currentTimeMillis())
+                return;
+
+            IndexRowImpl idxRow = new IndexRowImpl(rowHnd, row);
+
+            if (matches(idxRow, keys))
+                rows.add(idxRow);
+        });
+
+        return rows.isEmpty() ? IndexValueCursor.EMPTY : new GridCursorIteratorWrapper<>(rows.iterator());
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean matches(CacheDataRow row, IndexKey[] keys) throws IgniteCheckedException {
+        return matches(new IndexRowImpl(rowHnd, row), keys);
+    }
+
+    /**
+     * @param row Index row.
+     * @param keys Index keys.
+     * @return {@code True} if keys of the row are equal to the given keys.
+     * @throws IgniteCheckedException If failed.
+     */
+    private boolean matches(IndexRow row, IndexKey[] keys) throws IgniteCheckedException {
+        for (int i = 0; i < keys.length; i++) {
+            IndexKey key = row.key(i);
+
+            if (key == null || key == NullIndexKey.INSTANCE || def.rowComparator().compareKey(key, keys[i]) != 0)
+                return false;
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long totalCount() throws IgniteCheckedException {
+        return storage.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override public InlineIndexRowHandler rowHandler() {
+        return rowHnd;
+    }
+
+    /**
+     * @return Storage.
+     */
+    public HashIndexStorage storage() {
+        return storage;
+    }
+
+    /**
+     * @param row Cache row.
+     * @return Hash of the index keys of the row.
+     */
+    private int hash(CacheDataRow row) {
+        IndexRowImpl idxRow = new IndexRowImpl(rowHnd, row);
+
+        IndexKey[] keys = new IndexKey[rowHnd.indexKeyDefinitions().size()];
+
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = idxRow.key(i);
+
+        return hash(keys);
+    }
+
+    /**
+     * Calculates hash of the index keys. Keys that are equal by the index row comparator have the same hash.
+     *
+     * @param keys Index keys.
+     * @return Hash.
+     */
+    static int hash(IndexKey[] keys) {
+        int h = 0;
+
+        for (IndexKey key : keys)
+            h = 31 * h + hash(key);
+
+        // Lowest bits of the hash are used to address buckets.
+        return U.hash(h);
+    }
+
+    /**
+     * @param key Index key.
+     * @return Hash of the index key.
+     */
+    private static int hash(@Nullable IndexKey key) {
+        Object val = key == null ? null : key.key();
+
+        if (val == null)
+            return 0;
+
+        // Decimals with different scales are equal for the comparator.
+        if (val instanceof BigDecimal)
+            return ((BigDecimal)val).stripTrailingZeros().hashCode();
+
+        if (val instanceof byte[])
+            return Arrays.hashCode((byte[])val);
+
+        return val.hashCode();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void destroy(boolean softDel) {
+        // Already destroyed.
+        if (!destroyed.compareAndSet(false, true))
+            return;
+
+        if (!cctx.affinityNode() || softDel)
+            return;
+
+        cctx.kernalContext().metric().remove(stats.metricRegistryName());
+
+        if (!cctx.group().persistenceEnabled() && cctx.kernalContext().state().clusterState().state() == INACTIVE)
+            return;
+
+        cctx.shared().database().checkpointReadLock();
+
+        try {
+            cctx.offheap().dropRootPageForIndex(cctx.cacheId(), def.treeName(), 0);
+
+            storage.destroy();
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException(e);
+        }
+        finally {
+            cctx.shared().database().checkpointReadUnlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public SortedIndexDefinition indexDefinition() {
+        return def;
+    }
+}
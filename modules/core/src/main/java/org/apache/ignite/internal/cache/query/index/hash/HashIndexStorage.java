@@ -0,0 +1,991 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.hash.io.HashIndexBucketIO;
+import org.apache.ignite.internal.cache.query.index.hash.io.HashIndexDirectoryIO;
+import org.apache.ignite.internal.cache.query.index.hash.io.HashIndexMetaIO;
+import org.apache.ignite.internal.metric.IoStatisticsHolder;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.pagemem.wal.record.delta.HashIndexBucketInsertRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.HashIndexBucketRemoveRecord;
+import org.apache.ignite.internal.processors.cache.persistence.DataStructure;
+import org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerManager;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIoResolver;
+import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.LongListReuseBag;
+import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
+import org.apache.ignite.internal.util.lang.IgniteThrowableConsumer;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+import static java.lang.Boolean.TRUE;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_IDX;
+
+/**
+ * Persistent hash index storage based on the extendible hashing. Stores {@code (hash, link)} pairs.
+ * <p>
+ * The directory addresses bucket chains by the lowest {@code globalDepth} bits of the hash, several directory entries
+ * may refer to the same bucket chain if the local depth of the bucket is less than the global depth. A full bucket is
+ * split by the next hash bit, the directory is doubled if needed. If the bucket can't be split, because all its items
+ * share the hash bits up to the maximum depth, an overflow page is appended to the bucket chain. Buckets are never
+ * merged.
+ * <p>
+ * The directory is stored in the directory pages referred by the meta page and is cached on heap, so a lookup touches
+ * only the pages of the bucket chain. Item insertions and removals are logged to WAL as delta records, bucket splits
+ * and directory changes are logged as full page records.
+ */
+public class HashIndexStorage extends DataStructure {
+    /** Maximum global depth of the directory. */
+    private static final int MAX_DEPTH = 30;
+
+    /** */
+    private final long metaPageId;
+
+    /** */
+    private final IoStatisticsHolder stats;
+
+    /** Maximum global depth for the current page size. */
+    private final int maxDepth;
+
+    /** Guards directory. Bucket pages are modified under the read lock, bucket chains are changed under the write lock. */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Bucket chain first page IDs, indexed by the lowest {@link #globalDepth} bits of the hash. */
+    private long[] dir;
+
+    /** */
+    private int globalDepth;
+
+    /** Directory page IDs. */
+    private long[] dirPages;
+
+    /** */
+    private boolean destroyed;
+
+    /**
+     * @param name Structure name.
+     * @param grpId Cache group ID.
+     * @param grpName Cache group name.
+     * @param pageMem Page memory.
+     * @param wal Write ahead log manager.
+     * @param lockTrackerMgr Page lock tracker manager.
+     * @param reuseList Reuse list.
+     * @param metaPageId Meta page ID.
+     * @param initNew {@code True} if new storage should be created.
+     * @param stats Statistics holder to track IO operations.
+     * @throws IgniteCheckedException If failed.
+     */
+    public HashIndexStorage(
+        String name,
+        int grpId,
+        @Nullable String grpName,
+        PageMemory pageMem,
+        @Nullable IgniteWriteAheadLogManager wal,
+        PageLockTrackerManager lockTrackerMgr,
+        @Nullable ReuseList reuseList,
+        long metaPageId,
+        boolean initNew,
+        IoStatisticsHolder stats
+    ) throws IgniteCheckedException {
+        super(name, grpId, grpName, pageMem, wal, lockTrackerMgr, PageIoResolver.DEFAULT_PAGE_IO_RESOLVER, FLAG_IDX);
+
+        this.reuseList = reuseList;
+        this.metaPageId = metaPageId;
+        this.stats = stats;
+
+        long maxDirSize = (long)HashIndexMetaIO.getCapacity(pageSize()) * HashIndexDirectoryIO.getCapacity(pageSize());
+
+        maxDepth = Math.min(MAX_DEPTH, 63 - Long.numberOfLeadingZeros(maxDirSize));
+
+        if (initNew)
+            initNew();
+        else
+            load();
+    }
+
+    /**
+     * Creates the directory with the single empty bucket.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    private void initNew() throws IgniteCheckedException {
+        init(metaPageId, HashIndexMetaIO.VERSIONS.latest());
+
+        long bucketId = allocatePage(null);
+
+        init(bucketId, HashIndexBucketIO.VERSIONS.latest());
+
+        globalDepth = 0;
+        dir = new long[] {bucketId};
+        dirPages = new long[0];
+
+        ensureDirectoryPages();
+
+        writeDirectoryPages(0, dir.length);
+        writeMeta();
+    }
+
+    /**
+     * Reads the directory from the meta and directory pages.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    private void load() throws IgniteCheckedException {
+        long page = acquirePage(metaPageId, stats);
+
+        try {
+            long pageAddr = readLock(metaPageId, page);
+
+            assert pageAddr != 0L;
+
+            try {
+                HashIndexMetaIO io = HashIndexMetaIO.VERSIONS.forPage(pageAddr);
+
+                globalDepth = io.getGlobalDepth(pageAddr);
+                dirPages = new long[io.getDirectoryPagesCount(pageAddr)];
+
+                for (int i = 0; i < dirPages.length; i++)
+                    dirPages[i] = io.getDirectoryPageId(pageAddr, i);
+            }
+            finally {
+                readUnlock(metaPageId, page, pageAddr);
+            }
+        }
+        finally {
+            releasePage(metaPageId, page);
+        }
+
+        dir = new long[1 << globalDepth];
+
+        int dirCap = HashIndexDirectoryIO.getCapacity(pageSize());
+
+        for (int p = 0; p < dirPages.length; p++) {
+            long pageId = dirPages[p];
+
+            page = acquirePage(pageId, stats);
+
+            try {
+                long pageAddr = readLock(pageId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    HashIndexDirectoryIO io = HashIndexDirectoryIO.VERSIONS.forPage(pageAddr);
+
+                    for (int i = p * dirCap; i < Math.min(dir.length, (p + 1) * dirCap); i++)
+                        dir[i] = io.getBucketId(pageAddr, i - p * dirCap);
+                }
+                finally {
+                    readUnlock(pageId, page, pageAddr);
+                }
+            }
+            finally {
+                releasePage(pageId, page);
+            }
+        }
+    }
+
+    /**
+     * @return Meta page ID.
+     */
+    public long metaPageId() {
+        return metaPageId;
+    }
+
+    /**
+     * @return Global depth of the directory.
+     */
+    public int globalDepth() {
+        lock.readLock().lock();
+
+        try {
+            return globalDepth;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param hash Hash.
+     * @return Index of the directory entry.
+     */
+    private int bucket(int hash) {
+        return hash & ((1 << globalDepth) - 1);
+    }
+
+    /**
+     * Inserts the item.
+     *
+     * @param hash Hash.
+     * @param link Link.
+     * @param checkExisting If {@code true} then the item is not inserted if it is already present.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void insert(int hash, long link, boolean checkExisting) throws IgniteCheckedException {
+        lock.readLock().lock();
+
+        try {
+            if (destroyed)
+                return;
+
+            long headId = dir[bucket(hash)];
+
+            if (checkExisting && contains(headId, hash, link))
+                return;
+
+            if (insertToChain(headId, hash, link))
+                return;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+
+        try {
+            if (destroyed)
+                return;
+
+            // Item could be inserted concurrently while the lock was released.
+            if (checkExisting && contains(dir[bucket(hash)], hash, link))
+                return;
+
+            while (true) {
+                long headId = dir[bucket(hash)];
+
+                if (insertToChain(headId, hash, link))
+                    return;
+
+                if (!split(headId, hash)) {
+                    appendPage(headId, hash, link);
+
+                    return;
+                }
+            }
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the item.
+     *
+     * @param hash Hash.
+     * @param link Link.
+     * @return {@code True} if the item was found and removed.
+     * @throws IgniteCheckedException If failed.
+     */
+    public boolean remove(int hash, long link) throws IgniteCheckedException {
+        lock.readLock().lock();
+
+        try {
+            if (destroyed)
+                return false;
+
+            long pageId = dir[bucket(hash)];
+
+            while (pageId != 0L) {
+                long page = acquirePage(pageId, stats);
+                long nextId;
+
+                try {
+                    long pageAddr = writeLock(pageId, page);
+
+                    assert pageAddr != 0L;
+
+                    boolean rmvd = false;
+
+                    try {
+                        HashIndexBucketIO io = HashIndexBucketIO.VERSIONS.forPage(pageAddr);
+
+                        for (int i = 0; i < io.getCount(pageAddr); i++) {
+                            if (io.getHash(pageAddr, i) == hash && io.getLink(pageAddr, i) == link) {
+                                io.removeItem(pageAddr, i);
+
+                                if (needWalDeltaRecord(pageId, page, null))
+                                    wal.log(new HashIndexBucketRemoveRecord(grpId, pageId, i));
+
+                                rmvd = true;
+
+                                return true;
+                            }
+                        }
+
+                        nextId = io.getNextId(pageAddr);
+                    }
+                    finally {
+                        writeUnlock(pageId, page, pageAddr, rmvd);
+                    }
+                }
+                finally {
+                    releasePage(pageId, page);
+                }
+
+                pageId = nextId;
+            }
+
+            return false;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds links of the items with the given hash. The consumer is called under the read lock of the bucket page, so
+     * the row referred by the link can't be removed concurrently.
+     *
+     * @param hash Hash.
+     * @param c Link consumer.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void find(int hash, IgniteThrowableConsumer<Long> c) throws IgniteCheckedException {
+        lock.readLock().lock();
+
+        try {
+            if (destroyed)
+                return;
+
+            long pageId = dir[bucket(hash)];
+
+            while (pageId != 0L) {
+                long page = acquirePage(pageId, stats);
+                long nextId;
+
+                try {
+                    long pageAddr = readLock(pageId, page);
+
+                    assert pageAddr != 0L;
+
+                    try {
+                        HashIndexBucketIO io = HashIndexBucketIO.VERSIONS.forPage(pageAddr);
+
+                        for (int i = 0; i < io.getCount(pageAddr); i++) {
+                            if (io.getHash(pageAddr, i) == hash)
+                                c.accept(io.getLink(pageAddr, i));
+                        }
+
+                        nextId = io.getNextId(pageAddr);
+                    }
+                    finally {
+                        readUnlock(pageId, page, pageAddr);
+                    }
+                }
+                finally {
+                    releasePage(pageId, page);
+                }
+
+                pageId = nextId;
+            }
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Count of items.
+     * @throws IgniteCheckedException If failed.
+     */
+    public long size() throws IgniteCheckedException {
+        lock.readLock().lock();
+
+        try {
+            if (destroyed)
+                return 0;
+
+            long size = 0;
+
+            for (long headId : distinctBuckets()) {
+                for (long pageId = headId; pageId != 0L; ) {
+                    long page = acquirePage(pageId, stats);
+                    long nextId;
+
+                    try {
+                        long pageAddr = readLock(pageId, page);
+
+                        assert pageAddr != 0L;
+
+                        try {
+                            HashIndexBucketIO io = HashIndexBucketIO.VERSIONS.forPage(pageAddr);
+
+                            size += io.getCount(pageAddr);
+
+                            nextId = io.getNextId(pageAddr);
+                        }
+                        finally {
+                            readUnlock(pageId, page, pageAddr);
+                        }
+                    }
+                    finally {
+                        releasePage(pageId, page);
+                    }
+
+                    pageId = nextId;
+                }
+            }
+
+            return size;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recycles all the pages of the storage including the meta page. Updates of the destroyed storage are ignored.
+     *
+     * @return Count of recycled pages.
+     * @throws IgniteCheckedException If failed.
+     */
+    public long destroy() throws IgniteCheckedException {
+        lock.writeLock().lock();
+
+        try {
+            if (destroyed)
+                return 0;
+
+            destroyed = true;
+
+            LongListReuseBag bag = new LongListReuseBag();
+
+            for (long headId : distinctBuckets()) {
+                long pageId = headId;
+
+                while (pageId != 0L)
+                    pageId = recycle(pageId, bag);
+            }
+
+            for (long pageId : dirPages)
+                recycle(pageId, bag);
+
+            recycle(metaPageId, bag);
+
+            long pagesCnt = bag.size();
+
+            if (reuseList != null)
+                reuseList.addForRecycle(bag);
+
+            return pagesCnt;
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param pageId Page ID.
+     * @param bag Reuse bag.
+     * @return Next page ID of the bucket chain or {@code 0} if the page is not a bucket page.
+     * @throws IgniteCheckedException If failed.
+     */
+    private long recycle(long pageId, LongListReuseBag bag) throws IgniteCheckedException {
+        long page = acquirePage(pageId, stats);
+
+        try {
+            long pageAddr = writeLock(pageId, page);
+
+            assert pageAddr != 0L;
+
+            try {
+                long nextId = PageIO.getType(pageAddr) == PageIO.T_HASH_INDEX_BUCKET ?
+                    HashIndexBucketIO.VERSIONS.forPage(pageAddr).getNextId(pageAddr) : 0L;
+
+                bag.addFreePage(recyclePage(pageId, page, pageAddr, null));
+
+                return nextId;
+            }
+            finally {
+                writeUnlock(pageId, page, pageAddr, true);
+            }
+        }
+        finally {
+            releasePage(pageId, page);
+        }
+    }
+
+    /**
+     * @return Distinct first page IDs of the bucket chains.
+     */
+    private long[] distinctBuckets() {
+        return Arrays.stream(dir).distinct().toArray();
+    }
+
+    /**
+     * @param headId First page ID of the bucket chain.
+     * @param hash Hash.
+     * @param link Link.
+     * @return {@code True} if the item is present in the chain.
+     * @throws IgniteCheckedException If failed.
+     */
+    private boolean contains(long headId, int hash, long link) throws IgniteCheckedException {
+        for (long pageId = headId; pageId != 0L; ) {
+            long page = acquirePage(pageId, stats);
+            long nextId;
+
+            try {
+                long pageAddr = readLock(pageId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    HashIndexBucketIO io = HashIndexBucketIO.VERSIONS.forPage(pageAddr);
+
+                    for (int i = 0; i < io.getCount(pageAddr); i++) {
+                        if (io.getHash(pageAddr, i) == hash && io.getLink(pageAddr, i) == link)
+                            return true;
+                    }
+
+                    nextId = io.getNextId(pageAddr);
+                }
+                finally {
+                    readUnlock(pageId, page, pageAddr);
+                }
+            }
+            finally {
+                releasePage(pageId, page);
+            }
+
+            pageId = nextId;
+        }
+
+        return false;
+    }
+
+    /**
+     * @param headId First page ID of the bucket chain.
+     * @param hash Hash.
+     * @param link Link.
+     * @return {@code True} if the item was inserted, {@code false} if all the pages of the chain are full.
+     * @throws IgniteCheckedException If failed.
+     */
+    private boolean insertToChain(long headId, int hash, long link) throws IgniteCheckedException {
+        for (long pageId = headId; pageId != 0L; ) {
+            long page = acquirePage(pageId, stats);
+            long nextId;
+
+            try {
+                long pageAddr = writeLock(pageId, page);
+
+                assert pageAddr != 0L;
+
+                boolean added = false;
+
+                try {
+                    HashIndexBucketIO io = HashIndexBucketIO.VERSIONS.forPage(pageAddr);
+
+                    if (io.addItem(pageAddr, hash, link, pageSize()) >= 0) {
+                        if (needWalDeltaRecord(pageId, page, null))
+                            wal.log(new HashIndexBucketInsertRecord(grpId, pageId, hash, link));
+
+                        added = true;
+
+                        return true;
+                    }
+
+                    nextId = io.getNextId(pageAddr);
+                }
+                finally {
+                    writeUnlock(pageId, page, pageAddr, added);
+                }
+            }
+            finally {
+                releasePage(pageId, page);
+            }
+
+            pageId = nextId;
+        }
+
+        return false;
+    }
+
+    /**
+     * Appends overflow page with the item to the end of the bucket chain.
+     *
+     * @param headId First page ID of the bucket chain.
+     * @param hash Hash.
+     * @param link Link.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void appendPage(long headId, int hash, long link) throws IgniteCheckedException {
+        long newPageId = allocatePage(null);
+
+        init(newPageId, HashIndexBucketIO.VERSIONS.latest());
+
+        boolean inserted = insertToChain(newPageId, hash, link);
+
+        assert inserted;
+
+        List<Long> chain = chain(headId);
+
+        long tailId = chain.get(chain.size() - 1);
+
+        long page = acquirePage(tailId, stats);
+
+        try {
+            long pageAddr = writeLock(tailId, page);
+
+            assert pageAddr != 0L;
+
+            try {
+                HashIndexBucketIO.VERSIONS.forPage(pageAddr).setNextId(pageAddr, newPageId);
+            }
+            finally {
+                writeUnlock(tailId, page, pageAddr, TRUE, true);
+            }
+        }
+        finally {
+            releasePage(tailId, page);
+        }
+    }
+
+    /**
+     * Splits the bucket by the next bit of the hash.
+     *
+     * @param headId First page ID of the bucket chain.
+     * @param hash Hash of the item to insert.
+     * @return {@code False} if the bucket can't be split, because all its items and the item to insert share the hash
+     *      bits up to the maximum depth.
+     * @throws IgniteCheckedException If failed.
+     */
+    private boolean split(long headId, int hash) throws IgniteCheckedException {
+        List<Long> chain = chain(headId);
+
+        int cnt = 0;
+        int locDepth = 0;
+
+        int[] hashes = new int[HashIndexBucketIO.getCapacity(pageSize()) * chain.size()];
+        long[] links = new long[hashes.length];
+
+        for (long pageId : chain) {
+            long page = acquirePage(pageId, stats);
+
+            try {
+                long pageAddr = readLock(pageId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    HashIndexBucketIO io = HashIndexBucketIO.VERSIONS.forPage(pageAddr);
+
+                    if (pageId == headId)
+                        locDepth = io.getLocalDepth(pageAddr);
+
+                    for (int i = 0; i < io.getCount(pageAddr); i++, cnt++) {
+                        hashes[cnt] = io.getHash(pageAddr, i);
+                        links[cnt] = io.getLink(pageAddr, i);
+                    }
+                }
+                finally {
+                    readUnlock(pageId, page, pageAddr);
+                }
+            }
+            finally {
+                releasePage(pageId, page);
+            }
+        }
+
+        int diff = 0;
+
+        for (int i = 0; i < cnt; i++)
+            diff |= hashes[i] ^ hash;
+
+        // Items differ only in the bits that can't be used to address the directory.
+        if ((diff & ((1 << maxDepth) - 1)) >>> locDepth == 0)
+            return false;
+
+        if (locDepth == globalDepth)
+            doubleDirectory();
+
+        int bit = 1 << locDepth;
+
+        int[] loHashes = new int[cnt];
+        long[] loLinks = new long[cnt];
+        int loCnt = 0;
+
+        int[] hiHashes = new int[cnt];
+        long[] hiLinks = new long[cnt];
+        int hiCnt = 0;
+
+        for (int i = 0; i < cnt; i++) {
+            if ((hashes[i] & bit) == 0) {
+                loHashes[loCnt] = hashes[i];
+                loLinks[loCnt++] = links[i];
+            }
+            else {
+                hiHashes[hiCnt] = hashes[i];
+                hiLinks[hiCnt++] = links[i];
+            }
+        }
+
+        Deque<Long> pool = new ArrayDeque<>(chain);
+
+        long loHeadId = writeChain(pool, loHashes, loLinks, loCnt, locDepth + 1);
+        long hiHeadId = writeChain(pool, hiHashes, hiLinks, hiCnt, locDepth + 1);
+
+        assert loHeadId == headId;
+
+        if (!pool.isEmpty()) {
+            LongListReuseBag bag = new LongListReuseBag();
+
+            for (long pageId : pool)
+                recycle(pageId, bag);
+
+            if (reuseList != null)
+                reuseList.addForRecycle(bag);
+        }
+
+        int from = Integer.MAX_VALUE;
+        int to = 0;
+
+        for (int i = (hash & (bit - 1)) | bit; i < dir.length; i += bit << 1) {
+            assert dir[i] == headId;
+
+            dir[i] = hiHeadId;
+
+            from = Math.min(from, i);
+            to = i + 1;
+        }
+
+        writeDirectoryPages(from, to);
+
+        return true;
+    }
+
+    /**
+     * Writes items to the new bucket chain. Pages of the chain are taken from the pool or allocated.
+     *
+     * @param pool Pool of bucket pages.
+     * @param hashes Hashes.
+     * @param links Links.
+     * @param cnt Count of items.
+     * @param locDepth Local depth of the bucket.
+     * @return First page ID of the chain.
+     * @throws IgniteCheckedException If failed.
+     */
+    private long writeChain(Deque<Long> pool, int[] hashes, long[] links, int cnt, int locDepth)
+        throws IgniteCheckedException {
+        int cap = HashIndexBucketIO.getCapacity(pageSize());
+
+        long[] pages = new long[Math.max(1, (cnt + cap - 1) / cap)];
+
+        HashIndexBucketIO io = HashIndexBucketIO.VERSIONS.latest();
+
+        for (int p = 0; p < pages.length; p++) {
+            if (pool.isEmpty()) {
+                pages[p] = allocatePage(null);
+
+                init(pages[p], io);
+            }
+            else
+                pages[p] = pool.poll();
+        }
+
+        for (int p = 0; p < pages.length; p++) {
+            long pageId = pages[p];
+            long page = acquirePage(pageId, stats);
+
+            try {
+                long pageAddr = writeLock(pageId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    io.initNewPage(pageAddr, pageId, pageSize(), metrics);
+
+                    io.setLocalDepth(pageAddr, locDepth);
+
+                    if (p + 1 < pages.length)
+                        io.setNextId(pageAddr, pages[p + 1]);
+
+                    for (int i = p * cap; i < Math.min(cnt, (p + 1) * cap); i++)
+                        io.addItem(pageAddr, hashes[i], links[i], pageSize());
+                }
+                finally {
+                    writeUnlock(pageId, page, pageAddr, TRUE, true);
+                }
+            }
+            finally {
+                releasePage(pageId, page);
+            }
+        }
+
+        return pages[0];
+    }
+
+    /**
+     * Doubles the directory and increments the global depth.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    private void doubleDirectory() throws IgniteCheckedException {
+        assert globalDepth < maxDepth;
+
+        long[] newDir = Arrays.copyOf(dir, dir.length << 1);
+
+        System.arraycopy(dir, 0, newDir, dir.length, dir.length);
+
+        dir = newDir;
+        globalDepth++;
+
+        ensureDirectoryPages();
+
+        writeDirectoryPages(0, dir.length);
+        writeMeta();
+    }
+
+    /**
+     * Allocates directory pages to hold the whole directory.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    private void ensureDirectoryPages() throws IgniteCheckedException {
+        int dirCap = HashIndexDirectoryIO.getCapacity(pageSize());
+
+        int pagesCnt = (dir.length + dirCap - 1) / dirCap;
+
+        if (pagesCnt <= dirPages.length)
+            return;
+
+        int oldCnt = dirPages.length;
+
+        dirPages = Arrays.copyOf(dirPages, pagesCnt);
+
+        for (int i = oldCnt; i < pagesCnt; i++) {
+            dirPages[i] = allocatePage(null);
+
+            init(dirPages[i], HashIndexDirectoryIO.VERSIONS.latest());
+        }
+    }
+
+    /**
+     * Writes the range of the directory entries to the directory pages.
+     *
+     * @param from Index of the first entry, inclusive.
+     * @param to Index of the last entry, exclusive.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void writeDirectoryPages(int from, int to) throws IgniteCheckedException {
+        int dirCap = HashIndexDirectoryIO.getCapacity(pageSize());
+
+        for (int p = from / dirCap; p * dirCap < to; p++) {
+            long pageId = dirPages[p];
+            long page = acquirePage(pageId, stats);
+
+            try {
+                long pageAddr = writeLock(pageId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    HashIndexDirectoryIO io = HashIndexDirectoryIO.VERSIONS.forPage(pageAddr);
+
+                    for (int i = Math.max(from, p * dirCap); i < Math.min(to, (p + 1) * dirCap); i++)
+                        io.setBucketId(pageAddr, i - p * dirCap, dir[i]);
+                }
+                finally {
+                    writeUnlock(pageId, page, pageAddr, TRUE, true);
+                }
+            }
+            finally {
+                releasePage(pageId, page);
+            }
+        }
+    }
+
+    /**
+     * Writes the global depth and the directory page IDs to the meta page.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    private void writeMeta() throws IgniteCheckedException {
+        long page = acquirePage(metaPageId, stats);
+
+        try {
+            long pageAddr = writeLock(metaPageId, page);
+
+            assert pageAddr != 0L;
+
+            try {
+                HashIndexMetaIO io = HashIndexMetaIO.VERSIONS.forPage(pageAddr);
+
+                io.setGlobalDepth(pageAddr, globalDepth);
+                io.setDirectoryPagesCount(pageAddr, dirPages.length);
+
+                for (int i = 0; i < dirPages.length; i++)
+                    io.setDirectoryPageId(pageAddr, i, dirPages[i]);
+            }
+            finally {
+                writeUnlock(metaPageId, page, pageAddr, TRUE, true);
+            }
+        }
+        finally {
+            releasePage(metaPageId, page);
+        }
+    }
+
+    /**
+     * @param headId First page ID of the bucket chain.
+     * @return Page IDs of the bucket chain.
+     * @throws IgniteCheckedException If failed.
+     */
+    private List<Long> chain(long headId) throws IgniteCheckedException {
+        List<Long> chain = new ArrayList<>();
+
+        for (long pageId = headId; pageId != 0L; ) {
+            chain.add(pageId);
+
+            long page = acquirePage(pageId, stats);
+
+            try {
+                long pageAddr = readLock(pageId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    pageId = HashIndexBucketIO.VERSIONS.forPage(pageAddr).getNextId(pageAddr);
+                }
+                finally {
+                    readUnlock(chain.get(chain.size() - 1), page, pageAddr);
+                }
+            }
+            finally {
+                releasePage(chain.get(chain.size() - 1), page);
+            }
+        }
+
+        return chain;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(HashIndexStorage.class, this, "name", name());
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash.io;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersions;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.util.GridStringBuilder;
+
+/**
+ * Hash index bucket page. Holds {@code (hash, link)} items of the bucket. If items don't fit the bucket page, they
+ * are stored in the chain of overflow pages linked by the next page ID. Local depth is meaningful only for the first
+ * page of the chain.
+ */
+public class HashIndexBucketIO extends PageIO {
+    /** */
+    public static final IOVersions<HashIndexBucketIO> VERSIONS = new IOVersions<>(
+        new HashIndexBucketIO(1)
+    );
+
+    /** */
+    private static final int NEXT_PAGE_ID_OFF = COMMON_HEADER_END;
+
+    /** */
+    private static final int LOCAL_DEPTH_OFF = NEXT_PAGE_ID_OFF + Long.BYTES;
+
+    /** */
+    private static final int CNT_OFF = LOCAL_DEPTH_OFF + 1;
+
+    /** */
+    private static final int ITEMS_OFF = CNT_OFF + Short.BYTES;
+
+    /** Item size: hash and link. */
+    private static final int ITEM_SIZE = Integer.BYTES + Long.BYTES;
+
+    /**
+     * @param ver Page format version.
+     */
+    protected HashIndexBucketIO(int ver) {
+        super(T_HASH_INDEX_BUCKET, ver);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void initNewPage(long pageAddr, long pageId, int pageSize, PageMetrics metrics) {
+        super.initNewPage(pageAddr, pageId, pageSize, metrics);
+
+        setNextId(pageAddr, 0L);
+        setLocalDepth(pageAddr, 0);
+        setCount(pageAddr, 0);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Next page ID of the chain.
+     */
+    public long getNextId(long pageAddr) {
+        return PageUtils.getLong(pageAddr, NEXT_PAGE_ID_OFF);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param nextId Next page ID of the chain.
+     */
+    public void setNextId(long pageAddr, long nextId) {
+        assertPageType(pageAddr);
+
+        PageUtils.putLong(pageAddr, NEXT_PAGE_ID_OFF, nextId);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Count of the lowest hash bits shared by all items of the bucket.
+     */
+    public int getLocalDepth(long pageAddr) {
+        return PageUtils.getByte(pageAddr, LOCAL_DEPTH_OFF);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param depth Count of the lowest hash bits shared by all items of the bucket.
+     */
+    public void setLocalDepth(long pageAddr, int depth) {
+        assert depth >= 0 && depth <= Byte.MAX_VALUE : depth;
+        assertPageType(pageAddr);
+
+        PageUtils.putByte(pageAddr, LOCAL_DEPTH_OFF, (byte)depth);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Count of items in the page.
+     */
+    public int getCount(long pageAddr) {
+        return PageUtils.getShort(pageAddr, CNT_OFF);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param cnt Count of items in the page.
+     */
+    private void setCount(long pageAddr, int cnt) {
+        assert cnt >= 0 && cnt <= Short.MAX_VALUE : cnt;
+        assertPageType(pageAddr);
+
+        PageUtils.putShort(pageAddr, CNT_OFF, (short)cnt);
+    }
+
+    /**
+     * @param pageSize Page size.
+     * @return Capacity of the page in items.
+     */
+    public static int getCapacity(int pageSize) {
+        return (pageSize - ITEMS_OFF) / ITEM_SIZE;
+    }
+
+    /**
+     * @param idx Item index.
+     * @return Item offset.
+     */
+    private static int offset(int idx) {
+        return ITEMS_OFF + ITEM_SIZE * idx;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     * @return Hash of the item.
+     */
+    public int getHash(long pageAddr, int idx) {
+        return PageUtils.getInt(pageAddr, offset(idx));
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     * @return Link of the item.
+     */
+    public long getLink(long pageAddr, int idx) {
+        return PageUtils.getLong(pageAddr, offset(idx) + Integer.BYTES);
+    }
+
+    /**
+     * Adds item to the end of the page.
+     *
+     * @param pageAddr Page address.
+     * @param hash Hash.
+     * @param link Link.
+     * @param pageSize Page size.
+     * @return Item index or {@code -1} if the page is full.
+     */
+    public int addItem(long pageAddr, int hash, long link, int pageSize) {
+        assertPageType(pageAddr);
+
+        int cnt = getCount(pageAddr);
+
+        if (cnt == getCapacity(pageSize))
+            return -1;
+
+        PageUtils.putInt(pageAddr, offset(cnt), hash);
+        PageUtils.putLong(pageAddr, offset(cnt) + Integer.BYTES, link);
+
+        setCount(pageAddr, cnt + 1);
+
+        return cnt;
+    }
+
+    /**
+     * Removes item from the page. The last item of the page is moved to the place of the removed item.
+     *
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     */
+    public void removeItem(long pageAddr, int idx) {
+        assertPageType(pageAddr);
+
+        int cnt = getCount(pageAddr);
+
+        assert idx >= 0 && idx < cnt : "idx=" + idx + ", cnt=" + cnt;
+
+        if (idx != cnt - 1) {
+            PageUtils.putInt(pageAddr, offset(idx), getHash(pageAddr, cnt - 1));
+            PageUtils.putLong(pageAddr, offset(idx) + Integer.BYTES, getLink(pageAddr, cnt - 1));
+        }
+
+        setCount(pageAddr, cnt - 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void printPage(long addr, int pageSize, GridStringBuilder sb) throws IgniteCheckedException {
+        sb.a("HashIndexBucket [\n\tnextPageId=").appendHex(getNextId(addr))
+            .a(",\n\tlocalDepth=").a(getLocalDepth(addr))
+            .a(",\n\tcount=").a(getCount(addr))
+            .a(",\n\titems={");
+
+        for (int i = 0; i < getCount(addr); i++)
+            sb.a("\n\t\t").a(getHash(addr, i)).a(':').appendHex(getLink(addr, i));
+
+        sb.a("\n\t}\n]");
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getFreeSpace(int pageSize, long pageAddr) {
+        return (getCapacity(pageSize) - getCount(pageAddr)) * ITEM_SIZE;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash.io;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersions;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.util.GridStringBuilder;
+
+/**
+ * Hash index directory page. Holds a consecutive part of the directory: first page IDs of bucket chains.
+ */
+public class HashIndexDirectoryIO extends PageIO {
+    /** */
+    public static final IOVersions<HashIndexDirectoryIO> VERSIONS = new IOVersions<>(
+        new HashIndexDirectoryIO(1)
+    );
+
+    /** */
+    private static final int ITEMS_OFF = COMMON_HEADER_END;
+
+    /**
+     * @param ver Page format version.
+     */
+    protected HashIndexDirectoryIO(int ver) {
+        super(T_HASH_INDEX_DIR, ver);
+    }
+
+    /**
+     * @param pageSize Page size.
+     * @return Capacity of the page in directory items.
+     */
+    public static int getCapacity(int pageSize) {
+        return (pageSize - ITEMS_OFF) / Long.BYTES;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     * @return First page ID of the bucket chain.
+     */
+    public long getBucketId(long pageAddr, int idx) {
+        return PageUtils.getLong(pageAddr, ITEMS_OFF + Long.BYTES * idx);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param idx Item index.
+     * @param bucketId First page ID of the bucket chain.
+     */
+    public void setBucketId(long pageAddr, int idx, long bucketId) {
+        assertPageType(pageAddr);
+
+        PageUtils.putLong(pageAddr, ITEMS_OFF + Long.BYTES * idx, bucketId);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void printPage(long addr, int pageSize, GridStringBuilder sb) throws IgniteCheckedException {
+        sb.a("HashIndexDirectory [\n\tbuckets={");
+
+        for (int i = 0; i < getCapacity(pageSize); i++) {
+            long bucketId = getBucketId(addr, i);
+
+            if (bucketId != 0L)
+                sb.a("\n\t\t").a(i).a(':').appendHex(bucketId);
+        }
+
+        sb.a("\n\t}\n]");
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getFreeSpace(int pageSize, long pageAddr) {
+        int free = 0;
+
+        for (int i = 0; i < getCapacity(pageSize); i++) {
+            if (getBucketId(pageAddr, i) == 0L)
+                free += Long.BYTES;
+        }
+
+        return free;
+    }
+}
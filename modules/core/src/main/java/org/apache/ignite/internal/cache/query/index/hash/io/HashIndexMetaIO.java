@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash.io;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersions;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.util.GridStringBuilder;
+
+/**
+ * Hash index meta page. Holds global depth of the directory and IDs of the directory pages.
+ */
+public class HashIndexMetaIO extends PageIO {
+    /** */
+    public static final IOVersions<HashIndexMetaIO> VERSIONS = new IOVersions<>(
+        new HashIndexMetaIO(1)
+    );
+
+    /** */
+    private static final int GLOBAL_DEPTH_OFF = COMMON_HEADER_END;
+
+    /** */
+    private static final int DIR_PAGES_CNT_OFF = GLOBAL_DEPTH_OFF + 1;
+
+    /** */
+    private static final int DIR_PAGES_OFF = DIR_PAGES_CNT_OFF + Integer.BYTES;
+
+    /**
+     * @param ver Page format version.
+     */
+    protected HashIndexMetaIO(int ver) {
+        super(T_HASH_INDEX_META, ver);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void initNewPage(long pageAddr, long pageId, int pageSize, PageMetrics metrics) {
+        super.initNewPage(pageAddr, pageId, pageSize, metrics);
+
+        setGlobalDepth(pageAddr, 0);
+        setDirectoryPagesCount(pageAddr, 0);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Count of the lowest hash bits used to address the directory.
+     */
+    public int getGlobalDepth(long pageAddr) {
+        return PageUtils.getByte(pageAddr, GLOBAL_DEPTH_OFF);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param depth Count of the lowest hash bits used to address the directory.
+     */
+    public void setGlobalDepth(long pageAddr, int depth) {
+        assert depth >= 0 && depth <= Byte.MAX_VALUE : depth;
+        assertPageType(pageAddr);
+
+        PageUtils.putByte(pageAddr, GLOBAL_DEPTH_OFF, (byte)depth);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Count of directory pages.
+     */
+    public int getDirectoryPagesCount(long pageAddr) {
+        return PageUtils.getInt(pageAddr, DIR_PAGES_CNT_OFF);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param cnt Count of directory pages.
+     */
+    public void setDirectoryPagesCount(long pageAddr, int cnt) {
+        assertPageType(pageAddr);
+
+        PageUtils.putInt(pageAddr, DIR_PAGES_CNT_OFF, cnt);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param idx Directory page index.
+     * @return Directory page ID.
+     */
+    public long getDirectoryPageId(long pageAddr, int idx) {
+        return PageUtils.getLong(pageAddr, DIR_PAGES_OFF + Long.BYTES * idx);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param idx Directory page index.
+     * @param pageId Directory page ID.
+     */
+    public void setDirectoryPageId(long pageAddr, int idx, long pageId) {
+        assertPageType(pageAddr);
+
+        PageUtils.putLong(pageAddr, DIR_PAGES_OFF + Long.BYTES * idx, pageId);
+    }
+
+    /**
+     * @param pageSize Page size.
+     * @return Max count of directory pages.
+     */
+    public static int getCapacity(int pageSize) {
+        return (pageSize - DIR_PAGES_OFF) / Long.BYTES;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void printPage(long addr, int pageSize, GridStringBuilder sb) throws IgniteCheckedException {
+        sb.a("HashIndexMeta [\n\tglobalDepth=").a(getGlobalDepth(addr))
+            .a(",\n\tdirectoryPages={");
+
+        for (int i = 0; i < getDirectoryPagesCount(addr); i++)
+            sb.a("\n\t\t").appendHex(getDirectoryPageId(addr, i));
+
+        sb.a("\n\t}\n]");
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getFreeSpace(int pageSize, long pageAddr) {
+        return (getCapacity(pageSize) - getDirectoryPagesCount(pageAddr)) * Long.BYTES;
+    }
+}
@@ -42,6 +42,9 @@ public class MetaPageInfo {
     /** Whether inlinining of java objects as hash is supported. */
     private boolean inlineObjHash;
 
+    /** Whether leaf pages store inlined keys with the page prefix compression. */
+    private boolean inlinePrefixCompression;
+
     /** Version of Ignite. */
     private final IgniteProductVersion createdVer;
 
@@ -57,6 +60,7 @@ public class MetaPageInfo {
         if (flagsSupported) {
             inlineObjSupported = io.inlineObjectSupported(pageAddr);
             inlineObjHash = io.inlineObjectHash(pageAddr);
+            inlinePrefixCompression = io.inlinePrefixCompression(pageAddr);
         }
 
         createdVer = io.createdVersion(pageAddr);
@@ -97,6 +101,13 @@ public class MetaPageInfo {
         return inlineObjHash;
     }
 
+    /**
+     * @return {@code true} In case leaf pages store inlined keys with the page prefix compression.
+     */
+    public boolean inlinePrefixCompression() {
+        return inlinePrefixCompression;
+    }
+
     /**
      * Reads meta page info from page memory.
      *
@@ -150,7 +161,8 @@ public class MetaPageInfo {
                     inlineSize(),
                     useUnwrappedPk(),
                     inlineObjectSupported(),
-                    inlineObjectHash()
+                    inlineObjectHash(),
+                    inlinePrefixCompression()
                 );
             }
             finally {
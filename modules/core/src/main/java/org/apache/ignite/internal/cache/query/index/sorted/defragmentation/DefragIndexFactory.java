@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.cache.query.index.sorted.defragmentation;
 
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.ThreadLocalDirectByteBuffer;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRowImpl;
 import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
@@ -42,6 +43,7 @@ import org.apache.ignite.internal.processors.cache.IgniteCacheOffheapManager;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapter;
 import org.apache.ignite.internal.processors.cache.persistence.RootPage;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
 import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusInnerIO;
@@ -50,6 +52,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusMeta
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersions;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIoResolver;
+import org.apache.ignite.internal.util.GridUnsafe;
 
 /**
  * Creates temporary index to defragment old index.
@@ -58,6 +61,9 @@ public class DefragIndexFactory extends InlineIndexFactory {
     /** Empty array. */
     private static final byte[] EMPTY_BYTES = new byte[0];
 
+    /** Buffer to store inlined keys. */
+    private static final ThreadLocalDirectByteBuffer KEYS_BUF = new ThreadLocalDirectByteBuffer();
+
     /** Temporary offheap manager. */
     private final IgniteCacheOffheapManager offheap;
 
@@ -106,9 +112,13 @@ public class DefragIndexFactory extends InlineIndexFactory {
 
         final MetaPageInfo oldInfo = oldIdx.segment(segmentNum).metaInfo();
 
+        // Leaf pages of the new tree have the same format as the old ones, meta info is copied below.
+        BPlusLeafIO<IndexRow> latestLeafIo = AbstractInlineLeafIO.versions(tree.inlineSize(),
+            oldInfo.inlinePrefixCompression()).latest();
+
         // Set IO wrappers for the new tree.
         BPlusInnerIO<IndexRow> innerIO = (BPlusInnerIO<IndexRow>)wrap(tree.latestInnerIO(), tree.rowHandler());
-        BPlusLeafIO<IndexRow> leafIo = (BPlusLeafIO<IndexRow>)wrap(tree.latestLeafIO(), tree.rowHandler());
+        BPlusLeafIO<IndexRow> leafIo = (BPlusLeafIO<IndexRow>)wrap(latestLeafIo, tree.rowHandler());
         tree.setIos(new IOVersions<>(innerIO), new IOVersions<>(leafIo));
 
         tree.copyMetaInfo(oldInfo);
@@ -174,7 +184,13 @@ public class DefragIndexFactory extends InlineIndexFactory {
 
         assert row.link() != 0;
 
-        PageUtils.putBytes(pageAddr, off, row.values);
+        if (row.values.length > 0) {
+            long keysAddr = GridUnsafe.bufferAddress(KEYS_BUF.get(row.values.length));
+
+            PageUtils.putBytes(keysAddr, 0, row.values);
+
+            io.storeInline(pageAddr, off, keysAddr, row.values.length);
+        }
 
         IORowHandler.store(pageAddr, off + payloadSize, row);
     }
@@ -188,16 +204,12 @@ public class DefragIndexFactory extends InlineIndexFactory {
     ) {
         long link = io.link(pageAddr, idx);
 
-        int off = io.offset(idx);
-
-        int inlineSize = io.inlineSize();
-
         byte[] values;
 
         if (rowHnd.inlineIndexKeyTypes().isEmpty())
             values = EMPTY_BYTES;
         else
-            values = PageUtils.getBytes(pageAddr, off, inlineSize);
+            values = PageUtils.getBytes(io.inlineAddress(pageAddr, idx), 0, io.inlineSize(pageAddr, idx));
 
         return new DefragIndexRowImpl(rowHnd, new CacheDataRowAdapter(link), values);
     }
@@ -246,6 +258,21 @@ public class DefragIndexFactory extends InlineIndexFactory {
         @Override public int inlineSize() {
             return io.inlineSize();
         }
+
+        /** {@inheritDoc} */
+        @Override public long inlineAddress(long pageAddr, int idx) {
+            return io.inlineAddress(pageAddr, idx);
+        }
+
+        /** {@inheritDoc} */
+        @Override public int inlineSize(long pageAddr, int idx) {
+            return io.inlineSize(pageAddr, idx);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void storeInline(long pageAddr, int off, long keysAddr, int keysSize) {
+            io.storeInline(pageAddr, off, keysAddr, keysSize);
+        }
     }
 
     /** */
@@ -264,6 +291,38 @@ public class DefragIndexFactory extends InlineIndexFactory {
             this.rowHnd = rowHnd;
         }
 
+        /** {@inheritDoc} */
+        @Override public void initNewPage(long pageAddr, long pageId, int pageSize, PageMetrics metrics) {
+            io.initNewPage(pageAddr, pageId, pageSize, metrics);
+        }
+
+        /** {@inheritDoc} */
+        @Override public int getMaxCount(long pageAddr, int pageSize) {
+            return io.getMaxCount(pageAddr, pageSize);
+        }
+
+        /** {@inheritDoc} */
+        @Override public int offset(int idx) {
+            return io.offset(idx);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void splitForwardPage(long pageAddr, long fwdId, long fwdPageAddr, int mid, int cnt, int pageSize,
+            PageMetrics metrics) throws IgniteCheckedException {
+            io.splitForwardPage(pageAddr, fwdId, fwdPageAddr, mid, cnt, pageSize, metrics);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void splitExistingPage(long pageAddr, int mid, long fwdId) {
+            io.splitExistingPage(pageAddr, mid, fwdId);
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean merge(BPlusIO<IndexRow> prntIo, long prntPageAddr, int prntIdx, long leftPageAddr,
+            long rightPageAddr, boolean emptyBranch, int pageSize) throws IgniteCheckedException {
+            return io.merge(prntIo, prntPageAddr, prntIdx, leftPageAddr, rightPageAddr, emptyBranch, pageSize);
+        }
+
         /** {@inheritDoc} */
         @Override public void storeByOffset(long pageAddr, int off, IndexRow row) throws IgniteCheckedException {
             assertPageType(pageAddr);
@@ -292,6 +351,21 @@ public class DefragIndexFactory extends InlineIndexFactory {
         @Override public int inlineSize() {
             return io.inlineSize();
         }
+
+        /** {@inheritDoc} */
+        @Override public long inlineAddress(long pageAddr, int idx) {
+            return io.inlineAddress(pageAddr, idx);
+        }
+
+        /** {@inheritDoc} */
+        @Override public int inlineSize(long pageAddr, int idx) {
+            return io.inlineSize(pageAddr, idx);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void storeInline(long pageAddr, int off, long keysAddr, int keysSize) {
+            io.storeInline(pageAddr, off, keysAddr, keysSize);
+        }
     }
 
     /**
@@ -17,7 +17,9 @@
 
 package org.apache.ignite.internal.cache.query.index.sorted.inline;
 
+import java.util.List;
 import org.apache.ignite.internal.cache.query.index.sorted.SortedSegmentedIndex;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 
 /**
  * Represents an index that inlines some of index keys.
@@ -38,4 +40,12 @@ public interface InlineIndex extends SortedSegmentedIndex {
      * @return Tree segment for specified number.
      */
     public InlineIndexTree segment(int segment);
+
+    /**
+     * Sorts cache rows in the order of the index keys. Rows that can't be handled by the index are moved to the end.
+     * The order is left unchanged if keys of some row can't be extracted or compared.
+     *
+     * @param rows Cache rows.
+     */
+    public void sortRows(List<CacheDataRow> rows);
 }
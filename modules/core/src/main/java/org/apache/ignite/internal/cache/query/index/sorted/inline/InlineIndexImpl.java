@@ -18,7 +18,9 @@
 package org.apache.ignite.internal.cache.query.index.sorted.inline;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -431,6 +433,51 @@ public class InlineIndexImpl extends AbstractIndex implements InlineIndex {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public void sortRows(List<CacheDataRow> rows) {
+        if (rowHnd == null)
+            return;
+
+        List<IndexRowImpl> idxRows = new ArrayList<>(rows.size());
+        List<CacheDataRow> otherRows = new ArrayList<>();
+
+        try {
+            for (CacheDataRow row : rows) {
+                if (!canHandle(row)) {
+                    otherRows.add(row);
+
+                    continue;
+                }
+
+                IndexRowImpl idxRow = new IndexRowImpl(rowHnd, row);
+
+                idxRow.prepareCache();
+
+                idxRows.add(idxRow);
+            }
+
+            idxRows.sort((r1, r2) -> {
+                try {
+                    return InlineIndexTree.compareFullRows(r1, r2, 0, rowHnd, def.rowComparator());
+                }
+                catch (IgniteCheckedException e) {
+                    throw new IgniteException(e);
+                }
+            });
+        }
+        catch (IgniteCheckedException | RuntimeException ignored) {
+            // Rows are kept in the original order, the failure is reported by the update of the index.
+            return;
+        }
+
+        rows.clear();
+
+        for (IndexRowImpl idxRow : idxRows)
+            rows.add(idxRow.cacheDataRow());
+
+        rows.addAll(otherRows);
+    }
+
     /** {@inheritDoc} */
     @Override public int inlineSize() {
         return segments[0].inlineSize();
@@ -25,6 +25,7 @@ import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.failure.FailureType;
 import org.apache.ignite.internal.cache.query.index.IndexName;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyType;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyTypeSettings;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRowCache;
@@ -37,6 +38,8 @@ import org.apache.ignite.internal.cache.query.index.sorted.SortedIndexDefinition
 import org.apache.ignite.internal.cache.query.index.sorted.ThreadLocalRowHandlerHolder;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.AbstractInlineInnerIO;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.AbstractInlineLeafIO;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.io.InlineIO;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.io.PrefixInlineLeafIO;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagemem.PageIdAllocator;
 import org.apache.ignite.internal.pagemem.PageMemory;
@@ -63,6 +66,7 @@ import org.apache.ignite.maintenance.MaintenanceTask;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_BPLUS_TREE_DISABLE_METRICS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INLINE_INDEX_PREFIX_COMPRESSION;
 import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl.INDEX_METRIC_PREFIX;
 import static org.apache.ignite.internal.cache.query.index.sorted.inline.types.NullableInlineIndexKeyType.CANT_BE_COMPARE;
 import static org.apache.ignite.internal.cache.query.index.sorted.inline.types.NullableInlineIndexKeyType.COMPARE_UNSUPPORTED;
@@ -83,6 +87,9 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
     /** Amount of bytes to store inlined index keys. */
     private final int inlineSize;
 
+    /** Whether leaf pages store inlined keys with the page prefix compression. */
+    private final boolean prefixCompression;
+
     /** Recommends change inline size if needed. */
     private final InlineRecommender recommender;
 
@@ -162,7 +169,9 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
             MetaPageInfo metaInfo = metaInfo();
 
             inlineSize = metaInfo.inlineSize();
-            setIos(inlineSize);
+            prefixCompression = metaInfo.inlinePrefixCompression();
+
+            setIos(inlineSize, prefixCompression);
 
             boolean inlineObjSupported = inlineObjectSupported(def, metaInfo, rowHndFactory);
 
@@ -187,7 +196,9 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
                 log
             );
 
-            setIos(inlineSize);
+            prefixCompression = prefixCompression(rowHnd.inlineIndexKeyTypes(), inlineSize);
+
+            setIos(inlineSize, prefixCompression);
         }
 
         initTree(initNew, inlineSize);
@@ -196,13 +207,31 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
     }
 
     /** */
-    private void setIos(int inlineSize) {
+    private void setIos(int inlineSize, boolean prefixCompression) {
         setIos(
             AbstractInlineInnerIO.versions(inlineSize),
-            AbstractInlineLeafIO.versions(inlineSize)
+            AbstractInlineLeafIO.versions(inlineSize, prefixCompression)
         );
     }
 
+    /**
+     * @param keyTypes Index key types.
+     * @param inlineSize Inline size.
+     * @return {@code true} If leaf pages of the new tree should store inlined keys with the page prefix compression.
+     */
+    private static boolean prefixCompression(List<InlineIndexKeyType> keyTypes, int inlineSize) {
+        return IgniteSystemProperties.getBoolean(IGNITE_INLINE_INDEX_PREFIX_COMPRESSION)
+            && inlineSize >= PrefixInlineLeafIO.MIN_INLINE_SIZE
+            && keyTypes.get(0).type() == IndexKeyType.STRING;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected long metaPageFlags() {
+        return prefixCompression
+            ? BPlusMetaIO.DEFAULT_FLAGS | BPlusMetaIO.FLAG_INLINE_PREFIX_COMPRESSION
+            : BPlusMetaIO.DEFAULT_FLAGS;
+    }
+
     /**
      * Find whether tree supports inlining objects or not.
      *
@@ -266,7 +295,8 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
 
         IndexRow currRow = null;
 
-        int off = io.offset(idx);
+        long keysAddr = ((InlineIO)io).inlineAddress(pageAddr, idx);
+        int keysSize = ((InlineIO)io).inlineSize(pageAddr, idx);
 
         List<IndexKeyDefinition> keyDefs = rowHnd.indexKeyDefinitions();
         List<InlineIndexKeyType> keyTypes = rowHnd.inlineIndexKeyTypes();
@@ -278,16 +308,16 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
                 if (row.key(keyIdx) == null)
                     return 0;
 
-                int maxSize = inlineSize - fieldOff;
+                int maxSize = keysSize - fieldOff;
 
                 InlineIndexKeyType keyType = keyTypes.get(keyIdx);
 
-                int cmp = def.rowComparator().compareKey(pageAddr, off + fieldOff, maxSize, row.key(keyIdx), keyType);
+                int cmp = def.rowComparator().compareKey(keysAddr, fieldOff, maxSize, row.key(keyIdx), keyType);
 
                 if (cmp == CANT_BE_COMPARE || cmp == COMPARE_UNSUPPORTED)
                     break;
                 else
-                    fieldOff += keyType.inlineSize(pageAddr, off + fieldOff);
+                    fieldOff += keyType.inlineSize(keysAddr, fieldOff);
 
                 if (cmp != 0) {
                     IndexKeyDefinition keyDef = keyDefs.get(keyIdx);
@@ -384,6 +414,13 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
         return inlineSize;
     }
 
+    /**
+     * @return {@code true} If leaf pages store inlined keys with the page prefix compression.
+     */
+    public boolean inlinePrefixCompression() {
+        return prefixCompression;
+    }
+
     /**
      * @param name Index name.
      * @param keyTypes Index key types.
@@ -115,15 +115,14 @@ public abstract class AbstractInlineInnerIO extends BPlusInnerIO<IndexRow> imple
     @Override public final void store(long dstPageAddr, int dstIdx, BPlusIO<IndexRow> srcIo, long srcPageAddr, int srcIdx) {
         assertPageType(dstPageAddr);
 
-        int srcOff = srcIo.offset(srcIdx);
-
-        byte[] payload = PageUtils.getBytes(srcPageAddr, srcOff, inlineSize);
+        InlineIO srcInlineIo = (InlineIO)srcIo;
 
         int dstOff = offset(dstIdx);
 
-        PageUtils.putBytes(dstPageAddr, dstOff, payload);
+        storeInline(dstPageAddr, dstOff, srcInlineIo.inlineAddress(srcPageAddr, srcIdx),
+            srcInlineIo.inlineSize(srcPageAddr, srcIdx));
 
-        IORowHandler.store(dstPageAddr, dstOff + inlineSize, (InlineIO)srcIo, srcPageAddr, srcIdx);
+        IORowHandler.store(dstPageAddr, dstOff + inlineSize, srcInlineIo, srcPageAddr, srcIdx);
     }
 
     /** {@inheritDoc} */
@@ -136,6 +135,23 @@ public abstract class AbstractInlineInnerIO extends BPlusInnerIO<IndexRow> imple
         return inlineSize;
     }
 
+    /** {@inheritDoc} */
+    @Override public long inlineAddress(long pageAddr, int idx) {
+        return pageAddr + offset(idx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int inlineSize(long pageAddr, int idx) {
+        return inlineSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void storeInline(long pageAddr, int off, long keysAddr, int keysSize) {
+        assertPageType(pageAddr);
+
+        IORowHandler.storeInline(pageAddr + off, inlineSize, keysAddr, keysSize);
+    }
+
     /**
      * @param payload Payload size.
      * @return IOVersions for given payload.
@@ -63,18 +63,35 @@ public abstract class AbstractInlineLeafIO extends BPlusLeafIO<IndexRow> impleme
         for (short payload = 1; payload <= PageIO.MAX_PAYLOAD_SIZE; payload++) {
             short ioType = (short)(PageIO.T_H2_EX_REF_LEAF_START + payload - 1);
 
-            IOVersions<? extends AbstractInlineLeafIO> versions = new IOVersions<>(new InlineLeafIO(ioType, payload));
+            IOVersions<? extends AbstractInlineLeafIO> versions = new IOVersions<>(
+                new InlineLeafIO(ioType, payload),
+                new PrefixInlineLeafIO(ioType, payload)
+            );
 
             PageIO.registerH2ExtraLeaf(versions);
         }
     }
 
     /** {@inheritDoc} */
-    @SuppressWarnings("ForLoopReplaceableByForEach")
-    @Override public final void storeByOffset(long pageAddr, int off, IndexRow row) {
+    @Override public void storeByOffset(long pageAddr, int off, IndexRow row) {
         assert row.link() != 0 : row;
         assertPageType(pageAddr);
 
+        putKeys(pageAddr, off, row, inlineSize);
+
+        IORowHandler.store(pageAddr, off + inlineSize, row);
+    }
+
+    /**
+     * Puts index keys of the row in the regular inline format.
+     *
+     * @param addr Address.
+     * @param off Offset.
+     * @param row Index row.
+     * @param size Number of bytes available for the keys.
+     */
+    @SuppressWarnings("ForLoopReplaceableByForEach")
+    static void putKeys(long addr, int off, IndexRow row, int size) {
         int fieldOff = 0;
 
         InlineIndexRowHandler rowHnd = ThreadLocalRowHandlerHolder.rowHandler();
@@ -83,21 +100,19 @@ public abstract class AbstractInlineLeafIO extends BPlusLeafIO<IndexRow> impleme
             try {
                 InlineIndexKeyType keyType = rowHnd.inlineIndexKeyTypes().get(i);
 
-                int size = keyType.put(pageAddr, off + fieldOff, row.key(i), inlineSize - fieldOff);
+                int keySize = keyType.put(addr, off + fieldOff, row.key(i), size - fieldOff);
 
                 // Inline size has exceeded.
-                if (size == 0)
+                if (keySize == 0)
                     break;
 
-                fieldOff += size;
+                fieldOff += keySize;
 
             }
             catch (Exception e) {
                 throw new IgniteException("Failed to store new index row.", e);
             }
         }
-
-        IORowHandler.store(pageAddr, off + inlineSize, row);
     }
 
     /** {@inheritDoc} */
@@ -115,15 +130,14 @@ public abstract class AbstractInlineLeafIO extends BPlusLeafIO<IndexRow> impleme
     @Override public final void store(long dstPageAddr, int dstIdx, BPlusIO<IndexRow> srcIo, long srcPageAddr, int srcIdx) {
         assertPageType(dstPageAddr);
 
-        int srcOff = srcIo.offset(srcIdx);
-
-        byte[] payload = PageUtils.getBytes(srcPageAddr, srcOff, inlineSize);
+        InlineIO srcInlineIo = (InlineIO)srcIo;
 
         int dstOff = offset(dstIdx);
 
-        PageUtils.putBytes(dstPageAddr, dstOff, payload);
+        storeInline(dstPageAddr, dstOff, srcInlineIo.inlineAddress(srcPageAddr, srcIdx),
+            srcInlineIo.inlineSize(srcPageAddr, srcIdx));
 
-        IORowHandler.store(dstPageAddr, dstOff + inlineSize, (InlineIO)srcIo, srcPageAddr, srcIdx);
+        IORowHandler.store(dstPageAddr, dstOff + inlineSize, srcInlineIo, srcPageAddr, srcIdx);
     }
 
     /** {@inheritDoc} */
@@ -136,6 +150,23 @@ public abstract class AbstractInlineLeafIO extends BPlusLeafIO<IndexRow> impleme
         return inlineSize;
     }
 
+    /** {@inheritDoc} */
+    @Override public long inlineAddress(long pageAddr, int idx) {
+        return pageAddr + offset(idx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int inlineSize(long pageAddr, int idx) {
+        return inlineSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void storeInline(long pageAddr, int off, long keysAddr, int keysSize) {
+        assertPageType(pageAddr);
+
+        IORowHandler.storeInline(pageAddr + off, inlineSize, keysAddr, keysSize);
+    }
+
     /**
      * @param payload Payload size.
      * @return IOVersions for given payload.
@@ -146,4 +177,19 @@ public abstract class AbstractInlineLeafIO extends BPlusLeafIO<IndexRow> impleme
         return payload == 0 ? LeafIO.VERSIONS :
             (IOVersions<BPlusLeafIO<IndexRow>>)PageIO.getLeafVersions((short)(payload - 1));
     }
+
+    /**
+     * @param payload Payload size.
+     * @param prefixCompression Whether leaf pages store inlined keys with the page prefix compression.
+     * @return IOVersions for new pages of the tree with given payload.
+     * @see PrefixInlineLeafIO
+     */
+    public static IOVersions<? extends BPlusLeafIO<IndexRow>> versions(int payload, boolean prefixCompression) {
+        IOVersions<? extends BPlusLeafIO<IndexRow>> vers = versions(payload);
+
+        if (payload == 0 || prefixCompression)
+            return vers;
+
+        return new IOVersions<BPlusLeafIO<IndexRow>>(vers.forVersion(1));
+    }
 }
@@ -73,4 +73,19 @@ public abstract class AbstractInnerIO extends BPlusInnerIO<IndexRow> implements
     @Override public int inlineSize() {
         return 0;
     }
+
+    /** {@inheritDoc} */
+    @Override public long inlineAddress(long pageAddr, int idx) {
+        return pageAddr + offset(idx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int inlineSize(long pageAddr, int idx) {
+        return 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void storeInline(long pageAddr, int off, long keysAddr, int keysSize) {
+        // No-op.
+    }
 }
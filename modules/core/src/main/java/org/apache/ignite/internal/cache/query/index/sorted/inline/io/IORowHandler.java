@@ -17,8 +17,13 @@
 
 package org.apache.ignite.internal.cache.query.index.sorted.inline.io;
 
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyType;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.types.StringInlineIndexKeyType;
 import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+import static org.apache.ignite.internal.cache.query.index.sorted.inline.types.NullableInlineIndexKeyType.VARTYPE_HEADER_SIZE;
 
 /**
  * Class provide a common logic for storing an index row.
@@ -42,4 +47,50 @@ public class IORowHandler {
 
         PageUtils.putLong(dstPageAddr, dstOff, link);
     }
+
+    /**
+     * Copies inlined index keys in the regular inline format. If keys don't fit the destination, then only the first
+     * key is kept, it is trimmed if needed. Keys wider than the item are possible for the first string key only,
+     * see {@link PrefixInlineLeafIO}.
+     *
+     * @param dstAddr Destination address.
+     * @param dstSize Destination inline size.
+     * @param srcAddr Address of the inlined keys.
+     * @param srcSize Number of bytes of the inlined keys.
+     */
+    static void storeInline(long dstAddr, int dstSize, long srcAddr, int srcSize) {
+        if (srcSize <= dstSize) {
+            GridUnsafe.copyMemory(srcAddr, dstAddr, srcSize);
+
+            return;
+        }
+
+        assert PageUtils.getByte(srcAddr, 0) == IndexKeyType.STRING.code();
+
+        short hdr = PageUtils.getShort(srcAddr, 1);
+
+        int len = hdr & 0x7FFF;
+
+        if (len + VARTYPE_HEADER_SIZE > dstSize) {
+            byte[] s = StringInlineIndexKeyType.trimUTF8(PageUtils.getBytes(srcAddr, VARTYPE_HEADER_SIZE, len),
+                dstSize - VARTYPE_HEADER_SIZE);
+
+            if (s == null) {
+                PageUtils.putByte(dstAddr, 0, (byte)IndexKeyType.UNKNOWN.code());
+
+                return;
+            }
+
+            len = s.length;
+            hdr = (short)(len | 0x8000);
+        }
+
+        GridUnsafe.copyMemory(srcAddr, dstAddr, VARTYPE_HEADER_SIZE + len);
+
+        PageUtils.putShort(dstAddr, 1, hdr);
+
+        // Following keys are dropped.
+        if (len + VARTYPE_HEADER_SIZE < dstSize)
+            PageUtils.putByte(dstAddr, VARTYPE_HEADER_SIZE + len, (byte)IndexKeyType.UNKNOWN.code());
+    }
 }
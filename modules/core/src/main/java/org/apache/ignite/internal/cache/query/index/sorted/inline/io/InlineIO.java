@@ -32,4 +32,31 @@ public interface InlineIO {
      * @return Number of bytes stored in the inline payload.
      */
     public int inlineSize();
+
+    /**
+     * Inlined index keys of the item in the regular inline format. Keys may take more than {@link #inlineSize()}
+     * bytes if the page stores them compressed.
+     *
+     * @param pageAddr Page address.
+     * @param idx Index.
+     * @return Address of the inlined keys, it is valid until the next call of the method in the current thread.
+     */
+    public long inlineAddress(long pageAddr, int idx);
+
+    /**
+     * @param pageAddr Page address.
+     * @param idx Index.
+     * @return Number of bytes of the inlined keys at {@link #inlineAddress(long, int)}.
+     */
+    public int inlineSize(long pageAddr, int idx);
+
+    /**
+     * Stores inlined index keys given in the regular inline format to the item.
+     *
+     * @param pageAddr Page address.
+     * @param off Item offset.
+     * @param keysAddr Address of the inlined keys.
+     * @param keysSize Number of bytes of the inlined keys.
+     */
+    public void storeInline(long pageAddr, int off, long keysAddr, int keysSize);
 }
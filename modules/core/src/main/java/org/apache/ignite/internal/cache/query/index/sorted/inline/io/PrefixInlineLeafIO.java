@@ -0,0 +1,436 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.sorted.inline.io;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.ThreadLocalDirectByteBuffer;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyType;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.util.GridStringBuilder;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+import static org.apache.ignite.internal.cache.query.index.sorted.inline.types.NullableInlineIndexKeyType.VARTYPE_HEADER_SIZE;
+
+/**
+ * Leaf page to store index rows with inlined keys, the first string key is compressed with the page prefix.
+ * <p>
+ * The page stores a prefix common for the first keys of the page items. An item which first key starts with
+ * at least {@link #MIN_PREFIX_LEN} bytes of the page prefix stores only the length of the used prefix part and the
+ * rest of the key: {@code [PREFIXED][prefix length][suffix length][suffix bytes][following keys]}. Such item is
+ * equal to the regular inline format of {@code inlineSize + prefix length - 1} bytes, so the same item size
+ * inlines more bytes of the key and more comparisons are resolved without reading the data pages. Items which
+ * don't share the prefix are stored in the regular inline format.
+ * <p>
+ * The prefix is computed deterministically from the page items when the page is split, so split records of WAL
+ * are replayed to the same page state. Items always use the prefix part they were stored with, so the prefix may
+ * be only extended.
+ */
+public final class PrefixInlineLeafIO extends AbstractInlineLeafIO {
+    /** Minimal inline size to use the page prefix compression. */
+    public static final int MIN_INLINE_SIZE = 16;
+
+    /** Max length of the page prefix. */
+    static final int PREFIX_CAP = 64;
+
+    /** Minimal length of the prefix part used by an item, a shorter prefix gives no gain. */
+    static final int MIN_PREFIX_LEN = 2;
+
+    /** Type code of the item compressed with the page prefix. Not used by {@link IndexKeyType}. */
+    static final byte PREFIXED = Byte.MAX_VALUE;
+
+    /** Size of the compressed item header: type, prefix length and suffix length. */
+    private static final int PREFIXED_HEADER_SIZE = 4;
+
+    /** */
+    private static final int PREFIX_LEN_OFF = ITEMS_OFF;
+
+    /** */
+    private static final int PREFIX_OFF = PREFIX_LEN_OFF + 1;
+
+    /** */
+    private static final int PREFIXED_ITEMS_OFF = PREFIX_OFF + PREFIX_CAP;
+
+    /** Buffer to decode items. */
+    private static final ThreadLocalDirectByteBuffer DECODE_BUF =
+        new ThreadLocalDirectByteBuffer(PageIO.MAX_PAYLOAD_SIZE + PREFIX_CAP);
+
+    /** Buffer to encode items. */
+    private static final ThreadLocalDirectByteBuffer ENCODE_BUF =
+        new ThreadLocalDirectByteBuffer(PageIO.MAX_PAYLOAD_SIZE + PREFIX_CAP);
+
+    /**
+     * @param type Page type.
+     * @param inlineSize Size of calculated inlined index keys.
+     */
+    public PrefixInlineLeafIO(short type, int inlineSize) {
+        // Meta stores link to a cache row.
+        super(type, 2, 8, inlineSize);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void initNewPage(long pageAddr, long pageId, int pageSize, PageMetrics metrics) {
+        super.initNewPage(pageAddr, pageId, pageSize, metrics);
+
+        setPrefixLength(pageAddr, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getMaxCount(long pageAddr, int pageSize) {
+        return (pageSize - PREFIXED_ITEMS_OFF) / getItemSize();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int offset(int idx) {
+        assert idx >= 0 : idx;
+
+        return PREFIXED_ITEMS_OFF + idx * getItemSize();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void storeByOffset(long pageAddr, int off, IndexRow row) {
+        assert row.link() != 0 : row;
+        assertPageType(pageAddr);
+
+        int prefixLen = getPrefixLength(pageAddr);
+        int p = 0;
+
+        long keysAddr = 0L;
+
+        if (prefixLen >= MIN_PREFIX_LEN) {
+            int keysSize = inlineSize() + prefixLen - 1;
+
+            keysAddr = GridUnsafe.bufferAddress(ENCODE_BUF.get());
+
+            putKeys(keysAddr, 0, row, keysSize);
+
+            p = commonPrefix(pageAddr, prefixLen, keysAddr, keysSize);
+
+            // Inline less bytes of the key if only a part of the prefix is used.
+            if (p >= MIN_PREFIX_LEN && p < prefixLen)
+                putKeys(keysAddr, 0, row, inlineSize() + p - 1);
+        }
+
+        if (p >= MIN_PREFIX_LEN)
+            putPrefixed(pageAddr, off, p, keysAddr);
+        else
+            putKeys(pageAddr, off, row, inlineSize());
+
+        IORowHandler.store(pageAddr, off + inlineSize(), row);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void storeInline(long pageAddr, int off, long keysAddr, int keysSize) {
+        assertPageType(pageAddr);
+
+        int p = Math.min(commonPrefix(pageAddr, getPrefixLength(pageAddr), keysAddr, keysSize),
+            keysSize - inlineSize() + 1);
+
+        if (p < MIN_PREFIX_LEN) {
+            IORowHandler.storeInline(pageAddr + off, inlineSize(), keysAddr, keysSize);
+
+            return;
+        }
+
+        int size = inlineSize() + p - 1;
+
+        if (keysSize > size) {
+            long addr = GridUnsafe.bufferAddress(ENCODE_BUF.get());
+
+            IORowHandler.storeInline(addr, size, keysAddr, keysSize);
+
+            keysAddr = addr;
+        }
+
+        putPrefixed(pageAddr, off, p, keysAddr);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long inlineAddress(long pageAddr, int idx) {
+        int off = offset(idx);
+
+        if (PageUtils.getByte(pageAddr, off) != PREFIXED)
+            return pageAddr + off;
+
+        int p = PageUtils.getByte(pageAddr, off + 1) & 0xFF;
+        short hdr = PageUtils.getShort(pageAddr, off + 2);
+
+        long addr = GridUnsafe.bufferAddress(DECODE_BUF.get());
+
+        PageUtils.putByte(addr, 0, (byte)IndexKeyType.STRING.code());
+        PageUtils.putShort(addr, 1, (short)(((hdr & 0x7FFF) + p) | (hdr & 0x8000)));
+
+        GridUnsafe.copyMemory(pageAddr + PREFIX_OFF, addr + VARTYPE_HEADER_SIZE, p);
+        GridUnsafe.copyMemory(pageAddr + off + PREFIXED_HEADER_SIZE, addr + VARTYPE_HEADER_SIZE + p,
+            inlineSize() - PREFIXED_HEADER_SIZE);
+
+        return addr;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int inlineSize(long pageAddr, int idx) {
+        int off = offset(idx);
+
+        if (PageUtils.getByte(pageAddr, off) != PREFIXED)
+            return inlineSize();
+
+        return inlineSize() + (PageUtils.getByte(pageAddr, off + 1) & 0xFF) - 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void splitForwardPage(
+        long pageAddr,
+        long fwdId,
+        long fwdPageAddr,
+        int mid,
+        int cnt,
+        int pageSize,
+        PageMetrics metrics
+    ) throws IgniteCheckedException {
+        super.splitForwardPage(pageAddr, fwdId, fwdPageAddr, mid, cnt, pageSize, metrics);
+
+        copyPrefix(pageAddr, fwdPageAddr);
+
+        extendPrefix(fwdPageAddr);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void splitExistingPage(long pageAddr, int mid, long fwdId) {
+        super.splitExistingPage(pageAddr, mid, fwdId);
+
+        extendPrefix(pageAddr);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean merge(
+        BPlusIO<IndexRow> prntIo,
+        long prntPageAddr,
+        int prntIdx,
+        long leftPageAddr,
+        long rightPageAddr,
+        boolean emptyBranch,
+        int pageSize
+    ) throws IgniteCheckedException {
+        int leftCnt = getCount(leftPageAddr);
+        int rightCnt = getCount(rightPageAddr);
+
+        if (rightCnt == 0 || prefixCompatible(leftPageAddr, rightPageAddr)) {
+            if (leftCnt == 0)
+                copyPrefix(rightPageAddr, leftPageAddr);
+
+            return super.merge(prntIo, prntPageAddr, prntIdx, leftPageAddr, rightPageAddr, emptyBranch, pageSize);
+        }
+
+        assertPageType(leftPageAddr);
+
+        if (leftCnt + rightCnt > getMaxCount(leftPageAddr, pageSize)) {
+            assert !emptyBranch;
+
+            return false;
+        }
+
+        // Items of the right page are stored again with the prefix of the left page.
+        for (int i = 0; i < rightCnt; i++) {
+            int off = offset(leftCnt + i);
+
+            storeInline(leftPageAddr, off, inlineAddress(rightPageAddr, i), inlineSize(rightPageAddr, i));
+
+            PageUtils.putLong(leftPageAddr, off + inlineSize(), link(rightPageAddr, i));
+        }
+
+        setCount(leftPageAddr, leftCnt + rightCnt);
+        setForward(leftPageAddr, getForward(rightPageAddr));
+
+        long rmvId = getRemoveId(rightPageAddr);
+
+        // Need to have maximum remove ID.
+        if (rmvId > getRemoveId(leftPageAddr))
+            setRemoveId(leftPageAddr, rmvId);
+
+        return true;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Length of the page prefix.
+     */
+    public int getPrefixLength(long pageAddr) {
+        return PageUtils.getByte(pageAddr, PREFIX_LEN_OFF) & 0xFF;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param len Length of the page prefix.
+     */
+    private void setPrefixLength(long pageAddr, int len) {
+        assert len >= 0 && len <= PREFIX_CAP : len;
+        assertPageType(pageAddr);
+
+        PageUtils.putByte(pageAddr, PREFIX_LEN_OFF, (byte)len);
+    }
+
+    /**
+     * @param srcPageAddr Source page address.
+     * @param dstPageAddr Destination page address.
+     */
+    private void copyPrefix(long srcPageAddr, long dstPageAddr) {
+        int len = getPrefixLength(srcPageAddr);
+
+        GridUnsafe.copyMemory(srcPageAddr + PREFIX_OFF, dstPageAddr + PREFIX_OFF, len);
+
+        setPrefixLength(dstPageAddr, len);
+    }
+
+    /**
+     * Extends the page prefix to the common prefix of the first keys of all page items.
+     *
+     * @param pageAddr Page address.
+     */
+    private void extendPrefix(long pageAddr) {
+        int cnt = getCount(pageAddr);
+
+        // Single item gives no common prefix.
+        if (cnt < 2)
+            return;
+
+        int curLen = getPrefixLength(pageAddr);
+
+        byte[] prefix = null;
+        int len = 0;
+
+        for (int i = 0; i < cnt; i++) {
+            long keysAddr = inlineAddress(pageAddr, i);
+
+            int strLen = stringLength(keysAddr, inlineSize(pageAddr, i));
+
+            if (prefix == null) {
+                len = Math.min(strLen, PREFIX_CAP);
+                prefix = PageUtils.getBytes(keysAddr, VARTYPE_HEADER_SIZE, len);
+            }
+            else {
+                len = Math.min(len, strLen);
+
+                for (int j = 0; j < len; j++) {
+                    if (PageUtils.getByte(keysAddr, VARTYPE_HEADER_SIZE + j) != prefix[j]) {
+                        len = j;
+
+                        break;
+                    }
+                }
+            }
+
+            // Compressed items use the current prefix, so it is replaced only with a longer one.
+            if (len <= curLen)
+                return;
+        }
+
+        PageUtils.putBytes(pageAddr, PREFIX_OFF, prefix, 0, len);
+
+        setPrefixLength(pageAddr, len);
+    }
+
+    /**
+     * Checks that the compressed items of the right page may be copied to the left page as is.
+     *
+     * @param leftPageAddr Left page address.
+     * @param rightPageAddr Right page address.
+     * @return {@code true} If prefixes of the pages match for all compressed items of the right page.
+     */
+    private boolean prefixCompatible(long leftPageAddr, long rightPageAddr) {
+        if (getCount(leftPageAddr) == 0)
+            return true;
+
+        int len = Math.min(getPrefixLength(leftPageAddr), getPrefixLength(rightPageAddr));
+
+        int common = 0;
+
+        while (common < len && PageUtils.getByte(leftPageAddr, PREFIX_OFF + common) ==
+            PageUtils.getByte(rightPageAddr, PREFIX_OFF + common))
+            common++;
+
+        for (int i = 0; i < getCount(rightPageAddr); i++) {
+            int off = offset(i);
+
+            if (PageUtils.getByte(rightPageAddr, off) == PREFIXED && (PageUtils.getByte(rightPageAddr, off + 1) & 0xFF) > common)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param prefixLen Length of the page prefix.
+     * @param keysAddr Address of the inlined keys.
+     * @param keysSize Number of bytes of the inlined keys.
+     * @return Length of the common part of the page prefix and the first key.
+     */
+    private static int commonPrefix(long pageAddr, int prefixLen, long keysAddr, int keysSize) {
+        int len = Math.min(prefixLen, stringLength(keysAddr, keysSize));
+
+        for (int i = 0; i < len; i++) {
+            if (PageUtils.getByte(pageAddr, PREFIX_OFF + i) != PageUtils.getByte(keysAddr, VARTYPE_HEADER_SIZE + i))
+                return i;
+        }
+
+        return len;
+    }
+
+    /**
+     * @param keysAddr Address of the inlined keys.
+     * @param keysSize Number of bytes of the inlined keys.
+     * @return Number of inlined bytes of the first key if it is a string, {@code 0} otherwise.
+     */
+    private static int stringLength(long keysAddr, int keysSize) {
+        if (keysSize <= VARTYPE_HEADER_SIZE || PageUtils.getByte(keysAddr, 0) != IndexKeyType.STRING.code())
+            return 0;
+
+        return PageUtils.getShort(keysAddr, 1) & 0x7FFF;
+    }
+
+    /**
+     * Puts the item compressed with the page prefix.
+     *
+     * @param pageAddr Page address.
+     * @param off Item offset.
+     * @param p Length of the used page prefix part.
+     * @param keysAddr Address of the inlined keys of {@code inlineSize + p - 1} bytes in the regular inline format.
+     */
+    private void putPrefixed(long pageAddr, int off, int p, long keysAddr) {
+        short hdr = PageUtils.getShort(keysAddr, 1);
+
+        assert (hdr & 0x7FFF) >= p : "len=" + (hdr & 0x7FFF) + ", p=" + p;
+
+        PageUtils.putByte(pageAddr, off, PREFIXED);
+        PageUtils.putByte(pageAddr, off + 1, (byte)p);
+        PageUtils.putShort(pageAddr, off + 2, (short)(((hdr & 0x7FFF) - p) | (hdr & 0x8000)));
+
+        GridUnsafe.copyMemory(keysAddr + VARTYPE_HEADER_SIZE + p, pageAddr + off + PREFIXED_HEADER_SIZE,
+            inlineSize() - PREFIXED_HEADER_SIZE);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void printPage(long addr, int pageSize, GridStringBuilder sb) throws IgniteCheckedException {
+        super.printPage(addr, pageSize, sb);
+
+        sb.a("\nPrefixInlineLeafIO [prefixLen=").a(getPrefixLength(addr)).a(']');
+    }
+}
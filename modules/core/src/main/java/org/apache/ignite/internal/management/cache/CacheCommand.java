@@ -44,7 +44,8 @@ public class CacheCommand extends CommandRegistryImpl<NoArg, Void> {
             new CacheIndexesForceRebuildCommand(),
             new CacheMetricsCommand(),
             new CacheScheduleIndexesRebuildCommand(),
-            new CacheScanCommand()
+            new CacheScanCommand(),
+            new CacheCompactPartitionsCommand()
         );
     }
 
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.management.cache;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.management.api.CommandUtils;
+import org.apache.ignite.internal.management.api.ComputeCommand;
+import org.jetbrains.annotations.Nullable;
+
+/** Starts online compaction of partition data pages. */
+public class CacheCompactPartitionsCommand implements ComputeCommand<CacheCompactPartitionsCommandArg, String> {
+    /** {@inheritDoc} */
+    @Override public String description() {
+        return "Start online compaction of data pages of the cache group partitions on all server nodes. " +
+            "Progress is reported by CompactionPartitionsLeft, CompactionPagesScanned and CompactionRowsMoved " +
+            "metrics of the data storage";
+    }
+
+    /** {@inheritDoc} */
+    @Override public Class<CacheCompactPartitionsCommandArg> argClass() {
+        return CacheCompactPartitionsCommandArg.class;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Class<CompactPartitionsTask> taskClass() {
+        return CompactPartitionsTask.class;
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable Collection<ClusterNode> nodes(
+        Collection<ClusterNode> nodes,
+        CacheCompactPartitionsCommandArg arg
+    ) {
+        return CommandUtils.servers(nodes);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void printResult(CacheCompactPartitionsCommandArg arg, String res, Consumer<String> printer) {
+        printer.accept(res);
+    }
+}
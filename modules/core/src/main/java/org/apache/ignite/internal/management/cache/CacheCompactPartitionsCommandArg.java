@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.management.cache;
+
+import org.apache.ignite.internal.Order;
+import org.apache.ignite.internal.dto.IgniteDataTransferObject;
+import org.apache.ignite.internal.management.api.Argument;
+
+/** Partitions compaction command arguments. */
+public class CacheCompactPartitionsCommandArg extends IgniteDataTransferObject {
+    /** */
+    private static final long serialVersionUID = 0;
+
+    /** */
+    @Order(0)
+    @Argument(description = "Cache group name (or cache name for caches without a group)", example = "groupName")
+    String groupName;
+
+    /** */
+    @Order(1)
+    @Argument(description = "Comma-separated list of partitions to compact. All local owning partitions " +
+        "are compacted if not specified", example = "partId1,...partIdN", optional = true)
+    int[] partitions;
+
+    /** */
+    public String groupName() {
+        return groupName;
+    }
+
+    /** */
+    public void groupName(String groupName) {
+        this.groupName = groupName;
+    }
+
+    /** */
+    public int[] partitions() {
+        return partitions;
+    }
+
+    /** */
+    public void partitions(int[] partitions) {
+        this.partitions = partitions;
+    }
+}
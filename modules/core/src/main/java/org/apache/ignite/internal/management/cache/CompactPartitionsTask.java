@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.management.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.compute.ComputeJobResult;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.internal.visor.VisorJob;
+import org.apache.ignite.internal.visor.VisorMultiNodeTask;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
+
+/** Starts compaction of the cache group partitions on each node. */
+public class CompactPartitionsTask extends VisorMultiNodeTask<CacheCompactPartitionsCommandArg, String, String> {
+    /** */
+    private static final long serialVersionUID = 0;
+
+    /** {@inheritDoc} */
+    @Override protected VisorJob<CacheCompactPartitionsCommandArg, String> job(CacheCompactPartitionsCommandArg arg) {
+        return new CompactPartitionsJob(arg, debug);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected @Nullable String reduce0(List<ComputeJobResult> results) throws IgniteException {
+        StringBuilder result = new StringBuilder();
+
+        for (ComputeJobResult res : results) {
+            if (res.getException() != null)
+                throw res.getException();
+
+            result.append(res.getData().toString()).append('\n');
+        }
+
+        return result.toString();
+    }
+
+    /** Compaction job. */
+    private static class CompactPartitionsJob extends VisorJob<CacheCompactPartitionsCommandArg, String> {
+        /** */
+        private static final long serialVersionUID = 0;
+
+        /** */
+        protected CompactPartitionsJob(CacheCompactPartitionsCommandArg arg, boolean debug) {
+            super(arg, debug);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected String run(CacheCompactPartitionsCommandArg arg) throws IgniteException {
+            CacheGroupContext grp = ignite.context().cache().cacheGroup(CU.cacheId(arg.groupName()));
+
+            if (grp == null)
+                return result("cache group not found, compaction skipped [groupName=" + arg.groupName() + ']');
+
+            if (!grp.persistenceEnabled())
+                return result("persistence disabled, compaction skipped [groupName=" + arg.groupName() + ']');
+
+            Collection<Integer> parts = new ArrayList<>();
+
+            if (arg.partitions() == null) {
+                for (GridDhtLocalPartition part : grp.topology().localPartitions()) {
+                    if (part.state() == OWNING)
+                        parts.add(part.id());
+                }
+            }
+            else {
+                int partsCnt = grp.affinity().partitions();
+
+                for (int part : arg.partitions()) {
+                    if (part < 0 || part >= partsCnt) {
+                        throw new IgniteException("Invalid partition [groupName=" + arg.groupName() +
+                            ", part=" + part + ']');
+                    }
+
+                    parts.add(part);
+                }
+            }
+
+            GridCacheDatabaseSharedManager dbMgr =
+                (GridCacheDatabaseSharedManager)ignite.context().cache().context().database();
+
+            for (int part : parts)
+                dbMgr.compactPartition(grp.groupId(), part);
+
+            return result("compaction started [groupName=" + arg.groupName() + ", partitions=" + parts.size() + ']');
+        }
+
+        /**
+         * @param desc Result description.
+         * @return Result with the local node ID.
+         */
+        private String result(String desc) {
+            return ignite.localNode().id() + ": " + desc;
+        }
+    }
+}
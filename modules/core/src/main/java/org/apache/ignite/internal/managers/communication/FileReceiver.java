@@ -19,11 +19,13 @@ package org.apache.ignite.internal.managers.communication;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
@@ -34,9 +36,9 @@ import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 
 /**
- * Class represents the data receiver which is pulling data from channel using
- * {@link FileChannel#transferFrom(ReadableByteChannel, long, long)} until the
- * whole file will be completely received.
+ * Class represents the data receiver which is pulling data from channel by chunks through a direct buffer
+ * until the whole file will be completely received. The {@link FileChannel#transferFrom(ReadableByteChannel, long, long)}
+ * is not used since it copies data from a socket through a small temporary buffer.
  */
 class FileReceiver extends TransmissionReceiver {
     /** Handler to notify when a file has been received. */
@@ -49,10 +51,15 @@ class FileReceiver extends TransmissionReceiver {
     @GridToStringExclude
     private FileIO fileIo;
 
+    /** Provider of a direct buffer to read data from the channel into. */
+    @GridToStringExclude
+    private final Supplier<ByteBuffer> bufProvider;
+
     /**
      * @param meta Initial file meta info.
      * @param stopChecker Node stop or prcoess interrupt checker.
      * @param factory Factory to produce IO interface on files.
+     * @param bufProvider Provider of a direct buffer to read data from the channel into.
      * @param hnd Transmission handler provider to process download result.
      * @param path File path to destination receiver source.
      * @param log Ignite logger.
@@ -62,6 +69,7 @@ class FileReceiver extends TransmissionReceiver {
         int chunkSize,
         BooleanSupplier stopChecker,
         FileIOFactory factory,
+        Supplier<ByteBuffer> bufProvider,
         Consumer<File> hnd,
         String path,
         IgniteLogger log
@@ -73,6 +81,7 @@ class FileReceiver extends TransmissionReceiver {
         A.ensure(!path.trim().isEmpty(), "File absolute path cannot be empty ");
 
         this.hnd = hnd;
+        this.bufProvider = bufProvider;
 
         file = new File(path);
 
@@ -99,15 +108,19 @@ class FileReceiver extends TransmissionReceiver {
     @Override protected void readChunk(ReadableByteChannel ch) throws IOException {
         assert fileIo != null;
 
-        long batchSize = Math.min(chunkSize, meta.count() - transferred);
+        ByteBuffer buf = bufProvider.get();
 
-        long read = fileIo.transferFrom(ch, meta.offset() + transferred, batchSize);
+        buf.clear();
+        buf.limit((int)Math.min(Math.min(chunkSize, buf.capacity()), meta.count() - transferred));
+
+        while (buf.hasRemaining()) {
+            if (ch.read(buf) < 0)
+                throw new IOException("Channel is reached the end of stream. Probably, channel is closed on the remote node");
+        }
 
-        if (read == 0)
-            throw new IOException("Channel is reached the end of stream. Probably, channel is closed on the remote node");
+        buf.flip();
 
-        if (read > 0)
-            transferred += read;
+        transferred += fileIo.writeFully(buf, meta.offset() + transferred);
     }
 
     /** {@inheritDoc} */
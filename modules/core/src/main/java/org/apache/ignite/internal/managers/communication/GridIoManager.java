@@ -29,6 +29,8 @@ import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.Channel;
 import java.nio.channels.FileChannel;
 import java.nio.channels.SocketChannel;
@@ -95,6 +97,9 @@ import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.platform.message.PlatformMessageFilter;
 import org.apache.ignite.internal.processors.pool.PoolProcessor;
 import org.apache.ignite.internal.processors.timeout.GridTimeoutObject;
@@ -123,7 +128,6 @@ import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.lang.IgniteRunnable;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.marshaller.Marshaller;
-import org.apache.ignite.metric.MetricRegistry;
 import org.apache.ignite.plugin.extensions.communication.Message;
 import org.apache.ignite.plugin.extensions.communication.MessageFactory;
 import org.apache.ignite.plugin.extensions.communication.MessageFormatter;
@@ -251,6 +255,21 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
     /** Received bytes count metric name. */
     public static final String RCVD_BYTES_CNT = "ReceivedBytesCount";
 
+    /** Sent file bytes count metric name. */
+    public static final String FILE_SENT_BYTES_CNT = "FileSentBytesCount";
+
+    /** Received file bytes count metric name. */
+    public static final String FILE_RCVD_BYTES_CNT = "FileReceivedBytesCount";
+
+    /** File send throughput histogram metric name. */
+    public static final String FILE_SEND_THROUGHPUT = "FileSendThroughput";
+
+    /** File receive throughput histogram metric name. */
+    public static final String FILE_RCV_THROUGHPUT = "FileReceiveThroughput";
+
+    /** Bounds of file transfer throughput histograms in megabytes per second. */
+    private static final long[] FILE_THROUGHPUT_BOUNDS = new long[] {10, 50, 100, 250, 500, 1000, 2500};
+
     /** Max closed topics to store. */
     public static final int MAX_CLOSED_TOPICS = 10240;
 
@@ -290,6 +309,26 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
      */
     private final FileIOFactory fileIoFactory = new RandomAccessFileIOFactory();
 
+    /**
+     * Direct buffers to receive files into. The sender transfers files with {@link FileChannel#transferTo}, but there is
+     * no zero-copy way to write data from a socket to a file, so a large buffer is used to keep the number of copies
+     * and system calls low.
+     */
+    private final ThreadLocal<ByteBuffer> fileRcvBuf = ThreadLocal.withInitial(() ->
+        ByteBuffer.allocateDirect(DFLT_CHUNK_SIZE_BYTES).order(ByteOrder.nativeOrder()));
+
+    /** Sent file bytes count. */
+    private LongAdderMetric fileSentBytes;
+
+    /** Received file bytes count. */
+    private LongAdderMetric fileRcvdBytes;
+
+    /** File send throughput in megabytes per second. */
+    private HistogramMetricImpl fileSndThroughput;
+
+    /** File receive throughput in megabytes per second. */
+    private HistogramMetricImpl fileRcvThroughput;
+
     /** The maximum number of retry attempts (read or write attempts). */
     private final int retryCnt;
 
@@ -440,7 +479,7 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
 
         startSpi();
 
-        MetricRegistry ioMetric = ctx.metric().registry(COMM_METRICS);
+        MetricRegistryImpl ioMetric = ctx.metric().registry(COMM_METRICS);
 
         ioMetric.register(OUTBOUND_MSG_QUEUE_CNT, spi::getOutboundMessagesQueueSize,
                 "Outbound messages queue size.");
@@ -454,6 +493,16 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
 
         ioMetric.register(RCVD_BYTES_CNT, spi::getReceivedBytesCount, "Received bytes count.");
 
+        fileSentBytes = ioMetric.longAdderMetric(FILE_SENT_BYTES_CNT, "Sent file bytes count.");
+
+        fileRcvdBytes = ioMetric.longAdderMetric(FILE_RCVD_BYTES_CNT, "Received file bytes count.");
+
+        fileSndThroughput = ioMetric.histogram(FILE_SEND_THROUGHPUT, FILE_THROUGHPUT_BOUNDS,
+            "Throughput of file transfers to remote nodes in megabytes per second.");
+
+        fileRcvThroughput = ioMetric.histogram(FILE_RCV_THROUGHPUT, FILE_THROUGHPUT_BOUNDS,
+            "Throughput of file transfers from remote nodes in megabytes per second.");
+
         getSpi().setListener(commLsnr = new CommunicationListenerEx<>() {
             @Override public void onMessage(UUID nodeId, Object msg, IgniteRunnable msgC) {
                 try {
@@ -2845,6 +2894,7 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
 
                 try {
                     long startTime = U.currentTimeMillis();
+                    long startBytes = rcvCtx.rcv.transferred();
 
                     rcvCtx.rcv.receive(ch);
 
@@ -2854,10 +2904,17 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
 
                     rcvCtx.rcv.close();
 
+                    long time = U.currentTimeMillis() - startTime;
+                    long bytes = rcvCtx.rcv.transferred() - startBytes;
+
+                    fileRcvdBytes.add(bytes);
+                    fileRcvThroughput.value(throughput(bytes, time));
+
                     U.log(log, "File has been received " +
                         "[name=" + rcvCtx.rcv.state().name() +
                         ", transferred=" + rcvCtx.rcv.transferred() +
-                        ", time=" + (double)((U.currentTimeMillis() - startTime) / 1000) + " sec" +
+                        ", time=" + time / 1000d + " sec" +
+                        ", throughput=" + throughput(bytes, time) + " MB/s" +
                         ", rmtId=" + rcvCtx.rmtNodeId +
                         ", rmtAddr=" + ch.getRemoteAddress() + ']');
 
@@ -2899,6 +2956,15 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
         }
     }
 
+    /**
+     * @param bytes Number of transferred bytes.
+     * @param time Transfer time in milliseconds.
+     * @return Transfer throughput in megabytes per second.
+     */
+    private static long throughput(long bytes, long time) {
+        return bytes * 1000 / Math.max(time, 1) / U.MB;
+    }
+
     /**
      * @param prev Previous available transmission meta.
      * @param next Next transmission meta.
@@ -2937,6 +3003,7 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
                     DFLT_CHUNK_SIZE_BYTES,
                     stopChecker,
                     fileIoFactory,
+                    fileRcvBuf::get,
                     hnd.fileHandler(nodeId, meta),
                     hnd.filePath(nodeId, meta),
                     log);
@@ -3272,9 +3339,15 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
                     }
                 }
 
+                long time = U.currentTimeMillis() - startTime;
+
+                fileSentBytes.add(snd.transferred());
+                fileSndThroughput.value(throughput(snd.transferred(), time));
+
                 U.log(log, "File has been sent to remote node [name=" + file.getName() +
-                    ", uploadTime=" + (double)((U.currentTimeMillis() - startTime) / 1000) + " sec, retries=" + retries +
-                    ", transferred=" + snd.transferred() + ", rmtId=" + rmtId +
+                    ", uploadTime=" + time / 1000d + " sec, retries=" + retries +
+                    ", transferred=" + snd.transferred() + ", throughput=" + throughput(snd.transferred(), time) +
+                    " MB/s, rmtId=" + rmtId +
                     ", rmtAddr=" + channel.getRemoteAddress() + ']');
             }
             catch (InterruptedException e) {
@@ -27,6 +27,7 @@ import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndex;
 import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.query.schema.IndexRebuildCancelToken;
 import org.apache.ignite.internal.processors.query.schema.SchemaIndexCacheFuture;
 import org.apache.ignite.internal.processors.query.schema.SchemaIndexCacheVisitorClosure;
@@ -72,7 +73,10 @@ public class IndexesRebuildTask {
 
         if (recreate) {
             // If there are no index store, rebuild all indexes.
-            clo = row -> cctx.queries().store(row, null, false);
+            clo = sortedClosure(
+                row -> cctx.queries().store(row, null, false),
+                cctx.kernalContext().indexProcessor().treeIndexes(cctx.name(), false)
+            );
         }
         else {
             Collection<InlineIndex> toRebuild = cctx.kernalContext().indexProcessor().treeIndexes(cctx.name(), !force);
@@ -80,7 +84,10 @@ public class IndexesRebuildTask {
             if (F.isEmpty(toRebuild))
                 return null;
 
-            clo = row -> cctx.kernalContext().indexProcessor().store(toRebuild, row, null, false);
+            clo = sortedClosure(
+                row -> cctx.kernalContext().indexProcessor().store(toRebuild, row, null, false),
+                toRebuild
+            );
         }
 
         // Closure prepared, do rebuild.
@@ -164,6 +171,36 @@ public class IndexesRebuildTask {
         return outRebuildCacheIdxFut;
     }
 
+    /**
+     * Rows are applied in the order of the first of the rebuilt indexes. Other indexes are updated in the random
+     * order anyway, since the order of cache rows doesn't depend on the index keys.
+     *
+     * @param clo Closure.
+     * @param idxs Rebuilt indexes.
+     * @return Closure, applying rows in the order of the first of the rebuilt indexes.
+     */
+    private static SchemaIndexCacheVisitorClosure sortedClosure(
+        SchemaIndexCacheVisitorClosure clo,
+        Collection<InlineIndex> idxs
+    ) {
+        InlineIndex sortIdx = F.first(idxs);
+
+        if (sortIdx == null)
+            return clo;
+
+        return new SchemaIndexCacheVisitorClosure() {
+            /** {@inheritDoc} */
+            @Override public void apply(CacheDataRow row) throws IgniteCheckedException {
+                clo.apply(row);
+            }
+
+            /** {@inheritDoc} */
+            @Override public InlineIndex sortIndex() {
+                return sortIdx;
+            }
+        };
+    }
+
     /**
      * Actual start rebuilding. Use this method for test purposes only.
      *
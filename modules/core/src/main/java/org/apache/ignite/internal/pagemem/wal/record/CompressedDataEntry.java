@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagemem.wal.record;
+
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Data entry which value is written to WAL in compressed form. Never produced by WAL reading, value is decompressed
+ * during deserialization.
+ */
+public class CompressedDataEntry extends DataEntry {
+    /** Compressed value bytes. */
+    private final byte[] compressedVal;
+
+    /**
+     * @param entry Data entry.
+     * @param compressedVal Compressed value bytes.
+     */
+    public CompressedDataEntry(DataEntry entry, byte[] compressedVal) {
+        super(
+            entry.cacheId(),
+            entry.key(),
+            entry.value(),
+            entry.op(),
+            entry.nearXidVersion(),
+            entry.writeVersion(),
+            entry.expireTime(),
+            entry.partitionId(),
+            entry.partitionCounter(),
+            (byte)(entry.flags() | COMPRESSED_VALUE_FLAG)
+        );
+
+        assert entry.value() != null;
+
+        this.compressedVal = compressedVal;
+    }
+
+    /**
+     * @return Compressed value bytes.
+     */
+    public byte[] compressedValue() {
+        return compressedVal;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CompressedDataEntry.class, this, "compressedValSize", compressedVal.length,
+            "super", super.toString());
+    }
+}
@@ -41,6 +41,9 @@ public class DataEntry {
     /** */
     public static final byte FROM_STORE_FLAG = 0b00000100;
 
+    /** */
+    public static final byte COMPRESSED_VALUE_FLAG = 0b00001000;
+
     /** Cache ID. */
     @GridToStringInclude
     protected int cacheId;
@@ -82,6 +85,7 @@ public class DataEntry {
      *  <li>0 bit - primary - seted when current node is primary for entry partition.</li>
      *  <li>1 bit - preload - seted when entry logged during preload(rebalance).</li>
      *  <li>2 bit - fromStore - seted when entry loaded from third-party store.</li>
+     *  <li>3 bit - compressedValue - seted when entry value is compressed in WAL, is never set for read entries.</li>
      * </ul>
      */
     @GridToStringInclude
@@ -308,7 +308,16 @@ public abstract class WALRecord {
         DATA_PAGE_FRAGMENTED_UPDATE_RECORD(81, PHYSICAL),
 
         /** Reserved for further improvements. */
-        RESERVED_IDX2(82);
+        RESERVED_IDX2(82),
+
+        /** Insert item to the hash index bucket page. */
+        HASH_INDEX_BUCKET_INSERT(83, PHYSICAL),
+
+        /** Remove item from the hash index bucket page. */
+        HASH_INDEX_BUCKET_REMOVE(84, PHYSICAL),
+
+        /** Inserts and replaces of rows of the leaf page made under a single page lock. */
+        BTREE_PAGE_BATCH_UPDATE(85, PHYSICAL);
 
         /** Index for serialization. Should be consistent throughout all versions. */
         private final int idx;
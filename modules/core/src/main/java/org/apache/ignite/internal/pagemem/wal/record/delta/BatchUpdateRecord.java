@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagemem.wal.record.delta;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Inserts and replaces of rows of the leaf page made under a single page lock.
+ */
+public class BatchUpdateRecord<L> extends PageDeltaRecord {
+    /** */
+    private final BPlusIO<L> io;
+
+    /** {@code True} for insert, {@code false} for replace. */
+    private final boolean[] inserts;
+
+    /** Indexes of rows in the page at the moment of the update. */
+    private final int[] idxs;
+
+    /** */
+    @GridToStringExclude
+    private final byte[][] rowBytes;
+
+    /** Count of updates. */
+    private int cnt;
+
+    /**
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param io IO.
+     * @param maxCnt Maximum count of updates.
+     */
+    public BatchUpdateRecord(int grpId, long pageId, BPlusIO<L> io, int maxCnt) {
+        super(grpId, pageId);
+
+        this.io = io;
+
+        inserts = new boolean[maxCnt];
+        idxs = new int[maxCnt];
+        rowBytes = new byte[maxCnt][];
+    }
+
+    /**
+     * @param insert {@code True} for insert, {@code false} for replace.
+     * @param idx Index.
+     * @param rowBytes Row bytes.
+     */
+    public void add(boolean insert, int idx, byte[] rowBytes) {
+        assert cnt < idxs.length : cnt;
+
+        inserts[cnt] = insert;
+        idxs[cnt] = idx;
+        this.rowBytes[cnt] = rowBytes;
+
+        cnt++;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void applyDelta(PageMemory pageMem, long pageAddr) throws IgniteCheckedException {
+        for (int i = 0; i < cnt; i++) {
+            int idx = idxs[i];
+
+            if (inserts[i])
+                io.insert(pageAddr, idx, null, rowBytes[i], 0L, false);
+            else {
+                if (io.getCount(pageAddr) <= idx)
+                    throw new DeltaApplicationException("Index is greater than count: " + idx);
+
+                io.store(pageAddr, idx, null, rowBytes[i], false);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public RecordType type() {
+        return RecordType.BTREE_PAGE_BATCH_UPDATE;
+    }
+
+    /**
+     * @return IO.
+     */
+    public BPlusIO<L> io() {
+        return io;
+    }
+
+    /**
+     * @return Count of updates.
+     */
+    public int updatesCount() {
+        return cnt;
+    }
+
+    /**
+     * @param i Update number.
+     * @return {@code True} for insert, {@code false} for replace.
+     */
+    public boolean insert(int i) {
+        return inserts[i];
+    }
+
+    /**
+     * @param i Update number.
+     * @return Index.
+     */
+    public int index(int i) {
+        return idxs[i];
+    }
+
+    /**
+     * @param i Update number.
+     * @return Row bytes.
+     */
+    public byte[] rowBytes(int i) {
+        return rowBytes[i];
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(BatchUpdateRecord.class, this, "super", super.toString());
+    }
+}
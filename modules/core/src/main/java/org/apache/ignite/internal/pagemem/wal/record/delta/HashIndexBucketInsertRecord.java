@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagemem.wal.record.delta;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.hash.io.HashIndexBucketIO;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * Insert item to the hash index bucket page.
+ */
+public class HashIndexBucketInsertRecord extends PageDeltaRecord {
+    /** */
+    private final int hash;
+
+    /** */
+    private final long link;
+
+    /**
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param hash Hash.
+     * @param link Link.
+     */
+    public HashIndexBucketInsertRecord(int grpId, long pageId, int hash, long link) {
+        super(grpId, pageId);
+
+        this.hash = hash;
+        this.link = link;
+    }
+
+    /**
+     * @return Hash.
+     */
+    public int hash() {
+        return hash;
+    }
+
+    /**
+     * @return Link.
+     */
+    public long link() {
+        return link;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void applyDelta(PageMemory pageMem, long pageAddr) throws IgniteCheckedException {
+        HashIndexBucketIO io = HashIndexBucketIO.VERSIONS.forPage(pageAddr);
+
+        int idx = io.addItem(pageAddr, hash, link, pageMem.realPageSize(groupId()));
+
+        if (idx < 0)
+            throw new DeltaApplicationException("Failed to add item to the hash index bucket: " + this);
+    }
+
+    /** {@inheritDoc} */
+    @Override public RecordType type() {
+        return RecordType.HASH_INDEX_BUCKET_INSERT;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(HashIndexBucketInsertRecord.class, this,
+            "link", U.hexLong(link),
+            "super", super.toString());
+    }
+}
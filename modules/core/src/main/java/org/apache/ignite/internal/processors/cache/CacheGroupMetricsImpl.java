@@ -39,6 +39,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.topology.Grid
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
 import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReplacementMetrics;
 import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
 import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
 import org.apache.ignite.internal.util.typedef.internal.CU;
@@ -113,6 +114,13 @@ public class CacheGroupMetricsImpl {
         pageMetrics = ctx.dataRegion() == null ?
             null :
             ctx.dataRegion().metrics().cacheGrpPageMetrics(ctx.groupId());
+
+        if (ctx.dataRegion() != null) {
+            PageReplacementMetrics replacementMetrics = ctx.dataRegion().metrics().pageReplacementMetrics();
+
+            if (replacementMetrics != null)
+                replacementMetrics.onCacheGroupStarted(ctx.groupId(), mreg);
+        }
     }
 
     /** Callback for initializing metrics after topology was initialized. */
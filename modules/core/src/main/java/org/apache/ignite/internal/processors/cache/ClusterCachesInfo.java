@@ -2614,6 +2614,14 @@ public class ClusterCachesInfo {
             "diskPageCompressionLevel", "Disk page compression level",
             cfg.getDiskPageCompressionLevel(), startCfg.getDiskPageCompressionLevel(), true);
 
+        CU.validateCacheGroupsAttributesMismatch(log, cfg, startCfg,
+            "valueSeparationThreshold", "Value separation threshold",
+            cfg.getValueSeparationThreshold(), startCfg.getValueSeparationThreshold(), true);
+
+        CU.validateCacheGroupsAttributesMismatch(log, cfg, startCfg,
+            "zoneMapFields", "Zone map fields",
+            cfg.getZoneMapFields(), startCfg.getZoneMapFields(), true);
+
         CU.validateCacheGroupsAttributesMismatch(log, cfg, startCfg,
             "storagePath", "Storage path",
             cfg.getStoragePaths(), startCfg.getStoragePaths(), true);
@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.binary.BinaryObjectException;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.CacheSearchRow;
+import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.TreeRowClosure;
+import org.apache.ignite.internal.processors.cache.tree.RowLinkIO;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Minimum and maximum values of the selected value fields of the rows stored in every data page of the partition. It
+ * allows skipping the rows which can't match the range predicates on full scans without reading their data pages.
+ * <p>
+ * Bounds are only widened, so the rows removed from the page and the rows moved to other pages make the bounds less
+ * selective, but never wrong. Rows are added before they are put to the data tree or updated in place, so a cursor
+ * never finds a row outside of the bounds of its page. Bounds are collected for the numeric fields only, the page bounds of a field having
+ * values of other types or values of different types are unknown.
+ *
+ * @see CacheConfiguration#getZoneMapFields()
+ */
+public class DataPageZoneMap {
+    /** Types having the bounds. */
+    private static final Set<Class<?>> BOUNDS_TYPES = F.asSet(Byte.class, Short.class, Integer.class, Long.class,
+        Float.class, Double.class, BigDecimal.class);
+
+    /** Unknown bound. */
+    private static final Object UNKNOWN = new Object();
+
+    /** Value fields. */
+    private final String[] fields;
+
+    /** Page bounds by the page index. */
+    private final ConcurrentMap<Integer, PageBounds> pages = new ConcurrentHashMap<>();
+
+    /** {@code True} if all the rows of the partition are added to the zone map. */
+    private volatile boolean ready;
+
+    /**
+     * @param fields Value fields.
+     */
+    public DataPageZoneMap(String[] fields) {
+        this.fields = fields.clone();
+    }
+
+    /**
+     * Widens the bounds of the row data page with the row values.
+     *
+     * @param row Row.
+     */
+    public void add(CacheDataRow row) {
+        add(row.link(), row.value());
+    }
+
+    /**
+     * Widens the bounds of the row data page with the row values.
+     *
+     * @param link Row link.
+     * @param val Row value.
+     */
+    public void add(long link, CacheObject val) {
+        if (link == 0)
+            return;
+
+        Object[] vals = values(val);
+
+        pages.compute(pageIndex(link), (idx, bounds) -> bounds == null ? new PageBounds(vals) : bounds.widen(vals));
+    }
+
+    /**
+     * Marks all the rows of the partition added.
+     */
+    public void markReady() {
+        ready = true;
+    }
+
+    /**
+     * @return {@code True} if all the rows of the partition are added to the zone map.
+     */
+    public boolean ready() {
+        return ready;
+    }
+
+    /**
+     * Creates the data tree filter skipping the rows stored on the data pages which can't contain the values from the
+     * given ranges.
+     *
+     * @param ranges Ranges of the value fields, rows should satisfy all of them.
+     * @return Data tree filter or {@code null} if the ranges don't concern the zone map fields.
+     */
+    public @Nullable TreeRowClosure<CacheSearchRow, CacheDataRow> filter(Collection<ZoneMapRange> ranges) {
+        int[] idxs = new int[ranges.size()];
+        ZoneMapRange[] ranges0 = new ZoneMapRange[ranges.size()];
+
+        int cnt = 0;
+
+        for (ZoneMapRange range : ranges) {
+            int idx = fieldIndex(range.field());
+
+            if (idx < 0 || !boundable(range.lower()) || !boundable(range.upper()))
+                continue;
+
+            idxs[cnt] = idx;
+            ranges0[cnt++] = new ZoneMapRange(range.field(), normalize(range.lower()), range.lowerInclusive(),
+                normalize(range.upper()), range.upperInclusive());
+        }
+
+        if (cnt == 0)
+            return null;
+
+        int cnt0 = cnt;
+
+        return (tree, io, pageAddr, idx) -> {
+            PageBounds bounds = pages.get(pageIndex(((RowLinkIO)io).getLink(pageAddr, idx)));
+
+            if (bounds == null)
+                return true;
+
+            for (int i = 0; i < cnt0; i++) {
+                if (!bounds.mayMatch(idxs[i], ranges0[i]))
+                    return false;
+            }
+
+            return true;
+        };
+    }
+
+    /**
+     * @param val Row value.
+     * @return Values of the fields, {@code null} if the value isn't a binary object.
+     */
+    private @Nullable Object[] values(CacheObject val) {
+        if (!(val instanceof BinaryObject))
+            return null;
+
+        Object[] vals = new Object[fields.length];
+
+        for (int i = 0; i < fields.length; i++) {
+            try {
+                vals[i] = ((BinaryObject)val).field(fields[i]);
+            }
+            catch (BinaryObjectException ignored) {
+                vals[i] = UNKNOWN;
+            }
+        }
+
+        return vals;
+    }
+
+    /**
+     * @param field Field name.
+     * @return Field index or {@code -1} if there are no bounds for the field.
+     */
+    private int fieldIndex(String field) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].equals(field))
+                return i;
+        }
+
+        return -1;
+    }
+
+    /** */
+    private static int pageIndex(long link) {
+        return PageIdUtils.pageIndex(PageIdUtils.pageId(link));
+    }
+
+    /**
+     * @param val Value.
+     * @return {@code True} if the value can be compared with the bounds.
+     */
+    private static boolean boundable(@Nullable Object val) {
+        return val == null || (BOUNDS_TYPES.contains(val.getClass()) && normalize(val) != UNKNOWN);
+    }
+
+    /**
+     * @param val Value.
+     * @return Value to compare with the bounds or {@link #UNKNOWN} if the value can't be compared.
+     */
+    private static @Nullable Object normalize(@Nullable Object val) {
+        if (val == null)
+            return null;
+
+        if (!BOUNDS_TYPES.contains(val.getClass()))
+            return UNKNOWN;
+
+        // Negative zero is equal to the positive one in terms of the comparison operators, but not of compareTo.
+        if (val instanceof Double)
+            return Double.isNaN((Double)val) ? UNKNOWN : (Double)val + 0.0d;
+
+        if (val instanceof Float)
+            return Float.isNaN((Float)val) ? UNKNOWN : (Float)val + 0.0f;
+
+        return val;
+    }
+
+    /** @return Compare result or {@code null} if the values aren't comparable. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @Nullable Integer compare(Object val1, Object val2) {
+        if (val1.getClass() != val2.getClass())
+            return null;
+
+        return ((Comparable)val1).compareTo(val2);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(DataPageZoneMap.class, this, "fields", Arrays.toString(fields), "pages", pages.size());
+    }
+
+    /**
+     * Immutable bounds of the data page values.
+     */
+    private class PageBounds {
+        /** Minimums, {@code null} if there are no values, {@link #UNKNOWN} if the bound is unknown. */
+        private final Object[] min;
+
+        /** Maximums, {@code null} if there are no values, {@link #UNKNOWN} if the bound is unknown. */
+        private final Object[] max;
+
+        /**
+         * @param vals Values of the fields, {@code null} if unknown.
+         */
+        private PageBounds(@Nullable Object[] vals) {
+            min = new Object[fields.length];
+            max = new Object[fields.length];
+
+            for (int i = 0; i < fields.length; i++)
+                min[i] = max[i] = vals == null ? UNKNOWN : normalize(vals[i]);
+        }
+
+        /** */
+        private PageBounds(Object[] min, Object[] max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * @param vals Values of the fields, {@code null} if unknown.
+         * @return Bounds including the values.
+         */
+        private PageBounds widen(@Nullable Object[] vals) {
+            Object[] min0 = null;
+            Object[] max0 = null;
+
+            for (int i = 0; i < fields.length; i++) {
+                Object val = vals == null ? UNKNOWN : normalize(vals[i]);
+
+                if (val == null || min[i] == UNKNOWN)
+                    continue;
+
+                Object newMin = min[i];
+                Object newMax = max[i];
+
+                if (val == UNKNOWN || newMin == null) {
+                    newMin = val;
+                    newMax = val;
+                }
+                else {
+                    Integer cmpMin = compare(val, newMin);
+                    Integer cmpMax = compare(val, newMax);
+
+                    if (cmpMin == null || cmpMax == null)
+                        newMin = newMax = UNKNOWN;
+                    else {
+                        if (cmpMin < 0)
+                            newMin = val;
+
+                        if (cmpMax > 0)
+                            newMax = val;
+                    }
+                }
+
+                if (newMin != min[i] || newMax != max[i]) {
+                    if (min0 == null) {
+                        min0 = min.clone();
+                        max0 = max.clone();
+                    }
+
+                    min0[i] = newMin;
+                    max0[i] = newMax;
+                }
+            }
+
+            return min0 == null ? this : new PageBounds(min0, max0);
+        }
+
+        /**
+         * @param idx Field index.
+         * @param range Normalized range.
+         * @return {@code False} if none of the page values belongs to the range.
+         */
+        private boolean mayMatch(int idx, ZoneMapRange range) {
+            Object min = this.min[idx];
+
+            if (min == UNKNOWN)
+                return true;
+
+            // Only nulls, which never match the range predicates.
+            if (min == null)
+                return false;
+
+            if (range.lower() != null) {
+                Integer cmp = compare(max[idx], range.lower());
+
+                if (cmp != null && (cmp < 0 || (cmp == 0 && !range.lowerInclusive())))
+                    return false;
+            }
+
+            if (range.upper() != null) {
+                Integer cmp = compare(min, range.upper());
+
+                if (cmp != null && (cmp > 0 || (cmp == 0 && !range.upperInclusive())))
+                    return false;
+            }
+
+            return true;
+        }
+    }
+}
@@ -78,6 +78,7 @@ import org.apache.ignite.internal.util.lang.GridClosureException;
 import org.apache.ignite.internal.util.lang.GridMetadataAwareAdapter;
 import org.apache.ignite.internal.util.lang.GridTuple;
 import org.apache.ignite.internal.util.lang.GridTuple3;
+import org.apache.ignite.internal.util.lang.IgniteThrowableConsumer;
 import org.apache.ignite.internal.util.tostring.GridToStringBuilder;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
@@ -1435,7 +1436,6 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     }
 
     /** {@inheritDoc} */
-    @SuppressWarnings("unchecked")
     @Override public GridCacheUpdateAtomicResult innerUpdate(
         final GridCacheVersion newVer,
         final UUID evtNodeId,
@@ -1467,6 +1467,58 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         @Nullable final Long updateCntr,
         @Nullable final GridDhtAtomicAbstractUpdateFuture fut,
         boolean transformOp
+    ) throws IgniteCheckedException, GridCacheEntryRemovedException, GridClosureException {
+        return innerUpdate(newVer, evtNodeId, affNodeId, op, writeObj, invokeArgs, writeThrough, readThrough, retval,
+            keepBinary, keepBinaryInInterceptor, expiryPlc, evt, metrics, primary, verCheck, readRepairRecovery, topVer,
+            filter, drType, explicitTtl, explicitExpireTime, conflictVer, conflictResolve, intercept, taskName, prevVal,
+            updateCntr, fut, transformOp, null);
+    }
+
+    /**
+     * Same as {@link #innerUpdate(GridCacheVersion, UUID, UUID, GridCacheOperation, Object, Object[], boolean, boolean,
+     * boolean, boolean, boolean, IgniteCacheExpiryPolicy, boolean, boolean, boolean, boolean, boolean,
+     * AffinityTopologyVersion, CacheEntryPredicate[], GridDrType, long, long, GridCacheVersion, boolean, boolean,
+     * String, CacheObject, Long, GridDhtAtomicAbstractUpdateFuture, boolean)}, but the update closure can be invoked
+     * by the caller. It is used by the batch update of entries of the partition, which calls the closure for the row
+     * found in the partition data tree and writes the new row to the tree after the entry update is finished.
+     *
+     * @param invoker Invoker of the update closure for the row of the entry or {@code null} to invoke the closure
+     *      for the partition data store.
+     * @see IgniteCacheOffheapManager.CacheDataStore#invokeAll(GridCacheContext, Map)
+     */
+    @SuppressWarnings("unchecked")
+    public GridCacheUpdateAtomicResult innerUpdate(
+        final GridCacheVersion newVer,
+        final UUID evtNodeId,
+        final UUID affNodeId,
+        final GridCacheOperation op,
+        @Nullable final Object writeObj,
+        @Nullable final Object[] invokeArgs,
+        final boolean writeThrough,
+        final boolean readThrough,
+        final boolean retval,
+        final boolean keepBinary,
+        boolean keepBinaryInInterceptor,
+        @Nullable final IgniteCacheExpiryPolicy expiryPlc,
+        final boolean evt,
+        final boolean metrics,
+        final boolean primary,
+        final boolean verCheck,
+        final boolean readRepairRecovery,
+        final AffinityTopologyVersion topVer,
+        @Nullable final CacheEntryPredicate[] filter,
+        final GridDrType drType,
+        final long explicitTtl,
+        final long explicitExpireTime,
+        @Nullable final GridCacheVersion conflictVer,
+        final boolean conflictResolve,
+        final boolean intercept,
+        final String taskName,
+        @Nullable final CacheObject prevVal,
+        @Nullable final Long updateCntr,
+        @Nullable final GridDhtAtomicAbstractUpdateFuture fut,
+        boolean transformOp,
+        @Nullable IgniteThrowableConsumer<IgniteCacheOffheapManager.OffheapInvokeClosure> invoker
     ) throws IgniteCheckedException, GridCacheEntryRemovedException, GridClosureException {
         assert cctx.atomic() && !detached();
 
@@ -1523,6 +1575,8 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
                 c.call(dataRow);
             }
+            else if (invoker != null)
+                invoker.accept(c);
             else
                 cctx.offheap().invoke(cctx, key, localPartition(), c);
 
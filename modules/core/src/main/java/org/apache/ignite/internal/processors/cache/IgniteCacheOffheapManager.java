@@ -22,6 +22,7 @@ import java.util.Iterator;
 import java.util.Map;
 import javax.cache.Cache;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.IgniteDhtDemandedPartitionsMap;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
@@ -29,6 +30,7 @@ import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.persistence.DataRowCacheAware;
 import org.apache.ignite.internal.processors.cache.persistence.RootPage;
 import org.apache.ignite.internal.processors.cache.persistence.RowStore;
+import org.apache.ignite.internal.processors.cache.persistence.blob.PartitionBlobStore;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.SimpleDataRow;
 import org.apache.ignite.internal.processors.cache.persistence.partstorage.PartitionMetaStorage;
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
@@ -147,6 +149,13 @@ public interface IgniteCacheOffheapManager {
      */
     public void destroyCacheDataStore(CacheDataStore store) throws IgniteCheckedException;
 
+    /**
+     * @param part Partition ID.
+     * @return Blob store of the values moved out of data pages or {@code null} if value separation is disabled.
+     * @see CacheConfiguration#setValueSeparationThreshold(int)
+     */
+    @Nullable public PartitionBlobStore blobStore(int part);
+
     /**
      * TODO: GG-10884, used on only from initialValue.
      */
@@ -188,6 +197,19 @@ public interface IgniteCacheOffheapManager {
     public void invoke(GridCacheContext cctx, KeyCacheObject key, GridDhtLocalPartition part, OffheapInvokeClosure c)
         throws IgniteCheckedException;
 
+    /**
+     * @param cctx Cache context.
+     * @param part Partition.
+     * @param clos Tree update closures mapped by keys.
+     * @throws IgniteCheckedException If failed.
+     * @see CacheDataStore#invokeAll(GridCacheContext, Map)
+     */
+    public void invokeAll(
+        GridCacheContext cctx,
+        GridDhtLocalPartition part,
+        Map<KeyCacheObject, ? extends OffheapInvokeClosure> clos
+    ) throws IgniteCheckedException;
+
     /**
      * @param cctx Cache context.
      * @param key Key.
@@ -577,6 +599,16 @@ public interface IgniteCacheOffheapManager {
             long expireTime,
             @Nullable CacheDataRow oldRow) throws IgniteCheckedException;
 
+        /**
+         * Moves the row to the data page chosen by the free list. Key, value, version and expire time of the row
+         * are not changed, links to the row are updated. Should be called under the entry lock.
+         *
+         * @param cctx Cache context.
+         * @param oldRow Row to move.
+         * @throws IgniteCheckedException If failed.
+         */
+        public void relocate(GridCacheContext cctx, CacheDataRow oldRow) throws IgniteCheckedException;
+
         /**
          * @param cctx Cache context.
          * @param key Key.
@@ -585,6 +617,20 @@ public interface IgniteCacheOffheapManager {
          */
         public void invoke(GridCacheContext cctx, KeyCacheObject key, OffheapInvokeClosure c) throws IgniteCheckedException;
 
+        /**
+         * Invokes closures for a batch of keys. Keys are processed in the order of the partition data tree, so the
+         * keys landing on the same leaf page of the tree are processed without descending from the tree root, and
+         * their new rows are written to the leaf page under a single page lock. New rows are written to the tree
+         * after closures of all keys of the leaf page are called, so keys must be locked by the caller.
+         *
+         * @param cctx Cache context.
+         * @param clos Closures mapped by keys.
+         * @throws IgniteCheckedException If failed.
+         * @see #invoke(GridCacheContext, KeyCacheObject, OffheapInvokeClosure)
+         */
+        public void invokeAll(GridCacheContext cctx, Map<KeyCacheObject, ? extends OffheapInvokeClosure> clos)
+            throws IgniteCheckedException;
+
         /**
          * @param cctx Cache context.
          * @param key Key.
@@ -642,6 +688,19 @@ public interface IgniteCacheOffheapManager {
         public GridCursor<? extends CacheDataRow> cursor(int cacheId, KeyCacheObject lower,
             KeyCacheObject upper, Object x) throws IgniteCheckedException;
 
+        /**
+         * Gets the cursor which may skip the rows stored on the data pages which can't contain the values from the
+         * given ranges. The returned rows still have to be checked against the ranges.
+         *
+         * @param cacheId Cache ID.
+         * @param ranges Ranges of the value fields, rows should satisfy all of them.
+         * @return Data cursor.
+         * @throws IgniteCheckedException If failed.
+         * @see CacheConfiguration#getZoneMapFields()
+         */
+        public GridCursor<? extends CacheDataRow> cursor(int cacheId, Collection<ZoneMapRange> ranges)
+            throws IgniteCheckedException;
+
         /**
          * Destroys the tree associated with the store.
          *
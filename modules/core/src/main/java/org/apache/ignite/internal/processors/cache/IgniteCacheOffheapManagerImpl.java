@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -27,6 +28,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -57,6 +59,7 @@ import org.apache.ignite.internal.processors.cache.persistence.CacheSearchRow;
 import org.apache.ignite.internal.processors.cache.persistence.DataRowCacheAware;
 import org.apache.ignite.internal.processors.cache.persistence.RootPage;
 import org.apache.ignite.internal.processors.cache.persistence.RowStore;
+import org.apache.ignite.internal.processors.cache.persistence.blob.PartitionBlobStore;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.SimpleDataRow;
 import org.apache.ignite.internal.processors.cache.persistence.partstorage.PartitionMetaStorage;
 import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
@@ -67,6 +70,7 @@ import org.apache.ignite.internal.processors.cache.tree.CacheDataTree;
 import org.apache.ignite.internal.processors.cache.tree.DataRow;
 import org.apache.ignite.internal.processors.cache.tree.PendingEntriesTree;
 import org.apache.ignite.internal.processors.cache.tree.PendingRow;
+import org.apache.ignite.internal.processors.cache.tree.RowLinkIO;
 import org.apache.ignite.internal.processors.cache.tree.SearchRow;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.query.GridQueryRowCacheCleaner;
@@ -402,6 +406,22 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public void invokeAll(
+        GridCacheContext cctx,
+        GridDhtLocalPartition part,
+        Map<KeyCacheObject, ? extends OffheapInvokeClosure> clos
+    ) throws IgniteCheckedException {
+        ctx.database().checkpointReadLock();
+
+        try {
+            dataStore(part).invokeAll(cctx, clos);
+        }
+        finally {
+            cctx.shared().database().checkpointReadUnlock();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public void update(
         GridCacheContext cctx,
@@ -1084,6 +1104,11 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         store.destroy();
     }
 
+    /** {@inheritDoc} */
+    @Override public @Nullable PartitionBlobStore blobStore(int part) {
+        return null;
+    }
+
     /**
      * @param p Partition.
      * @return Tree name for given partition.
@@ -1195,6 +1220,9 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
      *
      */
     public static class CacheDataStoreImpl implements CacheDataStore {
+        /** Count of rows scanned by the background build between checks of the scan cancellation. */
+        private static final int BACKGROUND_SCAN_BATCH = 1024;
+
         /** */
         private final int partId;
 
@@ -1236,6 +1264,24 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         /** */
         private volatile GridQueryRowCacheCleaner rowCacheCleaner;
 
+        /** Bits per key of the partition keys filter, {@code 0} if the filter is disabled. */
+        private final int bloomFilterBitsPerKey = IgniteSystemProperties.getInteger(
+            IgniteSystemProperties.IGNITE_PARTITION_BLOOM_FILTER_BITS_PER_KEY,
+            PartitionBloomFilter.DFLT_PARTITION_BLOOM_FILTER_BITS_PER_KEY
+        );
+
+        /** Filter of the partition keys, {@code null} if the filter is not built yet. */
+        private volatile PartitionBloomFilter bloomFilter;
+
+        /** Filter build in progress flag. */
+        private final AtomicBoolean bloomFilterBuilding = new AtomicBoolean();
+
+        /** Data page bounds of the value fields, {@code null} if not collected for the group. */
+        private volatile DataPageZoneMap zoneMap;
+
+        /** Zone map build in progress flag. */
+        private final AtomicBoolean zoneMapBuilding = new AtomicBoolean();
+
         /**
          * @param partId Partition number.
          * @param rowStore Row store.
@@ -1268,6 +1314,10 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
             updateValSizeThreshold = grp.shared().database().pageSize() / 2;
 
+            String[] zoneMapFields = grp.config().getZoneMapFields();
+
+            zoneMap = F.isEmpty(zoneMapFields) ? null : new DataPageZoneMap(zoneMapFields);
+
             if (cleaner == null)
                 rowStore.setRowCacheCleaner(() -> rowCacheCleaner);
             else
@@ -1445,6 +1495,10 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             if (oldRow.expireTime() != dataRow.expireTime())
                 return false;
 
+            // Separated value is stored out of the data page, its in-page size does not match the value size.
+            if (oldRow instanceof CacheDataRowAdapter && ((CacheDataRowAdapter)oldRow).blobValueReference() != null)
+                return false;
+
             int oldLen = oldRow.size();
 
             // Use grp.sharedGroup() flag since it is possible cacheId is not yet set here.
@@ -1485,6 +1539,38 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             }
         }
 
+        /** {@inheritDoc} */
+        @Override public void invokeAll(GridCacheContext cctx, Map<KeyCacheObject, ? extends OffheapInvokeClosure> clos)
+            throws IgniteCheckedException {
+            if (!busyLock.enterBusy())
+                throw operationCancelledException();
+
+            int cacheId = grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
+
+            try {
+                assert cctx.shared().database().checkpointLockIsHeldByThread();
+
+                List<CacheSearchRow> rows = new ArrayList<>(clos.size());
+
+                for (KeyCacheObject key : clos.keySet())
+                    rows.add(new SearchRow(cacheId, key));
+
+                // Rows of a cache are ordered by the key hash in the data tree, equal hashes are rare.
+                rows.sort(Comparator.comparingInt(CacheSearchRow::hash));
+
+                List<OffheapInvokeClosure> sortedClos = new ArrayList<>(rows.size());
+
+                for (CacheSearchRow row : rows)
+                    sortedClos.add(clos.get(row.key()));
+
+                dataTree.invokeAll(rows, CacheDataRowAdapter.RowData.NO_KEY, sortedClos,
+                    i -> finishInvoke(cctx, rows.get(i), sortedClos.get(i)));
+            }
+            finally {
+                busyLock.leaveBusy();
+            }
+        }
+
         /**
          * @param cctx Cache context.
          * @param row Search row.
@@ -1497,6 +1583,19 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
             dataTree.invoke(row, CacheDataRowAdapter.RowData.NO_KEY, c);
 
+            finishInvoke(cctx, row, c);
+        }
+
+        /**
+         * Finishes update of the row by the closure, which has been invoked for the data tree.
+         *
+         * @param cctx Cache context.
+         * @param row Search row.
+         * @param c Closure.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void finishInvoke(GridCacheContext cctx, CacheSearchRow row, OffheapInvokeClosure c)
+            throws IgniteCheckedException {
             switch (c.operationType()) {
                 case PUT: {
                     assert c.newRow() != null : c;
@@ -1537,7 +1636,7 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
             DataRow dataRow = makeDataRow(key, val, ver, expireTime, cacheId);
 
-            if (canUpdateOldRow(cctx, oldRow, dataRow) && rowStore.updateRow(oldRow.link(), dataRow, grp.statisticsHolderData()))
+            if (canUpdateOldRow(cctx, oldRow, dataRow) && updateRow(oldRow.link(), dataRow))
                 dataRow.link(oldRow.link());
             else {
                 CacheObjectContext coCtx = cctx.cacheObjectContext();
@@ -1545,7 +1644,7 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 key.valueBytes(coCtx);
                 val.valueBytes(coCtx);
 
-                rowStore.addRow(dataRow, grp.statisticsHolderData());
+                addRow(dataRow);
             }
 
             assert dataRow.link() != 0 : dataRow;
@@ -1570,6 +1669,9 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 for (DataRowCacheAware row : rows) {
                     row.storeCacheId(cacheIdAwareGrp);
 
+                    if (row.value() != null)
+                        widenZoneMap(row.link(), row.value());
+
                     if (!initPred.applyx(row) && row.value() != null)
                         rowStore.removeRow(row.link(), grp.statisticsHolderData());
                 }
@@ -1625,13 +1727,13 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
                 assert cctx.shared().database().checkpointLockIsHeldByThread();
 
-                if (canUpdateOldRow(cctx, oldRow, dataRow) && rowStore.updateRow(oldRow.link(), dataRow, grp.statisticsHolderData())) {
+                if (canUpdateOldRow(cctx, oldRow, dataRow) && updateRow(oldRow.link(), dataRow)) {
                     old = oldRow;
 
                     dataRow.link(oldRow.link());
                 }
                 else {
-                    rowStore.addRow(dataRow, grp.statisticsHolderData());
+                    addRow(dataRow);
 
                     assert dataRow.link() != 0 : dataRow;
 
@@ -1654,6 +1756,84 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             }
         }
 
+        /** {@inheritDoc} */
+        @Override public void relocate(GridCacheContext cctx, CacheDataRow oldRow) throws IgniteCheckedException {
+            assert oldRow.link() != 0L : oldRow;
+
+            if (!busyLock.enterBusy())
+                throw operationCancelledException();
+
+            try {
+                int cacheId = grp.storeCacheIdInDataPage() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
+
+                DataRow dataRow = makeDataRow(oldRow.key(), oldRow.value(), oldRow.version(), oldRow.expireTime(),
+                    cacheId);
+
+                CacheObjectContext coCtx = cctx.cacheObjectContext();
+
+                // Make sure value bytes initialized.
+                dataRow.key().valueBytes(coCtx);
+                dataRow.value().valueBytes(coCtx);
+
+                assert cctx.shared().database().checkpointLockIsHeldByThread();
+
+                addRow(dataRow);
+
+                assert dataRow.link() != 0 : dataRow;
+
+                if (grp.sharedGroup() && dataRow.cacheId() == CU.UNDEFINED_CACHE_ID)
+                    dataRow.cacheId(cctx.cacheId());
+
+                dataTree.putx(dataRow);
+
+                finishUpdate(cctx, dataRow, oldRow);
+            }
+            finally {
+                busyLock.leaveBusy();
+            }
+        }
+
+        /**
+         * Writes the row to a data page and assigns the row link.
+         *
+         * @param row Row.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void addRow(DataRow row) throws IgniteCheckedException {
+            rowStore.addRow(row, grp.statisticsHolderData());
+
+            widenZoneMap(row.link(), row.value());
+        }
+
+        /**
+         * Updates the row in its data page.
+         *
+         * @param link Link of the row to update.
+         * @param row New row.
+         * @return {@code True} if the row is updated in place.
+         * @throws IgniteCheckedException If failed.
+         */
+        private boolean updateRow(long link, DataRow row) throws IgniteCheckedException {
+            // Cursors may read the page concurrently, so its bounds include the new values before the page is changed.
+            widenZoneMap(link, row.value());
+
+            return rowStore.updateRow(link, row, grp.statisticsHolderData());
+        }
+
+        /**
+         * Widens the data page bounds with the row values. Must be called before the row becomes visible to the
+         * cursors, that is, before the row is put to the data tree.
+         *
+         * @param link Row link.
+         * @param val Row value.
+         */
+        private void widenZoneMap(long link, CacheObject val) {
+            DataPageZoneMap zoneMap0 = zoneMap;
+
+            if (zoneMap0 != null)
+                zoneMap0.add(link, val);
+        }
+
         /**
          * @param cctx Cache context.
          * @param newRow New row.
@@ -1677,6 +1857,16 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             if (oldRow == null && !oldRowExpired)
                 incrementSize(cctx.cacheId());
 
+            if (oldRow == null) {
+                // Filter is read after the row is put to the tree, so the row is either added here or found by the
+                // filter build.
+                PartitionBloomFilter filter = bloomFilter;
+
+                if (filter != null && filter.add(grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID,
+                    newRow.key().hashCode()))
+                    buildBloomFilterAsync();
+            }
+
             GridCacheQueryManager qryMgr = cctx.queries();
 
             if (qryMgr.enabled())
@@ -1790,6 +1980,15 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
             int cacheId = grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
 
+            if (bloomFilterBitsPerKey > 0) {
+                PartitionBloomFilter filter = bloomFilter;
+
+                if (filter == null)
+                    buildBloomFilterAsync();
+                else if (!filter.mightContain(cacheId, key.hashCode()))
+                    return null;
+            }
+
             CacheDataRow row = dataTree.findOne(new SearchRow(cacheId, key), CacheDataRowAdapter.RowData.NO_KEY);
 
             if (row != null) {
@@ -1801,6 +2000,125 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             return row;
         }
 
+        /**
+         * Builds the filter of the partition keys in the background. The filter is published before the tree scan,
+         * so the rows inserted concurrently are added to the filter by {@link #finishUpdate}. The filter is used by
+         * {@link #find} only after the scan is finished.
+         */
+        private void buildBloomFilterAsync() {
+            buildAsync(bloomFilterBuilding, this::buildBloomFilter);
+        }
+
+        /**
+         * Builds the filter of the partition keys.
+         */
+        private void buildBloomFilter() {
+            if (!busyLock.enterBusy())
+                return;
+
+            boolean busy = true;
+
+            PartitionBloomFilter filter = new PartitionBloomFilter(storageSize.sum(), bloomFilterBitsPerKey);
+
+            try {
+                if (destroyed())
+                    return;
+
+                bloomFilter = filter;
+
+                int[] cnt = new int[1];
+
+                // Every BACKGROUND_SCAN_BATCH-th row is returned by the cursor to check the cancellation of the scan.
+                GridCursor<CacheDataRow> cur = dataTree.find(null, null, (tree, io, pageAddr, idx) -> {
+                    RowLinkIO rowIo = (RowLinkIO)io;
+
+                    filter.add(grp.sharedGroup() ? rowIo.getCacheId(pageAddr, idx) : CU.UNDEFINED_CACHE_ID,
+                        rowIo.getHash(pageAddr, idx));
+
+                    return ++cnt[0] % BACKGROUND_SCAN_BATCH == 0;
+                }, CacheDataRowAdapter.RowData.KEY_ONLY);
+
+                while (cur.next()) {
+                    busy = continueBackgroundScan();
+
+                    if (!busy) {
+                        if (bloomFilter == filter)
+                            bloomFilter = null;
+
+                        return;
+                    }
+                }
+
+                filter.markReady();
+
+                if (log.isDebugEnabled())
+                    log.debug("Partition keys filter built [grp=" + grp.cacheOrGroupName() + ", partId=" + partId +
+                        ", filter=" + filter + ']');
+            }
+            catch (Throwable e) {
+                if (bloomFilter == filter)
+                    bloomFilter = null;
+
+                if (!destroyed())
+                    U.warn(log, "Failed to build partition keys filter [grp=" + grp.cacheOrGroupName() +
+                        ", partId=" + partId + ']', e);
+
+                if (e instanceof Error)
+                    throw (Error)e;
+            }
+            finally {
+                if (busy)
+                    busyLock.leaveBusy();
+            }
+        }
+
+        /**
+         * Submits the background build of the partition data structure to the partition scan executor.
+         *
+         * @param building Build in progress flag.
+         * @param build Build.
+         */
+        private void buildAsync(AtomicBoolean building, Runnable build) {
+            if (building.get() || !building.compareAndSet(false, true))
+                return;
+
+            try {
+                grp.shared().kernalContext().pools().getPartitionScanExecutorService().execute(() -> {
+                    try {
+                        build.run();
+                    }
+                    finally {
+                        building.set(false);
+                    }
+                });
+            }
+            catch (RejectedExecutionException ignored) {
+                // Node is stopping.
+                building.set(false);
+            }
+        }
+
+        /**
+         * Leaves the busy state for a while, so the background scan of the partition doesn't delay the stop of the
+         * node or the cache group.
+         *
+         * @return {@code True} if the busy state is entered again and the scan can be continued.
+         */
+        private boolean continueBackgroundScan() {
+            busyLock.leaveBusy();
+
+            if (!busyLock.enterBusy())
+                return false;
+
+            if (destroyed() || Thread.currentThread().isInterrupted()) {
+                busyLock.leaveBusy();
+
+                return false;
+            }
+
+            return true;
+        }
+
         /** {@inheritDoc} */
         @Override public GridCursor<? extends CacheDataRow> cursor() throws IgniteCheckedException {
             return dataTree.find(null, null);
@@ -1842,8 +2160,97 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             return dataTree.find(lowerRow, upperRow, x);
         }
 
+        /** {@inheritDoc} */
+        @Override public GridCursor<? extends CacheDataRow> cursor(int cacheId, Collection<ZoneMapRange> ranges)
+            throws IgniteCheckedException {
+            DataPageZoneMap zoneMap0 = zoneMap;
+
+            if (zoneMap0 == null || F.isEmpty(ranges))
+                return cursor(cacheId);
+
+            if (!zoneMap0.ready()) {
+                buildZoneMapAsync();
+
+                return cursor(cacheId);
+            }
+
+            BPlusTree.TreeRowClosure<CacheSearchRow, CacheDataRow> filter = zoneMap0.filter(ranges);
+
+            if (filter == null)
+                return cursor(cacheId);
+
+            if (grp.sharedGroup()) {
+                assert cacheId != CU.UNDEFINED_CACHE_ID;
+
+                return dataTree.find(new SearchRow(cacheId), new SearchRow(cacheId), filter, null);
+            }
+
+            return dataTree.find(null, null, filter, null);
+        }
+
+        /**
+         * Adds the rows existing in the partition to the zone map in the background. The rows written concurrently are
+         * added to the zone map by the writers. The zone map is used by {@link #cursor(int, Collection)} only after the
+         * scan is finished.
+         */
+        private void buildZoneMapAsync() {
+            buildAsync(zoneMapBuilding, this::buildZoneMap);
+        }
+
+        /**
+         * Builds the data page bounds.
+         */
+        private void buildZoneMap() {
+            if (!busyLock.enterBusy())
+                return;
+
+            boolean busy = true;
+
+            DataPageZoneMap zoneMap0 = zoneMap;
+
+            try {
+                if (destroyed() || zoneMap0 == null || zoneMap0.ready())
+                    return;
+
+                GridCursor<? extends CacheDataRow> cur = dataTree.find(null, null);
+
+                for (int cnt = 1; cur.next(); cnt++) {
+                    zoneMap0.add(cur.get());
+
+                    if (cnt % BACKGROUND_SCAN_BATCH != 0)
+                        continue;
+
+                    busy = continueBackgroundScan();
+
+                    if (!busy)
+                        return;
+                }
+
+                zoneMap0.markReady();
+
+                if (log.isDebugEnabled())
+                    log.debug("Data page zone map built [grp=" + grp.cacheOrGroupName() + ", partId=" + partId +
+                        ", zoneMap=" + zoneMap0 + ']');
+            }
+            catch (Throwable e) {
+                if (!destroyed())
+                    U.warn(log, "Failed to build data page zone map [grp=" + grp.cacheOrGroupName() +
+                        ", partId=" + partId + ']', e);
+
+                if (e instanceof Error)
+                    throw (Error)e;
+            }
+            finally {
+                if (busy)
+                    busyLock.leaveBusy();
+            }
+        }
+
         /** {@inheritDoc} */
         @Override public void destroy() throws IgniteCheckedException {
+            bloomFilter = null;
+            zoneMap = null;
+
             AtomicReference<IgniteCheckedException> exRef = new AtomicReference<>();
 
             dataTree.destroy(row -> {
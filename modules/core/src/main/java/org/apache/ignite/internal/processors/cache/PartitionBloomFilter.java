@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Bloom filter of the keys stored in the partition. It allows skipping the data tree lookup for the absent keys
+ * without touching the page memory.
+ * <p>
+ * Keys are identified by the cache ID and the key hash code, which are used to order the rows in the data tree. Keys
+ * are never removed from the filter, so removed keys and keys added over the expected count increase the false
+ * positive rate. The filter should be rebuilt when {@link #add} reports that the expected count was exceeded.
+ *
+ * @see IgniteSystemProperties#IGNITE_PARTITION_BLOOM_FILTER_BITS_PER_KEY
+ */
+public class PartitionBloomFilter {
+    /** @see IgniteSystemProperties#IGNITE_PARTITION_BLOOM_FILTER_BITS_PER_KEY */
+    public static final int DFLT_PARTITION_BLOOM_FILTER_BITS_PER_KEY = 0;
+
+    /** Min count of keys the filter is built for. */
+    private static final long MIN_KEYS = 1024;
+
+    /** Max count of the filter bits. */
+    private static final long MAX_BITS = 1L << 30;
+
+    /** Filter bits. */
+    private final AtomicLongArray words;
+
+    /** Mask of the bit index. */
+    private final long mask;
+
+    /** Count of the hash functions. */
+    private final int hashes;
+
+    /** Count of added keys the filter is built for. */
+    private final long maxKeys;
+
+    /** Count of added keys. */
+    private final AtomicLong keys = new AtomicLong();
+
+    /** {@code True} if all the keys of the partition are added to the filter. */
+    private volatile boolean ready;
+
+    /**
+     * @param expectedKeys Current count of keys in the partition.
+     * @param bitsPerKey Bits per key.
+     */
+    public PartitionBloomFilter(long expectedKeys, int bitsPerKey) {
+        assert bitsPerKey > 0 : bitsPerKey;
+
+        // Reserve the space for the partition growth.
+        maxKeys = Math.max(MIN_KEYS, expectedKeys * 2);
+
+        long bits = Math.min(MAX_BITS, Long.highestOneBit(maxKeys * bitsPerKey - 1) << 1);
+
+        words = new AtomicLongArray((int)(bits >>> 6));
+        mask = bits - 1;
+        hashes = Math.max(1, (int)Math.round(bitsPerKey * Math.log(2)));
+    }
+
+    /**
+     * Adds the key to the filter.
+     *
+     * @param cacheId Cache ID.
+     * @param keyHash Key hash code.
+     * @return {@code True} if the count of added keys exceeds the count the filter is built for.
+     */
+    public boolean add(int cacheId, int keyHash) {
+        long h = hash(cacheId, keyHash);
+
+        long h1 = h;
+        long h2 = (h >>> 32) | 1;
+
+        for (int i = 0; i < hashes; i++) {
+            long bit = (h1 + i * h2) & mask;
+
+            int idx = (int)(bit >>> 6);
+            long bitMask = 1L << bit;
+
+            long word;
+
+            while (((word = words.get(idx)) & bitMask) == 0 && !words.compareAndSet(idx, word, word | bitMask)) {
+                // Retry.
+            }
+        }
+
+        return keys.incrementAndGet() > maxKeys;
+    }
+
+    /**
+     * @param cacheId Cache ID.
+     * @param keyHash Key hash code.
+     * @return {@code False} if the key is definitely absent in the partition.
+     */
+    public boolean mightContain(int cacheId, int keyHash) {
+        if (!ready)
+            return true;
+
+        long h = hash(cacheId, keyHash);
+
+        long h1 = h;
+        long h2 = (h >>> 32) | 1;
+
+        for (int i = 0; i < hashes; i++) {
+            long bit = (h1 + i * h2) & mask;
+
+            if ((words.get((int)(bit >>> 6)) & (1L << bit)) == 0)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Marks the filter as ready to be used for lookups. Must be called after all the keys of the partition are added.
+     */
+    public void markReady() {
+        ready = true;
+    }
+
+    /**
+     * @return {@code True} if the filter is ready to be used for lookups.
+     */
+    public boolean ready() {
+        return ready;
+    }
+
+    /**
+     * @return Count of the filter bits.
+     */
+    public long bits() {
+        return mask + 1;
+    }
+
+    /**
+     * @param cacheId Cache ID.
+     * @param keyHash Key hash code.
+     * @return 64-bit hash (finalization step of MurmurHash3).
+     */
+    private static long hash(int cacheId, int keyHash) {
+        long h = ((long)cacheId << 32) ^ (keyHash & 0xFFFFFFFFL);
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53f3cbbL;
+        h ^= h >>> 33;
+
+        return h;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(PartitionBloomFilter.class, this, "bits", bits(), "keys", keys.get());
+    }
+}
@@ -399,6 +399,19 @@ public class ValidationOnNodeJoinUtils {
                     cacheSpec.toString());
         }
 
+        if (cc.getValueSeparationThreshold() != 0 && !ctx.clientNode()) {
+            apply(assertParam, cc.getValueSeparationThreshold() > 0, "valueSeparationThreshold > 0");
+
+            String cacheSpec = "[cacheName=" + cc.getName() + ", groupName=" + cc.getGroupName() +
+                ", cacheType=" + cacheType + ']';
+
+            if (!CU.isPersistentCache(cc, c.getDataStorageConfiguration()))
+                throw new IgniteCheckedException("Value separation is allowed only for persistent caches " + cacheSpec);
+
+            if (cc.isEncryptionEnabled())
+                throw new IgniteCheckedException("Encryption cannot be used with value separation " + cacheSpec);
+        }
+
         if (!ctx.clientNode()) {
             if (!F.isEmpty(cc.getStoragePaths())) {
                 List<String> csp = Arrays.asList(cc.getStoragePaths());
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Range of the value field values. Used to skip the data pages which can't contain the matching rows.
+ *
+ * @see DataPageZoneMap
+ */
+public class ZoneMapRange {
+    /** Value field name. */
+    private final String field;
+
+    /** Lower bound, {@code null} if unbounded. */
+    @Nullable private final Object lower;
+
+    /** Lower bound inclusive flag. */
+    private final boolean lowerInclusive;
+
+    /** Upper bound, {@code null} if unbounded. */
+    @Nullable private final Object upper;
+
+    /** Upper bound inclusive flag. */
+    private final boolean upperInclusive;
+
+    /**
+     * @param field Value field name.
+     * @param lower Lower bound, {@code null} if unbounded.
+     * @param lowerInclusive Lower bound inclusive flag.
+     * @param upper Upper bound, {@code null} if unbounded.
+     * @param upperInclusive Upper bound inclusive flag.
+     */
+    public ZoneMapRange(
+        String field,
+        @Nullable Object lower,
+        boolean lowerInclusive,
+        @Nullable Object upper,
+        boolean upperInclusive
+    ) {
+        this.field = field;
+        this.lower = lower;
+        this.lowerInclusive = lowerInclusive;
+        this.upper = upper;
+        this.upperInclusive = upperInclusive;
+    }
+
+    /** @return Value field name. */
+    public String field() {
+        return field;
+    }
+
+    /** @return Lower bound, {@code null} if unbounded. */
+    public @Nullable Object lower() {
+        return lower;
+    }
+
+    /** @return Lower bound inclusive flag. */
+    public boolean lowerInclusive() {
+        return lowerInclusive;
+    }
+
+    /** @return Upper bound, {@code null} if unbounded. */
+    public @Nullable Object upper() {
+        return upper;
+    }
+
+    /** @return Upper bound inclusive flag. */
+    public boolean upperInclusive() {
+        return upperInclusive;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(ZoneMapRange.class, this);
+    }
+}
@@ -150,7 +150,7 @@ public class GridDhtCacheEntry extends GridDistributedCacheEntry {
     }
 
     /** {@inheritDoc} */
-    @Override protected GridDhtLocalPartition localPartition() {
+    @Override public GridDhtLocalPartition localPartition() {
         return locPart;
     }
 
@@ -50,6 +50,9 @@ class DhtAtomicUpdateResult {
      */
     private int processedEntriesCount;
 
+    /** Indexes of entries in the order of update, the processed entries count is a position in this order. */
+    private int[] updateOrder;
+
     /**
      * @param expiry Expiry policy.
      */
@@ -139,4 +142,18 @@ class DhtAtomicUpdateResult {
     public int processedEntriesCount() {
         return processedEntriesCount;
     }
+
+    /**
+     * @param updateOrder Indexes of entries in the order of update.
+     */
+    void updateOrder(int[] updateOrder) {
+        this.updateOrder = updateOrder;
+    }
+
+    /**
+     * @return Indexes of entries in the order of update or {@code null} if the order is not defined yet.
+     */
+    @Nullable int[] updateOrder() {
+        return updateOrder;
+    }
 }
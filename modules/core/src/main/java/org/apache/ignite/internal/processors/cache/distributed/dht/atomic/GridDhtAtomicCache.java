@@ -68,6 +68,7 @@ import org.apache.ignite.internal.processors.cache.GridCacheOperation;
 import org.apache.ignite.internal.processors.cache.GridCacheReturn;
 import org.apache.ignite.internal.processors.cache.GridCacheUpdateAtomicResult;
 import org.apache.ignite.internal.processors.cache.IgniteCacheExpiryPolicy;
+import org.apache.ignite.internal.processors.cache.IgniteCacheOffheapManager;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
 import org.apache.ignite.internal.processors.cache.LockedEntriesInfo;
 import org.apache.ignite.internal.processors.cache.binary.CacheObjectBinaryProcessorImpl;
@@ -79,6 +80,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.GridPartition
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtForceKeysRequest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtForceKeysResponse;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtInvalidPartitionException;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionTopology;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearAtomicCache;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearCacheAdapter;
@@ -99,7 +101,9 @@ import org.apache.ignite.internal.processors.cacheobject.IgniteCacheObjectProces
 import org.apache.ignite.internal.processors.performancestatistics.OperationType;
 import org.apache.ignite.internal.processors.timeout.GridTimeoutObject;
 import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.internal.util.IgniteTree;
 import org.apache.ignite.internal.util.future.GridFinishedFuture;
+import org.apache.ignite.internal.util.lang.IgniteThrowableConsumer;
 import org.apache.ignite.internal.util.nio.GridNioBackPressureControl;
 import org.apache.ignite.internal.util.nio.GridNioMessageTracker;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
@@ -2517,7 +2521,9 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
     }
 
     /**
-     * Updates locked entries one-by-one.
+     * Updates locked entries one-by-one. Entries of the same partition are updated one after another in the order of
+     * the partition data tree, so their new rows are written to the tree in batch, see
+     * {@link IgniteCacheOffheapManager#invokeAll(GridCacheContext, GridDhtLocalPartition, Map)}.
      *
      * @param nearNode Originating node.
      * @param hasNear {@code True} if originating node has near cache.
@@ -2544,6 +2550,144 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
         @Nullable IgniteCacheExpiryPolicy expiry,
         boolean sndPrevVal,
         DhtAtomicUpdateResult dhtUpdRes
+    ) throws GridCacheEntryRemovedException {
+        boolean intercept = ctx.config().getInterceptor() != null;
+
+        AffinityAssignment affAssignment = ctx.affinity().assignment(req.topologyVersion());
+
+        // Order must not change if the update is continued after a failure.
+        if (dhtUpdRes.updateOrder() == null)
+            dhtUpdRes.updateOrder(updateOrder(locked));
+
+        int[] order = dhtUpdRes.updateOrder();
+
+        for (int pos = dhtUpdRes.processedEntriesCount(); pos < order.length; pos = dhtUpdRes.processedEntriesCount()) {
+            GridDhtLocalPartition part = locked.get(order[pos]).localPartition();
+
+            int end = pos + 1;
+
+            while (end < order.length && locked.get(order[end]).localPartition() == part)
+                end++;
+
+            if (end - pos == 1) {
+                updateEntry(nearNode, hasNear, req, res, locked, order[pos], ver, replicate, taskName, expiry,
+                    sndPrevVal, intercept, affAssignment, dhtUpdRes, null);
+
+                dhtUpdRes.processedEntriesCount(pos + 1);
+
+                continue;
+            }
+
+            // Closures are called in the order of insertion for keys with equal hashes.
+            Map<KeyCacheObject, BatchUpdateClosure> clos = new LinkedHashMap<>();
+
+            BatchUpdateClosure prev = null;
+
+            for (int p = pos; p < end; p++) {
+                int i = order[p];
+                int processed = p + 1;
+
+                prev = new BatchUpdateClosure(prev, invoker -> {
+                    updateEntry(nearNode, hasNear, req, res, locked, i, ver, replicate, taskName, expiry,
+                        sndPrevVal, intercept, affAssignment, dhtUpdRes, invoker);
+
+                    dhtUpdRes.processedEntriesCount(processed);
+                });
+
+                clos.put(req.key(i), prev);
+            }
+
+            try {
+                ctx.offheap().invokeAll(ctx, part, clos);
+            }
+            catch (IgniteCheckedException e) {
+                for (int p = dhtUpdRes.processedEntriesCount(); p < end; p++)
+                    res.addFailedKey(req.key(order[p]), e);
+
+                dhtUpdRes.processedEntriesCount(end);
+            }
+
+            // Update is continued from the failed entry, if it can be retried.
+            if (prev.err instanceof GridCacheEntryRemovedException)
+                throw (GridCacheEntryRemovedException)prev.err;
+            else if (prev.err instanceof RuntimeException)
+                throw (RuntimeException)prev.err;
+            else if (prev.err != null)
+                throw (Error)prev.err;
+        }
+    }
+
+    /**
+     * @param locked Locked entries.
+     * @return Indexes of the entries in the order of update: entries are grouped by partitions and sorted in the
+     * order of the partition data tree.
+     */
+    private static int[] updateOrder(List<GridDhtCacheEntry> locked) {
+        int[] order = new int[locked.size()];
+
+        if (locked.size() == 1)
+            return order;
+
+        Integer[] idxs = new Integer[locked.size()];
+
+        for (int i = 0; i < idxs.length; i++)
+            idxs[i] = i;
+
+        Arrays.sort(idxs, (i1, i2) -> {
+            GridDhtCacheEntry e1 = locked.get(i1);
+            GridDhtCacheEntry e2 = locked.get(i2);
+
+            int cmp = Integer.compare(e1.partition(), e2.partition());
+
+            if (cmp == 0)
+                cmp = Integer.compare(e1.key().hashCode(), e2.key().hashCode());
+
+            return cmp != 0 ? cmp : Integer.compare(i1, i2);
+        });
+
+        for (int i = 0; i < idxs.length; i++)
+            order[i] = idxs[i];
+
+        return order;
+    }
+
+    /**
+     * Updates locked entry.
+     *
+     * @param nearNode Originating node.
+     * @param hasNear {@code True} if originating node has near cache.
+     * @param req Update request.
+     * @param res Update response.
+     * @param locked Locked entries.
+     * @param i Index of the entry in the request.
+     * @param ver Assigned update version.
+     * @param replicate Whether DR is enabled for that cache.
+     * @param taskName Task name.
+     * @param expiry Expiry policy.
+     * @param sndPrevVal If {@code true} sends previous value to backups.
+     * @param intercept If {@code true} then calls cache interceptor.
+     * @param affAssignment Affinity assignment.
+     * @param dhtUpdRes Dht update result
+     * @param invoker Invoker of the entry update closure for the row of the partition data tree or {@code null} to
+     *      invoke the closure for the partition data store.
+     * @throws GridCacheEntryRemovedException Should be never thrown.
+     */
+    private void updateEntry(
+        ClusterNode nearNode,
+        boolean hasNear,
+        GridNearAtomicAbstractUpdateRequest req,
+        GridNearAtomicUpdateResponse res,
+        List<GridDhtCacheEntry> locked,
+        int i,
+        GridCacheVersion ver,
+        boolean replicate,
+        String taskName,
+        @Nullable IgniteCacheExpiryPolicy expiry,
+        boolean sndPrevVal,
+        boolean intercept,
+        AffinityAssignment affAssignment,
+        DhtAtomicUpdateResult dhtUpdRes,
+        @Nullable IgniteThrowableConsumer<IgniteCacheOffheapManager.OffheapInvokeClosure> invoker
     ) throws GridCacheEntryRemovedException {
         GridCacheReturn retVal = dhtUpdRes.returnValue();
         GridDhtAtomicAbstractUpdateFuture dhtFut = dhtUpdRes.dhtFuture();
@@ -2551,188 +2695,179 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
 
         AffinityTopologyVersion topVer = req.topologyVersion();
 
-        boolean intercept = ctx.config().getInterceptor() != null;
+        KeyCacheObject k = req.key(i);
 
-        AffinityAssignment affAssignment = ctx.affinity().assignment(topVer);
+        GridCacheOperation op = req.operation();
 
-        // Avoid iterator creation.
-        for (int i = dhtUpdRes.processedEntriesCount(); i < req.size(); i++) {
-            KeyCacheObject k = req.key(i);
+        // We are holding java-level locks on entries at this point.
+        // No GridCacheEntryRemovedException can be thrown.
+        try {
+            GridDhtCacheEntry entry = locked.get(i);
 
-            GridCacheOperation op = req.operation();
+            GridCacheVersion newConflictVer = req.conflictVersion(i);
+            long newConflictTtl = req.conflictTtl(i);
+            long newConflictExpireTime = req.conflictExpireTime(i);
 
-            // We are holding java-level locks on entries at this point.
-            // No GridCacheEntryRemovedException can be thrown.
-            try {
-                GridDhtCacheEntry entry = locked.get(i);
-
-                GridCacheVersion newConflictVer = req.conflictVersion(i);
-                long newConflictTtl = req.conflictTtl(i);
-                long newConflictExpireTime = req.conflictExpireTime(i);
-
-                assert !(newConflictVer instanceof GridCacheVersionEx) : newConflictVer;
-
-                Object writeVal = op == TRANSFORM ? req.entryProcessor(i) : req.writeValue(i);
-
-                boolean readRepairRecovery = op == TRANSFORM && req.entryProcessor(i) instanceof AtomicReadRepairEntryProcessor;
-
-                // Get readers before innerUpdate (reader cleared after remove).
-                GridDhtCacheEntry.ReaderId[] readers = entry.readersLocked();
-
-                GridCacheUpdateAtomicResult updRes = entry.innerUpdate(
-                    ver,
-                    nearNode.id(),
-                    locNodeId,
-                    op,
-                    writeVal,
-                    req.invokeArguments(),
-                    writeThrough() && !req.skipStore(),
-                    !req.skipStore() && !req.skipReadThrough(),
-                    sndPrevVal || req.returnValue(),
-                    req.keepBinary(),
-                    req.keepBinaryInInterceptor(),
-                    expiry,
-                    /*event*/true,
-                    /*metrics*/true,
-                    /*primary*/true,
-                    /*verCheck*/false,
-                    readRepairRecovery,
-                    topVer,
-                    req.filter(),
-                    replicate ? DR_PRIMARY : DR_NONE,
-                    newConflictTtl,
-                    newConflictExpireTime,
-                    newConflictVer,
-                    /*conflictResolve*/true,
-                    intercept,
-                    taskName,
-                    /*prevVal*/null,
-                    /*updateCntr*/null,
-                    dhtFut,
-                    false);
+            assert !(newConflictVer instanceof GridCacheVersionEx) : newConflictVer;
 
-                if (dhtFut != null) {
-                    if (updRes.sendToDht()) { // Send to backups even in case of remove-remove scenarios.
-                        GridCacheVersionConflictContext<?, ?> conflictCtx = updRes.conflictResolveResult();
+            Object writeVal = op == TRANSFORM ? req.entryProcessor(i) : req.writeValue(i);
 
-                        if (conflictCtx == null)
-                            newConflictVer = null;
-                        else if (conflictCtx.isMerge())
-                            newConflictVer = null; // Conflict version is discarded in case of merge.
+            boolean readRepairRecovery = op == TRANSFORM && req.entryProcessor(i) instanceof AtomicReadRepairEntryProcessor;
 
-                        EntryProcessor<Object, Object, Object> entryProc = null;
+            // Get readers before innerUpdate (reader cleared after remove).
+            GridDhtCacheEntry.ReaderId[] readers = entry.readersLocked();
 
-                        dhtFut.addWriteEntry(
-                            affAssignment,
+            GridCacheUpdateAtomicResult updRes = entry.innerUpdate(
+                ver,
+                nearNode.id(),
+                locNodeId,
+                op,
+                writeVal,
+                req.invokeArguments(),
+                writeThrough() && !req.skipStore(),
+                !req.skipStore() && !req.skipReadThrough(),
+                sndPrevVal || req.returnValue(),
+                req.keepBinary(),
+                req.keepBinaryInInterceptor(),
+                expiry,
+                /*event*/true,
+                /*metrics*/true,
+                /*primary*/true,
+                /*verCheck*/false,
+                readRepairRecovery,
+                topVer,
+                req.filter(),
+                replicate ? DR_PRIMARY : DR_NONE,
+                newConflictTtl,
+                newConflictExpireTime,
+                newConflictVer,
+                /*conflictResolve*/true,
+                intercept,
+                taskName,
+                /*prevVal*/null,
+                /*updateCntr*/null,
+                dhtFut,
+                false,
+                invoker);
+
+            if (dhtFut != null) {
+                if (updRes.sendToDht()) { // Send to backups even in case of remove-remove scenarios.
+                    GridCacheVersionConflictContext<?, ?> conflictCtx = updRes.conflictResolveResult();
+
+                    if (conflictCtx == null)
+                        newConflictVer = null;
+                    else if (conflictCtx.isMerge())
+                        newConflictVer = null; // Conflict version is discarded in case of merge.
+
+                    EntryProcessor<Object, Object, Object> entryProc = null;
+
+                    dhtFut.addWriteEntry(
+                        affAssignment,
+                        entry,
+                        updRes.newValue(),
+                        entryProc,
+                        updRes.newTtl(),
+                        updRes.conflictExpireTime(),
+                        newConflictVer,
+                        sndPrevVal,
+                        updRes.oldValue(),
+                        updRes.updateCounter(),
+                        op,
+                        readRepairRecovery);
+
+                    if (readers != null)
+                        dhtFut.addNearWriteEntries(
+                            nearNode,
+                            readers,
                             entry,
                             updRes.newValue(),
                             entryProc,
                             updRes.newTtl(),
                             updRes.conflictExpireTime(),
-                            newConflictVer,
-                            sndPrevVal,
-                            updRes.oldValue(),
-                            updRes.updateCounter(),
-                            op,
                             readRepairRecovery);
+                }
+                else {
+                    if (log.isDebugEnabled())
+                        log.debug("Entry did not pass the filter or conflict resolution (will skip write) " +
+                            "[entry=" + entry + ", filter=" + Arrays.toString(req.filter()) + ']');
+                }
+            }
 
-                        if (readers != null)
-                            dhtFut.addNearWriteEntries(
-                                nearNode,
-                                readers,
-                                entry,
+            if (hasNear) {
+                if (updRes.sendToDht()) {
+                    if (!ctx.affinity().partitionBelongs(nearNode, entry.partition(), topVer)) {
+                        // If put the same value as in request then do not need to send it back.
+                        if (op == TRANSFORM || writeVal != updRes.newValue()) {
+                            res.addNearValue(i,
                                 updRes.newValue(),
-                                entryProc,
                                 updRes.newTtl(),
-                                updRes.conflictExpireTime(),
-                                readRepairRecovery);
-                    }
-                    else {
-                        if (log.isDebugEnabled())
-                            log.debug("Entry did not pass the filter or conflict resolution (will skip write) " +
-                                "[entry=" + entry + ", filter=" + Arrays.toString(req.filter()) + ']');
-                    }
-                }
-
-                if (hasNear) {
-                    if (updRes.sendToDht()) {
-                        if (!ctx.affinity().partitionBelongs(nearNode, entry.partition(), topVer)) {
-                            // If put the same value as in request then do not need to send it back.
-                            if (op == TRANSFORM || writeVal != updRes.newValue()) {
-                                res.addNearValue(i,
-                                    updRes.newValue(),
-                                    updRes.newTtl(),
-                                    updRes.conflictExpireTime());
-                            }
-                            else
-                                res.addNearTtl(i, updRes.newTtl(), updRes.conflictExpireTime());
+                                updRes.conflictExpireTime());
+                        }
+                        else
+                            res.addNearTtl(i, updRes.newTtl(), updRes.conflictExpireTime());
 
-                            if (updRes.newValue() != null) {
-                                IgniteInternalFuture<Boolean> f =
-                                    entry.addReader(nearNode.id(), req.messageId(), topVer);
+                        if (updRes.newValue() != null) {
+                            IgniteInternalFuture<Boolean> f =
+                                entry.addReader(nearNode.id(), req.messageId(), topVer);
 
-                                assert f == null : f;
-                            }
-                        }
-                        else if (GridDhtCacheEntry.ReaderId.contains(readers, nearNode.id())) {
-                            // Reader became primary or backup.
-                            entry.removeReader(nearNode.id(), req.messageId());
+                            assert f == null : f;
                         }
-                        else
-                            res.addSkippedIndex(i);
+                    }
+                    else if (GridDhtCacheEntry.ReaderId.contains(readers, nearNode.id())) {
+                        // Reader became primary or backup.
+                        entry.removeReader(nearNode.id(), req.messageId());
                     }
                     else
                         res.addSkippedIndex(i);
                 }
+                else
+                    res.addSkippedIndex(i);
+            }
 
-                if (updRes.removeVersion() != null) {
-                    if (deleted == null)
-                        deleted = new ArrayList<>(req.size());
+            if (updRes.removeVersion() != null) {
+                if (deleted == null)
+                    deleted = new ArrayList<>(req.size());
 
-                    deleted.add(F.t(entry, updRes.removeVersion()));
-                }
+                deleted.add(F.t(entry, updRes.removeVersion()));
+            }
 
-                if (op == TRANSFORM) {
-                    assert !req.returnValue();
+            if (op == TRANSFORM) {
+                assert !req.returnValue();
 
-                    IgniteBiTuple<Object, Exception> compRes = updRes.computedResult();
+                IgniteBiTuple<Object, Exception> compRes = updRes.computedResult();
 
-                    if (compRes != null && (compRes.get1() != null || compRes.get2() != null)) {
-                        if (retVal == null)
-                            retVal = new GridCacheReturn(nearNode.isLocal());
+                if (compRes != null && (compRes.get1() != null || compRes.get2() != null)) {
+                    if (retVal == null)
+                        retVal = new GridCacheReturn(nearNode.isLocal());
 
-                        retVal.addEntryProcessResult(ctx,
-                            k,
-                            null,
-                            compRes.get1(),
-                            compRes.get2(),
-                            req.keepBinary());
-                    }
-                }
-                else {
-                    // Create only once.
-                    if (retVal == null) {
-                        CacheObject ret = updRes.oldValue();
-
-                        retVal = new GridCacheReturn(ctx,
-                            nearNode.isLocal(),
-                            req.keepBinary(),
-                            U.deploymentClassLoader(ctx.kernalContext(), U.contextDeploymentClassLoaderId(ctx.kernalContext())),
-                            req.returnValue() ? ret : null,
-                            updRes.success());
-                    }
+                    retVal.addEntryProcessResult(ctx,
+                        k,
+                        null,
+                        compRes.get1(),
+                        compRes.get2(),
+                        req.keepBinary());
                 }
             }
-            catch (IgniteCheckedException e) {
-                res.addFailedKey(k, e);
-            }
+            else {
+                // Create only once.
+                if (retVal == null) {
+                    CacheObject ret = updRes.oldValue();
 
-            dhtUpdRes.processedEntriesCount(i + 1);
+                    retVal = new GridCacheReturn(ctx,
+                        nearNode.isLocal(),
+                        req.keepBinary(),
+                        U.deploymentClassLoader(ctx.kernalContext(), U.contextDeploymentClassLoaderId(ctx.kernalContext())),
+                        req.returnValue() ? ret : null,
+                        updRes.success());
+                }
+            }
+        }
+        catch (IgniteCheckedException e) {
+            res.addFailedKey(k, e);
         }
 
         dhtUpdRes.returnValue(retVal);
         dhtUpdRes.deleted(deleted);
-        dhtUpdRes.dhtFuture(dhtFut);
     }
 
     /**
@@ -3712,6 +3847,87 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
         return S.toString(GridDhtAtomicCache.class, this, super.toString());
     }
 
+    /**
+     * Update of the entry by the update closure invoked with the given invoker.
+     */
+    @FunctionalInterface
+    private interface EntryUpdate {
+        /**
+         * @param invoker Invoker of the entry update closure.
+         * @throws GridCacheEntryRemovedException Should be never thrown.
+         */
+        public void update(IgniteThrowableConsumer<IgniteCacheOffheapManager.OffheapInvokeClosure> invoker)
+            throws GridCacheEntryRemovedException;
+    }
+
+    /**
+     * Closure of the batch invoke of the partition data store, which updates the entry for its row of the partition
+     * data tree. Failure of the entry update is thrown after the batch invoke, updates of the following entries of the
+     * batch are skipped.
+     */
+    private static class BatchUpdateClosure implements IgniteCacheOffheapManager.OffheapInvokeClosure {
+        /** Closure of the previous entry of the batch. */
+        @Nullable private final BatchUpdateClosure prev;
+
+        /** Entry update. */
+        private final EntryUpdate upd;
+
+        /** Entry update closure, {@code null} if the entry is not updated. */
+        @Nullable private IgniteCacheOffheapManager.OffheapInvokeClosure clo;
+
+        /** Failure of the entry update or of the previous entries of the batch. */
+        @Nullable private Throwable err;
+
+        /**
+         * @param prev Closure of the previous entry of the batch.
+         * @param upd Entry update.
+         */
+        private BatchUpdateClosure(@Nullable BatchUpdateClosure prev, EntryUpdate upd) {
+            this.prev = prev;
+            this.upd = upd;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void call(@Nullable CacheDataRow oldRow) {
+            if (prev != null && prev.err != null) {
+                err = prev.err;
+
+                return;
+            }
+
+            try {
+                upd.update(c -> {
+                    c.call(oldRow);
+
+                    clo = c;
+                });
+            }
+            catch (GridCacheEntryRemovedException | RuntimeException | AssertionError e) {
+                err = e;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override public CacheDataRow newRow() {
+            return clo != null ? clo.newRow() : null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public IgniteTree.OperationType operationType() {
+            return clo != null ? clo.operationType() : IgniteTree.OperationType.NOOP;
+        }
+
+        /** {@inheritDoc} */
+        @Nullable @Override public CacheDataRow oldRow() {
+            return clo != null ? clo.oldRow() : null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean oldRowExpiredFlag() {
+            return clo != null && clo.oldRowExpiredFlag();
+        }
+    }
+
     /**
      *
      */
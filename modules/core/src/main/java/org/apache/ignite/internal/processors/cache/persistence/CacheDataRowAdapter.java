@@ -32,6 +32,8 @@ import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.IncompleteCacheObject;
 import org.apache.ignite.internal.processors.cache.IncompleteObject;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.persistence.blob.BlobValueReference;
+import org.apache.ignite.internal.processors.cache.persistence.blob.PartitionBlobStore;
 import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTreeRuntimeException;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.CacheVersionIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.DataPageIO;
@@ -85,6 +87,10 @@ public class CacheDataRowAdapter implements CacheDataRow {
     @GridToStringInclude
     protected int cacheId;
 
+    /** Reference to the value stored out of data pages, if any. */
+    @GridToStringExclude
+    protected BlobValueReference blobRef;
+
     /**
      * @param link Link.
      */
@@ -159,6 +165,8 @@ public class CacheDataRowAdapter implements CacheDataRow {
         IoStatisticsHolder statHolder = grp != null ? grp.statisticsHolderData() : IoStatisticsHolderNoOp.INSTANCE;
 
         doInitFromLink(link, sharedCtx, coctx, pageMem, grpId, statHolder, readCacheId, rowData, null, skipVer);
+
+        readBlobValue(grp, sharedCtx, PageIdUtils.partId(pageId(link)), rowData);
     }
 
     /**
@@ -262,6 +270,44 @@ public class CacheDataRowAdapter implements CacheDataRow {
                 );
             }
         }
+
+        readBlobValue(grp, sharedCtx, PageIdUtils.partId(PageIO.getPageId(pageAddr)), rowData);
+    }
+
+    /**
+     * Replaces the reference to a value stored out of data pages with the value read from the partition blob store.
+     *
+     * @param grp Cache group.
+     * @param sharedCtx Cache shared context.
+     * @param partId Partition ID.
+     * @param rowData Required row data.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void readBlobValue(
+        @Nullable CacheGroupContext grp,
+        GridCacheSharedContext<?, ?> sharedCtx,
+        int partId,
+        RowData rowData
+    ) throws IgniteCheckedException {
+        if (!(val instanceof BlobValueReference))
+            return;
+
+        blobRef = (BlobValueReference)val;
+
+        if (rowData == RowData.BLOB_REFERENCE)
+            return;
+
+        assert grp != null;
+
+        PartitionBlobStore blobStore = grp.offheap().blobStore(partId);
+
+        if (blobStore == null) {
+            throw new IgniteCheckedException("Blob store is not initialized [grp=" + grp.cacheOrGroupName() +
+                ", part=" + partId + ']');
+        }
+
+        val = sharedCtx.kernalContext().cacheObjects().toCacheObject(grp.cacheObjectContext(), blobRef.valueType(),
+            blobStore.read(blobRef));
     }
 
     /**
@@ -821,6 +867,13 @@ public class CacheDataRowAdapter implements CacheDataRow {
         return pageIds.arrayCopy();
     }
 
+    /**
+     * @return Reference to the value stored out of data pages or {@code null} if the value is stored in the row.
+     */
+    @Nullable public BlobValueReference blobValueReference() {
+        return blobRef;
+    }
+
     /**
      * @return {@code True} if entry is ready.
      */
@@ -908,7 +961,13 @@ public class CacheDataRowAdapter implements CacheDataRow {
         KEY_ONLY,
 
         /** */
-        NO_KEY
+        NO_KEY,
+
+        /**
+         * Same as {@link #FULL}, but a value stored out of data pages is not read:
+         * {@link #value()} returns the {@link BlobValueReference}.
+         */
+        BLOB_REFERENCE
     }
 
     /** {@inheritDoc} */
@@ -29,6 +29,7 @@ import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetricsImpl;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReplacementMetrics;
 import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
 import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
 import org.apache.ignite.internal.processors.metric.impl.HitRateMetric;
@@ -46,6 +47,8 @@ import org.apache.ignite.spi.systemview.view.PagesTimestampHistogramView;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
+import static org.apache.ignite.configuration.PageReplacementMode.ADAPTIVE_2Q;
+
 /**
  *
  */
@@ -109,6 +112,9 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
     /** Memory page metrics for the whole region. */
     private final PageMetrics dataRegionPageMetrics;
 
+    /** Page replacement metrics, {@code null} if not tracked by the page replacement mode of the region. */
+    @Nullable private final PageReplacementMetrics pageReplacementMetrics;
+
     /**
      * Counter for number of pages occupied by large entries (one entry is larger than one page).
      */
@@ -317,6 +323,10 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
                 }
             })
             .build();
+
+        pageReplacementMetrics = dataRegionCfg.getPageReplacementMode() == ADAPTIVE_2Q ?
+            new PageReplacementMetrics(mreg) :
+            null;
     }
 
     /**
@@ -660,12 +670,23 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
             cacheGrpMetrics = copy;
         }
 
+        if (pageReplacementMetrics != null)
+            pageReplacementMetrics.onCacheGroupStopped(grpId);
+
         // we don't decrease the total pages counter for historical reasons
         // (it hasn't been done in previous implementations)
         if (rmvMetrics != null)
             dataRegionPageMetrics.indexPages().add(-rmvMetrics.indexPages().value());
     }
 
+    /**
+     * @return Page replacement metrics or {@code null} if they are not tracked by the page replacement mode of
+     * the region.
+     */
+    @Nullable public PageReplacementMetrics pageReplacementMetrics() {
+        return pageReplacementMetrics;
+    }
+
     /**
      * Updates eviction rate metric.
      */
@@ -104,6 +104,9 @@ public class DataStorageMetricsImpl {
     /** */
     private final AtomicLongMetric lastCpCowPages;
 
+    /** */
+    private final AtomicLongMetric lastCpSeqPages;
+
     /**
      * @deprecated Will be removed in upcoming releases.
      */
@@ -167,6 +170,12 @@ public class DataStorageMetricsImpl {
     /** */
     private final HistogramMetricImpl cpHistogram;
 
+    /** Histogram of count of committers served by one WAL fsync. */
+    private final HistogramMetricImpl walFsyncBatchHistogram;
+
+    /** Histogram of time spent by committers waiting for WAL fsync. */
+    private final HistogramMetricImpl walFsyncWaitHistogram;
+
     /** Total number of logged bytes into the WAL. */
     private final LongAdderMetric walWrittenBytes;
 
@@ -270,6 +279,9 @@ public class DataStorageMetricsImpl {
         lastCpCowPages = mreg.longMetric("LastCheckpointCopiedOnWritePagesNumber",
             "Number of pages copied to a temporary checkpoint buffer during the last checkpoint.");
 
+        lastCpSeqPages = mreg.longMetric("LastCheckpointSequentialPagesNumber",
+            "Number of pages written right after the previous page of the same file during the last checkpoint.");
+
         lastWalSegmentRollOverTime = mreg.longMetric("WalLastRollOverTime",
             "Time of the last WAL segment rollover.");
 
@@ -333,6 +345,13 @@ public class DataStorageMetricsImpl {
         cpHistogram = mreg.histogram("CheckpointHistogram", cpBounds,
                 "Histogram of checkpoint duration in milliseconds.");
 
+        walFsyncBatchHistogram = mreg.histogram("WalFsyncBatchHistogram", new long[] {1, 2, 4, 8, 16, 32, 64},
+            "Histogram of count of committers served by one WAL fsync.");
+
+        walFsyncWaitHistogram = mreg.histogram("WalFsyncWaitHistogram",
+            new long[] {10, 100, 1_000, 10_000, 100_000},
+            "Histogram of time spent by committers waiting for WAL fsync in microseconds.");
+
         walWrittenBytes = mreg.longAdderMetric(
             "WalWrittenBytes",
             "Total number of logged bytes into the WAL."
@@ -696,6 +715,7 @@ public class DataStorageMetricsImpl {
      * @param totalPages Total number of all pages in checkpoint.
      * @param dataPages Total number of data pages in checkpoint.
      * @param cowPages Total number of COW-ed pages in checkpoint.
+     * @param seqPages Total number of pages written right after the previous page of the same file.
      * @param recoveryDataSize Recovery data size, in bytes.
      * @param storageSize Storage space allocated, in bytes.
      * @param sparseStorageSize Storage space allocated adjusted for possible sparsity, in bytes.
@@ -717,6 +737,7 @@ public class DataStorageMetricsImpl {
         long totalPages,
         long dataPages,
         long cowPages,
+        long seqPages,
         long recoveryDataSize,
         long storageSize,
         long sparseStorageSize
@@ -740,6 +761,7 @@ public class DataStorageMetricsImpl {
         lastCpTotalPages.value(totalPages);
         lastCpDataPages.value(dataPages);
         lastCpCowPages.value(cowPages);
+        lastCpSeqPages.value(seqPages);
         lastCpRecoveryDataSize.value(recoveryDataSize);
         this.storageSize.value(storageSize);
         this.sparseStorageSize.value(sparseStorageSize);
@@ -789,6 +811,28 @@ public class DataStorageMetricsImpl {
         walFsyncTimeNum.increment();
     }
 
+    /**
+     * Callback on WAL fsync requested by committers.
+     *
+     * @param batch Count of committers served by the fsync.
+     */
+    public void onFsyncBatch(int batch) {
+        if (!metricsEnabled)
+            return;
+
+        walFsyncBatchHistogram.value(batch);
+    }
+
+    /**
+     * @param nanoTime Time spent by committer waiting for WAL fsync.
+     */
+    public void onFsyncWait(long nanoTime) {
+        if (!metricsEnabled)
+            return;
+
+        walFsyncWaitHistogram.value(nanoTime / 1_000);
+    }
+
     /**
      * @param num Number.
      */
@@ -130,6 +130,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageParti
 import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHandler;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.crc.IgniteDataIntegrityViolationException;
+import org.apache.ignite.internal.processors.cache.persistence.wal.reader.ReadAheadWalIterator;
 import org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager;
 import org.apache.ignite.internal.processors.compress.CompressionProcessor;
 import org.apache.ignite.internal.processors.configuration.distributed.DistributedConfigurationLifecycleListener;
@@ -210,6 +211,15 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     @SystemProperty(value = "Enables log checkpoint read lock holders")
     public static final String IGNITE_PDS_LOG_CP_READ_LOCK_HOLDERS = "IGNITE_PDS_LOG_CP_READ_LOCK_HOLDERS";
 
+    /** @see #IGNITE_RECOVERY_WAL_READ_AHEAD */
+    public static final int DFLT_RECOVERY_WAL_READ_AHEAD = 4096;
+
+    /** Count of WAL records read ahead during recovery. */
+    @SystemProperty(value = "Count of WAL records read and deserialized ahead by a dedicated thread during binary " +
+        "and logical recovery, while previous records are applied. 0 disables read-ahead", type = Integer.class,
+        defaults = "" + DFLT_RECOVERY_WAL_READ_AHEAD)
+    public static final String IGNITE_RECOVERY_WAL_READ_AHEAD = "IGNITE_RECOVERY_WAL_READ_AHEAD";
+
     /** {@link DataRegionConfiguration} name reserved for meta store. */
     public static final String METASTORE_DATA_REGION_NAME = "metastoreMemPlc";
 
@@ -260,6 +270,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     /** Prefer historical rebalance flag. */
     private final boolean preferWalRebalance = getBoolean(IGNITE_PREFER_WAL_REBALANCE);
 
+    /** Count of WAL records read ahead during recovery. */
+    private final int recoveryWalReadAhead = getInteger(IGNITE_RECOVERY_WAL_READ_AHEAD, DFLT_RECOVERY_WAL_READ_AHEAD);
+
     /** Value of property for throttling policy override. */
     private final String throttlingPolicyOverride = IgniteSystemProperties.getString(
         IgniteSystemProperties.IGNITE_OVERRIDE_WRITE_THROTTLING_ENABLED);
@@ -347,6 +360,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     /** */
     private CachePartitionDefragmentationManager defrgMgr;
 
+    /** Online partition compaction. */
+    private PartitionCompactor partCompactor;
+
     /** Data regions which should be checkpointed. */
     protected final Set<DataRegion> checkpointedDataRegions = new GridConcurrentHashSet<>();
 
@@ -584,6 +600,8 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
             cleanupTempCheckpointDirectory();
 
             dsMetrics.wal(cctx.wal());
+
+            partCompactor = new PartitionCompactor(cctx);
         }
     }
 
@@ -824,6 +842,18 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
         return defrgMgr;
     }
 
+    /**
+     * Compacts data pages of the local partition online.
+     *
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     * @return Future with count of moved rows.
+     * @see PartitionCompactor
+     */
+    public IgniteInternalFuture<Long> compactPartition(int grpId, int partId) {
+        return partCompactor.compact(grpId, partId);
+    }
+
     /** {@inheritDoc} */
     @Override public DataRegion addDataRegion(DataStorageConfiguration dataStorageCfg, DataRegionConfiguration dataRegionCfg,
         boolean trackable, PageReadWriteManager pmPageMgr) throws IgniteCheckedException {
@@ -1127,6 +1157,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
         if (defrgMgr != null)
             defrgMgr.cancel();
 
+        if (partCompactor != null)
+            partCompactor.stop();
+
         if (checkpointManager != null)
             checkpointManager.stop(cancel);
 
@@ -2230,7 +2263,7 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         long lastArchivedSegment = cctx.wal().lastArchivedSegment();
 
-        WALIterator it = cctx.wal().replay(recPtr, recordTypePredicate);
+        WALIterator it = recoveryIterator(cctx.wal().replay(recPtr, recordTypePredicate));
 
         RestoreBinaryState restoreBinaryState = new RestoreBinaryState(status, it, lastArchivedSegment, cacheGroupsPredicate);
 
@@ -2585,6 +2618,20 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
         });
     }
 
+    /**
+     * Wraps WAL iterator used for recovery to read and deserialize records in a separate thread, while previously
+     * read records are applied.
+     *
+     * @param it WAL iterator.
+     * @return WAL iterator for recovery.
+     */
+    private WALIterator recoveryIterator(WALIterator it) {
+        if (recoveryWalReadAhead <= 0)
+            return it;
+
+        return new ReadAheadWalIterator(it, cctx.igniteInstanceName(), recoveryWalReadAhead);
+    }
+
     /**
      * @param status Last registered checkpoint status.
      * @param restoreMeta Metastore restore phase if {@code true}.
@@ -2614,7 +2661,7 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         Map<GroupPartitionId, Integer> partitionRecoveryStates = new HashMap<>();
 
-        WALIterator it = cctx.wal().replay(status.startPtr, recordTypePredicate);
+        WALIterator it = recoveryIterator(cctx.wal().replay(status.startPtr, recordTypePredicate));
 
         RestoreLogicalState restoreLogicalState =
             new RestoreLogicalState(status, it, lastArchivedSegment, cacheGroupsPredicate, partitionRecoveryStates);
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.processors.cache.persistence;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -28,16 +30,21 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Stream;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.SystemProperty;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.WALMode;
 import org.apache.ignite.failure.FailureContext;
 import org.apache.ignite.internal.managers.encryption.GridEncryptionManager;
 import org.apache.ignite.internal.managers.encryption.ReencryptStateUtils;
@@ -69,11 +76,14 @@ import org.apache.ignite.internal.processors.cache.IgniteCacheOffheapManagerImpl
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
 import org.apache.ignite.internal.processors.cache.KeyCacheObjectImpl;
 import org.apache.ignite.internal.processors.cache.PartitionUpdateCounter;
+import org.apache.ignite.internal.processors.cache.ZoneMapRange;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.CachePartitionPartialCountersMap;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.IgniteHistoricalIterator;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.IgniteHistoricalIteratorException;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
+import org.apache.ignite.internal.processors.cache.persistence.blob.BlobValueReference;
+import org.apache.ignite.internal.processors.cache.persistence.blob.PartitionBlobStore;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointListener;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.AbstractFreeList;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.CacheFreeList;
@@ -99,8 +109,10 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHan
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.tree.CacheDataRowStore;
 import org.apache.ignite.internal.processors.cache.tree.CacheDataTree;
+import org.apache.ignite.internal.processors.cache.tree.DataRow;
 import org.apache.ignite.internal.processors.cache.tree.PendingEntriesTree;
 import org.apache.ignite.internal.processors.cache.tree.PendingRow;
+import org.apache.ignite.internal.processors.cache.tree.SearchRow;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.query.GridQueryRowCacheCleaner;
 import org.apache.ignite.internal.util.GridLongList;
@@ -117,11 +129,13 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiTuple;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BLOB_STORE_SEGMENT_SIZE;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
 import static org.apache.ignite.internal.processors.cache.GridCacheTtlManager.DFLT_UNWIND_THROTTLING_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.EVICTED;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.RENTING;
+import static org.apache.ignite.internal.processors.cache.persistence.blob.PartitionBlobStore.DFLT_BLOB_STORE_SEGMENT_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHandler.isWalDeltaRecordNeeded;
 
 /**
@@ -167,6 +181,9 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
     /** Flag indicates that all group partitions have restored their state from page memory / disk. */
     private volatile boolean partitionStatesRestored;
 
+    /** Stores of the separated values by partition. */
+    private final ConcurrentMap<Integer, PartitionBlobStore> blobStores = new ConcurrentHashMap<>();
+
     /** {@inheritDoc} */
     @Override protected void initPendingTree(GridCacheContext cctx) throws IgniteCheckedException {
         // No-op. Per-partition PendingTree should be used.
@@ -241,12 +258,58 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
 
         boolean exists = ctx.pageStore() != null && ctx.pageStore().exists(grp.groupId(), p);
 
-        return createGridCacheDataStore(grp, p, exists, log);
+        return new GridCacheDataStore(grp, p, exists, busyLock, log, createBlobStore(p));
+    }
+
+    /**
+     * @param p Partition.
+     * @return Store of the separated values or {@code null} if the value separation is disabled.
+     * @throws IgniteCheckedException If failed.
+     */
+    private @Nullable PartitionBlobStore createBlobStore(int p) throws IgniteCheckedException {
+        int threshold = grp.config().getValueSeparationThreshold();
+
+        if (threshold <= 0)
+            return null;
+
+        PartitionBlobStore prev = blobStores.remove(p);
+
+        if (prev != null) {
+            // Destroy of the previous partition store was cancelled.
+            prev.sync();
+            prev.close();
+        }
+
+        DataStorageConfiguration dsCfg = ctx.kernalContext().config().getDataStorageConfiguration();
+
+        File dir = ctx.kernalContext().pdsFolderResolver().fileTree().partitionFile(grp.config(), p).getParentFile();
+
+        PartitionBlobStore blobStore = new PartitionBlobStore(
+            grp.cacheOrGroupName(),
+            p,
+            dir,
+            dsCfg.getFileIOFactory(),
+            threshold,
+            IgniteSystemProperties.getLong(IGNITE_BLOB_STORE_SEGMENT_SIZE, DFLT_BLOB_STORE_SEGMENT_SIZE),
+            dsCfg.getWalMode() == WALMode.FSYNC,
+            log
+        );
+
+        blobStores.put(p, blobStore);
+
+        return blobStore;
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable PartitionBlobStore blobStore(int part) {
+        return blobStores.get(part);
     }
 
     /** {@inheritDoc} */
     @Override public void onCheckpointBegin(Context ctx) throws IgniteCheckedException {
-        /* No-op. */
+        // The pages referencing the separated values are written after the values.
+        for (PartitionBlobStore blobStore : blobStores.values())
+            blobStore.sync();
     }
 
     /** {@inheritDoc} */
@@ -254,6 +317,23 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         assert grp.dataRegion().pageMemory() instanceof PageMemoryEx;
 
         syncMetadata(ctx.executor());
+
+        for (PartitionBlobStore blobStore : blobStores.values())
+            blobStore.onMarkCheckpointBegin();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void afterCheckpointEnd(Context ctx) throws IgniteCheckedException {
+        if (blobStores.isEmpty())
+            return;
+
+        for (PartitionBlobStore blobStore : blobStores.values())
+            blobStore.onCheckpointEnd();
+
+        for (CacheDataStore store : cacheDataStores()) {
+            if (store instanceof GridCacheDataStore)
+                ((GridCacheDataStore)store).collectBlobGarbageAsync();
+        }
     }
 
     /** {@inheritDoc} */
@@ -901,6 +981,23 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
 
         if (grp.config().isEncryptionEnabled())
             ctx.kernalContext().encryption().onDestroyPartitionStore(grp, partId);
+
+        if (grp.config().getValueSeparationThreshold() > 0) {
+            PartitionBlobStore blobStore = blobStores.remove(partId);
+
+            if (blobStore != null)
+                blobStore.close();
+
+            File dir = ctx.kernalContext().pdsFolderResolver().fileTree().partitionFile(grp.config(), partId).getParentFile();
+
+            try {
+                PartitionBlobStore.delete(dir, partId);
+            }
+            catch (IOException e) {
+                throw new IgniteCheckedException("Failed to delete the blob store files [grp=" + grp.cacheOrGroupName() +
+                    ", part=" + partId + ']', e);
+            }
+        }
     }
 
     /** {@inheritDoc} */
@@ -942,6 +1039,11 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         if (reuseList != null)
             reuseList.close();
 
+        for (PartitionBlobStore blobStore : blobStores.values())
+            blobStore.close();
+
+        blobStores.clear();
+
         if (grp.affinityNode())
             ((GridCacheDatabaseSharedManager)ctx.database()).removeCheckpointListener(this);
     }
@@ -1751,6 +1853,12 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         /** */
         private CacheDataTree dataTree;
 
+        /** Store of the separated values, {@code null} if the value separation is disabled. */
+        @Nullable private final PartitionBlobStore blobStore;
+
+        /** Garbage collection of the blob store is in progress. */
+        private final AtomicBoolean blobGcInProgress = new AtomicBoolean();
+
         /**
          * @param partId Partition.
          * @param exists {@code True} if store exists.
@@ -1758,11 +1866,24 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         public GridCacheDataStore(CacheGroupContext grp, int partId, boolean exists,
             GridSpinBusyLock busyLock,
             IgniteLogger log) {
+            this(grp, partId, exists, busyLock, log, null);
+        }
+
+        /**
+         * @param partId Partition.
+         * @param exists {@code True} if store exists.
+         * @param blobStore Store of the separated values.
+         */
+        public GridCacheDataStore(CacheGroupContext grp, int partId, boolean exists,
+            GridSpinBusyLock busyLock,
+            IgniteLogger log,
+            @Nullable PartitionBlobStore blobStore) {
             this.grp = grp;
             this.partId = partId;
             this.exists = exists;
             this.busyLock = busyLock;
             this.log = log;
+            this.blobStore = blobStore;
         }
 
         /** */
@@ -1890,7 +2011,10 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
 
                     String dataTreeName = dataTreeName();
 
-                    CacheDataRowStore rowStore = new CacheDataRowStore(grp, freeList, partId);
+                    if (blobStore != null)
+                        blobStore.init(exists);
+
+                    CacheDataRowStore rowStore = new CacheDataRowStore(grp, freeList, partId, blobStore);
 
                     RootPage treeRoot = metas.treeRoot;
 
@@ -2480,6 +2604,15 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             delegate.update(cctx, key, val, ver, expireTime, oldRow);
         }
 
+        /** {@inheritDoc} */
+        @Override public void relocate(GridCacheContext cctx, CacheDataRow oldRow) throws IgniteCheckedException {
+            assert grp.shared().database().checkpointLockIsHeldByThread();
+
+            CacheDataStore delegate = init0(false);
+
+            delegate.relocate(cctx, oldRow);
+        }
+
         /** {@inheritDoc} */
         @Override public CacheDataRow createRow(
             GridCacheContext cctx,
@@ -2513,6 +2646,16 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             delegate.invoke(cctx, key, c);
         }
 
+        /** {@inheritDoc} */
+        @Override public void invokeAll(GridCacheContext cctx, Map<KeyCacheObject, ? extends OffheapInvokeClosure> clos)
+            throws IgniteCheckedException {
+            assert grp.shared().database().checkpointLockIsHeldByThread();
+
+            CacheDataStore delegate = init0(false);
+
+            delegate.invokeAll(cctx, clos);
+        }
+
         /** {@inheritDoc} */
         @Override public void remove(GridCacheContext cctx, KeyCacheObject key, int partId)
             throws IgniteCheckedException {
@@ -2580,6 +2723,135 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             return EMPTY_CURSOR;
         }
 
+        /**
+         * Starts the garbage collection of the blob store in the system pool if there is a segment to collect.
+         */
+        void collectBlobGarbageAsync() {
+            if (blobStore == null || delegate == null || !blobStore.hasGarbage())
+                return;
+
+            if (blobGcInProgress.get() || !blobGcInProgress.compareAndSet(false, true))
+                return;
+
+            try {
+                grp.shared().kernalContext().closure().runLocalSafe(() -> {
+                    try {
+                        collectBlobGarbage();
+                    }
+                    finally {
+                        blobGcInProgress.set(false);
+                    }
+                }, true);
+            }
+            catch (Throwable e) {
+                blobGcInProgress.set(false);
+
+                throw e;
+            }
+        }
+
+        /**
+         * Collects the blob store segments while there is enough garbage.
+         */
+        private void collectBlobGarbage() {
+            try {
+                for (;;) {
+                    if (!busyLock.enterBusy())
+                        return;
+
+                    try {
+                        if (destroyed() || !blobStore.collectGarbage(this::relocateBlob))
+                            return;
+                    }
+                    finally {
+                        busyLock.leaveBusy();
+                    }
+                }
+            }
+            catch (IgniteCheckedException | IgniteException e) {
+                U.error(log, "Failed to collect garbage of the blob store [grp=" + grp.cacheOrGroupName() +
+                    ", part=" + partId + ']', e);
+            }
+        }
+
+        /**
+         * Switches the row referencing the record to a copy of the record appended to the active segment.
+         *
+         * @param rec Record of the segment being collected.
+         * @return {@code False} if the record is still referenced.
+         * @throws IgniteCheckedException If failed.
+         */
+        private boolean relocateBlob(PartitionBlobStore.Record rec) throws IgniteCheckedException {
+            GridCacheSharedContext<?, ?> ctx = grp.shared();
+
+            GridCacheContext<?, ?> cctx = rec.cacheId() == CU.UNDEFINED_CACHE_ID ?
+                grp.singleCacheContext() : ctx.cacheContext(rec.cacheId());
+
+            // The cache is destroyed, its rows are removed without reading the values.
+            if (cctx == null)
+                return true;
+
+            KeyCacheObject key = ctx.kernalContext().cacheObjects().toKeyCacheObject(cctx.cacheObjectContext(),
+                rec.keyType(), rec.keyBytes());
+
+            key.partition(partId);
+
+            SearchRow search = new SearchRow(grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID, key);
+
+            ctx.database().checkpointReadLock();
+
+            try {
+                if (destroyed())
+                    return false;
+
+                CacheDataRowAdapter row = dataTree.findOne(search, CacheDataRowAdapter.RowData.BLOB_REFERENCE);
+
+                if (!references(row, rec))
+                    return true;
+
+                BlobValueReference ref = blobStore.relocate(rec, row.blobValueReference().valueType());
+
+                Lock lock = blobStore.gcLock().writeLock();
+
+                lock.lock();
+
+                try {
+                    // The row could be replaced meanwhile, the removal of the replaced row is blocked now.
+                    row = dataTree.findOne(search, CacheDataRowAdapter.RowData.BLOB_REFERENCE);
+
+                    if (!references(row, rec)) {
+                        blobStore.release(ref);
+
+                        return true;
+                    }
+
+                    DataRow newRow = new DataRow(key, ref, row.version(), partId, row.expireTime(), row.cacheId());
+
+                    if (dataTree.rowStore().updateRow(row.link(), newRow, grp.statisticsHolderData()))
+                        return true;
+
+                    blobStore.release(ref);
+
+                    return false;
+                }
+                finally {
+                    lock.unlock();
+                }
+            }
+            finally {
+                ctx.database().checkpointReadUnlock();
+            }
+        }
+
+        /**
+         * @param row Row.
+         * @param rec Blob store record.
+         * @return {@code True} if the row references the record.
+         */
+        private static boolean references(@Nullable CacheDataRowAdapter row, PartitionBlobStore.Record rec) {
+            return row != null && row.blobValueReference() != null && row.blobValueReference().pointer() == rec.pointer();
+        }
+
         /** {@inheritDoc} */
         @Override public void destroy() throws IgniteCheckedException {
             // No need to destroy delegate.
@@ -2622,6 +2894,17 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             return EMPTY_CURSOR;
         }
 
+        /** {@inheritDoc} */
+        @Override public GridCursor<? extends CacheDataRow> cursor(int cacheId, Collection<ZoneMapRange> ranges)
+            throws IgniteCheckedException {
+            CacheDataStore delegate = init0(true);
+
+            if (delegate != null)
+                return delegate.cursor(cacheId, ranges);
+
+            return EMPTY_CURSOR;
+        }
+
         /** {@inheritDoc} */
         @Override public void clear(int cacheId) throws IgniteCheckedException {
             assert grp.shared().database().checkpointLockIsHeldByThread();
@@ -0,0 +1,338 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.NodeStoppingException;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.GridCacheEntryEx;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.processors.cache.IgniteCacheOffheapManager.CacheDataStore;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.DataPageIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.thread.pool.IgniteThreadPoolExecutor;
+import org.apache.ignite.internal.util.BasicRateLimiter;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PARTITION_COMPACTION_RATE;
+import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
+
+/**
+ * Online compaction of partition data pages. Rows stored on sparse data pages of the partition are moved to the
+ * pages chosen by the free list, which prefers the most filled pages with enough free space. Sparse pages become
+ * empty and are reused, so less pages are read by scans and occupy the page memory.
+ * <p>
+ * Each row is moved under the entry lock and the checkpoint read lock, in the same way as the row is updated by the
+ * cache operation, so compaction is consistent with checkpoints and concurrent cache operations and doesn't require
+ * the node to leave the topology. Compaction is throttled by
+ * {@link IgniteSystemProperties#IGNITE_PARTITION_COMPACTION_RATE}. Pages are not removed from the partition file, so
+ * the file size is not reduced.
+ * <p>
+ * Progress is reported by {@code CompactionPartitionsLeft}, {@code CompactionPagesScanned} and
+ * {@code CompactionRowsMoved} metrics of the data storage.
+ */
+public class PartitionCompactor {
+    /** @see IgniteSystemProperties#IGNITE_PARTITION_COMPACTION_RATE */
+    public static final int DFLT_PARTITION_COMPACTION_RATE = 10_000;
+
+    /** Data page is sparse if more than {@code 1 / SPARSE_PAGE_DIVIDER} of the page is free. */
+    private static final int SPARSE_PAGE_DIVIDER = 2;
+
+    /** Shared context. */
+    private final GridCacheSharedContext<?, ?> cctx;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Compaction executor. */
+    private final IgniteThreadPoolExecutor exec;
+
+    /** Moved rows rate limiter. */
+    private final BasicRateLimiter limiter;
+
+    /** Stop flag. */
+    private volatile boolean stopped;
+
+    /** Count of partitions which are queued or being compacted. */
+    private final AtomicLongMetric partsLeft;
+
+    /** Count of scanned data pages. */
+    private final LongAdderMetric pagesScanned;
+
+    /** Count of moved rows. */
+    private final LongAdderMetric rowsMoved;
+
+    /**
+     * @param cctx Shared context.
+     */
+    public PartitionCompactor(GridCacheSharedContext<?, ?> cctx) {
+        this.cctx = cctx;
+
+        log = cctx.logger(getClass());
+
+        limiter = new BasicRateLimiter(IgniteSystemProperties.getInteger(IGNITE_PARTITION_COMPACTION_RATE,
+            DFLT_PARTITION_COMPACTION_RATE));
+
+        exec = new IgniteThreadPoolExecutor(
+            "partition-compaction",
+            cctx.igniteInstanceName(),
+            0,
+            1,
+            SECONDS.toMillis(30),
+            new LinkedBlockingQueue<>()
+        );
+
+        MetricRegistryImpl mreg = cctx.kernalContext().metric().registry(DATASTORAGE_METRIC_PREFIX);
+
+        partsLeft = mreg.longMetric("CompactionPartitionsLeft",
+            "Number of partitions which are queued or being compacted.");
+
+        pagesScanned = mreg.longAdderMetric("CompactionPagesScanned",
+            "Number of data pages scanned by partition compaction.");
+
+        rowsMoved = mreg.longAdderMetric("CompactionRowsMoved",
+            "Number of rows moved by partition compaction.");
+    }
+
+    /**
+     * Compacts local partition in the background.
+     *
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     * @return Future with count of moved rows.
+     */
+    public IgniteInternalFuture<Long> compact(int grpId, int partId) {
+        GridFutureAdapter<Long> fut = new GridFutureAdapter<>();
+
+        partsLeft.increment();
+
+        try {
+            exec.execute(() -> {
+                try {
+                    long moved;
+
+                    try {
+                        moved = compact0(grpId, partId);
+                    }
+                    finally {
+                        partsLeft.decrement();
+                    }
+
+                    fut.onDone(moved);
+                }
+                catch (Throwable e) {
+                    if (!(e instanceof NodeStoppingException)) {
+                        U.error(log, "Partition compaction failed [grpId=" + grpId + ", partId=" + partId + ']',
+                            e);
+                    }
+
+                    fut.onDone(e);
+
+                    if (e instanceof Error)
+                        throw (Error)e;
+                }
+            });
+        }
+        catch (RejectedExecutionException ignored) {
+            partsLeft.decrement();
+
+            fut.onDone(new NodeStoppingException("Node is stopping."));
+        }
+
+        return fut;
+    }
+
+    /** Stops compaction. */
+    public void stop() {
+        stopped = true;
+
+        U.shutdownNow(getClass(), exec, log);
+    }
+
+    /**
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     * @return Count of moved rows.
+     * @throws IgniteCheckedException If failed.
+     */
+    private long compact0(int grpId, int partId) throws IgniteCheckedException {
+        CacheGroupContext grp = cctx.cache().cacheGroup(grpId);
+
+        if (grp == null || !grp.persistenceEnabled())
+            throw new IgniteCheckedException("Persistent cache group not found [grpId=" + grpId + ']');
+
+        GridDhtLocalPartition part = grp.topology().localPartition(partId);
+
+        // Only owning partitions are compacted, reservation prevents partition eviction.
+        if (part == null || !part.reserve())
+            return 0;
+
+        try {
+            if (part.state() != OWNING)
+                return 0;
+
+            PageMemory pageMem = grp.dataRegion().pageMemory();
+
+            int sparseFreeSpace = pageMem.realPageSize(grpId) / SPARSE_PAGE_DIVIDER;
+
+            CacheDataStore store = part.dataStore();
+
+            GridCursor<? extends CacheDataRow> cur = store.cursor(CacheDataRowAdapter.RowData.KEY_ONLY);
+
+            long moved = 0;
+
+            long lastPageId = 0;
+
+            while (cur.next()) {
+                if (stopped)
+                    throw new NodeStoppingException("Node is stopping.");
+
+                CacheDataRow row = cur.get();
+
+                long pageId = PageIdUtils.pageId(row.link());
+
+                if (pageId != lastPageId) {
+                    pagesScanned.increment();
+
+                    lastPageId = pageId;
+                }
+
+                if (freeSpace(pageMem, grpId, pageId) < sparseFreeSpace)
+                    continue;
+
+                limiter.acquire(1);
+
+                row.key().partition(partId);
+
+                if (relocate(grp, store, row)) {
+                    moved++;
+
+                    rowsMoved.increment();
+                }
+            }
+
+            if (log.isInfoEnabled()) {
+                log.info("Partition compaction finished [grp=" + grp.cacheOrGroupName() + ", partId=" + partId +
+                    ", movedRows=" + moved + ']');
+            }
+
+            return moved;
+        }
+        finally {
+            part.release();
+        }
+    }
+
+    /**
+     * @param pageMem Page memory.
+     * @param grpId Cache group ID.
+     * @param pageId Data page ID.
+     * @return Free space of the data page or {@code 0} if the page was reused.
+     * @throws IgniteCheckedException If failed.
+     */
+    private int freeSpace(PageMemory pageMem, int grpId, long pageId) throws IgniteCheckedException {
+        long page = pageMem.acquirePage(grpId, pageId);
+
+        try {
+            long pageAddr = pageMem.readLock(grpId, pageId, page);
+
+            // Page was reused.
+            if (pageAddr == 0L)
+                return 0;
+
+            try {
+                if (PageIO.getType(pageAddr) != PageIO.T_DATA)
+                    return 0;
+
+                return DataPageIO.VERSIONS.forPage(pageAddr).getFreeSpace(pageAddr);
+            }
+            finally {
+                pageMem.readUnlock(grpId, pageId, page);
+            }
+        }
+        finally {
+            pageMem.releasePage(grpId, pageId, page);
+        }
+    }
+
+    /**
+     * Moves the row if it was not changed since it was read by the cursor.
+     *
+     * @param grp Cache group.
+     * @param store Partition data store.
+     * @param row Row read by the cursor.
+     * @return {@code True} if the row was moved.
+     * @throws IgniteCheckedException If failed.
+     */
+    private boolean relocate(CacheGroupContext grp, CacheDataStore store, CacheDataRow row)
+        throws IgniteCheckedException {
+        GridCacheContext<?, ?> cctx0 = grp.sharedGroup() ? cctx.cacheContext(row.cacheId()) : grp.singleCacheContext();
+
+        // Cache was stopped.
+        if (cctx0 == null)
+            return false;
+
+        cctx.database().checkpointReadLock();
+
+        try {
+            while (true) {
+                GridCacheEntryEx entry = cctx0.cache().entryEx(row.key());
+
+                entry.lockEntry();
+
+                try {
+                    if (entry.obsolete())
+                        continue;
+
+                    CacheDataRow curRow = store.find(cctx0, row.key());
+
+                    if (curRow == null || curRow.link() != row.link())
+                        return false;
+
+                    store.relocate(cctx0, curRow);
+
+                    return true;
+                }
+                finally {
+                    entry.unlockEntry();
+
+                    entry.touch();
+                }
+            }
+        }
+        finally {
+            cctx.database().checkpointReadUnlock();
+        }
+    }
+}
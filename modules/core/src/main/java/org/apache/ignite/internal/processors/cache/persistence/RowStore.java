@@ -17,18 +17,27 @@
 
 package org.apache.ignite.internal.processors.cache.persistence;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Supplier;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.CacheObject;
 import org.apache.ignite.internal.processors.cache.CacheObjectContext;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.persistence.blob.BlobValueReference;
+import org.apache.ignite.internal.processors.cache.persistence.blob.PartitionBlobStore;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.FreeList;
+import org.apache.ignite.internal.processors.cache.tree.DataRow;
 import org.apache.ignite.internal.processors.query.GridQueryRowCacheCleaner;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Data store for H2 rows.
@@ -55,16 +64,29 @@ public class RowStore {
     /** */
     protected final CacheGroupContext grp;
 
+    /** Store of the values separated from the rows, {@code null} if the value separation is disabled. */
+    @Nullable private final PartitionBlobStore blobStore;
+
     /**
      * @param grp Cache group.
      * @param freeList Free list.
      */
     public RowStore(CacheGroupContext grp, FreeList freeList) {
+        this(grp, freeList, null);
+    }
+
+    /**
+     * @param grp Cache group.
+     * @param freeList Free list.
+     * @param blobStore Store of the separated values.
+     */
+    public RowStore(CacheGroupContext grp, FreeList freeList, @Nullable PartitionBlobStore blobStore) {
         assert grp != null;
         assert freeList != null;
 
         this.grp = grp;
         this.freeList = freeList;
+        this.blobStore = blobStore;
 
         ctx = grp.shared();
         coctx = grp.cacheObjectContext();
@@ -91,7 +113,10 @@ public class RowStore {
             ctx.database().checkpointReadLock();
 
             try {
-                freeList.removeDataRowByLink(link, statHolder);
+                if (blobStore != null)
+                    removeSeparatedRow(link, statHolder);
+                else
+                    freeList.removeDataRowByLink(link, statHolder);
             }
             finally {
                 ctx.database().checkpointReadUnlock();
@@ -99,11 +124,49 @@ public class RowStore {
         }
     }
 
+    /**
+     * Removes a row and releases its separated value. The garbage collection of the blob store is blocked, so it
+     * can't switch the row to a relocated value meanwhile.
+     *
+     * @param link Row link.
+     * @param statHolder Statistics holder to track IO operations.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void removeSeparatedRow(long link, IoStatisticsHolder statHolder) throws IgniteCheckedException {
+        Lock lock = blobStore.gcLock().readLock();
+
+        lock.lock();
+
+        try {
+            CacheDataRowAdapter row = new CacheDataRowAdapter(link);
+
+            row.initFromLink(grp, CacheDataRowAdapter.RowData.BLOB_REFERENCE);
+
+            freeList.removeDataRowByLink(link, statHolder);
+
+            if (row.blobValueReference() != null)
+                blobStore.release(row.blobValueReference());
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * @param row Row.
      * @throws IgniteCheckedException If failed.
      */
     public void addRow(CacheDataRow row, IoStatisticsHolder statHolder) throws IgniteCheckedException {
+        CacheDataRow row0 = separateValue(row);
+
+        if (row0 != row) {
+            addRow(row0, statHolder);
+
+            row.link(row0.link());
+
+            return;
+        }
+
         if (!persistenceEnabled) {
             ctx.database().ensureFreeSpaceForInsert(grp.dataRegion(), row.size());
 
@@ -136,7 +199,61 @@ public class RowStore {
         IoStatisticsHolder statHolder) throws IgniteCheckedException {
         assert ctx.database().checkpointLockIsHeldByThread();
 
-        freeList.insertDataRows(rows, statHolder);
+        if (blobStore == null) {
+            freeList.insertDataRows(rows, statHolder);
+
+            return;
+        }
+
+        List<CacheDataRow> rows0 = new ArrayList<>(rows.size());
+
+        for (CacheDataRow row : rows)
+            rows0.add(separateValue(row));
+
+        freeList.insertDataRows(rows0, statHolder);
+
+        int i = 0;
+
+        for (CacheDataRow row : rows) {
+            CacheDataRow row0 = rows0.get(i++);
+
+            if (row0 != row)
+                row.link(row0.link());
+        }
+    }
+
+    /**
+     * Moves a value exceeding the separation threshold to the blob store.
+     *
+     * @param row Row.
+     * @return Row referencing the separated value or the given row if the value is kept in the data page.
+     * @throws IgniteCheckedException If failed.
+     */
+    private CacheDataRow separateValue(CacheDataRow row) throws IgniteCheckedException {
+        if (blobStore == null)
+            return row;
+
+        CacheObject val = row.value();
+
+        if (val == null || val instanceof BlobValueReference)
+            return row;
+
+        byte[] valBytes = val.valueBytes(coctx);
+
+        if (valBytes.length < blobStore.threshold())
+            return row;
+
+        KeyCacheObject key = row.key();
+
+        BlobValueReference ref = blobStore.append(
+            row.cacheId(),
+            key.cacheObjectType(),
+            key.valueBytes(coctx),
+            val.cacheObjectType(),
+            valBytes
+        );
+
+        return new DataRow(key, ref, row.version(), row.partition(), row.expireTime(), row.cacheId());
     }
 
     /**
@@ -150,6 +267,14 @@ public class RowStore {
 
         GridQueryRowCacheCleaner rowCacheCleaner0 = rowCacheCleaner.get();
 
+        if (blobStore != null) {
+            CacheObject val = row.value();
+
+            // A value to separate can't be written in place of the old row.
+            if (val != null && !(val instanceof BlobValueReference) && val.valueBytes(coctx).length >= blobStore.threshold())
+                return false;
+        }
+
         if (rowCacheCleaner0 != null)
             rowCacheCleaner0.remove(link);
 
@@ -163,6 +288,13 @@ public class RowStore {
         return freeList;
     }
 
+    /**
+     * @return Store of the separated values or {@code null} if the value separation is disabled.
+     */
+    @Nullable public PartitionBlobStore blobStore() {
+        return blobStore;
+    }
+
     /**
      * Inject rows cache cleaner.
      *
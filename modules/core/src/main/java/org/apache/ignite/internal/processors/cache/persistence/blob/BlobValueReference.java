@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.blob;
+
+import org.apache.ignite.internal.processors.cache.CacheObjectByteArrayImpl;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * Reference to a value moved out of data pages to a {@link PartitionBlobStore}. It is written to the data row instead
+ * of the value and is never exposed outside of the row store: rows read from data pages resolve it to the value.
+ * <p>
+ * Layout: pointer to the blob record (segment index and offset), record length and type of the value.
+ */
+public class BlobValueReference extends CacheObjectByteArrayImpl {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Size of the reference in bytes. */
+    public static final int SIZE = 8 + 4 + 1;
+
+    /**
+     * Required by {@link java.io.Externalizable}.
+     */
+    public BlobValueReference() {
+        // No-op.
+    }
+
+    /**
+     * @param bytes Reference bytes.
+     */
+    public BlobValueReference(byte[] bytes) {
+        super(bytes);
+
+        assert bytes.length == SIZE : bytes.length;
+    }
+
+    /**
+     * @param ptr Pointer to the blob record.
+     * @param recLen Blob record length.
+     * @param valType Value type.
+     */
+    public BlobValueReference(long ptr, int recLen, byte valType) {
+        this(encode(ptr, recLen, valType));
+    }
+
+    /**
+     * @return Pointer to the blob record.
+     */
+    public long pointer() {
+        return U.bytesToLong(val, 0);
+    }
+
+    /**
+     * @return Blob record length.
+     */
+    public int recordLength() {
+        return U.bytesToInt(val, 8);
+    }
+
+    /**
+     * @return Value type.
+     */
+    public byte valueType() {
+        return val[12];
+    }
+
+    /** {@inheritDoc} */
+    @Override public byte cacheObjectType() {
+        return TYPE_BLOB_REF;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isPlatformType() {
+        return false;
+    }
+
+    /**
+     * @param ptr Pointer to the blob record.
+     * @param recLen Blob record length.
+     * @param valType Value type.
+     * @return Reference bytes.
+     */
+    private static byte[] encode(long ptr, int recLen, byte valType) {
+        byte[] bytes = new byte[SIZE];
+
+        U.longToBytes(ptr, bytes, 0);
+        U.intToBytes(recLen, bytes, 8);
+        bytes[12] = valType;
+
+        return bytes;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return "BlobValueReference [ptr=" + U.hexLong(pointer()) + ", recLen=" + recordLength() +
+            ", valType=" + valueType() + ']';
+    }
+}
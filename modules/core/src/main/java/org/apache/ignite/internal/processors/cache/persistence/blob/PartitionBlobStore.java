@@ -0,0 +1,889 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.blob;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.crc.FastCrc;
+import org.apache.ignite.internal.util.lang.IgniteThrowableFunction;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Append-only log-structured store of the large values of a partition, see
+ * {@link CacheConfiguration#setValueSeparationThreshold(int)}.
+ * <p>
+ * Values are appended to the segment files {@code blob-<part>-<segment>.blob} located next to the partition file.
+ * A record consists of the payload length, the payload CRC, the cache ID, the key and the value bytes. The key is
+ * used by the garbage collector to find the row referencing the record.
+ * <p>
+ * Overwritten and removed values are accounted as garbage of their segments. A sealed segment with enough garbage
+ * is collected: the live records are appended again, the rows are switched to the copies and the segment is deleted
+ * when the next checkpoint has written the switched rows.
+ * <p>
+ * Segments are forced to disk on a checkpoint before the pages referencing them are written. In the
+ * {@link WALMode#FSYNC} mode every append is forced to disk before the row referencing it is logged.
+ */
+public class PartitionBlobStore {
+    /** Default segment size. */
+    public static final long DFLT_BLOB_STORE_SEGMENT_SIZE = 64L * 1024 * 1024;
+
+    /** Share of garbage in a sealed segment which makes the segment a subject to garbage collection. */
+    public static final double GC_GARBAGE_RATIO = 0.5;
+
+    /** File name prefix. */
+    private static final String FILE_PREFIX = "blob-";
+
+    /** Segment file extension. */
+    private static final String SEGMENT_FILE_EXT = ".blob";
+
+    /** Garbage statistics file extension. */
+    private static final String META_FILE_EXT = ".meta";
+
+    /** Temporary file extension. */
+    private static final String TMP_FILE_EXT = ".tmp";
+
+    /** Record header size: payload length and payload CRC. */
+    private static final int HEADER_SIZE = 8;
+
+    /** Size of the payload fields preceding the key bytes: cache ID, key type and key length. */
+    private static final int KEY_HEADER_SIZE = 4 + 1 + 4;
+
+    /** Cache or group name. */
+    private final String grpName;
+
+    /** Partition ID. */
+    private final int partId;
+
+    /** Directory of the partition files. */
+    private final File dir;
+
+    /** File I/O factory. */
+    private final FileIOFactory ioFactory;
+
+    /** Size of a value in bytes starting from which the value is stored here. */
+    private final int threshold;
+
+    /** Segment size. */
+    private final long segmentSize;
+
+    /** Force every append to disk. */
+    private final boolean fsync;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Excludes removal of rows while the garbage collector switches rows to the relocated records. */
+    private final ReadWriteLock gcLock = new ReentrantReadWriteLock();
+
+    /** Segments by index. */
+    private final ConcurrentNavigableMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+
+    /** Segment the records are appended to. Guarded by {@code this}. */
+    private Segment active;
+
+    /** Collected segments to be deleted after the next checkpoint. Guarded by {@code this}. */
+    private List<Segment> collected = new ArrayList<>();
+
+    /** Collected segments to be deleted when the current checkpoint ends. Guarded by {@code this}. */
+    private List<Segment> cpCollected = new ArrayList<>();
+
+    /** Closed flag. Guarded by {@code this}. */
+    private boolean closed;
+
+    /**
+     * @param grpName Cache or group name.
+     * @param partId Partition ID.
+     * @param dir Directory of the partition files.
+     * @param ioFactory File I/O factory.
+     * @param threshold Size of a value in bytes starting from which the value is stored here.
+     * @param segmentSize Segment size.
+     * @param fsync Force every append to disk.
+     * @param log Logger.
+     */
+    public PartitionBlobStore(
+        String grpName,
+        int partId,
+        File dir,
+        FileIOFactory ioFactory,
+        int threshold,
+        long segmentSize,
+        boolean fsync,
+        IgniteLogger log
+    ) {
+        assert threshold > 0 : threshold;
+        assert segmentSize > 0 : segmentSize;
+
+        this.grpName = grpName;
+        this.partId = partId;
+        this.dir = dir;
+        this.ioFactory = ioFactory;
+        this.threshold = threshold;
+        this.segmentSize = Math.min(segmentSize, Integer.MAX_VALUE);
+        this.fsync = fsync;
+        this.log = log;
+    }
+
+    /**
+     * Opens the segment files. A partially written record at the end of the last segment is truncated.
+     *
+     * @param exists {@code False} if the partition is created from scratch. The files left by a previous
+     *      incarnation of the partition are deleted in this case.
+     * @throws IgniteCheckedException If failed.
+     */
+    public synchronized void init(boolean exists) throws IgniteCheckedException {
+        assert active == null;
+
+        U.ensureDirectory(dir, "blob store directory", log);
+
+        try {
+            if (!exists)
+                delete(dir, partId);
+
+            Map<Integer, Long> garbage = exists ? readGarbage() : Collections.emptyMap();
+
+            File[] files = dir.listFiles((d, name) -> segmentIndex(name) >= 0);
+
+            if (files != null) {
+                for (File file : files) {
+                    Segment seg = openSegment(segmentIndex(file.getName()));
+
+                    seg.garbage.set(garbage.getOrDefault(seg.idx, 0L));
+                }
+            }
+
+            if (segments.isEmpty())
+                active = openSegment(0);
+            else {
+                active = segments.lastEntry().getValue();
+
+                truncateTail(active);
+            }
+        }
+        catch (IOException e) {
+            closeSegments();
+
+            throw new IgniteCheckedException("Failed to open the blob store [grp=" + grpName +
+                ", part=" + partId + ']', e);
+        }
+    }
+
+    /**
+     * @return Size of a value in bytes starting from which the value is stored here.
+     */
+    public int threshold() {
+        return threshold;
+    }
+
+    /**
+     * The read lock must be held while a row referencing a record of this store is removed, the write lock is held by
+     * the garbage collector while it switches a row to the relocated record.
+     *
+     * @return Garbage collection lock.
+     */
+    public ReadWriteLock gcLock() {
+        return gcLock;
+    }
+
+    /**
+     * Appends a value.
+     *
+     * @param cacheId Cache ID.
+     * @param keyType Key type.
+     * @param keyBytes Key bytes.
+     * @param valType Value type.
+     * @param valBytes Value bytes.
+     * @return Reference to the value.
+     * @throws IgniteCheckedException If failed.
+     */
+    public BlobValueReference append(
+        int cacheId,
+        byte keyType,
+        byte[] keyBytes,
+        byte valType,
+        byte[] valBytes
+    ) throws IgniteCheckedException {
+        int payloadLen = KEY_HEADER_SIZE + keyBytes.length + valBytes.length;
+
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE + payloadLen);
+
+        buf.putInt(payloadLen);
+        buf.putInt(0);
+        buf.putInt(cacheId);
+        buf.put(keyType);
+        buf.putInt(keyBytes.length);
+        buf.put(keyBytes);
+        buf.put(valBytes);
+
+        buf.position(HEADER_SIZE);
+
+        buf.putInt(4, FastCrc.calcCrc(buf, payloadLen));
+
+        buf.rewind();
+
+        return new BlobValueReference(write(buf), payloadLen, valType);
+    }
+
+    /**
+     * Appends a copy of the record.
+     *
+     * @param rec Record.
+     * @param valType Value type.
+     * @return Reference to the copy.
+     * @throws IgniteCheckedException If failed.
+     */
+    public BlobValueReference relocate(Record rec, byte valType) throws IgniteCheckedException {
+        return new BlobValueReference(write(rec.buf.duplicate()), rec.payloadLength(), valType);
+    }
+
+    /**
+     * Reads a value.
+     *
+     * @param ref Reference to the value.
+     * @return Value bytes.
+     * @throws IgniteCheckedException If failed.
+     */
+    public byte[] read(BlobValueReference ref) throws IgniteCheckedException {
+        long ptr = ref.pointer();
+
+        Segment seg = segments.get(segmentIndex(ptr));
+
+        if (seg == null) {
+            throw new IgniteCheckedException("Failed to read a value from the blob store, the segment is deleted [grp=" +
+                grpName + ", part=" + partId + ", ref=" + ref + ']');
+        }
+
+        Record rec;
+
+        try {
+            rec = readRecord(seg, offset(ptr), ref.recordLength());
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to read a value from the blob store [grp=" + grpName +
+                ", part=" + partId + ", ref=" + ref + ']', e);
+        }
+
+        if (rec == null) {
+            throw new IgniteCheckedException("Failed to read a value from the blob store, the record is corrupted " +
+                "[grp=" + grpName + ", part=" + partId + ", ref=" + ref + ']');
+        }
+
+        return rec.valueBytes();
+    }
+
+    /**
+     * Accounts the value as garbage, the value is not referenced anymore.
+     *
+     * @param ref Reference to the value.
+     */
+    public void release(BlobValueReference ref) {
+        Segment seg = segments.get(segmentIndex(ref.pointer()));
+
+        if (seg != null)
+            seg.garbage.addAndGet(HEADER_SIZE + ref.recordLength());
+    }
+
+    /**
+     * Collects a sealed segment with the biggest share of garbage if the share reaches {@link #GC_GARBAGE_RATIO}.
+     * The segment is deleted after the next checkpoint if all its records are relocated.
+     *
+     * @param relocator Closure which relocates a record if it is still referenced by a row. Returns {@code false} if
+     *      the record is referenced, but can't be relocated.
+     * @return {@code True} if a segment was processed, {@code false} if there is nothing to collect.
+     * @throws IgniteCheckedException If failed.
+     */
+    public boolean collectGarbage(IgniteThrowableFunction<Record, Boolean> relocator) throws IgniteCheckedException {
+        Segment seg = garbageCollectionCandidate();
+
+        if (seg == null)
+            return false;
+
+        boolean relocated = true;
+
+        try {
+            long size = seg.size;
+
+            for (long off = 0; off < size; ) {
+                Record rec = readRecord(seg, off, -1);
+
+                if (rec == null) {
+                    U.warn(log, "Blob store segment is corrupted and can't be collected [grp=" + grpName +
+                        ", part=" + partId + ", seg=" + seg.idx + ", off=" + off + ']');
+
+                    relocated = false;
+
+                    break;
+                }
+
+                off += HEADER_SIZE + rec.payloadLength();
+
+                if (!relocator.apply(rec))
+                    relocated = false;
+            }
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to collect garbage of the blob store [grp=" + grpName +
+                ", part=" + partId + ", seg=" + seg.idx + ']', e);
+        }
+
+        synchronized (this) {
+            if (relocated)
+                collected.add(seg);
+
+            seg.collecting = false;
+            seg.pinned = !relocated;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Blob store segment is collected [grp=" + grpName + ", part=" + partId + ", seg=" + seg.idx +
+                ", relocated=" + relocated + ']');
+        }
+
+        return true;
+    }
+
+    /**
+     * @return {@code True} if there is a segment to collect.
+     */
+    public synchronized boolean hasGarbage() {
+        return candidate() != null;
+    }
+
+    /**
+     * Forces the segments to disk and saves the garbage statistics. Called on a checkpoint begin before the pages are
+     * written.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    public void sync() throws IgniteCheckedException {
+        synchronized (this) {
+            // Not initialized yet, the files are not loaded.
+            if (active == null || closed)
+                return;
+        }
+
+        try {
+            Map<Integer, Long> garbage = new HashMap<>();
+
+            for (Segment seg : segments.values()) {
+                if (seg.dirty) {
+                    seg.dirty = false;
+
+                    seg.io.force();
+                }
+
+                long segGarbage = seg.garbage.get();
+
+                if (segGarbage > 0)
+                    garbage.put(seg.idx, segGarbage);
+            }
+
+            writeGarbage(garbage);
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to sync the blob store [grp=" + grpName + ", part=" + partId + ']', e);
+        }
+    }
+
+    /**
+     * Called under the checkpoint write lock. The segments collected before are deleted when the checkpoint ends,
+     * the checkpoint writes the rows switched to the relocated records.
+     */
+    public synchronized void onMarkCheckpointBegin() {
+        cpCollected.addAll(collected);
+
+        collected = new ArrayList<>();
+    }
+
+    /**
+     * Deletes the segments collected before the finished checkpoint.
+     */
+    public void onCheckpointEnd() {
+        List<Segment> toDel;
+
+        synchronized (this) {
+            if (closed || cpCollected.isEmpty())
+                return;
+
+            toDel = cpCollected;
+
+            cpCollected = new ArrayList<>();
+
+            for (Segment seg : toDel)
+                segments.remove(seg.idx);
+        }
+
+        for (Segment seg : toDel) {
+            U.closeQuiet(seg.io);
+
+            if (!seg.file.delete() && seg.file.exists())
+                U.warn(log, "Failed to delete blob store segment: " + seg.file.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Closes the segment files.
+     */
+    public synchronized void close() {
+        closed = true;
+
+        closeSegments();
+    }
+
+    /**
+     * Deletes the files of a partition blob store.
+     *
+     * @param dir Directory of the partition files.
+     * @param partId Partition ID.
+     * @throws IOException If failed.
+     */
+    public static void delete(File dir, int partId) throws IOException {
+        String prefix = FILE_PREFIX + partId;
+
+        File[] files = dir.listFiles((d, name) -> name.equals(prefix + META_FILE_EXT) ||
+            name.equals(prefix + META_FILE_EXT + TMP_FILE_EXT) ||
+            (name.startsWith(prefix + '-') && name.endsWith(SEGMENT_FILE_EXT)));
+
+        if (files == null)
+            return;
+
+        for (File file : files)
+            Files.deleteIfExists(file.toPath());
+    }
+
+    /**
+     * @return Segment to collect or {@code null} if there is nothing to collect.
+     */
+    private synchronized @Nullable Segment garbageCollectionCandidate() {
+        Segment seg = candidate();
+
+        if (seg != null)
+            seg.collecting = true;
+
+        return seg;
+    }
+
+    /**
+     * @return Sealed segment with the biggest share of garbage or {@code null} if there is nothing to collect.
+     */
+    private @Nullable Segment candidate() {
+        assert Thread.holdsLock(this);
+
+        if (closed)
+            return null;
+
+        Segment res = null;
+        double maxRatio = GC_GARBAGE_RATIO;
+
+        for (Segment seg : segments.values()) {
+            if (seg == active || seg.collecting || seg.pinned || collected.contains(seg) || cpCollected.contains(seg))
+                continue;
+
+            long size = seg.size;
+
+            double ratio = size == 0 ? 1 : (double)seg.garbage.get() / size;
+
+            if (ratio >= maxRatio) {
+                res = seg;
+                maxRatio = ratio;
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * @param buf Record bytes.
+     * @return Pointer to the record.
+     * @throws IgniteCheckedException If failed.
+     */
+    private synchronized long write(ByteBuffer buf) throws IgniteCheckedException {
+        if (closed)
+            throw new IgniteCheckedException("Blob store is closed [grp=" + grpName + ", part=" + partId + ']');
+
+        int len = buf.remaining();
+
+        try {
+            if (active.size > 0 && active.size + len > segmentSize)
+                active = openSegment(active.idx + 1);
+
+            long off = active.size;
+
+            active.io.writeFully(buf, off);
+
+            if (fsync)
+                active.io.force();
+            else
+                active.dirty = true;
+
+            active.size = off + len;
+
+            return pointer(active.idx, off);
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to write to the blob store [grp=" + grpName +
+                ", part=" + partId + ']', e);
+        }
+    }
+
+    /**
+     * @param seg Segment.
+     * @param off Record offset.
+     * @param payloadLen Expected payload length or {@code -1} if unknown.
+     * @return Record or {@code null} if there is no valid record at the offset.
+     * @throws IOException If failed.
+     */
+    private @Nullable Record readRecord(Segment seg, long off, int payloadLen) throws IOException {
+        long size = seg.size;
+
+        if (payloadLen < 0) {
+            if (off + HEADER_SIZE > size)
+                return null;
+
+            ByteBuffer hdr = ByteBuffer.allocate(HEADER_SIZE);
+
+            seg.io.readFully(hdr, off);
+
+            payloadLen = hdr.getInt(0);
+        }
+
+        if (payloadLen < KEY_HEADER_SIZE || off + HEADER_SIZE + payloadLen > size)
+            return null;
+
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE + payloadLen);
+
+        seg.io.readFully(buf, off);
+
+        buf.flip();
+
+        if (buf.remaining() != HEADER_SIZE + payloadLen || buf.getInt(0) != payloadLen)
+            return null;
+
+        int crc = buf.getInt(4);
+
+        buf.position(HEADER_SIZE);
+
+        if (FastCrc.calcCrc(buf, payloadLen) != crc)
+            return null;
+
+        buf.rewind();
+
+        Record rec = new Record(pointer(seg.idx, off), buf);
+
+        int keyLen = rec.keyLength();
+
+        return keyLen >= 0 && KEY_HEADER_SIZE + keyLen <= payloadLen ? rec : null;
+    }
+
+    /**
+     * Truncates the segment after the last valid record. The tail is zeroed, so the records appended later are not
+     * followed by the remainder of a partially written record.
+     *
+     * @param seg Segment.
+     * @throws IOException If failed.
+     */
+    private void truncateTail(Segment seg) throws IOException {
+        long off = 0;
+
+        for (Record rec; (rec = readRecord(seg, off, -1)) != null; )
+            off += HEADER_SIZE + rec.payloadLength();
+
+        long size = seg.size;
+
+        if (off < size) {
+            U.warn(log, "Truncating partially written blob store segment [grp=" + grpName + ", part=" + partId +
+                ", seg=" + seg.idx + ", size=" + size + ", validSize=" + off + ']');
+
+            ByteBuffer zeros = ByteBuffer.allocate((int)Math.min(size - off, 64 * 1024));
+
+            for (long pos = off; pos < size; pos += zeros.capacity()) {
+                zeros.clear();
+                zeros.limit((int)Math.min(zeros.capacity(), size - pos));
+
+                seg.io.writeFully(zeros, pos);
+            }
+
+            seg.io.force();
+
+            seg.size = off;
+        }
+    }
+
+    /**
+     * @param idx Segment index.
+     * @return Opened segment.
+     * @throws IOException If failed.
+     */
+    private Segment openSegment(int idx) throws IOException {
+        File file = new File(dir, FILE_PREFIX + partId + '-' + idx + SEGMENT_FILE_EXT);
+
+        FileIO io = ioFactory.create(file, CREATE, READ, WRITE);
+
+        Segment seg = new Segment(idx, file, io);
+
+        seg.size = io.size();
+
+        segments.put(idx, seg);
+
+        return seg;
+    }
+
+    /** */
+    private void closeSegments() {
+        for (Segment seg : segments.values())
+            U.closeQuiet(seg.io);
+    }
+
+    /**
+     * @param name File name.
+     * @return Segment index or {@code -1} if the file is not a segment of this store.
+     */
+    private int segmentIndex(String name) {
+        String prefix = FILE_PREFIX + partId + '-';
+
+        if (!name.startsWith(prefix) || !name.endsWith(SEGMENT_FILE_EXT))
+            return -1;
+
+        try {
+            return Integer.parseInt(name.substring(prefix.length(), name.length() - SEGMENT_FILE_EXT.length()));
+        }
+        catch (NumberFormatException ignored) {
+            return -1;
+        }
+    }
+
+    /**
+     * @return Garbage statistics by segment index.
+     * @throws IOException If failed.
+     */
+    private Map<Integer, Long> readGarbage() throws IOException {
+        File file = new File(dir, FILE_PREFIX + partId + META_FILE_EXT);
+
+        if (!file.exists())
+            return Collections.emptyMap();
+
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+
+        Map<Integer, Long> res = new HashMap<>();
+
+        while (buf.remaining() >= 12)
+            res.put(buf.getInt(), buf.getLong());
+
+        return res;
+    }
+
+    /**
+     * @param garbage Garbage statistics by segment index.
+     * @throws IOException If failed.
+     */
+    private void writeGarbage(Map<Integer, Long> garbage) throws IOException {
+        File file = new File(dir, FILE_PREFIX + partId + META_FILE_EXT);
+        File tmp = new File(dir, file.getName() + TMP_FILE_EXT);
+
+        ByteBuffer buf = ByteBuffer.allocate(12 * garbage.size());
+
+        for (Map.Entry<Integer, Long> e : garbage.entrySet())
+            buf.putInt(e.getKey()).putLong(e.getValue());
+
+        Files.write(tmp.toPath(), buf.array());
+
+        Files.move(tmp.toPath(), file.toPath(), ATOMIC_MOVE, REPLACE_EXISTING);
+    }
+
+    /**
+     * @param idx Segment index.
+     * @param off Offset in the segment.
+     * @return Pointer.
+     */
+    private static long pointer(int idx, long off) {
+        return ((long)idx << 32) | off;
+    }
+
+    /**
+     * @param ptr Pointer.
+     * @return Segment index.
+     */
+    private static int segmentIndex(long ptr) {
+        return (int)(ptr >>> 32);
+    }
+
+    /**
+     * @param ptr Pointer.
+     * @return Offset in the segment.
+     */
+    private static long offset(long ptr) {
+        return ptr & 0xFFFFFFFFL;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(PartitionBlobStore.class, this, "segments", segments.keySet());
+    }
+
+    /**
+     * Segment file.
+     */
+    private static class Segment {
+        /** Index. */
+        private final int idx;
+
+        /** File. */
+        private final File file;
+
+        /** File I/O. */
+        private final FileIO io;
+
+        /** Size of the written records. */
+        private volatile long size;
+
+        /** Written records are not forced to disk. */
+        private volatile boolean dirty;
+
+        /** Size of the records which are not referenced anymore. */
+        private final AtomicLong garbage = new AtomicLong();
+
+        /** Garbage collection of the segment is in progress. Guarded by the store. */
+        private boolean collecting;
+
+        /** Some records of the segment can't be relocated. Guarded by the store. */
+        private boolean pinned;
+
+        /**
+         * @param idx Index.
+         * @param file File.
+         * @param io File I/O.
+         */
+        private Segment(int idx, File file, FileIO io) {
+            this.idx = idx;
+            this.file = file;
+            this.io = io;
+        }
+    }
+
+    /**
+     * Blob record.
+     */
+    public static class Record {
+        /** Pointer. */
+        private final long ptr;
+
+        /** Record bytes including the header. */
+        private final ByteBuffer buf;
+
+        /**
+         * @param ptr Pointer.
+         * @param buf Record bytes including the header.
+         */
+        private Record(long ptr, ByteBuffer buf) {
+            this.ptr = ptr;
+            this.buf = buf;
+        }
+
+        /**
+         * @return Pointer.
+         */
+        public long pointer() {
+            return ptr;
+        }
+
+        /**
+         * @return Cache ID.
+         */
+        public int cacheId() {
+            return buf.getInt(HEADER_SIZE);
+        }
+
+        /**
+         * @return Key type.
+         */
+        public byte keyType() {
+            return buf.get(HEADER_SIZE + 4);
+        }
+
+        /**
+         * @return Key bytes.
+         */
+        public byte[] keyBytes() {
+            return bytes(HEADER_SIZE + KEY_HEADER_SIZE, keyLength());
+        }
+
+        /**
+         * @return Value bytes.
+         */
+        public byte[] valueBytes() {
+            int off = KEY_HEADER_SIZE + keyLength();
+
+            return bytes(HEADER_SIZE + off, payloadLength() - off);
+        }
+
+        /**
+         * @return Payload length.
+         */
+        private int payloadLength() {
+            return buf.getInt(0);
+        }
+
+        /**
+         * @return Key length.
+         */
+        private int keyLength() {
+            return buf.getInt(HEADER_SIZE + 5);
+        }
+
+        /**
+         * @param off Offset.
+         * @param len Length.
+         * @return Bytes.
+         */
+        private byte[] bytes(int off, int len) {
+            byte[] res = new byte[len];
+
+            ByteBuffer buf0 = buf.duplicate();
+
+            buf0.position(off);
+            buf0.get(res);
+
+            return res;
+        }
+    }
+}
@@ -26,7 +26,9 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.configuration.CheckpointWriteOrder;
 import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl;
 import org.apache.ignite.internal.processors.cache.persistence.PageStoreWriter;
@@ -47,6 +49,12 @@ import static org.apache.ignite.internal.util.IgniteUtils.hexLong;
  * Implementation of page writer which able to store pages to disk during checkpoint.
  */
 public class CheckpointPagesWriter implements Runnable {
+    /**
+     * Count of subsequent pages claimed by the writer thread at once. Pages are sorted by the file offset in case of
+     * {@link CheckpointWriteOrder#SEQUENTIAL}, so claiming by chunks keeps writes of the thread sequential.
+     */
+    static final int WRITE_CHUNK_SIZE = 64;
+
     /** Logger. */
     private final IgniteLogger log;
 
@@ -86,6 +94,12 @@ public class CheckpointPagesWriter implements Runnable {
     /** Shutdown now. */
     private final BooleanSupplier shutdownNow;
 
+    /** Group id of the last written page. */
+    private int lastGrpId;
+
+    /** Page id of the last written page. */
+    private long lastPageId;
+
     /**
      * Creates task for write pages
      *
@@ -179,7 +193,7 @@ public class CheckpointPagesWriter implements Runnable {
         GridConcurrentMultiPairQueue.Result<PageMemoryEx, FullPageId> res =
             new GridConcurrentMultiPairQueue.Result<>();
 
-        while (writePageIds.next(res)) {
+        while (writePageIds.next(res, WRITE_CHUNK_SIZE)) {
             if (shutdownNow.getAsBoolean())
                 break;
 
@@ -246,6 +260,9 @@ public class CheckpointPagesWriter implements Runnable {
 
                     if (PageIO.isDataPageType(pageType))
                         tracker.onDataPageWritten();
+
+                    if (isSequential(fullPageId))
+                        tracker.onSequentialPageWritten();
                 }
 
                 curCpProgress.updateWrittenPages(1);
@@ -257,6 +274,21 @@ public class CheckpointPagesWriter implements Runnable {
         };
     }
 
+    /**
+     * @param fullPageId Page to write.
+     * @return {@code True} if the page is placed in the file right after the previous page written by this writer.
+     */
+    private boolean isSequential(FullPageId fullPageId) {
+        boolean seq = fullPageId.groupId() == lastGrpId &&
+            PageIdUtils.partId(fullPageId.pageId()) == PageIdUtils.partId(lastPageId) &&
+            PageIdUtils.pageIndex(fullPageId.pageId()) == PageIdUtils.pageIndex(lastPageId) + 1;
+
+        lastGrpId = fullPageId.groupId();
+        lastPageId = fullPageId.pageId();
+
+        return seq;
+    }
+
     /** Interface which allows to write one page to page store. */
     public interface CheckpointPageWriter {
         /**
@@ -731,6 +731,7 @@ public class Checkpointer extends GridWorker {
                 chp.pagesSize,
                 tracker.dataPagesWritten(),
                 tracker.cowPagesWritten(),
+                tracker.sequentialPagesWritten(),
                 tracker.recoveryDataSize(),
                 dbMgr.forAllPageStores(PageStore::size),
                 dbMgr.forAllPageStores(PageStore::getSparseSize)
@@ -245,6 +245,10 @@ public class CachePartitionDefragmentationManager {
             if (!oldGrpCtx.cacheType().userCache() || cacheGrpCtxsForDefragmentation.contains(oldGrpCtx))
                 continue;
 
+            // Separated values are kept out of the partition files, such groups are not defragmented.
+            if (oldGrpCtx.config().getValueSeparationThreshold() > 0)
+                continue;
+
             if (!cachesForDefragmentation.isEmpty()) {
                 if (oldGrpCtx.caches().stream().noneMatch(cctx -> cachesForDefragmentation.contains(cctx.name())))
                     continue;
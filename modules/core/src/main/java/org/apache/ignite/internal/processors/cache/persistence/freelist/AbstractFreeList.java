@@ -19,10 +19,12 @@ package org.apache.ignite.internal.processors.cache.persistence.freelist;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.metric.IoStatisticsHolderNoOp;
@@ -33,6 +35,7 @@ import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageInsertFragmentRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageInsertRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageRemoveRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageSetFreeListPageRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageUpdateRecord;
 import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
 import org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl;
@@ -49,8 +52,10 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHan
 import org.apache.ignite.internal.util.GridCursorIteratorWrapper;
 import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.thread.IgniteThread;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_FREE_LIST_ALLOCATION_CACHING;
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_DATA;
 
 /**
@@ -74,6 +79,9 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
     /** */
     private static final int MIN_PAGE_FREE_SPACE = 8;
 
+    /** Count of allocation caches. Must be power of 2. */
+    private static final int ALLOC_CACHES = U.ceilPow2(Math.max(8, Runtime.getRuntime().availableProcessors()));
+
     /**
      * Step between buckets in free list, measured in powers of two.
      * For example, for page size 4096 and 256 buckets, shift is 4 and step is 16 bytes.
@@ -101,6 +109,12 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
     /** Page list cache limit. */
     private final AtomicLong pageListCacheLimit;
 
+    /** Thread-affine allocation caches or {@code null} if allocation caching is disabled. */
+    @Nullable private final AtomicReferenceArray<AllocationCache> allocCaches;
+
+    /** */
+    private final PageHandler<Void, Long> releaseCachedPage = new ReleaseCachedPageHandler();
+
     /**
      *
      */
@@ -311,7 +325,7 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
          */
         protected void putPage(int freeSpace, long pageId, long page, long pageAddr, IoStatisticsHolder statHolder)
             throws IgniteCheckedException {
-            if (freeSpace > MIN_PAGE_FREE_SPACE) {
+            if (freeSpace > MIN_PAGE_FREE_SPACE && !cachePage(freeSpace, pageId, page, pageAddr)) {
                 int bucket = bucket(freeSpace, false);
 
                 put(null, pageId, page, pageAddr, bucket, statHolder);
@@ -359,6 +373,40 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         }
     }
 
+    /**
+     * Puts the data page released from the allocation cache to the free list.
+     */
+    private final class ReleaseCachedPageHandler extends PageHandler<Void, Long> {
+        /** {@inheritDoc} */
+        @Override public Long run(
+            int cacheId,
+            long pageId,
+            long page,
+            long pageAddr,
+            PageIO iox,
+            Boolean walPlc,
+            Void ignore,
+            int unused,
+            IoStatisticsHolder statHolder
+        ) throws IgniteCheckedException {
+            AbstractDataPageIO<T> io = (AbstractDataPageIO<T>)iox;
+
+            // All rows of the page could be removed while it was cached.
+            if (io.isEmpty(pageAddr)) {
+                evictionTracker.forgetPage(pageId);
+
+                return recyclePage(pageId, page, pageAddr, null);
+            }
+
+            int freeSpace = io.getFreeSpace(pageAddr);
+
+            if (freeSpace > MIN_PAGE_FREE_SPACE)
+                put(null, pageId, page, pageAddr, bucket(freeSpace, false), statHolder);
+
+            return 0L;
+        }
+    }
+
     /** */
     private final PageHandler<ReuseBag, Long> rmvRow;
 
@@ -411,7 +459,9 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
                         // It is possible that page was concurrently taken for put, in this case put will handle bucket change.
                         pageId = maskPartId ? PageIdUtils.maskPartitionId(pageId) : pageId;
 
-                        putIsNeeded = removeDataPage(pageId, page, pageAddr, io, oldBucket, statHolder);
+                        // Page kept by an allocation cache is put to the free list when it is released from the cache.
+                        if (!allocationCached(io, pageAddr))
+                            putIsNeeded = removeDataPage(pageId, page, pageAddr, io, oldBucket, statHolder);
                     }
                 }
 
@@ -486,6 +536,9 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
 
         this.pageListCacheLimit = pageListCacheLimit;
 
+        allocCaches = IgniteSystemProperties.getBoolean(IGNITE_FREE_LIST_ALLOCATION_CACHING) ?
+            new AtomicReferenceArray<>(ALLOC_CACHES) : null;
+
         init(metaPageId, initNew);
     }
 
@@ -731,12 +784,10 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         long pageId = 0;
 
         if (size < MIN_SIZE_FOR_DATA_PAGE) {
-            for (int b = bucket(size, false) + 1; b < REUSE_BUCKET; b++) {
-                pageId = takeEmptyPage(b, row.ioVersions(), statHolder);
+            pageId = takeCachedPage(size, statHolder);
 
-                if (pageId != 0L)
-                    break;
-            }
+            for (int b = bucket(size, false) + 1; pageId == 0L && b < REUSE_BUCKET; b++)
+                pageId = takeEmptyPage(b, row.ioVersions(), statHolder);
         }
 
         if (pageId == 0L) { // Handle reuse bucket.
@@ -759,6 +810,179 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         return PageIdUtils.changePartitionId(pageId, row.partition());
     }
 
+    /**
+     * @return Allocation cache of the current thread or {@code null} if allocation caching is disabled.
+     */
+    @Nullable private AllocationCache allocationCache() {
+        if (allocCaches == null)
+            return null;
+
+        IgniteThread igniteThread = IgniteThread.current();
+
+        // Threads of the striped pools are mapped to the caches by stripes, other threads by IDs.
+        int idx = igniteThread != null && igniteThread.stripe() != -1 ?
+            igniteThread.stripe() : (int)Thread.currentThread().getId();
+
+        idx &= ALLOC_CACHES - 1;
+
+        AllocationCache cache = allocCaches.get(idx);
+
+        if (cache == null && !allocCaches.compareAndSet(idx, null, cache = new AllocationCache()))
+            cache = allocCaches.get(idx);
+
+        return cache;
+    }
+
+    /**
+     * Takes the data page from the allocation cache of the current thread.
+     *
+     * @param size Required free space on page.
+     * @param statHolder Statistics holder to track IO operations.
+     * @return Page identifier or 0 if there is no suitable page in the cache.
+     * @throws IgniteCheckedException If failed.
+     */
+    private long takeCachedPage(int size, IoStatisticsHolder statHolder) throws IgniteCheckedException {
+        AllocationCache cache = allocationCache();
+
+        if (cache == null || !cache.tryLock())
+            return 0L;
+
+        long pageId;
+
+        try {
+            cache.onRow(size);
+
+            pageId = cache.pageId;
+
+            cache.pageId = 0L;
+
+            if (pageId == 0L || cache.freeSpace >= size)
+                return pageId;
+        }
+        finally {
+            cache.unlock();
+        }
+
+        // The row doesn't fit the cached page, make the page available to the other threads.
+        releaseCachedPage(pageId, statHolder);
+
+        return 0L;
+    }
+
+    /**
+     * Puts the data page to the allocation cache of the current thread instead of the free list. The page is cached
+     * only if it is able to hold a row of the average size written by the threads of the cache.
+     *
+     * @param freeSpace Page free space.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param pageAddr Page address.
+     * @return {@code True} if the page was cached.
+     * @throws IgniteCheckedException If failed.
+     */
+    private boolean cachePage(int freeSpace, long pageId, long page, long pageAddr) throws IgniteCheckedException {
+        AllocationCache cache = allocationCache();
+
+        if (cache == null || !cache.tryLock())
+            return false;
+
+        try {
+            if (cache.pageId != 0L || freeSpace < cache.avgRowSize)
+                return false;
+
+            cache.pageId = pageId;
+            cache.freeSpace = freeSpace;
+        }
+        finally {
+            cache.unlock();
+        }
+
+        AbstractDataPageIO<T> io = PageIO.getPageIO(pageAddr);
+
+        // Cached page doesn't belong to any pages list node, the same as a page cached in onheap list.
+        if (io.getFreeListPageId(pageAddr) != 0L) {
+            io.setFreeListPageId(pageAddr, 0L);
+
+            if (needWalDeltaRecord(pageId, page, null))
+                wal.log(new DataPageSetFreeListPageRecord(grpId, pageId, 0L));
+        }
+
+        return true;
+    }
+
+    /**
+     * @param pageId Page ID released from the allocation cache.
+     * @param statHolder Statistics holder to track IO operations.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void releaseCachedPage(long pageId, IoStatisticsHolder statHolder) throws IgniteCheckedException {
+        long recycleId = write(pageId, releaseCachedPage, null, 0, 0L, statHolder);
+
+        if (recycleId != 0L) {
+            ReuseBag bag = new LongListReuseBag();
+
+            bag.addFreePage(recycleId);
+
+            reuseList.addForRecycle(bag);
+        }
+    }
+
+    /**
+     * Returns pages of the allocation caches to the free list.
+     *
+     * @param statHolder Statistics holder to track IO operations.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void flushAllocationCaches(IoStatisticsHolder statHolder) throws IgniteCheckedException {
+        if (allocCaches == null)
+            return;
+
+        for (int i = 0; i < allocCaches.length(); i++) {
+            AllocationCache cache = allocCaches.get(i);
+
+            long pageId = cache == null ? 0L : cache.poll();
+
+            if (pageId != 0L)
+                releaseCachedPage(pageId, statHolder);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void saveMetadata(IoStatisticsHolder statHolder) throws IgniteCheckedException {
+        // Cached pages are returned on a checkpoint to not lose them on node restart.
+        flushAllocationCaches(statHolder);
+
+        super.saveMetadata(statHolder);
+    }
+
+    /**
+     * !!! For tests only, does not provide any correctness guarantees for concurrent access.
+     *
+     * @return Count of pages in the allocation caches.
+     */
+    int allocationCachedPagesCount() {
+        int cnt = 0;
+
+        for (int i = 0; allocCaches != null && i < allocCaches.length(); i++) {
+            AllocationCache cache = allocCaches.get(i);
+
+            if (cache != null && cache.pageId != 0L)
+                cnt++;
+        }
+
+        return cnt;
+    }
+
+    /**
+     * @param io Data page IO.
+     * @param pageAddr Data page address.
+     * @return {@code True} if the data page is kept out of the free list by an allocation cache. Pages cached in
+     * onheap list also have zero free list page ID, they are distinguished by {@link #removeDataPage}.
+     */
+    private boolean allocationCached(AbstractDataPageIO<T> io, long pageAddr) {
+        return allocCaches != null && !isCachingApplicable() && io.getFreeListPageId(pageAddr) == 0L;
+    }
+
     /**
      * @param row Row.
      * @param reusedPageId Reused page id.
@@ -954,4 +1178,64 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
     @Override public String toString() {
         return "FreeList [name=" + name() + ']';
     }
+
+    /**
+     * Thread-affine cache of a partially filled data page. Threads mapped to the cache write the next rows to the cached
+     * page instead of taking pages from the free list buckets, which are contended by the concurrent writers.
+     */
+    private static final class AllocationCache {
+        /** Atomic updater for lock field. */
+        private static final AtomicIntegerFieldUpdater<AllocationCache> lockUpdater =
+            AtomicIntegerFieldUpdater.newUpdater(AllocationCache.class, "lock");
+
+        /** Lock guarding the other fields. */
+        private volatile int lock;
+
+        /** Cached data page ID or {@code 0} if there is no cached page. */
+        private long pageId;
+
+        /** Free space of the page at the moment of caching. Actual free space can only grow due to removals. */
+        private int freeSpace;
+
+        /** Moving average of the sizes of the rows written by the threads of the cache. */
+        private int avgRowSize;
+
+        /**
+         * @return {@code True} if the cache is locked.
+         */
+        boolean tryLock() {
+            return lock == 0 && lockUpdater.compareAndSet(this, 0, 1);
+        }
+
+        /** */
+        void unlock() {
+            lock = 0;
+        }
+
+        /**
+         * @param size Size of the written row.
+         */
+        void onRow(int size) {
+            avgRowSize = avgRowSize == 0 ? size : avgRowSize + ((size - avgRowSize) >> 3);
+        }
+
+        /**
+         * @return Cached data page ID or {@code 0} if there is no cached page. The cache is empty after the call.
+         */
+        long poll() {
+            while (!tryLock())
+                Thread.onSpinWait();
+
+            try {
+                long res = pageId;
+
+                pageId = 0L;
+
+                return res;
+            }
+            finally {
+                unlock();
+            }
+        }
+    }
 }
@@ -340,7 +340,7 @@ public abstract class PagesList extends DataStructure {
      * explicitly by system property or if page list belongs to in-memory data region (in this case onheap caching
      * makes no sense).
      */
-    private boolean isCachingApplicable() {
+    protected boolean isCachingApplicable() {
         return !pagesListCachingDisabledSysProp && (wal != null);
     }
 
@@ -0,0 +1,425 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * Pages lists of adaptive 2Q algorithm: the recent FIFO list (pages accessed once), the frequent LRU list (pages
+ * which were accessed again after replacement) and the ghost list of recently replaced pages. All lists are stored
+ * off-heap.
+ * <p>
+ * Ghost list is a hash table of replacement stamps indexed by hash of the page ID. Ghost of the page is valid while
+ * less than pages count pages were replaced after it. Hash collisions can produce false ghost hits or lose ghosts,
+ * which affects only the efficiency of replacement, not its correctness.
+ *
+ * @see PageReplacementMode#ADAPTIVE_2Q
+ */
+public class Adaptive2QPageList {
+    /** Null page index. */
+    static final int NULL_IDX = -1;
+
+    /** Page is not found in the ghost list. */
+    static final int GHOST_NONE = 0;
+
+    /** Page was replaced from the recent list. */
+    static final int GHOST_RECENT = 1;
+
+    /** Page was replaced from the frequent list. */
+    static final int GHOST_FREQUENT = 2;
+
+    /** Index of the head page of recent list. */
+    private int recentHeadIdx = NULL_IDX;
+
+    /** Index of the tail page of recent list. */
+    private int recentTailIdx = NULL_IDX;
+
+    /** Index of the head page of frequent list. */
+    private int freqHeadIdx = NULL_IDX;
+
+    /** Index of the tail page of frequent list. */
+    private int freqTailIdx = NULL_IDX;
+
+    /** Count of pages in the recent list. */
+    private int recentPagesCnt;
+
+    /** Count of pages in the frequent list. */
+    private int freqPagesCnt;
+
+    /** Sequence number of the last replaced page. */
+    private int ghostSeq;
+
+    /** Total pages count. */
+    private final int totalPagesCnt;
+
+    /** Mask of ghost table index. */
+    private final int ghostMask;
+
+    /** Pointer to memory region to store links. */
+    private final long linksPtr;
+
+    /** Pointer to memory region to store frequent flags. */
+    private final long flagsPtr;
+
+    /** Pointer to memory region to store ghost table. */
+    private final long ghostPtr;
+
+    /**
+     * @param totalPagesCnt Total pages count.
+     * @param memPtr Pointer to memory region.
+     */
+    public Adaptive2QPageList(int totalPagesCnt, long memPtr) {
+        this.totalPagesCnt = totalPagesCnt;
+
+        int ghostSize = ghostTableSize(totalPagesCnt);
+
+        ghostMask = ghostSize - 1;
+
+        linksPtr = memPtr;
+        flagsPtr = memPtr + (((long)totalPagesCnt) << 3);
+        ghostPtr = flagsPtr + flagsSize(totalPagesCnt);
+
+        GridUnsafe.setMemory(linksPtr, ((long)totalPagesCnt) << 3, (byte)0xFF);
+        GridUnsafe.zeroMemory(flagsPtr, flagsSize(totalPagesCnt));
+        GridUnsafe.zeroMemory(ghostPtr, ((long)ghostSize) << 2);
+    }
+
+    /**
+     * Add page to the tail of recent or frequent list.
+     *
+     * @param pageIdx Page index.
+     * @param frequent Frequent page flag.
+     */
+    public synchronized void addToTail(int pageIdx, boolean frequent) {
+        assert prev(pageIdx) == NULL_IDX : prev(pageIdx);
+        assert next(pageIdx) == NULL_IDX : next(pageIdx);
+
+        if (frequent) {
+            if (freqTailIdx == NULL_IDX)
+                freqHeadIdx = pageIdx;
+            else
+                link(freqTailIdx, pageIdx);
+
+            freqTailIdx = pageIdx;
+
+            freqPagesCnt++;
+
+            frequentPage(pageIdx, true);
+        }
+        else {
+            if (recentTailIdx == NULL_IDX)
+                recentHeadIdx = pageIdx;
+            else
+                link(recentTailIdx, pageIdx);
+
+            recentTailIdx = pageIdx;
+
+            recentPagesCnt++;
+        }
+    }
+
+    /**
+     * Move page of the frequent list to the tail of the list. Pages of the recent list are not moved: repeated
+     * accesses to the recent page are usually correlated (for example, made by the same scan).
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void moveToTail(int pageIdx) {
+        if (freqTailIdx == pageIdx || !frequentPage(pageIdx))
+            return;
+
+        remove0(pageIdx, true);
+
+        clearLinks(pageIdx);
+
+        link(freqTailIdx, pageIdx);
+
+        freqTailIdx = pageIdx;
+    }
+
+    /**
+     * Remove page from the head of recent or frequent list.
+     *
+     * @param frequent Frequent list flag.
+     * @return Page index or {@code -1} if list is empty.
+     */
+    public synchronized int poll(boolean frequent) {
+        int idx = frequent ? freqHeadIdx : recentHeadIdx;
+
+        if (idx != NULL_IDX)
+            remove(idx);
+
+        return idx;
+    }
+
+    /**
+     * Remove page from the list by page index.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void remove(int pageIdx) {
+        boolean frequent = frequentPage(pageIdx);
+
+        remove0(pageIdx, frequent);
+
+        clearLinks(pageIdx);
+
+        if (frequent) {
+            freqPagesCnt--;
+
+            frequentPage(pageIdx, false);
+        }
+        else
+            recentPagesCnt--;
+    }
+
+    /**
+     * Unlinks page from the list, doesn't change links of the page itself.
+     *
+     * @param pageIdx Page index.
+     * @param frequent Frequent page flag.
+     */
+    private void remove0(int pageIdx, boolean frequent) {
+        assert pageIdx != NULL_IDX;
+
+        int prevIdx = prev(pageIdx);
+        int nextIdx = next(pageIdx);
+
+        if (prevIdx == NULL_IDX) {
+            assert (frequent ? freqHeadIdx : recentHeadIdx) == pageIdx : "Unexpected page index [pageIdx=" + pageIdx +
+                ", freqHeadIdx=" + freqHeadIdx + ", recentHeadIdx=" + recentHeadIdx + ']';
+
+            if (frequent)
+                freqHeadIdx = nextIdx;
+            else
+                recentHeadIdx = nextIdx;
+        }
+        else
+            next(prevIdx, nextIdx);
+
+        if (nextIdx == NULL_IDX) {
+            assert (frequent ? freqTailIdx : recentTailIdx) == pageIdx : "Unexpected page index [pageIdx=" + pageIdx +
+                ", freqTailIdx=" + freqTailIdx + ", recentTailIdx=" + recentTailIdx + ']';
+
+            if (frequent)
+                freqTailIdx = prevIdx;
+            else
+                recentTailIdx = prevIdx;
+        }
+        else
+            prev(nextIdx, prevIdx);
+    }
+
+    /**
+     * Remembers replaced page in the ghost list.
+     *
+     * @param hash Hash of the page ID.
+     * @param frequent {@code True} if page was replaced from the frequent list.
+     */
+    public synchronized void addGhost(int hash, boolean frequent) {
+        if ((++ghostSeq & Integer.MAX_VALUE) == 0)
+            ghostSeq++;
+
+        GridUnsafe.putInt(ghostAddress(hash), (ghostSeq << 1) | (frequent ? 1 : 0));
+    }
+
+    /**
+     * Finds and removes page from the ghost list.
+     *
+     * @param hash Hash of the page ID.
+     * @return {@link #GHOST_NONE}, {@link #GHOST_RECENT} or {@link #GHOST_FREQUENT}.
+     */
+    public synchronized int pollGhost(int hash) {
+        long ptr = ghostAddress(hash);
+
+        int stamp = GridUnsafe.getInt(ptr);
+
+        if (stamp == 0)
+            return GHOST_NONE;
+
+        GridUnsafe.putInt(ptr, 0);
+
+        if (((ghostSeq - (stamp >>> 1)) & Integer.MAX_VALUE) >= totalPagesCnt)
+            return GHOST_NONE;
+
+        return (stamp & 1) != 0 ? GHOST_FREQUENT : GHOST_RECENT;
+    }
+
+    /**
+     * @param hash Hash of the page ID.
+     * @return Address of the ghost table entry.
+     */
+    private long ghostAddress(int hash) {
+        return ghostPtr + (((long)(hash & ghostMask)) << 2);
+    }
+
+    /**
+     * Link two pages.
+     *
+     * @param prevIdx Previous page index.
+     * @param nextIdx Next page index.
+     */
+    private void link(int prevIdx, int nextIdx) {
+        prev(nextIdx, prevIdx);
+        next(prevIdx, nextIdx);
+    }
+
+    /**
+     * Clear page links.
+     *
+     * @param pageIdx Page index.
+     */
+    private void clearLinks(int pageIdx) {
+        GridUnsafe.putLong(linksPtr + (((long)pageIdx) << 3), -1L);
+    }
+
+    /**
+     * Gets link to the previous page in the list.
+     *
+     * @param pageIdx Page index.
+     */
+    int prev(int pageIdx) {
+        return GridUnsafe.getInt(linksPtr + (((long)pageIdx) << 3));
+    }
+
+    /**
+     * Gets link to the next page in the list.
+     *
+     * @param pageIdx Page index.
+     */
+    int next(int pageIdx) {
+        return GridUnsafe.getInt(linksPtr + (((long)pageIdx) << 3) + 4);
+    }
+
+    /**
+     * Sets link to the previous page in the list.
+     *
+     * @param pageIdx Page index.
+     * @param prevIdx Previous page index.
+     */
+    private void prev(int pageIdx, int prevIdx) {
+        GridUnsafe.putInt(linksPtr + (((long)pageIdx) << 3), prevIdx);
+    }
+
+    /**
+     * Sets link to the next page in the list.
+     *
+     * @param pageIdx Page index.
+     * @param nextIdx Next page index.
+     */
+    private void next(int pageIdx, int nextIdx) {
+        GridUnsafe.putInt(linksPtr + (((long)pageIdx) << 3) + 4, nextIdx);
+    }
+
+    /**
+     * Gets frequent page flag.
+     *
+     * @param pageIdx Page index.
+     */
+    boolean frequentPage(int pageIdx) {
+        long flags = GridUnsafe.getLong(flagsPtr + ((pageIdx >> 3) & (~7)));
+
+        return (flags & (1L << pageIdx)) != 0L;
+    }
+
+    /**
+     * Sets frequent page flag.
+     *
+     * @param pageIdx Page index.
+     * @param frequent Frequent page flag.
+     */
+    private void frequentPage(int pageIdx, boolean frequent) {
+        long ptr = flagsPtr + ((pageIdx >> 3) & (~7));
+
+        if (frequent)
+            GridUnsafe.putLong(ptr, GridUnsafe.getLong(ptr) | (1L << pageIdx));
+        else
+            GridUnsafe.putLong(ptr, GridUnsafe.getLong(ptr) & ~(1L << pageIdx));
+    }
+
+    /**
+     * Gets the index of the head page of recent list.
+     */
+    synchronized int recentHeadIdx() {
+        return recentHeadIdx;
+    }
+
+    /**
+     * Gets the index of the tail page of recent list.
+     */
+    synchronized int recentTailIdx() {
+        return recentTailIdx;
+    }
+
+    /**
+     * Gets the index of the head page of frequent list.
+     */
+    synchronized int frequentHeadIdx() {
+        return freqHeadIdx;
+    }
+
+    /**
+     * Gets the index of the tail page of frequent list.
+     */
+    synchronized int frequentTailIdx() {
+        return freqTailIdx;
+    }
+
+    /**
+     * Gets count of pages in the recent list.
+     */
+    public synchronized int recentPagesCount() {
+        return recentPagesCnt;
+    }
+
+    /**
+     * Gets count of pages in the frequent list.
+     */
+    public synchronized int frequentPagesCount() {
+        return freqPagesCnt;
+    }
+
+    /**
+     * @param pagesCnt Pages count.
+     * @return Size of frequent flags in bytes (1 bit per page + 8 byte align).
+     */
+    private static long flagsSize(int pagesCnt) {
+        return ((pagesCnt + 63L) / 8) & (~7L);
+    }
+
+    /**
+     * @param pagesCnt Pages count.
+     * @return Count of ghost table entries.
+     */
+    private static int ghostTableSize(int pagesCnt) {
+        return U.ceilPow2(Math.max(pagesCnt, 1));
+    }
+
+    /**
+     * Memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    public static long requiredMemory(int pagesCnt) {
+        return pagesCnt * 8L /* links = 2 ints per page */ +
+            flagsSize(pagesCnt) +
+            ((long)ghostTableSize(pagesCnt) << 2) /* ghost table = 1 int per entry */;
+    }
+}
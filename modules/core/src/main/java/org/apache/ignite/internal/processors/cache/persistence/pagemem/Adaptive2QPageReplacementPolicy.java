@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.Adaptive2QPageList.GHOST_FREQUENT;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.Adaptive2QPageList.GHOST_NONE;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.Adaptive2QPageList.GHOST_RECENT;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.Adaptive2QPageList.NULL_IDX;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.INVALID_REL_PTR;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.OUTDATED_REL_PTR;
+
+/**
+ * Adaptive 2Q page replacement policy implementation.
+ *
+ * @see PageReplacementMode#ADAPTIVE_2Q
+ */
+public class Adaptive2QPageReplacementPolicy extends PageReplacementPolicy {
+    /** Initial ratio of the recent list target size to total pages. */
+    private static final int INIT_RECENT_TARGET_DIVIDER = 4;
+
+    /** Pages lists. */
+    private final Adaptive2QPageList list;
+
+    /** Total pages count. */
+    private final int pagesCnt;
+
+    /**
+     * Target size of the recent list. Grows on ghost hits of pages replaced from the recent list and shrinks on
+     * ghost hits of pages replaced from the frequent list. Guarded by the segment write lock.
+     */
+    private int recentTarget;
+
+    /** Page replacement metrics. */
+    private final PageReplacementMetrics metrics;
+
+    /**
+     * Metrics of the cache group of the last accessed page. Consecutive accesses usually hit pages of the same group,
+     * so the group metrics lookup is skipped for them. Updated by concurrent readers without synchronization, which is
+     * safe since the group metrics are published through final fields.
+     */
+    private PageReplacementMetrics.GroupMetrics lastGrpMetrics;
+
+    /**
+     * @param seg Page memory segment.
+     * @param ptr Pointer to memory region.
+     * @param pagesCnt Pages count.
+     */
+    protected Adaptive2QPageReplacementPolicy(PageMemoryImpl.Segment seg, long ptr, int pagesCnt) {
+        super(seg);
+
+        this.pagesCnt = pagesCnt;
+
+        list = new Adaptive2QPageList(pagesCnt, ptr);
+
+        recentTarget = pagesCnt / INIT_RECENT_TARGET_DIVIDER;
+
+        metrics = seg.pageReplacementMetrics();
+
+        assert metrics != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onHit(long relPtr) {
+        list.moveToTail((int)seg.pageIndex(relPtr));
+
+        groupMetrics(PageHeader.readPageGroupId(seg.absolute(relPtr))).onHit();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onMiss(long relPtr) {
+        int pageIdx = (int)seg.pageIndex(relPtr);
+        long absPtr = seg.absolute(relPtr);
+
+        int grpId = PageHeader.readPageGroupId(absPtr);
+
+        PageReplacementMetrics.GroupMetrics grpMetrics = groupMetrics(grpId);
+
+        grpMetrics.onMiss();
+
+        int ghost = list.pollGhost(FullPageId.hashCode(grpId, PageHeader.readPageId(absPtr)));
+
+        if (ghost == GHOST_NONE) {
+            list.addToTail(pageIdx, false);
+
+            return;
+        }
+
+        // Page was replaced too early: it was requested again while its ghost is alive.
+        if (ghost == GHOST_RECENT)
+            recentTarget = Math.min(pagesCnt, recentTarget + 1);
+        else {
+            assert ghost == GHOST_FREQUENT : ghost;
+
+            recentTarget = Math.max(0, recentTarget - 1);
+        }
+
+        grpMetrics.onGhostHit();
+
+        list.addToTail(pageIdx, true);
+    }
+
+    /**
+     * @param grpId Cache group ID.
+     * @return Page replacement metrics of the cache group.
+     */
+    private PageReplacementMetrics.GroupMetrics groupMetrics(int grpId) {
+        PageReplacementMetrics.GroupMetrics grpMetrics = lastGrpMetrics;
+
+        if (grpMetrics == null || grpMetrics.grpId != grpId || grpMetrics.stopped)
+            lastGrpMetrics = grpMetrics = metrics.groupMetrics(grpId);
+
+        return grpMetrics;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onRemove(long relPtr) {
+        list.remove((int)seg.pageIndex(relPtr));
+    }
+
+    /** {@inheritDoc} */
+    @Override public long replace() throws IgniteCheckedException {
+        LoadedPagesMap loadedPages = seg.loadedPages();
+
+        // Count of pages returned to the lists since they can't be replaced now.
+        int recentSkipped = 0;
+        int freqSkipped = 0;
+
+        for (int i = 0; i < loadedPages.size(); i++) {
+            int recentCnt = list.recentPagesCount();
+
+            boolean frequent = list.frequentPagesCount() > freqSkipped &&
+                (recentCnt <= recentTarget || recentCnt <= recentSkipped);
+
+            int pageIdx = list.poll(frequent);
+
+            if (pageIdx == NULL_IDX)
+                break;
+
+            long relPtr = seg.relative(pageIdx);
+            long absPtr = seg.absolute(relPtr);
+
+            FullPageId fullId = PageHeader.fullPageId(absPtr);
+
+            // Check loaded pages map for outdated page.
+            relPtr = loadedPages.get(
+                fullId.groupId(),
+                fullId.effectivePageId(),
+                seg.partGeneration(fullId.groupId(), PageIdUtils.partId(fullId.pageId())),
+                INVALID_REL_PTR,
+                OUTDATED_REL_PTR
+            );
+
+            assert relPtr != INVALID_REL_PTR;
+
+            if (relPtr == OUTDATED_REL_PTR)
+                return seg.refreshOutdatedPage(fullId.groupId(), fullId.pageId(), true);
+
+            if (seg.tryToRemovePage(fullId, absPtr)) {
+                list.addGhost(FullPageId.hashCode(fullId.groupId(), fullId.pageId()), frequent);
+
+                return relPtr;
+            }
+
+            // Return page to the list.
+            list.addToTail(pageIdx, frequent);
+
+            if (frequent)
+                freqSkipped++;
+            else
+                recentSkipped++;
+        }
+
+        throw seg.oomException("no pages to replace");
+    }
+}
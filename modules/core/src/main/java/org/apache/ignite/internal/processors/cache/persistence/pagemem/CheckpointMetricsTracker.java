@@ -47,12 +47,19 @@ public class CheckpointMetricsTracker {
     private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> COW_PAGES_UPDATER =
         AtomicIntegerFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "cowPages");
 
+    /** */
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> SEQ_PAGES_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "seqPages");
+
     /** */
     private volatile int dataPages;
 
     /** */
     private volatile int cowPages;
 
+    /** */
+    private volatile int seqPages;
+
     /** */
     private final long cpStart = System.currentTimeMillis();
 
@@ -110,6 +117,13 @@ public class CheckpointMetricsTracker {
         DATA_PAGES_UPDATER.incrementAndGet(this);
     }
 
+    /**
+     * Increments counter if page was written right after the previous page of the same file by the same thread.
+     */
+    public void onSequentialPageWritten() {
+        SEQ_PAGES_UPDATER.incrementAndGet(this);
+    }
+
     /**
      * @return COW pages.
      */
@@ -124,6 +138,13 @@ public class CheckpointMetricsTracker {
         return dataPages;
     }
 
+    /**
+     * @return Pages written right after the previous page of the same file, i.e. without disk seek.
+     */
+    public int sequentialPagesWritten() {
+        return seqPages;
+    }
+
     /** */
     public void onLockWaitStart() {
         cpLockWaitStart = System.currentTimeMillis();
@@ -247,7 +247,7 @@ class PageHeader {
      * @param absPtr Absolute memory pointer to the page header.
      * @return Cache group ID written to the page.
      */
-    private static int readPageGroupId(final long absPtr) {
+    static int readPageGroupId(final long absPtr) {
         return GridUnsafe.getInt(absPtr + PAGE_CACHE_ID_OFFSET);
     }
 
@@ -101,6 +101,16 @@ public interface PageMemoryEx extends PageMemory {
     public long acquirePage(int grpId, long pageId, IoStatisticsHolder statHldr,
         boolean restore) throws IgniteCheckedException;
 
+    /**
+     * Hints that the pages are going to be accessed soon. Pages which are not present in memory are read from the
+     * store asynchronously. The hint may be ignored if all prefetch threads are busy.
+     *
+     * @param grpId Cache group ID.
+     * @param pageIds Page IDs.
+     * @param cnt Count of page IDs to use from the beginning of {@code pageIds}.
+     */
+    public void prefetchPages(int grpId, long[] pageIds, int cnt);
+
     /**
      * Heuristic method which allows a thread to check if it safe to start memory struture modifications
      * in regard with checkpointing. May return false-negative result during or after partition eviction.
@@ -160,6 +160,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** @see IgniteSystemProperties#IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP */
     public static final boolean DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP = true;
 
+    /** Max number of threads which read pages to the memory ahead of access. */
+    private static final int PREFETCH_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+
     /** Tracking io. */
     private static final TrackingPageIO trackingIO = TrackingPageIO.VERSIONS.latest();
 
@@ -189,6 +192,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** */
     private final ExecutorService asyncRunner;
 
+    /** Executor of page prefetch tasks, see {@link #prefetchPages(int, long[], int)}. */
+    private final ExecutorService prefetchRunner;
+
     /** Page manager. */
     private final PageReadWriteManager pmPageMgr;
 
@@ -339,6 +345,15 @@ public class PageMemoryImpl implements PageMemoryEx {
             SECONDS.toMillis(30),
             new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors())
         );
+
+        prefetchRunner = new IgniteThreadPoolExecutor(
+            "page-prefetch",
+            ctx.igniteInstanceName(),
+            0,
+            PREFETCH_THREADS,
+            SECONDS.toMillis(30),
+            new ArrayBlockingQueue<>(PREFETCH_THREADS)
+        );
         
         switch (dataRegionCfg.getPageReplacementMode()) {
             case RANDOM_LRU:
@@ -352,6 +367,10 @@ public class PageMemoryImpl implements PageMemoryEx {
             case CLOCK:
                 pageReplacementPolicyFactory = new ClockPageReplacementPolicyFactory();
 
+                break;
+            case ADAPTIVE_2Q:
+                pageReplacementPolicyFactory = new Adaptive2QPageReplacementPolicyFactory();
+
                 break;
             default:
                 throw new IgniteException("Unexpected page replacement mode: " + dataRegionCfg.getPageReplacementMode());
@@ -460,6 +479,7 @@ public class PageMemoryImpl implements PageMemoryEx {
                 log.debug("Stopping page memory.");
 
             U.shutdownNow(getClass(), asyncRunner, log);
+            U.shutdownNow(getClass(), prefetchRunner, log);
 
             if (segments != null) {
                 for (Segment seg : segments)
@@ -472,6 +492,59 @@ public class PageMemoryImpl implements PageMemoryEx {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public void prefetchPages(int grpId, long[] pageIds, int cnt) {
+        long[] missing = null;
+        int missingCnt = 0;
+
+        for (int i = 0; i < cnt; i++) {
+            if (hasLoadedPage(new FullPageId(pageIds[i], grpId)))
+                continue;
+
+            if (missing == null)
+                missing = new long[cnt - i];
+
+            missing[missingCnt++] = pageIds[i];
+        }
+
+        // Pages are split between the prefetch threads to read them in parallel.
+        int tasks = Math.min(PREFETCH_THREADS, missingCnt);
+
+        for (int t = 0; t < tasks; t++) {
+            long[] missing0 = missing;
+            int missingCnt0 = missingCnt;
+            int first = t;
+
+            try {
+                prefetchRunner.execute(() -> {
+                    for (int i = first; i < missingCnt0 && started && !Thread.currentThread().isInterrupted();
+                        i += tasks) {
+                        long pageId = missing0[i];
+
+                        if (hasLoadedPage(new FullPageId(pageId, grpId)))
+                            continue;
+
+                        try {
+                            releasePage(grpId, pageId, acquirePage(grpId, pageId));
+                        }
+                        catch (IgniteCheckedException | IgniteException e) {
+                            // Partition may be evicted or destroyed concurrently, the next access will report the error.
+                            if (log.isDebugEnabled())
+                                log.debug("Failed to prefetch page [grpId=" + grpId + ", pageId=" +
+                                    U.hexLong(pageId) + ", err=" + e + ']');
+
+                            return;
+                        }
+                    }
+                });
+            }
+            catch (RejectedExecutionException ignore) {
+                // Prefetch is just a hint, skip it if all prefetch threads are busy.
+                return;
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public void releasePage(int grpId, long pageId, long page) {
         assert started;
@@ -2426,6 +2499,13 @@ public class PageMemoryImpl implements PageMemoryEx {
             return loadedPages;
         }
 
+        /**
+         * @return Page replacement metrics or {@code null} if they are not tracked by the page replacement mode.
+         */
+        @Nullable PageReplacementMetrics pageReplacementMetrics() {
+            return dataRegionMetrics.pageReplacementMetrics();
+        }
+
         /**
          * Gets checkpoint pages.
          */
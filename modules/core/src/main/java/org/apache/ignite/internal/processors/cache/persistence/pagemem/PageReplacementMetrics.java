@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.function.Function;
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.collection.IntHashMap;
+import org.apache.ignite.internal.util.collection.IntMap;
+
+/**
+ * Page hits, misses and ghost hits of the data region and its cache groups, tracked by the page replacement policy.
+ * Created only for the data regions with {@link PageReplacementMode#ADAPTIVE_2Q} page replacement mode.
+ * <p>
+ * Metrics of a cache group are registered when the group starts and removed when it stops. Pages of other groups
+ * (system groups, groups which are being stopped) are counted in the data region metrics only.
+ */
+public class PageReplacementMetrics {
+    /** Metrics of the data region. */
+    private final Counters regionCounters;
+
+    /**
+     * Cache group ID to metrics mapping.
+     * <p>
+     * This is effectively a copy-on-write hash map, all write operations should create a new copy under the
+     * {@link #grpMetricsLock} lock.
+     */
+    private volatile IntMap<GroupMetrics> grpMetrics = new IntHashMap<>();
+
+    /** Lock for the {@link #grpMetrics} field. */
+    private final Object grpMetricsLock = new Object();
+
+    /**
+     * @param regionReg Metric registry of the data region.
+     */
+    public PageReplacementMetrics(MetricRegistryImpl regionReg) {
+        regionCounters = new Counters(regionReg);
+    }
+
+    /**
+     * Registers metrics of the started cache group.
+     *
+     * @param grpId Cache group ID.
+     * @param grpReg Metric registry of the cache group.
+     */
+    public void onCacheGroupStarted(int grpId, MetricRegistryImpl grpReg) {
+        synchronized (grpMetricsLock) {
+            IntMap<GroupMetrics> copy = new IntHashMap<>(grpMetrics);
+
+            copy.put(grpId, new GroupMetrics(grpId, new Counters(grpReg), regionCounters));
+
+            grpMetrics = copy;
+        }
+    }
+
+    /**
+     * Removes metrics of the stopped cache group.
+     *
+     * @param grpId Cache group ID.
+     */
+    public void onCacheGroupStopped(int grpId) {
+        synchronized (grpMetricsLock) {
+            IntMap<GroupMetrics> copy = new IntHashMap<>(grpMetrics);
+
+            GroupMetrics rmv = copy.remove(grpId);
+
+            grpMetrics = copy;
+
+            if (rmv != null)
+                rmv.stopped = true;
+        }
+    }
+
+    /**
+     * @param grpId Cache group ID.
+     * @return Metrics of the cache group, or metrics which update data region counters only if group metrics are not
+     * registered. Never creates metric registries.
+     */
+    GroupMetrics groupMetrics(int grpId) {
+        GroupMetrics metrics = grpMetrics.get(grpId);
+
+        return metrics != null ? metrics : new GroupMetrics(grpId, null, regionCounters);
+    }
+
+    /**
+     * Page replacement metrics of the cache group. Can be cached by the page replacement policy until the group stops.
+     */
+    static final class GroupMetrics {
+        /** Cache group ID. */
+        final int grpId;
+
+        /** Counters of the cache group or {@code null} if the group metrics are not registered. */
+        private final Counters grpCounters;
+
+        /** Counters of the data region. */
+        private final Counters regionCounters;
+
+        /** Group metrics are removed, cached instance must not be used anymore. */
+        volatile boolean stopped;
+
+        /**
+         * @param grpId Cache group ID.
+         * @param grpCounters Counters of the cache group or {@code null} if the group metrics are not registered.
+         * @param regionCounters Counters of the data region.
+         */
+        private GroupMetrics(int grpId, Counters grpCounters, Counters regionCounters) {
+            this.grpId = grpId;
+            this.grpCounters = grpCounters;
+            this.regionCounters = regionCounters;
+        }
+
+        /** Page access is served from memory. */
+        void onHit() {
+            update(c -> c.hits);
+        }
+
+        /** Page access required the page to be loaded into memory. */
+        void onMiss() {
+            update(c -> c.misses);
+        }
+
+        /** Loaded page was recently replaced. */
+        void onGhostHit() {
+            update(c -> c.ghostHits);
+        }
+
+        /**
+         * @param metric Metric to increment.
+         */
+        private void update(Function<Counters, LongAdderMetric> metric) {
+            metric.apply(regionCounters).increment();
+
+            if (grpCounters != null)
+                metric.apply(grpCounters).increment();
+        }
+    }
+
+    /**
+     * Page replacement counters registered in a metric registry.
+     */
+    private static final class Counters {
+        /** Page accesses served from memory. */
+        private final LongAdderMetric hits;
+
+        /** Page accesses which required the page to be loaded. */
+        private final LongAdderMetric misses;
+
+        /** Loaded pages which were recently replaced. */
+        private final LongAdderMetric ghostHits;
+
+        /**
+         * @param reg Metric registry.
+         */
+        private Counters(MetricRegistryImpl reg) {
+            hits = reg.longAdderMetric("PageHits", "Number of page accesses served from memory.");
+
+            misses = reg.longAdderMetric("PageMisses",
+                "Number of page accesses which required the page to be loaded into memory.");
+
+            ghostHits = reg.longAdderMetric("PageGhostHits", "Number of loaded pages which were recently replaced.");
+        }
+    }
+}
@@ -828,6 +828,16 @@ public class IgniteSnapshotManager extends GridCacheSharedManagerAdapter
                 "on the local node [missed=" + leftGrps + ", nodeId=" + cctx.localNodeId() + ']'));
         }
 
+        for (Integer grpId : grpIds) {
+            CacheGroupDescriptor desc = cctx.cache().cacheGroupDescriptor(grpId);
+
+            // Separated values are kept out of the partition files.
+            if (desc != null && desc.config().getValueSeparationThreshold() > 0) {
+                return new GridFinishedFuture<>(new IgniteCheckedException("Snapshot operation has been rejected. " +
+                    "Cache groups with value separation are not supported [grp=" + desc.cacheOrGroupName() + ']'));
+            }
+        }
+
         if (req.incremental()) {
             SnapshotMetadata meta;
 
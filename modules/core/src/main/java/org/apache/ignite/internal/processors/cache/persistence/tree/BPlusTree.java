@@ -40,6 +40,7 @@ import org.apache.ignite.internal.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.pagemem.wal.record.delta.BatchUpdateRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixCountRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixLeftmostChildRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixRemoveId;
@@ -73,6 +74,7 @@ import org.apache.ignite.internal.util.IgniteTree;
 import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.internal.util.lang.GridTreePrinter;
 import org.apache.ignite.internal.util.lang.GridTuple3;
+import org.apache.ignite.internal.util.lang.IgniteThrowableConsumer;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.SB;
 import org.apache.ignite.internal.util.typedef.internal.U;
@@ -422,6 +424,12 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
 
             boolean found = idx >= 0;
 
+            if (g.fromLeaf) {
+                // The row belongs to the leaf only if it is found or is strictly between the leaf rows.
+                if (!io.isLeaf() || (!found && (idx == -1 || (idx == -cnt - 1 && g.fwdId != 0L))))
+                    return RETRY_ROOT;
+            }
+
             if (found) { // Found exact match.
                 assert g.getClass() != GetCursor.class;
 
@@ -508,6 +516,9 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
 
             // Lock the leaf if the row should be replaced in an inner node as well.
             if (canGetRowFromInner && idx + 1 == cnt && p.fwdId != 0L) {
+                if (p.fromLeaf)
+                    return RETRY_ROOT; // Inner node is not locked.
+
                 Tail<L> tail = p.addTail(pageId, page, pageAddr, io, lvl, Tail.EXACT);
 
                 // Row index is cached, because it won't change until the leaf is unlocked.
@@ -553,6 +564,9 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
 
             idx = fix(idx);
 
+            if (p.fromLeaf && cnt == io.getMaxCount(pageAddr, pageSize()))
+                return RETRY_ROOT; // Split requires the parent page.
+
             // Do insert.
             L moveUpRow = p.insert(pageId, page, pageAddr, io, idx, lvl);
 
@@ -578,6 +592,70 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /** */
+    private final PageHandler<BatchPut, Result> putAllIntoLeaf;
+
+    /**
+     * Puts rows of the batch into the leaf page under a single write lock and logs a single WAL delta record.
+     * Rows which require an inner replace, a split or belong to the neighbour page are skipped.
+     */
+    private class PutAllIntoLeaf extends PageHandler<BatchPut, Result> {
+        /** {@inheritDoc} */
+        @Override public Result run(int cacheId, long pageId, long page, long pageAddr, PageIO iox, Boolean walPlc,
+            BatchPut b, int lvl, IoStatisticsHolder statHolder) throws IgniteCheckedException {
+            assert PageIO.getPageId(pageAddr) == pageId;
+
+            BPlusIO<L> io = (BPlusIO<L>)iox;
+
+            // Check the triangle invariant and intersection with inner replace in remove operation.
+            if (!io.isLeaf() || io.getForward(pageAddr) != b.fwdId || b.rmvId < io.getRemoveId(pageAddr))
+                return RETRY;
+
+            boolean needWal = needWalDeltaRecord(pageId, page, walPlc);
+
+            BatchUpdateRecord<L> rec = needWal ? new BatchUpdateRecord<>(grpId, pageId, io, b.rows.size()) : null;
+
+            int maxCnt = io.getMaxCount(pageAddr, pageSize());
+
+            for (int i = 0; i < b.rows.size(); i++) {
+                T row = b.rows.get(i);
+
+                int cnt = io.getCount(pageAddr);
+                int idx = findInsertionPoint(0, io, pageAddr, 0, cnt, row, 0);
+
+                if (idx >= 0) {
+                    // The last row may be copied to the inner page, so it must be replaced there as well.
+                    if (canGetRowFromInner && idx + 1 == cnt && b.fwdId != 0L)
+                        continue;
+
+                    byte[] rowBytes = io.store(pageAddr, idx, row, null, needWal);
+
+                    if (needWal)
+                        rec.add(false, idx, rowBytes);
+                }
+                else {
+                    idx = fix(idx);
+
+                    // Split is required or the row may belong to the neighbour page.
+                    if (cnt == maxCnt || idx == 0 || (idx == cnt && b.fwdId != 0L))
+                        continue;
+
+                    byte[] rowBytes = io.insert(pageAddr, idx, row, null, 0L, needWal);
+
+                    if (needWal)
+                        rec.add(true, idx, rowBytes);
+                }
+
+                b.done[i] = true;
+            }
+
+            if (needWal && rec.updatesCount() > 0)
+                wal.log(rec);
+
+            return FOUND;
+        }
+    }
+
     /** */
     private final PageHandler<Remove, Result> rmvFromLeaf;
 
@@ -635,6 +713,10 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
 
             // !!! Before modifying state we have to make sure that we will not go for retry.
 
+            // Inner key replace and merge require the parent page.
+            if (r.fromLeaf && (needReplaceInner || mayMerge(cnt - rmvCnt, io.getMaxCount(leafAddr, pageSize()))))
+                return RETRY_ROOT;
+
             // We may need to replace inner key or want to merge this leaf with sibling after the remove -> keep lock.
             if (needReplaceInner ||
                 // We need to make sure that we have back or forward to be able to merge.
@@ -928,10 +1010,14 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
 
             io.initRoot(pageAddr, rootId, pageSize());
             io.setInlineSize(pageAddr, inlineSize);
-            io.initFlagsAndVersion(pageAddr, BPlusMetaIO.DEFAULT_FLAGS, IgniteVersionUtils.VER);
+            long flags = metaPageFlags();
 
-            if (needWalDeltaRecord(metaId, metaPage, walPlc))
-                wal.log(new MetaPageInitRootInlineFlagsCreatedVersionRecord(cacheId, metaId, rootId, inlineSize));
+            io.initFlagsAndVersion(pageAddr, flags, IgniteVersionUtils.VER);
+
+            if (needWalDeltaRecord(metaId, metaPage, walPlc)) {
+                wal.log(new MetaPageInitRootInlineFlagsCreatedVersionRecord(cacheId, metaId, rootId, inlineSize,
+                    flags, IgniteVersionUtils.VER));
+            }
 
             assert io.getRootLevel(pageAddr) == 0;
             assert io.getFirstPageId(pageAddr, 0) == rootId;
@@ -1044,6 +1130,7 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         rmvFromLeaf = wrap(hndWrapper, new RemoveFromLeaf<>());
         insert = wrap(hndWrapper, new Insert());
         replace = wrap(hndWrapper, new Replace());
+        putAllIntoLeaf = wrap(hndWrapper, new PutAllIntoLeaf());
         rmvRangeFromLeaf = wrap(hndWrapper, new RemoveRangeFromLeaf());
     }
 
@@ -2128,13 +2215,130 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
     @Override public void invoke(L row, Object z, InvokeClosure<T> c) throws IgniteCheckedException {
         checkDestroyed();
 
-        Invoke x = new Invoke(row, z, c);
+        doInvoke(new Invoke(row, z, c), null);
+    }
+
+    /**
+     * Invokes closures for a batch of rows. Each operation starts from the leaf page visited by the previous one
+     * and descends from the root only if the row doesn't belong to that leaf or the operation requires a split or
+     * a merge. Puts of consecutive rows, which land on the same leaf page, are applied under a single write lock of
+     * the leaf with a single WAL delta record, the rest of the puts fall back to the regular put operation. So rows
+     * sorted in the tree order are processed without touching the root and inner pages. Unsorted rows are processed
+     * correctly, but they don't benefit from the batch.
+     * <p>
+     * Rows must be unique and protected from concurrent updates by the caller, because closures are called before
+     * puts of the batch are applied.
+     *
+     * @param rows Rows sorted in the tree order.
+     * @param z Implementation specific argument.
+     * @param clos Closures, one for each row.
+     * @param postInvoke Consumer of the row index, called when the operation for the row is finished, or {@code null}.
+     * @throws IgniteCheckedException If failed.
+     * @see #invoke(Object, Object, InvokeClosure)
+     */
+    public void invokeAll(
+        List<L> rows,
+        Object z,
+        List<? extends InvokeClosure<T>> clos,
+        @Nullable IgniteThrowableConsumer<Integer> postInvoke
+    ) throws IgniteCheckedException {
+        assert rows.size() == clos.size() : "rows=" + rows.size() + ", clos=" + clos.size();
+
+        checkDestroyed();
+
+        Invoke prev = null;
+
+        BatchPut batch = null;
+
+        try {
+            for (int i = 0; i < rows.size(); i++) {
+                Invoke x = new Invoke(rows.get(i), z, clos.get(i));
+
+                x.deferPut = true;
+
+                doInvoke(x, prev);
+
+                if (x.isPutDeferred()) {
+                    if (batch != null && batch.leafId != x.leafId) {
+                        doPutAll(batch, postInvoke);
+
+                        batch = null;
+                    }
+
+                    if (batch == null)
+                        batch = new BatchPut(x.leafId, x.leafFwdId, x.rmvId);
+
+                    batch.add(i, x.clo.newRow());
+                }
+                else if (postInvoke != null)
+                    postInvoke.accept(i);
+
+                prev = x;
+            }
+        }
+        finally {
+            // Closures of the deferred puts have been called, so the puts must be applied even if a closure failed.
+            if (batch != null && batch.done == null)
+                doPutAll(batch, postInvoke);
+        }
+    }
+
+    /**
+     * @param b Puts of the batch.
+     * @param postInvoke Consumer of the row index, called when the put of the row is finished, or {@code null}.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void doPutAll(BatchPut b, @Nullable IgniteThrowableConsumer<Integer> postInvoke)
+        throws IgniteCheckedException {
+        b.done = new boolean[b.rows.size()];
+
+        try {
+            write(b.leafId, putAllIntoLeaf, b, 0, RETRY, statisticsHolder());
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteCheckedException("Runtime failure on batch put to the leaf: " + U.hexLong(b.leafId), e);
+        }
+        catch (RuntimeException | AssertionError e) {
+            throw corruptedTreeException("Runtime failure on batch put to the leaf", e, grpId, b.leafId);
+        }
+        finally {
+            checkDestroyed();
+        }
+
+        for (int i = 0; i < b.rows.size(); i++) {
+            if (!b.done[i])
+                doPut(b.rows.get(i), false);
+
+            if (postInvoke != null)
+                postInvoke.accept(b.idxs.get(i));
+        }
+    }
+
+    /**
+     * @param x Invoke operation.
+     * @param prev Previous operation of the batch to start from its leaf page or {@code null} to start from the root.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void doInvoke(Invoke x, @Nullable Invoke prev) throws IgniteCheckedException {
+        L row = x.row;
+
+        boolean fromLeaf = prev != null && prev.leafId != 0L;
 
         try {
             for (;;) {
                 x.init();
 
-                Result res = invokeDown(x, x.rootId, 0L, 0L, x.rootLvl);
+                Result res;
+
+                if (fromLeaf) {
+                    fromLeaf = false;
+
+                    x.fromLeaf = true;
+
+                    res = invokeDown(x, prev.leafId, 0L, prev.leafFwdId, 0);
+                }
+                else
+                    res = invokeDown(x, x.rootId, 0L, 0L, x.rootLvl);
 
                 switch (res) {
                     case RETRY:
@@ -2243,8 +2447,11 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
                         return res;
 
                     case NOT_FOUND:
-                        if (lvl == 0)
+                        if (lvl == 0) {
+                            x.leaf(pageId, fwdId);
+
                             x.invokeClosure();
+                        }
 
                         // Level must be equal to bottom level. This is the place when we would insert values into
                         // parent nodes during splits.
@@ -2258,6 +2465,8 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
                         // Item can only be found in the leaf page.
                         assert lvl == 0 : "Invoke found an item in an inner node instead of going down: lvl=" + lvl;
 
+                        x.leaf(pageId, fwdId);
+
                         x.invokeClosure();
 
                         return x.onFound(pageId, page, backId, fwdId, lvl);
@@ -2719,6 +2928,20 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         lockedPages.descendingIterator().forEachRemaining(t -> writeLock(t.get1(), t.get2()));
     }
 
+    /**
+     * Called by the forward cursor before rows of the leaf page are read. Allows to request read ahead of the pages
+     * which are going to be accessed by the cursor.
+     *
+     * @param pageAddr Leaf page address.
+     * @param io Leaf page IO.
+     * @param startIdx Index of the first row to read.
+     * @param cnt Index next to the last row to read.
+     * @param nextPageId ID of the next leaf page to read or {@code 0} if this page is the last one.
+     */
+    protected void onForwardCursorPage(long pageAddr, BPlusIO<L> io, int startIdx, int cnt, long nextPageId) {
+        // No-op.
+    }
+
     /**
      * Maximum time for which tree destroy process is allowed to hold the lock, after this time exceeds,
      * {@link BPlusTree#temporaryReleaseLock()} is called and hold time is reset.
@@ -3142,6 +3365,12 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         /** Ignore row passed, find last row */
         boolean findLast;
 
+        /**
+         * Operation is started from the leaf page visited by the previous operation of the batch instead of the root.
+         * The operation is restarted from the root if it can't be finished on the leaf.
+         */
+        boolean fromLeaf;
+
         /** Number of repetitions to capture a lock in the B+Tree (countdown). */
         int lockRetriesCnt = getLockRetries();
 
@@ -3167,6 +3396,7 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
             backId = g.backId;
             shift = g.shift;
             findLast = g.findLast;
+            fromLeaf = g.fromLeaf;
         }
 
         /**
@@ -3191,6 +3421,8 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
             this.rootId = rootId;
             this.rootLvl = rootLvl;
             this.rmvId = rmvId;
+
+            fromLeaf = false;
         }
 
         /**
@@ -3848,6 +4080,15 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         /** */
         Update op;
 
+        /** Leaf page where the row was found or not found. */
+        long leafId;
+
+        /** Expected forward page ID of the leaf page. */
+        long leafFwdId;
+
+        /** Put must not be applied, it is applied by the batch. */
+        boolean deferPut;
+
         /**
          * @param row Row.
          * @param x Implementation specific argument.
@@ -3929,6 +4170,15 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
             return false;
         }
 
+        /**
+         * @param leafId Leaf page where the row was found or not found.
+         * @param leafFwdId Expected forward page ID of the leaf page.
+         */
+        private void leaf(long leafId, long leafFwdId) {
+            this.leafId = leafId;
+            this.leafFwdId = leafFwdId;
+        }
+
         /**
          * @throws IgniteCheckedException If failed.
          */
@@ -3946,6 +4196,9 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
 
                     assert newRow != null;
 
+                    if (deferPut)
+                        return;
+
                     op = new Put(newRow, false);
 
                     break;
@@ -3981,6 +4234,13 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
             return op.canRelease(pageId, lvl);
         }
 
+        /**
+         * @return {@code true} If the closure requested a put, which was deferred to the batch.
+         */
+        private boolean isPutDeferred() {
+            return deferPut && op == null && closureInvoked == DONE && clo.operationType() == IgniteTree.OperationType.PUT;
+        }
+
         /**
          * @return {@code true} If it is a {@link Put} operation internally.
          */
@@ -4094,6 +4354,49 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Puts of the batch invoke operation, which landed on the same leaf page.
+     */
+    private final class BatchPut {
+        /** Leaf page ID. */
+        final long leafId;
+
+        /** Expected forward page ID of the leaf page. */
+        final long fwdId;
+
+        /** Remove ID to be afraid of. */
+        final long rmvId;
+
+        /** Indexes of the rows in the batch. */
+        final List<Integer> idxs = new ArrayList<>();
+
+        /** New rows. */
+        final List<T> rows = new ArrayList<>();
+
+        /** Flags of the rows put into the leaf page, {@code null} if the puts have not been applied yet. */
+        boolean[] done;
+
+        /**
+         * @param leafId Leaf page ID.
+         * @param fwdId Expected forward page ID of the leaf page.
+         * @param rmvId Remove ID to be afraid of.
+         */
+        private BatchPut(long leafId, long fwdId, long rmvId) {
+            this.leafId = leafId;
+            this.fwdId = fwdId;
+            this.rmvId = rmvId;
+        }
+
+        /**
+         * @param idx Index of the row in the batch.
+         * @param row New row.
+         */
+        void add(int idx, T row) {
+            idxs.add(idx);
+            rows.add(row);
+        }
+    }
+
     /**
      * Update operation. Has basic operations for {@link Tail} support.
      */
@@ -5712,6 +6015,8 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
             if (cnt0 == 0)
                 return false;
 
+            onForwardCursorPage(pageAddr, io, startIdx, cnt, nextPageId);
+
             if (rows == EMPTY)
                 rows = (T[])new Object[cnt0];
 
@@ -6028,6 +6333,13 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         return IoStatisticsHolderNoOp.INSTANCE;
     }
 
+    /**
+     * @return Flags to write to the meta page of the new tree.
+     */
+    protected long metaPageFlags() {
+        return BPlusMetaIO.DEFAULT_FLAGS;
+    }
+
     /**
      * PageIds converter with empty check.
      *
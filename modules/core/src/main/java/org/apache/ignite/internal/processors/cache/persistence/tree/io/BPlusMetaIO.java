@@ -64,6 +64,9 @@ public class BPlusMetaIO extends PageIO {
     /** */
     private static final long FLAG_INLINE_OBJECT_HASH = 4L;
 
+    /** */
+    public static final long FLAG_INLINE_PREFIX_COMPRESSION = 8L;
+
     /** */
     public static final long DEFAULT_FLAGS = FLAG_UNWRAPPED_PK | FLAG_INLINE_OBJECT_SUPPORTED | FLAG_INLINE_OBJECT_HASH;
 
@@ -255,6 +258,17 @@ public class BPlusMetaIO extends PageIO {
         return (flags(pageAddr) & FLAG_INLINE_OBJECT_HASH) != 0L;
     }
 
+    /**
+     * Whether leaf pages of the tree store inlined keys with the page prefix compression.
+     *
+     * @param pageAddr Page address.
+     */
+    public boolean inlinePrefixCompression(long pageAddr) {
+        assert supportFlags();
+
+        return (flags(pageAddr) & FLAG_INLINE_PREFIX_COMPRESSION) != 0L;
+    }
+
     /**
      * @return {@code true} If flags are supported.
      */
@@ -321,18 +335,21 @@ public class BPlusMetaIO extends PageIO {
      * @param unwrappedPk unwrapped primary key of this tree flag.
      * @param inlineObjSupported inline POJO by created tree flag.
      * @param inlineObjHash Whether Java objects should be inlined as hash or as bytes array.
+     * @param inlinePrefixCompression Whether leaf pages store inlined keys with the page prefix compression.
      */
     public void setFlags(
         long pageAddr,
         boolean unwrappedPk,
         boolean inlineObjSupported,
-        boolean inlineObjHash) {
+        boolean inlineObjHash,
+        boolean inlinePrefixCompression) {
         assert supportFlags();
         assertPageType(pageAddr);
 
         long flags = unwrappedPk ? FLAG_UNWRAPPED_PK : 0;
         flags |= inlineObjSupported ? FLAG_INLINE_OBJECT_SUPPORTED : 0;
         flags |= inlineObjHash ? FLAG_INLINE_OBJECT_HASH : 0;
+        flags |= inlinePrefixCompression ? FLAG_INLINE_PREFIX_COMPRESSION : 0;
 
         PageUtils.putLong(pageAddr, FLAGS_OFFSET, flags);
     }
@@ -378,7 +395,7 @@ public class BPlusMetaIO extends PageIO {
 
         ioNew.setInlineSize(pageAddr, inlineSize);
         ioNew.setCreatedVersion(pageAddr, IgniteVersionUtils.VER);
-        ioNew.setFlags(pageAddr, unwrappedPk, inlineObjSupported, false);
+        ioNew.setFlags(pageAddr, unwrappedPk, inlineObjSupported, false, false);
     }
 
     /**
@@ -388,17 +405,19 @@ public class BPlusMetaIO extends PageIO {
      * @param unwrappedPk Unwrap PK flag.
      * @param inlineObjSupported Supports inline object flag.
      * @param inlineObjHash Supports inline object hash flag.
+     * @param inlinePrefixCompression Inline prefix compression flag.
      */
     public static void setValues(
         long pageAddr,
         int inlineSize,
         boolean unwrappedPk,
         boolean inlineObjSupported,
-        boolean inlineObjHash
+        boolean inlineObjHash,
+        boolean inlinePrefixCompression
     ) {
         BPlusMetaIO ioNew = VERSIONS.latest();
 
         ioNew.setInlineSize(pageAddr, inlineSize);
-        ioNew.setFlags(pageAddr, unwrappedPk, inlineObjSupported, inlineObjHash);
+        ioNew.setFlags(pageAddr, unwrappedPk, inlineObjSupported, inlineObjHash, inlinePrefixCompression);
     }
 }
@@ -21,6 +21,9 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.hash.io.HashIndexBucketIO;
+import org.apache.ignite.internal.cache.query.index.hash.io.HashIndexDirectoryIO;
+import org.apache.ignite.internal.cache.query.index.hash.io.HashIndexMetaIO;
 import org.apache.ignite.internal.metric.IndexPageType;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagemem.PageIdUtils;
@@ -226,6 +229,15 @@ public abstract class PageIO {
     /** */
     public static final short T_DEFRAG_LINK_MAPPING_LEAF = 35;
 
+    /** */
+    public static final short T_HASH_INDEX_META = 36;
+
+    /** */
+    public static final short T_HASH_INDEX_DIR = 37;
+
+    /** */
+    public static final short T_HASH_INDEX_BUCKET = 38;
+
     /** Index for payload == 1. */
     public static final short T_H2_EX_REF_LEAF_START = 10_000;
 
@@ -567,6 +579,9 @@ public abstract class PageIO {
      * @param pageType Page type (can be obtained by {@link #getType(long)} or {@link #getType(ByteBuffer)} methods).
      */
     public static boolean isIndexPage(int pageType) {
+        if (pageType == T_HASH_INDEX_META || pageType == T_HASH_INDEX_DIR || pageType == T_HASH_INDEX_BUCKET)
+            return true;
+
         if (T_H2_EX_REF_LEAF_START <= pageType && pageType <= T_H2_EX_REF_LEAF_END)
             return true;
 
@@ -637,6 +652,15 @@ public abstract class PageIO {
             case T_DATA_PART:
                 return (Q)SimpleDataPageIO.VERSIONS.forVersion(ver);
 
+            case T_HASH_INDEX_META:
+                return (Q)HashIndexMetaIO.VERSIONS.forVersion(ver);
+
+            case T_HASH_INDEX_DIR:
+                return (Q)HashIndexDirectoryIO.VERSIONS.forVersion(ver);
+
+            case T_HASH_INDEX_BUCKET:
+                return (Q)HashIndexBucketIO.VERSIONS.forVersion(ver);
+
             default:
                 if (testIO != null) {
                     if (testIO.type == type && testIO.ver == ver)
@@ -749,11 +773,13 @@ public abstract class PageIO {
             case T_DATA_REF_INNER:
             case T_H2_REF_INNER:
             case T_CACHE_ID_AWARE_DATA_REF_INNER:
+            case T_HASH_INDEX_DIR:
                 return IndexPageType.INNER;
 
             case T_DATA_REF_LEAF:
             case T_H2_REF_LEAF:
             case T_CACHE_ID_AWARE_DATA_REF_LEAF:
+            case T_HASH_INDEX_BUCKET:
                 return IndexPageType.LEAF;
 
             default:
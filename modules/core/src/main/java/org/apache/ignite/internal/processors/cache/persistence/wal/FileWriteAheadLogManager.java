@@ -71,6 +71,8 @@ import org.apache.ignite.internal.IgniteInterruptedCheckedException;
 import org.apache.ignite.internal.managers.eventstorage.GridEventStorageManager;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.CompressedDataEntry;
+import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
 import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
 import org.apache.ignite.internal.pagemem.wal.record.MarshalledRecord;
 import org.apache.ignite.internal.pagemem.wal.record.MemoryRecoveryRecord;
@@ -79,6 +81,8 @@ import org.apache.ignite.internal.pagemem.wal.record.RolloverType;
 import org.apache.ignite.internal.pagemem.wal.record.SwitchSegmentRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PageDeltaRecord;
+import org.apache.ignite.internal.processors.cache.CacheObject;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedManagerAdapter;
 import org.apache.ignite.internal.processors.cache.WalStateManager.WALDisableContext;
@@ -141,6 +145,7 @@ import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_TRIGGER
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_THRESHOLD_WAIT_TIME_NEXT_WAL_SEGMENT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_THRESHOLD_WAL_ARCHIVE_SIZE_PERCENTAGE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_DATA_RECORD_COMPRESSION_THRESHOLD;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_MMAP;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_SERIALIZER_VERSION;
 import static org.apache.ignite.IgniteSystemProperties.getDouble;
@@ -190,6 +195,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     /** @see IgniteSystemProperties#IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT */
     public static final int DFLT_WAL_COMPRESSOR_WORKER_THREAD_CNT = 4;
 
+    /** @see IgniteSystemProperties#IGNITE_WAL_DATA_RECORD_COMPRESSION_THRESHOLD */
+    public static final int DFLT_WAL_DATA_RECORD_COMPRESSION_THRESHOLD = 1024;
+
     /** @see IgniteSystemProperties#IGNITE_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE */
     public static final double DFLT_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE = 0.25;
 
@@ -372,6 +380,12 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     /** Page snapshot records compression level. */
     private int pageCompressionLevel;
 
+    /**
+     * Min size of the data entry value compressed with {@link #pageCompression} algorithm, {@code 0} if data entries
+     * are not compressed.
+     */
+    private int dataEntryCompressionThreshold;
+
     /**
      * Local segment sizes: absolute segment index -> size in bytes.
      * For segments from {@link #ft} and {@link #ft#walArchiveFiles()}.
@@ -562,6 +576,11 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     cctx.kernalContext().compress().checkPageCompressionSupported();
 
                 pageCompressionLevel = getCompressionLevel(dsCfg.getWalPageCompressionLevel(), pageCompression);
+
+                if (pageCompression != DiskPageCompression.SKIP_GARBAGE) {
+                    dataEntryCompressionThreshold = IgniteSystemProperties.getInteger(
+                        IGNITE_WAL_DATA_RECORD_COMPRESSION_THRESHOLD, DFLT_WAL_DATA_RECORD_COMPRESSION_THRESHOLD);
+                }
             }
         }
     }
@@ -904,6 +923,10 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             }
         }
 
+        // Do data entries compression if configured.
+        if (dataEntryCompressionThreshold > 0 && rec.type() == DATA_RECORD_V2)
+            rec = compressDataRecord((DataRecord)rec);
+
         // Need to calculate record size first.
         rec.size(serializer.size(rec));
 
@@ -960,6 +983,58 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
         }
     }
 
+    /**
+     * @param rec Data record.
+     * @return Data record with compressed values of the large entries or the given record if no entry was compressed.
+     * @throws IgniteCheckedException If failed.
+     */
+    private DataRecord compressDataRecord(DataRecord rec) throws IgniteCheckedException {
+        int entryCnt = rec.entryCount();
+
+        List<DataEntry> entries = null;
+
+        for (int i = 0; i < entryCnt; i++) {
+            DataEntry entry = rec.get(i);
+            DataEntry compressed = compressDataEntry(entry);
+
+            if (entries == null && compressed != entry) {
+                entries = new ArrayList<>(entryCnt);
+
+                for (int j = 0; j < i; j++)
+                    entries.add(rec.get(j));
+            }
+
+            if (entries != null)
+                entries.add(compressed);
+        }
+
+        return entries == null ? rec : new DataRecord(entries, rec.timestamp());
+    }
+
+    /**
+     * @param entry Data entry.
+     * @return Entry with compressed value or the given entry if the value is too small or not compressible.
+     * @throws IgniteCheckedException If failed.
+     */
+    private DataEntry compressDataEntry(DataEntry entry) throws IgniteCheckedException {
+        CacheObject val = entry.value();
+
+        GridCacheContext<?, ?> cacheCtx = cctx.cacheContext(entry.cacheId());
+
+        if (val == null || cacheCtx == null)
+            return entry;
+
+        byte[] valBytes = val.valueBytes(cacheCtx.cacheObjectContext());
+
+        if (valBytes.length < dataEntryCompressionThreshold)
+            return entry;
+
+        byte[] compressedVal = cctx.kernalContext().compress().compressValue(valBytes, pageCompression,
+            pageCompressionLevel);
+
+        return compressedVal == null ? entry : new CompressedDataEntry(entry, compressedVal);
+    }
+
     /** */
     private FileWriteHandle closeBufAndRollover(
         FileWriteHandle currWriteHandle,
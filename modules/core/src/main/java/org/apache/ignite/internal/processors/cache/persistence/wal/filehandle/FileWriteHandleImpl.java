@@ -29,7 +29,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
@@ -101,7 +100,7 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
     protected final AtomicBoolean stop = new AtomicBoolean(false);
 
     /** */
-    private final Lock lock = new ReentrantLock();
+    private final ReentrantLock lock = new ReentrantLock();
 
     /** Condition for timed wait of several threads, see {@link DataStorageConfiguration#getWalFsyncDelayNanos()}. */
     private final Condition fsync = lock.newCondition();
@@ -121,6 +120,9 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
     /** Fsync delay. */
     private final long fsyncDelay;
 
+    /** Group commit window, guarded by {@link #lock}. */
+    private final FsyncWindow fsyncWindow;
+
     /** Persistence metrics tracker. */
     private final DataStorageMetricsImpl metrics;
 
@@ -166,6 +168,7 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
         this.mmap = mmap;
         this.mode = mode;
         this.fsyncDelay = fsyncDelay;
+        this.fsyncWindow = new FsyncWindow(fsyncDelay);
         this.metrics = metrics;
         this.maxWalSegmentSize = maxWalSegmentSize;
         this.log = cctx.logger(FileWriteHandleImpl.class);
@@ -367,6 +370,12 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
      * @throws StorageException If failed.
      */
     @Override public void fsync(WALPointer ptr) throws StorageException, IgniteCheckedException {
+        boolean metricsEnabled = metrics.metricsEnabled();
+
+        long reqStart = metricsEnabled ? System.nanoTime() : 0;
+
+        boolean waiting = false;
+
         lock.lock();
 
         try {
@@ -374,9 +383,15 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
                 if (!needFsync(ptr))
                     return;
 
-                if (fsyncDelay > 0 && !stop.get()) {
+                waiting = true;
+
+                fsyncWindow.onFsyncRequested();
+
+                long delay = fsyncWindow.delay(lock.hasQueuedThreads());
+
+                if (delay > 0 && !stop.get()) {
                     // Delay fsync to collect as many updates as possible: trade latency for throughput.
-                    U.await(fsync, fsyncDelay, TimeUnit.NANOSECONDS);
+                    U.await(fsync, delay, TimeUnit.NANOSECONDS);
 
                     if (!needFsync(ptr))
                         return;
@@ -395,9 +410,7 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
                 // Fsync position must be behind.
                 assert lastFsyncPos0 < written0 : "lastFsyncPos=" + lastFsyncPos0 + ", written=" + written0;
 
-                boolean metricsEnabled = metrics.metricsEnabled();
-
-                long start = metricsEnabled ? System.nanoTime() : 0;
+                long start = System.nanoTime();
 
                 if (mmap) {
                     long pos = ptr == null ? -1 : ptr.fileOffset();
@@ -418,14 +431,24 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
                 if (fsyncDelay > 0)
                     fsync.signalAll();
 
-                long end = metricsEnabled ? System.nanoTime() : 0;
+                long end = System.nanoTime();
+
+                int batch = fsyncWindow.onFsync(end - start);
 
-                if (metricsEnabled)
+                if (metricsEnabled) {
                     metrics.onFsync(end - start);
+
+                    // Fsync isn't requested by committers if the segment is closed or switched.
+                    if (batch > 0)
+                        metrics.onFsyncBatch(batch);
+                }
             }
         }
         finally {
             lock.unlock();
+
+            if (waiting && metricsEnabled)
+                metrics.onFsyncWait(System.nanoTime() - reqStart);
         }
     }
 
@@ -24,7 +24,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
@@ -88,7 +87,7 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
     private final AtomicBoolean stop = new AtomicBoolean(false);
 
     /** */
-    private final Lock lock = new ReentrantLock();
+    private final ReentrantLock lock = new ReentrantLock();
 
     /** Condition activated each time writeBuffer() completes. Used to wait previously flushed write to complete */
     private final Condition writeComplete = lock.newCondition();
@@ -120,6 +119,9 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
     /** Fsync delay. */
     private final long fsyncDelay;
 
+    /** Group commit window, guarded by {@link #lock}. */
+    private final FsyncWindow fsyncWindow;
+
     /** Switch segment record offset. */
     private int switchSegmentRecordOffset;
 
@@ -163,6 +165,7 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
         this.metrics = metrics;
         this.log = cctx.logger(FsyncFileWriteHandle.class);
         this.fsyncDelay = fsyncDelay;
+        this.fsyncWindow = new FsyncWindow(fsyncDelay);
         this.maxSegmentSize = maxSegmentSize;
         this.serializer = serializer;
         this.written = pos;
@@ -566,6 +569,12 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
      * @throws IgniteInterruptedCheckedException If interrupted.
      */
     protected void fsync(WALPointer ptr, boolean stop) throws StorageException, IgniteInterruptedCheckedException {
+        boolean metricsEnabled = metrics.metricsEnabled();
+
+        long reqStart = metricsEnabled ? System.nanoTime() : 0;
+
+        boolean waiting = false;
+
         lock.lock();
 
         try {
@@ -573,9 +582,15 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
                 if (!needFsync(ptr))
                     return;
 
-                if (fsyncDelay > 0 && !stopped()) {
+                waiting = true;
+
+                fsyncWindow.onFsyncRequested();
+
+                long delay = fsyncWindow.delay(lock.hasQueuedThreads());
+
+                if (delay > 0 && !stopped()) {
                     // Delay fsync to collect as many updates as possible: trade latency for throughput.
-                    U.await(fsync, fsyncDelay, TimeUnit.NANOSECONDS);
+                    U.await(fsync, delay, TimeUnit.NANOSECONDS);
 
                     if (!needFsync(ptr))
                         return;
@@ -590,9 +605,7 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
             if (lastFsyncPos != written) {
                 assert lastFsyncPos < written; // Fsync position must be behind.
 
-                boolean metricsEnabled = metrics.metricsEnabled();
-
-                long start = metricsEnabled ? System.nanoTime() : 0;
+                long start = System.nanoTime();
 
                 try {
                     fileIO.force();
@@ -606,14 +619,24 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
                 if (fsyncDelay > 0)
                     fsync.signalAll();
 
-                long end = metricsEnabled ? System.nanoTime() : 0;
+                long end = System.nanoTime();
+
+                int batch = fsyncWindow.onFsync(end - start);
 
-                if (metricsEnabled)
+                if (metricsEnabled) {
                     metrics.onFsync(end - start);
+
+                    // Fsync isn't requested by committers if the segment is closed or switched.
+                    if (batch > 0)
+                        metrics.onFsyncBatch(batch);
+                }
             }
         }
         finally {
             lock.unlock();
+
+            if (waiting && metricsEnabled)
+                metrics.onFsyncWait(System.nanoTime() - reqStart);
         }
     }
 
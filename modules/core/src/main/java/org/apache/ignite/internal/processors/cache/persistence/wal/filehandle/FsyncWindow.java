@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.filehandle;
+
+import org.apache.ignite.configuration.DataStorageConfiguration;
+
+/**
+ * Group commit window of WAL fsync. Threads, requesting fsync of the WAL pointer, wait for the window to let
+ * concurrent committers join the same fsync. The window adapts to the observed fsync latency of the device: it makes
+ * no sense to wait longer than the fsync itself takes, and it makes no sense to wait without concurrent committers.
+ * <p>
+ * Not thread safe, should be used under the lock of the file handle.
+ */
+class FsyncWindow {
+    /** Weight of the last observed fsync duration in the moving average, as a right shift (1/8). */
+    private static final int EWMA_SHIFT = 3;
+
+    /** Max window, see {@link DataStorageConfiguration#getWalFsyncDelayNanos()}. */
+    private final long maxDelay;
+
+    /** Moving average of fsync duration in nanoseconds. */
+    private long avgFsyncNanos;
+
+    /** Count of committers waiting for the next fsync. */
+    private int pending;
+
+    /**
+     * @param maxDelay Max window in nanoseconds.
+     */
+    FsyncWindow(long maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * @param concurrent {@code True} if there are concurrent committers.
+     * @return Time in nanoseconds to wait for concurrent committers before fsync.
+     */
+    long delay(boolean concurrent) {
+        if (maxDelay <= 0 || (!concurrent && pending <= 1))
+            return 0;
+
+        return avgFsyncNanos == 0 ? maxDelay : Math.min(maxDelay, avgFsyncNanos);
+    }
+
+    /** Registers committer waiting for fsync. */
+    void onFsyncRequested() {
+        pending++;
+    }
+
+    /**
+     * @param durationNanos Fsync duration in nanoseconds.
+     * @return Count of committers served by the fsync.
+     */
+    int onFsync(long durationNanos) {
+        int batch = pending;
+
+        pending = 0;
+
+        avgFsyncNanos = avgFsyncNanos == 0 ? durationNanos :
+            avgFsyncNanos + ((durationNanos - avgFsyncNanos) >> EWMA_SHIFT);
+
+        return batch;
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.reader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteInterruptedException;
+import org.apache.ignite.internal.IgniteInterruptedCheckedException;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.lang.GridIteratorAdapter;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.thread.IgniteThread;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Decorator of {@link WALIterator} which reads and decodes records of the delegate iterator ahead in a dedicated
+ * thread. Records are returned in the same order as they are returned by the delegate, so the caller can dispatch
+ * records (for example, to the striped executor) while the next records are being read and deserialized.
+ */
+public class ReadAheadWalIterator extends GridIteratorAdapter<IgniteBiTuple<WALPointer, WALRecord>>
+    implements WALIterator {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Count of records passed between threads at once. */
+    private static final int BATCH_SIZE = 256;
+
+    /** Batch offer timeout in milliseconds, used to check stop flag periodically. */
+    private static final long OFFER_TIMEOUT = 100;
+
+    /** Marker of the end of the delegate iterator. */
+    private static final Batch END = new Batch(Collections.emptyList(), null, null);
+
+    /** Source WAL iterator. */
+    private final WALIterator delegate;
+
+    /** Batches read ahead. */
+    private final BlockingQueue<Batch> queue;
+
+    /** Reader thread. */
+    private final IgniteThread reader;
+
+    /** Stop flag for reader thread. */
+    private volatile boolean stopped;
+
+    /** Current batch. */
+    private Batch cur;
+
+    /** Position of the next record in the current batch. */
+    private int pos;
+
+    /** Pointer to the last record returned by {@link #next()}. */
+    private Optional<WALPointer> lastRead = Optional.empty();
+
+    /**
+     * @param delegate Source WAL iterator.
+     * @param igniteInstanceName Ignite instance name.
+     * @param readAhead Count of records to read ahead.
+     */
+    public ReadAheadWalIterator(WALIterator delegate, @Nullable String igniteInstanceName, int readAhead) {
+        assert readAhead > 0 : readAhead;
+
+        this.delegate = delegate;
+
+        queue = new ArrayBlockingQueue<>(Math.max(1, readAhead / BATCH_SIZE));
+
+        reader = new IgniteThread(igniteInstanceName, "wal-read-ahead", this::readAll);
+
+        reader.start();
+    }
+
+    /** Reads records of the delegate iterator until the end or until stopped. */
+    private void readAll() {
+        List<IgniteBiTuple<WALPointer, WALRecord>> recs = new ArrayList<>(BATCH_SIZE);
+        Optional<WALPointer> lastReadPtr = Optional.empty();
+
+        try {
+            while (!stopped && delegate.hasNextX()) {
+                recs.add(delegate.nextX());
+
+                lastReadPtr = delegate.lastRead();
+
+                if (recs.size() == BATCH_SIZE) {
+                    if (!offer(new Batch(recs, lastReadPtr, null)))
+                        return;
+
+                    recs = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+
+            if (!recs.isEmpty() && !offer(new Batch(recs, lastReadPtr, null)))
+                return;
+
+            offer(END);
+        }
+        catch (Throwable e) {
+            // Records read before the error are returned first.
+            offer(new Batch(recs, lastReadPtr, e));
+
+            if (e instanceof Error)
+                throw (Error)e;
+        }
+    }
+
+    /**
+     * @param batch Batch.
+     * @return {@code False} if iterator is stopped.
+     */
+    private boolean offer(Batch batch) {
+        try {
+            while (!stopped) {
+                if (queue.offer(batch, OFFER_TIMEOUT, TimeUnit.MILLISECONDS))
+                    return true;
+            }
+        }
+        catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Optional<WALPointer> lastRead() {
+        return lastRead;
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteBiTuple<WALPointer, WALRecord> nextX() throws IgniteCheckedException {
+        if (!hasNextX())
+            throw new NoSuchElementException();
+
+        IgniteBiTuple<WALPointer, WALRecord> rec = cur.recs.get(pos++);
+
+        lastRead = Optional.of(rec.get1());
+
+        // Pointer of the delegate may differ from the record position if the delegate filters records.
+        if (pos == cur.recs.size() && cur.lastRead != null)
+            lastRead = cur.lastRead;
+
+        return rec;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean hasNextX() throws IgniteCheckedException {
+        while (cur == null || pos == cur.recs.size()) {
+            if (cur == END)
+                return false;
+
+            if (cur != null && cur.err != null) {
+                Throwable err = cur.err;
+
+                cur = END;
+
+                if (err instanceof IgniteCheckedException)
+                    throw (IgniteCheckedException)err;
+
+                if (err instanceof IgniteInterruptedException)
+                    throw new IgniteInterruptedCheckedException(err.getMessage());
+
+                throw new IgniteCheckedException("Failed to read WAL record", err);
+            }
+
+            try {
+                cur = queue.take();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new IgniteInterruptedCheckedException(e);
+            }
+
+            pos = 0;
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void removeX() throws IgniteCheckedException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() throws IgniteCheckedException {
+        stopped = true;
+
+        queue.clear();
+
+        U.join(reader, null);
+
+        delegate.close();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isClosed() {
+        return delegate.isClosed();
+    }
+
+    /** Records passed from reader thread. */
+    private static class Batch {
+        /** Records. */
+        private final List<IgniteBiTuple<WALPointer, WALRecord>> recs;
+
+        /** Last read pointer of the delegate after the last record of the batch. */
+        @Nullable private final Optional<WALPointer> lastRead;
+
+        /** Read error, thrown after records of the batch are returned. */
+        @Nullable private final Throwable err;
+
+        /** */
+        private Batch(
+            List<IgniteBiTuple<WALPointer, WALRecord>> recs,
+            @Nullable Optional<WALPointer> lastRead,
+            @Nullable Throwable err
+        ) {
+            this.recs = recs;
+            this.lastRead = lastRead;
+            this.err = err;
+        }
+    }
+}
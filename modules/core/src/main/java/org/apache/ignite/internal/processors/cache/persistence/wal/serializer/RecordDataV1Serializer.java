@@ -40,6 +40,7 @@ import org.apache.ignite.internal.pagemem.wal.record.CacheState;
 import org.apache.ignite.internal.pagemem.wal.record.CdcManagerRecord;
 import org.apache.ignite.internal.pagemem.wal.record.CdcManagerStopRecord;
 import org.apache.ignite.internal.pagemem.wal.record.CheckpointRecord;
+import org.apache.ignite.internal.pagemem.wal.record.CompressedDataEntry;
 import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
 import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
 import org.apache.ignite.internal.pagemem.wal.record.EncryptedRecord;
@@ -57,6 +58,7 @@ import org.apache.ignite.internal.pagemem.wal.record.TxRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType;
 import org.apache.ignite.internal.pagemem.wal.record.WalRecordCacheGroupAware;
+import org.apache.ignite.internal.pagemem.wal.record.delta.BatchUpdateRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.ClusterSnapshotRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageInsertFragmentRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageInsertRecord;
@@ -66,6 +68,8 @@ import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageUpdateRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixCountRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixLeftmostChildRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixRemoveId;
+import org.apache.ignite.internal.pagemem.wal.record.delta.HashIndexBucketInsertRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.HashIndexBucketRemoveRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.InitNewPageRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.InnerReplaceRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.InsertRecord;
@@ -102,6 +106,7 @@ import org.apache.ignite.internal.pagemem.wal.record.delta.SplitForwardPageRecor
 import org.apache.ignite.internal.pagemem.wal.record.delta.TrackingPageDeltaRecord;
 import org.apache.ignite.internal.processors.cache.CacheObject;
 import org.apache.ignite.internal.processors.cache.CacheObjectContext;
+import org.apache.ignite.internal.processors.cache.CacheObjectUtils;
 import org.apache.ignite.internal.processors.cache.DynamicCacheDescriptor;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.GridCacheOperation;
@@ -505,6 +510,17 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
             case PAGES_LIST_REMOVE_PAGE:
                 return 4 + 8 + 8;
 
+            case HASH_INDEX_BUCKET_INSERT:
+                return 4 + 8 + 4 + 8;
+
+            case HASH_INDEX_BUCKET_REMOVE:
+                return 4 + 8 + 4;
+
+            case BTREE_PAGE_BATCH_UPDATE:
+                BatchUpdateRecord<?> buRec = (BatchUpdateRecord<?>)record;
+
+                return 4 + 8 + 2 + 2 + 2 + buRec.updatesCount() * (1 + 2 + buRec.io().getItemSize());
+
             case TRACKING_PAGE_DELTA:
                 return 4 + 8 + 8 + 8 + 8;
 
@@ -1096,6 +1112,52 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
 
                 break;
 
+            case HASH_INDEX_BUCKET_INSERT:
+                cacheId = in.readInt();
+                pageId = in.readLong();
+                int hash = in.readInt();
+                long hashLink = in.readLong();
+
+                res = new HashIndexBucketInsertRecord(cacheId, pageId, hash, hashLink);
+
+                break;
+
+            case HASH_INDEX_BUCKET_REMOVE:
+                cacheId = in.readInt();
+                pageId = in.readLong();
+                int hashItemIdx = in.readInt();
+
+                res = new HashIndexBucketRemoveRecord(cacheId, pageId, hashItemIdx);
+
+                break;
+
+            case BTREE_PAGE_BATCH_UPDATE:
+                cacheId = in.readInt();
+                pageId = in.readLong();
+
+                ioType = in.readUnsignedShort();
+                ioVer = in.readUnsignedShort();
+                int updCnt = in.readUnsignedShort();
+
+                io = BPlusIO.getBPlusIO(ioType, ioVer);
+
+                BatchUpdateRecord<?> buRec = new BatchUpdateRecord<>(cacheId, pageId, io, updCnt);
+
+                for (int i = 0; i < updCnt; i++) {
+                    boolean insert = in.readByte() != 0;
+                    itemIdx = in.readUnsignedShort();
+
+                    rowBytes = new byte[io.getItemSize()];
+
+                    in.readFully(rowBytes);
+
+                    buRec.add(insert, itemIdx, rowBytes);
+                }
+
+                res = buRec;
+
+                break;
+
             case TRACKING_PAGE_DELTA:
                 cacheId = in.readInt();
                 pageId = in.readLong();
@@ -1748,6 +1810,46 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
 
                 break;
 
+            case HASH_INDEX_BUCKET_INSERT:
+                HashIndexBucketInsertRecord hashInsRec = (HashIndexBucketInsertRecord)rec;
+
+                buf.putInt(hashInsRec.groupId());
+                buf.putLong(hashInsRec.pageId());
+
+                buf.putInt(hashInsRec.hash());
+                buf.putLong(hashInsRec.link());
+
+                break;
+
+            case HASH_INDEX_BUCKET_REMOVE:
+                HashIndexBucketRemoveRecord hashRmvRec = (HashIndexBucketRemoveRecord)rec;
+
+                buf.putInt(hashRmvRec.groupId());
+                buf.putLong(hashRmvRec.pageId());
+
+                buf.putInt(hashRmvRec.index());
+
+                break;
+
+            case BTREE_PAGE_BATCH_UPDATE:
+                BatchUpdateRecord<?> buRec = (BatchUpdateRecord<?>)rec;
+
+                buf.putInt(buRec.groupId());
+                buf.putLong(buRec.pageId());
+
+                buf.putShort((short)buRec.io().getType());
+                buf.putShort((short)buRec.io().getVersion());
+                buf.putShort((short)buRec.updatesCount());
+
+                for (int i = 0; i < buRec.updatesCount(); i++) {
+                    buf.put(buRec.insert(i) ? (byte)1 : 0);
+                    buf.putShort((short)buRec.index(i));
+
+                    putRow(buf, buRec.rowBytes(i));
+                }
+
+                break;
+
             case BTREE_FIX_REMOVE_ID:
                 FixRemoveId frRec = (FixRemoveId)rec;
 
@@ -2007,6 +2109,13 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
 
         if (entry.value() == null)
             buf.putInt(-1);
+        else if (entry instanceof CompressedDataEntry) {
+            byte[] compressedVal = ((CompressedDataEntry)entry).compressedValue();
+
+            buf.putInt(compressedVal.length);
+            buf.put(entry.value().cacheObjectType());
+            buf.put(compressedVal);
+        }
         else if (!entry.value().putValue(buf))
             throw new AssertionError();
 
@@ -2124,6 +2233,12 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
         long expireTime = in.readLong();
         byte flags = type == DATA_RECORD_V2 || type == CDC_DATA_RECORD ? in.readByte() : (byte)0;
 
+        if ((flags & DataEntry.COMPRESSED_VALUE_FLAG) != 0) {
+            valBytes = cctx.kernalContext().compress().decompressValue(valBytes);
+
+            flags &= ~DataEntry.COMPRESSED_VALUE_FLAG;
+        }
+
         GridCacheContext cacheCtx = cctx.cacheContext(cacheId);
 
         if (cacheCtx != null) {
@@ -2321,7 +2436,7 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
         return
             /*cache ID*/4 +
             /*key*/entry.key().valueBytesLength(coCtx) +
-            /*value*/(entry.value() == null ? 4 : entry.value().valueBytesLength(coCtx)) +
+            /*value*/valueSize(entry, coCtx) +
             /*op*/1 +
             /*near xid ver*/CacheVersionIO.size(entry.nearXidVersion(), true) +
             /*write ver*/CacheVersionIO.size(entry.writeVersion(), false) +
@@ -2331,6 +2446,22 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
             /*flags*/1;
     }
 
+    /**
+     * @param entry Data entry.
+     * @param coCtx Cache object context.
+     * @return Size of the written entry value.
+     * @throws IgniteCheckedException If failed to get value bytes length.
+     */
+    private static int valueSize(DataEntry entry, CacheObjectContext coCtx) throws IgniteCheckedException {
+        if (entry.value() == null)
+            return 4;
+
+        if (entry instanceof CompressedDataEntry)
+            return CacheObjectUtils.objectPutSize(((CompressedDataEntry)entry).compressedValue().length);
+
+        return entry.value().valueBytesLength(coCtx);
+    }
+
     /**
      * @param states Partition states.
      * @return Size required to write partition states.
@@ -22,8 +22,10 @@ import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapter;
 import org.apache.ignite.internal.processors.cache.persistence.CacheSearchRow;
 import org.apache.ignite.internal.processors.cache.persistence.RowStore;
+import org.apache.ignite.internal.processors.cache.persistence.blob.PartitionBlobStore;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.FreeList;
 import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.jetbrains.annotations.Nullable;
 
 /**
  *
@@ -60,6 +62,18 @@ public class CacheDataRowStore extends RowStore {
         this.partId = partId;
     }
 
+    /**
+     * @param grp Cache group.
+     * @param freeList Free list.
+     * @param partId Partition number.
+     * @param blobStore Store of the separated values.
+     */
+    public CacheDataRowStore(CacheGroupContext grp, FreeList freeList, int partId, @Nullable PartitionBlobStore blobStore) {
+        super(grp, freeList, blobStore);
+
+        this.partId = partId;
+    }
+
     /**
      * @return Partition Id.
      */
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.tree;
 
 import java.util.Comparator;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagemem.PageUtils;
 import org.apache.ignite.internal.pagemem.store.PageStore;
@@ -45,6 +46,8 @@ import org.jetbrains.annotations.TestOnly;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_SCAN_PREFETCH_PAGES;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.pagemem.PageIdUtils.itemId;
 import static org.apache.ignite.internal.pagemem.PageIdUtils.pageId;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO.T_DATA;
@@ -54,6 +57,9 @@ import static org.apache.ignite.internal.util.GridArrays.clearTail;
  *
  */
 public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
+    /** @see IgniteSystemProperties#IGNITE_SCAN_PREFETCH_PAGES */
+    public static final int DFLT_SCAN_PREFETCH_PAGES = 32;
+
     /** */
     private static final CacheDataRow[] EMPTY_ROWS = {};
 
@@ -70,6 +76,10 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
     /** */
     private final CacheGroupContext grp;
 
+    /** Maximum number of pages read ahead of the data page scan or of the tree cursor leaf page. */
+    private final int scanPrefetchPages =
+        getInteger(IGNITE_SCAN_PREFETCH_PAGES, DFLT_SCAN_PREFETCH_PAGES);
+
     /**
      * @param grp Cache group.
      * @param name Tree name.
@@ -196,6 +206,9 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
             /** */
             int curRow = -1;
 
+            /** Index of the page next to the last page requested to prefetch. */
+            int prefetchPage;
+
             /** {@inheritDoc} */
             @Override public boolean next() throws IgniteCheckedException {
                 if (rows == null)
@@ -227,6 +240,8 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
                         pagesCnt = newPagesCnt;
                     }
 
+                    prefetchIfNeeded();
+
                     long pageId = startPageId + curPage;
                     long page = pageMem.acquirePage(grpId, pageId);
 
@@ -288,6 +303,29 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
                 }
             }
 
+            /**
+             * Requests to read ahead the next pages when less than half of the prefetch window is left before the
+             * current page.
+             */
+            private void prefetchIfNeeded() {
+                if (scanPrefetchPages <= 0 || prefetchPage - curPage > scanPrefetchPages / 2)
+                    return;
+
+                int from = Math.max(prefetchPage, curPage + 1);
+                int to = Math.min(curPage + 1 + scanPrefetchPages, pagesCnt);
+
+                if (from < to) {
+                    long[] pageIds = new long[to - from];
+
+                    for (int i = 0; i < pageIds.length; i++)
+                        pageIds[i] = startPageId + from + i;
+
+                    ((PageMemoryEx)pageMem).prefetchPages(grpId, pageIds, pageIds.length);
+
+                    prefetchPage = to;
+                }
+            }
+
             /** {@inheritDoc} */
             @Override public CacheDataRow get() {
                 return rows[curRow];
@@ -384,6 +422,42 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
         return rowStore.dataRow(cacheId, hash, link, x);
     }
 
+    /** {@inheritDoc} */
+    @Override protected void onForwardCursorPage(
+        long pageAddr,
+        BPlusIO<CacheSearchRow> io,
+        int startIdx,
+        int cnt,
+        long nextPageId
+    ) {
+        if (scanPrefetchPages <= 0 || !grp.persistenceEnabled())
+            return;
+
+        RowLinkIO rowIo = (RowLinkIO)io;
+
+        long[] pageIds = new long[Math.min(cnt - startIdx + 1, scanPrefetchPages)];
+        int n = 0;
+
+        // Next leaf page is read after the rows of this one.
+        if (nextPageId != 0L)
+            pageIds[n++] = nextPageId;
+
+        long prevDataPageId = 0L;
+
+        for (int i = startIdx; i < cnt && n < pageIds.length; i++) {
+            long dataPageId = pageId(rowIo.getLink(pageAddr, i));
+
+            // Rows inserted together are usually stored in the same data page.
+            if (dataPageId != prevDataPageId) {
+                pageIds[n++] = dataPageId;
+
+                prevDataPageId = dataPageId;
+            }
+        }
+
+        ((PageMemoryEx)pageMem).prefetchPages(grpId, pageIds, n);
+    }
+
     /** {@inheritDoc} */
     @Override protected IoStatisticsHolder statisticsHolder() {
         return grp.statisticsHolderIdx();
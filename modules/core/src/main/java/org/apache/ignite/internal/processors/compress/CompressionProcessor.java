@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.compress;
 
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Arrays;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.internal.GridKernalContext;
@@ -30,8 +31,10 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.Compactab
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.configuration.DataStorageConfiguration.MAX_PAGE_SIZE;
+import static org.apache.ignite.configuration.DiskPageCompression.DISABLED;
 import static org.apache.ignite.configuration.DiskPageCompression.SKIP_GARBAGE;
 import static org.apache.ignite.internal.util.GridUnsafe.NATIVE_BYTE_ORDER;
 
@@ -74,6 +77,9 @@ public class CompressionProcessor extends GridProcessorAdapter {
     /** */
     protected static final byte SNAPPY_COMPRESSED_PAGE = 4;
 
+    /** Size of the compressed value header: compression type and uncompressed value size. */
+    public static final int COMPRESSED_VALUE_HEADER_SIZE = 1 + 4;
+
     /** Max page size. */
     private final ThreadLocalDirectByteBuffer compactBuf = new ThreadLocalDirectByteBuffer(MAX_PAGE_SIZE, NATIVE_BYTE_ORDER);
 
@@ -375,4 +381,83 @@ public class CompressionProcessor extends GridProcessorAdapter {
     protected void doDecompressPage(int compressType, ByteBuffer page, int compressedSize, int compactSize) {
         throw new IllegalStateException("Unsupported compression: " + compressType);
     }
+
+    /**
+     * Compresses value bytes. Compressed value starts with the compression type and the uncompressed value size.
+     *
+     * @param val Value bytes.
+     * @param compression Compression algorithm.
+     * @param compressLevel Compression level.
+     * @return Compressed value or {@code null} if compression doesn't reduce the value size.
+     */
+    @Nullable public byte[] compressValue(byte[] val, DiskPageCompression compression, int compressLevel) {
+        assert compression != DISABLED && compression != SKIP_GARBAGE : compression;
+
+        byte[] dst = new byte[COMPRESSED_VALUE_HEADER_SIZE + maxCompressedValueSize(compression, val.length)];
+
+        int compressedSize = doCompressValue(compression, val, dst, COMPRESSED_VALUE_HEADER_SIZE, compressLevel);
+
+        if (COMPRESSED_VALUE_HEADER_SIZE + compressedSize >= val.length)
+            return null;
+
+        dst[0] = getCompressionType(compression);
+        U.intToBytes(val.length, dst, 1);
+
+        return Arrays.copyOf(dst, COMPRESSED_VALUE_HEADER_SIZE + compressedSize);
+    }
+
+    /**
+     * @param val Value bytes compressed by {@link #compressValue}.
+     * @return Uncompressed value bytes.
+     * @throws IgniteCheckedException If failed.
+     */
+    public byte[] decompressValue(byte[] val) throws IgniteCheckedException {
+        assert val.length > COMPRESSED_VALUE_HEADER_SIZE : val.length;
+
+        byte[] dst = new byte[U.bytesToInt(val, 1)];
+
+        doDecompressValue(val[0], val, COMPRESSED_VALUE_HEADER_SIZE, val.length - COMPRESSED_VALUE_HEADER_SIZE, dst);
+
+        return dst;
+    }
+
+    /**
+     * @param compression Compression algorithm.
+     * @param size Value size.
+     * @return Max size of the compressed value.
+     */
+    protected int maxCompressedValueSize(DiskPageCompression compression, int size) {
+        throw new IllegalStateException("Unsupported compression: " + compression);
+    }
+
+    /**
+     * @param compression Compression algorithm.
+     * @param val Value bytes.
+     * @param dst Destination array.
+     * @param dstOff Destination offset.
+     * @param compressLevel Compression level.
+     * @return Compressed size.
+     */
+    protected int doCompressValue(
+        DiskPageCompression compression,
+        byte[] val,
+        byte[] dst,
+        int dstOff,
+        int compressLevel
+    ) {
+        throw new IllegalStateException("Unsupported compression: " + compression);
+    }
+
+    /**
+     * @param compressType Compression type.
+     * @param src Source array.
+     * @param srcOff Offset of the compressed data.
+     * @param srcLen Compressed data length.
+     * @param dst Destination array, its length is equal to the uncompressed value size.
+     * @throws IgniteCheckedException If failed.
+     */
+    protected void doDecompressValue(int compressType, byte[] src, int srcOff, int srcLen, byte[] dst)
+        throws IgniteCheckedException {
+        fail();
+    }
 }
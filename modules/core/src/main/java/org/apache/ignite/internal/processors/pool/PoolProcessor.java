@@ -223,6 +223,10 @@ public class PoolProcessor extends GridProcessorAdapter {
     @GridToStringExclude
     private IgniteThreadPoolExecutor reencryptExecSvc;
 
+    /** Executor to build partition keys filters and data page zone maps in the background. */
+    @GridToStringExclude
+    private IgniteThreadPoolExecutor partScanExecSvc;
+
     /** Map of {@link IoPool}-s injected by Ignite plugins. */
     private final IoPool[] extPools = new IoPool[128];
 
@@ -565,6 +569,18 @@ public class PoolProcessor extends GridProcessorAdapter {
             reencryptExecSvc.allowCoreThreadTimeOut(true);
         }
 
+        partScanExecSvc = new IgniteThreadPoolExecutor(
+            "partition-scan",
+            ctx.igniteInstanceName(),
+            1,
+            1,
+            DFLT_THREAD_KEEP_ALIVE_TIME,
+            new LinkedBlockingQueue<>(),
+            GridIoPolicy.UNDEFINED,
+            oomeHnd);
+
+        partScanExecSvc.allowCoreThreadTimeOut(true);
+
         if (cfg.getClientConnectorConfiguration() != null) {
             thinClientExec = new IgniteThreadPoolExecutor(
                 "client-connector",
@@ -646,6 +662,8 @@ public class PoolProcessor extends GridProcessorAdapter {
         if (reencryptExecSvc != null)
             monitorExecutor("GridReencryptionExecutor", reencryptExecSvc);
 
+        monitorExecutor("GridPartitionScanExecutor", partScanExecSvc);
+
         if (customExecs != null) {
             for (Map.Entry<String, ? extends ExecutorService> entry : customExecs.entrySet())
                 monitorExecutor(entry.getKey(), entry.getValue());
@@ -1021,6 +1039,13 @@ public class PoolProcessor extends GridProcessorAdapter {
         return reencryptExecSvc;
     }
 
+    /**
+     * @return Executor to build partition keys filters and data page zone maps in the background.
+     */
+    public IgniteThreadPoolExecutor getPartitionScanExecutorService() {
+        return partScanExecSvc;
+    }
+
     /**
      * Add pool to check for starvation.
      *
@@ -1152,6 +1177,10 @@ public class PoolProcessor extends GridProcessorAdapter {
 
         reencryptExecSvc = null;
 
+        U.shutdownNow(getClass(), partScanExecSvc, log);
+
+        partScanExecSvc = null;
+
         if (!F.isEmpty(customExecs)) {
             for (IgniteThreadPoolExecutor exec : customExecs.values())
                 U.shutdownNow(getClass(), exec, log);
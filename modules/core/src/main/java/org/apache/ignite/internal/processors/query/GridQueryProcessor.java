@@ -53,6 +53,7 @@ import org.apache.ignite.cache.CacheMode;
 import org.apache.ignite.cache.CacheWriteSynchronizationMode;
 import org.apache.ignite.cache.QueryEntity;
 import org.apache.ignite.cache.QueryIndex;
+import org.apache.ignite.cache.QueryIndexType;
 import org.apache.ignite.cache.query.FieldsQueryCursor;
 import org.apache.ignite.cache.query.QueryCursor;
 import org.apache.ignite.cache.query.SqlFieldsQuery;
@@ -1568,7 +1569,7 @@ public class GridQueryProcessor extends GridProcessorAdapter {
                 err = new SchemaOperationException(SchemaOperationException.CODE_TABLE_NOT_FOUND, tblName);
             else {
                 // Make sure that index can be applied to the given table.
-                for (String idxField : idx.getFieldNames()) {
+                for (String idxField : F.concat(false, idx.getFieldNames(), F.emptyIfNull(idx.getIncludeFields()))) {
                     if (!type.fields().containsKey(idxField)) {
                         err = new SchemaOperationException(SchemaOperationException.CODE_COLUMN_NOT_FOUND,
                             idxField);
@@ -1578,6 +1579,20 @@ public class GridQueryProcessor extends GridProcessorAdapter {
                 }
             }
 
+            if (err == null && !F.isEmpty(idx.getIncludeFields())) {
+                if (idx.getIndexType() != QueryIndexType.SORTED)
+                    err = new SchemaOperationException("Included columns are supported only for sorted indexes.");
+                else {
+                    for (String includeField : idx.getIncludeFields()) {
+                        if (idx.getFields().containsKey(includeField)) {
+                            err = new SchemaOperationException("Column is both indexed and included: " + includeField);
+
+                            break;
+                        }
+                    }
+                }
+            }
+
             // Check conflict with other indexes.
             if (err == null) {
                 String idxName = op0.index().getName();
@@ -1791,7 +1806,9 @@ public class GridQueryProcessor extends GridProcessorAdapter {
                 if (oldEntity == null)
                     err = new SchemaOperationException(SchemaOperationException.CODE_TABLE_NOT_FOUND, tblName);
                 else {
-                    for (String fieldName : op0.index().getFields().keySet()) {
+                    QueryIndex idx = op0.index();
+
+                    for (String fieldName : F.concat(false, idx.getFieldNames(), F.emptyIfNull(idx.getIncludeFields()))) {
                         Set<String> oldEntityFields = new HashSet<>(oldEntity.getFields().keySet());
 
                         for (Map.Entry<String, String> alias : oldEntity.getAliases().entrySet()) {
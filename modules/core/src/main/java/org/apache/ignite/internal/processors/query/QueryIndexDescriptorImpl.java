@@ -19,8 +19,10 @@ package org.apache.ignite.internal.processors.query;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.TreeSet;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.cache.QueryIndexType;
@@ -46,6 +48,9 @@ public class QueryIndexDescriptorImpl implements GridQueryIndexDescriptor {
     /** Fields which should be indexed in descending order. */
     private Collection<String> descendings;
 
+    /** Fields which values are stored in the index in addition to the indexed fields. */
+    private final Collection<String> includeFields = new LinkedHashSet<>();
+
     /** Type descriptor. */
     @GridToStringExclude
     private final QueryTypeDescriptorImpl typDesc;
@@ -98,6 +103,11 @@ public class QueryIndexDescriptorImpl implements GridQueryIndexDescriptor {
         return res;
     }
 
+    /** {@inheritDoc} */
+    @Override public Collection<String> includeFields() {
+        return Collections.unmodifiableCollection(includeFields);
+    }
+
     /** {@inheritDoc} */
     @Override public int inlineSize() {
         return inlineSize;
@@ -134,6 +144,28 @@ public class QueryIndexDescriptorImpl implements GridQueryIndexDescriptor {
         return this;
     }
 
+    /**
+     * Adds included field to this index.
+     *
+     * @param field Field name.
+     * @return This instance for chaining.
+     * @throws IgniteCheckedException If failed.
+     */
+    public QueryIndexDescriptorImpl addIncludeField(String field) throws IgniteCheckedException {
+        if (!typDesc.hasField(field))
+            throw new IgniteCheckedException("Field not found: " + field);
+
+        for (T2<String, Integer> t : fields) {
+            if (t.get1().equals(field))
+                throw new IgniteCheckedException("Field is both indexed and included: " + field);
+        }
+
+        if (!includeFields.add(field))
+            throw new IgniteCheckedException("Field is already included: " + field);
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public QueryIndexType type() {
         return type;
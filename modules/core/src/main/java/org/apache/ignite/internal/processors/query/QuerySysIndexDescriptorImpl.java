@@ -56,6 +56,11 @@ public class QuerySysIndexDescriptorImpl implements GridQueryIndexDescriptor {
         return fields;
     }
 
+    /** {@inheritDoc} */
+    @Override public Collection<String> includeFields() {
+        return Collections.emptyList();
+    }
+
     /** {@inheritDoc} */
     @Override public boolean descending(String field) {
         return false;
@@ -341,6 +341,7 @@ public class QueryUtils {
             normalIdx.setFields(idx.getFields());
             normalIdx.setIndexType(idx.getIndexType());
             normalIdx.setInlineSize(idx.getInlineSize());
+            normalIdx.setIncludeFields(idx.getIncludeFields());
 
             normalIdx.setName(normalizeObjectName(indexName(normalTblName, idx), false));
 
@@ -783,7 +784,7 @@ public class QueryUtils {
         String idxName = indexName(typeDesc.tableName(), idx);
         QueryIndexType idxTyp = idx.getIndexType();
 
-        assert idxTyp == QueryIndexType.SORTED || idxTyp == QueryIndexType.GEOSPATIAL;
+        assert idxTyp == QueryIndexType.SORTED || idxTyp == QueryIndexType.GEOSPATIAL || idxTyp == QueryIndexType.HASH;
 
         QueryIndexDescriptorImpl res = new QueryIndexDescriptorImpl(typeDesc, idxName, idxTyp, idx.getInlineSize());
 
@@ -801,6 +802,20 @@ public class QueryUtils {
             res.addField(field, i++, !asc);
         }
 
+        if (!F.isEmpty(idx.getIncludeFields())) {
+            if (idxTyp != QueryIndexType.SORTED)
+                throw new IgniteCheckedException("Included fields are supported only for SORTED indexes: " + idxName);
+
+            for (String field : idx.getIncludeFields()) {
+                String alias = typeDesc.aliases().get(field);
+
+                if (alias != null)
+                    field = alias;
+
+                res.addIncludeField(field);
+            }
+        }
+
         return res;
     }
 
@@ -814,7 +829,7 @@ public class QueryUtils {
     private static void processIndex(QueryIndex idx, QueryTypeDescriptorImpl d) throws IgniteCheckedException {
         QueryIndexType idxTyp = idx.getIndexType();
 
-        if (idxTyp == QueryIndexType.SORTED || idxTyp == QueryIndexType.GEOSPATIAL) {
+        if (idxTyp == QueryIndexType.SORTED || idxTyp == QueryIndexType.GEOSPATIAL || idxTyp == QueryIndexType.HASH) {
             QueryIndexDescriptorImpl idxDesc = createIndexDescriptor(d, idx);
 
             d.addIndex(idxDesc);
@@ -1434,7 +1449,8 @@ public class QueryUtils {
 
         if (indexes != null) {
             for (QueryIndex idxDesc : indexes) {
-                if (idxDesc.getFields().containsKey(fieldName))
+                if (idxDesc.getFields().containsKey(fieldName) ||
+                    (idxDesc.getIncludeFields() != null && idxDesc.getIncludeFields().contains(fieldName)))
                     return new SchemaOperationException("Cannot drop column \"" + colName +
                         "\" because an index exists (\"" + idxDesc.getName() + "\") that uses the column.");
             }
@@ -1468,7 +1484,7 @@ public class QueryUtils {
         Collection<GridQueryIndexDescriptor> indexes = type.indexes().values();
 
         for (GridQueryIndexDescriptor idxDesc : indexes) {
-            if (idxDesc.fields().contains(colName))
+            if (idxDesc.fields().contains(colName) || idxDesc.includeFields().contains(colName))
                 return new SchemaOperationException("Cannot drop column \"" + colName +
                     "\" because an index exists (\"" + idxDesc.name() + "\") that uses the column.");
         }
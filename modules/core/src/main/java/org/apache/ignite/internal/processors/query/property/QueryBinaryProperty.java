@@ -241,6 +241,13 @@ public class QueryBinaryProperty implements GridQueryProperty {
         return alias;
     }
 
+    /**
+     * @return Name of the binary object field.
+     */
+    public String propertyName() {
+        return propName;
+    }
+
     /** {@inheritDoc} */
     @Override public Class<?> type() {
         return type;
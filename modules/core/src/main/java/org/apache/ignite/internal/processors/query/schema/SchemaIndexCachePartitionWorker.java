@@ -17,11 +17,15 @@
 
 package org.apache.ignite.internal.processors.query.schema;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndex;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.GridCacheEntryEx;
 import org.apache.ignite.internal.processors.cache.GridCacheEntryRemovedException;
@@ -33,6 +37,7 @@ import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.query.QueryTypeDescriptorImpl;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.util.worker.GridWorker;
@@ -41,6 +46,7 @@ import org.jetbrains.annotations.Nullable;
 import static java.util.Objects.nonNull;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_ENABLE_EXTRA_INDEX_REBUILD_LOGGING;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_REBUILD_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_REBUILD_SORT_BUFFER_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.EVICTED;
@@ -48,6 +54,7 @@ import static org.apache.ignite.internal.processors.cache.distributed.dht.topolo
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.MOVING;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.RENTING;
+import static org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapter.RowData.FULL;
 import static org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapter.RowData.KEY_ONLY;
 
 /**
@@ -57,9 +64,16 @@ public class SchemaIndexCachePartitionWorker extends GridWorker {
     /** Default count of rows, being processed within a single checkpoint lock. */
     public static final int DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE = 1_000;
 
+    /** @see IgniteSystemProperties#IGNITE_INDEX_REBUILD_SORT_BUFFER_SIZE */
+    public static final int DFLT_INDEX_REBUILD_SORT_BUFFER_SIZE = 10_000;
+
     /** Count of rows, being processed within a single checkpoint lock. */
     private final int batchSize = getInteger(IGNITE_INDEX_REBUILD_BATCH_SIZE, DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE);
 
+    /** Count of rows, being sorted in the index order before they are processed. */
+    private final int sortBufSize = getInteger(IGNITE_INDEX_REBUILD_SORT_BUFFER_SIZE,
+        DFLT_INDEX_REBUILD_SORT_BUFFER_SIZE);
+
     /** Cache context. */
     private final GridCacheContext cctx;
 
@@ -81,6 +95,12 @@ public class SchemaIndexCachePartitionWorker extends GridWorker {
     /** Count of partitions to be processed. */
     private final AtomicInteger partsCnt;
 
+    /** Count of processed keys of the partition. */
+    private int processedKeys;
+
+    /** Checkpoint read lock is held by the worker. */
+    private boolean cpLocked;
+
     /**
      * Constructor.
      *
@@ -167,46 +187,42 @@ public class SchemaIndexCachePartitionWorker extends GridWorker {
             return;
 
         try {
+            InlineIndex sortIdx = sortBufSize > 0 ? wrappedClo.clo.sortIndex() : null;
+
             GridCursor<? extends CacheDataRow> cursor = locPart.dataStore().cursor(
                 cctx.cacheId(),
                 null,
                 null,
-                KEY_ONLY
+                sortIdx == null ? KEY_ONLY : FULL
             );
 
-            boolean locked = false;
+            List<CacheDataRow> sortBuf = sortIdx == null ? null : new ArrayList<>();
 
             try {
-                int cntr = 0;
-
                 while (!stop() && cursor.next()) {
-                    KeyCacheObject key = cursor.get().key();
-
-                    if (!locked) {
-                        cctx.shared().database().checkpointReadLock();
-
-                        locked = true;
+                    if (sortBuf == null) {
+                        if (!processNextKey(cursor.get().key()))
+                            break;
                     }
+                    else {
+                        sortBuf.add(cursor.get());
 
-                    processKey(key);
-
-                    if (++cntr % batchSize == 0) {
-                        cctx.shared().database().checkpointReadUnlock();
-
-                        locked = false;
+                        if (sortBuf.size() == sortBufSize && !processSortedRows(sortIdx, sortBuf))
+                            break;
                     }
-
-                    cctx.cache().metrics0().addIndexRebuildKeyProcessed(1);
-
-                    if (locPart.state() == RENTING)
-                        break;
                 }
 
-                wrappedClo.addNumberProcessedKeys(cntr);
+                if (!F.isEmpty(sortBuf) && !stop())
+                    processSortedRows(sortIdx, sortBuf);
+
+                wrappedClo.addNumberProcessedKeys(processedKeys);
             }
             finally {
-                if (locked)
+                if (cpLocked) {
                     cctx.shared().database().checkpointReadUnlock();
+
+                    cpLocked = false;
+                }
             }
         }
         finally {
@@ -217,6 +233,64 @@ public class SchemaIndexCachePartitionWorker extends GridWorker {
         }
     }
 
+    /**
+     * Sorts rows in the index order and processes their keys.
+     *
+     * @param sortIdx Index in which order rows are processed.
+     * @param rows Rows.
+     * @return {@code False} if processing of the partition should be stopped.
+     * @throws IgniteCheckedException If failed.
+     */
+    private boolean processSortedRows(InlineIndex sortIdx, List<CacheDataRow> rows) throws IgniteCheckedException {
+        // Sorting extracts index keys of all the rows, so it shouldn't delay a checkpoint.
+        if (cpLocked) {
+            cctx.shared().database().checkpointReadUnlock();
+
+            cpLocked = false;
+        }
+
+        sortIdx.sortRows(rows);
+
+        try {
+            for (CacheDataRow row : rows) {
+                if (stop() || !processNextKey(row.key()))
+                    return false;
+            }
+
+            return true;
+        }
+        finally {
+            rows.clear();
+        }
+    }
+
+    /**
+     * Processes key within the batch of keys, being processed within a single checkpoint lock.
+     *
+     * @param key Key.
+     * @return {@code False} if processing of the partition should be stopped.
+     * @throws IgniteCheckedException If failed.
+     */
+    private boolean processNextKey(KeyCacheObject key) throws IgniteCheckedException {
+        if (!cpLocked) {
+            cctx.shared().database().checkpointReadLock();
+
+            cpLocked = true;
+        }
+
+        processKey(key);
+
+        if (++processedKeys % batchSize == 0) {
+            cctx.shared().database().checkpointReadUnlock();
+
+            cpLocked = false;
+        }
+
+        cctx.cache().metrics0().addIndexRebuildKeyProcessed(1);
+
+        return locPart.state() != RENTING;
+    }
+
     /**
      * Process single key.
      *
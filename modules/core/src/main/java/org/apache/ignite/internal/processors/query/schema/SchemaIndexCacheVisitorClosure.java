@@ -18,7 +18,9 @@
 package org.apache.ignite.internal.processors.query.schema;
 
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndex;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Index closure accepting current entry state.
@@ -31,4 +33,14 @@ public interface SchemaIndexCacheVisitorClosure {
      * @throws IgniteCheckedException If failed.
      */
     public void apply(CacheDataRow row) throws IgniteCheckedException;
+
+    /**
+     * Rows applied in the order of the index keys update the same index pages one after another, so the index is
+     * built with less random page reads and writes.
+     *
+     * @return Index in which order rows should be applied, or {@code null} if the order doesn't matter.
+     */
+    public default @Nullable InlineIndex sortIndex() {
+        return null;
+    }
 }
@@ -194,6 +194,9 @@ public class SchemaManager {
         if (!idxDescFactory.containsKey(QueryIndexType.SORTED))
             idxDescFactory.put(QueryIndexType.SORTED, new SortedIndexDescriptorFactory(log));
 
+        if (!idxDescFactory.containsKey(QueryIndexType.HASH))
+            idxDescFactory.put(QueryIndexType.HASH, new HashIndexDescriptorFactory(log));
+
         ctx.systemView().registerView(SQL_SCHEMA_VIEW, SQL_SCHEMA_VIEW_DESC,
             new SqlSchemaViewWalker(),
             schemas.values(),
@@ -95,6 +95,10 @@ public class SortedIndexDescriptorFactory extends AbstractIndexDescriptorFactory
         if (!(isPk && QueryUtils.KEY_FIELD_NAME.equals(tbl.affinityKey())))
             addAffinityColumn(unwrappedCols, tbl);
 
+        // Included columns follow the key columns, so they don't affect the order of the index rows.
+        addIncludedColumns(wrappedCols, idxDesc, tbl);
+        addIncludedColumns(unwrappedCols, idxDesc, tbl);
+
         LinkedHashMap<String, IndexKeyDefinition> idxCols = unwrappedCols;
         IndexName idxFullName = new IndexName(cacheInfo.name(), typeDesc.schemaName(), typeDesc.tableName(), idxName);
 
@@ -184,6 +188,16 @@ public class SortedIndexDescriptorFactory extends AbstractIndexDescriptorFactory
         }
     }
 
+    /** Add included columns, if they weren't added before. */
+    private static void addIncludedColumns(
+        LinkedHashMap<String, IndexKeyDefinition> cols,
+        GridQueryIndexDescriptor idxDesc,
+        TableDescriptor tbl
+    ) {
+        for (String field : idxDesc.includeFields())
+            cols.putIfAbsent(field, keyDefinition(tbl.type(), field, true));
+    }
+
     /** Add key column, if it (or it's alias) wasn't added before. */
     private static void addKeyColumn(LinkedHashMap<String, IndexKeyDefinition> cols, TableDescriptor tbl) {
         cols.putIfAbsent(QueryUtils.KEY_FIELD_NAME, keyDefinition(tbl.type(), QueryUtils.KEY_FIELD_NAME, true));
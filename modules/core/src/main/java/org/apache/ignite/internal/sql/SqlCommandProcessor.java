@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import org.apache.ignite.IgniteCheckedException;
@@ -328,7 +329,12 @@ public class SqlCommandProcessor {
 
                 newIdx.setName(cmd0.indexName());
 
-                newIdx.setIndexType(cmd0.spatial() ? QueryIndexType.GEOSPATIAL : QueryIndexType.SORTED);
+                if (cmd0.spatial())
+                    newIdx.setIndexType(QueryIndexType.GEOSPATIAL);
+                else if (cmd0.hash())
+                    newIdx.setIndexType(QueryIndexType.HASH);
+                else
+                    newIdx.setIndexType(QueryIndexType.SORTED);
 
                 LinkedHashMap<String, Boolean> flds = new LinkedHashMap<>();
 
@@ -344,6 +350,21 @@ public class SqlCommandProcessor {
                 newIdx.setFields(flds);
                 newIdx.setInlineSize(cmd0.inlineSize());
 
+                if (!cmd0.includeColumns().isEmpty()) {
+                    List<String> includeFlds = new ArrayList<>(cmd0.includeColumns().size());
+
+                    for (String col : cmd0.includeColumns()) {
+                        GridQueryProperty prop = typeDesc.property(col);
+
+                        if (prop == null)
+                            throw new SchemaOperationException(SchemaOperationException.CODE_COLUMN_NOT_FOUND, col);
+
+                        includeFlds.add(prop.name());
+                    }
+
+                    newIdx.setIncludeFields(includeFlds);
+                }
+
                 fut = ctx.query().dynamicIndexCreate(cacheInfo.name(), cmd.schemaName(), typeDesc.tableName(),
                     newIdx, cmd0.ifNotExists(), cmd0.parallel());
             }
@@ -34,6 +34,7 @@ import org.jetbrains.annotations.Nullable;
 import static org.apache.ignite.internal.sql.SqlKeyword.ASC;
 import static org.apache.ignite.internal.sql.SqlKeyword.DESC;
 import static org.apache.ignite.internal.sql.SqlKeyword.IF;
+import static org.apache.ignite.internal.sql.SqlKeyword.INCLUDE;
 import static org.apache.ignite.internal.sql.SqlKeyword.INLINE_SIZE;
 import static org.apache.ignite.internal.sql.SqlKeyword.ON;
 import static org.apache.ignite.internal.sql.SqlKeyword.PARALLEL;
@@ -66,6 +67,9 @@ public class SqlCreateIndexCommand implements SqlCommand {
     /** Spatial index flag. */
     private boolean spatial;
 
+    /** Hash index flag. */
+    private boolean hash;
+
     /**
      * Parallelism level. <code>parallel=0</code> means that a default number
      * of cores will be used during index creation (e.g. 25% of available cores).
@@ -80,6 +84,10 @@ public class SqlCreateIndexCommand implements SqlCommand {
     @GridToStringExclude
     private Set<String> colNames;
 
+    /** Included columns. */
+    @GridToStringInclude
+    private Collection<String> includeCols;
+
     /** Inline size. Zero effectively disables inlining. */
     private int inlineSize = QueryIndex.DFLT_INLINE_SIZE;
 
@@ -189,6 +197,23 @@ public class SqlCreateIndexCommand implements SqlCommand {
         return this;
     }
 
+    /**
+     * @return Hash index flag.
+     */
+    public boolean hash() {
+        return hash;
+    }
+
+    /**
+     * @param hash Hash index flag.
+     * @return This instance.
+     */
+    public SqlCreateIndexCommand hash(boolean hash) {
+        this.hash = hash;
+
+        return this;
+    }
+
     /**
      * @return Columns.
      */
@@ -196,6 +221,32 @@ public class SqlCreateIndexCommand implements SqlCommand {
         return cols != null ? cols : Collections.<SqlIndexColumn>emptySet();
     }
 
+    /**
+     * @return Included columns.
+     */
+    public Collection<String> includeColumns() {
+        return includeCols != null ? includeCols : Collections.<String>emptySet();
+    }
+
+    /**
+     * @param includeCols Included columns.
+     * @return This instance.
+     */
+    public SqlCreateIndexCommand includeColumns(@Nullable Collection<String> includeCols) {
+        if (includeCols != null) {
+            Set<String> names = new HashSet<>(colNames);
+
+            for (String col : includeCols) {
+                if (!names.add(col))
+                    throw new IllegalArgumentException("Column already defined: " + col);
+            }
+        }
+
+        this.includeCols = includeCols;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public SqlCommand parse(SqlLexer lex) {
         ifNotExists = parseIfNotExists(lex);
@@ -311,12 +362,44 @@ public class SqlCreateIndexCommand implements SqlCommand {
 
                     break;
 
+                case INCLUDE:
+                    if (!foundProps.add(INCLUDE))
+                        throw error(lex, "Only one " + INCLUDE + " clause may be specified.");
+
+                    lex.shift();
+
+                    parseIncludeColumnList(lex);
+
+                    break;
+
                 default:
                     return;
             }
         }
     }
 
+    /**
+     * @param lex Lexer.
+     */
+    private void parseIncludeColumnList(SqlLexer lex) {
+        if (!lex.shift() || lex.tokenType() != SqlLexerTokenType.PARENTHESIS_LEFT)
+            throw errorUnexpectedToken(lex, "(");
+
+        includeCols = new LinkedList<>();
+
+        while (true) {
+            String name = parseIdentifier(lex);
+
+            if (colNames.contains(name) || includeCols.contains(name))
+                throw error(lex, "Column already defined: " + name);
+
+            includeCols.add(name);
+
+            if (skipCommaOrRightParenthesis(lex))
+                break;
+        }
+    }
+
     /**
      * Parses <code>Integer</code> property by its keyword.
      * @param lex Lexer.
@@ -121,8 +121,40 @@ public class GridConcurrentMultiPairQueue<K, V> {
      * @return {@code true} if {@link #next} return non empty result, or {@code false} if this queue is empty
      */
     public boolean next(Result<K, V> res) {
-        int absPos = pos.getAndIncrement();
+        return take(res, pos.getAndIncrement());
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns {@code false} if this queue is empty. Values are
+     * claimed by chunks of subsequent elements, so concurrent consumers get continuous ranges of the value arrays.
+     *
+     * @param res Result holder, must be used by the single consumer.
+     * @param chunkSize Count of values claimed by the consumer at once.
+     * @return {@code true} if {@link #next} return non empty result, or {@code false} if this queue is empty
+     */
+    public boolean next(Result<K, V> res, int chunkSize) {
+        assert chunkSize > 0 : chunkSize;
+
+        int absPos;
+
+        if (res.chunkPos < res.chunkEnd)
+            absPos = res.chunkPos++;
+        else {
+            absPos = pos.getAndAdd(chunkSize);
 
+            res.chunkPos = absPos + 1;
+            res.chunkEnd = absPos + chunkSize;
+        }
+
+        return take(res, absPos);
+    }
+
+    /**
+     * @param res Result holder.
+     * @param absPos Absolute position of the value.
+     * @return {@code true} if value is found, or {@code false} if position is out of the queue.
+     */
+    private boolean take(Result<K, V> res, int absPos) {
         if (absPos >= maxPos) {
             res.set(null, null, 0);
 
@@ -178,6 +210,12 @@ public class GridConcurrentMultiPairQueue<K, V> {
         /** Value holeder. */
         private V val;
 
+        /** Next position of the claimed chunk. */
+        private int chunkPos;
+
+        /** End position (exclusive) of the claimed chunk. */
+        private int chunkEnd;
+
         /** Current state setter. */
         public void set(K k, V v, int seg) {
             key = k;
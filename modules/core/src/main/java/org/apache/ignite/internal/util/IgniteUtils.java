@@ -7767,7 +7767,7 @@ public abstract class IgniteUtils extends CommonUtils {
     }
 
     /**
-     * Registers the active TCP sessions count metric in the given registry, backed by the NIO server.
+     * Registers the active TCP sessions count and session buffers metrics in the given registry, backed by the NIO server.
      *
      * @param srv NIO server.
      * @param mreg Metric registry.
@@ -7777,6 +7777,10 @@ public abstract class IgniteUtils extends CommonUtils {
 
         mreg.register(GridNioServer.SSL_ENABLED_METRIC_NAME, () -> sslEnabled, "Whether SSL is enabled");
         mreg.register(GridNioServer.SESSIONS_CNT_METRIC_NAME, srv::activeTcpSessionsCount, "Active TCP sessions count.");
+        mreg.register(GridNioServer.BORROWED_BUFS_SIZE_METRIC_NAME, srv::borrowedBuffersSize,
+            "Total size of buffers held by TCP sessions with pending I/O in bytes.");
+        mreg.register(GridNioServer.POOLED_BUFS_SIZE_METRIC_NAME, srv::pooledBuffersSize,
+            "Total size of free pooled TCP session buffers in bytes.");
     }
 
     /**
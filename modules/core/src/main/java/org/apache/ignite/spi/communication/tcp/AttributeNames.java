@@ -44,6 +44,9 @@ public class AttributeNames {
     /** */
     private final String forceClientServerConnections;
 
+    /** Connection compression. */
+    private final String compression;
+
     /**
      * @param pairedConn Paired connection.
      * @param addrs Addresses.
@@ -51,6 +54,7 @@ public class AttributeNames {
      * @param extAttrs Externalizable attributes.
      * @param port Port.
      * @param forceClientServerConnections Force client server connections.
+     * @param compression Connection compression.
      */
     public AttributeNames(
         String pairedConn,
@@ -58,13 +62,15 @@ public class AttributeNames {
         String hostNames,
         String extAttrs,
         String port,
-        String forceClientServerConnections) {
+        String forceClientServerConnections,
+        String compression) {
         this.pairedConn = pairedConn;
         this.addrs = addrs;
         this.hostNames = hostNames;
         this.extAttrs = extAttrs;
         this.port = port;
         this.forceClientServerConnections = forceClientServerConnections;
+        this.compression = compression;
     }
 
     /**
@@ -108,4 +114,11 @@ public class AttributeNames {
     public String getForceClientServerConnections() {
         return forceClientServerConnections;
     }
+
+    /**
+     * @return Connection compression.
+     */
+    public String compression() {
+        return compression;
+    }
 }
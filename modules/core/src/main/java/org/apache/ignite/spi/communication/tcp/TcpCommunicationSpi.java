@@ -139,11 +139,14 @@ import static org.apache.ignite.spi.communication.tcp.internal.TcpConnectionInde
  * <li>Idle connection timeout (see {@link #setIdleConnectionTimeout(long)})</li>
  * <li>Direct or heap buffer allocation (see {@link #setDirectBuffer(boolean)})</li>
  * <li>Direct or heap buffer allocation for sending (see {@link #setDirectSendBuffer(boolean)})</li>
+ * <li>Connection compression (see {@link #setConnectionCompressionEnabled(boolean)})</li>
  * <li>Count of selectors and selector threads for NIO server (see {@link #setSelectorsCount(int)})</li>
  * <li>Selector thread busy-loop iterations (see {@link #setSelectorSpins(long)}</li>
  * <li>{@code TCP_NODELAY} socket option for sockets (see {@link #setTcpNoDelay(boolean)})</li>
  * <li>Filter reachable addresses (see {@link #setFilterReachableAddresses(boolean)} </li>
  * <li>Message queue limit (see {@link #setMessageQueueLimit(int)})</li>
+ * <li>Message coalescing delay (see {@link #setMessageCoalescingDelay(long)})</li>
+ * <li>Message coalescing limit (see {@link #setMessageCoalescingLimit(int)})</li>
  * <li>Slow client queue limit (see {@link #setSlowClientQueueLimit(int)})</li>
  * <li>Connect timeout (see {@link #setConnectTimeout(long)})</li>
  * <li>Maximum connect timeout (see {@link #setMaxConnectTimeout(long)})</li>
@@ -211,6 +214,9 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
     /** Attr paired connection. */
     public static final String ATTR_PAIRED_CONN = "comm.tcp.pairedConnection";
 
+    /** Node attribute that is mapped to the connection compression flag (value is <tt>comm.tcp.compression</tt>). */
+    public static final String ATTR_COMPRESSION = "comm.tcp.compression";
+
     /** Default port which node sets listener to (value is <tt>47100</tt>). */
     public static final int DFLT_PORT = 47100;
 
@@ -232,6 +238,9 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
     /** Default message queue limit per connection (for incoming and outgoing . */
     public static final int DFLT_MSG_QUEUE_LIMIT = GridNioServer.DFLT_SEND_QUEUE_LIMIT;
 
+    /** Default number of queued messages a connection write is not postponed after (value is <tt>64</tt>). */
+    public static final int DFLT_MSG_COALESCING_LIMIT = GridNioServer.DFLT_WRITE_COALESCING_LIMIT;
+
     /**
      * Default count of selectors for TCP server equals to {@code "Math.max(4, Runtime.getRuntime().availableProcessors()
      * / 2)"}.
@@ -575,7 +584,8 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
             createSpiAttributeName(ATTR_HOST_NAMES),
             createSpiAttributeName(ATTR_EXT_ADDRS),
             createSpiAttributeName(ATTR_PORT),
-            createSpiAttributeName(ATTR_FORCE_CLIENT_SERVER_CONNECTIONS));
+            createSpiAttributeName(ATTR_FORCE_CLIENT_SERVER_CONNECTIONS),
+            createSpiAttributeName(ATTR_COMPRESSION));
 
         boolean client = Boolean.TRUE.equals(ignite().configuration().isClientMode());
 
@@ -795,7 +805,7 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
 
         registerMBean(
             igniteInstanceName,
-            new TcpCommunicationSpiMBeanImpl(this, metricsLsnr, cfg, stateProvider),
+            new TcpCommunicationSpiMBeanImpl(this, metricsLsnr, cfg, stateProvider, nioSrvWrapper),
             TcpCommunicationSpiMBean.class
         );
 
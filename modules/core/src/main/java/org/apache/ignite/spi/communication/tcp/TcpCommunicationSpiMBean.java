@@ -232,6 +232,39 @@ public interface TcpCommunicationSpiMBean extends IgniteSpiManagementMBean {
     @MXBeanDescription("Direct send buffer.")
     public boolean isDirectSendBuffer();
 
+    /**
+     * Gets flag defining whether connections to the nodes with the compression enabled are compressed.
+     *
+     * @return {@code True} if connections are compressed.
+     */
+    @MXBeanDescription("Connection compression enabled.")
+    public boolean isConnectionCompressionEnabled();
+
+    /**
+     * Gets ratios of the bytes written to the sockets to the bytes of the sent messages for the compressed
+     * connections. Connections are identified by the remote node ID, connection index and direction.
+     *
+     * @return Map containing connections and respective compression ratios.
+     */
+    @MXBeanDescription("Compression ratio grouped by connection.")
+    public Map<String, Double> getCompressionRatioByConnection();
+
+    /**
+     * Gets time in microseconds a connection write is postponed for to coalesce messages.
+     *
+     * @return Message coalescing delay.
+     */
+    @MXBeanDescription("Message coalescing delay in microseconds.")
+    public long getMessageCoalescingDelay();
+
+    /**
+     * Gets number of queued messages a postponed connection write is started after.
+     *
+     * @return Message coalescing limit.
+     */
+    @MXBeanDescription("Message coalescing limit.")
+    public int getMessageCoalescingLimit();
+
     /**
      * Gets receive buffer size for sockets created or accepted by this SPI.
      * <p>
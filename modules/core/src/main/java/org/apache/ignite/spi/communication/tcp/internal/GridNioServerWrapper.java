@@ -27,6 +27,7 @@ import java.nio.channels.Channel;
 import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -67,6 +68,7 @@ import org.apache.ignite.internal.util.nio.GridCommunicationClient;
 import org.apache.ignite.internal.util.nio.GridConnectionBytesVerifyFilter;
 import org.apache.ignite.internal.util.nio.GridDirectParser;
 import org.apache.ignite.internal.util.nio.GridNioCodecFilter;
+import org.apache.ignite.internal.util.nio.GridNioCompressionFilter;
 import org.apache.ignite.internal.util.nio.GridNioFilter;
 import org.apache.ignite.internal.util.nio.GridNioMessageReaderFactory;
 import org.apache.ignite.internal.util.nio.GridNioMessageWriterFactory;
@@ -216,9 +218,16 @@ public class GridNioServerWrapper {
     private final int msgQueueWarningSize = IgniteSystemProperties.getInteger(
         IgniteSystemProperties.IGNITE_TCP_COMM_MSG_QUEUE_WARN_SIZE, 0);
 
+    /** CPU load above which connections are not compressed. */
+    private final double compressionMaxCpuLoad = IgniteSystemProperties.getDouble(
+        IgniteSystemProperties.IGNITE_TCP_COMM_COMPRESSION_MAX_CPU_LOAD, GridNioCompressionFilter.DFLT_MAX_CPU_LOAD);
+
     /** NIO server. */
     private GridNioServer<Message> nioSrv;
 
+    /** Connection compression filter, {@code null} if connections are not compressed. */
+    private volatile GridNioCompressionFilter compressFilter;
+
     /** Stopping flag (set to {@code true} when SPI gets stopping signal). */
     private volatile boolean stopping = false;
 
@@ -533,6 +542,10 @@ public class GridNioServerWrapper {
                         meta.put(CONN_IDX_META, connKey);
                         meta.put(GridNioServer.RECOVERY_DESC_META_KEY, recoveryDesc);
 
+                        // Remote node compresses the connection right after the handshake response.
+                        if (compressConnection(node, connIdx))
+                            meta.put(GridNioCompressionFilter.COMPRESSION_META, true);
+
                         ses = nioSrv.createSession(ch, meta, false, null).get();
                     }
                     finally {
@@ -722,6 +735,51 @@ public class GridNioServerWrapper {
         nioSrv = srv;
     }
 
+    /**
+     * @param node Remote node.
+     * @param connIdx Connection index.
+     * @return {@code True} if the connection to the node is compressed.
+     */
+    public boolean compressConnection(ClusterNode node, int connIdx) {
+        return compressFilter != null && !isChannelConnIdx(connIdx) &&
+            Boolean.TRUE.equals(node.attribute(attrs.compression()));
+    }
+
+    /**
+     * Starts compression of the incoming connection.
+     *
+     * @param ses Session.
+     */
+    public void startCompression(GridNioSession ses) {
+        compressFilter.start(ses);
+    }
+
+    /**
+     * @return Compression ratios of the connections by their keys.
+     */
+    public Map<String, Double> compressionRatios() {
+        GridNioServer<Message> srv = nioSrv;
+        GridNioCompressionFilter filter = compressFilter;
+
+        if (srv == null || filter == null)
+            return Collections.emptyMap();
+
+        Map<String, Double> res = new HashMap<>();
+
+        for (GridNioSession ses : srv.sessions()) {
+            ConnectionKey connKey = ses.meta(CONN_IDX_META);
+
+            double ratio = filter.compressionRatio(ses);
+
+            if (connKey != null && ratio >= 0) {
+                res.put(connKey.nodeId() + ":" + connKey.connectionIndex() + (ses.accepted() ? ":in" : ":out"),
+                    ratio);
+            }
+        }
+
+        return res;
+    }
+
     /**
      * @param node Node.
      * @param key Connection key.
@@ -925,6 +983,17 @@ public class GridNioServerWrapper {
                     filters.add(sslFilter);
                 }
 
+                GridNioCompressionFilter compressFilter = null;
+
+                if (cfg.connectionCompression()) {
+                    if (stateProvider.isSslEnabled())
+                        U.warn(log, "Connection compression is not used since SSL is enabled.");
+                    else
+                        filters.add(compressFilter = new GridNioCompressionFilter(log, compressionMaxCpuLoad));
+                }
+
+                this.compressFilter = compressFilter;
+
                 GridNioFilter[] filtersArr = filters.toArray(new GridNioFilter[filters.size()]);
 
                 MetricRegistryImpl mreg = metricMgr != null ?
@@ -953,12 +1022,19 @@ public class GridNioServerWrapper {
                     .messageQueueSizeListener(queueSizeMonitor)
                     .tracing(tracing)
                     .readWriteSelectorsAssign(cfg.usePairedConnections())
+                    .writeCoalescingDelay(cfg.messageCoalescingDelay())
+                    .writeCoalescingLimit(cfg.messageCoalescingLimit())
                     .messageFactory(msgFactory);
 
                 if (mreg != null) {
                     builder.workerListener(workersRegistry);
 
                     U.setNioServerMetrics(builder, mreg);
+
+                    builder.writeBatchSizeMetric(mreg.histogram(
+                        GridNioServer.WRITE_BATCH_SIZE_HISTOGRAM_METRIC_NAME,
+                        new long[] {1, 2, 4, 8, 16, 32, 64},
+                        "Number of messages written to a socket at once.")::value);
                 }
 
                 GridNioServer<Message> srvr = builder.build();
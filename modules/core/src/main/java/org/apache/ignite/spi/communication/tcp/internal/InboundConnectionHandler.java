@@ -699,7 +699,7 @@ public class InboundConnectionHandler extends GridNioServerListenerAdapter<Messa
 
         try {
             if (sndRes)
-                nioSrvWrapper.nio().sendSystem(ses, new RecoveryLastReceivedMessage(recovery.received()));
+                sendHandshakeResponse(ses, node, recovery.received(), null);
         }
         catch (IgniteCheckedException e) {
             U.error(log, "Failed to send message: " + e, e);
@@ -718,6 +718,39 @@ public class InboundConnectionHandler extends GridNioServerListenerAdapter<Messa
         return client;
     }
 
+    /**
+     * Sends the recovery handshake response. The connection compression is started right after the response is
+     * written, since the remote node reads the response before it compresses the connection.
+     *
+     * @param ses Session.
+     * @param node Remote node.
+     * @param rcvCnt Received messages count.
+     * @param lsnr Listener notified from the session thread when the response is written.
+     * @throws IgniteCheckedException If session was closed.
+     */
+    private void sendHandshakeResponse(
+        GridNioSession ses,
+        ClusterNode node,
+        long rcvCnt,
+        @Nullable IgniteInClosure<IgniteInternalFuture<?>> lsnr
+    ) throws IgniteCheckedException {
+        ConnectionKey connKey = ses.meta(CONN_IDX_META);
+
+        if (connKey != null && nioSrvWrapper.compressConnection(node, connKey.connectionIndex())) {
+            IgniteInClosure<IgniteInternalFuture<?>> lsnr0 = lsnr;
+
+            lsnr = msgFut -> {
+                if (msgFut.error() == null)
+                    nioSrvWrapper.startCompression(ses);
+
+                if (lsnr0 != null)
+                    lsnr0.apply(msgFut);
+            };
+        }
+
+        nioSrvWrapper.nio().sendSystem(ses, new RecoveryLastReceivedMessage(rcvCnt), lsnr);
+    }
+
     /**
      * @param recovery Recovery descriptor.
      * @param ses Session.
@@ -731,7 +764,7 @@ public class InboundConnectionHandler extends GridNioServerListenerAdapter<Messa
             ses.inRecoveryDescriptor(recovery);
 
             if (sndRes)
-                nioSrvWrapper.nio().sendSystem(ses, new RecoveryLastReceivedMessage(recovery.received()));
+                sendHandshakeResponse(ses, recovery.node(), recovery.received(), null);
 
             recovery.onConnected();
         }
@@ -804,7 +837,7 @@ public class InboundConnectionHandler extends GridNioServerListenerAdapter<Messa
                         }
                     };
 
-                    nioSrvWrapper.nio().sendSystem(ses, new RecoveryLastReceivedMessage(recoveryDesc.received()), lsnr);
+                    sendHandshakeResponse(ses, rmtNode, recoveryDesc.received(), lsnr);
                 }
                 else
                     nioSrvWrapper.nio().sendSystem(ses, new RecoveryLastReceivedMessage(ALREADY_CONNECTED));
@@ -913,7 +946,7 @@ public class InboundConnectionHandler extends GridNioServerListenerAdapter<Messa
                         }
                     };
 
-                    nioSrvWrapper.nio().sendSystem(ses, new RecoveryLastReceivedMessage(recoveryDesc.received()), lsnr);
+                    sendHandshakeResponse(ses, rmtNode, recoveryDesc.received(), lsnr);
                 }
                 catch (IgniteCheckedException e) {
                     U.error(log, "Failed to send message: " + e, e);
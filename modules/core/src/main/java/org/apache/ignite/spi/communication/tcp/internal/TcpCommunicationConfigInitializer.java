@@ -50,6 +50,7 @@ import static java.util.Collections.emptyList;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_TCP_COMM_SET_ATTR_HOST_NAMES;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_ADDRS;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_COMPRESSION;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_EXT_ADDRS;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_FORCE_CLIENT_SERVER_CONNECTIONS;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_HOST_NAMES;
@@ -502,6 +503,91 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
         return (TcpCommunicationSpi)this;
     }
 
+    /**
+     * See {@link #setConnectionCompressionEnabled(boolean)}.
+     *
+     * @return {@code True} if connections are compressed.
+     */
+    public boolean isConnectionCompressionEnabled() {
+        return cfg.connectionCompression();
+    }
+
+    /**
+     * Sets whether to compress the byte stream of connections to the nodes with the compression enabled as well.
+     * <p>
+     * Connections are compressed by frames. A frame is compressed only while the connection data compresses well
+     * and there is a CPU headroom, so compression of each connection is switched on and off adaptively. Compression
+     * is not used if SSL is enabled.
+     * <p>
+     * If not provided default is {@code false}.
+     *
+     * @param connCompression {@code True} to compress connections.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setConnectionCompressionEnabled(boolean connCompression) {
+        cfg.connectionCompression(connCompression);
+
+        return (TcpCommunicationSpi)this;
+    }
+
+    /**
+     * See {@link #setMessageCoalescingDelay(long)}.
+     *
+     * @return Time in microseconds a connection write is postponed for to coalesce messages.
+     */
+    public long getMessageCoalescingDelay() {
+        return cfg.messageCoalescingDelay();
+    }
+
+    /**
+     * Sets time in microseconds a connection write is postponed for once a message is sent to an idle connection.
+     * Messages sent to the connection in the meantime are written to the socket at once, which reduces the number
+     * of system calls under a flow of small messages at the cost of the latency of a single message.
+     * <p>
+     * Since selector timeouts are in milliseconds, selector threads spin while awaiting shorter delays.
+     * <p>
+     * If not provided default is {@code 0}, that is writes are not postponed.
+     *
+     * @param msgCoalescingDelay Time in microseconds a connection write is postponed for.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setMessageCoalescingDelay(long msgCoalescingDelay) {
+        A.ensure(msgCoalescingDelay >= 0, "Message coalescing delay should not be negative.");
+
+        cfg.messageCoalescingDelay(msgCoalescingDelay);
+
+        return (TcpCommunicationSpi)this;
+    }
+
+    /**
+     * See {@link #setMessageCoalescingLimit(int)}.
+     *
+     * @return Number of queued messages a connection write is not postponed after.
+     */
+    public int getMessageCoalescingLimit() {
+        return cfg.messageCoalescingLimit();
+    }
+
+    /**
+     * Sets number of queued messages a postponed connection write is started after without waiting for the end of
+     * the {@link #setMessageCoalescingDelay(long) message coalescing delay}.
+     * <p>
+     * If not provided default is {@link TcpCommunicationSpi#DFLT_MSG_COALESCING_LIMIT}.
+     *
+     * @param msgCoalescingLimit Number of queued messages a connection write is not postponed after.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setMessageCoalescingLimit(int msgCoalescingLimit) {
+        A.ensure(msgCoalescingLimit > 0, "Message coalescing limit should be positive.");
+
+        cfg.messageCoalescingLimit(msgCoalescingLimit);
+
+        return (TcpCommunicationSpi)this;
+    }
+
     /**
      * Sets the count of selectors te be used in TCP server.
      * <p/>
@@ -840,6 +926,7 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
             res.put(createSpiAttributeName(ATTR_EXT_ADDRS), extAddrs);
             res.put(createSpiAttributeName(ATTR_PAIRED_CONN), cfg.usePairedConnections());
             res.put(createSpiAttributeName(ATTR_FORCE_CLIENT_SERVER_CONNECTIONS), cfg.forceClientToSrvConnections());
+            res.put(createSpiAttributeName(ATTR_COMPRESSION), cfg.connectionCompression());
 
             return res;
         }
@@ -33,6 +33,7 @@ import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_C
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_FILTER_REACHABLE_ADDRESSES;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_IDLE_CONN_TIMEOUT;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_MAX_CONN_TIMEOUT;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_MSG_COALESCING_LIMIT;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_MSG_QUEUE_LIMIT;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_PORT;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_PORT_RANGE;
@@ -100,6 +101,15 @@ public class TcpCommunicationConfiguration implements Serializable {
     /** Use paired connections. */
     private boolean usePairedConnections;
 
+    /** Compress connections. */
+    private boolean connCompression;
+
+    /** Time in microseconds a connection write is postponed for to coalesce messages. */
+    private long msgCoalescingDelay;
+
+    /** Number of queued messages a connection write is not postponed after. */
+    private int msgCoalescingLimit = DFLT_MSG_COALESCING_LIMIT;
+
     /** Connections per node. */
     private int connectionsPerNode = DFLT_CONN_PER_NODE;
 
@@ -347,6 +357,48 @@ public class TcpCommunicationConfiguration implements Serializable {
         this.usePairedConnections = usePairedConnections;
     }
 
+    /**
+     * @return Compress connections.
+     */
+    public boolean connectionCompression() {
+        return connCompression;
+    }
+
+    /**
+     * @param connCompression New compress connections.
+     */
+    public void connectionCompression(boolean connCompression) {
+        this.connCompression = connCompression;
+    }
+
+    /**
+     * @return Time in microseconds a connection write is postponed for to coalesce messages.
+     */
+    public long messageCoalescingDelay() {
+        return msgCoalescingDelay;
+    }
+
+    /**
+     * @param msgCoalescingDelay New time in microseconds a connection write is postponed for to coalesce messages.
+     */
+    public void messageCoalescingDelay(long msgCoalescingDelay) {
+        this.msgCoalescingDelay = msgCoalescingDelay;
+    }
+
+    /**
+     * @return Number of queued messages a connection write is not postponed after.
+     */
+    public int messageCoalescingLimit() {
+        return msgCoalescingLimit;
+    }
+
+    /**
+     * @param msgCoalescingLimit New number of queued messages a connection write is not postponed after.
+     */
+    public void messageCoalescingLimit(int msgCoalescingLimit) {
+        this.msgCoalescingLimit = msgCoalescingLimit;
+    }
+
     /**
      * @return Connections per node.
      */
@@ -37,22 +37,28 @@ public class TcpCommunicationSpiMBeanImpl extends IgniteSpiMBeanAdapter implemen
     /** State provider. */
     private final ClusterStateProvider stateProvider;
 
+    /** NIO server wrapper. */
+    private final GridNioServerWrapper nioSrvWrapper;
+
     /**
      * @param spiAdapter Spi adapter.
      * @param metricsLsnr Metrics listener.
      * @param cfg Config.
      * @param stateProvider State provider.
+     * @param nioSrvWrapper NIO server wrapper.
      */
     public TcpCommunicationSpiMBeanImpl(
         IgniteSpiAdapter spiAdapter,
         TcpCommunicationMetricsListener metricsLsnr,
         TcpCommunicationConfiguration cfg,
-        ClusterStateProvider stateProvider
+        ClusterStateProvider stateProvider,
+        GridNioServerWrapper nioSrvWrapper
     ) {
         super(spiAdapter);
         this.metricsLsnr = metricsLsnr;
         this.cfg = cfg;
         this.stateProvider = stateProvider;
+        this.nioSrvWrapper = nioSrvWrapper;
     }
 
     /** {@inheritDoc} */
@@ -125,6 +131,26 @@ public class TcpCommunicationSpiMBeanImpl extends IgniteSpiMBeanAdapter implemen
         return cfg.directSendBuffer();
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean isConnectionCompressionEnabled() {
+        return cfg.connectionCompression();
+    }
+
+    /** {@inheritDoc} */
+    @Override public Map<String, Double> getCompressionRatioByConnection() {
+        return nioSrvWrapper.compressionRatios();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getMessageCoalescingDelay() {
+        return cfg.messageCoalescingDelay();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getMessageCoalescingLimit() {
+        return cfg.messageCoalescingLimit();
+    }
+
     /** {@inheritDoc} */
     @Override public int getSelectorsCount() {
         return cfg.selectorsCount();
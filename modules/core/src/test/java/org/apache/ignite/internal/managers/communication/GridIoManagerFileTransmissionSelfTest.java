@@ -24,7 +24,6 @@ import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.Channel;
-import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.OpenOption;
 import java.util.HashMap;
@@ -65,11 +64,15 @@ import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.plugin.extensions.communication.Message;
 import org.apache.ignite.spi.IgniteSpiException;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi;
+import org.apache.ignite.spi.metric.LongMetric;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import static org.apache.ignite.internal.managers.communication.GridIoManager.COMM_METRICS;
+import static org.apache.ignite.internal.managers.communication.GridIoManager.FILE_RCVD_BYTES_CNT;
+import static org.apache.ignite.internal.managers.communication.GridIoManager.FILE_SENT_BYTES_CNT;
 import static org.apache.ignite.internal.util.IgniteUtils.fileCount;
 import static org.apache.ignite.testframework.GridTestUtils.getFieldValue;
 import static org.apache.ignite.testframework.GridTestUtils.setFieldValue;
@@ -215,6 +218,11 @@ public class GridIoManagerFileTransmissionSelfTest extends GridCommonAbstractTes
             }
         }
 
+        long total = fileSizes.values().stream().mapToLong(Long::longValue).sum();
+
+        assertEquals(total, fileBytesMetric(snd, FILE_SENT_BYTES_CNT));
+        assertTrue(waitForCondition(() -> fileBytesMetric(rcv, FILE_RCVD_BYTES_CNT) == total, getTestTimeout()));
+
         stopAllGrids();
 
         assertEquals(fileSizes.size(), tempStore.listFiles(NodeFileTree::binFile).length);
@@ -454,13 +462,12 @@ public class GridIoManagerFileTransmissionSelfTest extends GridCommonAbstractTes
 
                 // Blocking writer and stopping node FileIo.
                 return new FileIODecorator(fileIo[0]) {
-                    @Override public long transferFrom(ReadableByteChannel src, long position, long count)
-                        throws IOException {
+                    @Override public int writeFully(ByteBuffer srcBuf, long position) throws IOException {
                         // Read 4 chunks than throw an exception to emulate error processing.
                         if (readChunks.incrementAndGet() == 4)
                             throw new IgniteException(chunkDownloadExMsg);
 
-                        return super.transferFrom(src, position, count);
+                        return super.writeFully(srcBuf, position);
                     }
                 };
             }
@@ -915,6 +922,15 @@ public class GridIoManagerFileTransmissionSelfTest extends GridCommonAbstractTes
         return out;
     }
 
+    /**
+     * @param ignite Ignite instance.
+     * @param name Metric name.
+     * @return Value of the file transfer metric.
+     */
+    private static long fileBytesMetric(IgniteEx ignite, String name) {
+        return ignite.context().metric().registry(COMM_METRICS).<LongMetric>findMetric(name).value();
+    }
+
     /**
      * @param ignite Ignite instance to set factory.
      * @param factory New factory to use.
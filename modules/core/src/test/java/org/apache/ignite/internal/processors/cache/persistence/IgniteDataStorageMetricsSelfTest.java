@@ -62,6 +62,7 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.metric.MetricRegistry;
 import org.apache.ignite.spi.metric.HistogramMetric;
 import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.ListeningTestLogger;
 import org.apache.ignite.testframework.LogListener;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
@@ -414,6 +415,33 @@ public class IgniteDataStorageMetricsSelfTest extends GridCommonAbstractTest {
         assertEquals(exp, dsMetricRegistry(n).<LongAdderMetric>findMetric("WalWrittenBytes").value());
     }
 
+    /**
+     * Checking that the metrics of WAL fsync group commit are working correctly.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWalFsyncBatch() throws Exception {
+        IgniteEx n = startGrid(0, (UnaryOperator<IgniteConfiguration>)cfg -> {
+            cfg.getDataStorageConfiguration().setWalMode(WALMode.FSYNC);
+
+            return cfg;
+        });
+
+        n.cluster().state(ACTIVE);
+        awaitPartitionMapExchange();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int i = 0; i < 100; i++)
+                n.cache("cache").put(ThreadLocalRandom.current().nextLong(), new byte[128]);
+        }, 8, "put");
+
+        MetricRegistry mreg = dsMetricRegistry(n);
+
+        assertTrue(Arrays.stream(mreg.<HistogramMetric>findMetric("WalFsyncBatchHistogram").value()).sum() > 0);
+        assertTrue(Arrays.stream(mreg.<HistogramMetric>findMetric("WalFsyncWaitHistogram").value()).sum() > 0);
+    }
+
     /**
      * Checking that the metrics of the total size compressed segment are working correctly.
      *
@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.blob;
+
+import java.io.File;
+import java.util.Arrays;
+import javax.cache.CacheException;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.typedef.X;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BLOB_STORE_SEGMENT_SIZE;
+
+/**
+ * Tests storing of large values out of data pages.
+ */
+public class ValueSeparationTest extends GridCommonAbstractTest {
+    /** Value separation threshold. */
+    private static final int THRESHOLD = 1024;
+
+    /** Partitions count. */
+    private static final int PARTS = 4;
+
+    /** Keys count. */
+    private static final int KEYS = 200;
+
+    /** In-memory data region name. */
+    private static final String IN_MEMORY_REGION = "in-memory";
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setConsistentId(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true))
+                .setDataRegionConfigurations(new DataRegionConfiguration().setName(IN_MEMORY_REGION)))
+            .setCacheConfiguration(new CacheConfiguration<Integer, Object>(DEFAULT_CACHE_NAME)
+                .setAffinity(new RendezvousAffinityFunction(false, PARTS))
+                .setValueSeparationThreshold(THRESHOLD));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPutGetRemove() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Object> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int key = 0; key < KEYS; key++)
+            cache.put(key, value(key, 0));
+
+        checkData(cache, 0);
+
+        assertTrue(segmentsCount(ignite) > 0);
+
+        // Large values become small and vice versa, every third key is removed.
+        for (int key = 0; key < KEYS; key++) {
+            if (key % 3 == 2)
+                cache.remove(key);
+            else
+                cache.put(key, value(key, 1));
+        }
+
+        checkData(cache, 1);
+
+        forceCheckpoint();
+
+        stopGrid(0);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        checkData(cache, 1);
+
+        // Updates logged after the last checkpoint are recovered from WAL.
+        for (int key = 0; key < KEYS; key++)
+            cache.put(key, value(key, 2));
+
+        stopGrid(0, true);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        checkData(cache, 2);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_BLOB_STORE_SEGMENT_SIZE, value = "65536")
+    public void testGarbageCollection() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Object> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        int iterations = 20;
+
+        for (int i = 0; i < iterations; i++) {
+            for (int key = 0; key < KEYS; key++)
+                cache.put(key, largeValue(key, i));
+
+            forceCheckpoint();
+        }
+
+        int maxSegments = 3 * KEYS * (THRESHOLD + 64) / 65536 + 2 * PARTS;
+
+        IgniteEx ignite0 = ignite;
+
+        assertTrue(GridTestUtils.waitForCondition(() -> {
+            try {
+                forceCheckpoint(ignite0);
+            }
+            catch (IgniteCheckedException e) {
+                throw new AssertionError(e);
+            }
+
+            return segmentsCount(ignite0) <= maxSegments;
+        }, getTestTimeout()));
+
+        for (int key = 0; key < KEYS; key++)
+            assertTrue(Arrays.equals(largeValue(key, iterations - 1), (byte[])cache.get(key)));
+
+        stopGrid(0);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int key = 0; key < KEYS; key++)
+            assertTrue(Arrays.equals(largeValue(key, iterations - 1), (byte[])cache.get(key)));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testInMemoryCacheRejected() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        try {
+            ignite.createCache(new CacheConfiguration<>("in-memory-cache")
+                .setDataRegionName(IN_MEMORY_REGION)
+                .setValueSeparationThreshold(THRESHOLD));
+
+            fail("Exception is expected.");
+        }
+        catch (CacheException e) {
+            assertTrue(X.hasCause(e, "Value separation is allowed only for persistent caches", IgniteCheckedException.class));
+        }
+    }
+
+    /**
+     * @param cache Cache.
+     * @param iteration Update iteration.
+     */
+    private void checkData(IgniteCache<Integer, Object> cache, int iteration) {
+        for (int key = 0; key < KEYS; key++) {
+            Object val = cache.get(key);
+
+            if (iteration == 1 && key % 3 == 2)
+                assertNull(val);
+            else if (val instanceof byte[])
+                assertTrue(Arrays.equals((byte[])value(key, iteration), (byte[])val));
+            else
+                assertEquals(value(key, iteration), val);
+        }
+    }
+
+    /**
+     * @param key Key.
+     * @param iteration Update iteration.
+     * @return Value of the key: a large array, a small array or a large object.
+     */
+    private static Object value(int key, int iteration) {
+        switch ((key + iteration) % 3) {
+            case 0:
+                return largeValue(key, iteration);
+
+            case 1:
+                return new byte[] {(byte)key, (byte)iteration};
+
+            default:
+                return new TestValue(key, new String(largeValue(key, iteration)));
+        }
+    }
+
+    /**
+     * @param key Key.
+     * @param iteration Update iteration.
+     * @return Array exceeding the threshold.
+     */
+    private static byte[] largeValue(int key, int iteration) {
+        byte[] val = new byte[THRESHOLD + key % 100];
+
+        Arrays.fill(val, (byte)('a' + (key + iteration) % 26));
+
+        return val;
+    }
+
+    /**
+     * @param ignite Node.
+     * @return Count of blob store segment files of the cache.
+     */
+    private static int segmentsCount(IgniteEx ignite) {
+        File dir = ignite.context().pdsFolderResolver().fileTree()
+            .partitionFile(ignite.cachex(DEFAULT_CACHE_NAME).configuration(), 0).getParentFile();
+
+        File[] files = dir.listFiles((d, name) -> name.startsWith("blob-") && name.endsWith(".blob"));
+
+        return files == null ? 0 : files.length;
+    }
+
+    /** */
+    private static class TestValue {
+        /** */
+        private final int id;
+
+        /** */
+        private final String payload;
+
+        /**
+         * @param id ID.
+         * @param payload Payload.
+         */
+        TestValue(int id, String payload) {
+            this.id = id;
+            this.payload = payload;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean equals(Object o) {
+            if (this == o)
+                return true;
+
+            if (o == null || getClass() != o.getClass())
+                return false;
+
+            TestValue val = (TestValue)o;
+
+            return id == val.id && payload.equals(val.payload);
+        }
+
+        /** {@inheritDoc} */
+        @Override public int hashCode() {
+            return id;
+        }
+    }
+}
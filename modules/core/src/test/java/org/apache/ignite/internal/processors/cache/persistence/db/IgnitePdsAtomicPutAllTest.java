@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db;
+
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.BTREE_PAGE_BATCH_UPDATE;
+
+/**
+ * Checks atomic putAll which writes rows into the leaf pages of the partition tree by batches.
+ */
+public class IgnitePdsAtomicPutAllTest extends GridCommonAbstractTest {
+    /** Count of keys. */
+    private static final int KEYS = 10_000;
+
+    /** Count of keys of a single putAll. */
+    private static final int BATCH = 200;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setMaxSize(256L * 1024 * 1024)
+                    .setPersistenceEnabled(true)))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(ATOMIC)
+                .setAffinity(new RendezvousAffinityFunction(false, 4)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * Checks that rows inserted and replaced by batches are logged by batch delta records and recovered after restart.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPutAllRecoveredFromWal() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, String> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        putAll(cache, "first-");
+
+        forceCheckpoint();
+
+        GridCacheDatabaseSharedManager db = (GridCacheDatabaseSharedManager)ignite.context().cache().context()
+            .database();
+
+        // Page deltas after the checkpoint are applied by the binary recovery.
+        db.enableCheckpoints(false).get();
+
+        putAll(cache, "second-");
+
+        for (int i = 0; i < KEYS; i += 3)
+            cache.remove(i);
+
+        assertTrue(batchUpdateRecords(ignite) > 0);
+
+        stopGrid(0, true);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        assertEquals(KEYS - (KEYS + 2) / 3, cache.size());
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(i % 3 == 0 ? null : "second-" + i, cache.get(i));
+    }
+
+    /**
+     * @param cache Cache.
+     * @param prefix Prefix of values.
+     */
+    private static void putAll(IgniteCache<Integer, String> cache, String prefix) {
+        for (int i = 0; i < KEYS; i += BATCH) {
+            Map<Integer, String> batch = new TreeMap<>();
+
+            for (int j = i; j < i + BATCH; j++)
+                batch.put(j, prefix + j);
+
+            cache.putAll(batch);
+        }
+    }
+
+    /**
+     * @param ignite Ignite.
+     * @return Count of batch delta records in WAL.
+     * @throws Exception If failed.
+     */
+    private static int batchUpdateRecords(IgniteEx ignite) throws Exception {
+        int cnt = 0;
+
+        try (WALIterator it = ignite.context().cache().context().wal().replay(null)) {
+            while (it.hasNext()) {
+                WALRecord rec = it.next().get2();
+
+                if (rec.type() == BTREE_PAGE_BATCH_UPDATE)
+                    cnt++;
+            }
+        }
+
+        return cnt;
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.IgniteCacheOffheapManager.CacheDataStore;
+import org.apache.ignite.internal.processors.cache.PartitionBloomFilter;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheOffheapManager.GridCacheDataStore;
+import org.apache.ignite.internal.thread.pool.IgniteThreadPoolExecutor;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PARTITION_BLOOM_FILTER_BITS_PER_KEY;
+
+/**
+ * Checks the Bloom filter of partition keys.
+ */
+@WithSystemProperty(key = IGNITE_PARTITION_BLOOM_FILTER_BITS_PER_KEY, value = "10")
+public class IgnitePdsPartitionBloomFilterTest extends GridCommonAbstractTest {
+    /** Count of keys. */
+    private static final int KEYS = 10_000;
+
+    /** Count of partitions. */
+    private static final int PARTS = 4;
+
+    /** Cache of the shared group. */
+    private static final String GROUP_CACHE = "groupCache";
+
+    /** */
+    private boolean persistence;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setMaxSize(256L * 1024 * 1024)
+                .setPersistenceEnabled(persistence)));
+
+        cfg.setCacheConfiguration(
+            new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAffinity(new RendezvousAffinityFunction(false, PARTS)),
+            new CacheConfiguration<>(GROUP_CACHE)
+                .setGroupName("group")
+                .setAffinity(new RendezvousAffinityFunction(false, PARTS)),
+            new CacheConfiguration<>(GROUP_CACHE + 1)
+                .setGroupName("group")
+                .setAffinity(new RendezvousAffinityFunction(false, PARTS)));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testInMemory() throws Exception {
+        persistence = false;
+
+        checkLookups(DEFAULT_CACHE_NAME, false);
+        checkLookups(GROUP_CACHE, false);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPersistence() throws Exception {
+        persistence = true;
+
+        checkLookups(DEFAULT_CACHE_NAME, true);
+        checkLookups(GROUP_CACHE, true);
+    }
+
+    /**
+     * Checks that the filter is built by the partition scan pool and the queued build is skipped after the cache is
+     * destroyed.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBuildSkippedAfterCacheDestroy() throws Exception {
+        persistence = true;
+
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        IgniteThreadPoolExecutor exec = ignite.context().pools().getPartitionScanExecutorService();
+
+        CountDownLatch latch = new CountDownLatch(1);
+
+        exec.execute(() -> U.awaitQuiet(latch));
+
+        List<CacheDataStore> stores = new ArrayList<>();
+
+        for (int p = 0; p < PARTS; p++)
+            stores.add(store(ignite, DEFAULT_CACHE_NAME, p));
+
+        try {
+            // Lookups queue the filter builds.
+            for (int i = 0; i < KEYS; i++)
+                assertEquals((Integer)i, cache.get(i));
+
+            for (CacheDataStore store : stores)
+                assertNull(GridTestUtils.getFieldValue(store, "bloomFilter"));
+
+            ignite.destroyCache(DEFAULT_CACHE_NAME);
+        }
+        finally {
+            latch.countDown();
+        }
+
+        assertTrue(GridTestUtils.waitForCondition(() -> exec.getActiveCount() == 0 && exec.getQueue().isEmpty(),
+            getTestTimeout()));
+
+        for (CacheDataStore store : stores) {
+            assertNull(GridTestUtils.getFieldValue(store, "bloomFilter"));
+            assertFalse(GridTestUtils.<AtomicBoolean>getFieldValue(store, "bloomFilterBuilding").get());
+        }
+    }
+
+    /**
+     * @param cacheName Cache name.
+     * @param restart Restart the node before the lookups.
+     * @throws Exception If failed.
+     */
+    private void checkLookups(String cacheName, boolean restart) throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(cacheName);
+
+        for (int i = 0; i < KEYS; i++) {
+            if (present(i))
+                cache.put(i, i);
+        }
+
+        if (restart) {
+            stopGrid(0);
+
+            ignite = startGrid(0);
+
+            cache = ignite.cache(cacheName);
+        }
+
+        // Lookups start the filter build.
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(present(i) ? (Integer)i : null, cache.get(i));
+
+        IgniteEx ignite0 = ignite;
+
+        assertTrue(GridTestUtils.waitForCondition(() -> {
+            for (int p = 0; p < PARTS; p++) {
+                PartitionBloomFilter filter = filter(ignite0, cacheName, p);
+
+                if (filter == null || !filter.ready())
+                    return false;
+            }
+
+            return true;
+        }, getTestTimeout()));
+
+        GridCacheContext<?, ?> cctx = ignite.cachex(cacheName).context();
+
+        int cacheId = cctx.group().sharedGroup() ? cctx.cacheId() : 0;
+
+        int falsePositives = 0;
+
+        for (int i = 0; i < KEYS; i++) {
+            int hash = cctx.toCacheKeyObject(i).hashCode();
+
+            boolean mightContain = filter(ignite, cacheName, cctx.affinity().partition(i)).mightContain(cacheId, hash);
+
+            if (present(i))
+                assertTrue("Key is absent in the filter: " + i, mightContain);
+            else if (mightContain)
+                falsePositives++;
+        }
+
+        assertTrue("Too many false positives: " + falsePositives, falsePositives < KEYS / 2 / 100);
+
+        for (int i = 0; i < KEYS; i++) {
+            assertEquals(present(i) ? (Integer)i : null, cache.get(i));
+            assertEquals(present(i), cache.containsKey(i));
+        }
+
+        // Other cache of the group doesn't contain the keys.
+        if (cctx.group().sharedGroup()) {
+            IgniteCache<Integer, Integer> cache1 = ignite.cache(GROUP_CACHE + 1);
+
+            for (int i = 0; i < KEYS; i++)
+                assertNull(cache1.get(i));
+        }
+
+        // Keys inserted after the filter is built.
+        for (int i = 0; i < KEYS; i++) {
+            if (present(i))
+                cache.remove(i);
+            else
+                cache.put(i, i);
+        }
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(present(i) ? null : (Integer)i, cache.get(i));
+
+        for (int i = 0; i < KEYS; i += 3) {
+            if (present(i))
+                cache.put(i, -i);
+        }
+
+        for (int i = 0; i < KEYS; i++) {
+            Integer exp = present(i) ? (i % 3 == 0 ? (Integer)(-i) : null) : (Integer)i;
+
+            assertEquals(exp, cache.get(i));
+        }
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /**
+     * @param key Key.
+     * @return {@code True} if the key is initially present in the cache. Half of the keys of each partition are present.
+     */
+    private static boolean present(int key) {
+        return key / PARTS % 2 == 0;
+    }
+
+    /**
+     * @param ignite Node.
+     * @param cacheName Cache name.
+     * @param part Partition.
+     * @return Filter of the partition keys.
+     */
+    private static PartitionBloomFilter filter(IgniteEx ignite, String cacheName, int part) {
+        return GridTestUtils.getFieldValue(store(ignite, cacheName, part), "bloomFilter");
+    }
+
+    /**
+     * @param ignite Node.
+     * @param cacheName Cache name.
+     * @param part Partition.
+     * @return Data store of the partition.
+     */
+    private static CacheDataStore store(IgniteEx ignite, String cacheName, int part) {
+        CacheDataStore store = ignite.cachex(cacheName).context().topology().localPartition(part).dataStore();
+
+        if (store instanceof GridCacheDataStore)
+            store = GridTestUtils.getFieldValue(store, "delegate");
+
+        return store;
+    }
+}
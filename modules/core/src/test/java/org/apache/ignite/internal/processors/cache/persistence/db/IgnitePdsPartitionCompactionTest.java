@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.spi.metric.Metric;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PARTITION_COMPACTION_RATE;
+import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Checks online compaction of partition data pages.
+ */
+@WithSystemProperty(key = IGNITE_PARTITION_COMPACTION_RATE, value = "0")
+public class IgnitePdsPartitionCompactionTest extends GridCommonAbstractTest {
+    /** Count of keys. */
+    private static final int KEYS = 20_000;
+
+    /** Every {@code STEP}-th key is kept after removal. */
+    private static final int STEP = 5;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setMaxSize(256L * 1024 * 1024)
+                .setPersistenceEnabled(true)));
+
+        cfg.setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, 1)));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCompaction() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, String> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, value(i, 0));
+
+        for (int i = 0; i < KEYS; i++) {
+            if (i % STEP != 0)
+                cache.remove(i);
+        }
+
+        forceCheckpoint();
+
+        int pagesBefore = dataPages(ignite);
+
+        AtomicBoolean stop = new AtomicBoolean();
+
+        // Concurrent updates of the kept keys.
+        IgniteInternalFuture<?> updFut = GridTestUtils.runAsync(() -> {
+            int iter = 1;
+
+            while (!stop.get()) {
+                for (int i = 0; i < KEYS && !stop.get(); i += STEP * 7)
+                    cache.put(i, value(i, iter));
+
+                iter++;
+            }
+        });
+
+        long moved;
+
+        try {
+            GridCacheDatabaseSharedManager db = (GridCacheDatabaseSharedManager)ignite.context().cache().context()
+                .database();
+
+            moved = db.compactPartition(CU.cacheId(DEFAULT_CACHE_NAME), 0).get(getTestTimeout());
+        }
+        finally {
+            stop.set(true);
+
+            updFut.get(getTestTimeout());
+        }
+
+        int pagesAfter = dataPages(ignite);
+
+        assertTrue("Unexpected moved rows: " + moved, moved > 0);
+
+        assertEquals(0, metric(ignite, "CompactionPartitionsLeft", AtomicLongMetric.class).value());
+        assertEquals(moved, metric(ignite, "CompactionRowsMoved", LongAdderMetric.class).value());
+        assertTrue(metric(ignite, "CompactionPagesScanned", LongAdderMetric.class).value() > 0);
+        assertTrue("Unexpected data pages [before=" + pagesBefore + ", after=" + pagesAfter + ']',
+            pagesAfter * 2 < pagesBefore);
+
+        checkData(cache);
+
+        forceCheckpoint();
+
+        stopAllGrids();
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        checkData(ignite.cache(DEFAULT_CACHE_NAME));
+    }
+
+    /**
+     * @param cache Cache.
+     */
+    private void checkData(IgniteCache<Integer, String> cache) {
+        assertEquals(KEYS / STEP, cache.size());
+
+        for (int i = 0; i < KEYS; i++) {
+            String val = cache.get(i);
+
+            if (i % STEP != 0)
+                assertNull(val);
+            else
+                assertTrue(val, val.startsWith(i + "-"));
+        }
+    }
+
+    /**
+     * @param ignite Ignite.
+     * @return Count of data pages with rows of the partition.
+     * @throws Exception If failed.
+     */
+    private int dataPages(IgniteEx ignite) throws Exception {
+        CacheGroupContext grp = ignite.context().cache().cacheGroup(CU.cacheId(DEFAULT_CACHE_NAME));
+
+        Set<Long> pages = new HashSet<>();
+
+        GridCursor<? extends CacheDataRow> cur = grp.topology().localPartition(0).dataStore().cursor();
+
+        while (cur.next())
+            pages.add(PageIdUtils.pageId(cur.get().link()));
+
+        return pages.size();
+    }
+
+    /**
+     * @param ignite Ignite.
+     * @param name Metric name.
+     * @param type Metric type.
+     * @return Metric of the data storage.
+     */
+    private static <T extends Metric> T metric(IgniteEx ignite, String name, Class<T> type) {
+        return ignite.context().metric().find(metricName(DATASTORAGE_METRIC_PREFIX, name), type);
+    }
+
+    /**
+     * @param key Key.
+     * @param iter Update iteration.
+     * @return Value.
+     */
+    private static String value(int key, int iter) {
+        return key + "-" + iter + "-" + "x".repeat(100);
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.freelist;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.IgniteCacheOffheapManager;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_FREE_LIST_ALLOCATION_CACHING;
+
+/**
+ * Tests thread-affine allocation caches of free lists.
+ */
+@WithSystemProperty(key = IGNITE_FREE_LIST_ALLOCATION_CACHING, value = "true")
+public class FreeListAllocationCachingTest extends GridCommonAbstractTest {
+    /** Partitions count. */
+    private static final int PARTS = 8;
+
+    /** Writer threads count. */
+    private static final int THREADS = 8;
+
+    /** Keys count per writer thread. */
+    private static final int KEYS = 2_000;
+
+    /** Persistence enabled flag. */
+    private boolean persistence;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setConsistentId(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(persistence)));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testInMemory() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        IgniteCache<Integer, byte[]> cache = ignite.createCache(new CacheConfiguration<Integer, byte[]>(DEFAULT_CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, PARTS)));
+
+        doConcurrentUpdates(cache);
+
+        checkData(cache);
+
+        assertTrue(allocationCachedPagesCount(ignite) > 0);
+
+        doConcurrentUpdates(cache);
+
+        checkData(cache);
+    }
+
+    /**
+     * Checks that allocation caching is disabled by default.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_FREE_LIST_ALLOCATION_CACHING, value = "false")
+    public void testDisabled() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        IgniteCache<Integer, byte[]> cache = ignite.createCache(new CacheConfiguration<Integer, byte[]>(DEFAULT_CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, PARTS)));
+
+        doConcurrentUpdates(cache);
+
+        checkData(cache);
+
+        assertEquals(0, allocationCachedPagesCount(ignite));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPersistence() throws Exception {
+        persistence = true;
+
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        GridCacheDatabaseSharedManager dbMgr = (GridCacheDatabaseSharedManager)ignite.context().cache().context().database();
+
+        dbMgr.enableCheckpoints(false).get();
+
+        IgniteCache<Integer, byte[]> cache = ignite.createCache(new CacheConfiguration<Integer, byte[]>(DEFAULT_CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, PARTS)));
+
+        doConcurrentUpdates(cache);
+
+        checkData(cache);
+
+        assertTrue(allocationCachedPagesCount(ignite) > 0);
+
+        dbMgr.enableCheckpoints(true).get();
+
+        forceCheckpoint(ignite);
+
+        // All cached pages are returned to the free lists on checkpoint.
+        assertEquals(0, allocationCachedPagesCount(ignite));
+
+        stopGrid(0);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        checkData(cache);
+
+        doConcurrentUpdates(cache);
+
+        checkData(cache);
+    }
+
+    /**
+     * Puts, updates and removes keys concurrently. Each thread updates its own range of keys.
+     *
+     * @param cache Cache.
+     * @throws Exception If failed.
+     */
+    private void doConcurrentUpdates(IgniteCache<Integer, byte[]> cache) throws Exception {
+        AtomicInteger threadIdx = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            int from = threadIdx.getAndIncrement() * KEYS;
+
+            for (int key = from; key < from + KEYS; key++) {
+                cache.put(key, new byte[key % 100 + 1]);
+
+                // Update with the value of another size moves the row to another place.
+                if (key % 5 == 0)
+                    cache.put(key, value(key));
+
+                if (key % 3 == 2)
+                    cache.remove(key);
+            }
+
+            for (int key = from; key < from + KEYS; key++) {
+                if (key % 3 != 2)
+                    cache.put(key, value(key));
+            }
+        }, THREADS, "writer");
+    }
+
+    /**
+     * @param cache Cache.
+     */
+    private void checkData(IgniteCache<Integer, byte[]> cache) {
+        for (int key = 0; key < THREADS * KEYS; key++) {
+            if (key % 3 == 2)
+                assertNull(cache.get(key));
+            else
+                assertTrue(Arrays.equals(value(key), cache.get(key)));
+        }
+    }
+
+    /**
+     * @param key Key.
+     * @return Value of the key.
+     */
+    private static byte[] value(int key) {
+        byte[] val = new byte[200 + key % 300];
+
+        Arrays.fill(val, (byte)key);
+
+        return val;
+    }
+
+    /**
+     * @param ignite Node.
+     * @return Count of pages in the allocation caches of the cache free lists.
+     */
+    private static int allocationCachedPagesCount(IgniteEx ignite) {
+        int cnt = 0;
+
+        IgniteCacheOffheapManager offheap = ignite.cachex(DEFAULT_CACHE_NAME).context().group().offheap();
+
+        for (IgniteCacheOffheapManager.CacheDataStore store : offheap.cacheDataStores()) {
+            if (store.rowStore() != null)
+                cnt += ((AbstractFreeList<?>)store.rowStore().freeList()).allocationCachedPagesCount();
+        }
+
+        return cnt;
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.internal.mem.DirectMemoryProvider;
+import org.apache.ignite.internal.mem.DirectMemoryRegion;
+import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.Adaptive2QPageList.GHOST_FREQUENT;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.Adaptive2QPageList.GHOST_NONE;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.Adaptive2QPageList.GHOST_RECENT;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.Adaptive2QPageList.NULL_IDX;
+
+/**
+ * Test adaptive 2Q lists implementation.
+ */
+public class Adaptive2QPageListTest extends GridCommonAbstractTest {
+    /** Max pages count. */
+    private static final int MAX_PAGES_CNT = 20;
+
+    /** Memory provider. */
+    private static DirectMemoryProvider provider;
+
+    /** Memory region. */
+    private static DirectMemoryRegion region;
+
+    /** Pages lists. */
+    private Adaptive2QPageList list;
+
+    /** */
+    @BeforeClass
+    public static void setUp() {
+        provider = new UnsafeMemoryProvider(log);
+        provider.initialize(new long[] {Adaptive2QPageList.requiredMemory(MAX_PAGES_CNT)});
+
+        region = provider.nextRegion();
+    }
+
+    /** */
+    @AfterClass
+    public static void tearDown() {
+        provider.shutdown(true);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        list = new Adaptive2QPageList(MAX_PAGES_CNT, region.address());
+    }
+
+    /** */
+    @Test
+    public void testAdd() {
+        addToTail(0, false);
+        addToTail(1, true);
+        addToTail(2, false);
+        addToTail(3, true);
+
+        assertRecentList(0, 2);
+        assertFrequentList(1, 3);
+    }
+
+    /** */
+    @Test
+    public void testRemove() {
+        addToTail(0, false);
+        addToTail(1, true);
+        addToTail(2, false);
+        addToTail(3, true);
+        addToTail(4, false);
+        addToTail(5, true);
+
+        remove(2); // Recent list middle.
+        assertRecentList(0, 4);
+        assertFrequentList(1, 3, 5);
+
+        remove(5); // Frequent list tail.
+        assertRecentList(0, 4);
+        assertFrequentList(1, 3);
+
+        remove(0); // Recent list head.
+        assertRecentList(4);
+        assertFrequentList(1, 3);
+
+        remove(4); // Last recent page.
+        remove(1);
+        remove(3); // Last frequent page.
+        assertRecentList();
+        assertFrequentList();
+    }
+
+    /** */
+    @Test
+    public void testPoll() {
+        assertEquals(NULL_IDX, poll(false));
+        assertEquals(NULL_IDX, poll(true));
+
+        addToTail(0, false);
+        addToTail(1, true);
+        addToTail(2, false);
+        addToTail(3, true);
+
+        assertEquals(1, poll(true));
+        assertEquals(0, poll(false));
+        assertEquals(3, poll(true));
+        assertEquals(NULL_IDX, poll(true));
+        assertEquals(2, poll(false));
+        assertEquals(NULL_IDX, poll(false));
+    }
+
+    /** */
+    @Test
+    public void testMoveToTail() {
+        addToTail(0, false);
+        addToTail(1, true);
+        addToTail(2, false);
+        addToTail(3, true);
+        addToTail(4, true);
+
+        // Recent pages are not moved.
+        moveToTail(0);
+        assertRecentList(0, 2);
+
+        moveToTail(4);
+        assertFrequentList(1, 3, 4);
+
+        moveToTail(3);
+        assertFrequentList(1, 4, 3);
+
+        moveToTail(1);
+        assertFrequentList(4, 3, 1);
+
+        assertRecentList(0, 2);
+    }
+
+    /** */
+    @Test
+    public void testGhost() {
+        list.addGhost(1, false);
+        list.addGhost(2, true);
+
+        assertEquals(GHOST_NONE, list.pollGhost(3));
+        assertEquals(GHOST_RECENT, list.pollGhost(1));
+        assertEquals(GHOST_FREQUENT, list.pollGhost(2));
+
+        // Ghost hits only once.
+        assertEquals(GHOST_NONE, list.pollGhost(1));
+        assertEquals(GHOST_NONE, list.pollGhost(2));
+
+        list.addGhost(1, false);
+
+        // Ghost expires after replacement of total pages count pages.
+        for (int i = 0; i < MAX_PAGES_CNT; i++)
+            list.addGhost(100 + i, true);
+
+        assertEquals(GHOST_NONE, list.pollGhost(1));
+    }
+
+    /** */
+    private void addToTail(int pageIdx, boolean frequent) {
+        list.addToTail(pageIdx, frequent);
+
+        checkInvariants();
+    }
+
+    /** */
+    private void remove(int pageIdx) {
+        list.remove(pageIdx);
+
+        checkInvariants();
+    }
+
+    /** */
+    private int poll(boolean frequent) {
+        int idx = list.poll(frequent);
+
+        checkInvariants();
+
+        return idx;
+    }
+
+    /** */
+    private void moveToTail(int pageIdx) {
+        list.moveToTail(pageIdx);
+
+        checkInvariants();
+    }
+
+    /** */
+    private void assertRecentList(int... pageIdxs) {
+        assertList(list.recentHeadIdx(), pageIdxs);
+
+        assertEquals(pageIdxs.length, list.recentPagesCount());
+    }
+
+    /** */
+    private void assertFrequentList(int... pageIdxs) {
+        assertList(list.frequentHeadIdx(), pageIdxs);
+
+        assertEquals(pageIdxs.length, list.frequentPagesCount());
+    }
+
+    /** */
+    private void assertList(int headIdx, int... pageIdxs) {
+        int curIdx = headIdx;
+
+        for (int pageIdx : pageIdxs) {
+            assertEquals(pageIdx, curIdx);
+
+            curIdx = list.next(curIdx);
+        }
+
+        assertEquals(NULL_IDX, curIdx);
+    }
+
+    /**
+     * Check lists invariants.
+     */
+    private void checkInvariants() {
+        assertEquals(list.recentPagesCount(),
+            checkInvariants(list.recentHeadIdx(), list.recentTailIdx(), false));
+
+        assertEquals(list.frequentPagesCount(),
+            checkInvariants(list.frequentHeadIdx(), list.frequentTailIdx(), true));
+    }
+
+    /**
+     * @return Count of pages in the list.
+     */
+    private int checkInvariants(int headIdx, int tailIdx, boolean frequent) {
+        assertTrue((headIdx == NULL_IDX) == (tailIdx == NULL_IDX));
+
+        int limit = MAX_PAGES_CNT + 1;
+        int cnt = 0;
+        int curIdx = headIdx;
+
+        while (curIdx != NULL_IDX && limit-- > 0) {
+            int prev = list.prev(curIdx);
+            int next = list.next(curIdx);
+
+            if (prev == NULL_IDX)
+                assertEquals(headIdx, curIdx);
+            else
+                assertEquals(curIdx, list.next(prev));
+
+            if (next == NULL_IDX)
+                assertEquals(tailIdx, curIdx);
+            else
+                assertEquals(curIdx, list.prev(next));
+
+            assertEquals(frequent, list.frequentPage(curIdx));
+
+            cnt++;
+
+            curIdx = next;
+        }
+
+        assertTrue(limit > 0);
+
+        return cnt;
+    }
+}
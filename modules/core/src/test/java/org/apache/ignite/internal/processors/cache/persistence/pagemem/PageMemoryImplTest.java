@@ -42,6 +42,7 @@ import org.apache.ignite.internal.mem.DirectMemoryProvider;
 import org.apache.ignite.internal.mem.IgniteOutOfMemoryException;
 import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
 import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.PageUtils;
 import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
 import org.apache.ignite.internal.pagemem.store.PageStore;
@@ -75,6 +76,7 @@ import org.jetbrains.annotations.Nullable;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_DATA;
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_IDX;
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.INDEX_PARTITION;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.CHECKPOINT_POOL_OVERFLOW_ERROR_MSG;
@@ -418,6 +420,51 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
             }, null, false);
     }
 
+    /**
+     * @throws Exception if failed.
+     */
+    @Test
+    public void testPrefetchPages() throws Exception {
+        TestPageStoreManager pageStoreMgr = new TestPageStoreManager();
+
+        PageMemoryImpl memory = createPageMemory(
+            MAX_SIZE,
+            PageMemoryImpl.ThrottlingPolicy.TARGET_RATIO_BASED,
+            pageStoreMgr,
+            pageStoreMgr,
+            null);
+
+        try {
+            long startPageId = PageIdUtils.pageId(0, FLAG_DATA, 1);
+
+            int cnt = 16;
+
+            for (int i = 0; i < cnt; i++)
+                assertFalse(memory.hasLoadedPage(new FullPageId(startPageId + i, 1)));
+
+            long[] pageIds = new long[cnt];
+
+            for (int i = 0; i < cnt; i++)
+                pageIds[i] = startPageId + i;
+
+            memory.prefetchPages(1, pageIds, cnt);
+
+            assertTrue(GridTestUtils.waitForCondition(() -> {
+                for (int i = 0; i < cnt; i++) {
+                    if (!memory.hasLoadedPage(new FullPageId(startPageId + i, 1)))
+                        return false;
+                }
+
+                return true;
+            }, getTestTimeout()));
+
+            assertFalse(memory.hasLoadedPage(new FullPageId(startPageId + cnt, 1)));
+        }
+        finally {
+            memory.stop(true);
+        }
+    }
+
     /**
      * @param mem Page memory.
      * @param fullPageId Full page ID to write.
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl.DATAREGION_METRICS_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheGroupMetricsRegistryName;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Checks page hits, misses and ghost hits metrics of {@link PageReplacementMode#ADAPTIVE_2Q} page replacement mode.
+ */
+public class PageReplacementMetricsTest extends GridCommonAbstractTest {
+    /** Data region with adaptive 2Q page replacement mode. */
+    private static final String A2Q_REGION = "a2q";
+
+    /** Data region with clock page replacement mode. */
+    private static final String CLOCK_REGION = "clock";
+
+    /** Cache in the adaptive 2Q data region. */
+    private static final String A2Q_CACHE = "a2qCache";
+
+    /** Another cache in the adaptive 2Q data region. */
+    private static final String A2Q_CACHE2 = "a2qCache2";
+
+    /** Cache in the clock data region. */
+    private static final String CLOCK_CACHE = "clockCache";
+
+    /** Count of keys. */
+    private static final int KEYS = 1_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDataRegionConfigurations(
+                    new DataRegionConfiguration()
+                        .setName(A2Q_REGION)
+                        .setMaxSize(64L * 1024 * 1024)
+                        .setPersistenceEnabled(true)
+                        .setPageReplacementMode(PageReplacementMode.ADAPTIVE_2Q),
+                    new DataRegionConfiguration()
+                        .setName(CLOCK_REGION)
+                        .setMaxSize(64L * 1024 * 1024)
+                        .setPersistenceEnabled(true)
+                        .setPageReplacementMode(PageReplacementMode.CLOCK)))
+            .setCacheConfiguration(
+                new CacheConfiguration<>(A2Q_CACHE).setDataRegionName(A2Q_REGION),
+                new CacheConfiguration<>(A2Q_CACHE2).setDataRegionName(A2Q_REGION),
+                new CacheConfiguration<>(CLOCK_CACHE).setDataRegionName(CLOCK_REGION));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * Checks that metrics are registered for the data region and cache groups with adaptive 2Q mode only.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testMetricsRegisteredForAdaptive2QOnly() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        fillAndRead(ignite.cache(A2Q_CACHE));
+        fillAndRead(ignite.cache(CLOCK_CACHE));
+
+        String a2qRegion = metricName(DATAREGION_METRICS_PREFIX, A2Q_REGION);
+        String a2qGrp = cacheGroupMetricsRegistryName(A2Q_CACHE);
+
+        long regionHits = metric(ignite, a2qRegion, "PageHits").value();
+        long grpHits = metric(ignite, a2qGrp, "PageHits").value();
+
+        assertTrue(grpHits > 0);
+        assertTrue(regionHits >= grpHits);
+
+        assertNotNull(metric(ignite, a2qRegion, "PageMisses"));
+        assertNotNull(metric(ignite, a2qRegion, "PageGhostHits"));
+        assertNotNull(metric(ignite, a2qGrp, "PageMisses"));
+        assertNotNull(metric(ignite, a2qGrp, "PageGhostHits"));
+
+        for (String metric : new String[] {"PageHits", "PageMisses", "PageGhostHits"}) {
+            assertNull(metric(ignite, metricName(DATAREGION_METRICS_PREFIX, CLOCK_REGION), metric));
+            assertNull(metric(ignite, cacheGroupMetricsRegistryName(CLOCK_CACHE), metric));
+        }
+    }
+
+    /**
+     * Checks that page accesses of the destroyed cache group don't recreate its metrics.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDestroyedGroupMetricsNotRecreated() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        fillAndRead(ignite.cache(A2Q_CACHE));
+
+        ignite.destroyCache(A2Q_CACHE);
+
+        fillAndRead(ignite.cache(A2Q_CACHE2));
+
+        forceCheckpoint();
+
+        for (ReadOnlyMetricRegistry reg : ignite.context().metric())
+            assertFalse(reg.name(), reg.name().equals(cacheGroupMetricsRegistryName(A2Q_CACHE)));
+
+        assertTrue(metric(ignite, cacheGroupMetricsRegistryName(A2Q_CACHE2), "PageHits").value() > 0);
+    }
+
+    /**
+     * @param cache Cache.
+     */
+    private static void fillAndRead(IgniteCache<Object, Object> cache) {
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, "value-" + i);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals("value-" + i, cache.get(i));
+    }
+
+    /**
+     * @param ignite Ignite.
+     * @param regName Metric registry name.
+     * @param name Metric name.
+     * @return Metric or {@code null} if there is no such metric.
+     */
+    private static LongAdderMetric metric(IgniteEx ignite, String regName, String name) {
+        return ignite.context().metric().find(metricName(regName, name), LongAdderMetric.class);
+    }
+}
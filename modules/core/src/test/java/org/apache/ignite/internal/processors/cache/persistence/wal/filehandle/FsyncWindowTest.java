@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.filehandle;
+
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests group commit window of WAL fsync.
+ */
+public class FsyncWindowTest extends GridCommonAbstractTest {
+    /** */
+    private static final long MAX_DELAY = 1_000_000L;
+
+    /** */
+    @Test
+    public void testNoDelayIfDisabled() {
+        FsyncWindow window = new FsyncWindow(0);
+
+        window.onFsyncRequested();
+        window.onFsyncRequested();
+
+        assertEquals(0, window.delay(true));
+    }
+
+    /** */
+    @Test
+    public void testNoDelayWithoutConcurrentCommitters() {
+        FsyncWindow window = new FsyncWindow(MAX_DELAY);
+
+        window.onFsyncRequested();
+
+        assertEquals(0, window.delay(false));
+
+        // Other committer joined the window and is waiting for the fsync.
+        window.onFsyncRequested();
+
+        assertEquals(MAX_DELAY, window.delay(false));
+    }
+
+    /** */
+    @Test
+    public void testDelayAdaptsToFsyncLatency() {
+        FsyncWindow window = new FsyncWindow(MAX_DELAY);
+
+        window.onFsyncRequested();
+
+        // Fsync latency is unknown yet.
+        assertEquals(MAX_DELAY, window.delay(true));
+
+        window.onFsync(800);
+
+        assertEquals(800, window.delay(true));
+
+        // Moving average takes 1/8 of the difference.
+        window.onFsync(1_600);
+
+        assertEquals(900, window.delay(true));
+
+        window.onFsync(100);
+
+        assertEquals(800, window.delay(true));
+
+        // Window never exceeds the configured delay.
+        for (int i = 0; i < 100; i++)
+            window.onFsync(MAX_DELAY * 10);
+
+        assertEquals(MAX_DELAY, window.delay(true));
+    }
+
+    /** */
+    @Test
+    public void testBatch() {
+        FsyncWindow window = new FsyncWindow(MAX_DELAY);
+
+        for (int i = 0; i < 3; i++)
+            window.onFsyncRequested();
+
+        assertEquals(3, window.onFsync(1_000));
+
+        // Fsync is not requested by committers, e.g. on segment switch.
+        assertEquals(0, window.onFsync(1_000));
+
+        window.onFsyncRequested();
+
+        assertEquals(1, window.onFsync(1_000));
+    }
+}
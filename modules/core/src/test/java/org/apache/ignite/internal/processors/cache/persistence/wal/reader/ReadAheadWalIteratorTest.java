@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.reader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.MetastoreDataRecord;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.lang.GridIteratorAdapter;
+import org.apache.ignite.lang.IgniteBiTuple;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link ReadAheadWalIterator}.
+ */
+public class ReadAheadWalIteratorTest {
+    /** Count of records. */
+    private static final int RECORDS_COUNT = 10_000;
+
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testRecordsOrder() throws IgniteCheckedException {
+        List<IgniteBiTuple<WALPointer, WALRecord>> recs = records(RECORDS_COUNT);
+
+        TestWalIterator delegate = new TestWalIterator(recs, -1);
+
+        List<IgniteBiTuple<WALPointer, WALRecord>> res = new ArrayList<>();
+
+        try (WALIterator it = new ReadAheadWalIterator(delegate, null, 1000)) {
+            assertFalse(it.lastRead().isPresent());
+
+            while (it.hasNextX()) {
+                IgniteBiTuple<WALPointer, WALRecord> rec = it.nextX();
+
+                res.add(rec);
+
+                assertEquals(rec.get1(), it.lastRead().orElse(null));
+            }
+        }
+
+        assertEquals(recs, res);
+        assertTrue(delegate.isClosed());
+    }
+
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testErrorPropagated() throws IgniteCheckedException {
+        int errIdx = RECORDS_COUNT / 2 + 1;
+
+        List<IgniteBiTuple<WALPointer, WALRecord>> recs = records(RECORDS_COUNT);
+
+        TestWalIterator delegate = new TestWalIterator(recs, errIdx);
+
+        int cnt = 0;
+
+        try (WALIterator it = new ReadAheadWalIterator(delegate, null, 100)) {
+            while (it.hasNextX()) {
+                it.nextX();
+
+                cnt++;
+            }
+
+            fail("Exception expected");
+        }
+        catch (IgniteCheckedException e) {
+            assertSame(delegate.err, e);
+            assertEquals(errIdx, cnt);
+        }
+
+        assertTrue(delegate.isClosed());
+    }
+
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testCloseBeforeEnd() throws IgniteCheckedException {
+        TestWalIterator delegate = new TestWalIterator(records(RECORDS_COUNT), -1);
+
+        try (WALIterator it = new ReadAheadWalIterator(delegate, null, 1)) {
+            for (int i = 0; i < 10; i++)
+                it.nextX();
+        }
+
+        assertTrue(delegate.isClosed());
+    }
+
+    /**
+     * @param cnt Count of records.
+     * @return Records.
+     */
+    private static List<IgniteBiTuple<WALPointer, WALRecord>> records(int cnt) {
+        List<IgniteBiTuple<WALPointer, WALRecord>> res = new ArrayList<>(cnt);
+
+        for (int i = 0; i < cnt; i++)
+            res.add(new IgniteBiTuple<>(new WALPointer(0, i, 1), new MetastoreDataRecord("key" + i, new byte[0])));
+
+        return res;
+    }
+
+    /** WAL iterator over the list of records. */
+    private static class TestWalIterator extends GridIteratorAdapter<IgniteBiTuple<WALPointer, WALRecord>>
+        implements WALIterator {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** */
+        private final List<IgniteBiTuple<WALPointer, WALRecord>> recs;
+
+        /** Index of the record to fail on, or {@code -1}. */
+        private final int errIdx;
+
+        /** */
+        private final IgniteCheckedException err = new IgniteCheckedException("Test");
+
+        /** */
+        private int idx;
+
+        /** */
+        private volatile boolean closed;
+
+        /** */
+        private TestWalIterator(List<IgniteBiTuple<WALPointer, WALRecord>> recs, int errIdx) {
+            this.recs = recs;
+            this.errIdx = errIdx;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean hasNextX() throws IgniteCheckedException {
+            if (idx == errIdx)
+                throw err;
+
+            return idx < recs.size();
+        }
+
+        /** {@inheritDoc} */
+        @Override public IgniteBiTuple<WALPointer, WALRecord> nextX() throws IgniteCheckedException {
+            assertFalse(closed);
+
+            return recs.get(idx++);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void removeX() {
+            throw new UnsupportedOperationException();
+        }
+
+        /** {@inheritDoc} */
+        @Override public Optional<WALPointer> lastRead() {
+            return idx == 0 ? Optional.empty() : Optional.of(recs.get(idx - 1).get1());
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            closed = true;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean isClosed() {
+            return closed;
+        }
+    }
+}
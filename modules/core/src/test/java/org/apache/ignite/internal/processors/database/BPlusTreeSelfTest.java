@@ -1041,6 +1041,227 @@ public class BPlusTreeSelfTest extends GridCommonAbstractTest {
         }
     }
 
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testRandomInvokeAll_1_30_1() throws IgniteCheckedException {
+        MAX_PER_PAGE = 1;
+        CNT = 30;
+
+        doTestRandomInvokeAll(true);
+    }
+
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testRandomInvokeAll_1_30_0() throws IgniteCheckedException {
+        MAX_PER_PAGE = 1;
+        CNT = 30;
+
+        doTestRandomInvokeAll(false);
+    }
+
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testRandomInvokeAll_3_300_1() throws IgniteCheckedException {
+        MAX_PER_PAGE = 3;
+        CNT = 300;
+
+        doTestRandomInvokeAll(true);
+    }
+
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testRandomInvokeAll_3_300_0() throws IgniteCheckedException {
+        MAX_PER_PAGE = 3;
+        CNT = 300;
+
+        doTestRandomInvokeAll(false);
+    }
+
+    /**
+     * Leaves hold several rows of a batch, so puts are written into the leaves by batches.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testRandomInvokeAll_20_2000_1() throws IgniteCheckedException {
+        MAX_PER_PAGE = 20;
+        CNT = 2000;
+
+        doTestRandomInvokeAll(true);
+    }
+
+    /**
+     * Leaves hold several rows of a batch, so puts are written into the leaves by batches.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testRandomInvokeAll_20_2000_0() throws IgniteCheckedException {
+        MAX_PER_PAGE = 20;
+        CNT = 2000;
+
+        doTestRandomInvokeAll(false);
+    }
+
+    /**
+     * @param canGetRow Can get row from inner page.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void doTestRandomInvokeAll(boolean canGetRow) throws IgniteCheckedException {
+        TestTree tree = createTestTree(canGetRow);
+
+        Map<Long, Long> map = new HashMap<>();
+
+        int loops = reuseList == null ? 2_000 : 6_000;
+
+        for (int i = 0; i < loops; i++) {
+            List<Long> rows = randomInvokeAllRows(CNT, 1, 0, i % 4 == 0);
+
+            List<Integer> finished = new ArrayList<>();
+
+            tree.invokeAll(rows, null, invokeAllClosures(rows, map), finished::add);
+
+            assertEquals(rows.size(), finished.size());
+
+            assertNoLocks();
+
+            tree.validateTree();
+
+            assertEqualContents(tree, map);
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testInvokeAllMultithreaded_2_400_0() throws Exception {
+        MAX_PER_PAGE = 2;
+        CNT = 400;
+
+        doTestInvokeAllMultithreaded(false);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testInvokeAllMultithreaded_2_400_1() throws Exception {
+        MAX_PER_PAGE = 2;
+        CNT = 400;
+
+        doTestInvokeAllMultithreaded(true);
+    }
+
+    /**
+     * Threads invoke batches for their own keys, so neighbour keys of a batch are concurrently updated by other
+     * threads.
+     *
+     * @param canGetRow Can get row from inner page.
+     * @throws Exception If failed.
+     */
+    private void doTestInvokeAllMultithreaded(boolean canGetRow) throws Exception {
+        TestTree tree = createTestTree(canGetRow);
+
+        Map<Long, Long> map = new ConcurrentHashMap<>();
+
+        int threads = 4;
+
+        int loops = reuseList == null ? 3_000 : 6_000;
+
+        AtomicInteger threadIdx = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            int idx = threadIdx.getAndIncrement();
+
+            for (int i = 0; i < loops; i++) {
+                List<Long> rows = randomInvokeAllRows(CNT, threads, idx, i % 4 == 0);
+
+                tree.invokeAll(rows, null, invokeAllClosures(rows, map), null);
+            }
+
+            return null;
+        }, threads, "invoke-all");
+
+        assertNoLocks();
+
+        tree.validateTree();
+
+        assertEqualContents(tree, map);
+    }
+
+    /**
+     * @param cnt Count of keys.
+     * @param threads Count of threads.
+     * @param threadIdx Thread index, keys of the thread are equal to the index modulo count of threads.
+     * @param reverse Reverse order of the rows.
+     * @return Random distinct rows, sorted in the tree order unless the order is reversed.
+     */
+    private static List<Long> randomInvokeAllRows(int cnt, int threads, int threadIdx, boolean reverse) {
+        TreeSet<Long> keys = new TreeSet<>();
+
+        int batch = 1 + BPlusTree.randomInt(cnt / threads / 2);
+
+        for (int j = 0; j < batch; j++)
+            keys.add((long)(BPlusTree.randomInt(cnt / threads) * threads + threadIdx));
+
+        return new ArrayList<>(reverse ? keys.descendingSet() : keys);
+    }
+
+    /**
+     * @param rows Rows.
+     * @param map Expected tree contents to update.
+     * @return Closures with random operations for the rows.
+     */
+    private static List<IgniteTree.InvokeClosure<Long>> invokeAllClosures(List<Long> rows, Map<Long, Long> map) {
+        List<IgniteTree.InvokeClosure<Long>> clos = new ArrayList<>(rows.size());
+
+        for (Long x : rows) {
+            int rnd = BPlusTree.randomInt(3);
+
+            if (rnd == 0)
+                map.put(x, x);
+            else if (rnd == 1)
+                map.remove(x);
+
+            clos.add(new IgniteTree.InvokeClosure<Long>() {
+                /** */
+                private IgniteTree.OperationType op;
+
+                /** {@inheritDoc} */
+                @Override public void call(@Nullable Long row) {
+                    if (row != null)
+                        assertEquals(x, row);
+
+                    if (rnd == 0)
+                        op = PUT;
+                    else
+                        op = rnd == 1 && row != null ? REMOVE : NOOP;
+                }
+
+                /** {@inheritDoc} */
+                @Override public Long newRow() {
+                    return op == PUT ? x : null;
+                }
+
+                /** {@inheritDoc} */
+                @Override public IgniteTree.OperationType operationType() {
+                    return op;
+                }
+            });
+        }
+
+        return clos;
+    }
+
     /**
      * @throws IgniteCheckedException If failed.
      */
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.database;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndexStorage;
+import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
+import org.apache.ignite.internal.metric.IoStatisticsHolderNoOp;
+import org.apache.ignite.internal.pagemem.PageIdAllocator;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.impl.PageMemoryNoStoreImpl;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl;
+import org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerManager;
+import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
+import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseListImpl;
+import org.apache.ignite.internal.util.typedef.X;
+import org.apache.ignite.testframework.junits.GridTestKernalContext;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerManager.NOOP_LSNR;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link HashIndexStorage}.
+ */
+public class HashIndexStorageSelfTest extends GridCommonAbstractTest {
+    /** Small page to trigger bucket splits and overflow pages. */
+    private static final int PAGE_SIZE = 512;
+
+    /** */
+    private static final int CACHE_ID = 100500;
+
+    /** */
+    private static final long MB = 1024 * 1024;
+
+    /** */
+    private PageMemory pageMem;
+
+    /** */
+    private PageLockTrackerManager lockTrackerMgr;
+
+    /** */
+    private ReuseList reuseList;
+
+    /** */
+    private Random rnd;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        long seed = System.nanoTime();
+
+        X.println("Test seed: " + seed + "L; // ");
+
+        rnd = new Random(seed);
+
+        DataRegionConfiguration plcCfg = new DataRegionConfiguration()
+            .setInitialSize(256 * MB)
+            .setMaxSize(256 * MB);
+
+        pageMem = new PageMemoryNoStoreImpl(log,
+            new UnsafeMemoryProvider(log),
+            null,
+            PAGE_SIZE,
+            plcCfg,
+            new DataRegionMetricsImpl(plcCfg, new GridTestKernalContext(log())),
+            true);
+
+        pageMem.start();
+
+        lockTrackerMgr = mock(PageLockTrackerManager.class);
+
+        when(lockTrackerMgr.createPageLockTracker(anyString())).thenReturn(NOOP_LSNR);
+
+        reuseList = new ReuseListImpl(CACHE_ID, "test", pageMem, null, 0, true, lockTrackerMgr,
+            new GridTestKernalContext(log), null, PageIdAllocator.FLAG_IDX);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        try {
+            assertEquals(0, ((PageMemoryNoStoreImpl)pageMem).acquiredPages());
+        }
+        finally {
+            pageMem.stop(true);
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRandomOperations() throws Exception {
+        HashIndexStorage storage = createStorage(allocateMetaPage(), true);
+
+        Map<Long, Integer> model = new HashMap<>();
+
+        long nextLink = 1;
+
+        for (int i = 0; i < 50_000; i++) {
+            if (model.isEmpty() || rnd.nextInt(3) != 0) {
+                long link = nextLink++;
+
+                // Narrow range of hashes produces collisions.
+                int hash = rnd.nextBoolean() ? rnd.nextInt() : rnd.nextInt(100);
+
+                storage.insert(hash, link, false);
+
+                model.put(link, hash);
+            }
+            else {
+                long link = 1 + rnd.nextInt((int)nextLink - 1);
+
+                Integer hash = model.remove(link);
+
+                assertEquals(hash != null, storage.remove(hash == null ? rnd.nextInt() : hash, link));
+            }
+        }
+
+        checkContent(storage, model);
+
+        assertTrue("Directory is expected to grow: " + storage.globalDepth(), storage.globalDepth() > 0);
+
+        // Reload the storage from the meta page.
+        HashIndexStorage reloaded = createStorage(storage.metaPageId(), false);
+
+        assertEquals(storage.globalDepth(), reloaded.globalDepth());
+
+        checkContent(reloaded, model);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSameHash() throws Exception {
+        HashIndexStorage storage = createStorage(allocateMetaPage(), true);
+
+        int cnt = 1_000;
+
+        for (long link = 1; link <= cnt; link++)
+            storage.insert(42, link, false);
+
+        // Bucket can't be split by equal hashes, overflow pages are used.
+        assertEquals(0, storage.globalDepth());
+
+        assertEquals(cnt, storage.size());
+        assertEquals(cnt, find(storage, 42).size());
+        assertTrue(find(storage, 43).isEmpty());
+
+        // Insert with check of existing item is ignored.
+        storage.insert(42, 1, true);
+
+        assertEquals(cnt, storage.size());
+
+        for (long link = 1; link <= cnt; link += 2)
+            assertTrue(storage.remove(42, link));
+
+        assertFalse(storage.remove(42, 1));
+
+        assertEquals(cnt / 2, storage.size());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDestroy() throws Exception {
+        HashIndexStorage storage = createStorage(allocateMetaPage(), true);
+
+        for (long link = 1; link <= 10_000; link++)
+            storage.insert(rnd.nextInt(), link, false);
+
+        long recycledBefore = reuseList.recycledPagesCount();
+
+        long recycled = storage.destroy();
+
+        assertTrue(recycled > 1);
+
+        // Reuse list may take some of the recycled pages to store its own items.
+        assertTrue(reuseList.recycledPagesCount() > recycledBefore + recycled / 2);
+
+        // Updates of the destroyed storage are ignored.
+        storage.insert(1, 1, false);
+
+        assertEquals(0, storage.destroy());
+    }
+
+    /**
+     * @param storage Storage.
+     * @param model Expected links to hashes mapping.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void checkContent(HashIndexStorage storage, Map<Long, Integer> model) throws IgniteCheckedException {
+        assertEquals(model.size(), storage.size());
+
+        Map<Integer, Set<Long>> expected = new HashMap<>();
+
+        for (Map.Entry<Long, Integer> e : model.entrySet())
+            expected.computeIfAbsent(e.getValue(), h -> new HashSet<>()).add(e.getKey());
+
+        for (Map.Entry<Integer, Set<Long>> e : expected.entrySet()) {
+            List<Long> found = find(storage, e.getKey());
+
+            assertEquals(e.getValue().size(), found.size());
+            assertEquals(e.getValue(), new HashSet<>(found));
+        }
+    }
+
+    /**
+     * @param storage Storage.
+     * @param hash Hash.
+     * @return Links found by the hash.
+     * @throws IgniteCheckedException If failed.
+     */
+    private List<Long> find(HashIndexStorage storage, int hash) throws IgniteCheckedException {
+        List<Long> res = new ArrayList<>();
+
+        storage.find(hash, res::add);
+
+        return res;
+    }
+
+    /**
+     * @param metaPageId Meta page ID.
+     * @param initNew {@code True} if new storage should be initialized.
+     * @return Storage.
+     * @throws IgniteCheckedException If failed.
+     */
+    private HashIndexStorage createStorage(long metaPageId, boolean initNew) throws IgniteCheckedException {
+        return new HashIndexStorage("test", CACHE_ID, null, pageMem, null, lockTrackerMgr, reuseList, metaPageId,
+            initNew, IoStatisticsHolderNoOp.INSTANCE);
+    }
+
+    /**
+     * @return Allocated meta page ID.
+     * @throws IgniteCheckedException If failed.
+     */
+    private long allocateMetaPage() throws IgniteCheckedException {
+        return pageMem.allocatePage(CACHE_ID, PageIdAllocator.INDEX_PARTITION, PageIdAllocator.FLAG_IDX);
+    }
+}
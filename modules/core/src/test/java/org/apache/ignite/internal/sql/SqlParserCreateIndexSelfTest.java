@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.sql;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -226,6 +228,28 @@ public class SqlParserCreateIndexSelfTest extends SqlParserAbstractSelfTest {
                 "\"CREATE INDEX idx ON schema.tbl(a) PARALLEL 3 INLINE_SIZE [*]abc \": Unexpected token: \"ABC\" (expected: \"[integer]\")"
         );
 
+        // INCLUDE option
+        cmd = parseValidate(null, "CREATE INDEX idx ON tbl(a) INCLUDE (b, c)", null, "TBL", "IDX", DEFAULT_PROPS,
+            "A", false);
+
+        assertEquals(Arrays.asList("B", "C"), new ArrayList<>(cmd.includeColumns()));
+
+        cmd = parseValidate(null, "CREATE INDEX idx ON tbl(a) INLINE_SIZE 5 INCLUDE (\"b\") PARALLEL 3", null, "TBL",
+            "IDX", getProps(3, 5), "A", false);
+
+        assertEquals(Collections.singletonList("b"), new ArrayList<>(cmd.includeColumns()));
+
+        cmd = parseValidate(null, "CREATE INDEX idx ON tbl(a)", null, "TBL", "IDX", DEFAULT_PROPS, "A", false);
+
+        assertTrue(cmd.includeColumns().isEmpty());
+
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE", "Unexpected end of command (expected: \"(\")");
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE ()", "Unexpected token: \")\"");
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE (b DESC)", "Unexpected token: \"DESC\"");
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE (a)", "Column already defined: A");
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE (b, b)", "Column already defined: B");
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE (b) INCLUDE (c)",
+            "Only one INCLUDE clause may be specified.");
     }
 
     /**
@@ -100,6 +100,7 @@ public class ThreadPoolMetricsTest extends GridCommonAbstractTest {
         THREAD_POOL_METRICS.put(metricName(THREAD_POOLS, "GridRestExecutor"), PoolProcessor::getRestExecutorService);
         THREAD_POOL_METRICS.put(metricName(THREAD_POOLS, "GridSnapshotExecutor"), PoolProcessor::getSnapshotExecutorService);
         THREAD_POOL_METRICS.put(metricName(THREAD_POOLS, "GridReencryptionExecutor"), PoolProcessor::getReencryptionExecutorService);
+        THREAD_POOL_METRICS.put(metricName(THREAD_POOLS, "GridPartitionScanExecutor"), PoolProcessor::getPartitionScanExecutorService);
         THREAD_POOL_METRICS.put(metricName(THREAD_POOLS, CUSTOM_EXEC_NAME), proc -> (ExecutorService)proc.customExecutor(CUSTOM_EXEC_NAME));
     }
 
@@ -151,4 +151,43 @@ public class GridConcurrentMultiPairQueueTest extends GridCommonAbstractTest {
 
         assertTrue(queue2.initialSize() == arr1.length + arr2.length + arr3.length + arr4.length);
     }
+
+    /** */
+    @Test
+    public void testChunkedNext() throws Exception {
+        int chunkSize = 3;
+
+        GridTestUtils.runMultiThreaded(() -> {
+            GridConcurrentMultiPairQueue.Result<Integer, Integer> res =
+                new GridConcurrentMultiPairQueue.Result<>();
+
+            while (queue.next(res, chunkSize)) {
+                assertTrue(mapForCheck.containsKey(res.getKey()));
+
+                assertTrue(mapForCheck.get(res.getKey()).remove(res.getValue()));
+
+                Collection<Integer> coll = mapForCheck.get(res.getKey());
+
+                if (coll != null && coll.isEmpty())
+                    mapForCheck.remove(res.getKey(), coll);
+            }
+        }, ThreadLocalRandom.current().nextInt(1, 20), "GridConcurrentMultiPairQueue chunk test");
+
+        assertTrue(mapForCheck.isEmpty());
+
+        assertTrue(queue.isEmpty());
+
+        // Single consumer gets values in the original order.
+        GridConcurrentMultiPairQueue.Result<Integer, Integer> res = new GridConcurrentMultiPairQueue.Result<>();
+
+        Map<Integer, Collection<Integer>> polled = new HashMap<>();
+
+        while (queue2.next(res, chunkSize))
+            polled.computeIfAbsent(res.getKey(), k -> new ArrayList<>()).add(res.getValue());
+
+        assertEquals(Arrays.asList(arr1), polled.get(20));
+        assertEquals(Arrays.asList(arr2), polled.get(10));
+        assertEquals(Arrays.asList(arr3), polled.get(50));
+        assertEquals(3, polled.size());
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.util.nio.GridNioBufferPool.MAX_POOLED_SIZE;
+import static org.apache.ignite.internal.util.nio.GridNioBufferPool.MIN_BUF_SIZE;
+
+/**
+ * Test for {@link GridNioBufferPool}.
+ */
+public class GridNioBufferPoolSelfTest extends GridCommonAbstractTest {
+    /** */
+    @Test
+    public void testSizeClasses() {
+        GridNioBufferPool pool = new GridNioBufferPool(true, ByteOrder.LITTLE_ENDIAN);
+
+        ByteBuffer buf = pool.borrow(1);
+
+        assertTrue(buf.isDirect());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, buf.order());
+        assertEquals(MIN_BUF_SIZE, buf.capacity());
+
+        pool.release(buf);
+
+        assertEquals(MIN_BUF_SIZE * 4, pool.borrow(MIN_BUF_SIZE * 3 + 1).capacity());
+        assertEquals(MIN_BUF_SIZE * 4, pool.borrow(MIN_BUF_SIZE * 4).capacity());
+        assertEquals(MIN_BUF_SIZE * 8, pool.borrow(MIN_BUF_SIZE * 4 + 1).capacity());
+
+        assertEquals(MIN_BUF_SIZE, GridNioBufferPool.bufferSize(0));
+        assertEquals(MIN_BUF_SIZE * 8, GridNioBufferPool.bufferSize(MIN_BUF_SIZE * 4 + 1));
+    }
+
+    /** */
+    @Test
+    public void testReuse() {
+        GridNioBufferPool pool = new GridNioBufferPool(false, ByteOrder.BIG_ENDIAN);
+
+        ByteBuffer buf = pool.borrow(MIN_BUF_SIZE);
+
+        buf.putLong(1L);
+
+        assertEquals(MIN_BUF_SIZE, pool.borrowedSize());
+        assertEquals(0, pool.pooledSize());
+
+        pool.release(buf);
+
+        assertEquals(0, pool.borrowedSize());
+        assertEquals(MIN_BUF_SIZE, pool.pooledSize());
+
+        ByteBuffer buf0 = pool.borrow(MIN_BUF_SIZE);
+
+        assertSame(buf, buf0);
+        assertEquals(0, buf0.position());
+        assertEquals(buf0.capacity(), buf0.limit());
+
+        // Buffers of other size classes are not reused.
+        assertNotSame(buf, pool.borrow(MIN_BUF_SIZE * 2));
+    }
+
+    /** */
+    @Test
+    public void testPooledSizeLimit() {
+        GridNioBufferPool pool = new GridNioBufferPool(true, ByteOrder.nativeOrder());
+
+        int size = MIN_BUF_SIZE << 7;
+
+        List<ByteBuffer> bufs = new ArrayList<>();
+
+        for (int i = 0; i < MAX_POOLED_SIZE / size + 10; i++)
+            bufs.add(pool.borrow(size));
+
+        assertEquals((long)bufs.size() * size, pool.borrowedSize());
+
+        bufs.forEach(pool::release);
+
+        assertEquals(0, pool.borrowedSize());
+        assertEquals(MAX_POOLED_SIZE, pool.pooledSize());
+
+        pool.stop(log);
+
+        assertEquals(0, pool.pooledSize());
+    }
+
+    /** */
+    @Test
+    public void testAdaptSize() {
+        int max = MIN_BUF_SIZE * 16;
+
+        // Grows up to the maximum size while the buffer is filled up.
+        assertEquals(MIN_BUF_SIZE * 2, GridNioBufferPool.adaptSize(MIN_BUF_SIZE, MIN_BUF_SIZE, max));
+        assertEquals(max, GridNioBufferPool.adaptSize(max, max, max));
+
+        // Shrinks down to the minimum size when the buffer is barely used.
+        assertEquals(MIN_BUF_SIZE * 8, GridNioBufferPool.adaptSize(max, 100, max));
+        assertEquals(MIN_BUF_SIZE, GridNioBufferPool.adaptSize(MIN_BUF_SIZE, 0, max));
+
+        // Does not change otherwise.
+        assertEquals(max, GridNioBufferPool.adaptSize(max, max / 2, max));
+
+        // The minimum size is used if socket buffers are smaller.
+        assertEquals(MIN_BUF_SIZE, GridNioBufferPool.adaptSize(MIN_BUF_SIZE, MIN_BUF_SIZE, 1024));
+    }
+}
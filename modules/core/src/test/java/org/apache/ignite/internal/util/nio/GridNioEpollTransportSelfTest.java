@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import org.junit.Test;
+
+/**
+ * Tests for new NIO server with the epoll transport requested.
+ */
+public class GridNioEpollTransportSelfTest extends GridNioSelfTest {
+    /** {@inheritDoc} */
+    @Override protected GridNioServer.Builder<?> serverBuilder(int port,
+        GridNioParser parser,
+        GridNioServerListener lsnr
+    ) throws Exception {
+        return super.serverBuilder(port, parser, lsnr).transport(GridNioTransport.forName(GridNioTransport.EPOLL, log));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTransportFallback() throws Exception {
+        GridNioTransport transport = GridNioTransport.forName(GridNioTransport.EPOLL, log);
+
+        assertEquals(GridNioEpollTransport.available() ? GridNioTransport.EPOLL : GridNioTransport.NIO, transport.name());
+
+        assertEquals(GridNioTransport.NIO, GridNioTransport.forName(GridNioTransport.NIO, log).name());
+        assertEquals(GridNioTransport.NIO, GridNioTransport.forName(null, log).name());
+    }
+}
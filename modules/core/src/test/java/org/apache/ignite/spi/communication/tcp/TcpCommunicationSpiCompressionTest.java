@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheMode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TCP_COMM_COMPRESSION_MAX_CPU_LOAD;
+
+/**
+ * Tests compression of the communication connections.
+ */
+@WithSystemProperty(key = IGNITE_TCP_COMM_COMPRESSION_MAX_CPU_LOAD, value = "1.01")
+public class TcpCommunicationSpiCompressionTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS = 2_000;
+
+    /** */
+    private boolean compression = true;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TcpCommunicationSpi().setConnectionCompressionEnabled(compression))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setCacheMode(CacheMode.REPLICATED));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCompression() throws Exception {
+        startGrids(2);
+
+        IgniteEx client = startClientGrid(2);
+
+        checkCache(client);
+
+        UUID srvId = grid(1).localNode().id();
+
+        Map<String, Double> ratios = mbean(0).getCompressionRatioByConnection();
+
+        assertTrue(ratios.toString(), ratios.keySet().stream().anyMatch(conn -> conn.startsWith(srvId.toString())));
+
+        // Values are well compressible, while the random bytes are not.
+        assertTrue(ratios.toString(), ratios.values().stream().anyMatch(ratio -> ratio < 0.5));
+        assertTrue(ratios.toString(), ratios.values().stream().allMatch(ratio -> ratio < 1.01));
+
+        assertTrue(mbean(0).isConnectionCompressionEnabled());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testMixedCluster() throws Exception {
+        startGrid(0);
+
+        compression = false;
+
+        IgniteEx ignite = startGrid(1);
+
+        compression = true;
+
+        IgniteEx client = startClientGrid(2);
+
+        checkCache(client);
+        checkCache(ignite);
+
+        UUID id = ignite.localNode().id();
+
+        assertTrue(mbean(1).getCompressionRatioByConnection().isEmpty());
+        assertFalse(mbean(0).getCompressionRatioByConnection().keySet().stream()
+            .anyMatch(conn -> conn.startsWith(id.toString())));
+        assertFalse(mbean(0).getCompressionRatioByConnection().isEmpty());
+    }
+
+    /**
+     * Writes and checks values of different size and compressibility.
+     *
+     * @param ignite Node.
+     */
+    private void checkCache(IgniteEx ignite) {
+        IgniteCache<Integer, Object> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, value(i));
+
+        for (IgniteEx node : new IgniteEx[] {grid(0), grid(1), grid(2)}) {
+            IgniteCache<Integer, Object> cache0 = node.cache(DEFAULT_CACHE_NAME);
+
+            for (int i = 0; i < KEYS; i++) {
+                Object val = cache0.get(i);
+
+                if (i % 10 == 0)
+                    assertEquals(1024, ((byte[])val).length);
+                else
+                    assertEquals(value(i), val);
+            }
+        }
+    }
+
+    /**
+     * @param key Key.
+     * @return Value.
+     */
+    private static Object value(int key) {
+        if (key % 10 == 0) {
+            byte[] bytes = new byte[1024];
+
+            ThreadLocalRandom.current().nextBytes(bytes);
+
+            return bytes;
+        }
+
+        return "value-" + key + "-" + "abcdefgh".repeat(key % 100);
+    }
+
+    /**
+     * @param idx Node index.
+     * @return MBean.
+     */
+    private TcpCommunicationSpiMBean mbean(int idx) {
+        return getMxBean(getTestIgniteInstanceName(idx), "SPIs", TcpCommunicationSpi.class,
+            TcpCommunicationSpiMBean.class);
+    }
+}
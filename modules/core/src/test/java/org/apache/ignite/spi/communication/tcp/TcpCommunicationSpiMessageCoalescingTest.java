@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.nio.GridNioServer;
+import org.apache.ignite.lang.IgniteFuture;
+import org.apache.ignite.spi.metric.HistogramMetric;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
+
+/**
+ * Tests coalescing of the messages written to the communication connections.
+ */
+public class TcpCommunicationSpiMessageCoalescingTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS = 5_000;
+
+    /** */
+    private static final long DELAY = 500;
+
+    /** */
+    private static final int LIMIT = 16;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TcpCommunicationSpi()
+                .setMessageCoalescingDelay(DELAY)
+                .setMessageCoalescingLimit(LIMIT))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME).setBackups(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCoalescing() throws Exception {
+        IgniteEx ignite = startGrids(2);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        List<IgniteFuture<Void>> futs = new ArrayList<>(KEYS);
+
+        for (int i = 0; i < KEYS; i++)
+            futs.add(cache.putAsync(i, i));
+
+        futs.forEach(IgniteFuture::get);
+
+        for (int i = 0; i < 2; i++) {
+            IgniteCache<Integer, Integer> cache0 = grid(i).cache(DEFAULT_CACHE_NAME);
+
+            for (int k = 0; k < KEYS; k++)
+                assertEquals(k, (int)cache0.get(k));
+        }
+
+        HistogramMetric batches = ignite.context().metric().registry(COMMUNICATION_METRICS_GROUP_NAME)
+            .findMetric(GridNioServer.WRITE_BATCH_SIZE_HISTOGRAM_METRIC_NAME);
+
+        long[] bounds = batches.bounds();
+        long[] cnts = batches.value();
+
+        assertEquals(1, bounds[0]);
+        assertTrue(LongStream.of(cnts).sum() > 0);
+
+        // Messages offered within the delay are written at once.
+        assertTrue(LongStream.of(cnts).skip(1).sum() > 0);
+
+        TcpCommunicationSpiMBean mbean = getMxBean(getTestIgniteInstanceName(0), "SPIs", TcpCommunicationSpi.class,
+            TcpCommunicationSpiMBean.class);
+
+        assertEquals(DELAY, mbean.getMessageCoalescingDelay());
+        assertEquals(LIMIT, mbean.getMessageCoalescingLimit());
+    }
+}
@@ -43,6 +43,7 @@ import org.apache.ignite.internal.pagemem.wal.record.SnapshotRecord;
 import org.apache.ignite.internal.pagemem.wal.record.SwitchSegmentRecord;
 import org.apache.ignite.internal.pagemem.wal.record.TxRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.BatchUpdateRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.ClusterSnapshotRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageInsertFragmentRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageInsertRecord;
@@ -52,6 +53,8 @@ import org.apache.ignite.internal.pagemem.wal.record.delta.DataPageUpdateRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixCountRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixLeftmostChildRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixRemoveId;
+import org.apache.ignite.internal.pagemem.wal.record.delta.HashIndexBucketInsertRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.HashIndexBucketRemoveRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.InitNewPageRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.InsertRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageAddRootRecord;
@@ -103,6 +106,7 @@ import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.BTREE_META_PAGE_INIT_ROOT;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.BTREE_META_PAGE_INIT_ROOT2;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.BTREE_META_PAGE_INIT_ROOT_V3;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.BTREE_PAGE_BATCH_UPDATE;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.BTREE_PAGE_INNER_REPLACE;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.BTREE_PAGE_INSERT;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.BTREE_PAGE_MERGE;
@@ -130,6 +134,8 @@ import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.ENCRYPTED_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.ENCRYPTED_RECORD_V2;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.EXCHANGE;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.HASH_INDEX_BUCKET_INSERT;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.HASH_INDEX_BUCKET_REMOVE;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.HEADER_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.INCREMENTAL_SNAPSHOT_FINISH_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.INCREMENTAL_SNAPSHOT_START_RECORD;
@@ -266,6 +272,9 @@ public class RecordUtils {
         put(CDC_MANAGER_RECORD, RecordUtils::buildCdcManagerStopRecord);
         put(CDC_MANAGER_STOP_RECORD, RecordUtils::buildCdcManagerStopRecord);
         put(DATA_PAGE_FRAGMENTED_UPDATE_RECORD, buildUnsupportedWalRecord(DATA_PAGE_FRAGMENTED_UPDATE_RECORD));
+        put(HASH_INDEX_BUCKET_INSERT, RecordUtils::buildHashIndexBucketInsertRecord);
+        put(HASH_INDEX_BUCKET_REMOVE, RecordUtils::buildHashIndexBucketRemoveRecord);
+        put(BTREE_PAGE_BATCH_UPDATE, RecordUtils::buildBatchUpdateRecord);
 
         put(MVCC_DATA_RECORD, buildUnsupportedWalRecord(MVCC_DATA_RECORD));
         put(MVCC_TX_RECORD, buildUnsupportedWalRecord(MVCC_TX_RECORD));
@@ -444,6 +453,28 @@ public class RecordUtils {
         return new PagesListRemovePageRecord(1, 1, 1);
     }
 
+    /** **/
+    public static HashIndexBucketInsertRecord buildHashIndexBucketInsertRecord() {
+        return new HashIndexBucketInsertRecord(1, 1, 1, 1);
+    }
+
+    /** **/
+    public static HashIndexBucketRemoveRecord buildHashIndexBucketRemoveRecord() {
+        return new HashIndexBucketRemoveRecord(1, 1, 1);
+    }
+
+    /** **/
+    public static BatchUpdateRecord buildBatchUpdateRecord() {
+        DataInnerIO latest = VERSIONS.latest();
+
+        BatchUpdateRecord rec = new BatchUpdateRecord(1, 1, latest, 2);
+
+        rec.add(true, 1, new byte[latest.getItemSize()]);
+        rec.add(false, 2, new byte[latest.getItemSize()]);
+
+        return rec;
+    }
+
     /** **/
     public static MetaPageInitRecord buildMetaPageInitRecord() {
         return new MetaPageInitRecord(1, 1, 1, 1, 1, 1);
@@ -36,7 +36,9 @@ import org.apache.ignite.internal.util.IgniteUtilsUnitTest;
 import org.apache.ignite.internal.util.distributed.DistributedProcessClientAwaitTest;
 import org.apache.ignite.internal.util.distributed.DistributedProcessCoordinatorLeftTest;
 import org.apache.ignite.internal.util.distributed.DistributedProcessErrorHandlingTest;
+import org.apache.ignite.internal.util.nio.GridNioBufferPoolSelfTest;
 import org.apache.ignite.internal.util.nio.GridNioDelimitedBufferSelfTest;
+import org.apache.ignite.internal.util.nio.GridNioEpollTransportSelfTest;
 import org.apache.ignite.internal.util.nio.GridNioSelfTest;
 import org.apache.ignite.internal.util.nio.GridNioServerTest;
 import org.apache.ignite.internal.util.nio.GridNioSessionMetaKeySelfTest;
@@ -136,6 +138,8 @@ import org.junit.runners.Suite;
     GridNioFilterChainSelfTest.class,
     GridNioSslSelfTest.class,
     GridNioDelimitedBufferSelfTest.class,
+    GridNioBufferPoolSelfTest.class,
+    GridNioEpollTransportSelfTest.class,
 
     GridPartitionMapSelfTest.class,
 
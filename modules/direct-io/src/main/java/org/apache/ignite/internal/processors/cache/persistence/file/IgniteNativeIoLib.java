@@ -85,6 +85,30 @@ public class IgniteNativeIoLib {
     /** Invalid argument. */
     public static final int E_INVAL = 22;
 
+    /** Interrupted system call error code. */
+    public static final int E_INTR = 4;
+
+    /** Resource temporarily unavailable error code. */
+    public static final int E_AGAIN = 11;
+
+    /** Device or resource busy error code. */
+    public static final int E_BUSY = 16;
+
+    /** Memory protection: pages may be read. */
+    public static final int PROT_READ = 0x1;
+
+    /** Memory protection: pages may be written. */
+    public static final int PROT_WRITE = 0x2;
+
+    /** Mapping flag: updates to the mapping are visible to other processes mapping the same region. */
+    public static final int MAP_SHARED = 0x01;
+
+    /** Mapping flag: populate (prefault) page tables for a mapping. */
+    public static final int MAP_POPULATE = 0x8000;
+
+    /** Value returned by {@link #mmap} on error. */
+    public static final long MAP_FAILED = -1L;
+
     /** Seek option: set file offset to offset */
     public static final int SEEK_SET = 0;
 
@@ -412,4 +436,42 @@ public class IgniteNativeIoLib {
      * @return  On error, the value -1 is returned and errno is set to indicate the error.
      */
     public static native long lseek(int fd, long off, int whence);
+
+    /**
+     * Indirect system call. Invokes the system call whose assembly language interface has the specified
+     * {@code number} with the specified arguments. Unused arguments should be passed as zero.
+     * See "man 2 syscall".
+     *
+     * @param number system call number.
+     * @param arg1 first argument.
+     * @param arg2 second argument.
+     * @param arg3 third argument.
+     * @param arg4 fourth argument.
+     * @param arg5 fifth argument.
+     * @param arg6 sixth argument.
+     * @return Value returned by the system call. On error, -1 is returned, and errno is set appropriately.
+     */
+    public static native long syscall(long number, long arg1, long arg2, long arg3, long arg4, long arg5, long arg6);
+
+    /**
+     * Creates a new mapping in the virtual address space of the calling process. See "man 2 mmap".
+     *
+     * @param addr hint address, or zero to let kernel choose the address.
+     * @param len length of the mapping.
+     * @param prot desired memory protection of the mapping.
+     * @param flags mapping visibility flags.
+     * @param fd file descriptor of the object to map.
+     * @param off offset in the object to map.
+     * @return Address of the mapping. On error, {@link #MAP_FAILED} is returned, and errno is set appropriately.
+     */
+    public static native long mmap(long addr, long len, int prot, int flags, int fd, long off);
+
+    /**
+     * Deletes the mappings for the specified address range. See "man 2 munmap".
+     *
+     * @param addr mapping address.
+     * @param len mapping length.
+     * @return On success, zero is returned. On error, -1 is returned, and errno is set appropriately.
+     */
+    public static native int munmap(long addr, long len);
 }
@@ -0,0 +1,454 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import com.sun.jna.Native;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Linux io_uring submission and completion queues pair owned by a single thread. <br>
+ * Each operation is placed to the submission queue, submitted and awaited by the same {@code io_uring_enter}
+ * system call, so no additional threads are required. Requires Linux 5.6 or later
+ * ({@code IORING_FEAT_RW_CUR_POS}). <br>
+ * Rings are created lazily per thread, rings of terminated threads are released when new rings are created.
+ */
+final class IoUring {
+    /** {@code io_uring_setup} system call number. */
+    private static final int SYS_IO_URING_SETUP = 425;
+
+    /** {@code io_uring_enter} system call number. */
+    private static final int SYS_IO_URING_ENTER = 426;
+
+    /** Fsync operation code. */
+    static final int IORING_OP_FSYNC = 3;
+
+    /** Read operation code. */
+    static final int IORING_OP_READ = 22;
+
+    /** Write operation code. */
+    static final int IORING_OP_WRITE = 23;
+
+    /** Fsync flag: sync file data only, like fdatasync(). */
+    static final int IORING_FSYNC_DATASYNC = 1;
+
+    /** {@code io_uring_enter} flag: wait for the specified number of completions. */
+    private static final int IORING_ENTER_GETEVENTS = 1;
+
+    /** Feature: submission and completion rings are mapped with a single mmap. */
+    private static final int IORING_FEAT_SINGLE_MMAP = 1;
+
+    /** Feature: file offset {@code -1} means current file position for read and write operations. */
+    private static final int IORING_FEAT_RW_CUR_POS = 1 << 3;
+
+    /** Offset of the submission ring mapping. */
+    private static final long IORING_OFF_SQ_RING = 0L;
+
+    /** Offset of the completion ring mapping. */
+    private static final long IORING_OFF_CQ_RING = 0x8000000L;
+
+    /** Offset of the submission queue entries mapping. */
+    private static final long IORING_OFF_SQES = 0x10000000L;
+
+    /** Size of {@code struct io_uring_params}. */
+    private static final int PARAMS_SIZE = 120;
+
+    /** Offset of {@code features} field in {@code struct io_uring_params}. */
+    private static final int PARAMS_FEATURES_OFF = 20;
+
+    /** Offset of {@code struct io_sqring_offsets} in {@code struct io_uring_params}. */
+    private static final int PARAMS_SQ_OFF = 40;
+
+    /** Offset of {@code struct io_cqring_offsets} in {@code struct io_uring_params}. */
+    private static final int PARAMS_CQ_OFF = 80;
+
+    /** Size of {@code struct io_uring_sqe}. */
+    private static final int SQE_SIZE = 64;
+
+    /** Size of {@code struct io_uring_cqe}. */
+    private static final int CQE_SIZE = 16;
+
+    /**
+     * Number of submission queue entries. Only one operation is in flight at a time, the minimal ring
+     * keeps locked memory consumption per thread small.
+     */
+    private static final int ENTRIES = 2;
+
+    /** Maximum size of the buffer used to copy data of heap byte buffers. */
+    static final int MAX_BOUNCE_BUF_SIZE = 1024 * 1024;
+
+    /** Ring of the current thread: {@link IoUring} instance or {@link Boolean#FALSE} if ring can't be created. */
+    private static final ThreadLocal<Object> RING = new ThreadLocal<>();
+
+    /** Rings created by threads. */
+    private static final Map<IoUring, Thread> RINGS = new ConcurrentHashMap<>();
+
+    /** Whether io_uring is supported, {@code null} if not checked yet. */
+    private static volatile Boolean supported;
+
+    /** Reason why io_uring is not supported. */
+    private static volatile String unsupportedReason;
+
+    /** Ring file descriptor. */
+    private final int ringFd;
+
+    /** Submission ring mapping address. */
+    private final long sqRing;
+
+    /** Submission ring mapping size. */
+    private final long sqRingSize;
+
+    /** Completion ring mapping address, same as {@link #sqRing} for single mmap. */
+    private final long cqRing;
+
+    /** Completion ring mapping size, zero for single mmap. */
+    private final long cqRingSize;
+
+    /** Submission queue entries mapping address. */
+    private final long sqes;
+
+    /** Submission queue entries mapping size. */
+    private final long sqesSize;
+
+    /** Submission queue head address. */
+    private final long sqHead;
+
+    /** Submission queue tail address. */
+    private final long sqTail;
+
+    /** Submission queue ring mask. */
+    private final int sqMask;
+
+    /** Submission queue index array address. */
+    private final long sqArray;
+
+    /** Completion queue head address. */
+    private final long cqHead;
+
+    /** Completion queue tail address. */
+    private final long cqTail;
+
+    /** Completion queue ring mask. */
+    private final int cqMask;
+
+    /** Completion queue entries address. */
+    private final long cqes;
+
+    /** Buffer to copy data of heap byte buffers. */
+    private ByteBuffer bounceBuf;
+
+    /** Ring is in inconsistent state after failed submission and must not be used anymore. */
+    private boolean broken;
+
+    /**
+     * Creates ring.
+     *
+     * @throws IOException If failed.
+     */
+    private IoUring() throws IOException {
+        long params = GridUnsafe.allocateMemory(PARAMS_SIZE);
+
+        try {
+            GridUnsafe.setMemory(params, PARAMS_SIZE, (byte)0);
+
+            int fd = (int)IgniteNativeIoLib.syscall(SYS_IO_URING_SETUP, ENTRIES, params, 0, 0, 0, 0);
+
+            if (fd < 0)
+                throw new IOException("io_uring_setup failed: " + lastError());
+
+            ringFd = fd;
+
+            try {
+                int sqEntries = GridUnsafe.getInt(params);
+                int cqEntries = GridUnsafe.getInt(params + 4);
+                int features = GridUnsafe.getInt(params + PARAMS_FEATURES_OFF);
+
+                if ((features & IORING_FEAT_RW_CUR_POS) == 0)
+                    throw new IOException("io_uring doesn't support current file position, Linux 5.6+ is required");
+
+                long sqOff = params + PARAMS_SQ_OFF;
+                long cqOff = params + PARAMS_CQ_OFF;
+
+                long sqSize = GridUnsafe.getInt(sqOff + 24) + (long)sqEntries * Integer.BYTES;
+                long cqSize = GridUnsafe.getInt(cqOff + 20) + (long)cqEntries * CQE_SIZE;
+
+                boolean singleMmap = (features & IORING_FEAT_SINGLE_MMAP) != 0;
+
+                if (singleMmap)
+                    sqSize = cqSize = Math.max(sqSize, cqSize);
+
+                sqRingSize = sqSize;
+                sqRing = mmap(sqSize, IORING_OFF_SQ_RING);
+
+                cqRingSize = singleMmap ? 0 : cqSize;
+                cqRing = singleMmap ? sqRing : mmap(cqSize, IORING_OFF_CQ_RING);
+
+                sqesSize = (long)sqEntries * SQE_SIZE;
+                sqes = mmap(sqesSize, IORING_OFF_SQES);
+
+                sqHead = sqRing + GridUnsafe.getInt(sqOff);
+                sqTail = sqRing + GridUnsafe.getInt(sqOff + 4);
+                sqMask = GridUnsafe.getInt(sqRing + GridUnsafe.getInt(sqOff + 8));
+                sqArray = sqRing + GridUnsafe.getInt(sqOff + 24);
+
+                cqHead = cqRing + GridUnsafe.getInt(cqOff);
+                cqTail = cqRing + GridUnsafe.getInt(cqOff + 4);
+                cqMask = GridUnsafe.getInt(cqRing + GridUnsafe.getInt(cqOff + 8));
+                cqes = cqRing + GridUnsafe.getInt(cqOff + 20);
+            }
+            catch (IOException | RuntimeException e) {
+                unmap();
+
+                IgniteNativeIoLib.close(ringFd);
+
+                throw e;
+            }
+        }
+        finally {
+            GridUnsafe.freeMemory(params);
+        }
+    }
+
+    /**
+     * @return {@code True} if io_uring can be used on this system.
+     */
+    static boolean isSupported() {
+        Boolean res = supported;
+
+        if (res == null) {
+            synchronized (IoUring.class) {
+                res = supported;
+
+                if (res == null) {
+                    try {
+                        if (!IgniteNativeIoLib.isJnaAvailable())
+                            throw new IOException("JNA is not available or OS is not Linux");
+
+                        new IoUring().close();
+
+                        res = true;
+                    }
+                    catch (IOException | LinkageError e) {
+                        unsupportedReason = e.getMessage();
+
+                        res = false;
+                    }
+
+                    supported = res;
+                }
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * @return Reason why io_uring is not supported or {@code null} if it is supported or wasn't checked.
+     */
+    @Nullable static String unsupportedReason() {
+        return unsupportedReason;
+    }
+
+    /**
+     * @return Ring of the current thread or {@code null} if it can't be created, for example, due to locked
+     * memory limit.
+     */
+    @Nullable static IoUring current() {
+        Object ring = RING.get();
+
+        if (ring instanceof IoUring && !((IoUring)ring).broken)
+            return (IoUring)ring;
+
+        if (ring != null && !(ring instanceof IoUring))
+            return null;
+
+        if (ring != null) {
+            RINGS.remove(ring);
+
+            ((IoUring)ring).close();
+        }
+
+        releaseRingsOfTerminatedThreads();
+
+        try {
+            IoUring newRing = new IoUring();
+
+            RING.set(newRing);
+            RINGS.put(newRing, Thread.currentThread());
+
+            return newRing;
+        }
+        catch (IOException e) {
+            RING.set(Boolean.FALSE);
+
+            return null;
+        }
+    }
+
+    /**
+     * Releases rings of terminated threads.
+     */
+    private static void releaseRingsOfTerminatedThreads() {
+        for (Map.Entry<IoUring, Thread> e : RINGS.entrySet()) {
+            // Ring is released only by the thread which removed it, otherwise descriptor can be closed twice.
+            if (!e.getValue().isAlive() && RINGS.remove(e.getKey(), e.getValue()))
+                e.getKey().close();
+        }
+    }
+
+    /**
+     * Submits operation and waits for its completion.
+     *
+     * @param opcode Operation code.
+     * @param fd File descriptor.
+     * @param addr Buffer address.
+     * @param len Buffer length.
+     * @param off File offset or {@code -1} for the current file position.
+     * @param opFlags Operation flags.
+     * @return Operation result: number of bytes read or written, or negated error code.
+     * @throws IOException If submission failed.
+     */
+    int submitAndWait(int opcode, int fd, long addr, int len, long off, int opFlags) throws IOException {
+        int res;
+
+        do {
+            int tail = GridUnsafe.getInt(sqTail);
+            int idx = tail & sqMask;
+            long sqe = sqes + (long)idx * SQE_SIZE;
+
+            GridUnsafe.setMemory(sqe, SQE_SIZE, (byte)0);
+            GridUnsafe.putByte(sqe, (byte)opcode);
+            GridUnsafe.putInt(sqe + 4, fd);
+            GridUnsafe.putLong(sqe + 8, off);
+            GridUnsafe.putLong(sqe + 16, addr);
+            GridUnsafe.putInt(sqe + 24, len);
+            GridUnsafe.putInt(sqe + 28, opFlags);
+            GridUnsafe.putInt(sqArray + (long)idx * Integer.BYTES, idx);
+
+            // Publishes the entry to the kernel.
+            GridUnsafe.putIntVolatile(null, sqTail, tail + 1);
+
+            res = awaitCompletion(tail + 1);
+        }
+        while (res == -IgniteNativeIoLib.E_INTR || res == -IgniteNativeIoLib.E_AGAIN);
+
+        return res;
+    }
+
+    /**
+     * @param sqTailVal Submission queue tail after the operation was added.
+     * @return Operation result.
+     * @throws IOException If submission failed.
+     */
+    private int awaitCompletion(int sqTailVal) throws IOException {
+        int toSubmit = 1;
+
+        while (true) {
+            if (IgniteNativeIoLib.syscall(SYS_IO_URING_ENTER, ringFd, toSubmit, 1, IORING_ENTER_GETEVENTS, 0, 0) < 0) {
+                int err = Native.getLastError();
+
+                if (err != IgniteNativeIoLib.E_INTR && err != IgniteNativeIoLib.E_AGAIN
+                    && err != IgniteNativeIoLib.E_BUSY) {
+                    broken = true;
+
+                    throw new IOException("io_uring_enter failed: " + IgniteNativeIoLib.strerror(err));
+                }
+            }
+
+            if (GridUnsafe.getIntVolatile(null, sqHead) == sqTailVal)
+                toSubmit = 0;
+
+            int head = GridUnsafe.getInt(cqHead);
+
+            if (head != GridUnsafe.getIntVolatile(null, cqTail)) {
+                int res = GridUnsafe.getInt(cqes + (long)(head & cqMask) * CQE_SIZE + 8);
+
+                // Releases the completion entry to the kernel.
+                GridUnsafe.putIntVolatile(null, cqHead, head + 1);
+
+                return res;
+            }
+        }
+    }
+
+    /**
+     * @param size Required size.
+     * @return Cleared direct buffer with limit equal to {@code size} or {@link #MAX_BOUNCE_BUF_SIZE}
+     * whichever is less.
+     */
+    ByteBuffer bounceBuffer(int size) {
+        size = Math.min(size, MAX_BOUNCE_BUF_SIZE);
+
+        if (bounceBuf == null || bounceBuf.capacity() < size)
+            bounceBuf = ByteBuffer.allocateDirect(Integer.highestOneBit(Math.max(size, 4096) - 1) << 1);
+
+        bounceBuf.clear().limit(size);
+
+        return bounceBuf;
+    }
+
+    /**
+     * Releases ring resources.
+     */
+    private void close() {
+        unmap();
+
+        IgniteNativeIoLib.close(ringFd);
+    }
+
+    /**
+     * Unmaps ring memory.
+     */
+    private void unmap() {
+        if (sqes != 0)
+            IgniteNativeIoLib.munmap(sqes, sqesSize);
+
+        if (cqRingSize != 0 && cqRing != 0)
+            IgniteNativeIoLib.munmap(cqRing, cqRingSize);
+
+        if (sqRing != 0)
+            IgniteNativeIoLib.munmap(sqRing, sqRingSize);
+    }
+
+    /**
+     * @param size Mapping size.
+     * @param off Mapping offset.
+     * @return Mapping address.
+     * @throws IOException If failed.
+     */
+    private long mmap(long size, long off) throws IOException {
+        long addr = IgniteNativeIoLib.mmap(0, size, IgniteNativeIoLib.PROT_READ | IgniteNativeIoLib.PROT_WRITE,
+            IgniteNativeIoLib.MAP_SHARED | IgniteNativeIoLib.MAP_POPULATE, ringFd, off);
+
+        if (addr == IgniteNativeIoLib.MAP_FAILED)
+            throw new IOException("io_uring mmap failed: " + lastError());
+
+        return addr;
+    }
+
+    /**
+     * @return Last error description.
+     */
+    private static String lastError() {
+        return IgniteNativeIoLib.strerror(Native.getLastError());
+    }
+}
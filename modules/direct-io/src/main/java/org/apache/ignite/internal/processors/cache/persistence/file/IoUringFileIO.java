@@ -0,0 +1,424 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import com.sun.jna.Native;
+import com.sun.jna.NativeLong;
+import com.sun.jna.Pointer;
+import org.apache.ignite.internal.processors.compress.FileSystemUtils;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * File I/O implementation which reads, writes and syncs the file through the Linux io_uring interface
+ * of the calling thread, see {@link IoUring}. <br>
+ * Direct byte buffers are passed to the kernel as is, heap byte buffers are copied through the thread local
+ * native buffer. If the ring of the calling thread can't be created, plain {@code pread}/{@code pwrite} are used.
+ * Memory mapping and channel transfers are performed by a {@link FileChannel} opened on demand.
+ */
+public class IoUringFileIO extends AbstractFileIO {
+    /** Negative value for file offset: read/write starting from current file position. */
+    private static final long FILE_POS_USE_CURRENT = -1;
+
+    /** File. */
+    private final File file;
+
+    /** File system block size. */
+    private final int fsBlockSize;
+
+    /** File descriptor. */
+    private volatile int fd;
+
+    /** File channel for memory mapping and transfers, opened on demand. */
+    private volatile FileChannel ch;
+
+    /**
+     * Creates io_uring file IO.
+     *
+     * @param file File to open.
+     * @param modes Open options, see {@link #openFlags(OpenOption...)} for supported ones.
+     * @throws IOException If file open failed.
+     */
+    public IoUringFileIO(File file, OpenOption... modes) throws IOException {
+        this.file = file;
+
+        int flags = openFlags(modes);
+
+        if (flags < 0)
+            throw new IllegalArgumentException("Unsupported open options: " + Arrays.asList(modes));
+
+        String pathname = file.getAbsolutePath();
+
+        int fd = IgniteNativeIoLib.open(pathname, flags, IgniteNativeIoLib.DEFAULT_OPEN_MODE);
+
+        if (fd < 0) {
+            throw new IOException("Error opening file [" + pathname + "] with options " + Arrays.asList(modes)
+                + ", got error [" + Native.getLastError() + ": " + getLastError() + "]");
+        }
+
+        this.fd = fd;
+        fsBlockSize = FileSystemUtils.getFileSystemBlockSize(fd);
+    }
+
+    /**
+     * Converts Java open options to native flags.
+     *
+     * @param modes Java options.
+     * @return Native flags for open method or {@code -1} if some of the options are not supported.
+     */
+    static int openFlags(OpenOption... modes) {
+        int flags = 0;
+        List<OpenOption> openOptionList = Arrays.asList(modes);
+
+        boolean read = openOptionList.contains(StandardOpenOption.READ);
+        boolean write = openOptionList.contains(StandardOpenOption.WRITE);
+
+        if (read && write)
+            flags |= IgniteNativeIoLib.O_RDWR;
+        else if (write)
+            flags |= IgniteNativeIoLib.O_WRONLY;
+        else
+            flags |= IgniteNativeIoLib.O_RDONLY;
+
+        for (OpenOption mode : openOptionList) {
+            if (mode == StandardOpenOption.READ || mode == StandardOpenOption.WRITE)
+                continue;
+
+            if (mode == StandardOpenOption.CREATE)
+                flags |= IgniteNativeIoLib.O_CREAT;
+            else if (mode == StandardOpenOption.TRUNCATE_EXISTING)
+                flags |= IgniteNativeIoLib.O_TRUNC;
+            else if (mode == StandardOpenOption.SYNC)
+                flags |= IgniteNativeIoLib.O_SYNC;
+            else
+                return -1;
+        }
+
+        return flags;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getFileSystemBlockSize() {
+        return fsBlockSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getSparseSize() {
+        return FileSystemUtils.getSparseFileSize(fd);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int punchHole(long position, int len) {
+        return (int)FileSystemUtils.punchHole(fd, position, len, fsBlockSize);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long position() throws IOException {
+        long position = IgniteNativeIoLib.lseek(fdCheckOpened(), 0, IgniteNativeIoLib.SEEK_CUR);
+
+        if (position < 0)
+            throw new IOException(String.format("Error checking file [%s] position: %s", file, getLastError()));
+
+        return position;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void position(long newPosition) throws IOException {
+        if (IgniteNativeIoLib.lseek(fdCheckOpened(), newPosition, IgniteNativeIoLib.SEEK_SET) < 0) {
+            throw new IOException(String.format("Error setting file [%s] position to [%s]: %s",
+                file, Long.toString(newPosition), getLastError()));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(ByteBuffer destBuf) throws IOException {
+        return read(destBuf, FILE_POS_USE_CURRENT);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(ByteBuffer destBuf, long position) throws IOException {
+        int pos = destBuf.position();
+        int len = destBuf.remaining();
+
+        if (len == 0)
+            return 0;
+
+        IoUring ring = IoUring.current();
+
+        int rd;
+
+        if (destBuf.isDirect()) {
+            rd = io(ring, IoUring.IORING_OP_READ, GridUnsafe.bufferAddress(destBuf) + pos, len, position);
+
+            if (rd > 0)
+                destBuf.position(pos + rd);
+        }
+        else {
+            ByteBuffer buf = bounceBuffer(ring, len);
+
+            rd = io(ring, IoUring.IORING_OP_READ, GridUnsafe.bufferAddress(buf), buf.remaining(), position);
+
+            if (rd > 0) {
+                buf.limit(rd);
+
+                destBuf.put(buf);
+            }
+        }
+
+        // Tried to read past EOF for file.
+        return rd == 0 ? -1 : rd;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(byte[] buf, int off, int len) throws IOException {
+        return read(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(ByteBuffer srcBuf) throws IOException {
+        return write(srcBuf, FILE_POS_USE_CURRENT);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(ByteBuffer srcBuf, long position) throws IOException {
+        int pos = srcBuf.position();
+        int len = srcBuf.remaining();
+
+        if (len == 0)
+            return 0;
+
+        IoUring ring = IoUring.current();
+
+        int wr;
+
+        if (srcBuf.isDirect())
+            wr = io(ring, IoUring.IORING_OP_WRITE, GridUnsafe.bufferAddress(srcBuf) + pos, len, position);
+        else {
+            ByteBuffer buf = bounceBuffer(ring, len);
+
+            ByteBuffer src = srcBuf.duplicate();
+
+            src.limit(pos + buf.remaining());
+
+            buf.put(src).flip();
+
+            wr = io(ring, IoUring.IORING_OP_WRITE, GridUnsafe.bufferAddress(buf), buf.remaining(), position);
+        }
+
+        srcBuf.position(pos + wr);
+
+        return wr;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(byte[] buf, int off, int len) throws IOException {
+        return write(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override public MappedByteBuffer map(int sizeBytes) throws IOException {
+        return channel().map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+        return channel().transferTo(position, count, target);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+        long written = channel().transferFrom(src, position, count);
+
+        if (written != count)
+            throw new IOException("Error writing file [file=" + file.getAbsolutePath() + ", count=" + count +
+                ", written=" + written + ']');
+
+        return written;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void force() throws IOException {
+        force(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void force(boolean withMetadata) throws IOException {
+        int fd = fdCheckOpened();
+
+        IoUring ring = IoUring.current();
+
+        int res;
+
+        if (ring != null) {
+            res = ring.submitAndWait(IoUring.IORING_OP_FSYNC, fd, 0, 0, 0,
+                withMetadata ? 0 : IoUring.IORING_FSYNC_DATASYNC);
+        }
+        else {
+            res = withMetadata ? IgniteNativeIoLib.fsync(fd) : IgniteNativeIoLib.fdatasync(fd);
+
+            if (res < 0)
+                res = -Native.getLastError();
+        }
+
+        if (res < 0) {
+            throw new IOException(String.format("Error fsync()'ing %s, got %s",
+                file, IgniteNativeIoLib.strerror(-res)));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public long size() throws IOException {
+        return file.length();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void clear() throws IOException {
+        if (IgniteNativeIoLib.ftruncate(fdCheckOpened(), 0) < 0)
+            throw new IOException(String.format("Error truncating file %s, got %s", file, getLastError()));
+
+        position(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override public synchronized void close() throws IOException {
+        int fd = this.fd;
+
+        if (fd < 0)
+            return;
+
+        this.fd = -1;
+
+        U.closeQuiet(ch);
+
+        if (IgniteNativeIoLib.close(fd) < 0)
+            throw new IOException(String.format("Error closing %s, got %s", file, getLastError()));
+    }
+
+    /**
+     * Performs read or write operation.
+     *
+     * @param ring Ring of the current thread or {@code null} to use plain system calls.
+     * @param opcode Operation code.
+     * @param addr Buffer address.
+     * @param len Number of bytes to read or write.
+     * @param position File position or {@link #FILE_POS_USE_CURRENT}.
+     * @return Number of bytes read or written.
+     * @throws IOException If failed.
+     */
+    private int io(IoUring ring, int opcode, long addr, int len, long position) throws IOException {
+        int fd = fdCheckOpened();
+
+        int res;
+
+        if (ring != null)
+            res = ring.submitAndWait(opcode, fd, addr, len, position, 0);
+        else {
+            Pointer ptr = new Pointer(addr);
+            NativeLong cnt = new NativeLong(len);
+
+            boolean read = opcode == IoUring.IORING_OP_READ;
+
+            if (position == FILE_POS_USE_CURRENT)
+                res = (read ? IgniteNativeIoLib.read(fd, ptr, cnt) : IgniteNativeIoLib.write(fd, ptr, cnt)).intValue();
+            else {
+                NativeLong off = new NativeLong(position);
+
+                res = (read ? IgniteNativeIoLib.pread(fd, ptr, cnt, off) : IgniteNativeIoLib.pwrite(fd, ptr, cnt, off))
+                    .intValue();
+            }
+
+            if (res < 0)
+                res = -Native.getLastError();
+        }
+
+        if (res < 0) {
+            throw new IOException(String.format("Error during %s file [%s] at position [%s]: %s",
+                opcode == IoUring.IORING_OP_READ ? "reading" : "writing", file,
+                position == FILE_POS_USE_CURRENT ? "current" : Long.toString(position),
+                IgniteNativeIoLib.strerror(-res)));
+        }
+
+        return res;
+    }
+
+    /**
+     * @param ring Ring of the current thread or {@code null}.
+     * @param len Required length.
+     * @return Native buffer to copy data of heap byte buffers, its remaining size can be less than requested.
+     */
+    private static ByteBuffer bounceBuffer(IoUring ring, int len) {
+        return ring != null
+            ? ring.bounceBuffer(len)
+            : ByteBuffer.allocateDirect(Math.min(len, IoUring.MAX_BOUNCE_BUF_SIZE));
+    }
+
+    /**
+     * @return File channel for memory mapping and transfers.
+     * @throws IOException If failed to open channel.
+     */
+    private FileChannel channel() throws IOException {
+        FileChannel ch = this.ch;
+
+        if (ch == null) {
+            synchronized (this) {
+                ch = this.ch;
+
+                if (ch == null) {
+                    fdCheckOpened();
+
+                    this.ch = ch = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+                }
+            }
+        }
+
+        return ch;
+    }
+
+    /**
+     * Checks if file is opened and returns descriptor.
+     *
+     * @return File descriptor.
+     * @throws IOException If file is not opened.
+     */
+    private int fdCheckOpened() throws IOException {
+        int fd = this.fd;
+
+        if (fd < 0)
+            throw new IOException(String.format("Error %s not opened", file));
+
+        return fd;
+    }
+
+    /**
+     * @return Description of the last error set by the OS.
+     */
+    private static String getLastError() {
+        return IgniteNativeIoLib.strerror(Native.getLastError());
+    }
+}
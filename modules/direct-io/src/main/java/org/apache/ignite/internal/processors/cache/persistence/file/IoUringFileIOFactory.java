@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.OpenOption;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * File I/O factory which provides {@link IoUringFileIO} implementation of FileIO. <br>
+ * If io_uring is not available (not Linux, Linux older than 5.6, JNA is not in classpath or io_uring is
+ * disabled by the system settings) or open options are not supported by {@link IoUringFileIO},
+ * files are opened by the backup factory.
+ */
+public class IoUringFileIOFactory implements FileIOFactory {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Backup factory for files which can't be opened with io_uring. */
+    private final FileIOFactory backupFactory;
+
+    /**
+     * Creates factory with {@link RandomAccessFileIOFactory} as backup.
+     */
+    public IoUringFileIOFactory() {
+        this(new RandomAccessFileIOFactory());
+    }
+
+    /**
+     * @param backupFactory Backup factory for files which can't be opened with io_uring.
+     */
+    public IoUringFileIOFactory(FileIOFactory backupFactory) {
+        this.backupFactory = backupFactory;
+    }
+
+    /** {@inheritDoc} */
+    @Override public FileIO create(File file, OpenOption... modes) throws IOException {
+        if (!isIoUringSupported() || IoUringFileIO.openFlags(modes) < 0)
+            return backupFactory.create(file, modes);
+
+        return new IoUringFileIO(file, modes);
+    }
+
+    /**
+     * @return {@code True} if io_uring can be used on this system.
+     */
+    public static boolean isIoUringSupported() {
+        return IoUring.isSupported();
+    }
+
+    /**
+     * @return Reason why io_uring can't be used or {@code null} if it can be used.
+     */
+    @Nullable public static String unsupportedReason() {
+        return IoUring.isSupported() ? null : IoUring.unsupportedReason();
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.OpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests {@link IoUringFileIO} and fallback of {@link IoUringFileIOFactory}.
+ */
+public class IoUringFileIOTest {
+    /** Open options. */
+    private static final OpenOption[] MODES = {CREATE, READ, WRITE};
+
+    /** Factory. */
+    private final FileIOFactory factory = new IoUringFileIOFactory();
+
+    /** File. */
+    private File file;
+
+    /** */
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("io-uring", ".bin");
+    }
+
+    /** */
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    /**
+     * Checks positional and sequential reads and writes of direct and heap buffers.
+     */
+    @Test
+    public void testReadWrite() throws Exception {
+        assumeIoUringSupported();
+
+        byte[] data = randomBytes(3 * 4096 + 17);
+
+        try (FileIO io = factory.create(file, MODES)) {
+            assertTrue(io instanceof IoUringFileIO);
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+
+            direct.put(data).flip();
+
+            io.writeFully(direct, 0);
+
+            assertEquals(data.length, direct.position());
+            assertEquals(0, io.position());
+            assertEquals(data.length, io.size());
+
+            io.position(data.length);
+            io.writeFully(ByteBuffer.wrap(data));
+
+            assertEquals(2L * data.length, io.position());
+            assertEquals(2L * data.length, io.size());
+
+            io.force();
+            io.force(true);
+
+            ByteBuffer heap = ByteBuffer.allocate(data.length);
+
+            io.readFully(heap, data.length);
+
+            assertArrayEquals(data, heap.array());
+
+            io.position(0);
+
+            direct.clear();
+
+            io.readFully(direct);
+
+            assertEquals(data.length, io.position());
+
+            byte[] res = new byte[data.length];
+
+            direct.flip();
+            direct.get(res);
+
+            assertArrayEquals(data, res);
+
+            assertEquals(-1, io.read(ByteBuffer.allocate(1), 2L * data.length));
+
+            io.clear();
+
+            assertEquals(0, io.size());
+            assertEquals(0, io.position());
+        }
+    }
+
+    /**
+     * Checks heap buffers which are larger than the native buffer used to copy them.
+     */
+    @Test
+    public void testLargeHeapBuffer() throws Exception {
+        assumeIoUringSupported();
+
+        byte[] data = randomBytes(IoUring.MAX_BOUNCE_BUF_SIZE * 2 + 4096);
+
+        try (FileIO io = factory.create(file, MODES)) {
+            assertEquals(IoUring.MAX_BOUNCE_BUF_SIZE, io.write(ByteBuffer.wrap(data), 0));
+
+            io.writeFully(data, 0, data.length);
+
+            byte[] res = new byte[data.length];
+
+            io.position(0);
+            io.readFully(res, 0, res.length);
+
+            assertArrayEquals(data, res);
+        }
+    }
+
+    /**
+     * Checks memory mapping and channel transfers.
+     */
+    @Test
+    public void testMapAndTransfer() throws Exception {
+        assumeIoUringSupported();
+
+        byte[] data = randomBytes(8192);
+
+        try (FileIO io = factory.create(file, MODES)) {
+            assertEquals(data.length, io.transferFrom(Channels.newChannel(new ByteArrayInputStream(data)),
+                0, data.length));
+
+            MappedByteBuffer map = io.map(data.length);
+
+            byte[] res = new byte[data.length];
+
+            map.get(res);
+
+            assertArrayEquals(data, res);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            assertEquals(data.length, io.transferTo(0, data.length, Channels.newChannel(out)));
+
+            assertArrayEquals(data, out.toByteArray());
+        }
+    }
+
+    /**
+     * Checks concurrent writes and reads from many threads, each thread uses own ring.
+     */
+    @Test
+    public void testMultithreaded() throws Exception {
+        assumeIoUringSupported();
+
+        int threads = 8;
+        int pages = 64;
+        int pageSize = 4096;
+
+        AtomicInteger idx = new AtomicInteger();
+
+        try (FileIO io = factory.create(file, MODES)) {
+            // Each run starts new threads, so rings of terminated threads are released and recreated.
+            for (int run = 0; run < 3; run++) {
+                GridTestUtils.runMultiThreaded(() -> {
+                    int t = idx.getAndIncrement() % threads;
+
+                    ByteBuffer buf = ByteBuffer.allocateDirect(pageSize);
+
+                    for (int i = 0; i < pages; i++) {
+                        long pos = ((long)i * threads + t) * pageSize;
+
+                        buf.clear();
+
+                        while (buf.hasRemaining())
+                            buf.putInt(t * pages + i);
+
+                        buf.flip();
+
+                        io.writeFully(buf, pos);
+                    }
+
+                    for (int i = 0; i < pages; i++) {
+                        long pos = ((long)i * threads + t) * pageSize;
+
+                        buf.clear();
+
+                        io.readFully(buf, pos);
+
+                        buf.flip();
+
+                        while (buf.hasRemaining())
+                            assertEquals(t * pages + i, buf.getInt());
+                    }
+
+                    io.force();
+
+                    return null;
+                }, threads, "io-uring-test");
+            }
+
+            assertEquals((long)threads * pages * pageSize, io.size());
+        }
+    }
+
+    /**
+     * Checks that files with open options not supported by io_uring file IO are opened by the backup factory.
+     */
+    @Test
+    public void testUnsupportedOptionsFallback() throws Exception {
+        try (FileIO io = factory.create(file, CREATE, WRITE, APPEND)) {
+            assertTrue(io instanceof RandomAccessFileIO);
+        }
+
+        if (!IoUringFileIOFactory.isIoUringSupported()) {
+            try (FileIO io = factory.create(file, MODES)) {
+                assertTrue(io instanceof RandomAccessFileIO);
+            }
+        }
+    }
+
+    /**
+     * Skips the test if io_uring is not supported.
+     */
+    private static void assumeIoUringSupported() {
+        assumeTrue("io_uring is not supported: " + IoUringFileIOFactory.unsupportedReason(),
+            IoUringFileIOFactory.isIoUringSupported());
+    }
+
+    /**
+     * @param len Length.
+     * @return Random bytes.
+     */
+    private static byte[] randomBytes(int len) {
+        byte[] data = new byte[len];
+
+        ThreadLocalRandom.current().nextBytes(data);
+
+        return data;
+    }
+}
@@ -20,6 +20,8 @@ import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.internal.processors.cache.persistence.file.IgniteFileIOTest;
 import org.apache.ignite.internal.processors.cache.persistence.file.IgniteNativeIoWithNoPersistenceTest;
+import org.apache.ignite.internal.processors.cache.persistence.file.IoUringFileIOPersistenceTest;
+import org.apache.ignite.internal.processors.cache.persistence.file.IoUringFileIOTest;
 import org.apache.ignite.testframework.junits.DynamicSuite;
 import org.junit.runner.RunWith;
 
@@ -41,6 +43,8 @@ public class IgnitePdsNativeIoTestSuite {
 
         suite.add(IgniteNativeIoWithNoPersistenceTest.class);
         suite.add(IgniteFileIOTest.class);
+        suite.add(IoUringFileIOTest.class);
+        suite.add(IoUringFileIOPersistenceTest.class);
 
         return suite;
     }
@@ -27,6 +27,7 @@ import java.util.concurrent.ConcurrentMap;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.cache.QueryIndexType;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
 import org.apache.ignite.internal.processors.cache.query.IgniteQueryErrorCode;
@@ -283,6 +284,10 @@ public class H2SchemaManager implements SchemaChangeListener {
 
     /** {@inheritDoc} */
     @Override public void onIndexCreated(String schemaName, String tblName, String idxName, IndexDescriptor idxDesc) {
+        // Hash indexes are supported only by Calcite engine.
+        if (idxDesc.type() == QueryIndexType.HASH)
+            return;
+
         GridH2Table tbl = dataTable(schemaName, tblName);
 
         if (tbl == null)
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.index;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexTree;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.io.InlineIO;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.io.PrefixInlineLeafIO;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INLINE_INDEX_PREFIX_COMPRESSION;
+
+/**
+ * Tests indexes with the page prefix compression of the first string key.
+ */
+@WithSystemProperty(key = IGNITE_INLINE_INDEX_PREFIX_COMPRESSION, value = "true")
+public class InlineIndexPrefixCompressionTest extends GridCommonAbstractTest {
+    /** Keys count. */
+    private static final int KEYS = 20_000;
+
+    /** Common prefix of the keys, it is longer than the inline size. */
+    private static final String PREFIX = "https://www.example.com/catalog/products/";
+
+    /** Inline size. */
+    private static final int INLINE_SIZE = 24;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testStringIndex() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        sql(ignite, "CREATE TABLE URLS (ID INT PRIMARY KEY, URL VARCHAR, VAL INT)");
+        sql(ignite, "CREATE INDEX URL_IDX ON URLS (URL, VAL) INLINE_SIZE " + INLINE_SIZE);
+
+        for (int i = 0; i < KEYS; i++)
+            sql(ignite, "INSERT INTO URLS (ID, URL, VAL) VALUES (?, ?, ?)", i, url(i), i % 10);
+
+        // Remove a part of the keys to merge the pages.
+        for (int i = 0; i < KEYS; i += 3)
+            sql(ignite, "DELETE FROM URLS WHERE ID = ?", i);
+
+        InlineIndexTree tree = tree(ignite);
+
+        assertTrue(tree.inlinePrefixCompression());
+
+        // Many items of the leaf pages inline more bytes than the inline size.
+        assertTrue(compressedItems(tree) > KEYS / 4);
+
+        checkQueries(ignite);
+
+        forceCheckpoint();
+
+        stopGrid(0, true);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        assertTrue(tree(ignite).inlinePrefixCompression());
+
+        checkQueries(ignite);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_INLINE_INDEX_PREFIX_COMPRESSION, value = "false")
+    public void testDisabled() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        sql(ignite, "CREATE TABLE URLS (ID INT PRIMARY KEY, URL VARCHAR, VAL INT)");
+        sql(ignite, "CREATE INDEX URL_IDX ON URLS (URL, VAL) INLINE_SIZE " + INLINE_SIZE);
+
+        for (int i = 0; i < 1000; i++)
+            sql(ignite, "INSERT INTO URLS (ID, URL, VAL) VALUES (?, ?, ?)", i, url(i), i % 10);
+
+        InlineIndexTree tree = tree(ignite);
+
+        assertFalse(tree.inlinePrefixCompression());
+        assertEquals(0, compressedItems(tree));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testNotStringIndex() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        sql(ignite, "CREATE TABLE URLS (ID INT PRIMARY KEY, URL VARCHAR, VAL INT)");
+        sql(ignite, "CREATE INDEX URL_IDX ON URLS (VAL, URL) INLINE_SIZE " + INLINE_SIZE);
+
+        assertFalse(tree(ignite).inlinePrefixCompression());
+    }
+
+    /**
+     * @param ignite Node.
+     */
+    private void checkQueries(IgniteEx ignite) {
+        for (int i = 0; i < KEYS; i += 7) {
+            List<List<?>> res = sql(ignite, "SELECT ID FROM URLS USE INDEX (URL_IDX) WHERE URL = ?", url(i));
+
+            if (i % 3 == 0)
+                assertTrue(res.isEmpty());
+            else {
+                assertEquals(1, res.size());
+                assertEquals(i, res.get(0).get(0));
+            }
+
+            res = sql(ignite, "SELECT ID FROM URLS USE INDEX (URL_IDX) WHERE URL = ? AND VAL = ?", url(i), i % 10 + 1);
+
+            assertTrue(res.isEmpty());
+        }
+
+        List<List<?>> res = sql(ignite, "SELECT COUNT(*) FROM URLS USE INDEX (URL_IDX) WHERE URL >= ? AND URL < ?",
+            url(1000), url(2000));
+
+        assertEquals(1000L - 1000 / 3, res.get(0).get(0));
+
+        res = sql(ignite, "SELECT ID FROM URLS USE INDEX (URL_IDX) WHERE URL > ? ORDER BY URL", PREFIX);
+
+        assertEquals(KEYS - (KEYS + 2) / 3, res.size());
+
+        int prev = -1;
+
+        for (List<?> row : res) {
+            int id = (Integer)row.get(0);
+
+            assertTrue(id > prev);
+            assertTrue(id % 3 != 0);
+
+            prev = id;
+        }
+    }
+
+    /**
+     * @param tree Index tree.
+     * @return Count of the leaf items which inline more bytes than the inline size.
+     */
+    private static int compressedItems(InlineIndexTree tree) throws Exception {
+        AtomicInteger cnt = new AtomicInteger();
+
+        GridCursor<IndexRow> cur = tree.find(null, null, (t, io, pageAddr, idx) -> {
+            if (io instanceof PrefixInlineLeafIO && ((InlineIO)io).inlineSize(pageAddr, idx) > INLINE_SIZE)
+                cnt.incrementAndGet();
+
+            return false;
+        }, null);
+
+        while (cur.next())
+            fail();
+
+        return cnt.get();
+    }
+
+    /**
+     * @param ignite Node.
+     * @return Tree of the first index segment.
+     */
+    private static InlineIndexTree tree(IgniteEx ignite) {
+        Index idx = ignite.context().indexProcessor().indexes("SQL_PUBLIC_URLS").stream()
+            .filter(i -> "URL_IDX".equals(i.name()))
+            .findAny()
+            .orElseThrow(AssertionError::new);
+
+        return ((InlineIndexImpl)idx).segment(0);
+    }
+
+    /**
+     * @param i Key.
+     * @return URL of the key, URLs are ordered as keys.
+     */
+    private static String url(int i) {
+        return PREFIX + String.format("%08d", i) + "/details";
+    }
+
+    /**
+     * @param ignite Node.
+     * @param sql SQL query.
+     * @param args Query arguments.
+     * @return Query result.
+     */
+    private static List<List<?>> sql(IgniteEx ignite, String sql, Object... args) {
+        return ignite.context().query().querySqlFields(new SqlFieldsQuery(sql).setArgs(args), false).getAll();
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.util.CommonUtils;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Pool of session buffers shared by all workers of a {@link GridNioServer}.
+ * <p>
+ * Buffers are grouped by size classes of power of two sizes. A session borrows a buffer only while it has pending
+ * I/O and returns it once the buffer is empty, so idle sessions do not hold any memory. Buffers returned above the
+ * {@link #MAX_POOLED_SIZE} limit are released at once.
+ * <p>
+ * A borrowed buffer is owned by a single session until it is returned. The size of borrowed buffers is tracked to
+ * report leaks when the server is stopped.
+ */
+class GridNioBufferPool {
+    /** Size of the smallest buffer. */
+    static final int MIN_BUF_SIZE = 8 << 10;
+
+    /** Maximum total size of buffers kept in the pool. */
+    static final long MAX_POOLED_SIZE = 64L << 20;
+
+    /** Number of size classes. */
+    private static final int CLASSES_CNT = Integer.numberOfLeadingZeros(MIN_BUF_SIZE);
+
+    /** Direct buffers flag. */
+    private final boolean direct;
+
+    /** Byte order of buffers. */
+    private final ByteOrder order;
+
+    /** Free buffers by size classes. */
+    private final Queue<ByteBuffer>[] classes;
+
+    /** Total size of free buffers. */
+    private final AtomicLong pooledSize = new AtomicLong();
+
+    /** Total size of borrowed buffers. */
+    private final AtomicLong borrowedSize = new AtomicLong();
+
+    /** Stopped flag. */
+    private volatile boolean stopped;
+
+    /**
+     * @param direct Direct buffers flag.
+     * @param order Byte order of buffers.
+     */
+    @SuppressWarnings("unchecked")
+    GridNioBufferPool(boolean direct, ByteOrder order) {
+        this.direct = direct;
+        this.order = order;
+
+        classes = new Queue[CLASSES_CNT];
+
+        for (int i = 0; i < CLASSES_CNT; i++)
+            classes[i] = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * @param size Required size.
+     * @return Cleared buffer of at least the given size.
+     */
+    ByteBuffer borrow(int size) {
+        int idx = sizeClass(size);
+
+        ByteBuffer buf = classes[idx].poll();
+
+        if (buf != null) {
+            pooledSize.addAndGet(-buf.capacity());
+
+            buf.clear();
+        }
+        else {
+            int cap = MIN_BUF_SIZE << idx;
+
+            buf = direct ? ByteBuffer.allocateDirect(cap) : ByteBuffer.allocate(cap);
+
+            buf.order(order);
+        }
+
+        borrowedSize.addAndGet(buf.capacity());
+
+        return buf;
+    }
+
+    /**
+     * Returns the buffer to the pool. The buffer must not be used after that.
+     *
+     * @param buf Buffer borrowed from this pool.
+     */
+    void release(ByteBuffer buf) {
+        int cap = buf.capacity();
+
+        assert Integer.bitCount(cap) == 1 && cap >= MIN_BUF_SIZE : buf;
+
+        borrowedSize.addAndGet(-cap);
+
+        if (!stopped) {
+            if (pooledSize.addAndGet(cap) <= MAX_POOLED_SIZE) {
+                classes[sizeClass(cap)].add(buf);
+
+                return;
+            }
+
+            pooledSize.addAndGet(-cap);
+        }
+
+        free(buf);
+    }
+
+    /**
+     * Releases free buffers and reports buffers that have not been returned.
+     *
+     * @param log Logger.
+     */
+    void stop(IgniteLogger log) {
+        stopped = true;
+
+        for (Queue<ByteBuffer> cls : classes) {
+            ByteBuffer buf;
+
+            while ((buf = cls.poll()) != null) {
+                pooledSize.addAndGet(-buf.capacity());
+
+                free(buf);
+            }
+        }
+
+        long leaked = borrowedSize.get();
+
+        if (leaked > 0)
+            CommonUtils.warn(log, "Session buffers have not been returned to the pool on NIO server stop " +
+                "[size=" + leaked + ']');
+    }
+
+    /**
+     * @return Total size of borrowed buffers.
+     */
+    long borrowedSize() {
+        return borrowedSize.get();
+    }
+
+    /**
+     * @return Total size of free buffers.
+     */
+    long pooledSize() {
+        return pooledSize.get();
+    }
+
+    /**
+     * Chooses the size of the next buffer by the number of bytes used in the current one: the size is doubled when
+     * the buffer is filled up and halved when less than a quarter of it is used.
+     *
+     * @param size Size of the current buffer.
+     * @param used Number of bytes used in the current buffer.
+     * @param maxSize Maximum buffer size.
+     * @return Size of the next buffer.
+     */
+    static int adaptSize(int size, int used, int maxSize) {
+        if (used >= size)
+            return Math.max(Math.min(size << 1, maxSize), MIN_BUF_SIZE);
+
+        if (used < size >> 2)
+            return Math.max(size >> 1, MIN_BUF_SIZE);
+
+        return size;
+    }
+
+    /**
+     * @param size Required size.
+     * @return Capacity of the buffer borrowed for the given size.
+     */
+    static int bufferSize(int size) {
+        return MIN_BUF_SIZE << sizeClass(size);
+    }
+
+    /**
+     * @param size Buffer size.
+     * @return Index of the smallest size class that fits the given size.
+     */
+    private static int sizeClass(int size) {
+        if (size <= MIN_BUF_SIZE)
+            return 0;
+
+        return Math.min(32 - Integer.numberOfLeadingZeros(size - 1), 30) - Integer.numberOfTrailingZeros(MIN_BUF_SIZE);
+    }
+
+    /**
+     * @param buf Buffer to free.
+     */
+    private void free(ByteBuffer buf) {
+        if (direct)
+            GridUnsafe.cleanDirectBuffer(buf);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridNioBufferPool.class, this);
+    }
+}
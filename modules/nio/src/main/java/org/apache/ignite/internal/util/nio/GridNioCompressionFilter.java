@@ -0,0 +1,521 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteInClosure;
+
+/**
+ * Compresses the byte stream of NIO sessions by frames.
+ * <p>
+ * Compression is started per session: sessions opened with {@link #COMPRESSION_META} are compressed from the first
+ * byte, other sessions are switched with {@link #start(GridNioSession)} once both sides agreed on it. Only the direct
+ * mode is supported: the outgoing bytes are compressed by {@link GridNioServer} right before they are written to the
+ * socket, the same way the SSL filter encrypts them.
+ * <p>
+ * Each frame has a header with a frame type, a payload length and a data length. A frame is deflated only while the
+ * session data compresses well and there is a CPU headroom, otherwise the data is stored as is. The decision is made
+ * by the sender for each frame, so the receiving side does not need to track it.
+ */
+public class GridNioCompressionFilter extends GridNioFilterAdapter {
+    /** Session meta key to compress the session from the first byte. */
+    public static final int COMPRESSION_META = GridNioSessionMetaKey.nextUniqueKey();
+
+    /** Session compression state meta key. */
+    private static final int STATE_META = GridNioSessionMetaKey.nextUniqueKey();
+
+    /** Frame header size: frame type, payload length and data length. */
+    static final int HEADER_SIZE = 9;
+
+    /** Frame with the data as is. */
+    private static final byte STORED = 0;
+
+    /** Frame with the deflated data. */
+    private static final byte DEFLATED = 1;
+
+    /** Minimal size of the data to deflate. */
+    private static final int MIN_DEFLATE_SIZE = 512;
+
+    /** Maximal compressed to raw size ratio to keep deflating the session frames. */
+    private static final double MAX_RATIO = 0.9;
+
+    /** Count of frames stored as is after a poor compression ratio before deflating is tried again. */
+    private static final int BACKOFF_FRAMES = 64;
+
+    /** Default CPU load above which frames are not deflated. */
+    public static final double DFLT_MAX_CPU_LOAD = 0.9;
+
+    /** CPU load refresh interval in nanoseconds. */
+    private static final long CPU_LOAD_REFRESH_NANOS = 1_000_000_000L;
+
+    /** */
+    private static final OperatingSystemMXBean OS = ManagementFactory.getOperatingSystemMXBean();
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** CPU load above which frames are not deflated. */
+    private final double maxCpuLoad;
+
+    /** Last measured CPU load. */
+    private volatile double cpuLoad;
+
+    /** Time of the last CPU load measurement. */
+    private volatile long cpuLoadTs = System.nanoTime() - CPU_LOAD_REFRESH_NANOS;
+
+    /**
+     * @param log Logger.
+     * @param maxCpuLoad CPU load above which frames are not deflated.
+     */
+    public GridNioCompressionFilter(IgniteLogger log, double maxCpuLoad) {
+        super("GridNioCompressionFilter");
+
+        this.log = log;
+        this.maxCpuLoad = maxCpuLoad;
+    }
+
+    /**
+     * Starts compression of both directions of the session. Must be called when the remote side can not send
+     * more uncompressed bytes and before the first compressed bytes are expected from it.
+     *
+     * @param ses Session.
+     */
+    public void start(GridNioSession ses) {
+        SessionState state = ses.meta(STATE_META);
+
+        assert state != null : ses;
+
+        state.rd = true;
+        state.wr = true;
+
+        if (log.isDebugEnabled())
+            log.debug("Compression started: " + ses);
+    }
+
+    /**
+     * @param ses Session.
+     * @return {@code True} if the bytes written to the session are compressed.
+     */
+    public boolean compressWrites(GridNioSession ses) {
+        SessionState state = ses.meta(STATE_META);
+
+        return state != null && state.wr;
+    }
+
+    /**
+     * @param ses Session.
+     * @return Ratio of the bytes written to the socket to the bytes written to the session, or {@code -1} if
+     * the session is not compressed.
+     */
+    public double compressionRatio(GridNioSession ses) {
+        SessionState state = ses.meta(STATE_META);
+
+        if (state == null || !state.wr)
+            return -1;
+
+        long raw = state.rawOut;
+
+        return raw == 0 ? 1 : (double)state.wireOut / raw;
+    }
+
+    /**
+     * Makes a frame of the data to be written to the socket.
+     *
+     * @param ses Session.
+     * @param buf Data to write, it is fully consumed.
+     * @return Frame.
+     */
+    ByteBuffer compress(GridNioSession ses, ByteBuffer buf) {
+        SessionState state = ses.meta(STATE_META);
+
+        assert state != null && state.wr : ses;
+
+        int len = buf.remaining();
+
+        ByteBuffer out = state.out;
+
+        if (out == null || out.capacity() < HEADER_SIZE + len) {
+            out = buf.isDirect() ? ByteBuffer.allocateDirect(HEADER_SIZE + len) : ByteBuffer.allocate(HEADER_SIZE + len);
+
+            state.out = out.order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        out.clear();
+
+        int pos = buf.position();
+
+        boolean deflated = false;
+
+        if (len >= MIN_DEFLATE_SIZE && state.skip == 0 && cpuHeadroom()) {
+            if (state.deflater == null)
+                state.deflater = new Deflater(Deflater.BEST_SPEED, true);
+
+            Deflater deflater = state.deflater;
+
+            deflater.reset();
+            deflater.setInput(buf);
+            deflater.finish();
+
+            // The payload must be smaller than the data, otherwise it is stored as is.
+            out.position(HEADER_SIZE).limit(HEADER_SIZE + len - 1);
+
+            while (!deflater.finished() && out.hasRemaining())
+                deflater.deflate(out);
+
+            deflated = deflater.finished();
+
+            double ratio = deflated ? (double)(out.position() - HEADER_SIZE) / len : 1;
+
+            state.ratio = state.ratio * 0.75 + ratio * 0.25;
+
+            // The average is kept, so a single poor frame is enough to back off again.
+            if (state.ratio > MAX_RATIO)
+                state.skip = BACKOFF_FRAMES;
+        }
+        else if (state.skip > 0)
+            state.skip--;
+
+        if (!deflated) {
+            buf.position(pos);
+
+            out.clear().position(HEADER_SIZE);
+            out.put(buf);
+        }
+
+        buf.position(pos + len);
+
+        int payload = out.position() - HEADER_SIZE;
+
+        out.put(0, deflated ? DEFLATED : STORED);
+        out.putInt(1, payload);
+        out.putInt(5, len);
+
+        out.flip();
+
+        state.rawOut += len;
+        state.wireOut += out.remaining();
+
+        return out;
+    }
+
+    /**
+     * @return {@code True} if the system load allows to spend CPU for the compression.
+     */
+    private boolean cpuHeadroom() {
+        long now = System.nanoTime();
+
+        if (now - cpuLoadTs >= CPU_LOAD_REFRESH_NANOS) {
+            cpuLoadTs = now;
+
+            double load = OS instanceof com.sun.management.OperatingSystemMXBean ?
+                ((com.sun.management.OperatingSystemMXBean)OS).getCpuLoad() :
+                OS.getSystemLoadAverage() / OS.getAvailableProcessors();
+
+            // CPU load is not available on some platforms.
+            cpuLoad = load < 0 ? 0 : load;
+        }
+
+        return cpuLoad < maxCpuLoad;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onSessionOpened(GridNioSession ses) throws IgniteCheckedException {
+        SessionState state = new SessionState();
+
+        if (ses.meta(COMPRESSION_META) != null) {
+            state.rd = true;
+            state.wr = true;
+        }
+
+        ses.addMeta(STATE_META, state);
+
+        proceedSessionOpened(ses);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onSessionClosed(GridNioSession ses) throws IgniteCheckedException {
+        try {
+            proceedSessionClosed(ses);
+        }
+        finally {
+            SessionState state = ses.meta(STATE_META);
+
+            if (state != null)
+                state.release();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onExceptionCaught(
+        GridNioSession ses,
+        IgniteCheckedException ex
+    ) throws IgniteCheckedException {
+        proceedExceptionCaught(ses, ex);
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteInternalFuture<?> onSessionWrite(
+        GridNioSession ses,
+        Object msg,
+        boolean fut,
+        IgniteInClosure<IgniteException> ackC
+    ) throws IgniteCheckedException {
+        return proceedSessionWrite(ses, msg, fut, ackC);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onMessageReceived(GridNioSession ses, Object msg) throws IgniteCheckedException {
+        SessionState state = ses.meta(STATE_META);
+
+        if (state == null || !state.rd) {
+            proceedMessageReceived(ses, msg);
+
+            return;
+        }
+
+        if (!(msg instanceof ByteBuffer))
+            throw new GridNioException("Failed to decode incoming message (message should be a byte buffer, is " +
+                "filter properly placed?): " + msg.getClass());
+
+        ByteBuffer input = (ByteBuffer)msg;
+
+        ByteBuffer in = state.in;
+
+        if (in != null && in.position() > 0) {
+            in = state.in = append(in, input);
+
+            in.flip();
+
+            readFrames(ses, state, in);
+
+            in.compact();
+        }
+        else {
+            readFrames(ses, state, input);
+
+            // Keep an incomplete frame till the rest of it is received.
+            if (input.hasRemaining())
+                state.in = append(in, input);
+        }
+    }
+
+    /**
+     * Passes the data of all the complete frames to the next filter.
+     *
+     * @param ses Session.
+     * @param state Session state.
+     * @param src Received bytes.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void readFrames(GridNioSession ses, SessionState state, ByteBuffer src) throws IgniteCheckedException {
+        while (src.remaining() >= HEADER_SIZE) {
+            int pos = src.position();
+
+            byte type = src.get(pos);
+            int payload = readInt(src, pos + 1);
+            int len = readInt(src, pos + 5);
+
+            if (type != STORED && type != DEFLATED || payload < 0 || len < 0)
+                throw new GridNioException("Invalid compressed frame header [type=" + type + ", payload=" + payload +
+                    ", len=" + len + ", ses=" + ses + ']');
+
+            if (src.remaining() < HEADER_SIZE + payload)
+                break;
+
+            ByteBuffer app = state.app;
+
+            if (app == null || app.remaining() < len) {
+                int cap = (app == null ? 0 : app.position()) + len;
+
+                ByteBuffer app0 = src.isDirect() ? ByteBuffer.allocateDirect(cap) : ByteBuffer.allocate(cap);
+
+                app0.order(src.order());
+
+                if (app != null) {
+                    app.flip();
+
+                    app0.put(app);
+                }
+
+                app = state.app = app0;
+            }
+
+            int limit = src.limit();
+
+            src.position(pos + HEADER_SIZE).limit(pos + HEADER_SIZE + payload);
+
+            if (type == STORED)
+                app.put(src);
+            else {
+                if (state.inflater == null)
+                    state.inflater = new Inflater(true);
+
+                Inflater inflater = state.inflater;
+
+                inflater.reset();
+                inflater.setInput(src);
+
+                int start = app.position();
+
+                try {
+                    while (!inflater.finished() && app.position() - start < len) {
+                        if (inflater.inflate(app) == 0)
+                            break;
+                    }
+                }
+                catch (DataFormatException e) {
+                    throw new GridNioException("Failed to inflate compressed frame: " + ses, e);
+                }
+
+                if (app.position() - start != len)
+                    throw new GridNioException("Invalid compressed frame [expected=" + len +
+                        ", inflated=" + (app.position() - start) + ", ses=" + ses + ']');
+            }
+
+            src.limit(limit).position(pos + HEADER_SIZE + payload);
+
+            state.rawIn += len;
+            state.wireIn += HEADER_SIZE + payload;
+
+            app.flip();
+
+            if (app.hasRemaining())
+                proceedMessageReceived(ses, app);
+
+            app.compact();
+        }
+    }
+
+    /**
+     * @param buf Buffer in the write mode or {@code null}.
+     * @param src Bytes to append.
+     * @return Buffer with the appended bytes.
+     */
+    private static ByteBuffer append(ByteBuffer buf, ByteBuffer src) {
+        if (buf == null || buf.remaining() < src.remaining()) {
+            ByteBuffer buf0 = ByteBuffer.allocate(Math.max((buf == null ? 0 : buf.position()) + src.remaining(),
+                buf == null ? 0 : buf.capacity() * 2));
+
+            if (buf != null) {
+                buf.flip();
+
+                buf0.put(buf);
+            }
+
+            buf = buf0;
+        }
+
+        return buf.put(src);
+    }
+
+    /**
+     * @param buf Buffer.
+     * @param pos Position.
+     * @return Little-endian integer regardless of the buffer byte order.
+     */
+    private static int readInt(ByteBuffer buf, int pos) {
+        return (buf.get(pos) & 0xFF) | (buf.get(pos + 1) & 0xFF) << 8 | (buf.get(pos + 2) & 0xFF) << 16 |
+            (buf.get(pos + 3) & 0xFF) << 24;
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteInternalFuture<Boolean> onSessionClose(GridNioSession ses) throws IgniteCheckedException {
+        return proceedSessionClose(ses);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onSessionIdleTimeout(GridNioSession ses) throws IgniteCheckedException {
+        proceedSessionIdleTimeout(ses);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onSessionWriteTimeout(GridNioSession ses) throws IgniteCheckedException {
+        proceedSessionWriteTimeout(ses);
+    }
+
+    /**
+     * Compression state of a session.
+     */
+    private static class SessionState {
+        /** Received bytes are compressed. */
+        private volatile boolean rd;
+
+        /** Written bytes are compressed. */
+        private volatile boolean wr;
+
+        /** Incomplete received frame. */
+        private ByteBuffer in;
+
+        /** Data of the received frames not consumed by the next filter. */
+        private ByteBuffer app;
+
+        /** Frame to write. */
+        private ByteBuffer out;
+
+        /** */
+        private Deflater deflater;
+
+        /** */
+        private Inflater inflater;
+
+        /** Moving average of the compression ratio. */
+        private double ratio;
+
+        /** Count of frames to store as is. */
+        private int skip;
+
+        /** Bytes written to the session. */
+        private volatile long rawOut;
+
+        /** Bytes written to the socket. */
+        private volatile long wireOut;
+
+        /** Bytes received by the session. */
+        private volatile long rawIn;
+
+        /** Bytes read from the socket. */
+        private volatile long wireIn;
+
+        /**
+         * Releases the native resources.
+         */
+        private void release() {
+            if (deflater != null)
+                deflater.end();
+
+            if (inflater != null)
+                inflater.end();
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(SessionState.class, this);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.spi.SelectorProvider;
+import jdk.net.ExtendedSocketOptions;
+
+/**
+ * Transport tuned for Linux epoll.
+ * <p>
+ * Selectors are opened by the JDK epoll selector provider. Delayed acknowledgements are disabled for the sockets
+ * with {@code TCP_QUICKACK}. Since Linux may enable them again, the option is set again after each read, which costs
+ * one more system call per read but does not let the peer wait for an acknowledgement to send the next segment.
+ */
+class GridNioEpollTransport extends GridNioJdkTransport {
+    /** Instance. */
+    static final GridNioEpollTransport INSTANCE = new GridNioEpollTransport();
+
+    /** Name of the JDK epoll selector provider. */
+    private static final String EPOLL_PROVIDER_CLS_NAME = "sun.nio.ch.EPollSelectorProvider";
+
+    /**
+     * @return {@code True} if the JDK selectors are based on epoll and {@code TCP_QUICKACK} is supported.
+     */
+    static boolean available() {
+        if (!EPOLL_PROVIDER_CLS_NAME.equals(SelectorProvider.provider().getClass().getName()))
+            return false;
+
+        try (SocketChannel ch = SocketChannel.open()) {
+            return ch.supportedOptions().contains(ExtendedSocketOptions.TCP_QUICKACK);
+        }
+        catch (IOException ignored) {
+            return false;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String name() {
+        return EPOLL;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void configure(SocketChannel ch) throws IOException {
+        ch.setOption(ExtendedSocketOptions.TCP_QUICKACK, true);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onRead(SocketChannel ch) throws IOException {
+        ch.setOption(ExtendedSocketOptions.TCP_QUICKACK, true);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.io.IOException;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.spi.SelectorProvider;
+
+/**
+ * Transport based on the default JDK selector provider with no socket tuning.
+ */
+class GridNioJdkTransport implements GridNioTransport {
+    /** Instance. */
+    static final GridNioJdkTransport INSTANCE = new GridNioJdkTransport();
+
+    /** {@inheritDoc} */
+    @Override public String name() {
+        return NIO;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Selector openSelector() throws IOException {
+        return SelectorProvider.provider().openSelector();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void configure(SocketChannel ch) throws IOException {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onRead(SocketChannel ch) throws IOException {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return name();
+    }
+}
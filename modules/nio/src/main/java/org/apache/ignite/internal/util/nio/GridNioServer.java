@@ -34,7 +34,7 @@ import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
-import java.nio.channels.spi.SelectorProvider;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -46,6 +46,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongConsumer;
 import org.apache.ignite.IgniteCheckedException;
@@ -65,7 +66,6 @@ import org.apache.ignite.internal.processors.tracing.SpanTags;
 import org.apache.ignite.internal.processors.tracing.SpanType;
 import org.apache.ignite.internal.util.CommonUtils;
 import org.apache.ignite.internal.util.GridConcurrentHashSet;
-import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.future.GridCompoundFuture;
 import org.apache.ignite.internal.util.future.GridFinishedFuture;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
@@ -177,6 +177,18 @@ public class GridNioServer<T> {
     /** The name of the metric that provides the active TCP sessions count. */
     public static final String SESSIONS_CNT_METRIC_NAME = "ActiveSessionsCount";
 
+    /** The name of the metric that provides the size of buffers borrowed by sessions. */
+    public static final String BORROWED_BUFS_SIZE_METRIC_NAME = "BorrowedBuffersSize";
+
+    /** The name of the metric that provides the size of free pooled session buffers. */
+    public static final String POOLED_BUFS_SIZE_METRIC_NAME = "PooledBuffersSize";
+
+    /** The name of the histogram metric of the number of messages written to a socket at once. */
+    public static final String WRITE_BATCH_SIZE_HISTOGRAM_METRIC_NAME = "WriteBatchSizeHistogram";
+
+    /** Default maximum number of queued messages to postpone a session write for (value is <tt>64</tt>). */
+    public static final int DFLT_WRITE_COALESCING_LIMIT = 64;
+
     /** Defines how many times selector should do {@code selectNow()} before doing {@code select(long)}. */
     private final long selectorSpins;
 
@@ -247,6 +259,12 @@ public class GridNioServer<T> {
     /** Whether direct mode is used. */
     private final boolean directMode;
 
+    /** Pool of session buffers, {@code null} if direct mode is not used. */
+    @Nullable private final GridNioBufferPool bufPool;
+
+    /** Transport. */
+    private final GridNioTransport transport;
+
     /** Received bytes count metric. */
     @Nullable private final LongConsumer rcvdBytesCntMetric;
 
@@ -259,12 +277,24 @@ public class GridNioServer<T> {
     /** Per-session maximum outbound messages queue size metric. */
     @Nullable private final LongConsumer maxMessagesQueueSizeMetric;
 
+    /** Write batch size metric. */
+    @Nullable private final LongConsumer writeBatchSizeMetric;
+
+    /** Time in nanoseconds a session write is postponed for to coalesce messages, {@code 0} if writes are not postponed. */
+    private final long writeCoalescingDelay;
+
+    /** Number of queued messages a session write is not postponed after. */
+    private final int writeCoalescingLimit;
+
     /** Sessions. */
     private final GridConcurrentHashSet<GridSelectorNioSessionImpl> sessions = new GridConcurrentHashSet<>();
 
     /** */
     private GridNioSslFilter sslFilter;
 
+    /** */
+    private GridNioCompressionFilter compressFilter;
+
     /** */
     @GridToStringExclude
     private GridNioMessageWriterFactory writerFactory;
@@ -325,6 +355,12 @@ public class GridNioServer<T> {
      * @param sentBytesCntMetric Sent bytes count metric, or {@code null} if metrics disabled.
      * @param outboundMessagesQueueSizeMetric Per-session outbound messages queue size metric, or {@code null} if metrics disabled.
      * @param maxMessagesQueueSizeMetric Per-session maximum outbound messages queue size metric, or {@code null} if metrics disabled.
+     * @param writeBatchSizeMetric Write batch size metric, or {@code null} if metrics disabled.
+     * @param writeCoalescingDelay Time in microseconds a session write is postponed for to coalesce messages,
+     *      {@code 0} if writes are not postponed.
+     * @param writeCoalescingLimit Number of queued messages a session write is not postponed after.
+     * @param transport Transport, or {@code null} to use the one defined by
+     *      {@link IgniteCommonsSystemProperties#IGNITE_NIO_TRANSPORT}.
      * @param filters Filters for this server.
      * @throws IgniteCheckedException If failed.
      */
@@ -354,6 +390,10 @@ public class GridNioServer<T> {
         @Nullable LongConsumer sentBytesCntMetric,
         @Nullable LongConsumer outboundMessagesQueueSizeMetric,
         @Nullable LongConsumer maxMessagesQueueSizeMetric,
+        @Nullable LongConsumer writeBatchSizeMetric,
+        long writeCoalescingDelay,
+        int writeCoalescingLimit,
+        @Nullable GridNioTransport transport,
         SpanManager tracing,
         MessageFactory msgFactory,
         GridNioFilter... filters
@@ -370,6 +410,8 @@ public class GridNioServer<T> {
         A.ensure(sockRcvBuf >= 0, "sockRcvBuf");
         A.ensure(sockSndBuf >= 0, "sockSndBuf");
         A.ensure(sndQueueLimit >= 0, "sndQueueLimit");
+        A.ensure(writeCoalescingDelay >= 0, "writeCoalescingDelay");
+        A.ensure(writeCoalescingLimit > 0, "writeCoalescingLimit");
 
         this.log = log;
         this.directBuf = directBuf;
@@ -386,6 +428,11 @@ public class GridNioServer<T> {
         this.sentBytesCntMetric = sentBytesCntMetric;
         this.outboundMessagesQueueSizeMetric = outboundMessagesQueueSizeMetric;
         this.maxMessagesQueueSizeMetric = maxMessagesQueueSizeMetric;
+        this.writeBatchSizeMetric = writeBatchSizeMetric;
+        this.writeCoalescingDelay = TimeUnit.MICROSECONDS.toNanos(writeCoalescingDelay);
+        this.writeCoalescingLimit = writeCoalescingLimit;
+        this.transport = transport != null ? transport : GridNioTransport.forName(
+            IgniteCommonsSystemProperties.getString(IgniteCommonsSystemProperties.IGNITE_NIO_TRANSPORT), log);
         this.tracing = tracing == null ? new NoopSpanManager() : tracing;
         this.msgFactory = msgFactory;
 
@@ -398,7 +445,11 @@ public class GridNioServer<T> {
 
                     assert sslFilter.directMode();
                 }
+                else if (filter instanceof GridNioCompressionFilter)
+                    compressFilter = (GridNioCompressionFilter)filter;
             }
+
+            assert sslFilter == null || compressFilter == null : "Compression of encrypted sessions is not supported.";
         }
 
         if (port != -1) {
@@ -447,6 +498,8 @@ public class GridNioServer<T> {
         this.directMode = directMode;
         this.writerFactory = writerFactory;
 
+        bufPool = directMode ? new GridNioBufferPool(directBuf, order) : null;
+
         this.skipRecoveryPred = skipRecoveryPred != null ? skipRecoveryPred : F.<Message>alwaysFalse();
 
         long balancePeriod = IgniteCommonsSystemProperties.getLong(
@@ -476,6 +529,27 @@ public class GridNioServer<T> {
         return sessions.size();
     }
 
+    /**
+     * @return Total size of buffers borrowed by sessions.
+     */
+    public long borrowedBuffersSize() {
+        return bufPool == null ? 0 : bufPool.borrowedSize();
+    }
+
+    /**
+     * @return Total size of free pooled session buffers.
+     */
+    public long pooledBuffersSize() {
+        return bufPool == null ? 0 : bufPool.pooledSize();
+    }
+
+    /**
+     * @return Transport.
+     */
+    public GridNioTransport transport() {
+        return transport;
+    }
+
     /**
      * @return Number of reader sessions move.
      */
@@ -533,6 +607,9 @@ public class GridNioServer<T> {
             CommonUtils.cancel(clientWorkers);
             CommonUtils.join(clientWorkers, log);
 
+            if (bufPool != null)
+                bufPool.stop(log);
+
             filterChain.stop();
 
             for (GridSelectorNioSessionImpl ses : sessions)
@@ -966,6 +1043,8 @@ public class GridNioServer<T> {
             if (!closed) {
                 ch.configureBlocking(false);
 
+                transport.configure(ch);
+
                 NioOperationFuture<GridNioSession> req = new NioOperationFuture<>(ch, false, meta);
 
                 if (async) {
@@ -1068,7 +1147,7 @@ public class GridNioServer<T> {
 
         try {
             // Create a new selector
-            selector = SelectorProvider.provider().openSelector();
+            selector = transport.openSelector();
 
             if (addr != null) {
                 // Create a new non-blocking server socket channel
@@ -1244,6 +1323,8 @@ public class GridNioServer<T> {
             if (rcvdBytesCntMetric != null)
                 rcvdBytesCntMetric.accept(cnt);
 
+            transport.onRead((SocketChannel)key.channel());
+
             ses.bytesReceived(cnt);
 
             // Sets limit to current position and
@@ -1390,7 +1471,7 @@ public class GridNioServer<T> {
 
             final GridSelectorNioSessionImpl ses = (GridSelectorNioSessionImpl)key.attachment();
 
-            ByteBuffer readBuf = ses.readBuffer();
+            ByteBuffer readBuf = readBuffer(ses);
 
             // Attempt to read off the channel.
             int cnt = sockCh.read(readBuf);
@@ -1407,26 +1488,41 @@ public class GridNioServer<T> {
             if (log.isTraceEnabled())
                 log.trace("Bytes received [sockCh=" + sockCh + ", cnt=" + cnt + ']');
 
-            if (cnt == 0)
+            if (cnt == 0) {
+                if (readBuf.position() == 0)
+                    releaseReadBuffer(ses);
+
                 return;
+            }
 
             if (rcvdBytesCntMetric != null)
                 rcvdBytesCntMetric.accept(cnt);
 
+            transport.onRead((SocketChannel)key.channel());
+
             ses.bytesReceived(cnt);
             onRead(cnt);
 
+            ses.onReadBufferUsed(readBuf.position());
+
             readBuf.flip();
 
             assert readBuf.hasRemaining();
 
+            // The buffer is detached while it is processed, so it is not returned to the pool
+            // if the session is closed by the filter chain.
+            ses.readBuffer(null);
+
+            boolean keepBuf = false;
+
             try {
                 filterChain.onMessageReceived(ses, readBuf);
 
-                if (readBuf.hasRemaining())
+                if (readBuf.hasRemaining() && !ses.closed()) {
                     readBuf.compact();
-                else
-                    readBuf.clear();
+
+                    keepBuf = true;
+                }
 
                 if (ses.hasSystemMessage() && !ses.procWrite.get()) {
                     ses.procWrite.set(true);
@@ -1437,6 +1533,12 @@ public class GridNioServer<T> {
             catch (IgniteCheckedException e) {
                 close(ses, e);
             }
+            finally {
+                if (keepBuf)
+                    ses.readBuffer(readBuf);
+                else
+                    bufPool.release(readBuf);
+            }
         }
 
         /**
@@ -1446,12 +1548,149 @@ public class GridNioServer<T> {
          * @throws IOException If write failed.
          */
         @Override protected void processWrite(SelectionKey key) throws IOException {
+            GridSelectorNioSessionImpl ses = (GridSelectorNioSessionImpl)key.attachment();
+
             if (sslFilter != null)
                 processWriteSsl(key);
+            // Raw bytes left from the time before the compression started are flushed first.
+            else if (compressWrites(ses) && (ses.writeBuffer() == null || ses.writeBuffer().position() == 0))
+                processWriteCompressed(key);
             else
                 processWrite0(key);
         }
 
+        /**
+         * Processes write-ready event on the key of a compressed session.
+         *
+         * @param key Key that is ready to be written.
+         * @throws IOException If write failed.
+         */
+        private void processWriteCompressed(SelectionKey key) throws IOException {
+            WritableByteChannel sockCh = (WritableByteChannel)key.channel();
+
+            GridSelectorNioSessionImpl ses = (GridSelectorNioSessionImpl)key.attachment();
+
+            MessageWriter writer = messageWriter(ses);
+
+            ByteBuffer frame = ses.removeMeta(BUF_META_KEY);
+
+            if (frame != null) {
+                int cnt = sockCh.write(frame);
+
+                if (sentBytesCntMetric != null)
+                    sentBytesCntMetric.accept(cnt);
+
+                ses.bytesSent(cnt);
+                onWrite(cnt);
+
+                if (frame.hasRemaining()) {
+                    ses.addMeta(BUF_META_KEY, frame);
+
+                    return;
+                }
+                else {
+                    List<SessionWriteRequest> requests = ses.removeMeta(REQUESTS_META_KEY);
+
+                    if (requests != null)
+                        onRequestsWritten(ses, requests);
+                }
+            }
+
+            ByteBuffer buf = writeBuffer(ses);
+
+            assert buf.position() == 0 : buf;
+
+            SessionWriteRequest req = ses.removeMeta(NIO_OPERATION.ordinal());
+
+            while (true) {
+                if (req == null) {
+                    req = systemMessage(ses);
+
+                    if (req == null) {
+                        req = ses.pollFuture();
+
+                        if (req == null) {
+                            releaseWriteBuffer(ses);
+
+                            stopPollingForWrite(key, ses);
+
+                            break;
+                        }
+                    }
+                }
+
+                List<SessionWriteRequest> pendingRequests = new ArrayList<>(2);
+
+                boolean finished = writeToBuffer(writer, buf, req, pendingRequests);
+
+                // Fill up as many messages as possible to write buffer.
+                while (finished) {
+                    req = systemMessage(ses);
+
+                    if (req == null)
+                        req = ses.pollFuture();
+
+                    if (req == null)
+                        break;
+
+                    finished = writeToBuffer(writer, buf, req, pendingRequests);
+                }
+
+                // The buffer is considered full if a message did not fit into it.
+                ses.onWriteBufferUsed(finished ? buf.position() : buf.capacity());
+
+                if (writeBatchSizeMetric != null && !pendingRequests.isEmpty())
+                    writeBatchSizeMetric.accept(pendingRequests.size());
+
+                buf.flip();
+
+                frame = compressFilter.compress(ses, buf);
+
+                buf.clear();
+
+                // The buffer of another size is borrowed for the next frame.
+                if (buf.capacity() != writeBufferSize(ses)) {
+                    releaseWriteBuffer(ses);
+
+                    buf = writeBuffer(ses);
+                }
+
+                if (!skipWrite) {
+                    int cnt = sockCh.write(frame);
+
+                    if (log.isTraceEnabled())
+                        log.trace("Bytes sent [sockCh=" + sockCh + ", cnt=" + cnt + ']');
+
+                    if (sentBytesCntMetric != null)
+                        sentBytesCntMetric.accept(cnt);
+
+                    ses.bytesSent(cnt);
+                    onWrite(cnt);
+                }
+                else {
+                    // For test purposes only (skipWrite is set to true in tests only).
+                    try {
+                        CommonUtils.sleep(50);
+                    }
+                    catch (IgniteInterruptedCheckedException e) {
+                        throw new IOException("Thread has been interrupted.", e);
+                    }
+                }
+
+                ses.addMeta(NIO_OPERATION.ordinal(), req);
+
+                if (frame.hasRemaining()) {
+                    ses.addMeta(BUF_META_KEY, frame);
+
+                    ses.addMeta(REQUESTS_META_KEY, pendingRequests);
+
+                    break;
+                }
+                else
+                    onRequestsWritten(ses, pendingRequests);
+            }
+        }
+
         /**
          * Processes write-ready event on the key.
          *
@@ -1501,7 +1740,7 @@ public class GridNioServer<T> {
                     }
                 }
 
-                ByteBuffer buf = ses.writeBuffer();
+                ByteBuffer buf = writeBuffer(ses);
 
                 if (ses.meta(WRITE_BUF_LIMIT) != null)
                     buf.limit(ses.meta(WRITE_BUF_LIMIT));
@@ -1543,6 +1782,9 @@ public class GridNioServer<T> {
                         finished = writeToBuffer(writer, buf, req, pendingRequests);
                     }
 
+                    if (writeBatchSizeMetric != null && !pendingRequests.isEmpty())
+                        writeBatchSizeMetric.accept(pendingRequests.size());
+
                     int sesBufLimit = buf.limit();
                     int sesCap = buf.capacity();
 
@@ -1721,18 +1963,19 @@ public class GridNioServer<T> {
             WritableByteChannel sockCh = (WritableByteChannel)key.channel();
 
             GridSelectorNioSessionImpl ses = (GridSelectorNioSessionImpl)key.attachment();
-            ByteBuffer buf = ses.writeBuffer();
             SessionWriteRequest req = ses.removeMeta(NIO_OPERATION.ordinal());
 
             MessageWriter writer = messageWriter(ses);
 
-            if (req == null) {
+            if (req == null && !compressWrites(ses)) {
                 req = systemMessage(ses);
 
                 if (req == null) {
                     req = ses.pollFuture();
 
-                    if (req == null && buf.position() == 0) {
+                    if (req == null && (ses.writeBuffer() == null || ses.writeBuffer().position() == 0)) {
+                        releaseWriteBuffer(ses);
+
                         stopPollingForWrite(key, ses);
 
                         return;
@@ -1740,8 +1983,12 @@ public class GridNioServer<T> {
                 }
             }
 
+            ByteBuffer buf = writeBuffer(ses);
+
             boolean finished = false;
 
+            int batchSize = 0;
+
             if (req != null)
                 finished = writeToBuffer(ses, buf, req, writer);
 
@@ -1749,6 +1996,15 @@ public class GridNioServer<T> {
             while (finished) {
                 req.onMessageWritten();
 
+                batchSize++;
+
+                // Compression is started by the message written, the rest of messages are compressed.
+                if (compressWrites(ses)) {
+                    req = null;
+
+                    break;
+                }
+
                 req = systemMessage(ses);
 
                 if (req == null)
@@ -1760,6 +2016,12 @@ public class GridNioServer<T> {
                 finished = writeToBuffer(ses, buf, req, writer);
             }
 
+            // The buffer is considered full if a message did not fit into it.
+            ses.onWriteBufferUsed(req != null && !finished ? buf.capacity() : buf.position());
+
+            if (writeBatchSizeMetric != null && batchSize > 0)
+                writeBatchSizeMetric.accept(batchSize);
+
             buf.flip();
 
             assert buf.hasRemaining();
@@ -1791,8 +2053,13 @@ public class GridNioServer<T> {
 
                 ses.addMeta(NIO_OPERATION.ordinal(), req);
             }
-            else
+            else {
                 buf.clear();
+
+                // The buffer of another size is borrowed with the next write.
+                if (buf.capacity() != writeBufferSize(ses))
+                    releaseWriteBuffer(ses);
+            }
         }
 
         /** */
@@ -1868,6 +2135,81 @@ public class GridNioServer<T> {
         }
     }
 
+    /**
+     * @param ses Session.
+     * @return {@code True} if the bytes written to the session are compressed.
+     */
+    private boolean compressWrites(GridNioSession ses) {
+        return compressFilter != null && compressFilter.compressWrites(ses);
+    }
+
+    /**
+     * @param ses Session.
+     * @return Read buffer of the session, borrowed from the pool if the session has none.
+     */
+    private ByteBuffer readBuffer(GridSelectorNioSessionImpl ses) {
+        ByteBuffer buf = ses.readBuffer();
+
+        if (buf == null)
+            ses.readBuffer(buf = bufPool.borrow(ses.readBufferSize()));
+
+        return buf;
+    }
+
+    /**
+     * @param ses Session.
+     * @return Write buffer of the session, borrowed from the pool if the session has none.
+     */
+    private ByteBuffer writeBuffer(GridSelectorNioSessionImpl ses) {
+        ByteBuffer buf = ses.writeBuffer();
+
+        if (buf == null)
+            ses.writeBuffer(buf = bufPool.borrow(writeBufferSize(ses)));
+
+        return buf;
+    }
+
+    /**
+     * Encrypted sessions keep the largest buffer since the buffer limit is adjusted to the size of SSL records.
+     * Compressed sessions keep it too, since small frames are compressed worse.
+     *
+     * @param ses Session.
+     * @return Size of the write buffer to borrow for the session.
+     */
+    private int writeBufferSize(GridSelectorNioSessionImpl ses) {
+        return sslFilter != null || compressWrites(ses) ? ses.maxWriteBufferSize() : ses.writeBufferSize();
+    }
+
+    /**
+     * Returns the read buffer of the session to the pool.
+     *
+     * @param ses Session.
+     */
+    private void releaseReadBuffer(GridSelectorNioSessionImpl ses) {
+        ByteBuffer buf = ses.readBuffer();
+
+        if (buf != null) {
+            ses.readBuffer(null);
+
+            bufPool.release(buf);
+        }
+    }
+
+    /**
+     * Returns the write buffer of the session to the pool.
+     *
+     * @param ses Session.
+     */
+    private void releaseWriteBuffer(GridSelectorNioSessionImpl ses) {
+        ByteBuffer buf = ses.writeBuffer();
+
+        if (buf != null) {
+            ses.writeBuffer(null);
+
+            bufPool.release(buf);
+        }
+    }
+
     /**
      * Notifies SessionWriteRequests and it's messages when requests were actually written.
      *
@@ -1932,6 +2274,10 @@ public class GridNioServer<T> {
         /** {@code True} if worker has called or is about to call {@code Selector.select()}. */
         private volatile boolean select;
 
+        /** Sessions which writes are postponed to coalesce messages, in the order of the write deadlines. */
+        @GridToStringExclude
+        private final Deque<GridSelectorNioSessionImpl> coalescedSes = new ArrayDeque<>();
+
         /**
          * @param idx Index of this worker in server's array.
          * @param igniteInstanceName Ignite instance name.
@@ -2120,6 +2466,8 @@ public class GridNioServer<T> {
                         processSessionChangedRequest(req);
                     }
 
+                    long coalescingWait = flushCoalescedWrites();
+
                     for (long i = 0; i < selectorSpins && selector.selectedKeys().isEmpty(); i++) {
                         // We ignore selectNow() returned value and look at selectedKeys() size because we might
                         // call a selectNow() during session migration (to make sure the selector is deregistered
@@ -2137,7 +2485,7 @@ public class GridNioServer<T> {
                                 processSelectedKeysOptimized(selectedKeys.flip());
                         }
 
-                        if (!changeReqs.isEmpty())
+                        if (!changeReqs.isEmpty() || !coalescedSes.isEmpty())
                             break;
 
                         // Just in case we do busy selects.
@@ -2168,7 +2516,17 @@ public class GridNioServer<T> {
                         // call a selectNow() during session migration (to make sure the selector is deregistered
                         // before trying to re-register it again), and in such a case our select() could return 0,
                         // even though the selection set is not empty.
-                        selector.select(2000);
+                        if (coalescingWait < 0)
+                            selector.select(2000);
+                        else {
+                            long timeout = TimeUnit.NANOSECONDS.toMillis(coalescingWait);
+
+                            // Selector timeout is in milliseconds, so the end of a shorter window is awaited by spinning.
+                            if (timeout > 0)
+                                selector.select(timeout);
+                            else
+                                selector.selectNow();
+                        }
 
                         blockingSectionEnd();
 
@@ -2326,7 +2684,15 @@ public class GridNioServer<T> {
                 }
 
                 case REQUIRE_WRITE: {
-                    registerWrite((GridSelectorNioSessionImpl)req0.session());
+                    GridSelectorNioSessionImpl ses = (GridSelectorNioSessionImpl)req0.session();
+
+                    if (writeCoalescingDelay > 0 && ses.messagesQueueSize() < writeCoalescingLimit) {
+                        ses.writeDeadline(System.nanoTime() + writeCoalescingDelay);
+
+                        coalescedSes.add(ses);
+                    }
+                    else
+                        registerWrite(ses);
 
                     break;
                 }
@@ -2415,6 +2781,39 @@ public class GridNioServer<T> {
             selector.selectNow();
         }
 
+        /**
+         * Starts postponed writes of the sessions which coalescing window is over or which have enough messages
+         * queued to be written at once.
+         *
+         * @return Time in nanoseconds till the end of the nearest coalescing window, or {@code -1} if no writes are
+         *      postponed.
+         */
+        private long flushCoalescedWrites() {
+            if (coalescedSes.isEmpty())
+                return -1;
+
+            long now = System.nanoTime();
+            long wait = -1;
+
+            for (Iterator<GridSelectorNioSessionImpl> it = coalescedSes.iterator(); it.hasNext(); ) {
+                GridSelectorNioSessionImpl ses = it.next();
+
+                long left = ses.writeDeadline() - now;
+
+                if (left <= 0 || ses.messagesQueueSize() >= writeCoalescingLimit || ses.worker() != this) {
+                    it.remove();
+
+                    // A moved session starts polling for write on the worker it is moved to.
+                    if (ses.worker() == this)
+                        registerWrite(ses);
+                }
+                else if (wait < 0 || left < wait)
+                    wait = left;
+            }
+
+            return wait;
+        }
+
         /**
          * @param ses Session.
          */
@@ -2754,19 +3153,6 @@ public class GridNioServer<T> {
             Socket sock = sockCh.socket();
 
             try {
-                ByteBuffer writeBuf = null;
-                ByteBuffer readBuf = null;
-
-                if (directMode) {
-                    writeBuf = directBuf ? ByteBuffer.allocateDirect(sock.getSendBufferSize()) :
-                        ByteBuffer.allocate(sock.getSendBufferSize());
-                    readBuf = directBuf ? ByteBuffer.allocateDirect(sock.getReceiveBufferSize()) :
-                        ByteBuffer.allocate(sock.getReceiveBufferSize());
-
-                    writeBuf.order(order);
-                    readBuf.order(order);
-                }
-
                 final GridSelectorNioSessionImpl ses = new GridSelectorNioSessionImpl(
                     log,
                     this,
@@ -2778,8 +3164,8 @@ public class GridNioServer<T> {
                     outboundMessagesQueueSizeMetric,
                     maxMessagesQueueSizeMetric,
                     tracing,
-                    writeBuf,
-                    readBuf);
+                    directMode ? sock.getSendBufferSize() : 0,
+                    directMode ? sock.getReceiveBufferSize() : 0);
 
                 Map<Integer, ?> meta = fut.meta();
 
@@ -2916,12 +3302,9 @@ public class GridNioServer<T> {
             if (ses.setClosed()) {
                 ses.onClosed();
 
-                if (directBuf) {
-                    if (ses.writeBuffer() != null)
-                        GridUnsafe.cleanDirectBuffer(ses.writeBuffer());
-
-                    if (ses.readBuffer() != null)
-                        GridUnsafe.cleanDirectBuffer(ses.readBuffer());
+                if (bufPool != null) {
+                    releaseWriteBuffer(ses);
+                    releaseReadBuffer(ses);
                 }
 
                 if (closeSock)
@@ -3241,6 +3624,8 @@ public class GridNioServer<T> {
                     if (sockRcvBuf > 0)
                         sockCh.socket().setReceiveBufferSize(sockRcvBuf);
 
+                    transport.configure(sockCh);
+
                     if (log.isDebugEnabled())
                         log.debug("Accepted new client connection: " + sockCh.socket().getRemoteSocketAddress());
 
@@ -3941,6 +4326,18 @@ public class GridNioServer<T> {
         /** Per-session maximum outbound messages queue size metric. */
         private LongConsumer maxMessagesQueueSizeMetric;
 
+        /** Write batch size metric. */
+        private LongConsumer writeBatchSizeMetric;
+
+        /** Time in microseconds a session write is postponed for to coalesce messages. */
+        private long writeCoalescingDelay;
+
+        /** Number of queued messages a session write is not postponed after. */
+        private int writeCoalescingLimit = DFLT_WRITE_COALESCING_LIMIT;
+
+        /** Transport. */
+        private GridNioTransport transport;
+
         /** Span manager */
         private SpanManager tracing;
 
@@ -3980,6 +4377,10 @@ public class GridNioServer<T> {
                 sentBytesCntMetric,
                 outboundMessagesQueueSizeMetric,
                 maxMessagesQueueSizeMetric,
+                writeBatchSizeMetric,
+                writeCoalescingDelay,
+                writeCoalescingLimit,
+                transport,
                 tracing,
                 msgFactory,
                 filters != null ? Arrays.copyOf(filters, filters.length) : EMPTY_FILTERS
@@ -4287,6 +4688,47 @@ public class GridNioServer<T> {
             return this;
         }
 
+        /**
+         * @param writeBatchSizeMetric Write batch size metric.
+         * @return This for chaining.
+         */
+        public Builder<T> writeBatchSizeMetric(LongConsumer writeBatchSizeMetric) {
+            this.writeBatchSizeMetric = writeBatchSizeMetric;
+
+            return this;
+        }
+
+        /**
+         * @param writeCoalescingDelay Time in microseconds a session write is postponed for to write the messages
+         *      offered in the meantime at once, {@code 0} if writes are not postponed.
+         * @return This for chaining.
+         */
+        public Builder<T> writeCoalescingDelay(long writeCoalescingDelay) {
+            this.writeCoalescingDelay = writeCoalescingDelay;
+
+            return this;
+        }
+
+        /**
+         * @param writeCoalescingLimit Number of queued messages a session write is not postponed after.
+         * @return This for chaining.
+         */
+        public Builder<T> writeCoalescingLimit(int writeCoalescingLimit) {
+            this.writeCoalescingLimit = writeCoalescingLimit;
+
+            return this;
+        }
+
+        /**
+         * @param transport Transport.
+         * @return This for chaining.
+         */
+        public Builder<T> transport(GridNioTransport transport) {
+            this.transport = transport;
+
+            return this;
+        }
+
         /**
          * @param msgFactory Message factory.
          * @return This for chaining.
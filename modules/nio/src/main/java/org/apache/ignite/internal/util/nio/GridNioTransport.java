@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.io.IOException;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.util.CommonUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Transport of {@link GridNioServer}: opens selectors of the server workers and tunes socket channels of sessions.
+ * <p>
+ * Methods of this interface except {@link #openSelector()} are called within NIO threads and should be as fast
+ * as possible.
+ */
+public interface GridNioTransport {
+    /** Name of the transport based on JDK selectors with no socket tuning. */
+    public static final String NIO = "nio";
+
+    /** Name of the transport tuned for Linux epoll. */
+    public static final String EPOLL = "epoll";
+
+    /**
+     * @return Transport name.
+     */
+    public String name();
+
+    /**
+     * @return New selector.
+     * @throws IOException If failed.
+     */
+    public Selector openSelector() throws IOException;
+
+    /**
+     * Tunes a connected socket channel before a session is created for it.
+     *
+     * @param ch Socket channel.
+     * @throws IOException If failed.
+     */
+    public void configure(SocketChannel ch) throws IOException;
+
+    /**
+     * Called after bytes are read from a socket channel.
+     *
+     * @param ch Socket channel.
+     * @throws IOException If failed.
+     */
+    public void onRead(SocketChannel ch) throws IOException;
+
+    /**
+     * Creates a transport by name. Falls back to the {@link #NIO} transport if the requested one is not available
+     * on this platform.
+     *
+     * @param name Transport name, {@code null} for the {@link #NIO} transport.
+     * @param log Logger.
+     * @return Transport.
+     */
+    public static GridNioTransport forName(@Nullable String name, IgniteLogger log) {
+        if (name == null || NIO.equalsIgnoreCase(name))
+            return GridNioJdkTransport.INSTANCE;
+
+        if (EPOLL.equalsIgnoreCase(name)) {
+            if (GridNioEpollTransport.available())
+                return GridNioEpollTransport.INSTANCE;
+
+            CommonUtils.warn(log, "Epoll NIO transport is not available on this platform, the default one is used.");
+        }
+        else
+            CommonUtils.warn(log, "Unknown NIO transport, the default one is used [name=" + name + ']');
+
+        return GridNioJdkTransport.INSTANCE;
+    }
+}
@@ -59,12 +59,27 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
     @GridToStringExclude
     private final Semaphore sem;
 
-    /** Write buffer. */
+    /** Write buffer, {@code null} if the session has nothing to write. */
     private ByteBuffer writeBuf;
 
-    /** Read buffer. */
+    /** Read buffer, {@code null} if the session has no partially read data. */
     private ByteBuffer readBuf;
 
+    /** Maximum size of the write buffer. */
+    private final int maxWriteBufSize;
+
+    /** Maximum size of the read buffer. */
+    private final int maxReadBufSize;
+
+    /** Size of the write buffer to borrow next. */
+    private int writeBufSize = GridNioBufferPool.MIN_BUF_SIZE;
+
+    /** Size of the read buffer to borrow next. */
+    private int readBufSize = GridNioBufferPool.MIN_BUF_SIZE;
+
+    /** Time in nanoseconds a postponed write of the session is started at. */
+    private long writeDeadline;
+
     /** Incoming recovery data. */
     private GridNioRecoveryDescriptor inRecovery;
 
@@ -108,8 +123,8 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
      * @param outboundMessagesQueueSizeMetric Outbound messages queue size metric, or {@code null} if metrics disabled.
      * @param maxMessagesQueueSizeMetric Maximum outbound messages queue size metric, or {@code null} if metrics disabled.
      * @param tracing Span manager used to resolve trace names for logging.
-     * @param writeBuf Write buffer.
-     * @param readBuf Read buffer.
+     * @param maxWriteBufSize Maximum size of the write buffer.
+     * @param maxReadBufSize Maximum size of the read buffer.
      */
     GridSelectorNioSessionImpl(
         IgniteLogger log,
@@ -122,8 +137,8 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
         @Nullable LongConsumer outboundMessagesQueueSizeMetric,
         @Nullable LongConsumer maxMessagesQueueSizeMetric,
         SpanManager tracing,
-        @Nullable ByteBuffer writeBuf,
-        @Nullable ByteBuffer readBuf
+        int maxWriteBufSize,
+        int maxReadBufSize
     ) {
         super(filterChain, locAddr, rmtAddr, accepted);
 
@@ -141,17 +156,8 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
 
         sem = sndQueueLimit > 0 ? new Semaphore(sndQueueLimit) : null;
 
-        if (writeBuf != null) {
-            writeBuf.clear();
-
-            this.writeBuf = writeBuf;
-        }
-
-        if (readBuf != null) {
-            readBuf.clear();
-
-            this.readBuf = readBuf;
-        }
+        this.maxWriteBufSize = GridNioBufferPool.bufferSize(maxWriteBufSize);
+        this.maxReadBufSize = GridNioBufferPool.bufferSize(maxReadBufSize);
 
         this.outboundMessagesQueueSizeMetric = outboundMessagesQueueSizeMetric;
 
@@ -189,19 +195,86 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
     }
 
     /**
-     * @return Write buffer.
+     * @return Write buffer, {@code null} if the session has nothing to write.
      */
-    public ByteBuffer writeBuffer() {
+    @Nullable public ByteBuffer writeBuffer() {
         return writeBuf;
     }
 
     /**
-     * @return Read buffer.
+     * @param writeBuf Write buffer.
+     */
+    void writeBuffer(@Nullable ByteBuffer writeBuf) {
+        this.writeBuf = writeBuf;
+    }
+
+    /**
+     * @return Read buffer, {@code null} if the session has no partially read data.
      */
-    public ByteBuffer readBuffer() {
+    @Nullable public ByteBuffer readBuffer() {
         return readBuf;
     }
 
+    /**
+     * @param readBuf Read buffer.
+     */
+    void readBuffer(@Nullable ByteBuffer readBuf) {
+        this.readBuf = readBuf;
+    }
+
+    /**
+     * @return Size of the write buffer to borrow next.
+     */
+    int writeBufferSize() {
+        return writeBufSize;
+    }
+
+    /**
+     * @return Maximum size of the write buffer.
+     */
+    int maxWriteBufferSize() {
+        return maxWriteBufSize;
+    }
+
+    /**
+     * @return Size of the read buffer to borrow next.
+     */
+    int readBufferSize() {
+        return readBufSize;
+    }
+
+    /**
+     * @return Time in nanoseconds a postponed write of the session is started at.
+     */
+    long writeDeadline() {
+        return writeDeadline;
+    }
+
+    /**
+     * @param writeDeadline Time in nanoseconds a postponed write of the session is started at.
+     */
+    void writeDeadline(long writeDeadline) {
+        this.writeDeadline = writeDeadline;
+    }
+
+    /**
+     * Adapts the size of the write buffer to the bulk of written data.
+     *
+     * @param used Number of bytes written to the current buffer.
+     */
+    void onWriteBufferUsed(int used) {
+        writeBufSize = GridNioBufferPool.adaptSize(writeBuf.capacity(), used, maxWriteBufSize);
+    }
+
+    /**
+     * Adapts the size of the read buffer to the bulk of received data.
+     *
+     * @param used Number of bytes in the current buffer after the read.
+     */
+    void onReadBufferUsed(int used) {
+        readBufSize = GridNioBufferPool.adaptSize(readBuf.capacity(), used, maxReadBufSize);
+    }
+
     /**
      * @return Registered selection key for this session.
      */